@@ -93,6 +93,18 @@ public class BenchmarkMatrixMatrixMult {
         return curr-prev;
     }
 
+    public static long multPacked( DenseMatrix64F matA , DenseMatrix64F matB ,
+                             DenseMatrix64F matResult , int numTrials) {
+        long prev = System.currentTimeMillis();
+
+        for( int i = 0; i < numTrials; i++ ) {
+            MatrixMatrixMultPacked.mult(matA,matB,matResult);
+        }
+
+        long curr = System.currentTimeMillis();
+        return curr-prev;
+    }
+
     public static long multBlockNative( DenseMatrix64F matA , DenseMatrix64F matB ,
                                         DenseMatrix64F matResult , int numTrials) {
         BlockMatrix64F blockA = BlockMatrixOps.convert(matA);
@@ -134,11 +146,12 @@ public class BenchmarkMatrixMatrixMult {
         DenseMatrix64F matB = RandomMatrices.createRandom(numCols,numK,rand);
         DenseMatrix64F matResult = RandomMatrices.createRandom(numRows,numK,rand);
 
-        System.out.printf("Mult: %7d  Small %7d  Aux %7d  Reord %7d  Block %7d  BlockD3 %7d\n",
+        System.out.printf("Mult: %7d  Small %7d  Aux %7d  Reord %7d  Packed %7d  Block %7d  BlockD3 %7d\n",
                 0,//mult(matA,matB,matResult,numTrials),
                 multSmall(matA,matB,matResult,numTrials),
                 0,//multAux(matA,matB,matResult,numTrials),
                 multReorder(matA,matB,matResult,numTrials),
+                multPacked(matA,matB,matResult,numTrials),
                 0,//multBlockNative(matA,matB,matResult,numTrials),
                 0);//multBlockD3Native(matA,matB,matResult,numTrials));
         System.gc();
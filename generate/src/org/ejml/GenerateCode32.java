@@ -0,0 +1,465 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml;
+
+import java.io.*;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Generates the 32-bit float version of the library from the 64-bit double source code.  Each class is
+ * converted by renaming all the 64-bit classes which are also being converted into their 32-bit name,
+ * changing double into float, and adjusting the code so that it will compile with floats, e.g. adding
+ * 'f' to floating point literals and casting functions in Math which return a double.
+ * </p>
+ *
+ * <p>
+ * Only a subset of the library is converted.  For a few classes only some of the functions can be converted
+ * since the others depend on code which does not have a 32-bit version.  Those are specified explicitly.
+ * </p>
+ *
+ * <p>
+ * Class names which contain "64F" or "_D64" have that replaced with "32F" or "_D32".  All other classes
+ * have "32" appended to their name, or inserted before the suffix if they have one.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GenerateCode32 {
+
+    // functions in Math which return a double even when given a float
+    private static final Pattern mathDouble = Pattern.compile(
+            "(?<![\\w.])Math\\.(sqrt|cbrt|pow|exp|log|log10|sin|cos|tan|asin|acos|atan|atan2|hypot|floor|ceil|random)\\(");
+    private static final Pattern literal = Pattern.compile(
+            "(?<![\\w.])(\\d+\\.\\d*(?:[eE][-+]?\\d+)?|\\.\\d+(?:[eE][-+]?\\d+)?|\\d+[eE][-+]?\\d+)[dD]?(?![\\w.])");
+    private static final Pattern determinant = Pattern.compile("(\\w+)\\.computeDeterminant\\(\\)");
+
+    // signatures of interface functions which always return a double
+    private static final String[] protectedSignatures = new String[]{
+            "public double quality()","public double computeDeterminant()"};
+
+    // directory containing the library's source code
+    private String srcDir;
+
+    // list of classes being converted
+    private List<Conversion> conversions = new ArrayList<Conversion>();
+
+    // name of 64-bit class to its 32-bit equivalent
+    private Map<String,String> renamed = new HashMap<String,String>();
+
+    public GenerateCode32( String srcDir ) {
+        this.srcDir = srcDir;
+
+        // hand written 32-bit classes
+        renamed.put("LinearSolverFactory","LinearSolverFactory32");
+    }
+
+    /**
+     * Converts the entire class.
+     *
+     * @param path Path to the class relative to the source directory and without the .java extension
+     */
+    public void convert( String path ) {
+        conversions.add(new Conversion(path,null,null));
+        addRenamed(path);
+    }
+
+    /**
+     * Converts the class but only includes functions with the specified names.
+     */
+    public void convertKeep( String path , String ...keep ) {
+        conversions.add(new Conversion(path,keep,null));
+        addRenamed(path);
+    }
+
+    /**
+     * Converts the class but removes functions with the specified names.
+     */
+    public void convertRemove( String path , String ...remove ) {
+        conversions.add(new Conversion(path,null,remove));
+        addRenamed(path);
+    }
+
+    private void addRenamed( String path ) {
+        String name = path.substring(path.lastIndexOf('/')+1);
+        renamed.put(name,name32(name));
+    }
+
+    /**
+     * Returns the name of the 32-bit version of the class
+     */
+    public static String name32( String name ) {
+        if( name.contains("64F") )
+            return name.replace("64F","32F");
+        if( name.endsWith("_D64") )
+            return name.substring(0,name.length()-4)+"_D32";
+
+        int suffix = name.lastIndexOf('_');
+        if( suffix > 0 )
+            return name.substring(0,suffix)+"32"+name.substring(suffix);
+        else
+            return name+"32";
+    }
+
+    public void generate() throws IOException {
+        for( Conversion c : conversions ) {
+            String name = c.path.substring(c.path.lastIndexOf('/')+1);
+            String dir = c.path.substring(0,c.path.lastIndexOf('/')+1);
+
+            String text = read(new File(srcDir,c.path+".java"));
+
+            text = filterFunctions(text,c.keep,c.remove);
+            text = convertText(text);
+            text = removeUnusedImports(text);
+            text = addNote(text,name,renamed.get(name));
+
+            write(new File(srcDir,dir+renamed.get(name)+".java"),text);
+        }
+    }
+
+    /**
+     * Converts the source code of a 64-bit class into its 32-bit equivalent.
+     */
+    public String convertText( String text ) {
+        StringBuilder out = new StringBuilder(text.length());
+
+        for( Segment s : split(text) ) {
+            String t = s.text;
+
+            t = renameClasses(t);
+
+            if( s.type == SegmentType.COMMENT ) {
+                t = t.replaceAll("\\bdouble\\b","float");
+                t = t.replaceAll("\\bdoubles\\b","floats");
+                t = t.replaceAll("\\bDouble\\b","Float");
+                t = t.replaceAll("\\b64( |-)bit\\b","32$1bit");
+            } else if( s.type == SegmentType.CODE ) {
+                for( int i = 0; i < protectedSignatures.length; i++ )
+                    t = t.replace(protectedSignatures[i],"$PROTECTED"+i+"$");
+
+                t = t.replaceAll("\\bdouble\\b","float");
+                t = t.replaceAll("\\bDouble\\b","Float");
+                t = t.replaceAll("\\bUtilEjml\\.EPS\\b","UtilEjml.F_EPS");
+                t = literal.matcher(t).replaceAll("$1f");
+                t = mathDouble.matcher(t).replaceAll("(float)Math.$1(");
+                t = determinant.matcher(t).replaceAll("(float)$1.computeDeterminant()");
+
+                for( int i = 0; i < protectedSignatures.length; i++ )
+                    t = t.replace("$PROTECTED"+i+"$",protectedSignatures[i]);
+            }
+            out.append(t);
+        }
+
+        return out.toString();
+    }
+
+    private String renameClasses( String text ) {
+        Matcher m = Pattern.compile("\\b[A-Z]\\w*\\b").matcher(text);
+        StringBuffer out = new StringBuffer(text.length());
+        while( m.find() ) {
+            String r = renamed.get(m.group());
+            m.appendReplacement(out, r == null ? m.group() : r);
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+
+    /**
+     * Removes functions from the class.  Only members at the top level of the class are examined.  If keep
+     * isn't null then only functions in keep are saved.  If remove isn't null then functions in remove are
+     * removed.
+     */
+    public static String filterFunctions( String text , String[] keep , String[] remove ) {
+        if( keep == null && remove == null )
+            return text;
+
+        String masked = mask(text);
+
+        int start = masked.indexOf('{',findClassDeclaration(masked));
+        int depth = 0;
+        int memberStart = start+1;
+        int memberBody = -1;
+
+        // ranges of the text which are to be removed
+        List<int[]> cut = new ArrayList<int[]>();
+
+        for( int i = start; i < masked.length(); i++ ) {
+            char c = masked.charAt(i);
+            if( c == '{' ) {
+                depth++;
+                if( depth == 2 )
+                    memberBody = i;
+            } else if( c == '}' ) {
+                depth--;
+                if( depth == 1 ) {
+                    String signature = masked.substring(memberStart,memberBody);
+                    String name = functionName(signature);
+                    if( name != null ) {
+                        boolean inKeep = keep == null || Arrays.asList(keep).contains(name);
+                        boolean inRemove = remove != null && Arrays.asList(remove).contains(name);
+                        if( !inKeep || inRemove )
+                            cut.add(new int[]{memberStart,i+1});
+                    }
+                    memberStart = i+1;
+                } else if( depth == 0 ) {
+                    break;
+                }
+            } else if( c == ';' && depth == 1 ) {
+                memberStart = i+1;
+            }
+        }
+
+        StringBuilder out = new StringBuilder(text);
+        for( int i = cut.size()-1; i >= 0; i-- ) {
+            int[] r = cut.get(i);
+            out.delete(r[0],r[1]);
+        }
+        return out.toString();
+    }
+
+    private static int findClassDeclaration( String masked ) {
+        Matcher m = Pattern.compile("\\b(class|interface)\\s+\\w+").matcher(masked);
+        if( !m.find() )
+            throw new RuntimeException("Can't find class declaration");
+        return m.start();
+    }
+
+    /**
+     * Returns the name of the function being declared or null if it isn't a function
+     */
+    private static String functionName( String signature ) {
+        int paren = signature.indexOf('(');
+        if( paren < 0 || signature.substring(0,paren).contains("=") )
+            return null;
+        Matcher m = Pattern.compile("(\\w+)\\s*$").matcher(signature.substring(0,paren));
+        return m.find() ? m.group(1) : null;
+    }
+
+    /**
+     * Removes import statements for classes which are no longer referenced.
+     */
+    public static String removeUnusedImports( String text ) {
+        Matcher m = Pattern.compile("(?m)^import\\s+(?!static)[\\w.]*\\.(\\w+)\\s*;[ \\t]*\\r?\\n").matcher(text);
+        int end = 0;
+        while( m.find() )
+            end = m.end();
+        String body = text.substring(end);
+
+        m.reset();
+        StringBuffer out = new StringBuffer(text.length());
+        while( m.find() ) {
+            String name = m.group(1);
+            boolean used = Pattern.compile("\\b"+name+"\\b").matcher(body).find();
+            m.appendReplacement(out, used ? Matcher.quoteReplacement(m.group()) : "");
+        }
+        m.appendTail(out);
+        return out.toString();
+    }
+
+    /**
+     * Adds a note to the class's javadoc stating that it was automatically generated
+     */
+    private static String addNote( String text , String name , String name32 ) {
+        String note = " * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from "+name+"</p>\n";
+
+        String masked = mask(text);
+        int decl = findClassDeclaration(masked);
+        int docEnd = text.lastIndexOf("*/",decl);
+        int docStart = text.lastIndexOf("/**",decl);
+
+        if( docStart < 0 || docEnd < docStart || masked.substring(docEnd+2,decl).contains(";") ) {
+            int lineStart = text.lastIndexOf('\n',decl)+1;
+            while( text.startsWith("@",lineStart) )
+                lineStart = text.indexOf('\n',lineStart)+1;
+            return text.substring(0,lineStart)+"/**\n"+note+" */\n"+text.substring(lineStart);
+        }
+
+        // the note goes in front of the block tags, e.g. @see and @author
+        Matcher tag = Pattern.compile("(?m)^ \\* @").matcher(text);
+        int insert;
+        if( tag.find(docStart) && tag.start() < docEnd ) {
+            insert = tag.start();
+            note = note+" *\n";
+        } else {
+            insert = text.lastIndexOf('\n',docEnd)+1;
+        }
+        return text.substring(0,insert)+note+text.substring(insert);
+    }
+
+    /**
+     * Replaces comments, strings, and character literals with white space so that the structure of
+     * the code can be examined.
+     */
+    private static String mask( String text ) {
+        StringBuilder out = new StringBuilder(text.length());
+        for( Segment s : split(text) ) {
+            if( s.type == SegmentType.CODE )
+                out.append(s.text);
+            else
+                out.append(s.text.replaceAll("[^\\n]"," "));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Splits the source code into code, comments, and strings
+     */
+    private static List<Segment> split( String text ) {
+        List<Segment> out = new ArrayList<Segment>();
+
+        int start = 0;
+        int i = 0;
+        while( i < text.length() ) {
+            int end = -1;
+            SegmentType type = null;
+
+            if( text.startsWith("/*",i) ) {
+                end = text.indexOf("*/",i+2)+2;
+                type = SegmentType.COMMENT;
+            } else if( text.startsWith("//",i) ) {
+                end = text.indexOf('\n',i);
+                if( end < 0 ) end = text.length();
+                type = SegmentType.COMMENT;
+            } else if( text.charAt(i) == '"' || text.charAt(i) == '\'' ) {
+                char quote = text.charAt(i);
+                end = i+1;
+                while( text.charAt(end) != quote ) {
+                    if( text.charAt(end) == '\\' )
+                        end++;
+                    end++;
+                }
+                end++;
+                type = SegmentType.STRING;
+            }
+
+            if( type == null ) {
+                i++;
+            } else {
+                if( start < i )
+                    out.add(new Segment(SegmentType.CODE,text.substring(start,i)));
+                out.add(new Segment(type,text.substring(i,end)));
+                start = i = end;
+            }
+        }
+        if( start < text.length() )
+            out.add(new Segment(SegmentType.CODE,text.substring(start)));
+
+        return out;
+    }
+
+    private static String read( File file ) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),"UTF-8"));
+        StringBuilder out = new StringBuilder();
+        char[] buffer = new char[4096];
+        int length;
+        while( (length = reader.read(buffer)) > 0 )
+            out.append(buffer,0,length);
+        reader.close();
+        return out.toString();
+    }
+
+    private static void write( File file , String text ) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file),"UTF-8");
+        writer.write(text);
+        writer.close();
+    }
+
+    private static enum SegmentType {
+        CODE,COMMENT,STRING
+    }
+
+    private static class Segment {
+        SegmentType type;
+        String text;
+
+        private Segment(SegmentType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    private static class Conversion {
+        String path;
+        String[] keep;
+        String[] remove;
+
+        private Conversion(String path, String[] keep, String[] remove) {
+            this.path = path;
+            this.keep = keep;
+            this.remove = remove;
+        }
+    }
+
+    public static void main( String args[] ) throws IOException {
+        GenerateCode32 app = new GenerateCode32(args.length > 0 ? args[0] : "src");
+
+        app.convert("org/ejml/data/Matrix64F");
+        app.convert("org/ejml/data/ReshapeMatrix64F");
+        app.convert("org/ejml/data/D1Matrix64F");
+        app.convert("org/ejml/data/RowD1Matrix64F");
+        app.convert("org/ejml/data/DenseMatrix64F");
+        app.convert("org/ejml/data/BlockMatrix64F");
+        app.convert("org/ejml/data/MatrixIterator");
+
+        app.convert("org/ejml/alg/dense/mult/MatrixMatrixMult");
+        app.convert("org/ejml/alg/dense/mult/MatrixMatrixMultPacked");
+        app.convert("org/ejml/alg/dense/mult/MatrixMatrixMult_MT");
+        app.convert("org/ejml/alg/dense/mult/MatrixVectorMult");
+        app.convert("org/ejml/alg/dense/mult/MatrixMultProduct");
+
+        app.convert("org/ejml/alg/dense/misc/TransposeAlgs");
+        app.convert("org/ejml/alg/dense/misc/ImplCommonOps_DenseMatrix64F");
+        app.convert("org/ejml/alg/dense/misc/ImplCommonOps_Matrix64F");
+        app.convert("org/ejml/alg/dense/misc/UnrolledInverseFromMinor");
+        app.convert("org/ejml/alg/dense/misc/UnrolledDeterminantFromMinor");
+
+        app.convert("org/ejml/alg/dense/decomposition/TriangularSolver");
+        app.convert("org/ejml/alg/dense/decomposition/chol/CholeskyDecompositionCommon_D64");
+        app.convert("org/ejml/alg/dense/decomposition/chol/CholeskyDecompositionInner_D64");
+        app.convert("org/ejml/alg/dense/decomposition/lu/LUDecompositionBase_D64");
+        app.convert("org/ejml/alg/dense/decomposition/lu/LUDecompositionAlt_D64");
+        app.convert("org/ejml/alg/dense/decomposition/qr/QrHelperFunctions");
+        app.convert("org/ejml/alg/dense/decomposition/qr/QRDecompositionHouseholderColumn_D64");
+
+        app.convert("org/ejml/alg/dense/linsol/ConditionEstimatorP1_D64");
+        app.convert("org/ejml/alg/dense/linsol/LinearSolverAbstract");
+        app.convert("org/ejml/alg/dense/linsol/LinearSolverSafe");
+        app.convert("org/ejml/alg/dense/linsol/InvertUsingSolve");
+        app.convert("org/ejml/alg/dense/linsol/chol/LinearSolverChol");
+        app.convert("org/ejml/alg/dense/linsol/lu/LinearSolverLuBase");
+        app.convert("org/ejml/alg/dense/linsol/lu/LinearSolverLu");
+        app.convert("org/ejml/alg/dense/linsol/qr/LinearSolverQrHouseCol");
+
+        app.convertKeep("org/ejml/alg/block/BlockMatrixOps","convert","convertRowToBlock","convertBlockToRow",
+                "convertTranSrc","transpose","transposeBlock","zeroTriangle","copyTriangle","set","setIdentity","identity",
+                "checkIdenticalShape","extractAligned");
+
+        app.convertRemove("org/ejml/ops/CommonOps","pinv","rref");
+        app.convertKeep("org/ejml/ops/MatrixFeatures","hasNaN","hasUncountable","isVector","isSquare",
+                "isSymmetric","isSkewSymmetric","isEquals","isIdentical","isIdentity","isConstantVal",
+                "isDiagonalPositive","isNegative","isUpperTriangle");
+        app.convertKeep("org/ejml/ops/NormOps","inducedP1");
+        app.convertKeep("org/ejml/ops/SpecializedOps","copyChangeRow","copyTriangle","pivotMatrix",
+                "diagProd","qualityTriangular","elementSumSq");
+
+        app.generate();
+    }
+}
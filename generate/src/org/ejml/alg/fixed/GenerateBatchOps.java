@@ -0,0 +1,620 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.CodeGeneratorBase;
+import org.ejml.alg.dense.misc.GenerateDeterminantFromMinor;
+import org.ejml.alg.dense.misc.GenerateInverseFromMinor;
+
+import java.io.FileNotFoundException;
+
+/**
+ * <p>
+ * Automatic code generator for BatchOps and BatchOps_MT.  The same unrolled operations as {@link GenerateFixedOps}
+ * are applied to every matrix in a {@link org.ejml.data.BatchMatrix64F}.  Each element's array is saved in a local
+ * variable and the inner loop reads the elements of one matrix, then writes the results, so that the input and
+ * output can be the same instance and the JIT can vectorize the loop.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GenerateBatchOps extends CodeGeneratorBase {
+
+    String classPreamble = "BatchOps";
+
+    int N;
+    String desc;
+
+    @Override
+    public void generate() throws FileNotFoundException {
+        for( int dimension = 2; dimension <= 6; dimension++ ){
+            N = dimension;
+            desc = N+"x"+N;
+
+            printPreable();
+            mult();
+            transform();
+            if( dimension <= GenerateFixedOps.maxInverseSize ) {
+                invert();
+                det();
+                solve();
+            } else {
+                detElimination();
+                solveElimination();
+            }
+            checks();
+            out.println("}\n");
+
+            printPreableMT();
+            multMT();
+            transformMT();
+            if( dimension <= GenerateFixedOps.maxInverseSize )
+                invertMT();
+            detMT();
+            solveMT();
+            out.println("}\n");
+        }
+    }
+
+    public void printPreable() throws FileNotFoundException {
+        setOutputFile(classPreamble+N);
+
+        out.print("import org.ejml.data.BatchMatrix64F;\n" +
+                "\n" +
+                "/**\n" +
+                " * <p>Operations which are applied to every matrix in a batch of "+desc+" matrices or "+N+" element vectors.\n" +
+                " * Each function has a version which only processes the matrices with indexes from start to end-1.  See\n" +
+                " * {@link "+classPreamble+N+"_MT} for concurrent versions.</p>\n" +
+                " * <p>DO NOT MODIFY.  Automatically generated code created by "+getClass().getSimpleName()+"</p>\n" +
+                " *\n" +
+                " * @author Peter Abeles\n" +
+                " */\n" +
+                "public class "+className+" {\n");
+    }
+
+    public void printPreableMT() throws FileNotFoundException {
+        setOutputFile(classPreamble+N+"_MT");
+
+        out.print("import org.ejml.EjmlConcurrency;\n" +
+                "import org.ejml.data.BatchMatrix64F;\n" +
+                "\n" +
+                "/**\n" +
+                " * <p>Concurrent versions of the functions in {@link "+classPreamble+N+"}.  The batch is split into blocks\n" +
+                " * which are processed in the thread pool provided by {@link EjmlConcurrency}.</p>\n" +
+                " * <p>DO NOT MODIFY.  Automatically generated code created by "+getClass().getSimpleName()+"</p>\n" +
+                " *\n" +
+                " * @author Peter Abeles\n" +
+                " */\n" +
+                "public class "+className+" {\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The smallest number of matrices which will be processed by a single task\n" +
+                "     */\n" +
+                "    public static int MIN_BLOCK = 4096;\n" +
+                "\n");
+    }
+
+    private void printRangeDoc( String signature ) {
+        out.print("    /**\n" +
+                "     * Same as {@link #"+signature+"} but only processes the matrices from start to end-1.\n" +
+                "     */\n");
+    }
+
+    private void mult() {
+        out.print("    /**\n" +
+                "     * <p>Performs the following operation on each matrix in the batch:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a * b <br>\n" +
+                "     * <br>\n" +
+                "     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Matrix C can be the same instance as Matrix A and/or B.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param b Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param c Batch of "+desc+" matrices where the results are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {\n" +
+                "        checkMatrix(b,a.length);\n" +
+                "        checkMatrix(c,a.length);\n" +
+                "        mult(a,b,c,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)");
+        out.print("    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        declareMatrixArrays("b");
+        declareMatrixArrays("c");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        loadMatrix("a","");
+        loadMatrix("b","");
+        out.println();
+        for( int y = 1; y <= N; y++ ) {
+            for( int x = 1; x <= N; x++ ) {
+                out.print("            c_"+y+""+x+"[i] = ");
+                for( int k = 1; k <= N; k++ ) {
+                    out.print("a"+y+""+k+"*b"+k+""+x);
+                    if( k < N )
+                        out.print(" + ");
+                }
+                out.println(";");
+            }
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    private void transform() {
+        out.print("    /**\n" +
+                "     * <p>Transforms each vector in the batch by the corresponding matrix:<br>\n" +
+                "     * <br>\n" +
+                "     * c = a * b <br>\n" +
+                "     * <br>\n" +
+                "     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Vector C can be the same instance as Vector B.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param b Batch of "+N+" element vectors. Not modified.\n" +
+                "     * @param c Batch of "+N+" element vectors where the results are stored. Modified.\n" +
+                "     */\n" +
+                "    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {\n" +
+                "        checkVector(b,a.length);\n" +
+                "        checkVector(c,a.length);\n" +
+                "        transform(a,b,c,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)");
+        out.print("    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        declareVectorArrays("b");
+        declareVectorArrays("c");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        loadMatrix("a","");
+        loadVector("b");
+        out.println();
+        for( int y = 1; y <= N; y++ ) {
+            out.print("            c_"+y+"[i] = ");
+            for( int k = 1; k <= N; k++ ) {
+                out.print("a"+y+""+k+"*b"+k);
+                if( k < N )
+                    out.print(" + ");
+            }
+            out.println(";");
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    private void invert() {
+        out.print("    /**\n" +
+                "     * Inverts each matrix in the batch using minor matrices.  Each matrix is scaled to improve stability\n" +
+                "     * against overflow and underflow.  Singular matrices will have NaN or infinite elements in their inverse,\n" +
+                "     * use {@link #det(BatchMatrix64F, double[])} to check before hand.\n" +
+                "     *\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param inv Batch of "+desc+" matrices where the inverses are stored.  Can be the same instance as a.  Modified.\n" +
+                "     */\n" +
+                "    public static void invert( BatchMatrix64F a , BatchMatrix64F inv ) {\n" +
+                "        checkMatrix(inv,a.length);\n" +
+                "        invert(a,inv,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("invert(BatchMatrix64F, BatchMatrix64F)");
+        out.print("    public static void invert( BatchMatrix64F a , BatchMatrix64F inv , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        declareMatrixArrays("inv");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        printScaledMinors();
+        for( int y = 1; y <= N; y++ ) {
+            for( int x = 1; x <= N; x++ ) {
+                out.print("            inv_"+y+""+x+"[i] = m"+x+""+y+"*invDet;\n");
+            }
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    private void solve() {
+        out.print("    /**\n" +
+                "     * <p>Solves the linear system a*x = b for each matrix and vector in the batch, using the inverse computed\n" +
+                "     * from minor matrices.  No branches are required, unlike a solver which pivots, so the loop can be\n" +
+                "     * vectorized.  Singular matrices will produce NaN or infinite solutions.</p>\n" +
+                "     *\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param b Batch of "+N+" element vectors. Not modified.\n" +
+                "     * @param x Batch of "+N+" element vectors where the solutions are stored.  Can be the same instance as b.  Modified.\n" +
+                "     */\n" +
+                "    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {\n" +
+                "        checkVector(b,a.length);\n" +
+                "        checkVector(x,a.length);\n" +
+                "        solve(a,b,x,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)");
+        out.print("    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        declareVectorArrays("b");
+        declareVectorArrays("x");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        loadVector("b");
+        printScaledMinors();
+        for( int y = 1; y <= N; y++ ) {
+            out.print("            x_"+y+"[i] = (");
+            for( int k = 1; k <= N; k++ ) {
+                out.print("m"+k+""+y+"*b"+k);
+                if( k < N )
+                    out.print(" + ");
+            }
+            out.println(")*invDet;");
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    private void det() {
+        out.print("    /**\n" +
+                "     * Computes the determinant of each matrix in the batch using minor matrices.\n" +
+                "     * <p></p>\n" +
+                "     * WARNING: Potentially less stable than using LU decomposition.\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.\n" +
+                "     */\n" +
+                "    public static void det( BatchMatrix64F a , double det[] ) {\n" +
+                "        if( det.length < a.length )\n" +
+                "            throw new IllegalArgumentException(\"det is too small\");\n" +
+                "        det(a,det,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("det(BatchMatrix64F, double[])");
+        out.print("    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        if( N == 2 ) {
+            out.print("            det[i] = a_11[i]*a_22[i] - a_12[i]*a_21[i];\n");
+        } else if( N == 3 ) {
+            loadMatrix("a","");
+            out.print("\n" +
+                    "            double d1 = a11*(a22*a33 - a23*a32);\n" +
+                    "            double d2 = a12*(a21*a33 - a23*a31);\n" +
+                    "            double d3 = a13*(a21*a32 - a31*a22);\n" +
+                    "\n" +
+                    "            det[i] = d1-d2+d3;\n");
+        } else {
+            final java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+            GenerateDeterminantFromMinor helper = new GenerateDeterminantFromMinor(new java.io.PrintStream(bytes)) {
+                @Override
+                protected String getInputValue(int element) {
+                    int row = element/(N+1) + 1;
+                    int col = element%(N+1) + 1;
+                    return "a_"+row+""+col+"[i]";
+                }
+            };
+            helper.printFunctionInner(N);
+            indent(bytes.toString());
+            out.print("\n            det[i] = ret;\n");
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    /**
+     * Too many minors are needed beyond {@link GenerateFixedOps#maxInverseSize} so the system is solved using
+     * Gaussian elimination instead.  Pivoting would require branches, which prevent the loop from being vectorized.
+     */
+    private void solveElimination() {
+        out.print("    /**\n" +
+                "     * <p>Solves the linear system a*x = b for each matrix and vector in the batch using Gaussian elimination\n" +
+                "     * without pivoting.  No branches are required, unlike a solver which pivots, so the loop can be\n" +
+                "     * vectorized.  A zero pivot will produce NaN or infinite solutions.</p>\n" +
+                "     *\n" +
+                "     * WARNING: Only accurate for matrices which don't need pivoting, such as symmetric positive definite or\n" +
+                "     * diagonally dominant matrices.  Use {@link FixedOps"+N+"#solveLU} on each matrix otherwise.\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param b Batch of "+N+" element vectors. Not modified.\n" +
+                "     * @param x Batch of "+N+" element vectors where the solutions are stored.  Can be the same instance as b.  Modified.\n" +
+                "     */\n" +
+                "    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {\n" +
+                "        checkVector(b,a.length);\n" +
+                "        checkVector(x,a.length);\n" +
+                "        solve(a,b,x,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)");
+        out.print("    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        declareVectorArrays("b");
+        declareVectorArrays("x");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        loadMatrix("a","");
+        loadVector("b");
+        out.println();
+        printElimination(true);
+
+        // back substitution
+        for( int y = N; y >= 1; y-- ) {
+            out.print("            double x"+y+" = ");
+            if( y < N )
+                out.print("(");
+            out.print("b"+y);
+            for( int k = y+1; k <= N; k++ )
+                out.print(" - a"+y+""+k+"*x"+k);
+            if( y < N )
+                out.print(")");
+            out.println("*d"+y+";");
+        }
+        out.println();
+        for( int y = 1; y <= N; y++ ) {
+            out.println("            x_"+y+"[i] = x"+y+";");
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    /**
+     * Determinant from the pivots of Gaussian elimination, see {@link #solveElimination()}.
+     */
+    private void detElimination() {
+        out.print("    /**\n" +
+                "     * Computes the determinant of each matrix in the batch from the product of the pivots found by Gaussian\n" +
+                "     * elimination without pivoting.  No branches are required so the loop can be vectorized.\n" +
+                "     * <p></p>\n" +
+                "     * WARNING: Only accurate for matrices which don't need pivoting, such as symmetric positive definite or\n" +
+                "     * diagonally dominant matrices.  A zero pivot will produce a NaN or infinite determinant.\n" +
+                "     *\n" +
+                "     * @param a Batch of "+desc+" matrices. Not modified.\n" +
+                "     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.\n" +
+                "     */\n" +
+                "    public static void det( BatchMatrix64F a , double det[] ) {\n" +
+                "        if( det.length < a.length )\n" +
+                "            throw new IllegalArgumentException(\"det is too small\");\n" +
+                "        det(a,det,0,a.length);\n" +
+                "    }\n\n");
+
+        printRangeDoc("det(BatchMatrix64F, double[])");
+        out.print("    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {\n" +
+                "        checkMatrix(a,end);\n");
+        declareMatrixArrays("a");
+        out.print("\n        for( int i = start; i < end; i++ ) {\n");
+        loadMatrix("a","");
+        out.println();
+        printElimination(false);
+
+        out.print("            det[i] = ");
+        for( int k = 1; k <= N; k++ ) {
+            out.print("a"+k+""+k);
+            out.print(k < N ? "*" : ";\n");
+        }
+        out.print("        }\n" +
+                "    }\n\n");
+    }
+
+    /**
+     * Reduces the matrix in local variables to upper triangular form without pivoting.  The reciprocal of each
+     * pivot is saved in d1 to dN so that only N divisions are needed.
+     *
+     * @param vector If true the same operations are applied to the vector in local variables b1 to bN
+     */
+    private void printElimination( boolean vector ) {
+        for( int k = 1; k <= N; k++ ) {
+            if( vector || k < N )
+                out.println("            double d"+k+" = 1.0/a"+k+""+k+";");
+            for( int y = k+1; y <= N; y++ ) {
+                out.println("            double l"+y+""+k+" = a"+y+""+k+"*d"+k+";");
+                for( int x = k+1; x <= N; x++ ) {
+                    out.println("            a"+y+""+x+" -= l"+y+""+k+"*a"+k+""+x+";");
+                }
+                if( vector )
+                    out.println("            b"+y+" -= l"+y+""+k+"*b"+k+";");
+            }
+        }
+        out.println();
+    }
+
+    private void checks() {
+        out.print("    /**\n" +
+                "     * Makes sure the batch contains "+desc+" matrices and at least 'length' of them.\n" +
+                "     */\n" +
+                "    static void checkMatrix( BatchMatrix64F m , int length ) {\n" +
+                "        if( m.numRows != "+N+" || m.numCols != "+N+" )\n" +
+                "            throw new IllegalArgumentException(\"Expected "+desc+" matrices\");\n" +
+                "        if( m.length < length )\n" +
+                "            throw new IllegalArgumentException(\"Batch is too small\");\n" +
+                "    }\n\n" +
+                "    /**\n" +
+                "     * Makes sure the batch contains "+N+" element vectors and at least 'length' of them.\n" +
+                "     */\n" +
+                "    static void checkVector( BatchMatrix64F m , int length ) {\n" +
+                "        if( m.numRows != "+N+" || m.numCols != 1 )\n" +
+                "            throw new IllegalArgumentException(\"Expected "+N+" element column vectors\");\n" +
+                "        if( m.length < length )\n" +
+                "            throw new IllegalArgumentException(\"Batch is too small\");\n" +
+                "    }\n");
+    }
+
+    private void multMT() {
+        printMT("mult","Performs c = a * b on each matrix in the batch.","mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)",
+                "checkMatrix(b,a.length);\n        "+className()+".checkMatrix(c,a.length);",
+                "final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F c","a,b,c");
+    }
+
+    private void transformMT() {
+        printMT("transform","Transforms each vector in the batch, c = a * b.","transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)",
+                "checkVector(b,a.length);\n        "+className()+".checkVector(c,a.length);",
+                "final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F c","a,b,c");
+    }
+
+    private void invertMT() {
+        printMT("invert","Inverts each matrix in the batch.","invert(BatchMatrix64F, BatchMatrix64F)",
+                "checkMatrix(inv,a.length);",
+                "final BatchMatrix64F a , final BatchMatrix64F inv","a,inv");
+    }
+
+    private void detMT() {
+        out.print("    /**\n" +
+                "     * Computes the determinant of each matrix in the batch.\n" +
+                "     *\n" +
+                "     * @see "+className()+"#det(BatchMatrix64F, double[])\n" +
+                "     */\n" +
+                "    public static void det( final BatchMatrix64F a , final double det[] ) {\n" +
+                "        if( det.length < a.length )\n" +
+                "            throw new IllegalArgumentException(\"det is too small\");\n");
+        printProcess("det","a,det");
+    }
+
+    private void solveMT() {
+        printMT("solve","Solves a*x = b for each matrix and vector in the batch.","solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)",
+                "checkVector(b,a.length);\n        "+className()+".checkVector(x,a.length);",
+                "final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F x","a,b,x");
+    }
+
+    private void printMT( String name , String description , String see , String checks ,
+                          String params , String args ) {
+        out.print("    /**\n" +
+                "     * "+description+"\n" +
+                "     *\n" +
+                "     * @see "+className()+"#"+see+"\n" +
+                "     */\n" +
+                "    public static void "+name+"( "+params+" ) {\n" +
+                "        "+className()+"."+checks+"\n");
+        printProcess(name,args);
+    }
+
+    private void printProcess( String name , String args ) {
+        out.print("        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {\n" +
+                "            @Override\n" +
+                "            public void process(int start, int end) {\n" +
+                "                "+className()+"."+name+"("+args+",start,end);\n" +
+                "            }\n" +
+                "        });\n" +
+                "    }\n\n");
+    }
+
+    private String className() {
+        return classPreamble+N;
+    }
+
+    /**
+     * Loads the scaled matrix and computes the minors and the reciprocal of the determinant.  The matrix is scaled
+     * by the sum of absolute values instead of the maximum, like in {@link GenerateFixedOps}, since it provides the
+     * same protection against overflow but Math.max() prevents the loop from being vectorized.
+     */
+    private void printScaledMinors() {
+        out.print("            double scale = 1.0/(");
+        for( int y = 1; y <= N; y++ ) {
+            for( int x = 1; x <= N; x++ ) {
+                out.print("Math.abs(a_"+y+""+x+"[i])");
+                if( y != N || x != N )
+                    out.print(x < N ? " + " : " +\n                    ");
+            }
+        }
+        out.println(");");
+        out.println();
+        loadMatrix("a","*scale");
+        out.println();
+
+        int matrix[] = new int[N*N];
+        for( int i = 0; i < matrix.length; i++ )
+            matrix[i] = i;
+
+        final java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        try {
+            GenerateInverseFromMinor gen = new GenerateInverseFromMinor(false);
+            gen.printMinors(matrix,N,new java.io.PrintStream(bytes));
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException(e);
+        }
+        // multiplying by the reciprocal is much faster than N*N divisions
+        String code = bytes.toString().replace("double det = (","double invDet = scale/(").replace(")/scale;",");");
+        indent(code);
+        out.println();
+    }
+
+    /**
+     * The helpers print code for a function body.  Add another level of indentation for the loop.
+     */
+    private void indent( String code ) {
+        for( String line : code.split("\n") ) {
+            if( line.length() > 0 )
+                out.print("    ");
+            out.println(line);
+        }
+    }
+
+    private void declareMatrixArrays( String name ) {
+        int index = 0;
+        for( int y = 1; y <= N; y++ ) {
+            out.print("        final double ");
+            for( int x = 1; x <= N; x++ , index++ ) {
+                out.print(name+"_"+y+""+x+"[] = "+name+".data["+index+"]");
+                out.print(x < N ? ", " : ";\n");
+            }
+        }
+    }
+
+    private void declareVectorArrays( String name ) {
+        out.print("        final double ");
+        for( int y = 1; y <= N; y++ ) {
+            out.print(name+"_"+y+"[] = "+name+".data["+(y-1)+"]");
+            out.print(y < N ? ", " : ";\n");
+        }
+    }
+
+    private void loadMatrix( String name , String suffix ) {
+        for( int y = 1; y <= N; y++ ) {
+            out.print("            double ");
+            for( int x = 1; x <= N; x++ ) {
+                out.print(name+y+""+x+" = "+name+"_"+y+""+x+"[i]"+suffix);
+                out.print(x < N ? ", " : ";\n");
+            }
+        }
+    }
+
+    private void loadVector( String name ) {
+        out.print("            double ");
+        for( int y = 1; y <= N; y++ ) {
+            out.print(name+y+" = "+name+"_"+y+"[i]");
+            out.print(y < N ? ", " : ";\n");
+        }
+    }
+
+    public static void main( String args[] ) throws FileNotFoundException {
+        GenerateBatchOps app = new GenerateBatchOps();
+
+        app.generate();
+    }
+}
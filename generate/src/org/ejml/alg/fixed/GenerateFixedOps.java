@@ -23,6 +23,10 @@ import org.ejml.alg.dense.misc.GenerateDeterminantFromMinor;
 import org.ejml.alg.dense.misc.GenerateInverseFromMinor;
 
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Automatic code generator for FixedOps
@@ -39,43 +43,108 @@ public class GenerateFixedOps extends CodeGeneratorBase {
     // The maximize size it will do inverse on
     public static int maxInverseSize = 5;
 
+    // The maximum size it will do solveLU on.  Beyond this the function is too large to be compiled by HotSpot
+    public static int maxSolveLUSize = 8;
+
+    // Largest square matrix which is generated
+    public static int maxDimension = 12;
+
+    // Shape of rectangular matrices which are generated, {rows,columns}
+    public static int[][] rectangular = new int[][]{{3,6},{6,3}};
+
+    // Maximum number of multiplications in a single function when multiplying two matrices
+    public static int maxMultTerms = 750;
+
+    // separates the row and column in variable names once the indexes can have more than one digit
+    String separator;
+
+    int numRows,numCols;
+
     @Override
     public void generate() throws FileNotFoundException {
-        for( int dimension = 2; dimension <= 6; dimension++ ){
+        for( int dimension = 2; dimension <= maxDimension; dimension++ ){
             printPreable(dimension);
 
-            printAdd(dimension);
-            addEquals(dimension);
+            printAdd();
+            addEquals();
             transpose_one(dimension);
-            transpose_two(dimension);
-            mult(dimension);
-            multTransA(dimension);
-            multTransAB(dimension);
-            multTransB(dimension);
-            mult_m_v_v(dimension);
-            mult_v_m_v(dimension);
+            transpose_two();
+            mult(nameMatrix,nameMatrix,nameMatrix,dimension,dimension,dimension);
+            multTransA(nameMatrix,nameMatrix,nameMatrix,dimension,dimension,dimension);
+            multTransAB(nameMatrix,nameMatrix,nameMatrix,dimension,dimension,dimension);
+            multTransB(nameMatrix,nameMatrix,nameMatrix,dimension,dimension,dimension);
+            mult_m_v_v();
+            mult_v_m_v();
             dot(dimension);
             setIdentity(dimension);
             if( dimension <= maxInverseSize ) {
                 invert(dimension);
                 det(dimension);
             }
+            cholL(dimension);
+            solveCholL(dimension);
+            ldl(dimension);
+            solveLDL(dimension);
+            if( dimension <= maxSolveLUSize )
+                solveLU(dimension);
+            if( dimension == 3 )
+                eigSymm3();
             trace(dimension);
             diag(dimension);
-            elementMax(dimension);
-            elementMaxAbs(dimension);
-            elementMin(dimension);
-            elementMinAbs(dimension);
-            elementMult_two(dimension);
-            elementMult_three(dimension);
-            elementDiv_two(dimension);
-            elementDiv_three(dimension);
-            scale_two(dimension);
-            scale_three(dimension);
-            divide_two(dimension);
-            divide_three(dimension);
-            changeSign(dimension);
-            fill(dimension);
+            elementMax();
+            elementMaxAbs();
+            elementMin();
+            elementMinAbs();
+            elementMult_two();
+            elementMult_three();
+            elementDiv_two();
+            elementDiv_three();
+            scale_two();
+            scale_three();
+            divide_two();
+            divide_three();
+            changeSign();
+            fill();
+
+            out.println("}\n");
+        }
+
+        for( int[] shape : rectangular ) {
+            List<MixedMult> mixed = findMixedMult(shape[0],shape[1]);
+            printPreableRectangular(shape[0],shape[1],mixed);
+
+            printAdd();
+            addEquals();
+            transpose_two();
+            for( MixedMult m : mixed ) {
+                String nameA = matrixName(m.a[0],m.a[1]);
+                String nameB = matrixName(m.b[0],m.b[1]);
+                String nameC = matrixName(m.c[0],m.c[1]);
+                if( m.op.equals("mult") )
+                    mult(nameA,nameB,nameC,m.c[0],m.a[1],m.c[1]);
+                else if( m.op.equals("multTransA") )
+                    multTransA(nameA,nameB,nameC,m.c[0],m.a[0],m.c[1]);
+                else if( m.op.equals("multTransAB") )
+                    multTransAB(nameA,nameB,nameC,m.c[0],m.a[0],m.c[1]);
+                else
+                    multTransB(nameA,nameB,nameC,m.c[0],m.a[1],m.c[1]);
+            }
+            mult_m_v_v();
+            mult_v_m_v();
+            elementMax();
+            elementMaxAbs();
+            elementMin();
+            elementMinAbs();
+            elementMult_two();
+            elementMult_three();
+            elementDiv_two();
+            elementDiv_three();
+            scale_two();
+            scale_three();
+            divide_two();
+            divide_three();
+            changeSign();
+            fill();
 
             out.println("}\n");
         }
@@ -87,9 +156,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
 
         nameMatrix = "FixedMatrix"+dimen+"x"+dimen+"_64F";
         nameVector = "FixedMatrix"+dimen+"_64F";
+        separator = separator(dimen,dimen);
+        numRows = numCols = dimen;
 
         setOutputFile(className);
 
+        out.print("import org.ejml.UtilEjml;\n");
         out.print("import org.ejml.data."+nameVector+";\n" +
                 "import org.ejml.data."+nameMatrix+";\n" +
                 "\n" +
@@ -102,7 +174,105 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "public class "+className+" {\n");
     }
 
-    private void printAdd( int dimen ){
+    public void printPreableRectangular( int rows , int cols , List<MixedMult> mixed ) throws FileNotFoundException {
+
+        String className = classPreamble+rows+"x"+cols;
+
+        nameMatrix = matrixName(rows,cols);
+        nameVector = null;
+        separator = separator(rows,cols);
+        numRows = rows;
+        numCols = cols;
+
+        setOutputFile(className);
+
+        Set<String> imports = new TreeSet<String>();
+        imports.add(nameMatrix);
+        imports.add(matrixName(cols,rows));
+        imports.add(vectorName(rows));
+        imports.add(vectorName(cols));
+        for( MixedMult m : mixed ) {
+            imports.add(matrixName(m.a[0],m.a[1]));
+            imports.add(matrixName(m.b[0],m.b[1]));
+            imports.add(matrixName(m.c[0],m.c[1]));
+        }
+        for( String name : imports ) {
+            out.print("import org.ejml.data."+name+";\n");
+        }
+
+        out.print("\n" +
+                "/**\n" +
+                " * <p>Common matrix operations for fixed sized matrices which are "+rows+" x "+cols+".  Multiplications\n" +
+                " * between "+rows+" x "+cols+" matrices and other fixed sized matrices are also included here.</p>\n" +
+                " * <p>DO NOT MODIFY.  Automatically generated code created by "+getClass().getSimpleName()+"</p>\n" +
+                " *\n" +
+                " * @author Peter Abeles\n" +
+                " */\n" +
+                "public class "+className+" {\n");
+    }
+
+    /**
+     * Finds all the multiplications involving rectangular matrices which belong in the class for the
+     * rows x cols matrix.  An operation goes into the class of the first rectangular matrix in its
+     * argument list.
+     */
+    private List<MixedMult> findMixedMult( int rows , int cols ) {
+        List<int[]> shapes = new ArrayList<int[]>();
+        for( int dimension = 2; dimension <= maxDimension; dimension++ )
+            shapes.add(new int[]{dimension,dimension});
+        for( int[] shape : rectangular )
+            shapes.add(shape);
+
+        List<MixedMult> found = new ArrayList<MixedMult>();
+        for( String op : new String[]{"mult","multTransA","multTransAB","multTransB"}) {
+            for( int[] a : shapes ) {
+                for( int[] b : shapes ) {
+                    int[] c;
+                    if( op.equals("mult") )
+                        c = a[1] == b[0] ? new int[]{a[0],b[1]} : null;
+                    else if( op.equals("multTransA") )
+                        c = a[0] == b[0] ? new int[]{a[1],b[1]} : null;
+                    else if( op.equals("multTransAB") )
+                        c = a[0] == b[1] ? new int[]{a[1],b[0]} : null;
+                    else
+                        c = a[1] == b[1] ? new int[]{a[0],b[0]} : null;
+
+                    if( c == null || !isShape(shapes,c) )
+                        continue;
+
+                    int[] owner = null;
+                    for( int[] m : new int[][]{a,b,c}) {
+                        if( m[0] != m[1] ) {
+                            owner = m;
+                            break;
+                        }
+                    }
+                    if( owner == null || owner[0] != rows || owner[1] != cols )
+                        continue;
+
+                    MixedMult m = new MixedMult();
+                    m.op = op; m.a = a; m.b = b; m.c = c;
+                    found.add(m);
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean isShape( List<int[]> shapes , int[] shape ) {
+        for( int[] s : shapes ) {
+            if( s[0] == shape[0] && s[1] == shape[1] )
+                return true;
+        }
+        return false;
+    }
+
+    private static class MixedMult {
+        String op;
+        int[] a,b,c;
+    }
+
+    private void printAdd(){
         out.print("    /**\n" +
                 "     * <p>Performs the following operation:<br>\n" +
                 "     * <br>\n" +
@@ -119,16 +289,16 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param c A Matrix where the results are stored. Modified.\n" +
                 "     */\n" +
                 "    public static void add( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                String n = y+""+x;
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
+                String n = n(y,x);
                 out.print("        c.a"+n+" = a.a"+n+" + b.a"+n+";\n");
             }
         }
         out.print("    }\n\n");
     }
 
-    private void addEquals( int dimen ){
+    private void addEquals(){
         out.print("    /**\n" +
                 "     * <p>Performs the following operation:<br>\n" +
                 "     * <br>\n" +
@@ -140,9 +310,9 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b A Matrix. Not modified.\n" +
                 "     */\n" +
                 "    public static void addEquals( "+nameMatrix+" a , "+nameMatrix+" b ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                String n = y+""+x;
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
+                String n = n(y,x);
                 out.print("        a.a"+n+" += b.a"+n+";\n");
             }
         }
@@ -160,8 +330,8 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "        double tmp;\n");
         for( int y = 1; y <= dimen; y++ ) {
             for( int x = y+1; x <= dimen; x++ ) {
-                String f = +y+""+x;
-                String t = +x+""+y;
+                String f = n(y,x);
+                String t = n(x,y);
 
                 out.print("        tmp = m.a"+f+"; m.a"+f+" = m.a"+t+"; m.a"+t+" = tmp;\n");
             }
@@ -169,7 +339,9 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void transpose_two( int dimen ){
+    private void transpose_two(){
+        String nameOutput = matrixName(numCols,numRows);
+
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Transposes matrix 'a' and stores the results in 'b':<br>\n" +
@@ -182,13 +354,13 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param output Where the transpose is stored. If null a new matrix is created. Modified.\n" +
                 "     * @return The transposed matrix.\n" +
                 "     */\n" +
-                "    public static "+nameMatrix+" transpose( "+nameMatrix+" input , "+nameMatrix+" output ) {\n" +
-                "        if( input == null )\n" +
-                "            input = new "+nameMatrix+"();\n\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                String f = +y+""+x;
-                String t = +x+""+y;
+                "    public static "+nameOutput+" transpose( "+nameMatrix+" input , "+nameOutput+" output ) {\n" +
+                "        if( output == null )\n" +
+                "            output = new "+nameOutput+"();\n\n");
+        for( int y = 1; y <= numCols; y++ ) {
+            for( int x = 1; x <= numRows; x++ ) {
+                String f = e(numCols,numRows,y,x);
+                String t = n(x,y);
 
                 out.print("        output.a"+f+" = input.a"+t+";\n");
             }
@@ -198,7 +370,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    }\n\n");
     }
 
-    private void mult( int dimen ){
+    private void mult( String nameA , String nameB , String nameC , int rows , int inner , int cols ){
         out.print("    /**\n" +
                 "     * <p>Performs the following operation:<br>\n" +
                 "     * <br>\n" +
@@ -210,25 +382,11 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
-                "     */\n" +
-                "    public static void mult( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c) {\n");
-
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("        c.a"+y+""+x+" = ");
-                for( int k = 1; k <= dimen; k++ ) {
-                    out.print("a.a"+y+""+k+"*b.a"+k+""+x);
-                    if( k < dimen )
-                        out.print(" + ");
-                    else
-                        out.print(";\n");
-                }
-            }
-        }
-        out.print("    }\n\n");
+                "     */\n");
+        printMult("mult",nameA,nameB,nameC,rows,inner,cols,false,false);
     }
 
-    private void multTransA( int dimen ){
+    private void multTransA( String nameA , String nameB , String nameC , int rows , int inner , int cols ){
         out.print("    /**\n" +
                 "     * <p>Performs the following operation:<br>\n" +
                 "     * <br>\n" +
@@ -240,25 +398,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
-                "     */\n" +
-                "    public static void multTransA( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("        c.a"+y+""+x+" = ");
-                for( int k = 1; k <= dimen; k++ ) {
-                    out.print("a.a"+k+""+y+"*b.a"+k+""+x);
-                    if( k < dimen )
-                        out.print(" + ");
-                    else
-                        out.print(";\n");
-                }
-            }
-        }
-        out.printf("    }\n\n");
+                "     */\n");
+        printMult("multTransA",nameA,nameB,nameC,rows,inner,cols,true,false);
     }
 
-    private void multTransAB( int dimen ){
-        out.printf("    /**\n" +
+    private void multTransAB( String nameA , String nameB , String nameC , int rows , int inner , int cols ){
+        out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs the following operation:<br>\n" +
                 "     * <br>\n" +
@@ -269,24 +414,11 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
-                "     */\n" +
-                "    public static void multTransAB( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("        c.a"+y+""+x+" = ");
-                for( int k = 1; k <= dimen; k++ ) {
-                    out.print("a.a"+k+""+y+"*b.a"+x+""+k);
-                    if( k < dimen )
-                        out.print(" + ");
-                    else
-                        out.print(";\n");
-                }
-            }
-        }
-        out.print("    }\n\n");
+                "     */\n");
+        printMult("multTransAB",nameA,nameB,nameC,rows,inner,cols,true,true);
     }
 
-    private void multTransB( int dimen ){
+    private void multTransB( String nameA , String nameB , String nameC , int rows , int inner , int cols ){
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs the following operation:<br>\n" +
@@ -298,24 +430,58 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param a The left matrix in the multiplication operation. Not modified.\n" +
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
-                "     */\n" +
-                "    public static void multTransB( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("        c.a"+y+""+x+" = ");
-                for( int k = 1; k <= dimen; k++ ) {
-                    out.print("a.a"+y+""+k+"*b.a"+x+""+k);
-                    if( k < dimen )
+                "     */\n");
+        printMult("multTransB",nameA,nameB,nameC,rows,inner,cols,false,true);
+    }
+
+    /**
+     * Prints the body of a matrix multiplication where c is rows x cols.  HotSpot will not compile methods
+     * with more than 8000 bytes of bytecode, so large products are split up into several private functions
+     * that each compute a block of rows.
+     */
+    private void printMult( String name , String nameA , String nameB , String nameC ,
+                            int rows , int inner , int cols , boolean transA , boolean transB ) {
+        String args = "( "+nameA+" a , "+nameB+" b , "+nameC+" c)";
+        out.print("    public static void "+name+args+" {\n");
+
+        int rowsPerBlock = Math.max(1,maxMultTerms/(cols*inner));
+        if( rowsPerBlock >= rows ) {
+            printMultRows(rows,inner,cols,transA,transB,1,rows);
+            out.print("    }\n\n");
+        } else {
+            for( int start = 1; start <= rows; start += rowsPerBlock ) {
+                int end = Math.min(rows,start+rowsPerBlock-1);
+                out.print("        "+name+"_rows"+start+"to"+end+"(a,b,c);\n");
+            }
+            out.print("    }\n\n");
+            for( int start = 1; start <= rows; start += rowsPerBlock ) {
+                int end = Math.min(rows,start+rowsPerBlock-1);
+                out.print("    private static void "+name+"_rows"+start+"to"+end+args+" {\n");
+                printMultRows(rows,inner,cols,transA,transB,start,end);
+                out.print("    }\n\n");
+            }
+        }
+    }
+
+    private void printMultRows( int rows , int inner , int cols , boolean transA , boolean transB ,
+                                int start , int end ) {
+        for( int y = start; y <= end; y++ ) {
+            for( int x = 1; x <= cols; x++ ) {
+                out.print("        c.a"+e(rows,cols,y,x)+" = ");
+                for( int k = 1; k <= inner; k++ ) {
+                    String elA = transA ? e(inner,rows,k,y) : e(rows,inner,y,k);
+                    String elB = transB ? e(cols,inner,x,k) : e(inner,cols,k,x);
+                    out.print("a.a"+elA+"*b.a"+elB);
+                    if( k < inner )
                         out.print(" + ");
                     else
                         out.print(";\n");
                 }
             }
         }
-        out.print("    }\n\n");
     }
 
-    private void mult_m_v_v( int dimen ){
+    private void mult_m_v_v(){
         out.print("    /**\n" +
                 "     * <p>Performs matrix to vector multiplication:<br>\n" +
                 "     * <br>\n" +
@@ -328,12 +494,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b The right vector in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
                 "     */\n" +
-                "    public static void mult( "+nameMatrix+" a , "+nameVector+" b , "+nameVector+" c) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+                "    public static void mult( "+nameMatrix+" a , "+vectorName(numCols)+" b , "+vectorName(numRows)+" c) {\n");
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        c.a"+y+" = ");
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("a.a"+y+""+x+"*b.a"+x);
-                if( x < dimen )
+            for( int x = 1; x <= numCols; x++ ) {
+                out.print("a.a"+n(y,x)+"*b.a"+x);
+                if( x < numCols )
                     out.print(" + ");
                 else
                     out.print(";\n");
@@ -343,7 +509,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
 
     }
 
-    private void mult_v_m_v( int dimen ){
+    private void mult_v_m_v(){
         out.print("    /**\n" +
                 "     * <p>Performs vector to matrix multiplication:<br>\n" +
                 "     * <br>\n" +
@@ -356,13 +522,13 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
                 "     */\n" +
-                "    public static void mult( "+nameVector+" a , "+nameMatrix+" b , "+nameVector+" c) {\n");
+                "    public static void mult( "+vectorName(numRows)+" a , "+nameMatrix+" b , "+vectorName(numCols)+" c) {\n");
 
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numCols; y++ ) {
             out.print("        c.a"+y+" = ");
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("a.a"+x+"*b.a"+x+""+y);
-                if( x < dimen )
+            for( int x = 1; x <= numRows; x++ ) {
+                out.print("a.a"+x+"*b.a"+n(x,y));
+                if( x < numRows )
                     out.print(" + ");
                 else
                     out.print(";\n");
@@ -409,7 +575,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
             out.print("        ");
             for( int x = 1; x <= dimen; x++ ) {
                 int val = x==y?1:0;
-                out.print("a.a"+x+""+y+" = "+val+";");
+                out.print("a.a"+n(x,y)+" = "+val+";");
                 if( x < dimen )
                     out.print(" ");
                 else
@@ -440,7 +606,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         for( int y = 1; y <= dimen; y++ ) {
             for( int x = 1; x <= dimen; x++ , index++) {
                 matrix[index] = index;
-                String coor = y+""+x;
+                String coor = n(y,x);
                 out.print("        double a"+coor+" = a.a"+coor+"*scale;\n");
             }
         }
@@ -456,8 +622,8 @@ public class GenerateFixedOps extends CodeGeneratorBase {
 
         for( int y = 1; y <= dimen; y++ ) {
             for( int x = 1; x <= dimen; x++ ) {
-                String coor0 = y+""+x;
-                String coor1 = x+""+y;
+                String coor0 = n(y,x);
+                String coor1 = n(x,y);
                 out.print("        inv.a"+coor0+" = m"+coor1+"/det;\n");
             }
         }
@@ -467,6 +633,372 @@ public class GenerateFixedOps extends CodeGeneratorBase {
 
     }
 
+    private void cholL( int dimen ){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,\n" +
+                "     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle\n" +
+                "     * of 'L' is set to zero.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Matrix L can be the same instance as Matrix A.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a Symmetric positive definite matrix. Not modified.\n" +
+                "     * @param L Lower triangular matrix. Modified.\n" +
+                "     * @return true if successful or false if the matrix is not positive definite.\n" +
+                "     */\n" +
+                "    public static boolean cholL( "+nameMatrix+" a , "+nameMatrix+" L ) {\n");
+
+        for( int i = 1; i <= dimen; i++ ) {
+            for( int j = 1; j <= i; j++ ) {
+                out.print("        double l"+n(i,j)+" = a.a"+n(i,j));
+                for( int k = 1; k < j; k++ ) {
+                    out.print(" - l"+n(i,k)+"*l"+n(j,k));
+                }
+                out.print(";\n");
+                if( i == j ) {
+                    out.print("        if( !(l"+n(i,i)+" > 0) ) return false;\n");
+                    out.print("        l"+n(i,i)+" = Math.sqrt(l"+n(i,i)+");\n");
+                    if( i < dimen )
+                        out.print("        double inv"+i+" = 1.0/l"+n(i,i)+";\n");
+                } else {
+                    out.print("        l"+n(i,j)+" *= inv"+j+";\n");
+                }
+            }
+        }
+        out.println();
+        for( int y = 1; y <= dimen; y++ ) {
+            out.print("        ");
+            for( int x = 1; x <= dimen; x++ ) {
+                String value = x <= y ? "l"+n(y,x) : "0";
+                out.print("L.a"+n(y,x)+" = "+value+";");
+                if( x < dimen )
+                    out.print(" ");
+                else
+                    out.println();
+            }
+        }
+        out.println();
+        out.print("        return true;\n");
+        out.print("    }\n\n");
+    }
+
+    private void solveCholL( int dimen ){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by\n" +
+                "     * {@link #cholL}.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Vector x can be the same instance as Vector b.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.\n" +
+                "     * @param b A vector. Not modified.\n" +
+                "     * @param x Where the solution is stored. Modified.\n" +
+                "     */\n" +
+                "    public static void solveCholL( "+nameMatrix+" L , "+nameVector+" b , "+nameVector+" x ) {\n");
+
+        // forward substitution, L*y = b
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        double y"+i+" = (b.a"+i);
+            for( int j = 1; j < i; j++ ) {
+                out.print(" - L.a"+n(i,j)+"*y"+j);
+            }
+            out.print(")/L.a"+n(i,i)+";\n");
+        }
+        out.println();
+        // backwards substitution, L^T*x = y
+        for( int i = dimen; i >= 1; i-- ) {
+            out.print("        double x"+i+" = (y"+i);
+            for( int j = i+1; j <= dimen; j++ ) {
+                out.print(" - L.a"+n(j,i)+"*x"+j);
+            }
+            out.print(")/L.a"+n(i,i)+";\n");
+        }
+        out.println();
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        x.a"+i+" = x"+i+";\n");
+        }
+        out.print("    }\n\n");
+    }
+
+    private void ldl( int dimen ){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,\n" +
+                "     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the\n" +
+                "     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike\n" +
+                "     * {@link #cholL} no square roots are computed.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Matrix L can be the same instance as Matrix A.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a Symmetric positive definite matrix. Not modified.\n" +
+                "     * @param L Unit lower triangular matrix. Modified.\n" +
+                "     * @param d The elements along the diagonal of D. Modified.\n" +
+                "     * @return true if successful or false if the matrix is not positive definite.\n" +
+                "     */\n" +
+                "    public static boolean ldl( "+nameMatrix+" a , "+nameMatrix+" L , "+nameVector+" d ) {\n");
+
+        for( int i = 1; i <= dimen; i++ ) {
+            // compute row i of L using d_k*l_jk, which is stored in p_jk
+            for( int j = 1; j < i; j++ ) {
+                out.print("        double l"+n(i,j)+" = a.a"+n(i,j));
+                for( int k = 1; k < j; k++ ) {
+                    out.print(" - l"+n(i,k)+"*p"+n(j,k));
+                }
+                out.print(";\n");
+                out.print("        double p"+n(i,j)+" = l"+n(i,j)+";\n");
+                out.print("        l"+n(i,j)+" /= d"+j+";\n");
+            }
+            out.print("        double d"+i+" = a.a"+n(i,i));
+            for( int k = 1; k < i; k++ ) {
+                out.print(" - l"+n(i,k)+"*p"+n(i,k));
+            }
+            out.print(";\n");
+            out.print("        if( !(d"+i+" > 0) ) return false;\n");
+        }
+        out.println();
+        for( int y = 1; y <= dimen; y++ ) {
+            out.print("        ");
+            for( int x = 1; x <= dimen; x++ ) {
+                String value = x < y ? "l"+n(y,x) : (x == y ? "1" : "0");
+                out.print("L.a"+n(y,x)+" = "+value+";");
+                if( x < dimen )
+                    out.print(" ");
+                else
+                    out.println();
+            }
+        }
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        d.a"+i+" = d"+i+";\n");
+        }
+        out.println();
+        out.print("        return true;\n");
+        out.print("    }\n\n");
+    }
+
+    private void solveLDL( int dimen ){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by\n" +
+                "     * {@link #ldl}.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Vector x can be the same instance as Vector b.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.\n" +
+                "     * @param d Diagonal elements from the LDL decomposition. Not modified.\n" +
+                "     * @param b A vector. Not modified.\n" +
+                "     * @param x Where the solution is stored. Modified.\n" +
+                "     */\n" +
+                "    public static void solveLDL( "+nameMatrix+" L , "+nameVector+" d , "+nameVector+" b , "+nameVector+" x ) {\n");
+
+        // forward substitution, L*y = b
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        double y"+i+" = b.a"+i);
+            for( int j = 1; j < i; j++ ) {
+                out.print(" - L.a"+n(i,j)+"*y"+j);
+            }
+            out.print(";\n");
+        }
+        out.println();
+        // backwards substitution, L^T*x = inv(D)*y
+        for( int i = dimen; i >= 1; i-- ) {
+            out.print("        double x"+i+" = y"+i+"/d.a"+i);
+            for( int j = i+1; j <= dimen; j++ ) {
+                out.print(" - L.a"+n(j,i)+"*x"+j);
+            }
+            out.print(";\n");
+        }
+        out.println();
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        x.a"+i+" = x"+i+";\n");
+        }
+        out.print("    }\n\n");
+    }
+
+    private void solveLU( int dimen ){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The\n" +
+                "     * decomposition is computed in local variables and is not saved.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * <p>\n" +
+                "     * Vector x can be the same instance as Vector b.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a A square matrix. Not modified.\n" +
+                "     * @param b A vector. Not modified.\n" +
+                "     * @param x Where the solution is stored. Modified.\n" +
+                "     * @return true if successful or false if the matrix is singular.\n" +
+                "     */\n" +
+                "    public static boolean solveLU( "+nameMatrix+" a , "+nameVector+" b , "+nameVector+" x ) {\n");
+
+        for( int y = 1; y <= dimen; y++ ) {
+            out.print("        ");
+            for( int x = 1; x <= dimen; x++ ) {
+                String n = n(y,x);
+                out.print("double a"+n+" = a.a"+n+";");
+                if( x < dimen )
+                    out.print(" ");
+                else
+                    out.println();
+            }
+        }
+        out.print("        ");
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("double b"+i+" = b.a"+i+";");
+            if( i < dimen )
+                out.print(" ");
+            else
+                out.println();
+        }
+        out.print("        double tmp,m;\n");
+
+        for( int k = 1; k < dimen; k++ ) {
+            // select the row with the largest magnitude pivot and swap it into place
+            out.print("\n");
+            out.print("        // column "+k+"\n");
+            out.print("        int p"+k+" = "+k+";\n");
+            out.print("        double max"+k+" = Math.abs(a"+n(k,k)+");\n");
+            for( int i = k+1; i <= dimen; i++ ) {
+                out.print("        if( Math.abs(a"+n(i,k)+") > max"+k+" ) { max"+k+" = Math.abs(a"+n(i,k)+"); p"+k+" = "+i+"; }\n");
+            }
+            out.print("        if( max"+k+" < UtilEjml.EPS ) return false;\n");
+            out.print("        switch( p"+k+" ) {\n");
+            for( int i = k+1; i <= dimen; i++ ) {
+                out.print("            case "+i+":");
+                for( int j = k; j <= dimen; j++ ) {
+                    out.print(" tmp = a"+n(k,j)+"; a"+n(k,j)+" = a"+n(i,j)+"; a"+n(i,j)+" = tmp;");
+                }
+                out.print(" tmp = b"+k+"; b"+k+" = b"+i+"; b"+i+" = tmp;");
+                out.print(" break;\n");
+            }
+            out.print("        }\n");
+
+            // eliminate the column below the pivot
+            out.print("        tmp = 1.0/a"+n(k,k)+";\n");
+            for( int i = k+1; i <= dimen; i++ ) {
+                out.print("        m = a"+n(i,k)+"*tmp;");
+                for( int j = k+1; j <= dimen; j++ ) {
+                    out.print(" a"+n(i,j)+" -= m*a"+n(k,j)+";");
+                }
+                out.print(" b"+i+" -= m*b"+k+";\n");
+            }
+        }
+        out.print("        if( Math.abs(a"+n(dimen,dimen)+") < UtilEjml.EPS ) return false;\n");
+        out.println();
+
+        // backwards substitution
+        for( int i = dimen; i >= 1; i-- ) {
+            out.print("        double x"+i+" = (b"+i);
+            for( int j = i+1; j <= dimen; j++ ) {
+                out.print(" - a"+n(i,j)+"*x"+j);
+            }
+            out.print(")/a"+n(i,i)+";\n");
+        }
+        out.println();
+        for( int i = 1; i <= dimen; i++ ) {
+            out.print("        x.a"+i+" = x"+i+";\n");
+        }
+        out.println();
+        out.print("        return true;\n");
+        out.print("    }\n\n");
+    }
+
+    private void eigSymm3(){
+        out.print("    /**\n" +
+                "     * <p>\n" +
+                "     * Computes the eigenvalues and eigenvectors of a 3 by 3 symmetric matrix using the cyclic Jacobi\n" +
+                "     * method.  Only the upper triangle of 'a' is read.  The eigenvalues are not sorted and the\n" +
+                "     * eigenvector for eigenvalue i is stored in column i of 'vectors'.  Jacobi is used instead of\n" +
+                "     * a closed form solution because it remains accurate when eigenvalues are close together.\n" +
+                "     * </p>\n" +
+                "     *\n" +
+                "     * @param a Symmetric matrix. Not modified.\n" +
+                "     * @param values Where the eigenvalues are stored. Modified.\n" +
+                "     * @param vectors Where the eigenvectors are stored. Can be the same instance as 'a'. Modified.\n" +
+                "     * @return true if it converged or false if it didn't\n" +
+                "     */\n" +
+                "    public static boolean eigSymm( FixedMatrix3x3_64F a , FixedMatrix3_64F values , FixedMatrix3x3_64F vectors ) {\n" +
+                "        // scale to avoid overflow and underflow in the convergence test\n" +
+                "        double scale = Math.abs(a.a11);\n" +
+                "        scale = Math.max(scale,Math.abs(a.a12)); scale = Math.max(scale,Math.abs(a.a13));\n" +
+                "        scale = Math.max(scale,Math.abs(a.a22)); scale = Math.max(scale,Math.abs(a.a23));\n" +
+                "        scale = Math.max(scale,Math.abs(a.a33));\n" +
+                "        if( scale == 0 )\n" +
+                "            scale = 1;\n" +
+                "\n" +
+                "        double a11 = a.a11/scale, a12 = a.a12/scale, a13 = a.a13/scale;\n" +
+                "        double a22 = a.a22/scale, a23 = a.a23/scale;\n" +
+                "        double a33 = a.a33/scale;\n" +
+                "        double v11 = 1, v12 = 0, v13 = 0;\n" +
+                "        double v21 = 0, v22 = 1, v23 = 0;\n" +
+                "        double v31 = 0, v32 = 0, v33 = 1;\n" +
+                "        double theta,t,c,s,tmp0,tmp1;\n" +
+                "\n" +
+                "        boolean converged = false;\n" +
+                "        for( int iter = 0; iter < 50; iter++ ) {\n" +
+                "            double off = a12*a12 + a13*a13 + a23*a23;\n" +
+                "            double diag = a11*a11 + a22*a22 + a33*a33;\n" +
+                "            if( off <= UtilEjml.EPS*UtilEjml.EPS*diag ) {\n" +
+                "                converged = true;\n" +
+                "                break;\n" +
+                "            }\n");
+        jacobiRotation(1,2,3);
+        jacobiRotation(1,3,2);
+        jacobiRotation(2,3,1);
+        out.print("        }\n" +
+                "\n" +
+                "        values.a1 = a11*scale; values.a2 = a22*scale; values.a3 = a33*scale;\n" +
+                "        vectors.a11 = v11; vectors.a12 = v12; vectors.a13 = v13;\n" +
+                "        vectors.a21 = v21; vectors.a22 = v22; vectors.a23 = v23;\n" +
+                "        vectors.a31 = v31; vectors.a32 = v32; vectors.a33 = v33;\n" +
+                "\n" +
+                "        return converged;\n" +
+                "    }\n\n");
+    }
+
+    /**
+     * Prints a Jacobi rotation which zeros element (p,q) of the symmetric matrix.  'r' is the remaining index.
+     */
+    private void jacobiRotation( int p , int q , int r ) {
+        String pq = "a"+n(p,q);
+        String pp = "a"+n(p,p);
+        String qq = "a"+n(q,q);
+        String rp = "a"+n(Math.min(r,p),Math.max(r,p));
+        String rq = "a"+n(Math.min(r,q),Math.max(r,q));
+
+        out.print("\n" +
+                "            if( "+pq+" != 0 ) {\n" +
+                "                theta = ("+qq+" - "+pp+")/(2*"+pq+");\n" +
+                "                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));\n" +
+                "                if( theta < 0 ) t = -t;\n" +
+                "                c = 1.0/Math.sqrt(t*t + 1.0);\n" +
+                "                s = t*c;\n" +
+                "                "+pp+" -= t*"+pq+";\n" +
+                "                "+qq+" += t*"+pq+";\n" +
+                "                "+pq+" = 0;\n" +
+                "                tmp0 = "+rp+"; tmp1 = "+rq+";\n" +
+                "                "+rp+" = c*tmp0 - s*tmp1; "+rq+" = s*tmp0 + c*tmp1;\n");
+        for( int i = 1; i <= 3; i++ ) {
+            String ip = "v"+n(i,p);
+            String iq = "v"+n(i,q);
+            out.print("                tmp0 = "+ip+"; tmp1 = "+iq+"; "+ip+" = c*tmp0 - s*tmp1; "+iq+" = s*tmp0 + c*tmp1;\n");
+        }
+        out.print("            }\n");
+    }
+
     private void trace( int dimen ){
         out.print("    /**\n" +
                 "     * <p>\n" +
@@ -483,7 +1015,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    public static double trace( "+nameMatrix+" a ) {\n");
         out.print("        return ");
         for( int i = 1; i <= dimen; i++ ) {
-            out.print("a.a"+i+""+1);
+            out.print("a.a"+n(i,1));
             if( i < dimen )
                 out.print(" + ");
             else
@@ -517,7 +1049,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 protected String getInputValue(int element) {
                     int row = element/(N+1) + 1;
                     int col = element%(N+1) + 1;
-                    return "mat.a"+row+""+col;
+                    return "mat.a"+n(row,col);
                 }
             };
             helper.printFunctionInner(dimen);
@@ -540,12 +1072,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static void diag( "+nameMatrix+" input , "+nameVector+" out ) {\n");
         for( int i = 1; i <= dimen; i++ ) {
-            out.print("        out.a"+i+" = input.a"+i+""+i+";\n");
+            out.print("        out.a"+i+" = input.a"+n(i,i)+";\n");
         }
         out.print("    }\n\n");
     }
 
-    private void elementMax( int dimen ) {
+    private void elementMax() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Returns the value of the element in the matrix that has the largest value.<br>\n" +
@@ -558,12 +1090,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static double elementMax( "+nameMatrix+" a ) {\n");
 
-        out.print("        double max = a.a11;\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
+        out.print("        double max = a.a"+n(1,1)+";\n");
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( y == 1 && x == 1 )
                     continue;
-                out.print("        max = Math.max(max,a.a"+y+""+x+");\n");
+                out.print("        max = Math.max(max,a.a"+n(y,x)+");\n");
             }
         }
         out.print("\n" +
@@ -571,7 +1103,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    }\n\n");
     }
 
-    private void elementMaxAbs( int dimen ) {
+    private void elementMaxAbs() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>\n" +
@@ -584,12 +1116,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static double elementMaxAbs( "+nameMatrix+" a ) {\n");
 
-        out.print("        double max = a.a11;\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
+        out.print("        double max = Math.abs(a.a"+n(1,1)+");\n");
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( y == 1 && x == 1 )
                     continue;
-                out.print("        max = Math.max(max,Math.abs(a.a"+y+""+x+"));\n");
+                out.print("        max = Math.max(max,Math.abs(a.a"+n(y,x)+"));\n");
             }
         }
         out.print("\n" +
@@ -597,7 +1129,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    }\n\n");
     }
 
-    private void elementMin( int dimen ) {
+    private void elementMin() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Returns the value of the element in the matrix that has the minimum value.<br>\n" +
@@ -610,12 +1142,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static double elementMin( "+nameMatrix+" a ) {\n");
 
-        out.print("        double min = a.a11;\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
+        out.print("        double min = a.a"+n(1,1)+";\n");
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( y == 1 && x == 1 )
                     continue;
-                out.print("        min = Math.min(min,a.a"+y+""+x+");\n");
+                out.print("        min = Math.min(min,a.a"+n(y,x)+");\n");
             }
         }
         out.print("\n" +
@@ -623,7 +1155,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    }\n\n");
     }
 
-    private void elementMinAbs( int dimen ) {
+    private void elementMinAbs() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>\n" +
@@ -636,12 +1168,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static double elementMinAbs( "+nameMatrix+" a ) {\n");
 
-        out.print("        double min = a.a11;\n");
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
+        out.print("        double min = Math.abs(a.a"+n(1,1)+");\n");
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( y == 1 && x == 1 )
                     continue;
-                out.print("        min = Math.min(min,Math.abs(a.a"+y+""+x+"));\n");
+                out.print("        min = Math.min(min,Math.abs(a.a"+n(y,x)+"));\n");
             }
         }
         out.print("\n" +
@@ -649,7 +1181,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "    }\n\n");
     }
 
-    private void elementMult_two( int dimen ) {
+    private void elementMult_two() {
         out.print("    /**\n" +
                 "     * <p>Performs the an element by element multiplication operation:<br>\n" +
                 "     * <br>\n" +
@@ -659,12 +1191,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b The right matrix in the multiplication operation. Not modified.\n" +
                 "     */\n" +
                 "    public static void elementMult( "+nameMatrix+" a , "+nameMatrix+" b) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" *= b."+w+";");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -673,7 +1205,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void elementMult_three( int dimen ) {
+    private void elementMult_three() {
         out.print("    /**\n" +
                 "     * <p>Performs the an element by element multiplication operation:<br>\n" +
                 "     * <br>\n" +
@@ -684,12 +1216,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
                 "     */\n" +
                 "    public static void elementMult( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("c."+w+" = a."+w+"*b."+w+";");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -698,7 +1230,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void elementDiv_two( int dimen ) {
+    private void elementDiv_two() {
         out.print("    /**\n" +
                 "     * <p>Performs the an element by element division operation:<br>\n" +
                 "     * <br>\n" +
@@ -708,12 +1240,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b The right matrix in the division operation. Not modified.\n" +
                 "     */\n" +
                 "    public static void elementDiv( "+nameMatrix+" a , "+nameMatrix+" b) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" /= b."+w+";");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -722,7 +1254,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void elementDiv_three( int dimen ) {
+    private void elementDiv_three() {
         out.print("    /**\n" +
                 "     * <p>Performs the an element by element division operation:<br>\n" +
                 "     * <br>\n" +
@@ -733,12 +1265,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param c Where the results of the operation are stored. Modified.\n" +
                 "     */\n" +
                 "    public static void elementDiv( "+nameMatrix+" a , "+nameMatrix+" b , "+nameMatrix+" c ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("c."+w+" = a."+w+"/b."+w+";");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -747,7 +1279,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void scale_two( int dimen ) {
+    private void scale_two() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs an in-place element by element scalar multiplication.<br>\n" +
@@ -759,12 +1291,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param alpha the amount each element is multiplied by.\n" +
                 "     */\n" +
                 "    public static void scale( double alpha , "+nameMatrix+" a ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" *= alpha;");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -773,7 +1305,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void scale_three( int dimen ) {
+    private void scale_three() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs an element by element scalar multiplication.<br>\n" +
@@ -786,12 +1318,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b Where the scaled matrix is stored. Modified.\n" +
                 "     */\n" +
                 "    public static void scale( double alpha , "+nameMatrix+" a , "+nameMatrix+" b ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("b."+w+" = a."+w+"*alpha;");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -800,7 +1332,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void divide_two( int dimen ) {
+    private void divide_two() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs an in-place element by element scalar division.<br>\n" +
@@ -812,12 +1344,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param alpha the amount each element is divided by.\n" +
                 "     */\n" +
                 "    public static void divide( double alpha , "+nameMatrix+" a ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" /= alpha;");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -825,7 +1357,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         }
         out.print("    }\n\n");    }
 
-    private void divide_three( int dimen ) {
+    private void divide_three() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Performs an element by element scalar division.<br>\n" +
@@ -838,12 +1370,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param b Where the results are stored. Modified.\n" +
                 "     */\n" +
                 "    public static void divide( double alpha , "+nameMatrix+" a , "+nameMatrix+" b ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("b."+w+" = a."+w+"/alpha;");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -852,7 +1384,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void changeSign( int dimen ) {
+    private void changeSign() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Changes the sign of every element in the matrix.<br>\n" +
@@ -864,12 +1396,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     */\n" +
                 "    public static void changeSign( "+nameMatrix+" a )\n" +
                 "    {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" = -a."+w+";");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -878,7 +1410,7 @@ public class GenerateFixedOps extends CodeGeneratorBase {
         out.print("    }\n\n");
     }
 
-    private void fill( int dimen ) {
+    private void fill() {
         out.print("    /**\n" +
                 "     * <p>\n" +
                 "     * Sets every element in the matrix to the specified value.<br>\n" +
@@ -890,12 +1422,12 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 "     * @param v The value each element will have.\n" +
                 "     */\n" +
                 "    public static void fill( "+nameMatrix+" a , double v  ) {\n");
-        for( int y = 1; y <= dimen; y++ ) {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("        ");
-            for( int x = 1; x <= dimen; x++ ) {
-                String w = "a"+y+""+x;
+            for( int x = 1; x <= numCols; x++ ) {
+                String w = "a"+n(y,x);
                 out.print("a."+w+" = v;");
-                if( x < dimen )
+                if( x < numCols )
                     out.print(" ");
                 else
                     out.println();
@@ -904,6 +1436,36 @@ public class GenerateFixedOps extends CodeGeneratorBase {
                 out.print("    }\n\n");
     }
 
+    /**
+     * Variable names are the row followed by the column.  Once an index can have two digits the name would be
+     * ambiguous, e.g. a111, so an underscore is placed between them.
+     */
+    public static String separator( int numRows , int numCols ) {
+        return numRows < 10 && numCols < 10 ? "" : "_";
+    }
+
+    /**
+     * Name of the element at the specified row and column, e.g. "23" for row 2 and column 3
+     */
+    private String n( int row , int col ) {
+        return row+separator+col;
+    }
+
+    /**
+     * Name of the element at the specified row and column in a matrix of the specified shape
+     */
+    private static String e( int numRows , int numCols , int row , int col ) {
+        return row+separator(numRows,numCols)+col;
+    }
+
+    public static String matrixName( int numRows , int numCols ) {
+        return "FixedMatrix"+numRows+"x"+numCols+"_64F";
+    }
+
+    public static String vectorName( int length ) {
+        return "FixedMatrix"+length+"_64F";
+    }
+
     public static void main( String args[] ) throws FileNotFoundException {
         GenerateFixedOps app = new GenerateFixedOps();
 
@@ -19,6 +19,7 @@
 package org.ejml.data;
 
 import org.ejml.CodeGeneratorBase;
+import org.ejml.alg.fixed.GenerateFixedOps;
 
 import java.io.FileNotFoundException;
 
@@ -31,7 +32,7 @@ public class GenerateFixedMatrixN extends CodeGeneratorBase{
 
     @Override
     public void generate() throws FileNotFoundException {
-        for( int dimension = 2; dimension <= 6; dimension++ ){
+        for( int dimension = 2; dimension <= GenerateFixedOps.maxDimension; dimension++ ){
             print(dimension);
         }
     }
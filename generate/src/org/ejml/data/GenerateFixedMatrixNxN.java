@@ -19,6 +19,7 @@
 package org.ejml.data;
 
 import org.ejml.CodeGeneratorBase;
+import org.ejml.alg.fixed.GenerateFixedOps;
 
 import java.io.FileNotFoundException;
 
@@ -29,39 +30,52 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
 
     String classPreamble = "FixedMatrix";
 
+    int numRows,numCols;
+    String separator;
+
     @Override
     public void generate() throws FileNotFoundException {
-        for( int dimension = 2; dimension <= 6; dimension++ ){
-            print(dimension);
+        for( int dimension = 2; dimension <= GenerateFixedOps.maxDimension; dimension++ ){
+            print(dimension,dimension);
+        }
+        for( int[] shape : GenerateFixedOps.rectangular ) {
+            print(shape[0],shape[1]);
         }
     }
 
-    public void print( int dimen ) throws FileNotFoundException {
-        String className = classPreamble +dimen+"x"+dimen+"_64F";
+    public void print( int numRows , int numCols ) throws FileNotFoundException {
+        this.numRows = numRows;
+        this.numCols = numCols;
+        separator = GenerateFixedOps.separator(numRows,numCols);
+
+        String className = classPreamble +numRows+"x"+numCols+"_64F";
 
         setOutputFile(className);
 
         out.println("import org.ejml.ops.MatrixIO;\n\n"+
                 "/**\n" +
-                " * Fixed sized "+dimen+" by "+className+" matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the\n" +
+                " * Fixed sized "+numRows+" by "+numCols+" matrix.  The matrix is stored as class variables for very fast read/write.  a"+n('X','Y')+" is the\n" +
                 " * value of row = X and column = Y.\n" +
                 " *\n" +
                 " * @author Peter Abeles\n" +
                 " */\n" +
                 "public class "+className+" implements FixedMatrix64F {\n");
-        printClassParam(dimen);
+        printClassParam();
                 out.print("\n" +
                 "    public "+className+"() {\n" +
                 "    }\n" +
-                "\n" +
-                "    public "+className);
-        printFunctionParam(dimen);
-        out.print("    {\n");
-        printSetFromParam(dimen, "");
-        out.print("    }\n" +
-                "\n" +
-                "    public " + className + "( " + className + " o ) {\n");
-        printSetFromParam(dimen, "o.");
+                "\n");
+        // A method can have at most 255 parameter slots and a double takes up two of them
+        if( 2*numRows*numCols < 255 ) {
+            out.print("    public "+className);
+            printFunctionParam();
+            out.print("    {\n");
+            printSetFromParam("");
+            out.print("    }\n" +
+                    "\n");
+        }
+        out.print("    public " + className + "( " + className + " o ) {\n");
+        printSetFromParam("o.");
         out.print("    }\n" +
                 "\n" +
                 "    @Override\n" +
@@ -71,7 +85,7 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
                 "\n" +
                 "    @Override\n" +
                 "    public double unsafe_get(int row, int col) {\n");
-        setGetter(dimen);
+        setGetter();
         out.print("        throw new IllegalArgumentException(\"Row and/or column out of range. \"+row+\" \"+col);\n" +
                 "    }\n" +
                 "\n" +
@@ -82,23 +96,23 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
                 "\n" +
                 "    @Override\n" +
                 "    public void unsafe_set(int row, int col, double val) {\n");
-        setSetter(dimen);
+        setSetter();
         out.print("        throw new IllegalArgumentException(\"Row and/or column out of range. \"+row+\" \"+col);\n" +
                 "    }\n" +
                 "\n" +
                 "    @Override\n" +
                 "    public int getNumRows() {\n" +
-                "        return "+dimen+";\n" +
+                "        return "+numRows+";\n" +
                 "    }\n" +
                 "\n" +
                 "    @Override\n" +
                 "    public int getNumCols() {\n" +
-                "        return "+dimen+";\n" +
+                "        return "+numCols+";\n" +
                 "    }\n" +
                 "\n" +
                 "    @Override\n" +
                 "    public int getNumElements() {\n" +
-                "        return "+(dimen*dimen)+";\n" +
+                "        return "+(numRows*numCols)+";\n" +
                 "    }\n" +
                 "\n" +
                 "    @Override\n" +
@@ -113,12 +127,12 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
                 "}\n\n");
     }
 
-    private void printClassParam( int dimen ) {
-        for( int y = 1; y <= dimen; y++ ) {
+    private void printClassParam() {
+        for( int y = 1; y <= numRows; y++ ) {
             out.print("    public double ");
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("a"+y+""+x);
-                if( x != dimen )
+            for( int x = 1; x <= numCols; x++ ) {
+                out.print("a"+n(y,x));
+                if( x != numCols )
                     out.print(",");
                 else
                     out.println(";");
@@ -126,17 +140,17 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
         }
     }
 
-    private void printFunctionParam( int dimen ) {
-        for( int y = 1; y <= dimen; y++ ) {
+    private void printFunctionParam() {
+        for( int y = 1; y <= numRows; y++ ) {
             if( y == 1 )
                 out.print("( ");
             else
                 out.print("                              ");
-            for( int x = 1; x <= dimen; x++ ) {
-                out.print("double a"+y+""+x);
-                if( x != dimen )
+            for( int x = 1; x <= numCols; x++ ) {
+                out.print("double a"+n(y,x));
+                if( x != numCols )
                     out.print(",");
-                else if( y != dimen )
+                else if( y != numRows )
                     out.println(",");
                 else
                     out.println(")");
@@ -144,50 +158,54 @@ public class GenerateFixedMatrixNxN extends CodeGeneratorBase{
         }
     }
 
-    private void printSetFromParam(int dimen, String prefix) {
-        for( int y = 1; y <= dimen; y++ ) {
-            for( int x = 1; x <= dimen; x++ ) {
-                out.println("        this.a"+y+""+x+" = "+prefix+"a"+y+""+x+";");
+    private void printSetFromParam(String prefix) {
+        for( int y = 1; y <= numRows; y++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
+                out.println("        this.a"+n(y,x)+" = "+prefix+"a"+n(y,x)+";");
             }
         }
     }
 
-    private void setGetter(int dimen) {
-        for( int y = 1; y <= dimen; y++ ) {
+    private void setGetter() {
+        for( int y = 1; y <= numRows; y++ ) {
             if( y == 1 )
                 out.print("        if( row == 0 ) {\n");
             else
                 out.print("        } else if( row == "+(y-1)+" ) {\n");
-            for( int x = 1; x <= dimen; x++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( x == 1 )
                     out.print("            if( col == 0 ) {\n");
                 else
                     out.print("            } else if( col == "+(x-1)+" ) {\n");
-                out.print("                return a"+y+""+x+";\n");
+                out.print("                return a"+n(y,x)+";\n");
             }
             out.print("            }\n");
         }
         out.print("        }\n");
     }
 
-    private void setSetter(int dimen ) {
-        for( int y = 1; y <= dimen; y++ ) {
+    private void setSetter() {
+        for( int y = 1; y <= numRows; y++ ) {
             if( y == 1 )
                 out.print("        if( row == 0 ) {\n");
             else
                 out.print("        } else if( row == "+(y-1)+" ) {\n");
-            for( int x = 1; x <= dimen; x++ ) {
+            for( int x = 1; x <= numCols; x++ ) {
                 if( x == 1 )
                     out.print("            if( col == 0 ) {\n");
                 else
                     out.print("            } else if( col == "+(x-1)+" ) {\n");
-                out.print("                a"+y+""+x+" = val; return;\n");
+                out.print("                a"+n(y,x)+" = val; return;\n");
             }
             out.print("            }\n");
         }
         out.print("        }\n");
     }
 
+    private String n( Object row , Object col ) {
+        return row+separator+col;
+    }
+
     public static void main( String args[] ) throws FileNotFoundException {
         GenerateFixedMatrixNxN app = new GenerateFixedMatrixNxN();
 
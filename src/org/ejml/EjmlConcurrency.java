@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Manages the thread pool used by algorithms which can split their work across multiple threads.  Concurrent
+ * algorithms are only used when {@link EjmlParameters#CONCURRENT} is true and the problem is larger than the
+ * algorithm's switch size.
+ * </p>
+ *
+ * <p>
+ * The pool is shared across the library and is created the first time it is requested.  By default it will
+ * use one thread for each available processor.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class EjmlConcurrency {
+
+    private static ForkJoinPool pool;
+
+    /**
+     * Returns the thread pool used by concurrent algorithms.  If one has not yet been created then
+     * it is created.
+     *
+     * @return The shared thread pool.
+     */
+    public static synchronized ForkJoinPool getPool() {
+        if( pool == null )
+            pool = new ForkJoinPool();
+        return pool;
+    }
+
+    /**
+     * Changes the maximum number of threads used by concurrent algorithms.  The previous pool
+     * is shutdown after the tasks it is running finish.
+     *
+     * @param threads Number of threads.  Must be at least one.
+     */
+    public static synchronized void setMaxThreads( int threads ) {
+        if( threads < 1 )
+            throw new IllegalArgumentException("Number of threads must be at least one");
+        if( pool != null )
+            pool.shutdown();
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Returns the maximum number of threads which can be used by concurrent algorithms.
+     *
+     * @return Number of threads.
+     */
+    public static int getMaxThreads() {
+        return getPool().getParallelism();
+    }
+
+    /**
+     * Processes the range of integers [start,end) by splitting it into blocks and processing each block in the
+     * thread pool.  The block size is selected so that each thread gets several blocks, which helps balance the
+     * load.  Blocks are never smaller than minBlock.  The function returns after all the blocks have been processed.
+     *
+     * @param start First index in the range, inclusive.
+     * @param end Last index in the range, exclusive.
+     * @param minBlock The smallest block that the range will be split into.
+     * @param task Processes a single block.
+     */
+    public static void process( int start , int end , int minBlock , BlockTask task ) {
+        int length = end-start;
+        if( length <= 0 )
+            return;
+
+        int blockSize = Math.max(minBlock, length/(4*getMaxThreads()));
+        blockSize = Math.max(1,blockSize);
+
+        if( length <= blockSize ) {
+            task.process(start,end);
+        } else {
+            getPool().invoke(new SplitTask(task,start,end,blockSize));
+        }
+    }
+
+    /**
+     * Work which is performed on a block of indexes inside of a larger range.  Each block is processed
+     * independently and possibly in a different thread.
+     */
+    public static interface BlockTask {
+        /**
+         * Processes all the indexes from start to end-1.
+         *
+         * @param start First index in the block, inclusive.
+         * @param end Last index in the block, exclusive.
+         */
+        public void process( int start , int end );
+    }
+
+    /**
+     * Recursively splits the range in half until it is no larger than the block size.
+     */
+    private static class SplitTask extends RecursiveAction {
+        BlockTask task;
+        int start,end;
+        int blockSize;
+
+        private SplitTask(BlockTask task, int start, int end, int blockSize) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.blockSize = blockSize;
+        }
+
+        @Override
+        protected void compute() {
+            if( end-start <= blockSize ) {
+                task.process(start,end);
+            } else {
+                int middle = start + (end-start)/2;
+                invokeAll(new SplitTask(task,start,middle,blockSize),
+                        new SplitTask(task,middle,end,blockSize));
+            }
+        }
+    }
+}
@@ -59,7 +59,28 @@ public class EjmlParameters {
     public static int MULT_COLUMN_SWITCH = 15;
     public static int MULT_TRANAB_COLUMN_SWITCH = 40;
     public static int MULT_INNER_SWITCH = 100;
-    
+
+    /**
+     * When the number of rows, columns, and inner dimension are all at least this large, matrix multiplication
+     * will switch to the packed algorithm.  See {@link org.ejml.alg.dense.mult.MatrixMatrixMultPacked}.
+     */
+    public static int MULT_PACKED_SWITCH = 100;
+
+    /**
+     * <p>
+     * If true then algorithms which have a concurrent implementation will split the work across
+     * multiple threads once the problem is large enough.  Results are identical to the single threaded
+     * algorithms.  See {@link EjmlConcurrency} for how to specify the number of threads.
+     * </p>
+     */
+    public static boolean CONCURRENT = false;
+
+    /**
+     * When the number of multiply-add operations, i.e. rows(C)*cols(C)*inner-dimension, is at least this large,
+     * matrix multiplication will switch to the concurrent algorithm.  Only used when {@link #CONCURRENT} is true.
+     */
+    public static int MULT_CONCURRENT_SWITCH = 100*100*100;
+
     /**
      * <p>
      * At which point should it switch to the block cholesky algorithm.
@@ -74,6 +95,37 @@ public class EjmlParameters {
 
     public static int SWITCH_BLOCK64_QR = 1500;
 
+    /**
+     * At which point should it switch to the block LU algorithm.  In benchmarks the block version
+     * starts to outperform the row-column version at around 600.
+     */
+    public static int SWITCH_BLOCK64_LU = 600;
+
+    /**
+     * At which point should the SVD switch to the block bidiagonal decomposition.  In benchmarks the
+     * block version is about as fast as the row version at 1000 and faster for larger matrices.
+     */
+    public static int SWITCH_BLOCK64_BIDIAGONAL = 1000;
+
+    /**
+     * At which point should general eigen decompositions switch to the block Hessenberg decomposition.  In
+     * benchmarks the block version starts to outperform the row version at around 500.
+     */
+    public static int SWITCH_BLOCK64_HESSENBERG = 500;
+
+    /**
+     * At which point should symmetric eigen decompositions which compute eigenvectors switch from the QR
+     * algorithm to divide and conquer.  In benchmarks they are about the same speed at 1500.
+     */
+    public static int SWITCH_EIG_DIVIDE_CONQUER = 1500;
+
+    /**
+     * At which point should singular value decompositions which compute U or V switch from the QR
+     * algorithm to divide and conquer.  In single threaded benchmarks of square matrices they are about the same
+     * speed at 800, divide and conquer is 1.15 to 1.25 times faster at 1200, and about 1.3 times faster at 2000.
+     */
+    public static int SWITCH_SVD_DIVIDE_CONQUER = 1200;
+
     public static enum MemoryUsage
     {
         /**
@@ -43,6 +43,11 @@ public class UtilEjml {
 
     public static double EPS = Math.pow(2,-52);
 
+    /**
+     * Machine precision for 32-bit floats.
+     */
+    public static float F_EPS = (float)Math.pow(2,-23);
+
     public static boolean isUncountable( double val ) {
         return Double.isNaN(val) || Double.isInfinite(val);
     }
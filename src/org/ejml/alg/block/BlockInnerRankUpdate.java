@@ -102,8 +102,23 @@ public class BlockInnerRankUpdate {
         if( A.row1-A.row0 != N )
             throw new IllegalArgumentException("A does not have the expected number of rows based on B's width");
 
+        symmRankNMinus_U(blockLength,A,B,B.col0,B.col1);
+    }
 
-        for( int i = B.col0; i < B.col1; i += blockLength ) {
+    /**
+     * Same as {@link #symmRankNMinus_U(int, D1Submatrix64F, D1Submatrix64F)} but only the block rows
+     * in A that correspond to columns col0 to col1-1 in B are updated.  No sanity checks are done.
+     *
+     * @param col0 First column in B.  Must be aligned to a block.
+     * @param col1 Last column in B, exclusive.
+     */
+    protected static void symmRankNMinus_U( int blockLength ,
+                                            D1Submatrix64F A , D1Submatrix64F B ,
+                                            int col0 , int col1 )
+    {
+        int heightB = B.row1-B.row0;
+
+        for( int i = col0; i < col1; i += blockLength ) {
 
             int indexB_i = B.row0*B.original.numCols + i*heightB;
             int widthB_i = Math.min(blockLength,B.col1-i);
@@ -152,8 +167,23 @@ public class BlockInnerRankUpdate {
         if( A.row1-A.row0 != N )
             throw new IllegalArgumentException("A does not have the expected number of rows based on B's height");
 
-        for( int i = B.row0; i < B.row1; i += blockLength ) {
+        symmRankNMinus_L(blockLength,A,B,B.row0,B.row1);
+    }
+
+    /**
+     * Same as {@link #symmRankNMinus_L(int, D1Submatrix64F, D1Submatrix64F)} but only the block rows
+     * in A that correspond to rows row0 to row1-1 in B are updated.  No sanity checks are done.
+     *
+     * @param row0 First row in B.  Must be aligned to a block.
+     * @param row1 Last row in B, exclusive.
+     */
+    protected static void symmRankNMinus_L( int blockLength ,
+                                            D1Submatrix64F A , D1Submatrix64F B ,
+                                            int row0 , int row1 )
+    {
+        int widthB = B.col1-B.col0;
 
+        for( int i = row0; i < row1; i += blockLength ) {
 
             int heightB_i = Math.min(blockLength,B.row1-i);
             int indexB_i = i*B.original.numCols + heightB_i*B.col0;
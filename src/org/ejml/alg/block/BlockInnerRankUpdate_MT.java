@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.data.D1Submatrix64F;
+
+
+/**
+ * <p>
+ * Concurrent implementations of the symmetric rank-n updates in {@link BlockInnerRankUpdate}.  Each row of
+ * blocks in A is independent of the others so they are split across the threads in
+ * {@link EjmlConcurrency}.  The results are identical to the single threaded functions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BlockInnerRankUpdate_MT {
+
+    /**
+     * Concurrent version of {@link BlockInnerRankUpdate#symmRankNMinus_U(int, D1Submatrix64F, D1Submatrix64F)}.
+     * <br>
+     * A = A - B <sup>T</sup>B
+     */
+    public static void symmRankNMinus_U( final int blockLength ,
+                                         final D1Submatrix64F A , final D1Submatrix64F B )
+    {
+        int heightB = B.row1-B.row0;
+        if( heightB > blockLength )
+            throw new IllegalArgumentException("Height of B cannot be greater than the block length");
+
+        int N = B.col1-B.col0;
+
+        if( A.col1-A.col0 != N )
+            throw new IllegalArgumentException("A does not have the expected number of columns based on B's width");
+        if( A.row1-A.row0 != N )
+            throw new IllegalArgumentException("A does not have the expected number of rows based on B's width");
+
+        int numBlocks = (N + blockLength - 1)/blockLength;
+
+        EjmlConcurrency.process(0,numBlocks,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                int col0 = B.col0 + start*blockLength;
+                int col1 = Math.min(B.col1,B.col0 + end*blockLength);
+                BlockInnerRankUpdate.symmRankNMinus_U(blockLength,A,B,col0,col1);
+            }
+        });
+    }
+
+    /**
+     * Concurrent version of {@link BlockInnerRankUpdate#symmRankNMinus_L(int, D1Submatrix64F, D1Submatrix64F)}.
+     * <br>
+     * A = A - B*B<sup>T</sup>
+     */
+    public static void symmRankNMinus_L( final int blockLength ,
+                                         final D1Submatrix64F A , final D1Submatrix64F B )
+    {
+        int widthB = B.col1-B.col0;
+        if( widthB > blockLength )
+            throw new IllegalArgumentException("Width of B cannot be greater than the block length");
+
+        int N = B.row1-B.row0;
+
+        if( A.col1-A.col0 != N )
+            throw new IllegalArgumentException("A does not have the expected number of columns based on B's height");
+        if( A.row1-A.row0 != N )
+            throw new IllegalArgumentException("A does not have the expected number of rows based on B's height");
+
+        int numBlocks = (N + blockLength - 1)/blockLength;
+
+        EjmlConcurrency.process(0,numBlocks,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                int row0 = B.row0 + start*blockLength;
+                int row1 = Math.min(B.row1,B.row0 + end*blockLength);
+                BlockInnerRankUpdate.symmRankNMinus_L(blockLength,A,B,row0,row1);
+            }
+        });
+    }
+}
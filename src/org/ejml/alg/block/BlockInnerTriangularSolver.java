@@ -134,6 +134,42 @@ public class BlockInnerTriangularSolver {
         }
     }
 
+    /**
+     * <p>
+     * Solves for unit lower triangular matrices using forward substitution.  The diagonal elements
+     * are assumed to be one and are not read.
+     * <br>
+     * B = L<sup>-1</sup>B<br>
+     * <br>
+     * where B is a (m by n) matrix, L is a unit lower triangular (m by m) matrix.
+     * </p>
+     *
+     * @param L An m by m unit lower triangular matrix. Not modified.
+     * @param b An m by n matrix. Modified.
+     * @param m size of the L matrix
+     * @param n number of columns in the B matrix.
+     * @param strideL number of elements that need to be added to go to the next row in L
+     * @param offsetL initial index in L where the matrix starts
+     * @param offsetB initial index in B where the matrix starts
+     */
+    public static void solveUnitL( double L[] , double []b ,
+                                   int m , int n ,
+                                   int strideL , int offsetL , int offsetB )
+    {
+        for( int i = 1; i < m; i++ ) {
+            int indexB = offsetB + i*n;
+            for( int k = 0; k < i; k++ ) {
+                double valL = L[offsetL + i*strideL + k];
+                if( valL == 0 )
+                    continue;
+                int indexK = offsetB + k*n;
+                for( int j = 0; j < n; j++ ) {
+                    b[indexB + j] -= valL*b[indexK + j];
+                }
+            }
+        }
+    }
+
     /**
      * <p>
      * Solves for non-singular transposed lower triangular matrices using backwards substitution:
@@ -548,6 +548,43 @@ public class BlockMatrixOps {
         }
     }
 
+    /**
+     * <p>
+     * Swaps two rows in a block matrix, but only the elements in columns col0 to col1-1.
+     * </p>
+     *
+     * @param A Block matrix. Modified.
+     * @param rowA Index of the first row.
+     * @param rowB Index of the second row.
+     * @param col0 First column which is swapped.  Must be aligned to a block.
+     * @param col1 Last column which is swapped, exclusive.
+     */
+    public static void swapRows( BlockMatrix64F A , int rowA , int rowB , int col0 , int col1 ) {
+        if( rowA == rowB )
+            return;
+
+        int blockLength = A.blockLength;
+
+        int blockRowA = rowA - rowA % blockLength;
+        int blockRowB = rowB - rowB % blockLength;
+        int heightA = Math.min(blockLength,A.numRows-blockRowA);
+        int heightB = Math.min(blockLength,A.numRows-blockRowB);
+
+        for( int j = col0; j < col1; j += blockLength ) {
+            int width = Math.min(blockLength,A.numCols-j);
+            int length = Math.min(width,col1-j);
+
+            int indexA = blockRowA*A.numCols + heightA*j + (rowA-blockRowA)*width;
+            int indexB = blockRowB*A.numCols + heightB*j + (rowB-blockRowB)*width;
+
+            for( int k = 0; k < length; k++ ) {
+                double tmp = A.data[indexA+k];
+                A.data[indexA+k] = A.data[indexB+k];
+                A.data[indexB+k] = tmp;
+            }
+        }
+    }
+
     /**
      * <p>Converts the block matrix into a SimpleMatrix.</p>
      *
@@ -0,0 +1,536 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block;
+
+import org.ejml.data.BlockMatrix32F;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.ops.CommonOps32;
+
+
+
+/**
+ * Various operations on {@link BlockMatrix32F}.
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from BlockMatrixOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BlockMatrixOps32 {
+
+    /**
+     * Converts a row major matrix into a row major block matrix.
+     *
+     * @param src Original DenseMatrix32F.  Not modified.
+     * @param dst Equivalent BlockMatrix32F. Modified.
+     */
+    public static void convert( DenseMatrix32F src , BlockMatrix32F dst )
+    {
+        if( src.numRows != dst.numRows || src.numCols != dst.numCols )
+            throw new IllegalArgumentException("Must be the same size.");
+
+        for( int i = 0; i < dst.numRows; i += dst.blockLength ) {
+            int blockHeight = Math.min( dst.blockLength , dst.numRows - i);
+
+            for( int j = 0; j < dst.numCols; j += dst.blockLength ) {
+                int blockWidth = Math.min( dst.blockLength , dst.numCols - j);
+
+                int indexDst = i*dst.numCols + blockHeight*j;
+                int indexSrcRow = i*dst.numCols + j;
+
+                for( int k = 0; k < blockHeight; k++ ) {
+                    System.arraycopy(src.data,indexSrcRow,dst.data,indexDst,blockWidth);
+                    indexDst += blockWidth;
+                    indexSrcRow += dst.numCols;
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Converts matrix data stored is a row major format into a block row major format in place.
+     * </p>
+     * 
+     * @param numRows number of rows in the matrix.
+     * @param numCols number of columns in the matrix.
+     * @param blockLength Block size in the converted matrix.
+     * @param data Matrix data in a row-major format. Modified.
+     * @param tmp Temporary data structure that is to be the size of a block row.
+     */
+    public static void convertRowToBlock( int numRows , int numCols , int blockLength ,
+                                          float[] data, float[] tmp )
+    {
+        int minLength = Math.min( blockLength , numRows ) * numCols;
+        if( tmp.length < minLength ) {
+            throw new IllegalArgumentException("tmp must be at least "+minLength+" long ");
+        }
+
+        for( int i = 0; i < numRows; i += blockLength ) {
+            int blockHeight = Math.min( blockLength , numRows - i);
+
+            System.arraycopy(data,i*numCols,tmp,0,blockHeight*numCols);
+
+
+            for( int j = 0; j < numCols; j += blockLength ) {
+                int blockWidth = Math.min( blockLength , numCols - j);
+
+                int indexDst = i*numCols + blockHeight*j;
+                int indexSrcRow = j;
+
+                for( int k = 0; k < blockHeight; k++ ) {
+                    System.arraycopy(tmp,indexSrcRow,data,indexDst,blockWidth);
+                    indexDst += blockWidth;
+                    indexSrcRow += numCols;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a row major block matrix into a row major matrix.
+     *
+     * @param src Original BlockMatrix32F..  Not modified.
+     * @param dst Equivalent DenseMatrix32F.  Modified.
+     */
+    public static DenseMatrix32F convert( BlockMatrix32F src , DenseMatrix32F dst )
+    {
+        if( dst != null ) {
+            if( dst.numRows != src.numRows || dst.numCols != src.numCols )
+                throw new IllegalArgumentException("Must be the same size.");
+        } else {
+            dst = new DenseMatrix32F(src.numRows,src.numCols);        
+        }
+
+        for( int i = 0; i < src.numRows; i += src.blockLength ) {
+            int blockHeight = Math.min( src.blockLength , src.numRows - i);
+
+            for( int j = 0; j < src.numCols; j += src.blockLength ) {
+                int blockWidth = Math.min( src.blockLength , src.numCols - j);
+
+                int indexSrc = i*src.numCols + blockHeight*j;
+                int indexDstRow = i*dst.numCols + j;
+
+                for( int k = 0; k < blockHeight; k++ ) {
+                    System.arraycopy(src.data,indexSrc,dst.data,indexDstRow,blockWidth);
+                    indexSrc += blockWidth;
+                    indexDstRow += dst.numCols;
+                }
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * <p>
+     * Converts matrix data stored is a block row major format into a row major format in place.
+     * </p>
+     *
+     * @param numRows number of rows in the matrix.
+     * @param numCols number of columns in the matrix.
+     * @param blockLength Block size in the converted matrix.
+     * @param data Matrix data in a block row-major format. Modified.
+     * @param tmp Temporary data structure that is to be the size of a block row.
+     */
+    public static void convertBlockToRow( int numRows , int numCols , int blockLength ,
+                                          float[] data, float[] tmp )
+    {
+        int minLength = Math.min( blockLength , numRows ) * numCols;
+        if( tmp.length < minLength ) {
+            throw new IllegalArgumentException("tmp must be at least "+minLength+" long and not "+tmp.length);
+        }
+
+        for( int i = 0; i < numRows; i += blockLength ) {
+            int blockHeight = Math.min( blockLength , numRows - i);
+
+            System.arraycopy(data,i*numCols,tmp,0,blockHeight*numCols);
+
+            for( int j = 0; j < numCols; j += blockLength ) {
+                int blockWidth = Math.min( blockLength , numCols - j);
+
+                int indexSrc = blockHeight*j;
+                int indexDstRow = i*numCols + j;
+
+                for( int k = 0; k < blockHeight; k++ ) {
+                    System.arraycopy(tmp,indexSrc,data,indexDstRow,blockWidth);
+                    indexSrc += blockWidth;
+                    indexDstRow += numCols;
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts the transpose of a row major matrix into a row major block matrix.
+     *
+     * @param src Original DenseMatrix32F.  Not modified.
+     * @param dst Equivalent BlockMatrix32F. Modified.
+     */
+    public static void convertTranSrc( DenseMatrix32F src , BlockMatrix32F dst )
+    {
+        if( src.numRows != dst.numCols || src.numCols != dst.numRows )
+            throw new IllegalArgumentException("Incompatible matrix shapes.");
+
+        for( int i = 0; i < dst.numRows; i += dst.blockLength ) {
+            int blockHeight = Math.min( dst.blockLength , dst.numRows - i);
+
+            for( int j = 0; j < dst.numCols; j += dst.blockLength ) {
+                int blockWidth = Math.min( dst.blockLength , dst.numCols - j);
+
+                int indexDst = i*dst.numCols + blockHeight*j;
+                int indexSrc = j*src.numCols + i;
+
+                for( int l = 0; l < blockWidth; l++ ) {
+                    int rowSrc = indexSrc + l*src.numCols;
+                    int rowDst = indexDst + l;
+                    for( int k = 0; k < blockHeight; k++ , rowDst += blockWidth ) {
+                        dst.data[ rowDst ] = src.data[rowSrc++];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Transposes a block matrix.
+     *
+     * @param A Original matrix.  Not modified.
+     * @param A_tran Transposed matrix.  Modified.
+     */
+    public static BlockMatrix32F transpose( BlockMatrix32F A , BlockMatrix32F A_tran )
+    {
+        if( A_tran != null ) {
+            if( A.numRows != A_tran.numCols || A.numCols != A_tran.numRows )
+                throw new IllegalArgumentException("Incompatible dimensions.");
+            if( A.blockLength != A_tran.blockLength )
+                throw new IllegalArgumentException("Incompatible block size.");
+        } else {
+            A_tran = new BlockMatrix32F(A.numCols,A.numRows,A.blockLength);
+
+        }
+
+        for( int i = 0; i < A.numRows; i += A.blockLength ) {
+            int blockHeight = Math.min( A.blockLength , A.numRows - i);
+
+            for( int j = 0; j < A.numCols; j += A.blockLength ) {
+                int blockWidth = Math.min( A.blockLength , A.numCols - j);
+
+                int indexA = i*A.numCols + blockHeight*j;
+                int indexC = j*A_tran.numCols + blockWidth*i;
+
+                transposeBlock( A , A_tran , indexA , indexC , blockWidth , blockHeight );
+            }
+        }
+
+        return A_tran;
+    }
+
+    /**
+     * Transposes an individual block inside a block matrix.
+     */
+    private static void transposeBlock( BlockMatrix32F A , BlockMatrix32F A_tran,
+                                        int indexA , int indexC ,
+                                        int width , int height )
+    {
+        for( int i = 0; i < height; i++ ) {
+            int rowIndexC = indexC + i;
+            int rowIndexA = indexA + width*i;
+            int end = rowIndexA + width;
+            for( ; rowIndexA < end; rowIndexC += height, rowIndexA++ ) {
+                A_tran.data[ rowIndexC ] = A.data[ rowIndexA ];
+            }
+        }
+    }
+
+
+    public static BlockMatrix32F convert(DenseMatrix32F A , int blockLength ) {
+        BlockMatrix32F ret = new BlockMatrix32F(A.numRows,A.numCols,blockLength);
+        convert(A,ret);
+        return ret;
+    }
+
+    public static BlockMatrix32F convert(DenseMatrix32F A ) {
+        BlockMatrix32F ret = new BlockMatrix32F(A.numRows,A.numCols);
+        convert(A,ret);
+        return ret;
+    }
+
+    /**
+     * Sets either the upper or low triangle of a matrix to zero
+     */
+    public static void zeroTriangle( boolean upper , BlockMatrix32F A )
+    {
+        int blockLength = A.blockLength;
+
+        if( upper ) {
+            for( int i = 0; i < A.numRows; i += blockLength ) {
+                int h = Math.min(blockLength,A.numRows-i);
+
+                for( int j = i; j < A.numCols; j += blockLength ) {
+                    int w = Math.min(blockLength,A.numCols-j);
+
+                    int index = i*A.numCols + h*j;
+
+                    if( j == i ) {
+                        for( int k = 0; k < h; k++ ) {
+                            for( int l = k+1; l < w; l++ ) {
+                                A.data[index + w*k+l ] = 0;
+                            }
+                        }
+                    } else {
+                        for( int k = 0; k < h; k++ ) {
+                            for( int l = 0; l < w; l++ ) {
+                                A.data[index + w*k+l ] = 0;
+                            }
+                        }
+                    }
+                }
+            }
+        } else {
+            for( int i = 0; i < A.numRows; i += blockLength ) {
+                int h = Math.min(blockLength,A.numRows-i);
+
+                for( int j = 0; j <= i; j += blockLength ) {
+                    int w = Math.min(blockLength,A.numCols-j);
+
+                    int index = i*A.numCols + h*j;
+
+                    if( j == i ) {
+                        for( int k = 0; k < h; k++ ) {
+                            int z = Math.min(k,w);
+                            for( int l = 0; l < z; l++ ) {
+                                A.data[index + w*k+l ] = 0;
+                            }
+                        }
+                    } else {
+                        for( int k = 0; k < h; k++ ) {
+                            for( int l = 0; l < w; l++ ) {
+                                A.data[index + w*k+l ] = 0;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies either the upper or lower triangular portion of src into dst.  Dst can be smaller
+     * than src.
+     *
+     * @param upper If the upper or lower triangle is copied.
+     * @param src The source matrix. Not modified.
+     * @param dst The destination matrix. Modified.
+     */
+    public static void copyTriangle( boolean upper , BlockMatrix32F src , BlockMatrix32F dst )
+    {
+        if( src.blockLength != dst.blockLength )
+            throw new IllegalArgumentException("Block size is different");
+        if( src.numRows < dst.numRows )
+            throw new IllegalArgumentException("The src has fewer rows than dst");
+        if( src.numCols < dst.numCols )
+            throw new IllegalArgumentException("The src has fewer columns than dst");
+
+        int blockLength = src.blockLength;
+
+        int numRows = Math.min(src.numRows,dst.numRows);
+        int numCols = Math.min(src.numCols,dst.numCols);
+
+        if( upper ) {
+            for( int i = 0; i < numRows; i += blockLength ) {
+                int heightSrc = Math.min(blockLength,src.numRows-i);
+                int heightDst = Math.min(blockLength,dst.numRows-i);
+
+                for( int j = i; j < numCols; j += blockLength ) {
+                    int widthSrc = Math.min(blockLength,src.numCols-j);
+                    int widthDst = Math.min(blockLength,dst.numCols-j);
+
+                    int indexSrc = i*src.numCols + heightSrc*j;
+                    int indexDst = i*dst.numCols + heightDst*j;
+
+                    if( j == i ) {
+                        for( int k = 0; k < heightDst; k++ ) {
+                            for( int l = k; l < widthDst; l++ ) {
+                                dst.data[indexDst + widthDst*k+l ] = src.data[indexSrc + widthSrc*k+l ];
+                            }
+                        }
+                    } else {
+                        for( int k = 0; k < heightDst; k++ ) {
+                            System.arraycopy(src.data, indexSrc + widthSrc * k, dst.data, indexDst + widthDst * k, widthDst);
+                        }
+                    }
+                }
+            }
+        } else {
+            for( int i = 0; i < numRows; i += blockLength ) {
+                int heightSrc = Math.min(blockLength,src.numRows-i);
+                int heightDst = Math.min(blockLength,dst.numRows-i);
+
+                for( int j = 0; j <= i; j += blockLength ) {
+                    int widthSrc = Math.min(blockLength,src.numCols-j);
+                    int widthDst = Math.min(blockLength,dst.numCols-j);
+
+                    int indexSrc = i*src.numCols + heightSrc*j;
+                    int indexDst = i*dst.numCols + heightDst*j;
+
+                    if( j == i ) {
+                        for( int k = 0; k < heightDst; k++ ) {
+                            int z = Math.min(k+1,widthDst);
+                            for( int l = 0; l < z; l++ ) {
+                                dst.data[indexDst + widthDst*k+l ] = src.data[indexSrc + widthSrc*k+l ];
+                            }
+                        }
+                    } else {
+                        for( int k = 0; k < heightDst; k++ ) {
+                            System.arraycopy(src.data, indexSrc + widthSrc * k, dst.data, indexDst + widthDst * k, widthDst);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param A A matrix whose elements are about to be set. Modified.
+     * @param value The value each element will have.
+     */
+    public static void set( BlockMatrix32F A , float value ) {
+        CommonOps32.fill(A, value);
+    }
+
+    /**
+     * <p>Sets the value of A to all zeros except along the diagonal.</p>
+     *
+     * @param A Block matrix.
+     */
+    public static void setIdentity( BlockMatrix32F A )
+    {
+        int minLength = Math.min(A.numRows,A.numCols);
+
+        CommonOps32.fill(A, 0);
+
+        int blockLength = A.blockLength;
+
+        for( int i = 0; i < minLength; i += blockLength ) {
+            int h = Math.min(blockLength,A.numRows-i);
+            int w = Math.min(blockLength,A.numCols-i);
+
+            int index = i*A.numCols + h*i;
+
+            int m = Math.min(h,w);
+            for( int k = 0; k < m; k++ ) {
+                A.data[index + k*w + k ] = 1;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns a new matrix with ones along the diagonal and zeros everywhere else.
+     * </p>
+     *
+     * @param numRows Number of rows.
+     * @param numCols NUmber of columns.
+     * @param blockLength Block length.
+     * @return An identify matrix.
+     */
+    public static BlockMatrix32F identity(int numRows, int numCols, int blockLength ) {
+        BlockMatrix32F A = new BlockMatrix32F(numRows,numCols,blockLength);
+
+        int minLength = Math.min(numRows,numCols);
+
+        for( int i = 0; i < minLength; i += blockLength ) {
+            int h = Math.min(blockLength,A.numRows-i);
+            int w = Math.min(blockLength,A.numCols-i);
+
+            int index = i*A.numCols + h*i;
+
+            int m = Math.min(h,w);
+            for( int k = 0; k < m; k++ ) {
+                A.data[index + k*w + k ] = 1;
+            }
+        }
+
+        return A;
+    }
+
+    /**
+     * <p>
+     * Checks to see if the two matrices have an identical shape an block size.
+     * </p>
+     *
+     * @param A Matrix.
+     * @param B Matrix.
+     */
+    public static void checkIdenticalShape( BlockMatrix32F A , BlockMatrix32F B ) {
+        if( A.blockLength != B.blockLength )
+            throw new IllegalArgumentException("Block size is different");
+        if( A.numRows != B.numRows )
+            throw new IllegalArgumentException("Number of rows is different");
+        if( A.numCols != B.numCols )
+            throw new IllegalArgumentException("NUmber of columns is different");
+    }
+
+    /**
+     * <p>
+     * Extracts a matrix from src into dst.  The submatrix which is copied has its initial coordinate
+     * at (0,0) and ends at (dst.numRows,dst.numCols). The end rows/columns must be aligned along blocks
+     * or else it will silently screw things up.
+     * </p>
+     *
+     * @param src Matrix which a submatrix is being extracted from. Not modified.
+     * @param dst Where the submatrix is written to.  Its rows and columns be less than or equal to 'src'.  Modified.
+     */
+    public static void extractAligned(BlockMatrix32F src, BlockMatrix32F dst) {
+        if( src.blockLength != dst.blockLength )
+            throw new IllegalArgumentException("Block size is different");
+        if( src.numRows < dst.numRows )
+            throw new IllegalArgumentException("The src has fewer rows than dst");
+        if( src.numCols < dst.numCols )
+            throw new IllegalArgumentException("The src has fewer columns than dst");
+
+        int blockLength = src.blockLength;
+
+        int numRows = Math.min(src.numRows,dst.numRows);
+        int numCols = Math.min(src.numCols,dst.numCols);
+
+        for( int i = 0; i < numRows; i += blockLength ) {
+            int heightSrc = Math.min(blockLength,src.numRows-i);
+            int heightDst = Math.min(blockLength,dst.numRows-i);
+
+            for( int j = 0; j < numCols; j += blockLength ) {
+                int widthSrc = Math.min(blockLength,src.numCols-j);
+                int widthDst = Math.min(blockLength,dst.numCols-j);
+
+                int indexSrc = i*src.numCols + heightSrc*j;
+                int indexDst = i*dst.numCols + heightDst*j;
+
+                for( int k = 0; k < heightDst; k++ ) {
+                    System.arraycopy(src.data, indexSrc + widthSrc * k, dst.data, indexDst + widthDst * k, widthDst);
+                }
+            }
+        }
+    }
+}
@@ -393,6 +393,71 @@ public class BlockTriangularSolver {
         }
     }
 
+    /**
+     * <p>
+     * Solves unit lower triangular systems using forward substitution:<br>
+     * <br>
+     * B = L<sup>-1</sup> B<br>
+     * <br>
+     * The diagonal elements of L are assumed to be one and are not read.  Only the lower triangular
+     * portion of L is read, which allows L and U from an LU decomposition to be stored in the same matrix.
+     * </p>
+     *
+     * @param blockLength Size of the inner blocks.
+     * @param L Unit lower triangular with dimensions m by m.  Not modified.
+     * @param B A matrix with dimensions m by n.  Solution is written into here. Modified.
+     */
+    public static void solveUnitL( final int blockLength ,
+                                   final D1Submatrix64F L,
+                                   final D1Submatrix64F B )
+    {
+        int lengthL = B.row1 - B.row0;
+        if( L.getCols() != lengthL || L.getRows() != lengthL )
+            throw new IllegalArgumentException("L must be square and have the same number of rows as B");
+
+        final double dataL[] = L.original.data;
+        final double dataB[] = B.original.data;
+
+        D1Submatrix64F Linner = new D1Submatrix64F(L.original);
+        D1Submatrix64F Binner = new D1Submatrix64F(B.original);
+        D1Submatrix64F Y = new D1Submatrix64F(B.original);
+
+        for( int i = 0; i < lengthL; i += blockLength ) {
+            int rowL = L.row0 + i;
+            int rowB = B.row0 + i;
+
+            // number of rows and columns in the inner blocks
+            int heightL = Math.min(blockLength,L.original.numRows-rowL);
+            int widthL = Math.min(blockLength,L.original.numCols-(L.col0+i));
+            int heightB = Math.min(blockLength,B.original.numRows-rowB);
+            int m = Math.min(blockLength,lengthL-i);
+
+            int offsetL = rowL*L.original.numCols + heightL*(L.col0+i);
+
+            // B(i,:) = L(i,i)^-1 B(i,:)
+            for( int k = B.col0; k < B.col1; k += blockLength ) {
+                int n = Math.min(blockLength,B.col1-k);
+                int offsetB = rowB*B.original.numCols + heightB*k;
+
+                BlockInnerTriangularSolver.solveUnitL(dataL,dataB,m,n,widthL,offsetL,offsetB);
+            }
+
+            // B(i+1:,:) = B(i+1:,:) - L(i+1:,i)*B(i,:)
+            if( i + m < lengthL ) {
+                Linner.row0 = rowL + m;  Linner.row1 = L.row1;
+                Linner.col0 = L.col0 + i;Linner.col1 = Linner.col0 + m;
+
+                Binner.row0 = rowB;      Binner.row1 = rowB + m;
+                Binner.col0 = B.col0;    Binner.col1 = B.col1;
+
+                Y.row0 = rowB + m;       Y.row1 = B.row1;
+                Y.col0 = B.col0;         Y.col1 = B.col1;
+
+                BlockMultiplication.multMinus(blockLength,Linner,Binner,Y);
+            }
+        }
+    }
+
     /**
      * <p>
      * Solves upper triangular systems:<br>
@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.bidiagonal;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.block.BlockMultiplication;
+import org.ejml.alg.block.decomposition.hessenberg.TridiagonalHelper_B64;
+import org.ejml.alg.block.decomposition.qr.BlockHouseHolder;
+import org.ejml.alg.block.decomposition.qr.QRDecompositionHouseholder_B64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.D1Submatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition;
+import org.ejml.ops.CommonOps;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Bidiagonal decomposition for {@link BlockMatrix64F} using householder reflectors.  The matrix is processed
+ * one panel at a time, where a panel is a block column and a block row.  While a panel is being reduced
+ * the updates to the rest of the matrix are deferred and saved in the X and Y matrices.  After the panel
+ * is finished the lower right submatrix is updated all at once:
+ * <pre>
+ * A = A - U*Y<sup>T</sup> - X*V<sup>T</sup>
+ * </pre>
+ * where U and V contain the householder vectors in the panel.  This allows the update, which is half the
+ * computations, to be done while each block is inside the cache.  The other half are matrix-vector
+ * multiplications against the lower right submatrix.
+ * </p>
+ *
+ * <p>
+ * The input matrix is modified and used to store the decomposition.  Reflectors for U are stored in the lower
+ * triangle columns and reflectors for V are stored in the upper triangle rows above the super diagonal.
+ * Same as in {@link org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionRow_D64} the first
+ * element of each reflector is implicitly assumed to be one.  U and V are computed using
+ * the same block algorithms as {@link QRDecompositionHouseholder_B64}
+ * and {@link org.ejml.alg.block.decomposition.hessenberg.TridiagonalDecompositionHouseholder_B64}.
+ * </p>
+ *
+ * <p>
+ * Based off the algorithm in section 3 of J. J. Dongarra, D. C. Sorensen, S. J. Hammarling,
+ * "Block Reduction of Matrices to Condensed Forms for Eigenvalue Computations" Journal of
+ * Computations and Applied Mathematics 27 (1989) 215-227
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BidiagonalDecompositionHouseholder_B64
+        implements BidiagonalDecomposition<BlockMatrix64F> {
+
+    // matrix which is being decomposed
+    protected BlockMatrix64F A;
+    protected int blockLength;
+    // number of rows, columns, and the smaller of the two
+    protected int m,n,min;
+
+    // gammas for the householder reflectors in U and V
+    protected double gammasU[] = new double[1];
+    protected double gammasV[] = new double[1];
+
+    // Vectors computed for the current panel.  U and X are indexed by row, V and Y by column.
+    protected double U[][] = new double[0][];
+    protected double V[][] = new double[0][];
+    protected double X[][] = new double[0][];
+    protected double Y[][] = new double[0][];
+
+    // storage for block computations when computing U and V
+    protected BlockMatrix64F dataW = new BlockMatrix64F(1,1);
+    protected BlockMatrix64F dataWTA = new BlockMatrix64F(1,1);
+    protected double temp[] = new double[1];
+
+    // temporary storage for zeros and ones in V
+    protected DenseMatrix64F zerosM = new DenseMatrix64F(1,1);
+
+    @Override
+    public boolean decompose(BlockMatrix64F orig) {
+        init(orig);
+
+        for( int p = 0; p < min; p += blockLength ) {
+            int num = Math.min(blockLength,min-p);
+
+            reducePanel(p,num);
+
+            // apply the deferred updates to the remainder of the matrix
+            int next = p + num;
+            if( next < m && next < n )
+                BidiagonalHelper.updateSubmatrix(A,next,next,num,U,Y,X,V);
+        }
+
+        return true;
+    }
+
+    /**
+     * Reduces the panel which starts at row and column 'p'.  Only the rows and columns in the panel are modified.
+     * The matrix-vector multiplications are done against the lower right submatrix as it was at the start
+     * of the panel, with the deferred updates being applied using X and Y.
+     *
+     * @param p First row and column in the panel.
+     * @param num Number of rows and columns in the panel.
+     */
+    protected void reducePanel( int p , int num ) {
+        for( int j = 0; j < num; j++ ) {
+            int k = p + j;
+
+            // -------- update column k with the previous reflectors and compute the reflector for U
+            double u[] = U[j];
+            BidiagonalHelper.extractCol(A,k,k,u);
+            for( int i = 0; i < j; i++ ) {
+                double a = Y[i][k];
+                double b = V[i][k];
+                double Ui[] = U[i];
+                double Xi[] = X[i];
+                for( int row = k; row < m; row++ ) {
+                    u[row] -= Ui[row]*a + Xi[row]*b;
+                }
+            }
+
+            double d = BidiagonalHelper.computeHouseholder(u,k,m,gammasU,k);
+
+            A.set(k,k,d);
+            for( int row = k+1; row < m; row++ ) {
+                A.set(row,k,u[row]);
+            }
+
+            if( k+1 >= n ) {
+                gammasV[k] = 0;
+                continue;
+            }
+
+            // -------- Y(:,j) = gamma*(A^T - Y*U^T - V*X^T)*u
+            double y[] = Y[j];
+            BidiagonalHelper.multTransA_vec(A,k,k+1,u,y);
+            for( int i = 0; i < j; i++ ) {
+                double a = dot(U[i],u,k,m);
+                double b = dot(X[i],u,k,m);
+                double Yi[] = Y[i];
+                double Vi[] = V[i];
+                for( int col = k+1; col < n; col++ ) {
+                    y[col] -= Yi[col]*a + Vi[col]*b;
+                }
+            }
+            scale(gammasU[k],y,k+1,n);
+
+            // -------- update row k with all the reflectors and compute the reflector for V
+            double v[] = V[j];
+            BidiagonalHelper.extractRow(A,k,k+1,v);
+            for( int i = 0; i <= j; i++ ) {
+                double a = U[i][k];
+                double Yi[] = Y[i];
+                for( int col = k+1; col < n; col++ ) {
+                    v[col] -= Yi[col]*a;
+                }
+            }
+            for( int i = 0; i < j; i++ ) {
+                double b = X[i][k];
+                double Vi[] = V[i];
+                for( int col = k+1; col < n; col++ ) {
+                    v[col] -= Vi[col]*b;
+                }
+            }
+
+            double e = BidiagonalHelper.computeHouseholder(v,k+1,n,gammasV,k);
+
+            A.set(k,k+1,e);
+            for( int col = k+2; col < n; col++ ) {
+                A.set(k,col,v[col]);
+            }
+
+            if( k+1 >= m )
+                continue;
+
+            // -------- X(:,j) = gamma*(A - U*Y^T - X*V^T)*v
+            double x[] = X[j];
+            BidiagonalHelper.mult_vec(A,k+1,k+1,v,x);
+            for( int i = 0; i <= j; i++ ) {
+                double a = dot(Y[i],v,k+1,n);
+                double Ui[] = U[i];
+                for( int row = k+1; row < m; row++ ) {
+                    x[row] -= Ui[row]*a;
+                }
+            }
+            for( int i = 0; i < j; i++ ) {
+                double b = dot(V[i],v,k+1,n);
+                double Xi[] = X[i];
+                for( int row = k+1; row < m; row++ ) {
+                    x[row] -= Xi[row]*b;
+                }
+            }
+            scale(gammasV[k],x,k+1,m);
+        }
+    }
+
+    private static double dot( double a[] , double b[] , int start , int end ) {
+        double total = 0;
+        for( int i = start; i < end; i++ ) {
+            total += a[i]*b[i];
+        }
+        return total;
+    }
+
+    private static void scale( double s , double a[] , int start , int end ) {
+        for( int i = start; i < end; i++ ) {
+            a[i] *= s;
+        }
+    }
+
+    private void init( BlockMatrix64F orig ) {
+        this.A = orig;
+        blockLength = orig.blockLength;
+        m = orig.numRows;
+        n = orig.numCols;
+        min = Math.min(m,n);
+
+        dataW.blockLength = blockLength;
+        dataWTA.blockLength = blockLength;
+
+        int max = Math.max(m,n);
+        if( gammasU.length < max ) {
+            gammasU = new double[ max ];
+            gammasV = new double[ max ];
+        } else {
+            // elements after min are used when computing U and V and must be zero
+            Arrays.fill(gammasU,0);
+            Arrays.fill(gammasV,0);
+        }
+        if( temp.length < blockLength )
+            temp = new double[ blockLength ];
+
+        if( U.length != blockLength || U[0].length < m || Y[0].length < n ) {
+            U = new double[blockLength][m];
+            X = new double[blockLength][m];
+            V = new double[blockLength][n];
+            Y = new double[blockLength][n];
+        }
+
+        zerosM.reshape(blockLength,blockLength+1,false);
+    }
+
+    @Override
+    public BlockMatrix64F getB(BlockMatrix64F B, boolean compact) {
+        int numRows = compact ? min : m;
+        int numCols = compact ? (n > m ? min+1 : min) : n;
+
+        if( B == null ) {
+            B = new BlockMatrix64F(numRows,numCols,blockLength);
+        } else {
+            if( B.numRows != numRows || B.numCols != numCols )
+                throw new IllegalArgumentException("Unexpected dimension. Expected "+numRows+" "+numCols);
+            CommonOps.fill(B,0);
+        }
+
+        B.set(0,0,A.get(0,0));
+        for( int i = 1; i < min; i++ ) {
+            B.set(i,i,A.get(i,i));
+            B.set(i-1,i,A.get(i-1,i));
+        }
+        if( n > m )
+            B.set(min-1,min,A.get(min-1,min));
+
+        return B;
+    }
+
+    @Override
+    public BlockMatrix64F getU(BlockMatrix64F U, boolean transpose, boolean compact) {
+        BlockMatrix64F Q = QRDecompositionHouseholder_B64.initializeQ(transpose ? null : U,
+                m,n,blockLength,compact);
+
+        D1Submatrix64F subQ = new D1Submatrix64F(Q);
+        D1Submatrix64F Y = new D1Submatrix64F(A);
+        D1Submatrix64F W = new D1Submatrix64F(dataW);
+        D1Submatrix64F WTA = new D1Submatrix64F(dataWTA);
+
+        dataW.reshape(m,Math.min(blockLength,n),false);
+        Y.row1 = W.row1 = m;
+        W.col0 = 0;
+
+        // Q = Q1*(Q2*(Q3*I))
+        for( int i = lastBlock(); i >= 0; i -= blockLength ) {
+            Y.col0 = i;
+            Y.col1 = Math.min(i+blockLength,n);
+            Y.row0 = i;
+            subQ.col0 = i;
+            subQ.row0 = i;
+
+            W.col1 = Y.col1-Y.col0;
+            W.row0 = Y.row0;
+            WTA.row1 = W.col1;
+            WTA.col1 = subQ.col1-subQ.col0;
+            dataWTA.reshape(WTA.row1,WTA.col1,false);
+
+            BlockHouseHolder.computeW_Column(blockLength,Y,W,temp,gammasU,Y.col0);
+
+            BlockHouseHolder.multTransA_vecCol(blockLength,Y,subQ,WTA);
+            BlockMultiplication.multPlus(blockLength,W,WTA,subQ);
+        }
+
+        if( transpose )
+            return BlockMatrixOps.transpose(Q,U);
+        return Q;
+    }
+
+    @Override
+    public BlockMatrix64F getV(BlockMatrix64F V, boolean transpose, boolean compact) {
+        int numCols = compact ? (n > m ? min+1 : min) : n;
+
+        BlockMatrix64F Q = transpose ? null : V;
+        if( Q == null ) {
+            Q = new BlockMatrix64F(n,numCols,blockLength);
+        } else if( Q.numRows != n || Q.numCols != numCols ) {
+            throw new IllegalArgumentException("Unexpected dimension. Expected "+n+" "+numCols);
+        }
+        BlockMatrixOps.setIdentity(Q);
+
+        D1Submatrix64F subQ = new D1Submatrix64F(Q);
+        D1Submatrix64F subU = new D1Submatrix64F(A);
+        D1Submatrix64F subW = new D1Submatrix64F(dataW);
+        D1Submatrix64F tmp = new D1Submatrix64F(dataWTA);
+
+        // Q = Q1*(Q2*(Q3*I))
+        for( int i = lastBlock(); i >= 0; i -= blockLength ) {
+            int height = Math.min(blockLength,m-i);
+
+            subU.row0 = i;
+            subU.row1 = i+height;
+            subU.col0 = i;
+
+            dataW.reshape(height,n,false);
+            subW.row1 = height;
+            subW.col0 = i;
+            subW.col1 = n;
+
+            dataWTA.reshape(height,numCols,false);
+            tmp.row1 = height;
+            tmp.col0 = i;
+            tmp.col1 = numCols;
+
+            subQ.row0 = i;
+            subQ.col0 = i;
+
+            // zeros and ones are saved and overwritten so that standard matrix multiplication can be used
+            copyZeros(subU);
+
+            TridiagonalHelper_B64.computeW_row(blockLength,subU,subW,gammasV,i);
+
+            // Q = Q + W^T*(U*Q)
+            BlockMultiplication.mult(blockLength,subU,subQ,tmp);
+            BlockMultiplication.multPlusTransA(blockLength,subW,tmp,subQ);
+
+            replaceZeros(subU);
+        }
+
+        if( transpose )
+            return BlockMatrixOps.transpose(Q,V);
+        return Q;
+    }
+
+    /**
+     * Index of the first row/column in the last panel
+     */
+    private int lastBlock() {
+        int start = min - min % blockLength;
+        if( start == min )
+            start -= blockLength;
+        if( start < 0 )
+            start = 0;
+        return start;
+    }
+
+    private void copyZeros( D1Submatrix64F subU ) {
+        int N = Math.min(subU.row1-subU.row0,subU.col1-subU.col0);
+        for( int i = 0; i < N; i++ ) {
+            // save the zeros
+            for( int j = 0; j <= i; j++ ) {
+                zerosM.unsafe_set(i,j,subU.get(i,j));
+                subU.set(i,j,0);
+            }
+            // save the one
+            if( subU.col0 + i + 1 < subU.original.numCols ) {
+                zerosM.unsafe_set(i,i+1,subU.get(i,i+1));
+                subU.set(i,i+1,1);
+            }
+        }
+    }
+
+    private void replaceZeros( D1Submatrix64F subU ) {
+        int N = Math.min(subU.row1-subU.row0,subU.col1-subU.col0);
+        for( int i = 0; i < N; i++ ) {
+            for( int j = 0; j <= i; j++ ) {
+                subU.set(i,j,zerosM.get(i,j));
+            }
+            if( subU.col0 + i + 1 < subU.original.numCols ) {
+                subU.set(i,i+1,zerosM.get(i,i+1));
+            }
+        }
+    }
+
+    @Override
+    public void getDiagonal(double[] diag, double[] off) {
+        diag[0] = A.get(0,0);
+        for( int i = 1; i < min; i++ ) {
+            diag[i] = A.get(i,i);
+            off[i-1] = A.get(i-1,i);
+        }
+    }
+
+    /**
+     * Returns gammas from the householder operations for the U matrix.
+     */
+    public double[] getGammasU() {
+        return gammasU;
+    }
+
+    /**
+     * Returns gammas from the householder operations for the V matrix.
+     */
+    public double[] getGammasV() {
+        return gammasV;
+    }
+
+    /**
+     * The input matrix is always modified.
+     *
+     * @return Returns true since the input matrix is modified.
+     */
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
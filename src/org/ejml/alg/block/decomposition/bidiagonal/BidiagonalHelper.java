@@ -18,72 +18,235 @@
 
 package org.ejml.alg.block.decomposition.bidiagonal;
 
-import org.ejml.data.D1Submatrix64F;
-
-import static org.ejml.alg.block.decomposition.qr.BlockHouseHolder.*;
+import org.ejml.alg.dense.decomposition.qr.QrHelperFunctions;
+import org.ejml.data.BlockMatrix64F;
 
 
 /**
+ * <p>
+ * Functions used by {@link BidiagonalDecompositionHouseholder_B64}.  Vectors are stored in arrays which
+ * are indexed by the row or column in the matrix they correspond to.  Only the portion of a vector
+ * which is inside the specified submatrix is read or written.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class BidiagonalHelper {
 
     /**
-     * Performs a standard bidiagonal decomposition just on the outer blocks of the provided matrix
+     * <p>
+     * Computes a householder reflector from the elements between start and end, exclusive,
+     * in 'u'.  The same convention as {@link org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionRow_D64}
+     * is used.  Afterwards u(start) = 1 and the remaining elements have been divided by u(start)+&tau;.
+     * If all the elements are zero then &gamma; is zero and u is set to the first unit vector.<br>
+     * <br>
+     * Q = I - &gamma;*u*u<sup>T</sup>
+     * </p>
      *
-     * @param blockLength
-     * @param A
-     * @param gammasU
+     * @param u Vector which is converted into a householder reflector. Modified.
+     * @param start First element in the vector.
+     * @param end Last element in the vector, exclusive.
+     * @param gammas Where the computed gamma is written to.  Modified.
+     * @param gammaIndex Index of gamma in gammas.
+     * @return The value of the first element after the reflector is applied to the vector.
      */
+    public static double computeHouseholder( double u[] , int start , int end ,
+                                             double gammas[] , int gammaIndex ) {
+        double max = QrHelperFunctions.findMax(u,start,end-start);
+
+        if( max <= 0 ) {
+            gammas[gammaIndex] = 0;
+            u[start] = 1;
+            return 0;
+        }
 
-    public static boolean bidiagOuterBlocks( final int blockLength ,
-                                             final D1Submatrix64F A ,
-                                             final double gammasU[],
-                                             final double gammasV[])
-    {
-//        System.out.println("---------- Orig");
-//        A.original.print();
-
-        int width = Math.min(blockLength,A.col1-A.col0);
-        int height = Math.min(blockLength,A.row1-A.row0);
-
-        int min = Math.min(width,height);
-
-        for( int i = 0; i < min; i++ ) {
-            //--- Apply reflector to the column
-
-            // compute the householder vector
-            if (!computeHouseHolderCol(blockLength, A, gammasU, i))
-                return false;
-
-            // apply to rest of the columns in the column block
-            rank1UpdateMultR_Col(blockLength,A,i,gammasU[A.col0+i]);
-
-            // apply to the top row block
-            rank1UpdateMultR_TopRow(blockLength,A,i,gammasU[A.col0+i]);
+        double tau = QrHelperFunctions.computeTauAndDivide(start,end,u,max);
+        double nu = u[start] + tau;
+        QrHelperFunctions.divideElements(start+1,end,u,nu);
+        u[start] = 1;
 
-            System.out.println("After column stuff");
-            A.original.print();
+        gammas[gammaIndex] = nu/tau;
+        return -tau*max;
+    }
 
-            //-- Apply reflector to the row
-            if(!computeHouseHolderRow(blockLength,A,gammasV,i))
-                return false;
-            
-            // apply to rest of the rows in the row block
-            rank1UpdateMultL_Row(blockLength,A,i,i+1,gammasV[A.row0+i]);
+    /**
+     * Copies a row from the block matrix into the vector.  y(col0:n) = A(row,col0:n)
+     */
+    public static void extractRow( BlockMatrix64F A , int row , int col0 , double y[] ) {
+        int blockLength = A.blockLength;
+        int R = (row/blockLength)*blockLength;
+        int height = Math.min(blockLength,A.numRows-R);
+
+        for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+            int width = Math.min(blockLength,A.numCols-C);
+            int start = Math.max(col0,C);
+
+            int index = R*A.numCols + C*height + (row-R)*width + start-C;
+            for( int col = start; col < C+width; col++ ) {
+                y[col] = A.data[index++];
+            }
+        }
+    }
 
-            System.out.println("After update row");
-            A.original.print();
+    /**
+     * Copies a column from the block matrix into the vector.  y(row0:m) = A(row0:m,col)
+     */
+    public static void extractCol( BlockMatrix64F A , int row0 , int col , double y[] ) {
+        for( int row = row0; row < A.numRows; row++ ) {
+            y[row] = A.get(row,col);
+        }
+    }
 
-            // apply to the left column block
-            // TODO THIS WON'T WORK!!!!!!!!!!!!!
-            // Needs the whole matrix to have been updated by the left reflector to compute the correct solution
-//            rank1UpdateMultL_LeftCol(blockLength,A,i,i+1,gammasV[A.row0+i]);
+    /**
+     * <p>
+     * Matrix vector multiplication involving a submatrix in the lower right corner.<br>
+     * <br>
+     * y(col0:n) = A(row0:m,col0:n)<sup>T</sup>*x(row0:m)
+     * </p>
+     */
+    public static void multTransA_vec( BlockMatrix64F A , int row0 , int col0 ,
+                                       double x[] , double y[] ) {
+        final int blockLength = A.blockLength;
+        final double data[] = A.data;
+
+        for( int col = col0; col < A.numCols; col++ )
+            y[col] = 0;
+
+        for( int R = (row0/blockLength)*blockLength; R < A.numRows; R += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-R);
+            int startRow = Math.max(row0,R);
+
+            for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+                int width = Math.min(blockLength,A.numCols-C);
+                int startCol = Math.max(col0,C);
+                int endCol = C+width;
+
+                int indexBlock = R*A.numCols + C*height + startCol - C;
+
+                // two rows are processed at once to reduce the number of times 'y' is read and written to
+                int row = startRow;
+                for( ; row+1 < R+height; row += 2 ) {
+                    double val0 = x[row];
+                    double val1 = x[row+1];
+                    int index0 = indexBlock + (row-R)*width;
+                    int index1 = index0 + width;
+                    for( int col = startCol; col < endCol; col++ ) {
+                        y[col] += data[index0++]*val0 + data[index1++]*val1;
+                    }
+                }
+                if( row < R+height ) {
+                    double val = x[row];
+                    int index = indexBlock + (row-R)*width;
+                    for( int col = startCol; col < endCol; col++ ) {
+                        y[col] += data[index++]*val;
+                    }
+                }
+            }
+        }
+    }
 
-            System.out.println("After row stuff");
-            A.original.print();
+    /**
+     * <p>
+     * Matrix vector multiplication involving a submatrix in the lower right corner.<br>
+     * <br>
+     * y(row0:m) = A(row0:m,col0:n)*x(col0:n)
+     * </p>
+     */
+    public static void mult_vec( BlockMatrix64F A , int row0 , int col0 ,
+                                 double x[] , double y[] ) {
+        final int blockLength = A.blockLength;
+        final double data[] = A.data;
+
+        for( int row = row0; row < A.numRows; row++ )
+            y[row] = 0;
+
+        for( int R = (row0/blockLength)*blockLength; R < A.numRows; R += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-R);
+            int startRow = Math.max(row0,R);
+
+            for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+                int width = Math.min(blockLength,A.numCols-C);
+                int startCol = Math.max(col0,C);
+                int endCol = C+width;
+
+                int indexBlock = R*A.numCols + C*height + startCol - C;
+
+                // two rows are processed at once to reduce the number of times 'x' is read
+                int row = startRow;
+                for( ; row+1 < R+height; row += 2 ) {
+                    int index0 = indexBlock + (row-R)*width;
+                    int index1 = index0 + width;
+                    double total0 = 0, total1 = 0;
+                    for( int col = startCol; col < endCol; col++ ) {
+                        double val = x[col];
+                        total0 += data[index0++]*val;
+                        total1 += data[index1++]*val;
+                    }
+                    y[row] += total0;
+                    y[row+1] += total1;
+                }
+                if( row < R+height ) {
+                    int index = indexBlock + (row-R)*width;
+                    double total = 0;
+                    for( int col = startCol; col < endCol; col++ ) {
+                        total += data[index++]*x[col];
+                    }
+                    y[row] += total;
+                }
+            }
         }
+    }
 
-        return true;
+    /**
+     * <p>
+     * Applies the reflectors from a panel to the lower right submatrix.  Each element in the submatrix
+     * is updated using 2*num multiplications while it is inside the cache.<br>
+     * <br>
+     * A(row0:m,col0:n) = A(row0:m,col0:n) - U*Y<sup>T</sup> - X*V<sup>T</sup>
+     * </p>
+     *
+     * @param A Matrix being updated. Modified.
+     * @param row0 First row in the submatrix.
+     * @param col0 First column in the submatrix.
+     * @param num Number of vectors in U, Y, X, and V.
+     * @param U Vectors indexed by row.
+     * @param Y Vectors indexed by column.
+     * @param X Vectors indexed by row.
+     * @param V Vectors indexed by column.
+     */
+    public static void updateSubmatrix( BlockMatrix64F A , int row0 , int col0 , int num ,
+                                        double U[][] , double Y[][] ,
+                                        double X[][] , double V[][] ) {
+        final int blockLength = A.blockLength;
+        final double data[] = A.data;
+
+        for( int R = (row0/blockLength)*blockLength; R < A.numRows; R += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-R);
+            int startRow = Math.max(row0,R);
+
+            for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+                int width = Math.min(blockLength,A.numCols-C);
+                int startCol = Math.max(col0,C);
+                int endCol = C+width;
+
+                int indexBlock = R*A.numCols + C*height + startCol - C;
+
+                for( int row = startRow; row < R+height; row++ ) {
+                    int indexRow = indexBlock + (row-R)*width;
+
+                    for( int k = 0; k < num; k++ ) {
+                        double u = U[k][row];
+                        double x = X[k][row];
+                        double y[] = Y[k];
+                        double v[] = V[k];
+
+                        int index = indexRow;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            data[index++] -= u*y[col] + x*v[col];
+                        }
+                    }
+                }
+            }
+        }
     }
 }
@@ -106,7 +106,7 @@ public class CholeskyOuterForm_B64 implements CholeskyDecomposition<BlockMatrix6
                 BlockTriangularSolver.solveBlock(blockLength,false,subA,subB,false,true);
 
                 // C = C - B * B^T
-                BlockInnerRankUpdate.symmRankNMinus_L(blockLength,subC,subB);
+                symmRankNMinus_L(blockLength,subC,subB);
             }
         }
 
@@ -145,7 +145,7 @@ public class CholeskyOuterForm_B64 implements CholeskyDecomposition<BlockMatrix6
                 BlockTriangularSolver.solveBlock(blockLength,true,subA,subB,true,false);
 
                 // C = C - B^T * B
-                BlockInnerRankUpdate.symmRankNMinus_U(blockLength,subC,subB);
+                symmRankNMinus_U(blockLength,subC,subB);
             }
         }
 
@@ -154,6 +154,20 @@ public class CholeskyOuterForm_B64 implements CholeskyDecomposition<BlockMatrix6
         return true;
     }
 
+    /**
+     * Updates the trailing submatrix in the lower triangular decomposition.  C = C - B * B<sup>T</sup>
+     */
+    protected void symmRankNMinus_L( int blockLength , D1Submatrix64F C , D1Submatrix64F B ) {
+        BlockInnerRankUpdate.symmRankNMinus_L(blockLength,C,B);
+    }
+
+    /**
+     * Updates the trailing submatrix in the upper triangular decomposition.  C = C - B<sup>T</sup> * B
+     */
+    protected void symmRankNMinus_U( int blockLength , D1Submatrix64F C , D1Submatrix64F B ) {
+        BlockInnerRankUpdate.symmRankNMinus_U(blockLength,C,B);
+    }
+
     @Override
     public boolean isLower() {
         return lower;
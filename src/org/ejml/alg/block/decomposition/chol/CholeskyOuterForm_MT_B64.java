@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.chol;
+
+import org.ejml.alg.block.BlockInnerRankUpdate_MT;
+import org.ejml.data.D1Submatrix64F;
+
+
+/**
+ * <p>
+ * Concurrent version of {@link CholeskyOuterForm_B64}.  Most of the time is spent updating the trailing
+ * submatrix after each column of blocks has been decomposed.  That update is split across multiple
+ * threads using {@link BlockInnerRankUpdate_MT}.  The results are identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyOuterForm_MT_B64 extends CholeskyOuterForm_B64 {
+
+    /**
+     * Creates a new decomposition
+     *
+     * @param lower Should it decompose it into a lower triangular matrix or not.
+     */
+    public CholeskyOuterForm_MT_B64(boolean lower) {
+        super(lower);
+    }
+
+    @Override
+    protected void symmRankNMinus_L( int blockLength , D1Submatrix64F C , D1Submatrix64F B ) {
+        BlockInnerRankUpdate_MT.symmRankNMinus_L(blockLength,C,B);
+    }
+
+    @Override
+    protected void symmRankNMinus_U( int blockLength , D1Submatrix64F C , D1Submatrix64F B ) {
+        BlockInnerRankUpdate_MT.symmRankNMinus_U(blockLength,C,B);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.hessenberg;
+
+import org.ejml.alg.block.decomposition.bidiagonal.BidiagonalHelper;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.interfaces.decomposition.HessenbergSimilarDecomposition;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * <p>
+ * Hessenberg similar decomposition for block matrices.  Householder reflectors are computed one
+ * panel at a time and aggregated into the compact WY form, Q = I - V*T*V<sup>T</sup>, where T is
+ * upper triangular.  Inside a panel only the columns which are about to be reduced are updated.  Once the
+ * panel is finished the remainder of the matrix is updated using level 3 style kernels.
+ * </p>
+ *
+ * <p>
+ * While reducing a panel the product Y = A*V*T is computed, which allows the right side of the
+ * similarity transform to be applied lazily.  The algorithm is the same as LAPACK's DLAHR2/DGEHRD.  See,
+ * G. Quintana-Orti and R. van de Geijn, "Improving the performance of reduction to Hessenberg form"
+ * ACM Transactions on Mathematical Software 32 (2006) 180-194
+ * </p>
+ *
+ * <p>
+ * Householder vectors are stored below the first sub-diagonal in the same format as
+ * {@link org.ejml.alg.dense.decomposition.hessenberg.HessenbergSimilarDecomposition_D64}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HessenbergDecompositionHouseholder_B64
+        implements HessenbergSimilarDecomposition<BlockMatrix64F> {
+
+    // matrix which is being decomposed
+    protected BlockMatrix64F A;
+    protected int N;
+
+    protected double gammas[] = new double[1];
+
+    // householder vectors in the current panel.  Each is stored as a full length vector
+    protected double V[][] = new double[1][1];
+    // Y = A*V*T
+    protected double Y[][] = new double[1][1];
+    // upper triangular matrix in the compact WY representation
+    protected double T[][] = new double[1][1];
+    // work space for V^T*A
+    protected double W[][] = new double[1][1];
+
+    // column being reduced
+    protected double b[] = new double[1];
+    // temporary storage for products of the panel vectors
+    protected double t[] = new double[1];
+    protected double s[] = new double[1];
+
+    @Override
+    public boolean decompose( BlockMatrix64F orig ) {
+        if( orig.numRows != orig.numCols )
+            throw new IllegalArgumentException("Input matrix must be square.");
+
+        init(orig);
+
+        for( int p = 0; p < N-2; p += A.blockLength ) {
+            int num = Math.min(A.blockLength,N-2-p);
+
+            reducePanel(p,num);
+
+            int col0 = p+num;
+            if( col0 >= N )
+                continue;
+
+            // right side of the transform: A = A - Y*V^T
+            HessenbergHelper_B64.subtractOuter(A,0,col0,num,Y,V);
+
+            // left side of the transform: A = A - V*T^T*V^T*A
+            HessenbergHelper_B64.multTransA_vecs(A,p+1,col0,num,V,W);
+            multTransT(num,col0);
+            HessenbergHelper_B64.subtractOuter(A,p+1,col0,num,V,W);
+        }
+
+        return true;
+    }
+
+    private void init( BlockMatrix64F orig ) {
+        this.A = orig;
+        this.N = orig.numRows;
+        int bl = orig.blockLength;
+
+        if( gammas.length < N ) {
+            gammas = new double[ N ];
+            b = new double[ N ];
+        }
+        if( V.length < bl || V[0].length < N ) {
+            V = new double[bl][N];
+            Y = new double[bl][N];
+            W = new double[bl][N];
+            T = new double[bl][bl];
+            t = new double[ bl ];
+            s = new double[ bl ];
+        }
+        for( int i = 0; i < N; i++ )
+            gammas[i] = 0;
+    }
+
+    /**
+     * Reduces the columns p to p+num-1.  Only those columns are modified.  V, T, and Y are
+     * computed for the panel.
+     */
+    private void reducePanel( int p , int num ) {
+        for( int j = 0; j < num; j++ ) {
+            int k = p+j;
+
+            // apply the previous reflectors in this panel to column k
+            BidiagonalHelper.extractCol(A,0,k,b);
+            for( int i = 0; i < j; i++ ) {
+                double a = V[i][k];
+                if( a == 0 )
+                    continue;
+                double y[] = Y[i];
+                for( int r = 0; r < N; r++ )
+                    b[r] -= y[r]*a;
+            }
+            if( j > 0 ) {
+                for( int i = 0; i < j; i++ )
+                    s[i] = dot(V[i],b,p+1,N);
+                // s = T^T*s
+                for( int i = j-1; i >= 0; i-- ) {
+                    double total = 0;
+                    for( int l = 0; l <= i; l++ )
+                        total += T[l][i]*s[l];
+                    s[i] = total;
+                }
+                for( int i = 0; i < j; i++ ) {
+                    double v[] = V[i];
+                    double a = s[i];
+                    for( int r = p+1; r < N; r++ )
+                        b[r] -= v[r]*a;
+                }
+            }
+
+            // compute the householder vector and save the reduced column
+            double u[] = V[j];
+            for( int r = 0; r <= k; r++ )
+                u[r] = 0;
+            System.arraycopy(b,k+1,u,k+1,N-k-1);
+            double beta = BidiagonalHelper.computeHouseholder(u,k+1,N,gammas,k);
+            double gamma = gammas[k];
+
+            for( int r = 0; r <= k; r++ )
+                A.set(r,k,b[r]);
+            A.set(k+1,k,beta);
+            for( int r = k+2; r < N; r++ )
+                A.set(r,k,u[r]);
+
+            // add the new column to T
+            for( int i = 0; i < j; i++ )
+                t[i] = dot(V[i],u,k+1,N);
+            for( int i = 0; i < j; i++ ) {
+                double total = 0;
+                for( int l = i; l < j; l++ )
+                    total += T[i][l]*t[l];
+                T[i][j] = -gamma*total;
+            }
+            T[j][j] = gamma;
+
+            // y = gamma*( A*u - Y*t ) where A is the matrix before this panel was reduced
+            double y[] = Y[j];
+            BidiagonalHelper.mult_vec(A,0,k+1,u,y);
+            for( int i = 0; i < j; i++ ) {
+                double a = t[i];
+                double yi[] = Y[i];
+                for( int r = 0; r < N; r++ )
+                    y[r] -= yi[r]*a;
+            }
+            for( int r = 0; r < N; r++ )
+                y[r] *= gamma;
+        }
+    }
+
+    /**
+     * W = T<sup>T</sup>*W, computed in place
+     */
+    private void multTransT( int num , int col0 ) {
+        for( int i = num-1; i >= 0; i-- ) {
+            double w[] = W[i];
+            double d = T[i][i];
+            for( int c = col0; c < N; c++ )
+                w[c] *= d;
+            for( int l = 0; l < i; l++ ) {
+                double a = T[l][i];
+                double wl[] = W[l];
+                for( int c = col0; c < N; c++ )
+                    w[c] += a*wl[c];
+            }
+        }
+    }
+
+    /**
+     * W = T*W, computed in place
+     */
+    private void multT( int num , int col0 ) {
+        for( int i = 0; i < num; i++ ) {
+            double w[] = W[i];
+            double d = T[i][i];
+            for( int c = col0; c < N; c++ )
+                w[c] *= d;
+            for( int l = i+1; l < num; l++ ) {
+                double a = T[i][l];
+                double wl[] = W[l];
+                for( int c = col0; c < N; c++ )
+                    w[c] += a*wl[c];
+            }
+        }
+    }
+
+    private static double dot( double a[] , double b[] , int start , int end ) {
+        double total = 0;
+        for( int i = start; i < end; i++ )
+            total += a[i]*b[i];
+        return total;
+    }
+
+    @Override
+    public BlockMatrix64F getH( BlockMatrix64F H ) {
+        if( H == null ) {
+            H = new BlockMatrix64F(N,N,A.blockLength);
+        } else {
+            if( H.numRows != N || H.numCols != N )
+                throw new IllegalArgumentException("H must have the same dimensions as the input matrix");
+
+            CommonOps.fill(H, 0);
+        }
+
+        for( int i = 0; i < N; i++ ) {
+            for( int j = Math.max(0,i-1); j < N; j++ ) {
+                H.set(i,j,A.get(i,j));
+            }
+        }
+
+        return H;
+    }
+
+    @Override
+    public BlockMatrix64F getQ( BlockMatrix64F Q ) {
+        if( Q == null ) {
+            Q = new BlockMatrix64F(N,N,A.blockLength);
+        } else {
+            if( Q.numRows != N || Q.numCols != N )
+                throw new IllegalArgumentException("Q must have the same dimensions as the input matrix");
+
+            CommonOps.fill(Q, 0);
+        }
+        for( int i = 0; i < N; i++ )
+            Q.set(i,i,1);
+
+        if( N <= 2 )
+            return Q;
+
+        // apply the panels in reverse order so that only the lower right submatrix is modified
+        for( int p = ((N-3)/A.blockLength)*A.blockLength; p >= 0; p -= A.blockLength ) {
+            int num = Math.min(A.blockLength,N-2-p);
+
+            rebuildPanel(p,num);
+
+            HessenbergHelper_B64.multTransA_vecs(Q,p+1,p+1,num,V,W);
+            multT(num,p+1);
+            HessenbergHelper_B64.subtractOuter(Q,p+1,p+1,num,V,W);
+        }
+
+        return Q;
+    }
+
+    /**
+     * Extracts the householder vectors and recomputes T for a panel.
+     */
+    private void rebuildPanel( int p , int num ) {
+        for( int j = 0; j < num; j++ ) {
+            int k = p+j;
+            double u[] = V[j];
+            for( int r = 0; r <= k; r++ )
+                u[r] = 0;
+            u[k+1] = 1;
+            for( int r = k+2; r < N; r++ )
+                u[r] = A.get(r,k);
+
+            double gamma = gammas[k];
+            for( int i = 0; i < j; i++ )
+                t[i] = dot(V[i],u,k+1,N);
+            for( int i = 0; i < j; i++ ) {
+                double total = 0;
+                for( int l = i; l < j; l++ )
+                    total += T[i][l]*t[l];
+                T[i][j] = -gamma*total;
+            }
+            T[j][j] = gamma;
+        }
+    }
+
+    /**
+     * Returns the gammas of each householder vector.  The vector for column k is stored
+     * in element k.
+     */
+    public double[] getGammas() {
+        return gammas;
+    }
+
+    public BlockMatrix64F getA() {
+        return A;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
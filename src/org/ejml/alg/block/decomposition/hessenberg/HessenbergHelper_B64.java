@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.hessenberg;
+
+import org.ejml.data.BlockMatrix64F;
+
+
+/**
+ * Level 3 style kernels used by {@link HessenbergDecompositionHouseholder_B64} to apply a panel of
+ * reflectors stored as dense vectors to a submatrix of a block matrix.  Each block is traversed only
+ * once and all the vectors are applied to it while it is inside the cache.
+ *
+ * @author Peter Abeles
+ */
+public class HessenbergHelper_B64 {
+
+    /**
+     * <p>
+     * Multiplies a set of vectors against the lower right submatrix.<br>
+     * <br>
+     * W(k,col0:n) = V(k,row0:m)<sup>T</sup>*A(row0:m,col0:n) &nbsp; for k = 0 to num-1
+     * </p>
+     *
+     * @param A Matrix being multiplied. Not modified.
+     * @param row0 First row in the submatrix.
+     * @param col0 First column in the submatrix.
+     * @param num Number of vectors in V and W.
+     * @param V Vectors indexed by row. Not modified.
+     * @param W Storage for the results, indexed by column. Modified.
+     */
+    public static void multTransA_vecs( BlockMatrix64F A , int row0 , int col0 , int num ,
+                                        double V[][] , double W[][] ) {
+        final int blockLength = A.blockLength;
+        final double data[] = A.data;
+
+        for( int k = 0; k < num; k++ ) {
+            double w[] = W[k];
+            for( int col = col0; col < A.numCols; col++ )
+                w[col] = 0;
+        }
+
+        for( int R = (row0/blockLength)*blockLength; R < A.numRows; R += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-R);
+            int startRow = Math.max(row0,R);
+
+            for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+                int width = Math.min(blockLength,A.numCols-C);
+                int startCol = Math.max(col0,C);
+                int endCol = C+width;
+
+                int indexBlock = R*A.numCols + C*height + startCol - C;
+
+                int endRow = R+height;
+
+                // pairs of vectors and four rows are processed at once to reduce the number of times
+                // W and A are read from memory
+                int k = 0;
+                for( ; k+1 < num; k += 2 ) {
+                    double v0[] = V[k], v1[] = V[k+1];
+                    double w0[] = W[k], w1[] = W[k+1];
+
+                    int row = startRow;
+                    for( ; row+3 < endRow; row += 4 ) {
+                        double a0 = v0[row], a1 = v0[row+1], a2 = v0[row+2], a3 = v0[row+3];
+                        double b0 = v1[row], b1 = v1[row+1], b2 = v1[row+2], b3 = v1[row+3];
+
+                        int index0 = indexBlock + (row-R)*width;
+                        int index1 = index0 + width;
+                        int index2 = index1 + width;
+                        int index3 = index2 + width;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            double d0 = data[index0++], d1 = data[index1++];
+                            double d2 = data[index2++], d3 = data[index3++];
+                            w0[col] += d0*a0 + d1*a1 + d2*a2 + d3*a3;
+                            w1[col] += d0*b0 + d1*b1 + d2*b2 + d3*b3;
+                        }
+                    }
+                    for( ; row < endRow; row++ ) {
+                        double a = v0[row], b = v1[row];
+                        int index = indexBlock + (row-R)*width;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            double d = data[index++];
+                            w0[col] += d*a;
+                            w1[col] += d*b;
+                        }
+                    }
+                }
+                if( k < num ) {
+                    double v[] = V[k];
+                    double w[] = W[k];
+                    for( int row = startRow; row < endRow; row++ ) {
+                        double a = v[row];
+                        int index = indexBlock + (row-R)*width;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            w[col] += data[index++]*a;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Subtracts the sum of outer products from the lower right submatrix.<br>
+     * <br>
+     * A(row0:m,col0:n) = A(row0:m,col0:n) - U*Z<sup>T</sup>
+     * </p>
+     *
+     * @param A Matrix being updated. Modified.
+     * @param row0 First row in the submatrix.
+     * @param col0 First column in the submatrix.
+     * @param num Number of vectors in U and Z.
+     * @param U Vectors indexed by row. Not modified.
+     * @param Z Vectors indexed by column. Not modified.
+     */
+    public static void subtractOuter( BlockMatrix64F A , int row0 , int col0 , int num ,
+                                      double U[][] , double Z[][] ) {
+        final int blockLength = A.blockLength;
+        final double data[] = A.data;
+
+        for( int R = (row0/blockLength)*blockLength; R < A.numRows; R += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-R);
+            int startRow = Math.max(row0,R);
+
+            for( int C = (col0/blockLength)*blockLength; C < A.numCols; C += blockLength ) {
+                int width = Math.min(blockLength,A.numCols-C);
+                int startCol = Math.max(col0,C);
+                int endCol = C+width;
+
+                int indexBlock = R*A.numCols + C*height + startCol - C;
+
+                int endRow = R+height;
+
+                // pairs of rows and four vectors are processed at once to reduce the number of times
+                // Z and A are read from memory
+                int row = startRow;
+                for( ; row+1 < endRow; row += 2 ) {
+                    int indexRow0 = indexBlock + (row-R)*width;
+                    int indexRow1 = indexRow0 + width;
+
+                    int k = 0;
+                    for( ; k+3 < num; k += 4 ) {
+                        double z0[] = Z[k], z1[] = Z[k+1], z2[] = Z[k+2], z3[] = Z[k+3];
+                        double a0 = U[k][row], a1 = U[k+1][row], a2 = U[k+2][row], a3 = U[k+3][row];
+                        double b0 = U[k][row+1], b1 = U[k+1][row+1], b2 = U[k+2][row+1], b3 = U[k+3][row+1];
+
+                        int index0 = indexRow0, index1 = indexRow1;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            double s0 = z0[col], s1 = z1[col], s2 = z2[col], s3 = z3[col];
+                            data[index0++] -= a0*s0 + a1*s1 + a2*s2 + a3*s3;
+                            data[index1++] -= b0*s0 + b1*s1 + b2*s2 + b3*s3;
+                        }
+                    }
+                    for( ; k < num; k++ ) {
+                        double z[] = Z[k];
+                        double a = U[k][row], b = U[k][row+1];
+
+                        int index0 = indexRow0, index1 = indexRow1;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            double s = z[col];
+                            data[index0++] -= a*s;
+                            data[index1++] -= b*s;
+                        }
+                    }
+                }
+                if( row < endRow ) {
+                    int indexRow = indexBlock + (row-R)*width;
+                    for( int k = 0; k < num; k++ ) {
+                        double z[] = Z[k];
+                        double a = U[k][row];
+
+                        int index = indexRow;
+                        for( int col = startCol; col < endCol; col++ ) {
+                            data[index++] -= a*z[col];
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
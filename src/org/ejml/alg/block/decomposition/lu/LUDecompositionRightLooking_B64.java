@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.lu;
+
+import org.ejml.UtilEjml;
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.block.BlockMultiplication;
+import org.ejml.alg.block.BlockTriangularSolver;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.D1Submatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.LUDecomposition;
+import org.ejml.ops.SpecializedOps;
+
+
+/**
+ * <p>
+ * Right looking block LU decomposition with partial pivoting for {@link BlockMatrix64F}.  The matrix is
+ * processed one column of blocks at a time.  For each column of blocks the following steps are done:
+ * </p>
+ * <ol>
+ * <li>The panel, which is the column of blocks on and below the diagonal, is decomposed using partial pivoting.</li>
+ * <li>Row swaps from the panel are applied to the columns on its left and right.</li>
+ * <li>The row of blocks to the right of the diagonal is solved for: U<sub>12</sub> = L<sub>11</sub><sup>-1</sup>A<sub>12</sub></li>
+ * <li>The trailing submatrix is updated: A<sub>22</sub> = A<sub>22</sub> - L<sub>21</sub>*U<sub>12</sub></li>
+ * </ol>
+ * <p>
+ * Most of the work is done in the last step, which is a block matrix multiplication with good cache
+ * performance.  The decomposed matrix overwrites the input matrix, with the unit lower triangular matrix
+ * below the diagonal and the upper triangular matrix on and above it.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LUDecompositionRightLooking_B64 implements LUDecomposition<BlockMatrix64F> {
+
+    // the decomposed matrix
+    private BlockMatrix64F LU;
+
+    // pivot[i] is the row in the original matrix which is now row i
+    private int pivot[] = new int[0];
+    // row i was swapped with row swaps[i] when column i was processed
+    private int swaps[] = new int[0];
+    private double pivsign;
+
+    // copy of the panel being decomposed
+    private double panel[] = new double[0];
+
+    // predeclare local work space
+    private D1Submatrix64F subA = new D1Submatrix64F();
+    private D1Submatrix64F subB = new D1Submatrix64F();
+    private D1Submatrix64F subC = new D1Submatrix64F();
+
+    /**
+     * Decomposes the provided matrix and stores the result in the same matrix.
+     *
+     * @param A Matrix that is to be decomposed.  Modified.
+     * @return true
+     */
+    @Override
+    public boolean decompose(BlockMatrix64F A) {
+        this.LU = A;
+
+        final int m = A.numRows;
+        final int n = A.numCols;
+        final int blockLength = A.blockLength;
+        final int minLength = Math.min(m,n);
+
+        if( pivot.length < m ) {
+            pivot = new int[ m ];
+            swaps = new int[ m ];
+        }
+        for( int i = 0; i < m; i++ ) {
+            pivot[i] = i;
+        }
+        pivsign = 1;
+
+        if( panel.length < m*blockLength )
+            panel = new double[ m*blockLength ];
+
+        for( int k = 0; k < minLength; k += blockLength ) {
+            int width = Math.min(blockLength,n-k);
+            int numPivots = Math.min(width,m-k);
+
+            decomposePanel(k,width,numPivots);
+
+            // apply the row swaps to the columns outside of the panel
+            for( int i = k; i < k+numPivots; i++ ) {
+                if( swaps[i] != i ) {
+                    BlockMatrixOps.swapRows(A,i,swaps[i],0,k);
+                    BlockMatrixOps.swapRows(A,i,swaps[i],k+width,n);
+                }
+            }
+
+            if( k+width >= n )
+                continue;
+
+            int height = Math.min(blockLength,m-k);
+
+            // U12 = L11^-1 * A12
+            subA.set(A);
+            subA.row0 = k; subA.row1 = k+height;
+            subA.col0 = k; subA.col1 = k+height;
+
+            subB.set(A);
+            subB.row0 = k;       subB.row1 = k+height;
+            subB.col0 = k+width; subB.col1 = n;
+
+            BlockTriangularSolver.solveUnitL(blockLength,subA,subB);
+
+            if( k+height >= m )
+                continue;
+
+            // A22 = A22 - L21 * U12
+            subA.row0 = k+height; subA.row1 = m;
+            subA.col0 = k;        subA.col1 = k+width;
+
+            subC.set(A);
+            subC.row0 = k+height; subC.row1 = m;
+            subC.col0 = k+width;  subC.col1 = n;
+
+            BlockMultiplication.multMinus(blockLength,subA,subB,subC);
+        }
+
+        return true;
+    }
+
+    /**
+     * Decomposes the column of blocks starting at row and column k using partial pivoting.  The panel
+     * is copied into a row major array, decomposed, then copied back.
+     */
+    private void decomposePanel( int k , int width , int numPivots ) {
+        final int m = LU.numRows;
+        final int blockLength = LU.blockLength;
+        final int numRows = m-k;
+
+        // copy the panel.  Each block in the column is stored in a row major format with the same width
+        for( int i = k; i < m; i += blockLength ) {
+            int height = Math.min(blockLength,m-i);
+            System.arraycopy(LU.data,i*LU.numCols + height*k,panel,(i-k)*width,height*width);
+        }
+
+        for( int j = 0; j < numPivots; j++ ) {
+            // find the pivot
+            int p = j;
+            double max = Math.abs(panel[j*width+j]);
+            for( int i = j+1; i < numRows; i++ ) {
+                double v = Math.abs(panel[i*width+j]);
+                if( v > max ) {
+                    p = i;
+                    max = v;
+                }
+            }
+
+            swaps[k+j] = k+p;
+            if( p != j ) {
+                int rowP = p*width;
+                int rowJ = j*width;
+                for( int c = 0; c < width; c++ ) {
+                    double t = panel[rowP+c];
+                    panel[rowP+c] = panel[rowJ+c];
+                    panel[rowJ+c] = t;
+                }
+                int t = pivot[k+p]; pivot[k+p] = pivot[k+j]; pivot[k+j] = t;
+                pivsign = -pivsign;
+            }
+
+            // compute multipliers and update the rest of the panel
+            double lujj = panel[j*width+j];
+            if( lujj == 0 )
+                continue;
+
+            for( int i = j+1; i < numRows; i++ ) {
+                int rowI = i*width;
+                double l = panel[rowI+j] /= lujj;
+                if( l != 0 ) {
+                    int rowJ = j*width;
+                    for( int c = j+1; c < width; c++ ) {
+                        panel[rowI+c] -= l*panel[rowJ+c];
+                    }
+                }
+            }
+        }
+
+        for( int i = k; i < m; i += blockLength ) {
+            int height = Math.min(blockLength,m-i);
+            System.arraycopy(panel,(i-k)*width,LU.data,i*LU.numCols + height*k,height*width);
+        }
+    }
+
+    /**
+     * Returns the decomposed matrix, which contains both L and U.
+     */
+    public BlockMatrix64F getLU() {
+        return LU;
+    }
+
+    /**
+     * Row swaps which were applied during the decomposition.  Row i was swapped with row swaps[i].
+     */
+    public int[] getSwaps() {
+        return swaps;
+    }
+
+    /**
+     * pivot[i] is the row in the original matrix which is now row i.
+     */
+    public int[] getPivot() {
+        return pivot;
+    }
+
+    @Override
+    public BlockMatrix64F getLower(BlockMatrix64F lower) {
+        int numRows = LU.numRows;
+        int numCols = Math.min(LU.numRows,LU.numCols);
+
+        if( lower == null ) {
+            lower = new BlockMatrix64F(numRows,numCols,LU.blockLength);
+        } else {
+            if( lower.numCols != numCols || lower.numRows != numRows )
+                throw new IllegalArgumentException("Unexpected matrix dimension");
+            BlockMatrixOps.set(lower,0);
+        }
+
+        for( int i = 0; i < numRows; i++ ) {
+            if( i < numCols )
+                lower.set(i,i,1.0);
+            int end = Math.min(i,numCols);
+            for( int j = 0; j < end; j++ ) {
+                lower.set(i,j,LU.get(i,j));
+            }
+        }
+
+        return lower;
+    }
+
+    @Override
+    public BlockMatrix64F getUpper(BlockMatrix64F upper) {
+        int numRows = Math.min(LU.numRows,LU.numCols);
+        int numCols = LU.numCols;
+
+        if( upper == null ) {
+            upper = new BlockMatrix64F(numRows,numCols,LU.blockLength);
+        } else {
+            if( upper.numCols != numCols || upper.numRows != numRows )
+                throw new IllegalArgumentException("Unexpected matrix dimension");
+            BlockMatrixOps.set(upper,0);
+        }
+
+        for( int i = 0; i < numRows; i++ ) {
+            for( int j = i; j < numCols; j++ ) {
+                upper.set(i,j,LU.get(i,j));
+            }
+        }
+
+        return upper;
+    }
+
+    @Override
+    public BlockMatrix64F getPivot(BlockMatrix64F pivot) {
+        DenseMatrix64F P = SpecializedOps.pivotMatrix(null,this.pivot,LU.numRows,false);
+
+        if( pivot == null )
+            return BlockMatrixOps.convert(P,LU.blockLength);
+
+        BlockMatrixOps.convert(P,pivot);
+        return pivot;
+    }
+
+    @Override
+    public boolean isSingular() {
+        int N = Math.min(LU.numRows,LU.numCols);
+        for( int i = 0; i < N; i++ ) {
+            if( Math.abs(LU.get(i,i)) < UtilEjml.EPS )
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public double computeDeterminant() {
+        if( LU.numRows != LU.numCols )
+            throw new IllegalArgumentException("Must be a square matrix.");
+
+        double ret = pivsign;
+        for( int i = 0; i < LU.numRows; i++ ) {
+            ret *= LU.get(i,i);
+        }
+        return ret;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.linsol;
+
+import org.ejml.alg.block.decomposition.chol.CholeskyOuterForm_B64;
+import org.ejml.alg.block.decomposition.lu.LUDecompositionRightLooking_B64;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D64;
+import org.ejml.data.BlockMatrix64F;
+
+
+/**
+ * <p>
+ * Extension of {@link ConditionEstimatorP1_D64} which estimates ||A<sup>-1</sup>||<sub>1</sub> from a block
+ * LU or block Cholesky decomposition.  The triangular solves traverse the matrix one block at a time so that
+ * elements inside of a block are accessed sequentially.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConditionEstimatorP1_B64 extends ConditionEstimatorP1_D64 {
+
+    // the decomposition which is currently being processed.  only one is not null
+    private LUDecompositionRightLooking_B64 lu;
+    private BlockMatrix64F cholL;
+
+    private int N;
+
+    /**
+     * Estimates the 1-norm of the inverse from its block LU decomposition.
+     *
+     * @param decomp LU decomposition of a square matrix.  Not modified.
+     * @return Estimate of ||A<sup>-1</sup>||<sub>1</sub>.  Infinity if singular.
+     */
+    public double inverseNorm( LUDecompositionRightLooking_B64 decomp ) {
+        BlockMatrix64F LU = decomp.getLU();
+        if( LU.numRows != LU.numCols )
+            throw new IllegalArgumentException("Must be a square matrix");
+        if( isSingular(LU) )
+            return Double.POSITIVE_INFINITY;
+
+        lu = decomp;
+        N = LU.numCols;
+        double ret = estimate(N);
+        lu = null;
+        return ret;
+    }
+
+    /**
+     * Estimates the 1-norm of the inverse from its block Cholesky decomposition.
+     *
+     * @param decomp Lower triangular Cholesky decomposition.  Not modified.
+     * @return Estimate of ||A<sup>-1</sup>||<sub>1</sub>.  Infinity if singular.
+     */
+    public double inverseNorm( CholeskyOuterForm_B64 decomp ) {
+        if( !decomp.isLower() )
+            throw new IllegalArgumentException("Must be a lower triangular decomposition");
+        BlockMatrix64F L = decomp.getT(null);
+        if( isSingular(L) )
+            return Double.POSITIVE_INFINITY;
+
+        cholL = L;
+        N = L.numCols;
+        double ret = estimate(N);
+        cholL = null;
+        return ret;
+    }
+
+    /**
+     * Computes the induced 1-norm, the maximum absolute column sum, of a block matrix.
+     */
+    public static double inducedP1( BlockMatrix64F A ) {
+        double max = 0;
+        for( int j = 0; j < A.numCols; j++ ) {
+            double total = 0;
+            for( int i = 0; i < A.numRows; i++ ) {
+                total += Math.abs(A.data[A.getIndex(i,j)]);
+            }
+            if( total > max )
+                max = total;
+        }
+        return max;
+    }
+
+    @Override
+    protected void solve( double x[] , boolean transpose ) {
+        if( lu != null ) {
+            if( transpose )
+                solveTranLU(x);
+            else
+                solveLU(x);
+        } else if( cholL != null ) {
+            // A is symmetric so the transpose doesn't matter
+            solveL(cholL,x,false);
+            solveTranL(cholL,x,false);
+        } else {
+            super.solve(x,transpose);
+        }
+    }
+
+    /**
+     * A = P<sup>T</sup>LU so A<sup>-1</sup>x = U<sup>-1</sup>L<sup>-1</sup>Px
+     */
+    private void solveLU( double x[] ) {
+        BlockMatrix64F LU = lu.getLU();
+        int swaps[] = lu.getSwaps();
+
+        for( int i = 0; i < N; i++ ) {
+            swap(x,i,swaps[i]);
+        }
+        solveL(LU,x,true);
+        solveU(LU,x);
+    }
+
+    /**
+     * A = P<sup>T</sup>LU so A<sup>-T</sup>x = P<sup>T</sup>L<sup>-T</sup>U<sup>-T</sup>x
+     */
+    private void solveTranLU( double x[] ) {
+        BlockMatrix64F LU = lu.getLU();
+        int swaps[] = lu.getSwaps();
+
+        solveTranU(LU,x);
+        solveTranL(LU,x,true);
+        // undo the row swaps in the reverse order that they were done in
+        for( int i = N-1; i >= 0; i-- ) {
+            swap(x,i,swaps[i]);
+        }
+    }
+
+    private void solveL( BlockMatrix64F L , double x[] , boolean unit ) {
+        for( int i = 0; i < N; i++ ) {
+            double sum = x[i] - dotRow(L,i,0,i,x);
+            x[i] = unit ? sum : sum/L.data[L.getIndex(i,i)];
+        }
+    }
+
+    private void solveTranL( BlockMatrix64F L , double x[] , boolean unit ) {
+        for( int i = N-1; i >= 0; i-- ) {
+            double sum = x[i] - dotCol(L,i,i+1,N,x);
+            x[i] = unit ? sum : sum/L.data[L.getIndex(i,i)];
+        }
+    }
+
+    private void solveU( BlockMatrix64F U , double x[] ) {
+        for( int i = N-1; i >= 0; i-- ) {
+            double sum = x[i] - dotRow(U,i,i+1,N,x);
+            x[i] = sum/U.data[U.getIndex(i,i)];
+        }
+    }
+
+    private void solveTranU( BlockMatrix64F U , double x[] ) {
+        for( int i = 0; i < N; i++ ) {
+            double sum = x[i] - dotCol(U,i,0,i,x);
+            x[i] = sum/U.data[U.getIndex(i,i)];
+        }
+    }
+
+    /**
+     * Dot product of row 'row' between columns col0 and col1 with x.  Inside of a block the row is contiguous.
+     */
+    private static double dotRow( BlockMatrix64F A , int row , int col0 , int col1 , double x[] ) {
+        int blockLength = A.blockLength;
+        int blockRow = row - row % blockLength;
+        int height = Math.min(blockLength,A.numRows-blockRow);
+
+        double total = 0;
+        for( int blockCol = col0 - col0 % blockLength; blockCol < col1; blockCol += blockLength ) {
+            int width = Math.min(blockLength,A.numCols-blockCol);
+            int index = blockRow*A.numCols + blockCol*height + (row-blockRow)*width - blockCol;
+            int end = Math.min(col1,blockCol+width);
+            for( int k = Math.max(col0,blockCol); k < end; k++ ) {
+                total += A.data[index+k]*x[k];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Dot product of column 'col' between rows row0 and row1 with x.  Inside of a block the stride is the block's width.
+     */
+    private static double dotCol( BlockMatrix64F A , int col , int row0 , int row1 , double x[] ) {
+        int blockLength = A.blockLength;
+        int blockCol = col - col % blockLength;
+        int width = Math.min(blockLength,A.numCols-blockCol);
+
+        double total = 0;
+        for( int blockRow = row0 - row0 % blockLength; blockRow < row1; blockRow += blockLength ) {
+            int height = Math.min(blockLength,A.numRows-blockRow);
+            int index = blockRow*A.numCols + blockCol*height + col-blockCol;
+            int start = Math.max(row0,blockRow);
+            int end = Math.min(row1,blockRow+height);
+            index += (start-blockRow)*width;
+            for( int k = start; k < end; k++ , index += width ) {
+                total += A.data[index]*x[k];
+            }
+        }
+        return total;
+    }
+
+    private static void swap( double x[] , int i , int j ) {
+        double t = x[i];
+        x[i] = x[j];
+        x[j] = t;
+    }
+
+    private static boolean isSingular( BlockMatrix64F T ) {
+        for( int i = 0; i < T.numCols; i++ ) {
+            if( T.data[T.getIndex(i,i)] == 0 )
+                return true;
+        }
+        return false;
+    }
+}
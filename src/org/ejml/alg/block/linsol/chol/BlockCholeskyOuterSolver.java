@@ -21,10 +21,10 @@ package org.ejml.alg.block.linsol.chol;
 import org.ejml.alg.block.BlockMatrixOps;
 import org.ejml.alg.block.BlockTriangularSolver;
 import org.ejml.alg.block.decomposition.chol.CholeskyOuterForm_B64;
+import org.ejml.alg.block.linsol.ConditionEstimatorP1_B64;
 import org.ejml.data.BlockMatrix64F;
 import org.ejml.data.D1Submatrix64F;
 import org.ejml.interfaces.linsol.LinearSolver;
-import org.ejml.ops.SpecializedOps;
 
 
 /**
@@ -49,14 +49,34 @@ import org.ejml.ops.SpecializedOps;
 public class BlockCholeskyOuterSolver implements LinearSolver<BlockMatrix64F> {
 
     // cholesky decomposition
-    private CholeskyOuterForm_B64 chol = new CholeskyOuterForm_B64(true);
+    private CholeskyOuterForm_B64 chol;
 
     // size of a block take from input matrix
     private int blockLength;
 
+    // used to estimate the condition number in quality()
+    private ConditionEstimatorP1_B64 estimator = new ConditionEstimatorP1_B64();
+    // 1-norm of the A matrix
+    private double normA1;
+
     // temporary data structure used in some calculation.
     private double temp[];
 
+    public BlockCholeskyOuterSolver() {
+        this(new CholeskyOuterForm_B64(true));
+    }
+
+    /**
+     * Specifies the decomposition which is used internally, which can be the concurrent version.
+     *
+     * @param chol Decomposition for a lower triangular matrix.
+     */
+    public BlockCholeskyOuterSolver( CholeskyOuterForm_B64 chol ) {
+        if( !chol.isLower() )
+            throw new IllegalArgumentException("Must be a lower triangular decomposition");
+        this.chol = chol;
+    }
+
     /**
      * Decomposes and overwrites the input matrix.
      *
@@ -65,6 +85,8 @@ public class BlockCholeskyOuterSolver implements LinearSolver<BlockMatrix64F> {
      */
     @Override
     public boolean setA(BlockMatrix64F A) {
+        normA1 = ConditionEstimatorP1_B64.inducedP1(A);
+
         // Extract a lower triangular solution
         if( !chol.decompose(A) )
             return false;
@@ -74,9 +96,15 @@ public class BlockCholeskyOuterSolver implements LinearSolver<BlockMatrix64F> {
         return true;
     }
 
+    /**
+     * Returns an estimate of the reciprocal 1-norm condition number, which is computed in O(n<sup>2</sup>)
+     * from the block Cholesky decomposition.
+     *
+     * @see ConditionEstimatorP1_B64
+     */
     @Override
     public double quality() {
-        return SpecializedOps.qualityTriangular(false,chol.getT(null));
+        return ConditionEstimatorP1_B64.rcond(normA1,estimator.inverseNorm(chol));
     }
 
     /**
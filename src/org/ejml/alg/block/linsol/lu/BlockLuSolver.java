@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.linsol.lu;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.block.BlockTriangularSolver;
+import org.ejml.alg.block.decomposition.lu.LUDecompositionRightLooking_B64;
+import org.ejml.alg.block.linsol.ConditionEstimatorP1_B64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.D1Submatrix64F;
+import org.ejml.interfaces.linsol.LinearSolver;
+
+
+/**
+ * <p> Linear solver for square matrices that uses a block LU decomposition. </p>
+ *
+ * <p>
+ * A = P<sup>T</sup>*L*U<br>
+ * A*x = b<br>
+ * L*y = P*b<br>
+ * U*x = y<br>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BlockLuSolver implements LinearSolver<BlockMatrix64F> {
+
+    private LUDecompositionRightLooking_B64 decomp = new LUDecompositionRightLooking_B64();
+
+    // size of a block take from input matrix
+    private int blockLength;
+
+    // used to estimate the condition number in quality()
+    private ConditionEstimatorP1_B64 estimator = new ConditionEstimatorP1_B64();
+    // 1-norm of the A matrix
+    private double normA1;
+
+    /**
+     * Decomposes and overwrites the input matrix.
+     *
+     * @param A Square matrix. Modified. Reference saved.
+     * @return true
+     */
+    @Override
+    public boolean setA(BlockMatrix64F A) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be square");
+
+        normA1 = ConditionEstimatorP1_B64.inducedP1(A);
+
+        if( !decomp.decompose(A) )
+            return false;
+
+        blockLength = A.blockLength;
+
+        return true;
+    }
+
+    /**
+     * Returns an estimate of the reciprocal 1-norm condition number, which is computed in O(n<sup>2</sup>)
+     * from the block LU decomposition.
+     *
+     * @see ConditionEstimatorP1_B64
+     */
+    @Override
+    public double quality() {
+        return ConditionEstimatorP1_B64.rcond(normA1,estimator.inverseNorm(decomp));
+    }
+
+    /**
+     * If X == null then the solution is written into B.  Otherwise the solution is copied
+     * from B into X.
+     */
+    @Override
+    public void solve(BlockMatrix64F B, BlockMatrix64F X) {
+        if( B.blockLength != blockLength )
+            throw new IllegalArgumentException("Unexpected blocklength in B.");
+
+        BlockMatrix64F LU = decomp.getLU();
+
+        if( X != null ) {
+            if( X.blockLength != blockLength )
+                throw new IllegalArgumentException("Unexpected blocklength in X.");
+            if( X.numRows != LU.numCols ) throw new IllegalArgumentException("Not enough rows in X");
+        }
+
+        if( B.numRows != LU.numRows ) throw new IllegalArgumentException("Not enough rows in B");
+
+        // apply the same row swaps to B as were applied to A
+        int swaps[] = decomp.getSwaps();
+        for( int i = 0; i < B.numRows; i++ ) {
+            BlockMatrixOps.swapRows(B,i,swaps[i],0,B.numCols);
+        }
+
+        D1Submatrix64F T = new D1Submatrix64F(LU);
+
+        // Solve for Y:  L*Y = P*B
+        BlockTriangularSolver.solveUnitL(blockLength,T,new D1Submatrix64F(B));
+
+        // U * X = Y
+        BlockTriangularSolver.solve(blockLength,true,T,new D1Submatrix64F(B),false);
+
+        if( X != null ) {
+            // copy the solution from B into X
+            BlockMatrixOps.extractAligned(B,X);
+        }
+    }
+
+    @Override
+    public void invert(BlockMatrix64F A_inv) {
+        BlockMatrix64F LU = decomp.getLU();
+        if( A_inv.numRows != LU.numRows || A_inv.numCols != LU.numCols )
+            throw new IllegalArgumentException("Unexpected number or rows and/or columns");
+        if( A_inv.blockLength != blockLength )
+            throw new IllegalArgumentException("Unexpected blocklength in A_inv.");
+        if( A_inv.data == LU.data )
+            throw new IllegalArgumentException("Passing in the same matrix that was decomposed.");
+
+        BlockMatrixOps.setIdentity(A_inv);
+        solve(A_inv,null);
+    }
+
+    /**
+     * Returns the decomposition used internally.
+     */
+    public LUDecompositionRightLooking_B64 getDecomposition() {
+        return decomp;
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomp.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return true;
+    }
+}
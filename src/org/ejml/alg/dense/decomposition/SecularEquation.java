@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition;
+
+import org.ejml.UtilEjml;
+
+
+/**
+ * <p>
+ * Finds the roots of the secular equation which is used to merge subproblems in divide and conquer
+ * eigenvalue and singular value algorithms:
+ * </p>
+ *
+ * <p>
+ * 1/&rho; + &sum;<sub>j</sub> z<sub>j</sub><sup>2</sup>/(p<sub>j</sub> - &lambda;) = 0
+ * </p>
+ *
+ * <p>
+ * where the poles p<sub>j</sub> are in ascending order, distinct, and &rho; &gt; 0.  The i<sup>th</sup> root lies
+ * between p<sub>i</sub> and p<sub>i+1</sub>, or to the right of the last pole.  For eigenvalue problems the poles
+ * are d<sub>j</sub>.  For singular value problems the poles are d<sub>j</sub><sup>2</sup>, with d<sub>j</sub>
+ * &ge; 0, and the roots are the squared singular values.
+ * </p>
+ *
+ * <p>
+ * Each root is stored as an offset from the closest pole to avoid cancellation when computing
+ * p<sub>j</sub> - &lambda;<sub>i</sub>, which is needed to compute accurate vectors.  Roots are found using a
+ * rational approximation from the two closest poles, which is safe guarded with bisection.  After the roots
+ * have been found z can be recomputed, as suggested by Gu and Eisenstat, so that the vectors are numerically
+ * orthogonal.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SecularEquation {
+
+    // maximum number of iterations used to find a root
+    private int maxIterations = 200;
+
+    // values which define the poles
+    private double d[];
+    // if true the poles are d[j]*d[j]
+    private boolean squared;
+    private double z[];
+    private double rho;
+    private int K;
+
+    // each root is stored as an offset from one of the poles
+    private int origin[] = new int[0];
+    private double tau[] = new double[0];
+
+    // work space
+    private double delta[] = new double[0];
+
+    /**
+     * Finds all the roots of the secular equation.
+     *
+     * @param d Values which define the poles.  Ascending order.  Not modified.
+     * @param z Numerators in the secular equation.  Not modified.
+     * @param K Number of poles.
+     * @param rho Scale factor.  Must be positive.
+     * @param squared If true the poles are d<sub>j</sub><sup>2</sup> instead of d<sub>j</sub>.
+     */
+    public void process( double d[] , double z[] , int K , double rho , boolean squared ) {
+        this.d = d;
+        this.z = z;
+        this.K = K;
+        this.rho = rho;
+        this.squared = squared;
+
+        if( origin.length < K ) {
+            origin = new int[K];
+            tau = new double[K];
+            delta = new double[K];
+        }
+
+        for( int i = 0; i < K; i++ ) {
+            solve(i);
+        }
+    }
+
+    /**
+     * Returns the i<sup>th</sup> root.
+     */
+    public double getRoot( int i ) {
+        return pole(origin[i]) + tau[i];
+    }
+
+    /**
+     * Computes p<sub>j</sub> - &lambda;<sub>i</sub> without cancellation.
+     */
+    public double diff( int j , int i ) {
+        return poleDiff(j,origin[i]) - tau[i];
+    }
+
+    /**
+     * Recomputes z so that it exactly corresponds to the found roots.  The sign of the original
+     * z is maintained.
+     *
+     * @param zhat (Output) the recomputed z.
+     */
+    public void recomputeZ( double zhat[] ) {
+        for( int j = 0; j < K; j++ ) {
+            double p = -diff(j,K-1)/rho;
+            for( int i = 0; i < j; i++ )
+                p *= diff(j,i)/poleDiff(j,i);
+            for( int i = j; i < K-1; i++ )
+                p *= diff(j,i)/poleDiff(j,i+1);
+            zhat[j] = Math.copySign(Math.sqrt(Math.abs(p)),z[j]);
+        }
+    }
+
+    private double pole( int j ) {
+        return squared ? d[j]*d[j] : d[j];
+    }
+
+    /**
+     * p<sub>j</sub> - p<sub>i</sub>
+     */
+    private double poleDiff( int j , int i ) {
+        if( squared )
+            return (d[j]-d[i])*(d[j]+d[i]);
+        else
+            return d[j]-d[i];
+    }
+
+    /**
+     * Finds the i<sup>th</sup> root.
+     */
+    private void solve( int i ) {
+        double lo,hi;
+        int org;
+
+        if( i == K-1 ) {
+            org = i;
+            double sumZ = 0;
+            for( int j = 0; j < K; j++ )
+                sumZ += z[j]*z[j];
+            lo = 0;
+            hi = rho*sumZ;
+        } else {
+            // see which pole the root is closer to
+            double mid = poleDiff(i+1,i)/2.0;
+            for( int j = 0; j < K; j++ )
+                delta[j] = poleDiff(j,i);
+            if( evaluate(mid) >= 0 ) {
+                org = i;
+                lo = 0;
+                hi = mid;
+            } else {
+                org = i+1;
+                lo = -mid;
+                hi = 0;
+            }
+        }
+
+        for( int j = 0; j < K; j++ )
+            delta[j] = poleDiff(j,org);
+
+        double t = (lo+hi)/2.0;
+
+        for( int iter = 0; iter < maxIterations; iter++ ) {
+            // evaluate the function and the derivatives of the two halves
+            double psi = 0, dpsi = 0, phi = 0, dphi = 0, sumAbs = 0;
+            for( int j = 0; j <= i; j++ ) {
+                double tmp = z[j]/(delta[j]-t);
+                psi += z[j]*tmp;
+                dpsi += tmp*tmp;
+                sumAbs += Math.abs(z[j]*tmp);
+            }
+            for( int j = i+1; j < K; j++ ) {
+                double tmp = z[j]/(delta[j]-t);
+                phi += z[j]*tmp;
+                dphi += tmp*tmp;
+                sumAbs += Math.abs(z[j]*tmp);
+            }
+            double g = 1.0/rho + psi + phi;
+
+            if( Math.abs(g) <= UtilEjml.EPS*K*(1.0/rho + sumAbs) )
+                break;
+
+            if( g < 0 )
+                lo = t;
+            else
+                hi = t;
+
+            if( hi-lo <= 2.0*UtilEjml.EPS*Math.max(Math.abs(lo),Math.abs(hi)) )
+                break;
+
+            // rational model which matches the function and its derivative using the two closest poles
+            double a = delta[i]-t;
+            double A = a*a*dpsi;
+            double step;
+            if( i == K-1 ) {
+                double c = g - A/a;
+                step = c > 0 ? a + A/c : Double.NaN;
+            } else {
+                double b = delta[i+1]-t;
+                double B = b*b*dphi;
+                double c = g - A/a - B/b;
+                step = rationalRoot(a,b,A,B,c);
+            }
+
+            double next = t + step;
+            if( iter >= maxIterations/4 || !(next > lo && next < hi) )
+                next = (lo+hi)/2.0;
+            if( next == t )
+                break;
+            t = next;
+        }
+
+        origin[i] = org;
+        tau[i] = t;
+    }
+
+    /**
+     * Finds the root of c + A/(a-x) + B/(b-x) = 0 which lies between a and b.  If it can't be
+     * found then NaN is returned.
+     */
+    private static double rationalRoot( double a , double b , double A , double B , double c ) {
+        double p = c*(a+b) + A + B;
+        double q = c*a*b + A*b + B*a;
+
+        if( c == 0 ) {
+            return p == 0 ? Double.NaN : q/p;
+        }
+
+        double disc = p*p - 4.0*c*q;
+        if( disc < 0 )
+            disc = 0;
+        double r1 = (p + Math.copySign(Math.sqrt(disc),p))/(2.0*c);
+        double r2 = r1 != 0 ? q/(c*r1) : Double.NaN;
+
+        if( r1 > a && r1 < b )
+            return r1;
+        if( r2 > a && r2 < b )
+            return r2;
+        return Double.NaN;
+    }
+
+    /**
+     * Evaluates the secular function at t, relative to the pole used to compute delta
+     */
+    private double evaluate( double t ) {
+        double sum = 1.0/rho;
+        for( int j = 0; j < K; j++ )
+            sum += z[j]*z[j]/(delta[j]-t);
+        return sum;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+}
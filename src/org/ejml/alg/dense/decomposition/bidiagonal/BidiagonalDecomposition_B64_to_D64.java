@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.bidiagonal;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.block.decomposition.bidiagonal.BidiagonalDecompositionHouseholder_B64;
+import org.ejml.alg.dense.decomposition.BaseDecomposition_B64_to_D64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition;
+
+
+/**
+ * Wrapper around a block implementation of BidiagonalDecomposition
+ *
+ * @author Peter Abeles
+ */
+public class BidiagonalDecomposition_B64_to_D64
+        extends BaseDecomposition_B64_to_D64
+        implements BidiagonalDecomposition<DenseMatrix64F> {
+
+    public BidiagonalDecomposition_B64_to_D64() {
+        this(EjmlParameters.BLOCK_WIDTH);
+    }
+
+    public BidiagonalDecomposition_B64_to_D64(int blockSize) {
+        super(new BidiagonalDecompositionHouseholder_B64(),blockSize);
+    }
+
+    @Override
+    public DenseMatrix64F getB(DenseMatrix64F B, boolean compact) {
+        int m = Ablock.numRows;
+        int n = Ablock.numCols;
+        int min = Math.min(m,n);
+
+        B = BidiagonalDecompositionRow_D64.handleB(B,compact,m,n,min);
+
+        B.unsafe_set(0,0,Ablock.get(0,0));
+        for( int i = 1; i < min; i++ ) {
+            B.unsafe_set(i,i,Ablock.get(i,i));
+            B.unsafe_set(i-1,i,Ablock.get(i-1,i));
+        }
+        if( n > m )
+            B.unsafe_set(min-1,min,Ablock.get(min-1,min));
+
+        return B;
+    }
+
+    @Override
+    public DenseMatrix64F getU(DenseMatrix64F U, boolean transpose, boolean compact) {
+        int m = Ablock.numRows;
+        int n = Ablock.numCols;
+
+        U = BidiagonalDecompositionRow_D64.handleU(U,transpose,compact,m,n,Math.min(m,n));
+
+        BlockMatrix64F Ublock = wrap(U);
+        ((BidiagonalDecompositionHouseholder_B64)alg).getU(Ublock,transpose,compact);
+        convertBlockToRow(U.numRows,U.numCols,Ablock.blockLength,U.data);
+
+        return U;
+    }
+
+    @Override
+    public DenseMatrix64F getV(DenseMatrix64F V, boolean transpose, boolean compact) {
+        int m = Ablock.numRows;
+        int n = Ablock.numCols;
+
+        V = BidiagonalDecompositionRow_D64.handleV(V,transpose,compact,m,n,Math.min(m,n));
+
+        BlockMatrix64F Vblock = wrap(V);
+        ((BidiagonalDecompositionHouseholder_B64)alg).getV(Vblock,transpose,compact);
+        convertBlockToRow(V.numRows,V.numCols,Ablock.blockLength,V.data);
+
+        return V;
+    }
+
+    private BlockMatrix64F wrap( DenseMatrix64F M ) {
+        BlockMatrix64F Mblock = new BlockMatrix64F();
+        Mblock.numRows =  M.numRows;
+        Mblock.numCols =  M.numCols;
+        Mblock.blockLength = blockLength;
+        Mblock.data = M.data;
+        return Mblock;
+    }
+
+    @Override
+    public void getDiagonal(double[] diag, double[] off) {
+        ((BidiagonalDecompositionHouseholder_B64)alg).getDiagonal(diag,off);
+    }
+}
@@ -37,7 +37,16 @@ public class CholeskyDecomposition_B64_to_D64
         extends BaseDecomposition_B64_to_D64 implements CholeskyDecomposition<DenseMatrix64F> {
 
     public CholeskyDecomposition_B64_to_D64(boolean lower) {
-        super(new CholeskyOuterForm_B64(lower), EjmlParameters.BLOCK_WIDTH);
+        this(new CholeskyOuterForm_B64(lower));
+    }
+
+    /**
+     * Wraps the provided block decomposition, which can be the concurrent version.
+     *
+     * @param alg The block Cholesky decomposition.
+     */
+    public CholeskyDecomposition_B64_to_D64( CholeskyOuterForm_B64 alg ) {
+        super(alg, EjmlParameters.BLOCK_WIDTH);
     }
 
     @Override
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.chol;
+
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * Modifies a Cholesky decomposition after a rank-1 change to the decomposed matrix, which is much faster
+ * than decomposing the matrix again.  Both operations require O(n<sup>2</sup>) operations.<br>
+ * <br>
+ * update: A + x*x<sup>T</sup><br>
+ * downdate: A - x*x<sup>T</sup><br>
+ * <br>
+ * Works with either lower triangular, A = L*L<sup>T</sup>, or upper triangular, A = R<sup>T</sup>*R, factors
+ * such as those returned by {@link org.ejml.interfaces.decomposition.CholeskyDecomposition#getT}.  Only the
+ * triangular portion of the factor is read or modified.
+ * </p>
+ *
+ * <p>
+ * Updates are computed by applying a sequence of Givens rotations.  Downdates use the method from LINPACK's
+ * DCHDD, which first checks to see if the modified matrix is positive definite and leaves the factor
+ * unmodified if it is not.  See, Golub and Van Loan, "Matrix Computations" 3rd ed. section 12.5.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyUpdate_D64 {
+
+    // work space
+    private double w[] = new double[1];
+    private double c[] = new double[1];
+    private double s[] = new double[1];
+
+    /**
+     * Modifies the factor so that it is the decomposition of A + x*x<sup>T</sup>.
+     *
+     * @param T Cholesky factor of A. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param x Vector with T.numRows elements. Not modified.
+     */
+    public void update( DenseMatrix64F T , boolean lower , double x[] ) {
+        int n = init(T,x);
+        double t[] = T.data;
+
+        // element (i,k) of the lower triangular factor is t[i*strideRow + k*strideCol]
+        int strideRow = lower ? n : 1;
+        int strideCol = lower ? 1 : n;
+
+        System.arraycopy(x,0,w,0,n);
+
+        for( int k = 0; k < n; k++ ) {
+            int indexKK = k*strideRow + k*strideCol;
+            double l_kk = t[indexKK];
+            double w_k = w[k];
+
+            double r = Math.sqrt(l_kk*l_kk + w_k*w_k);
+            double cos = r/l_kk;
+            double sin = w_k/l_kk;
+            t[indexKK] = r;
+
+            int index = indexKK;
+            for( int i = k+1; i < n; i++ ) {
+                index += strideRow;
+                double l_ik = (t[index] + sin*w[i])/cos;
+                t[index] = l_ik;
+                w[i] = cos*w[i] - sin*l_ik;
+            }
+        }
+    }
+
+    /**
+     * Modifies the factor so that it is the decomposition of A - x*x<sup>T</sup>.  If the modified
+     * matrix is not positive definite then false is returned and the factor is not modified.
+     *
+     * @param T Cholesky factor of A. Modified.
+     * @param lower true if T is lower triangular or false if upper triangular.
+     * @param x Vector with T.numRows elements. Not modified.
+     * @return true if successful or false if the result is not positive definite.
+     */
+    public boolean downdate( DenseMatrix64F T , boolean lower , double x[] ) {
+        int n = init(T,x);
+        double t[] = T.data;
+
+        int strideRow = lower ? n : 1;
+        int strideCol = lower ? 1 : n;
+
+        // solve L*p = x
+        for( int i = 0; i < n; i++ ) {
+            double sum = x[i];
+            int index = i*strideRow;
+            for( int k = 0; k < i; k++ ) {
+                sum -= t[index]*w[k];
+                index += strideCol;
+            }
+            w[i] = sum/t[index];
+        }
+
+        double norm2 = 0;
+        for( int i = 0; i < n; i++ )
+            norm2 += w[i]*w[i];
+        if( norm2 >= 1.0 )
+            return false;
+
+        // rotations which zero p against alpha = sqrt(1 - |p|^2)
+        double alpha = Math.sqrt(1.0 - norm2);
+        for( int i = n-1; i >= 0; i-- ) {
+            double scale = alpha + Math.abs(w[i]);
+            double a = alpha/scale;
+            double b = w[i]/scale;
+            double norm = scale*Math.sqrt(a*a + b*b);
+            c[i] = alpha/norm;
+            s[i] = w[i]/norm;
+            alpha = norm;
+        }
+
+        // apply the rotations to each row of L
+        for( int j = 0; j < n; j++ ) {
+            double xx = 0;
+            int index = j*strideRow + j*strideCol;
+            for( int i = j; i >= 0; i-- ) {
+                double l_ji = t[index];
+                double tmp = c[i]*xx + s[i]*l_ji;
+                t[index] = c[i]*l_ji - s[i]*xx;
+                xx = tmp;
+                index -= strideCol;
+            }
+        }
+
+        return true;
+    }
+
+    private int init( DenseMatrix64F T , double x[] ) {
+        if( T.numRows != T.numCols )
+            throw new IllegalArgumentException("T must be square");
+        int n = T.numRows;
+        if( x.length < n )
+            throw new IllegalArgumentException("x must have at least as many elements as T has rows");
+
+        if( w.length < n ) {
+            w = new double[ n ];
+            c = new double[ n ];
+            s = new double[ n ];
+        }
+        return n;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.eig;
+
+import org.ejml.alg.dense.decomposition.eig.symm.SymmetricQREigenHelper;
+import org.ejml.alg.dense.decomposition.eig.symm.SymmetricQrAlgorithm;
+import org.ejml.alg.dense.decomposition.eig.symm.SymmetricTridiagonalDivideConquer;
+import org.ejml.data.Complex64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.DecompositionFactory;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.interfaces.decomposition.TridiagonalSimilarDecomposition;
+import org.ejml.ops.CommonOps;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a real symmetric matrix using the divide and conquer algorithm.
+ * The matrix is first reduced to a similar tridiagonal matrix, then the eigen decomposition of the tridiagonal
+ * matrix is found using {@link SymmetricTridiagonalDivideConquer}.  For large matrices this is much faster than
+ * {@link SymmetricQRAlgorithmDecomposition_D64} since the eigenvectors are computed with matrix multiplications
+ * instead of by applying each rotation individually.  Eigenvalues are returned in ascending order.
+ * </p>
+ *
+ * <p>
+ * If eigenvectors are not requested then the eigenvalues are found using the symmetric QR algorithm, which is
+ * faster in that case.
+ * </p>
+ *
+ * @see SymmetricTridiagonalDivideConquer
+ * @see org.ejml.alg.dense.decomposition.hessenberg.TridiagonalDecompositionHouseholder_D64
+ *
+ * @author Peter Abeles
+ */
+public class SymmetricDivideConquerDecomposition_D64
+        implements EigenDecomposition<DenseMatrix64F> {
+
+    // computes a tridiagonal matrix whose eigenvalues are the same as the original
+    private TridiagonalSimilarDecomposition<DenseMatrix64F> decomp;
+
+    // computes the eigenvalues and eigenvectors of the tridiagonal matrix
+    private SymmetricTridiagonalDivideConquer divide = new SymmetricTridiagonalDivideConquer();
+
+    // used when only eigenvalues are needed
+    private SymmetricQREigenHelper helper = new SymmetricQREigenHelper();
+    private SymmetricQrAlgorithm valueAlg = new SymmetricQrAlgorithm(helper);
+
+    // where the tridiagonal matrix is stored
+    private double diag[];
+    private double off[];
+
+    // where the found eigenvalues are stored
+    private double values[];
+
+    // eigenvectors of the tridiagonal matrix and the original matrix
+    private DenseMatrix64F eigenT = new DenseMatrix64F(1,1);
+    private DenseMatrix64F V;
+    private DenseMatrix64F W = new DenseMatrix64F(1,1);
+
+    // the extracted eigenvectors
+    private DenseMatrix64F eigenvectors[];
+
+    // should it compute eigenvectors or just eigenvalues
+    private boolean computeVectors;
+
+    private int N;
+
+    public SymmetricDivideConquerDecomposition_D64(TridiagonalSimilarDecomposition<DenseMatrix64F> decomp,
+                                                   boolean computeVectors) {
+        this.decomp = decomp;
+        this.computeVectors = computeVectors;
+    }
+
+    public SymmetricDivideConquerDecomposition_D64(boolean computeVectors) {
+        this(DecompositionFactory.tridiagonal(0),computeVectors);
+    }
+
+    /**
+     * Provides access to the tridiagonal solver so that it can be configured.
+     */
+    public SymmetricTridiagonalDivideConquer getDivideConquer() {
+        return divide;
+    }
+
+    @Override
+    public int getNumberOfEigenvalues() {
+        return N;
+    }
+
+    @Override
+    public Complex64F getEigenvalue(int index) {
+        return new Complex64F(values[index],0);
+    }
+
+    @Override
+    public DenseMatrix64F getEigenVector(int index) {
+        return eigenvectors[index];
+    }
+
+    /**
+     * Decomposes the matrix.
+     *
+     * @param orig The matrix which is being decomposed.  Not modified.
+     * @return true if it decomposed the matrix or false if an error was detected.
+     */
+    @Override
+    public boolean decompose(DenseMatrix64F orig) {
+        if( orig.numCols != orig.numRows )
+            throw new IllegalArgumentException("Matrix must be square.");
+
+        N = orig.numRows;
+
+        // compute a similar tridiagonal matrix
+        if( !decomp.decompose(orig) )
+            return false;
+
+        if( diag == null || diag.length < N) {
+            diag = new double[N];
+            off = new double[Math.max(1,N-1)];
+            values = new double[N];
+        }
+        decomp.getDiagonal(diag,off);
+
+        if( !computeVectors ) {
+            valueAlg.setQ(null);
+            valueAlg.setFastEigenvalues(true);
+
+            if( !valueAlg.process(N,diag,off) )
+                return false;
+
+            // the QR algorithm doesn't sort its eigenvalues
+            values = helper.copyEigenvalues(values);
+            Arrays.sort(values,0,N);
+            return true;
+        }
+
+        if( !divide.process(N,diag,off,values,eigenT) )
+            return false;
+
+        // eigenvectors of the original matrix are Q*eigenT
+        V = decomp.getQ(V,false);
+        W.reshape(N,N,false);
+        CommonOps.mult(V,eigenT,W);
+
+        eigenvectors = CommonOps.columnsToVector(W,eigenvectors);
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return decomp.inputModified();
+    }
+}
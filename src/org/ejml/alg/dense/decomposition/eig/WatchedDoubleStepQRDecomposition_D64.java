@@ -24,6 +24,7 @@ import org.ejml.alg.dense.decomposition.hessenberg.HessenbergSimilarDecompositio
 import org.ejml.data.Complex64F;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.interfaces.decomposition.HessenbergSimilarDecomposition;
 
 
 /**
@@ -44,7 +45,7 @@ import org.ejml.interfaces.decomposition.EigenDecomposition;
 public class WatchedDoubleStepQRDecomposition_D64
         implements EigenDecomposition<DenseMatrix64F> {
 
-    HessenbergSimilarDecomposition_D64 hessenberg;
+    HessenbergSimilarDecomposition<DenseMatrix64F> hessenberg;
     WatchedDoubleStepQREigenvalue algValue;
     WatchedDoubleStepQREigenvector algVector;
 
@@ -54,7 +55,18 @@ public class WatchedDoubleStepQRDecomposition_D64
     boolean computeVectors;
 
     public WatchedDoubleStepQRDecomposition_D64(boolean computeVectors) {
-        hessenberg = new HessenbergSimilarDecomposition_D64(10);
+        this(new HessenbergSimilarDecomposition_D64(10),computeVectors);
+    }
+
+    /**
+     * Specifies which algorithm is used to reduce the matrix into Hessenberg form.
+     *
+     * @param hessenberg Hessenberg similar decomposition.
+     * @param computeVectors Should it compute eigenvectors or just eigenvalues.
+     */
+    public WatchedDoubleStepQRDecomposition_D64( HessenbergSimilarDecomposition<DenseMatrix64F> hessenberg ,
+                                                 boolean computeVectors ) {
+        this.hessenberg = hessenberg;
         algValue = new WatchedDoubleStepQREigenvalue();
         algVector = new WatchedDoubleStepQREigenvector();
 
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.eig.symm;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.alg.dense.decomposition.SecularEquation;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Computes the eigenvalues and eigenvectors of a symmetric tridiagonal matrix using Cuppen's divide and
+ * conquer algorithm.  The matrix is split in half by a rank-one tear:
+ * </p>
+ *
+ * <p>
+ * T = [T<sub>1</sub> 0;0 T<sub>2</sub>] + &beta; v v<sup>T</sup>
+ * </p>
+ *
+ * <p>
+ * where &beta; is the off diagonal element where the split occurs.  Each half is solved recursively and the
+ * results merged by finding the roots of the secular equation for D + &rho; z z<sup>T</sup>.  Small
+ * subproblems are solved using {@link SymmetricQrAlgorithm}.  Eigenvalues which can be deflated are removed
+ * from the secular equation and the remaining eigenvectors are computed from a recomputed z, as suggested
+ * by Gu and Eisenstat, so that they are numerically orthogonal.  When {@link EjmlParameters#CONCURRENT} is true
+ * the two halves of large subproblems are solved in parallel.
+ * </p>
+ *
+ * <p>
+ * Most of the computation is in the matrix multiplication which combines eigenvectors of the subproblems
+ * with those of the secular equation.  This is done with {@link CommonOps#mult} and benefits from its
+ * cache friendly algorithms.
+ * </p>
+ *
+ * <p>
+ * Based on the description in:<br>
+ * James W. Demmel, "Applied Numerical Linear Algebra", SIAM 1997, Section 5.3.3<br>
+ * Ming Gu and Stanley C. Eisenstat, "A Divide-and-Conquer Algorithm for the Symmetric Tridiagonal
+ * Eigenproblem", SIAM J. Matrix Anal. Appl. 1995
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SymmetricTridiagonalDivideConquer {
+
+    // subproblems which are this size or smaller are solved using the QR algorithm
+    private int minimumSize = 25;
+
+    // subproblems which are this size or larger solve their two halves in parallel
+    private int concurrentSize = 200;
+
+    /**
+     * Subproblems which have this many or fewer rows and columns are solved using the QR algorithm.
+     *
+     * @param minimumSize Size of the smallest subproblem.  Must be at least 2.
+     */
+    public void setMinimumSize(int minimumSize) {
+        if( minimumSize < 2 )
+            throw new IllegalArgumentException("Minimum size must be at least 2");
+        this.minimumSize = minimumSize;
+    }
+
+    public int getMinimumSize() {
+        return minimumSize;
+    }
+
+    /**
+     * Subproblems which are this large or larger process their two halves in different threads if
+     * {@link EjmlParameters#CONCURRENT} is true.
+     */
+    public void setConcurrentSize(int concurrentSize) {
+        this.concurrentSize = concurrentSize;
+    }
+
+    /**
+     * Computes the eigenvalues and eigenvectors of the tridiagonal matrix.
+     *
+     * @param N Number of rows and columns in the matrix.
+     * @param diag Diagonal elements. Not modified.
+     * @param off Off diagonal elements. Not modified.
+     * @param values (Output) The eigenvalues in ascending order.  Must be at least N long.
+     * @param Q (Output) Eigenvectors stored in the columns in the same order as the eigenvalues.  Reshaped.
+     * @return true if successful or false if the QR algorithm failed on a subproblem.
+     */
+    public boolean process( int N , double diag[] , double off[] ,
+                            double values[] , DenseMatrix64F Q )
+    {
+        if( values.length < N )
+            throw new IllegalArgumentException("values must be at least N long");
+
+        Q.reshape(N,N,false);
+        if( N == 0 )
+            return true;
+
+        double d[] = Arrays.copyOf(diag,N);
+        double e[] = Arrays.copyOf(off,Math.max(0,N-1));
+
+        // scale the matrix to avoid overflow and underflow
+        double scale = 0;
+        for( int i = 0; i < d.length; i++ )
+            scale = Math.max(scale,Math.abs(d[i]));
+        for( int i = 0; i < e.length; i++ )
+            scale = Math.max(scale,Math.abs(e[i]));
+        if( scale == 0 )
+            scale = 1;
+        for( int i = 0; i < d.length; i++ )
+            d[i] /= scale;
+        for( int i = 0; i < e.length; i++ )
+            e[i] /= scale;
+
+        if( !solve(N,d,e,values,Q) )
+            return false;
+
+        for( int i = 0; i < N; i++ )
+            values[i] *= scale;
+
+        return true;
+    }
+
+    /**
+     * Recursively computes the eigen decomposition.  d and e are modified.
+     */
+    private boolean solve( int N , double d[] , double e[] , double values[] , DenseMatrix64F Q ) {
+        if( N <= minimumSize )
+            return solveQr(N,d,e,values,Q);
+
+        final int m = N/2;
+        double beta = e[m-1];
+
+        // remove the rank-one portion so that the two halves are independent
+        d[m-1] -= beta;
+        d[m] -= beta;
+
+        final double d1[] = Arrays.copyOfRange(d,0,m);
+        final double e1[] = Arrays.copyOfRange(e,0,m-1);
+        final double d2[] = Arrays.copyOfRange(d,m,N);
+        final double e2[] = Arrays.copyOfRange(e,m,N-1);
+
+        final double values1[] = new double[m];
+        final double values2[] = new double[N-m];
+        final DenseMatrix64F Q1 = new DenseMatrix64F(m,m);
+        final DenseMatrix64F Q2 = new DenseMatrix64F(N-m,N-m);
+
+        final boolean success[] = new boolean[2];
+
+        EjmlConcurrency.BlockTask task = new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                for( int i = start; i < end; i++ ) {
+                    if( i == 0 )
+                        success[0] = solve(m,d1,e1,values1,Q1);
+                    else
+                        success[1] = solve(d2.length,d2,e2,values2,Q2);
+                }
+            }
+        };
+
+        if( EjmlParameters.CONCURRENT && N >= concurrentSize ) {
+            EjmlConcurrency.process(0,2,1,task);
+        } else {
+            task.process(0,2);
+        }
+
+        if( !success[0] || !success[1] )
+            return false;
+
+        merge(beta, values1, Q1, values2, Q2, values, Q);
+        return true;
+    }
+
+    /**
+     * Uses the QR algorithm to solve small problems
+     */
+    private boolean solveQr( int N , double d[] , double e[] , double values[] , DenseMatrix64F Q ) {
+        SymmetricQREigenHelper helper = new SymmetricQREigenHelper();
+        SymmetricQrAlgorithm alg = new SymmetricQrAlgorithm(helper);
+
+        // the QR algorithm stores eigenvectors in the rows of Q
+        DenseMatrix64F Qt = CommonOps.identity(N);
+        helper.init(d,e,N);
+        helper.setQ(Qt);
+        alg.setFastEigenvalues(false);
+
+        if( !alg.process(-1,null,null) )
+            return false;
+
+        double found[] = helper.copyEigenvalues(null);
+
+        // sort into ascending order
+        int order[] = sortedOrder(found,N);
+        Q.reshape(N,N,false);
+        for( int i = 0; i < N; i++ ) {
+            int src = order[i];
+            values[i] = found[src];
+            for( int j = 0; j < N; j++ ) {
+                Q.data[j*N+i] = Qt.data[src*N+j];
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the eigen decomposition of [Q1 0;0 Q2]*(D + rho z z<sup>T</sup>)*[Q1 0;0 Q2]<sup>T</sup>
+     * from the two solved subproblems.
+     */
+    private void merge( double beta ,
+                        double values1[] , DenseMatrix64F Q1 ,
+                        double values2[] , DenseMatrix64F Q2 ,
+                        double values[] , DenseMatrix64F Q )
+    {
+        int m = values1.length;
+        int N = m + values2.length;
+
+        // eigenvectors of the block diagonal matrix
+        DenseMatrix64F W = new DenseMatrix64F(N,N);
+        CommonOps.insert(Q1,W,0,0);
+        CommonOps.insert(Q2,W,m,m);
+
+        // z is the last row of Q1 and the first row of Q2
+        double z[] = new double[N];
+        double dd[] = new double[N];
+        System.arraycopy(values1,0,dd,0,m);
+        System.arraycopy(values2,0,dd,m,N-m);
+        System.arraycopy(Q1.data,(m-1)*m,z,0,m);
+        System.arraycopy(Q2.data,0,z,m,N-m);
+
+        // make z a unit vector
+        double normZ = 0;
+        for( int i = 0; i < N; i++ )
+            normZ += z[i]*z[i];
+        normZ = Math.sqrt(normZ);
+        for( int i = 0; i < N; i++ )
+            z[i] /= normZ;
+        double rho = beta*normZ*normZ;
+
+        // the secular equation solver assumes rho is positive.  eigenvalues of D + rho z z'
+        // are the negative of -D - rho z z'
+        boolean negate = rho < 0;
+        if( negate ) {
+            rho = -rho;
+            for( int i = 0; i < N; i++ )
+                dd[i] = -dd[i];
+        }
+
+        // sort so that d is in ascending order.  colIndex references the eigenvector in W
+        int colIndex[] = sortedOrder(dd,N);
+        double d[] = new double[N];
+        double zs[] = new double[N];
+        double maxD = 0;
+        for( int i = 0; i < N; i++ ) {
+            d[i] = dd[colIndex[i]];
+            zs[i] = z[colIndex[i]];
+            maxD = Math.max(maxD,Math.abs(d[i]));
+        }
+
+        double tol = 8.0*UtilEjml.EPS*Math.max(maxD,rho);
+
+        // which blocks each column in W has non-zero elements in.  1 = upper, 2 = lower, 3 = both
+        int blocks[] = new int[N];
+        for( int i = 0; i < N; i++ )
+            blocks[i] = i < m ? 1 : 2;
+
+        // ------- Deflation
+        // output eigenvalues and the columns they are stored in
+        double found[] = new double[N];
+        int foundCol[] = new int[N];
+        int numFound = 0;
+
+        // eigenvalues which remain in the secular equation
+        int secular[] = new int[N];
+        int numSecular = 0;
+
+        int prev = -1;
+        for( int k = 0; k < N; k++ ) {
+            if( rho*Math.abs(zs[k]) <= tol ) {
+                found[numFound] = d[k];
+                foundCol[numFound++] = colIndex[k];
+                continue;
+            }
+            if( prev == -1 ) {
+                prev = k;
+                continue;
+            }
+
+            // see if the two eigenvalues are close enough that a rotation can zero one of the z elements
+            double r = Math.sqrt(zs[prev]*zs[prev] + zs[k]*zs[k]);
+            double c = zs[k]/r;
+            double s = zs[prev]/r;
+
+            if( Math.abs(c*s*(d[prev]-d[k])) <= tol ) {
+                rotateColumns(W,colIndex[prev],colIndex[k],c,s);
+                blocks[colIndex[prev]] = blocks[colIndex[k]] = blocks[colIndex[prev]] | blocks[colIndex[k]];
+
+                double dp = c*c*d[prev] + s*s*d[k];
+                d[k] = s*s*d[prev] + c*c*d[k];
+                zs[k] = r;
+                zs[prev] = 0;
+
+                found[numFound] = dp;
+                foundCol[numFound++] = colIndex[prev];
+            } else {
+                secular[numSecular++] = prev;
+            }
+            prev = k;
+        }
+        if( prev != -1 )
+            secular[numSecular++] = prev;
+
+        // ------- Solve the secular equation for the remaining eigenvalues
+        int K = numSecular;
+        double dk[] = new double[K];
+        double zk[] = new double[K];
+        for( int i = 0; i < K; i++ ) {
+            dk[i] = d[secular[i]];
+            zk[i] = zs[secular[i]];
+        }
+
+        SecularEquation secularEq = new SecularEquation();
+        secularEq.process(dk,zk,K,rho,false);
+
+        // ------- Compute the eigenvectors of D + rho z z'
+        if( K > 0 ) {
+            // recompute z so that it exactly corresponds to the found eigenvalues
+            double zhat[] = new double[K];
+            secularEq.recomputeZ(zhat);
+
+            DenseMatrix64F U = new DenseMatrix64F(K,K);
+            for( int i = 0; i < K; i++ ) {
+                double norm = 0;
+                for( int j = 0; j < K; j++ ) {
+                    double v = zhat[j]/secularEq.diff(j,i);
+                    U.data[j*K+i] = v;
+                    norm += v*v;
+                }
+                norm = Math.sqrt(norm);
+                for( int j = 0; j < K; j++ )
+                    U.data[j*K+i] /= norm;
+            }
+
+            // eigenvectors of the merged matrix are W(:,secular)*U.  Unless a deflation rotation mixed them,
+            // the columns of W are only non-zero in the upper or lower block, which is taken advantage of
+            DenseMatrix64F V = new DenseMatrix64F(N,K);
+            multBlock(W,U,colIndex,secular,blocks,1,0,m,V);
+            multBlock(W,U,colIndex,secular,blocks,2,m,N,V);
+
+            // write the results back into the columns of W which were used by the secular equation
+            for( int i = 0; i < K; i++ ) {
+                int col = colIndex[secular[i]];
+                for( int row = 0; row < N; row++ ) {
+                    W.data[row*N+col] = V.data[row*K+i];
+                }
+                found[numFound] = secularEq.getRoot(i);
+                foundCol[numFound++] = col;
+            }
+        }
+
+        if( negate ) {
+            for( int i = 0; i < N; i++ )
+                found[i] = -found[i];
+        }
+
+        // ------- Sort the eigenvalues and eigenvectors into ascending order
+        int order[] = sortedOrder(found,N);
+        Q.reshape(N,N,false);
+        for( int i = 0; i < N; i++ ) {
+            values[i] = found[order[i]];
+            int col = foundCol[order[i]];
+            for( int row = 0; row < N; row++ ) {
+                Q.data[row*N+i] = W.data[row*N+col];
+            }
+        }
+    }
+
+    /**
+     * Computes rows row0 to row1 of W(:,secular)*U using only the columns in W which have non-zero
+     * elements in those rows.
+     */
+    private static void multBlock( DenseMatrix64F W , DenseMatrix64F U ,
+                                   int colIndex[] , int secular[] , int blocks[] , int block ,
+                                   int row0 , int row1 , DenseMatrix64F V )
+    {
+        int N = W.numCols;
+        int K = U.numCols;
+
+        int used[] = new int[K];
+        int numUsed = 0;
+        for( int i = 0; i < K; i++ ) {
+            if( (blocks[colIndex[secular[i]]] & block) != 0 )
+                used[numUsed++] = i;
+        }
+
+        // if no columns are used then those rows are zero, which V already is
+        int rows = row1-row0;
+        if( rows == 0 || numUsed == 0 )
+            return;
+
+        DenseMatrix64F Wb = new DenseMatrix64F(rows,numUsed);
+        DenseMatrix64F Ub = new DenseMatrix64F(numUsed,K);
+        for( int row = 0; row < rows; row++ ) {
+            int indexW = (row+row0)*N;
+            for( int i = 0; i < numUsed; i++ ) {
+                Wb.data[row*numUsed+i] = W.data[indexW+colIndex[secular[used[i]]]];
+            }
+        }
+        for( int i = 0; i < numUsed; i++ ) {
+            System.arraycopy(U.data,used[i]*K,Ub.data,i*K,K);
+        }
+
+        DenseMatrix64F Vb = new DenseMatrix64F(rows,K);
+        CommonOps.mult(Wb,Ub,Vb);
+        System.arraycopy(Vb.data,0,V.data,row0*K,rows*K);
+    }
+
+    /**
+     * Applies a Givens rotation to columns i and j.
+     */
+    private static void rotateColumns( DenseMatrix64F W , int i , int j , double c , double s ) {
+        int N = W.numCols;
+        for( int row = 0; row < W.numRows; row++ ) {
+            double wi = W.data[row*N+i];
+            double wj = W.data[row*N+j];
+            W.data[row*N+i] = c*wi - s*wj;
+            W.data[row*N+j] = s*wi + c*wj;
+        }
+    }
+
+    /**
+     * Returns the indexes of the first N elements sorted so that the values are in ascending order
+     */
+    private static int[] sortedOrder( double values[] , int N ) {
+        Integer order[] = new Integer[N];
+        for( int i = 0; i < N; i++ )
+            order[i] = i;
+        final double v[] = values;
+        Arrays.sort(order,new java.util.Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Double.compare(v[o1],v[o2]);
+            }
+        });
+        int ret[] = new int[N];
+        for( int i = 0; i < N; i++ )
+            ret[i] = order[i];
+        return ret;
+    }
+}
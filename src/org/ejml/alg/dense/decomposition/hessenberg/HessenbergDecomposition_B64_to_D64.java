@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.hessenberg;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.block.decomposition.hessenberg.HessenbergDecompositionHouseholder_B64;
+import org.ejml.alg.dense.decomposition.BaseDecomposition_B64_to_D64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.HessenbergSimilarDecomposition;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * Wrapper around a block implementation of HessenbergSimilarDecomposition
+ *
+ * @author Peter Abeles
+ */
+public class HessenbergDecomposition_B64_to_D64
+        extends BaseDecomposition_B64_to_D64
+        implements HessenbergSimilarDecomposition<DenseMatrix64F> {
+
+
+    public HessenbergDecomposition_B64_to_D64() {
+        this(EjmlParameters.BLOCK_WIDTH);
+    }
+
+    public HessenbergDecomposition_B64_to_D64(int blockSize) {
+        super(new HessenbergDecompositionHouseholder_B64(),blockSize);
+    }
+
+    @Override
+    public DenseMatrix64F getH(DenseMatrix64F H) {
+        int N = Ablock.numRows;
+
+        if( H == null ) {
+            H = new DenseMatrix64F(N,N);
+        } else {
+            if( H.numRows != N || H.numCols != N )
+                throw new IllegalArgumentException("H must have the same dimensions as the input matrix");
+
+            CommonOps.fill(H, 0);
+        }
+
+        for( int i = 0; i < N; i++ ) {
+            for( int j = Math.max(0,i-1); j < N; j++ ) {
+                H.unsafe_set(i,j,Ablock.get(i,j));
+            }
+        }
+
+        return H;
+    }
+
+    @Override
+    public DenseMatrix64F getQ(DenseMatrix64F Q) {
+        if( Q == null ) {
+            Q = new DenseMatrix64F(Ablock.numRows,Ablock.numCols);
+        }
+
+        BlockMatrix64F Qblock = new BlockMatrix64F();
+        Qblock.numRows =  Q.numRows;
+        Qblock.numCols =  Q.numCols;
+        Qblock.blockLength = blockLength;
+        Qblock.data = Q.data;
+
+        ((HessenbergDecompositionHouseholder_B64)alg).getQ(Qblock);
+
+        convertBlockToRow(Q.numRows,Q.numCols,Ablock.blockLength,Q.data);
+
+        return Q;
+    }
+}
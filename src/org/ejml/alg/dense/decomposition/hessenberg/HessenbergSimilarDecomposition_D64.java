@@ -20,7 +20,7 @@ package org.ejml.alg.dense.decomposition.hessenberg;
 
 import org.ejml.alg.dense.decomposition.qr.QrHelperFunctions;
 import org.ejml.data.DenseMatrix64F;
-import org.ejml.interfaces.decomposition.DecompositionInterface;
+import org.ejml.interfaces.decomposition.HessenbergSimilarDecomposition;
 import org.ejml.ops.CommonOps;
 
 /**
@@ -42,11 +42,11 @@ import org.ejml.ops.CommonOps;
  * <p>
  * This decomposition is primarily used as a step for computing the eigenvalue decomposition of a matrix.
  * The basic algorithm comes from David S. Watkins, "Fundamentals of MatrixComputations" Second Edition.
+ * For large matrices see {@link org.ejml.alg.block.decomposition.hessenberg.HessenbergDecompositionHouseholder_B64}.
  * </p>
  */
-// TODO create a column based one similar to what was done for QR decomposition?
 public class HessenbergSimilarDecomposition_D64
-        implements DecompositionInterface<DenseMatrix64F> {
+        implements HessenbergSimilarDecomposition<DenseMatrix64F> {
     // A combined matrix that stores te upper Hessenberg matrix and the orthogonal matrix.
     private DenseMatrix64F QH;
     // number of rows and columns of the matrix being decompose
@@ -118,6 +118,7 @@ public class HessenbergSimilarDecomposition_D64
      * @param H If not null then the results will be stored here.  Otherwise a new matrix will be created.
      * @return The extracted H matrix.
      */
+    @Override
     public DenseMatrix64F getH( DenseMatrix64F H ) {
         if( H == null ) {
             H = new DenseMatrix64F(N,N);
@@ -144,6 +145,7 @@ public class HessenbergSimilarDecomposition_D64
      * @param Q If not null then the results will be stored here.  Otherwise a new matrix will be created.
      * @return The extracted Q matrix.
      */
+    @Override
     public DenseMatrix64F getQ( DenseMatrix64F Q ) {
         if( Q == null ) {
             Q = new DenseMatrix64F(N,N);
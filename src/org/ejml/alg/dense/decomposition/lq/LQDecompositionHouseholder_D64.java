@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.lq;
+
+import org.ejml.alg.dense.decomposition.qr.QrHelperFunctions;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.LQDecomposition;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * <p>
+ * Householder LQ decomposition which is computed in place.  The algorithm is the same as
+ * {@link org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderTran_D64}, which transposes A and then
+ * computes the QR decomposition of A<sup>T</sup> along the rows of the transposed matrix.  Since the rows of
+ * A are the columns of A<sup>T</sup> no transpose is needed here and A is decomposed directly.
+ * </p>
+ *
+ * <p>
+ * Householder vectors are computed from each row of A and applied to the rows below it.  After the decomposition
+ * L is stored in the lower triangle and the Householder vectors in the upper triangle, excluding the
+ * diagonal.  The first element in each Householder vector is implicitly one.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LQDecompositionHouseholder_D64 implements LQDecomposition<DenseMatrix64F> {
+
+    /**
+     * Where the L and Q matrices are stored.  This is the same as the input matrix.
+     */
+    protected DenseMatrix64F LQ;
+
+    // used internally to store temporary data
+    protected double v[] = new double[0];
+
+    // dimension of the decomposed matrices
+    protected int numCols; // this is 'n'
+    protected int numRows; // this is 'm'
+    protected int minLength;
+
+    // the computed gamma for Q_k matrix
+    protected double gammas[] = new double[0];
+    // local variables
+    protected double gamma;
+    protected double tau;
+
+    // did it encounter an error?
+    protected boolean error;
+
+    /**
+     * Inner matrix that stores the decomposition
+     */
+    public DenseMatrix64F getLQ() {
+        return LQ;
+    }
+
+    /**
+     * Computes the Q matrix from the information stored in the LQ matrix.  Q is computed by
+     * multiplying the Householder reflectors on the right, which takes advantage of zeros in the identity matrix.
+     *
+     * @param Q The orthogonal Q matrix.
+     */
+    @Override
+    public DenseMatrix64F getQ( DenseMatrix64F Q , boolean compact ) {
+        int expectedRows = compact ? minLength : numCols;
+        if( Q == null ) {
+            Q = CommonOps.identity(expectedRows,numCols);
+        } else {
+            if( Q.numRows != expectedRows || Q.numCols != numCols ) {
+                throw new IllegalArgumentException("Unexpected matrix dimension.");
+            } else {
+                CommonOps.setIdentity(Q);
+            }
+        }
+
+        // Q = H_{k-1}*...*H_1*H_0 and rows before j are not modified by H_j
+        for( int j = minLength-1; j >= 0; j-- ) {
+            int indexLQ = j*numCols + j;
+            v[j] = 1;
+            for( int i = j+1; i < numCols; i++ ) {
+                v[i] = LQ.data[++indexLQ];
+            }
+            QrHelperFunctions.rank1UpdateMultL(Q,v,gammas[j],j,j,numCols);
+        }
+
+        return Q;
+    }
+
+    /**
+     * Returns a lower triangular matrix which is the L in the LQ decomposition.
+     *
+     * @param L A lower triangular matrix.
+     * @param compact
+     */
+    @Override
+    public DenseMatrix64F getL(DenseMatrix64F L, boolean compact) {
+        int expectedCols = compact ? minLength : numCols;
+        if( L == null ) {
+            L = new DenseMatrix64F(numRows,expectedCols);
+        } else {
+            if( L.numRows != numRows || L.numCols != expectedCols )
+                throw new IllegalArgumentException("Unexpected dimensions");
+
+            for( int i = 0; i < L.numRows; i++ ) {
+                for( int j = i+1; j < L.numCols; j++ ) {
+                    L.unsafe_set(i,j,0);
+                }
+            }
+        }
+
+        for( int i = 0; i < L.numRows; i++ ) {
+            int end = Math.min(i+1,L.numCols);
+            for( int j = 0; j < end; j++ ) {
+                L.unsafe_set(i,j,LQ.unsafe_get(i,j));
+            }
+        }
+
+        return L;
+    }
+
+    /**
+     * <p>
+     * Decomposes 'A' in place.  To decompose the matrix 'A' it must have full rank.  'A' is a 'm' by 'n' matrix.
+     * It requires about 2m*n<sup>2</sup>-2n<sup>2</sup>/3 flops.
+     * </p>
+     *
+     * @param A The matrix being decomposed.  Modified and a reference is saved.
+     */
+    @Override
+    public boolean decompose( DenseMatrix64F A ) {
+        LQ = A;
+        numRows = A.numRows;
+        numCols = A.numCols;
+        minLength = Math.min(numRows,numCols);
+
+        if( v.length < numCols )
+            v = new double[ numCols ];
+        if( gammas.length < minLength )
+            gammas = new double[ minLength ];
+
+        error = false;
+
+        for( int j = 0; j < minLength; j++ ) {
+            householder(j);
+            updateA(j);
+        }
+
+        return !error;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return true;
+    }
+
+    /**
+     * <p>
+     * Computes the householder vector "u" for the first row of submatrix j.  There is some protection against
+     * overflow and underflow.
+     * </p>
+     * <p>
+     * Q = I - &gamma;uu<sup>T</sup>
+     * </p>
+     * <p>
+     * This function finds the values of 'u' and '&gamma;'.
+     * </p>
+     *
+     * @param j Which submatrix to work off of.
+     */
+    protected void householder( final int j )
+    {
+        int startLQ = j*numCols;
+        int endLQ = startLQ+numCols;
+        startLQ += j;
+
+        final double max = QrHelperFunctions.findMax(LQ.data,startLQ,numCols-j);
+
+        if( max == 0.0 ) {
+            gamma = 0;
+            error = true;
+        } else {
+            // computes tau and normalizes u by max
+            tau = QrHelperFunctions.computeTauAndDivide(startLQ, endLQ , LQ.data, max);
+
+            // divide u by u_0
+            double u_0 = LQ.data[startLQ] + tau;
+            QrHelperFunctions.divideElements(startLQ+1,endLQ , LQ.data, u_0 );
+
+            gamma = u_0/tau;
+            tau *= max;
+
+            LQ.data[startLQ] = -tau;
+        }
+
+        gammas[j] = gamma;
+    }
+
+    /**
+     * <p>
+     * Takes the results from the householder computation and updates the rows below it.<br>
+     * <br>
+     * A = A(I - &gamma;*u*u<sup>T</sup>)
+     * </p>
+     *
+     * @param w The submatrix.
+     */
+    protected void updateA( final int w )
+    {
+        final double data[] = LQ.data;
+        final int rowW = w*numCols + w + 1;
+        int rowJ = rowW + numCols;
+        final int rowJEnd = rowJ + (numRows-w-1)*numCols;
+        final int indexWEnd = rowW + numCols - w - 1;
+
+        for( ; rowJEnd != rowJ; rowJ += numCols) {
+            // assume the first element in u is 1
+            double val = data[rowJ - 1];
+
+            int indexW = rowW;
+            int indexJ = rowJ;
+
+            while( indexW != indexWEnd ) {
+                val += data[indexW++]*data[indexJ++];
+            }
+            val *= gamma;
+
+            data[rowJ - 1] -= val;
+            indexW = rowW;
+            indexJ = rowJ;
+            while( indexW != indexWEnd ) {
+                data[indexJ++] -= data[indexW++]*val;
+            }
+        }
+    }
+
+    public double[] getGammas() {
+        return gammas;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.lu;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.block.decomposition.lu.LUDecompositionRightLooking_B64;
+import org.ejml.alg.dense.decomposition.BaseDecomposition_B64_to_D64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.LUDecomposition;
+import org.ejml.ops.SpecializedOps;
+
+
+/**
+ * Wrapper around {@link LUDecompositionRightLooking_B64} that allows
+ * it to process DenseMatrix64F.  Unlike other wrappers the input matrix is copied and not modified,
+ * just like the row major LU decompositions.
+ *
+ * @author Peter Abeles
+ */
+public class LUDecomposition_B64_to_D64
+        extends BaseDecomposition_B64_to_D64 implements LUDecomposition<DenseMatrix64F> {
+
+    public LUDecomposition_B64_to_D64() {
+        super(new LUDecompositionRightLooking_B64(), EjmlParameters.BLOCK_WIDTH);
+        // the input is copied instead of being converted in place
+        Ablock = new BlockMatrix64F(1,1,blockLength);
+    }
+
+    @Override
+    public boolean decompose(DenseMatrix64F A) {
+        Ablock.reshape(A.numRows,A.numCols,blockLength,false);
+        BlockMatrixOps.convert(A,Ablock);
+
+        return alg.decompose(Ablock);
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    @Override
+    public DenseMatrix64F getLower(DenseMatrix64F lower) {
+        BlockMatrix64F L = ((LUDecompositionRightLooking_B64)alg).getLower(null);
+
+        if( lower == null ) {
+            lower = new DenseMatrix64F(L.numRows,L.numCols);
+        } else if( lower.numRows != L.numRows || lower.numCols != L.numCols ) {
+            throw new IllegalArgumentException("Unexpected matrix dimension");
+        }
+
+        return BlockMatrixOps.convert(L,lower);
+    }
+
+    @Override
+    public DenseMatrix64F getUpper(DenseMatrix64F upper) {
+        BlockMatrix64F U = ((LUDecompositionRightLooking_B64)alg).getUpper(null);
+
+        if( upper == null ) {
+            upper = new DenseMatrix64F(U.numRows,U.numCols);
+        } else if( upper.numRows != U.numRows || upper.numCols != U.numCols ) {
+            throw new IllegalArgumentException("Unexpected matrix dimension");
+        }
+
+        return BlockMatrixOps.convert(U,upper);
+    }
+
+    @Override
+    public DenseMatrix64F getPivot(DenseMatrix64F pivot) {
+        LUDecompositionRightLooking_B64 lu = (LUDecompositionRightLooking_B64)alg;
+        return SpecializedOps.pivotMatrix(pivot,lu.getPivot(),lu.getLU().numRows,false);
+    }
+
+    @Override
+    public boolean isSingular() {
+        return ((LUDecompositionRightLooking_B64)alg).isSingular();
+    }
+
+    @Override
+    public double computeDeterminant() {
+        return ((LUDecompositionRightLooking_B64)alg).computeDeterminant();
+    }
+}
@@ -44,8 +44,7 @@ import org.ejml.ops.CommonOps;
  *
  * <p>
  * For more information see David S. Watkins, "Fundamentals of Matrix Computations" 2nd edition, pages 249-259.
- * It is also possible to add and remove columns efficiently, but this is less common and is not supported at
- * this time.
+ * Columns can also be added and removed, see Golub and Van Loan, "Matrix Computations" 3rd ed. section 12.5.2.
  * </p>
  * @author Peter Abeles
  */
@@ -59,6 +58,8 @@ public class QrUpdate {
 
     // used to temporarially store data
     private double r_row[];
+    // storage for Q^T times the inserted column
+    private double w_col[];
 
     // it can process matrices up to this size
     private int maxCols;
@@ -119,6 +120,7 @@ public class QrUpdate {
         Qm = new DenseMatrix64F(maxRows,maxRows);
 
         r_row = new double[ maxCols ];
+        w_col = new double[ maxRows ];
     }
 
     /**
@@ -205,6 +207,144 @@ public class QrUpdate {
         this.Q = this.R = null;
     }
 
+    /**
+     * <p>
+     * Adjusts the values of the Q and R matrices to take in account the effects of inserting
+     * a column into the 'A' matrix at the specified location.  Computing Q<sup>T</sup>*column requires
+     * 2m<sup>2</sup> flops and the rotations another 6m(m-colIndex) + O(n<sup>2</sup>) flops.
+     * </p>
+     *
+     * <p>
+     * Q<sup>T</sup>*column is inserted into R, then the elements below the diagonal are zeroed using
+     * a series of planar Givens rotations which are also applied to Q.  R must have enough data
+     * elements to grow by one column.
+     * </p>
+     *
+     * @param Q The Q matrix which is to be modified.  Must be m by m.  Is modified.
+     * @param R The R matrix which is to be modified, must be big enough to grow.  Must be m by n.  Is modified.
+     * @param column The column being inserted.  Must have m elements.  Not modified.
+     * @param colIndex Which column index it is to be inserted at.
+     */
+    public void addColumn( DenseMatrix64F Q , DenseMatrix64F R , double []column , int colIndex ) {
+        setQR(Q,R,0);
+        if( colIndex < 0 || colIndex > n )
+            throw new IllegalArgumentException("Column index out of bounds");
+        if( R.data.length < m*(n+1) )
+            throw new IllegalArgumentException("R matrix does not have enough data to grow");
+
+        // w = Q^T*column
+        double w[] = w_col;
+        for( int j = 0; j < m; j++ )
+            w[j] = 0;
+        for( int k = 0; k < m; k++ ) {
+            double a = column[k];
+            if( a == 0 )
+                continue;
+            for( int j = 0; j < m; j++ ) {
+                w[j] += Q.data[k*m+j]*a;
+            }
+        }
+
+        // insert w into R.  moving backwards through the array ensures the data isn't overwritten
+        int n_m = n+1;
+        double dataR[] = R.data;
+        for( int i = m-1; i >= 0; i-- ) {
+            for( int j = n; j > colIndex; j-- )
+                dataR[i*n_m+j] = dataR[i*n+j-1];
+            dataR[i*n_m+colIndex] = w[i];
+            for( int j = colIndex-1; j >= 0; j-- )
+                dataR[i*n_m+j] = dataR[i*n+j];
+        }
+        R.reshape(m,n_m, false);
+
+        // zero the inserted column below the diagonal, starting at the bottom
+        for( int i = m-1; i > colIndex; i-- ) {
+            applyRowGivens(i-1,colIndex,n_m);
+        }
+
+        // discard the reference since it is no longer needed
+        this.Q = this.R = null;
+    }
+
+    /**
+     * <p>
+     * Adjusts the values of the Q and R matrices to take in account the effects of removing
+     * a column from the 'A' matrix at the specified location.  This operation requires about
+     * 6m(n-colIndex) + O(n<sup>2</sup>) flops.
+     * </p>
+     *
+     * <p>
+     * Removing the column leaves R upper Hessenberg after the removed column.  The sub-diagonal is
+     * zeroed using a series of planar Givens rotations which are also applied to Q.
+     * </p>
+     *
+     * @param Q The Q matrix.  Must be m by m.  Is modified.
+     * @param R The R matrix.  Must be m by n.  Is modified.
+     * @param colIndex Which index of the column that is being removed.
+     */
+    public void deleteColumn( DenseMatrix64F Q , DenseMatrix64F R , int colIndex ) {
+        setQR(Q,R,0);
+        if( colIndex < 0 || colIndex >= n )
+            throw new IllegalArgumentException("Column index out of bounds");
+
+        // remove the column from R.  moving forward through the array ensures the data isn't overwritten
+        int n_m = n-1;
+        double dataR[] = R.data;
+        for( int i = 0; i < m; i++ ) {
+            for( int j = 0; j < colIndex; j++ )
+                dataR[i*n_m+j] = dataR[i*n+j];
+            for( int j = colIndex; j < n_m; j++ )
+                dataR[i*n_m+j] = dataR[i*n+j+1];
+        }
+        R.reshape(m,n_m, false);
+
+        // zero the sub-diagonal
+        int end = Math.min(n_m,m-1);
+        for( int j = colIndex; j < end; j++ ) {
+            applyRowGivens(j,j,n_m);
+        }
+
+        // discard the reference since it is no longer needed
+        this.Q = this.R = null;
+    }
+
+    /**
+     * Applies a Givens rotation to rows 'row' and 'row+1' in R which zeros element (row+1,col).  The
+     * transpose of the rotation is applied to columns 'row' and 'row+1' in Q.
+     *
+     * @param numColsR Number of columns in R
+     */
+    private void applyRowGivens( int row , int col , int numColsR ) {
+        double dataR[] = R.data;
+        double xi = dataR[row*numColsR+col];
+        double xj = dataR[(row+1)*numColsR+col];
+
+        if( xj == 0 )
+            return;
+
+        double r = Math.sqrt(xi*xi + xj*xj);
+        double c = xi/r;
+        double s = xj/r;
+
+        dataR[row*numColsR+col] = r;
+        dataR[(row+1)*numColsR+col] = 0;
+        for( int j = col+1; j < numColsR; j++ ) {
+            double a = dataR[row*numColsR+j];
+            double b = dataR[(row+1)*numColsR+j];
+            dataR[row*numColsR+j] = c*a + s*b;
+            dataR[(row+1)*numColsR+j] = c*b - s*a;
+        }
+
+        double dataQ[] = Q.data;
+        for( int i = 0; i < m; i++ ) {
+            int index = i*m+row;
+            double a = dataQ[index];
+            double b = dataQ[index+1];
+            dataQ[index] = c*a + s*b;
+            dataQ[index+1] = c*b - s*a;
+        }
+    }
+
     /**
      * Provides the results of a QR decomposition.  These will be modified by adding or removing
      * rows from the original 'A' matrix.
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.svd;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionRow_D64;
+import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecomposition_B64_to_D64;
+import org.ejml.alg.dense.decomposition.svd.divide.SvdDivideConquerAlgorithm;
+import org.ejml.alg.dense.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.BidiagonalDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * <p>
+ * Computes the Singular value decomposition of a matrix using the divide and conquer algorithm.  First the
+ * matrix is transformed into a bidiagonal A=U*B*V<sup>T</sup> form, then the SVD of B is computed using
+ * {@link SvdDivideConquerAlgorithm}.  The singular vectors of B are then multiplied against U and V.
+ * When U or V are needed and the matrix is at least {@link org.ejml.EjmlParameters#SWITCH_SVD_DIVIDE_CONQUER} in size
+ * this is about 1.15 to 1.3 times faster than {@link SvdImplicitQrDecompose_D64}, since the singular vectors
+ * of B are applied with matrix multiplications instead of individual rotations.
+ * If neither U or V are needed then the implicit QR algorithm is used to find the singular values.
+ * </p>
+ *
+ * <p>
+ * The singular values are returned in ascending order.
+ * </p>
+ *
+ * @see SvdDivideConquerAlgorithm
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerDecompose_D64 implements SingularValueDecomposition<DenseMatrix64F> {
+
+    private int numRows;
+    private int numCols;
+
+    // dimensions of transposed matrix
+    private int numRowsT;
+    private int numColsT;
+
+    private BidiagonalDecomposition<DenseMatrix64F> bidiag;
+    private SvdDivideConquerAlgorithm divide = new SvdDivideConquerAlgorithm();
+    private SvdImplicitQrAlgorithm qralg = new SvdImplicitQrAlgorithm();
+
+    double diag[];
+    double off[];
+
+    // singular vectors of the bidiagonal matrix
+    private DenseMatrix64F Ub = new DenseMatrix64F(1,1);
+    private DenseMatrix64F Vb = new DenseMatrix64F(1,1);
+    private DenseMatrix64F tmp = new DenseMatrix64F(1,1);
+
+    private DenseMatrix64F Ut;
+    private DenseMatrix64F Vt;
+
+    private double singularValues[];
+    private int numSingular;
+
+    // compute a compact SVD
+    private boolean compact;
+    // What is actually computed
+    private boolean computeU;
+    private boolean computeV;
+
+    // What the user requested to be computed
+    // If the transpose is computed instead then what is actually computed is swapped
+    private boolean prefComputeU;
+    private boolean prefComputeV;
+
+    // Should it compute the transpose instead
+    private boolean transposed;
+
+    // Either a copy of the input matrix or a copy of it transposed
+    private DenseMatrix64F A_mod = new DenseMatrix64F(1,1);
+
+    /**
+     * Configures the class
+     *
+     * @param compact Compute a compact SVD
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     */
+    public SvdDivideConquerDecompose_D64(boolean compact, boolean computeU, boolean computeV)
+    {
+        this.compact = compact;
+        this.prefComputeU = computeU;
+        this.prefComputeV = computeV;
+    }
+
+    /**
+     * Provides access to the bidiagonal SVD so that it can be configured.
+     */
+    public SvdDivideConquerAlgorithm getDivideConquer() {
+        return divide;
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return compact;
+    }
+
+    @Override
+    public DenseMatrix64F getU( DenseMatrix64F U , boolean transpose) {
+        if( !prefComputeU )
+            throw new IllegalArgumentException("As requested U was not computed.");
+        if( transpose ) {
+            if( U == null )
+                return Ut;
+            else if( U.numRows != Ut.numRows || U.numCols != Ut.numCols )
+                throw new IllegalArgumentException("Unexpected shape of U");
+
+            U.set(Ut);
+        } else {
+            if( U == null )
+                U = new DenseMatrix64F(Ut.numCols,Ut.numRows);
+            else if( U.numRows != Ut.numCols || U.numCols != Ut.numRows )
+                throw new IllegalArgumentException("Unexpected shape of U");
+
+            CommonOps.transpose(Ut,U);
+        }
+
+        return U;
+    }
+
+    @Override
+    public DenseMatrix64F getV( DenseMatrix64F V , boolean transpose ) {
+        if( !prefComputeV )
+            throw new IllegalArgumentException("As requested V was not computed.");
+        if( transpose ) {
+            if( V == null )
+                return Vt;
+            else if( V.numRows != Vt.numRows || V.numCols != Vt.numCols )
+                throw new IllegalArgumentException("Unexpected shape of V");
+
+            V.set(Vt);
+        } else {
+            if( V == null )
+                V = new DenseMatrix64F(Vt.numCols,Vt.numRows);
+            else if( V.numRows != Vt.numCols || V.numCols != Vt.numRows )
+                throw new IllegalArgumentException("Unexpected shape of V");
+            CommonOps.transpose(Vt,V);
+        }
+
+        return V;
+    }
+
+    @Override
+    public DenseMatrix64F getW( DenseMatrix64F W ) {
+        int m = compact ? numSingular : numRows;
+        int n = compact ? numSingular : numCols;
+
+        if( W == null )
+            W = new DenseMatrix64F(m,n);
+        else {
+            W.reshape(m,n, false);
+            W.zero();
+        }
+
+        for( int i = 0; i < numSingular; i++ ) {
+            W.unsafe_set(i,i, singularValues[i]);
+        }
+
+        return W;
+    }
+
+    @Override
+    public boolean decompose(DenseMatrix64F orig) {
+        setup(orig);
+
+        if( !bidiagonalization(orig) )
+            return false;
+
+        if( computeU || computeV ) {
+            if( !computeUWV() )
+                return false;
+        } else {
+            if( !computeValues() )
+                return false;
+        }
+
+        // if transposed undo the transposition
+        if( transposed ) {
+            DenseMatrix64F temp = Vt;
+            Vt = Ut;
+            Ut = temp;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+
+    private void setup(DenseMatrix64F orig) {
+        transposed = orig.numCols > orig.numRows;
+
+        // flag what should be computed and what should not be computed
+        if( transposed ) {
+            computeU = prefComputeV;
+            computeV = prefComputeU;
+            numRowsT = orig.numCols;
+            numColsT = orig.numRows;
+        } else {
+            computeU = prefComputeU;
+            computeV = prefComputeV;
+            numRowsT = orig.numRows;
+            numColsT = orig.numCols;
+        }
+
+        numRows = orig.numRows;
+        numCols = orig.numCols;
+
+        if( diag == null || diag.length < numColsT ) {
+            diag = new double[ numColsT ];
+            off = new double[ Math.max(1,numColsT-1) ];
+            singularValues = new double[ numColsT ];
+        }
+
+        // large matrices are more efficiently processed using block algorithms
+        if( numColsT >= EjmlParameters.SWITCH_BLOCK64_BIDIAGONAL ) {
+            if( !(bidiag instanceof BidiagonalDecomposition_B64_to_D64) )
+                bidiag = new BidiagonalDecomposition_B64_to_D64();
+        } else if( !(bidiag instanceof BidiagonalDecompositionRow_D64) ) {
+            bidiag = new BidiagonalDecompositionRow_D64();
+        }
+    }
+
+    private boolean bidiagonalization(DenseMatrix64F orig) {
+        // change the matrix to bidiagonal form
+        if( transposed ) {
+            A_mod.reshape(orig.numCols,orig.numRows,false);
+            CommonOps.transpose(orig,A_mod);
+        } else {
+            A_mod.reshape(orig.numRows,orig.numCols,false);
+            A_mod.set(orig);
+        }
+        return bidiag.decompose(A_mod);
+    }
+
+    /**
+     * Computes the singular values only using the implicit QR algorithm
+     */
+    private boolean computeValues() {
+        bidiag.getDiagonal(diag,off);
+        qralg.setMatrix(numRowsT,numColsT,diag,off);
+        qralg.setFastValues(true);
+        qralg.setUt(null);
+        qralg.setVt(null);
+
+        if( !qralg.process() )
+            return false;
+
+        numSingular = qralg.getNumberOfSingularValues();
+        for( int i = 0; i < numSingular; i++ ) {
+            singularValues[i] = Math.abs(qralg.getSingularValue(i));
+        }
+        return true;
+    }
+
+    /**
+     * Compute singular values and U and V using divide and conquer
+     */
+    private boolean computeUWV() {
+        bidiag.getDiagonal(diag,off);
+
+        int N = numColsT;
+        if( !divide.process(N,diag,off,singularValues,Ub,Vb) )
+            return false;
+        numSingular = N;
+
+        if( computeU ) {
+            Ut = bidiag.getU(Ut,true,compact);
+
+            // only the first N rows of U are affected by the bidiagonal matrix
+            DenseMatrix64F top = DenseMatrix64F.wrap(N,Ut.numCols,Ut.data);
+            tmp.reshape(N,Ut.numCols,false);
+            CommonOps.multTransA(Ub,top,tmp);
+            System.arraycopy(tmp.data,0,Ut.data,0,N*Ut.numCols);
+        }
+        if( computeV ) {
+            Vt = bidiag.getV(Vt,true,compact);
+            tmp.reshape(N,Vt.numCols,false);
+            CommonOps.multTransA(Vb,Vt,tmp);
+            Vt.set(tmp);
+        }
+
+        return true;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+}
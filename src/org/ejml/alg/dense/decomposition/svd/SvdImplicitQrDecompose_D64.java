@@ -18,8 +18,10 @@
 
 package org.ejml.alg.dense.decomposition.svd;
 
+import org.ejml.EjmlParameters;
 import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionRow_D64;
 import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionTall_D64;
+import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecomposition_B64_to_D64;
 import org.ejml.alg.dense.decomposition.svd.implicitqr.SvdImplicitQrAlgorithm;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.interfaces.decomposition.BidiagonalDecomposition;
@@ -292,6 +294,11 @@ public class SvdImplicitQrDecompose_D64 implements SingularValueDecomposition<De
             if( bidiag == null || !(bidiag instanceof BidiagonalDecompositionTall_D64) ) {
                 bidiag = new BidiagonalDecompositionTall_D64();
             }
+        } else if( numColsT >= EjmlParameters.SWITCH_BLOCK64_BIDIAGONAL ) {
+            // large matrices are more efficiently processed using block algorithms
+            if( bidiag == null || !(bidiag instanceof BidiagonalDecomposition_B64_to_D64) ) {
+                bidiag = new BidiagonalDecomposition_B64_to_D64();
+            }
         } else if( bidiag == null || !(bidiag instanceof BidiagonalDecompositionRow_D64) ) {
             bidiag = new BidiagonalDecompositionRow_D64();
         }
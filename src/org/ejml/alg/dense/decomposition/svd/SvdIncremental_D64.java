@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.SingularOps;
+
+
+/**
+ * <p>
+ * Thin SVD which can be updated as rows or columns are added or removed from the matrix, without
+ * recomputing the decomposition from scratch.  Only the 'maxRank' largest singular values are kept.  Each
+ * update requires O((m+n)*(k+p)<sup>2</sup>) operations, where k is the rank and p the number of rows
+ * or columns added.
+ * </p>
+ *
+ * <p>
+ * When columns C are appended, the component of C which is orthogonal to U is found, H = C - U*U<sup>T</sup>C,
+ * and decomposed with QR, H = J*R.  Then<br>
+ * <br>
+ * [A C] = [U J] * K * [V 0; 0 I]<sup>T</sup> where K = [S U<sup>T</sup>C; 0 R]<br>
+ * <br>
+ * and only the small matrix K needs to be decomposed.  A column is removed by zeroing it with a rank-1
+ * update and then deleting the corresponding row in V.  Rows are handled the same way using the transpose.
+ * Since the truncated singular vectors are discarded each update the decomposition is an approximation once
+ * the matrix's rank exceeds maxRank.
+ * </p>
+ *
+ * <p>
+ * The singular values are returned in descending order and the decomposition is always compact.
+ * </p>
+ *
+ * <p>
+ * M. Brand, "Fast low-rank modifications of the thin singular value decomposition" Linear Algebra and
+ * its Applications 415 (2006) 20-30
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdIncremental_D64 implements SingularValueDecomposition<DenseMatrix64F> {
+
+    // maximum number of singular values which are kept
+    private int maxRank;
+
+    // the decomposition. A = U*diag(sv)*V^T
+    private DenseMatrix64F U = new DenseMatrix64F(1,1);
+    private DenseMatrix64F V = new DenseMatrix64F(1,1);
+    private double sv[] = new double[0];
+    private int rank;
+
+    // results of the most recent update
+    private DenseMatrix64F newU;
+    private DenseMatrix64F newV;
+
+    private SvdImplicitQrDecompose_D64 svd = new SvdImplicitQrDecompose_D64(true,true,true,false);
+    private QRDecompositionHouseholderColumn_D64 qr = new QRDecompositionHouseholderColumn_D64();
+
+    /**
+     * @param maxRank Maximum number of singular values which are kept.
+     */
+    public SvdIncremental_D64( int maxRank ) {
+        if( maxRank <= 0 )
+            throw new IllegalArgumentException("maxRank must be more than zero");
+        this.maxRank = maxRank;
+    }
+
+    /**
+     * Computes the initial decomposition from scratch.
+     *
+     * @param A The matrix. Not modified.
+     * @return true if it succeeded
+     */
+    @Override
+    public boolean decompose( DenseMatrix64F A ) {
+        if( !svd.decompose(A) )
+            return false;
+
+        DenseMatrix64F Us = svd.getU(null,false);
+        DenseMatrix64F Vs = svd.getV(null,false);
+        int num = svd.numberOfSingularValues();
+        double values[] = svd.getSingularValues().clone();
+
+        SingularOps.descendingOrder(Us,false,values,num,Vs,false);
+
+        int keep = selectRank(values,num);
+        U = new DenseMatrix64F(A.numRows,keep);
+        V = new DenseMatrix64F(A.numCols,keep);
+        CommonOps.extract(Us,0,A.numRows,0,keep,U,0,0);
+        CommonOps.extract(Vs,0,A.numCols,0,keep,V,0,0);
+        saveValues(values,keep);
+
+        return true;
+    }
+
+    /**
+     * Updates the decomposition after columns have been appended to the right side of the matrix, [A C].
+     *
+     * @param C Columns being added.  Must have the same number of rows as A. Not modified.
+     * @return true if it succeeded
+     */
+    public boolean addColumns( DenseMatrix64F C ) {
+        if( C.numRows != U.numRows )
+            throw new IllegalArgumentException("C must have the same number of rows as the matrix");
+
+        if( !append(U,V,C) )
+            return false;
+
+        U = newU;
+        V = newV;
+        return true;
+    }
+
+    /**
+     * Updates the decomposition after rows have been appended to the bottom of the matrix, [A; B].
+     *
+     * @param B Rows being added.  Must have the same number of columns as A. Not modified.
+     * @return true if it succeeded
+     */
+    public boolean addRows( DenseMatrix64F B ) {
+        if( B.numCols != V.numRows )
+            throw new IllegalArgumentException("B must have the same number of columns as the matrix");
+
+        if( !append(V,U,CommonOps.transpose(B,null)) )
+            return false;
+
+        V = newU;
+        U = newV;
+        return true;
+    }
+
+    /**
+     * Updates the decomposition after a column has been removed from the matrix.
+     *
+     * @param index The column which is removed.
+     * @return true if it succeeded
+     */
+    public boolean removeColumn( int index ) {
+        if( index < 0 || index >= V.numRows )
+            throw new IllegalArgumentException("Column index out of bounds");
+
+        if( !remove(U,V,index) )
+            return false;
+
+        U = newU;
+        V = newV;
+        return true;
+    }
+
+    /**
+     * Updates the decomposition after a row has been removed from the matrix.
+     *
+     * @param index The row which is removed.
+     * @return true if it succeeded
+     */
+    public boolean removeRow( int index ) {
+        if( index < 0 || index >= U.numRows )
+            throw new IllegalArgumentException("Row index out of bounds");
+
+        if( !remove(V,U,index) )
+            return false;
+
+        V = newU;
+        U = newV;
+        return true;
+    }
+
+    /**
+     * Appends C to the right of A = Ua*S*Vb<sup>T</sup>.  The results are written to newU and newV.
+     */
+    private boolean append( DenseMatrix64F Ua , DenseMatrix64F Vb , DenseMatrix64F C ) {
+        int m = Ua.numRows;
+        int n = Vb.numRows;
+        int p = C.numCols;
+        int r = rank;
+
+        // component of C inside and orthogonal to the span of U.  Orthogonalize twice for stability
+        DenseMatrix64F L = new DenseMatrix64F(r,p);
+        DenseMatrix64F H = C.copy();
+        DenseMatrix64F L2 = new DenseMatrix64F(r,p);
+        for( int pass = 0; pass < 2; pass++ ) {
+            CommonOps.multTransA(Ua,H,L2);
+            CommonOps.multAdd(-1,Ua,L2,H);
+            CommonOps.addEquals(L,L2);
+        }
+
+        if( !qr.decompose(H) )
+            return false;
+        DenseMatrix64F J = qr.getQ(null,true);
+        DenseMatrix64F R = qr.getR(null,true);
+        int q = J.numCols;
+
+        DenseMatrix64F K = new DenseMatrix64F(r+q,r+p);
+        for( int i = 0; i < r; i++ )
+            K.unsafe_set(i,i,sv[i]);
+        CommonOps.insert(L,K,0,r);
+        CommonOps.insert(R,K,r,r);
+
+        if( !decomposeSmall(K) )
+            return false;
+
+        // rotate the expanded bases
+        int keep = newU.numCols;
+        DenseMatrix64F Uk = newU, Vk = newV;
+
+        newU = new DenseMatrix64F(m,keep);
+        multRows(Ua,Uk,0,r,newU,false);
+        multRows(J,Uk,r,r+q,newU,true);
+
+        newV = new DenseMatrix64F(n+p,keep);
+        DenseMatrix64F Vtop = new DenseMatrix64F(n,keep);
+        multRows(Vb,Vk,0,r,Vtop,false);
+        CommonOps.insert(Vtop,newV,0,0);
+        CommonOps.extract(Vk,r,r+p,0,keep,newV,n,0);
+
+        return true;
+    }
+
+    /**
+     * Removes the column 'index' from A = Ua*S*Vb<sup>T</sup>.  The results are written to newU and newV.
+     */
+    private boolean remove( DenseMatrix64F Ua , DenseMatrix64F Vb , int index ) {
+        int n = Vb.numRows;
+        int r = rank;
+
+        // The column is zeroed by the update A - a*e^T where a = A*e = U*S*v and v = V^T*e.
+        // e = V*v + Rb*Q where Q is orthogonal to V.
+        double v[] = new double[r];
+        for( int i = 0; i < r; i++ )
+            v[i] = Vb.unsafe_get(index,i);
+
+        DenseMatrix64F Q = new DenseMatrix64F(n,1);
+        for( int row = 0; row < n; row++ ) {
+            double total = 0;
+            for( int i = 0; i < r; i++ )
+                total += Vb.unsafe_get(row,i)*v[i];
+            Q.data[row] = -total;
+        }
+        Q.data[index] += 1;
+        double Rb = NormOps.normF(Q);
+        if( Rb <= UtilEjml.EPS )
+            Rb = 0;
+        else
+            CommonOps.divide(Rb,Q);
+
+        // K = [S*(I - v*v^T) , -Rb*S*v]
+        DenseMatrix64F K = new DenseMatrix64F(r,r+1);
+        for( int i = 0; i < r; i++ ) {
+            double s = sv[i];
+            for( int j = 0; j < r; j++ ) {
+                double d = i == j ? 1 : 0;
+                K.unsafe_set(i,j,s*(d - v[i]*v[j]));
+            }
+            K.unsafe_set(i,r,-Rb*s*v[i]);
+        }
+
+        if( !decomposeSmall(K) )
+            return false;
+
+        int keep = newU.numCols;
+        DenseMatrix64F Uk = newU, Vk = newV;
+
+        newU = new DenseMatrix64F(Ua.numRows,keep);
+        multRows(Ua,Uk,0,r,newU,false);
+
+        // [V Q]*Vk with the row which has been zeroed removed
+        DenseMatrix64F VQ = new DenseMatrix64F(n,keep);
+        multRows(Vb,Vk,0,r,VQ,false);
+        multRows(Q,Vk,r,r+1,VQ,true);
+
+        newV = new DenseMatrix64F(n-1,keep);
+        if( index > 0 )
+            CommonOps.extract(VQ,0,index,0,keep,newV,0,0);
+        if( index < n-1 )
+            CommonOps.extract(VQ,index+1,n,0,keep,newV,index,0);
+
+        return true;
+    }
+
+    /**
+     * Computes the SVD of K, sorts it, and truncates it.  The singular vectors are written to newU and newV.
+     */
+    private boolean decomposeSmall( DenseMatrix64F K ) {
+        if( !svd.decompose(K) )
+            return false;
+
+        DenseMatrix64F Uk = svd.getU(null,false);
+        DenseMatrix64F Vk = svd.getV(null,false);
+        int num = svd.numberOfSingularValues();
+        double values[] = svd.getSingularValues().clone();
+
+        SingularOps.descendingOrder(Uk,false,values,num,Vk,false);
+
+        int keep = selectRank(values,num);
+        newU = new DenseMatrix64F(Uk.numRows,keep);
+        newV = new DenseMatrix64F(Vk.numRows,keep);
+        CommonOps.extract(Uk,0,Uk.numRows,0,keep,newU,0,0);
+        CommonOps.extract(Vk,0,Vk.numRows,0,keep,newV,0,0);
+        saveValues(values,keep);
+
+        return true;
+    }
+
+    /**
+     * Selects the number of singular values to keep.  Singular values which are zero to within
+     * numerical precision are discarded, since their singular vectors are arbitrary.
+     */
+    private int selectRank( double values[] , int num ) {
+        if( num == 0 )
+            return 0;
+        double threshold = UtilEjml.EPS*values[0]*Math.max(U.numRows+V.numRows,num);
+        int keep = 0;
+        while( keep < num && keep < maxRank && values[keep] > threshold )
+            keep++;
+        return keep;
+    }
+
+    private void saveValues( double values[] , int keep ) {
+        rank = keep;
+        if( sv.length < keep )
+            sv = new double[ keep ];
+        System.arraycopy(values,0,sv,0,keep);
+    }
+
+    /**
+     * c = a*b(start:end,:) if add is false or c = c + a*b(start:end,:) if add is true
+     */
+    private static void multRows( DenseMatrix64F a , DenseMatrix64F b , int start , int end ,
+                                  DenseMatrix64F c , boolean add ) {
+        DenseMatrix64F sub = new DenseMatrix64F(end-start,b.numCols);
+        CommonOps.extract(b,start,end,0,b.numCols,sub,0,0);
+        if( add )
+            CommonOps.multAdd(a,sub,c);
+        else
+            CommonOps.mult(a,sub,c);
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return sv;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return rank;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DenseMatrix64F getU( DenseMatrix64F U , boolean transpose ) {
+        return copy(this.U,U,transpose);
+    }
+
+    @Override
+    public DenseMatrix64F getV( DenseMatrix64F V , boolean transpose ) {
+        return copy(this.V,V,transpose);
+    }
+
+    private static DenseMatrix64F copy( DenseMatrix64F src , DenseMatrix64F dst , boolean transpose ) {
+        if( transpose ) {
+            if( dst == null )
+                dst = new DenseMatrix64F(src.numCols,src.numRows);
+            else if( dst.numRows != src.numCols || dst.numCols != src.numRows )
+                throw new IllegalArgumentException("Unexpected shape");
+            CommonOps.transpose(src,dst);
+        } else {
+            if( dst == null )
+                dst = src.copy();
+            else if( dst.numRows != src.numRows || dst.numCols != src.numCols )
+                throw new IllegalArgumentException("Unexpected shape");
+            else
+                dst.set(src);
+        }
+        return dst;
+    }
+
+    @Override
+    public DenseMatrix64F getW( DenseMatrix64F W ) {
+        if( W == null )
+            W = new DenseMatrix64F(rank,rank);
+        else {
+            W.reshape(rank,rank, false);
+            W.zero();
+        }
+
+        for( int i = 0; i < rank; i++ ) {
+            W.unsafe_set(i,i, sv[i]);
+        }
+
+        return W;
+    }
+
+    @Override
+    public int numRows() {
+        return U.numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return V.numRows;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
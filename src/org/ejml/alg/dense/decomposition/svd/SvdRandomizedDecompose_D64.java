@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.svd;
+
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.SingularOps;
+
+import java.util.Random;
+
+
+/**
+ * <p>
+ * Computes an approximate truncated SVD of a matrix using a randomized range finder.  Only the
+ * largest 'rank' singular values and their singular vectors are found.  When rank is much smaller than
+ * the size of the matrix this is much faster than computing the full SVD and U is never computed
+ * in its entirety.
+ * </p>
+ *
+ * <p>
+ * A random matrix &Omega; with rank+oversample Gaussian columns is multiplied against A to sample its
+ * range, Y = A*&Omega;.  An orthonormal basis Q for Y is then found using a QR decomposition.  The accuracy
+ * for matrices with slowly decaying singular values is improved by the power iteration,
+ * Y = (A*A<sup>T</sup>)<sup>q</sup>*A*&Omega;, where Q is orthogonalized after every multiplication to avoid
+ * loss of precision.  Then the small matrix B = Q<sup>T</sup>*A is decomposed using
+ * {@link SvdImplicitQrDecompose_D64}, B = U<sub>b</sub>*W*V<sup>T</sup>, and U = Q*U<sub>b</sub>.
+ * </p>
+ *
+ * <p>
+ * The decomposition is always compact and the singular values are returned in descending order.
+ * </p>
+ *
+ * <p>
+ * N. Halko, P. G. Martinsson, and J. A. Tropp, "Finding structure with randomness: Probabilistic
+ * algorithms for constructing approximate matrix decompositions" SIAM Review 53 (2011) 217-288
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdRandomizedDecompose_D64 implements SingularValueDecomposition<DenseMatrix64F> {
+
+    // number of singular values requested
+    private int rank;
+    // number of additional samples of the range
+    private int oversample;
+    // number of power iterations
+    private int powerIterations;
+
+    private Random rand;
+
+    private int numRows;
+    private int numCols;
+
+    // What the user requested to be computed
+    private boolean computeU;
+    private boolean computeV;
+
+    // random test matrix
+    private DenseMatrix64F Omega = new DenseMatrix64F(1,1);
+    // sample of the range and its orthonormal basis
+    private DenseMatrix64F Y = new DenseMatrix64F(1,1);
+    private DenseMatrix64F Q = new DenseMatrix64F(1,1);
+    // sample of the row space
+    private DenseMatrix64F Z = new DenseMatrix64F(1,1);
+    // A projected onto Q
+    private DenseMatrix64F B = new DenseMatrix64F(1,1);
+    private DenseMatrix64F Ub = new DenseMatrix64F(1,1);
+    private DenseMatrix64F Vbt = new DenseMatrix64F(1,1);
+    private DenseMatrix64F tmp = new DenseMatrix64F(1,1);
+
+    private QRDecompositionHouseholderColumn_D64 qr = new QRDecompositionHouseholderColumn_D64();
+    private SvdImplicitQrDecompose_D64 svd;
+
+    private DenseMatrix64F Ut;
+    private DenseMatrix64F Vt;
+
+    private double singularValues[];
+    private int numSingular;
+
+    /**
+     * Configures the decomposition
+     *
+     * @param rank Number of singular values which are to be computed.
+     * @param oversample Number of additional random samples.  A value of 5 to 10 is typical.
+     * @param powerIterations Number of power iterations.  Increase for matrices whose singular values decay slowly.
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     * @param rand Random number generator used to create the test matrix
+     */
+    public SvdRandomizedDecompose_D64( int rank , int oversample , int powerIterations ,
+                                       boolean computeU , boolean computeV , Random rand ) {
+        if( rank <= 0 )
+            throw new IllegalArgumentException("rank must be more than zero");
+        if( oversample < 0 || powerIterations < 0 )
+            throw new IllegalArgumentException("oversample and powerIterations can't be negative");
+
+        this.rank = rank;
+        this.oversample = oversample;
+        this.powerIterations = powerIterations;
+        this.computeU = computeU;
+        this.computeV = computeV;
+        this.rand = rand;
+
+        svd = new SvdImplicitQrDecompose_D64(true,computeU,computeV,false);
+    }
+
+    /**
+     * Configures the decomposition using an oversampling of 10 and 2 power iterations.
+     *
+     * @param rank Number of singular values which are to be computed.
+     * @param computeU If true it will compute the U matrix
+     * @param computeV If true it will compute the V matrix
+     */
+    public SvdRandomizedDecompose_D64( int rank , boolean computeU , boolean computeV ) {
+        this(rank,10,2,computeU,computeV,new Random(0xBEEF));
+    }
+
+    @Override
+    public boolean decompose( DenseMatrix64F A ) {
+        numRows = A.numRows;
+        numCols = A.numCols;
+
+        int minLength = Math.min(numRows,numCols);
+        numSingular = Math.min(rank,minLength);
+        int numSamples = Math.min(numSingular+oversample,minLength);
+
+        // sample the range of A
+        Omega.reshape(numCols,numSamples,false);
+        for( int i = 0; i < Omega.data.length; i++ )
+            Omega.data[i] = rand.nextGaussian();
+
+        Y.reshape(numRows,numSamples,false);
+        CommonOps.mult(A,Omega,Y);
+        if( !orthonormalize(Y,Q) )
+            return false;
+
+        for( int i = 0; i < powerIterations; i++ ) {
+            Z.reshape(numCols,numSamples,false);
+            CommonOps.multTransA(A,Q,Z);
+            if( !orthonormalize(Z,tmp) )
+                return false;
+            CommonOps.mult(A,tmp,Y);
+            if( !orthonormalize(Y,Q) )
+                return false;
+        }
+
+        // decompose A projected onto the basis
+        B.reshape(numSamples,numCols,false);
+        CommonOps.multTransA(Q,A,B);
+
+        if( !svd.decompose(B) )
+            return false;
+
+        double found[] = svd.getSingularValues();
+        if( singularValues == null || singularValues.length < numSamples )
+            singularValues = new double[ numSamples ];
+        System.arraycopy(found,0,singularValues,0,numSamples);
+
+        // B is never taller than it is wide
+        if( computeU ) {
+            Ub.reshape(numSamples,numSamples,false);
+            svd.getU(Ub,false);
+        }
+        if( computeV ) {
+            Vbt.reshape(numSamples,numCols,false);
+            svd.getV(Vbt,true);
+        }
+
+        SingularOps.descendingOrder(computeU ? Ub : null,false,singularValues,numSamples,
+                computeV ? Vbt : null,true);
+
+        // only save the requested number of singular values
+        if( computeU ) {
+            tmp.reshape(numSamples,numSingular,false);
+            CommonOps.extract(Ub,0,numSamples,0,numSingular,tmp,0,0);
+            Ut = new DenseMatrix64F(numSingular,numRows);
+            CommonOps.multTransAB(tmp,Q,Ut);
+        }
+        if( computeV ) {
+            Vt = new DenseMatrix64F(numSingular,numCols);
+            CommonOps.extract(Vbt,0,numSingular,0,numCols,Vt,0,0);
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds an orthonormal basis for the columns in X.  X is modified.
+     */
+    private boolean orthonormalize( DenseMatrix64F X , DenseMatrix64F basis ) {
+        if( !qr.decompose(X) )
+            return false;
+
+        basis.reshape(X.numRows,X.numCols,false);
+        qr.getQ(basis,true);
+        return true;
+    }
+
+    @Override
+    public double[] getSingularValues() {
+        return singularValues;
+    }
+
+    @Override
+    public int numberOfSingularValues() {
+        return numSingular;
+    }
+
+    @Override
+    public boolean isCompact() {
+        return true;
+    }
+
+    @Override
+    public DenseMatrix64F getU( DenseMatrix64F U , boolean transpose) {
+        if( !computeU )
+            throw new IllegalArgumentException("As requested U was not computed.");
+        if( transpose ) {
+            if( U == null )
+                return Ut.copy();
+            else if( U.numRows != Ut.numRows || U.numCols != Ut.numCols )
+                throw new IllegalArgumentException("Unexpected shape of U");
+
+            U.set(Ut);
+        } else {
+            if( U == null )
+                U = new DenseMatrix64F(Ut.numCols,Ut.numRows);
+            else if( U.numRows != Ut.numCols || U.numCols != Ut.numRows )
+                throw new IllegalArgumentException("Unexpected shape of U");
+
+            CommonOps.transpose(Ut,U);
+        }
+
+        return U;
+    }
+
+    @Override
+    public DenseMatrix64F getV( DenseMatrix64F V , boolean transpose ) {
+        if( !computeV )
+            throw new IllegalArgumentException("As requested V was not computed.");
+        if( transpose ) {
+            if( V == null )
+                return Vt.copy();
+            else if( V.numRows != Vt.numRows || V.numCols != Vt.numCols )
+                throw new IllegalArgumentException("Unexpected shape of V");
+
+            V.set(Vt);
+        } else {
+            if( V == null )
+                V = new DenseMatrix64F(Vt.numCols,Vt.numRows);
+            else if( V.numRows != Vt.numCols || V.numCols != Vt.numRows )
+                throw new IllegalArgumentException("Unexpected shape of V");
+            CommonOps.transpose(Vt,V);
+        }
+
+        return V;
+    }
+
+    @Override
+    public DenseMatrix64F getW( DenseMatrix64F W ) {
+        if( W == null )
+            W = new DenseMatrix64F(numSingular,numSingular);
+        else {
+            W.reshape(numSingular,numSingular, false);
+            W.zero();
+        }
+
+        for( int i = 0; i < numSingular; i++ ) {
+            W.unsafe_set(i,i, singularValues[i]);
+        }
+
+        return W;
+    }
+
+    @Override
+    public int numRows() {
+        return numRows;
+    }
+
+    @Override
+    public int numCols() {
+        return numCols;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
@@ -0,0 +1,550 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.svd.divide;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.EjmlParameters;
+import org.ejml.UtilEjml;
+import org.ejml.alg.dense.decomposition.SecularEquation;
+import org.ejml.alg.dense.decomposition.svd.SvdImplicitQrDecompose_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+
+/**
+ * <p>
+ * Computes the singular value decomposition of an upper bidiagonal matrix, B = U*&Sigma;*V<sup>T</sup>, using
+ * the divide and conquer algorithm.  B is split by removing the row in the middle:
+ * </p>
+ *
+ * <pre>
+ * B = [ B<sub>1</sub>       0  ]
+ *     [ &alpha; e<sub>k</sub><sup>T</sup>  &beta; e<sub>1</sub><sup>T</sup> ]
+ *     [ 0       B<sub>2</sub> ]
+ * </pre>
+ *
+ * <p>
+ * where B<sub>1</sub> has one more column than it has rows and B<sub>2</sub> has one more column if B does.
+ * After each half has been solved recursively the problem is reduced to finding the SVD of a matrix which is
+ * zero except for its first row and diagonal.  Its singular values are the roots of a secular equation, see
+ * {@link SecularEquation}, and the singular vectors are computed from them directly.  Singular values which
+ * can be deflated are removed first.  Small subproblems are solved using {@link SvdImplicitQrDecompose_D64}.
+ * When {@link EjmlParameters#CONCURRENT} is true the two halves of large subproblems are solved in parallel.
+ * </p>
+ *
+ * <p>
+ * Based on the description in:<br>
+ * Ming Gu and Stanley C. Eisenstat, "A Divide-and-Conquer Algorithm for the Bidiagonal SVD",
+ * SIAM J. Matrix Anal. Appl. 1995
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SvdDivideConquerAlgorithm {
+
+    // subproblems which are this size or smaller are solved using the QR algorithm
+    private int minimumSize = 25;
+
+    // subproblems which are this size or larger solve their two halves in parallel
+    private int concurrentSize = 200;
+
+    /**
+     * Subproblems which have this many or fewer rows are solved using the QR algorithm.
+     *
+     * @param minimumSize Size of the smallest subproblem.  Must be at least 2.
+     */
+    public void setMinimumSize(int minimumSize) {
+        if( minimumSize < 2 )
+            throw new IllegalArgumentException("Minimum size must be at least 2");
+        this.minimumSize = minimumSize;
+    }
+
+    public int getMinimumSize() {
+        return minimumSize;
+    }
+
+    /**
+     * Subproblems which are this large or larger process their two halves in different threads if
+     * {@link EjmlParameters#CONCURRENT} is true.
+     */
+    public void setConcurrentSize(int concurrentSize) {
+        this.concurrentSize = concurrentSize;
+    }
+
+    /**
+     * Computes the SVD of a square upper bidiagonal matrix.
+     *
+     * @param N Number of rows and columns in the matrix.
+     * @param diag Diagonal elements. Not modified.
+     * @param off Elements above the diagonal. Not modified.
+     * @param values (Output) The singular values in ascending order.  Must be at least N long.
+     * @param U (Output) Left singular vectors stored in the columns.  Reshaped.
+     * @param V (Output) Right singular vectors stored in the columns.  Reshaped.
+     * @return true if successful or false if the QR algorithm failed on a subproblem.
+     */
+    public boolean process( int N , double diag[] , double off[] ,
+                            double values[] , DenseMatrix64F U , DenseMatrix64F V )
+    {
+        if( values.length < N )
+            throw new IllegalArgumentException("values must be at least N long");
+
+        U.reshape(N,N,false);
+        V.reshape(N,N,false);
+        if( N == 0 )
+            return true;
+
+        double d[] = Arrays.copyOf(diag,N);
+        double e[] = Arrays.copyOf(off,Math.max(0,N-1));
+
+        // scale the matrix to avoid overflow and underflow
+        double scale = 0;
+        for( int i = 0; i < d.length; i++ )
+            scale = Math.max(scale,Math.abs(d[i]));
+        for( int i = 0; i < e.length; i++ )
+            scale = Math.max(scale,Math.abs(e[i]));
+        if( scale == 0 )
+            scale = 1;
+        for( int i = 0; i < d.length; i++ )
+            d[i] /= scale;
+        for( int i = 0; i < e.length; i++ )
+            e[i] /= scale;
+
+        if( !solve(N,0,d,e,values,U,V) )
+            return false;
+
+        for( int i = 0; i < N; i++ )
+            values[i] *= scale;
+
+        return true;
+    }
+
+    /**
+     * Recursively computes the SVD of a n by (n+sqre) upper bidiagonal matrix.  If sqre is one then the last
+     * column in V is a null vector.
+     */
+    private boolean solve( int n , int sqre , double d[] , double e[] ,
+                           double values[] , DenseMatrix64F U , DenseMatrix64F V ) {
+        if( n <= minimumSize )
+            return solveQr(n,sqre,d,e,values,U,V);
+
+        // row which is removed
+        final int k = n/2;
+        final int n2 = n-k-1;
+
+        final double d1[] = Arrays.copyOfRange(d,0,k);
+        final double e1[] = Arrays.copyOfRange(e,0,k);
+        final double d2[] = Arrays.copyOfRange(d,k+1,n);
+        final double e2[] = Arrays.copyOfRange(e,k+1,n-1+sqre);
+        final int sqre2 = sqre;
+
+        final double values1[] = new double[k];
+        final double values2[] = new double[n2];
+        final DenseMatrix64F U1 = new DenseMatrix64F(1,1);
+        final DenseMatrix64F V1 = new DenseMatrix64F(1,1);
+        final DenseMatrix64F U2 = new DenseMatrix64F(1,1);
+        final DenseMatrix64F V2 = new DenseMatrix64F(1,1);
+
+        final boolean success[] = new boolean[2];
+
+        EjmlConcurrency.BlockTask task = new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                for( int i = start; i < end; i++ ) {
+                    if( i == 0 )
+                        success[0] = solve(k,1,d1,e1,values1,U1,V1);
+                    else
+                        success[1] = solve(n2,sqre2,d2,e2,values2,U2,V2);
+                }
+            }
+        };
+
+        if( EjmlParameters.CONCURRENT && n >= concurrentSize ) {
+            EjmlConcurrency.process(0,2,1,task);
+        } else {
+            task.process(0,2);
+        }
+
+        if( !success[0] || !success[1] )
+            return false;
+
+        merge(n,sqre,k,d[k],e[k],values1,U1,V1,values2,U2,V2,values,U,V);
+        return true;
+    }
+
+    /**
+     * Uses the QR algorithm to solve small problems
+     */
+    private boolean solveQr( int n , int sqre , double d[] , double e[] ,
+                             double values[] , DenseMatrix64F U , DenseMatrix64F V ) {
+        int m = n + sqre;
+        DenseMatrix64F B = new DenseMatrix64F(n,m);
+        for( int i = 0; i < n; i++ ) {
+            B.data[i*m+i] = d[i];
+            if( i+1 < m )
+                B.data[i*m+i+1] = e[i];
+        }
+
+        SvdImplicitQrDecompose_D64 svd = new SvdImplicitQrDecompose_D64(false,true,true,false);
+        if( !svd.decompose(B) )
+            return false;
+
+        double found[] = svd.getSingularValues();
+        DenseMatrix64F Uf = svd.getU(null,false);
+        DenseMatrix64F Vf = svd.getV(null,false);
+
+        int order[] = sortedOrder(found,n);
+        U.reshape(n,n,false);
+        V.reshape(m,m,false);
+        for( int i = 0; i < n; i++ ) {
+            values[i] = found[order[i]];
+            copyColumn(Uf,order[i],U,i);
+            copyColumn(Vf,order[i],V,i);
+        }
+        // the null vector
+        if( sqre == 1 )
+            copyColumn(Vf,n,V,n);
+
+        return true;
+    }
+
+    /**
+     * Computes the SVD of the n by (n+sqre) matrix from the SVD of the two halves and the row which was removed.
+     */
+    private void merge( int n , int sqre , int k , double alpha , double beta ,
+                        double values1[] , DenseMatrix64F U1 , DenseMatrix64F V1 ,
+                        double values2[] , DenseMatrix64F U2 , DenseMatrix64F V2 ,
+                        double values[] , DenseMatrix64F U , DenseMatrix64F V )
+    {
+        int n1 = k;
+        int n2 = n-k-1;
+        int M = n+sqre;
+
+        // scale the problem so that the squared singular values don't underflow
+        double scale = Math.max(Math.abs(alpha),Math.abs(beta));
+        for( int i = 0; i < n1; i++ )
+            scale = Math.max(scale,values1[i]);
+        for( int i = 0; i < n2; i++ )
+            scale = Math.max(scale,values2[i]);
+        if( scale == 0 )
+            scale = 1;
+        alpha /= scale;
+        beta /= scale;
+
+        // The problem is transformed into Ufull*[z';0 D]*Vfull' where the first row is z and D is diagonal.
+        // The first column in Vfull is associated with the null vectors of the two halves and has d=0.
+        DenseMatrix64F Ufull = new DenseMatrix64F(n,n);
+        DenseMatrix64F Vfull = new DenseMatrix64F(M,M);
+        double z[] = new double[n];
+        double dd[] = new double[n];
+
+        // which rows each column has non-zero elements in.  1 = upper, 2 = lower, 3 = both
+        int blocksU[] = new int[n];
+        int blocksV[] = new int[n];
+
+        Ufull.data[k*n] = 1;
+        blocksU[0] = 1;
+        for( int j = 0; j < n1; j++ ) {
+            int col = 1+j;
+            for( int row = 0; row < n1; row++ )
+                Ufull.data[row*n+col] = U1.data[row*n1+j];
+            for( int row = 0; row <= k; row++ )
+                Vfull.data[row*M+col] = V1.data[row*(n1+1)+j];
+            dd[col] = values1[j]/scale;
+            z[col] = alpha*V1.data[k*(n1+1)+j];
+            blocksU[col] = blocksV[col] = 1;
+        }
+        int m2 = n2+sqre;
+        for( int j = 0; j < n2; j++ ) {
+            int col = 1+n1+j;
+            for( int row = 0; row < n2; row++ )
+                Ufull.data[(k+1+row)*n+col] = U2.data[row*n2+j];
+            for( int row = 0; row < m2; row++ )
+                Vfull.data[(k+1+row)*M+col] = V2.data[row*m2+j];
+            dd[col] = values2[j]/scale;
+            z[col] = beta*V2.data[j];
+            blocksU[col] = blocksV[col] = 2;
+        }
+
+        // combine the null vectors of the two halves
+        double a = alpha*V1.data[k*(n1+1)+k];
+        double b = sqre == 1 ? beta*V2.data[n2] : 0;
+        double r0 = Math.sqrt(a*a + b*b);
+        double ca = 1, cb = 0;
+        if( r0 != 0 ) {
+            ca = a/r0;
+            cb = b/r0;
+        }
+        for( int row = 0; row <= k; row++ ) {
+            double v = V1.data[row*(n1+1)+k];
+            Vfull.data[row*M] = ca*v;
+            if( sqre == 1 )
+                Vfull.data[row*M+n] = -cb*v;
+        }
+        if( sqre == 1 ) {
+            for( int row = 0; row < m2; row++ ) {
+                double v = V2.data[row*m2+n2];
+                Vfull.data[(k+1+row)*M] = cb*v;
+                Vfull.data[(k+1+row)*M+n] = ca*v;
+            }
+        }
+        z[0] = r0;
+        blocksV[0] = cb != 0 ? 3 : 1;
+
+        // ------- Deflation
+        int order[] = sortedOrder(dd,n);
+        // the first column has d=0 and must be first.  it's moved if there are other zeros
+        for( int i = n-1; i > 0; i-- ) {
+            if( order[i] == 0 ) {
+                System.arraycopy(order,0,order,1,i);
+                order[0] = 0;
+                break;
+            }
+        }
+
+        double maxAbs = 0;
+        for( int i = 0; i < n; i++ )
+            maxAbs = Math.max(maxAbs,Math.max(Math.abs(dd[i]),Math.abs(z[i])));
+
+        // the whole matrix is zero.  All the singular values are zero and Ufull, Vfull are already orthogonal
+        if( maxAbs == 0 ) {
+            U.setReshape(Ufull);
+            V.setReshape(Vfull);
+            for( int i = 0; i < n; i++ )
+                values[i] = 0;
+            return;
+        }
+        double tol = 8.0*UtilEjml.EPS*maxAbs;
+
+        // if z[0] is zero then a singular value is zero, which is handled by a perturbation
+        if( Math.abs(z[0]) <= tol )
+            z[0] = tol;
+
+        double found[] = new double[n];
+        int foundCol[] = new int[n];
+        int numFound = 0;
+
+        int secular[] = new int[n];
+        int numSecular = 0;
+
+        int prev = 0;
+        for( int i = 1; i < n; i++ ) {
+            int col = order[i];
+
+            if( Math.abs(z[col]) <= tol ) {
+                found[numFound] = dd[col];
+                foundCol[numFound++] = col;
+                continue;
+            }
+
+            if( prev == 0 ) {
+                if( dd[col] <= tol ) {
+                    // rotate the right singular vector so that this column has no z component
+                    double r = Math.sqrt(z[0]*z[0] + z[col]*z[col]);
+                    double c = z[0]/r;
+                    double s = z[col]/r;
+                    rotateColumns(Vfull,0,col,c,-s);
+                    blocksV[0] = blocksV[col] = blocksV[0] | blocksV[col];
+                    z[0] = r;
+                    found[numFound] = c*dd[col];
+                    foundCol[numFound++] = col;
+                    continue;
+                }
+            } else {
+                // see if the two singular values are close enough that a rotation can zero one of the z elements
+                int colP = order[prev];
+                double r = Math.sqrt(z[colP]*z[colP] + z[col]*z[col]);
+                double c = z[col]/r;
+                double s = z[colP]/r;
+
+                if( Math.abs(c*s*(dd[colP]-dd[col])) <= tol ) {
+                    rotateColumns(Ufull,colP,col,c,s);
+                    rotateColumns(Vfull,colP,col,c,s);
+                    blocksU[colP] = blocksU[col] = blocksU[colP] | blocksU[col];
+                    blocksV[colP] = blocksV[col] = blocksV[colP] | blocksV[col];
+
+                    double dp = c*c*dd[colP] + s*s*dd[col];
+                    dd[col] = s*s*dd[colP] + c*c*dd[col];
+                    z[col] = r;
+                    z[colP] = 0;
+
+                    found[numFound] = dp;
+                    foundCol[numFound++] = colP;
+                    prev = i;
+                    continue;
+                }
+            }
+            secular[numSecular++] = prev;
+            prev = i;
+        }
+        secular[numSecular++] = prev;
+
+        // ------- Solve the secular equation for the remaining singular values
+        int K = numSecular;
+        double dk[] = new double[K];
+        double zk[] = new double[K];
+        int cols[] = new int[K];
+        for( int i = 0; i < K; i++ ) {
+            cols[i] = order[secular[i]];
+            dk[i] = dd[cols[i]];
+            zk[i] = z[cols[i]];
+        }
+
+        SecularEquation secularEq = new SecularEquation();
+        secularEq.process(dk,zk,K,1.0,true);
+
+        // recompute z so that it exactly corresponds to the found singular values
+        double zhat[] = new double[K];
+        secularEq.recomputeZ(zhat);
+
+        // ------- Singular vectors of [z';0 D]
+        DenseMatrix64F Us = new DenseMatrix64F(K,K);
+        DenseMatrix64F Vs = new DenseMatrix64F(K,K);
+        for( int i = 0; i < K; i++ ) {
+            double normU = 1, normV = 0;
+            Us.data[i] = -1;
+            for( int j = 0; j < K; j++ ) {
+                double v = zhat[j]/secularEq.diff(j,i);
+                Vs.data[j*K+i] = v;
+                normV += v*v;
+                if( j > 0 ) {
+                    double u = dk[j]*v;
+                    Us.data[j*K+i] = u;
+                    normU += u*u;
+                }
+            }
+            normU = Math.sqrt(normU);
+            normV = Math.sqrt(normV);
+            for( int j = 0; j < K; j++ ) {
+                Us.data[j*K+i] /= normU;
+                Vs.data[j*K+i] /= normV;
+            }
+        }
+
+        // multiply by the singular vectors of the two halves
+        DenseMatrix64F Unew = new DenseMatrix64F(n,K);
+        DenseMatrix64F Vnew = new DenseMatrix64F(M,K);
+        multBlock(Ufull,Us,cols,blocksU,1,0,k+1,Unew);
+        multBlock(Ufull,Us,cols,blocksU,2,k+1,n,Unew);
+        multBlock(Vfull,Vs,cols,blocksV,1,0,k+1,Vnew);
+        multBlock(Vfull,Vs,cols,blocksV,2,k+1,M,Vnew);
+
+        for( int i = 0; i < K; i++ ) {
+            copyColumn(Unew,i,Ufull,cols[i]);
+            copyColumn(Vnew,i,Vfull,cols[i]);
+            found[numFound] = Math.sqrt(secularEq.getRoot(i));
+            foundCol[numFound++] = cols[i];
+        }
+
+        // ------- Sort the singular values into ascending order
+        int sorted[] = sortedOrder(found,n);
+        U.reshape(n,n,false);
+        V.reshape(M,M,false);
+        for( int i = 0; i < n; i++ ) {
+            values[i] = found[sorted[i]]*scale;
+            int col = foundCol[sorted[i]];
+            copyColumn(Ufull,col,U,i);
+            copyColumn(Vfull,col,V,i);
+        }
+        if( sqre == 1 )
+            copyColumn(Vfull,n,V,n);
+    }
+
+    /**
+     * Computes rows row0 to row1 of W(:,cols)*X using only the columns in W which have non-zero
+     * elements in those rows.
+     */
+    private static void multBlock( DenseMatrix64F W , DenseMatrix64F X ,
+                                   int cols[] , int blocks[] , int block ,
+                                   int row0 , int row1 , DenseMatrix64F out )
+    {
+        int N = W.numCols;
+        int K = X.numCols;
+
+        int used[] = new int[K];
+        int numUsed = 0;
+        for( int i = 0; i < K; i++ ) {
+            if( (blocks[cols[i]] & block) != 0 )
+                used[numUsed++] = i;
+        }
+
+        // if no columns are used then those rows are zero, which out already is
+        int rows = row1-row0;
+        if( rows <= 0 || numUsed == 0 )
+            return;
+
+        DenseMatrix64F Wb = new DenseMatrix64F(rows,numUsed);
+        DenseMatrix64F Xb = new DenseMatrix64F(numUsed,K);
+        for( int row = 0; row < rows; row++ ) {
+            int indexW = (row+row0)*N;
+            for( int i = 0; i < numUsed; i++ ) {
+                Wb.data[row*numUsed+i] = W.data[indexW+cols[used[i]]];
+            }
+        }
+        for( int i = 0; i < numUsed; i++ ) {
+            System.arraycopy(X.data,used[i]*K,Xb.data,i*K,K);
+        }
+
+        DenseMatrix64F Ob = new DenseMatrix64F(rows,K);
+        CommonOps.mult(Wb,Xb,Ob);
+        System.arraycopy(Ob.data,0,out.data,row0*K,rows*K);
+    }
+
+    /**
+     * Applies a Givens rotation to columns i and j.
+     */
+    private static void rotateColumns( DenseMatrix64F W , int i , int j , double c , double s ) {
+        int N = W.numCols;
+        for( int row = 0; row < W.numRows; row++ ) {
+            double wi = W.data[row*N+i];
+            double wj = W.data[row*N+j];
+            W.data[row*N+i] = c*wi - s*wj;
+            W.data[row*N+j] = s*wi + c*wj;
+        }
+    }
+
+    private static void copyColumn( DenseMatrix64F src , int colSrc , DenseMatrix64F dst , int colDst ) {
+        for( int row = 0; row < src.numRows; row++ ) {
+            dst.data[row*dst.numCols+colDst] = src.data[row*src.numCols+colSrc];
+        }
+    }
+
+    /**
+     * Returns the indexes of the first N elements sorted so that the values are in ascending order
+     */
+    private static int[] sortedOrder( double values[] , int N ) {
+        Integer order[] = new Integer[N];
+        for( int i = 0; i < N; i++ )
+            order[i] = i;
+        final double v[] = values;
+        Arrays.sort(order,new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Double.compare(v[o1],v[o2]);
+            }
+        });
+        int ret[] = new int[N];
+        for( int i = 0; i < N; i++ )
+            ret[i] = order[i];
+        return ret;
+    }
+}
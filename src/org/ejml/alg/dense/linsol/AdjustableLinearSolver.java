@@ -49,4 +49,21 @@ public interface AdjustableLinearSolver extends LinearSolver<DenseMatrix64F> {
      * @return If it succeeded or not.
      */
     public boolean removeRowFromA( int index );
+
+    /**
+     * Adds a column to A.  This has the same effect as creating a new A and calling {@link #setA}.
+     *
+     * @param A_col The column in A.
+     * @param colIndex Where the column appears in A.
+     * @return if it succeeded or not.
+     */
+    public boolean addColToA( double []A_col , int colIndex );
+
+    /**
+     * Removes a column from A.  This has the same effect as creating a new A and calling {@link #setA}.
+     *
+     * @param index which column is removed from A.
+     * @return If it succeeded or not.
+     */
+    public boolean removeColFromA( int index );
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.linsol;
+
+import org.ejml.alg.dense.decomposition.TriangularSolver;
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionCommon_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionBase_D64;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+
+
+/**
+ * <p>
+ * Estimates ||A<sup>-1</sup>||<sub>1</sub> from an existing LU, Cholesky, or QR decomposition of a square
+ * matrix A.  The estimate is a lower bound which is almost always within a factor of 3 of the true value.  The
+ * 1-norm condition number is then &kappa;<sub>1</sub> = ||A||<sub>1</sub>||A<sup>-1</sup>||<sub>1</sub>.
+ * </p>
+ *
+ * <p>
+ * Hager's method finds the maximum of ||A<sup>-1</sup>x||<sub>1</sub> over the unit ball by gradient ascent.
+ * Each step requires solving a system with A and A<sup>T</sup>, which is O(n<sup>2</sup>) given the
+ * decomposition, and it converges in a few steps.  This implementation follows Higham's refinement, which is
+ * used in LAPACK's DLACN2.  Computing the inverse and its norm would be O(n<sup>3</sup>).
+ * </p>
+ *
+ * <p>
+ * N. J. Higham, "FORTRAN Codes for Estimating the One-Norm of a Real or Complex Matrix, with Applications to
+ * Condition Estimation" ACM Trans. Math. Softw. 14 (1988) 381-396
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConditionEstimatorP1_D64 {
+
+    // maximum number of iterations
+    private static final int MAX_ITERATIONS = 5;
+
+    // the decomposition which is currently being processed.  only one is not null
+    private LUDecompositionBase_D64 lu;
+    private CholeskyDecompositionCommon_D64 chol;
+    private QRDecompositionHouseholderColumn_D64 qr;
+
+    private int N;
+
+    // storage for the vectors
+    private double x[] = new double[0];
+    private double xi[] = new double[0];
+
+    /**
+     * Estimates the 1-norm of the inverse from its LU decomposition.
+     *
+     * @param decomp LU decomposition of a square matrix.  Not modified.
+     * @return Estimate of ||A<sup>-1</sup>||<sub>1</sub>.  Infinity if singular.
+     */
+    public double inverseNorm( LUDecompositionBase_D64 decomp ) {
+        if( decomp.getLU().numRows != decomp.getLU().numCols )
+            throw new IllegalArgumentException("Must be a square matrix");
+        if( isSingular(decomp.getLU().data,decomp.getLU().numCols) )
+            return Double.POSITIVE_INFINITY;
+
+        lu = decomp;
+        double ret = estimate(decomp.getLU().numCols);
+        lu = null;
+        return ret;
+    }
+
+    /**
+     * Estimates the 1-norm of the inverse from its Cholesky decomposition.
+     *
+     * @param decomp Cholesky decomposition.  Not modified.
+     * @return Estimate of ||A<sup>-1</sup>||<sub>1</sub>.  Infinity if singular.
+     */
+    public double inverseNorm( CholeskyDecompositionCommon_D64 decomp ) {
+        if( isSingular(decomp.getT().data,decomp.getT().numCols) )
+            return Double.POSITIVE_INFINITY;
+
+        chol = decomp;
+        double ret = estimate(decomp.getT().numCols);
+        chol = null;
+        return ret;
+    }
+
+    /**
+     * Estimates the 1-norm of the inverse from its QR decomposition.
+     *
+     * @param decomp QR decomposition of a square matrix.  Not modified.
+     * @return Estimate of ||A<sup>-1</sup>||<sub>1</sub>.  Infinity if singular.
+     */
+    public double inverseNorm( QRDecompositionHouseholderColumn_D64 decomp ) {
+        double QR[][] = decomp.getQR();
+        int n = QR.length;
+        if( n == 0 || QR[0].length < n )
+            throw new IllegalArgumentException("Must be a square matrix");
+        for( int i = 0; i < n; i++ ) {
+            if( QR[i][i] == 0 )
+                return Double.POSITIVE_INFINITY;
+        }
+
+        qr = decomp;
+        double ret = estimate(n);
+        qr = null;
+        return ret;
+    }
+
+    /**
+     * Reciprocal of the 1-norm condition number.  This is the form that LAPACK uses since it is in the range
+     * [0,1], with 0 indicating a singular matrix, and doesn't overflow.
+     *
+     * @param normA ||A||<sub>1</sub>
+     * @param normInv ||A<sup>-1</sup>||<sub>1</sub>
+     */
+    public static double rcond( double normA , double normInv ) {
+        if( normA == 0 || Double.isInfinite(normInv) )
+            return 0;
+        return (1.0/normA)/normInv;
+    }
+
+    /**
+     * Hager's method with Higham's modifications.
+     *
+     * @param N Number of rows and columns in the matrix.
+     */
+    protected double estimate( int N ) {
+        this.N = N;
+        if( x.length < N ) {
+            x = new double[ N ];
+            xi = new double[ N ];
+        }
+
+        // start with a vector which has an equal weight in each element
+        for( int i = 0; i < N; i++ )
+            x[i] = 1.0/N;
+        solve(x,false);
+        double est = norm1(x);
+        if( N == 1 )
+            return est;
+
+        setSign(x,xi);
+        System.arraycopy(xi,0,x,0,N);
+        solve(x,true);
+        int j = indexMaxAbs(x);
+
+        for( int iter = 2; iter <= MAX_ITERATIONS; iter++ ) {
+            // x = e_j
+            for( int i = 0; i < N; i++ )
+                x[i] = 0;
+            x[j] = 1;
+            solve(x,false);
+
+            double estOld = est;
+            est = norm1(x);
+
+            // stop if the signs are repeated or it didn't improve
+            if( sameSign(x,xi) || est <= estOld ) {
+                est = Math.max(est,estOld);
+                break;
+            }
+
+            setSign(x,xi);
+            System.arraycopy(xi,0,x,0,N);
+            solve(x,true);
+
+            int jlast = j;
+            j = indexMaxAbs(x);
+            if( Math.abs(x[jlast]) == Math.abs(x[j]) )
+                break;
+        }
+
+        // an alternative estimate which catches the cases where the gradient ascent does poorly
+        for( int i = 0; i < N; i++ ) {
+            double v = 1.0 + (double)i/(N-1);
+            x[i] = i % 2 == 0 ? v : -v;
+        }
+        solve(x,false);
+        double alt = 2.0*norm1(x)/(3.0*N);
+
+        return Math.max(est,alt);
+    }
+
+    /**
+     * Computes x = A<sup>-1</sup>x or x = A<sup>-T</sup>x using the decomposition
+     */
+    protected void solve( double x[] , boolean transpose ) {
+        if( lu != null ) {
+            if( transpose )
+                solveTranLU(x);
+            else
+                lu._solveVectorInternal(x);
+        } else if( chol != null ) {
+            // A is symmetric so the transpose doesn't matter
+            double T[] = chol.getT().data;
+            if( chol.isLower() ) {
+                TriangularSolver.solveL(T,x,N);
+                TriangularSolver.solveTranL(T,x,N);
+            } else {
+                solveTranU(T,x,N);
+                TriangularSolver.solveU(T,x,N);
+            }
+        } else {
+            if( transpose )
+                solveTranQR(x);
+            else
+                solveQR(x);
+        }
+    }
+
+    /**
+     * A = P<sup>T</sup>LU so A<sup>-T</sup>x = P<sup>T</sup>L<sup>-T</sup>U<sup>-T</sup>x
+     */
+    private void solveTranLU( double x[] ) {
+        double dataLU[] = lu.getLU().data;
+        int indx[] = lu.getIndx();
+
+        solveTranU(dataLU,x,N);
+
+        // L has ones along its diagonal
+        for( int i = N-1; i >= 0; i-- ) {
+            double sum = x[i];
+            for( int k = i+1; k < N; k++ ) {
+                sum -= dataLU[k*N+i]*x[k];
+            }
+            x[i] = sum;
+        }
+
+        // undo the row swaps in the reverse order that they were done in
+        for( int i = N-1; i >= 0; i-- ) {
+            int ip = indx[i];
+            double t = x[i];
+            x[i] = x[ip];
+            x[ip] = t;
+        }
+    }
+
+    /**
+     * A = QR so A<sup>-1</sup>x = R<sup>-1</sup>Q<sup>T</sup>x
+     */
+    private void solveQR( double x[] ) {
+        double QR[][] = qr.getQR();
+        double gammas[] = qr.getGammas();
+
+        for( int k = 0; k < N; k++ ) {
+            applyHouseholder(QR[k],gammas[k],k,x);
+        }
+
+        // R is stored in the upper triangle of the column major matrix
+        for( int i = N-1; i >= 0; i-- ) {
+            double sum = x[i];
+            for( int j = i+1; j < N; j++ ) {
+                sum -= QR[j][i]*x[j];
+            }
+            x[i] = sum/QR[i][i];
+        }
+    }
+
+    /**
+     * A = QR so A<sup>-T</sup>x = QR<sup>-T</sup>x
+     */
+    private void solveTranQR( double x[] ) {
+        double QR[][] = qr.getQR();
+        double gammas[] = qr.getGammas();
+
+        for( int i = 0; i < N; i++ ) {
+            double colR[] = QR[i];
+            double sum = x[i];
+            for( int k = 0; k < i; k++ ) {
+                sum -= colR[k]*x[k];
+            }
+            x[i] = sum/colR[i];
+        }
+
+        for( int k = N-1; k >= 0; k-- ) {
+            applyHouseholder(QR[k],gammas[k],k,x);
+        }
+    }
+
+    /**
+     * x = (I - &gamma;uu<sup>T</sup>)x where u[k] = 1 and the elements before k are zero.
+     */
+    private void applyHouseholder( double u[] , double gamma , int k , double x[] ) {
+        double sum = x[k];
+        for( int i = k+1; i < N; i++ ) {
+            sum += u[i]*x[i];
+        }
+        sum *= gamma;
+        x[k] -= sum;
+        for( int i = k+1; i < N; i++ ) {
+            x[i] -= sum*u[i];
+        }
+    }
+
+    /**
+     * Solves U<sup>T</sup>x = b, where U is an upper triangular matrix and b is stored in x.
+     */
+    private static void solveTranU( double U[] , double x[] , int N ) {
+        for( int i = 0; i < N; i++ ) {
+            double sum = x[i];
+            for( int k = 0; k < i; k++ ) {
+                sum -= U[k*N+i]*x[k];
+            }
+            x[i] = sum/U[i*N+i];
+        }
+    }
+
+    private static boolean isSingular( double T[] , int N ) {
+        for( int i = 0; i < N; i++ ) {
+            if( T[i*N+i] == 0 )
+                return true;
+        }
+        return false;
+    }
+
+    private double norm1( double x[] ) {
+        double total = 0;
+        for( int i = 0; i < N; i++ )
+            total += Math.abs(x[i]);
+        return total;
+    }
+
+    private void setSign( double x[] , double sign[] ) {
+        for( int i = 0; i < N; i++ )
+            sign[i] = x[i] >= 0 ? 1 : -1;
+    }
+
+    private boolean sameSign( double x[] , double sign[] ) {
+        for( int i = 0; i < N; i++ ) {
+            if( (x[i] >= 0 ? 1 : -1) != sign[i] )
+                return false;
+        }
+        return true;
+    }
+
+    private int indexMaxAbs( double x[] ) {
+        int best = 0;
+        double max = Math.abs(x[0]);
+        for( int i = 1; i < N; i++ ) {
+            double v = Math.abs(x[i]);
+            if( v > max ) {
+                max = v;
+                best = i;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.linsol;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.linsol.LinearSolver;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.ConvertMatrixType;
+
+
+/**
+ * <p>
+ * Solves a square linear system by factoring a single precision copy of A, then refining the solution in double
+ * precision.  Factoring is the most expensive step, O(n<sup>3</sup>), and the single precision factorization
+ * requires half the memory.  Each refinement iteration is O(n<sup>2</sup>):<br>
+ * <br>
+ * R = B - A*X  (double precision)<br>
+ * A*D = R  (single precision, using the existing factorization)<br>
+ * X = X + D<br>
+ * <br>
+ * If A is not too ill conditioned, about &kappa;(A) &lt; 10<sup>6</sup>, this converges to the same accuracy
+ * as a double precision solver in a few iterations.  When the refinement stalls or the single precision
+ * factorization fails the system is solved with the double precision solver instead.  Once that happens the
+ * double precision solver is used until the next call to {@link #setA(DenseMatrix64F)}.
+ * </p>
+ *
+ * <p>
+ * Converged when |R|<sub>max</sub> &le; |X|<sub>max</sub>*|A|<sub>max</sub>*&epsilon;*sqrt(n) for each column.
+ * This is the same criteria used by LAPACK's DSGESV.
+ * </p>
+ *
+ * <p>
+ * Only the memory saving is guaranteed.  Java performs scalar float arithmetic at about the same rate as double,
+ * so any speed up comes from reduced memory traffic.  In benchmarks it was about 1.2 times faster than the
+ * unblocked double precision LU and Cholesky solvers for n from 800 to 1500.  The single precision solvers are not
+ * blocked, so it is slower than the block double precision solvers which {@link org.ejml.factory.LinearSolverFactory}
+ * returns for large matrices.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverMixedPrecision extends LinearSolverAbstract {
+
+    // single precision solver which is used to find the initial solution and the corrections
+    private LinearSolver<DenseMatrix32F> solver32;
+    // double precision solver which is used when the refinement fails
+    private LinearSolver<DenseMatrix64F> fallback;
+
+    // maximum number of refinement iterations
+    private int maxIterations = 30;
+
+    // true if the fallback solver has been set up and should be used
+    private boolean useFallback;
+    // the number of refinement iterations in the most recent call to solve
+    private int iterations;
+
+    // largest absolute value element in A
+    private double maxAbsA;
+
+    // single precision storage
+    private DenseMatrix32F A32 = new DenseMatrix32F(1,1);
+    private DenseMatrix32F B32 = new DenseMatrix32F(1,1);
+    private DenseMatrix32F X32 = new DenseMatrix32F(1,1);
+
+    // double precision storage
+    private DenseMatrix64F R = new DenseMatrix64F(1,1);
+    private DenseMatrix64F D = new DenseMatrix64F(1,1);
+    private DenseMatrix64F Acopy = new DenseMatrix64F(1,1);
+
+    /**
+     * @param solver32 Solver for square systems in single precision.
+     * @param fallback Solver for the same type of system in double precision.
+     */
+    public LinearSolverMixedPrecision( LinearSolver<DenseMatrix32F> solver32 ,
+                                       LinearSolver<DenseMatrix64F> fallback ) {
+        this.solver32 = solver32;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Specifies the maximum number of refinement iterations before it switches to the double precision solver.
+     * Default is 30.
+     */
+    public void setMaxIterations( int maxIterations ) {
+        this.maxIterations = maxIterations;
+    }
+
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be square");
+
+        _setA(A);
+        maxAbsA = CommonOps.elementMaxAbs(A);
+        useFallback = false;
+
+        // values too large for single precision can't be processed
+        if( maxAbsA < Float.MAX_VALUE ) {
+            A32.reshape(A.numRows,A.numCols);
+            ConvertMatrixType.convert(A,A32);
+            if( solver32.setA(A32) )
+                return true;
+        }
+
+        return setUpFallback();
+    }
+
+    @Override
+    public double quality() {
+        if( useFallback )
+            return fallback.quality();
+        return solver32.quality();
+    }
+
+    @Override
+    public void solve( DenseMatrix64F B , DenseMatrix64F X ) {
+        if( B.numRows != numRows || X.numRows != numCols || B.numCols != X.numCols )
+            throw new IllegalArgumentException("Unexpected matrix size");
+
+        iterations = 0;
+        if( useFallback ) {
+            fallback.solve(B,X);
+            return;
+        }
+
+        int numColsB = B.numCols;
+        B32.reshape(numRows,numColsB);
+        X32.reshape(numCols,numColsB);
+        R.reshape(numRows,numColsB);
+        D.reshape(numCols,numColsB);
+
+        // initial solution
+        ConvertMatrixType.convert(B,B32);
+        solver32.solve(B32,X32);
+        // B might be the same instance as X, so save the residual before X is written to
+        computeResidual(B,X32);
+        ConvertMatrixType.convert(X32,X);
+
+        double threshold = maxAbsA*UtilEjml.EPS*Math.sqrt(numCols);
+        double prevResidual = Double.MAX_VALUE;
+
+        while( true ) {
+            double residual = largestRelativeResidual(X,threshold);
+            if( residual <= 1 )
+                return;
+
+            // switch to double precision if it isn't improving fast enough
+            if( iterations >= maxIterations || !(residual < 0.5*prevResidual) )
+                break;
+            prevResidual = residual;
+            iterations++;
+
+            // solve for the correction in single precision
+            ConvertMatrixType.convert(R,B32);
+            solver32.solve(B32,X32);
+            ConvertMatrixType.convert(X32,D);
+            CommonOps.addEquals(X,D);
+
+            updateResidual();
+        }
+
+        if( !setUpFallback() )
+            return;
+
+        if( B != X ) {
+            fallback.solve(B,X);
+        } else {
+            // B has been overwritten, recover it from the residual.  B = R + A*X
+            CommonOps.multAdd(A,X,R);
+            fallback.solve(R,X);
+        }
+    }
+
+    /**
+     * Computes R = B - A*X32
+     */
+    private void computeResidual( DenseMatrix64F B , DenseMatrix32F X32 ) {
+        ConvertMatrixType.convert(X32,D);
+        CommonOps.mult(A,D,R);
+        CommonOps.sub(B,R,R);
+    }
+
+    /**
+     * Updates the residual after X has been modified by a correction in D.  R = R - A*D
+     */
+    private void updateResidual() {
+        CommonOps.multAdd(-1,A,D,R);
+    }
+
+    /**
+     * Returns the largest ratio of |R|<sub>max</sub> to its convergence threshold across all the columns.  A value
+     * &le; 1 means it has converged.
+     */
+    private double largestRelativeResidual( DenseMatrix64F X , double threshold ) {
+        int numColsB = X.numCols;
+        double worst = 0;
+        for( int col = 0; col < numColsB; col++ ) {
+            double maxR = 0, maxX = 0;
+            for( int row = 0; row < numCols; row++ ) {
+                int index = row*numColsB + col;
+                maxR = Math.max(maxR,Math.abs(R.data[index]));
+                maxX = Math.max(maxX,Math.abs(X.data[index]));
+            }
+            // NaN would fail the test below and cause it to fall back
+            if( !(maxR <= Double.MAX_VALUE) )
+                return Double.MAX_VALUE;
+            if( maxR == 0 )
+                continue;
+            double ratio = maxR/(maxX*threshold);
+            if( !(ratio <= worst) )
+                worst = ratio;
+        }
+        return worst;
+    }
+
+    /**
+     * Computes the double precision decomposition of A
+     */
+    private boolean setUpFallback() {
+        if( !useFallback ) {
+            useFallback = true;
+            DenseMatrix64F M = A;
+            if( fallback.modifiesA() ) {
+                Acopy.reshape(A.numRows,A.numCols);
+                Acopy.set(A);
+                M = Acopy;
+            }
+            if( !fallback.setA(M) )
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Number of refinement iterations used in the most recent call to solve.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns true if the double precision solver is being used.
+     */
+    public boolean isUsingFallback() {
+        return useFallback;
+    }
+
+    public LinearSolver<DenseMatrix32F> getSolver32() {
+        return solver32;
+    }
+
+    public LinearSolver<DenseMatrix64F> getFallback() {
+        return fallback;
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.chol;
+
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
+import org.ejml.alg.dense.decomposition.chol.CholeskyUpdate_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.NormOps;
+
+
+/**
+ * A solver for Cholesky decomposition that can efficiently modify the previous decomposition when
+ * the symmetric positive definite matrix A undergoes a rank-1 modification, A &plusmn; x*x<sup>T</sup>.
+ *
+ * @see CholeskyUpdate_D64
+ *
+ * @author Peter Abeles
+ */
+public class AdjLinearSolverChol extends LinearSolverChol {
+
+    private CholeskyUpdate_D64 update = new CholeskyUpdate_D64();
+
+    private DenseMatrix64F A_found = new DenseMatrix64F(1,1);
+
+    // true if the decomposition has been modified since normA1 was computed
+    private boolean staleNormA1;
+
+    public AdjLinearSolverChol() {
+        super( new CholeskyDecompositionInner_D64(true) );
+    }
+
+    @Override
+    public boolean setA(DenseMatrix64F A) {
+        staleNormA1 = false;
+        return super.setA(A);
+    }
+
+    /**
+     * Estimate of the reciprocal condition number.  If the decomposition has been modified by {@link #update}
+     * or {@link #downdate} then the first call needs to compute A from its factor, which is O(n<sup>3</sup>).
+     */
+    @Override
+    public double quality() {
+        if( staleNormA1 ) {
+            normA1 = NormOps.inducedP1(getA());
+            staleNormA1 = false;
+        }
+        return super.quality();
+    }
+
+    /**
+     * Compute the A matrix from the Cholesky factor.
+     *
+     * @return The A matrix.
+     */
+    @Override
+    public DenseMatrix64F getA() {
+        A_found.reshape(n,n,false);
+
+        for( int i = 0; i < n; i++ ) {
+            for( int j = 0; j <= i; j++ ) {
+                double sum = 0;
+                for( int k = 0; k <= j; k++ ) {
+                    sum += t[i*n+k]*t[j*n+k];
+                }
+                A_found.data[i*n+j] = A_found.data[j*n+i] = sum;
+            }
+        }
+
+        return A_found;
+    }
+
+    /**
+     * Modifies the decomposition so that it is the decomposition of A + x*x<sup>T</sup>.
+     *
+     * @param x Vector with n elements. Not modified.
+     * @return if it succeeded or not.
+     */
+    public boolean update( double x[] ) {
+        update.update(decomp.getT(),true,x);
+        staleNormA1 = true;
+        return true;
+    }
+
+    /**
+     * Modifies the decomposition so that it is the decomposition of A - x*x<sup>T</sup>.  If the
+     * resulting matrix is not positive definite then false is returned and the decomposition is not changed.
+     *
+     * @param x Vector with n elements. Not modified.
+     * @return if it succeeded or not.
+     */
+    public boolean downdate( double x[] ) {
+        if( !update.downdate(decomp.getT(),true,x) )
+            return false;
+        staleNormA1 = true;
+        return true;
+    }
+}
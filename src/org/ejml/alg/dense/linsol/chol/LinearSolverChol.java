@@ -20,9 +20,10 @@ package org.ejml.alg.dense.linsol.chol;
 
 import org.ejml.alg.dense.decomposition.TriangularSolver;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionCommon_D64;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D64;
 import org.ejml.alg.dense.linsol.LinearSolverAbstract;
 import org.ejml.data.DenseMatrix64F;
-import org.ejml.ops.SpecializedOps;
+import org.ejml.ops.NormOps;
 
 
 /**
@@ -35,6 +36,11 @@ public class LinearSolverChol extends LinearSolverAbstract {
     double vv[];
     double t[];
 
+    // used to estimate the condition number in quality()
+    ConditionEstimatorP1_D64 estimator = new ConditionEstimatorP1_D64();
+    // 1-norm of the A matrix, which is computed before A is modified
+    double normA1;
+
     public LinearSolverChol( CholeskyDecompositionCommon_D64 decomp ) {
         this.decomp = decomp;
     }
@@ -42,6 +48,7 @@ public class LinearSolverChol extends LinearSolverAbstract {
     @Override
     public boolean setA(DenseMatrix64F A) {
         _setA(A);
+        normA1 = NormOps.inducedP1(A);
 
         if( decomp.decompose(A) ){
             n = A.numCols;
@@ -53,9 +60,15 @@ public class LinearSolverChol extends LinearSolverAbstract {
         }
     }
 
+    /**
+     * Returns the reciprocal of the 1-norm condition number, which is estimated in O(n<sup>2</sup>)
+     * from the Cholesky decomposition.
+     *
+     * @see ConditionEstimatorP1_D64
+     */
     @Override
     public double quality() {
-        return SpecializedOps.qualityTriangular(true, decomp.getT());
+        return ConditionEstimatorP1_D64.rcond(normA1,estimator.inverseNorm(decomp));
     }
 
     /**
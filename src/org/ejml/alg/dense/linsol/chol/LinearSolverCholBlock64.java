@@ -36,6 +36,15 @@ public class LinearSolverCholBlock64 extends LinearSolver_B64_to_D64 {
         super(new BlockCholeskyOuterSolver());
     }
 
+    /**
+     * Creates a solver which uses the provided block solver internally.
+     *
+     * @param alg Block Cholesky solver.
+     */
+    public LinearSolverCholBlock64( BlockCholeskyOuterSolver alg ) {
+        super(alg);
+    }
+
     /**
      * Only converts the B matrix and passes that onto solve.  Te result is then copied into
      * the input 'X' matrix.
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.lq;
+
+import org.ejml.alg.dense.decomposition.lq.LQDecompositionHouseholder_D64;
+import org.ejml.alg.dense.linsol.LinearSolverAbstract;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.SpecializedOps;
+
+
+/**
+ * <p>
+ * Finds the minimum norm solution to an under determined system using LQ decomposition.  A is an m by n matrix
+ * with m &le; n and full rank.  Of all the solutions to Ax=b it returns the one which minimizes ||x||<sub>2</sub>.
+ * </p>
+ * <p>
+ * A = LQ = [L 0]Q, where Q is orthogonal, so the solution is x = Q<sup>T</sup>[y;0] with y = L<sup>-1</sup>b.<br>
+ * Any component of x that is in the null space of A would increase its norm without changing Ax, which is why
+ * the last n-m elements before Q<sup>T</sup> is applied are set to zero.
+ * </p>
+ *
+ * <p>
+ * A is decomposed in place, without being transposed, by {@link LQDecompositionHouseholder_D64}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverLqHouse extends LinearSolverAbstract {
+
+    private LQDecompositionHouseholder_D64 decomposer;
+
+    private double []a = new double[0];
+
+    private DenseMatrix64F LQ; // row major LQ matrix
+
+    /**
+     * Creates a linear solver that uses LQ decomposition.
+     */
+    public LinearSolverLqHouse() {
+        decomposer = new LQDecompositionHouseholder_D64();
+    }
+
+    /**
+     * Performs LQ decomposition on A
+     *
+     * @param A An m by n matrix with m &le; n.  Modified.
+     */
+    @Override
+    public boolean setA(DenseMatrix64F A) {
+        if( A.numRows > A.numCols )
+            throw new IllegalArgumentException("Can't solve for over determined systems.  Use a least-squares solver instead.");
+
+        if( a.length < A.numCols )
+            a = new double[ A.numCols ];
+
+        _setA(A);
+        if( !decomposer.decompose(A) )
+            return false;
+
+        LQ = decomposer.getLQ();
+        return true;
+    }
+
+    @Override
+    public double quality() {
+        return SpecializedOps.qualityTriangular(false, LQ);
+    }
+
+    /**
+     * Solves for the minimum norm X using the LQ decomposition.
+     *
+     * @param B A matrix that is m by k.  Not modified.
+     * @param X An n by k matrix where the solution is written to.  Modified.
+     */
+    @Override
+    public void solve(DenseMatrix64F B, DenseMatrix64F X) {
+        if( X.numRows != numCols )
+            throw new IllegalArgumentException("Unexpected dimensions for X: X rows = "+X.numRows+" expected = "+numCols);
+        else if( B.numRows != numRows || B.numCols != X.numCols )
+            throw new IllegalArgumentException("Unexpected dimensions for B");
+
+        final double gammas[] = decomposer.getGammas();
+        final double dataLQ[] = LQ.data;
+
+        final int BnumCols = B.numCols;
+
+        // solve each column one by one
+        for( int colB = 0; colB < BnumCols; colB++ ) {
+
+            // solve L*y = b
+            for( int i = 0; i < numRows; i++ ) {
+                int indexL = i*numCols;
+                double sum = B.data[i*BnumCols + colB];
+                for( int k = 0; k < i; k++ ) {
+                    sum -= dataLQ[indexL++]*a[k];
+                }
+                a[i] = sum/dataLQ[indexL];
+            }
+            for( int i = numRows; i < numCols; i++ ) {
+                a[i] = 0;
+            }
+
+            // x = Q^T*[y;0] = Q_0*Q_1*...*Q_{m-1}*[y;0]
+            //
+            // Q_n*b = (I-gamma*u*u^T)*b = b - u*(gamma*U^T*b)
+            for( int n = numRows-1; n >= 0; n-- ) {
+                int indexU = n*numCols + n + 1;
+
+                double ub = a[n];
+                // U^T*b
+                for( int i = n+1; i < numCols; i++ , indexU++ ) {
+                    ub += dataLQ[indexU]*a[i];
+                }
+
+                // gamma*U^T*b
+                ub *= gammas[n];
+
+                a[n] -= ub;
+                indexU = n*numCols + n + 1;
+                for( int i = n+1; i < numCols; i++ , indexU++) {
+                    a[i] -= dataLQ[indexU]*ub;
+                }
+            }
+
+            // save the results
+            for( int i = 0; i < numCols; i++ ) {
+                X.data[i*X.numCols+colB] = a[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomposer.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+}
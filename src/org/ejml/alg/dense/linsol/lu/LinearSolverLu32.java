@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.lu;
+
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionBase_D32;
+import org.ejml.data.DenseMatrix32F;
+
+
+/**
+ * For each column in the B matrix it makes a copy, which is then solved for and
+ * writen into X.  By making a copy of the column cpu cache issues are reduced.
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from LinearSolverLu</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverLu32 extends LinearSolverLuBase32 {
+
+    boolean doImprove = false;
+
+    public LinearSolverLu32( LUDecompositionBase_D32 decomp ) {
+        super(decomp);
+    }
+
+    public LinearSolverLu32( LUDecompositionBase_D32 decomp , boolean doImprove ) {
+        super(decomp);
+        this.doImprove = doImprove;
+    }
+
+
+    @Override
+    public void solve(DenseMatrix32F b, DenseMatrix32F x) {
+        if( b.numCols != x.numCols && b.numRows != numCols && x.numRows != numCols) {
+            throw new IllegalArgumentException("Unexpected matrix size");
+        }
+
+        int numCols = b.numCols;
+
+        float dataB[] = b.data;
+        float dataX[] = x.data;
+
+        float []vv = decomp._getVV();
+
+//        for( int j = 0; j < numCols; j++ ) {
+//            for( int i = 0; i < this.numCols; i++ ) vv[i] = dataB[i*numCols+j];
+//            decomp._solveVectorInternal(vv);
+//            for( int i = 0; i < this.numCols; i++ ) dataX[i*numCols+j] = vv[i];
+//        }
+        for( int j = 0; j < numCols; j++ ) {
+            int index = j;
+            for( int i = 0; i < this.numCols; i++ , index += numCols ) vv[i] = dataB[index];
+            decomp._solveVectorInternal(vv);
+            index = j;
+            for( int i = 0; i < this.numCols; i++ , index += numCols ) dataX[index] = vv[i];
+        }
+
+        if( doImprove ) {
+            improveSol(b,x);
+        }
+    }
+}
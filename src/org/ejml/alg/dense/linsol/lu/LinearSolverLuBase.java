@@ -19,8 +19,10 @@
 package org.ejml.alg.dense.linsol.lu;
 
 import org.ejml.alg.dense.decomposition.lu.LUDecompositionBase_D64;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D64;
 import org.ejml.alg.dense.linsol.LinearSolverAbstract;
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.NormOps;
 
 
 /**
@@ -30,6 +32,11 @@ public abstract class LinearSolverLuBase extends LinearSolverAbstract {
 
     protected LUDecompositionBase_D64 decomp;
 
+    // used to estimate the condition number in quality()
+    protected ConditionEstimatorP1_D64 estimator = new ConditionEstimatorP1_D64();
+    // 1-norm of the A matrix
+    protected double normA1;
+
     public LinearSolverLuBase( LUDecompositionBase_D64 decomp ) {
         this.decomp = decomp;
 
@@ -38,13 +45,20 @@ public abstract class LinearSolverLuBase extends LinearSolverAbstract {
     @Override
     public boolean setA(DenseMatrix64F A) {
         _setA(A);
+        normA1 = NormOps.inducedP1(A);
 
         return decomp.decompose(A);
     }
 
+    /**
+     * Returns the reciprocal of the 1-norm condition number, which is estimated in O(n<sup>2</sup>)
+     * from the LU decomposition.
+     *
+     * @see ConditionEstimatorP1_D64
+     */
     @Override
     public double quality() {
-        return decomp.quality();
+        return ConditionEstimatorP1_D64.rcond(normA1,estimator.inverseNorm(decomp));
     }
 
     @Override
@@ -93,4 +93,29 @@ public class AdjLinearSolverQr extends LinearSolverQr implements AdjustableLinea
         return true;
     }
 
+    @Override
+    public boolean addColToA(double[] A_col , int colIndex ) {
+        // see if it needs to grow the data structures
+        if( numCols + 1 > maxCols ) {
+            // grow by 10%
+            int grow = maxCols / 10;
+            if( grow < 1 ) grow = 1;
+            maxCols = numCols + grow;
+            R.reshape(maxRows,maxCols,true);
+            R.reshape(numRows,numCols,false);
+        }
+
+        update.addColumn(Q,R,A_col,colIndex);
+        numCols++;
+
+        return true;
+    }
+
+    @Override
+    public boolean removeColFromA(int index) {
+        update.deleteColumn(Q,R,index);
+        numCols--;
+        return true;
+    }
+
 }
@@ -21,8 +21,10 @@ package org.ejml.alg.dense.linsol.qr;
 import org.ejml.alg.dense.decomposition.TriangularSolver;
 import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
 import org.ejml.alg.dense.decomposition.qr.QrHelperFunctions;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D64;
 import org.ejml.alg.dense.linsol.LinearSolverAbstract;
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.NormOps;
 import org.ejml.ops.SpecializedOps;
 
 
@@ -58,6 +60,11 @@ public class LinearSolverQrHouseCol extends LinearSolverAbstract {
     private DenseMatrix64F R = new DenseMatrix64F(1,1);
     private double gammas[];
 
+    // used to estimate the condition number in quality()
+    private ConditionEstimatorP1_D64 estimator = new ConditionEstimatorP1_D64();
+    // 1-norm of the A matrix
+    private double normA1;
+
     /**
      * Creates a linear solver that uses QR decomposition.
      */
@@ -85,6 +92,7 @@ public class LinearSolverQrHouseCol extends LinearSolverAbstract {
         temp.reshape(A.numRows,1);
 
         _setA(A);
+        normA1 = NormOps.inducedP1(A);
         if( !decomposer.decompose(A) )
             return false;
 
@@ -94,8 +102,16 @@ public class LinearSolverQrHouseCol extends LinearSolverAbstract {
         return true;
     }
 
+    /**
+     * For square matrices this is the reciprocal of the 1-norm condition number, which is estimated in
+     * O(n<sup>2</sup>) from the QR decomposition.  Otherwise it is computed from the diagonal elements in R.
+     *
+     * @see ConditionEstimatorP1_D64
+     */
     @Override
     public double quality() {
+        if( numRows == numCols )
+            return ConditionEstimatorP1_D64.rcond(normA1,estimator.inverseNorm(decomposer));
         return SpecializedOps.qualityTriangular(true, R);
     }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.qr;
+
+import org.ejml.alg.dense.decomposition.TriangularSolver32;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D32;
+import org.ejml.alg.dense.decomposition.qr.QrHelperFunctions32;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D32;
+import org.ejml.alg.dense.linsol.LinearSolverAbstract32;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.ops.NormOps32;
+import org.ejml.ops.SpecializedOps32;
+
+
+/**
+ * <p>
+ * QR decomposition can be used to solve for systems.  However, this is not as computationally efficient
+ * as LU decomposition and costs about 3n<sup>2</sup> flops.
+ * </p>
+ * <p>
+ * It solve for x by first multiplying b by the transpose of Q then solving for the result.
+ * <br>
+ * QRx=b<br>
+ * Rx=Q^T b<br>
+ * </p>
+ *
+ * <p>
+ * A column major decomposition is used in this solver.
+ * <p>
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from LinearSolverQrHouseCol</p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverQrHouseCol32 extends LinearSolverAbstract32 {
+
+    private QRDecompositionHouseholderColumn_D32 decomposer;
+
+    private DenseMatrix32F a = new DenseMatrix32F(1,1);
+    private DenseMatrix32F temp = new DenseMatrix32F(1,1);
+
+    protected int maxRows = -1;
+    protected int maxCols = -1;
+
+    private float[][] QR; // a column major QR matrix
+    private DenseMatrix32F R = new DenseMatrix32F(1,1);
+    private float gammas[];
+
+    // used to estimate the condition number in quality()
+    private ConditionEstimatorP1_D32 estimator = new ConditionEstimatorP1_D32();
+    // 1-norm of the A matrix
+    private float normA1;
+
+    /**
+     * Creates a linear solver that uses QR decomposition.
+     */
+    public LinearSolverQrHouseCol32() {
+        decomposer = new QRDecompositionHouseholderColumn_D32();
+    }
+
+    public void setMaxSize( int maxRows , int maxCols )
+    {
+        this.maxRows = maxRows; this.maxCols = maxCols;
+    }
+
+    /**
+     * Performs QR decomposition on A
+     *
+     * @param A not modified.
+     */
+    @Override
+    public boolean setA(DenseMatrix32F A) {
+        if( A.numRows > maxRows || A.numCols > maxCols )
+            setMaxSize(A.numRows,A.numCols);
+
+        R.reshape(A.numCols,A.numCols);
+        a.reshape(A.numRows,1);
+        temp.reshape(A.numRows,1);
+
+        _setA(A);
+        normA1 = NormOps32.inducedP1(A);
+        if( !decomposer.decompose(A) )
+            return false;
+
+        gammas = decomposer.getGammas();
+        QR = decomposer.getQR();
+        decomposer.getR(R,true);
+        return true;
+    }
+
+    /**
+     * For square matrices this is the reciprocal of the 1-norm condition number, which is estimated in
+     * O(n<sup>2</sup>) from the QR decomposition.  Otherwise it is computed from the diagonal elements in R.
+     *
+     * @see ConditionEstimatorP1_D32
+     */
+    @Override
+    public double quality() {
+        if( numRows == numCols )
+            return ConditionEstimatorP1_D32.rcond(normA1,estimator.inverseNorm(decomposer));
+        return SpecializedOps32.qualityTriangular(true, R);
+    }
+
+    /**
+     * Solves for X using the QR decomposition.
+     *
+     * @param B A matrix that is n by m.  Not modified.
+     * @param X An n by m matrix where the solution is written to.  Modified.
+     */
+    @Override
+    public void solve(DenseMatrix32F B, DenseMatrix32F X) {
+        if( X.numRows != numCols )
+            throw new IllegalArgumentException("Unexpected dimensions for X: X rows = "+X.numRows+" expected = "+numCols);
+        else if( B.numRows != numRows || B.numCols != X.numCols )
+            throw new IllegalArgumentException("Unexpected dimensions for B");
+
+        int BnumCols = B.numCols;
+        
+        // solve each column one by one
+        for( int colB = 0; colB < BnumCols; colB++ ) {
+
+            // make a copy of this column in the vector
+            for( int i = 0; i < numRows; i++ ) {
+                a.data[i] = B.data[i*BnumCols + colB];
+            }
+
+            // Solve Qa=b
+            // a = Q'b
+            // a = Q_{n-1}...Q_2*Q_1*b
+            //
+            // Q_n*b = (I-gamma*u*u^T)*b = b - u*(gamma*U^T*b)
+            for( int n = 0; n < numCols; n++ ) {
+                float []u = QR[n];
+
+                float vv = u[n];
+                u[n] = 1;
+                QrHelperFunctions32.rank1UpdateMultR(a, u, gammas[n], 0, n, numRows, temp.data);
+                u[n] = vv;
+            }
+
+            // solve for Rx = b using the standard upper triangular solver
+            TriangularSolver32.solveU(R.data,a.data,numCols);
+
+            // save the results
+            for( int i = 0; i < numCols; i++ ) {
+                X.data[i*X.numCols+colB] = a.data[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.mult;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.data.RowD1Matrix32F;
+
+/**
+ * <p>
+ * Concurrent versions of the matrix multiplication algorithms in {@link MatrixMatrixMult32}.  The rows in
+ * the output matrix are split into blocks and each block is computed in the thread pool provided by
+ * {@link EjmlConcurrency}.
+ * </p>
+ *
+ * <p>
+ * Every element in the output matrix is computed using exactly the same sequence of floating point operations
+ * as the single threaded algorithm with the same name.  The results are therefor identical to the single
+ * threaded algorithm, not just within numerical tolerance.  Variants without an alpha invoke the alpha variant
+ * with a value of one, which does not change the result since multiplication by one is exact.
+ * </p>
+ *
+ * <p>
+ * Algorithms labeled as 'aux' declare their auxiliary array internally, one for each block.
+ * </p>
+ *
+ * <p>
+ * {@link #gemm} is the concurrent version of {@link MatrixMatrixMultPacked32}.  Each thread packs its own
+ * copy of the input blocks.
+ * </p>
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from MatrixMatrixMult_MT</p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixMatrixMult32_MT {
+
+    /**
+     * @see MatrixMatrixMult32#mult_reorder(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult_reorder( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        mult_reorder(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#mult_reorder(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult_reorder( final float alpha ,
+                                     final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMult(a, b, c);
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                mult_reorder(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#mult_small(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult_small( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        mult_small(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#mult_small(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult_small( final float alpha ,
+                                   final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMult(a, b, c);
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                mult_small(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransA_reorder(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA_reorder( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        multTransA_reorder(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransA_reorder(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA_reorder( final float alpha ,
+                                           final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMultTransA(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransA_reorder(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransA_small(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA_small( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        multTransA_small(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransA_small(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA_small( final float alpha ,
+                                         final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMultTransA(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransA_small(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        multTransB(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransB( final float alpha ,
+                                   final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numCols != b.numCols ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numRows != c.numRows || b.numRows != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransB(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransAB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        multTransAB(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransAB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransAB( final float alpha ,
+                                    final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMultTransAB(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransAB(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransAB_aux(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, float[])
+     */
+    public static void multTransAB_aux( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        multTransAB_aux(1.0f,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult32#multTransAB_aux(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, float[])
+     */
+    public static void multTransAB_aux( final float alpha ,
+                                        final RowD1Matrix32F a , final RowD1Matrix32F b , final RowD1Matrix32F c )
+    {
+        checkMultTransAB(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransAB_aux(alpha,a,b,c,new float[ a.numRows ],start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMultPacked32#gemm(float, org.ejml.data.RowD1Matrix32F, boolean, org.ejml.data.RowD1Matrix32F, boolean, org.ejml.data.RowD1Matrix32F, boolean)
+     */
+    public static void gemm( final float alpha ,
+                             final RowD1Matrix32F a , final boolean transA ,
+                             final RowD1Matrix32F b , final boolean transB ,
+                             final RowD1Matrix32F c , final boolean add )
+    {
+        MatrixMatrixMultPacked32.checkInput(a,transA,b,transB,c);
+
+        EjmlConcurrency.process(0,c.numRows,MatrixMatrixMultPacked32.blockM(),new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                MatrixMatrixMultPacked32.gemm(alpha,a,transA,b,transB,c,add,start,end);
+            }
+        });
+    }
+
+    private static void checkMult( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numCols != b.numRows ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numRows != c.numRows || b.numCols != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    private static void checkMultTransA( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numRows != b.numRows ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numCols != c.numRows || b.numCols != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    private static void checkMultTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numRows != b.numCols ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numCols != c.numRows || b.numRows != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#mult_reorder(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void mult_reorder( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                      int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        float valA;
+        int indexCbase= rowStart*c.numCols;
+        int endOfKLoop = b.numRows*b.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexA = i*a.numCols;
+
+            // need to assign c.data to a value initially
+            int indexB = 0;
+            int indexC = indexCbase;
+            int end = indexB + b.numCols;
+
+            valA = alpha*dataA[indexA++];
+
+            while( indexB < end ) {
+                dataC[indexC++] = valA*dataB[indexB++];
+            }
+
+            // now add to it
+            while( indexB != endOfKLoop ) { // k loop
+                indexC = indexCbase;
+                end = indexB + b.numCols;
+
+                valA = alpha*dataA[indexA++];
+
+                while( indexB < end ) { // j loop
+                    dataC[indexC++] += valA*dataB[indexB++];
+                }
+            }
+            indexCbase += c.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#mult_small(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void mult_small( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                    int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        int aIndexStart = rowStart*a.numCols;
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int j = 0; j < b.numCols; j++ ) {
+                float total = 0;
+
+                int indexA = aIndexStart;
+                int indexB = j;
+                int end = indexA + b.numRows;
+                while( indexA < end ) {
+                    total += dataA[indexA++] * dataB[indexB];
+                    indexB += b.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+            aIndexStart += a.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#multTransA_reorder(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void multTransA_reorder( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                            int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        float valA;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexC_start = i*c.numCols;
+
+            // first assign R
+            valA = alpha*dataA[i];
+            int indexB = 0;
+            int end = indexB+b.numCols;
+            int indexC = indexC_start;
+            while( indexB<end ) {
+                dataC[indexC++] = valA*dataB[indexB++];
+            }
+            // now increment it
+            for( int k = 1; k < a.numRows; k++ ) {
+                valA = alpha*dataA[k*a.numCols+i];
+                end = indexB+b.numCols;
+                indexC = indexC_start;
+                // this is the loop for j
+                while( indexB<end ) {
+                    dataC[indexC++] += valA*dataB[indexB++];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#multTransA_small(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void multTransA_small( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                          int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int j = 0; j < b.numCols; j++ ) {
+                int indexA = i;
+                int indexB = j;
+                int end = indexB + b.numRows*b.numCols;
+
+                float total = 0;
+
+                // loop for k
+                for(; indexB < end; indexB += b.numCols ) {
+                    total += dataA[indexA] * dataB[indexB];
+                    indexA += a.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#multTransB(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void multTransB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                    int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+        int aIndexStart = rowStart*a.numCols;
+
+        for( int xA = rowStart; xA < rowEnd; xA++ ) {
+            int end = aIndexStart + b.numCols;
+            int indexB = 0;
+            for( int xB = 0; xB < b.numRows; xB++ ) {
+                int indexA = aIndexStart;
+
+                float total = 0;
+
+                while( indexA<end ) {
+                    total += dataA[indexA++] * dataB[indexB++];
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+            aIndexStart += a.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#multTransAB(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F)}
+     */
+    private static void multTransAB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                     int rowStart , int rowEnd )
+    {
+        final float dataA[] = a.data;
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexB = 0;
+            for( int j = 0; j < b.numRows; j++ ) {
+                int indexA = i;
+                int end = indexB + b.numCols;
+
+                float total = 0;
+
+                for( ;indexB<end; ) {
+                    total += dataA[indexA] * dataB[indexB++];
+                    indexA += a.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult32#multTransAB_aux(float, RowD1Matrix32F, RowD1Matrix32F, RowD1Matrix32F, float[])}
+     */
+    private static void multTransAB_aux( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ,
+                                         float []aux , int rowStart , int rowEnd )
+    {
+        final float dataB[] = b.data;
+        final float dataC[] = c.data;
+
+        int indexC = rowStart*c.numCols;
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int k = 0; k < b.numCols; k++ ) {
+                aux[k] = a.unsafe_get(k,i);
+            }
+
+            for( int j = 0; j < b.numRows; j++ ) {
+                float total = 0;
+
+                int indexB = j*b.numCols;
+                for( int k = 0; k < b.numCols; k++ ) {
+                    total += aux[k] * dataB[indexB++];
+                }
+                dataC[indexC++] = alpha*total;
+            }
+        }
+    }
+}
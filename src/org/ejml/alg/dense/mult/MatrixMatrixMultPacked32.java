@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.mult;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.RowD1Matrix32F;
+
+/**
+ * <p>
+ * Matrix multiplication for large matrices which copies blocks of the inputs into packed buffers before
+ * multiplying them together.  The algorithm follows the structure used by high performance BLAS libraries.
+ * </p>
+ *
+ * <p>
+ * The inputs are processed in blocks which are sized so that they will fit inside the memory caches.  A block
+ * from 'a' with {@link #blockM() blockM} rows and {@link #blockK() blockK} columns is copied into a contiguous array
+ * in strips which are {@link #MR} rows tall.  A block from 'b' with {@link #blockK() blockK} rows and
+ * {@link #blockN() blockN} columns is copied into strips which are {@link #NR} columns wide.  A micro-kernel then
+ * computes each MR by NR block in the output by keeping it entirely in local variables while it traverses the
+ * two strips sequentially.  The packed format removes the index arithmetic and cache misses which limit
+ * {@link MatrixMatrixMult32#mult_reorder}.  Transposed inputs are handled while the data is packed, so all
+ * variants run at the same speed.
+ * </p>
+ *
+ * <p>
+ * Block sizes are derived from {@link EjmlParameters#BLOCK_WIDTH}.  Copying the data has a fixed cost which
+ * only pays off for larger matrices, see {@link EjmlParameters#MULT_PACKED_SWITCH}.  The order in which
+ * the summation is performed is different from the other algorithms, so the results will differ from
+ * them by a small amount due to round off errors.  A concurrent version is provided by
+ * {@link MatrixMatrixMult32_MT#gemm}.
+ * </p>
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from MatrixMatrixMultPacked</p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixMatrixMultPacked32 {
+
+    /**
+     * Number of rows in the micro-kernel
+     */
+    public static final int MR = 4;
+    /**
+     * Number of columns in the micro-kernel
+     */
+    public static final int NR = 4;
+
+    /**
+     * @see org.ejml.ops.CommonOps32#mult(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,false,b,false,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#mult(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void mult( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,false,b,false,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransA(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,true,b,false,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransA(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransA( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,true,b,false,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,false,b,true,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,false,b,true,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransAB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,true,b,true,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multTransAB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multTransAB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,true,b,true,c,false);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAdd(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAdd( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,false,b,false,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAdd(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAdd( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,false,b,false,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransA(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransA( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,true,b,false,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransA(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransA( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,true,b,false,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,false,b,true,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,false,b,true,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransAB(org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(1.0f,a,true,b,true,c,true);
+    }
+
+    /**
+     * @see org.ejml.ops.CommonOps32#multAddTransAB(float, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F, org.ejml.data.RowD1Matrix32F)
+     */
+    public static void multAddTransAB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c ) {
+        gemm(alpha,a,true,b,true,c,true);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * op(a) * op(b)  or c = c + &alpha; * op(a) * op(b)<br>
+     * <br>
+     * where op(x) is x or x<sup>T</sup>.
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param transA If true then 'a' is transposed.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param transB If true then 'b' is transposed.
+     * @param c Where the results of the operation are stored. Modified.
+     * @param add If true the results are added to 'c', otherwise they overwrite 'c'.
+     */
+    public static void gemm( float alpha ,
+                             RowD1Matrix32F a , boolean transA ,
+                             RowD1Matrix32F b , boolean transB ,
+                             RowD1Matrix32F c , boolean add )
+    {
+        checkInput(a, transA, b, transB, c);
+        gemm(alpha,a,transA,b,transB,c,add,0,c.numRows);
+    }
+
+    /**
+     * Same as {@link #gemm(float, RowD1Matrix32F, boolean, RowD1Matrix32F, boolean, RowD1Matrix32F, boolean)}
+     * but only computes rows rowStart to rowEnd-1 in 'c'.  The results for each element do not depend on which
+     * rows are requested, which allows the rows to be computed independently in different threads.  The input
+     * matrices are not checked.
+     *
+     * @param rowStart First row in 'c' which is computed, inclusive.
+     * @param rowEnd Last row in 'c' which is computed, exclusive.
+     */
+    public static void gemm( float alpha ,
+                             RowD1Matrix32F a , boolean transA ,
+                             RowD1Matrix32F b , boolean transB ,
+                             RowD1Matrix32F c , boolean add ,
+                             int rowStart , int rowEnd )
+    {
+        final int inner = transA ? a.numRows : a.numCols;
+        final int numCols = c.numCols;
+
+        if( rowEnd <= rowStart || numCols == 0 )
+            return;
+
+        if( inner == 0 ) {
+            if( !add ) {
+                for( int i = rowStart*numCols; i < rowEnd*numCols; i++ )
+                    c.data[i] = 0;
+            }
+            return;
+        }
+
+        final int blockM = blockM();
+        final int blockN = blockN();
+        final int blockK = blockK();
+
+        float packA[] = new float[ Math.min(blockM,roundUp(rowEnd-rowStart,MR))*Math.min(blockK,inner) ];
+        float packB[] = new float[ Math.min(blockK,inner)*Math.min(blockN,roundUp(numCols,NR)) ];
+
+        for( int col0 = 0; col0 < numCols; col0 += blockN ) {
+            int widthN = Math.min(blockN,numCols-col0);
+
+            for( int k0 = 0; k0 < inner; k0 += blockK ) {
+                int widthK = Math.min(blockK,inner-k0);
+                // the first block along the inner dimension overwrites 'c' unless it's being added to
+                boolean overwrite = !add && k0 == 0;
+
+                packB(b,transB,k0,widthK,col0,widthN,packB);
+
+                for( int row0 = rowStart; row0 < rowEnd; row0 += blockM ) {
+                    int widthM = Math.min(blockM,rowEnd-row0);
+
+                    packA(a,transA,row0,widthM,k0,widthK,packA);
+
+                    multiplyPacked(alpha,packA,packB,widthM,widthN,widthK,c,row0,col0,overwrite);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of rows in a block from 'a'.  Must be a multiple of {@link #MR}.
+     */
+    public static int blockM() {
+        return roundUp(2*EjmlParameters.BLOCK_WIDTH,MR);
+    }
+
+    /**
+     * Number of columns in a block from 'b'.  Must be a multiple of {@link #NR}.
+     */
+    public static int blockN() {
+        return roundUp(32*EjmlParameters.BLOCK_WIDTH,NR);
+    }
+
+    /**
+     * Length of the inner dimension in a block.
+     */
+    public static int blockK() {
+        return 4*EjmlParameters.BLOCK_WIDTH;
+    }
+
+    private static int roundUp( int value , int multiple ) {
+        return ((value+multiple-1)/multiple)*multiple;
+    }
+
+    static void checkInput( RowD1Matrix32F a , boolean transA ,
+                                    RowD1Matrix32F b , boolean transB ,
+                                    RowD1Matrix32F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+
+        int rowsA = transA ? a.numCols : a.numRows;
+        int colsA = transA ? a.numRows : a.numCols;
+        int rowsB = transB ? b.numCols : b.numRows;
+        int colsB = transB ? b.numRows : b.numCols;
+
+        if( colsA != rowsB ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( rowsA != c.numRows || colsB != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    /**
+     * Copies a block from op(a) into strips which are MR rows tall.  Inside a strip the MR elements in each
+     * column are sequential.  Rows past the end of the block are filled with zeros.
+     */
+    private static void packA( RowD1Matrix32F a , boolean transA ,
+                               int row0 , int numRows , int col0 , int numCols ,
+                               float []pack )
+    {
+        final float data[] = a.data;
+        final int stride = a.numCols;
+        int index = 0;
+
+        for( int strip = 0; strip < numRows; strip += MR ) {
+            int rows = Math.min(MR,numRows-strip);
+            int rowStrip = row0+strip;
+
+            if( transA ) {
+                // element (i,k) of op(a) is at k*stride + i
+                for( int k = 0; k < numCols; k++ ) {
+                    int indexA = (col0+k)*stride + rowStrip;
+                    int r = 0;
+                    for( ; r < rows; r++ )
+                        pack[index++] = data[indexA++];
+                    for( ; r < MR; r++ )
+                        pack[index++] = 0;
+                }
+            } else if( rows == MR ) {
+                int indexA0 = rowStrip*stride + col0;
+                int indexA1 = indexA0 + stride;
+                int indexA2 = indexA1 + stride;
+                int indexA3 = indexA2 + stride;
+                for( int k = 0; k < numCols; k++ ) {
+                    pack[index++] = data[indexA0++];
+                    pack[index++] = data[indexA1++];
+                    pack[index++] = data[indexA2++];
+                    pack[index++] = data[indexA3++];
+                }
+            } else {
+                for( int k = 0; k < numCols; k++ ) {
+                    int r = 0;
+                    for( ; r < rows; r++ )
+                        pack[index++] = data[(rowStrip+r)*stride + col0 + k];
+                    for( ; r < MR; r++ )
+                        pack[index++] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies a block from op(b) into strips which are NR columns wide.  Inside a strip the NR elements in each
+     * row are sequential.  Columns past the end of the block are filled with zeros.
+     */
+    private static void packB( RowD1Matrix32F b , boolean transB ,
+                               int row0 , int numRows , int col0 , int numCols ,
+                               float []pack )
+    {
+        final float data[] = b.data;
+        final int stride = b.numCols;
+        int index = 0;
+
+        for( int strip = 0; strip < numCols; strip += NR ) {
+            int cols = Math.min(NR,numCols-strip);
+            int colStrip = col0+strip;
+
+            if( !transB ) {
+                for( int k = 0; k < numRows; k++ ) {
+                    int indexB = (row0+k)*stride + colStrip;
+                    int j = 0;
+                    for( ; j < cols; j++ )
+                        pack[index++] = data[indexB++];
+                    for( ; j < NR; j++ )
+                        pack[index++] = 0;
+                }
+            } else {
+                // element (k,j) of op(b) is at j*stride + k
+                for( int k = 0; k < numRows; k++ ) {
+                    int j = 0;
+                    for( ; j < cols; j++ )
+                        pack[index++] = data[(colStrip+j)*stride + row0 + k];
+                    for( ; j < NR; j++ )
+                        pack[index++] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies the two packed blocks together and writes the results into 'c'
+     */
+    private static void multiplyPacked( float alpha , float []packA , float []packB ,
+                                        int numRows , int numCols , int inner ,
+                                        RowD1Matrix32F c , int row0 , int col0 , boolean overwrite )
+    {
+        final int strideC = c.numCols;
+
+        for( int j = 0; j < numCols; j += NR ) {
+            int cols = Math.min(NR,numCols-j);
+            int indexB = j*inner;
+
+            for( int i = 0; i < numRows; i += MR ) {
+                int rows = Math.min(MR,numRows-i);
+                int indexA = i*inner;
+                int indexC = (row0+i)*strideC + col0 + j;
+
+                kernel(alpha,packA,indexA,packB,indexB,inner,c.data,indexC,strideC,rows,cols,overwrite);
+            }
+        }
+    }
+
+    /**
+     * Computes an MR by NR block in 'c' from a strip in each of the packed blocks.  The block is accumulated
+     * in local variables so that it can be kept in registers.
+     */
+    private static void kernel( float alpha ,
+                                float []packA , int indexA ,
+                                float []packB , int indexB ,
+                                int inner ,
+                                float []dataC , int indexC , int strideC ,
+                                int rows , int cols , boolean overwrite )
+    {
+        float c00=0,c01=0,c02=0,c03=0;
+        float c10=0,c11=0,c12=0,c13=0;
+        float c20=0,c21=0,c22=0,c23=0;
+        float c30=0,c31=0,c32=0,c33=0;
+
+        final int end = indexA + inner*MR;
+        while( indexA < end ) {
+            float a0 = packA[indexA  ];
+            float a1 = packA[indexA+1];
+            float a2 = packA[indexA+2];
+            float a3 = packA[indexA+3];
+
+            float b0 = packB[indexB  ];
+            float b1 = packB[indexB+1];
+            float b2 = packB[indexB+2];
+            float b3 = packB[indexB+3];
+
+            c00 += a0*b0; c01 += a0*b1; c02 += a0*b2; c03 += a0*b3;
+            c10 += a1*b0; c11 += a1*b1; c12 += a1*b2; c13 += a1*b3;
+            c20 += a2*b0; c21 += a2*b1; c22 += a2*b2; c23 += a2*b3;
+            c30 += a3*b0; c31 += a3*b1; c32 += a3*b2; c33 += a3*b3;
+
+            indexA += MR;
+            indexB += NR;
+        }
+
+        if( rows == MR && cols == NR ) {
+            int index0 = indexC;
+            int index1 = index0 + strideC;
+            int index2 = index1 + strideC;
+            int index3 = index2 + strideC;
+
+            if( overwrite ) {
+                dataC[index0] = alpha*c00; dataC[index0+1] = alpha*c01; dataC[index0+2] = alpha*c02; dataC[index0+3] = alpha*c03;
+                dataC[index1] = alpha*c10; dataC[index1+1] = alpha*c11; dataC[index1+2] = alpha*c12; dataC[index1+3] = alpha*c13;
+                dataC[index2] = alpha*c20; dataC[index2+1] = alpha*c21; dataC[index2+2] = alpha*c22; dataC[index2+3] = alpha*c23;
+                dataC[index3] = alpha*c30; dataC[index3+1] = alpha*c31; dataC[index3+2] = alpha*c32; dataC[index3+3] = alpha*c33;
+            } else {
+                dataC[index0] += alpha*c00; dataC[index0+1] += alpha*c01; dataC[index0+2] += alpha*c02; dataC[index0+3] += alpha*c03;
+                dataC[index1] += alpha*c10; dataC[index1+1] += alpha*c11; dataC[index1+2] += alpha*c12; dataC[index1+3] += alpha*c13;
+                dataC[index2] += alpha*c20; dataC[index2+1] += alpha*c21; dataC[index2+2] += alpha*c22; dataC[index2+3] += alpha*c23;
+                dataC[index3] += alpha*c30; dataC[index3+1] += alpha*c31; dataC[index3+2] += alpha*c32; dataC[index3+3] += alpha*c33;
+            }
+        } else {
+            // edge of the matrix, only save the elements which are inside of it
+            float block[] = new float[]{
+                    c00,c01,c02,c03,
+                    c10,c11,c12,c13,
+                    c20,c21,c22,c23,
+                    c30,c31,c32,c33};
+
+            for( int i = 0; i < rows; i++ ) {
+                int index = indexC + i*strideC;
+                for( int j = 0; j < cols; j++ ) {
+                    if( overwrite )
+                        dataC[index+j] = alpha*block[i*NR+j];
+                    else
+                        dataC[index+j] += alpha*block[i*NR+j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.mult;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.data.RowD1Matrix64F;
+
+/**
+ * <p>
+ * Concurrent versions of the matrix multiplication algorithms in {@link MatrixMatrixMult}.  The rows in
+ * the output matrix are split into blocks and each block is computed in the thread pool provided by
+ * {@link EjmlConcurrency}.
+ * </p>
+ *
+ * <p>
+ * Every element in the output matrix is computed using exactly the same sequence of floating point operations
+ * as the single threaded algorithm with the same name.  The results are therefor identical to the single
+ * threaded algorithm, not just within numerical tolerance.  Variants without an alpha invoke the alpha variant
+ * with a value of one, which does not change the result since multiplication by one is exact.
+ * </p>
+ *
+ * <p>
+ * Algorithms labeled as 'aux' declare their auxiliary array internally, one for each block.
+ * </p>
+ *
+ * <p>
+ * {@link #gemm} is the concurrent version of {@link MatrixMatrixMultPacked}.  Each thread packs its own
+ * copy of the input blocks.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MatrixMatrixMult_MT {
+
+    /**
+     * @see MatrixMatrixMult#mult_reorder(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void mult_reorder( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        mult_reorder(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#mult_reorder(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void mult_reorder( final double alpha ,
+                                     final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMult(a, b, c);
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                mult_reorder(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#mult_small(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void mult_small( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        mult_small(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#mult_small(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void mult_small( final double alpha ,
+                                   final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMult(a, b, c);
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                mult_small(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransA_reorder(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransA_reorder( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        multTransA_reorder(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransA_reorder(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransA_reorder( final double alpha ,
+                                           final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMultTransA(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransA_reorder(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransA_small(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransA_small( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        multTransA_small(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransA_small(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransA_small( final double alpha ,
+                                         final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMultTransA(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransA_small(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransB(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransB( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        multTransB(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransB(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransB( final double alpha ,
+                                   final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numCols != b.numCols ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numRows != c.numRows || b.numRows != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+
+        EjmlConcurrency.process(0,a.numRows,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransB(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransAB(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransAB( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        multTransAB(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransAB(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F)
+     */
+    public static void multTransAB( final double alpha ,
+                                    final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMultTransAB(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransAB(alpha,a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransAB_aux(org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, double[])
+     */
+    public static void multTransAB_aux( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
+    {
+        multTransAB_aux(1.0,a,b,c);
+    }
+
+    /**
+     * @see MatrixMatrixMult#multTransAB_aux(double, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, org.ejml.data.RowD1Matrix64F, double[])
+     */
+    public static void multTransAB_aux( final double alpha ,
+                                        final RowD1Matrix64F a , final RowD1Matrix64F b , final RowD1Matrix64F c )
+    {
+        checkMultTransAB(a, b, c);
+
+        EjmlConcurrency.process(0,a.numCols,1,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                multTransAB_aux(alpha,a,b,c,new double[ a.numRows ],start,end);
+            }
+        });
+    }
+
+    /**
+     * @see MatrixMatrixMultPacked#gemm(double, org.ejml.data.RowD1Matrix64F, boolean, org.ejml.data.RowD1Matrix64F, boolean, org.ejml.data.RowD1Matrix64F, boolean)
+     */
+    public static void gemm( final double alpha ,
+                             final RowD1Matrix64F a , final boolean transA ,
+                             final RowD1Matrix64F b , final boolean transB ,
+                             final RowD1Matrix64F c , final boolean add )
+    {
+        MatrixMatrixMultPacked.checkInput(a,transA,b,transB,c);
+
+        EjmlConcurrency.process(0,c.numRows,MatrixMatrixMultPacked.blockM(),new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                MatrixMatrixMultPacked.gemm(alpha,a,transA,b,transB,c,add,start,end);
+            }
+        });
+    }
+
+    private static void checkMult( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numCols != b.numRows ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numRows != c.numRows || b.numCols != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    private static void checkMultTransA( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numRows != b.numRows ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numCols != c.numRows || b.numCols != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    private static void checkMultTransAB( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ) {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        else if( a.numRows != b.numCols ) {
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        } else if( a.numCols != c.numRows || b.numRows != c.numCols ) {
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#mult_reorder(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void mult_reorder( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                      int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        double valA;
+        int indexCbase= rowStart*c.numCols;
+        int endOfKLoop = b.numRows*b.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexA = i*a.numCols;
+
+            // need to assign c.data to a value initially
+            int indexB = 0;
+            int indexC = indexCbase;
+            int end = indexB + b.numCols;
+
+            valA = alpha*dataA[indexA++];
+
+            while( indexB < end ) {
+                dataC[indexC++] = valA*dataB[indexB++];
+            }
+
+            // now add to it
+            while( indexB != endOfKLoop ) { // k loop
+                indexC = indexCbase;
+                end = indexB + b.numCols;
+
+                valA = alpha*dataA[indexA++];
+
+                while( indexB < end ) { // j loop
+                    dataC[indexC++] += valA*dataB[indexB++];
+                }
+            }
+            indexCbase += c.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#mult_small(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void mult_small( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                    int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        int aIndexStart = rowStart*a.numCols;
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int j = 0; j < b.numCols; j++ ) {
+                double total = 0;
+
+                int indexA = aIndexStart;
+                int indexB = j;
+                int end = indexA + b.numRows;
+                while( indexA < end ) {
+                    total += dataA[indexA++] * dataB[indexB];
+                    indexB += b.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+            aIndexStart += a.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#multTransA_reorder(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void multTransA_reorder( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                            int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        double valA;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexC_start = i*c.numCols;
+
+            // first assign R
+            valA = alpha*dataA[i];
+            int indexB = 0;
+            int end = indexB+b.numCols;
+            int indexC = indexC_start;
+            while( indexB<end ) {
+                dataC[indexC++] = valA*dataB[indexB++];
+            }
+            // now increment it
+            for( int k = 1; k < a.numRows; k++ ) {
+                valA = alpha*dataA[k*a.numCols+i];
+                end = indexB+b.numCols;
+                indexC = indexC_start;
+                // this is the loop for j
+                while( indexB<end ) {
+                    dataC[indexC++] += valA*dataB[indexB++];
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#multTransA_small(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void multTransA_small( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                          int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int j = 0; j < b.numCols; j++ ) {
+                int indexA = i;
+                int indexB = j;
+                int end = indexB + b.numRows*b.numCols;
+
+                double total = 0;
+
+                // loop for k
+                for(; indexB < end; indexB += b.numCols ) {
+                    total += dataA[indexA] * dataB[indexB];
+                    indexA += a.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#multTransB(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void multTransB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                    int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+        int aIndexStart = rowStart*a.numCols;
+
+        for( int xA = rowStart; xA < rowEnd; xA++ ) {
+            int end = aIndexStart + b.numCols;
+            int indexB = 0;
+            for( int xB = 0; xB < b.numRows; xB++ ) {
+                int indexA = aIndexStart;
+
+                double total = 0;
+
+                while( indexA<end ) {
+                    total += dataA[indexA++] * dataB[indexB++];
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+            aIndexStart += a.numCols;
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#multTransAB(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F)}
+     */
+    private static void multTransAB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                     int rowStart , int rowEnd )
+    {
+        final double dataA[] = a.data;
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        int cIndex = rowStart*c.numCols;
+
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            int indexB = 0;
+            for( int j = 0; j < b.numRows; j++ ) {
+                int indexA = i;
+                int end = indexB + b.numCols;
+
+                double total = 0;
+
+                for( ;indexB<end; ) {
+                    total += dataA[indexA] * dataB[indexB++];
+                    indexA += a.numCols;
+                }
+
+                dataC[cIndex++] = alpha*total;
+            }
+        }
+    }
+
+    /**
+     * Computes rows rowStart to rowEnd-1 in 'c' using the same ordering as
+     * {@link MatrixMatrixMult#multTransAB_aux(double, RowD1Matrix64F, RowD1Matrix64F, RowD1Matrix64F, double[])}
+     */
+    private static void multTransAB_aux( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c ,
+                                         double []aux , int rowStart , int rowEnd )
+    {
+        final double dataB[] = b.data;
+        final double dataC[] = c.data;
+
+        int indexC = rowStart*c.numCols;
+        for( int i = rowStart; i < rowEnd; i++ ) {
+            for( int k = 0; k < b.numCols; k++ ) {
+                aux[k] = a.unsafe_get(k,i);
+            }
+
+            for( int j = 0; j < b.numRows; j++ ) {
+                double total = 0;
+
+                int indexB = j*b.numCols;
+                for( int k = 0; k < b.numCols; k++ ) {
+                    total += aux[k] * dataB[indexB++];
+                }
+                dataC[indexC++] = alpha*total;
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.alg.fixed;
+
+import org.ejml.data.BatchMatrix64F;
+
+/**
+ * <p>Operations which are applied to every matrix in a batch of 2x2 matrices or 2 element vectors.
+ * Each function has a version which only processes the matrices with indexes from start to end-1.  See
+ * {@link BatchOps2_MT} for concurrent versions.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateBatchOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps2 {
+    /**
+     * <p>Performs the following operation on each matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a Batch of 2x2 matrices. Not modified.
+     * @param b Batch of 2x2 matrices. Not modified.
+     * @param c Batch of 2x2 matrices where the results are stored. Modified.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkMatrix(b,a.length);
+        checkMatrix(c,a.length);
+        mult(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1];
+        final double a_21[] = a.data[2], a_22[] = a.data[3];
+        final double b_11[] = b.data[0], b_12[] = b.data[1];
+        final double b_21[] = b.data[2], b_22[] = b.data[3];
+        final double c_11[] = c.data[0], c_12[] = c.data[1];
+        final double c_21[] = c.data[2], c_22[] = c.data[3];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i];
+            double a21 = a_21[i], a22 = a_22[i];
+            double b11 = b_11[i], b12 = b_12[i];
+            double b21 = b_21[i], b22 = b_22[i];
+
+            c_11[i] = a11*b11 + a12*b21;
+            c_12[i] = a11*b12 + a12*b22;
+            c_21[i] = a21*b11 + a22*b21;
+            c_22[i] = a21*b12 + a22*b22;
+        }
+    }
+
+    /**
+     * <p>Transforms each vector in the batch by the corresponding matrix:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector B.
+     * </p>
+     *
+     * @param a Batch of 2x2 matrices. Not modified.
+     * @param b Batch of 2 element vectors. Not modified.
+     * @param c Batch of 2 element vectors where the results are stored. Modified.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkVector(b,a.length);
+        checkVector(c,a.length);
+        transform(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1];
+        final double a_21[] = a.data[2], a_22[] = a.data[3];
+        final double b_1[] = b.data[0], b_2[] = b.data[1];
+        final double c_1[] = c.data[0], c_2[] = c.data[1];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i];
+            double a21 = a_21[i], a22 = a_22[i];
+            double b1 = b_1[i], b2 = b_2[i];
+
+            c_1[i] = a11*b1 + a12*b2;
+            c_2[i] = a21*b1 + a22*b2;
+        }
+    }
+
+    /**
+     * Inverts each matrix in the batch using minor matrices.  Each matrix is scaled to improve stability
+     * against overflow and underflow.  Singular matrices will have NaN or infinite elements in their inverse,
+     * use {@link #det(BatchMatrix64F, double[])} to check before hand.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 2x2 matrices. Not modified.
+     * @param inv Batch of 2x2 matrices where the inverses are stored.  Can be the same instance as a.  Modified.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv ) {
+        checkMatrix(inv,a.length);
+        invert(a,inv,0,a.length);
+    }
+
+    /**
+     * Same as {@link #invert(BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1];
+        final double a_21[] = a.data[2], a_22[] = a.data[3];
+        final double inv_11[] = inv.data[0], inv_12[] = inv.data[1];
+        final double inv_21[] = inv.data[2], inv_22[] = inv.data[3];
+
+        for( int i = start; i < end; i++ ) {
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale;
+
+            double m11 = a22;
+            double m12 = -( a21);
+            double m21 = -( a12);
+            double m22 = a11;
+
+            double invDet = scale/(a11*m11 + a12*m12);
+
+            inv_11[i] = m11*invDet;
+            inv_12[i] = m21*invDet;
+            inv_21[i] = m12*invDet;
+            inv_22[i] = m22*invDet;
+        }
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch using minor matrices.
+     * <p></p>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 2x2 matrices. Not modified.
+     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.
+     */
+    public static void det( BatchMatrix64F a , double det[] ) {
+        if( det.length < a.length )
+            throw new IllegalArgumentException("det is too small");
+        det(a,det,0,a.length);
+    }
+
+    /**
+     * Same as {@link #det(BatchMatrix64F, double[])} but only processes the matrices from start to end-1.
+     */
+    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1];
+        final double a_21[] = a.data[2], a_22[] = a.data[3];
+
+        for( int i = start; i < end; i++ ) {
+            det[i] = a_11[i]*a_22[i] - a_12[i]*a_21[i];
+        }
+    }
+
+    /**
+     * <p>Solves the linear system a*x = b for each matrix and vector in the batch, using the inverse computed
+     * from minor matrices.  No branches are required, unlike a solver which pivots, so the loop can be
+     * vectorized.  Singular matrices will produce NaN or infinite solutions.</p>
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 2x2 matrices. Not modified.
+     * @param b Batch of 2 element vectors. Not modified.
+     * @param x Batch of 2 element vectors where the solutions are stored.  Can be the same instance as b.  Modified.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {
+        checkVector(b,a.length);
+        checkVector(x,a.length);
+        solve(a,b,x,0,a.length);
+    }
+
+    /**
+     * Same as {@link #solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1];
+        final double a_21[] = a.data[2], a_22[] = a.data[3];
+        final double b_1[] = b.data[0], b_2[] = b.data[1];
+        final double x_1[] = x.data[0], x_2[] = x.data[1];
+
+        for( int i = start; i < end; i++ ) {
+            double b1 = b_1[i], b2 = b_2[i];
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale;
+
+            double m11 = a22;
+            double m12 = -( a21);
+            double m21 = -( a12);
+            double m22 = a11;
+
+            double invDet = scale/(a11*m11 + a12*m12);
+
+            x_1[i] = (m11*b1 + m21*b2)*invDet;
+            x_2[i] = (m12*b1 + m22*b2)*invDet;
+        }
+    }
+
+    /**
+     * Makes sure the batch contains 2x2 matrices and at least 'length' of them.
+     */
+    static void checkMatrix( BatchMatrix64F m , int length ) {
+        if( m.numRows != 2 || m.numCols != 2 )
+            throw new IllegalArgumentException("Expected 2x2 matrices");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+
+    /**
+     * Makes sure the batch contains 2 element vectors and at least 'length' of them.
+     */
+    static void checkVector( BatchMatrix64F m , int length ) {
+        if( m.numRows != 2 || m.numCols != 1 )
+            throw new IllegalArgumentException("Expected 2 element column vectors");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+}
+
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.alg.fixed;
+
+import org.ejml.data.BatchMatrix64F;
+
+/**
+ * <p>Operations which are applied to every matrix in a batch of 3x3 matrices or 3 element vectors.
+ * Each function has a version which only processes the matrices with indexes from start to end-1.  See
+ * {@link BatchOps3_MT} for concurrent versions.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateBatchOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps3 {
+    /**
+     * <p>Performs the following operation on each matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a Batch of 3x3 matrices. Not modified.
+     * @param b Batch of 3x3 matrices. Not modified.
+     * @param c Batch of 3x3 matrices where the results are stored. Modified.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkMatrix(b,a.length);
+        checkMatrix(c,a.length);
+        mult(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2];
+        final double a_21[] = a.data[3], a_22[] = a.data[4], a_23[] = a.data[5];
+        final double a_31[] = a.data[6], a_32[] = a.data[7], a_33[] = a.data[8];
+        final double b_11[] = b.data[0], b_12[] = b.data[1], b_13[] = b.data[2];
+        final double b_21[] = b.data[3], b_22[] = b.data[4], b_23[] = b.data[5];
+        final double b_31[] = b.data[6], b_32[] = b.data[7], b_33[] = b.data[8];
+        final double c_11[] = c.data[0], c_12[] = c.data[1], c_13[] = c.data[2];
+        final double c_21[] = c.data[3], c_22[] = c.data[4], c_23[] = c.data[5];
+        final double c_31[] = c.data[6], c_32[] = c.data[7], c_33[] = c.data[8];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i];
+            double b11 = b_11[i], b12 = b_12[i], b13 = b_13[i];
+            double b21 = b_21[i], b22 = b_22[i], b23 = b_23[i];
+            double b31 = b_31[i], b32 = b_32[i], b33 = b_33[i];
+
+            c_11[i] = a11*b11 + a12*b21 + a13*b31;
+            c_12[i] = a11*b12 + a12*b22 + a13*b32;
+            c_13[i] = a11*b13 + a12*b23 + a13*b33;
+            c_21[i] = a21*b11 + a22*b21 + a23*b31;
+            c_22[i] = a21*b12 + a22*b22 + a23*b32;
+            c_23[i] = a21*b13 + a22*b23 + a23*b33;
+            c_31[i] = a31*b11 + a32*b21 + a33*b31;
+            c_32[i] = a31*b12 + a32*b22 + a33*b32;
+            c_33[i] = a31*b13 + a32*b23 + a33*b33;
+        }
+    }
+
+    /**
+     * <p>Transforms each vector in the batch by the corresponding matrix:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector B.
+     * </p>
+     *
+     * @param a Batch of 3x3 matrices. Not modified.
+     * @param b Batch of 3 element vectors. Not modified.
+     * @param c Batch of 3 element vectors where the results are stored. Modified.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkVector(b,a.length);
+        checkVector(c,a.length);
+        transform(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2];
+        final double a_21[] = a.data[3], a_22[] = a.data[4], a_23[] = a.data[5];
+        final double a_31[] = a.data[6], a_32[] = a.data[7], a_33[] = a.data[8];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2];
+        final double c_1[] = c.data[0], c_2[] = c.data[1], c_3[] = c.data[2];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i];
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i];
+
+            c_1[i] = a11*b1 + a12*b2 + a13*b3;
+            c_2[i] = a21*b1 + a22*b2 + a23*b3;
+            c_3[i] = a31*b1 + a32*b2 + a33*b3;
+        }
+    }
+
+    /**
+     * Inverts each matrix in the batch using minor matrices.  Each matrix is scaled to improve stability
+     * against overflow and underflow.  Singular matrices will have NaN or infinite elements in their inverse,
+     * use {@link #det(BatchMatrix64F, double[])} to check before hand.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 3x3 matrices. Not modified.
+     * @param inv Batch of 3x3 matrices where the inverses are stored.  Can be the same instance as a.  Modified.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv ) {
+        checkMatrix(inv,a.length);
+        invert(a,inv,0,a.length);
+    }
+
+    /**
+     * Same as {@link #invert(BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2];
+        final double a_21[] = a.data[3], a_22[] = a.data[4], a_23[] = a.data[5];
+        final double a_31[] = a.data[6], a_32[] = a.data[7], a_33[] = a.data[8];
+        final double inv_11[] = inv.data[0], inv_12[] = inv.data[1], inv_13[] = inv.data[2];
+        final double inv_21[] = inv.data[3], inv_22[] = inv.data[4], inv_23[] = inv.data[5];
+        final double inv_31[] = inv.data[6], inv_32[] = inv.data[7], inv_33[] = inv.data[8];
+
+        for( int i = start; i < end; i++ ) {
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) + Math.abs(a_13[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]) + Math.abs(a_23[i]) +
+                    Math.abs(a_31[i]) + Math.abs(a_32[i]) + Math.abs(a_33[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale, a13 = a_13[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale, a23 = a_23[i]*scale;
+            double a31 = a_31[i]*scale, a32 = a_32[i]*scale, a33 = a_33[i]*scale;
+
+            double m11 = a22*a33 - a23*a32;
+            double m12 = -( a21*a33 - a23*a31);
+            double m13 = a21*a32 - a22*a31;
+            double m21 = -( a12*a33 - a13*a32);
+            double m22 = a11*a33 - a13*a31;
+            double m23 = -( a11*a32 - a12*a31);
+            double m31 = a12*a23 - a13*a22;
+            double m32 = -( a11*a23 - a13*a21);
+            double m33 = a11*a22 - a12*a21;
+
+            double invDet = scale/(a11*m11 + a12*m12 + a13*m13);
+
+            inv_11[i] = m11*invDet;
+            inv_12[i] = m21*invDet;
+            inv_13[i] = m31*invDet;
+            inv_21[i] = m12*invDet;
+            inv_22[i] = m22*invDet;
+            inv_23[i] = m32*invDet;
+            inv_31[i] = m13*invDet;
+            inv_32[i] = m23*invDet;
+            inv_33[i] = m33*invDet;
+        }
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch using minor matrices.
+     * <p></p>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 3x3 matrices. Not modified.
+     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.
+     */
+    public static void det( BatchMatrix64F a , double det[] ) {
+        if( det.length < a.length )
+            throw new IllegalArgumentException("det is too small");
+        det(a,det,0,a.length);
+    }
+
+    /**
+     * Same as {@link #det(BatchMatrix64F, double[])} but only processes the matrices from start to end-1.
+     */
+    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2];
+        final double a_21[] = a.data[3], a_22[] = a.data[4], a_23[] = a.data[5];
+        final double a_31[] = a.data[6], a_32[] = a.data[7], a_33[] = a.data[8];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i];
+
+            double d1 = a11*(a22*a33 - a23*a32);
+            double d2 = a12*(a21*a33 - a23*a31);
+            double d3 = a13*(a21*a32 - a31*a22);
+
+            det[i] = d1-d2+d3;
+        }
+    }
+
+    /**
+     * <p>Solves the linear system a*x = b for each matrix and vector in the batch, using the inverse computed
+     * from minor matrices.  No branches are required, unlike a solver which pivots, so the loop can be
+     * vectorized.  Singular matrices will produce NaN or infinite solutions.</p>
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 3x3 matrices. Not modified.
+     * @param b Batch of 3 element vectors. Not modified.
+     * @param x Batch of 3 element vectors where the solutions are stored.  Can be the same instance as b.  Modified.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {
+        checkVector(b,a.length);
+        checkVector(x,a.length);
+        solve(a,b,x,0,a.length);
+    }
+
+    /**
+     * Same as {@link #solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2];
+        final double a_21[] = a.data[3], a_22[] = a.data[4], a_23[] = a.data[5];
+        final double a_31[] = a.data[6], a_32[] = a.data[7], a_33[] = a.data[8];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2];
+        final double x_1[] = x.data[0], x_2[] = x.data[1], x_3[] = x.data[2];
+
+        for( int i = start; i < end; i++ ) {
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i];
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) + Math.abs(a_13[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]) + Math.abs(a_23[i]) +
+                    Math.abs(a_31[i]) + Math.abs(a_32[i]) + Math.abs(a_33[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale, a13 = a_13[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale, a23 = a_23[i]*scale;
+            double a31 = a_31[i]*scale, a32 = a_32[i]*scale, a33 = a_33[i]*scale;
+
+            double m11 = a22*a33 - a23*a32;
+            double m12 = -( a21*a33 - a23*a31);
+            double m13 = a21*a32 - a22*a31;
+            double m21 = -( a12*a33 - a13*a32);
+            double m22 = a11*a33 - a13*a31;
+            double m23 = -( a11*a32 - a12*a31);
+            double m31 = a12*a23 - a13*a22;
+            double m32 = -( a11*a23 - a13*a21);
+            double m33 = a11*a22 - a12*a21;
+
+            double invDet = scale/(a11*m11 + a12*m12 + a13*m13);
+
+            x_1[i] = (m11*b1 + m21*b2 + m31*b3)*invDet;
+            x_2[i] = (m12*b1 + m22*b2 + m32*b3)*invDet;
+            x_3[i] = (m13*b1 + m23*b2 + m33*b3)*invDet;
+        }
+    }
+
+    /**
+     * Makes sure the batch contains 3x3 matrices and at least 'length' of them.
+     */
+    static void checkMatrix( BatchMatrix64F m , int length ) {
+        if( m.numRows != 3 || m.numCols != 3 )
+            throw new IllegalArgumentException("Expected 3x3 matrices");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+
+    /**
+     * Makes sure the batch contains 3 element vectors and at least 'length' of them.
+     */
+    static void checkVector( BatchMatrix64F m , int length ) {
+        if( m.numRows != 3 || m.numCols != 1 )
+            throw new IllegalArgumentException("Expected 3 element column vectors");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+}
+
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.alg.fixed;
+
+import org.ejml.data.BatchMatrix64F;
+
+/**
+ * <p>Operations which are applied to every matrix in a batch of 4x4 matrices or 4 element vectors.
+ * Each function has a version which only processes the matrices with indexes from start to end-1.  See
+ * {@link BatchOps4_MT} for concurrent versions.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateBatchOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps4 {
+    /**
+     * <p>Performs the following operation on each matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a Batch of 4x4 matrices. Not modified.
+     * @param b Batch of 4x4 matrices. Not modified.
+     * @param c Batch of 4x4 matrices where the results are stored. Modified.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkMatrix(b,a.length);
+        checkMatrix(c,a.length);
+        mult(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3];
+        final double a_21[] = a.data[4], a_22[] = a.data[5], a_23[] = a.data[6], a_24[] = a.data[7];
+        final double a_31[] = a.data[8], a_32[] = a.data[9], a_33[] = a.data[10], a_34[] = a.data[11];
+        final double a_41[] = a.data[12], a_42[] = a.data[13], a_43[] = a.data[14], a_44[] = a.data[15];
+        final double b_11[] = b.data[0], b_12[] = b.data[1], b_13[] = b.data[2], b_14[] = b.data[3];
+        final double b_21[] = b.data[4], b_22[] = b.data[5], b_23[] = b.data[6], b_24[] = b.data[7];
+        final double b_31[] = b.data[8], b_32[] = b.data[9], b_33[] = b.data[10], b_34[] = b.data[11];
+        final double b_41[] = b.data[12], b_42[] = b.data[13], b_43[] = b.data[14], b_44[] = b.data[15];
+        final double c_11[] = c.data[0], c_12[] = c.data[1], c_13[] = c.data[2], c_14[] = c.data[3];
+        final double c_21[] = c.data[4], c_22[] = c.data[5], c_23[] = c.data[6], c_24[] = c.data[7];
+        final double c_31[] = c.data[8], c_32[] = c.data[9], c_33[] = c.data[10], c_34[] = c.data[11];
+        final double c_41[] = c.data[12], c_42[] = c.data[13], c_43[] = c.data[14], c_44[] = c.data[15];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i];
+            double b11 = b_11[i], b12 = b_12[i], b13 = b_13[i], b14 = b_14[i];
+            double b21 = b_21[i], b22 = b_22[i], b23 = b_23[i], b24 = b_24[i];
+            double b31 = b_31[i], b32 = b_32[i], b33 = b_33[i], b34 = b_34[i];
+            double b41 = b_41[i], b42 = b_42[i], b43 = b_43[i], b44 = b_44[i];
+
+            c_11[i] = a11*b11 + a12*b21 + a13*b31 + a14*b41;
+            c_12[i] = a11*b12 + a12*b22 + a13*b32 + a14*b42;
+            c_13[i] = a11*b13 + a12*b23 + a13*b33 + a14*b43;
+            c_14[i] = a11*b14 + a12*b24 + a13*b34 + a14*b44;
+            c_21[i] = a21*b11 + a22*b21 + a23*b31 + a24*b41;
+            c_22[i] = a21*b12 + a22*b22 + a23*b32 + a24*b42;
+            c_23[i] = a21*b13 + a22*b23 + a23*b33 + a24*b43;
+            c_24[i] = a21*b14 + a22*b24 + a23*b34 + a24*b44;
+            c_31[i] = a31*b11 + a32*b21 + a33*b31 + a34*b41;
+            c_32[i] = a31*b12 + a32*b22 + a33*b32 + a34*b42;
+            c_33[i] = a31*b13 + a32*b23 + a33*b33 + a34*b43;
+            c_34[i] = a31*b14 + a32*b24 + a33*b34 + a34*b44;
+            c_41[i] = a41*b11 + a42*b21 + a43*b31 + a44*b41;
+            c_42[i] = a41*b12 + a42*b22 + a43*b32 + a44*b42;
+            c_43[i] = a41*b13 + a42*b23 + a43*b33 + a44*b43;
+            c_44[i] = a41*b14 + a42*b24 + a43*b34 + a44*b44;
+        }
+    }
+
+    /**
+     * <p>Transforms each vector in the batch by the corresponding matrix:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector B.
+     * </p>
+     *
+     * @param a Batch of 4x4 matrices. Not modified.
+     * @param b Batch of 4 element vectors. Not modified.
+     * @param c Batch of 4 element vectors where the results are stored. Modified.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkVector(b,a.length);
+        checkVector(c,a.length);
+        transform(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3];
+        final double a_21[] = a.data[4], a_22[] = a.data[5], a_23[] = a.data[6], a_24[] = a.data[7];
+        final double a_31[] = a.data[8], a_32[] = a.data[9], a_33[] = a.data[10], a_34[] = a.data[11];
+        final double a_41[] = a.data[12], a_42[] = a.data[13], a_43[] = a.data[14], a_44[] = a.data[15];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2], b_4[] = b.data[3];
+        final double c_1[] = c.data[0], c_2[] = c.data[1], c_3[] = c.data[2], c_4[] = c.data[3];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i];
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i], b4 = b_4[i];
+
+            c_1[i] = a11*b1 + a12*b2 + a13*b3 + a14*b4;
+            c_2[i] = a21*b1 + a22*b2 + a23*b3 + a24*b4;
+            c_3[i] = a31*b1 + a32*b2 + a33*b3 + a34*b4;
+            c_4[i] = a41*b1 + a42*b2 + a43*b3 + a44*b4;
+        }
+    }
+
+    /**
+     * Inverts each matrix in the batch using minor matrices.  Each matrix is scaled to improve stability
+     * against overflow and underflow.  Singular matrices will have NaN or infinite elements in their inverse,
+     * use {@link #det(BatchMatrix64F, double[])} to check before hand.
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 4x4 matrices. Not modified.
+     * @param inv Batch of 4x4 matrices where the inverses are stored.  Can be the same instance as a.  Modified.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv ) {
+        checkMatrix(inv,a.length);
+        invert(a,inv,0,a.length);
+    }
+
+    /**
+     * Same as {@link #invert(BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void invert( BatchMatrix64F a , BatchMatrix64F inv , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3];
+        final double a_21[] = a.data[4], a_22[] = a.data[5], a_23[] = a.data[6], a_24[] = a.data[7];
+        final double a_31[] = a.data[8], a_32[] = a.data[9], a_33[] = a.data[10], a_34[] = a.data[11];
+        final double a_41[] = a.data[12], a_42[] = a.data[13], a_43[] = a.data[14], a_44[] = a.data[15];
+        final double inv_11[] = inv.data[0], inv_12[] = inv.data[1], inv_13[] = inv.data[2], inv_14[] = inv.data[3];
+        final double inv_21[] = inv.data[4], inv_22[] = inv.data[5], inv_23[] = inv.data[6], inv_24[] = inv.data[7];
+        final double inv_31[] = inv.data[8], inv_32[] = inv.data[9], inv_33[] = inv.data[10], inv_34[] = inv.data[11];
+        final double inv_41[] = inv.data[12], inv_42[] = inv.data[13], inv_43[] = inv.data[14], inv_44[] = inv.data[15];
+
+        for( int i = start; i < end; i++ ) {
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) + Math.abs(a_13[i]) + Math.abs(a_14[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]) + Math.abs(a_23[i]) + Math.abs(a_24[i]) +
+                    Math.abs(a_31[i]) + Math.abs(a_32[i]) + Math.abs(a_33[i]) + Math.abs(a_34[i]) +
+                    Math.abs(a_41[i]) + Math.abs(a_42[i]) + Math.abs(a_43[i]) + Math.abs(a_44[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale, a13 = a_13[i]*scale, a14 = a_14[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale, a23 = a_23[i]*scale, a24 = a_24[i]*scale;
+            double a31 = a_31[i]*scale, a32 = a_32[i]*scale, a33 = a_33[i]*scale, a34 = a_34[i]*scale;
+            double a41 = a_41[i]*scale, a42 = a_42[i]*scale, a43 = a_43[i]*scale, a44 = a_44[i]*scale;
+
+            double m11 =  + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42);
+            double m12 = -(  + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41));
+            double m13 =  + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41);
+            double m14 = -(  + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41));
+            double m21 = -(  + a12*(a33*a44 - a34*a43) - a13*(a32*a44 - a34*a42) + a14*(a32*a43 - a33*a42));
+            double m22 =  + a11*(a33*a44 - a34*a43) - a13*(a31*a44 - a34*a41) + a14*(a31*a43 - a33*a41);
+            double m23 = -(  + a11*(a32*a44 - a34*a42) - a12*(a31*a44 - a34*a41) + a14*(a31*a42 - a32*a41));
+            double m24 =  + a11*(a32*a43 - a33*a42) - a12*(a31*a43 - a33*a41) + a13*(a31*a42 - a32*a41);
+            double m31 =  + a12*(a23*a44 - a24*a43) - a13*(a22*a44 - a24*a42) + a14*(a22*a43 - a23*a42);
+            double m32 = -(  + a11*(a23*a44 - a24*a43) - a13*(a21*a44 - a24*a41) + a14*(a21*a43 - a23*a41));
+            double m33 =  + a11*(a22*a44 - a24*a42) - a12*(a21*a44 - a24*a41) + a14*(a21*a42 - a22*a41);
+            double m34 = -(  + a11*(a22*a43 - a23*a42) - a12*(a21*a43 - a23*a41) + a13*(a21*a42 - a22*a41));
+            double m41 = -(  + a12*(a23*a34 - a24*a33) - a13*(a22*a34 - a24*a32) + a14*(a22*a33 - a23*a32));
+            double m42 =  + a11*(a23*a34 - a24*a33) - a13*(a21*a34 - a24*a31) + a14*(a21*a33 - a23*a31);
+            double m43 = -(  + a11*(a22*a34 - a24*a32) - a12*(a21*a34 - a24*a31) + a14*(a21*a32 - a22*a31));
+            double m44 =  + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31);
+
+            double invDet = scale/(a11*m11 + a12*m12 + a13*m13 + a14*m14);
+
+            inv_11[i] = m11*invDet;
+            inv_12[i] = m21*invDet;
+            inv_13[i] = m31*invDet;
+            inv_14[i] = m41*invDet;
+            inv_21[i] = m12*invDet;
+            inv_22[i] = m22*invDet;
+            inv_23[i] = m32*invDet;
+            inv_24[i] = m42*invDet;
+            inv_31[i] = m13*invDet;
+            inv_32[i] = m23*invDet;
+            inv_33[i] = m33*invDet;
+            inv_34[i] = m43*invDet;
+            inv_41[i] = m14*invDet;
+            inv_42[i] = m24*invDet;
+            inv_43[i] = m34*invDet;
+            inv_44[i] = m44*invDet;
+        }
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch using minor matrices.
+     * <p></p>
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 4x4 matrices. Not modified.
+     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.
+     */
+    public static void det( BatchMatrix64F a , double det[] ) {
+        if( det.length < a.length )
+            throw new IllegalArgumentException("det is too small");
+        det(a,det,0,a.length);
+    }
+
+    /**
+     * Same as {@link #det(BatchMatrix64F, double[])} but only processes the matrices from start to end-1.
+     */
+    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3];
+        final double a_21[] = a.data[4], a_22[] = a.data[5], a_23[] = a.data[6], a_24[] = a.data[7];
+        final double a_31[] = a.data[8], a_32[] = a.data[9], a_33[] = a.data[10], a_34[] = a.data[11];
+        final double a_41[] = a.data[12], a_42[] = a.data[13], a_43[] = a.data[14], a_44[] = a.data[15];
+
+        for( int i = start; i < end; i++ ) {
+            double  a11 = a_22[i];
+            double  a12 = a_23[i];
+            double  a13 = a_24[i];
+            double  a21 = a_32[i];
+            double  a22 = a_33[i];
+            double  a23 = a_34[i];
+            double  a31 = a_42[i];
+            double  a32 = a_43[i];
+            double  a33 = a_44[i];
+
+            double ret = 0;
+            ret += a_11[i] * ( + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31));
+            a11 = a_21[i];
+            a21 = a_31[i];
+            a31 = a_41[i];
+            ret -= a_12[i] * ( + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31));
+            a12 = a_22[i];
+            a22 = a_32[i];
+            a32 = a_42[i];
+            ret += a_13[i] * ( + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31));
+            a13 = a_23[i];
+            a23 = a_33[i];
+            a33 = a_43[i];
+            ret -= a_14[i] * ( + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31));
+
+            det[i] = ret;
+        }
+    }
+
+    /**
+     * <p>Solves the linear system a*x = b for each matrix and vector in the batch, using the inverse computed
+     * from minor matrices.  No branches are required, unlike a solver which pivots, so the loop can be
+     * vectorized.  Singular matrices will produce NaN or infinite solutions.</p>
+     *
+     * WARNING: Potentially less stable than using LU decomposition.
+     *
+     * @param a Batch of 4x4 matrices. Not modified.
+     * @param b Batch of 4 element vectors. Not modified.
+     * @param x Batch of 4 element vectors where the solutions are stored.  Can be the same instance as b.  Modified.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {
+        checkVector(b,a.length);
+        checkVector(x,a.length);
+        solve(a,b,x,0,a.length);
+    }
+
+    /**
+     * Same as {@link #solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3];
+        final double a_21[] = a.data[4], a_22[] = a.data[5], a_23[] = a.data[6], a_24[] = a.data[7];
+        final double a_31[] = a.data[8], a_32[] = a.data[9], a_33[] = a.data[10], a_34[] = a.data[11];
+        final double a_41[] = a.data[12], a_42[] = a.data[13], a_43[] = a.data[14], a_44[] = a.data[15];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2], b_4[] = b.data[3];
+        final double x_1[] = x.data[0], x_2[] = x.data[1], x_3[] = x.data[2], x_4[] = x.data[3];
+
+        for( int i = start; i < end; i++ ) {
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i], b4 = b_4[i];
+            double scale = 1.0/(Math.abs(a_11[i]) + Math.abs(a_12[i]) + Math.abs(a_13[i]) + Math.abs(a_14[i]) +
+                    Math.abs(a_21[i]) + Math.abs(a_22[i]) + Math.abs(a_23[i]) + Math.abs(a_24[i]) +
+                    Math.abs(a_31[i]) + Math.abs(a_32[i]) + Math.abs(a_33[i]) + Math.abs(a_34[i]) +
+                    Math.abs(a_41[i]) + Math.abs(a_42[i]) + Math.abs(a_43[i]) + Math.abs(a_44[i]));
+
+            double a11 = a_11[i]*scale, a12 = a_12[i]*scale, a13 = a_13[i]*scale, a14 = a_14[i]*scale;
+            double a21 = a_21[i]*scale, a22 = a_22[i]*scale, a23 = a_23[i]*scale, a24 = a_24[i]*scale;
+            double a31 = a_31[i]*scale, a32 = a_32[i]*scale, a33 = a_33[i]*scale, a34 = a_34[i]*scale;
+            double a41 = a_41[i]*scale, a42 = a_42[i]*scale, a43 = a_43[i]*scale, a44 = a_44[i]*scale;
+
+            double m11 =  + a22*(a33*a44 - a34*a43) - a23*(a32*a44 - a34*a42) + a24*(a32*a43 - a33*a42);
+            double m12 = -(  + a21*(a33*a44 - a34*a43) - a23*(a31*a44 - a34*a41) + a24*(a31*a43 - a33*a41));
+            double m13 =  + a21*(a32*a44 - a34*a42) - a22*(a31*a44 - a34*a41) + a24*(a31*a42 - a32*a41);
+            double m14 = -(  + a21*(a32*a43 - a33*a42) - a22*(a31*a43 - a33*a41) + a23*(a31*a42 - a32*a41));
+            double m21 = -(  + a12*(a33*a44 - a34*a43) - a13*(a32*a44 - a34*a42) + a14*(a32*a43 - a33*a42));
+            double m22 =  + a11*(a33*a44 - a34*a43) - a13*(a31*a44 - a34*a41) + a14*(a31*a43 - a33*a41);
+            double m23 = -(  + a11*(a32*a44 - a34*a42) - a12*(a31*a44 - a34*a41) + a14*(a31*a42 - a32*a41));
+            double m24 =  + a11*(a32*a43 - a33*a42) - a12*(a31*a43 - a33*a41) + a13*(a31*a42 - a32*a41);
+            double m31 =  + a12*(a23*a44 - a24*a43) - a13*(a22*a44 - a24*a42) + a14*(a22*a43 - a23*a42);
+            double m32 = -(  + a11*(a23*a44 - a24*a43) - a13*(a21*a44 - a24*a41) + a14*(a21*a43 - a23*a41));
+            double m33 =  + a11*(a22*a44 - a24*a42) - a12*(a21*a44 - a24*a41) + a14*(a21*a42 - a22*a41);
+            double m34 = -(  + a11*(a22*a43 - a23*a42) - a12*(a21*a43 - a23*a41) + a13*(a21*a42 - a22*a41));
+            double m41 = -(  + a12*(a23*a34 - a24*a33) - a13*(a22*a34 - a24*a32) + a14*(a22*a33 - a23*a32));
+            double m42 =  + a11*(a23*a34 - a24*a33) - a13*(a21*a34 - a24*a31) + a14*(a21*a33 - a23*a31);
+            double m43 = -(  + a11*(a22*a34 - a24*a32) - a12*(a21*a34 - a24*a31) + a14*(a21*a32 - a22*a31));
+            double m44 =  + a11*(a22*a33 - a23*a32) - a12*(a21*a33 - a23*a31) + a13*(a21*a32 - a22*a31);
+
+            double invDet = scale/(a11*m11 + a12*m12 + a13*m13 + a14*m14);
+
+            x_1[i] = (m11*b1 + m21*b2 + m31*b3 + m41*b4)*invDet;
+            x_2[i] = (m12*b1 + m22*b2 + m32*b3 + m42*b4)*invDet;
+            x_3[i] = (m13*b1 + m23*b2 + m33*b3 + m43*b4)*invDet;
+            x_4[i] = (m14*b1 + m24*b2 + m34*b3 + m44*b4)*invDet;
+        }
+    }
+
+    /**
+     * Makes sure the batch contains 4x4 matrices and at least 'length' of them.
+     */
+    static void checkMatrix( BatchMatrix64F m , int length ) {
+        if( m.numRows != 4 || m.numCols != 4 )
+            throw new IllegalArgumentException("Expected 4x4 matrices");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+
+    /**
+     * Makes sure the batch contains 4 element vectors and at least 'length' of them.
+     */
+    static void checkVector( BatchMatrix64F m , int length ) {
+        if( m.numRows != 4 || m.numCols != 1 )
+            throw new IllegalArgumentException("Expected 4 element column vectors");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+}
+
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.alg.fixed;
+
+import org.ejml.EjmlConcurrency;
+import org.ejml.data.BatchMatrix64F;
+
+/**
+ * <p>Concurrent versions of the functions in {@link BatchOps5}.  The batch is split into blocks
+ * which are processed in the thread pool provided by {@link EjmlConcurrency}.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateBatchOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps5_MT {
+
+    /**
+     * The smallest number of matrices which will be processed by a single task
+     */
+    public static int MIN_BLOCK = 4096;
+
+    /**
+     * Performs c = a * b on each matrix in the batch.
+     *
+     * @see BatchOps5#mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)
+     */
+    public static void mult( final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F c ) {
+        BatchOps5.checkMatrix(b,a.length);
+        BatchOps5.checkMatrix(c,a.length);
+        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                BatchOps5.mult(a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * Transforms each vector in the batch, c = a * b.
+     *
+     * @see BatchOps5#transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)
+     */
+    public static void transform( final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F c ) {
+        BatchOps5.checkVector(b,a.length);
+        BatchOps5.checkVector(c,a.length);
+        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                BatchOps5.transform(a,b,c,start,end);
+            }
+        });
+    }
+
+    /**
+     * Inverts each matrix in the batch.
+     *
+     * @see BatchOps5#invert(BatchMatrix64F, BatchMatrix64F)
+     */
+    public static void invert( final BatchMatrix64F a , final BatchMatrix64F inv ) {
+        BatchOps5.checkMatrix(inv,a.length);
+        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                BatchOps5.invert(a,inv,start,end);
+            }
+        });
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch.
+     *
+     * @see BatchOps5#det(BatchMatrix64F, double[])
+     */
+    public static void det( final BatchMatrix64F a , final double det[] ) {
+        if( det.length < a.length )
+            throw new IllegalArgumentException("det is too small");
+        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                BatchOps5.det(a,det,start,end);
+            }
+        });
+    }
+
+    /**
+     * Solves a*x = b for each matrix and vector in the batch.
+     *
+     * @see BatchOps5#solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)
+     */
+    public static void solve( final BatchMatrix64F a , final BatchMatrix64F b , final BatchMatrix64F x ) {
+        BatchOps5.checkVector(b,a.length);
+        BatchOps5.checkVector(x,a.length);
+        EjmlConcurrency.process(0,a.length,MIN_BLOCK,new EjmlConcurrency.BlockTask() {
+            @Override
+            public void process(int start, int end) {
+                BatchOps5.solve(a,b,x,start,end);
+            }
+        });
+    }
+
+}
+
@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ejml.alg.fixed;
+
+import org.ejml.data.BatchMatrix64F;
+
+/**
+ * <p>Operations which are applied to every matrix in a batch of 6x6 matrices or 6 element vectors.
+ * Each function has a version which only processes the matrices with indexes from start to end-1.  See
+ * {@link BatchOps6_MT} for concurrent versions.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateBatchOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchOps6 {
+    /**
+     * <p>Performs the following operation on each matrix in the batch:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a Batch of 6x6 matrices. Not modified.
+     * @param b Batch of 6x6 matrices. Not modified.
+     * @param c Batch of 6x6 matrices where the results are stored. Modified.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkMatrix(b,a.length);
+        checkMatrix(c,a.length);
+        mult(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #mult(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void mult( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3], a_15[] = a.data[4], a_16[] = a.data[5];
+        final double a_21[] = a.data[6], a_22[] = a.data[7], a_23[] = a.data[8], a_24[] = a.data[9], a_25[] = a.data[10], a_26[] = a.data[11];
+        final double a_31[] = a.data[12], a_32[] = a.data[13], a_33[] = a.data[14], a_34[] = a.data[15], a_35[] = a.data[16], a_36[] = a.data[17];
+        final double a_41[] = a.data[18], a_42[] = a.data[19], a_43[] = a.data[20], a_44[] = a.data[21], a_45[] = a.data[22], a_46[] = a.data[23];
+        final double a_51[] = a.data[24], a_52[] = a.data[25], a_53[] = a.data[26], a_54[] = a.data[27], a_55[] = a.data[28], a_56[] = a.data[29];
+        final double a_61[] = a.data[30], a_62[] = a.data[31], a_63[] = a.data[32], a_64[] = a.data[33], a_65[] = a.data[34], a_66[] = a.data[35];
+        final double b_11[] = b.data[0], b_12[] = b.data[1], b_13[] = b.data[2], b_14[] = b.data[3], b_15[] = b.data[4], b_16[] = b.data[5];
+        final double b_21[] = b.data[6], b_22[] = b.data[7], b_23[] = b.data[8], b_24[] = b.data[9], b_25[] = b.data[10], b_26[] = b.data[11];
+        final double b_31[] = b.data[12], b_32[] = b.data[13], b_33[] = b.data[14], b_34[] = b.data[15], b_35[] = b.data[16], b_36[] = b.data[17];
+        final double b_41[] = b.data[18], b_42[] = b.data[19], b_43[] = b.data[20], b_44[] = b.data[21], b_45[] = b.data[22], b_46[] = b.data[23];
+        final double b_51[] = b.data[24], b_52[] = b.data[25], b_53[] = b.data[26], b_54[] = b.data[27], b_55[] = b.data[28], b_56[] = b.data[29];
+        final double b_61[] = b.data[30], b_62[] = b.data[31], b_63[] = b.data[32], b_64[] = b.data[33], b_65[] = b.data[34], b_66[] = b.data[35];
+        final double c_11[] = c.data[0], c_12[] = c.data[1], c_13[] = c.data[2], c_14[] = c.data[3], c_15[] = c.data[4], c_16[] = c.data[5];
+        final double c_21[] = c.data[6], c_22[] = c.data[7], c_23[] = c.data[8], c_24[] = c.data[9], c_25[] = c.data[10], c_26[] = c.data[11];
+        final double c_31[] = c.data[12], c_32[] = c.data[13], c_33[] = c.data[14], c_34[] = c.data[15], c_35[] = c.data[16], c_36[] = c.data[17];
+        final double c_41[] = c.data[18], c_42[] = c.data[19], c_43[] = c.data[20], c_44[] = c.data[21], c_45[] = c.data[22], c_46[] = c.data[23];
+        final double c_51[] = c.data[24], c_52[] = c.data[25], c_53[] = c.data[26], c_54[] = c.data[27], c_55[] = c.data[28], c_56[] = c.data[29];
+        final double c_61[] = c.data[30], c_62[] = c.data[31], c_63[] = c.data[32], c_64[] = c.data[33], c_65[] = c.data[34], c_66[] = c.data[35];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i], a15 = a_15[i], a16 = a_16[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i], a25 = a_25[i], a26 = a_26[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i], a35 = a_35[i], a36 = a_36[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i], a45 = a_45[i], a46 = a_46[i];
+            double a51 = a_51[i], a52 = a_52[i], a53 = a_53[i], a54 = a_54[i], a55 = a_55[i], a56 = a_56[i];
+            double a61 = a_61[i], a62 = a_62[i], a63 = a_63[i], a64 = a_64[i], a65 = a_65[i], a66 = a_66[i];
+            double b11 = b_11[i], b12 = b_12[i], b13 = b_13[i], b14 = b_14[i], b15 = b_15[i], b16 = b_16[i];
+            double b21 = b_21[i], b22 = b_22[i], b23 = b_23[i], b24 = b_24[i], b25 = b_25[i], b26 = b_26[i];
+            double b31 = b_31[i], b32 = b_32[i], b33 = b_33[i], b34 = b_34[i], b35 = b_35[i], b36 = b_36[i];
+            double b41 = b_41[i], b42 = b_42[i], b43 = b_43[i], b44 = b_44[i], b45 = b_45[i], b46 = b_46[i];
+            double b51 = b_51[i], b52 = b_52[i], b53 = b_53[i], b54 = b_54[i], b55 = b_55[i], b56 = b_56[i];
+            double b61 = b_61[i], b62 = b_62[i], b63 = b_63[i], b64 = b_64[i], b65 = b_65[i], b66 = b_66[i];
+
+            c_11[i] = a11*b11 + a12*b21 + a13*b31 + a14*b41 + a15*b51 + a16*b61;
+            c_12[i] = a11*b12 + a12*b22 + a13*b32 + a14*b42 + a15*b52 + a16*b62;
+            c_13[i] = a11*b13 + a12*b23 + a13*b33 + a14*b43 + a15*b53 + a16*b63;
+            c_14[i] = a11*b14 + a12*b24 + a13*b34 + a14*b44 + a15*b54 + a16*b64;
+            c_15[i] = a11*b15 + a12*b25 + a13*b35 + a14*b45 + a15*b55 + a16*b65;
+            c_16[i] = a11*b16 + a12*b26 + a13*b36 + a14*b46 + a15*b56 + a16*b66;
+            c_21[i] = a21*b11 + a22*b21 + a23*b31 + a24*b41 + a25*b51 + a26*b61;
+            c_22[i] = a21*b12 + a22*b22 + a23*b32 + a24*b42 + a25*b52 + a26*b62;
+            c_23[i] = a21*b13 + a22*b23 + a23*b33 + a24*b43 + a25*b53 + a26*b63;
+            c_24[i] = a21*b14 + a22*b24 + a23*b34 + a24*b44 + a25*b54 + a26*b64;
+            c_25[i] = a21*b15 + a22*b25 + a23*b35 + a24*b45 + a25*b55 + a26*b65;
+            c_26[i] = a21*b16 + a22*b26 + a23*b36 + a24*b46 + a25*b56 + a26*b66;
+            c_31[i] = a31*b11 + a32*b21 + a33*b31 + a34*b41 + a35*b51 + a36*b61;
+            c_32[i] = a31*b12 + a32*b22 + a33*b32 + a34*b42 + a35*b52 + a36*b62;
+            c_33[i] = a31*b13 + a32*b23 + a33*b33 + a34*b43 + a35*b53 + a36*b63;
+            c_34[i] = a31*b14 + a32*b24 + a33*b34 + a34*b44 + a35*b54 + a36*b64;
+            c_35[i] = a31*b15 + a32*b25 + a33*b35 + a34*b45 + a35*b55 + a36*b65;
+            c_36[i] = a31*b16 + a32*b26 + a33*b36 + a34*b46 + a35*b56 + a36*b66;
+            c_41[i] = a41*b11 + a42*b21 + a43*b31 + a44*b41 + a45*b51 + a46*b61;
+            c_42[i] = a41*b12 + a42*b22 + a43*b32 + a44*b42 + a45*b52 + a46*b62;
+            c_43[i] = a41*b13 + a42*b23 + a43*b33 + a44*b43 + a45*b53 + a46*b63;
+            c_44[i] = a41*b14 + a42*b24 + a43*b34 + a44*b44 + a45*b54 + a46*b64;
+            c_45[i] = a41*b15 + a42*b25 + a43*b35 + a44*b45 + a45*b55 + a46*b65;
+            c_46[i] = a41*b16 + a42*b26 + a43*b36 + a44*b46 + a45*b56 + a46*b66;
+            c_51[i] = a51*b11 + a52*b21 + a53*b31 + a54*b41 + a55*b51 + a56*b61;
+            c_52[i] = a51*b12 + a52*b22 + a53*b32 + a54*b42 + a55*b52 + a56*b62;
+            c_53[i] = a51*b13 + a52*b23 + a53*b33 + a54*b43 + a55*b53 + a56*b63;
+            c_54[i] = a51*b14 + a52*b24 + a53*b34 + a54*b44 + a55*b54 + a56*b64;
+            c_55[i] = a51*b15 + a52*b25 + a53*b35 + a54*b45 + a55*b55 + a56*b65;
+            c_56[i] = a51*b16 + a52*b26 + a53*b36 + a54*b46 + a55*b56 + a56*b66;
+            c_61[i] = a61*b11 + a62*b21 + a63*b31 + a64*b41 + a65*b51 + a66*b61;
+            c_62[i] = a61*b12 + a62*b22 + a63*b32 + a64*b42 + a65*b52 + a66*b62;
+            c_63[i] = a61*b13 + a62*b23 + a63*b33 + a64*b43 + a65*b53 + a66*b63;
+            c_64[i] = a61*b14 + a62*b24 + a63*b34 + a64*b44 + a65*b54 + a66*b64;
+            c_65[i] = a61*b15 + a62*b25 + a63*b35 + a64*b45 + a65*b55 + a66*b65;
+            c_66[i] = a61*b16 + a62*b26 + a63*b36 + a64*b46 + a65*b56 + a66*b66;
+        }
+    }
+
+    /**
+     * <p>Transforms each vector in the batch by the corresponding matrix:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * <p>
+     * Vector C can be the same instance as Vector B.
+     * </p>
+     *
+     * @param a Batch of 6x6 matrices. Not modified.
+     * @param b Batch of 6 element vectors. Not modified.
+     * @param c Batch of 6 element vectors where the results are stored. Modified.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c ) {
+        checkVector(b,a.length);
+        checkVector(c,a.length);
+        transform(a,b,c,0,a.length);
+    }
+
+    /**
+     * Same as {@link #transform(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void transform( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F c , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3], a_15[] = a.data[4], a_16[] = a.data[5];
+        final double a_21[] = a.data[6], a_22[] = a.data[7], a_23[] = a.data[8], a_24[] = a.data[9], a_25[] = a.data[10], a_26[] = a.data[11];
+        final double a_31[] = a.data[12], a_32[] = a.data[13], a_33[] = a.data[14], a_34[] = a.data[15], a_35[] = a.data[16], a_36[] = a.data[17];
+        final double a_41[] = a.data[18], a_42[] = a.data[19], a_43[] = a.data[20], a_44[] = a.data[21], a_45[] = a.data[22], a_46[] = a.data[23];
+        final double a_51[] = a.data[24], a_52[] = a.data[25], a_53[] = a.data[26], a_54[] = a.data[27], a_55[] = a.data[28], a_56[] = a.data[29];
+        final double a_61[] = a.data[30], a_62[] = a.data[31], a_63[] = a.data[32], a_64[] = a.data[33], a_65[] = a.data[34], a_66[] = a.data[35];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2], b_4[] = b.data[3], b_5[] = b.data[4], b_6[] = b.data[5];
+        final double c_1[] = c.data[0], c_2[] = c.data[1], c_3[] = c.data[2], c_4[] = c.data[3], c_5[] = c.data[4], c_6[] = c.data[5];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i], a15 = a_15[i], a16 = a_16[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i], a25 = a_25[i], a26 = a_26[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i], a35 = a_35[i], a36 = a_36[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i], a45 = a_45[i], a46 = a_46[i];
+            double a51 = a_51[i], a52 = a_52[i], a53 = a_53[i], a54 = a_54[i], a55 = a_55[i], a56 = a_56[i];
+            double a61 = a_61[i], a62 = a_62[i], a63 = a_63[i], a64 = a_64[i], a65 = a_65[i], a66 = a_66[i];
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i], b4 = b_4[i], b5 = b_5[i], b6 = b_6[i];
+
+            c_1[i] = a11*b1 + a12*b2 + a13*b3 + a14*b4 + a15*b5 + a16*b6;
+            c_2[i] = a21*b1 + a22*b2 + a23*b3 + a24*b4 + a25*b5 + a26*b6;
+            c_3[i] = a31*b1 + a32*b2 + a33*b3 + a34*b4 + a35*b5 + a36*b6;
+            c_4[i] = a41*b1 + a42*b2 + a43*b3 + a44*b4 + a45*b5 + a46*b6;
+            c_5[i] = a51*b1 + a52*b2 + a53*b3 + a54*b4 + a55*b5 + a56*b6;
+            c_6[i] = a61*b1 + a62*b2 + a63*b3 + a64*b4 + a65*b5 + a66*b6;
+        }
+    }
+
+    /**
+     * Computes the determinant of each matrix in the batch from the product of the pivots found by Gaussian
+     * elimination without pivoting.  No branches are required so the loop can be vectorized.
+     * <p></p>
+     * WARNING: Only accurate for matrices which don't need pivoting, such as symmetric positive definite or
+     * diagonally dominant matrices.  A zero pivot will produce a NaN or infinite determinant.
+     *
+     * @param a Batch of 6x6 matrices. Not modified.
+     * @param det Array where the determinants are stored.  Must have at least a.length elements.  Modified.
+     */
+    public static void det( BatchMatrix64F a , double det[] ) {
+        if( det.length < a.length )
+            throw new IllegalArgumentException("det is too small");
+        det(a,det,0,a.length);
+    }
+
+    /**
+     * Same as {@link #det(BatchMatrix64F, double[])} but only processes the matrices from start to end-1.
+     */
+    public static void det( BatchMatrix64F a , double det[] , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3], a_15[] = a.data[4], a_16[] = a.data[5];
+        final double a_21[] = a.data[6], a_22[] = a.data[7], a_23[] = a.data[8], a_24[] = a.data[9], a_25[] = a.data[10], a_26[] = a.data[11];
+        final double a_31[] = a.data[12], a_32[] = a.data[13], a_33[] = a.data[14], a_34[] = a.data[15], a_35[] = a.data[16], a_36[] = a.data[17];
+        final double a_41[] = a.data[18], a_42[] = a.data[19], a_43[] = a.data[20], a_44[] = a.data[21], a_45[] = a.data[22], a_46[] = a.data[23];
+        final double a_51[] = a.data[24], a_52[] = a.data[25], a_53[] = a.data[26], a_54[] = a.data[27], a_55[] = a.data[28], a_56[] = a.data[29];
+        final double a_61[] = a.data[30], a_62[] = a.data[31], a_63[] = a.data[32], a_64[] = a.data[33], a_65[] = a.data[34], a_66[] = a.data[35];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i], a15 = a_15[i], a16 = a_16[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i], a25 = a_25[i], a26 = a_26[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i], a35 = a_35[i], a36 = a_36[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i], a45 = a_45[i], a46 = a_46[i];
+            double a51 = a_51[i], a52 = a_52[i], a53 = a_53[i], a54 = a_54[i], a55 = a_55[i], a56 = a_56[i];
+            double a61 = a_61[i], a62 = a_62[i], a63 = a_63[i], a64 = a_64[i], a65 = a_65[i], a66 = a_66[i];
+
+            double d1 = 1.0/a11;
+            double l21 = a21*d1;
+            a22 -= l21*a12;
+            a23 -= l21*a13;
+            a24 -= l21*a14;
+            a25 -= l21*a15;
+            a26 -= l21*a16;
+            double l31 = a31*d1;
+            a32 -= l31*a12;
+            a33 -= l31*a13;
+            a34 -= l31*a14;
+            a35 -= l31*a15;
+            a36 -= l31*a16;
+            double l41 = a41*d1;
+            a42 -= l41*a12;
+            a43 -= l41*a13;
+            a44 -= l41*a14;
+            a45 -= l41*a15;
+            a46 -= l41*a16;
+            double l51 = a51*d1;
+            a52 -= l51*a12;
+            a53 -= l51*a13;
+            a54 -= l51*a14;
+            a55 -= l51*a15;
+            a56 -= l51*a16;
+            double l61 = a61*d1;
+            a62 -= l61*a12;
+            a63 -= l61*a13;
+            a64 -= l61*a14;
+            a65 -= l61*a15;
+            a66 -= l61*a16;
+            double d2 = 1.0/a22;
+            double l32 = a32*d2;
+            a33 -= l32*a23;
+            a34 -= l32*a24;
+            a35 -= l32*a25;
+            a36 -= l32*a26;
+            double l42 = a42*d2;
+            a43 -= l42*a23;
+            a44 -= l42*a24;
+            a45 -= l42*a25;
+            a46 -= l42*a26;
+            double l52 = a52*d2;
+            a53 -= l52*a23;
+            a54 -= l52*a24;
+            a55 -= l52*a25;
+            a56 -= l52*a26;
+            double l62 = a62*d2;
+            a63 -= l62*a23;
+            a64 -= l62*a24;
+            a65 -= l62*a25;
+            a66 -= l62*a26;
+            double d3 = 1.0/a33;
+            double l43 = a43*d3;
+            a44 -= l43*a34;
+            a45 -= l43*a35;
+            a46 -= l43*a36;
+            double l53 = a53*d3;
+            a54 -= l53*a34;
+            a55 -= l53*a35;
+            a56 -= l53*a36;
+            double l63 = a63*d3;
+            a64 -= l63*a34;
+            a65 -= l63*a35;
+            a66 -= l63*a36;
+            double d4 = 1.0/a44;
+            double l54 = a54*d4;
+            a55 -= l54*a45;
+            a56 -= l54*a46;
+            double l64 = a64*d4;
+            a65 -= l64*a45;
+            a66 -= l64*a46;
+            double d5 = 1.0/a55;
+            double l65 = a65*d5;
+            a66 -= l65*a56;
+
+            det[i] = a11*a22*a33*a44*a55*a66;
+        }
+    }
+
+    /**
+     * <p>Solves the linear system a*x = b for each matrix and vector in the batch using Gaussian elimination
+     * without pivoting.  No branches are required, unlike a solver which pivots, so the loop can be
+     * vectorized.  A zero pivot will produce NaN or infinite solutions.</p>
+     *
+     * WARNING: Only accurate for matrices which don't need pivoting, such as symmetric positive definite or
+     * diagonally dominant matrices.  Use {@link FixedOps6#solveLU} on each matrix otherwise.
+     *
+     * @param a Batch of 6x6 matrices. Not modified.
+     * @param b Batch of 6 element vectors. Not modified.
+     * @param x Batch of 6 element vectors where the solutions are stored.  Can be the same instance as b.  Modified.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x ) {
+        checkVector(b,a.length);
+        checkVector(x,a.length);
+        solve(a,b,x,0,a.length);
+    }
+
+    /**
+     * Same as {@link #solve(BatchMatrix64F, BatchMatrix64F, BatchMatrix64F)} but only processes the matrices from start to end-1.
+     */
+    public static void solve( BatchMatrix64F a , BatchMatrix64F b , BatchMatrix64F x , int start , int end ) {
+        checkMatrix(a,end);
+        final double a_11[] = a.data[0], a_12[] = a.data[1], a_13[] = a.data[2], a_14[] = a.data[3], a_15[] = a.data[4], a_16[] = a.data[5];
+        final double a_21[] = a.data[6], a_22[] = a.data[7], a_23[] = a.data[8], a_24[] = a.data[9], a_25[] = a.data[10], a_26[] = a.data[11];
+        final double a_31[] = a.data[12], a_32[] = a.data[13], a_33[] = a.data[14], a_34[] = a.data[15], a_35[] = a.data[16], a_36[] = a.data[17];
+        final double a_41[] = a.data[18], a_42[] = a.data[19], a_43[] = a.data[20], a_44[] = a.data[21], a_45[] = a.data[22], a_46[] = a.data[23];
+        final double a_51[] = a.data[24], a_52[] = a.data[25], a_53[] = a.data[26], a_54[] = a.data[27], a_55[] = a.data[28], a_56[] = a.data[29];
+        final double a_61[] = a.data[30], a_62[] = a.data[31], a_63[] = a.data[32], a_64[] = a.data[33], a_65[] = a.data[34], a_66[] = a.data[35];
+        final double b_1[] = b.data[0], b_2[] = b.data[1], b_3[] = b.data[2], b_4[] = b.data[3], b_5[] = b.data[4], b_6[] = b.data[5];
+        final double x_1[] = x.data[0], x_2[] = x.data[1], x_3[] = x.data[2], x_4[] = x.data[3], x_5[] = x.data[4], x_6[] = x.data[5];
+
+        for( int i = start; i < end; i++ ) {
+            double a11 = a_11[i], a12 = a_12[i], a13 = a_13[i], a14 = a_14[i], a15 = a_15[i], a16 = a_16[i];
+            double a21 = a_21[i], a22 = a_22[i], a23 = a_23[i], a24 = a_24[i], a25 = a_25[i], a26 = a_26[i];
+            double a31 = a_31[i], a32 = a_32[i], a33 = a_33[i], a34 = a_34[i], a35 = a_35[i], a36 = a_36[i];
+            double a41 = a_41[i], a42 = a_42[i], a43 = a_43[i], a44 = a_44[i], a45 = a_45[i], a46 = a_46[i];
+            double a51 = a_51[i], a52 = a_52[i], a53 = a_53[i], a54 = a_54[i], a55 = a_55[i], a56 = a_56[i];
+            double a61 = a_61[i], a62 = a_62[i], a63 = a_63[i], a64 = a_64[i], a65 = a_65[i], a66 = a_66[i];
+            double b1 = b_1[i], b2 = b_2[i], b3 = b_3[i], b4 = b_4[i], b5 = b_5[i], b6 = b_6[i];
+
+            double d1 = 1.0/a11;
+            double l21 = a21*d1;
+            a22 -= l21*a12;
+            a23 -= l21*a13;
+            a24 -= l21*a14;
+            a25 -= l21*a15;
+            a26 -= l21*a16;
+            b2 -= l21*b1;
+            double l31 = a31*d1;
+            a32 -= l31*a12;
+            a33 -= l31*a13;
+            a34 -= l31*a14;
+            a35 -= l31*a15;
+            a36 -= l31*a16;
+            b3 -= l31*b1;
+            double l41 = a41*d1;
+            a42 -= l41*a12;
+            a43 -= l41*a13;
+            a44 -= l41*a14;
+            a45 -= l41*a15;
+            a46 -= l41*a16;
+            b4 -= l41*b1;
+            double l51 = a51*d1;
+            a52 -= l51*a12;
+            a53 -= l51*a13;
+            a54 -= l51*a14;
+            a55 -= l51*a15;
+            a56 -= l51*a16;
+            b5 -= l51*b1;
+            double l61 = a61*d1;
+            a62 -= l61*a12;
+            a63 -= l61*a13;
+            a64 -= l61*a14;
+            a65 -= l61*a15;
+            a66 -= l61*a16;
+            b6 -= l61*b1;
+            double d2 = 1.0/a22;
+            double l32 = a32*d2;
+            a33 -= l32*a23;
+            a34 -= l32*a24;
+            a35 -= l32*a25;
+            a36 -= l32*a26;
+            b3 -= l32*b2;
+            double l42 = a42*d2;
+            a43 -= l42*a23;
+            a44 -= l42*a24;
+            a45 -= l42*a25;
+            a46 -= l42*a26;
+            b4 -= l42*b2;
+            double l52 = a52*d2;
+            a53 -= l52*a23;
+            a54 -= l52*a24;
+            a55 -= l52*a25;
+            a56 -= l52*a26;
+            b5 -= l52*b2;
+            double l62 = a62*d2;
+            a63 -= l62*a23;
+            a64 -= l62*a24;
+            a65 -= l62*a25;
+            a66 -= l62*a26;
+            b6 -= l62*b2;
+            double d3 = 1.0/a33;
+            double l43 = a43*d3;
+            a44 -= l43*a34;
+            a45 -= l43*a35;
+            a46 -= l43*a36;
+            b4 -= l43*b3;
+            double l53 = a53*d3;
+            a54 -= l53*a34;
+            a55 -= l53*a35;
+            a56 -= l53*a36;
+            b5 -= l53*b3;
+            double l63 = a63*d3;
+            a64 -= l63*a34;
+            a65 -= l63*a35;
+            a66 -= l63*a36;
+            b6 -= l63*b3;
+            double d4 = 1.0/a44;
+            double l54 = a54*d4;
+            a55 -= l54*a45;
+            a56 -= l54*a46;
+            b5 -= l54*b4;
+            double l64 = a64*d4;
+            a65 -= l64*a45;
+            a66 -= l64*a46;
+            b6 -= l64*b4;
+            double d5 = 1.0/a55;
+            double l65 = a65*d5;
+            a66 -= l65*a56;
+            b6 -= l65*b5;
+            double d6 = 1.0/a66;
+
+            double x6 = b6*d6;
+            double x5 = (b5 - a56*x6)*d5;
+            double x4 = (b4 - a45*x5 - a46*x6)*d4;
+            double x3 = (b3 - a34*x4 - a35*x5 - a36*x6)*d3;
+            double x2 = (b2 - a23*x3 - a24*x4 - a25*x5 - a26*x6)*d2;
+            double x1 = (b1 - a12*x2 - a13*x3 - a14*x4 - a15*x5 - a16*x6)*d1;
+
+            x_1[i] = x1;
+            x_2[i] = x2;
+            x_3[i] = x3;
+            x_4[i] = x4;
+            x_5[i] = x5;
+            x_6[i] = x6;
+        }
+    }
+
+    /**
+     * Makes sure the batch contains 6x6 matrices and at least 'length' of them.
+     */
+    static void checkMatrix( BatchMatrix64F m , int length ) {
+        if( m.numRows != 6 || m.numCols != 6 )
+            throw new IllegalArgumentException("Expected 6x6 matrices");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+
+    /**
+     * Makes sure the batch contains 6 element vectors and at least 'length' of them.
+     */
+    static void checkVector( BatchMatrix64F m , int length ) {
+        if( m.numRows != 6 || m.numCols != 1 )
+            throw new IllegalArgumentException("Expected 6 element column vectors");
+        if( m.length < length )
+            throw new IllegalArgumentException("Batch is too small");
+    }
+}
+
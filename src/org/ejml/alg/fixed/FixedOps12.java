@@ -0,0 +1,2882 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.FixedMatrix12_64F;
+import org.ejml.data.FixedMatrix12x12_64F;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 12 x 12 or 12 element vectors.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateFixedOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class FixedOps12 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c ) {
+        c.a1_1 = a.a1_1 + b.a1_1;
+        c.a1_2 = a.a1_2 + b.a1_2;
+        c.a1_3 = a.a1_3 + b.a1_3;
+        c.a1_4 = a.a1_4 + b.a1_4;
+        c.a1_5 = a.a1_5 + b.a1_5;
+        c.a1_6 = a.a1_6 + b.a1_6;
+        c.a1_7 = a.a1_7 + b.a1_7;
+        c.a1_8 = a.a1_8 + b.a1_8;
+        c.a1_9 = a.a1_9 + b.a1_9;
+        c.a1_10 = a.a1_10 + b.a1_10;
+        c.a1_11 = a.a1_11 + b.a1_11;
+        c.a1_12 = a.a1_12 + b.a1_12;
+        c.a2_1 = a.a2_1 + b.a2_1;
+        c.a2_2 = a.a2_2 + b.a2_2;
+        c.a2_3 = a.a2_3 + b.a2_3;
+        c.a2_4 = a.a2_4 + b.a2_4;
+        c.a2_5 = a.a2_5 + b.a2_5;
+        c.a2_6 = a.a2_6 + b.a2_6;
+        c.a2_7 = a.a2_7 + b.a2_7;
+        c.a2_8 = a.a2_8 + b.a2_8;
+        c.a2_9 = a.a2_9 + b.a2_9;
+        c.a2_10 = a.a2_10 + b.a2_10;
+        c.a2_11 = a.a2_11 + b.a2_11;
+        c.a2_12 = a.a2_12 + b.a2_12;
+        c.a3_1 = a.a3_1 + b.a3_1;
+        c.a3_2 = a.a3_2 + b.a3_2;
+        c.a3_3 = a.a3_3 + b.a3_3;
+        c.a3_4 = a.a3_4 + b.a3_4;
+        c.a3_5 = a.a3_5 + b.a3_5;
+        c.a3_6 = a.a3_6 + b.a3_6;
+        c.a3_7 = a.a3_7 + b.a3_7;
+        c.a3_8 = a.a3_8 + b.a3_8;
+        c.a3_9 = a.a3_9 + b.a3_9;
+        c.a3_10 = a.a3_10 + b.a3_10;
+        c.a3_11 = a.a3_11 + b.a3_11;
+        c.a3_12 = a.a3_12 + b.a3_12;
+        c.a4_1 = a.a4_1 + b.a4_1;
+        c.a4_2 = a.a4_2 + b.a4_2;
+        c.a4_3 = a.a4_3 + b.a4_3;
+        c.a4_4 = a.a4_4 + b.a4_4;
+        c.a4_5 = a.a4_5 + b.a4_5;
+        c.a4_6 = a.a4_6 + b.a4_6;
+        c.a4_7 = a.a4_7 + b.a4_7;
+        c.a4_8 = a.a4_8 + b.a4_8;
+        c.a4_9 = a.a4_9 + b.a4_9;
+        c.a4_10 = a.a4_10 + b.a4_10;
+        c.a4_11 = a.a4_11 + b.a4_11;
+        c.a4_12 = a.a4_12 + b.a4_12;
+        c.a5_1 = a.a5_1 + b.a5_1;
+        c.a5_2 = a.a5_2 + b.a5_2;
+        c.a5_3 = a.a5_3 + b.a5_3;
+        c.a5_4 = a.a5_4 + b.a5_4;
+        c.a5_5 = a.a5_5 + b.a5_5;
+        c.a5_6 = a.a5_6 + b.a5_6;
+        c.a5_7 = a.a5_7 + b.a5_7;
+        c.a5_8 = a.a5_8 + b.a5_8;
+        c.a5_9 = a.a5_9 + b.a5_9;
+        c.a5_10 = a.a5_10 + b.a5_10;
+        c.a5_11 = a.a5_11 + b.a5_11;
+        c.a5_12 = a.a5_12 + b.a5_12;
+        c.a6_1 = a.a6_1 + b.a6_1;
+        c.a6_2 = a.a6_2 + b.a6_2;
+        c.a6_3 = a.a6_3 + b.a6_3;
+        c.a6_4 = a.a6_4 + b.a6_4;
+        c.a6_5 = a.a6_5 + b.a6_5;
+        c.a6_6 = a.a6_6 + b.a6_6;
+        c.a6_7 = a.a6_7 + b.a6_7;
+        c.a6_8 = a.a6_8 + b.a6_8;
+        c.a6_9 = a.a6_9 + b.a6_9;
+        c.a6_10 = a.a6_10 + b.a6_10;
+        c.a6_11 = a.a6_11 + b.a6_11;
+        c.a6_12 = a.a6_12 + b.a6_12;
+        c.a7_1 = a.a7_1 + b.a7_1;
+        c.a7_2 = a.a7_2 + b.a7_2;
+        c.a7_3 = a.a7_3 + b.a7_3;
+        c.a7_4 = a.a7_4 + b.a7_4;
+        c.a7_5 = a.a7_5 + b.a7_5;
+        c.a7_6 = a.a7_6 + b.a7_6;
+        c.a7_7 = a.a7_7 + b.a7_7;
+        c.a7_8 = a.a7_8 + b.a7_8;
+        c.a7_9 = a.a7_9 + b.a7_9;
+        c.a7_10 = a.a7_10 + b.a7_10;
+        c.a7_11 = a.a7_11 + b.a7_11;
+        c.a7_12 = a.a7_12 + b.a7_12;
+        c.a8_1 = a.a8_1 + b.a8_1;
+        c.a8_2 = a.a8_2 + b.a8_2;
+        c.a8_3 = a.a8_3 + b.a8_3;
+        c.a8_4 = a.a8_4 + b.a8_4;
+        c.a8_5 = a.a8_5 + b.a8_5;
+        c.a8_6 = a.a8_6 + b.a8_6;
+        c.a8_7 = a.a8_7 + b.a8_7;
+        c.a8_8 = a.a8_8 + b.a8_8;
+        c.a8_9 = a.a8_9 + b.a8_9;
+        c.a8_10 = a.a8_10 + b.a8_10;
+        c.a8_11 = a.a8_11 + b.a8_11;
+        c.a8_12 = a.a8_12 + b.a8_12;
+        c.a9_1 = a.a9_1 + b.a9_1;
+        c.a9_2 = a.a9_2 + b.a9_2;
+        c.a9_3 = a.a9_3 + b.a9_3;
+        c.a9_4 = a.a9_4 + b.a9_4;
+        c.a9_5 = a.a9_5 + b.a9_5;
+        c.a9_6 = a.a9_6 + b.a9_6;
+        c.a9_7 = a.a9_7 + b.a9_7;
+        c.a9_8 = a.a9_8 + b.a9_8;
+        c.a9_9 = a.a9_9 + b.a9_9;
+        c.a9_10 = a.a9_10 + b.a9_10;
+        c.a9_11 = a.a9_11 + b.a9_11;
+        c.a9_12 = a.a9_12 + b.a9_12;
+        c.a10_1 = a.a10_1 + b.a10_1;
+        c.a10_2 = a.a10_2 + b.a10_2;
+        c.a10_3 = a.a10_3 + b.a10_3;
+        c.a10_4 = a.a10_4 + b.a10_4;
+        c.a10_5 = a.a10_5 + b.a10_5;
+        c.a10_6 = a.a10_6 + b.a10_6;
+        c.a10_7 = a.a10_7 + b.a10_7;
+        c.a10_8 = a.a10_8 + b.a10_8;
+        c.a10_9 = a.a10_9 + b.a10_9;
+        c.a10_10 = a.a10_10 + b.a10_10;
+        c.a10_11 = a.a10_11 + b.a10_11;
+        c.a10_12 = a.a10_12 + b.a10_12;
+        c.a11_1 = a.a11_1 + b.a11_1;
+        c.a11_2 = a.a11_2 + b.a11_2;
+        c.a11_3 = a.a11_3 + b.a11_3;
+        c.a11_4 = a.a11_4 + b.a11_4;
+        c.a11_5 = a.a11_5 + b.a11_5;
+        c.a11_6 = a.a11_6 + b.a11_6;
+        c.a11_7 = a.a11_7 + b.a11_7;
+        c.a11_8 = a.a11_8 + b.a11_8;
+        c.a11_9 = a.a11_9 + b.a11_9;
+        c.a11_10 = a.a11_10 + b.a11_10;
+        c.a11_11 = a.a11_11 + b.a11_11;
+        c.a11_12 = a.a11_12 + b.a11_12;
+        c.a12_1 = a.a12_1 + b.a12_1;
+        c.a12_2 = a.a12_2 + b.a12_2;
+        c.a12_3 = a.a12_3 + b.a12_3;
+        c.a12_4 = a.a12_4 + b.a12_4;
+        c.a12_5 = a.a12_5 + b.a12_5;
+        c.a12_6 = a.a12_6 + b.a12_6;
+        c.a12_7 = a.a12_7 + b.a12_7;
+        c.a12_8 = a.a12_8 + b.a12_8;
+        c.a12_9 = a.a12_9 + b.a12_9;
+        c.a12_10 = a.a12_10 + b.a12_10;
+        c.a12_11 = a.a12_11 + b.a12_11;
+        c.a12_12 = a.a12_12 + b.a12_12;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b ) {
+        a.a1_1 += b.a1_1;
+        a.a1_2 += b.a1_2;
+        a.a1_3 += b.a1_3;
+        a.a1_4 += b.a1_4;
+        a.a1_5 += b.a1_5;
+        a.a1_6 += b.a1_6;
+        a.a1_7 += b.a1_7;
+        a.a1_8 += b.a1_8;
+        a.a1_9 += b.a1_9;
+        a.a1_10 += b.a1_10;
+        a.a1_11 += b.a1_11;
+        a.a1_12 += b.a1_12;
+        a.a2_1 += b.a2_1;
+        a.a2_2 += b.a2_2;
+        a.a2_3 += b.a2_3;
+        a.a2_4 += b.a2_4;
+        a.a2_5 += b.a2_5;
+        a.a2_6 += b.a2_6;
+        a.a2_7 += b.a2_7;
+        a.a2_8 += b.a2_8;
+        a.a2_9 += b.a2_9;
+        a.a2_10 += b.a2_10;
+        a.a2_11 += b.a2_11;
+        a.a2_12 += b.a2_12;
+        a.a3_1 += b.a3_1;
+        a.a3_2 += b.a3_2;
+        a.a3_3 += b.a3_3;
+        a.a3_4 += b.a3_4;
+        a.a3_5 += b.a3_5;
+        a.a3_6 += b.a3_6;
+        a.a3_7 += b.a3_7;
+        a.a3_8 += b.a3_8;
+        a.a3_9 += b.a3_9;
+        a.a3_10 += b.a3_10;
+        a.a3_11 += b.a3_11;
+        a.a3_12 += b.a3_12;
+        a.a4_1 += b.a4_1;
+        a.a4_2 += b.a4_2;
+        a.a4_3 += b.a4_3;
+        a.a4_4 += b.a4_4;
+        a.a4_5 += b.a4_5;
+        a.a4_6 += b.a4_6;
+        a.a4_7 += b.a4_7;
+        a.a4_8 += b.a4_8;
+        a.a4_9 += b.a4_9;
+        a.a4_10 += b.a4_10;
+        a.a4_11 += b.a4_11;
+        a.a4_12 += b.a4_12;
+        a.a5_1 += b.a5_1;
+        a.a5_2 += b.a5_2;
+        a.a5_3 += b.a5_3;
+        a.a5_4 += b.a5_4;
+        a.a5_5 += b.a5_5;
+        a.a5_6 += b.a5_6;
+        a.a5_7 += b.a5_7;
+        a.a5_8 += b.a5_8;
+        a.a5_9 += b.a5_9;
+        a.a5_10 += b.a5_10;
+        a.a5_11 += b.a5_11;
+        a.a5_12 += b.a5_12;
+        a.a6_1 += b.a6_1;
+        a.a6_2 += b.a6_2;
+        a.a6_3 += b.a6_3;
+        a.a6_4 += b.a6_4;
+        a.a6_5 += b.a6_5;
+        a.a6_6 += b.a6_6;
+        a.a6_7 += b.a6_7;
+        a.a6_8 += b.a6_8;
+        a.a6_9 += b.a6_9;
+        a.a6_10 += b.a6_10;
+        a.a6_11 += b.a6_11;
+        a.a6_12 += b.a6_12;
+        a.a7_1 += b.a7_1;
+        a.a7_2 += b.a7_2;
+        a.a7_3 += b.a7_3;
+        a.a7_4 += b.a7_4;
+        a.a7_5 += b.a7_5;
+        a.a7_6 += b.a7_6;
+        a.a7_7 += b.a7_7;
+        a.a7_8 += b.a7_8;
+        a.a7_9 += b.a7_9;
+        a.a7_10 += b.a7_10;
+        a.a7_11 += b.a7_11;
+        a.a7_12 += b.a7_12;
+        a.a8_1 += b.a8_1;
+        a.a8_2 += b.a8_2;
+        a.a8_3 += b.a8_3;
+        a.a8_4 += b.a8_4;
+        a.a8_5 += b.a8_5;
+        a.a8_6 += b.a8_6;
+        a.a8_7 += b.a8_7;
+        a.a8_8 += b.a8_8;
+        a.a8_9 += b.a8_9;
+        a.a8_10 += b.a8_10;
+        a.a8_11 += b.a8_11;
+        a.a8_12 += b.a8_12;
+        a.a9_1 += b.a9_1;
+        a.a9_2 += b.a9_2;
+        a.a9_3 += b.a9_3;
+        a.a9_4 += b.a9_4;
+        a.a9_5 += b.a9_5;
+        a.a9_6 += b.a9_6;
+        a.a9_7 += b.a9_7;
+        a.a9_8 += b.a9_8;
+        a.a9_9 += b.a9_9;
+        a.a9_10 += b.a9_10;
+        a.a9_11 += b.a9_11;
+        a.a9_12 += b.a9_12;
+        a.a10_1 += b.a10_1;
+        a.a10_2 += b.a10_2;
+        a.a10_3 += b.a10_3;
+        a.a10_4 += b.a10_4;
+        a.a10_5 += b.a10_5;
+        a.a10_6 += b.a10_6;
+        a.a10_7 += b.a10_7;
+        a.a10_8 += b.a10_8;
+        a.a10_9 += b.a10_9;
+        a.a10_10 += b.a10_10;
+        a.a10_11 += b.a10_11;
+        a.a10_12 += b.a10_12;
+        a.a11_1 += b.a11_1;
+        a.a11_2 += b.a11_2;
+        a.a11_3 += b.a11_3;
+        a.a11_4 += b.a11_4;
+        a.a11_5 += b.a11_5;
+        a.a11_6 += b.a11_6;
+        a.a11_7 += b.a11_7;
+        a.a11_8 += b.a11_8;
+        a.a11_9 += b.a11_9;
+        a.a11_10 += b.a11_10;
+        a.a11_11 += b.a11_11;
+        a.a11_12 += b.a11_12;
+        a.a12_1 += b.a12_1;
+        a.a12_2 += b.a12_2;
+        a.a12_3 += b.a12_3;
+        a.a12_4 += b.a12_4;
+        a.a12_5 += b.a12_5;
+        a.a12_6 += b.a12_6;
+        a.a12_7 += b.a12_7;
+        a.a12_8 += b.a12_8;
+        a.a12_9 += b.a12_9;
+        a.a12_10 += b.a12_10;
+        a.a12_11 += b.a12_11;
+        a.a12_12 += b.a12_12;
+    }
+
+    /**
+     * Performs an in-place transpose.  This algorithm is only efficient for square
+     * matrices.
+     *
+     * @param m The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( FixedMatrix12x12_64F m ) {
+        double tmp;
+        tmp = m.a1_2; m.a1_2 = m.a2_1; m.a2_1 = tmp;
+        tmp = m.a1_3; m.a1_3 = m.a3_1; m.a3_1 = tmp;
+        tmp = m.a1_4; m.a1_4 = m.a4_1; m.a4_1 = tmp;
+        tmp = m.a1_5; m.a1_5 = m.a5_1; m.a5_1 = tmp;
+        tmp = m.a1_6; m.a1_6 = m.a6_1; m.a6_1 = tmp;
+        tmp = m.a1_7; m.a1_7 = m.a7_1; m.a7_1 = tmp;
+        tmp = m.a1_8; m.a1_8 = m.a8_1; m.a8_1 = tmp;
+        tmp = m.a1_9; m.a1_9 = m.a9_1; m.a9_1 = tmp;
+        tmp = m.a1_10; m.a1_10 = m.a10_1; m.a10_1 = tmp;
+        tmp = m.a1_11; m.a1_11 = m.a11_1; m.a11_1 = tmp;
+        tmp = m.a1_12; m.a1_12 = m.a12_1; m.a12_1 = tmp;
+        tmp = m.a2_3; m.a2_3 = m.a3_2; m.a3_2 = tmp;
+        tmp = m.a2_4; m.a2_4 = m.a4_2; m.a4_2 = tmp;
+        tmp = m.a2_5; m.a2_5 = m.a5_2; m.a5_2 = tmp;
+        tmp = m.a2_6; m.a2_6 = m.a6_2; m.a6_2 = tmp;
+        tmp = m.a2_7; m.a2_7 = m.a7_2; m.a7_2 = tmp;
+        tmp = m.a2_8; m.a2_8 = m.a8_2; m.a8_2 = tmp;
+        tmp = m.a2_9; m.a2_9 = m.a9_2; m.a9_2 = tmp;
+        tmp = m.a2_10; m.a2_10 = m.a10_2; m.a10_2 = tmp;
+        tmp = m.a2_11; m.a2_11 = m.a11_2; m.a11_2 = tmp;
+        tmp = m.a2_12; m.a2_12 = m.a12_2; m.a12_2 = tmp;
+        tmp = m.a3_4; m.a3_4 = m.a4_3; m.a4_3 = tmp;
+        tmp = m.a3_5; m.a3_5 = m.a5_3; m.a5_3 = tmp;
+        tmp = m.a3_6; m.a3_6 = m.a6_3; m.a6_3 = tmp;
+        tmp = m.a3_7; m.a3_7 = m.a7_3; m.a7_3 = tmp;
+        tmp = m.a3_8; m.a3_8 = m.a8_3; m.a8_3 = tmp;
+        tmp = m.a3_9; m.a3_9 = m.a9_3; m.a9_3 = tmp;
+        tmp = m.a3_10; m.a3_10 = m.a10_3; m.a10_3 = tmp;
+        tmp = m.a3_11; m.a3_11 = m.a11_3; m.a11_3 = tmp;
+        tmp = m.a3_12; m.a3_12 = m.a12_3; m.a12_3 = tmp;
+        tmp = m.a4_5; m.a4_5 = m.a5_4; m.a5_4 = tmp;
+        tmp = m.a4_6; m.a4_6 = m.a6_4; m.a6_4 = tmp;
+        tmp = m.a4_7; m.a4_7 = m.a7_4; m.a7_4 = tmp;
+        tmp = m.a4_8; m.a4_8 = m.a8_4; m.a8_4 = tmp;
+        tmp = m.a4_9; m.a4_9 = m.a9_4; m.a9_4 = tmp;
+        tmp = m.a4_10; m.a4_10 = m.a10_4; m.a10_4 = tmp;
+        tmp = m.a4_11; m.a4_11 = m.a11_4; m.a11_4 = tmp;
+        tmp = m.a4_12; m.a4_12 = m.a12_4; m.a12_4 = tmp;
+        tmp = m.a5_6; m.a5_6 = m.a6_5; m.a6_5 = tmp;
+        tmp = m.a5_7; m.a5_7 = m.a7_5; m.a7_5 = tmp;
+        tmp = m.a5_8; m.a5_8 = m.a8_5; m.a8_5 = tmp;
+        tmp = m.a5_9; m.a5_9 = m.a9_5; m.a9_5 = tmp;
+        tmp = m.a5_10; m.a5_10 = m.a10_5; m.a10_5 = tmp;
+        tmp = m.a5_11; m.a5_11 = m.a11_5; m.a11_5 = tmp;
+        tmp = m.a5_12; m.a5_12 = m.a12_5; m.a12_5 = tmp;
+        tmp = m.a6_7; m.a6_7 = m.a7_6; m.a7_6 = tmp;
+        tmp = m.a6_8; m.a6_8 = m.a8_6; m.a8_6 = tmp;
+        tmp = m.a6_9; m.a6_9 = m.a9_6; m.a9_6 = tmp;
+        tmp = m.a6_10; m.a6_10 = m.a10_6; m.a10_6 = tmp;
+        tmp = m.a6_11; m.a6_11 = m.a11_6; m.a11_6 = tmp;
+        tmp = m.a6_12; m.a6_12 = m.a12_6; m.a12_6 = tmp;
+        tmp = m.a7_8; m.a7_8 = m.a8_7; m.a8_7 = tmp;
+        tmp = m.a7_9; m.a7_9 = m.a9_7; m.a9_7 = tmp;
+        tmp = m.a7_10; m.a7_10 = m.a10_7; m.a10_7 = tmp;
+        tmp = m.a7_11; m.a7_11 = m.a11_7; m.a11_7 = tmp;
+        tmp = m.a7_12; m.a7_12 = m.a12_7; m.a12_7 = tmp;
+        tmp = m.a8_9; m.a8_9 = m.a9_8; m.a9_8 = tmp;
+        tmp = m.a8_10; m.a8_10 = m.a10_8; m.a10_8 = tmp;
+        tmp = m.a8_11; m.a8_11 = m.a11_8; m.a11_8 = tmp;
+        tmp = m.a8_12; m.a8_12 = m.a12_8; m.a12_8 = tmp;
+        tmp = m.a9_10; m.a9_10 = m.a10_9; m.a10_9 = tmp;
+        tmp = m.a9_11; m.a9_11 = m.a11_9; m.a11_9 = tmp;
+        tmp = m.a9_12; m.a9_12 = m.a12_9; m.a12_9 = tmp;
+        tmp = m.a10_11; m.a10_11 = m.a11_10; m.a11_10 = tmp;
+        tmp = m.a10_12; m.a10_12 = m.a12_10; m.a12_10 = tmp;
+        tmp = m.a11_12; m.a11_12 = m.a12_11; m.a12_11 = tmp;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix.  Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static FixedMatrix12x12_64F transpose( FixedMatrix12x12_64F input , FixedMatrix12x12_64F output ) {
+        if( output == null )
+            output = new FixedMatrix12x12_64F();
+
+        output.a1_1 = input.a1_1;
+        output.a1_2 = input.a2_1;
+        output.a1_3 = input.a3_1;
+        output.a1_4 = input.a4_1;
+        output.a1_5 = input.a5_1;
+        output.a1_6 = input.a6_1;
+        output.a1_7 = input.a7_1;
+        output.a1_8 = input.a8_1;
+        output.a1_9 = input.a9_1;
+        output.a1_10 = input.a10_1;
+        output.a1_11 = input.a11_1;
+        output.a1_12 = input.a12_1;
+        output.a2_1 = input.a1_2;
+        output.a2_2 = input.a2_2;
+        output.a2_3 = input.a3_2;
+        output.a2_4 = input.a4_2;
+        output.a2_5 = input.a5_2;
+        output.a2_6 = input.a6_2;
+        output.a2_7 = input.a7_2;
+        output.a2_8 = input.a8_2;
+        output.a2_9 = input.a9_2;
+        output.a2_10 = input.a10_2;
+        output.a2_11 = input.a11_2;
+        output.a2_12 = input.a12_2;
+        output.a3_1 = input.a1_3;
+        output.a3_2 = input.a2_3;
+        output.a3_3 = input.a3_3;
+        output.a3_4 = input.a4_3;
+        output.a3_5 = input.a5_3;
+        output.a3_6 = input.a6_3;
+        output.a3_7 = input.a7_3;
+        output.a3_8 = input.a8_3;
+        output.a3_9 = input.a9_3;
+        output.a3_10 = input.a10_3;
+        output.a3_11 = input.a11_3;
+        output.a3_12 = input.a12_3;
+        output.a4_1 = input.a1_4;
+        output.a4_2 = input.a2_4;
+        output.a4_3 = input.a3_4;
+        output.a4_4 = input.a4_4;
+        output.a4_5 = input.a5_4;
+        output.a4_6 = input.a6_4;
+        output.a4_7 = input.a7_4;
+        output.a4_8 = input.a8_4;
+        output.a4_9 = input.a9_4;
+        output.a4_10 = input.a10_4;
+        output.a4_11 = input.a11_4;
+        output.a4_12 = input.a12_4;
+        output.a5_1 = input.a1_5;
+        output.a5_2 = input.a2_5;
+        output.a5_3 = input.a3_5;
+        output.a5_4 = input.a4_5;
+        output.a5_5 = input.a5_5;
+        output.a5_6 = input.a6_5;
+        output.a5_7 = input.a7_5;
+        output.a5_8 = input.a8_5;
+        output.a5_9 = input.a9_5;
+        output.a5_10 = input.a10_5;
+        output.a5_11 = input.a11_5;
+        output.a5_12 = input.a12_5;
+        output.a6_1 = input.a1_6;
+        output.a6_2 = input.a2_6;
+        output.a6_3 = input.a3_6;
+        output.a6_4 = input.a4_6;
+        output.a6_5 = input.a5_6;
+        output.a6_6 = input.a6_6;
+        output.a6_7 = input.a7_6;
+        output.a6_8 = input.a8_6;
+        output.a6_9 = input.a9_6;
+        output.a6_10 = input.a10_6;
+        output.a6_11 = input.a11_6;
+        output.a6_12 = input.a12_6;
+        output.a7_1 = input.a1_7;
+        output.a7_2 = input.a2_7;
+        output.a7_3 = input.a3_7;
+        output.a7_4 = input.a4_7;
+        output.a7_5 = input.a5_7;
+        output.a7_6 = input.a6_7;
+        output.a7_7 = input.a7_7;
+        output.a7_8 = input.a8_7;
+        output.a7_9 = input.a9_7;
+        output.a7_10 = input.a10_7;
+        output.a7_11 = input.a11_7;
+        output.a7_12 = input.a12_7;
+        output.a8_1 = input.a1_8;
+        output.a8_2 = input.a2_8;
+        output.a8_3 = input.a3_8;
+        output.a8_4 = input.a4_8;
+        output.a8_5 = input.a5_8;
+        output.a8_6 = input.a6_8;
+        output.a8_7 = input.a7_8;
+        output.a8_8 = input.a8_8;
+        output.a8_9 = input.a9_8;
+        output.a8_10 = input.a10_8;
+        output.a8_11 = input.a11_8;
+        output.a8_12 = input.a12_8;
+        output.a9_1 = input.a1_9;
+        output.a9_2 = input.a2_9;
+        output.a9_3 = input.a3_9;
+        output.a9_4 = input.a4_9;
+        output.a9_5 = input.a5_9;
+        output.a9_6 = input.a6_9;
+        output.a9_7 = input.a7_9;
+        output.a9_8 = input.a8_9;
+        output.a9_9 = input.a9_9;
+        output.a9_10 = input.a10_9;
+        output.a9_11 = input.a11_9;
+        output.a9_12 = input.a12_9;
+        output.a10_1 = input.a1_10;
+        output.a10_2 = input.a2_10;
+        output.a10_3 = input.a3_10;
+        output.a10_4 = input.a4_10;
+        output.a10_5 = input.a5_10;
+        output.a10_6 = input.a6_10;
+        output.a10_7 = input.a7_10;
+        output.a10_8 = input.a8_10;
+        output.a10_9 = input.a9_10;
+        output.a10_10 = input.a10_10;
+        output.a10_11 = input.a11_10;
+        output.a10_12 = input.a12_10;
+        output.a11_1 = input.a1_11;
+        output.a11_2 = input.a2_11;
+        output.a11_3 = input.a3_11;
+        output.a11_4 = input.a4_11;
+        output.a11_5 = input.a5_11;
+        output.a11_6 = input.a6_11;
+        output.a11_7 = input.a7_11;
+        output.a11_8 = input.a8_11;
+        output.a11_9 = input.a9_11;
+        output.a11_10 = input.a10_11;
+        output.a11_11 = input.a11_11;
+        output.a11_12 = input.a12_11;
+        output.a12_1 = input.a1_12;
+        output.a12_2 = input.a2_12;
+        output.a12_3 = input.a3_12;
+        output.a12_4 = input.a4_12;
+        output.a12_5 = input.a5_12;
+        output.a12_6 = input.a6_12;
+        output.a12_7 = input.a7_12;
+        output.a12_8 = input.a8_12;
+        output.a12_9 = input.a9_12;
+        output.a12_10 = input.a10_12;
+        output.a12_11 = input.a11_12;
+        output.a12_12 = input.a12_12;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        mult_rows1to5(a,b,c);
+        mult_rows6to10(a,b,c);
+        mult_rows11to12(a,b,c);
+    }
+
+    private static void mult_rows1to5( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a1_1 = a.a1_1*b.a1_1 + a.a1_2*b.a2_1 + a.a1_3*b.a3_1 + a.a1_4*b.a4_1 + a.a1_5*b.a5_1 + a.a1_6*b.a6_1 + a.a1_7*b.a7_1 + a.a1_8*b.a8_1 + a.a1_9*b.a9_1 + a.a1_10*b.a10_1 + a.a1_11*b.a11_1 + a.a1_12*b.a12_1;
+        c.a1_2 = a.a1_1*b.a1_2 + a.a1_2*b.a2_2 + a.a1_3*b.a3_2 + a.a1_4*b.a4_2 + a.a1_5*b.a5_2 + a.a1_6*b.a6_2 + a.a1_7*b.a7_2 + a.a1_8*b.a8_2 + a.a1_9*b.a9_2 + a.a1_10*b.a10_2 + a.a1_11*b.a11_2 + a.a1_12*b.a12_2;
+        c.a1_3 = a.a1_1*b.a1_3 + a.a1_2*b.a2_3 + a.a1_3*b.a3_3 + a.a1_4*b.a4_3 + a.a1_5*b.a5_3 + a.a1_6*b.a6_3 + a.a1_7*b.a7_3 + a.a1_8*b.a8_3 + a.a1_9*b.a9_3 + a.a1_10*b.a10_3 + a.a1_11*b.a11_3 + a.a1_12*b.a12_3;
+        c.a1_4 = a.a1_1*b.a1_4 + a.a1_2*b.a2_4 + a.a1_3*b.a3_4 + a.a1_4*b.a4_4 + a.a1_5*b.a5_4 + a.a1_6*b.a6_4 + a.a1_7*b.a7_4 + a.a1_8*b.a8_4 + a.a1_9*b.a9_4 + a.a1_10*b.a10_4 + a.a1_11*b.a11_4 + a.a1_12*b.a12_4;
+        c.a1_5 = a.a1_1*b.a1_5 + a.a1_2*b.a2_5 + a.a1_3*b.a3_5 + a.a1_4*b.a4_5 + a.a1_5*b.a5_5 + a.a1_6*b.a6_5 + a.a1_7*b.a7_5 + a.a1_8*b.a8_5 + a.a1_9*b.a9_5 + a.a1_10*b.a10_5 + a.a1_11*b.a11_5 + a.a1_12*b.a12_5;
+        c.a1_6 = a.a1_1*b.a1_6 + a.a1_2*b.a2_6 + a.a1_3*b.a3_6 + a.a1_4*b.a4_6 + a.a1_5*b.a5_6 + a.a1_6*b.a6_6 + a.a1_7*b.a7_6 + a.a1_8*b.a8_6 + a.a1_9*b.a9_6 + a.a1_10*b.a10_6 + a.a1_11*b.a11_6 + a.a1_12*b.a12_6;
+        c.a1_7 = a.a1_1*b.a1_7 + a.a1_2*b.a2_7 + a.a1_3*b.a3_7 + a.a1_4*b.a4_7 + a.a1_5*b.a5_7 + a.a1_6*b.a6_7 + a.a1_7*b.a7_7 + a.a1_8*b.a8_7 + a.a1_9*b.a9_7 + a.a1_10*b.a10_7 + a.a1_11*b.a11_7 + a.a1_12*b.a12_7;
+        c.a1_8 = a.a1_1*b.a1_8 + a.a1_2*b.a2_8 + a.a1_3*b.a3_8 + a.a1_4*b.a4_8 + a.a1_5*b.a5_8 + a.a1_6*b.a6_8 + a.a1_7*b.a7_8 + a.a1_8*b.a8_8 + a.a1_9*b.a9_8 + a.a1_10*b.a10_8 + a.a1_11*b.a11_8 + a.a1_12*b.a12_8;
+        c.a1_9 = a.a1_1*b.a1_9 + a.a1_2*b.a2_9 + a.a1_3*b.a3_9 + a.a1_4*b.a4_9 + a.a1_5*b.a5_9 + a.a1_6*b.a6_9 + a.a1_7*b.a7_9 + a.a1_8*b.a8_9 + a.a1_9*b.a9_9 + a.a1_10*b.a10_9 + a.a1_11*b.a11_9 + a.a1_12*b.a12_9;
+        c.a1_10 = a.a1_1*b.a1_10 + a.a1_2*b.a2_10 + a.a1_3*b.a3_10 + a.a1_4*b.a4_10 + a.a1_5*b.a5_10 + a.a1_6*b.a6_10 + a.a1_7*b.a7_10 + a.a1_8*b.a8_10 + a.a1_9*b.a9_10 + a.a1_10*b.a10_10 + a.a1_11*b.a11_10 + a.a1_12*b.a12_10;
+        c.a1_11 = a.a1_1*b.a1_11 + a.a1_2*b.a2_11 + a.a1_3*b.a3_11 + a.a1_4*b.a4_11 + a.a1_5*b.a5_11 + a.a1_6*b.a6_11 + a.a1_7*b.a7_11 + a.a1_8*b.a8_11 + a.a1_9*b.a9_11 + a.a1_10*b.a10_11 + a.a1_11*b.a11_11 + a.a1_12*b.a12_11;
+        c.a1_12 = a.a1_1*b.a1_12 + a.a1_2*b.a2_12 + a.a1_3*b.a3_12 + a.a1_4*b.a4_12 + a.a1_5*b.a5_12 + a.a1_6*b.a6_12 + a.a1_7*b.a7_12 + a.a1_8*b.a8_12 + a.a1_9*b.a9_12 + a.a1_10*b.a10_12 + a.a1_11*b.a11_12 + a.a1_12*b.a12_12;
+        c.a2_1 = a.a2_1*b.a1_1 + a.a2_2*b.a2_1 + a.a2_3*b.a3_1 + a.a2_4*b.a4_1 + a.a2_5*b.a5_1 + a.a2_6*b.a6_1 + a.a2_7*b.a7_1 + a.a2_8*b.a8_1 + a.a2_9*b.a9_1 + a.a2_10*b.a10_1 + a.a2_11*b.a11_1 + a.a2_12*b.a12_1;
+        c.a2_2 = a.a2_1*b.a1_2 + a.a2_2*b.a2_2 + a.a2_3*b.a3_2 + a.a2_4*b.a4_2 + a.a2_5*b.a5_2 + a.a2_6*b.a6_2 + a.a2_7*b.a7_2 + a.a2_8*b.a8_2 + a.a2_9*b.a9_2 + a.a2_10*b.a10_2 + a.a2_11*b.a11_2 + a.a2_12*b.a12_2;
+        c.a2_3 = a.a2_1*b.a1_3 + a.a2_2*b.a2_3 + a.a2_3*b.a3_3 + a.a2_4*b.a4_3 + a.a2_5*b.a5_3 + a.a2_6*b.a6_3 + a.a2_7*b.a7_3 + a.a2_8*b.a8_3 + a.a2_9*b.a9_3 + a.a2_10*b.a10_3 + a.a2_11*b.a11_3 + a.a2_12*b.a12_3;
+        c.a2_4 = a.a2_1*b.a1_4 + a.a2_2*b.a2_4 + a.a2_3*b.a3_4 + a.a2_4*b.a4_4 + a.a2_5*b.a5_4 + a.a2_6*b.a6_4 + a.a2_7*b.a7_4 + a.a2_8*b.a8_4 + a.a2_9*b.a9_4 + a.a2_10*b.a10_4 + a.a2_11*b.a11_4 + a.a2_12*b.a12_4;
+        c.a2_5 = a.a2_1*b.a1_5 + a.a2_2*b.a2_5 + a.a2_3*b.a3_5 + a.a2_4*b.a4_5 + a.a2_5*b.a5_5 + a.a2_6*b.a6_5 + a.a2_7*b.a7_5 + a.a2_8*b.a8_5 + a.a2_9*b.a9_5 + a.a2_10*b.a10_5 + a.a2_11*b.a11_5 + a.a2_12*b.a12_5;
+        c.a2_6 = a.a2_1*b.a1_6 + a.a2_2*b.a2_6 + a.a2_3*b.a3_6 + a.a2_4*b.a4_6 + a.a2_5*b.a5_6 + a.a2_6*b.a6_6 + a.a2_7*b.a7_6 + a.a2_8*b.a8_6 + a.a2_9*b.a9_6 + a.a2_10*b.a10_6 + a.a2_11*b.a11_6 + a.a2_12*b.a12_6;
+        c.a2_7 = a.a2_1*b.a1_7 + a.a2_2*b.a2_7 + a.a2_3*b.a3_7 + a.a2_4*b.a4_7 + a.a2_5*b.a5_7 + a.a2_6*b.a6_7 + a.a2_7*b.a7_7 + a.a2_8*b.a8_7 + a.a2_9*b.a9_7 + a.a2_10*b.a10_7 + a.a2_11*b.a11_7 + a.a2_12*b.a12_7;
+        c.a2_8 = a.a2_1*b.a1_8 + a.a2_2*b.a2_8 + a.a2_3*b.a3_8 + a.a2_4*b.a4_8 + a.a2_5*b.a5_8 + a.a2_6*b.a6_8 + a.a2_7*b.a7_8 + a.a2_8*b.a8_8 + a.a2_9*b.a9_8 + a.a2_10*b.a10_8 + a.a2_11*b.a11_8 + a.a2_12*b.a12_8;
+        c.a2_9 = a.a2_1*b.a1_9 + a.a2_2*b.a2_9 + a.a2_3*b.a3_9 + a.a2_4*b.a4_9 + a.a2_5*b.a5_9 + a.a2_6*b.a6_9 + a.a2_7*b.a7_9 + a.a2_8*b.a8_9 + a.a2_9*b.a9_9 + a.a2_10*b.a10_9 + a.a2_11*b.a11_9 + a.a2_12*b.a12_9;
+        c.a2_10 = a.a2_1*b.a1_10 + a.a2_2*b.a2_10 + a.a2_3*b.a3_10 + a.a2_4*b.a4_10 + a.a2_5*b.a5_10 + a.a2_6*b.a6_10 + a.a2_7*b.a7_10 + a.a2_8*b.a8_10 + a.a2_9*b.a9_10 + a.a2_10*b.a10_10 + a.a2_11*b.a11_10 + a.a2_12*b.a12_10;
+        c.a2_11 = a.a2_1*b.a1_11 + a.a2_2*b.a2_11 + a.a2_3*b.a3_11 + a.a2_4*b.a4_11 + a.a2_5*b.a5_11 + a.a2_6*b.a6_11 + a.a2_7*b.a7_11 + a.a2_8*b.a8_11 + a.a2_9*b.a9_11 + a.a2_10*b.a10_11 + a.a2_11*b.a11_11 + a.a2_12*b.a12_11;
+        c.a2_12 = a.a2_1*b.a1_12 + a.a2_2*b.a2_12 + a.a2_3*b.a3_12 + a.a2_4*b.a4_12 + a.a2_5*b.a5_12 + a.a2_6*b.a6_12 + a.a2_7*b.a7_12 + a.a2_8*b.a8_12 + a.a2_9*b.a9_12 + a.a2_10*b.a10_12 + a.a2_11*b.a11_12 + a.a2_12*b.a12_12;
+        c.a3_1 = a.a3_1*b.a1_1 + a.a3_2*b.a2_1 + a.a3_3*b.a3_1 + a.a3_4*b.a4_1 + a.a3_5*b.a5_1 + a.a3_6*b.a6_1 + a.a3_7*b.a7_1 + a.a3_8*b.a8_1 + a.a3_9*b.a9_1 + a.a3_10*b.a10_1 + a.a3_11*b.a11_1 + a.a3_12*b.a12_1;
+        c.a3_2 = a.a3_1*b.a1_2 + a.a3_2*b.a2_2 + a.a3_3*b.a3_2 + a.a3_4*b.a4_2 + a.a3_5*b.a5_2 + a.a3_6*b.a6_2 + a.a3_7*b.a7_2 + a.a3_8*b.a8_2 + a.a3_9*b.a9_2 + a.a3_10*b.a10_2 + a.a3_11*b.a11_2 + a.a3_12*b.a12_2;
+        c.a3_3 = a.a3_1*b.a1_3 + a.a3_2*b.a2_3 + a.a3_3*b.a3_3 + a.a3_4*b.a4_3 + a.a3_5*b.a5_3 + a.a3_6*b.a6_3 + a.a3_7*b.a7_3 + a.a3_8*b.a8_3 + a.a3_9*b.a9_3 + a.a3_10*b.a10_3 + a.a3_11*b.a11_3 + a.a3_12*b.a12_3;
+        c.a3_4 = a.a3_1*b.a1_4 + a.a3_2*b.a2_4 + a.a3_3*b.a3_4 + a.a3_4*b.a4_4 + a.a3_5*b.a5_4 + a.a3_6*b.a6_4 + a.a3_7*b.a7_4 + a.a3_8*b.a8_4 + a.a3_9*b.a9_4 + a.a3_10*b.a10_4 + a.a3_11*b.a11_4 + a.a3_12*b.a12_4;
+        c.a3_5 = a.a3_1*b.a1_5 + a.a3_2*b.a2_5 + a.a3_3*b.a3_5 + a.a3_4*b.a4_5 + a.a3_5*b.a5_5 + a.a3_6*b.a6_5 + a.a3_7*b.a7_5 + a.a3_8*b.a8_5 + a.a3_9*b.a9_5 + a.a3_10*b.a10_5 + a.a3_11*b.a11_5 + a.a3_12*b.a12_5;
+        c.a3_6 = a.a3_1*b.a1_6 + a.a3_2*b.a2_6 + a.a3_3*b.a3_6 + a.a3_4*b.a4_6 + a.a3_5*b.a5_6 + a.a3_6*b.a6_6 + a.a3_7*b.a7_6 + a.a3_8*b.a8_6 + a.a3_9*b.a9_6 + a.a3_10*b.a10_6 + a.a3_11*b.a11_6 + a.a3_12*b.a12_6;
+        c.a3_7 = a.a3_1*b.a1_7 + a.a3_2*b.a2_7 + a.a3_3*b.a3_7 + a.a3_4*b.a4_7 + a.a3_5*b.a5_7 + a.a3_6*b.a6_7 + a.a3_7*b.a7_7 + a.a3_8*b.a8_7 + a.a3_9*b.a9_7 + a.a3_10*b.a10_7 + a.a3_11*b.a11_7 + a.a3_12*b.a12_7;
+        c.a3_8 = a.a3_1*b.a1_8 + a.a3_2*b.a2_8 + a.a3_3*b.a3_8 + a.a3_4*b.a4_8 + a.a3_5*b.a5_8 + a.a3_6*b.a6_8 + a.a3_7*b.a7_8 + a.a3_8*b.a8_8 + a.a3_9*b.a9_8 + a.a3_10*b.a10_8 + a.a3_11*b.a11_8 + a.a3_12*b.a12_8;
+        c.a3_9 = a.a3_1*b.a1_9 + a.a3_2*b.a2_9 + a.a3_3*b.a3_9 + a.a3_4*b.a4_9 + a.a3_5*b.a5_9 + a.a3_6*b.a6_9 + a.a3_7*b.a7_9 + a.a3_8*b.a8_9 + a.a3_9*b.a9_9 + a.a3_10*b.a10_9 + a.a3_11*b.a11_9 + a.a3_12*b.a12_9;
+        c.a3_10 = a.a3_1*b.a1_10 + a.a3_2*b.a2_10 + a.a3_3*b.a3_10 + a.a3_4*b.a4_10 + a.a3_5*b.a5_10 + a.a3_6*b.a6_10 + a.a3_7*b.a7_10 + a.a3_8*b.a8_10 + a.a3_9*b.a9_10 + a.a3_10*b.a10_10 + a.a3_11*b.a11_10 + a.a3_12*b.a12_10;
+        c.a3_11 = a.a3_1*b.a1_11 + a.a3_2*b.a2_11 + a.a3_3*b.a3_11 + a.a3_4*b.a4_11 + a.a3_5*b.a5_11 + a.a3_6*b.a6_11 + a.a3_7*b.a7_11 + a.a3_8*b.a8_11 + a.a3_9*b.a9_11 + a.a3_10*b.a10_11 + a.a3_11*b.a11_11 + a.a3_12*b.a12_11;
+        c.a3_12 = a.a3_1*b.a1_12 + a.a3_2*b.a2_12 + a.a3_3*b.a3_12 + a.a3_4*b.a4_12 + a.a3_5*b.a5_12 + a.a3_6*b.a6_12 + a.a3_7*b.a7_12 + a.a3_8*b.a8_12 + a.a3_9*b.a9_12 + a.a3_10*b.a10_12 + a.a3_11*b.a11_12 + a.a3_12*b.a12_12;
+        c.a4_1 = a.a4_1*b.a1_1 + a.a4_2*b.a2_1 + a.a4_3*b.a3_1 + a.a4_4*b.a4_1 + a.a4_5*b.a5_1 + a.a4_6*b.a6_1 + a.a4_7*b.a7_1 + a.a4_8*b.a8_1 + a.a4_9*b.a9_1 + a.a4_10*b.a10_1 + a.a4_11*b.a11_1 + a.a4_12*b.a12_1;
+        c.a4_2 = a.a4_1*b.a1_2 + a.a4_2*b.a2_2 + a.a4_3*b.a3_2 + a.a4_4*b.a4_2 + a.a4_5*b.a5_2 + a.a4_6*b.a6_2 + a.a4_7*b.a7_2 + a.a4_8*b.a8_2 + a.a4_9*b.a9_2 + a.a4_10*b.a10_2 + a.a4_11*b.a11_2 + a.a4_12*b.a12_2;
+        c.a4_3 = a.a4_1*b.a1_3 + a.a4_2*b.a2_3 + a.a4_3*b.a3_3 + a.a4_4*b.a4_3 + a.a4_5*b.a5_3 + a.a4_6*b.a6_3 + a.a4_7*b.a7_3 + a.a4_8*b.a8_3 + a.a4_9*b.a9_3 + a.a4_10*b.a10_3 + a.a4_11*b.a11_3 + a.a4_12*b.a12_3;
+        c.a4_4 = a.a4_1*b.a1_4 + a.a4_2*b.a2_4 + a.a4_3*b.a3_4 + a.a4_4*b.a4_4 + a.a4_5*b.a5_4 + a.a4_6*b.a6_4 + a.a4_7*b.a7_4 + a.a4_8*b.a8_4 + a.a4_9*b.a9_4 + a.a4_10*b.a10_4 + a.a4_11*b.a11_4 + a.a4_12*b.a12_4;
+        c.a4_5 = a.a4_1*b.a1_5 + a.a4_2*b.a2_5 + a.a4_3*b.a3_5 + a.a4_4*b.a4_5 + a.a4_5*b.a5_5 + a.a4_6*b.a6_5 + a.a4_7*b.a7_5 + a.a4_8*b.a8_5 + a.a4_9*b.a9_5 + a.a4_10*b.a10_5 + a.a4_11*b.a11_5 + a.a4_12*b.a12_5;
+        c.a4_6 = a.a4_1*b.a1_6 + a.a4_2*b.a2_6 + a.a4_3*b.a3_6 + a.a4_4*b.a4_6 + a.a4_5*b.a5_6 + a.a4_6*b.a6_6 + a.a4_7*b.a7_6 + a.a4_8*b.a8_6 + a.a4_9*b.a9_6 + a.a4_10*b.a10_6 + a.a4_11*b.a11_6 + a.a4_12*b.a12_6;
+        c.a4_7 = a.a4_1*b.a1_7 + a.a4_2*b.a2_7 + a.a4_3*b.a3_7 + a.a4_4*b.a4_7 + a.a4_5*b.a5_7 + a.a4_6*b.a6_7 + a.a4_7*b.a7_7 + a.a4_8*b.a8_7 + a.a4_9*b.a9_7 + a.a4_10*b.a10_7 + a.a4_11*b.a11_7 + a.a4_12*b.a12_7;
+        c.a4_8 = a.a4_1*b.a1_8 + a.a4_2*b.a2_8 + a.a4_3*b.a3_8 + a.a4_4*b.a4_8 + a.a4_5*b.a5_8 + a.a4_6*b.a6_8 + a.a4_7*b.a7_8 + a.a4_8*b.a8_8 + a.a4_9*b.a9_8 + a.a4_10*b.a10_8 + a.a4_11*b.a11_8 + a.a4_12*b.a12_8;
+        c.a4_9 = a.a4_1*b.a1_9 + a.a4_2*b.a2_9 + a.a4_3*b.a3_9 + a.a4_4*b.a4_9 + a.a4_5*b.a5_9 + a.a4_6*b.a6_9 + a.a4_7*b.a7_9 + a.a4_8*b.a8_9 + a.a4_9*b.a9_9 + a.a4_10*b.a10_9 + a.a4_11*b.a11_9 + a.a4_12*b.a12_9;
+        c.a4_10 = a.a4_1*b.a1_10 + a.a4_2*b.a2_10 + a.a4_3*b.a3_10 + a.a4_4*b.a4_10 + a.a4_5*b.a5_10 + a.a4_6*b.a6_10 + a.a4_7*b.a7_10 + a.a4_8*b.a8_10 + a.a4_9*b.a9_10 + a.a4_10*b.a10_10 + a.a4_11*b.a11_10 + a.a4_12*b.a12_10;
+        c.a4_11 = a.a4_1*b.a1_11 + a.a4_2*b.a2_11 + a.a4_3*b.a3_11 + a.a4_4*b.a4_11 + a.a4_5*b.a5_11 + a.a4_6*b.a6_11 + a.a4_7*b.a7_11 + a.a4_8*b.a8_11 + a.a4_9*b.a9_11 + a.a4_10*b.a10_11 + a.a4_11*b.a11_11 + a.a4_12*b.a12_11;
+        c.a4_12 = a.a4_1*b.a1_12 + a.a4_2*b.a2_12 + a.a4_3*b.a3_12 + a.a4_4*b.a4_12 + a.a4_5*b.a5_12 + a.a4_6*b.a6_12 + a.a4_7*b.a7_12 + a.a4_8*b.a8_12 + a.a4_9*b.a9_12 + a.a4_10*b.a10_12 + a.a4_11*b.a11_12 + a.a4_12*b.a12_12;
+        c.a5_1 = a.a5_1*b.a1_1 + a.a5_2*b.a2_1 + a.a5_3*b.a3_1 + a.a5_4*b.a4_1 + a.a5_5*b.a5_1 + a.a5_6*b.a6_1 + a.a5_7*b.a7_1 + a.a5_8*b.a8_1 + a.a5_9*b.a9_1 + a.a5_10*b.a10_1 + a.a5_11*b.a11_1 + a.a5_12*b.a12_1;
+        c.a5_2 = a.a5_1*b.a1_2 + a.a5_2*b.a2_2 + a.a5_3*b.a3_2 + a.a5_4*b.a4_2 + a.a5_5*b.a5_2 + a.a5_6*b.a6_2 + a.a5_7*b.a7_2 + a.a5_8*b.a8_2 + a.a5_9*b.a9_2 + a.a5_10*b.a10_2 + a.a5_11*b.a11_2 + a.a5_12*b.a12_2;
+        c.a5_3 = a.a5_1*b.a1_3 + a.a5_2*b.a2_3 + a.a5_3*b.a3_3 + a.a5_4*b.a4_3 + a.a5_5*b.a5_3 + a.a5_6*b.a6_3 + a.a5_7*b.a7_3 + a.a5_8*b.a8_3 + a.a5_9*b.a9_3 + a.a5_10*b.a10_3 + a.a5_11*b.a11_3 + a.a5_12*b.a12_3;
+        c.a5_4 = a.a5_1*b.a1_4 + a.a5_2*b.a2_4 + a.a5_3*b.a3_4 + a.a5_4*b.a4_4 + a.a5_5*b.a5_4 + a.a5_6*b.a6_4 + a.a5_7*b.a7_4 + a.a5_8*b.a8_4 + a.a5_9*b.a9_4 + a.a5_10*b.a10_4 + a.a5_11*b.a11_4 + a.a5_12*b.a12_4;
+        c.a5_5 = a.a5_1*b.a1_5 + a.a5_2*b.a2_5 + a.a5_3*b.a3_5 + a.a5_4*b.a4_5 + a.a5_5*b.a5_5 + a.a5_6*b.a6_5 + a.a5_7*b.a7_5 + a.a5_8*b.a8_5 + a.a5_9*b.a9_5 + a.a5_10*b.a10_5 + a.a5_11*b.a11_5 + a.a5_12*b.a12_5;
+        c.a5_6 = a.a5_1*b.a1_6 + a.a5_2*b.a2_6 + a.a5_3*b.a3_6 + a.a5_4*b.a4_6 + a.a5_5*b.a5_6 + a.a5_6*b.a6_6 + a.a5_7*b.a7_6 + a.a5_8*b.a8_6 + a.a5_9*b.a9_6 + a.a5_10*b.a10_6 + a.a5_11*b.a11_6 + a.a5_12*b.a12_6;
+        c.a5_7 = a.a5_1*b.a1_7 + a.a5_2*b.a2_7 + a.a5_3*b.a3_7 + a.a5_4*b.a4_7 + a.a5_5*b.a5_7 + a.a5_6*b.a6_7 + a.a5_7*b.a7_7 + a.a5_8*b.a8_7 + a.a5_9*b.a9_7 + a.a5_10*b.a10_7 + a.a5_11*b.a11_7 + a.a5_12*b.a12_7;
+        c.a5_8 = a.a5_1*b.a1_8 + a.a5_2*b.a2_8 + a.a5_3*b.a3_8 + a.a5_4*b.a4_8 + a.a5_5*b.a5_8 + a.a5_6*b.a6_8 + a.a5_7*b.a7_8 + a.a5_8*b.a8_8 + a.a5_9*b.a9_8 + a.a5_10*b.a10_8 + a.a5_11*b.a11_8 + a.a5_12*b.a12_8;
+        c.a5_9 = a.a5_1*b.a1_9 + a.a5_2*b.a2_9 + a.a5_3*b.a3_9 + a.a5_4*b.a4_9 + a.a5_5*b.a5_9 + a.a5_6*b.a6_9 + a.a5_7*b.a7_9 + a.a5_8*b.a8_9 + a.a5_9*b.a9_9 + a.a5_10*b.a10_9 + a.a5_11*b.a11_9 + a.a5_12*b.a12_9;
+        c.a5_10 = a.a5_1*b.a1_10 + a.a5_2*b.a2_10 + a.a5_3*b.a3_10 + a.a5_4*b.a4_10 + a.a5_5*b.a5_10 + a.a5_6*b.a6_10 + a.a5_7*b.a7_10 + a.a5_8*b.a8_10 + a.a5_9*b.a9_10 + a.a5_10*b.a10_10 + a.a5_11*b.a11_10 + a.a5_12*b.a12_10;
+        c.a5_11 = a.a5_1*b.a1_11 + a.a5_2*b.a2_11 + a.a5_3*b.a3_11 + a.a5_4*b.a4_11 + a.a5_5*b.a5_11 + a.a5_6*b.a6_11 + a.a5_7*b.a7_11 + a.a5_8*b.a8_11 + a.a5_9*b.a9_11 + a.a5_10*b.a10_11 + a.a5_11*b.a11_11 + a.a5_12*b.a12_11;
+        c.a5_12 = a.a5_1*b.a1_12 + a.a5_2*b.a2_12 + a.a5_3*b.a3_12 + a.a5_4*b.a4_12 + a.a5_5*b.a5_12 + a.a5_6*b.a6_12 + a.a5_7*b.a7_12 + a.a5_8*b.a8_12 + a.a5_9*b.a9_12 + a.a5_10*b.a10_12 + a.a5_11*b.a11_12 + a.a5_12*b.a12_12;
+    }
+
+    private static void mult_rows6to10( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a6_1 = a.a6_1*b.a1_1 + a.a6_2*b.a2_1 + a.a6_3*b.a3_1 + a.a6_4*b.a4_1 + a.a6_5*b.a5_1 + a.a6_6*b.a6_1 + a.a6_7*b.a7_1 + a.a6_8*b.a8_1 + a.a6_9*b.a9_1 + a.a6_10*b.a10_1 + a.a6_11*b.a11_1 + a.a6_12*b.a12_1;
+        c.a6_2 = a.a6_1*b.a1_2 + a.a6_2*b.a2_2 + a.a6_3*b.a3_2 + a.a6_4*b.a4_2 + a.a6_5*b.a5_2 + a.a6_6*b.a6_2 + a.a6_7*b.a7_2 + a.a6_8*b.a8_2 + a.a6_9*b.a9_2 + a.a6_10*b.a10_2 + a.a6_11*b.a11_2 + a.a6_12*b.a12_2;
+        c.a6_3 = a.a6_1*b.a1_3 + a.a6_2*b.a2_3 + a.a6_3*b.a3_3 + a.a6_4*b.a4_3 + a.a6_5*b.a5_3 + a.a6_6*b.a6_3 + a.a6_7*b.a7_3 + a.a6_8*b.a8_3 + a.a6_9*b.a9_3 + a.a6_10*b.a10_3 + a.a6_11*b.a11_3 + a.a6_12*b.a12_3;
+        c.a6_4 = a.a6_1*b.a1_4 + a.a6_2*b.a2_4 + a.a6_3*b.a3_4 + a.a6_4*b.a4_4 + a.a6_5*b.a5_4 + a.a6_6*b.a6_4 + a.a6_7*b.a7_4 + a.a6_8*b.a8_4 + a.a6_9*b.a9_4 + a.a6_10*b.a10_4 + a.a6_11*b.a11_4 + a.a6_12*b.a12_4;
+        c.a6_5 = a.a6_1*b.a1_5 + a.a6_2*b.a2_5 + a.a6_3*b.a3_5 + a.a6_4*b.a4_5 + a.a6_5*b.a5_5 + a.a6_6*b.a6_5 + a.a6_7*b.a7_5 + a.a6_8*b.a8_5 + a.a6_9*b.a9_5 + a.a6_10*b.a10_5 + a.a6_11*b.a11_5 + a.a6_12*b.a12_5;
+        c.a6_6 = a.a6_1*b.a1_6 + a.a6_2*b.a2_6 + a.a6_3*b.a3_6 + a.a6_4*b.a4_6 + a.a6_5*b.a5_6 + a.a6_6*b.a6_6 + a.a6_7*b.a7_6 + a.a6_8*b.a8_6 + a.a6_9*b.a9_6 + a.a6_10*b.a10_6 + a.a6_11*b.a11_6 + a.a6_12*b.a12_6;
+        c.a6_7 = a.a6_1*b.a1_7 + a.a6_2*b.a2_7 + a.a6_3*b.a3_7 + a.a6_4*b.a4_7 + a.a6_5*b.a5_7 + a.a6_6*b.a6_7 + a.a6_7*b.a7_7 + a.a6_8*b.a8_7 + a.a6_9*b.a9_7 + a.a6_10*b.a10_7 + a.a6_11*b.a11_7 + a.a6_12*b.a12_7;
+        c.a6_8 = a.a6_1*b.a1_8 + a.a6_2*b.a2_8 + a.a6_3*b.a3_8 + a.a6_4*b.a4_8 + a.a6_5*b.a5_8 + a.a6_6*b.a6_8 + a.a6_7*b.a7_8 + a.a6_8*b.a8_8 + a.a6_9*b.a9_8 + a.a6_10*b.a10_8 + a.a6_11*b.a11_8 + a.a6_12*b.a12_8;
+        c.a6_9 = a.a6_1*b.a1_9 + a.a6_2*b.a2_9 + a.a6_3*b.a3_9 + a.a6_4*b.a4_9 + a.a6_5*b.a5_9 + a.a6_6*b.a6_9 + a.a6_7*b.a7_9 + a.a6_8*b.a8_9 + a.a6_9*b.a9_9 + a.a6_10*b.a10_9 + a.a6_11*b.a11_9 + a.a6_12*b.a12_9;
+        c.a6_10 = a.a6_1*b.a1_10 + a.a6_2*b.a2_10 + a.a6_3*b.a3_10 + a.a6_4*b.a4_10 + a.a6_5*b.a5_10 + a.a6_6*b.a6_10 + a.a6_7*b.a7_10 + a.a6_8*b.a8_10 + a.a6_9*b.a9_10 + a.a6_10*b.a10_10 + a.a6_11*b.a11_10 + a.a6_12*b.a12_10;
+        c.a6_11 = a.a6_1*b.a1_11 + a.a6_2*b.a2_11 + a.a6_3*b.a3_11 + a.a6_4*b.a4_11 + a.a6_5*b.a5_11 + a.a6_6*b.a6_11 + a.a6_7*b.a7_11 + a.a6_8*b.a8_11 + a.a6_9*b.a9_11 + a.a6_10*b.a10_11 + a.a6_11*b.a11_11 + a.a6_12*b.a12_11;
+        c.a6_12 = a.a6_1*b.a1_12 + a.a6_2*b.a2_12 + a.a6_3*b.a3_12 + a.a6_4*b.a4_12 + a.a6_5*b.a5_12 + a.a6_6*b.a6_12 + a.a6_7*b.a7_12 + a.a6_8*b.a8_12 + a.a6_9*b.a9_12 + a.a6_10*b.a10_12 + a.a6_11*b.a11_12 + a.a6_12*b.a12_12;
+        c.a7_1 = a.a7_1*b.a1_1 + a.a7_2*b.a2_1 + a.a7_3*b.a3_1 + a.a7_4*b.a4_1 + a.a7_5*b.a5_1 + a.a7_6*b.a6_1 + a.a7_7*b.a7_1 + a.a7_8*b.a8_1 + a.a7_9*b.a9_1 + a.a7_10*b.a10_1 + a.a7_11*b.a11_1 + a.a7_12*b.a12_1;
+        c.a7_2 = a.a7_1*b.a1_2 + a.a7_2*b.a2_2 + a.a7_3*b.a3_2 + a.a7_4*b.a4_2 + a.a7_5*b.a5_2 + a.a7_6*b.a6_2 + a.a7_7*b.a7_2 + a.a7_8*b.a8_2 + a.a7_9*b.a9_2 + a.a7_10*b.a10_2 + a.a7_11*b.a11_2 + a.a7_12*b.a12_2;
+        c.a7_3 = a.a7_1*b.a1_3 + a.a7_2*b.a2_3 + a.a7_3*b.a3_3 + a.a7_4*b.a4_3 + a.a7_5*b.a5_3 + a.a7_6*b.a6_3 + a.a7_7*b.a7_3 + a.a7_8*b.a8_3 + a.a7_9*b.a9_3 + a.a7_10*b.a10_3 + a.a7_11*b.a11_3 + a.a7_12*b.a12_3;
+        c.a7_4 = a.a7_1*b.a1_4 + a.a7_2*b.a2_4 + a.a7_3*b.a3_4 + a.a7_4*b.a4_4 + a.a7_5*b.a5_4 + a.a7_6*b.a6_4 + a.a7_7*b.a7_4 + a.a7_8*b.a8_4 + a.a7_9*b.a9_4 + a.a7_10*b.a10_4 + a.a7_11*b.a11_4 + a.a7_12*b.a12_4;
+        c.a7_5 = a.a7_1*b.a1_5 + a.a7_2*b.a2_5 + a.a7_3*b.a3_5 + a.a7_4*b.a4_5 + a.a7_5*b.a5_5 + a.a7_6*b.a6_5 + a.a7_7*b.a7_5 + a.a7_8*b.a8_5 + a.a7_9*b.a9_5 + a.a7_10*b.a10_5 + a.a7_11*b.a11_5 + a.a7_12*b.a12_5;
+        c.a7_6 = a.a7_1*b.a1_6 + a.a7_2*b.a2_6 + a.a7_3*b.a3_6 + a.a7_4*b.a4_6 + a.a7_5*b.a5_6 + a.a7_6*b.a6_6 + a.a7_7*b.a7_6 + a.a7_8*b.a8_6 + a.a7_9*b.a9_6 + a.a7_10*b.a10_6 + a.a7_11*b.a11_6 + a.a7_12*b.a12_6;
+        c.a7_7 = a.a7_1*b.a1_7 + a.a7_2*b.a2_7 + a.a7_3*b.a3_7 + a.a7_4*b.a4_7 + a.a7_5*b.a5_7 + a.a7_6*b.a6_7 + a.a7_7*b.a7_7 + a.a7_8*b.a8_7 + a.a7_9*b.a9_7 + a.a7_10*b.a10_7 + a.a7_11*b.a11_7 + a.a7_12*b.a12_7;
+        c.a7_8 = a.a7_1*b.a1_8 + a.a7_2*b.a2_8 + a.a7_3*b.a3_8 + a.a7_4*b.a4_8 + a.a7_5*b.a5_8 + a.a7_6*b.a6_8 + a.a7_7*b.a7_8 + a.a7_8*b.a8_8 + a.a7_9*b.a9_8 + a.a7_10*b.a10_8 + a.a7_11*b.a11_8 + a.a7_12*b.a12_8;
+        c.a7_9 = a.a7_1*b.a1_9 + a.a7_2*b.a2_9 + a.a7_3*b.a3_9 + a.a7_4*b.a4_9 + a.a7_5*b.a5_9 + a.a7_6*b.a6_9 + a.a7_7*b.a7_9 + a.a7_8*b.a8_9 + a.a7_9*b.a9_9 + a.a7_10*b.a10_9 + a.a7_11*b.a11_9 + a.a7_12*b.a12_9;
+        c.a7_10 = a.a7_1*b.a1_10 + a.a7_2*b.a2_10 + a.a7_3*b.a3_10 + a.a7_4*b.a4_10 + a.a7_5*b.a5_10 + a.a7_6*b.a6_10 + a.a7_7*b.a7_10 + a.a7_8*b.a8_10 + a.a7_9*b.a9_10 + a.a7_10*b.a10_10 + a.a7_11*b.a11_10 + a.a7_12*b.a12_10;
+        c.a7_11 = a.a7_1*b.a1_11 + a.a7_2*b.a2_11 + a.a7_3*b.a3_11 + a.a7_4*b.a4_11 + a.a7_5*b.a5_11 + a.a7_6*b.a6_11 + a.a7_7*b.a7_11 + a.a7_8*b.a8_11 + a.a7_9*b.a9_11 + a.a7_10*b.a10_11 + a.a7_11*b.a11_11 + a.a7_12*b.a12_11;
+        c.a7_12 = a.a7_1*b.a1_12 + a.a7_2*b.a2_12 + a.a7_3*b.a3_12 + a.a7_4*b.a4_12 + a.a7_5*b.a5_12 + a.a7_6*b.a6_12 + a.a7_7*b.a7_12 + a.a7_8*b.a8_12 + a.a7_9*b.a9_12 + a.a7_10*b.a10_12 + a.a7_11*b.a11_12 + a.a7_12*b.a12_12;
+        c.a8_1 = a.a8_1*b.a1_1 + a.a8_2*b.a2_1 + a.a8_3*b.a3_1 + a.a8_4*b.a4_1 + a.a8_5*b.a5_1 + a.a8_6*b.a6_1 + a.a8_7*b.a7_1 + a.a8_8*b.a8_1 + a.a8_9*b.a9_1 + a.a8_10*b.a10_1 + a.a8_11*b.a11_1 + a.a8_12*b.a12_1;
+        c.a8_2 = a.a8_1*b.a1_2 + a.a8_2*b.a2_2 + a.a8_3*b.a3_2 + a.a8_4*b.a4_2 + a.a8_5*b.a5_2 + a.a8_6*b.a6_2 + a.a8_7*b.a7_2 + a.a8_8*b.a8_2 + a.a8_9*b.a9_2 + a.a8_10*b.a10_2 + a.a8_11*b.a11_2 + a.a8_12*b.a12_2;
+        c.a8_3 = a.a8_1*b.a1_3 + a.a8_2*b.a2_3 + a.a8_3*b.a3_3 + a.a8_4*b.a4_3 + a.a8_5*b.a5_3 + a.a8_6*b.a6_3 + a.a8_7*b.a7_3 + a.a8_8*b.a8_3 + a.a8_9*b.a9_3 + a.a8_10*b.a10_3 + a.a8_11*b.a11_3 + a.a8_12*b.a12_3;
+        c.a8_4 = a.a8_1*b.a1_4 + a.a8_2*b.a2_4 + a.a8_3*b.a3_4 + a.a8_4*b.a4_4 + a.a8_5*b.a5_4 + a.a8_6*b.a6_4 + a.a8_7*b.a7_4 + a.a8_8*b.a8_4 + a.a8_9*b.a9_4 + a.a8_10*b.a10_4 + a.a8_11*b.a11_4 + a.a8_12*b.a12_4;
+        c.a8_5 = a.a8_1*b.a1_5 + a.a8_2*b.a2_5 + a.a8_3*b.a3_5 + a.a8_4*b.a4_5 + a.a8_5*b.a5_5 + a.a8_6*b.a6_5 + a.a8_7*b.a7_5 + a.a8_8*b.a8_5 + a.a8_9*b.a9_5 + a.a8_10*b.a10_5 + a.a8_11*b.a11_5 + a.a8_12*b.a12_5;
+        c.a8_6 = a.a8_1*b.a1_6 + a.a8_2*b.a2_6 + a.a8_3*b.a3_6 + a.a8_4*b.a4_6 + a.a8_5*b.a5_6 + a.a8_6*b.a6_6 + a.a8_7*b.a7_6 + a.a8_8*b.a8_6 + a.a8_9*b.a9_6 + a.a8_10*b.a10_6 + a.a8_11*b.a11_6 + a.a8_12*b.a12_6;
+        c.a8_7 = a.a8_1*b.a1_7 + a.a8_2*b.a2_7 + a.a8_3*b.a3_7 + a.a8_4*b.a4_7 + a.a8_5*b.a5_7 + a.a8_6*b.a6_7 + a.a8_7*b.a7_7 + a.a8_8*b.a8_7 + a.a8_9*b.a9_7 + a.a8_10*b.a10_7 + a.a8_11*b.a11_7 + a.a8_12*b.a12_7;
+        c.a8_8 = a.a8_1*b.a1_8 + a.a8_2*b.a2_8 + a.a8_3*b.a3_8 + a.a8_4*b.a4_8 + a.a8_5*b.a5_8 + a.a8_6*b.a6_8 + a.a8_7*b.a7_8 + a.a8_8*b.a8_8 + a.a8_9*b.a9_8 + a.a8_10*b.a10_8 + a.a8_11*b.a11_8 + a.a8_12*b.a12_8;
+        c.a8_9 = a.a8_1*b.a1_9 + a.a8_2*b.a2_9 + a.a8_3*b.a3_9 + a.a8_4*b.a4_9 + a.a8_5*b.a5_9 + a.a8_6*b.a6_9 + a.a8_7*b.a7_9 + a.a8_8*b.a8_9 + a.a8_9*b.a9_9 + a.a8_10*b.a10_9 + a.a8_11*b.a11_9 + a.a8_12*b.a12_9;
+        c.a8_10 = a.a8_1*b.a1_10 + a.a8_2*b.a2_10 + a.a8_3*b.a3_10 + a.a8_4*b.a4_10 + a.a8_5*b.a5_10 + a.a8_6*b.a6_10 + a.a8_7*b.a7_10 + a.a8_8*b.a8_10 + a.a8_9*b.a9_10 + a.a8_10*b.a10_10 + a.a8_11*b.a11_10 + a.a8_12*b.a12_10;
+        c.a8_11 = a.a8_1*b.a1_11 + a.a8_2*b.a2_11 + a.a8_3*b.a3_11 + a.a8_4*b.a4_11 + a.a8_5*b.a5_11 + a.a8_6*b.a6_11 + a.a8_7*b.a7_11 + a.a8_8*b.a8_11 + a.a8_9*b.a9_11 + a.a8_10*b.a10_11 + a.a8_11*b.a11_11 + a.a8_12*b.a12_11;
+        c.a8_12 = a.a8_1*b.a1_12 + a.a8_2*b.a2_12 + a.a8_3*b.a3_12 + a.a8_4*b.a4_12 + a.a8_5*b.a5_12 + a.a8_6*b.a6_12 + a.a8_7*b.a7_12 + a.a8_8*b.a8_12 + a.a8_9*b.a9_12 + a.a8_10*b.a10_12 + a.a8_11*b.a11_12 + a.a8_12*b.a12_12;
+        c.a9_1 = a.a9_1*b.a1_1 + a.a9_2*b.a2_1 + a.a9_3*b.a3_1 + a.a9_4*b.a4_1 + a.a9_5*b.a5_1 + a.a9_6*b.a6_1 + a.a9_7*b.a7_1 + a.a9_8*b.a8_1 + a.a9_9*b.a9_1 + a.a9_10*b.a10_1 + a.a9_11*b.a11_1 + a.a9_12*b.a12_1;
+        c.a9_2 = a.a9_1*b.a1_2 + a.a9_2*b.a2_2 + a.a9_3*b.a3_2 + a.a9_4*b.a4_2 + a.a9_5*b.a5_2 + a.a9_6*b.a6_2 + a.a9_7*b.a7_2 + a.a9_8*b.a8_2 + a.a9_9*b.a9_2 + a.a9_10*b.a10_2 + a.a9_11*b.a11_2 + a.a9_12*b.a12_2;
+        c.a9_3 = a.a9_1*b.a1_3 + a.a9_2*b.a2_3 + a.a9_3*b.a3_3 + a.a9_4*b.a4_3 + a.a9_5*b.a5_3 + a.a9_6*b.a6_3 + a.a9_7*b.a7_3 + a.a9_8*b.a8_3 + a.a9_9*b.a9_3 + a.a9_10*b.a10_3 + a.a9_11*b.a11_3 + a.a9_12*b.a12_3;
+        c.a9_4 = a.a9_1*b.a1_4 + a.a9_2*b.a2_4 + a.a9_3*b.a3_4 + a.a9_4*b.a4_4 + a.a9_5*b.a5_4 + a.a9_6*b.a6_4 + a.a9_7*b.a7_4 + a.a9_8*b.a8_4 + a.a9_9*b.a9_4 + a.a9_10*b.a10_4 + a.a9_11*b.a11_4 + a.a9_12*b.a12_4;
+        c.a9_5 = a.a9_1*b.a1_5 + a.a9_2*b.a2_5 + a.a9_3*b.a3_5 + a.a9_4*b.a4_5 + a.a9_5*b.a5_5 + a.a9_6*b.a6_5 + a.a9_7*b.a7_5 + a.a9_8*b.a8_5 + a.a9_9*b.a9_5 + a.a9_10*b.a10_5 + a.a9_11*b.a11_5 + a.a9_12*b.a12_5;
+        c.a9_6 = a.a9_1*b.a1_6 + a.a9_2*b.a2_6 + a.a9_3*b.a3_6 + a.a9_4*b.a4_6 + a.a9_5*b.a5_6 + a.a9_6*b.a6_6 + a.a9_7*b.a7_6 + a.a9_8*b.a8_6 + a.a9_9*b.a9_6 + a.a9_10*b.a10_6 + a.a9_11*b.a11_6 + a.a9_12*b.a12_6;
+        c.a9_7 = a.a9_1*b.a1_7 + a.a9_2*b.a2_7 + a.a9_3*b.a3_7 + a.a9_4*b.a4_7 + a.a9_5*b.a5_7 + a.a9_6*b.a6_7 + a.a9_7*b.a7_7 + a.a9_8*b.a8_7 + a.a9_9*b.a9_7 + a.a9_10*b.a10_7 + a.a9_11*b.a11_7 + a.a9_12*b.a12_7;
+        c.a9_8 = a.a9_1*b.a1_8 + a.a9_2*b.a2_8 + a.a9_3*b.a3_8 + a.a9_4*b.a4_8 + a.a9_5*b.a5_8 + a.a9_6*b.a6_8 + a.a9_7*b.a7_8 + a.a9_8*b.a8_8 + a.a9_9*b.a9_8 + a.a9_10*b.a10_8 + a.a9_11*b.a11_8 + a.a9_12*b.a12_8;
+        c.a9_9 = a.a9_1*b.a1_9 + a.a9_2*b.a2_9 + a.a9_3*b.a3_9 + a.a9_4*b.a4_9 + a.a9_5*b.a5_9 + a.a9_6*b.a6_9 + a.a9_7*b.a7_9 + a.a9_8*b.a8_9 + a.a9_9*b.a9_9 + a.a9_10*b.a10_9 + a.a9_11*b.a11_9 + a.a9_12*b.a12_9;
+        c.a9_10 = a.a9_1*b.a1_10 + a.a9_2*b.a2_10 + a.a9_3*b.a3_10 + a.a9_4*b.a4_10 + a.a9_5*b.a5_10 + a.a9_6*b.a6_10 + a.a9_7*b.a7_10 + a.a9_8*b.a8_10 + a.a9_9*b.a9_10 + a.a9_10*b.a10_10 + a.a9_11*b.a11_10 + a.a9_12*b.a12_10;
+        c.a9_11 = a.a9_1*b.a1_11 + a.a9_2*b.a2_11 + a.a9_3*b.a3_11 + a.a9_4*b.a4_11 + a.a9_5*b.a5_11 + a.a9_6*b.a6_11 + a.a9_7*b.a7_11 + a.a9_8*b.a8_11 + a.a9_9*b.a9_11 + a.a9_10*b.a10_11 + a.a9_11*b.a11_11 + a.a9_12*b.a12_11;
+        c.a9_12 = a.a9_1*b.a1_12 + a.a9_2*b.a2_12 + a.a9_3*b.a3_12 + a.a9_4*b.a4_12 + a.a9_5*b.a5_12 + a.a9_6*b.a6_12 + a.a9_7*b.a7_12 + a.a9_8*b.a8_12 + a.a9_9*b.a9_12 + a.a9_10*b.a10_12 + a.a9_11*b.a11_12 + a.a9_12*b.a12_12;
+        c.a10_1 = a.a10_1*b.a1_1 + a.a10_2*b.a2_1 + a.a10_3*b.a3_1 + a.a10_4*b.a4_1 + a.a10_5*b.a5_1 + a.a10_6*b.a6_1 + a.a10_7*b.a7_1 + a.a10_8*b.a8_1 + a.a10_9*b.a9_1 + a.a10_10*b.a10_1 + a.a10_11*b.a11_1 + a.a10_12*b.a12_1;
+        c.a10_2 = a.a10_1*b.a1_2 + a.a10_2*b.a2_2 + a.a10_3*b.a3_2 + a.a10_4*b.a4_2 + a.a10_5*b.a5_2 + a.a10_6*b.a6_2 + a.a10_7*b.a7_2 + a.a10_8*b.a8_2 + a.a10_9*b.a9_2 + a.a10_10*b.a10_2 + a.a10_11*b.a11_2 + a.a10_12*b.a12_2;
+        c.a10_3 = a.a10_1*b.a1_3 + a.a10_2*b.a2_3 + a.a10_3*b.a3_3 + a.a10_4*b.a4_3 + a.a10_5*b.a5_3 + a.a10_6*b.a6_3 + a.a10_7*b.a7_3 + a.a10_8*b.a8_3 + a.a10_9*b.a9_3 + a.a10_10*b.a10_3 + a.a10_11*b.a11_3 + a.a10_12*b.a12_3;
+        c.a10_4 = a.a10_1*b.a1_4 + a.a10_2*b.a2_4 + a.a10_3*b.a3_4 + a.a10_4*b.a4_4 + a.a10_5*b.a5_4 + a.a10_6*b.a6_4 + a.a10_7*b.a7_4 + a.a10_8*b.a8_4 + a.a10_9*b.a9_4 + a.a10_10*b.a10_4 + a.a10_11*b.a11_4 + a.a10_12*b.a12_4;
+        c.a10_5 = a.a10_1*b.a1_5 + a.a10_2*b.a2_5 + a.a10_3*b.a3_5 + a.a10_4*b.a4_5 + a.a10_5*b.a5_5 + a.a10_6*b.a6_5 + a.a10_7*b.a7_5 + a.a10_8*b.a8_5 + a.a10_9*b.a9_5 + a.a10_10*b.a10_5 + a.a10_11*b.a11_5 + a.a10_12*b.a12_5;
+        c.a10_6 = a.a10_1*b.a1_6 + a.a10_2*b.a2_6 + a.a10_3*b.a3_6 + a.a10_4*b.a4_6 + a.a10_5*b.a5_6 + a.a10_6*b.a6_6 + a.a10_7*b.a7_6 + a.a10_8*b.a8_6 + a.a10_9*b.a9_6 + a.a10_10*b.a10_6 + a.a10_11*b.a11_6 + a.a10_12*b.a12_6;
+        c.a10_7 = a.a10_1*b.a1_7 + a.a10_2*b.a2_7 + a.a10_3*b.a3_7 + a.a10_4*b.a4_7 + a.a10_5*b.a5_7 + a.a10_6*b.a6_7 + a.a10_7*b.a7_7 + a.a10_8*b.a8_7 + a.a10_9*b.a9_7 + a.a10_10*b.a10_7 + a.a10_11*b.a11_7 + a.a10_12*b.a12_7;
+        c.a10_8 = a.a10_1*b.a1_8 + a.a10_2*b.a2_8 + a.a10_3*b.a3_8 + a.a10_4*b.a4_8 + a.a10_5*b.a5_8 + a.a10_6*b.a6_8 + a.a10_7*b.a7_8 + a.a10_8*b.a8_8 + a.a10_9*b.a9_8 + a.a10_10*b.a10_8 + a.a10_11*b.a11_8 + a.a10_12*b.a12_8;
+        c.a10_9 = a.a10_1*b.a1_9 + a.a10_2*b.a2_9 + a.a10_3*b.a3_9 + a.a10_4*b.a4_9 + a.a10_5*b.a5_9 + a.a10_6*b.a6_9 + a.a10_7*b.a7_9 + a.a10_8*b.a8_9 + a.a10_9*b.a9_9 + a.a10_10*b.a10_9 + a.a10_11*b.a11_9 + a.a10_12*b.a12_9;
+        c.a10_10 = a.a10_1*b.a1_10 + a.a10_2*b.a2_10 + a.a10_3*b.a3_10 + a.a10_4*b.a4_10 + a.a10_5*b.a5_10 + a.a10_6*b.a6_10 + a.a10_7*b.a7_10 + a.a10_8*b.a8_10 + a.a10_9*b.a9_10 + a.a10_10*b.a10_10 + a.a10_11*b.a11_10 + a.a10_12*b.a12_10;
+        c.a10_11 = a.a10_1*b.a1_11 + a.a10_2*b.a2_11 + a.a10_3*b.a3_11 + a.a10_4*b.a4_11 + a.a10_5*b.a5_11 + a.a10_6*b.a6_11 + a.a10_7*b.a7_11 + a.a10_8*b.a8_11 + a.a10_9*b.a9_11 + a.a10_10*b.a10_11 + a.a10_11*b.a11_11 + a.a10_12*b.a12_11;
+        c.a10_12 = a.a10_1*b.a1_12 + a.a10_2*b.a2_12 + a.a10_3*b.a3_12 + a.a10_4*b.a4_12 + a.a10_5*b.a5_12 + a.a10_6*b.a6_12 + a.a10_7*b.a7_12 + a.a10_8*b.a8_12 + a.a10_9*b.a9_12 + a.a10_10*b.a10_12 + a.a10_11*b.a11_12 + a.a10_12*b.a12_12;
+    }
+
+    private static void mult_rows11to12( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a11_1 = a.a11_1*b.a1_1 + a.a11_2*b.a2_1 + a.a11_3*b.a3_1 + a.a11_4*b.a4_1 + a.a11_5*b.a5_1 + a.a11_6*b.a6_1 + a.a11_7*b.a7_1 + a.a11_8*b.a8_1 + a.a11_9*b.a9_1 + a.a11_10*b.a10_1 + a.a11_11*b.a11_1 + a.a11_12*b.a12_1;
+        c.a11_2 = a.a11_1*b.a1_2 + a.a11_2*b.a2_2 + a.a11_3*b.a3_2 + a.a11_4*b.a4_2 + a.a11_5*b.a5_2 + a.a11_6*b.a6_2 + a.a11_7*b.a7_2 + a.a11_8*b.a8_2 + a.a11_9*b.a9_2 + a.a11_10*b.a10_2 + a.a11_11*b.a11_2 + a.a11_12*b.a12_2;
+        c.a11_3 = a.a11_1*b.a1_3 + a.a11_2*b.a2_3 + a.a11_3*b.a3_3 + a.a11_4*b.a4_3 + a.a11_5*b.a5_3 + a.a11_6*b.a6_3 + a.a11_7*b.a7_3 + a.a11_8*b.a8_3 + a.a11_9*b.a9_3 + a.a11_10*b.a10_3 + a.a11_11*b.a11_3 + a.a11_12*b.a12_3;
+        c.a11_4 = a.a11_1*b.a1_4 + a.a11_2*b.a2_4 + a.a11_3*b.a3_4 + a.a11_4*b.a4_4 + a.a11_5*b.a5_4 + a.a11_6*b.a6_4 + a.a11_7*b.a7_4 + a.a11_8*b.a8_4 + a.a11_9*b.a9_4 + a.a11_10*b.a10_4 + a.a11_11*b.a11_4 + a.a11_12*b.a12_4;
+        c.a11_5 = a.a11_1*b.a1_5 + a.a11_2*b.a2_5 + a.a11_3*b.a3_5 + a.a11_4*b.a4_5 + a.a11_5*b.a5_5 + a.a11_6*b.a6_5 + a.a11_7*b.a7_5 + a.a11_8*b.a8_5 + a.a11_9*b.a9_5 + a.a11_10*b.a10_5 + a.a11_11*b.a11_5 + a.a11_12*b.a12_5;
+        c.a11_6 = a.a11_1*b.a1_6 + a.a11_2*b.a2_6 + a.a11_3*b.a3_6 + a.a11_4*b.a4_6 + a.a11_5*b.a5_6 + a.a11_6*b.a6_6 + a.a11_7*b.a7_6 + a.a11_8*b.a8_6 + a.a11_9*b.a9_6 + a.a11_10*b.a10_6 + a.a11_11*b.a11_6 + a.a11_12*b.a12_6;
+        c.a11_7 = a.a11_1*b.a1_7 + a.a11_2*b.a2_7 + a.a11_3*b.a3_7 + a.a11_4*b.a4_7 + a.a11_5*b.a5_7 + a.a11_6*b.a6_7 + a.a11_7*b.a7_7 + a.a11_8*b.a8_7 + a.a11_9*b.a9_7 + a.a11_10*b.a10_7 + a.a11_11*b.a11_7 + a.a11_12*b.a12_7;
+        c.a11_8 = a.a11_1*b.a1_8 + a.a11_2*b.a2_8 + a.a11_3*b.a3_8 + a.a11_4*b.a4_8 + a.a11_5*b.a5_8 + a.a11_6*b.a6_8 + a.a11_7*b.a7_8 + a.a11_8*b.a8_8 + a.a11_9*b.a9_8 + a.a11_10*b.a10_8 + a.a11_11*b.a11_8 + a.a11_12*b.a12_8;
+        c.a11_9 = a.a11_1*b.a1_9 + a.a11_2*b.a2_9 + a.a11_3*b.a3_9 + a.a11_4*b.a4_9 + a.a11_5*b.a5_9 + a.a11_6*b.a6_9 + a.a11_7*b.a7_9 + a.a11_8*b.a8_9 + a.a11_9*b.a9_9 + a.a11_10*b.a10_9 + a.a11_11*b.a11_9 + a.a11_12*b.a12_9;
+        c.a11_10 = a.a11_1*b.a1_10 + a.a11_2*b.a2_10 + a.a11_3*b.a3_10 + a.a11_4*b.a4_10 + a.a11_5*b.a5_10 + a.a11_6*b.a6_10 + a.a11_7*b.a7_10 + a.a11_8*b.a8_10 + a.a11_9*b.a9_10 + a.a11_10*b.a10_10 + a.a11_11*b.a11_10 + a.a11_12*b.a12_10;
+        c.a11_11 = a.a11_1*b.a1_11 + a.a11_2*b.a2_11 + a.a11_3*b.a3_11 + a.a11_4*b.a4_11 + a.a11_5*b.a5_11 + a.a11_6*b.a6_11 + a.a11_7*b.a7_11 + a.a11_8*b.a8_11 + a.a11_9*b.a9_11 + a.a11_10*b.a10_11 + a.a11_11*b.a11_11 + a.a11_12*b.a12_11;
+        c.a11_12 = a.a11_1*b.a1_12 + a.a11_2*b.a2_12 + a.a11_3*b.a3_12 + a.a11_4*b.a4_12 + a.a11_5*b.a5_12 + a.a11_6*b.a6_12 + a.a11_7*b.a7_12 + a.a11_8*b.a8_12 + a.a11_9*b.a9_12 + a.a11_10*b.a10_12 + a.a11_11*b.a11_12 + a.a11_12*b.a12_12;
+        c.a12_1 = a.a12_1*b.a1_1 + a.a12_2*b.a2_1 + a.a12_3*b.a3_1 + a.a12_4*b.a4_1 + a.a12_5*b.a5_1 + a.a12_6*b.a6_1 + a.a12_7*b.a7_1 + a.a12_8*b.a8_1 + a.a12_9*b.a9_1 + a.a12_10*b.a10_1 + a.a12_11*b.a11_1 + a.a12_12*b.a12_1;
+        c.a12_2 = a.a12_1*b.a1_2 + a.a12_2*b.a2_2 + a.a12_3*b.a3_2 + a.a12_4*b.a4_2 + a.a12_5*b.a5_2 + a.a12_6*b.a6_2 + a.a12_7*b.a7_2 + a.a12_8*b.a8_2 + a.a12_9*b.a9_2 + a.a12_10*b.a10_2 + a.a12_11*b.a11_2 + a.a12_12*b.a12_2;
+        c.a12_3 = a.a12_1*b.a1_3 + a.a12_2*b.a2_3 + a.a12_3*b.a3_3 + a.a12_4*b.a4_3 + a.a12_5*b.a5_3 + a.a12_6*b.a6_3 + a.a12_7*b.a7_3 + a.a12_8*b.a8_3 + a.a12_9*b.a9_3 + a.a12_10*b.a10_3 + a.a12_11*b.a11_3 + a.a12_12*b.a12_3;
+        c.a12_4 = a.a12_1*b.a1_4 + a.a12_2*b.a2_4 + a.a12_3*b.a3_4 + a.a12_4*b.a4_4 + a.a12_5*b.a5_4 + a.a12_6*b.a6_4 + a.a12_7*b.a7_4 + a.a12_8*b.a8_4 + a.a12_9*b.a9_4 + a.a12_10*b.a10_4 + a.a12_11*b.a11_4 + a.a12_12*b.a12_4;
+        c.a12_5 = a.a12_1*b.a1_5 + a.a12_2*b.a2_5 + a.a12_3*b.a3_5 + a.a12_4*b.a4_5 + a.a12_5*b.a5_5 + a.a12_6*b.a6_5 + a.a12_7*b.a7_5 + a.a12_8*b.a8_5 + a.a12_9*b.a9_5 + a.a12_10*b.a10_5 + a.a12_11*b.a11_5 + a.a12_12*b.a12_5;
+        c.a12_6 = a.a12_1*b.a1_6 + a.a12_2*b.a2_6 + a.a12_3*b.a3_6 + a.a12_4*b.a4_6 + a.a12_5*b.a5_6 + a.a12_6*b.a6_6 + a.a12_7*b.a7_6 + a.a12_8*b.a8_6 + a.a12_9*b.a9_6 + a.a12_10*b.a10_6 + a.a12_11*b.a11_6 + a.a12_12*b.a12_6;
+        c.a12_7 = a.a12_1*b.a1_7 + a.a12_2*b.a2_7 + a.a12_3*b.a3_7 + a.a12_4*b.a4_7 + a.a12_5*b.a5_7 + a.a12_6*b.a6_7 + a.a12_7*b.a7_7 + a.a12_8*b.a8_7 + a.a12_9*b.a9_7 + a.a12_10*b.a10_7 + a.a12_11*b.a11_7 + a.a12_12*b.a12_7;
+        c.a12_8 = a.a12_1*b.a1_8 + a.a12_2*b.a2_8 + a.a12_3*b.a3_8 + a.a12_4*b.a4_8 + a.a12_5*b.a5_8 + a.a12_6*b.a6_8 + a.a12_7*b.a7_8 + a.a12_8*b.a8_8 + a.a12_9*b.a9_8 + a.a12_10*b.a10_8 + a.a12_11*b.a11_8 + a.a12_12*b.a12_8;
+        c.a12_9 = a.a12_1*b.a1_9 + a.a12_2*b.a2_9 + a.a12_3*b.a3_9 + a.a12_4*b.a4_9 + a.a12_5*b.a5_9 + a.a12_6*b.a6_9 + a.a12_7*b.a7_9 + a.a12_8*b.a8_9 + a.a12_9*b.a9_9 + a.a12_10*b.a10_9 + a.a12_11*b.a11_9 + a.a12_12*b.a12_9;
+        c.a12_10 = a.a12_1*b.a1_10 + a.a12_2*b.a2_10 + a.a12_3*b.a3_10 + a.a12_4*b.a4_10 + a.a12_5*b.a5_10 + a.a12_6*b.a6_10 + a.a12_7*b.a7_10 + a.a12_8*b.a8_10 + a.a12_9*b.a9_10 + a.a12_10*b.a10_10 + a.a12_11*b.a11_10 + a.a12_12*b.a12_10;
+        c.a12_11 = a.a12_1*b.a1_11 + a.a12_2*b.a2_11 + a.a12_3*b.a3_11 + a.a12_4*b.a4_11 + a.a12_5*b.a5_11 + a.a12_6*b.a6_11 + a.a12_7*b.a7_11 + a.a12_8*b.a8_11 + a.a12_9*b.a9_11 + a.a12_10*b.a10_11 + a.a12_11*b.a11_11 + a.a12_12*b.a12_11;
+        c.a12_12 = a.a12_1*b.a1_12 + a.a12_2*b.a2_12 + a.a12_3*b.a3_12 + a.a12_4*b.a4_12 + a.a12_5*b.a5_12 + a.a12_6*b.a6_12 + a.a12_7*b.a7_12 + a.a12_8*b.a8_12 + a.a12_9*b.a9_12 + a.a12_10*b.a10_12 + a.a12_11*b.a11_12 + a.a12_12*b.a12_12;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        multTransA_rows1to5(a,b,c);
+        multTransA_rows6to10(a,b,c);
+        multTransA_rows11to12(a,b,c);
+    }
+
+    private static void multTransA_rows1to5( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a1_1 = a.a1_1*b.a1_1 + a.a2_1*b.a2_1 + a.a3_1*b.a3_1 + a.a4_1*b.a4_1 + a.a5_1*b.a5_1 + a.a6_1*b.a6_1 + a.a7_1*b.a7_1 + a.a8_1*b.a8_1 + a.a9_1*b.a9_1 + a.a10_1*b.a10_1 + a.a11_1*b.a11_1 + a.a12_1*b.a12_1;
+        c.a1_2 = a.a1_1*b.a1_2 + a.a2_1*b.a2_2 + a.a3_1*b.a3_2 + a.a4_1*b.a4_2 + a.a5_1*b.a5_2 + a.a6_1*b.a6_2 + a.a7_1*b.a7_2 + a.a8_1*b.a8_2 + a.a9_1*b.a9_2 + a.a10_1*b.a10_2 + a.a11_1*b.a11_2 + a.a12_1*b.a12_2;
+        c.a1_3 = a.a1_1*b.a1_3 + a.a2_1*b.a2_3 + a.a3_1*b.a3_3 + a.a4_1*b.a4_3 + a.a5_1*b.a5_3 + a.a6_1*b.a6_3 + a.a7_1*b.a7_3 + a.a8_1*b.a8_3 + a.a9_1*b.a9_3 + a.a10_1*b.a10_3 + a.a11_1*b.a11_3 + a.a12_1*b.a12_3;
+        c.a1_4 = a.a1_1*b.a1_4 + a.a2_1*b.a2_4 + a.a3_1*b.a3_4 + a.a4_1*b.a4_4 + a.a5_1*b.a5_4 + a.a6_1*b.a6_4 + a.a7_1*b.a7_4 + a.a8_1*b.a8_4 + a.a9_1*b.a9_4 + a.a10_1*b.a10_4 + a.a11_1*b.a11_4 + a.a12_1*b.a12_4;
+        c.a1_5 = a.a1_1*b.a1_5 + a.a2_1*b.a2_5 + a.a3_1*b.a3_5 + a.a4_1*b.a4_5 + a.a5_1*b.a5_5 + a.a6_1*b.a6_5 + a.a7_1*b.a7_5 + a.a8_1*b.a8_5 + a.a9_1*b.a9_5 + a.a10_1*b.a10_5 + a.a11_1*b.a11_5 + a.a12_1*b.a12_5;
+        c.a1_6 = a.a1_1*b.a1_6 + a.a2_1*b.a2_6 + a.a3_1*b.a3_6 + a.a4_1*b.a4_6 + a.a5_1*b.a5_6 + a.a6_1*b.a6_6 + a.a7_1*b.a7_6 + a.a8_1*b.a8_6 + a.a9_1*b.a9_6 + a.a10_1*b.a10_6 + a.a11_1*b.a11_6 + a.a12_1*b.a12_6;
+        c.a1_7 = a.a1_1*b.a1_7 + a.a2_1*b.a2_7 + a.a3_1*b.a3_7 + a.a4_1*b.a4_7 + a.a5_1*b.a5_7 + a.a6_1*b.a6_7 + a.a7_1*b.a7_7 + a.a8_1*b.a8_7 + a.a9_1*b.a9_7 + a.a10_1*b.a10_7 + a.a11_1*b.a11_7 + a.a12_1*b.a12_7;
+        c.a1_8 = a.a1_1*b.a1_8 + a.a2_1*b.a2_8 + a.a3_1*b.a3_8 + a.a4_1*b.a4_8 + a.a5_1*b.a5_8 + a.a6_1*b.a6_8 + a.a7_1*b.a7_8 + a.a8_1*b.a8_8 + a.a9_1*b.a9_8 + a.a10_1*b.a10_8 + a.a11_1*b.a11_8 + a.a12_1*b.a12_8;
+        c.a1_9 = a.a1_1*b.a1_9 + a.a2_1*b.a2_9 + a.a3_1*b.a3_9 + a.a4_1*b.a4_9 + a.a5_1*b.a5_9 + a.a6_1*b.a6_9 + a.a7_1*b.a7_9 + a.a8_1*b.a8_9 + a.a9_1*b.a9_9 + a.a10_1*b.a10_9 + a.a11_1*b.a11_9 + a.a12_1*b.a12_9;
+        c.a1_10 = a.a1_1*b.a1_10 + a.a2_1*b.a2_10 + a.a3_1*b.a3_10 + a.a4_1*b.a4_10 + a.a5_1*b.a5_10 + a.a6_1*b.a6_10 + a.a7_1*b.a7_10 + a.a8_1*b.a8_10 + a.a9_1*b.a9_10 + a.a10_1*b.a10_10 + a.a11_1*b.a11_10 + a.a12_1*b.a12_10;
+        c.a1_11 = a.a1_1*b.a1_11 + a.a2_1*b.a2_11 + a.a3_1*b.a3_11 + a.a4_1*b.a4_11 + a.a5_1*b.a5_11 + a.a6_1*b.a6_11 + a.a7_1*b.a7_11 + a.a8_1*b.a8_11 + a.a9_1*b.a9_11 + a.a10_1*b.a10_11 + a.a11_1*b.a11_11 + a.a12_1*b.a12_11;
+        c.a1_12 = a.a1_1*b.a1_12 + a.a2_1*b.a2_12 + a.a3_1*b.a3_12 + a.a4_1*b.a4_12 + a.a5_1*b.a5_12 + a.a6_1*b.a6_12 + a.a7_1*b.a7_12 + a.a8_1*b.a8_12 + a.a9_1*b.a9_12 + a.a10_1*b.a10_12 + a.a11_1*b.a11_12 + a.a12_1*b.a12_12;
+        c.a2_1 = a.a1_2*b.a1_1 + a.a2_2*b.a2_1 + a.a3_2*b.a3_1 + a.a4_2*b.a4_1 + a.a5_2*b.a5_1 + a.a6_2*b.a6_1 + a.a7_2*b.a7_1 + a.a8_2*b.a8_1 + a.a9_2*b.a9_1 + a.a10_2*b.a10_1 + a.a11_2*b.a11_1 + a.a12_2*b.a12_1;
+        c.a2_2 = a.a1_2*b.a1_2 + a.a2_2*b.a2_2 + a.a3_2*b.a3_2 + a.a4_2*b.a4_2 + a.a5_2*b.a5_2 + a.a6_2*b.a6_2 + a.a7_2*b.a7_2 + a.a8_2*b.a8_2 + a.a9_2*b.a9_2 + a.a10_2*b.a10_2 + a.a11_2*b.a11_2 + a.a12_2*b.a12_2;
+        c.a2_3 = a.a1_2*b.a1_3 + a.a2_2*b.a2_3 + a.a3_2*b.a3_3 + a.a4_2*b.a4_3 + a.a5_2*b.a5_3 + a.a6_2*b.a6_3 + a.a7_2*b.a7_3 + a.a8_2*b.a8_3 + a.a9_2*b.a9_3 + a.a10_2*b.a10_3 + a.a11_2*b.a11_3 + a.a12_2*b.a12_3;
+        c.a2_4 = a.a1_2*b.a1_4 + a.a2_2*b.a2_4 + a.a3_2*b.a3_4 + a.a4_2*b.a4_4 + a.a5_2*b.a5_4 + a.a6_2*b.a6_4 + a.a7_2*b.a7_4 + a.a8_2*b.a8_4 + a.a9_2*b.a9_4 + a.a10_2*b.a10_4 + a.a11_2*b.a11_4 + a.a12_2*b.a12_4;
+        c.a2_5 = a.a1_2*b.a1_5 + a.a2_2*b.a2_5 + a.a3_2*b.a3_5 + a.a4_2*b.a4_5 + a.a5_2*b.a5_5 + a.a6_2*b.a6_5 + a.a7_2*b.a7_5 + a.a8_2*b.a8_5 + a.a9_2*b.a9_5 + a.a10_2*b.a10_5 + a.a11_2*b.a11_5 + a.a12_2*b.a12_5;
+        c.a2_6 = a.a1_2*b.a1_6 + a.a2_2*b.a2_6 + a.a3_2*b.a3_6 + a.a4_2*b.a4_6 + a.a5_2*b.a5_6 + a.a6_2*b.a6_6 + a.a7_2*b.a7_6 + a.a8_2*b.a8_6 + a.a9_2*b.a9_6 + a.a10_2*b.a10_6 + a.a11_2*b.a11_6 + a.a12_2*b.a12_6;
+        c.a2_7 = a.a1_2*b.a1_7 + a.a2_2*b.a2_7 + a.a3_2*b.a3_7 + a.a4_2*b.a4_7 + a.a5_2*b.a5_7 + a.a6_2*b.a6_7 + a.a7_2*b.a7_7 + a.a8_2*b.a8_7 + a.a9_2*b.a9_7 + a.a10_2*b.a10_7 + a.a11_2*b.a11_7 + a.a12_2*b.a12_7;
+        c.a2_8 = a.a1_2*b.a1_8 + a.a2_2*b.a2_8 + a.a3_2*b.a3_8 + a.a4_2*b.a4_8 + a.a5_2*b.a5_8 + a.a6_2*b.a6_8 + a.a7_2*b.a7_8 + a.a8_2*b.a8_8 + a.a9_2*b.a9_8 + a.a10_2*b.a10_8 + a.a11_2*b.a11_8 + a.a12_2*b.a12_8;
+        c.a2_9 = a.a1_2*b.a1_9 + a.a2_2*b.a2_9 + a.a3_2*b.a3_9 + a.a4_2*b.a4_9 + a.a5_2*b.a5_9 + a.a6_2*b.a6_9 + a.a7_2*b.a7_9 + a.a8_2*b.a8_9 + a.a9_2*b.a9_9 + a.a10_2*b.a10_9 + a.a11_2*b.a11_9 + a.a12_2*b.a12_9;
+        c.a2_10 = a.a1_2*b.a1_10 + a.a2_2*b.a2_10 + a.a3_2*b.a3_10 + a.a4_2*b.a4_10 + a.a5_2*b.a5_10 + a.a6_2*b.a6_10 + a.a7_2*b.a7_10 + a.a8_2*b.a8_10 + a.a9_2*b.a9_10 + a.a10_2*b.a10_10 + a.a11_2*b.a11_10 + a.a12_2*b.a12_10;
+        c.a2_11 = a.a1_2*b.a1_11 + a.a2_2*b.a2_11 + a.a3_2*b.a3_11 + a.a4_2*b.a4_11 + a.a5_2*b.a5_11 + a.a6_2*b.a6_11 + a.a7_2*b.a7_11 + a.a8_2*b.a8_11 + a.a9_2*b.a9_11 + a.a10_2*b.a10_11 + a.a11_2*b.a11_11 + a.a12_2*b.a12_11;
+        c.a2_12 = a.a1_2*b.a1_12 + a.a2_2*b.a2_12 + a.a3_2*b.a3_12 + a.a4_2*b.a4_12 + a.a5_2*b.a5_12 + a.a6_2*b.a6_12 + a.a7_2*b.a7_12 + a.a8_2*b.a8_12 + a.a9_2*b.a9_12 + a.a10_2*b.a10_12 + a.a11_2*b.a11_12 + a.a12_2*b.a12_12;
+        c.a3_1 = a.a1_3*b.a1_1 + a.a2_3*b.a2_1 + a.a3_3*b.a3_1 + a.a4_3*b.a4_1 + a.a5_3*b.a5_1 + a.a6_3*b.a6_1 + a.a7_3*b.a7_1 + a.a8_3*b.a8_1 + a.a9_3*b.a9_1 + a.a10_3*b.a10_1 + a.a11_3*b.a11_1 + a.a12_3*b.a12_1;
+        c.a3_2 = a.a1_3*b.a1_2 + a.a2_3*b.a2_2 + a.a3_3*b.a3_2 + a.a4_3*b.a4_2 + a.a5_3*b.a5_2 + a.a6_3*b.a6_2 + a.a7_3*b.a7_2 + a.a8_3*b.a8_2 + a.a9_3*b.a9_2 + a.a10_3*b.a10_2 + a.a11_3*b.a11_2 + a.a12_3*b.a12_2;
+        c.a3_3 = a.a1_3*b.a1_3 + a.a2_3*b.a2_3 + a.a3_3*b.a3_3 + a.a4_3*b.a4_3 + a.a5_3*b.a5_3 + a.a6_3*b.a6_3 + a.a7_3*b.a7_3 + a.a8_3*b.a8_3 + a.a9_3*b.a9_3 + a.a10_3*b.a10_3 + a.a11_3*b.a11_3 + a.a12_3*b.a12_3;
+        c.a3_4 = a.a1_3*b.a1_4 + a.a2_3*b.a2_4 + a.a3_3*b.a3_4 + a.a4_3*b.a4_4 + a.a5_3*b.a5_4 + a.a6_3*b.a6_4 + a.a7_3*b.a7_4 + a.a8_3*b.a8_4 + a.a9_3*b.a9_4 + a.a10_3*b.a10_4 + a.a11_3*b.a11_4 + a.a12_3*b.a12_4;
+        c.a3_5 = a.a1_3*b.a1_5 + a.a2_3*b.a2_5 + a.a3_3*b.a3_5 + a.a4_3*b.a4_5 + a.a5_3*b.a5_5 + a.a6_3*b.a6_5 + a.a7_3*b.a7_5 + a.a8_3*b.a8_5 + a.a9_3*b.a9_5 + a.a10_3*b.a10_5 + a.a11_3*b.a11_5 + a.a12_3*b.a12_5;
+        c.a3_6 = a.a1_3*b.a1_6 + a.a2_3*b.a2_6 + a.a3_3*b.a3_6 + a.a4_3*b.a4_6 + a.a5_3*b.a5_6 + a.a6_3*b.a6_6 + a.a7_3*b.a7_6 + a.a8_3*b.a8_6 + a.a9_3*b.a9_6 + a.a10_3*b.a10_6 + a.a11_3*b.a11_6 + a.a12_3*b.a12_6;
+        c.a3_7 = a.a1_3*b.a1_7 + a.a2_3*b.a2_7 + a.a3_3*b.a3_7 + a.a4_3*b.a4_7 + a.a5_3*b.a5_7 + a.a6_3*b.a6_7 + a.a7_3*b.a7_7 + a.a8_3*b.a8_7 + a.a9_3*b.a9_7 + a.a10_3*b.a10_7 + a.a11_3*b.a11_7 + a.a12_3*b.a12_7;
+        c.a3_8 = a.a1_3*b.a1_8 + a.a2_3*b.a2_8 + a.a3_3*b.a3_8 + a.a4_3*b.a4_8 + a.a5_3*b.a5_8 + a.a6_3*b.a6_8 + a.a7_3*b.a7_8 + a.a8_3*b.a8_8 + a.a9_3*b.a9_8 + a.a10_3*b.a10_8 + a.a11_3*b.a11_8 + a.a12_3*b.a12_8;
+        c.a3_9 = a.a1_3*b.a1_9 + a.a2_3*b.a2_9 + a.a3_3*b.a3_9 + a.a4_3*b.a4_9 + a.a5_3*b.a5_9 + a.a6_3*b.a6_9 + a.a7_3*b.a7_9 + a.a8_3*b.a8_9 + a.a9_3*b.a9_9 + a.a10_3*b.a10_9 + a.a11_3*b.a11_9 + a.a12_3*b.a12_9;
+        c.a3_10 = a.a1_3*b.a1_10 + a.a2_3*b.a2_10 + a.a3_3*b.a3_10 + a.a4_3*b.a4_10 + a.a5_3*b.a5_10 + a.a6_3*b.a6_10 + a.a7_3*b.a7_10 + a.a8_3*b.a8_10 + a.a9_3*b.a9_10 + a.a10_3*b.a10_10 + a.a11_3*b.a11_10 + a.a12_3*b.a12_10;
+        c.a3_11 = a.a1_3*b.a1_11 + a.a2_3*b.a2_11 + a.a3_3*b.a3_11 + a.a4_3*b.a4_11 + a.a5_3*b.a5_11 + a.a6_3*b.a6_11 + a.a7_3*b.a7_11 + a.a8_3*b.a8_11 + a.a9_3*b.a9_11 + a.a10_3*b.a10_11 + a.a11_3*b.a11_11 + a.a12_3*b.a12_11;
+        c.a3_12 = a.a1_3*b.a1_12 + a.a2_3*b.a2_12 + a.a3_3*b.a3_12 + a.a4_3*b.a4_12 + a.a5_3*b.a5_12 + a.a6_3*b.a6_12 + a.a7_3*b.a7_12 + a.a8_3*b.a8_12 + a.a9_3*b.a9_12 + a.a10_3*b.a10_12 + a.a11_3*b.a11_12 + a.a12_3*b.a12_12;
+        c.a4_1 = a.a1_4*b.a1_1 + a.a2_4*b.a2_1 + a.a3_4*b.a3_1 + a.a4_4*b.a4_1 + a.a5_4*b.a5_1 + a.a6_4*b.a6_1 + a.a7_4*b.a7_1 + a.a8_4*b.a8_1 + a.a9_4*b.a9_1 + a.a10_4*b.a10_1 + a.a11_4*b.a11_1 + a.a12_4*b.a12_1;
+        c.a4_2 = a.a1_4*b.a1_2 + a.a2_4*b.a2_2 + a.a3_4*b.a3_2 + a.a4_4*b.a4_2 + a.a5_4*b.a5_2 + a.a6_4*b.a6_2 + a.a7_4*b.a7_2 + a.a8_4*b.a8_2 + a.a9_4*b.a9_2 + a.a10_4*b.a10_2 + a.a11_4*b.a11_2 + a.a12_4*b.a12_2;
+        c.a4_3 = a.a1_4*b.a1_3 + a.a2_4*b.a2_3 + a.a3_4*b.a3_3 + a.a4_4*b.a4_3 + a.a5_4*b.a5_3 + a.a6_4*b.a6_3 + a.a7_4*b.a7_3 + a.a8_4*b.a8_3 + a.a9_4*b.a9_3 + a.a10_4*b.a10_3 + a.a11_4*b.a11_3 + a.a12_4*b.a12_3;
+        c.a4_4 = a.a1_4*b.a1_4 + a.a2_4*b.a2_4 + a.a3_4*b.a3_4 + a.a4_4*b.a4_4 + a.a5_4*b.a5_4 + a.a6_4*b.a6_4 + a.a7_4*b.a7_4 + a.a8_4*b.a8_4 + a.a9_4*b.a9_4 + a.a10_4*b.a10_4 + a.a11_4*b.a11_4 + a.a12_4*b.a12_4;
+        c.a4_5 = a.a1_4*b.a1_5 + a.a2_4*b.a2_5 + a.a3_4*b.a3_5 + a.a4_4*b.a4_5 + a.a5_4*b.a5_5 + a.a6_4*b.a6_5 + a.a7_4*b.a7_5 + a.a8_4*b.a8_5 + a.a9_4*b.a9_5 + a.a10_4*b.a10_5 + a.a11_4*b.a11_5 + a.a12_4*b.a12_5;
+        c.a4_6 = a.a1_4*b.a1_6 + a.a2_4*b.a2_6 + a.a3_4*b.a3_6 + a.a4_4*b.a4_6 + a.a5_4*b.a5_6 + a.a6_4*b.a6_6 + a.a7_4*b.a7_6 + a.a8_4*b.a8_6 + a.a9_4*b.a9_6 + a.a10_4*b.a10_6 + a.a11_4*b.a11_6 + a.a12_4*b.a12_6;
+        c.a4_7 = a.a1_4*b.a1_7 + a.a2_4*b.a2_7 + a.a3_4*b.a3_7 + a.a4_4*b.a4_7 + a.a5_4*b.a5_7 + a.a6_4*b.a6_7 + a.a7_4*b.a7_7 + a.a8_4*b.a8_7 + a.a9_4*b.a9_7 + a.a10_4*b.a10_7 + a.a11_4*b.a11_7 + a.a12_4*b.a12_7;
+        c.a4_8 = a.a1_4*b.a1_8 + a.a2_4*b.a2_8 + a.a3_4*b.a3_8 + a.a4_4*b.a4_8 + a.a5_4*b.a5_8 + a.a6_4*b.a6_8 + a.a7_4*b.a7_8 + a.a8_4*b.a8_8 + a.a9_4*b.a9_8 + a.a10_4*b.a10_8 + a.a11_4*b.a11_8 + a.a12_4*b.a12_8;
+        c.a4_9 = a.a1_4*b.a1_9 + a.a2_4*b.a2_9 + a.a3_4*b.a3_9 + a.a4_4*b.a4_9 + a.a5_4*b.a5_9 + a.a6_4*b.a6_9 + a.a7_4*b.a7_9 + a.a8_4*b.a8_9 + a.a9_4*b.a9_9 + a.a10_4*b.a10_9 + a.a11_4*b.a11_9 + a.a12_4*b.a12_9;
+        c.a4_10 = a.a1_4*b.a1_10 + a.a2_4*b.a2_10 + a.a3_4*b.a3_10 + a.a4_4*b.a4_10 + a.a5_4*b.a5_10 + a.a6_4*b.a6_10 + a.a7_4*b.a7_10 + a.a8_4*b.a8_10 + a.a9_4*b.a9_10 + a.a10_4*b.a10_10 + a.a11_4*b.a11_10 + a.a12_4*b.a12_10;
+        c.a4_11 = a.a1_4*b.a1_11 + a.a2_4*b.a2_11 + a.a3_4*b.a3_11 + a.a4_4*b.a4_11 + a.a5_4*b.a5_11 + a.a6_4*b.a6_11 + a.a7_4*b.a7_11 + a.a8_4*b.a8_11 + a.a9_4*b.a9_11 + a.a10_4*b.a10_11 + a.a11_4*b.a11_11 + a.a12_4*b.a12_11;
+        c.a4_12 = a.a1_4*b.a1_12 + a.a2_4*b.a2_12 + a.a3_4*b.a3_12 + a.a4_4*b.a4_12 + a.a5_4*b.a5_12 + a.a6_4*b.a6_12 + a.a7_4*b.a7_12 + a.a8_4*b.a8_12 + a.a9_4*b.a9_12 + a.a10_4*b.a10_12 + a.a11_4*b.a11_12 + a.a12_4*b.a12_12;
+        c.a5_1 = a.a1_5*b.a1_1 + a.a2_5*b.a2_1 + a.a3_5*b.a3_1 + a.a4_5*b.a4_1 + a.a5_5*b.a5_1 + a.a6_5*b.a6_1 + a.a7_5*b.a7_1 + a.a8_5*b.a8_1 + a.a9_5*b.a9_1 + a.a10_5*b.a10_1 + a.a11_5*b.a11_1 + a.a12_5*b.a12_1;
+        c.a5_2 = a.a1_5*b.a1_2 + a.a2_5*b.a2_2 + a.a3_5*b.a3_2 + a.a4_5*b.a4_2 + a.a5_5*b.a5_2 + a.a6_5*b.a6_2 + a.a7_5*b.a7_2 + a.a8_5*b.a8_2 + a.a9_5*b.a9_2 + a.a10_5*b.a10_2 + a.a11_5*b.a11_2 + a.a12_5*b.a12_2;
+        c.a5_3 = a.a1_5*b.a1_3 + a.a2_5*b.a2_3 + a.a3_5*b.a3_3 + a.a4_5*b.a4_3 + a.a5_5*b.a5_3 + a.a6_5*b.a6_3 + a.a7_5*b.a7_3 + a.a8_5*b.a8_3 + a.a9_5*b.a9_3 + a.a10_5*b.a10_3 + a.a11_5*b.a11_3 + a.a12_5*b.a12_3;
+        c.a5_4 = a.a1_5*b.a1_4 + a.a2_5*b.a2_4 + a.a3_5*b.a3_4 + a.a4_5*b.a4_4 + a.a5_5*b.a5_4 + a.a6_5*b.a6_4 + a.a7_5*b.a7_4 + a.a8_5*b.a8_4 + a.a9_5*b.a9_4 + a.a10_5*b.a10_4 + a.a11_5*b.a11_4 + a.a12_5*b.a12_4;
+        c.a5_5 = a.a1_5*b.a1_5 + a.a2_5*b.a2_5 + a.a3_5*b.a3_5 + a.a4_5*b.a4_5 + a.a5_5*b.a5_5 + a.a6_5*b.a6_5 + a.a7_5*b.a7_5 + a.a8_5*b.a8_5 + a.a9_5*b.a9_5 + a.a10_5*b.a10_5 + a.a11_5*b.a11_5 + a.a12_5*b.a12_5;
+        c.a5_6 = a.a1_5*b.a1_6 + a.a2_5*b.a2_6 + a.a3_5*b.a3_6 + a.a4_5*b.a4_6 + a.a5_5*b.a5_6 + a.a6_5*b.a6_6 + a.a7_5*b.a7_6 + a.a8_5*b.a8_6 + a.a9_5*b.a9_6 + a.a10_5*b.a10_6 + a.a11_5*b.a11_6 + a.a12_5*b.a12_6;
+        c.a5_7 = a.a1_5*b.a1_7 + a.a2_5*b.a2_7 + a.a3_5*b.a3_7 + a.a4_5*b.a4_7 + a.a5_5*b.a5_7 + a.a6_5*b.a6_7 + a.a7_5*b.a7_7 + a.a8_5*b.a8_7 + a.a9_5*b.a9_7 + a.a10_5*b.a10_7 + a.a11_5*b.a11_7 + a.a12_5*b.a12_7;
+        c.a5_8 = a.a1_5*b.a1_8 + a.a2_5*b.a2_8 + a.a3_5*b.a3_8 + a.a4_5*b.a4_8 + a.a5_5*b.a5_8 + a.a6_5*b.a6_8 + a.a7_5*b.a7_8 + a.a8_5*b.a8_8 + a.a9_5*b.a9_8 + a.a10_5*b.a10_8 + a.a11_5*b.a11_8 + a.a12_5*b.a12_8;
+        c.a5_9 = a.a1_5*b.a1_9 + a.a2_5*b.a2_9 + a.a3_5*b.a3_9 + a.a4_5*b.a4_9 + a.a5_5*b.a5_9 + a.a6_5*b.a6_9 + a.a7_5*b.a7_9 + a.a8_5*b.a8_9 + a.a9_5*b.a9_9 + a.a10_5*b.a10_9 + a.a11_5*b.a11_9 + a.a12_5*b.a12_9;
+        c.a5_10 = a.a1_5*b.a1_10 + a.a2_5*b.a2_10 + a.a3_5*b.a3_10 + a.a4_5*b.a4_10 + a.a5_5*b.a5_10 + a.a6_5*b.a6_10 + a.a7_5*b.a7_10 + a.a8_5*b.a8_10 + a.a9_5*b.a9_10 + a.a10_5*b.a10_10 + a.a11_5*b.a11_10 + a.a12_5*b.a12_10;
+        c.a5_11 = a.a1_5*b.a1_11 + a.a2_5*b.a2_11 + a.a3_5*b.a3_11 + a.a4_5*b.a4_11 + a.a5_5*b.a5_11 + a.a6_5*b.a6_11 + a.a7_5*b.a7_11 + a.a8_5*b.a8_11 + a.a9_5*b.a9_11 + a.a10_5*b.a10_11 + a.a11_5*b.a11_11 + a.a12_5*b.a12_11;
+        c.a5_12 = a.a1_5*b.a1_12 + a.a2_5*b.a2_12 + a.a3_5*b.a3_12 + a.a4_5*b.a4_12 + a.a5_5*b.a5_12 + a.a6_5*b.a6_12 + a.a7_5*b.a7_12 + a.a8_5*b.a8_12 + a.a9_5*b.a9_12 + a.a10_5*b.a10_12 + a.a11_5*b.a11_12 + a.a12_5*b.a12_12;
+    }
+
+    private static void multTransA_rows6to10( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a6_1 = a.a1_6*b.a1_1 + a.a2_6*b.a2_1 + a.a3_6*b.a3_1 + a.a4_6*b.a4_1 + a.a5_6*b.a5_1 + a.a6_6*b.a6_1 + a.a7_6*b.a7_1 + a.a8_6*b.a8_1 + a.a9_6*b.a9_1 + a.a10_6*b.a10_1 + a.a11_6*b.a11_1 + a.a12_6*b.a12_1;
+        c.a6_2 = a.a1_6*b.a1_2 + a.a2_6*b.a2_2 + a.a3_6*b.a3_2 + a.a4_6*b.a4_2 + a.a5_6*b.a5_2 + a.a6_6*b.a6_2 + a.a7_6*b.a7_2 + a.a8_6*b.a8_2 + a.a9_6*b.a9_2 + a.a10_6*b.a10_2 + a.a11_6*b.a11_2 + a.a12_6*b.a12_2;
+        c.a6_3 = a.a1_6*b.a1_3 + a.a2_6*b.a2_3 + a.a3_6*b.a3_3 + a.a4_6*b.a4_3 + a.a5_6*b.a5_3 + a.a6_6*b.a6_3 + a.a7_6*b.a7_3 + a.a8_6*b.a8_3 + a.a9_6*b.a9_3 + a.a10_6*b.a10_3 + a.a11_6*b.a11_3 + a.a12_6*b.a12_3;
+        c.a6_4 = a.a1_6*b.a1_4 + a.a2_6*b.a2_4 + a.a3_6*b.a3_4 + a.a4_6*b.a4_4 + a.a5_6*b.a5_4 + a.a6_6*b.a6_4 + a.a7_6*b.a7_4 + a.a8_6*b.a8_4 + a.a9_6*b.a9_4 + a.a10_6*b.a10_4 + a.a11_6*b.a11_4 + a.a12_6*b.a12_4;
+        c.a6_5 = a.a1_6*b.a1_5 + a.a2_6*b.a2_5 + a.a3_6*b.a3_5 + a.a4_6*b.a4_5 + a.a5_6*b.a5_5 + a.a6_6*b.a6_5 + a.a7_6*b.a7_5 + a.a8_6*b.a8_5 + a.a9_6*b.a9_5 + a.a10_6*b.a10_5 + a.a11_6*b.a11_5 + a.a12_6*b.a12_5;
+        c.a6_6 = a.a1_6*b.a1_6 + a.a2_6*b.a2_6 + a.a3_6*b.a3_6 + a.a4_6*b.a4_6 + a.a5_6*b.a5_6 + a.a6_6*b.a6_6 + a.a7_6*b.a7_6 + a.a8_6*b.a8_6 + a.a9_6*b.a9_6 + a.a10_6*b.a10_6 + a.a11_6*b.a11_6 + a.a12_6*b.a12_6;
+        c.a6_7 = a.a1_6*b.a1_7 + a.a2_6*b.a2_7 + a.a3_6*b.a3_7 + a.a4_6*b.a4_7 + a.a5_6*b.a5_7 + a.a6_6*b.a6_7 + a.a7_6*b.a7_7 + a.a8_6*b.a8_7 + a.a9_6*b.a9_7 + a.a10_6*b.a10_7 + a.a11_6*b.a11_7 + a.a12_6*b.a12_7;
+        c.a6_8 = a.a1_6*b.a1_8 + a.a2_6*b.a2_8 + a.a3_6*b.a3_8 + a.a4_6*b.a4_8 + a.a5_6*b.a5_8 + a.a6_6*b.a6_8 + a.a7_6*b.a7_8 + a.a8_6*b.a8_8 + a.a9_6*b.a9_8 + a.a10_6*b.a10_8 + a.a11_6*b.a11_8 + a.a12_6*b.a12_8;
+        c.a6_9 = a.a1_6*b.a1_9 + a.a2_6*b.a2_9 + a.a3_6*b.a3_9 + a.a4_6*b.a4_9 + a.a5_6*b.a5_9 + a.a6_6*b.a6_9 + a.a7_6*b.a7_9 + a.a8_6*b.a8_9 + a.a9_6*b.a9_9 + a.a10_6*b.a10_9 + a.a11_6*b.a11_9 + a.a12_6*b.a12_9;
+        c.a6_10 = a.a1_6*b.a1_10 + a.a2_6*b.a2_10 + a.a3_6*b.a3_10 + a.a4_6*b.a4_10 + a.a5_6*b.a5_10 + a.a6_6*b.a6_10 + a.a7_6*b.a7_10 + a.a8_6*b.a8_10 + a.a9_6*b.a9_10 + a.a10_6*b.a10_10 + a.a11_6*b.a11_10 + a.a12_6*b.a12_10;
+        c.a6_11 = a.a1_6*b.a1_11 + a.a2_6*b.a2_11 + a.a3_6*b.a3_11 + a.a4_6*b.a4_11 + a.a5_6*b.a5_11 + a.a6_6*b.a6_11 + a.a7_6*b.a7_11 + a.a8_6*b.a8_11 + a.a9_6*b.a9_11 + a.a10_6*b.a10_11 + a.a11_6*b.a11_11 + a.a12_6*b.a12_11;
+        c.a6_12 = a.a1_6*b.a1_12 + a.a2_6*b.a2_12 + a.a3_6*b.a3_12 + a.a4_6*b.a4_12 + a.a5_6*b.a5_12 + a.a6_6*b.a6_12 + a.a7_6*b.a7_12 + a.a8_6*b.a8_12 + a.a9_6*b.a9_12 + a.a10_6*b.a10_12 + a.a11_6*b.a11_12 + a.a12_6*b.a12_12;
+        c.a7_1 = a.a1_7*b.a1_1 + a.a2_7*b.a2_1 + a.a3_7*b.a3_1 + a.a4_7*b.a4_1 + a.a5_7*b.a5_1 + a.a6_7*b.a6_1 + a.a7_7*b.a7_1 + a.a8_7*b.a8_1 + a.a9_7*b.a9_1 + a.a10_7*b.a10_1 + a.a11_7*b.a11_1 + a.a12_7*b.a12_1;
+        c.a7_2 = a.a1_7*b.a1_2 + a.a2_7*b.a2_2 + a.a3_7*b.a3_2 + a.a4_7*b.a4_2 + a.a5_7*b.a5_2 + a.a6_7*b.a6_2 + a.a7_7*b.a7_2 + a.a8_7*b.a8_2 + a.a9_7*b.a9_2 + a.a10_7*b.a10_2 + a.a11_7*b.a11_2 + a.a12_7*b.a12_2;
+        c.a7_3 = a.a1_7*b.a1_3 + a.a2_7*b.a2_3 + a.a3_7*b.a3_3 + a.a4_7*b.a4_3 + a.a5_7*b.a5_3 + a.a6_7*b.a6_3 + a.a7_7*b.a7_3 + a.a8_7*b.a8_3 + a.a9_7*b.a9_3 + a.a10_7*b.a10_3 + a.a11_7*b.a11_3 + a.a12_7*b.a12_3;
+        c.a7_4 = a.a1_7*b.a1_4 + a.a2_7*b.a2_4 + a.a3_7*b.a3_4 + a.a4_7*b.a4_4 + a.a5_7*b.a5_4 + a.a6_7*b.a6_4 + a.a7_7*b.a7_4 + a.a8_7*b.a8_4 + a.a9_7*b.a9_4 + a.a10_7*b.a10_4 + a.a11_7*b.a11_4 + a.a12_7*b.a12_4;
+        c.a7_5 = a.a1_7*b.a1_5 + a.a2_7*b.a2_5 + a.a3_7*b.a3_5 + a.a4_7*b.a4_5 + a.a5_7*b.a5_5 + a.a6_7*b.a6_5 + a.a7_7*b.a7_5 + a.a8_7*b.a8_5 + a.a9_7*b.a9_5 + a.a10_7*b.a10_5 + a.a11_7*b.a11_5 + a.a12_7*b.a12_5;
+        c.a7_6 = a.a1_7*b.a1_6 + a.a2_7*b.a2_6 + a.a3_7*b.a3_6 + a.a4_7*b.a4_6 + a.a5_7*b.a5_6 + a.a6_7*b.a6_6 + a.a7_7*b.a7_6 + a.a8_7*b.a8_6 + a.a9_7*b.a9_6 + a.a10_7*b.a10_6 + a.a11_7*b.a11_6 + a.a12_7*b.a12_6;
+        c.a7_7 = a.a1_7*b.a1_7 + a.a2_7*b.a2_7 + a.a3_7*b.a3_7 + a.a4_7*b.a4_7 + a.a5_7*b.a5_7 + a.a6_7*b.a6_7 + a.a7_7*b.a7_7 + a.a8_7*b.a8_7 + a.a9_7*b.a9_7 + a.a10_7*b.a10_7 + a.a11_7*b.a11_7 + a.a12_7*b.a12_7;
+        c.a7_8 = a.a1_7*b.a1_8 + a.a2_7*b.a2_8 + a.a3_7*b.a3_8 + a.a4_7*b.a4_8 + a.a5_7*b.a5_8 + a.a6_7*b.a6_8 + a.a7_7*b.a7_8 + a.a8_7*b.a8_8 + a.a9_7*b.a9_8 + a.a10_7*b.a10_8 + a.a11_7*b.a11_8 + a.a12_7*b.a12_8;
+        c.a7_9 = a.a1_7*b.a1_9 + a.a2_7*b.a2_9 + a.a3_7*b.a3_9 + a.a4_7*b.a4_9 + a.a5_7*b.a5_9 + a.a6_7*b.a6_9 + a.a7_7*b.a7_9 + a.a8_7*b.a8_9 + a.a9_7*b.a9_9 + a.a10_7*b.a10_9 + a.a11_7*b.a11_9 + a.a12_7*b.a12_9;
+        c.a7_10 = a.a1_7*b.a1_10 + a.a2_7*b.a2_10 + a.a3_7*b.a3_10 + a.a4_7*b.a4_10 + a.a5_7*b.a5_10 + a.a6_7*b.a6_10 + a.a7_7*b.a7_10 + a.a8_7*b.a8_10 + a.a9_7*b.a9_10 + a.a10_7*b.a10_10 + a.a11_7*b.a11_10 + a.a12_7*b.a12_10;
+        c.a7_11 = a.a1_7*b.a1_11 + a.a2_7*b.a2_11 + a.a3_7*b.a3_11 + a.a4_7*b.a4_11 + a.a5_7*b.a5_11 + a.a6_7*b.a6_11 + a.a7_7*b.a7_11 + a.a8_7*b.a8_11 + a.a9_7*b.a9_11 + a.a10_7*b.a10_11 + a.a11_7*b.a11_11 + a.a12_7*b.a12_11;
+        c.a7_12 = a.a1_7*b.a1_12 + a.a2_7*b.a2_12 + a.a3_7*b.a3_12 + a.a4_7*b.a4_12 + a.a5_7*b.a5_12 + a.a6_7*b.a6_12 + a.a7_7*b.a7_12 + a.a8_7*b.a8_12 + a.a9_7*b.a9_12 + a.a10_7*b.a10_12 + a.a11_7*b.a11_12 + a.a12_7*b.a12_12;
+        c.a8_1 = a.a1_8*b.a1_1 + a.a2_8*b.a2_1 + a.a3_8*b.a3_1 + a.a4_8*b.a4_1 + a.a5_8*b.a5_1 + a.a6_8*b.a6_1 + a.a7_8*b.a7_1 + a.a8_8*b.a8_1 + a.a9_8*b.a9_1 + a.a10_8*b.a10_1 + a.a11_8*b.a11_1 + a.a12_8*b.a12_1;
+        c.a8_2 = a.a1_8*b.a1_2 + a.a2_8*b.a2_2 + a.a3_8*b.a3_2 + a.a4_8*b.a4_2 + a.a5_8*b.a5_2 + a.a6_8*b.a6_2 + a.a7_8*b.a7_2 + a.a8_8*b.a8_2 + a.a9_8*b.a9_2 + a.a10_8*b.a10_2 + a.a11_8*b.a11_2 + a.a12_8*b.a12_2;
+        c.a8_3 = a.a1_8*b.a1_3 + a.a2_8*b.a2_3 + a.a3_8*b.a3_3 + a.a4_8*b.a4_3 + a.a5_8*b.a5_3 + a.a6_8*b.a6_3 + a.a7_8*b.a7_3 + a.a8_8*b.a8_3 + a.a9_8*b.a9_3 + a.a10_8*b.a10_3 + a.a11_8*b.a11_3 + a.a12_8*b.a12_3;
+        c.a8_4 = a.a1_8*b.a1_4 + a.a2_8*b.a2_4 + a.a3_8*b.a3_4 + a.a4_8*b.a4_4 + a.a5_8*b.a5_4 + a.a6_8*b.a6_4 + a.a7_8*b.a7_4 + a.a8_8*b.a8_4 + a.a9_8*b.a9_4 + a.a10_8*b.a10_4 + a.a11_8*b.a11_4 + a.a12_8*b.a12_4;
+        c.a8_5 = a.a1_8*b.a1_5 + a.a2_8*b.a2_5 + a.a3_8*b.a3_5 + a.a4_8*b.a4_5 + a.a5_8*b.a5_5 + a.a6_8*b.a6_5 + a.a7_8*b.a7_5 + a.a8_8*b.a8_5 + a.a9_8*b.a9_5 + a.a10_8*b.a10_5 + a.a11_8*b.a11_5 + a.a12_8*b.a12_5;
+        c.a8_6 = a.a1_8*b.a1_6 + a.a2_8*b.a2_6 + a.a3_8*b.a3_6 + a.a4_8*b.a4_6 + a.a5_8*b.a5_6 + a.a6_8*b.a6_6 + a.a7_8*b.a7_6 + a.a8_8*b.a8_6 + a.a9_8*b.a9_6 + a.a10_8*b.a10_6 + a.a11_8*b.a11_6 + a.a12_8*b.a12_6;
+        c.a8_7 = a.a1_8*b.a1_7 + a.a2_8*b.a2_7 + a.a3_8*b.a3_7 + a.a4_8*b.a4_7 + a.a5_8*b.a5_7 + a.a6_8*b.a6_7 + a.a7_8*b.a7_7 + a.a8_8*b.a8_7 + a.a9_8*b.a9_7 + a.a10_8*b.a10_7 + a.a11_8*b.a11_7 + a.a12_8*b.a12_7;
+        c.a8_8 = a.a1_8*b.a1_8 + a.a2_8*b.a2_8 + a.a3_8*b.a3_8 + a.a4_8*b.a4_8 + a.a5_8*b.a5_8 + a.a6_8*b.a6_8 + a.a7_8*b.a7_8 + a.a8_8*b.a8_8 + a.a9_8*b.a9_8 + a.a10_8*b.a10_8 + a.a11_8*b.a11_8 + a.a12_8*b.a12_8;
+        c.a8_9 = a.a1_8*b.a1_9 + a.a2_8*b.a2_9 + a.a3_8*b.a3_9 + a.a4_8*b.a4_9 + a.a5_8*b.a5_9 + a.a6_8*b.a6_9 + a.a7_8*b.a7_9 + a.a8_8*b.a8_9 + a.a9_8*b.a9_9 + a.a10_8*b.a10_9 + a.a11_8*b.a11_9 + a.a12_8*b.a12_9;
+        c.a8_10 = a.a1_8*b.a1_10 + a.a2_8*b.a2_10 + a.a3_8*b.a3_10 + a.a4_8*b.a4_10 + a.a5_8*b.a5_10 + a.a6_8*b.a6_10 + a.a7_8*b.a7_10 + a.a8_8*b.a8_10 + a.a9_8*b.a9_10 + a.a10_8*b.a10_10 + a.a11_8*b.a11_10 + a.a12_8*b.a12_10;
+        c.a8_11 = a.a1_8*b.a1_11 + a.a2_8*b.a2_11 + a.a3_8*b.a3_11 + a.a4_8*b.a4_11 + a.a5_8*b.a5_11 + a.a6_8*b.a6_11 + a.a7_8*b.a7_11 + a.a8_8*b.a8_11 + a.a9_8*b.a9_11 + a.a10_8*b.a10_11 + a.a11_8*b.a11_11 + a.a12_8*b.a12_11;
+        c.a8_12 = a.a1_8*b.a1_12 + a.a2_8*b.a2_12 + a.a3_8*b.a3_12 + a.a4_8*b.a4_12 + a.a5_8*b.a5_12 + a.a6_8*b.a6_12 + a.a7_8*b.a7_12 + a.a8_8*b.a8_12 + a.a9_8*b.a9_12 + a.a10_8*b.a10_12 + a.a11_8*b.a11_12 + a.a12_8*b.a12_12;
+        c.a9_1 = a.a1_9*b.a1_1 + a.a2_9*b.a2_1 + a.a3_9*b.a3_1 + a.a4_9*b.a4_1 + a.a5_9*b.a5_1 + a.a6_9*b.a6_1 + a.a7_9*b.a7_1 + a.a8_9*b.a8_1 + a.a9_9*b.a9_1 + a.a10_9*b.a10_1 + a.a11_9*b.a11_1 + a.a12_9*b.a12_1;
+        c.a9_2 = a.a1_9*b.a1_2 + a.a2_9*b.a2_2 + a.a3_9*b.a3_2 + a.a4_9*b.a4_2 + a.a5_9*b.a5_2 + a.a6_9*b.a6_2 + a.a7_9*b.a7_2 + a.a8_9*b.a8_2 + a.a9_9*b.a9_2 + a.a10_9*b.a10_2 + a.a11_9*b.a11_2 + a.a12_9*b.a12_2;
+        c.a9_3 = a.a1_9*b.a1_3 + a.a2_9*b.a2_3 + a.a3_9*b.a3_3 + a.a4_9*b.a4_3 + a.a5_9*b.a5_3 + a.a6_9*b.a6_3 + a.a7_9*b.a7_3 + a.a8_9*b.a8_3 + a.a9_9*b.a9_3 + a.a10_9*b.a10_3 + a.a11_9*b.a11_3 + a.a12_9*b.a12_3;
+        c.a9_4 = a.a1_9*b.a1_4 + a.a2_9*b.a2_4 + a.a3_9*b.a3_4 + a.a4_9*b.a4_4 + a.a5_9*b.a5_4 + a.a6_9*b.a6_4 + a.a7_9*b.a7_4 + a.a8_9*b.a8_4 + a.a9_9*b.a9_4 + a.a10_9*b.a10_4 + a.a11_9*b.a11_4 + a.a12_9*b.a12_4;
+        c.a9_5 = a.a1_9*b.a1_5 + a.a2_9*b.a2_5 + a.a3_9*b.a3_5 + a.a4_9*b.a4_5 + a.a5_9*b.a5_5 + a.a6_9*b.a6_5 + a.a7_9*b.a7_5 + a.a8_9*b.a8_5 + a.a9_9*b.a9_5 + a.a10_9*b.a10_5 + a.a11_9*b.a11_5 + a.a12_9*b.a12_5;
+        c.a9_6 = a.a1_9*b.a1_6 + a.a2_9*b.a2_6 + a.a3_9*b.a3_6 + a.a4_9*b.a4_6 + a.a5_9*b.a5_6 + a.a6_9*b.a6_6 + a.a7_9*b.a7_6 + a.a8_9*b.a8_6 + a.a9_9*b.a9_6 + a.a10_9*b.a10_6 + a.a11_9*b.a11_6 + a.a12_9*b.a12_6;
+        c.a9_7 = a.a1_9*b.a1_7 + a.a2_9*b.a2_7 + a.a3_9*b.a3_7 + a.a4_9*b.a4_7 + a.a5_9*b.a5_7 + a.a6_9*b.a6_7 + a.a7_9*b.a7_7 + a.a8_9*b.a8_7 + a.a9_9*b.a9_7 + a.a10_9*b.a10_7 + a.a11_9*b.a11_7 + a.a12_9*b.a12_7;
+        c.a9_8 = a.a1_9*b.a1_8 + a.a2_9*b.a2_8 + a.a3_9*b.a3_8 + a.a4_9*b.a4_8 + a.a5_9*b.a5_8 + a.a6_9*b.a6_8 + a.a7_9*b.a7_8 + a.a8_9*b.a8_8 + a.a9_9*b.a9_8 + a.a10_9*b.a10_8 + a.a11_9*b.a11_8 + a.a12_9*b.a12_8;
+        c.a9_9 = a.a1_9*b.a1_9 + a.a2_9*b.a2_9 + a.a3_9*b.a3_9 + a.a4_9*b.a4_9 + a.a5_9*b.a5_9 + a.a6_9*b.a6_9 + a.a7_9*b.a7_9 + a.a8_9*b.a8_9 + a.a9_9*b.a9_9 + a.a10_9*b.a10_9 + a.a11_9*b.a11_9 + a.a12_9*b.a12_9;
+        c.a9_10 = a.a1_9*b.a1_10 + a.a2_9*b.a2_10 + a.a3_9*b.a3_10 + a.a4_9*b.a4_10 + a.a5_9*b.a5_10 + a.a6_9*b.a6_10 + a.a7_9*b.a7_10 + a.a8_9*b.a8_10 + a.a9_9*b.a9_10 + a.a10_9*b.a10_10 + a.a11_9*b.a11_10 + a.a12_9*b.a12_10;
+        c.a9_11 = a.a1_9*b.a1_11 + a.a2_9*b.a2_11 + a.a3_9*b.a3_11 + a.a4_9*b.a4_11 + a.a5_9*b.a5_11 + a.a6_9*b.a6_11 + a.a7_9*b.a7_11 + a.a8_9*b.a8_11 + a.a9_9*b.a9_11 + a.a10_9*b.a10_11 + a.a11_9*b.a11_11 + a.a12_9*b.a12_11;
+        c.a9_12 = a.a1_9*b.a1_12 + a.a2_9*b.a2_12 + a.a3_9*b.a3_12 + a.a4_9*b.a4_12 + a.a5_9*b.a5_12 + a.a6_9*b.a6_12 + a.a7_9*b.a7_12 + a.a8_9*b.a8_12 + a.a9_9*b.a9_12 + a.a10_9*b.a10_12 + a.a11_9*b.a11_12 + a.a12_9*b.a12_12;
+        c.a10_1 = a.a1_10*b.a1_1 + a.a2_10*b.a2_1 + a.a3_10*b.a3_1 + a.a4_10*b.a4_1 + a.a5_10*b.a5_1 + a.a6_10*b.a6_1 + a.a7_10*b.a7_1 + a.a8_10*b.a8_1 + a.a9_10*b.a9_1 + a.a10_10*b.a10_1 + a.a11_10*b.a11_1 + a.a12_10*b.a12_1;
+        c.a10_2 = a.a1_10*b.a1_2 + a.a2_10*b.a2_2 + a.a3_10*b.a3_2 + a.a4_10*b.a4_2 + a.a5_10*b.a5_2 + a.a6_10*b.a6_2 + a.a7_10*b.a7_2 + a.a8_10*b.a8_2 + a.a9_10*b.a9_2 + a.a10_10*b.a10_2 + a.a11_10*b.a11_2 + a.a12_10*b.a12_2;
+        c.a10_3 = a.a1_10*b.a1_3 + a.a2_10*b.a2_3 + a.a3_10*b.a3_3 + a.a4_10*b.a4_3 + a.a5_10*b.a5_3 + a.a6_10*b.a6_3 + a.a7_10*b.a7_3 + a.a8_10*b.a8_3 + a.a9_10*b.a9_3 + a.a10_10*b.a10_3 + a.a11_10*b.a11_3 + a.a12_10*b.a12_3;
+        c.a10_4 = a.a1_10*b.a1_4 + a.a2_10*b.a2_4 + a.a3_10*b.a3_4 + a.a4_10*b.a4_4 + a.a5_10*b.a5_4 + a.a6_10*b.a6_4 + a.a7_10*b.a7_4 + a.a8_10*b.a8_4 + a.a9_10*b.a9_4 + a.a10_10*b.a10_4 + a.a11_10*b.a11_4 + a.a12_10*b.a12_4;
+        c.a10_5 = a.a1_10*b.a1_5 + a.a2_10*b.a2_5 + a.a3_10*b.a3_5 + a.a4_10*b.a4_5 + a.a5_10*b.a5_5 + a.a6_10*b.a6_5 + a.a7_10*b.a7_5 + a.a8_10*b.a8_5 + a.a9_10*b.a9_5 + a.a10_10*b.a10_5 + a.a11_10*b.a11_5 + a.a12_10*b.a12_5;
+        c.a10_6 = a.a1_10*b.a1_6 + a.a2_10*b.a2_6 + a.a3_10*b.a3_6 + a.a4_10*b.a4_6 + a.a5_10*b.a5_6 + a.a6_10*b.a6_6 + a.a7_10*b.a7_6 + a.a8_10*b.a8_6 + a.a9_10*b.a9_6 + a.a10_10*b.a10_6 + a.a11_10*b.a11_6 + a.a12_10*b.a12_6;
+        c.a10_7 = a.a1_10*b.a1_7 + a.a2_10*b.a2_7 + a.a3_10*b.a3_7 + a.a4_10*b.a4_7 + a.a5_10*b.a5_7 + a.a6_10*b.a6_7 + a.a7_10*b.a7_7 + a.a8_10*b.a8_7 + a.a9_10*b.a9_7 + a.a10_10*b.a10_7 + a.a11_10*b.a11_7 + a.a12_10*b.a12_7;
+        c.a10_8 = a.a1_10*b.a1_8 + a.a2_10*b.a2_8 + a.a3_10*b.a3_8 + a.a4_10*b.a4_8 + a.a5_10*b.a5_8 + a.a6_10*b.a6_8 + a.a7_10*b.a7_8 + a.a8_10*b.a8_8 + a.a9_10*b.a9_8 + a.a10_10*b.a10_8 + a.a11_10*b.a11_8 + a.a12_10*b.a12_8;
+        c.a10_9 = a.a1_10*b.a1_9 + a.a2_10*b.a2_9 + a.a3_10*b.a3_9 + a.a4_10*b.a4_9 + a.a5_10*b.a5_9 + a.a6_10*b.a6_9 + a.a7_10*b.a7_9 + a.a8_10*b.a8_9 + a.a9_10*b.a9_9 + a.a10_10*b.a10_9 + a.a11_10*b.a11_9 + a.a12_10*b.a12_9;
+        c.a10_10 = a.a1_10*b.a1_10 + a.a2_10*b.a2_10 + a.a3_10*b.a3_10 + a.a4_10*b.a4_10 + a.a5_10*b.a5_10 + a.a6_10*b.a6_10 + a.a7_10*b.a7_10 + a.a8_10*b.a8_10 + a.a9_10*b.a9_10 + a.a10_10*b.a10_10 + a.a11_10*b.a11_10 + a.a12_10*b.a12_10;
+        c.a10_11 = a.a1_10*b.a1_11 + a.a2_10*b.a2_11 + a.a3_10*b.a3_11 + a.a4_10*b.a4_11 + a.a5_10*b.a5_11 + a.a6_10*b.a6_11 + a.a7_10*b.a7_11 + a.a8_10*b.a8_11 + a.a9_10*b.a9_11 + a.a10_10*b.a10_11 + a.a11_10*b.a11_11 + a.a12_10*b.a12_11;
+        c.a10_12 = a.a1_10*b.a1_12 + a.a2_10*b.a2_12 + a.a3_10*b.a3_12 + a.a4_10*b.a4_12 + a.a5_10*b.a5_12 + a.a6_10*b.a6_12 + a.a7_10*b.a7_12 + a.a8_10*b.a8_12 + a.a9_10*b.a9_12 + a.a10_10*b.a10_12 + a.a11_10*b.a11_12 + a.a12_10*b.a12_12;
+    }
+
+    private static void multTransA_rows11to12( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a11_1 = a.a1_11*b.a1_1 + a.a2_11*b.a2_1 + a.a3_11*b.a3_1 + a.a4_11*b.a4_1 + a.a5_11*b.a5_1 + a.a6_11*b.a6_1 + a.a7_11*b.a7_1 + a.a8_11*b.a8_1 + a.a9_11*b.a9_1 + a.a10_11*b.a10_1 + a.a11_11*b.a11_1 + a.a12_11*b.a12_1;
+        c.a11_2 = a.a1_11*b.a1_2 + a.a2_11*b.a2_2 + a.a3_11*b.a3_2 + a.a4_11*b.a4_2 + a.a5_11*b.a5_2 + a.a6_11*b.a6_2 + a.a7_11*b.a7_2 + a.a8_11*b.a8_2 + a.a9_11*b.a9_2 + a.a10_11*b.a10_2 + a.a11_11*b.a11_2 + a.a12_11*b.a12_2;
+        c.a11_3 = a.a1_11*b.a1_3 + a.a2_11*b.a2_3 + a.a3_11*b.a3_3 + a.a4_11*b.a4_3 + a.a5_11*b.a5_3 + a.a6_11*b.a6_3 + a.a7_11*b.a7_3 + a.a8_11*b.a8_3 + a.a9_11*b.a9_3 + a.a10_11*b.a10_3 + a.a11_11*b.a11_3 + a.a12_11*b.a12_3;
+        c.a11_4 = a.a1_11*b.a1_4 + a.a2_11*b.a2_4 + a.a3_11*b.a3_4 + a.a4_11*b.a4_4 + a.a5_11*b.a5_4 + a.a6_11*b.a6_4 + a.a7_11*b.a7_4 + a.a8_11*b.a8_4 + a.a9_11*b.a9_4 + a.a10_11*b.a10_4 + a.a11_11*b.a11_4 + a.a12_11*b.a12_4;
+        c.a11_5 = a.a1_11*b.a1_5 + a.a2_11*b.a2_5 + a.a3_11*b.a3_5 + a.a4_11*b.a4_5 + a.a5_11*b.a5_5 + a.a6_11*b.a6_5 + a.a7_11*b.a7_5 + a.a8_11*b.a8_5 + a.a9_11*b.a9_5 + a.a10_11*b.a10_5 + a.a11_11*b.a11_5 + a.a12_11*b.a12_5;
+        c.a11_6 = a.a1_11*b.a1_6 + a.a2_11*b.a2_6 + a.a3_11*b.a3_6 + a.a4_11*b.a4_6 + a.a5_11*b.a5_6 + a.a6_11*b.a6_6 + a.a7_11*b.a7_6 + a.a8_11*b.a8_6 + a.a9_11*b.a9_6 + a.a10_11*b.a10_6 + a.a11_11*b.a11_6 + a.a12_11*b.a12_6;
+        c.a11_7 = a.a1_11*b.a1_7 + a.a2_11*b.a2_7 + a.a3_11*b.a3_7 + a.a4_11*b.a4_7 + a.a5_11*b.a5_7 + a.a6_11*b.a6_7 + a.a7_11*b.a7_7 + a.a8_11*b.a8_7 + a.a9_11*b.a9_7 + a.a10_11*b.a10_7 + a.a11_11*b.a11_7 + a.a12_11*b.a12_7;
+        c.a11_8 = a.a1_11*b.a1_8 + a.a2_11*b.a2_8 + a.a3_11*b.a3_8 + a.a4_11*b.a4_8 + a.a5_11*b.a5_8 + a.a6_11*b.a6_8 + a.a7_11*b.a7_8 + a.a8_11*b.a8_8 + a.a9_11*b.a9_8 + a.a10_11*b.a10_8 + a.a11_11*b.a11_8 + a.a12_11*b.a12_8;
+        c.a11_9 = a.a1_11*b.a1_9 + a.a2_11*b.a2_9 + a.a3_11*b.a3_9 + a.a4_11*b.a4_9 + a.a5_11*b.a5_9 + a.a6_11*b.a6_9 + a.a7_11*b.a7_9 + a.a8_11*b.a8_9 + a.a9_11*b.a9_9 + a.a10_11*b.a10_9 + a.a11_11*b.a11_9 + a.a12_11*b.a12_9;
+        c.a11_10 = a.a1_11*b.a1_10 + a.a2_11*b.a2_10 + a.a3_11*b.a3_10 + a.a4_11*b.a4_10 + a.a5_11*b.a5_10 + a.a6_11*b.a6_10 + a.a7_11*b.a7_10 + a.a8_11*b.a8_10 + a.a9_11*b.a9_10 + a.a10_11*b.a10_10 + a.a11_11*b.a11_10 + a.a12_11*b.a12_10;
+        c.a11_11 = a.a1_11*b.a1_11 + a.a2_11*b.a2_11 + a.a3_11*b.a3_11 + a.a4_11*b.a4_11 + a.a5_11*b.a5_11 + a.a6_11*b.a6_11 + a.a7_11*b.a7_11 + a.a8_11*b.a8_11 + a.a9_11*b.a9_11 + a.a10_11*b.a10_11 + a.a11_11*b.a11_11 + a.a12_11*b.a12_11;
+        c.a11_12 = a.a1_11*b.a1_12 + a.a2_11*b.a2_12 + a.a3_11*b.a3_12 + a.a4_11*b.a4_12 + a.a5_11*b.a5_12 + a.a6_11*b.a6_12 + a.a7_11*b.a7_12 + a.a8_11*b.a8_12 + a.a9_11*b.a9_12 + a.a10_11*b.a10_12 + a.a11_11*b.a11_12 + a.a12_11*b.a12_12;
+        c.a12_1 = a.a1_12*b.a1_1 + a.a2_12*b.a2_1 + a.a3_12*b.a3_1 + a.a4_12*b.a4_1 + a.a5_12*b.a5_1 + a.a6_12*b.a6_1 + a.a7_12*b.a7_1 + a.a8_12*b.a8_1 + a.a9_12*b.a9_1 + a.a10_12*b.a10_1 + a.a11_12*b.a11_1 + a.a12_12*b.a12_1;
+        c.a12_2 = a.a1_12*b.a1_2 + a.a2_12*b.a2_2 + a.a3_12*b.a3_2 + a.a4_12*b.a4_2 + a.a5_12*b.a5_2 + a.a6_12*b.a6_2 + a.a7_12*b.a7_2 + a.a8_12*b.a8_2 + a.a9_12*b.a9_2 + a.a10_12*b.a10_2 + a.a11_12*b.a11_2 + a.a12_12*b.a12_2;
+        c.a12_3 = a.a1_12*b.a1_3 + a.a2_12*b.a2_3 + a.a3_12*b.a3_3 + a.a4_12*b.a4_3 + a.a5_12*b.a5_3 + a.a6_12*b.a6_3 + a.a7_12*b.a7_3 + a.a8_12*b.a8_3 + a.a9_12*b.a9_3 + a.a10_12*b.a10_3 + a.a11_12*b.a11_3 + a.a12_12*b.a12_3;
+        c.a12_4 = a.a1_12*b.a1_4 + a.a2_12*b.a2_4 + a.a3_12*b.a3_4 + a.a4_12*b.a4_4 + a.a5_12*b.a5_4 + a.a6_12*b.a6_4 + a.a7_12*b.a7_4 + a.a8_12*b.a8_4 + a.a9_12*b.a9_4 + a.a10_12*b.a10_4 + a.a11_12*b.a11_4 + a.a12_12*b.a12_4;
+        c.a12_5 = a.a1_12*b.a1_5 + a.a2_12*b.a2_5 + a.a3_12*b.a3_5 + a.a4_12*b.a4_5 + a.a5_12*b.a5_5 + a.a6_12*b.a6_5 + a.a7_12*b.a7_5 + a.a8_12*b.a8_5 + a.a9_12*b.a9_5 + a.a10_12*b.a10_5 + a.a11_12*b.a11_5 + a.a12_12*b.a12_5;
+        c.a12_6 = a.a1_12*b.a1_6 + a.a2_12*b.a2_6 + a.a3_12*b.a3_6 + a.a4_12*b.a4_6 + a.a5_12*b.a5_6 + a.a6_12*b.a6_6 + a.a7_12*b.a7_6 + a.a8_12*b.a8_6 + a.a9_12*b.a9_6 + a.a10_12*b.a10_6 + a.a11_12*b.a11_6 + a.a12_12*b.a12_6;
+        c.a12_7 = a.a1_12*b.a1_7 + a.a2_12*b.a2_7 + a.a3_12*b.a3_7 + a.a4_12*b.a4_7 + a.a5_12*b.a5_7 + a.a6_12*b.a6_7 + a.a7_12*b.a7_7 + a.a8_12*b.a8_7 + a.a9_12*b.a9_7 + a.a10_12*b.a10_7 + a.a11_12*b.a11_7 + a.a12_12*b.a12_7;
+        c.a12_8 = a.a1_12*b.a1_8 + a.a2_12*b.a2_8 + a.a3_12*b.a3_8 + a.a4_12*b.a4_8 + a.a5_12*b.a5_8 + a.a6_12*b.a6_8 + a.a7_12*b.a7_8 + a.a8_12*b.a8_8 + a.a9_12*b.a9_8 + a.a10_12*b.a10_8 + a.a11_12*b.a11_8 + a.a12_12*b.a12_8;
+        c.a12_9 = a.a1_12*b.a1_9 + a.a2_12*b.a2_9 + a.a3_12*b.a3_9 + a.a4_12*b.a4_9 + a.a5_12*b.a5_9 + a.a6_12*b.a6_9 + a.a7_12*b.a7_9 + a.a8_12*b.a8_9 + a.a9_12*b.a9_9 + a.a10_12*b.a10_9 + a.a11_12*b.a11_9 + a.a12_12*b.a12_9;
+        c.a12_10 = a.a1_12*b.a1_10 + a.a2_12*b.a2_10 + a.a3_12*b.a3_10 + a.a4_12*b.a4_10 + a.a5_12*b.a5_10 + a.a6_12*b.a6_10 + a.a7_12*b.a7_10 + a.a8_12*b.a8_10 + a.a9_12*b.a9_10 + a.a10_12*b.a10_10 + a.a11_12*b.a11_10 + a.a12_12*b.a12_10;
+        c.a12_11 = a.a1_12*b.a1_11 + a.a2_12*b.a2_11 + a.a3_12*b.a3_11 + a.a4_12*b.a4_11 + a.a5_12*b.a5_11 + a.a6_12*b.a6_11 + a.a7_12*b.a7_11 + a.a8_12*b.a8_11 + a.a9_12*b.a9_11 + a.a10_12*b.a10_11 + a.a11_12*b.a11_11 + a.a12_12*b.a12_11;
+        c.a12_12 = a.a1_12*b.a1_12 + a.a2_12*b.a2_12 + a.a3_12*b.a3_12 + a.a4_12*b.a4_12 + a.a5_12*b.a5_12 + a.a6_12*b.a6_12 + a.a7_12*b.a7_12 + a.a8_12*b.a8_12 + a.a9_12*b.a9_12 + a.a10_12*b.a10_12 + a.a11_12*b.a11_12 + a.a12_12*b.a12_12;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        multTransAB_rows1to5(a,b,c);
+        multTransAB_rows6to10(a,b,c);
+        multTransAB_rows11to12(a,b,c);
+    }
+
+    private static void multTransAB_rows1to5( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a1_1 = a.a1_1*b.a1_1 + a.a2_1*b.a1_2 + a.a3_1*b.a1_3 + a.a4_1*b.a1_4 + a.a5_1*b.a1_5 + a.a6_1*b.a1_6 + a.a7_1*b.a1_7 + a.a8_1*b.a1_8 + a.a9_1*b.a1_9 + a.a10_1*b.a1_10 + a.a11_1*b.a1_11 + a.a12_1*b.a1_12;
+        c.a1_2 = a.a1_1*b.a2_1 + a.a2_1*b.a2_2 + a.a3_1*b.a2_3 + a.a4_1*b.a2_4 + a.a5_1*b.a2_5 + a.a6_1*b.a2_6 + a.a7_1*b.a2_7 + a.a8_1*b.a2_8 + a.a9_1*b.a2_9 + a.a10_1*b.a2_10 + a.a11_1*b.a2_11 + a.a12_1*b.a2_12;
+        c.a1_3 = a.a1_1*b.a3_1 + a.a2_1*b.a3_2 + a.a3_1*b.a3_3 + a.a4_1*b.a3_4 + a.a5_1*b.a3_5 + a.a6_1*b.a3_6 + a.a7_1*b.a3_7 + a.a8_1*b.a3_8 + a.a9_1*b.a3_9 + a.a10_1*b.a3_10 + a.a11_1*b.a3_11 + a.a12_1*b.a3_12;
+        c.a1_4 = a.a1_1*b.a4_1 + a.a2_1*b.a4_2 + a.a3_1*b.a4_3 + a.a4_1*b.a4_4 + a.a5_1*b.a4_5 + a.a6_1*b.a4_6 + a.a7_1*b.a4_7 + a.a8_1*b.a4_8 + a.a9_1*b.a4_9 + a.a10_1*b.a4_10 + a.a11_1*b.a4_11 + a.a12_1*b.a4_12;
+        c.a1_5 = a.a1_1*b.a5_1 + a.a2_1*b.a5_2 + a.a3_1*b.a5_3 + a.a4_1*b.a5_4 + a.a5_1*b.a5_5 + a.a6_1*b.a5_6 + a.a7_1*b.a5_7 + a.a8_1*b.a5_8 + a.a9_1*b.a5_9 + a.a10_1*b.a5_10 + a.a11_1*b.a5_11 + a.a12_1*b.a5_12;
+        c.a1_6 = a.a1_1*b.a6_1 + a.a2_1*b.a6_2 + a.a3_1*b.a6_3 + a.a4_1*b.a6_4 + a.a5_1*b.a6_5 + a.a6_1*b.a6_6 + a.a7_1*b.a6_7 + a.a8_1*b.a6_8 + a.a9_1*b.a6_9 + a.a10_1*b.a6_10 + a.a11_1*b.a6_11 + a.a12_1*b.a6_12;
+        c.a1_7 = a.a1_1*b.a7_1 + a.a2_1*b.a7_2 + a.a3_1*b.a7_3 + a.a4_1*b.a7_4 + a.a5_1*b.a7_5 + a.a6_1*b.a7_6 + a.a7_1*b.a7_7 + a.a8_1*b.a7_8 + a.a9_1*b.a7_9 + a.a10_1*b.a7_10 + a.a11_1*b.a7_11 + a.a12_1*b.a7_12;
+        c.a1_8 = a.a1_1*b.a8_1 + a.a2_1*b.a8_2 + a.a3_1*b.a8_3 + a.a4_1*b.a8_4 + a.a5_1*b.a8_5 + a.a6_1*b.a8_6 + a.a7_1*b.a8_7 + a.a8_1*b.a8_8 + a.a9_1*b.a8_9 + a.a10_1*b.a8_10 + a.a11_1*b.a8_11 + a.a12_1*b.a8_12;
+        c.a1_9 = a.a1_1*b.a9_1 + a.a2_1*b.a9_2 + a.a3_1*b.a9_3 + a.a4_1*b.a9_4 + a.a5_1*b.a9_5 + a.a6_1*b.a9_6 + a.a7_1*b.a9_7 + a.a8_1*b.a9_8 + a.a9_1*b.a9_9 + a.a10_1*b.a9_10 + a.a11_1*b.a9_11 + a.a12_1*b.a9_12;
+        c.a1_10 = a.a1_1*b.a10_1 + a.a2_1*b.a10_2 + a.a3_1*b.a10_3 + a.a4_1*b.a10_4 + a.a5_1*b.a10_5 + a.a6_1*b.a10_6 + a.a7_1*b.a10_7 + a.a8_1*b.a10_8 + a.a9_1*b.a10_9 + a.a10_1*b.a10_10 + a.a11_1*b.a10_11 + a.a12_1*b.a10_12;
+        c.a1_11 = a.a1_1*b.a11_1 + a.a2_1*b.a11_2 + a.a3_1*b.a11_3 + a.a4_1*b.a11_4 + a.a5_1*b.a11_5 + a.a6_1*b.a11_6 + a.a7_1*b.a11_7 + a.a8_1*b.a11_8 + a.a9_1*b.a11_9 + a.a10_1*b.a11_10 + a.a11_1*b.a11_11 + a.a12_1*b.a11_12;
+        c.a1_12 = a.a1_1*b.a12_1 + a.a2_1*b.a12_2 + a.a3_1*b.a12_3 + a.a4_1*b.a12_4 + a.a5_1*b.a12_5 + a.a6_1*b.a12_6 + a.a7_1*b.a12_7 + a.a8_1*b.a12_8 + a.a9_1*b.a12_9 + a.a10_1*b.a12_10 + a.a11_1*b.a12_11 + a.a12_1*b.a12_12;
+        c.a2_1 = a.a1_2*b.a1_1 + a.a2_2*b.a1_2 + a.a3_2*b.a1_3 + a.a4_2*b.a1_4 + a.a5_2*b.a1_5 + a.a6_2*b.a1_6 + a.a7_2*b.a1_7 + a.a8_2*b.a1_8 + a.a9_2*b.a1_9 + a.a10_2*b.a1_10 + a.a11_2*b.a1_11 + a.a12_2*b.a1_12;
+        c.a2_2 = a.a1_2*b.a2_1 + a.a2_2*b.a2_2 + a.a3_2*b.a2_3 + a.a4_2*b.a2_4 + a.a5_2*b.a2_5 + a.a6_2*b.a2_6 + a.a7_2*b.a2_7 + a.a8_2*b.a2_8 + a.a9_2*b.a2_9 + a.a10_2*b.a2_10 + a.a11_2*b.a2_11 + a.a12_2*b.a2_12;
+        c.a2_3 = a.a1_2*b.a3_1 + a.a2_2*b.a3_2 + a.a3_2*b.a3_3 + a.a4_2*b.a3_4 + a.a5_2*b.a3_5 + a.a6_2*b.a3_6 + a.a7_2*b.a3_7 + a.a8_2*b.a3_8 + a.a9_2*b.a3_9 + a.a10_2*b.a3_10 + a.a11_2*b.a3_11 + a.a12_2*b.a3_12;
+        c.a2_4 = a.a1_2*b.a4_1 + a.a2_2*b.a4_2 + a.a3_2*b.a4_3 + a.a4_2*b.a4_4 + a.a5_2*b.a4_5 + a.a6_2*b.a4_6 + a.a7_2*b.a4_7 + a.a8_2*b.a4_8 + a.a9_2*b.a4_9 + a.a10_2*b.a4_10 + a.a11_2*b.a4_11 + a.a12_2*b.a4_12;
+        c.a2_5 = a.a1_2*b.a5_1 + a.a2_2*b.a5_2 + a.a3_2*b.a5_3 + a.a4_2*b.a5_4 + a.a5_2*b.a5_5 + a.a6_2*b.a5_6 + a.a7_2*b.a5_7 + a.a8_2*b.a5_8 + a.a9_2*b.a5_9 + a.a10_2*b.a5_10 + a.a11_2*b.a5_11 + a.a12_2*b.a5_12;
+        c.a2_6 = a.a1_2*b.a6_1 + a.a2_2*b.a6_2 + a.a3_2*b.a6_3 + a.a4_2*b.a6_4 + a.a5_2*b.a6_5 + a.a6_2*b.a6_6 + a.a7_2*b.a6_7 + a.a8_2*b.a6_8 + a.a9_2*b.a6_9 + a.a10_2*b.a6_10 + a.a11_2*b.a6_11 + a.a12_2*b.a6_12;
+        c.a2_7 = a.a1_2*b.a7_1 + a.a2_2*b.a7_2 + a.a3_2*b.a7_3 + a.a4_2*b.a7_4 + a.a5_2*b.a7_5 + a.a6_2*b.a7_6 + a.a7_2*b.a7_7 + a.a8_2*b.a7_8 + a.a9_2*b.a7_9 + a.a10_2*b.a7_10 + a.a11_2*b.a7_11 + a.a12_2*b.a7_12;
+        c.a2_8 = a.a1_2*b.a8_1 + a.a2_2*b.a8_2 + a.a3_2*b.a8_3 + a.a4_2*b.a8_4 + a.a5_2*b.a8_5 + a.a6_2*b.a8_6 + a.a7_2*b.a8_7 + a.a8_2*b.a8_8 + a.a9_2*b.a8_9 + a.a10_2*b.a8_10 + a.a11_2*b.a8_11 + a.a12_2*b.a8_12;
+        c.a2_9 = a.a1_2*b.a9_1 + a.a2_2*b.a9_2 + a.a3_2*b.a9_3 + a.a4_2*b.a9_4 + a.a5_2*b.a9_5 + a.a6_2*b.a9_6 + a.a7_2*b.a9_7 + a.a8_2*b.a9_8 + a.a9_2*b.a9_9 + a.a10_2*b.a9_10 + a.a11_2*b.a9_11 + a.a12_2*b.a9_12;
+        c.a2_10 = a.a1_2*b.a10_1 + a.a2_2*b.a10_2 + a.a3_2*b.a10_3 + a.a4_2*b.a10_4 + a.a5_2*b.a10_5 + a.a6_2*b.a10_6 + a.a7_2*b.a10_7 + a.a8_2*b.a10_8 + a.a9_2*b.a10_9 + a.a10_2*b.a10_10 + a.a11_2*b.a10_11 + a.a12_2*b.a10_12;
+        c.a2_11 = a.a1_2*b.a11_1 + a.a2_2*b.a11_2 + a.a3_2*b.a11_3 + a.a4_2*b.a11_4 + a.a5_2*b.a11_5 + a.a6_2*b.a11_6 + a.a7_2*b.a11_7 + a.a8_2*b.a11_8 + a.a9_2*b.a11_9 + a.a10_2*b.a11_10 + a.a11_2*b.a11_11 + a.a12_2*b.a11_12;
+        c.a2_12 = a.a1_2*b.a12_1 + a.a2_2*b.a12_2 + a.a3_2*b.a12_3 + a.a4_2*b.a12_4 + a.a5_2*b.a12_5 + a.a6_2*b.a12_6 + a.a7_2*b.a12_7 + a.a8_2*b.a12_8 + a.a9_2*b.a12_9 + a.a10_2*b.a12_10 + a.a11_2*b.a12_11 + a.a12_2*b.a12_12;
+        c.a3_1 = a.a1_3*b.a1_1 + a.a2_3*b.a1_2 + a.a3_3*b.a1_3 + a.a4_3*b.a1_4 + a.a5_3*b.a1_5 + a.a6_3*b.a1_6 + a.a7_3*b.a1_7 + a.a8_3*b.a1_8 + a.a9_3*b.a1_9 + a.a10_3*b.a1_10 + a.a11_3*b.a1_11 + a.a12_3*b.a1_12;
+        c.a3_2 = a.a1_3*b.a2_1 + a.a2_3*b.a2_2 + a.a3_3*b.a2_3 + a.a4_3*b.a2_4 + a.a5_3*b.a2_5 + a.a6_3*b.a2_6 + a.a7_3*b.a2_7 + a.a8_3*b.a2_8 + a.a9_3*b.a2_9 + a.a10_3*b.a2_10 + a.a11_3*b.a2_11 + a.a12_3*b.a2_12;
+        c.a3_3 = a.a1_3*b.a3_1 + a.a2_3*b.a3_2 + a.a3_3*b.a3_3 + a.a4_3*b.a3_4 + a.a5_3*b.a3_5 + a.a6_3*b.a3_6 + a.a7_3*b.a3_7 + a.a8_3*b.a3_8 + a.a9_3*b.a3_9 + a.a10_3*b.a3_10 + a.a11_3*b.a3_11 + a.a12_3*b.a3_12;
+        c.a3_4 = a.a1_3*b.a4_1 + a.a2_3*b.a4_2 + a.a3_3*b.a4_3 + a.a4_3*b.a4_4 + a.a5_3*b.a4_5 + a.a6_3*b.a4_6 + a.a7_3*b.a4_7 + a.a8_3*b.a4_8 + a.a9_3*b.a4_9 + a.a10_3*b.a4_10 + a.a11_3*b.a4_11 + a.a12_3*b.a4_12;
+        c.a3_5 = a.a1_3*b.a5_1 + a.a2_3*b.a5_2 + a.a3_3*b.a5_3 + a.a4_3*b.a5_4 + a.a5_3*b.a5_5 + a.a6_3*b.a5_6 + a.a7_3*b.a5_7 + a.a8_3*b.a5_8 + a.a9_3*b.a5_9 + a.a10_3*b.a5_10 + a.a11_3*b.a5_11 + a.a12_3*b.a5_12;
+        c.a3_6 = a.a1_3*b.a6_1 + a.a2_3*b.a6_2 + a.a3_3*b.a6_3 + a.a4_3*b.a6_4 + a.a5_3*b.a6_5 + a.a6_3*b.a6_6 + a.a7_3*b.a6_7 + a.a8_3*b.a6_8 + a.a9_3*b.a6_9 + a.a10_3*b.a6_10 + a.a11_3*b.a6_11 + a.a12_3*b.a6_12;
+        c.a3_7 = a.a1_3*b.a7_1 + a.a2_3*b.a7_2 + a.a3_3*b.a7_3 + a.a4_3*b.a7_4 + a.a5_3*b.a7_5 + a.a6_3*b.a7_6 + a.a7_3*b.a7_7 + a.a8_3*b.a7_8 + a.a9_3*b.a7_9 + a.a10_3*b.a7_10 + a.a11_3*b.a7_11 + a.a12_3*b.a7_12;
+        c.a3_8 = a.a1_3*b.a8_1 + a.a2_3*b.a8_2 + a.a3_3*b.a8_3 + a.a4_3*b.a8_4 + a.a5_3*b.a8_5 + a.a6_3*b.a8_6 + a.a7_3*b.a8_7 + a.a8_3*b.a8_8 + a.a9_3*b.a8_9 + a.a10_3*b.a8_10 + a.a11_3*b.a8_11 + a.a12_3*b.a8_12;
+        c.a3_9 = a.a1_3*b.a9_1 + a.a2_3*b.a9_2 + a.a3_3*b.a9_3 + a.a4_3*b.a9_4 + a.a5_3*b.a9_5 + a.a6_3*b.a9_6 + a.a7_3*b.a9_7 + a.a8_3*b.a9_8 + a.a9_3*b.a9_9 + a.a10_3*b.a9_10 + a.a11_3*b.a9_11 + a.a12_3*b.a9_12;
+        c.a3_10 = a.a1_3*b.a10_1 + a.a2_3*b.a10_2 + a.a3_3*b.a10_3 + a.a4_3*b.a10_4 + a.a5_3*b.a10_5 + a.a6_3*b.a10_6 + a.a7_3*b.a10_7 + a.a8_3*b.a10_8 + a.a9_3*b.a10_9 + a.a10_3*b.a10_10 + a.a11_3*b.a10_11 + a.a12_3*b.a10_12;
+        c.a3_11 = a.a1_3*b.a11_1 + a.a2_3*b.a11_2 + a.a3_3*b.a11_3 + a.a4_3*b.a11_4 + a.a5_3*b.a11_5 + a.a6_3*b.a11_6 + a.a7_3*b.a11_7 + a.a8_3*b.a11_8 + a.a9_3*b.a11_9 + a.a10_3*b.a11_10 + a.a11_3*b.a11_11 + a.a12_3*b.a11_12;
+        c.a3_12 = a.a1_3*b.a12_1 + a.a2_3*b.a12_2 + a.a3_3*b.a12_3 + a.a4_3*b.a12_4 + a.a5_3*b.a12_5 + a.a6_3*b.a12_6 + a.a7_3*b.a12_7 + a.a8_3*b.a12_8 + a.a9_3*b.a12_9 + a.a10_3*b.a12_10 + a.a11_3*b.a12_11 + a.a12_3*b.a12_12;
+        c.a4_1 = a.a1_4*b.a1_1 + a.a2_4*b.a1_2 + a.a3_4*b.a1_3 + a.a4_4*b.a1_4 + a.a5_4*b.a1_5 + a.a6_4*b.a1_6 + a.a7_4*b.a1_7 + a.a8_4*b.a1_8 + a.a9_4*b.a1_9 + a.a10_4*b.a1_10 + a.a11_4*b.a1_11 + a.a12_4*b.a1_12;
+        c.a4_2 = a.a1_4*b.a2_1 + a.a2_4*b.a2_2 + a.a3_4*b.a2_3 + a.a4_4*b.a2_4 + a.a5_4*b.a2_5 + a.a6_4*b.a2_6 + a.a7_4*b.a2_7 + a.a8_4*b.a2_8 + a.a9_4*b.a2_9 + a.a10_4*b.a2_10 + a.a11_4*b.a2_11 + a.a12_4*b.a2_12;
+        c.a4_3 = a.a1_4*b.a3_1 + a.a2_4*b.a3_2 + a.a3_4*b.a3_3 + a.a4_4*b.a3_4 + a.a5_4*b.a3_5 + a.a6_4*b.a3_6 + a.a7_4*b.a3_7 + a.a8_4*b.a3_8 + a.a9_4*b.a3_9 + a.a10_4*b.a3_10 + a.a11_4*b.a3_11 + a.a12_4*b.a3_12;
+        c.a4_4 = a.a1_4*b.a4_1 + a.a2_4*b.a4_2 + a.a3_4*b.a4_3 + a.a4_4*b.a4_4 + a.a5_4*b.a4_5 + a.a6_4*b.a4_6 + a.a7_4*b.a4_7 + a.a8_4*b.a4_8 + a.a9_4*b.a4_9 + a.a10_4*b.a4_10 + a.a11_4*b.a4_11 + a.a12_4*b.a4_12;
+        c.a4_5 = a.a1_4*b.a5_1 + a.a2_4*b.a5_2 + a.a3_4*b.a5_3 + a.a4_4*b.a5_4 + a.a5_4*b.a5_5 + a.a6_4*b.a5_6 + a.a7_4*b.a5_7 + a.a8_4*b.a5_8 + a.a9_4*b.a5_9 + a.a10_4*b.a5_10 + a.a11_4*b.a5_11 + a.a12_4*b.a5_12;
+        c.a4_6 = a.a1_4*b.a6_1 + a.a2_4*b.a6_2 + a.a3_4*b.a6_3 + a.a4_4*b.a6_4 + a.a5_4*b.a6_5 + a.a6_4*b.a6_6 + a.a7_4*b.a6_7 + a.a8_4*b.a6_8 + a.a9_4*b.a6_9 + a.a10_4*b.a6_10 + a.a11_4*b.a6_11 + a.a12_4*b.a6_12;
+        c.a4_7 = a.a1_4*b.a7_1 + a.a2_4*b.a7_2 + a.a3_4*b.a7_3 + a.a4_4*b.a7_4 + a.a5_4*b.a7_5 + a.a6_4*b.a7_6 + a.a7_4*b.a7_7 + a.a8_4*b.a7_8 + a.a9_4*b.a7_9 + a.a10_4*b.a7_10 + a.a11_4*b.a7_11 + a.a12_4*b.a7_12;
+        c.a4_8 = a.a1_4*b.a8_1 + a.a2_4*b.a8_2 + a.a3_4*b.a8_3 + a.a4_4*b.a8_4 + a.a5_4*b.a8_5 + a.a6_4*b.a8_6 + a.a7_4*b.a8_7 + a.a8_4*b.a8_8 + a.a9_4*b.a8_9 + a.a10_4*b.a8_10 + a.a11_4*b.a8_11 + a.a12_4*b.a8_12;
+        c.a4_9 = a.a1_4*b.a9_1 + a.a2_4*b.a9_2 + a.a3_4*b.a9_3 + a.a4_4*b.a9_4 + a.a5_4*b.a9_5 + a.a6_4*b.a9_6 + a.a7_4*b.a9_7 + a.a8_4*b.a9_8 + a.a9_4*b.a9_9 + a.a10_4*b.a9_10 + a.a11_4*b.a9_11 + a.a12_4*b.a9_12;
+        c.a4_10 = a.a1_4*b.a10_1 + a.a2_4*b.a10_2 + a.a3_4*b.a10_3 + a.a4_4*b.a10_4 + a.a5_4*b.a10_5 + a.a6_4*b.a10_6 + a.a7_4*b.a10_7 + a.a8_4*b.a10_8 + a.a9_4*b.a10_9 + a.a10_4*b.a10_10 + a.a11_4*b.a10_11 + a.a12_4*b.a10_12;
+        c.a4_11 = a.a1_4*b.a11_1 + a.a2_4*b.a11_2 + a.a3_4*b.a11_3 + a.a4_4*b.a11_4 + a.a5_4*b.a11_5 + a.a6_4*b.a11_6 + a.a7_4*b.a11_7 + a.a8_4*b.a11_8 + a.a9_4*b.a11_9 + a.a10_4*b.a11_10 + a.a11_4*b.a11_11 + a.a12_4*b.a11_12;
+        c.a4_12 = a.a1_4*b.a12_1 + a.a2_4*b.a12_2 + a.a3_4*b.a12_3 + a.a4_4*b.a12_4 + a.a5_4*b.a12_5 + a.a6_4*b.a12_6 + a.a7_4*b.a12_7 + a.a8_4*b.a12_8 + a.a9_4*b.a12_9 + a.a10_4*b.a12_10 + a.a11_4*b.a12_11 + a.a12_4*b.a12_12;
+        c.a5_1 = a.a1_5*b.a1_1 + a.a2_5*b.a1_2 + a.a3_5*b.a1_3 + a.a4_5*b.a1_4 + a.a5_5*b.a1_5 + a.a6_5*b.a1_6 + a.a7_5*b.a1_7 + a.a8_5*b.a1_8 + a.a9_5*b.a1_9 + a.a10_5*b.a1_10 + a.a11_5*b.a1_11 + a.a12_5*b.a1_12;
+        c.a5_2 = a.a1_5*b.a2_1 + a.a2_5*b.a2_2 + a.a3_5*b.a2_3 + a.a4_5*b.a2_4 + a.a5_5*b.a2_5 + a.a6_5*b.a2_6 + a.a7_5*b.a2_7 + a.a8_5*b.a2_8 + a.a9_5*b.a2_9 + a.a10_5*b.a2_10 + a.a11_5*b.a2_11 + a.a12_5*b.a2_12;
+        c.a5_3 = a.a1_5*b.a3_1 + a.a2_5*b.a3_2 + a.a3_5*b.a3_3 + a.a4_5*b.a3_4 + a.a5_5*b.a3_5 + a.a6_5*b.a3_6 + a.a7_5*b.a3_7 + a.a8_5*b.a3_8 + a.a9_5*b.a3_9 + a.a10_5*b.a3_10 + a.a11_5*b.a3_11 + a.a12_5*b.a3_12;
+        c.a5_4 = a.a1_5*b.a4_1 + a.a2_5*b.a4_2 + a.a3_5*b.a4_3 + a.a4_5*b.a4_4 + a.a5_5*b.a4_5 + a.a6_5*b.a4_6 + a.a7_5*b.a4_7 + a.a8_5*b.a4_8 + a.a9_5*b.a4_9 + a.a10_5*b.a4_10 + a.a11_5*b.a4_11 + a.a12_5*b.a4_12;
+        c.a5_5 = a.a1_5*b.a5_1 + a.a2_5*b.a5_2 + a.a3_5*b.a5_3 + a.a4_5*b.a5_4 + a.a5_5*b.a5_5 + a.a6_5*b.a5_6 + a.a7_5*b.a5_7 + a.a8_5*b.a5_8 + a.a9_5*b.a5_9 + a.a10_5*b.a5_10 + a.a11_5*b.a5_11 + a.a12_5*b.a5_12;
+        c.a5_6 = a.a1_5*b.a6_1 + a.a2_5*b.a6_2 + a.a3_5*b.a6_3 + a.a4_5*b.a6_4 + a.a5_5*b.a6_5 + a.a6_5*b.a6_6 + a.a7_5*b.a6_7 + a.a8_5*b.a6_8 + a.a9_5*b.a6_9 + a.a10_5*b.a6_10 + a.a11_5*b.a6_11 + a.a12_5*b.a6_12;
+        c.a5_7 = a.a1_5*b.a7_1 + a.a2_5*b.a7_2 + a.a3_5*b.a7_3 + a.a4_5*b.a7_4 + a.a5_5*b.a7_5 + a.a6_5*b.a7_6 + a.a7_5*b.a7_7 + a.a8_5*b.a7_8 + a.a9_5*b.a7_9 + a.a10_5*b.a7_10 + a.a11_5*b.a7_11 + a.a12_5*b.a7_12;
+        c.a5_8 = a.a1_5*b.a8_1 + a.a2_5*b.a8_2 + a.a3_5*b.a8_3 + a.a4_5*b.a8_4 + a.a5_5*b.a8_5 + a.a6_5*b.a8_6 + a.a7_5*b.a8_7 + a.a8_5*b.a8_8 + a.a9_5*b.a8_9 + a.a10_5*b.a8_10 + a.a11_5*b.a8_11 + a.a12_5*b.a8_12;
+        c.a5_9 = a.a1_5*b.a9_1 + a.a2_5*b.a9_2 + a.a3_5*b.a9_3 + a.a4_5*b.a9_4 + a.a5_5*b.a9_5 + a.a6_5*b.a9_6 + a.a7_5*b.a9_7 + a.a8_5*b.a9_8 + a.a9_5*b.a9_9 + a.a10_5*b.a9_10 + a.a11_5*b.a9_11 + a.a12_5*b.a9_12;
+        c.a5_10 = a.a1_5*b.a10_1 + a.a2_5*b.a10_2 + a.a3_5*b.a10_3 + a.a4_5*b.a10_4 + a.a5_5*b.a10_5 + a.a6_5*b.a10_6 + a.a7_5*b.a10_7 + a.a8_5*b.a10_8 + a.a9_5*b.a10_9 + a.a10_5*b.a10_10 + a.a11_5*b.a10_11 + a.a12_5*b.a10_12;
+        c.a5_11 = a.a1_5*b.a11_1 + a.a2_5*b.a11_2 + a.a3_5*b.a11_3 + a.a4_5*b.a11_4 + a.a5_5*b.a11_5 + a.a6_5*b.a11_6 + a.a7_5*b.a11_7 + a.a8_5*b.a11_8 + a.a9_5*b.a11_9 + a.a10_5*b.a11_10 + a.a11_5*b.a11_11 + a.a12_5*b.a11_12;
+        c.a5_12 = a.a1_5*b.a12_1 + a.a2_5*b.a12_2 + a.a3_5*b.a12_3 + a.a4_5*b.a12_4 + a.a5_5*b.a12_5 + a.a6_5*b.a12_6 + a.a7_5*b.a12_7 + a.a8_5*b.a12_8 + a.a9_5*b.a12_9 + a.a10_5*b.a12_10 + a.a11_5*b.a12_11 + a.a12_5*b.a12_12;
+    }
+
+    private static void multTransAB_rows6to10( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a6_1 = a.a1_6*b.a1_1 + a.a2_6*b.a1_2 + a.a3_6*b.a1_3 + a.a4_6*b.a1_4 + a.a5_6*b.a1_5 + a.a6_6*b.a1_6 + a.a7_6*b.a1_7 + a.a8_6*b.a1_8 + a.a9_6*b.a1_9 + a.a10_6*b.a1_10 + a.a11_6*b.a1_11 + a.a12_6*b.a1_12;
+        c.a6_2 = a.a1_6*b.a2_1 + a.a2_6*b.a2_2 + a.a3_6*b.a2_3 + a.a4_6*b.a2_4 + a.a5_6*b.a2_5 + a.a6_6*b.a2_6 + a.a7_6*b.a2_7 + a.a8_6*b.a2_8 + a.a9_6*b.a2_9 + a.a10_6*b.a2_10 + a.a11_6*b.a2_11 + a.a12_6*b.a2_12;
+        c.a6_3 = a.a1_6*b.a3_1 + a.a2_6*b.a3_2 + a.a3_6*b.a3_3 + a.a4_6*b.a3_4 + a.a5_6*b.a3_5 + a.a6_6*b.a3_6 + a.a7_6*b.a3_7 + a.a8_6*b.a3_8 + a.a9_6*b.a3_9 + a.a10_6*b.a3_10 + a.a11_6*b.a3_11 + a.a12_6*b.a3_12;
+        c.a6_4 = a.a1_6*b.a4_1 + a.a2_6*b.a4_2 + a.a3_6*b.a4_3 + a.a4_6*b.a4_4 + a.a5_6*b.a4_5 + a.a6_6*b.a4_6 + a.a7_6*b.a4_7 + a.a8_6*b.a4_8 + a.a9_6*b.a4_9 + a.a10_6*b.a4_10 + a.a11_6*b.a4_11 + a.a12_6*b.a4_12;
+        c.a6_5 = a.a1_6*b.a5_1 + a.a2_6*b.a5_2 + a.a3_6*b.a5_3 + a.a4_6*b.a5_4 + a.a5_6*b.a5_5 + a.a6_6*b.a5_6 + a.a7_6*b.a5_7 + a.a8_6*b.a5_8 + a.a9_6*b.a5_9 + a.a10_6*b.a5_10 + a.a11_6*b.a5_11 + a.a12_6*b.a5_12;
+        c.a6_6 = a.a1_6*b.a6_1 + a.a2_6*b.a6_2 + a.a3_6*b.a6_3 + a.a4_6*b.a6_4 + a.a5_6*b.a6_5 + a.a6_6*b.a6_6 + a.a7_6*b.a6_7 + a.a8_6*b.a6_8 + a.a9_6*b.a6_9 + a.a10_6*b.a6_10 + a.a11_6*b.a6_11 + a.a12_6*b.a6_12;
+        c.a6_7 = a.a1_6*b.a7_1 + a.a2_6*b.a7_2 + a.a3_6*b.a7_3 + a.a4_6*b.a7_4 + a.a5_6*b.a7_5 + a.a6_6*b.a7_6 + a.a7_6*b.a7_7 + a.a8_6*b.a7_8 + a.a9_6*b.a7_9 + a.a10_6*b.a7_10 + a.a11_6*b.a7_11 + a.a12_6*b.a7_12;
+        c.a6_8 = a.a1_6*b.a8_1 + a.a2_6*b.a8_2 + a.a3_6*b.a8_3 + a.a4_6*b.a8_4 + a.a5_6*b.a8_5 + a.a6_6*b.a8_6 + a.a7_6*b.a8_7 + a.a8_6*b.a8_8 + a.a9_6*b.a8_9 + a.a10_6*b.a8_10 + a.a11_6*b.a8_11 + a.a12_6*b.a8_12;
+        c.a6_9 = a.a1_6*b.a9_1 + a.a2_6*b.a9_2 + a.a3_6*b.a9_3 + a.a4_6*b.a9_4 + a.a5_6*b.a9_5 + a.a6_6*b.a9_6 + a.a7_6*b.a9_7 + a.a8_6*b.a9_8 + a.a9_6*b.a9_9 + a.a10_6*b.a9_10 + a.a11_6*b.a9_11 + a.a12_6*b.a9_12;
+        c.a6_10 = a.a1_6*b.a10_1 + a.a2_6*b.a10_2 + a.a3_6*b.a10_3 + a.a4_6*b.a10_4 + a.a5_6*b.a10_5 + a.a6_6*b.a10_6 + a.a7_6*b.a10_7 + a.a8_6*b.a10_8 + a.a9_6*b.a10_9 + a.a10_6*b.a10_10 + a.a11_6*b.a10_11 + a.a12_6*b.a10_12;
+        c.a6_11 = a.a1_6*b.a11_1 + a.a2_6*b.a11_2 + a.a3_6*b.a11_3 + a.a4_6*b.a11_4 + a.a5_6*b.a11_5 + a.a6_6*b.a11_6 + a.a7_6*b.a11_7 + a.a8_6*b.a11_8 + a.a9_6*b.a11_9 + a.a10_6*b.a11_10 + a.a11_6*b.a11_11 + a.a12_6*b.a11_12;
+        c.a6_12 = a.a1_6*b.a12_1 + a.a2_6*b.a12_2 + a.a3_6*b.a12_3 + a.a4_6*b.a12_4 + a.a5_6*b.a12_5 + a.a6_6*b.a12_6 + a.a7_6*b.a12_7 + a.a8_6*b.a12_8 + a.a9_6*b.a12_9 + a.a10_6*b.a12_10 + a.a11_6*b.a12_11 + a.a12_6*b.a12_12;
+        c.a7_1 = a.a1_7*b.a1_1 + a.a2_7*b.a1_2 + a.a3_7*b.a1_3 + a.a4_7*b.a1_4 + a.a5_7*b.a1_5 + a.a6_7*b.a1_6 + a.a7_7*b.a1_7 + a.a8_7*b.a1_8 + a.a9_7*b.a1_9 + a.a10_7*b.a1_10 + a.a11_7*b.a1_11 + a.a12_7*b.a1_12;
+        c.a7_2 = a.a1_7*b.a2_1 + a.a2_7*b.a2_2 + a.a3_7*b.a2_3 + a.a4_7*b.a2_4 + a.a5_7*b.a2_5 + a.a6_7*b.a2_6 + a.a7_7*b.a2_7 + a.a8_7*b.a2_8 + a.a9_7*b.a2_9 + a.a10_7*b.a2_10 + a.a11_7*b.a2_11 + a.a12_7*b.a2_12;
+        c.a7_3 = a.a1_7*b.a3_1 + a.a2_7*b.a3_2 + a.a3_7*b.a3_3 + a.a4_7*b.a3_4 + a.a5_7*b.a3_5 + a.a6_7*b.a3_6 + a.a7_7*b.a3_7 + a.a8_7*b.a3_8 + a.a9_7*b.a3_9 + a.a10_7*b.a3_10 + a.a11_7*b.a3_11 + a.a12_7*b.a3_12;
+        c.a7_4 = a.a1_7*b.a4_1 + a.a2_7*b.a4_2 + a.a3_7*b.a4_3 + a.a4_7*b.a4_4 + a.a5_7*b.a4_5 + a.a6_7*b.a4_6 + a.a7_7*b.a4_7 + a.a8_7*b.a4_8 + a.a9_7*b.a4_9 + a.a10_7*b.a4_10 + a.a11_7*b.a4_11 + a.a12_7*b.a4_12;
+        c.a7_5 = a.a1_7*b.a5_1 + a.a2_7*b.a5_2 + a.a3_7*b.a5_3 + a.a4_7*b.a5_4 + a.a5_7*b.a5_5 + a.a6_7*b.a5_6 + a.a7_7*b.a5_7 + a.a8_7*b.a5_8 + a.a9_7*b.a5_9 + a.a10_7*b.a5_10 + a.a11_7*b.a5_11 + a.a12_7*b.a5_12;
+        c.a7_6 = a.a1_7*b.a6_1 + a.a2_7*b.a6_2 + a.a3_7*b.a6_3 + a.a4_7*b.a6_4 + a.a5_7*b.a6_5 + a.a6_7*b.a6_6 + a.a7_7*b.a6_7 + a.a8_7*b.a6_8 + a.a9_7*b.a6_9 + a.a10_7*b.a6_10 + a.a11_7*b.a6_11 + a.a12_7*b.a6_12;
+        c.a7_7 = a.a1_7*b.a7_1 + a.a2_7*b.a7_2 + a.a3_7*b.a7_3 + a.a4_7*b.a7_4 + a.a5_7*b.a7_5 + a.a6_7*b.a7_6 + a.a7_7*b.a7_7 + a.a8_7*b.a7_8 + a.a9_7*b.a7_9 + a.a10_7*b.a7_10 + a.a11_7*b.a7_11 + a.a12_7*b.a7_12;
+        c.a7_8 = a.a1_7*b.a8_1 + a.a2_7*b.a8_2 + a.a3_7*b.a8_3 + a.a4_7*b.a8_4 + a.a5_7*b.a8_5 + a.a6_7*b.a8_6 + a.a7_7*b.a8_7 + a.a8_7*b.a8_8 + a.a9_7*b.a8_9 + a.a10_7*b.a8_10 + a.a11_7*b.a8_11 + a.a12_7*b.a8_12;
+        c.a7_9 = a.a1_7*b.a9_1 + a.a2_7*b.a9_2 + a.a3_7*b.a9_3 + a.a4_7*b.a9_4 + a.a5_7*b.a9_5 + a.a6_7*b.a9_6 + a.a7_7*b.a9_7 + a.a8_7*b.a9_8 + a.a9_7*b.a9_9 + a.a10_7*b.a9_10 + a.a11_7*b.a9_11 + a.a12_7*b.a9_12;
+        c.a7_10 = a.a1_7*b.a10_1 + a.a2_7*b.a10_2 + a.a3_7*b.a10_3 + a.a4_7*b.a10_4 + a.a5_7*b.a10_5 + a.a6_7*b.a10_6 + a.a7_7*b.a10_7 + a.a8_7*b.a10_8 + a.a9_7*b.a10_9 + a.a10_7*b.a10_10 + a.a11_7*b.a10_11 + a.a12_7*b.a10_12;
+        c.a7_11 = a.a1_7*b.a11_1 + a.a2_7*b.a11_2 + a.a3_7*b.a11_3 + a.a4_7*b.a11_4 + a.a5_7*b.a11_5 + a.a6_7*b.a11_6 + a.a7_7*b.a11_7 + a.a8_7*b.a11_8 + a.a9_7*b.a11_9 + a.a10_7*b.a11_10 + a.a11_7*b.a11_11 + a.a12_7*b.a11_12;
+        c.a7_12 = a.a1_7*b.a12_1 + a.a2_7*b.a12_2 + a.a3_7*b.a12_3 + a.a4_7*b.a12_4 + a.a5_7*b.a12_5 + a.a6_7*b.a12_6 + a.a7_7*b.a12_7 + a.a8_7*b.a12_8 + a.a9_7*b.a12_9 + a.a10_7*b.a12_10 + a.a11_7*b.a12_11 + a.a12_7*b.a12_12;
+        c.a8_1 = a.a1_8*b.a1_1 + a.a2_8*b.a1_2 + a.a3_8*b.a1_3 + a.a4_8*b.a1_4 + a.a5_8*b.a1_5 + a.a6_8*b.a1_6 + a.a7_8*b.a1_7 + a.a8_8*b.a1_8 + a.a9_8*b.a1_9 + a.a10_8*b.a1_10 + a.a11_8*b.a1_11 + a.a12_8*b.a1_12;
+        c.a8_2 = a.a1_8*b.a2_1 + a.a2_8*b.a2_2 + a.a3_8*b.a2_3 + a.a4_8*b.a2_4 + a.a5_8*b.a2_5 + a.a6_8*b.a2_6 + a.a7_8*b.a2_7 + a.a8_8*b.a2_8 + a.a9_8*b.a2_9 + a.a10_8*b.a2_10 + a.a11_8*b.a2_11 + a.a12_8*b.a2_12;
+        c.a8_3 = a.a1_8*b.a3_1 + a.a2_8*b.a3_2 + a.a3_8*b.a3_3 + a.a4_8*b.a3_4 + a.a5_8*b.a3_5 + a.a6_8*b.a3_6 + a.a7_8*b.a3_7 + a.a8_8*b.a3_8 + a.a9_8*b.a3_9 + a.a10_8*b.a3_10 + a.a11_8*b.a3_11 + a.a12_8*b.a3_12;
+        c.a8_4 = a.a1_8*b.a4_1 + a.a2_8*b.a4_2 + a.a3_8*b.a4_3 + a.a4_8*b.a4_4 + a.a5_8*b.a4_5 + a.a6_8*b.a4_6 + a.a7_8*b.a4_7 + a.a8_8*b.a4_8 + a.a9_8*b.a4_9 + a.a10_8*b.a4_10 + a.a11_8*b.a4_11 + a.a12_8*b.a4_12;
+        c.a8_5 = a.a1_8*b.a5_1 + a.a2_8*b.a5_2 + a.a3_8*b.a5_3 + a.a4_8*b.a5_4 + a.a5_8*b.a5_5 + a.a6_8*b.a5_6 + a.a7_8*b.a5_7 + a.a8_8*b.a5_8 + a.a9_8*b.a5_9 + a.a10_8*b.a5_10 + a.a11_8*b.a5_11 + a.a12_8*b.a5_12;
+        c.a8_6 = a.a1_8*b.a6_1 + a.a2_8*b.a6_2 + a.a3_8*b.a6_3 + a.a4_8*b.a6_4 + a.a5_8*b.a6_5 + a.a6_8*b.a6_6 + a.a7_8*b.a6_7 + a.a8_8*b.a6_8 + a.a9_8*b.a6_9 + a.a10_8*b.a6_10 + a.a11_8*b.a6_11 + a.a12_8*b.a6_12;
+        c.a8_7 = a.a1_8*b.a7_1 + a.a2_8*b.a7_2 + a.a3_8*b.a7_3 + a.a4_8*b.a7_4 + a.a5_8*b.a7_5 + a.a6_8*b.a7_6 + a.a7_8*b.a7_7 + a.a8_8*b.a7_8 + a.a9_8*b.a7_9 + a.a10_8*b.a7_10 + a.a11_8*b.a7_11 + a.a12_8*b.a7_12;
+        c.a8_8 = a.a1_8*b.a8_1 + a.a2_8*b.a8_2 + a.a3_8*b.a8_3 + a.a4_8*b.a8_4 + a.a5_8*b.a8_5 + a.a6_8*b.a8_6 + a.a7_8*b.a8_7 + a.a8_8*b.a8_8 + a.a9_8*b.a8_9 + a.a10_8*b.a8_10 + a.a11_8*b.a8_11 + a.a12_8*b.a8_12;
+        c.a8_9 = a.a1_8*b.a9_1 + a.a2_8*b.a9_2 + a.a3_8*b.a9_3 + a.a4_8*b.a9_4 + a.a5_8*b.a9_5 + a.a6_8*b.a9_6 + a.a7_8*b.a9_7 + a.a8_8*b.a9_8 + a.a9_8*b.a9_9 + a.a10_8*b.a9_10 + a.a11_8*b.a9_11 + a.a12_8*b.a9_12;
+        c.a8_10 = a.a1_8*b.a10_1 + a.a2_8*b.a10_2 + a.a3_8*b.a10_3 + a.a4_8*b.a10_4 + a.a5_8*b.a10_5 + a.a6_8*b.a10_6 + a.a7_8*b.a10_7 + a.a8_8*b.a10_8 + a.a9_8*b.a10_9 + a.a10_8*b.a10_10 + a.a11_8*b.a10_11 + a.a12_8*b.a10_12;
+        c.a8_11 = a.a1_8*b.a11_1 + a.a2_8*b.a11_2 + a.a3_8*b.a11_3 + a.a4_8*b.a11_4 + a.a5_8*b.a11_5 + a.a6_8*b.a11_6 + a.a7_8*b.a11_7 + a.a8_8*b.a11_8 + a.a9_8*b.a11_9 + a.a10_8*b.a11_10 + a.a11_8*b.a11_11 + a.a12_8*b.a11_12;
+        c.a8_12 = a.a1_8*b.a12_1 + a.a2_8*b.a12_2 + a.a3_8*b.a12_3 + a.a4_8*b.a12_4 + a.a5_8*b.a12_5 + a.a6_8*b.a12_6 + a.a7_8*b.a12_7 + a.a8_8*b.a12_8 + a.a9_8*b.a12_9 + a.a10_8*b.a12_10 + a.a11_8*b.a12_11 + a.a12_8*b.a12_12;
+        c.a9_1 = a.a1_9*b.a1_1 + a.a2_9*b.a1_2 + a.a3_9*b.a1_3 + a.a4_9*b.a1_4 + a.a5_9*b.a1_5 + a.a6_9*b.a1_6 + a.a7_9*b.a1_7 + a.a8_9*b.a1_8 + a.a9_9*b.a1_9 + a.a10_9*b.a1_10 + a.a11_9*b.a1_11 + a.a12_9*b.a1_12;
+        c.a9_2 = a.a1_9*b.a2_1 + a.a2_9*b.a2_2 + a.a3_9*b.a2_3 + a.a4_9*b.a2_4 + a.a5_9*b.a2_5 + a.a6_9*b.a2_6 + a.a7_9*b.a2_7 + a.a8_9*b.a2_8 + a.a9_9*b.a2_9 + a.a10_9*b.a2_10 + a.a11_9*b.a2_11 + a.a12_9*b.a2_12;
+        c.a9_3 = a.a1_9*b.a3_1 + a.a2_9*b.a3_2 + a.a3_9*b.a3_3 + a.a4_9*b.a3_4 + a.a5_9*b.a3_5 + a.a6_9*b.a3_6 + a.a7_9*b.a3_7 + a.a8_9*b.a3_8 + a.a9_9*b.a3_9 + a.a10_9*b.a3_10 + a.a11_9*b.a3_11 + a.a12_9*b.a3_12;
+        c.a9_4 = a.a1_9*b.a4_1 + a.a2_9*b.a4_2 + a.a3_9*b.a4_3 + a.a4_9*b.a4_4 + a.a5_9*b.a4_5 + a.a6_9*b.a4_6 + a.a7_9*b.a4_7 + a.a8_9*b.a4_8 + a.a9_9*b.a4_9 + a.a10_9*b.a4_10 + a.a11_9*b.a4_11 + a.a12_9*b.a4_12;
+        c.a9_5 = a.a1_9*b.a5_1 + a.a2_9*b.a5_2 + a.a3_9*b.a5_3 + a.a4_9*b.a5_4 + a.a5_9*b.a5_5 + a.a6_9*b.a5_6 + a.a7_9*b.a5_7 + a.a8_9*b.a5_8 + a.a9_9*b.a5_9 + a.a10_9*b.a5_10 + a.a11_9*b.a5_11 + a.a12_9*b.a5_12;
+        c.a9_6 = a.a1_9*b.a6_1 + a.a2_9*b.a6_2 + a.a3_9*b.a6_3 + a.a4_9*b.a6_4 + a.a5_9*b.a6_5 + a.a6_9*b.a6_6 + a.a7_9*b.a6_7 + a.a8_9*b.a6_8 + a.a9_9*b.a6_9 + a.a10_9*b.a6_10 + a.a11_9*b.a6_11 + a.a12_9*b.a6_12;
+        c.a9_7 = a.a1_9*b.a7_1 + a.a2_9*b.a7_2 + a.a3_9*b.a7_3 + a.a4_9*b.a7_4 + a.a5_9*b.a7_5 + a.a6_9*b.a7_6 + a.a7_9*b.a7_7 + a.a8_9*b.a7_8 + a.a9_9*b.a7_9 + a.a10_9*b.a7_10 + a.a11_9*b.a7_11 + a.a12_9*b.a7_12;
+        c.a9_8 = a.a1_9*b.a8_1 + a.a2_9*b.a8_2 + a.a3_9*b.a8_3 + a.a4_9*b.a8_4 + a.a5_9*b.a8_5 + a.a6_9*b.a8_6 + a.a7_9*b.a8_7 + a.a8_9*b.a8_8 + a.a9_9*b.a8_9 + a.a10_9*b.a8_10 + a.a11_9*b.a8_11 + a.a12_9*b.a8_12;
+        c.a9_9 = a.a1_9*b.a9_1 + a.a2_9*b.a9_2 + a.a3_9*b.a9_3 + a.a4_9*b.a9_4 + a.a5_9*b.a9_5 + a.a6_9*b.a9_6 + a.a7_9*b.a9_7 + a.a8_9*b.a9_8 + a.a9_9*b.a9_9 + a.a10_9*b.a9_10 + a.a11_9*b.a9_11 + a.a12_9*b.a9_12;
+        c.a9_10 = a.a1_9*b.a10_1 + a.a2_9*b.a10_2 + a.a3_9*b.a10_3 + a.a4_9*b.a10_4 + a.a5_9*b.a10_5 + a.a6_9*b.a10_6 + a.a7_9*b.a10_7 + a.a8_9*b.a10_8 + a.a9_9*b.a10_9 + a.a10_9*b.a10_10 + a.a11_9*b.a10_11 + a.a12_9*b.a10_12;
+        c.a9_11 = a.a1_9*b.a11_1 + a.a2_9*b.a11_2 + a.a3_9*b.a11_3 + a.a4_9*b.a11_4 + a.a5_9*b.a11_5 + a.a6_9*b.a11_6 + a.a7_9*b.a11_7 + a.a8_9*b.a11_8 + a.a9_9*b.a11_9 + a.a10_9*b.a11_10 + a.a11_9*b.a11_11 + a.a12_9*b.a11_12;
+        c.a9_12 = a.a1_9*b.a12_1 + a.a2_9*b.a12_2 + a.a3_9*b.a12_3 + a.a4_9*b.a12_4 + a.a5_9*b.a12_5 + a.a6_9*b.a12_6 + a.a7_9*b.a12_7 + a.a8_9*b.a12_8 + a.a9_9*b.a12_9 + a.a10_9*b.a12_10 + a.a11_9*b.a12_11 + a.a12_9*b.a12_12;
+        c.a10_1 = a.a1_10*b.a1_1 + a.a2_10*b.a1_2 + a.a3_10*b.a1_3 + a.a4_10*b.a1_4 + a.a5_10*b.a1_5 + a.a6_10*b.a1_6 + a.a7_10*b.a1_7 + a.a8_10*b.a1_8 + a.a9_10*b.a1_9 + a.a10_10*b.a1_10 + a.a11_10*b.a1_11 + a.a12_10*b.a1_12;
+        c.a10_2 = a.a1_10*b.a2_1 + a.a2_10*b.a2_2 + a.a3_10*b.a2_3 + a.a4_10*b.a2_4 + a.a5_10*b.a2_5 + a.a6_10*b.a2_6 + a.a7_10*b.a2_7 + a.a8_10*b.a2_8 + a.a9_10*b.a2_9 + a.a10_10*b.a2_10 + a.a11_10*b.a2_11 + a.a12_10*b.a2_12;
+        c.a10_3 = a.a1_10*b.a3_1 + a.a2_10*b.a3_2 + a.a3_10*b.a3_3 + a.a4_10*b.a3_4 + a.a5_10*b.a3_5 + a.a6_10*b.a3_6 + a.a7_10*b.a3_7 + a.a8_10*b.a3_8 + a.a9_10*b.a3_9 + a.a10_10*b.a3_10 + a.a11_10*b.a3_11 + a.a12_10*b.a3_12;
+        c.a10_4 = a.a1_10*b.a4_1 + a.a2_10*b.a4_2 + a.a3_10*b.a4_3 + a.a4_10*b.a4_4 + a.a5_10*b.a4_5 + a.a6_10*b.a4_6 + a.a7_10*b.a4_7 + a.a8_10*b.a4_8 + a.a9_10*b.a4_9 + a.a10_10*b.a4_10 + a.a11_10*b.a4_11 + a.a12_10*b.a4_12;
+        c.a10_5 = a.a1_10*b.a5_1 + a.a2_10*b.a5_2 + a.a3_10*b.a5_3 + a.a4_10*b.a5_4 + a.a5_10*b.a5_5 + a.a6_10*b.a5_6 + a.a7_10*b.a5_7 + a.a8_10*b.a5_8 + a.a9_10*b.a5_9 + a.a10_10*b.a5_10 + a.a11_10*b.a5_11 + a.a12_10*b.a5_12;
+        c.a10_6 = a.a1_10*b.a6_1 + a.a2_10*b.a6_2 + a.a3_10*b.a6_3 + a.a4_10*b.a6_4 + a.a5_10*b.a6_5 + a.a6_10*b.a6_6 + a.a7_10*b.a6_7 + a.a8_10*b.a6_8 + a.a9_10*b.a6_9 + a.a10_10*b.a6_10 + a.a11_10*b.a6_11 + a.a12_10*b.a6_12;
+        c.a10_7 = a.a1_10*b.a7_1 + a.a2_10*b.a7_2 + a.a3_10*b.a7_3 + a.a4_10*b.a7_4 + a.a5_10*b.a7_5 + a.a6_10*b.a7_6 + a.a7_10*b.a7_7 + a.a8_10*b.a7_8 + a.a9_10*b.a7_9 + a.a10_10*b.a7_10 + a.a11_10*b.a7_11 + a.a12_10*b.a7_12;
+        c.a10_8 = a.a1_10*b.a8_1 + a.a2_10*b.a8_2 + a.a3_10*b.a8_3 + a.a4_10*b.a8_4 + a.a5_10*b.a8_5 + a.a6_10*b.a8_6 + a.a7_10*b.a8_7 + a.a8_10*b.a8_8 + a.a9_10*b.a8_9 + a.a10_10*b.a8_10 + a.a11_10*b.a8_11 + a.a12_10*b.a8_12;
+        c.a10_9 = a.a1_10*b.a9_1 + a.a2_10*b.a9_2 + a.a3_10*b.a9_3 + a.a4_10*b.a9_4 + a.a5_10*b.a9_5 + a.a6_10*b.a9_6 + a.a7_10*b.a9_7 + a.a8_10*b.a9_8 + a.a9_10*b.a9_9 + a.a10_10*b.a9_10 + a.a11_10*b.a9_11 + a.a12_10*b.a9_12;
+        c.a10_10 = a.a1_10*b.a10_1 + a.a2_10*b.a10_2 + a.a3_10*b.a10_3 + a.a4_10*b.a10_4 + a.a5_10*b.a10_5 + a.a6_10*b.a10_6 + a.a7_10*b.a10_7 + a.a8_10*b.a10_8 + a.a9_10*b.a10_9 + a.a10_10*b.a10_10 + a.a11_10*b.a10_11 + a.a12_10*b.a10_12;
+        c.a10_11 = a.a1_10*b.a11_1 + a.a2_10*b.a11_2 + a.a3_10*b.a11_3 + a.a4_10*b.a11_4 + a.a5_10*b.a11_5 + a.a6_10*b.a11_6 + a.a7_10*b.a11_7 + a.a8_10*b.a11_8 + a.a9_10*b.a11_9 + a.a10_10*b.a11_10 + a.a11_10*b.a11_11 + a.a12_10*b.a11_12;
+        c.a10_12 = a.a1_10*b.a12_1 + a.a2_10*b.a12_2 + a.a3_10*b.a12_3 + a.a4_10*b.a12_4 + a.a5_10*b.a12_5 + a.a6_10*b.a12_6 + a.a7_10*b.a12_7 + a.a8_10*b.a12_8 + a.a9_10*b.a12_9 + a.a10_10*b.a12_10 + a.a11_10*b.a12_11 + a.a12_10*b.a12_12;
+    }
+
+    private static void multTransAB_rows11to12( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a11_1 = a.a1_11*b.a1_1 + a.a2_11*b.a1_2 + a.a3_11*b.a1_3 + a.a4_11*b.a1_4 + a.a5_11*b.a1_5 + a.a6_11*b.a1_6 + a.a7_11*b.a1_7 + a.a8_11*b.a1_8 + a.a9_11*b.a1_9 + a.a10_11*b.a1_10 + a.a11_11*b.a1_11 + a.a12_11*b.a1_12;
+        c.a11_2 = a.a1_11*b.a2_1 + a.a2_11*b.a2_2 + a.a3_11*b.a2_3 + a.a4_11*b.a2_4 + a.a5_11*b.a2_5 + a.a6_11*b.a2_6 + a.a7_11*b.a2_7 + a.a8_11*b.a2_8 + a.a9_11*b.a2_9 + a.a10_11*b.a2_10 + a.a11_11*b.a2_11 + a.a12_11*b.a2_12;
+        c.a11_3 = a.a1_11*b.a3_1 + a.a2_11*b.a3_2 + a.a3_11*b.a3_3 + a.a4_11*b.a3_4 + a.a5_11*b.a3_5 + a.a6_11*b.a3_6 + a.a7_11*b.a3_7 + a.a8_11*b.a3_8 + a.a9_11*b.a3_9 + a.a10_11*b.a3_10 + a.a11_11*b.a3_11 + a.a12_11*b.a3_12;
+        c.a11_4 = a.a1_11*b.a4_1 + a.a2_11*b.a4_2 + a.a3_11*b.a4_3 + a.a4_11*b.a4_4 + a.a5_11*b.a4_5 + a.a6_11*b.a4_6 + a.a7_11*b.a4_7 + a.a8_11*b.a4_8 + a.a9_11*b.a4_9 + a.a10_11*b.a4_10 + a.a11_11*b.a4_11 + a.a12_11*b.a4_12;
+        c.a11_5 = a.a1_11*b.a5_1 + a.a2_11*b.a5_2 + a.a3_11*b.a5_3 + a.a4_11*b.a5_4 + a.a5_11*b.a5_5 + a.a6_11*b.a5_6 + a.a7_11*b.a5_7 + a.a8_11*b.a5_8 + a.a9_11*b.a5_9 + a.a10_11*b.a5_10 + a.a11_11*b.a5_11 + a.a12_11*b.a5_12;
+        c.a11_6 = a.a1_11*b.a6_1 + a.a2_11*b.a6_2 + a.a3_11*b.a6_3 + a.a4_11*b.a6_4 + a.a5_11*b.a6_5 + a.a6_11*b.a6_6 + a.a7_11*b.a6_7 + a.a8_11*b.a6_8 + a.a9_11*b.a6_9 + a.a10_11*b.a6_10 + a.a11_11*b.a6_11 + a.a12_11*b.a6_12;
+        c.a11_7 = a.a1_11*b.a7_1 + a.a2_11*b.a7_2 + a.a3_11*b.a7_3 + a.a4_11*b.a7_4 + a.a5_11*b.a7_5 + a.a6_11*b.a7_6 + a.a7_11*b.a7_7 + a.a8_11*b.a7_8 + a.a9_11*b.a7_9 + a.a10_11*b.a7_10 + a.a11_11*b.a7_11 + a.a12_11*b.a7_12;
+        c.a11_8 = a.a1_11*b.a8_1 + a.a2_11*b.a8_2 + a.a3_11*b.a8_3 + a.a4_11*b.a8_4 + a.a5_11*b.a8_5 + a.a6_11*b.a8_6 + a.a7_11*b.a8_7 + a.a8_11*b.a8_8 + a.a9_11*b.a8_9 + a.a10_11*b.a8_10 + a.a11_11*b.a8_11 + a.a12_11*b.a8_12;
+        c.a11_9 = a.a1_11*b.a9_1 + a.a2_11*b.a9_2 + a.a3_11*b.a9_3 + a.a4_11*b.a9_4 + a.a5_11*b.a9_5 + a.a6_11*b.a9_6 + a.a7_11*b.a9_7 + a.a8_11*b.a9_8 + a.a9_11*b.a9_9 + a.a10_11*b.a9_10 + a.a11_11*b.a9_11 + a.a12_11*b.a9_12;
+        c.a11_10 = a.a1_11*b.a10_1 + a.a2_11*b.a10_2 + a.a3_11*b.a10_3 + a.a4_11*b.a10_4 + a.a5_11*b.a10_5 + a.a6_11*b.a10_6 + a.a7_11*b.a10_7 + a.a8_11*b.a10_8 + a.a9_11*b.a10_9 + a.a10_11*b.a10_10 + a.a11_11*b.a10_11 + a.a12_11*b.a10_12;
+        c.a11_11 = a.a1_11*b.a11_1 + a.a2_11*b.a11_2 + a.a3_11*b.a11_3 + a.a4_11*b.a11_4 + a.a5_11*b.a11_5 + a.a6_11*b.a11_6 + a.a7_11*b.a11_7 + a.a8_11*b.a11_8 + a.a9_11*b.a11_9 + a.a10_11*b.a11_10 + a.a11_11*b.a11_11 + a.a12_11*b.a11_12;
+        c.a11_12 = a.a1_11*b.a12_1 + a.a2_11*b.a12_2 + a.a3_11*b.a12_3 + a.a4_11*b.a12_4 + a.a5_11*b.a12_5 + a.a6_11*b.a12_6 + a.a7_11*b.a12_7 + a.a8_11*b.a12_8 + a.a9_11*b.a12_9 + a.a10_11*b.a12_10 + a.a11_11*b.a12_11 + a.a12_11*b.a12_12;
+        c.a12_1 = a.a1_12*b.a1_1 + a.a2_12*b.a1_2 + a.a3_12*b.a1_3 + a.a4_12*b.a1_4 + a.a5_12*b.a1_5 + a.a6_12*b.a1_6 + a.a7_12*b.a1_7 + a.a8_12*b.a1_8 + a.a9_12*b.a1_9 + a.a10_12*b.a1_10 + a.a11_12*b.a1_11 + a.a12_12*b.a1_12;
+        c.a12_2 = a.a1_12*b.a2_1 + a.a2_12*b.a2_2 + a.a3_12*b.a2_3 + a.a4_12*b.a2_4 + a.a5_12*b.a2_5 + a.a6_12*b.a2_6 + a.a7_12*b.a2_7 + a.a8_12*b.a2_8 + a.a9_12*b.a2_9 + a.a10_12*b.a2_10 + a.a11_12*b.a2_11 + a.a12_12*b.a2_12;
+        c.a12_3 = a.a1_12*b.a3_1 + a.a2_12*b.a3_2 + a.a3_12*b.a3_3 + a.a4_12*b.a3_4 + a.a5_12*b.a3_5 + a.a6_12*b.a3_6 + a.a7_12*b.a3_7 + a.a8_12*b.a3_8 + a.a9_12*b.a3_9 + a.a10_12*b.a3_10 + a.a11_12*b.a3_11 + a.a12_12*b.a3_12;
+        c.a12_4 = a.a1_12*b.a4_1 + a.a2_12*b.a4_2 + a.a3_12*b.a4_3 + a.a4_12*b.a4_4 + a.a5_12*b.a4_5 + a.a6_12*b.a4_6 + a.a7_12*b.a4_7 + a.a8_12*b.a4_8 + a.a9_12*b.a4_9 + a.a10_12*b.a4_10 + a.a11_12*b.a4_11 + a.a12_12*b.a4_12;
+        c.a12_5 = a.a1_12*b.a5_1 + a.a2_12*b.a5_2 + a.a3_12*b.a5_3 + a.a4_12*b.a5_4 + a.a5_12*b.a5_5 + a.a6_12*b.a5_6 + a.a7_12*b.a5_7 + a.a8_12*b.a5_8 + a.a9_12*b.a5_9 + a.a10_12*b.a5_10 + a.a11_12*b.a5_11 + a.a12_12*b.a5_12;
+        c.a12_6 = a.a1_12*b.a6_1 + a.a2_12*b.a6_2 + a.a3_12*b.a6_3 + a.a4_12*b.a6_4 + a.a5_12*b.a6_5 + a.a6_12*b.a6_6 + a.a7_12*b.a6_7 + a.a8_12*b.a6_8 + a.a9_12*b.a6_9 + a.a10_12*b.a6_10 + a.a11_12*b.a6_11 + a.a12_12*b.a6_12;
+        c.a12_7 = a.a1_12*b.a7_1 + a.a2_12*b.a7_2 + a.a3_12*b.a7_3 + a.a4_12*b.a7_4 + a.a5_12*b.a7_5 + a.a6_12*b.a7_6 + a.a7_12*b.a7_7 + a.a8_12*b.a7_8 + a.a9_12*b.a7_9 + a.a10_12*b.a7_10 + a.a11_12*b.a7_11 + a.a12_12*b.a7_12;
+        c.a12_8 = a.a1_12*b.a8_1 + a.a2_12*b.a8_2 + a.a3_12*b.a8_3 + a.a4_12*b.a8_4 + a.a5_12*b.a8_5 + a.a6_12*b.a8_6 + a.a7_12*b.a8_7 + a.a8_12*b.a8_8 + a.a9_12*b.a8_9 + a.a10_12*b.a8_10 + a.a11_12*b.a8_11 + a.a12_12*b.a8_12;
+        c.a12_9 = a.a1_12*b.a9_1 + a.a2_12*b.a9_2 + a.a3_12*b.a9_3 + a.a4_12*b.a9_4 + a.a5_12*b.a9_5 + a.a6_12*b.a9_6 + a.a7_12*b.a9_7 + a.a8_12*b.a9_8 + a.a9_12*b.a9_9 + a.a10_12*b.a9_10 + a.a11_12*b.a9_11 + a.a12_12*b.a9_12;
+        c.a12_10 = a.a1_12*b.a10_1 + a.a2_12*b.a10_2 + a.a3_12*b.a10_3 + a.a4_12*b.a10_4 + a.a5_12*b.a10_5 + a.a6_12*b.a10_6 + a.a7_12*b.a10_7 + a.a8_12*b.a10_8 + a.a9_12*b.a10_9 + a.a10_12*b.a10_10 + a.a11_12*b.a10_11 + a.a12_12*b.a10_12;
+        c.a12_11 = a.a1_12*b.a11_1 + a.a2_12*b.a11_2 + a.a3_12*b.a11_3 + a.a4_12*b.a11_4 + a.a5_12*b.a11_5 + a.a6_12*b.a11_6 + a.a7_12*b.a11_7 + a.a8_12*b.a11_8 + a.a9_12*b.a11_9 + a.a10_12*b.a11_10 + a.a11_12*b.a11_11 + a.a12_12*b.a11_12;
+        c.a12_12 = a.a1_12*b.a12_1 + a.a2_12*b.a12_2 + a.a3_12*b.a12_3 + a.a4_12*b.a12_4 + a.a5_12*b.a12_5 + a.a6_12*b.a12_6 + a.a7_12*b.a12_7 + a.a8_12*b.a12_8 + a.a9_12*b.a12_9 + a.a10_12*b.a12_10 + a.a11_12*b.a12_11 + a.a12_12*b.a12_12;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        multTransB_rows1to5(a,b,c);
+        multTransB_rows6to10(a,b,c);
+        multTransB_rows11to12(a,b,c);
+    }
+
+    private static void multTransB_rows1to5( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a1_1 = a.a1_1*b.a1_1 + a.a1_2*b.a1_2 + a.a1_3*b.a1_3 + a.a1_4*b.a1_4 + a.a1_5*b.a1_5 + a.a1_6*b.a1_6 + a.a1_7*b.a1_7 + a.a1_8*b.a1_8 + a.a1_9*b.a1_9 + a.a1_10*b.a1_10 + a.a1_11*b.a1_11 + a.a1_12*b.a1_12;
+        c.a1_2 = a.a1_1*b.a2_1 + a.a1_2*b.a2_2 + a.a1_3*b.a2_3 + a.a1_4*b.a2_4 + a.a1_5*b.a2_5 + a.a1_6*b.a2_6 + a.a1_7*b.a2_7 + a.a1_8*b.a2_8 + a.a1_9*b.a2_9 + a.a1_10*b.a2_10 + a.a1_11*b.a2_11 + a.a1_12*b.a2_12;
+        c.a1_3 = a.a1_1*b.a3_1 + a.a1_2*b.a3_2 + a.a1_3*b.a3_3 + a.a1_4*b.a3_4 + a.a1_5*b.a3_5 + a.a1_6*b.a3_6 + a.a1_7*b.a3_7 + a.a1_8*b.a3_8 + a.a1_9*b.a3_9 + a.a1_10*b.a3_10 + a.a1_11*b.a3_11 + a.a1_12*b.a3_12;
+        c.a1_4 = a.a1_1*b.a4_1 + a.a1_2*b.a4_2 + a.a1_3*b.a4_3 + a.a1_4*b.a4_4 + a.a1_5*b.a4_5 + a.a1_6*b.a4_6 + a.a1_7*b.a4_7 + a.a1_8*b.a4_8 + a.a1_9*b.a4_9 + a.a1_10*b.a4_10 + a.a1_11*b.a4_11 + a.a1_12*b.a4_12;
+        c.a1_5 = a.a1_1*b.a5_1 + a.a1_2*b.a5_2 + a.a1_3*b.a5_3 + a.a1_4*b.a5_4 + a.a1_5*b.a5_5 + a.a1_6*b.a5_6 + a.a1_7*b.a5_7 + a.a1_8*b.a5_8 + a.a1_9*b.a5_9 + a.a1_10*b.a5_10 + a.a1_11*b.a5_11 + a.a1_12*b.a5_12;
+        c.a1_6 = a.a1_1*b.a6_1 + a.a1_2*b.a6_2 + a.a1_3*b.a6_3 + a.a1_4*b.a6_4 + a.a1_5*b.a6_5 + a.a1_6*b.a6_6 + a.a1_7*b.a6_7 + a.a1_8*b.a6_8 + a.a1_9*b.a6_9 + a.a1_10*b.a6_10 + a.a1_11*b.a6_11 + a.a1_12*b.a6_12;
+        c.a1_7 = a.a1_1*b.a7_1 + a.a1_2*b.a7_2 + a.a1_3*b.a7_3 + a.a1_4*b.a7_4 + a.a1_5*b.a7_5 + a.a1_6*b.a7_6 + a.a1_7*b.a7_7 + a.a1_8*b.a7_8 + a.a1_9*b.a7_9 + a.a1_10*b.a7_10 + a.a1_11*b.a7_11 + a.a1_12*b.a7_12;
+        c.a1_8 = a.a1_1*b.a8_1 + a.a1_2*b.a8_2 + a.a1_3*b.a8_3 + a.a1_4*b.a8_4 + a.a1_5*b.a8_5 + a.a1_6*b.a8_6 + a.a1_7*b.a8_7 + a.a1_8*b.a8_8 + a.a1_9*b.a8_9 + a.a1_10*b.a8_10 + a.a1_11*b.a8_11 + a.a1_12*b.a8_12;
+        c.a1_9 = a.a1_1*b.a9_1 + a.a1_2*b.a9_2 + a.a1_3*b.a9_3 + a.a1_4*b.a9_4 + a.a1_5*b.a9_5 + a.a1_6*b.a9_6 + a.a1_7*b.a9_7 + a.a1_8*b.a9_8 + a.a1_9*b.a9_9 + a.a1_10*b.a9_10 + a.a1_11*b.a9_11 + a.a1_12*b.a9_12;
+        c.a1_10 = a.a1_1*b.a10_1 + a.a1_2*b.a10_2 + a.a1_3*b.a10_3 + a.a1_4*b.a10_4 + a.a1_5*b.a10_5 + a.a1_6*b.a10_6 + a.a1_7*b.a10_7 + a.a1_8*b.a10_8 + a.a1_9*b.a10_9 + a.a1_10*b.a10_10 + a.a1_11*b.a10_11 + a.a1_12*b.a10_12;
+        c.a1_11 = a.a1_1*b.a11_1 + a.a1_2*b.a11_2 + a.a1_3*b.a11_3 + a.a1_4*b.a11_4 + a.a1_5*b.a11_5 + a.a1_6*b.a11_6 + a.a1_7*b.a11_7 + a.a1_8*b.a11_8 + a.a1_9*b.a11_9 + a.a1_10*b.a11_10 + a.a1_11*b.a11_11 + a.a1_12*b.a11_12;
+        c.a1_12 = a.a1_1*b.a12_1 + a.a1_2*b.a12_2 + a.a1_3*b.a12_3 + a.a1_4*b.a12_4 + a.a1_5*b.a12_5 + a.a1_6*b.a12_6 + a.a1_7*b.a12_7 + a.a1_8*b.a12_8 + a.a1_9*b.a12_9 + a.a1_10*b.a12_10 + a.a1_11*b.a12_11 + a.a1_12*b.a12_12;
+        c.a2_1 = a.a2_1*b.a1_1 + a.a2_2*b.a1_2 + a.a2_3*b.a1_3 + a.a2_4*b.a1_4 + a.a2_5*b.a1_5 + a.a2_6*b.a1_6 + a.a2_7*b.a1_7 + a.a2_8*b.a1_8 + a.a2_9*b.a1_9 + a.a2_10*b.a1_10 + a.a2_11*b.a1_11 + a.a2_12*b.a1_12;
+        c.a2_2 = a.a2_1*b.a2_1 + a.a2_2*b.a2_2 + a.a2_3*b.a2_3 + a.a2_4*b.a2_4 + a.a2_5*b.a2_5 + a.a2_6*b.a2_6 + a.a2_7*b.a2_7 + a.a2_8*b.a2_8 + a.a2_9*b.a2_9 + a.a2_10*b.a2_10 + a.a2_11*b.a2_11 + a.a2_12*b.a2_12;
+        c.a2_3 = a.a2_1*b.a3_1 + a.a2_2*b.a3_2 + a.a2_3*b.a3_3 + a.a2_4*b.a3_4 + a.a2_5*b.a3_5 + a.a2_6*b.a3_6 + a.a2_7*b.a3_7 + a.a2_8*b.a3_8 + a.a2_9*b.a3_9 + a.a2_10*b.a3_10 + a.a2_11*b.a3_11 + a.a2_12*b.a3_12;
+        c.a2_4 = a.a2_1*b.a4_1 + a.a2_2*b.a4_2 + a.a2_3*b.a4_3 + a.a2_4*b.a4_4 + a.a2_5*b.a4_5 + a.a2_6*b.a4_6 + a.a2_7*b.a4_7 + a.a2_8*b.a4_8 + a.a2_9*b.a4_9 + a.a2_10*b.a4_10 + a.a2_11*b.a4_11 + a.a2_12*b.a4_12;
+        c.a2_5 = a.a2_1*b.a5_1 + a.a2_2*b.a5_2 + a.a2_3*b.a5_3 + a.a2_4*b.a5_4 + a.a2_5*b.a5_5 + a.a2_6*b.a5_6 + a.a2_7*b.a5_7 + a.a2_8*b.a5_8 + a.a2_9*b.a5_9 + a.a2_10*b.a5_10 + a.a2_11*b.a5_11 + a.a2_12*b.a5_12;
+        c.a2_6 = a.a2_1*b.a6_1 + a.a2_2*b.a6_2 + a.a2_3*b.a6_3 + a.a2_4*b.a6_4 + a.a2_5*b.a6_5 + a.a2_6*b.a6_6 + a.a2_7*b.a6_7 + a.a2_8*b.a6_8 + a.a2_9*b.a6_9 + a.a2_10*b.a6_10 + a.a2_11*b.a6_11 + a.a2_12*b.a6_12;
+        c.a2_7 = a.a2_1*b.a7_1 + a.a2_2*b.a7_2 + a.a2_3*b.a7_3 + a.a2_4*b.a7_4 + a.a2_5*b.a7_5 + a.a2_6*b.a7_6 + a.a2_7*b.a7_7 + a.a2_8*b.a7_8 + a.a2_9*b.a7_9 + a.a2_10*b.a7_10 + a.a2_11*b.a7_11 + a.a2_12*b.a7_12;
+        c.a2_8 = a.a2_1*b.a8_1 + a.a2_2*b.a8_2 + a.a2_3*b.a8_3 + a.a2_4*b.a8_4 + a.a2_5*b.a8_5 + a.a2_6*b.a8_6 + a.a2_7*b.a8_7 + a.a2_8*b.a8_8 + a.a2_9*b.a8_9 + a.a2_10*b.a8_10 + a.a2_11*b.a8_11 + a.a2_12*b.a8_12;
+        c.a2_9 = a.a2_1*b.a9_1 + a.a2_2*b.a9_2 + a.a2_3*b.a9_3 + a.a2_4*b.a9_4 + a.a2_5*b.a9_5 + a.a2_6*b.a9_6 + a.a2_7*b.a9_7 + a.a2_8*b.a9_8 + a.a2_9*b.a9_9 + a.a2_10*b.a9_10 + a.a2_11*b.a9_11 + a.a2_12*b.a9_12;
+        c.a2_10 = a.a2_1*b.a10_1 + a.a2_2*b.a10_2 + a.a2_3*b.a10_3 + a.a2_4*b.a10_4 + a.a2_5*b.a10_5 + a.a2_6*b.a10_6 + a.a2_7*b.a10_7 + a.a2_8*b.a10_8 + a.a2_9*b.a10_9 + a.a2_10*b.a10_10 + a.a2_11*b.a10_11 + a.a2_12*b.a10_12;
+        c.a2_11 = a.a2_1*b.a11_1 + a.a2_2*b.a11_2 + a.a2_3*b.a11_3 + a.a2_4*b.a11_4 + a.a2_5*b.a11_5 + a.a2_6*b.a11_6 + a.a2_7*b.a11_7 + a.a2_8*b.a11_8 + a.a2_9*b.a11_9 + a.a2_10*b.a11_10 + a.a2_11*b.a11_11 + a.a2_12*b.a11_12;
+        c.a2_12 = a.a2_1*b.a12_1 + a.a2_2*b.a12_2 + a.a2_3*b.a12_3 + a.a2_4*b.a12_4 + a.a2_5*b.a12_5 + a.a2_6*b.a12_6 + a.a2_7*b.a12_7 + a.a2_8*b.a12_8 + a.a2_9*b.a12_9 + a.a2_10*b.a12_10 + a.a2_11*b.a12_11 + a.a2_12*b.a12_12;
+        c.a3_1 = a.a3_1*b.a1_1 + a.a3_2*b.a1_2 + a.a3_3*b.a1_3 + a.a3_4*b.a1_4 + a.a3_5*b.a1_5 + a.a3_6*b.a1_6 + a.a3_7*b.a1_7 + a.a3_8*b.a1_8 + a.a3_9*b.a1_9 + a.a3_10*b.a1_10 + a.a3_11*b.a1_11 + a.a3_12*b.a1_12;
+        c.a3_2 = a.a3_1*b.a2_1 + a.a3_2*b.a2_2 + a.a3_3*b.a2_3 + a.a3_4*b.a2_4 + a.a3_5*b.a2_5 + a.a3_6*b.a2_6 + a.a3_7*b.a2_7 + a.a3_8*b.a2_8 + a.a3_9*b.a2_9 + a.a3_10*b.a2_10 + a.a3_11*b.a2_11 + a.a3_12*b.a2_12;
+        c.a3_3 = a.a3_1*b.a3_1 + a.a3_2*b.a3_2 + a.a3_3*b.a3_3 + a.a3_4*b.a3_4 + a.a3_5*b.a3_5 + a.a3_6*b.a3_6 + a.a3_7*b.a3_7 + a.a3_8*b.a3_8 + a.a3_9*b.a3_9 + a.a3_10*b.a3_10 + a.a3_11*b.a3_11 + a.a3_12*b.a3_12;
+        c.a3_4 = a.a3_1*b.a4_1 + a.a3_2*b.a4_2 + a.a3_3*b.a4_3 + a.a3_4*b.a4_4 + a.a3_5*b.a4_5 + a.a3_6*b.a4_6 + a.a3_7*b.a4_7 + a.a3_8*b.a4_8 + a.a3_9*b.a4_9 + a.a3_10*b.a4_10 + a.a3_11*b.a4_11 + a.a3_12*b.a4_12;
+        c.a3_5 = a.a3_1*b.a5_1 + a.a3_2*b.a5_2 + a.a3_3*b.a5_3 + a.a3_4*b.a5_4 + a.a3_5*b.a5_5 + a.a3_6*b.a5_6 + a.a3_7*b.a5_7 + a.a3_8*b.a5_8 + a.a3_9*b.a5_9 + a.a3_10*b.a5_10 + a.a3_11*b.a5_11 + a.a3_12*b.a5_12;
+        c.a3_6 = a.a3_1*b.a6_1 + a.a3_2*b.a6_2 + a.a3_3*b.a6_3 + a.a3_4*b.a6_4 + a.a3_5*b.a6_5 + a.a3_6*b.a6_6 + a.a3_7*b.a6_7 + a.a3_8*b.a6_8 + a.a3_9*b.a6_9 + a.a3_10*b.a6_10 + a.a3_11*b.a6_11 + a.a3_12*b.a6_12;
+        c.a3_7 = a.a3_1*b.a7_1 + a.a3_2*b.a7_2 + a.a3_3*b.a7_3 + a.a3_4*b.a7_4 + a.a3_5*b.a7_5 + a.a3_6*b.a7_6 + a.a3_7*b.a7_7 + a.a3_8*b.a7_8 + a.a3_9*b.a7_9 + a.a3_10*b.a7_10 + a.a3_11*b.a7_11 + a.a3_12*b.a7_12;
+        c.a3_8 = a.a3_1*b.a8_1 + a.a3_2*b.a8_2 + a.a3_3*b.a8_3 + a.a3_4*b.a8_4 + a.a3_5*b.a8_5 + a.a3_6*b.a8_6 + a.a3_7*b.a8_7 + a.a3_8*b.a8_8 + a.a3_9*b.a8_9 + a.a3_10*b.a8_10 + a.a3_11*b.a8_11 + a.a3_12*b.a8_12;
+        c.a3_9 = a.a3_1*b.a9_1 + a.a3_2*b.a9_2 + a.a3_3*b.a9_3 + a.a3_4*b.a9_4 + a.a3_5*b.a9_5 + a.a3_6*b.a9_6 + a.a3_7*b.a9_7 + a.a3_8*b.a9_8 + a.a3_9*b.a9_9 + a.a3_10*b.a9_10 + a.a3_11*b.a9_11 + a.a3_12*b.a9_12;
+        c.a3_10 = a.a3_1*b.a10_1 + a.a3_2*b.a10_2 + a.a3_3*b.a10_3 + a.a3_4*b.a10_4 + a.a3_5*b.a10_5 + a.a3_6*b.a10_6 + a.a3_7*b.a10_7 + a.a3_8*b.a10_8 + a.a3_9*b.a10_9 + a.a3_10*b.a10_10 + a.a3_11*b.a10_11 + a.a3_12*b.a10_12;
+        c.a3_11 = a.a3_1*b.a11_1 + a.a3_2*b.a11_2 + a.a3_3*b.a11_3 + a.a3_4*b.a11_4 + a.a3_5*b.a11_5 + a.a3_6*b.a11_6 + a.a3_7*b.a11_7 + a.a3_8*b.a11_8 + a.a3_9*b.a11_9 + a.a3_10*b.a11_10 + a.a3_11*b.a11_11 + a.a3_12*b.a11_12;
+        c.a3_12 = a.a3_1*b.a12_1 + a.a3_2*b.a12_2 + a.a3_3*b.a12_3 + a.a3_4*b.a12_4 + a.a3_5*b.a12_5 + a.a3_6*b.a12_6 + a.a3_7*b.a12_7 + a.a3_8*b.a12_8 + a.a3_9*b.a12_9 + a.a3_10*b.a12_10 + a.a3_11*b.a12_11 + a.a3_12*b.a12_12;
+        c.a4_1 = a.a4_1*b.a1_1 + a.a4_2*b.a1_2 + a.a4_3*b.a1_3 + a.a4_4*b.a1_4 + a.a4_5*b.a1_5 + a.a4_6*b.a1_6 + a.a4_7*b.a1_7 + a.a4_8*b.a1_8 + a.a4_9*b.a1_9 + a.a4_10*b.a1_10 + a.a4_11*b.a1_11 + a.a4_12*b.a1_12;
+        c.a4_2 = a.a4_1*b.a2_1 + a.a4_2*b.a2_2 + a.a4_3*b.a2_3 + a.a4_4*b.a2_4 + a.a4_5*b.a2_5 + a.a4_6*b.a2_6 + a.a4_7*b.a2_7 + a.a4_8*b.a2_8 + a.a4_9*b.a2_9 + a.a4_10*b.a2_10 + a.a4_11*b.a2_11 + a.a4_12*b.a2_12;
+        c.a4_3 = a.a4_1*b.a3_1 + a.a4_2*b.a3_2 + a.a4_3*b.a3_3 + a.a4_4*b.a3_4 + a.a4_5*b.a3_5 + a.a4_6*b.a3_6 + a.a4_7*b.a3_7 + a.a4_8*b.a3_8 + a.a4_9*b.a3_9 + a.a4_10*b.a3_10 + a.a4_11*b.a3_11 + a.a4_12*b.a3_12;
+        c.a4_4 = a.a4_1*b.a4_1 + a.a4_2*b.a4_2 + a.a4_3*b.a4_3 + a.a4_4*b.a4_4 + a.a4_5*b.a4_5 + a.a4_6*b.a4_6 + a.a4_7*b.a4_7 + a.a4_8*b.a4_8 + a.a4_9*b.a4_9 + a.a4_10*b.a4_10 + a.a4_11*b.a4_11 + a.a4_12*b.a4_12;
+        c.a4_5 = a.a4_1*b.a5_1 + a.a4_2*b.a5_2 + a.a4_3*b.a5_3 + a.a4_4*b.a5_4 + a.a4_5*b.a5_5 + a.a4_6*b.a5_6 + a.a4_7*b.a5_7 + a.a4_8*b.a5_8 + a.a4_9*b.a5_9 + a.a4_10*b.a5_10 + a.a4_11*b.a5_11 + a.a4_12*b.a5_12;
+        c.a4_6 = a.a4_1*b.a6_1 + a.a4_2*b.a6_2 + a.a4_3*b.a6_3 + a.a4_4*b.a6_4 + a.a4_5*b.a6_5 + a.a4_6*b.a6_6 + a.a4_7*b.a6_7 + a.a4_8*b.a6_8 + a.a4_9*b.a6_9 + a.a4_10*b.a6_10 + a.a4_11*b.a6_11 + a.a4_12*b.a6_12;
+        c.a4_7 = a.a4_1*b.a7_1 + a.a4_2*b.a7_2 + a.a4_3*b.a7_3 + a.a4_4*b.a7_4 + a.a4_5*b.a7_5 + a.a4_6*b.a7_6 + a.a4_7*b.a7_7 + a.a4_8*b.a7_8 + a.a4_9*b.a7_9 + a.a4_10*b.a7_10 + a.a4_11*b.a7_11 + a.a4_12*b.a7_12;
+        c.a4_8 = a.a4_1*b.a8_1 + a.a4_2*b.a8_2 + a.a4_3*b.a8_3 + a.a4_4*b.a8_4 + a.a4_5*b.a8_5 + a.a4_6*b.a8_6 + a.a4_7*b.a8_7 + a.a4_8*b.a8_8 + a.a4_9*b.a8_9 + a.a4_10*b.a8_10 + a.a4_11*b.a8_11 + a.a4_12*b.a8_12;
+        c.a4_9 = a.a4_1*b.a9_1 + a.a4_2*b.a9_2 + a.a4_3*b.a9_3 + a.a4_4*b.a9_4 + a.a4_5*b.a9_5 + a.a4_6*b.a9_6 + a.a4_7*b.a9_7 + a.a4_8*b.a9_8 + a.a4_9*b.a9_9 + a.a4_10*b.a9_10 + a.a4_11*b.a9_11 + a.a4_12*b.a9_12;
+        c.a4_10 = a.a4_1*b.a10_1 + a.a4_2*b.a10_2 + a.a4_3*b.a10_3 + a.a4_4*b.a10_4 + a.a4_5*b.a10_5 + a.a4_6*b.a10_6 + a.a4_7*b.a10_7 + a.a4_8*b.a10_8 + a.a4_9*b.a10_9 + a.a4_10*b.a10_10 + a.a4_11*b.a10_11 + a.a4_12*b.a10_12;
+        c.a4_11 = a.a4_1*b.a11_1 + a.a4_2*b.a11_2 + a.a4_3*b.a11_3 + a.a4_4*b.a11_4 + a.a4_5*b.a11_5 + a.a4_6*b.a11_6 + a.a4_7*b.a11_7 + a.a4_8*b.a11_8 + a.a4_9*b.a11_9 + a.a4_10*b.a11_10 + a.a4_11*b.a11_11 + a.a4_12*b.a11_12;
+        c.a4_12 = a.a4_1*b.a12_1 + a.a4_2*b.a12_2 + a.a4_3*b.a12_3 + a.a4_4*b.a12_4 + a.a4_5*b.a12_5 + a.a4_6*b.a12_6 + a.a4_7*b.a12_7 + a.a4_8*b.a12_8 + a.a4_9*b.a12_9 + a.a4_10*b.a12_10 + a.a4_11*b.a12_11 + a.a4_12*b.a12_12;
+        c.a5_1 = a.a5_1*b.a1_1 + a.a5_2*b.a1_2 + a.a5_3*b.a1_3 + a.a5_4*b.a1_4 + a.a5_5*b.a1_5 + a.a5_6*b.a1_6 + a.a5_7*b.a1_7 + a.a5_8*b.a1_8 + a.a5_9*b.a1_9 + a.a5_10*b.a1_10 + a.a5_11*b.a1_11 + a.a5_12*b.a1_12;
+        c.a5_2 = a.a5_1*b.a2_1 + a.a5_2*b.a2_2 + a.a5_3*b.a2_3 + a.a5_4*b.a2_4 + a.a5_5*b.a2_5 + a.a5_6*b.a2_6 + a.a5_7*b.a2_7 + a.a5_8*b.a2_8 + a.a5_9*b.a2_9 + a.a5_10*b.a2_10 + a.a5_11*b.a2_11 + a.a5_12*b.a2_12;
+        c.a5_3 = a.a5_1*b.a3_1 + a.a5_2*b.a3_2 + a.a5_3*b.a3_3 + a.a5_4*b.a3_4 + a.a5_5*b.a3_5 + a.a5_6*b.a3_6 + a.a5_7*b.a3_7 + a.a5_8*b.a3_8 + a.a5_9*b.a3_9 + a.a5_10*b.a3_10 + a.a5_11*b.a3_11 + a.a5_12*b.a3_12;
+        c.a5_4 = a.a5_1*b.a4_1 + a.a5_2*b.a4_2 + a.a5_3*b.a4_3 + a.a5_4*b.a4_4 + a.a5_5*b.a4_5 + a.a5_6*b.a4_6 + a.a5_7*b.a4_7 + a.a5_8*b.a4_8 + a.a5_9*b.a4_9 + a.a5_10*b.a4_10 + a.a5_11*b.a4_11 + a.a5_12*b.a4_12;
+        c.a5_5 = a.a5_1*b.a5_1 + a.a5_2*b.a5_2 + a.a5_3*b.a5_3 + a.a5_4*b.a5_4 + a.a5_5*b.a5_5 + a.a5_6*b.a5_6 + a.a5_7*b.a5_7 + a.a5_8*b.a5_8 + a.a5_9*b.a5_9 + a.a5_10*b.a5_10 + a.a5_11*b.a5_11 + a.a5_12*b.a5_12;
+        c.a5_6 = a.a5_1*b.a6_1 + a.a5_2*b.a6_2 + a.a5_3*b.a6_3 + a.a5_4*b.a6_4 + a.a5_5*b.a6_5 + a.a5_6*b.a6_6 + a.a5_7*b.a6_7 + a.a5_8*b.a6_8 + a.a5_9*b.a6_9 + a.a5_10*b.a6_10 + a.a5_11*b.a6_11 + a.a5_12*b.a6_12;
+        c.a5_7 = a.a5_1*b.a7_1 + a.a5_2*b.a7_2 + a.a5_3*b.a7_3 + a.a5_4*b.a7_4 + a.a5_5*b.a7_5 + a.a5_6*b.a7_6 + a.a5_7*b.a7_7 + a.a5_8*b.a7_8 + a.a5_9*b.a7_9 + a.a5_10*b.a7_10 + a.a5_11*b.a7_11 + a.a5_12*b.a7_12;
+        c.a5_8 = a.a5_1*b.a8_1 + a.a5_2*b.a8_2 + a.a5_3*b.a8_3 + a.a5_4*b.a8_4 + a.a5_5*b.a8_5 + a.a5_6*b.a8_6 + a.a5_7*b.a8_7 + a.a5_8*b.a8_8 + a.a5_9*b.a8_9 + a.a5_10*b.a8_10 + a.a5_11*b.a8_11 + a.a5_12*b.a8_12;
+        c.a5_9 = a.a5_1*b.a9_1 + a.a5_2*b.a9_2 + a.a5_3*b.a9_3 + a.a5_4*b.a9_4 + a.a5_5*b.a9_5 + a.a5_6*b.a9_6 + a.a5_7*b.a9_7 + a.a5_8*b.a9_8 + a.a5_9*b.a9_9 + a.a5_10*b.a9_10 + a.a5_11*b.a9_11 + a.a5_12*b.a9_12;
+        c.a5_10 = a.a5_1*b.a10_1 + a.a5_2*b.a10_2 + a.a5_3*b.a10_3 + a.a5_4*b.a10_4 + a.a5_5*b.a10_5 + a.a5_6*b.a10_6 + a.a5_7*b.a10_7 + a.a5_8*b.a10_8 + a.a5_9*b.a10_9 + a.a5_10*b.a10_10 + a.a5_11*b.a10_11 + a.a5_12*b.a10_12;
+        c.a5_11 = a.a5_1*b.a11_1 + a.a5_2*b.a11_2 + a.a5_3*b.a11_3 + a.a5_4*b.a11_4 + a.a5_5*b.a11_5 + a.a5_6*b.a11_6 + a.a5_7*b.a11_7 + a.a5_8*b.a11_8 + a.a5_9*b.a11_9 + a.a5_10*b.a11_10 + a.a5_11*b.a11_11 + a.a5_12*b.a11_12;
+        c.a5_12 = a.a5_1*b.a12_1 + a.a5_2*b.a12_2 + a.a5_3*b.a12_3 + a.a5_4*b.a12_4 + a.a5_5*b.a12_5 + a.a5_6*b.a12_6 + a.a5_7*b.a12_7 + a.a5_8*b.a12_8 + a.a5_9*b.a12_9 + a.a5_10*b.a12_10 + a.a5_11*b.a12_11 + a.a5_12*b.a12_12;
+    }
+
+    private static void multTransB_rows6to10( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a6_1 = a.a6_1*b.a1_1 + a.a6_2*b.a1_2 + a.a6_3*b.a1_3 + a.a6_4*b.a1_4 + a.a6_5*b.a1_5 + a.a6_6*b.a1_6 + a.a6_7*b.a1_7 + a.a6_8*b.a1_8 + a.a6_9*b.a1_9 + a.a6_10*b.a1_10 + a.a6_11*b.a1_11 + a.a6_12*b.a1_12;
+        c.a6_2 = a.a6_1*b.a2_1 + a.a6_2*b.a2_2 + a.a6_3*b.a2_3 + a.a6_4*b.a2_4 + a.a6_5*b.a2_5 + a.a6_6*b.a2_6 + a.a6_7*b.a2_7 + a.a6_8*b.a2_8 + a.a6_9*b.a2_9 + a.a6_10*b.a2_10 + a.a6_11*b.a2_11 + a.a6_12*b.a2_12;
+        c.a6_3 = a.a6_1*b.a3_1 + a.a6_2*b.a3_2 + a.a6_3*b.a3_3 + a.a6_4*b.a3_4 + a.a6_5*b.a3_5 + a.a6_6*b.a3_6 + a.a6_7*b.a3_7 + a.a6_8*b.a3_8 + a.a6_9*b.a3_9 + a.a6_10*b.a3_10 + a.a6_11*b.a3_11 + a.a6_12*b.a3_12;
+        c.a6_4 = a.a6_1*b.a4_1 + a.a6_2*b.a4_2 + a.a6_3*b.a4_3 + a.a6_4*b.a4_4 + a.a6_5*b.a4_5 + a.a6_6*b.a4_6 + a.a6_7*b.a4_7 + a.a6_8*b.a4_8 + a.a6_9*b.a4_9 + a.a6_10*b.a4_10 + a.a6_11*b.a4_11 + a.a6_12*b.a4_12;
+        c.a6_5 = a.a6_1*b.a5_1 + a.a6_2*b.a5_2 + a.a6_3*b.a5_3 + a.a6_4*b.a5_4 + a.a6_5*b.a5_5 + a.a6_6*b.a5_6 + a.a6_7*b.a5_7 + a.a6_8*b.a5_8 + a.a6_9*b.a5_9 + a.a6_10*b.a5_10 + a.a6_11*b.a5_11 + a.a6_12*b.a5_12;
+        c.a6_6 = a.a6_1*b.a6_1 + a.a6_2*b.a6_2 + a.a6_3*b.a6_3 + a.a6_4*b.a6_4 + a.a6_5*b.a6_5 + a.a6_6*b.a6_6 + a.a6_7*b.a6_7 + a.a6_8*b.a6_8 + a.a6_9*b.a6_9 + a.a6_10*b.a6_10 + a.a6_11*b.a6_11 + a.a6_12*b.a6_12;
+        c.a6_7 = a.a6_1*b.a7_1 + a.a6_2*b.a7_2 + a.a6_3*b.a7_3 + a.a6_4*b.a7_4 + a.a6_5*b.a7_5 + a.a6_6*b.a7_6 + a.a6_7*b.a7_7 + a.a6_8*b.a7_8 + a.a6_9*b.a7_9 + a.a6_10*b.a7_10 + a.a6_11*b.a7_11 + a.a6_12*b.a7_12;
+        c.a6_8 = a.a6_1*b.a8_1 + a.a6_2*b.a8_2 + a.a6_3*b.a8_3 + a.a6_4*b.a8_4 + a.a6_5*b.a8_5 + a.a6_6*b.a8_6 + a.a6_7*b.a8_7 + a.a6_8*b.a8_8 + a.a6_9*b.a8_9 + a.a6_10*b.a8_10 + a.a6_11*b.a8_11 + a.a6_12*b.a8_12;
+        c.a6_9 = a.a6_1*b.a9_1 + a.a6_2*b.a9_2 + a.a6_3*b.a9_3 + a.a6_4*b.a9_4 + a.a6_5*b.a9_5 + a.a6_6*b.a9_6 + a.a6_7*b.a9_7 + a.a6_8*b.a9_8 + a.a6_9*b.a9_9 + a.a6_10*b.a9_10 + a.a6_11*b.a9_11 + a.a6_12*b.a9_12;
+        c.a6_10 = a.a6_1*b.a10_1 + a.a6_2*b.a10_2 + a.a6_3*b.a10_3 + a.a6_4*b.a10_4 + a.a6_5*b.a10_5 + a.a6_6*b.a10_6 + a.a6_7*b.a10_7 + a.a6_8*b.a10_8 + a.a6_9*b.a10_9 + a.a6_10*b.a10_10 + a.a6_11*b.a10_11 + a.a6_12*b.a10_12;
+        c.a6_11 = a.a6_1*b.a11_1 + a.a6_2*b.a11_2 + a.a6_3*b.a11_3 + a.a6_4*b.a11_4 + a.a6_5*b.a11_5 + a.a6_6*b.a11_6 + a.a6_7*b.a11_7 + a.a6_8*b.a11_8 + a.a6_9*b.a11_9 + a.a6_10*b.a11_10 + a.a6_11*b.a11_11 + a.a6_12*b.a11_12;
+        c.a6_12 = a.a6_1*b.a12_1 + a.a6_2*b.a12_2 + a.a6_3*b.a12_3 + a.a6_4*b.a12_4 + a.a6_5*b.a12_5 + a.a6_6*b.a12_6 + a.a6_7*b.a12_7 + a.a6_8*b.a12_8 + a.a6_9*b.a12_9 + a.a6_10*b.a12_10 + a.a6_11*b.a12_11 + a.a6_12*b.a12_12;
+        c.a7_1 = a.a7_1*b.a1_1 + a.a7_2*b.a1_2 + a.a7_3*b.a1_3 + a.a7_4*b.a1_4 + a.a7_5*b.a1_5 + a.a7_6*b.a1_6 + a.a7_7*b.a1_7 + a.a7_8*b.a1_8 + a.a7_9*b.a1_9 + a.a7_10*b.a1_10 + a.a7_11*b.a1_11 + a.a7_12*b.a1_12;
+        c.a7_2 = a.a7_1*b.a2_1 + a.a7_2*b.a2_2 + a.a7_3*b.a2_3 + a.a7_4*b.a2_4 + a.a7_5*b.a2_5 + a.a7_6*b.a2_6 + a.a7_7*b.a2_7 + a.a7_8*b.a2_8 + a.a7_9*b.a2_9 + a.a7_10*b.a2_10 + a.a7_11*b.a2_11 + a.a7_12*b.a2_12;
+        c.a7_3 = a.a7_1*b.a3_1 + a.a7_2*b.a3_2 + a.a7_3*b.a3_3 + a.a7_4*b.a3_4 + a.a7_5*b.a3_5 + a.a7_6*b.a3_6 + a.a7_7*b.a3_7 + a.a7_8*b.a3_8 + a.a7_9*b.a3_9 + a.a7_10*b.a3_10 + a.a7_11*b.a3_11 + a.a7_12*b.a3_12;
+        c.a7_4 = a.a7_1*b.a4_1 + a.a7_2*b.a4_2 + a.a7_3*b.a4_3 + a.a7_4*b.a4_4 + a.a7_5*b.a4_5 + a.a7_6*b.a4_6 + a.a7_7*b.a4_7 + a.a7_8*b.a4_8 + a.a7_9*b.a4_9 + a.a7_10*b.a4_10 + a.a7_11*b.a4_11 + a.a7_12*b.a4_12;
+        c.a7_5 = a.a7_1*b.a5_1 + a.a7_2*b.a5_2 + a.a7_3*b.a5_3 + a.a7_4*b.a5_4 + a.a7_5*b.a5_5 + a.a7_6*b.a5_6 + a.a7_7*b.a5_7 + a.a7_8*b.a5_8 + a.a7_9*b.a5_9 + a.a7_10*b.a5_10 + a.a7_11*b.a5_11 + a.a7_12*b.a5_12;
+        c.a7_6 = a.a7_1*b.a6_1 + a.a7_2*b.a6_2 + a.a7_3*b.a6_3 + a.a7_4*b.a6_4 + a.a7_5*b.a6_5 + a.a7_6*b.a6_6 + a.a7_7*b.a6_7 + a.a7_8*b.a6_8 + a.a7_9*b.a6_9 + a.a7_10*b.a6_10 + a.a7_11*b.a6_11 + a.a7_12*b.a6_12;
+        c.a7_7 = a.a7_1*b.a7_1 + a.a7_2*b.a7_2 + a.a7_3*b.a7_3 + a.a7_4*b.a7_4 + a.a7_5*b.a7_5 + a.a7_6*b.a7_6 + a.a7_7*b.a7_7 + a.a7_8*b.a7_8 + a.a7_9*b.a7_9 + a.a7_10*b.a7_10 + a.a7_11*b.a7_11 + a.a7_12*b.a7_12;
+        c.a7_8 = a.a7_1*b.a8_1 + a.a7_2*b.a8_2 + a.a7_3*b.a8_3 + a.a7_4*b.a8_4 + a.a7_5*b.a8_5 + a.a7_6*b.a8_6 + a.a7_7*b.a8_7 + a.a7_8*b.a8_8 + a.a7_9*b.a8_9 + a.a7_10*b.a8_10 + a.a7_11*b.a8_11 + a.a7_12*b.a8_12;
+        c.a7_9 = a.a7_1*b.a9_1 + a.a7_2*b.a9_2 + a.a7_3*b.a9_3 + a.a7_4*b.a9_4 + a.a7_5*b.a9_5 + a.a7_6*b.a9_6 + a.a7_7*b.a9_7 + a.a7_8*b.a9_8 + a.a7_9*b.a9_9 + a.a7_10*b.a9_10 + a.a7_11*b.a9_11 + a.a7_12*b.a9_12;
+        c.a7_10 = a.a7_1*b.a10_1 + a.a7_2*b.a10_2 + a.a7_3*b.a10_3 + a.a7_4*b.a10_4 + a.a7_5*b.a10_5 + a.a7_6*b.a10_6 + a.a7_7*b.a10_7 + a.a7_8*b.a10_8 + a.a7_9*b.a10_9 + a.a7_10*b.a10_10 + a.a7_11*b.a10_11 + a.a7_12*b.a10_12;
+        c.a7_11 = a.a7_1*b.a11_1 + a.a7_2*b.a11_2 + a.a7_3*b.a11_3 + a.a7_4*b.a11_4 + a.a7_5*b.a11_5 + a.a7_6*b.a11_6 + a.a7_7*b.a11_7 + a.a7_8*b.a11_8 + a.a7_9*b.a11_9 + a.a7_10*b.a11_10 + a.a7_11*b.a11_11 + a.a7_12*b.a11_12;
+        c.a7_12 = a.a7_1*b.a12_1 + a.a7_2*b.a12_2 + a.a7_3*b.a12_3 + a.a7_4*b.a12_4 + a.a7_5*b.a12_5 + a.a7_6*b.a12_6 + a.a7_7*b.a12_7 + a.a7_8*b.a12_8 + a.a7_9*b.a12_9 + a.a7_10*b.a12_10 + a.a7_11*b.a12_11 + a.a7_12*b.a12_12;
+        c.a8_1 = a.a8_1*b.a1_1 + a.a8_2*b.a1_2 + a.a8_3*b.a1_3 + a.a8_4*b.a1_4 + a.a8_5*b.a1_5 + a.a8_6*b.a1_6 + a.a8_7*b.a1_7 + a.a8_8*b.a1_8 + a.a8_9*b.a1_9 + a.a8_10*b.a1_10 + a.a8_11*b.a1_11 + a.a8_12*b.a1_12;
+        c.a8_2 = a.a8_1*b.a2_1 + a.a8_2*b.a2_2 + a.a8_3*b.a2_3 + a.a8_4*b.a2_4 + a.a8_5*b.a2_5 + a.a8_6*b.a2_6 + a.a8_7*b.a2_7 + a.a8_8*b.a2_8 + a.a8_9*b.a2_9 + a.a8_10*b.a2_10 + a.a8_11*b.a2_11 + a.a8_12*b.a2_12;
+        c.a8_3 = a.a8_1*b.a3_1 + a.a8_2*b.a3_2 + a.a8_3*b.a3_3 + a.a8_4*b.a3_4 + a.a8_5*b.a3_5 + a.a8_6*b.a3_6 + a.a8_7*b.a3_7 + a.a8_8*b.a3_8 + a.a8_9*b.a3_9 + a.a8_10*b.a3_10 + a.a8_11*b.a3_11 + a.a8_12*b.a3_12;
+        c.a8_4 = a.a8_1*b.a4_1 + a.a8_2*b.a4_2 + a.a8_3*b.a4_3 + a.a8_4*b.a4_4 + a.a8_5*b.a4_5 + a.a8_6*b.a4_6 + a.a8_7*b.a4_7 + a.a8_8*b.a4_8 + a.a8_9*b.a4_9 + a.a8_10*b.a4_10 + a.a8_11*b.a4_11 + a.a8_12*b.a4_12;
+        c.a8_5 = a.a8_1*b.a5_1 + a.a8_2*b.a5_2 + a.a8_3*b.a5_3 + a.a8_4*b.a5_4 + a.a8_5*b.a5_5 + a.a8_6*b.a5_6 + a.a8_7*b.a5_7 + a.a8_8*b.a5_8 + a.a8_9*b.a5_9 + a.a8_10*b.a5_10 + a.a8_11*b.a5_11 + a.a8_12*b.a5_12;
+        c.a8_6 = a.a8_1*b.a6_1 + a.a8_2*b.a6_2 + a.a8_3*b.a6_3 + a.a8_4*b.a6_4 + a.a8_5*b.a6_5 + a.a8_6*b.a6_6 + a.a8_7*b.a6_7 + a.a8_8*b.a6_8 + a.a8_9*b.a6_9 + a.a8_10*b.a6_10 + a.a8_11*b.a6_11 + a.a8_12*b.a6_12;
+        c.a8_7 = a.a8_1*b.a7_1 + a.a8_2*b.a7_2 + a.a8_3*b.a7_3 + a.a8_4*b.a7_4 + a.a8_5*b.a7_5 + a.a8_6*b.a7_6 + a.a8_7*b.a7_7 + a.a8_8*b.a7_8 + a.a8_9*b.a7_9 + a.a8_10*b.a7_10 + a.a8_11*b.a7_11 + a.a8_12*b.a7_12;
+        c.a8_8 = a.a8_1*b.a8_1 + a.a8_2*b.a8_2 + a.a8_3*b.a8_3 + a.a8_4*b.a8_4 + a.a8_5*b.a8_5 + a.a8_6*b.a8_6 + a.a8_7*b.a8_7 + a.a8_8*b.a8_8 + a.a8_9*b.a8_9 + a.a8_10*b.a8_10 + a.a8_11*b.a8_11 + a.a8_12*b.a8_12;
+        c.a8_9 = a.a8_1*b.a9_1 + a.a8_2*b.a9_2 + a.a8_3*b.a9_3 + a.a8_4*b.a9_4 + a.a8_5*b.a9_5 + a.a8_6*b.a9_6 + a.a8_7*b.a9_7 + a.a8_8*b.a9_8 + a.a8_9*b.a9_9 + a.a8_10*b.a9_10 + a.a8_11*b.a9_11 + a.a8_12*b.a9_12;
+        c.a8_10 = a.a8_1*b.a10_1 + a.a8_2*b.a10_2 + a.a8_3*b.a10_3 + a.a8_4*b.a10_4 + a.a8_5*b.a10_5 + a.a8_6*b.a10_6 + a.a8_7*b.a10_7 + a.a8_8*b.a10_8 + a.a8_9*b.a10_9 + a.a8_10*b.a10_10 + a.a8_11*b.a10_11 + a.a8_12*b.a10_12;
+        c.a8_11 = a.a8_1*b.a11_1 + a.a8_2*b.a11_2 + a.a8_3*b.a11_3 + a.a8_4*b.a11_4 + a.a8_5*b.a11_5 + a.a8_6*b.a11_6 + a.a8_7*b.a11_7 + a.a8_8*b.a11_8 + a.a8_9*b.a11_9 + a.a8_10*b.a11_10 + a.a8_11*b.a11_11 + a.a8_12*b.a11_12;
+        c.a8_12 = a.a8_1*b.a12_1 + a.a8_2*b.a12_2 + a.a8_3*b.a12_3 + a.a8_4*b.a12_4 + a.a8_5*b.a12_5 + a.a8_6*b.a12_6 + a.a8_7*b.a12_7 + a.a8_8*b.a12_8 + a.a8_9*b.a12_9 + a.a8_10*b.a12_10 + a.a8_11*b.a12_11 + a.a8_12*b.a12_12;
+        c.a9_1 = a.a9_1*b.a1_1 + a.a9_2*b.a1_2 + a.a9_3*b.a1_3 + a.a9_4*b.a1_4 + a.a9_5*b.a1_5 + a.a9_6*b.a1_6 + a.a9_7*b.a1_7 + a.a9_8*b.a1_8 + a.a9_9*b.a1_9 + a.a9_10*b.a1_10 + a.a9_11*b.a1_11 + a.a9_12*b.a1_12;
+        c.a9_2 = a.a9_1*b.a2_1 + a.a9_2*b.a2_2 + a.a9_3*b.a2_3 + a.a9_4*b.a2_4 + a.a9_5*b.a2_5 + a.a9_6*b.a2_6 + a.a9_7*b.a2_7 + a.a9_8*b.a2_8 + a.a9_9*b.a2_9 + a.a9_10*b.a2_10 + a.a9_11*b.a2_11 + a.a9_12*b.a2_12;
+        c.a9_3 = a.a9_1*b.a3_1 + a.a9_2*b.a3_2 + a.a9_3*b.a3_3 + a.a9_4*b.a3_4 + a.a9_5*b.a3_5 + a.a9_6*b.a3_6 + a.a9_7*b.a3_7 + a.a9_8*b.a3_8 + a.a9_9*b.a3_9 + a.a9_10*b.a3_10 + a.a9_11*b.a3_11 + a.a9_12*b.a3_12;
+        c.a9_4 = a.a9_1*b.a4_1 + a.a9_2*b.a4_2 + a.a9_3*b.a4_3 + a.a9_4*b.a4_4 + a.a9_5*b.a4_5 + a.a9_6*b.a4_6 + a.a9_7*b.a4_7 + a.a9_8*b.a4_8 + a.a9_9*b.a4_9 + a.a9_10*b.a4_10 + a.a9_11*b.a4_11 + a.a9_12*b.a4_12;
+        c.a9_5 = a.a9_1*b.a5_1 + a.a9_2*b.a5_2 + a.a9_3*b.a5_3 + a.a9_4*b.a5_4 + a.a9_5*b.a5_5 + a.a9_6*b.a5_6 + a.a9_7*b.a5_7 + a.a9_8*b.a5_8 + a.a9_9*b.a5_9 + a.a9_10*b.a5_10 + a.a9_11*b.a5_11 + a.a9_12*b.a5_12;
+        c.a9_6 = a.a9_1*b.a6_1 + a.a9_2*b.a6_2 + a.a9_3*b.a6_3 + a.a9_4*b.a6_4 + a.a9_5*b.a6_5 + a.a9_6*b.a6_6 + a.a9_7*b.a6_7 + a.a9_8*b.a6_8 + a.a9_9*b.a6_9 + a.a9_10*b.a6_10 + a.a9_11*b.a6_11 + a.a9_12*b.a6_12;
+        c.a9_7 = a.a9_1*b.a7_1 + a.a9_2*b.a7_2 + a.a9_3*b.a7_3 + a.a9_4*b.a7_4 + a.a9_5*b.a7_5 + a.a9_6*b.a7_6 + a.a9_7*b.a7_7 + a.a9_8*b.a7_8 + a.a9_9*b.a7_9 + a.a9_10*b.a7_10 + a.a9_11*b.a7_11 + a.a9_12*b.a7_12;
+        c.a9_8 = a.a9_1*b.a8_1 + a.a9_2*b.a8_2 + a.a9_3*b.a8_3 + a.a9_4*b.a8_4 + a.a9_5*b.a8_5 + a.a9_6*b.a8_6 + a.a9_7*b.a8_7 + a.a9_8*b.a8_8 + a.a9_9*b.a8_9 + a.a9_10*b.a8_10 + a.a9_11*b.a8_11 + a.a9_12*b.a8_12;
+        c.a9_9 = a.a9_1*b.a9_1 + a.a9_2*b.a9_2 + a.a9_3*b.a9_3 + a.a9_4*b.a9_4 + a.a9_5*b.a9_5 + a.a9_6*b.a9_6 + a.a9_7*b.a9_7 + a.a9_8*b.a9_8 + a.a9_9*b.a9_9 + a.a9_10*b.a9_10 + a.a9_11*b.a9_11 + a.a9_12*b.a9_12;
+        c.a9_10 = a.a9_1*b.a10_1 + a.a9_2*b.a10_2 + a.a9_3*b.a10_3 + a.a9_4*b.a10_4 + a.a9_5*b.a10_5 + a.a9_6*b.a10_6 + a.a9_7*b.a10_7 + a.a9_8*b.a10_8 + a.a9_9*b.a10_9 + a.a9_10*b.a10_10 + a.a9_11*b.a10_11 + a.a9_12*b.a10_12;
+        c.a9_11 = a.a9_1*b.a11_1 + a.a9_2*b.a11_2 + a.a9_3*b.a11_3 + a.a9_4*b.a11_4 + a.a9_5*b.a11_5 + a.a9_6*b.a11_6 + a.a9_7*b.a11_7 + a.a9_8*b.a11_8 + a.a9_9*b.a11_9 + a.a9_10*b.a11_10 + a.a9_11*b.a11_11 + a.a9_12*b.a11_12;
+        c.a9_12 = a.a9_1*b.a12_1 + a.a9_2*b.a12_2 + a.a9_3*b.a12_3 + a.a9_4*b.a12_4 + a.a9_5*b.a12_5 + a.a9_6*b.a12_6 + a.a9_7*b.a12_7 + a.a9_8*b.a12_8 + a.a9_9*b.a12_9 + a.a9_10*b.a12_10 + a.a9_11*b.a12_11 + a.a9_12*b.a12_12;
+        c.a10_1 = a.a10_1*b.a1_1 + a.a10_2*b.a1_2 + a.a10_3*b.a1_3 + a.a10_4*b.a1_4 + a.a10_5*b.a1_5 + a.a10_6*b.a1_6 + a.a10_7*b.a1_7 + a.a10_8*b.a1_8 + a.a10_9*b.a1_9 + a.a10_10*b.a1_10 + a.a10_11*b.a1_11 + a.a10_12*b.a1_12;
+        c.a10_2 = a.a10_1*b.a2_1 + a.a10_2*b.a2_2 + a.a10_3*b.a2_3 + a.a10_4*b.a2_4 + a.a10_5*b.a2_5 + a.a10_6*b.a2_6 + a.a10_7*b.a2_7 + a.a10_8*b.a2_8 + a.a10_9*b.a2_9 + a.a10_10*b.a2_10 + a.a10_11*b.a2_11 + a.a10_12*b.a2_12;
+        c.a10_3 = a.a10_1*b.a3_1 + a.a10_2*b.a3_2 + a.a10_3*b.a3_3 + a.a10_4*b.a3_4 + a.a10_5*b.a3_5 + a.a10_6*b.a3_6 + a.a10_7*b.a3_7 + a.a10_8*b.a3_8 + a.a10_9*b.a3_9 + a.a10_10*b.a3_10 + a.a10_11*b.a3_11 + a.a10_12*b.a3_12;
+        c.a10_4 = a.a10_1*b.a4_1 + a.a10_2*b.a4_2 + a.a10_3*b.a4_3 + a.a10_4*b.a4_4 + a.a10_5*b.a4_5 + a.a10_6*b.a4_6 + a.a10_7*b.a4_7 + a.a10_8*b.a4_8 + a.a10_9*b.a4_9 + a.a10_10*b.a4_10 + a.a10_11*b.a4_11 + a.a10_12*b.a4_12;
+        c.a10_5 = a.a10_1*b.a5_1 + a.a10_2*b.a5_2 + a.a10_3*b.a5_3 + a.a10_4*b.a5_4 + a.a10_5*b.a5_5 + a.a10_6*b.a5_6 + a.a10_7*b.a5_7 + a.a10_8*b.a5_8 + a.a10_9*b.a5_9 + a.a10_10*b.a5_10 + a.a10_11*b.a5_11 + a.a10_12*b.a5_12;
+        c.a10_6 = a.a10_1*b.a6_1 + a.a10_2*b.a6_2 + a.a10_3*b.a6_3 + a.a10_4*b.a6_4 + a.a10_5*b.a6_5 + a.a10_6*b.a6_6 + a.a10_7*b.a6_7 + a.a10_8*b.a6_8 + a.a10_9*b.a6_9 + a.a10_10*b.a6_10 + a.a10_11*b.a6_11 + a.a10_12*b.a6_12;
+        c.a10_7 = a.a10_1*b.a7_1 + a.a10_2*b.a7_2 + a.a10_3*b.a7_3 + a.a10_4*b.a7_4 + a.a10_5*b.a7_5 + a.a10_6*b.a7_6 + a.a10_7*b.a7_7 + a.a10_8*b.a7_8 + a.a10_9*b.a7_9 + a.a10_10*b.a7_10 + a.a10_11*b.a7_11 + a.a10_12*b.a7_12;
+        c.a10_8 = a.a10_1*b.a8_1 + a.a10_2*b.a8_2 + a.a10_3*b.a8_3 + a.a10_4*b.a8_4 + a.a10_5*b.a8_5 + a.a10_6*b.a8_6 + a.a10_7*b.a8_7 + a.a10_8*b.a8_8 + a.a10_9*b.a8_9 + a.a10_10*b.a8_10 + a.a10_11*b.a8_11 + a.a10_12*b.a8_12;
+        c.a10_9 = a.a10_1*b.a9_1 + a.a10_2*b.a9_2 + a.a10_3*b.a9_3 + a.a10_4*b.a9_4 + a.a10_5*b.a9_5 + a.a10_6*b.a9_6 + a.a10_7*b.a9_7 + a.a10_8*b.a9_8 + a.a10_9*b.a9_9 + a.a10_10*b.a9_10 + a.a10_11*b.a9_11 + a.a10_12*b.a9_12;
+        c.a10_10 = a.a10_1*b.a10_1 + a.a10_2*b.a10_2 + a.a10_3*b.a10_3 + a.a10_4*b.a10_4 + a.a10_5*b.a10_5 + a.a10_6*b.a10_6 + a.a10_7*b.a10_7 + a.a10_8*b.a10_8 + a.a10_9*b.a10_9 + a.a10_10*b.a10_10 + a.a10_11*b.a10_11 + a.a10_12*b.a10_12;
+        c.a10_11 = a.a10_1*b.a11_1 + a.a10_2*b.a11_2 + a.a10_3*b.a11_3 + a.a10_4*b.a11_4 + a.a10_5*b.a11_5 + a.a10_6*b.a11_6 + a.a10_7*b.a11_7 + a.a10_8*b.a11_8 + a.a10_9*b.a11_9 + a.a10_10*b.a11_10 + a.a10_11*b.a11_11 + a.a10_12*b.a11_12;
+        c.a10_12 = a.a10_1*b.a12_1 + a.a10_2*b.a12_2 + a.a10_3*b.a12_3 + a.a10_4*b.a12_4 + a.a10_5*b.a12_5 + a.a10_6*b.a12_6 + a.a10_7*b.a12_7 + a.a10_8*b.a12_8 + a.a10_9*b.a12_9 + a.a10_10*b.a12_10 + a.a10_11*b.a12_11 + a.a10_12*b.a12_12;
+    }
+
+    private static void multTransB_rows11to12( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c) {
+        c.a11_1 = a.a11_1*b.a1_1 + a.a11_2*b.a1_2 + a.a11_3*b.a1_3 + a.a11_4*b.a1_4 + a.a11_5*b.a1_5 + a.a11_6*b.a1_6 + a.a11_7*b.a1_7 + a.a11_8*b.a1_8 + a.a11_9*b.a1_9 + a.a11_10*b.a1_10 + a.a11_11*b.a1_11 + a.a11_12*b.a1_12;
+        c.a11_2 = a.a11_1*b.a2_1 + a.a11_2*b.a2_2 + a.a11_3*b.a2_3 + a.a11_4*b.a2_4 + a.a11_5*b.a2_5 + a.a11_6*b.a2_6 + a.a11_7*b.a2_7 + a.a11_8*b.a2_8 + a.a11_9*b.a2_9 + a.a11_10*b.a2_10 + a.a11_11*b.a2_11 + a.a11_12*b.a2_12;
+        c.a11_3 = a.a11_1*b.a3_1 + a.a11_2*b.a3_2 + a.a11_3*b.a3_3 + a.a11_4*b.a3_4 + a.a11_5*b.a3_5 + a.a11_6*b.a3_6 + a.a11_7*b.a3_7 + a.a11_8*b.a3_8 + a.a11_9*b.a3_9 + a.a11_10*b.a3_10 + a.a11_11*b.a3_11 + a.a11_12*b.a3_12;
+        c.a11_4 = a.a11_1*b.a4_1 + a.a11_2*b.a4_2 + a.a11_3*b.a4_3 + a.a11_4*b.a4_4 + a.a11_5*b.a4_5 + a.a11_6*b.a4_6 + a.a11_7*b.a4_7 + a.a11_8*b.a4_8 + a.a11_9*b.a4_9 + a.a11_10*b.a4_10 + a.a11_11*b.a4_11 + a.a11_12*b.a4_12;
+        c.a11_5 = a.a11_1*b.a5_1 + a.a11_2*b.a5_2 + a.a11_3*b.a5_3 + a.a11_4*b.a5_4 + a.a11_5*b.a5_5 + a.a11_6*b.a5_6 + a.a11_7*b.a5_7 + a.a11_8*b.a5_8 + a.a11_9*b.a5_9 + a.a11_10*b.a5_10 + a.a11_11*b.a5_11 + a.a11_12*b.a5_12;
+        c.a11_6 = a.a11_1*b.a6_1 + a.a11_2*b.a6_2 + a.a11_3*b.a6_3 + a.a11_4*b.a6_4 + a.a11_5*b.a6_5 + a.a11_6*b.a6_6 + a.a11_7*b.a6_7 + a.a11_8*b.a6_8 + a.a11_9*b.a6_9 + a.a11_10*b.a6_10 + a.a11_11*b.a6_11 + a.a11_12*b.a6_12;
+        c.a11_7 = a.a11_1*b.a7_1 + a.a11_2*b.a7_2 + a.a11_3*b.a7_3 + a.a11_4*b.a7_4 + a.a11_5*b.a7_5 + a.a11_6*b.a7_6 + a.a11_7*b.a7_7 + a.a11_8*b.a7_8 + a.a11_9*b.a7_9 + a.a11_10*b.a7_10 + a.a11_11*b.a7_11 + a.a11_12*b.a7_12;
+        c.a11_8 = a.a11_1*b.a8_1 + a.a11_2*b.a8_2 + a.a11_3*b.a8_3 + a.a11_4*b.a8_4 + a.a11_5*b.a8_5 + a.a11_6*b.a8_6 + a.a11_7*b.a8_7 + a.a11_8*b.a8_8 + a.a11_9*b.a8_9 + a.a11_10*b.a8_10 + a.a11_11*b.a8_11 + a.a11_12*b.a8_12;
+        c.a11_9 = a.a11_1*b.a9_1 + a.a11_2*b.a9_2 + a.a11_3*b.a9_3 + a.a11_4*b.a9_4 + a.a11_5*b.a9_5 + a.a11_6*b.a9_6 + a.a11_7*b.a9_7 + a.a11_8*b.a9_8 + a.a11_9*b.a9_9 + a.a11_10*b.a9_10 + a.a11_11*b.a9_11 + a.a11_12*b.a9_12;
+        c.a11_10 = a.a11_1*b.a10_1 + a.a11_2*b.a10_2 + a.a11_3*b.a10_3 + a.a11_4*b.a10_4 + a.a11_5*b.a10_5 + a.a11_6*b.a10_6 + a.a11_7*b.a10_7 + a.a11_8*b.a10_8 + a.a11_9*b.a10_9 + a.a11_10*b.a10_10 + a.a11_11*b.a10_11 + a.a11_12*b.a10_12;
+        c.a11_11 = a.a11_1*b.a11_1 + a.a11_2*b.a11_2 + a.a11_3*b.a11_3 + a.a11_4*b.a11_4 + a.a11_5*b.a11_5 + a.a11_6*b.a11_6 + a.a11_7*b.a11_7 + a.a11_8*b.a11_8 + a.a11_9*b.a11_9 + a.a11_10*b.a11_10 + a.a11_11*b.a11_11 + a.a11_12*b.a11_12;
+        c.a11_12 = a.a11_1*b.a12_1 + a.a11_2*b.a12_2 + a.a11_3*b.a12_3 + a.a11_4*b.a12_4 + a.a11_5*b.a12_5 + a.a11_6*b.a12_6 + a.a11_7*b.a12_7 + a.a11_8*b.a12_8 + a.a11_9*b.a12_9 + a.a11_10*b.a12_10 + a.a11_11*b.a12_11 + a.a11_12*b.a12_12;
+        c.a12_1 = a.a12_1*b.a1_1 + a.a12_2*b.a1_2 + a.a12_3*b.a1_3 + a.a12_4*b.a1_4 + a.a12_5*b.a1_5 + a.a12_6*b.a1_6 + a.a12_7*b.a1_7 + a.a12_8*b.a1_8 + a.a12_9*b.a1_9 + a.a12_10*b.a1_10 + a.a12_11*b.a1_11 + a.a12_12*b.a1_12;
+        c.a12_2 = a.a12_1*b.a2_1 + a.a12_2*b.a2_2 + a.a12_3*b.a2_3 + a.a12_4*b.a2_4 + a.a12_5*b.a2_5 + a.a12_6*b.a2_6 + a.a12_7*b.a2_7 + a.a12_8*b.a2_8 + a.a12_9*b.a2_9 + a.a12_10*b.a2_10 + a.a12_11*b.a2_11 + a.a12_12*b.a2_12;
+        c.a12_3 = a.a12_1*b.a3_1 + a.a12_2*b.a3_2 + a.a12_3*b.a3_3 + a.a12_4*b.a3_4 + a.a12_5*b.a3_5 + a.a12_6*b.a3_6 + a.a12_7*b.a3_7 + a.a12_8*b.a3_8 + a.a12_9*b.a3_9 + a.a12_10*b.a3_10 + a.a12_11*b.a3_11 + a.a12_12*b.a3_12;
+        c.a12_4 = a.a12_1*b.a4_1 + a.a12_2*b.a4_2 + a.a12_3*b.a4_3 + a.a12_4*b.a4_4 + a.a12_5*b.a4_5 + a.a12_6*b.a4_6 + a.a12_7*b.a4_7 + a.a12_8*b.a4_8 + a.a12_9*b.a4_9 + a.a12_10*b.a4_10 + a.a12_11*b.a4_11 + a.a12_12*b.a4_12;
+        c.a12_5 = a.a12_1*b.a5_1 + a.a12_2*b.a5_2 + a.a12_3*b.a5_3 + a.a12_4*b.a5_4 + a.a12_5*b.a5_5 + a.a12_6*b.a5_6 + a.a12_7*b.a5_7 + a.a12_8*b.a5_8 + a.a12_9*b.a5_9 + a.a12_10*b.a5_10 + a.a12_11*b.a5_11 + a.a12_12*b.a5_12;
+        c.a12_6 = a.a12_1*b.a6_1 + a.a12_2*b.a6_2 + a.a12_3*b.a6_3 + a.a12_4*b.a6_4 + a.a12_5*b.a6_5 + a.a12_6*b.a6_6 + a.a12_7*b.a6_7 + a.a12_8*b.a6_8 + a.a12_9*b.a6_9 + a.a12_10*b.a6_10 + a.a12_11*b.a6_11 + a.a12_12*b.a6_12;
+        c.a12_7 = a.a12_1*b.a7_1 + a.a12_2*b.a7_2 + a.a12_3*b.a7_3 + a.a12_4*b.a7_4 + a.a12_5*b.a7_5 + a.a12_6*b.a7_6 + a.a12_7*b.a7_7 + a.a12_8*b.a7_8 + a.a12_9*b.a7_9 + a.a12_10*b.a7_10 + a.a12_11*b.a7_11 + a.a12_12*b.a7_12;
+        c.a12_8 = a.a12_1*b.a8_1 + a.a12_2*b.a8_2 + a.a12_3*b.a8_3 + a.a12_4*b.a8_4 + a.a12_5*b.a8_5 + a.a12_6*b.a8_6 + a.a12_7*b.a8_7 + a.a12_8*b.a8_8 + a.a12_9*b.a8_9 + a.a12_10*b.a8_10 + a.a12_11*b.a8_11 + a.a12_12*b.a8_12;
+        c.a12_9 = a.a12_1*b.a9_1 + a.a12_2*b.a9_2 + a.a12_3*b.a9_3 + a.a12_4*b.a9_4 + a.a12_5*b.a9_5 + a.a12_6*b.a9_6 + a.a12_7*b.a9_7 + a.a12_8*b.a9_8 + a.a12_9*b.a9_9 + a.a12_10*b.a9_10 + a.a12_11*b.a9_11 + a.a12_12*b.a9_12;
+        c.a12_10 = a.a12_1*b.a10_1 + a.a12_2*b.a10_2 + a.a12_3*b.a10_3 + a.a12_4*b.a10_4 + a.a12_5*b.a10_5 + a.a12_6*b.a10_6 + a.a12_7*b.a10_7 + a.a12_8*b.a10_8 + a.a12_9*b.a10_9 + a.a12_10*b.a10_10 + a.a12_11*b.a10_11 + a.a12_12*b.a10_12;
+        c.a12_11 = a.a12_1*b.a11_1 + a.a12_2*b.a11_2 + a.a12_3*b.a11_3 + a.a12_4*b.a11_4 + a.a12_5*b.a11_5 + a.a12_6*b.a11_6 + a.a12_7*b.a11_7 + a.a12_8*b.a11_8 + a.a12_9*b.a11_9 + a.a12_10*b.a11_10 + a.a12_11*b.a11_11 + a.a12_12*b.a11_12;
+        c.a12_12 = a.a12_1*b.a12_1 + a.a12_2*b.a12_2 + a.a12_3*b.a12_3 + a.a12_4*b.a12_4 + a.a12_5*b.a12_5 + a.a12_6*b.a12_6 + a.a12_7*b.a12_7 + a.a12_8*b.a12_8 + a.a12_9*b.a12_9 + a.a12_10*b.a12_10 + a.a12_11*b.a12_11 + a.a12_12*b.a12_12;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix12x12_64F a , FixedMatrix12_64F b , FixedMatrix12_64F c) {
+        c.a1 = a.a1_1*b.a1 + a.a1_2*b.a2 + a.a1_3*b.a3 + a.a1_4*b.a4 + a.a1_5*b.a5 + a.a1_6*b.a6 + a.a1_7*b.a7 + a.a1_8*b.a8 + a.a1_9*b.a9 + a.a1_10*b.a10 + a.a1_11*b.a11 + a.a1_12*b.a12;
+        c.a2 = a.a2_1*b.a1 + a.a2_2*b.a2 + a.a2_3*b.a3 + a.a2_4*b.a4 + a.a2_5*b.a5 + a.a2_6*b.a6 + a.a2_7*b.a7 + a.a2_8*b.a8 + a.a2_9*b.a9 + a.a2_10*b.a10 + a.a2_11*b.a11 + a.a2_12*b.a12;
+        c.a3 = a.a3_1*b.a1 + a.a3_2*b.a2 + a.a3_3*b.a3 + a.a3_4*b.a4 + a.a3_5*b.a5 + a.a3_6*b.a6 + a.a3_7*b.a7 + a.a3_8*b.a8 + a.a3_9*b.a9 + a.a3_10*b.a10 + a.a3_11*b.a11 + a.a3_12*b.a12;
+        c.a4 = a.a4_1*b.a1 + a.a4_2*b.a2 + a.a4_3*b.a3 + a.a4_4*b.a4 + a.a4_5*b.a5 + a.a4_6*b.a6 + a.a4_7*b.a7 + a.a4_8*b.a8 + a.a4_9*b.a9 + a.a4_10*b.a10 + a.a4_11*b.a11 + a.a4_12*b.a12;
+        c.a5 = a.a5_1*b.a1 + a.a5_2*b.a2 + a.a5_3*b.a3 + a.a5_4*b.a4 + a.a5_5*b.a5 + a.a5_6*b.a6 + a.a5_7*b.a7 + a.a5_8*b.a8 + a.a5_9*b.a9 + a.a5_10*b.a10 + a.a5_11*b.a11 + a.a5_12*b.a12;
+        c.a6 = a.a6_1*b.a1 + a.a6_2*b.a2 + a.a6_3*b.a3 + a.a6_4*b.a4 + a.a6_5*b.a5 + a.a6_6*b.a6 + a.a6_7*b.a7 + a.a6_8*b.a8 + a.a6_9*b.a9 + a.a6_10*b.a10 + a.a6_11*b.a11 + a.a6_12*b.a12;
+        c.a7 = a.a7_1*b.a1 + a.a7_2*b.a2 + a.a7_3*b.a3 + a.a7_4*b.a4 + a.a7_5*b.a5 + a.a7_6*b.a6 + a.a7_7*b.a7 + a.a7_8*b.a8 + a.a7_9*b.a9 + a.a7_10*b.a10 + a.a7_11*b.a11 + a.a7_12*b.a12;
+        c.a8 = a.a8_1*b.a1 + a.a8_2*b.a2 + a.a8_3*b.a3 + a.a8_4*b.a4 + a.a8_5*b.a5 + a.a8_6*b.a6 + a.a8_7*b.a7 + a.a8_8*b.a8 + a.a8_9*b.a9 + a.a8_10*b.a10 + a.a8_11*b.a11 + a.a8_12*b.a12;
+        c.a9 = a.a9_1*b.a1 + a.a9_2*b.a2 + a.a9_3*b.a3 + a.a9_4*b.a4 + a.a9_5*b.a5 + a.a9_6*b.a6 + a.a9_7*b.a7 + a.a9_8*b.a8 + a.a9_9*b.a9 + a.a9_10*b.a10 + a.a9_11*b.a11 + a.a9_12*b.a12;
+        c.a10 = a.a10_1*b.a1 + a.a10_2*b.a2 + a.a10_3*b.a3 + a.a10_4*b.a4 + a.a10_5*b.a5 + a.a10_6*b.a6 + a.a10_7*b.a7 + a.a10_8*b.a8 + a.a10_9*b.a9 + a.a10_10*b.a10 + a.a10_11*b.a11 + a.a10_12*b.a12;
+        c.a11 = a.a11_1*b.a1 + a.a11_2*b.a2 + a.a11_3*b.a3 + a.a11_4*b.a4 + a.a11_5*b.a5 + a.a11_6*b.a6 + a.a11_7*b.a7 + a.a11_8*b.a8 + a.a11_9*b.a9 + a.a11_10*b.a10 + a.a11_11*b.a11 + a.a11_12*b.a12;
+        c.a12 = a.a12_1*b.a1 + a.a12_2*b.a2 + a.a12_3*b.a3 + a.a12_4*b.a4 + a.a12_5*b.a5 + a.a12_6*b.a6 + a.a12_7*b.a7 + a.a12_8*b.a8 + a.a12_9*b.a9 + a.a12_10*b.a10 + a.a12_11*b.a11 + a.a12_12*b.a12;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix12_64F a , FixedMatrix12x12_64F b , FixedMatrix12_64F c) {
+        c.a1 = a.a1*b.a1_1 + a.a2*b.a2_1 + a.a3*b.a3_1 + a.a4*b.a4_1 + a.a5*b.a5_1 + a.a6*b.a6_1 + a.a7*b.a7_1 + a.a8*b.a8_1 + a.a9*b.a9_1 + a.a10*b.a10_1 + a.a11*b.a11_1 + a.a12*b.a12_1;
+        c.a2 = a.a1*b.a1_2 + a.a2*b.a2_2 + a.a3*b.a3_2 + a.a4*b.a4_2 + a.a5*b.a5_2 + a.a6*b.a6_2 + a.a7*b.a7_2 + a.a8*b.a8_2 + a.a9*b.a9_2 + a.a10*b.a10_2 + a.a11*b.a11_2 + a.a12*b.a12_2;
+        c.a3 = a.a1*b.a1_3 + a.a2*b.a2_3 + a.a3*b.a3_3 + a.a4*b.a4_3 + a.a5*b.a5_3 + a.a6*b.a6_3 + a.a7*b.a7_3 + a.a8*b.a8_3 + a.a9*b.a9_3 + a.a10*b.a10_3 + a.a11*b.a11_3 + a.a12*b.a12_3;
+        c.a4 = a.a1*b.a1_4 + a.a2*b.a2_4 + a.a3*b.a3_4 + a.a4*b.a4_4 + a.a5*b.a5_4 + a.a6*b.a6_4 + a.a7*b.a7_4 + a.a8*b.a8_4 + a.a9*b.a9_4 + a.a10*b.a10_4 + a.a11*b.a11_4 + a.a12*b.a12_4;
+        c.a5 = a.a1*b.a1_5 + a.a2*b.a2_5 + a.a3*b.a3_5 + a.a4*b.a4_5 + a.a5*b.a5_5 + a.a6*b.a6_5 + a.a7*b.a7_5 + a.a8*b.a8_5 + a.a9*b.a9_5 + a.a10*b.a10_5 + a.a11*b.a11_5 + a.a12*b.a12_5;
+        c.a6 = a.a1*b.a1_6 + a.a2*b.a2_6 + a.a3*b.a3_6 + a.a4*b.a4_6 + a.a5*b.a5_6 + a.a6*b.a6_6 + a.a7*b.a7_6 + a.a8*b.a8_6 + a.a9*b.a9_6 + a.a10*b.a10_6 + a.a11*b.a11_6 + a.a12*b.a12_6;
+        c.a7 = a.a1*b.a1_7 + a.a2*b.a2_7 + a.a3*b.a3_7 + a.a4*b.a4_7 + a.a5*b.a5_7 + a.a6*b.a6_7 + a.a7*b.a7_7 + a.a8*b.a8_7 + a.a9*b.a9_7 + a.a10*b.a10_7 + a.a11*b.a11_7 + a.a12*b.a12_7;
+        c.a8 = a.a1*b.a1_8 + a.a2*b.a2_8 + a.a3*b.a3_8 + a.a4*b.a4_8 + a.a5*b.a5_8 + a.a6*b.a6_8 + a.a7*b.a7_8 + a.a8*b.a8_8 + a.a9*b.a9_8 + a.a10*b.a10_8 + a.a11*b.a11_8 + a.a12*b.a12_8;
+        c.a9 = a.a1*b.a1_9 + a.a2*b.a2_9 + a.a3*b.a3_9 + a.a4*b.a4_9 + a.a5*b.a5_9 + a.a6*b.a6_9 + a.a7*b.a7_9 + a.a8*b.a8_9 + a.a9*b.a9_9 + a.a10*b.a10_9 + a.a11*b.a11_9 + a.a12*b.a12_9;
+        c.a10 = a.a1*b.a1_10 + a.a2*b.a2_10 + a.a3*b.a3_10 + a.a4*b.a4_10 + a.a5*b.a5_10 + a.a6*b.a6_10 + a.a7*b.a7_10 + a.a8*b.a8_10 + a.a9*b.a9_10 + a.a10*b.a10_10 + a.a11*b.a11_10 + a.a12*b.a12_10;
+        c.a11 = a.a1*b.a1_11 + a.a2*b.a2_11 + a.a3*b.a3_11 + a.a4*b.a4_11 + a.a5*b.a5_11 + a.a6*b.a6_11 + a.a7*b.a7_11 + a.a8*b.a8_11 + a.a9*b.a9_11 + a.a10*b.a10_11 + a.a11*b.a11_11 + a.a12*b.a12_11;
+        c.a12 = a.a1*b.a1_12 + a.a2*b.a2_12 + a.a3*b.a3_12 + a.a4*b.a4_12 + a.a5*b.a5_12 + a.a6*b.a6_12 + a.a7*b.a7_12 + a.a8*b.a8_12 + a.a9*b.a9_12 + a.a10*b.a10_12 + a.a11*b.a11_12 + a.a12*b.a12_12;
+    }
+
+    /**
+     * <p>Performs the vector dot product:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>k</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @return The dot product
+     */
+    public static double dot( FixedMatrix12_64F a , FixedMatrix12_64F b ) {
+        return a.a1*b.a1 + a.a2*b.a2 + a.a3*b.a3 + a.a4*b.a4 + a.a5*b.a5 + a.a6*b.a6 + a.a7*b.a7 + a.a8*b.a8 + a.a9*b.a9 + a.a10*b.a10 + a.a11*b.a11 + a.a12*b.a12;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @param a A matrix.
+     */
+    public static void setIdentity( FixedMatrix12x12_64F a ) {
+        a.a1_1 = 1; a.a2_1 = 0; a.a3_1 = 0; a.a4_1 = 0; a.a5_1 = 0; a.a6_1 = 0; a.a7_1 = 0; a.a8_1 = 0; a.a9_1 = 0; a.a10_1 = 0; a.a11_1 = 0; a.a12_1 = 0;
+        a.a1_2 = 0; a.a2_2 = 1; a.a3_2 = 0; a.a4_2 = 0; a.a5_2 = 0; a.a6_2 = 0; a.a7_2 = 0; a.a8_2 = 0; a.a9_2 = 0; a.a10_2 = 0; a.a11_2 = 0; a.a12_2 = 0;
+        a.a1_3 = 0; a.a2_3 = 0; a.a3_3 = 1; a.a4_3 = 0; a.a5_3 = 0; a.a6_3 = 0; a.a7_3 = 0; a.a8_3 = 0; a.a9_3 = 0; a.a10_3 = 0; a.a11_3 = 0; a.a12_3 = 0;
+        a.a1_4 = 0; a.a2_4 = 0; a.a3_4 = 0; a.a4_4 = 1; a.a5_4 = 0; a.a6_4 = 0; a.a7_4 = 0; a.a8_4 = 0; a.a9_4 = 0; a.a10_4 = 0; a.a11_4 = 0; a.a12_4 = 0;
+        a.a1_5 = 0; a.a2_5 = 0; a.a3_5 = 0; a.a4_5 = 0; a.a5_5 = 1; a.a6_5 = 0; a.a7_5 = 0; a.a8_5 = 0; a.a9_5 = 0; a.a10_5 = 0; a.a11_5 = 0; a.a12_5 = 0;
+        a.a1_6 = 0; a.a2_6 = 0; a.a3_6 = 0; a.a4_6 = 0; a.a5_6 = 0; a.a6_6 = 1; a.a7_6 = 0; a.a8_6 = 0; a.a9_6 = 0; a.a10_6 = 0; a.a11_6 = 0; a.a12_6 = 0;
+        a.a1_7 = 0; a.a2_7 = 0; a.a3_7 = 0; a.a4_7 = 0; a.a5_7 = 0; a.a6_7 = 0; a.a7_7 = 1; a.a8_7 = 0; a.a9_7 = 0; a.a10_7 = 0; a.a11_7 = 0; a.a12_7 = 0;
+        a.a1_8 = 0; a.a2_8 = 0; a.a3_8 = 0; a.a4_8 = 0; a.a5_8 = 0; a.a6_8 = 0; a.a7_8 = 0; a.a8_8 = 1; a.a9_8 = 0; a.a10_8 = 0; a.a11_8 = 0; a.a12_8 = 0;
+        a.a1_9 = 0; a.a2_9 = 0; a.a3_9 = 0; a.a4_9 = 0; a.a5_9 = 0; a.a6_9 = 0; a.a7_9 = 0; a.a8_9 = 0; a.a9_9 = 1; a.a10_9 = 0; a.a11_9 = 0; a.a12_9 = 0;
+        a.a1_10 = 0; a.a2_10 = 0; a.a3_10 = 0; a.a4_10 = 0; a.a5_10 = 0; a.a6_10 = 0; a.a7_10 = 0; a.a8_10 = 0; a.a9_10 = 0; a.a10_10 = 1; a.a11_10 = 0; a.a12_10 = 0;
+        a.a1_11 = 0; a.a2_11 = 0; a.a3_11 = 0; a.a4_11 = 0; a.a5_11 = 0; a.a6_11 = 0; a.a7_11 = 0; a.a8_11 = 0; a.a9_11 = 0; a.a10_11 = 0; a.a11_11 = 1; a.a12_11 = 0;
+        a.a1_12 = 0; a.a2_12 = 0; a.a3_12 = 0; a.a4_12 = 0; a.a5_12 = 0; a.a6_12 = 0; a.a7_12 = 0; a.a8_12 = 0; a.a9_12 = 0; a.a10_12 = 0; a.a11_12 = 0; a.a12_12 = 1;
+    }
+
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix12x12_64F a , FixedMatrix12x12_64F L ) {
+        double l1_1 = a.a1_1;
+        if( !(l1_1 > 0) ) return false;
+        l1_1 = Math.sqrt(l1_1);
+        double inv1 = 1.0/l1_1;
+        double l2_1 = a.a2_1;
+        l2_1 *= inv1;
+        double l2_2 = a.a2_2 - l2_1*l2_1;
+        if( !(l2_2 > 0) ) return false;
+        l2_2 = Math.sqrt(l2_2);
+        double inv2 = 1.0/l2_2;
+        double l3_1 = a.a3_1;
+        l3_1 *= inv1;
+        double l3_2 = a.a3_2 - l3_1*l2_1;
+        l3_2 *= inv2;
+        double l3_3 = a.a3_3 - l3_1*l3_1 - l3_2*l3_2;
+        if( !(l3_3 > 0) ) return false;
+        l3_3 = Math.sqrt(l3_3);
+        double inv3 = 1.0/l3_3;
+        double l4_1 = a.a4_1;
+        l4_1 *= inv1;
+        double l4_2 = a.a4_2 - l4_1*l2_1;
+        l4_2 *= inv2;
+        double l4_3 = a.a4_3 - l4_1*l3_1 - l4_2*l3_2;
+        l4_3 *= inv3;
+        double l4_4 = a.a4_4 - l4_1*l4_1 - l4_2*l4_2 - l4_3*l4_3;
+        if( !(l4_4 > 0) ) return false;
+        l4_4 = Math.sqrt(l4_4);
+        double inv4 = 1.0/l4_4;
+        double l5_1 = a.a5_1;
+        l5_1 *= inv1;
+        double l5_2 = a.a5_2 - l5_1*l2_1;
+        l5_2 *= inv2;
+        double l5_3 = a.a5_3 - l5_1*l3_1 - l5_2*l3_2;
+        l5_3 *= inv3;
+        double l5_4 = a.a5_4 - l5_1*l4_1 - l5_2*l4_2 - l5_3*l4_3;
+        l5_4 *= inv4;
+        double l5_5 = a.a5_5 - l5_1*l5_1 - l5_2*l5_2 - l5_3*l5_3 - l5_4*l5_4;
+        if( !(l5_5 > 0) ) return false;
+        l5_5 = Math.sqrt(l5_5);
+        double inv5 = 1.0/l5_5;
+        double l6_1 = a.a6_1;
+        l6_1 *= inv1;
+        double l6_2 = a.a6_2 - l6_1*l2_1;
+        l6_2 *= inv2;
+        double l6_3 = a.a6_3 - l6_1*l3_1 - l6_2*l3_2;
+        l6_3 *= inv3;
+        double l6_4 = a.a6_4 - l6_1*l4_1 - l6_2*l4_2 - l6_3*l4_3;
+        l6_4 *= inv4;
+        double l6_5 = a.a6_5 - l6_1*l5_1 - l6_2*l5_2 - l6_3*l5_3 - l6_4*l5_4;
+        l6_5 *= inv5;
+        double l6_6 = a.a6_6 - l6_1*l6_1 - l6_2*l6_2 - l6_3*l6_3 - l6_4*l6_4 - l6_5*l6_5;
+        if( !(l6_6 > 0) ) return false;
+        l6_6 = Math.sqrt(l6_6);
+        double inv6 = 1.0/l6_6;
+        double l7_1 = a.a7_1;
+        l7_1 *= inv1;
+        double l7_2 = a.a7_2 - l7_1*l2_1;
+        l7_2 *= inv2;
+        double l7_3 = a.a7_3 - l7_1*l3_1 - l7_2*l3_2;
+        l7_3 *= inv3;
+        double l7_4 = a.a7_4 - l7_1*l4_1 - l7_2*l4_2 - l7_3*l4_3;
+        l7_4 *= inv4;
+        double l7_5 = a.a7_5 - l7_1*l5_1 - l7_2*l5_2 - l7_3*l5_3 - l7_4*l5_4;
+        l7_5 *= inv5;
+        double l7_6 = a.a7_6 - l7_1*l6_1 - l7_2*l6_2 - l7_3*l6_3 - l7_4*l6_4 - l7_5*l6_5;
+        l7_6 *= inv6;
+        double l7_7 = a.a7_7 - l7_1*l7_1 - l7_2*l7_2 - l7_3*l7_3 - l7_4*l7_4 - l7_5*l7_5 - l7_6*l7_6;
+        if( !(l7_7 > 0) ) return false;
+        l7_7 = Math.sqrt(l7_7);
+        double inv7 = 1.0/l7_7;
+        double l8_1 = a.a8_1;
+        l8_1 *= inv1;
+        double l8_2 = a.a8_2 - l8_1*l2_1;
+        l8_2 *= inv2;
+        double l8_3 = a.a8_3 - l8_1*l3_1 - l8_2*l3_2;
+        l8_3 *= inv3;
+        double l8_4 = a.a8_4 - l8_1*l4_1 - l8_2*l4_2 - l8_3*l4_3;
+        l8_4 *= inv4;
+        double l8_5 = a.a8_5 - l8_1*l5_1 - l8_2*l5_2 - l8_3*l5_3 - l8_4*l5_4;
+        l8_5 *= inv5;
+        double l8_6 = a.a8_6 - l8_1*l6_1 - l8_2*l6_2 - l8_3*l6_3 - l8_4*l6_4 - l8_5*l6_5;
+        l8_6 *= inv6;
+        double l8_7 = a.a8_7 - l8_1*l7_1 - l8_2*l7_2 - l8_3*l7_3 - l8_4*l7_4 - l8_5*l7_5 - l8_6*l7_6;
+        l8_7 *= inv7;
+        double l8_8 = a.a8_8 - l8_1*l8_1 - l8_2*l8_2 - l8_3*l8_3 - l8_4*l8_4 - l8_5*l8_5 - l8_6*l8_6 - l8_7*l8_7;
+        if( !(l8_8 > 0) ) return false;
+        l8_8 = Math.sqrt(l8_8);
+        double inv8 = 1.0/l8_8;
+        double l9_1 = a.a9_1;
+        l9_1 *= inv1;
+        double l9_2 = a.a9_2 - l9_1*l2_1;
+        l9_2 *= inv2;
+        double l9_3 = a.a9_3 - l9_1*l3_1 - l9_2*l3_2;
+        l9_3 *= inv3;
+        double l9_4 = a.a9_4 - l9_1*l4_1 - l9_2*l4_2 - l9_3*l4_3;
+        l9_4 *= inv4;
+        double l9_5 = a.a9_5 - l9_1*l5_1 - l9_2*l5_2 - l9_3*l5_3 - l9_4*l5_4;
+        l9_5 *= inv5;
+        double l9_6 = a.a9_6 - l9_1*l6_1 - l9_2*l6_2 - l9_3*l6_3 - l9_4*l6_4 - l9_5*l6_5;
+        l9_6 *= inv6;
+        double l9_7 = a.a9_7 - l9_1*l7_1 - l9_2*l7_2 - l9_3*l7_3 - l9_4*l7_4 - l9_5*l7_5 - l9_6*l7_6;
+        l9_7 *= inv7;
+        double l9_8 = a.a9_8 - l9_1*l8_1 - l9_2*l8_2 - l9_3*l8_3 - l9_4*l8_4 - l9_5*l8_5 - l9_6*l8_6 - l9_7*l8_7;
+        l9_8 *= inv8;
+        double l9_9 = a.a9_9 - l9_1*l9_1 - l9_2*l9_2 - l9_3*l9_3 - l9_4*l9_4 - l9_5*l9_5 - l9_6*l9_6 - l9_7*l9_7 - l9_8*l9_8;
+        if( !(l9_9 > 0) ) return false;
+        l9_9 = Math.sqrt(l9_9);
+        double inv9 = 1.0/l9_9;
+        double l10_1 = a.a10_1;
+        l10_1 *= inv1;
+        double l10_2 = a.a10_2 - l10_1*l2_1;
+        l10_2 *= inv2;
+        double l10_3 = a.a10_3 - l10_1*l3_1 - l10_2*l3_2;
+        l10_3 *= inv3;
+        double l10_4 = a.a10_4 - l10_1*l4_1 - l10_2*l4_2 - l10_3*l4_3;
+        l10_4 *= inv4;
+        double l10_5 = a.a10_5 - l10_1*l5_1 - l10_2*l5_2 - l10_3*l5_3 - l10_4*l5_4;
+        l10_5 *= inv5;
+        double l10_6 = a.a10_6 - l10_1*l6_1 - l10_2*l6_2 - l10_3*l6_3 - l10_4*l6_4 - l10_5*l6_5;
+        l10_6 *= inv6;
+        double l10_7 = a.a10_7 - l10_1*l7_1 - l10_2*l7_2 - l10_3*l7_3 - l10_4*l7_4 - l10_5*l7_5 - l10_6*l7_6;
+        l10_7 *= inv7;
+        double l10_8 = a.a10_8 - l10_1*l8_1 - l10_2*l8_2 - l10_3*l8_3 - l10_4*l8_4 - l10_5*l8_5 - l10_6*l8_6 - l10_7*l8_7;
+        l10_8 *= inv8;
+        double l10_9 = a.a10_9 - l10_1*l9_1 - l10_2*l9_2 - l10_3*l9_3 - l10_4*l9_4 - l10_5*l9_5 - l10_6*l9_6 - l10_7*l9_7 - l10_8*l9_8;
+        l10_9 *= inv9;
+        double l10_10 = a.a10_10 - l10_1*l10_1 - l10_2*l10_2 - l10_3*l10_3 - l10_4*l10_4 - l10_5*l10_5 - l10_6*l10_6 - l10_7*l10_7 - l10_8*l10_8 - l10_9*l10_9;
+        if( !(l10_10 > 0) ) return false;
+        l10_10 = Math.sqrt(l10_10);
+        double inv10 = 1.0/l10_10;
+        double l11_1 = a.a11_1;
+        l11_1 *= inv1;
+        double l11_2 = a.a11_2 - l11_1*l2_1;
+        l11_2 *= inv2;
+        double l11_3 = a.a11_3 - l11_1*l3_1 - l11_2*l3_2;
+        l11_3 *= inv3;
+        double l11_4 = a.a11_4 - l11_1*l4_1 - l11_2*l4_2 - l11_3*l4_3;
+        l11_4 *= inv4;
+        double l11_5 = a.a11_5 - l11_1*l5_1 - l11_2*l5_2 - l11_3*l5_3 - l11_4*l5_4;
+        l11_5 *= inv5;
+        double l11_6 = a.a11_6 - l11_1*l6_1 - l11_2*l6_2 - l11_3*l6_3 - l11_4*l6_4 - l11_5*l6_5;
+        l11_6 *= inv6;
+        double l11_7 = a.a11_7 - l11_1*l7_1 - l11_2*l7_2 - l11_3*l7_3 - l11_4*l7_4 - l11_5*l7_5 - l11_6*l7_6;
+        l11_7 *= inv7;
+        double l11_8 = a.a11_8 - l11_1*l8_1 - l11_2*l8_2 - l11_3*l8_3 - l11_4*l8_4 - l11_5*l8_5 - l11_6*l8_6 - l11_7*l8_7;
+        l11_8 *= inv8;
+        double l11_9 = a.a11_9 - l11_1*l9_1 - l11_2*l9_2 - l11_3*l9_3 - l11_4*l9_4 - l11_5*l9_5 - l11_6*l9_6 - l11_7*l9_7 - l11_8*l9_8;
+        l11_9 *= inv9;
+        double l11_10 = a.a11_10 - l11_1*l10_1 - l11_2*l10_2 - l11_3*l10_3 - l11_4*l10_4 - l11_5*l10_5 - l11_6*l10_6 - l11_7*l10_7 - l11_8*l10_8 - l11_9*l10_9;
+        l11_10 *= inv10;
+        double l11_11 = a.a11_11 - l11_1*l11_1 - l11_2*l11_2 - l11_3*l11_3 - l11_4*l11_4 - l11_5*l11_5 - l11_6*l11_6 - l11_7*l11_7 - l11_8*l11_8 - l11_9*l11_9 - l11_10*l11_10;
+        if( !(l11_11 > 0) ) return false;
+        l11_11 = Math.sqrt(l11_11);
+        double inv11 = 1.0/l11_11;
+        double l12_1 = a.a12_1;
+        l12_1 *= inv1;
+        double l12_2 = a.a12_2 - l12_1*l2_1;
+        l12_2 *= inv2;
+        double l12_3 = a.a12_3 - l12_1*l3_1 - l12_2*l3_2;
+        l12_3 *= inv3;
+        double l12_4 = a.a12_4 - l12_1*l4_1 - l12_2*l4_2 - l12_3*l4_3;
+        l12_4 *= inv4;
+        double l12_5 = a.a12_5 - l12_1*l5_1 - l12_2*l5_2 - l12_3*l5_3 - l12_4*l5_4;
+        l12_5 *= inv5;
+        double l12_6 = a.a12_6 - l12_1*l6_1 - l12_2*l6_2 - l12_3*l6_3 - l12_4*l6_4 - l12_5*l6_5;
+        l12_6 *= inv6;
+        double l12_7 = a.a12_7 - l12_1*l7_1 - l12_2*l7_2 - l12_3*l7_3 - l12_4*l7_4 - l12_5*l7_5 - l12_6*l7_6;
+        l12_7 *= inv7;
+        double l12_8 = a.a12_8 - l12_1*l8_1 - l12_2*l8_2 - l12_3*l8_3 - l12_4*l8_4 - l12_5*l8_5 - l12_6*l8_6 - l12_7*l8_7;
+        l12_8 *= inv8;
+        double l12_9 = a.a12_9 - l12_1*l9_1 - l12_2*l9_2 - l12_3*l9_3 - l12_4*l9_4 - l12_5*l9_5 - l12_6*l9_6 - l12_7*l9_7 - l12_8*l9_8;
+        l12_9 *= inv9;
+        double l12_10 = a.a12_10 - l12_1*l10_1 - l12_2*l10_2 - l12_3*l10_3 - l12_4*l10_4 - l12_5*l10_5 - l12_6*l10_6 - l12_7*l10_7 - l12_8*l10_8 - l12_9*l10_9;
+        l12_10 *= inv10;
+        double l12_11 = a.a12_11 - l12_1*l11_1 - l12_2*l11_2 - l12_3*l11_3 - l12_4*l11_4 - l12_5*l11_5 - l12_6*l11_6 - l12_7*l11_7 - l12_8*l11_8 - l12_9*l11_9 - l12_10*l11_10;
+        l12_11 *= inv11;
+        double l12_12 = a.a12_12 - l12_1*l12_1 - l12_2*l12_2 - l12_3*l12_3 - l12_4*l12_4 - l12_5*l12_5 - l12_6*l12_6 - l12_7*l12_7 - l12_8*l12_8 - l12_9*l12_9 - l12_10*l12_10 - l12_11*l12_11;
+        if( !(l12_12 > 0) ) return false;
+        l12_12 = Math.sqrt(l12_12);
+
+        L.a1_1 = l1_1; L.a1_2 = 0; L.a1_3 = 0; L.a1_4 = 0; L.a1_5 = 0; L.a1_6 = 0; L.a1_7 = 0; L.a1_8 = 0; L.a1_9 = 0; L.a1_10 = 0; L.a1_11 = 0; L.a1_12 = 0;
+        L.a2_1 = l2_1; L.a2_2 = l2_2; L.a2_3 = 0; L.a2_4 = 0; L.a2_5 = 0; L.a2_6 = 0; L.a2_7 = 0; L.a2_8 = 0; L.a2_9 = 0; L.a2_10 = 0; L.a2_11 = 0; L.a2_12 = 0;
+        L.a3_1 = l3_1; L.a3_2 = l3_2; L.a3_3 = l3_3; L.a3_4 = 0; L.a3_5 = 0; L.a3_6 = 0; L.a3_7 = 0; L.a3_8 = 0; L.a3_9 = 0; L.a3_10 = 0; L.a3_11 = 0; L.a3_12 = 0;
+        L.a4_1 = l4_1; L.a4_2 = l4_2; L.a4_3 = l4_3; L.a4_4 = l4_4; L.a4_5 = 0; L.a4_6 = 0; L.a4_7 = 0; L.a4_8 = 0; L.a4_9 = 0; L.a4_10 = 0; L.a4_11 = 0; L.a4_12 = 0;
+        L.a5_1 = l5_1; L.a5_2 = l5_2; L.a5_3 = l5_3; L.a5_4 = l5_4; L.a5_5 = l5_5; L.a5_6 = 0; L.a5_7 = 0; L.a5_8 = 0; L.a5_9 = 0; L.a5_10 = 0; L.a5_11 = 0; L.a5_12 = 0;
+        L.a6_1 = l6_1; L.a6_2 = l6_2; L.a6_3 = l6_3; L.a6_4 = l6_4; L.a6_5 = l6_5; L.a6_6 = l6_6; L.a6_7 = 0; L.a6_8 = 0; L.a6_9 = 0; L.a6_10 = 0; L.a6_11 = 0; L.a6_12 = 0;
+        L.a7_1 = l7_1; L.a7_2 = l7_2; L.a7_3 = l7_3; L.a7_4 = l7_4; L.a7_5 = l7_5; L.a7_6 = l7_6; L.a7_7 = l7_7; L.a7_8 = 0; L.a7_9 = 0; L.a7_10 = 0; L.a7_11 = 0; L.a7_12 = 0;
+        L.a8_1 = l8_1; L.a8_2 = l8_2; L.a8_3 = l8_3; L.a8_4 = l8_4; L.a8_5 = l8_5; L.a8_6 = l8_6; L.a8_7 = l8_7; L.a8_8 = l8_8; L.a8_9 = 0; L.a8_10 = 0; L.a8_11 = 0; L.a8_12 = 0;
+        L.a9_1 = l9_1; L.a9_2 = l9_2; L.a9_3 = l9_3; L.a9_4 = l9_4; L.a9_5 = l9_5; L.a9_6 = l9_6; L.a9_7 = l9_7; L.a9_8 = l9_8; L.a9_9 = l9_9; L.a9_10 = 0; L.a9_11 = 0; L.a9_12 = 0;
+        L.a10_1 = l10_1; L.a10_2 = l10_2; L.a10_3 = l10_3; L.a10_4 = l10_4; L.a10_5 = l10_5; L.a10_6 = l10_6; L.a10_7 = l10_7; L.a10_8 = l10_8; L.a10_9 = l10_9; L.a10_10 = l10_10; L.a10_11 = 0; L.a10_12 = 0;
+        L.a11_1 = l11_1; L.a11_2 = l11_2; L.a11_3 = l11_3; L.a11_4 = l11_4; L.a11_5 = l11_5; L.a11_6 = l11_6; L.a11_7 = l11_7; L.a11_8 = l11_8; L.a11_9 = l11_9; L.a11_10 = l11_10; L.a11_11 = l11_11; L.a11_12 = 0;
+        L.a12_1 = l12_1; L.a12_2 = l12_2; L.a12_3 = l12_3; L.a12_4 = l12_4; L.a12_5 = l12_5; L.a12_6 = l12_6; L.a12_7 = l12_7; L.a12_8 = l12_8; L.a12_9 = l12_9; L.a12_10 = l12_10; L.a12_11 = l12_11; L.a12_12 = l12_12;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix12x12_64F L , FixedMatrix12_64F b , FixedMatrix12_64F x ) {
+        double y1 = (b.a1)/L.a1_1;
+        double y2 = (b.a2 - L.a2_1*y1)/L.a2_2;
+        double y3 = (b.a3 - L.a3_1*y1 - L.a3_2*y2)/L.a3_3;
+        double y4 = (b.a4 - L.a4_1*y1 - L.a4_2*y2 - L.a4_3*y3)/L.a4_4;
+        double y5 = (b.a5 - L.a5_1*y1 - L.a5_2*y2 - L.a5_3*y3 - L.a5_4*y4)/L.a5_5;
+        double y6 = (b.a6 - L.a6_1*y1 - L.a6_2*y2 - L.a6_3*y3 - L.a6_4*y4 - L.a6_5*y5)/L.a6_6;
+        double y7 = (b.a7 - L.a7_1*y1 - L.a7_2*y2 - L.a7_3*y3 - L.a7_4*y4 - L.a7_5*y5 - L.a7_6*y6)/L.a7_7;
+        double y8 = (b.a8 - L.a8_1*y1 - L.a8_2*y2 - L.a8_3*y3 - L.a8_4*y4 - L.a8_5*y5 - L.a8_6*y6 - L.a8_7*y7)/L.a8_8;
+        double y9 = (b.a9 - L.a9_1*y1 - L.a9_2*y2 - L.a9_3*y3 - L.a9_4*y4 - L.a9_5*y5 - L.a9_6*y6 - L.a9_7*y7 - L.a9_8*y8)/L.a9_9;
+        double y10 = (b.a10 - L.a10_1*y1 - L.a10_2*y2 - L.a10_3*y3 - L.a10_4*y4 - L.a10_5*y5 - L.a10_6*y6 - L.a10_7*y7 - L.a10_8*y8 - L.a10_9*y9)/L.a10_10;
+        double y11 = (b.a11 - L.a11_1*y1 - L.a11_2*y2 - L.a11_3*y3 - L.a11_4*y4 - L.a11_5*y5 - L.a11_6*y6 - L.a11_7*y7 - L.a11_8*y8 - L.a11_9*y9 - L.a11_10*y10)/L.a11_11;
+        double y12 = (b.a12 - L.a12_1*y1 - L.a12_2*y2 - L.a12_3*y3 - L.a12_4*y4 - L.a12_5*y5 - L.a12_6*y6 - L.a12_7*y7 - L.a12_8*y8 - L.a12_9*y9 - L.a12_10*y10 - L.a12_11*y11)/L.a12_12;
+
+        double x12 = (y12)/L.a12_12;
+        double x11 = (y11 - L.a12_11*x12)/L.a11_11;
+        double x10 = (y10 - L.a11_10*x11 - L.a12_10*x12)/L.a10_10;
+        double x9 = (y9 - L.a10_9*x10 - L.a11_9*x11 - L.a12_9*x12)/L.a9_9;
+        double x8 = (y8 - L.a9_8*x9 - L.a10_8*x10 - L.a11_8*x11 - L.a12_8*x12)/L.a8_8;
+        double x7 = (y7 - L.a8_7*x8 - L.a9_7*x9 - L.a10_7*x10 - L.a11_7*x11 - L.a12_7*x12)/L.a7_7;
+        double x6 = (y6 - L.a7_6*x7 - L.a8_6*x8 - L.a9_6*x9 - L.a10_6*x10 - L.a11_6*x11 - L.a12_6*x12)/L.a6_6;
+        double x5 = (y5 - L.a6_5*x6 - L.a7_5*x7 - L.a8_5*x8 - L.a9_5*x9 - L.a10_5*x10 - L.a11_5*x11 - L.a12_5*x12)/L.a5_5;
+        double x4 = (y4 - L.a5_4*x5 - L.a6_4*x6 - L.a7_4*x7 - L.a8_4*x8 - L.a9_4*x9 - L.a10_4*x10 - L.a11_4*x11 - L.a12_4*x12)/L.a4_4;
+        double x3 = (y3 - L.a4_3*x4 - L.a5_3*x5 - L.a6_3*x6 - L.a7_3*x7 - L.a8_3*x8 - L.a9_3*x9 - L.a10_3*x10 - L.a11_3*x11 - L.a12_3*x12)/L.a3_3;
+        double x2 = (y2 - L.a3_2*x3 - L.a4_2*x4 - L.a5_2*x5 - L.a6_2*x6 - L.a7_2*x7 - L.a8_2*x8 - L.a9_2*x9 - L.a10_2*x10 - L.a11_2*x11 - L.a12_2*x12)/L.a2_2;
+        double x1 = (y1 - L.a2_1*x2 - L.a3_1*x3 - L.a4_1*x4 - L.a5_1*x5 - L.a6_1*x6 - L.a7_1*x7 - L.a8_1*x8 - L.a9_1*x9 - L.a10_1*x10 - L.a11_1*x11 - L.a12_1*x12)/L.a1_1;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+        x.a8 = x8;
+        x.a9 = x9;
+        x.a10 = x10;
+        x.a11 = x11;
+        x.a12 = x12;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix12x12_64F a , FixedMatrix12x12_64F L , FixedMatrix12_64F d ) {
+        double d1 = a.a1_1;
+        if( !(d1 > 0) ) return false;
+        double l2_1 = a.a2_1;
+        double p2_1 = l2_1;
+        l2_1 /= d1;
+        double d2 = a.a2_2 - l2_1*p2_1;
+        if( !(d2 > 0) ) return false;
+        double l3_1 = a.a3_1;
+        double p3_1 = l3_1;
+        l3_1 /= d1;
+        double l3_2 = a.a3_2 - l3_1*p2_1;
+        double p3_2 = l3_2;
+        l3_2 /= d2;
+        double d3 = a.a3_3 - l3_1*p3_1 - l3_2*p3_2;
+        if( !(d3 > 0) ) return false;
+        double l4_1 = a.a4_1;
+        double p4_1 = l4_1;
+        l4_1 /= d1;
+        double l4_2 = a.a4_2 - l4_1*p2_1;
+        double p4_2 = l4_2;
+        l4_2 /= d2;
+        double l4_3 = a.a4_3 - l4_1*p3_1 - l4_2*p3_2;
+        double p4_3 = l4_3;
+        l4_3 /= d3;
+        double d4 = a.a4_4 - l4_1*p4_1 - l4_2*p4_2 - l4_3*p4_3;
+        if( !(d4 > 0) ) return false;
+        double l5_1 = a.a5_1;
+        double p5_1 = l5_1;
+        l5_1 /= d1;
+        double l5_2 = a.a5_2 - l5_1*p2_1;
+        double p5_2 = l5_2;
+        l5_2 /= d2;
+        double l5_3 = a.a5_3 - l5_1*p3_1 - l5_2*p3_2;
+        double p5_3 = l5_3;
+        l5_3 /= d3;
+        double l5_4 = a.a5_4 - l5_1*p4_1 - l5_2*p4_2 - l5_3*p4_3;
+        double p5_4 = l5_4;
+        l5_4 /= d4;
+        double d5 = a.a5_5 - l5_1*p5_1 - l5_2*p5_2 - l5_3*p5_3 - l5_4*p5_4;
+        if( !(d5 > 0) ) return false;
+        double l6_1 = a.a6_1;
+        double p6_1 = l6_1;
+        l6_1 /= d1;
+        double l6_2 = a.a6_2 - l6_1*p2_1;
+        double p6_2 = l6_2;
+        l6_2 /= d2;
+        double l6_3 = a.a6_3 - l6_1*p3_1 - l6_2*p3_2;
+        double p6_3 = l6_3;
+        l6_3 /= d3;
+        double l6_4 = a.a6_4 - l6_1*p4_1 - l6_2*p4_2 - l6_3*p4_3;
+        double p6_4 = l6_4;
+        l6_4 /= d4;
+        double l6_5 = a.a6_5 - l6_1*p5_1 - l6_2*p5_2 - l6_3*p5_3 - l6_4*p5_4;
+        double p6_5 = l6_5;
+        l6_5 /= d5;
+        double d6 = a.a6_6 - l6_1*p6_1 - l6_2*p6_2 - l6_3*p6_3 - l6_4*p6_4 - l6_5*p6_5;
+        if( !(d6 > 0) ) return false;
+        double l7_1 = a.a7_1;
+        double p7_1 = l7_1;
+        l7_1 /= d1;
+        double l7_2 = a.a7_2 - l7_1*p2_1;
+        double p7_2 = l7_2;
+        l7_2 /= d2;
+        double l7_3 = a.a7_3 - l7_1*p3_1 - l7_2*p3_2;
+        double p7_3 = l7_3;
+        l7_3 /= d3;
+        double l7_4 = a.a7_4 - l7_1*p4_1 - l7_2*p4_2 - l7_3*p4_3;
+        double p7_4 = l7_4;
+        l7_4 /= d4;
+        double l7_5 = a.a7_5 - l7_1*p5_1 - l7_2*p5_2 - l7_3*p5_3 - l7_4*p5_4;
+        double p7_5 = l7_5;
+        l7_5 /= d5;
+        double l7_6 = a.a7_6 - l7_1*p6_1 - l7_2*p6_2 - l7_3*p6_3 - l7_4*p6_4 - l7_5*p6_5;
+        double p7_6 = l7_6;
+        l7_6 /= d6;
+        double d7 = a.a7_7 - l7_1*p7_1 - l7_2*p7_2 - l7_3*p7_3 - l7_4*p7_4 - l7_5*p7_5 - l7_6*p7_6;
+        if( !(d7 > 0) ) return false;
+        double l8_1 = a.a8_1;
+        double p8_1 = l8_1;
+        l8_1 /= d1;
+        double l8_2 = a.a8_2 - l8_1*p2_1;
+        double p8_2 = l8_2;
+        l8_2 /= d2;
+        double l8_3 = a.a8_3 - l8_1*p3_1 - l8_2*p3_2;
+        double p8_3 = l8_3;
+        l8_3 /= d3;
+        double l8_4 = a.a8_4 - l8_1*p4_1 - l8_2*p4_2 - l8_3*p4_3;
+        double p8_4 = l8_4;
+        l8_4 /= d4;
+        double l8_5 = a.a8_5 - l8_1*p5_1 - l8_2*p5_2 - l8_3*p5_3 - l8_4*p5_4;
+        double p8_5 = l8_5;
+        l8_5 /= d5;
+        double l8_6 = a.a8_6 - l8_1*p6_1 - l8_2*p6_2 - l8_3*p6_3 - l8_4*p6_4 - l8_5*p6_5;
+        double p8_6 = l8_6;
+        l8_6 /= d6;
+        double l8_7 = a.a8_7 - l8_1*p7_1 - l8_2*p7_2 - l8_3*p7_3 - l8_4*p7_4 - l8_5*p7_5 - l8_6*p7_6;
+        double p8_7 = l8_7;
+        l8_7 /= d7;
+        double d8 = a.a8_8 - l8_1*p8_1 - l8_2*p8_2 - l8_3*p8_3 - l8_4*p8_4 - l8_5*p8_5 - l8_6*p8_6 - l8_7*p8_7;
+        if( !(d8 > 0) ) return false;
+        double l9_1 = a.a9_1;
+        double p9_1 = l9_1;
+        l9_1 /= d1;
+        double l9_2 = a.a9_2 - l9_1*p2_1;
+        double p9_2 = l9_2;
+        l9_2 /= d2;
+        double l9_3 = a.a9_3 - l9_1*p3_1 - l9_2*p3_2;
+        double p9_3 = l9_3;
+        l9_3 /= d3;
+        double l9_4 = a.a9_4 - l9_1*p4_1 - l9_2*p4_2 - l9_3*p4_3;
+        double p9_4 = l9_4;
+        l9_4 /= d4;
+        double l9_5 = a.a9_5 - l9_1*p5_1 - l9_2*p5_2 - l9_3*p5_3 - l9_4*p5_4;
+        double p9_5 = l9_5;
+        l9_5 /= d5;
+        double l9_6 = a.a9_6 - l9_1*p6_1 - l9_2*p6_2 - l9_3*p6_3 - l9_4*p6_4 - l9_5*p6_5;
+        double p9_6 = l9_6;
+        l9_6 /= d6;
+        double l9_7 = a.a9_7 - l9_1*p7_1 - l9_2*p7_2 - l9_3*p7_3 - l9_4*p7_4 - l9_5*p7_5 - l9_6*p7_6;
+        double p9_7 = l9_7;
+        l9_7 /= d7;
+        double l9_8 = a.a9_8 - l9_1*p8_1 - l9_2*p8_2 - l9_3*p8_3 - l9_4*p8_4 - l9_5*p8_5 - l9_6*p8_6 - l9_7*p8_7;
+        double p9_8 = l9_8;
+        l9_8 /= d8;
+        double d9 = a.a9_9 - l9_1*p9_1 - l9_2*p9_2 - l9_3*p9_3 - l9_4*p9_4 - l9_5*p9_5 - l9_6*p9_6 - l9_7*p9_7 - l9_8*p9_8;
+        if( !(d9 > 0) ) return false;
+        double l10_1 = a.a10_1;
+        double p10_1 = l10_1;
+        l10_1 /= d1;
+        double l10_2 = a.a10_2 - l10_1*p2_1;
+        double p10_2 = l10_2;
+        l10_2 /= d2;
+        double l10_3 = a.a10_3 - l10_1*p3_1 - l10_2*p3_2;
+        double p10_3 = l10_3;
+        l10_3 /= d3;
+        double l10_4 = a.a10_4 - l10_1*p4_1 - l10_2*p4_2 - l10_3*p4_3;
+        double p10_4 = l10_4;
+        l10_4 /= d4;
+        double l10_5 = a.a10_5 - l10_1*p5_1 - l10_2*p5_2 - l10_3*p5_3 - l10_4*p5_4;
+        double p10_5 = l10_5;
+        l10_5 /= d5;
+        double l10_6 = a.a10_6 - l10_1*p6_1 - l10_2*p6_2 - l10_3*p6_3 - l10_4*p6_4 - l10_5*p6_5;
+        double p10_6 = l10_6;
+        l10_6 /= d6;
+        double l10_7 = a.a10_7 - l10_1*p7_1 - l10_2*p7_2 - l10_3*p7_3 - l10_4*p7_4 - l10_5*p7_5 - l10_6*p7_6;
+        double p10_7 = l10_7;
+        l10_7 /= d7;
+        double l10_8 = a.a10_8 - l10_1*p8_1 - l10_2*p8_2 - l10_3*p8_3 - l10_4*p8_4 - l10_5*p8_5 - l10_6*p8_6 - l10_7*p8_7;
+        double p10_8 = l10_8;
+        l10_8 /= d8;
+        double l10_9 = a.a10_9 - l10_1*p9_1 - l10_2*p9_2 - l10_3*p9_3 - l10_4*p9_4 - l10_5*p9_5 - l10_6*p9_6 - l10_7*p9_7 - l10_8*p9_8;
+        double p10_9 = l10_9;
+        l10_9 /= d9;
+        double d10 = a.a10_10 - l10_1*p10_1 - l10_2*p10_2 - l10_3*p10_3 - l10_4*p10_4 - l10_5*p10_5 - l10_6*p10_6 - l10_7*p10_7 - l10_8*p10_8 - l10_9*p10_9;
+        if( !(d10 > 0) ) return false;
+        double l11_1 = a.a11_1;
+        double p11_1 = l11_1;
+        l11_1 /= d1;
+        double l11_2 = a.a11_2 - l11_1*p2_1;
+        double p11_2 = l11_2;
+        l11_2 /= d2;
+        double l11_3 = a.a11_3 - l11_1*p3_1 - l11_2*p3_2;
+        double p11_3 = l11_3;
+        l11_3 /= d3;
+        double l11_4 = a.a11_4 - l11_1*p4_1 - l11_2*p4_2 - l11_3*p4_3;
+        double p11_4 = l11_4;
+        l11_4 /= d4;
+        double l11_5 = a.a11_5 - l11_1*p5_1 - l11_2*p5_2 - l11_3*p5_3 - l11_4*p5_4;
+        double p11_5 = l11_5;
+        l11_5 /= d5;
+        double l11_6 = a.a11_6 - l11_1*p6_1 - l11_2*p6_2 - l11_3*p6_3 - l11_4*p6_4 - l11_5*p6_5;
+        double p11_6 = l11_6;
+        l11_6 /= d6;
+        double l11_7 = a.a11_7 - l11_1*p7_1 - l11_2*p7_2 - l11_3*p7_3 - l11_4*p7_4 - l11_5*p7_5 - l11_6*p7_6;
+        double p11_7 = l11_7;
+        l11_7 /= d7;
+        double l11_8 = a.a11_8 - l11_1*p8_1 - l11_2*p8_2 - l11_3*p8_3 - l11_4*p8_4 - l11_5*p8_5 - l11_6*p8_6 - l11_7*p8_7;
+        double p11_8 = l11_8;
+        l11_8 /= d8;
+        double l11_9 = a.a11_9 - l11_1*p9_1 - l11_2*p9_2 - l11_3*p9_3 - l11_4*p9_4 - l11_5*p9_5 - l11_6*p9_6 - l11_7*p9_7 - l11_8*p9_8;
+        double p11_9 = l11_9;
+        l11_9 /= d9;
+        double l11_10 = a.a11_10 - l11_1*p10_1 - l11_2*p10_2 - l11_3*p10_3 - l11_4*p10_4 - l11_5*p10_5 - l11_6*p10_6 - l11_7*p10_7 - l11_8*p10_8 - l11_9*p10_9;
+        double p11_10 = l11_10;
+        l11_10 /= d10;
+        double d11 = a.a11_11 - l11_1*p11_1 - l11_2*p11_2 - l11_3*p11_3 - l11_4*p11_4 - l11_5*p11_5 - l11_6*p11_6 - l11_7*p11_7 - l11_8*p11_8 - l11_9*p11_9 - l11_10*p11_10;
+        if( !(d11 > 0) ) return false;
+        double l12_1 = a.a12_1;
+        double p12_1 = l12_1;
+        l12_1 /= d1;
+        double l12_2 = a.a12_2 - l12_1*p2_1;
+        double p12_2 = l12_2;
+        l12_2 /= d2;
+        double l12_3 = a.a12_3 - l12_1*p3_1 - l12_2*p3_2;
+        double p12_3 = l12_3;
+        l12_3 /= d3;
+        double l12_4 = a.a12_4 - l12_1*p4_1 - l12_2*p4_2 - l12_3*p4_3;
+        double p12_4 = l12_4;
+        l12_4 /= d4;
+        double l12_5 = a.a12_5 - l12_1*p5_1 - l12_2*p5_2 - l12_3*p5_3 - l12_4*p5_4;
+        double p12_5 = l12_5;
+        l12_5 /= d5;
+        double l12_6 = a.a12_6 - l12_1*p6_1 - l12_2*p6_2 - l12_3*p6_3 - l12_4*p6_4 - l12_5*p6_5;
+        double p12_6 = l12_6;
+        l12_6 /= d6;
+        double l12_7 = a.a12_7 - l12_1*p7_1 - l12_2*p7_2 - l12_3*p7_3 - l12_4*p7_4 - l12_5*p7_5 - l12_6*p7_6;
+        double p12_7 = l12_7;
+        l12_7 /= d7;
+        double l12_8 = a.a12_8 - l12_1*p8_1 - l12_2*p8_2 - l12_3*p8_3 - l12_4*p8_4 - l12_5*p8_5 - l12_6*p8_6 - l12_7*p8_7;
+        double p12_8 = l12_8;
+        l12_8 /= d8;
+        double l12_9 = a.a12_9 - l12_1*p9_1 - l12_2*p9_2 - l12_3*p9_3 - l12_4*p9_4 - l12_5*p9_5 - l12_6*p9_6 - l12_7*p9_7 - l12_8*p9_8;
+        double p12_9 = l12_9;
+        l12_9 /= d9;
+        double l12_10 = a.a12_10 - l12_1*p10_1 - l12_2*p10_2 - l12_3*p10_3 - l12_4*p10_4 - l12_5*p10_5 - l12_6*p10_6 - l12_7*p10_7 - l12_8*p10_8 - l12_9*p10_9;
+        double p12_10 = l12_10;
+        l12_10 /= d10;
+        double l12_11 = a.a12_11 - l12_1*p11_1 - l12_2*p11_2 - l12_3*p11_3 - l12_4*p11_4 - l12_5*p11_5 - l12_6*p11_6 - l12_7*p11_7 - l12_8*p11_8 - l12_9*p11_9 - l12_10*p11_10;
+        double p12_11 = l12_11;
+        l12_11 /= d11;
+        double d12 = a.a12_12 - l12_1*p12_1 - l12_2*p12_2 - l12_3*p12_3 - l12_4*p12_4 - l12_5*p12_5 - l12_6*p12_6 - l12_7*p12_7 - l12_8*p12_8 - l12_9*p12_9 - l12_10*p12_10 - l12_11*p12_11;
+        if( !(d12 > 0) ) return false;
+
+        L.a1_1 = 1; L.a1_2 = 0; L.a1_3 = 0; L.a1_4 = 0; L.a1_5 = 0; L.a1_6 = 0; L.a1_7 = 0; L.a1_8 = 0; L.a1_9 = 0; L.a1_10 = 0; L.a1_11 = 0; L.a1_12 = 0;
+        L.a2_1 = l2_1; L.a2_2 = 1; L.a2_3 = 0; L.a2_4 = 0; L.a2_5 = 0; L.a2_6 = 0; L.a2_7 = 0; L.a2_8 = 0; L.a2_9 = 0; L.a2_10 = 0; L.a2_11 = 0; L.a2_12 = 0;
+        L.a3_1 = l3_1; L.a3_2 = l3_2; L.a3_3 = 1; L.a3_4 = 0; L.a3_5 = 0; L.a3_6 = 0; L.a3_7 = 0; L.a3_8 = 0; L.a3_9 = 0; L.a3_10 = 0; L.a3_11 = 0; L.a3_12 = 0;
+        L.a4_1 = l4_1; L.a4_2 = l4_2; L.a4_3 = l4_3; L.a4_4 = 1; L.a4_5 = 0; L.a4_6 = 0; L.a4_7 = 0; L.a4_8 = 0; L.a4_9 = 0; L.a4_10 = 0; L.a4_11 = 0; L.a4_12 = 0;
+        L.a5_1 = l5_1; L.a5_2 = l5_2; L.a5_3 = l5_3; L.a5_4 = l5_4; L.a5_5 = 1; L.a5_6 = 0; L.a5_7 = 0; L.a5_8 = 0; L.a5_9 = 0; L.a5_10 = 0; L.a5_11 = 0; L.a5_12 = 0;
+        L.a6_1 = l6_1; L.a6_2 = l6_2; L.a6_3 = l6_3; L.a6_4 = l6_4; L.a6_5 = l6_5; L.a6_6 = 1; L.a6_7 = 0; L.a6_8 = 0; L.a6_9 = 0; L.a6_10 = 0; L.a6_11 = 0; L.a6_12 = 0;
+        L.a7_1 = l7_1; L.a7_2 = l7_2; L.a7_3 = l7_3; L.a7_4 = l7_4; L.a7_5 = l7_5; L.a7_6 = l7_6; L.a7_7 = 1; L.a7_8 = 0; L.a7_9 = 0; L.a7_10 = 0; L.a7_11 = 0; L.a7_12 = 0;
+        L.a8_1 = l8_1; L.a8_2 = l8_2; L.a8_3 = l8_3; L.a8_4 = l8_4; L.a8_5 = l8_5; L.a8_6 = l8_6; L.a8_7 = l8_7; L.a8_8 = 1; L.a8_9 = 0; L.a8_10 = 0; L.a8_11 = 0; L.a8_12 = 0;
+        L.a9_1 = l9_1; L.a9_2 = l9_2; L.a9_3 = l9_3; L.a9_4 = l9_4; L.a9_5 = l9_5; L.a9_6 = l9_6; L.a9_7 = l9_7; L.a9_8 = l9_8; L.a9_9 = 1; L.a9_10 = 0; L.a9_11 = 0; L.a9_12 = 0;
+        L.a10_1 = l10_1; L.a10_2 = l10_2; L.a10_3 = l10_3; L.a10_4 = l10_4; L.a10_5 = l10_5; L.a10_6 = l10_6; L.a10_7 = l10_7; L.a10_8 = l10_8; L.a10_9 = l10_9; L.a10_10 = 1; L.a10_11 = 0; L.a10_12 = 0;
+        L.a11_1 = l11_1; L.a11_2 = l11_2; L.a11_3 = l11_3; L.a11_4 = l11_4; L.a11_5 = l11_5; L.a11_6 = l11_6; L.a11_7 = l11_7; L.a11_8 = l11_8; L.a11_9 = l11_9; L.a11_10 = l11_10; L.a11_11 = 1; L.a11_12 = 0;
+        L.a12_1 = l12_1; L.a12_2 = l12_2; L.a12_3 = l12_3; L.a12_4 = l12_4; L.a12_5 = l12_5; L.a12_6 = l12_6; L.a12_7 = l12_7; L.a12_8 = l12_8; L.a12_9 = l12_9; L.a12_10 = l12_10; L.a12_11 = l12_11; L.a12_12 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+        d.a4 = d4;
+        d.a5 = d5;
+        d.a6 = d6;
+        d.a7 = d7;
+        d.a8 = d8;
+        d.a9 = d9;
+        d.a10 = d10;
+        d.a11 = d11;
+        d.a12 = d12;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix12x12_64F L , FixedMatrix12_64F d , FixedMatrix12_64F b , FixedMatrix12_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a2_1*y1;
+        double y3 = b.a3 - L.a3_1*y1 - L.a3_2*y2;
+        double y4 = b.a4 - L.a4_1*y1 - L.a4_2*y2 - L.a4_3*y3;
+        double y5 = b.a5 - L.a5_1*y1 - L.a5_2*y2 - L.a5_3*y3 - L.a5_4*y4;
+        double y6 = b.a6 - L.a6_1*y1 - L.a6_2*y2 - L.a6_3*y3 - L.a6_4*y4 - L.a6_5*y5;
+        double y7 = b.a7 - L.a7_1*y1 - L.a7_2*y2 - L.a7_3*y3 - L.a7_4*y4 - L.a7_5*y5 - L.a7_6*y6;
+        double y8 = b.a8 - L.a8_1*y1 - L.a8_2*y2 - L.a8_3*y3 - L.a8_4*y4 - L.a8_5*y5 - L.a8_6*y6 - L.a8_7*y7;
+        double y9 = b.a9 - L.a9_1*y1 - L.a9_2*y2 - L.a9_3*y3 - L.a9_4*y4 - L.a9_5*y5 - L.a9_6*y6 - L.a9_7*y7 - L.a9_8*y8;
+        double y10 = b.a10 - L.a10_1*y1 - L.a10_2*y2 - L.a10_3*y3 - L.a10_4*y4 - L.a10_5*y5 - L.a10_6*y6 - L.a10_7*y7 - L.a10_8*y8 - L.a10_9*y9;
+        double y11 = b.a11 - L.a11_1*y1 - L.a11_2*y2 - L.a11_3*y3 - L.a11_4*y4 - L.a11_5*y5 - L.a11_6*y6 - L.a11_7*y7 - L.a11_8*y8 - L.a11_9*y9 - L.a11_10*y10;
+        double y12 = b.a12 - L.a12_1*y1 - L.a12_2*y2 - L.a12_3*y3 - L.a12_4*y4 - L.a12_5*y5 - L.a12_6*y6 - L.a12_7*y7 - L.a12_8*y8 - L.a12_9*y9 - L.a12_10*y10 - L.a12_11*y11;
+
+        double x12 = y12/d.a12;
+        double x11 = y11/d.a11 - L.a12_11*x12;
+        double x10 = y10/d.a10 - L.a11_10*x11 - L.a12_10*x12;
+        double x9 = y9/d.a9 - L.a10_9*x10 - L.a11_9*x11 - L.a12_9*x12;
+        double x8 = y8/d.a8 - L.a9_8*x9 - L.a10_8*x10 - L.a11_8*x11 - L.a12_8*x12;
+        double x7 = y7/d.a7 - L.a8_7*x8 - L.a9_7*x9 - L.a10_7*x10 - L.a11_7*x11 - L.a12_7*x12;
+        double x6 = y6/d.a6 - L.a7_6*x7 - L.a8_6*x8 - L.a9_6*x9 - L.a10_6*x10 - L.a11_6*x11 - L.a12_6*x12;
+        double x5 = y5/d.a5 - L.a6_5*x6 - L.a7_5*x7 - L.a8_5*x8 - L.a9_5*x9 - L.a10_5*x10 - L.a11_5*x11 - L.a12_5*x12;
+        double x4 = y4/d.a4 - L.a5_4*x5 - L.a6_4*x6 - L.a7_4*x7 - L.a8_4*x8 - L.a9_4*x9 - L.a10_4*x10 - L.a11_4*x11 - L.a12_4*x12;
+        double x3 = y3/d.a3 - L.a4_3*x4 - L.a5_3*x5 - L.a6_3*x6 - L.a7_3*x7 - L.a8_3*x8 - L.a9_3*x9 - L.a10_3*x10 - L.a11_3*x11 - L.a12_3*x12;
+        double x2 = y2/d.a2 - L.a3_2*x3 - L.a4_2*x4 - L.a5_2*x5 - L.a6_2*x6 - L.a7_2*x7 - L.a8_2*x8 - L.a9_2*x9 - L.a10_2*x10 - L.a11_2*x11 - L.a12_2*x12;
+        double x1 = y1/d.a1 - L.a2_1*x2 - L.a3_1*x3 - L.a4_1*x4 - L.a5_1*x5 - L.a6_1*x6 - L.a7_1*x7 - L.a8_1*x8 - L.a9_1*x9 - L.a10_1*x10 - L.a11_1*x11 - L.a12_1*x12;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+        x.a8 = x8;
+        x.a9 = x9;
+        x.a10 = x10;
+        x.a11 = x11;
+        x.a12 = x12;
+    }
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix.  Not modified.
+     */
+    public static double trace( FixedMatrix12x12_64F a ) {
+        return a.a1_1 + a.a2_1 + a.a3_1 + a.a4_1 + a.a5_1 + a.a6_1 + a.a7_1 + a.a8_1 + a.a9_1 + a.a10_1 + a.a11_1 + a.a12_1;
+    }
+
+    /**
+     * <p>
+     * Extracts all diagonal elements from 'input' and places them inside the 'out' vector. Elements
+     * are in sequential order.
+     * </p>
+     *
+     *
+     * @param input Matrix.  Not modified.
+     * @param out Vector containing diagonal elements.  Modified.
+     */
+    public static void diag( FixedMatrix12x12_64F input , FixedMatrix12_64F out ) {
+        out.a1 = input.a1_1;
+        out.a2 = input.a2_2;
+        out.a3 = input.a3_3;
+        out.a4 = input.a4_4;
+        out.a5 = input.a5_5;
+        out.a6 = input.a6_6;
+        out.a7 = input.a7_7;
+        out.a8 = input.a8_8;
+        out.a9 = input.a9_9;
+        out.a10 = input.a10_10;
+        out.a11 = input.a11_11;
+        out.a12 = input.a12_12;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( FixedMatrix12x12_64F a ) {
+        double max = a.a1_1;
+        max = Math.max(max,a.a1_2);
+        max = Math.max(max,a.a1_3);
+        max = Math.max(max,a.a1_4);
+        max = Math.max(max,a.a1_5);
+        max = Math.max(max,a.a1_6);
+        max = Math.max(max,a.a1_7);
+        max = Math.max(max,a.a1_8);
+        max = Math.max(max,a.a1_9);
+        max = Math.max(max,a.a1_10);
+        max = Math.max(max,a.a1_11);
+        max = Math.max(max,a.a1_12);
+        max = Math.max(max,a.a2_1);
+        max = Math.max(max,a.a2_2);
+        max = Math.max(max,a.a2_3);
+        max = Math.max(max,a.a2_4);
+        max = Math.max(max,a.a2_5);
+        max = Math.max(max,a.a2_6);
+        max = Math.max(max,a.a2_7);
+        max = Math.max(max,a.a2_8);
+        max = Math.max(max,a.a2_9);
+        max = Math.max(max,a.a2_10);
+        max = Math.max(max,a.a2_11);
+        max = Math.max(max,a.a2_12);
+        max = Math.max(max,a.a3_1);
+        max = Math.max(max,a.a3_2);
+        max = Math.max(max,a.a3_3);
+        max = Math.max(max,a.a3_4);
+        max = Math.max(max,a.a3_5);
+        max = Math.max(max,a.a3_6);
+        max = Math.max(max,a.a3_7);
+        max = Math.max(max,a.a3_8);
+        max = Math.max(max,a.a3_9);
+        max = Math.max(max,a.a3_10);
+        max = Math.max(max,a.a3_11);
+        max = Math.max(max,a.a3_12);
+        max = Math.max(max,a.a4_1);
+        max = Math.max(max,a.a4_2);
+        max = Math.max(max,a.a4_3);
+        max = Math.max(max,a.a4_4);
+        max = Math.max(max,a.a4_5);
+        max = Math.max(max,a.a4_6);
+        max = Math.max(max,a.a4_7);
+        max = Math.max(max,a.a4_8);
+        max = Math.max(max,a.a4_9);
+        max = Math.max(max,a.a4_10);
+        max = Math.max(max,a.a4_11);
+        max = Math.max(max,a.a4_12);
+        max = Math.max(max,a.a5_1);
+        max = Math.max(max,a.a5_2);
+        max = Math.max(max,a.a5_3);
+        max = Math.max(max,a.a5_4);
+        max = Math.max(max,a.a5_5);
+        max = Math.max(max,a.a5_6);
+        max = Math.max(max,a.a5_7);
+        max = Math.max(max,a.a5_8);
+        max = Math.max(max,a.a5_9);
+        max = Math.max(max,a.a5_10);
+        max = Math.max(max,a.a5_11);
+        max = Math.max(max,a.a5_12);
+        max = Math.max(max,a.a6_1);
+        max = Math.max(max,a.a6_2);
+        max = Math.max(max,a.a6_3);
+        max = Math.max(max,a.a6_4);
+        max = Math.max(max,a.a6_5);
+        max = Math.max(max,a.a6_6);
+        max = Math.max(max,a.a6_7);
+        max = Math.max(max,a.a6_8);
+        max = Math.max(max,a.a6_9);
+        max = Math.max(max,a.a6_10);
+        max = Math.max(max,a.a6_11);
+        max = Math.max(max,a.a6_12);
+        max = Math.max(max,a.a7_1);
+        max = Math.max(max,a.a7_2);
+        max = Math.max(max,a.a7_3);
+        max = Math.max(max,a.a7_4);
+        max = Math.max(max,a.a7_5);
+        max = Math.max(max,a.a7_6);
+        max = Math.max(max,a.a7_7);
+        max = Math.max(max,a.a7_8);
+        max = Math.max(max,a.a7_9);
+        max = Math.max(max,a.a7_10);
+        max = Math.max(max,a.a7_11);
+        max = Math.max(max,a.a7_12);
+        max = Math.max(max,a.a8_1);
+        max = Math.max(max,a.a8_2);
+        max = Math.max(max,a.a8_3);
+        max = Math.max(max,a.a8_4);
+        max = Math.max(max,a.a8_5);
+        max = Math.max(max,a.a8_6);
+        max = Math.max(max,a.a8_7);
+        max = Math.max(max,a.a8_8);
+        max = Math.max(max,a.a8_9);
+        max = Math.max(max,a.a8_10);
+        max = Math.max(max,a.a8_11);
+        max = Math.max(max,a.a8_12);
+        max = Math.max(max,a.a9_1);
+        max = Math.max(max,a.a9_2);
+        max = Math.max(max,a.a9_3);
+        max = Math.max(max,a.a9_4);
+        max = Math.max(max,a.a9_5);
+        max = Math.max(max,a.a9_6);
+        max = Math.max(max,a.a9_7);
+        max = Math.max(max,a.a9_8);
+        max = Math.max(max,a.a9_9);
+        max = Math.max(max,a.a9_10);
+        max = Math.max(max,a.a9_11);
+        max = Math.max(max,a.a9_12);
+        max = Math.max(max,a.a10_1);
+        max = Math.max(max,a.a10_2);
+        max = Math.max(max,a.a10_3);
+        max = Math.max(max,a.a10_4);
+        max = Math.max(max,a.a10_5);
+        max = Math.max(max,a.a10_6);
+        max = Math.max(max,a.a10_7);
+        max = Math.max(max,a.a10_8);
+        max = Math.max(max,a.a10_9);
+        max = Math.max(max,a.a10_10);
+        max = Math.max(max,a.a10_11);
+        max = Math.max(max,a.a10_12);
+        max = Math.max(max,a.a11_1);
+        max = Math.max(max,a.a11_2);
+        max = Math.max(max,a.a11_3);
+        max = Math.max(max,a.a11_4);
+        max = Math.max(max,a.a11_5);
+        max = Math.max(max,a.a11_6);
+        max = Math.max(max,a.a11_7);
+        max = Math.max(max,a.a11_8);
+        max = Math.max(max,a.a11_9);
+        max = Math.max(max,a.a11_10);
+        max = Math.max(max,a.a11_11);
+        max = Math.max(max,a.a11_12);
+        max = Math.max(max,a.a12_1);
+        max = Math.max(max,a.a12_2);
+        max = Math.max(max,a.a12_3);
+        max = Math.max(max,a.a12_4);
+        max = Math.max(max,a.a12_5);
+        max = Math.max(max,a.a12_6);
+        max = Math.max(max,a.a12_7);
+        max = Math.max(max,a.a12_8);
+        max = Math.max(max,a.a12_9);
+        max = Math.max(max,a.a12_10);
+        max = Math.max(max,a.a12_11);
+        max = Math.max(max,a.a12_12);
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( FixedMatrix12x12_64F a ) {
+        double max = Math.abs(a.a1_1);
+        max = Math.max(max,Math.abs(a.a1_2));
+        max = Math.max(max,Math.abs(a.a1_3));
+        max = Math.max(max,Math.abs(a.a1_4));
+        max = Math.max(max,Math.abs(a.a1_5));
+        max = Math.max(max,Math.abs(a.a1_6));
+        max = Math.max(max,Math.abs(a.a1_7));
+        max = Math.max(max,Math.abs(a.a1_8));
+        max = Math.max(max,Math.abs(a.a1_9));
+        max = Math.max(max,Math.abs(a.a1_10));
+        max = Math.max(max,Math.abs(a.a1_11));
+        max = Math.max(max,Math.abs(a.a1_12));
+        max = Math.max(max,Math.abs(a.a2_1));
+        max = Math.max(max,Math.abs(a.a2_2));
+        max = Math.max(max,Math.abs(a.a2_3));
+        max = Math.max(max,Math.abs(a.a2_4));
+        max = Math.max(max,Math.abs(a.a2_5));
+        max = Math.max(max,Math.abs(a.a2_6));
+        max = Math.max(max,Math.abs(a.a2_7));
+        max = Math.max(max,Math.abs(a.a2_8));
+        max = Math.max(max,Math.abs(a.a2_9));
+        max = Math.max(max,Math.abs(a.a2_10));
+        max = Math.max(max,Math.abs(a.a2_11));
+        max = Math.max(max,Math.abs(a.a2_12));
+        max = Math.max(max,Math.abs(a.a3_1));
+        max = Math.max(max,Math.abs(a.a3_2));
+        max = Math.max(max,Math.abs(a.a3_3));
+        max = Math.max(max,Math.abs(a.a3_4));
+        max = Math.max(max,Math.abs(a.a3_5));
+        max = Math.max(max,Math.abs(a.a3_6));
+        max = Math.max(max,Math.abs(a.a3_7));
+        max = Math.max(max,Math.abs(a.a3_8));
+        max = Math.max(max,Math.abs(a.a3_9));
+        max = Math.max(max,Math.abs(a.a3_10));
+        max = Math.max(max,Math.abs(a.a3_11));
+        max = Math.max(max,Math.abs(a.a3_12));
+        max = Math.max(max,Math.abs(a.a4_1));
+        max = Math.max(max,Math.abs(a.a4_2));
+        max = Math.max(max,Math.abs(a.a4_3));
+        max = Math.max(max,Math.abs(a.a4_4));
+        max = Math.max(max,Math.abs(a.a4_5));
+        max = Math.max(max,Math.abs(a.a4_6));
+        max = Math.max(max,Math.abs(a.a4_7));
+        max = Math.max(max,Math.abs(a.a4_8));
+        max = Math.max(max,Math.abs(a.a4_9));
+        max = Math.max(max,Math.abs(a.a4_10));
+        max = Math.max(max,Math.abs(a.a4_11));
+        max = Math.max(max,Math.abs(a.a4_12));
+        max = Math.max(max,Math.abs(a.a5_1));
+        max = Math.max(max,Math.abs(a.a5_2));
+        max = Math.max(max,Math.abs(a.a5_3));
+        max = Math.max(max,Math.abs(a.a5_4));
+        max = Math.max(max,Math.abs(a.a5_5));
+        max = Math.max(max,Math.abs(a.a5_6));
+        max = Math.max(max,Math.abs(a.a5_7));
+        max = Math.max(max,Math.abs(a.a5_8));
+        max = Math.max(max,Math.abs(a.a5_9));
+        max = Math.max(max,Math.abs(a.a5_10));
+        max = Math.max(max,Math.abs(a.a5_11));
+        max = Math.max(max,Math.abs(a.a5_12));
+        max = Math.max(max,Math.abs(a.a6_1));
+        max = Math.max(max,Math.abs(a.a6_2));
+        max = Math.max(max,Math.abs(a.a6_3));
+        max = Math.max(max,Math.abs(a.a6_4));
+        max = Math.max(max,Math.abs(a.a6_5));
+        max = Math.max(max,Math.abs(a.a6_6));
+        max = Math.max(max,Math.abs(a.a6_7));
+        max = Math.max(max,Math.abs(a.a6_8));
+        max = Math.max(max,Math.abs(a.a6_9));
+        max = Math.max(max,Math.abs(a.a6_10));
+        max = Math.max(max,Math.abs(a.a6_11));
+        max = Math.max(max,Math.abs(a.a6_12));
+        max = Math.max(max,Math.abs(a.a7_1));
+        max = Math.max(max,Math.abs(a.a7_2));
+        max = Math.max(max,Math.abs(a.a7_3));
+        max = Math.max(max,Math.abs(a.a7_4));
+        max = Math.max(max,Math.abs(a.a7_5));
+        max = Math.max(max,Math.abs(a.a7_6));
+        max = Math.max(max,Math.abs(a.a7_7));
+        max = Math.max(max,Math.abs(a.a7_8));
+        max = Math.max(max,Math.abs(a.a7_9));
+        max = Math.max(max,Math.abs(a.a7_10));
+        max = Math.max(max,Math.abs(a.a7_11));
+        max = Math.max(max,Math.abs(a.a7_12));
+        max = Math.max(max,Math.abs(a.a8_1));
+        max = Math.max(max,Math.abs(a.a8_2));
+        max = Math.max(max,Math.abs(a.a8_3));
+        max = Math.max(max,Math.abs(a.a8_4));
+        max = Math.max(max,Math.abs(a.a8_5));
+        max = Math.max(max,Math.abs(a.a8_6));
+        max = Math.max(max,Math.abs(a.a8_7));
+        max = Math.max(max,Math.abs(a.a8_8));
+        max = Math.max(max,Math.abs(a.a8_9));
+        max = Math.max(max,Math.abs(a.a8_10));
+        max = Math.max(max,Math.abs(a.a8_11));
+        max = Math.max(max,Math.abs(a.a8_12));
+        max = Math.max(max,Math.abs(a.a9_1));
+        max = Math.max(max,Math.abs(a.a9_2));
+        max = Math.max(max,Math.abs(a.a9_3));
+        max = Math.max(max,Math.abs(a.a9_4));
+        max = Math.max(max,Math.abs(a.a9_5));
+        max = Math.max(max,Math.abs(a.a9_6));
+        max = Math.max(max,Math.abs(a.a9_7));
+        max = Math.max(max,Math.abs(a.a9_8));
+        max = Math.max(max,Math.abs(a.a9_9));
+        max = Math.max(max,Math.abs(a.a9_10));
+        max = Math.max(max,Math.abs(a.a9_11));
+        max = Math.max(max,Math.abs(a.a9_12));
+        max = Math.max(max,Math.abs(a.a10_1));
+        max = Math.max(max,Math.abs(a.a10_2));
+        max = Math.max(max,Math.abs(a.a10_3));
+        max = Math.max(max,Math.abs(a.a10_4));
+        max = Math.max(max,Math.abs(a.a10_5));
+        max = Math.max(max,Math.abs(a.a10_6));
+        max = Math.max(max,Math.abs(a.a10_7));
+        max = Math.max(max,Math.abs(a.a10_8));
+        max = Math.max(max,Math.abs(a.a10_9));
+        max = Math.max(max,Math.abs(a.a10_10));
+        max = Math.max(max,Math.abs(a.a10_11));
+        max = Math.max(max,Math.abs(a.a10_12));
+        max = Math.max(max,Math.abs(a.a11_1));
+        max = Math.max(max,Math.abs(a.a11_2));
+        max = Math.max(max,Math.abs(a.a11_3));
+        max = Math.max(max,Math.abs(a.a11_4));
+        max = Math.max(max,Math.abs(a.a11_5));
+        max = Math.max(max,Math.abs(a.a11_6));
+        max = Math.max(max,Math.abs(a.a11_7));
+        max = Math.max(max,Math.abs(a.a11_8));
+        max = Math.max(max,Math.abs(a.a11_9));
+        max = Math.max(max,Math.abs(a.a11_10));
+        max = Math.max(max,Math.abs(a.a11_11));
+        max = Math.max(max,Math.abs(a.a11_12));
+        max = Math.max(max,Math.abs(a.a12_1));
+        max = Math.max(max,Math.abs(a.a12_2));
+        max = Math.max(max,Math.abs(a.a12_3));
+        max = Math.max(max,Math.abs(a.a12_4));
+        max = Math.max(max,Math.abs(a.a12_5));
+        max = Math.max(max,Math.abs(a.a12_6));
+        max = Math.max(max,Math.abs(a.a12_7));
+        max = Math.max(max,Math.abs(a.a12_8));
+        max = Math.max(max,Math.abs(a.a12_9));
+        max = Math.max(max,Math.abs(a.a12_10));
+        max = Math.max(max,Math.abs(a.a12_11));
+        max = Math.max(max,Math.abs(a.a12_12));
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( FixedMatrix12x12_64F a ) {
+        double min = a.a1_1;
+        min = Math.min(min,a.a1_2);
+        min = Math.min(min,a.a1_3);
+        min = Math.min(min,a.a1_4);
+        min = Math.min(min,a.a1_5);
+        min = Math.min(min,a.a1_6);
+        min = Math.min(min,a.a1_7);
+        min = Math.min(min,a.a1_8);
+        min = Math.min(min,a.a1_9);
+        min = Math.min(min,a.a1_10);
+        min = Math.min(min,a.a1_11);
+        min = Math.min(min,a.a1_12);
+        min = Math.min(min,a.a2_1);
+        min = Math.min(min,a.a2_2);
+        min = Math.min(min,a.a2_3);
+        min = Math.min(min,a.a2_4);
+        min = Math.min(min,a.a2_5);
+        min = Math.min(min,a.a2_6);
+        min = Math.min(min,a.a2_7);
+        min = Math.min(min,a.a2_8);
+        min = Math.min(min,a.a2_9);
+        min = Math.min(min,a.a2_10);
+        min = Math.min(min,a.a2_11);
+        min = Math.min(min,a.a2_12);
+        min = Math.min(min,a.a3_1);
+        min = Math.min(min,a.a3_2);
+        min = Math.min(min,a.a3_3);
+        min = Math.min(min,a.a3_4);
+        min = Math.min(min,a.a3_5);
+        min = Math.min(min,a.a3_6);
+        min = Math.min(min,a.a3_7);
+        min = Math.min(min,a.a3_8);
+        min = Math.min(min,a.a3_9);
+        min = Math.min(min,a.a3_10);
+        min = Math.min(min,a.a3_11);
+        min = Math.min(min,a.a3_12);
+        min = Math.min(min,a.a4_1);
+        min = Math.min(min,a.a4_2);
+        min = Math.min(min,a.a4_3);
+        min = Math.min(min,a.a4_4);
+        min = Math.min(min,a.a4_5);
+        min = Math.min(min,a.a4_6);
+        min = Math.min(min,a.a4_7);
+        min = Math.min(min,a.a4_8);
+        min = Math.min(min,a.a4_9);
+        min = Math.min(min,a.a4_10);
+        min = Math.min(min,a.a4_11);
+        min = Math.min(min,a.a4_12);
+        min = Math.min(min,a.a5_1);
+        min = Math.min(min,a.a5_2);
+        min = Math.min(min,a.a5_3);
+        min = Math.min(min,a.a5_4);
+        min = Math.min(min,a.a5_5);
+        min = Math.min(min,a.a5_6);
+        min = Math.min(min,a.a5_7);
+        min = Math.min(min,a.a5_8);
+        min = Math.min(min,a.a5_9);
+        min = Math.min(min,a.a5_10);
+        min = Math.min(min,a.a5_11);
+        min = Math.min(min,a.a5_12);
+        min = Math.min(min,a.a6_1);
+        min = Math.min(min,a.a6_2);
+        min = Math.min(min,a.a6_3);
+        min = Math.min(min,a.a6_4);
+        min = Math.min(min,a.a6_5);
+        min = Math.min(min,a.a6_6);
+        min = Math.min(min,a.a6_7);
+        min = Math.min(min,a.a6_8);
+        min = Math.min(min,a.a6_9);
+        min = Math.min(min,a.a6_10);
+        min = Math.min(min,a.a6_11);
+        min = Math.min(min,a.a6_12);
+        min = Math.min(min,a.a7_1);
+        min = Math.min(min,a.a7_2);
+        min = Math.min(min,a.a7_3);
+        min = Math.min(min,a.a7_4);
+        min = Math.min(min,a.a7_5);
+        min = Math.min(min,a.a7_6);
+        min = Math.min(min,a.a7_7);
+        min = Math.min(min,a.a7_8);
+        min = Math.min(min,a.a7_9);
+        min = Math.min(min,a.a7_10);
+        min = Math.min(min,a.a7_11);
+        min = Math.min(min,a.a7_12);
+        min = Math.min(min,a.a8_1);
+        min = Math.min(min,a.a8_2);
+        min = Math.min(min,a.a8_3);
+        min = Math.min(min,a.a8_4);
+        min = Math.min(min,a.a8_5);
+        min = Math.min(min,a.a8_6);
+        min = Math.min(min,a.a8_7);
+        min = Math.min(min,a.a8_8);
+        min = Math.min(min,a.a8_9);
+        min = Math.min(min,a.a8_10);
+        min = Math.min(min,a.a8_11);
+        min = Math.min(min,a.a8_12);
+        min = Math.min(min,a.a9_1);
+        min = Math.min(min,a.a9_2);
+        min = Math.min(min,a.a9_3);
+        min = Math.min(min,a.a9_4);
+        min = Math.min(min,a.a9_5);
+        min = Math.min(min,a.a9_6);
+        min = Math.min(min,a.a9_7);
+        min = Math.min(min,a.a9_8);
+        min = Math.min(min,a.a9_9);
+        min = Math.min(min,a.a9_10);
+        min = Math.min(min,a.a9_11);
+        min = Math.min(min,a.a9_12);
+        min = Math.min(min,a.a10_1);
+        min = Math.min(min,a.a10_2);
+        min = Math.min(min,a.a10_3);
+        min = Math.min(min,a.a10_4);
+        min = Math.min(min,a.a10_5);
+        min = Math.min(min,a.a10_6);
+        min = Math.min(min,a.a10_7);
+        min = Math.min(min,a.a10_8);
+        min = Math.min(min,a.a10_9);
+        min = Math.min(min,a.a10_10);
+        min = Math.min(min,a.a10_11);
+        min = Math.min(min,a.a10_12);
+        min = Math.min(min,a.a11_1);
+        min = Math.min(min,a.a11_2);
+        min = Math.min(min,a.a11_3);
+        min = Math.min(min,a.a11_4);
+        min = Math.min(min,a.a11_5);
+        min = Math.min(min,a.a11_6);
+        min = Math.min(min,a.a11_7);
+        min = Math.min(min,a.a11_8);
+        min = Math.min(min,a.a11_9);
+        min = Math.min(min,a.a11_10);
+        min = Math.min(min,a.a11_11);
+        min = Math.min(min,a.a11_12);
+        min = Math.min(min,a.a12_1);
+        min = Math.min(min,a.a12_2);
+        min = Math.min(min,a.a12_3);
+        min = Math.min(min,a.a12_4);
+        min = Math.min(min,a.a12_5);
+        min = Math.min(min,a.a12_6);
+        min = Math.min(min,a.a12_7);
+        min = Math.min(min,a.a12_8);
+        min = Math.min(min,a.a12_9);
+        min = Math.min(min,a.a12_10);
+        min = Math.min(min,a.a12_11);
+        min = Math.min(min,a.a12_12);
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( FixedMatrix12x12_64F a ) {
+        double min = Math.abs(a.a1_1);
+        min = Math.min(min,Math.abs(a.a1_2));
+        min = Math.min(min,Math.abs(a.a1_3));
+        min = Math.min(min,Math.abs(a.a1_4));
+        min = Math.min(min,Math.abs(a.a1_5));
+        min = Math.min(min,Math.abs(a.a1_6));
+        min = Math.min(min,Math.abs(a.a1_7));
+        min = Math.min(min,Math.abs(a.a1_8));
+        min = Math.min(min,Math.abs(a.a1_9));
+        min = Math.min(min,Math.abs(a.a1_10));
+        min = Math.min(min,Math.abs(a.a1_11));
+        min = Math.min(min,Math.abs(a.a1_12));
+        min = Math.min(min,Math.abs(a.a2_1));
+        min = Math.min(min,Math.abs(a.a2_2));
+        min = Math.min(min,Math.abs(a.a2_3));
+        min = Math.min(min,Math.abs(a.a2_4));
+        min = Math.min(min,Math.abs(a.a2_5));
+        min = Math.min(min,Math.abs(a.a2_6));
+        min = Math.min(min,Math.abs(a.a2_7));
+        min = Math.min(min,Math.abs(a.a2_8));
+        min = Math.min(min,Math.abs(a.a2_9));
+        min = Math.min(min,Math.abs(a.a2_10));
+        min = Math.min(min,Math.abs(a.a2_11));
+        min = Math.min(min,Math.abs(a.a2_12));
+        min = Math.min(min,Math.abs(a.a3_1));
+        min = Math.min(min,Math.abs(a.a3_2));
+        min = Math.min(min,Math.abs(a.a3_3));
+        min = Math.min(min,Math.abs(a.a3_4));
+        min = Math.min(min,Math.abs(a.a3_5));
+        min = Math.min(min,Math.abs(a.a3_6));
+        min = Math.min(min,Math.abs(a.a3_7));
+        min = Math.min(min,Math.abs(a.a3_8));
+        min = Math.min(min,Math.abs(a.a3_9));
+        min = Math.min(min,Math.abs(a.a3_10));
+        min = Math.min(min,Math.abs(a.a3_11));
+        min = Math.min(min,Math.abs(a.a3_12));
+        min = Math.min(min,Math.abs(a.a4_1));
+        min = Math.min(min,Math.abs(a.a4_2));
+        min = Math.min(min,Math.abs(a.a4_3));
+        min = Math.min(min,Math.abs(a.a4_4));
+        min = Math.min(min,Math.abs(a.a4_5));
+        min = Math.min(min,Math.abs(a.a4_6));
+        min = Math.min(min,Math.abs(a.a4_7));
+        min = Math.min(min,Math.abs(a.a4_8));
+        min = Math.min(min,Math.abs(a.a4_9));
+        min = Math.min(min,Math.abs(a.a4_10));
+        min = Math.min(min,Math.abs(a.a4_11));
+        min = Math.min(min,Math.abs(a.a4_12));
+        min = Math.min(min,Math.abs(a.a5_1));
+        min = Math.min(min,Math.abs(a.a5_2));
+        min = Math.min(min,Math.abs(a.a5_3));
+        min = Math.min(min,Math.abs(a.a5_4));
+        min = Math.min(min,Math.abs(a.a5_5));
+        min = Math.min(min,Math.abs(a.a5_6));
+        min = Math.min(min,Math.abs(a.a5_7));
+        min = Math.min(min,Math.abs(a.a5_8));
+        min = Math.min(min,Math.abs(a.a5_9));
+        min = Math.min(min,Math.abs(a.a5_10));
+        min = Math.min(min,Math.abs(a.a5_11));
+        min = Math.min(min,Math.abs(a.a5_12));
+        min = Math.min(min,Math.abs(a.a6_1));
+        min = Math.min(min,Math.abs(a.a6_2));
+        min = Math.min(min,Math.abs(a.a6_3));
+        min = Math.min(min,Math.abs(a.a6_4));
+        min = Math.min(min,Math.abs(a.a6_5));
+        min = Math.min(min,Math.abs(a.a6_6));
+        min = Math.min(min,Math.abs(a.a6_7));
+        min = Math.min(min,Math.abs(a.a6_8));
+        min = Math.min(min,Math.abs(a.a6_9));
+        min = Math.min(min,Math.abs(a.a6_10));
+        min = Math.min(min,Math.abs(a.a6_11));
+        min = Math.min(min,Math.abs(a.a6_12));
+        min = Math.min(min,Math.abs(a.a7_1));
+        min = Math.min(min,Math.abs(a.a7_2));
+        min = Math.min(min,Math.abs(a.a7_3));
+        min = Math.min(min,Math.abs(a.a7_4));
+        min = Math.min(min,Math.abs(a.a7_5));
+        min = Math.min(min,Math.abs(a.a7_6));
+        min = Math.min(min,Math.abs(a.a7_7));
+        min = Math.min(min,Math.abs(a.a7_8));
+        min = Math.min(min,Math.abs(a.a7_9));
+        min = Math.min(min,Math.abs(a.a7_10));
+        min = Math.min(min,Math.abs(a.a7_11));
+        min = Math.min(min,Math.abs(a.a7_12));
+        min = Math.min(min,Math.abs(a.a8_1));
+        min = Math.min(min,Math.abs(a.a8_2));
+        min = Math.min(min,Math.abs(a.a8_3));
+        min = Math.min(min,Math.abs(a.a8_4));
+        min = Math.min(min,Math.abs(a.a8_5));
+        min = Math.min(min,Math.abs(a.a8_6));
+        min = Math.min(min,Math.abs(a.a8_7));
+        min = Math.min(min,Math.abs(a.a8_8));
+        min = Math.min(min,Math.abs(a.a8_9));
+        min = Math.min(min,Math.abs(a.a8_10));
+        min = Math.min(min,Math.abs(a.a8_11));
+        min = Math.min(min,Math.abs(a.a8_12));
+        min = Math.min(min,Math.abs(a.a9_1));
+        min = Math.min(min,Math.abs(a.a9_2));
+        min = Math.min(min,Math.abs(a.a9_3));
+        min = Math.min(min,Math.abs(a.a9_4));
+        min = Math.min(min,Math.abs(a.a9_5));
+        min = Math.min(min,Math.abs(a.a9_6));
+        min = Math.min(min,Math.abs(a.a9_7));
+        min = Math.min(min,Math.abs(a.a9_8));
+        min = Math.min(min,Math.abs(a.a9_9));
+        min = Math.min(min,Math.abs(a.a9_10));
+        min = Math.min(min,Math.abs(a.a9_11));
+        min = Math.min(min,Math.abs(a.a9_12));
+        min = Math.min(min,Math.abs(a.a10_1));
+        min = Math.min(min,Math.abs(a.a10_2));
+        min = Math.min(min,Math.abs(a.a10_3));
+        min = Math.min(min,Math.abs(a.a10_4));
+        min = Math.min(min,Math.abs(a.a10_5));
+        min = Math.min(min,Math.abs(a.a10_6));
+        min = Math.min(min,Math.abs(a.a10_7));
+        min = Math.min(min,Math.abs(a.a10_8));
+        min = Math.min(min,Math.abs(a.a10_9));
+        min = Math.min(min,Math.abs(a.a10_10));
+        min = Math.min(min,Math.abs(a.a10_11));
+        min = Math.min(min,Math.abs(a.a10_12));
+        min = Math.min(min,Math.abs(a.a11_1));
+        min = Math.min(min,Math.abs(a.a11_2));
+        min = Math.min(min,Math.abs(a.a11_3));
+        min = Math.min(min,Math.abs(a.a11_4));
+        min = Math.min(min,Math.abs(a.a11_5));
+        min = Math.min(min,Math.abs(a.a11_6));
+        min = Math.min(min,Math.abs(a.a11_7));
+        min = Math.min(min,Math.abs(a.a11_8));
+        min = Math.min(min,Math.abs(a.a11_9));
+        min = Math.min(min,Math.abs(a.a11_10));
+        min = Math.min(min,Math.abs(a.a11_11));
+        min = Math.min(min,Math.abs(a.a11_12));
+        min = Math.min(min,Math.abs(a.a12_1));
+        min = Math.min(min,Math.abs(a.a12_2));
+        min = Math.min(min,Math.abs(a.a12_3));
+        min = Math.min(min,Math.abs(a.a12_4));
+        min = Math.min(min,Math.abs(a.a12_5));
+        min = Math.min(min,Math.abs(a.a12_6));
+        min = Math.min(min,Math.abs(a.a12_7));
+        min = Math.min(min,Math.abs(a.a12_8));
+        min = Math.min(min,Math.abs(a.a12_9));
+        min = Math.min(min,Math.abs(a.a12_10));
+        min = Math.min(min,Math.abs(a.a12_11));
+        min = Math.min(min,Math.abs(a.a12_12));
+
+        return min;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b) {
+        a.a1_1 *= b.a1_1; a.a1_2 *= b.a1_2; a.a1_3 *= b.a1_3; a.a1_4 *= b.a1_4; a.a1_5 *= b.a1_5; a.a1_6 *= b.a1_6; a.a1_7 *= b.a1_7; a.a1_8 *= b.a1_8; a.a1_9 *= b.a1_9; a.a1_10 *= b.a1_10; a.a1_11 *= b.a1_11; a.a1_12 *= b.a1_12;
+        a.a2_1 *= b.a2_1; a.a2_2 *= b.a2_2; a.a2_3 *= b.a2_3; a.a2_4 *= b.a2_4; a.a2_5 *= b.a2_5; a.a2_6 *= b.a2_6; a.a2_7 *= b.a2_7; a.a2_8 *= b.a2_8; a.a2_9 *= b.a2_9; a.a2_10 *= b.a2_10; a.a2_11 *= b.a2_11; a.a2_12 *= b.a2_12;
+        a.a3_1 *= b.a3_1; a.a3_2 *= b.a3_2; a.a3_3 *= b.a3_3; a.a3_4 *= b.a3_4; a.a3_5 *= b.a3_5; a.a3_6 *= b.a3_6; a.a3_7 *= b.a3_7; a.a3_8 *= b.a3_8; a.a3_9 *= b.a3_9; a.a3_10 *= b.a3_10; a.a3_11 *= b.a3_11; a.a3_12 *= b.a3_12;
+        a.a4_1 *= b.a4_1; a.a4_2 *= b.a4_2; a.a4_3 *= b.a4_3; a.a4_4 *= b.a4_4; a.a4_5 *= b.a4_5; a.a4_6 *= b.a4_6; a.a4_7 *= b.a4_7; a.a4_8 *= b.a4_8; a.a4_9 *= b.a4_9; a.a4_10 *= b.a4_10; a.a4_11 *= b.a4_11; a.a4_12 *= b.a4_12;
+        a.a5_1 *= b.a5_1; a.a5_2 *= b.a5_2; a.a5_3 *= b.a5_3; a.a5_4 *= b.a5_4; a.a5_5 *= b.a5_5; a.a5_6 *= b.a5_6; a.a5_7 *= b.a5_7; a.a5_8 *= b.a5_8; a.a5_9 *= b.a5_9; a.a5_10 *= b.a5_10; a.a5_11 *= b.a5_11; a.a5_12 *= b.a5_12;
+        a.a6_1 *= b.a6_1; a.a6_2 *= b.a6_2; a.a6_3 *= b.a6_3; a.a6_4 *= b.a6_4; a.a6_5 *= b.a6_5; a.a6_6 *= b.a6_6; a.a6_7 *= b.a6_7; a.a6_8 *= b.a6_8; a.a6_9 *= b.a6_9; a.a6_10 *= b.a6_10; a.a6_11 *= b.a6_11; a.a6_12 *= b.a6_12;
+        a.a7_1 *= b.a7_1; a.a7_2 *= b.a7_2; a.a7_3 *= b.a7_3; a.a7_4 *= b.a7_4; a.a7_5 *= b.a7_5; a.a7_6 *= b.a7_6; a.a7_7 *= b.a7_7; a.a7_8 *= b.a7_8; a.a7_9 *= b.a7_9; a.a7_10 *= b.a7_10; a.a7_11 *= b.a7_11; a.a7_12 *= b.a7_12;
+        a.a8_1 *= b.a8_1; a.a8_2 *= b.a8_2; a.a8_3 *= b.a8_3; a.a8_4 *= b.a8_4; a.a8_5 *= b.a8_5; a.a8_6 *= b.a8_6; a.a8_7 *= b.a8_7; a.a8_8 *= b.a8_8; a.a8_9 *= b.a8_9; a.a8_10 *= b.a8_10; a.a8_11 *= b.a8_11; a.a8_12 *= b.a8_12;
+        a.a9_1 *= b.a9_1; a.a9_2 *= b.a9_2; a.a9_3 *= b.a9_3; a.a9_4 *= b.a9_4; a.a9_5 *= b.a9_5; a.a9_6 *= b.a9_6; a.a9_7 *= b.a9_7; a.a9_8 *= b.a9_8; a.a9_9 *= b.a9_9; a.a9_10 *= b.a9_10; a.a9_11 *= b.a9_11; a.a9_12 *= b.a9_12;
+        a.a10_1 *= b.a10_1; a.a10_2 *= b.a10_2; a.a10_3 *= b.a10_3; a.a10_4 *= b.a10_4; a.a10_5 *= b.a10_5; a.a10_6 *= b.a10_6; a.a10_7 *= b.a10_7; a.a10_8 *= b.a10_8; a.a10_9 *= b.a10_9; a.a10_10 *= b.a10_10; a.a10_11 *= b.a10_11; a.a10_12 *= b.a10_12;
+        a.a11_1 *= b.a11_1; a.a11_2 *= b.a11_2; a.a11_3 *= b.a11_3; a.a11_4 *= b.a11_4; a.a11_5 *= b.a11_5; a.a11_6 *= b.a11_6; a.a11_7 *= b.a11_7; a.a11_8 *= b.a11_8; a.a11_9 *= b.a11_9; a.a11_10 *= b.a11_10; a.a11_11 *= b.a11_11; a.a11_12 *= b.a11_12;
+        a.a12_1 *= b.a12_1; a.a12_2 *= b.a12_2; a.a12_3 *= b.a12_3; a.a12_4 *= b.a12_4; a.a12_5 *= b.a12_5; a.a12_6 *= b.a12_6; a.a12_7 *= b.a12_7; a.a12_8 *= b.a12_8; a.a12_9 *= b.a12_9; a.a12_10 *= b.a12_10; a.a12_11 *= b.a12_11; a.a12_12 *= b.a12_12;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c ) {
+        c.a1_1 = a.a1_1*b.a1_1; c.a1_2 = a.a1_2*b.a1_2; c.a1_3 = a.a1_3*b.a1_3; c.a1_4 = a.a1_4*b.a1_4; c.a1_5 = a.a1_5*b.a1_5; c.a1_6 = a.a1_6*b.a1_6; c.a1_7 = a.a1_7*b.a1_7; c.a1_8 = a.a1_8*b.a1_8; c.a1_9 = a.a1_9*b.a1_9; c.a1_10 = a.a1_10*b.a1_10; c.a1_11 = a.a1_11*b.a1_11; c.a1_12 = a.a1_12*b.a1_12;
+        c.a2_1 = a.a2_1*b.a2_1; c.a2_2 = a.a2_2*b.a2_2; c.a2_3 = a.a2_3*b.a2_3; c.a2_4 = a.a2_4*b.a2_4; c.a2_5 = a.a2_5*b.a2_5; c.a2_6 = a.a2_6*b.a2_6; c.a2_7 = a.a2_7*b.a2_7; c.a2_8 = a.a2_8*b.a2_8; c.a2_9 = a.a2_9*b.a2_9; c.a2_10 = a.a2_10*b.a2_10; c.a2_11 = a.a2_11*b.a2_11; c.a2_12 = a.a2_12*b.a2_12;
+        c.a3_1 = a.a3_1*b.a3_1; c.a3_2 = a.a3_2*b.a3_2; c.a3_3 = a.a3_3*b.a3_3; c.a3_4 = a.a3_4*b.a3_4; c.a3_5 = a.a3_5*b.a3_5; c.a3_6 = a.a3_6*b.a3_6; c.a3_7 = a.a3_7*b.a3_7; c.a3_8 = a.a3_8*b.a3_8; c.a3_9 = a.a3_9*b.a3_9; c.a3_10 = a.a3_10*b.a3_10; c.a3_11 = a.a3_11*b.a3_11; c.a3_12 = a.a3_12*b.a3_12;
+        c.a4_1 = a.a4_1*b.a4_1; c.a4_2 = a.a4_2*b.a4_2; c.a4_3 = a.a4_3*b.a4_3; c.a4_4 = a.a4_4*b.a4_4; c.a4_5 = a.a4_5*b.a4_5; c.a4_6 = a.a4_6*b.a4_6; c.a4_7 = a.a4_7*b.a4_7; c.a4_8 = a.a4_8*b.a4_8; c.a4_9 = a.a4_9*b.a4_9; c.a4_10 = a.a4_10*b.a4_10; c.a4_11 = a.a4_11*b.a4_11; c.a4_12 = a.a4_12*b.a4_12;
+        c.a5_1 = a.a5_1*b.a5_1; c.a5_2 = a.a5_2*b.a5_2; c.a5_3 = a.a5_3*b.a5_3; c.a5_4 = a.a5_4*b.a5_4; c.a5_5 = a.a5_5*b.a5_5; c.a5_6 = a.a5_6*b.a5_6; c.a5_7 = a.a5_7*b.a5_7; c.a5_8 = a.a5_8*b.a5_8; c.a5_9 = a.a5_9*b.a5_9; c.a5_10 = a.a5_10*b.a5_10; c.a5_11 = a.a5_11*b.a5_11; c.a5_12 = a.a5_12*b.a5_12;
+        c.a6_1 = a.a6_1*b.a6_1; c.a6_2 = a.a6_2*b.a6_2; c.a6_3 = a.a6_3*b.a6_3; c.a6_4 = a.a6_4*b.a6_4; c.a6_5 = a.a6_5*b.a6_5; c.a6_6 = a.a6_6*b.a6_6; c.a6_7 = a.a6_7*b.a6_7; c.a6_8 = a.a6_8*b.a6_8; c.a6_9 = a.a6_9*b.a6_9; c.a6_10 = a.a6_10*b.a6_10; c.a6_11 = a.a6_11*b.a6_11; c.a6_12 = a.a6_12*b.a6_12;
+        c.a7_1 = a.a7_1*b.a7_1; c.a7_2 = a.a7_2*b.a7_2; c.a7_3 = a.a7_3*b.a7_3; c.a7_4 = a.a7_4*b.a7_4; c.a7_5 = a.a7_5*b.a7_5; c.a7_6 = a.a7_6*b.a7_6; c.a7_7 = a.a7_7*b.a7_7; c.a7_8 = a.a7_8*b.a7_8; c.a7_9 = a.a7_9*b.a7_9; c.a7_10 = a.a7_10*b.a7_10; c.a7_11 = a.a7_11*b.a7_11; c.a7_12 = a.a7_12*b.a7_12;
+        c.a8_1 = a.a8_1*b.a8_1; c.a8_2 = a.a8_2*b.a8_2; c.a8_3 = a.a8_3*b.a8_3; c.a8_4 = a.a8_4*b.a8_4; c.a8_5 = a.a8_5*b.a8_5; c.a8_6 = a.a8_6*b.a8_6; c.a8_7 = a.a8_7*b.a8_7; c.a8_8 = a.a8_8*b.a8_8; c.a8_9 = a.a8_9*b.a8_9; c.a8_10 = a.a8_10*b.a8_10; c.a8_11 = a.a8_11*b.a8_11; c.a8_12 = a.a8_12*b.a8_12;
+        c.a9_1 = a.a9_1*b.a9_1; c.a9_2 = a.a9_2*b.a9_2; c.a9_3 = a.a9_3*b.a9_3; c.a9_4 = a.a9_4*b.a9_4; c.a9_5 = a.a9_5*b.a9_5; c.a9_6 = a.a9_6*b.a9_6; c.a9_7 = a.a9_7*b.a9_7; c.a9_8 = a.a9_8*b.a9_8; c.a9_9 = a.a9_9*b.a9_9; c.a9_10 = a.a9_10*b.a9_10; c.a9_11 = a.a9_11*b.a9_11; c.a9_12 = a.a9_12*b.a9_12;
+        c.a10_1 = a.a10_1*b.a10_1; c.a10_2 = a.a10_2*b.a10_2; c.a10_3 = a.a10_3*b.a10_3; c.a10_4 = a.a10_4*b.a10_4; c.a10_5 = a.a10_5*b.a10_5; c.a10_6 = a.a10_6*b.a10_6; c.a10_7 = a.a10_7*b.a10_7; c.a10_8 = a.a10_8*b.a10_8; c.a10_9 = a.a10_9*b.a10_9; c.a10_10 = a.a10_10*b.a10_10; c.a10_11 = a.a10_11*b.a10_11; c.a10_12 = a.a10_12*b.a10_12;
+        c.a11_1 = a.a11_1*b.a11_1; c.a11_2 = a.a11_2*b.a11_2; c.a11_3 = a.a11_3*b.a11_3; c.a11_4 = a.a11_4*b.a11_4; c.a11_5 = a.a11_5*b.a11_5; c.a11_6 = a.a11_6*b.a11_6; c.a11_7 = a.a11_7*b.a11_7; c.a11_8 = a.a11_8*b.a11_8; c.a11_9 = a.a11_9*b.a11_9; c.a11_10 = a.a11_10*b.a11_10; c.a11_11 = a.a11_11*b.a11_11; c.a11_12 = a.a11_12*b.a11_12;
+        c.a12_1 = a.a12_1*b.a12_1; c.a12_2 = a.a12_2*b.a12_2; c.a12_3 = a.a12_3*b.a12_3; c.a12_4 = a.a12_4*b.a12_4; c.a12_5 = a.a12_5*b.a12_5; c.a12_6 = a.a12_6*b.a12_6; c.a12_7 = a.a12_7*b.a12_7; c.a12_8 = a.a12_8*b.a12_8; c.a12_9 = a.a12_9*b.a12_9; c.a12_10 = a.a12_10*b.a12_10; c.a12_11 = a.a12_11*b.a12_11; c.a12_12 = a.a12_12*b.a12_12;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b) {
+        a.a1_1 /= b.a1_1; a.a1_2 /= b.a1_2; a.a1_3 /= b.a1_3; a.a1_4 /= b.a1_4; a.a1_5 /= b.a1_5; a.a1_6 /= b.a1_6; a.a1_7 /= b.a1_7; a.a1_8 /= b.a1_8; a.a1_9 /= b.a1_9; a.a1_10 /= b.a1_10; a.a1_11 /= b.a1_11; a.a1_12 /= b.a1_12;
+        a.a2_1 /= b.a2_1; a.a2_2 /= b.a2_2; a.a2_3 /= b.a2_3; a.a2_4 /= b.a2_4; a.a2_5 /= b.a2_5; a.a2_6 /= b.a2_6; a.a2_7 /= b.a2_7; a.a2_8 /= b.a2_8; a.a2_9 /= b.a2_9; a.a2_10 /= b.a2_10; a.a2_11 /= b.a2_11; a.a2_12 /= b.a2_12;
+        a.a3_1 /= b.a3_1; a.a3_2 /= b.a3_2; a.a3_3 /= b.a3_3; a.a3_4 /= b.a3_4; a.a3_5 /= b.a3_5; a.a3_6 /= b.a3_6; a.a3_7 /= b.a3_7; a.a3_8 /= b.a3_8; a.a3_9 /= b.a3_9; a.a3_10 /= b.a3_10; a.a3_11 /= b.a3_11; a.a3_12 /= b.a3_12;
+        a.a4_1 /= b.a4_1; a.a4_2 /= b.a4_2; a.a4_3 /= b.a4_3; a.a4_4 /= b.a4_4; a.a4_5 /= b.a4_5; a.a4_6 /= b.a4_6; a.a4_7 /= b.a4_7; a.a4_8 /= b.a4_8; a.a4_9 /= b.a4_9; a.a4_10 /= b.a4_10; a.a4_11 /= b.a4_11; a.a4_12 /= b.a4_12;
+        a.a5_1 /= b.a5_1; a.a5_2 /= b.a5_2; a.a5_3 /= b.a5_3; a.a5_4 /= b.a5_4; a.a5_5 /= b.a5_5; a.a5_6 /= b.a5_6; a.a5_7 /= b.a5_7; a.a5_8 /= b.a5_8; a.a5_9 /= b.a5_9; a.a5_10 /= b.a5_10; a.a5_11 /= b.a5_11; a.a5_12 /= b.a5_12;
+        a.a6_1 /= b.a6_1; a.a6_2 /= b.a6_2; a.a6_3 /= b.a6_3; a.a6_4 /= b.a6_4; a.a6_5 /= b.a6_5; a.a6_6 /= b.a6_6; a.a6_7 /= b.a6_7; a.a6_8 /= b.a6_8; a.a6_9 /= b.a6_9; a.a6_10 /= b.a6_10; a.a6_11 /= b.a6_11; a.a6_12 /= b.a6_12;
+        a.a7_1 /= b.a7_1; a.a7_2 /= b.a7_2; a.a7_3 /= b.a7_3; a.a7_4 /= b.a7_4; a.a7_5 /= b.a7_5; a.a7_6 /= b.a7_6; a.a7_7 /= b.a7_7; a.a7_8 /= b.a7_8; a.a7_9 /= b.a7_9; a.a7_10 /= b.a7_10; a.a7_11 /= b.a7_11; a.a7_12 /= b.a7_12;
+        a.a8_1 /= b.a8_1; a.a8_2 /= b.a8_2; a.a8_3 /= b.a8_3; a.a8_4 /= b.a8_4; a.a8_5 /= b.a8_5; a.a8_6 /= b.a8_6; a.a8_7 /= b.a8_7; a.a8_8 /= b.a8_8; a.a8_9 /= b.a8_9; a.a8_10 /= b.a8_10; a.a8_11 /= b.a8_11; a.a8_12 /= b.a8_12;
+        a.a9_1 /= b.a9_1; a.a9_2 /= b.a9_2; a.a9_3 /= b.a9_3; a.a9_4 /= b.a9_4; a.a9_5 /= b.a9_5; a.a9_6 /= b.a9_6; a.a9_7 /= b.a9_7; a.a9_8 /= b.a9_8; a.a9_9 /= b.a9_9; a.a9_10 /= b.a9_10; a.a9_11 /= b.a9_11; a.a9_12 /= b.a9_12;
+        a.a10_1 /= b.a10_1; a.a10_2 /= b.a10_2; a.a10_3 /= b.a10_3; a.a10_4 /= b.a10_4; a.a10_5 /= b.a10_5; a.a10_6 /= b.a10_6; a.a10_7 /= b.a10_7; a.a10_8 /= b.a10_8; a.a10_9 /= b.a10_9; a.a10_10 /= b.a10_10; a.a10_11 /= b.a10_11; a.a10_12 /= b.a10_12;
+        a.a11_1 /= b.a11_1; a.a11_2 /= b.a11_2; a.a11_3 /= b.a11_3; a.a11_4 /= b.a11_4; a.a11_5 /= b.a11_5; a.a11_6 /= b.a11_6; a.a11_7 /= b.a11_7; a.a11_8 /= b.a11_8; a.a11_9 /= b.a11_9; a.a11_10 /= b.a11_10; a.a11_11 /= b.a11_11; a.a11_12 /= b.a11_12;
+        a.a12_1 /= b.a12_1; a.a12_2 /= b.a12_2; a.a12_3 /= b.a12_3; a.a12_4 /= b.a12_4; a.a12_5 /= b.a12_5; a.a12_6 /= b.a12_6; a.a12_7 /= b.a12_7; a.a12_8 /= b.a12_8; a.a12_9 /= b.a12_9; a.a12_10 /= b.a12_10; a.a12_11 /= b.a12_11; a.a12_12 /= b.a12_12;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( FixedMatrix12x12_64F a , FixedMatrix12x12_64F b , FixedMatrix12x12_64F c ) {
+        c.a1_1 = a.a1_1/b.a1_1; c.a1_2 = a.a1_2/b.a1_2; c.a1_3 = a.a1_3/b.a1_3; c.a1_4 = a.a1_4/b.a1_4; c.a1_5 = a.a1_5/b.a1_5; c.a1_6 = a.a1_6/b.a1_6; c.a1_7 = a.a1_7/b.a1_7; c.a1_8 = a.a1_8/b.a1_8; c.a1_9 = a.a1_9/b.a1_9; c.a1_10 = a.a1_10/b.a1_10; c.a1_11 = a.a1_11/b.a1_11; c.a1_12 = a.a1_12/b.a1_12;
+        c.a2_1 = a.a2_1/b.a2_1; c.a2_2 = a.a2_2/b.a2_2; c.a2_3 = a.a2_3/b.a2_3; c.a2_4 = a.a2_4/b.a2_4; c.a2_5 = a.a2_5/b.a2_5; c.a2_6 = a.a2_6/b.a2_6; c.a2_7 = a.a2_7/b.a2_7; c.a2_8 = a.a2_8/b.a2_8; c.a2_9 = a.a2_9/b.a2_9; c.a2_10 = a.a2_10/b.a2_10; c.a2_11 = a.a2_11/b.a2_11; c.a2_12 = a.a2_12/b.a2_12;
+        c.a3_1 = a.a3_1/b.a3_1; c.a3_2 = a.a3_2/b.a3_2; c.a3_3 = a.a3_3/b.a3_3; c.a3_4 = a.a3_4/b.a3_4; c.a3_5 = a.a3_5/b.a3_5; c.a3_6 = a.a3_6/b.a3_6; c.a3_7 = a.a3_7/b.a3_7; c.a3_8 = a.a3_8/b.a3_8; c.a3_9 = a.a3_9/b.a3_9; c.a3_10 = a.a3_10/b.a3_10; c.a3_11 = a.a3_11/b.a3_11; c.a3_12 = a.a3_12/b.a3_12;
+        c.a4_1 = a.a4_1/b.a4_1; c.a4_2 = a.a4_2/b.a4_2; c.a4_3 = a.a4_3/b.a4_3; c.a4_4 = a.a4_4/b.a4_4; c.a4_5 = a.a4_5/b.a4_5; c.a4_6 = a.a4_6/b.a4_6; c.a4_7 = a.a4_7/b.a4_7; c.a4_8 = a.a4_8/b.a4_8; c.a4_9 = a.a4_9/b.a4_9; c.a4_10 = a.a4_10/b.a4_10; c.a4_11 = a.a4_11/b.a4_11; c.a4_12 = a.a4_12/b.a4_12;
+        c.a5_1 = a.a5_1/b.a5_1; c.a5_2 = a.a5_2/b.a5_2; c.a5_3 = a.a5_3/b.a5_3; c.a5_4 = a.a5_4/b.a5_4; c.a5_5 = a.a5_5/b.a5_5; c.a5_6 = a.a5_6/b.a5_6; c.a5_7 = a.a5_7/b.a5_7; c.a5_8 = a.a5_8/b.a5_8; c.a5_9 = a.a5_9/b.a5_9; c.a5_10 = a.a5_10/b.a5_10; c.a5_11 = a.a5_11/b.a5_11; c.a5_12 = a.a5_12/b.a5_12;
+        c.a6_1 = a.a6_1/b.a6_1; c.a6_2 = a.a6_2/b.a6_2; c.a6_3 = a.a6_3/b.a6_3; c.a6_4 = a.a6_4/b.a6_4; c.a6_5 = a.a6_5/b.a6_5; c.a6_6 = a.a6_6/b.a6_6; c.a6_7 = a.a6_7/b.a6_7; c.a6_8 = a.a6_8/b.a6_8; c.a6_9 = a.a6_9/b.a6_9; c.a6_10 = a.a6_10/b.a6_10; c.a6_11 = a.a6_11/b.a6_11; c.a6_12 = a.a6_12/b.a6_12;
+        c.a7_1 = a.a7_1/b.a7_1; c.a7_2 = a.a7_2/b.a7_2; c.a7_3 = a.a7_3/b.a7_3; c.a7_4 = a.a7_4/b.a7_4; c.a7_5 = a.a7_5/b.a7_5; c.a7_6 = a.a7_6/b.a7_6; c.a7_7 = a.a7_7/b.a7_7; c.a7_8 = a.a7_8/b.a7_8; c.a7_9 = a.a7_9/b.a7_9; c.a7_10 = a.a7_10/b.a7_10; c.a7_11 = a.a7_11/b.a7_11; c.a7_12 = a.a7_12/b.a7_12;
+        c.a8_1 = a.a8_1/b.a8_1; c.a8_2 = a.a8_2/b.a8_2; c.a8_3 = a.a8_3/b.a8_3; c.a8_4 = a.a8_4/b.a8_4; c.a8_5 = a.a8_5/b.a8_5; c.a8_6 = a.a8_6/b.a8_6; c.a8_7 = a.a8_7/b.a8_7; c.a8_8 = a.a8_8/b.a8_8; c.a8_9 = a.a8_9/b.a8_9; c.a8_10 = a.a8_10/b.a8_10; c.a8_11 = a.a8_11/b.a8_11; c.a8_12 = a.a8_12/b.a8_12;
+        c.a9_1 = a.a9_1/b.a9_1; c.a9_2 = a.a9_2/b.a9_2; c.a9_3 = a.a9_3/b.a9_3; c.a9_4 = a.a9_4/b.a9_4; c.a9_5 = a.a9_5/b.a9_5; c.a9_6 = a.a9_6/b.a9_6; c.a9_7 = a.a9_7/b.a9_7; c.a9_8 = a.a9_8/b.a9_8; c.a9_9 = a.a9_9/b.a9_9; c.a9_10 = a.a9_10/b.a9_10; c.a9_11 = a.a9_11/b.a9_11; c.a9_12 = a.a9_12/b.a9_12;
+        c.a10_1 = a.a10_1/b.a10_1; c.a10_2 = a.a10_2/b.a10_2; c.a10_3 = a.a10_3/b.a10_3; c.a10_4 = a.a10_4/b.a10_4; c.a10_5 = a.a10_5/b.a10_5; c.a10_6 = a.a10_6/b.a10_6; c.a10_7 = a.a10_7/b.a10_7; c.a10_8 = a.a10_8/b.a10_8; c.a10_9 = a.a10_9/b.a10_9; c.a10_10 = a.a10_10/b.a10_10; c.a10_11 = a.a10_11/b.a10_11; c.a10_12 = a.a10_12/b.a10_12;
+        c.a11_1 = a.a11_1/b.a11_1; c.a11_2 = a.a11_2/b.a11_2; c.a11_3 = a.a11_3/b.a11_3; c.a11_4 = a.a11_4/b.a11_4; c.a11_5 = a.a11_5/b.a11_5; c.a11_6 = a.a11_6/b.a11_6; c.a11_7 = a.a11_7/b.a11_7; c.a11_8 = a.a11_8/b.a11_8; c.a11_9 = a.a11_9/b.a11_9; c.a11_10 = a.a11_10/b.a11_10; c.a11_11 = a.a11_11/b.a11_11; c.a11_12 = a.a11_12/b.a11_12;
+        c.a12_1 = a.a12_1/b.a12_1; c.a12_2 = a.a12_2/b.a12_2; c.a12_3 = a.a12_3/b.a12_3; c.a12_4 = a.a12_4/b.a12_4; c.a12_5 = a.a12_5/b.a12_5; c.a12_6 = a.a12_6/b.a12_6; c.a12_7 = a.a12_7/b.a12_7; c.a12_8 = a.a12_8/b.a12_8; c.a12_9 = a.a12_9/b.a12_9; c.a12_10 = a.a12_10/b.a12_10; c.a12_11 = a.a12_11/b.a12_11; c.a12_12 = a.a12_12/b.a12_12;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled.  Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , FixedMatrix12x12_64F a ) {
+        a.a1_1 *= alpha; a.a1_2 *= alpha; a.a1_3 *= alpha; a.a1_4 *= alpha; a.a1_5 *= alpha; a.a1_6 *= alpha; a.a1_7 *= alpha; a.a1_8 *= alpha; a.a1_9 *= alpha; a.a1_10 *= alpha; a.a1_11 *= alpha; a.a1_12 *= alpha;
+        a.a2_1 *= alpha; a.a2_2 *= alpha; a.a2_3 *= alpha; a.a2_4 *= alpha; a.a2_5 *= alpha; a.a2_6 *= alpha; a.a2_7 *= alpha; a.a2_8 *= alpha; a.a2_9 *= alpha; a.a2_10 *= alpha; a.a2_11 *= alpha; a.a2_12 *= alpha;
+        a.a3_1 *= alpha; a.a3_2 *= alpha; a.a3_3 *= alpha; a.a3_4 *= alpha; a.a3_5 *= alpha; a.a3_6 *= alpha; a.a3_7 *= alpha; a.a3_8 *= alpha; a.a3_9 *= alpha; a.a3_10 *= alpha; a.a3_11 *= alpha; a.a3_12 *= alpha;
+        a.a4_1 *= alpha; a.a4_2 *= alpha; a.a4_3 *= alpha; a.a4_4 *= alpha; a.a4_5 *= alpha; a.a4_6 *= alpha; a.a4_7 *= alpha; a.a4_8 *= alpha; a.a4_9 *= alpha; a.a4_10 *= alpha; a.a4_11 *= alpha; a.a4_12 *= alpha;
+        a.a5_1 *= alpha; a.a5_2 *= alpha; a.a5_3 *= alpha; a.a5_4 *= alpha; a.a5_5 *= alpha; a.a5_6 *= alpha; a.a5_7 *= alpha; a.a5_8 *= alpha; a.a5_9 *= alpha; a.a5_10 *= alpha; a.a5_11 *= alpha; a.a5_12 *= alpha;
+        a.a6_1 *= alpha; a.a6_2 *= alpha; a.a6_3 *= alpha; a.a6_4 *= alpha; a.a6_5 *= alpha; a.a6_6 *= alpha; a.a6_7 *= alpha; a.a6_8 *= alpha; a.a6_9 *= alpha; a.a6_10 *= alpha; a.a6_11 *= alpha; a.a6_12 *= alpha;
+        a.a7_1 *= alpha; a.a7_2 *= alpha; a.a7_3 *= alpha; a.a7_4 *= alpha; a.a7_5 *= alpha; a.a7_6 *= alpha; a.a7_7 *= alpha; a.a7_8 *= alpha; a.a7_9 *= alpha; a.a7_10 *= alpha; a.a7_11 *= alpha; a.a7_12 *= alpha;
+        a.a8_1 *= alpha; a.a8_2 *= alpha; a.a8_3 *= alpha; a.a8_4 *= alpha; a.a8_5 *= alpha; a.a8_6 *= alpha; a.a8_7 *= alpha; a.a8_8 *= alpha; a.a8_9 *= alpha; a.a8_10 *= alpha; a.a8_11 *= alpha; a.a8_12 *= alpha;
+        a.a9_1 *= alpha; a.a9_2 *= alpha; a.a9_3 *= alpha; a.a9_4 *= alpha; a.a9_5 *= alpha; a.a9_6 *= alpha; a.a9_7 *= alpha; a.a9_8 *= alpha; a.a9_9 *= alpha; a.a9_10 *= alpha; a.a9_11 *= alpha; a.a9_12 *= alpha;
+        a.a10_1 *= alpha; a.a10_2 *= alpha; a.a10_3 *= alpha; a.a10_4 *= alpha; a.a10_5 *= alpha; a.a10_6 *= alpha; a.a10_7 *= alpha; a.a10_8 *= alpha; a.a10_9 *= alpha; a.a10_10 *= alpha; a.a10_11 *= alpha; a.a10_12 *= alpha;
+        a.a11_1 *= alpha; a.a11_2 *= alpha; a.a11_3 *= alpha; a.a11_4 *= alpha; a.a11_5 *= alpha; a.a11_6 *= alpha; a.a11_7 *= alpha; a.a11_8 *= alpha; a.a11_9 *= alpha; a.a11_10 *= alpha; a.a11_11 *= alpha; a.a11_12 *= alpha;
+        a.a12_1 *= alpha; a.a12_2 *= alpha; a.a12_3 *= alpha; a.a12_4 *= alpha; a.a12_5 *= alpha; a.a12_6 *= alpha; a.a12_7 *= alpha; a.a12_8 *= alpha; a.a12_9 *= alpha; a.a12_10 *= alpha; a.a12_11 *= alpha; a.a12_12 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled.  Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , FixedMatrix12x12_64F a , FixedMatrix12x12_64F b ) {
+        b.a1_1 = a.a1_1*alpha; b.a1_2 = a.a1_2*alpha; b.a1_3 = a.a1_3*alpha; b.a1_4 = a.a1_4*alpha; b.a1_5 = a.a1_5*alpha; b.a1_6 = a.a1_6*alpha; b.a1_7 = a.a1_7*alpha; b.a1_8 = a.a1_8*alpha; b.a1_9 = a.a1_9*alpha; b.a1_10 = a.a1_10*alpha; b.a1_11 = a.a1_11*alpha; b.a1_12 = a.a1_12*alpha;
+        b.a2_1 = a.a2_1*alpha; b.a2_2 = a.a2_2*alpha; b.a2_3 = a.a2_3*alpha; b.a2_4 = a.a2_4*alpha; b.a2_5 = a.a2_5*alpha; b.a2_6 = a.a2_6*alpha; b.a2_7 = a.a2_7*alpha; b.a2_8 = a.a2_8*alpha; b.a2_9 = a.a2_9*alpha; b.a2_10 = a.a2_10*alpha; b.a2_11 = a.a2_11*alpha; b.a2_12 = a.a2_12*alpha;
+        b.a3_1 = a.a3_1*alpha; b.a3_2 = a.a3_2*alpha; b.a3_3 = a.a3_3*alpha; b.a3_4 = a.a3_4*alpha; b.a3_5 = a.a3_5*alpha; b.a3_6 = a.a3_6*alpha; b.a3_7 = a.a3_7*alpha; b.a3_8 = a.a3_8*alpha; b.a3_9 = a.a3_9*alpha; b.a3_10 = a.a3_10*alpha; b.a3_11 = a.a3_11*alpha; b.a3_12 = a.a3_12*alpha;
+        b.a4_1 = a.a4_1*alpha; b.a4_2 = a.a4_2*alpha; b.a4_3 = a.a4_3*alpha; b.a4_4 = a.a4_4*alpha; b.a4_5 = a.a4_5*alpha; b.a4_6 = a.a4_6*alpha; b.a4_7 = a.a4_7*alpha; b.a4_8 = a.a4_8*alpha; b.a4_9 = a.a4_9*alpha; b.a4_10 = a.a4_10*alpha; b.a4_11 = a.a4_11*alpha; b.a4_12 = a.a4_12*alpha;
+        b.a5_1 = a.a5_1*alpha; b.a5_2 = a.a5_2*alpha; b.a5_3 = a.a5_3*alpha; b.a5_4 = a.a5_4*alpha; b.a5_5 = a.a5_5*alpha; b.a5_6 = a.a5_6*alpha; b.a5_7 = a.a5_7*alpha; b.a5_8 = a.a5_8*alpha; b.a5_9 = a.a5_9*alpha; b.a5_10 = a.a5_10*alpha; b.a5_11 = a.a5_11*alpha; b.a5_12 = a.a5_12*alpha;
+        b.a6_1 = a.a6_1*alpha; b.a6_2 = a.a6_2*alpha; b.a6_3 = a.a6_3*alpha; b.a6_4 = a.a6_4*alpha; b.a6_5 = a.a6_5*alpha; b.a6_6 = a.a6_6*alpha; b.a6_7 = a.a6_7*alpha; b.a6_8 = a.a6_8*alpha; b.a6_9 = a.a6_9*alpha; b.a6_10 = a.a6_10*alpha; b.a6_11 = a.a6_11*alpha; b.a6_12 = a.a6_12*alpha;
+        b.a7_1 = a.a7_1*alpha; b.a7_2 = a.a7_2*alpha; b.a7_3 = a.a7_3*alpha; b.a7_4 = a.a7_4*alpha; b.a7_5 = a.a7_5*alpha; b.a7_6 = a.a7_6*alpha; b.a7_7 = a.a7_7*alpha; b.a7_8 = a.a7_8*alpha; b.a7_9 = a.a7_9*alpha; b.a7_10 = a.a7_10*alpha; b.a7_11 = a.a7_11*alpha; b.a7_12 = a.a7_12*alpha;
+        b.a8_1 = a.a8_1*alpha; b.a8_2 = a.a8_2*alpha; b.a8_3 = a.a8_3*alpha; b.a8_4 = a.a8_4*alpha; b.a8_5 = a.a8_5*alpha; b.a8_6 = a.a8_6*alpha; b.a8_7 = a.a8_7*alpha; b.a8_8 = a.a8_8*alpha; b.a8_9 = a.a8_9*alpha; b.a8_10 = a.a8_10*alpha; b.a8_11 = a.a8_11*alpha; b.a8_12 = a.a8_12*alpha;
+        b.a9_1 = a.a9_1*alpha; b.a9_2 = a.a9_2*alpha; b.a9_3 = a.a9_3*alpha; b.a9_4 = a.a9_4*alpha; b.a9_5 = a.a9_5*alpha; b.a9_6 = a.a9_6*alpha; b.a9_7 = a.a9_7*alpha; b.a9_8 = a.a9_8*alpha; b.a9_9 = a.a9_9*alpha; b.a9_10 = a.a9_10*alpha; b.a9_11 = a.a9_11*alpha; b.a9_12 = a.a9_12*alpha;
+        b.a10_1 = a.a10_1*alpha; b.a10_2 = a.a10_2*alpha; b.a10_3 = a.a10_3*alpha; b.a10_4 = a.a10_4*alpha; b.a10_5 = a.a10_5*alpha; b.a10_6 = a.a10_6*alpha; b.a10_7 = a.a10_7*alpha; b.a10_8 = a.a10_8*alpha; b.a10_9 = a.a10_9*alpha; b.a10_10 = a.a10_10*alpha; b.a10_11 = a.a10_11*alpha; b.a10_12 = a.a10_12*alpha;
+        b.a11_1 = a.a11_1*alpha; b.a11_2 = a.a11_2*alpha; b.a11_3 = a.a11_3*alpha; b.a11_4 = a.a11_4*alpha; b.a11_5 = a.a11_5*alpha; b.a11_6 = a.a11_6*alpha; b.a11_7 = a.a11_7*alpha; b.a11_8 = a.a11_8*alpha; b.a11_9 = a.a11_9*alpha; b.a11_10 = a.a11_10*alpha; b.a11_11 = a.a11_11*alpha; b.a11_12 = a.a11_12*alpha;
+        b.a12_1 = a.a12_1*alpha; b.a12_2 = a.a12_2*alpha; b.a12_3 = a.a12_3*alpha; b.a12_4 = a.a12_4*alpha; b.a12_5 = a.a12_5*alpha; b.a12_6 = a.a12_6*alpha; b.a12_7 = a.a12_7*alpha; b.a12_8 = a.a12_8*alpha; b.a12_9 = a.a12_9*alpha; b.a12_10 = a.a12_10*alpha; b.a12_11 = a.a12_11*alpha; b.a12_12 = a.a12_12*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided.  Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( double alpha , FixedMatrix12x12_64F a ) {
+        a.a1_1 /= alpha; a.a1_2 /= alpha; a.a1_3 /= alpha; a.a1_4 /= alpha; a.a1_5 /= alpha; a.a1_6 /= alpha; a.a1_7 /= alpha; a.a1_8 /= alpha; a.a1_9 /= alpha; a.a1_10 /= alpha; a.a1_11 /= alpha; a.a1_12 /= alpha;
+        a.a2_1 /= alpha; a.a2_2 /= alpha; a.a2_3 /= alpha; a.a2_4 /= alpha; a.a2_5 /= alpha; a.a2_6 /= alpha; a.a2_7 /= alpha; a.a2_8 /= alpha; a.a2_9 /= alpha; a.a2_10 /= alpha; a.a2_11 /= alpha; a.a2_12 /= alpha;
+        a.a3_1 /= alpha; a.a3_2 /= alpha; a.a3_3 /= alpha; a.a3_4 /= alpha; a.a3_5 /= alpha; a.a3_6 /= alpha; a.a3_7 /= alpha; a.a3_8 /= alpha; a.a3_9 /= alpha; a.a3_10 /= alpha; a.a3_11 /= alpha; a.a3_12 /= alpha;
+        a.a4_1 /= alpha; a.a4_2 /= alpha; a.a4_3 /= alpha; a.a4_4 /= alpha; a.a4_5 /= alpha; a.a4_6 /= alpha; a.a4_7 /= alpha; a.a4_8 /= alpha; a.a4_9 /= alpha; a.a4_10 /= alpha; a.a4_11 /= alpha; a.a4_12 /= alpha;
+        a.a5_1 /= alpha; a.a5_2 /= alpha; a.a5_3 /= alpha; a.a5_4 /= alpha; a.a5_5 /= alpha; a.a5_6 /= alpha; a.a5_7 /= alpha; a.a5_8 /= alpha; a.a5_9 /= alpha; a.a5_10 /= alpha; a.a5_11 /= alpha; a.a5_12 /= alpha;
+        a.a6_1 /= alpha; a.a6_2 /= alpha; a.a6_3 /= alpha; a.a6_4 /= alpha; a.a6_5 /= alpha; a.a6_6 /= alpha; a.a6_7 /= alpha; a.a6_8 /= alpha; a.a6_9 /= alpha; a.a6_10 /= alpha; a.a6_11 /= alpha; a.a6_12 /= alpha;
+        a.a7_1 /= alpha; a.a7_2 /= alpha; a.a7_3 /= alpha; a.a7_4 /= alpha; a.a7_5 /= alpha; a.a7_6 /= alpha; a.a7_7 /= alpha; a.a7_8 /= alpha; a.a7_9 /= alpha; a.a7_10 /= alpha; a.a7_11 /= alpha; a.a7_12 /= alpha;
+        a.a8_1 /= alpha; a.a8_2 /= alpha; a.a8_3 /= alpha; a.a8_4 /= alpha; a.a8_5 /= alpha; a.a8_6 /= alpha; a.a8_7 /= alpha; a.a8_8 /= alpha; a.a8_9 /= alpha; a.a8_10 /= alpha; a.a8_11 /= alpha; a.a8_12 /= alpha;
+        a.a9_1 /= alpha; a.a9_2 /= alpha; a.a9_3 /= alpha; a.a9_4 /= alpha; a.a9_5 /= alpha; a.a9_6 /= alpha; a.a9_7 /= alpha; a.a9_8 /= alpha; a.a9_9 /= alpha; a.a9_10 /= alpha; a.a9_11 /= alpha; a.a9_12 /= alpha;
+        a.a10_1 /= alpha; a.a10_2 /= alpha; a.a10_3 /= alpha; a.a10_4 /= alpha; a.a10_5 /= alpha; a.a10_6 /= alpha; a.a10_7 /= alpha; a.a10_8 /= alpha; a.a10_9 /= alpha; a.a10_10 /= alpha; a.a10_11 /= alpha; a.a10_12 /= alpha;
+        a.a11_1 /= alpha; a.a11_2 /= alpha; a.a11_3 /= alpha; a.a11_4 /= alpha; a.a11_5 /= alpha; a.a11_6 /= alpha; a.a11_7 /= alpha; a.a11_8 /= alpha; a.a11_9 /= alpha; a.a11_10 /= alpha; a.a11_11 /= alpha; a.a11_12 /= alpha;
+        a.a12_1 /= alpha; a.a12_2 /= alpha; a.a12_3 /= alpha; a.a12_4 /= alpha; a.a12_5 /= alpha; a.a12_6 /= alpha; a.a12_7 /= alpha; a.a12_8 /= alpha; a.a12_9 /= alpha; a.a12_10 /= alpha; a.a12_11 /= alpha; a.a12_12 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division.<br>
+     * <br>
+     * b<sub>ij</sub> = *a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided.  Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( double alpha , FixedMatrix12x12_64F a , FixedMatrix12x12_64F b ) {
+        b.a1_1 = a.a1_1/alpha; b.a1_2 = a.a1_2/alpha; b.a1_3 = a.a1_3/alpha; b.a1_4 = a.a1_4/alpha; b.a1_5 = a.a1_5/alpha; b.a1_6 = a.a1_6/alpha; b.a1_7 = a.a1_7/alpha; b.a1_8 = a.a1_8/alpha; b.a1_9 = a.a1_9/alpha; b.a1_10 = a.a1_10/alpha; b.a1_11 = a.a1_11/alpha; b.a1_12 = a.a1_12/alpha;
+        b.a2_1 = a.a2_1/alpha; b.a2_2 = a.a2_2/alpha; b.a2_3 = a.a2_3/alpha; b.a2_4 = a.a2_4/alpha; b.a2_5 = a.a2_5/alpha; b.a2_6 = a.a2_6/alpha; b.a2_7 = a.a2_7/alpha; b.a2_8 = a.a2_8/alpha; b.a2_9 = a.a2_9/alpha; b.a2_10 = a.a2_10/alpha; b.a2_11 = a.a2_11/alpha; b.a2_12 = a.a2_12/alpha;
+        b.a3_1 = a.a3_1/alpha; b.a3_2 = a.a3_2/alpha; b.a3_3 = a.a3_3/alpha; b.a3_4 = a.a3_4/alpha; b.a3_5 = a.a3_5/alpha; b.a3_6 = a.a3_6/alpha; b.a3_7 = a.a3_7/alpha; b.a3_8 = a.a3_8/alpha; b.a3_9 = a.a3_9/alpha; b.a3_10 = a.a3_10/alpha; b.a3_11 = a.a3_11/alpha; b.a3_12 = a.a3_12/alpha;
+        b.a4_1 = a.a4_1/alpha; b.a4_2 = a.a4_2/alpha; b.a4_3 = a.a4_3/alpha; b.a4_4 = a.a4_4/alpha; b.a4_5 = a.a4_5/alpha; b.a4_6 = a.a4_6/alpha; b.a4_7 = a.a4_7/alpha; b.a4_8 = a.a4_8/alpha; b.a4_9 = a.a4_9/alpha; b.a4_10 = a.a4_10/alpha; b.a4_11 = a.a4_11/alpha; b.a4_12 = a.a4_12/alpha;
+        b.a5_1 = a.a5_1/alpha; b.a5_2 = a.a5_2/alpha; b.a5_3 = a.a5_3/alpha; b.a5_4 = a.a5_4/alpha; b.a5_5 = a.a5_5/alpha; b.a5_6 = a.a5_6/alpha; b.a5_7 = a.a5_7/alpha; b.a5_8 = a.a5_8/alpha; b.a5_9 = a.a5_9/alpha; b.a5_10 = a.a5_10/alpha; b.a5_11 = a.a5_11/alpha; b.a5_12 = a.a5_12/alpha;
+        b.a6_1 = a.a6_1/alpha; b.a6_2 = a.a6_2/alpha; b.a6_3 = a.a6_3/alpha; b.a6_4 = a.a6_4/alpha; b.a6_5 = a.a6_5/alpha; b.a6_6 = a.a6_6/alpha; b.a6_7 = a.a6_7/alpha; b.a6_8 = a.a6_8/alpha; b.a6_9 = a.a6_9/alpha; b.a6_10 = a.a6_10/alpha; b.a6_11 = a.a6_11/alpha; b.a6_12 = a.a6_12/alpha;
+        b.a7_1 = a.a7_1/alpha; b.a7_2 = a.a7_2/alpha; b.a7_3 = a.a7_3/alpha; b.a7_4 = a.a7_4/alpha; b.a7_5 = a.a7_5/alpha; b.a7_6 = a.a7_6/alpha; b.a7_7 = a.a7_7/alpha; b.a7_8 = a.a7_8/alpha; b.a7_9 = a.a7_9/alpha; b.a7_10 = a.a7_10/alpha; b.a7_11 = a.a7_11/alpha; b.a7_12 = a.a7_12/alpha;
+        b.a8_1 = a.a8_1/alpha; b.a8_2 = a.a8_2/alpha; b.a8_3 = a.a8_3/alpha; b.a8_4 = a.a8_4/alpha; b.a8_5 = a.a8_5/alpha; b.a8_6 = a.a8_6/alpha; b.a8_7 = a.a8_7/alpha; b.a8_8 = a.a8_8/alpha; b.a8_9 = a.a8_9/alpha; b.a8_10 = a.a8_10/alpha; b.a8_11 = a.a8_11/alpha; b.a8_12 = a.a8_12/alpha;
+        b.a9_1 = a.a9_1/alpha; b.a9_2 = a.a9_2/alpha; b.a9_3 = a.a9_3/alpha; b.a9_4 = a.a9_4/alpha; b.a9_5 = a.a9_5/alpha; b.a9_6 = a.a9_6/alpha; b.a9_7 = a.a9_7/alpha; b.a9_8 = a.a9_8/alpha; b.a9_9 = a.a9_9/alpha; b.a9_10 = a.a9_10/alpha; b.a9_11 = a.a9_11/alpha; b.a9_12 = a.a9_12/alpha;
+        b.a10_1 = a.a10_1/alpha; b.a10_2 = a.a10_2/alpha; b.a10_3 = a.a10_3/alpha; b.a10_4 = a.a10_4/alpha; b.a10_5 = a.a10_5/alpha; b.a10_6 = a.a10_6/alpha; b.a10_7 = a.a10_7/alpha; b.a10_8 = a.a10_8/alpha; b.a10_9 = a.a10_9/alpha; b.a10_10 = a.a10_10/alpha; b.a10_11 = a.a10_11/alpha; b.a10_12 = a.a10_12/alpha;
+        b.a11_1 = a.a11_1/alpha; b.a11_2 = a.a11_2/alpha; b.a11_3 = a.a11_3/alpha; b.a11_4 = a.a11_4/alpha; b.a11_5 = a.a11_5/alpha; b.a11_6 = a.a11_6/alpha; b.a11_7 = a.a11_7/alpha; b.a11_8 = a.a11_8/alpha; b.a11_9 = a.a11_9/alpha; b.a11_10 = a.a11_10/alpha; b.a11_11 = a.a11_11/alpha; b.a11_12 = a.a11_12/alpha;
+        b.a12_1 = a.a12_1/alpha; b.a12_2 = a.a12_2/alpha; b.a12_3 = a.a12_3/alpha; b.a12_4 = a.a12_4/alpha; b.a12_5 = a.a12_5/alpha; b.a12_6 = a.a12_6/alpha; b.a12_7 = a.a12_7/alpha; b.a12_8 = a.a12_8/alpha; b.a12_9 = a.a12_9/alpha; b.a12_10 = a.a12_10/alpha; b.a12_11 = a.a12_11/alpha; b.a12_12 = a.a12_12/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( FixedMatrix12x12_64F a )
+    {
+        a.a1_1 = -a.a1_1; a.a1_2 = -a.a1_2; a.a1_3 = -a.a1_3; a.a1_4 = -a.a1_4; a.a1_5 = -a.a1_5; a.a1_6 = -a.a1_6; a.a1_7 = -a.a1_7; a.a1_8 = -a.a1_8; a.a1_9 = -a.a1_9; a.a1_10 = -a.a1_10; a.a1_11 = -a.a1_11; a.a1_12 = -a.a1_12;
+        a.a2_1 = -a.a2_1; a.a2_2 = -a.a2_2; a.a2_3 = -a.a2_3; a.a2_4 = -a.a2_4; a.a2_5 = -a.a2_5; a.a2_6 = -a.a2_6; a.a2_7 = -a.a2_7; a.a2_8 = -a.a2_8; a.a2_9 = -a.a2_9; a.a2_10 = -a.a2_10; a.a2_11 = -a.a2_11; a.a2_12 = -a.a2_12;
+        a.a3_1 = -a.a3_1; a.a3_2 = -a.a3_2; a.a3_3 = -a.a3_3; a.a3_4 = -a.a3_4; a.a3_5 = -a.a3_5; a.a3_6 = -a.a3_6; a.a3_7 = -a.a3_7; a.a3_8 = -a.a3_8; a.a3_9 = -a.a3_9; a.a3_10 = -a.a3_10; a.a3_11 = -a.a3_11; a.a3_12 = -a.a3_12;
+        a.a4_1 = -a.a4_1; a.a4_2 = -a.a4_2; a.a4_3 = -a.a4_3; a.a4_4 = -a.a4_4; a.a4_5 = -a.a4_5; a.a4_6 = -a.a4_6; a.a4_7 = -a.a4_7; a.a4_8 = -a.a4_8; a.a4_9 = -a.a4_9; a.a4_10 = -a.a4_10; a.a4_11 = -a.a4_11; a.a4_12 = -a.a4_12;
+        a.a5_1 = -a.a5_1; a.a5_2 = -a.a5_2; a.a5_3 = -a.a5_3; a.a5_4 = -a.a5_4; a.a5_5 = -a.a5_5; a.a5_6 = -a.a5_6; a.a5_7 = -a.a5_7; a.a5_8 = -a.a5_8; a.a5_9 = -a.a5_9; a.a5_10 = -a.a5_10; a.a5_11 = -a.a5_11; a.a5_12 = -a.a5_12;
+        a.a6_1 = -a.a6_1; a.a6_2 = -a.a6_2; a.a6_3 = -a.a6_3; a.a6_4 = -a.a6_4; a.a6_5 = -a.a6_5; a.a6_6 = -a.a6_6; a.a6_7 = -a.a6_7; a.a6_8 = -a.a6_8; a.a6_9 = -a.a6_9; a.a6_10 = -a.a6_10; a.a6_11 = -a.a6_11; a.a6_12 = -a.a6_12;
+        a.a7_1 = -a.a7_1; a.a7_2 = -a.a7_2; a.a7_3 = -a.a7_3; a.a7_4 = -a.a7_4; a.a7_5 = -a.a7_5; a.a7_6 = -a.a7_6; a.a7_7 = -a.a7_7; a.a7_8 = -a.a7_8; a.a7_9 = -a.a7_9; a.a7_10 = -a.a7_10; a.a7_11 = -a.a7_11; a.a7_12 = -a.a7_12;
+        a.a8_1 = -a.a8_1; a.a8_2 = -a.a8_2; a.a8_3 = -a.a8_3; a.a8_4 = -a.a8_4; a.a8_5 = -a.a8_5; a.a8_6 = -a.a8_6; a.a8_7 = -a.a8_7; a.a8_8 = -a.a8_8; a.a8_9 = -a.a8_9; a.a8_10 = -a.a8_10; a.a8_11 = -a.a8_11; a.a8_12 = -a.a8_12;
+        a.a9_1 = -a.a9_1; a.a9_2 = -a.a9_2; a.a9_3 = -a.a9_3; a.a9_4 = -a.a9_4; a.a9_5 = -a.a9_5; a.a9_6 = -a.a9_6; a.a9_7 = -a.a9_7; a.a9_8 = -a.a9_8; a.a9_9 = -a.a9_9; a.a9_10 = -a.a9_10; a.a9_11 = -a.a9_11; a.a9_12 = -a.a9_12;
+        a.a10_1 = -a.a10_1; a.a10_2 = -a.a10_2; a.a10_3 = -a.a10_3; a.a10_4 = -a.a10_4; a.a10_5 = -a.a10_5; a.a10_6 = -a.a10_6; a.a10_7 = -a.a10_7; a.a10_8 = -a.a10_8; a.a10_9 = -a.a10_9; a.a10_10 = -a.a10_10; a.a10_11 = -a.a10_11; a.a10_12 = -a.a10_12;
+        a.a11_1 = -a.a11_1; a.a11_2 = -a.a11_2; a.a11_3 = -a.a11_3; a.a11_4 = -a.a11_4; a.a11_5 = -a.a11_5; a.a11_6 = -a.a11_6; a.a11_7 = -a.a11_7; a.a11_8 = -a.a11_8; a.a11_9 = -a.a11_9; a.a11_10 = -a.a11_10; a.a11_11 = -a.a11_11; a.a11_12 = -a.a11_12;
+        a.a12_1 = -a.a12_1; a.a12_2 = -a.a12_2; a.a12_3 = -a.a12_3; a.a12_4 = -a.a12_4; a.a12_5 = -a.a12_5; a.a12_6 = -a.a12_6; a.a12_7 = -a.a12_7; a.a12_8 = -a.a12_8; a.a12_9 = -a.a12_9; a.a12_10 = -a.a12_10; a.a12_11 = -a.a12_11; a.a12_12 = -a.a12_12;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( FixedMatrix12x12_64F a , double v  ) {
+        a.a1_1 = v; a.a1_2 = v; a.a1_3 = v; a.a1_4 = v; a.a1_5 = v; a.a1_6 = v; a.a1_7 = v; a.a1_8 = v; a.a1_9 = v; a.a1_10 = v; a.a1_11 = v; a.a1_12 = v;
+        a.a2_1 = v; a.a2_2 = v; a.a2_3 = v; a.a2_4 = v; a.a2_5 = v; a.a2_6 = v; a.a2_7 = v; a.a2_8 = v; a.a2_9 = v; a.a2_10 = v; a.a2_11 = v; a.a2_12 = v;
+        a.a3_1 = v; a.a3_2 = v; a.a3_3 = v; a.a3_4 = v; a.a3_5 = v; a.a3_6 = v; a.a3_7 = v; a.a3_8 = v; a.a3_9 = v; a.a3_10 = v; a.a3_11 = v; a.a3_12 = v;
+        a.a4_1 = v; a.a4_2 = v; a.a4_3 = v; a.a4_4 = v; a.a4_5 = v; a.a4_6 = v; a.a4_7 = v; a.a4_8 = v; a.a4_9 = v; a.a4_10 = v; a.a4_11 = v; a.a4_12 = v;
+        a.a5_1 = v; a.a5_2 = v; a.a5_3 = v; a.a5_4 = v; a.a5_5 = v; a.a5_6 = v; a.a5_7 = v; a.a5_8 = v; a.a5_9 = v; a.a5_10 = v; a.a5_11 = v; a.a5_12 = v;
+        a.a6_1 = v; a.a6_2 = v; a.a6_3 = v; a.a6_4 = v; a.a6_5 = v; a.a6_6 = v; a.a6_7 = v; a.a6_8 = v; a.a6_9 = v; a.a6_10 = v; a.a6_11 = v; a.a6_12 = v;
+        a.a7_1 = v; a.a7_2 = v; a.a7_3 = v; a.a7_4 = v; a.a7_5 = v; a.a7_6 = v; a.a7_7 = v; a.a7_8 = v; a.a7_9 = v; a.a7_10 = v; a.a7_11 = v; a.a7_12 = v;
+        a.a8_1 = v; a.a8_2 = v; a.a8_3 = v; a.a8_4 = v; a.a8_5 = v; a.a8_6 = v; a.a8_7 = v; a.a8_8 = v; a.a8_9 = v; a.a8_10 = v; a.a8_11 = v; a.a8_12 = v;
+        a.a9_1 = v; a.a9_2 = v; a.a9_3 = v; a.a9_4 = v; a.a9_5 = v; a.a9_6 = v; a.a9_7 = v; a.a9_8 = v; a.a9_9 = v; a.a9_10 = v; a.a9_11 = v; a.a9_12 = v;
+        a.a10_1 = v; a.a10_2 = v; a.a10_3 = v; a.a10_4 = v; a.a10_5 = v; a.a10_6 = v; a.a10_7 = v; a.a10_8 = v; a.a10_9 = v; a.a10_10 = v; a.a10_11 = v; a.a10_12 = v;
+        a.a11_1 = v; a.a11_2 = v; a.a11_3 = v; a.a11_4 = v; a.a11_5 = v; a.a11_6 = v; a.a11_7 = v; a.a11_8 = v; a.a11_9 = v; a.a11_10 = v; a.a11_11 = v; a.a11_12 = v;
+        a.a12_1 = v; a.a12_2 = v; a.a12_3 = v; a.a12_4 = v; a.a12_5 = v; a.a12_6 = v; a.a12_7 = v; a.a12_8 = v; a.a12_9 = v; a.a12_10 = v; a.a12_11 = v; a.a12_12 = v;
+    }
+
+}
+
@@ -18,6 +18,7 @@
 
 package org.ejml.alg.fixed;
 
+import org.ejml.UtilEjml;
 import org.ejml.data.FixedMatrix2_64F;
 import org.ejml.data.FixedMatrix2x2_64F;
 
@@ -91,8 +92,8 @@ public class FixedOps2 {
      * @return The transposed matrix.
      */
     public static FixedMatrix2x2_64F transpose( FixedMatrix2x2_64F input , FixedMatrix2x2_64F output ) {
-        if( input == null )
-            input = new FixedMatrix2x2_64F();
+        if( output == null )
+            output = new FixedMatrix2x2_64F();
 
         output.a11 = input.a11;
         output.a12 = input.a21;
@@ -286,6 +287,165 @@ public class FixedOps2 {
         return mat.a11*mat.a22 - mat.a12*mat.a21;
     }
 
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix2x2_64F a , FixedMatrix2x2_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+
+        L.a11 = l11; L.a12 = 0;
+        L.a21 = l21; L.a22 = l22;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix2x2_64F L , FixedMatrix2_64F b , FixedMatrix2_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+
+        double x2 = (y2)/L.a22;
+        double x1 = (y1 - L.a21*x2)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix2x2_64F a , FixedMatrix2x2_64F L , FixedMatrix2_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0;
+        L.a21 = l21; L.a22 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix2x2_64F L , FixedMatrix2_64F d , FixedMatrix2_64F b , FixedMatrix2_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+
+        double x2 = y2/d.a2;
+        double x1 = y1/d.a1 - L.a21*x2;
+
+        x.a1 = x1;
+        x.a2 = x2;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The
+     * decomposition is computed in local variables and is not saved.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     * @return true if successful or false if the matrix is singular.
+     */
+    public static boolean solveLU( FixedMatrix2x2_64F a , FixedMatrix2_64F b , FixedMatrix2_64F x ) {
+        double a11 = a.a11; double a12 = a.a12;
+        double a21 = a.a21; double a22 = a.a22;
+        double b1 = b.a1; double b2 = b.a2;
+        double tmp,m;
+
+        // column 1
+        int p1 = 1;
+        double max1 = Math.abs(a11);
+        if( Math.abs(a21) > max1 ) { max1 = Math.abs(a21); p1 = 2; }
+        if( max1 < UtilEjml.EPS ) return false;
+        switch( p1 ) {
+            case 2: tmp = a11; a11 = a21; a21 = tmp; tmp = a12; a12 = a22; a22 = tmp; tmp = b1; b1 = b2; b2 = tmp; break;
+        }
+        tmp = 1.0/a11;
+        m = a21*tmp; a22 -= m*a12; b2 -= m*b1;
+        if( Math.abs(a22) < UtilEjml.EPS ) return false;
+
+        double x2 = (b2)/a22;
+        double x1 = (b1 - a12*x2)/a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+
+        return true;
+    }
+
     /**
      * <p>
      * This computes the trace of the matrix:<br>
@@ -347,7 +507,7 @@ public class FixedOps2 {
      * @return The max abs element value of the matrix.
      */
     public static double elementMaxAbs( FixedMatrix2x2_64F a ) {
-        double max = a.a11;
+        double max = Math.abs(a.a11);
         max = Math.max(max,Math.abs(a.a12));
         max = Math.max(max,Math.abs(a.a21));
         max = Math.max(max,Math.abs(a.a22));
@@ -385,7 +545,7 @@ public class FixedOps2 {
      * @return The max element value of the matrix.
      */
     public static double elementMinAbs( FixedMatrix2x2_64F a ) {
-        double min = a.a11;
+        double min = Math.abs(a.a11);
         min = Math.min(min,Math.abs(a.a12));
         min = Math.min(min,Math.abs(a.a21));
         min = Math.min(min,Math.abs(a.a22));
@@ -18,6 +18,7 @@
 
 package org.ejml.alg.fixed;
 
+import org.ejml.UtilEjml;
 import org.ejml.data.FixedMatrix3_64F;
 import org.ejml.data.FixedMatrix3x3_64F;
 
@@ -103,8 +104,8 @@ public class FixedOps3 {
      * @return The transposed matrix.
      */
     public static FixedMatrix3x3_64F transpose( FixedMatrix3x3_64F input , FixedMatrix3x3_64F output ) {
-        if( input == null )
-            input = new FixedMatrix3x3_64F();
+        if( output == null )
+            output = new FixedMatrix3x3_64F();
 
         output.a11 = input.a11;
         output.a12 = input.a21;
@@ -345,6 +346,303 @@ public class FixedOps3 {
         return a-b+c;
     }
 
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix3x3_64F a , FixedMatrix3x3_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+        double inv2 = 1.0/l22;
+        double l31 = a.a31;
+        l31 *= inv1;
+        double l32 = a.a32 - l31*l21;
+        l32 *= inv2;
+        double l33 = a.a33 - l31*l31 - l32*l32;
+        if( !(l33 > 0) ) return false;
+        l33 = Math.sqrt(l33);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix3x3_64F L , FixedMatrix3_64F b , FixedMatrix3_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+
+        double x3 = (y3)/L.a33;
+        double x2 = (y2 - L.a32*x3)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix3x3_64F a , FixedMatrix3x3_64F L , FixedMatrix3_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+        double l31 = a.a31;
+        double p31 = l31;
+        l31 /= d1;
+        double l32 = a.a32 - l31*p21;
+        double p32 = l32;
+        l32 /= d2;
+        double d3 = a.a33 - l31*p31 - l32*p32;
+        if( !(d3 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0; L.a13 = 0;
+        L.a21 = l21; L.a22 = 1; L.a23 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix3x3_64F L , FixedMatrix3_64F d , FixedMatrix3_64F b , FixedMatrix3_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+        double y3 = b.a3 - L.a31*y1 - L.a32*y2;
+
+        double x3 = y3/d.a3;
+        double x2 = y2/d.a2 - L.a32*x3;
+        double x1 = y1/d.a1 - L.a21*x2 - L.a31*x3;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The
+     * decomposition is computed in local variables and is not saved.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     * @return true if successful or false if the matrix is singular.
+     */
+    public static boolean solveLU( FixedMatrix3x3_64F a , FixedMatrix3_64F b , FixedMatrix3_64F x ) {
+        double a11 = a.a11; double a12 = a.a12; double a13 = a.a13;
+        double a21 = a.a21; double a22 = a.a22; double a23 = a.a23;
+        double a31 = a.a31; double a32 = a.a32; double a33 = a.a33;
+        double b1 = b.a1; double b2 = b.a2; double b3 = b.a3;
+        double tmp,m;
+
+        // column 1
+        int p1 = 1;
+        double max1 = Math.abs(a11);
+        if( Math.abs(a21) > max1 ) { max1 = Math.abs(a21); p1 = 2; }
+        if( Math.abs(a31) > max1 ) { max1 = Math.abs(a31); p1 = 3; }
+        if( max1 < UtilEjml.EPS ) return false;
+        switch( p1 ) {
+            case 2: tmp = a11; a11 = a21; a21 = tmp; tmp = a12; a12 = a22; a22 = tmp; tmp = a13; a13 = a23; a23 = tmp; tmp = b1; b1 = b2; b2 = tmp; break;
+            case 3: tmp = a11; a11 = a31; a31 = tmp; tmp = a12; a12 = a32; a32 = tmp; tmp = a13; a13 = a33; a33 = tmp; tmp = b1; b1 = b3; b3 = tmp; break;
+        }
+        tmp = 1.0/a11;
+        m = a21*tmp; a22 -= m*a12; a23 -= m*a13; b2 -= m*b1;
+        m = a31*tmp; a32 -= m*a12; a33 -= m*a13; b3 -= m*b1;
+
+        // column 2
+        int p2 = 2;
+        double max2 = Math.abs(a22);
+        if( Math.abs(a32) > max2 ) { max2 = Math.abs(a32); p2 = 3; }
+        if( max2 < UtilEjml.EPS ) return false;
+        switch( p2 ) {
+            case 3: tmp = a22; a22 = a32; a32 = tmp; tmp = a23; a23 = a33; a33 = tmp; tmp = b2; b2 = b3; b3 = tmp; break;
+        }
+        tmp = 1.0/a22;
+        m = a32*tmp; a33 -= m*a23; b3 -= m*b2;
+        if( Math.abs(a33) < UtilEjml.EPS ) return false;
+
+        double x3 = (b3)/a33;
+        double x2 = (b2 - a23*x3)/a22;
+        double x1 = (b1 - a12*x2 - a13*x3)/a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Computes the eigenvalues and eigenvectors of a 3 by 3 symmetric matrix using the cyclic Jacobi
+     * method.  Only the upper triangle of 'a' is read.  The eigenvalues are not sorted and the
+     * eigenvector for eigenvalue i is stored in column i of 'vectors'.  Jacobi is used instead of
+     * a closed form solution because it remains accurate when eigenvalues are close together.
+     * </p>
+     *
+     * @param a Symmetric matrix. Not modified.
+     * @param values Where the eigenvalues are stored. Modified.
+     * @param vectors Where the eigenvectors are stored. Can be the same instance as 'a'. Modified.
+     * @return true if it converged or false if it didn't
+     */
+    public static boolean eigSymm( FixedMatrix3x3_64F a , FixedMatrix3_64F values , FixedMatrix3x3_64F vectors ) {
+        // scale to avoid overflow and underflow in the convergence test
+        double scale = Math.abs(a.a11);
+        scale = Math.max(scale,Math.abs(a.a12)); scale = Math.max(scale,Math.abs(a.a13));
+        scale = Math.max(scale,Math.abs(a.a22)); scale = Math.max(scale,Math.abs(a.a23));
+        scale = Math.max(scale,Math.abs(a.a33));
+        if( scale == 0 )
+            scale = 1;
+
+        double a11 = a.a11/scale, a12 = a.a12/scale, a13 = a.a13/scale;
+        double a22 = a.a22/scale, a23 = a.a23/scale;
+        double a33 = a.a33/scale;
+        double v11 = 1, v12 = 0, v13 = 0;
+        double v21 = 0, v22 = 1, v23 = 0;
+        double v31 = 0, v32 = 0, v33 = 1;
+        double theta,t,c,s,tmp0,tmp1;
+
+        boolean converged = false;
+        for( int iter = 0; iter < 50; iter++ ) {
+            double off = a12*a12 + a13*a13 + a23*a23;
+            double diag = a11*a11 + a22*a22 + a33*a33;
+            if( off <= UtilEjml.EPS*UtilEjml.EPS*diag ) {
+                converged = true;
+                break;
+            }
+
+            if( a12 != 0 ) {
+                theta = (a22 - a11)/(2*a12);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if( theta < 0 ) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+                a11 -= t*a12;
+                a22 += t*a12;
+                a12 = 0;
+                tmp0 = a13; tmp1 = a23;
+                a13 = c*tmp0 - s*tmp1; a23 = s*tmp0 + c*tmp1;
+                tmp0 = v11; tmp1 = v12; v11 = c*tmp0 - s*tmp1; v12 = s*tmp0 + c*tmp1;
+                tmp0 = v21; tmp1 = v22; v21 = c*tmp0 - s*tmp1; v22 = s*tmp0 + c*tmp1;
+                tmp0 = v31; tmp1 = v32; v31 = c*tmp0 - s*tmp1; v32 = s*tmp0 + c*tmp1;
+            }
+
+            if( a13 != 0 ) {
+                theta = (a33 - a11)/(2*a13);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if( theta < 0 ) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+                a11 -= t*a13;
+                a33 += t*a13;
+                a13 = 0;
+                tmp0 = a12; tmp1 = a23;
+                a12 = c*tmp0 - s*tmp1; a23 = s*tmp0 + c*tmp1;
+                tmp0 = v11; tmp1 = v13; v11 = c*tmp0 - s*tmp1; v13 = s*tmp0 + c*tmp1;
+                tmp0 = v21; tmp1 = v23; v21 = c*tmp0 - s*tmp1; v23 = s*tmp0 + c*tmp1;
+                tmp0 = v31; tmp1 = v33; v31 = c*tmp0 - s*tmp1; v33 = s*tmp0 + c*tmp1;
+            }
+
+            if( a23 != 0 ) {
+                theta = (a33 - a22)/(2*a23);
+                t = 1.0/(Math.abs(theta) + Math.sqrt(theta*theta + 1.0));
+                if( theta < 0 ) t = -t;
+                c = 1.0/Math.sqrt(t*t + 1.0);
+                s = t*c;
+                a22 -= t*a23;
+                a33 += t*a23;
+                a23 = 0;
+                tmp0 = a12; tmp1 = a13;
+                a12 = c*tmp0 - s*tmp1; a13 = s*tmp0 + c*tmp1;
+                tmp0 = v12; tmp1 = v13; v12 = c*tmp0 - s*tmp1; v13 = s*tmp0 + c*tmp1;
+                tmp0 = v22; tmp1 = v23; v22 = c*tmp0 - s*tmp1; v23 = s*tmp0 + c*tmp1;
+                tmp0 = v32; tmp1 = v33; v32 = c*tmp0 - s*tmp1; v33 = s*tmp0 + c*tmp1;
+            }
+        }
+
+        values.a1 = a11*scale; values.a2 = a22*scale; values.a3 = a33*scale;
+        vectors.a11 = v11; vectors.a12 = v12; vectors.a13 = v13;
+        vectors.a21 = v21; vectors.a22 = v22; vectors.a23 = v23;
+        vectors.a31 = v31; vectors.a32 = v32; vectors.a33 = v33;
+
+        return converged;
+    }
+
     /**
      * <p>
      * This computes the trace of the matrix:<br>
@@ -412,7 +710,7 @@ public class FixedOps3 {
      * @return The max abs element value of the matrix.
      */
     public static double elementMaxAbs( FixedMatrix3x3_64F a ) {
-        double max = a.a11;
+        double max = Math.abs(a.a11);
         max = Math.max(max,Math.abs(a.a12));
         max = Math.max(max,Math.abs(a.a13));
         max = Math.max(max,Math.abs(a.a21));
@@ -460,7 +758,7 @@ public class FixedOps3 {
      * @return The max element value of the matrix.
      */
     public static double elementMinAbs( FixedMatrix3x3_64F a ) {
-        double min = a.a11;
+        double min = Math.abs(a.a11);
         min = Math.min(min,Math.abs(a.a12));
         min = Math.min(min,Math.abs(a.a13));
         min = Math.min(min,Math.abs(a.a21));
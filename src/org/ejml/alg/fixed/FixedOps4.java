@@ -18,6 +18,7 @@
 
 package org.ejml.alg.fixed;
 
+import org.ejml.UtilEjml;
 import org.ejml.data.FixedMatrix4_64F;
 import org.ejml.data.FixedMatrix4x4_64F;
 
@@ -120,8 +121,8 @@ public class FixedOps4 {
      * @return The transposed matrix.
      */
     public static FixedMatrix4x4_64F transpose( FixedMatrix4x4_64F input , FixedMatrix4x4_64F output ) {
-        if( input == null )
-            input = new FixedMatrix4x4_64F();
+        if( output == null )
+            output = new FixedMatrix4x4_64F();
 
         output.a11 = input.a11;
         output.a12 = input.a21;
@@ -442,6 +443,257 @@ public class FixedOps4 {
         return ret;
     }
 
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix4x4_64F a , FixedMatrix4x4_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+        double inv2 = 1.0/l22;
+        double l31 = a.a31;
+        l31 *= inv1;
+        double l32 = a.a32 - l31*l21;
+        l32 *= inv2;
+        double l33 = a.a33 - l31*l31 - l32*l32;
+        if( !(l33 > 0) ) return false;
+        l33 = Math.sqrt(l33);
+        double inv3 = 1.0/l33;
+        double l41 = a.a41;
+        l41 *= inv1;
+        double l42 = a.a42 - l41*l21;
+        l42 *= inv2;
+        double l43 = a.a43 - l41*l31 - l42*l32;
+        l43 *= inv3;
+        double l44 = a.a44 - l41*l41 - l42*l42 - l43*l43;
+        if( !(l44 > 0) ) return false;
+        l44 = Math.sqrt(l44);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0; L.a14 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0; L.a24 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33; L.a34 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = l44;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix4x4_64F L , FixedMatrix4_64F b , FixedMatrix4_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+        double y4 = (b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3)/L.a44;
+
+        double x4 = (y4)/L.a44;
+        double x3 = (y3 - L.a43*x4)/L.a33;
+        double x2 = (y2 - L.a32*x3 - L.a42*x4)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3 - L.a41*x4)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix4x4_64F a , FixedMatrix4x4_64F L , FixedMatrix4_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+        double l31 = a.a31;
+        double p31 = l31;
+        l31 /= d1;
+        double l32 = a.a32 - l31*p21;
+        double p32 = l32;
+        l32 /= d2;
+        double d3 = a.a33 - l31*p31 - l32*p32;
+        if( !(d3 > 0) ) return false;
+        double l41 = a.a41;
+        double p41 = l41;
+        l41 /= d1;
+        double l42 = a.a42 - l41*p21;
+        double p42 = l42;
+        l42 /= d2;
+        double l43 = a.a43 - l41*p31 - l42*p32;
+        double p43 = l43;
+        l43 /= d3;
+        double d4 = a.a44 - l41*p41 - l42*p42 - l43*p43;
+        if( !(d4 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0; L.a13 = 0; L.a14 = 0;
+        L.a21 = l21; L.a22 = 1; L.a23 = 0; L.a24 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = 1; L.a34 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+        d.a4 = d4;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix4x4_64F L , FixedMatrix4_64F d , FixedMatrix4_64F b , FixedMatrix4_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+        double y3 = b.a3 - L.a31*y1 - L.a32*y2;
+        double y4 = b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3;
+
+        double x4 = y4/d.a4;
+        double x3 = y3/d.a3 - L.a43*x4;
+        double x2 = y2/d.a2 - L.a32*x3 - L.a42*x4;
+        double x1 = y1/d.a1 - L.a21*x2 - L.a31*x3 - L.a41*x4;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The
+     * decomposition is computed in local variables and is not saved.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     * @return true if successful or false if the matrix is singular.
+     */
+    public static boolean solveLU( FixedMatrix4x4_64F a , FixedMatrix4_64F b , FixedMatrix4_64F x ) {
+        double a11 = a.a11; double a12 = a.a12; double a13 = a.a13; double a14 = a.a14;
+        double a21 = a.a21; double a22 = a.a22; double a23 = a.a23; double a24 = a.a24;
+        double a31 = a.a31; double a32 = a.a32; double a33 = a.a33; double a34 = a.a34;
+        double a41 = a.a41; double a42 = a.a42; double a43 = a.a43; double a44 = a.a44;
+        double b1 = b.a1; double b2 = b.a2; double b3 = b.a3; double b4 = b.a4;
+        double tmp,m;
+
+        // column 1
+        int p1 = 1;
+        double max1 = Math.abs(a11);
+        if( Math.abs(a21) > max1 ) { max1 = Math.abs(a21); p1 = 2; }
+        if( Math.abs(a31) > max1 ) { max1 = Math.abs(a31); p1 = 3; }
+        if( Math.abs(a41) > max1 ) { max1 = Math.abs(a41); p1 = 4; }
+        if( max1 < UtilEjml.EPS ) return false;
+        switch( p1 ) {
+            case 2: tmp = a11; a11 = a21; a21 = tmp; tmp = a12; a12 = a22; a22 = tmp; tmp = a13; a13 = a23; a23 = tmp; tmp = a14; a14 = a24; a24 = tmp; tmp = b1; b1 = b2; b2 = tmp; break;
+            case 3: tmp = a11; a11 = a31; a31 = tmp; tmp = a12; a12 = a32; a32 = tmp; tmp = a13; a13 = a33; a33 = tmp; tmp = a14; a14 = a34; a34 = tmp; tmp = b1; b1 = b3; b3 = tmp; break;
+            case 4: tmp = a11; a11 = a41; a41 = tmp; tmp = a12; a12 = a42; a42 = tmp; tmp = a13; a13 = a43; a43 = tmp; tmp = a14; a14 = a44; a44 = tmp; tmp = b1; b1 = b4; b4 = tmp; break;
+        }
+        tmp = 1.0/a11;
+        m = a21*tmp; a22 -= m*a12; a23 -= m*a13; a24 -= m*a14; b2 -= m*b1;
+        m = a31*tmp; a32 -= m*a12; a33 -= m*a13; a34 -= m*a14; b3 -= m*b1;
+        m = a41*tmp; a42 -= m*a12; a43 -= m*a13; a44 -= m*a14; b4 -= m*b1;
+
+        // column 2
+        int p2 = 2;
+        double max2 = Math.abs(a22);
+        if( Math.abs(a32) > max2 ) { max2 = Math.abs(a32); p2 = 3; }
+        if( Math.abs(a42) > max2 ) { max2 = Math.abs(a42); p2 = 4; }
+        if( max2 < UtilEjml.EPS ) return false;
+        switch( p2 ) {
+            case 3: tmp = a22; a22 = a32; a32 = tmp; tmp = a23; a23 = a33; a33 = tmp; tmp = a24; a24 = a34; a34 = tmp; tmp = b2; b2 = b3; b3 = tmp; break;
+            case 4: tmp = a22; a22 = a42; a42 = tmp; tmp = a23; a23 = a43; a43 = tmp; tmp = a24; a24 = a44; a44 = tmp; tmp = b2; b2 = b4; b4 = tmp; break;
+        }
+        tmp = 1.0/a22;
+        m = a32*tmp; a33 -= m*a23; a34 -= m*a24; b3 -= m*b2;
+        m = a42*tmp; a43 -= m*a23; a44 -= m*a24; b4 -= m*b2;
+
+        // column 3
+        int p3 = 3;
+        double max3 = Math.abs(a33);
+        if( Math.abs(a43) > max3 ) { max3 = Math.abs(a43); p3 = 4; }
+        if( max3 < UtilEjml.EPS ) return false;
+        switch( p3 ) {
+            case 4: tmp = a33; a33 = a43; a43 = tmp; tmp = a34; a34 = a44; a44 = tmp; tmp = b3; b3 = b4; b4 = tmp; break;
+        }
+        tmp = 1.0/a33;
+        m = a43*tmp; a44 -= m*a34; b4 -= m*b3;
+        if( Math.abs(a44) < UtilEjml.EPS ) return false;
+
+        double x4 = (b4)/a44;
+        double x3 = (b3 - a34*x4)/a33;
+        double x2 = (b2 - a23*x3 - a24*x4)/a22;
+        double x1 = (b1 - a12*x2 - a13*x3 - a14*x4)/a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+
+        return true;
+    }
+
     /**
      * <p>
      * This computes the trace of the matrix:<br>
@@ -517,7 +769,7 @@ public class FixedOps4 {
      * @return The max abs element value of the matrix.
      */
     public static double elementMaxAbs( FixedMatrix4x4_64F a ) {
-        double max = a.a11;
+        double max = Math.abs(a.a11);
         max = Math.max(max,Math.abs(a.a12));
         max = Math.max(max,Math.abs(a.a13));
         max = Math.max(max,Math.abs(a.a14));
@@ -579,7 +831,7 @@ public class FixedOps4 {
      * @return The max element value of the matrix.
      */
     public static double elementMinAbs( FixedMatrix4x4_64F a ) {
-        double min = a.a11;
+        double min = Math.abs(a.a11);
         min = Math.min(min,Math.abs(a.a12));
         min = Math.min(min,Math.abs(a.a13));
         min = Math.min(min,Math.abs(a.a14));
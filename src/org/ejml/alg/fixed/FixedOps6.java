@@ -18,6 +18,7 @@
 
 package org.ejml.alg.fixed;
 
+import org.ejml.UtilEjml;
 import org.ejml.data.FixedMatrix6_64F;
 import org.ejml.data.FixedMatrix6x6_64F;
 
@@ -169,8 +170,8 @@ public class FixedOps6 {
      * @return The transposed matrix.
      */
     public static FixedMatrix6x6_64F transpose( FixedMatrix6x6_64F input , FixedMatrix6x6_64F output ) {
-        if( input == null )
-            input = new FixedMatrix6x6_64F();
+        if( output == null )
+            output = new FixedMatrix6x6_64F();
 
         output.a11 = input.a11;
         output.a12 = input.a21;
@@ -489,6 +490,381 @@ public class FixedOps6 {
         a.a16 = 0; a.a26 = 0; a.a36 = 0; a.a46 = 0; a.a56 = 0; a.a66 = 1;
     }
 
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix6x6_64F a , FixedMatrix6x6_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+        double inv2 = 1.0/l22;
+        double l31 = a.a31;
+        l31 *= inv1;
+        double l32 = a.a32 - l31*l21;
+        l32 *= inv2;
+        double l33 = a.a33 - l31*l31 - l32*l32;
+        if( !(l33 > 0) ) return false;
+        l33 = Math.sqrt(l33);
+        double inv3 = 1.0/l33;
+        double l41 = a.a41;
+        l41 *= inv1;
+        double l42 = a.a42 - l41*l21;
+        l42 *= inv2;
+        double l43 = a.a43 - l41*l31 - l42*l32;
+        l43 *= inv3;
+        double l44 = a.a44 - l41*l41 - l42*l42 - l43*l43;
+        if( !(l44 > 0) ) return false;
+        l44 = Math.sqrt(l44);
+        double inv4 = 1.0/l44;
+        double l51 = a.a51;
+        l51 *= inv1;
+        double l52 = a.a52 - l51*l21;
+        l52 *= inv2;
+        double l53 = a.a53 - l51*l31 - l52*l32;
+        l53 *= inv3;
+        double l54 = a.a54 - l51*l41 - l52*l42 - l53*l43;
+        l54 *= inv4;
+        double l55 = a.a55 - l51*l51 - l52*l52 - l53*l53 - l54*l54;
+        if( !(l55 > 0) ) return false;
+        l55 = Math.sqrt(l55);
+        double inv5 = 1.0/l55;
+        double l61 = a.a61;
+        l61 *= inv1;
+        double l62 = a.a62 - l61*l21;
+        l62 *= inv2;
+        double l63 = a.a63 - l61*l31 - l62*l32;
+        l63 *= inv3;
+        double l64 = a.a64 - l61*l41 - l62*l42 - l63*l43;
+        l64 *= inv4;
+        double l65 = a.a65 - l61*l51 - l62*l52 - l63*l53 - l64*l54;
+        l65 *= inv5;
+        double l66 = a.a66 - l61*l61 - l62*l62 - l63*l63 - l64*l64 - l65*l65;
+        if( !(l66 > 0) ) return false;
+        l66 = Math.sqrt(l66);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33; L.a34 = 0; L.a35 = 0; L.a36 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = l44; L.a45 = 0; L.a46 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = l55; L.a56 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = l66;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix6x6_64F L , FixedMatrix6_64F b , FixedMatrix6_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+        double y4 = (b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3)/L.a44;
+        double y5 = (b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4)/L.a55;
+        double y6 = (b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5)/L.a66;
+
+        double x6 = (y6)/L.a66;
+        double x5 = (y5 - L.a65*x6)/L.a55;
+        double x4 = (y4 - L.a54*x5 - L.a64*x6)/L.a44;
+        double x3 = (y3 - L.a43*x4 - L.a53*x5 - L.a63*x6)/L.a33;
+        double x2 = (y2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix6x6_64F a , FixedMatrix6x6_64F L , FixedMatrix6_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+        double l31 = a.a31;
+        double p31 = l31;
+        l31 /= d1;
+        double l32 = a.a32 - l31*p21;
+        double p32 = l32;
+        l32 /= d2;
+        double d3 = a.a33 - l31*p31 - l32*p32;
+        if( !(d3 > 0) ) return false;
+        double l41 = a.a41;
+        double p41 = l41;
+        l41 /= d1;
+        double l42 = a.a42 - l41*p21;
+        double p42 = l42;
+        l42 /= d2;
+        double l43 = a.a43 - l41*p31 - l42*p32;
+        double p43 = l43;
+        l43 /= d3;
+        double d4 = a.a44 - l41*p41 - l42*p42 - l43*p43;
+        if( !(d4 > 0) ) return false;
+        double l51 = a.a51;
+        double p51 = l51;
+        l51 /= d1;
+        double l52 = a.a52 - l51*p21;
+        double p52 = l52;
+        l52 /= d2;
+        double l53 = a.a53 - l51*p31 - l52*p32;
+        double p53 = l53;
+        l53 /= d3;
+        double l54 = a.a54 - l51*p41 - l52*p42 - l53*p43;
+        double p54 = l54;
+        l54 /= d4;
+        double d5 = a.a55 - l51*p51 - l52*p52 - l53*p53 - l54*p54;
+        if( !(d5 > 0) ) return false;
+        double l61 = a.a61;
+        double p61 = l61;
+        l61 /= d1;
+        double l62 = a.a62 - l61*p21;
+        double p62 = l62;
+        l62 /= d2;
+        double l63 = a.a63 - l61*p31 - l62*p32;
+        double p63 = l63;
+        l63 /= d3;
+        double l64 = a.a64 - l61*p41 - l62*p42 - l63*p43;
+        double p64 = l64;
+        l64 /= d4;
+        double l65 = a.a65 - l61*p51 - l62*p52 - l63*p53 - l64*p54;
+        double p65 = l65;
+        l65 /= d5;
+        double d6 = a.a66 - l61*p61 - l62*p62 - l63*p63 - l64*p64 - l65*p65;
+        if( !(d6 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0;
+        L.a21 = l21; L.a22 = 1; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = 1; L.a34 = 0; L.a35 = 0; L.a36 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = 1; L.a45 = 0; L.a46 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = 1; L.a56 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+        d.a4 = d4;
+        d.a5 = d5;
+        d.a6 = d6;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix6x6_64F L , FixedMatrix6_64F d , FixedMatrix6_64F b , FixedMatrix6_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+        double y3 = b.a3 - L.a31*y1 - L.a32*y2;
+        double y4 = b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3;
+        double y5 = b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4;
+        double y6 = b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5;
+
+        double x6 = y6/d.a6;
+        double x5 = y5/d.a5 - L.a65*x6;
+        double x4 = y4/d.a4 - L.a54*x5 - L.a64*x6;
+        double x3 = y3/d.a3 - L.a43*x4 - L.a53*x5 - L.a63*x6;
+        double x2 = y2/d.a2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6;
+        double x1 = y1/d.a1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The
+     * decomposition is computed in local variables and is not saved.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     * @return true if successful or false if the matrix is singular.
+     */
+    public static boolean solveLU( FixedMatrix6x6_64F a , FixedMatrix6_64F b , FixedMatrix6_64F x ) {
+        double a11 = a.a11; double a12 = a.a12; double a13 = a.a13; double a14 = a.a14; double a15 = a.a15; double a16 = a.a16;
+        double a21 = a.a21; double a22 = a.a22; double a23 = a.a23; double a24 = a.a24; double a25 = a.a25; double a26 = a.a26;
+        double a31 = a.a31; double a32 = a.a32; double a33 = a.a33; double a34 = a.a34; double a35 = a.a35; double a36 = a.a36;
+        double a41 = a.a41; double a42 = a.a42; double a43 = a.a43; double a44 = a.a44; double a45 = a.a45; double a46 = a.a46;
+        double a51 = a.a51; double a52 = a.a52; double a53 = a.a53; double a54 = a.a54; double a55 = a.a55; double a56 = a.a56;
+        double a61 = a.a61; double a62 = a.a62; double a63 = a.a63; double a64 = a.a64; double a65 = a.a65; double a66 = a.a66;
+        double b1 = b.a1; double b2 = b.a2; double b3 = b.a3; double b4 = b.a4; double b5 = b.a5; double b6 = b.a6;
+        double tmp,m;
+
+        // column 1
+        int p1 = 1;
+        double max1 = Math.abs(a11);
+        if( Math.abs(a21) > max1 ) { max1 = Math.abs(a21); p1 = 2; }
+        if( Math.abs(a31) > max1 ) { max1 = Math.abs(a31); p1 = 3; }
+        if( Math.abs(a41) > max1 ) { max1 = Math.abs(a41); p1 = 4; }
+        if( Math.abs(a51) > max1 ) { max1 = Math.abs(a51); p1 = 5; }
+        if( Math.abs(a61) > max1 ) { max1 = Math.abs(a61); p1 = 6; }
+        if( max1 < UtilEjml.EPS ) return false;
+        switch( p1 ) {
+            case 2: tmp = a11; a11 = a21; a21 = tmp; tmp = a12; a12 = a22; a22 = tmp; tmp = a13; a13 = a23; a23 = tmp; tmp = a14; a14 = a24; a24 = tmp; tmp = a15; a15 = a25; a25 = tmp; tmp = a16; a16 = a26; a26 = tmp; tmp = b1; b1 = b2; b2 = tmp; break;
+            case 3: tmp = a11; a11 = a31; a31 = tmp; tmp = a12; a12 = a32; a32 = tmp; tmp = a13; a13 = a33; a33 = tmp; tmp = a14; a14 = a34; a34 = tmp; tmp = a15; a15 = a35; a35 = tmp; tmp = a16; a16 = a36; a36 = tmp; tmp = b1; b1 = b3; b3 = tmp; break;
+            case 4: tmp = a11; a11 = a41; a41 = tmp; tmp = a12; a12 = a42; a42 = tmp; tmp = a13; a13 = a43; a43 = tmp; tmp = a14; a14 = a44; a44 = tmp; tmp = a15; a15 = a45; a45 = tmp; tmp = a16; a16 = a46; a46 = tmp; tmp = b1; b1 = b4; b4 = tmp; break;
+            case 5: tmp = a11; a11 = a51; a51 = tmp; tmp = a12; a12 = a52; a52 = tmp; tmp = a13; a13 = a53; a53 = tmp; tmp = a14; a14 = a54; a54 = tmp; tmp = a15; a15 = a55; a55 = tmp; tmp = a16; a16 = a56; a56 = tmp; tmp = b1; b1 = b5; b5 = tmp; break;
+            case 6: tmp = a11; a11 = a61; a61 = tmp; tmp = a12; a12 = a62; a62 = tmp; tmp = a13; a13 = a63; a63 = tmp; tmp = a14; a14 = a64; a64 = tmp; tmp = a15; a15 = a65; a65 = tmp; tmp = a16; a16 = a66; a66 = tmp; tmp = b1; b1 = b6; b6 = tmp; break;
+        }
+        tmp = 1.0/a11;
+        m = a21*tmp; a22 -= m*a12; a23 -= m*a13; a24 -= m*a14; a25 -= m*a15; a26 -= m*a16; b2 -= m*b1;
+        m = a31*tmp; a32 -= m*a12; a33 -= m*a13; a34 -= m*a14; a35 -= m*a15; a36 -= m*a16; b3 -= m*b1;
+        m = a41*tmp; a42 -= m*a12; a43 -= m*a13; a44 -= m*a14; a45 -= m*a15; a46 -= m*a16; b4 -= m*b1;
+        m = a51*tmp; a52 -= m*a12; a53 -= m*a13; a54 -= m*a14; a55 -= m*a15; a56 -= m*a16; b5 -= m*b1;
+        m = a61*tmp; a62 -= m*a12; a63 -= m*a13; a64 -= m*a14; a65 -= m*a15; a66 -= m*a16; b6 -= m*b1;
+
+        // column 2
+        int p2 = 2;
+        double max2 = Math.abs(a22);
+        if( Math.abs(a32) > max2 ) { max2 = Math.abs(a32); p2 = 3; }
+        if( Math.abs(a42) > max2 ) { max2 = Math.abs(a42); p2 = 4; }
+        if( Math.abs(a52) > max2 ) { max2 = Math.abs(a52); p2 = 5; }
+        if( Math.abs(a62) > max2 ) { max2 = Math.abs(a62); p2 = 6; }
+        if( max2 < UtilEjml.EPS ) return false;
+        switch( p2 ) {
+            case 3: tmp = a22; a22 = a32; a32 = tmp; tmp = a23; a23 = a33; a33 = tmp; tmp = a24; a24 = a34; a34 = tmp; tmp = a25; a25 = a35; a35 = tmp; tmp = a26; a26 = a36; a36 = tmp; tmp = b2; b2 = b3; b3 = tmp; break;
+            case 4: tmp = a22; a22 = a42; a42 = tmp; tmp = a23; a23 = a43; a43 = tmp; tmp = a24; a24 = a44; a44 = tmp; tmp = a25; a25 = a45; a45 = tmp; tmp = a26; a26 = a46; a46 = tmp; tmp = b2; b2 = b4; b4 = tmp; break;
+            case 5: tmp = a22; a22 = a52; a52 = tmp; tmp = a23; a23 = a53; a53 = tmp; tmp = a24; a24 = a54; a54 = tmp; tmp = a25; a25 = a55; a55 = tmp; tmp = a26; a26 = a56; a56 = tmp; tmp = b2; b2 = b5; b5 = tmp; break;
+            case 6: tmp = a22; a22 = a62; a62 = tmp; tmp = a23; a23 = a63; a63 = tmp; tmp = a24; a24 = a64; a64 = tmp; tmp = a25; a25 = a65; a65 = tmp; tmp = a26; a26 = a66; a66 = tmp; tmp = b2; b2 = b6; b6 = tmp; break;
+        }
+        tmp = 1.0/a22;
+        m = a32*tmp; a33 -= m*a23; a34 -= m*a24; a35 -= m*a25; a36 -= m*a26; b3 -= m*b2;
+        m = a42*tmp; a43 -= m*a23; a44 -= m*a24; a45 -= m*a25; a46 -= m*a26; b4 -= m*b2;
+        m = a52*tmp; a53 -= m*a23; a54 -= m*a24; a55 -= m*a25; a56 -= m*a26; b5 -= m*b2;
+        m = a62*tmp; a63 -= m*a23; a64 -= m*a24; a65 -= m*a25; a66 -= m*a26; b6 -= m*b2;
+
+        // column 3
+        int p3 = 3;
+        double max3 = Math.abs(a33);
+        if( Math.abs(a43) > max3 ) { max3 = Math.abs(a43); p3 = 4; }
+        if( Math.abs(a53) > max3 ) { max3 = Math.abs(a53); p3 = 5; }
+        if( Math.abs(a63) > max3 ) { max3 = Math.abs(a63); p3 = 6; }
+        if( max3 < UtilEjml.EPS ) return false;
+        switch( p3 ) {
+            case 4: tmp = a33; a33 = a43; a43 = tmp; tmp = a34; a34 = a44; a44 = tmp; tmp = a35; a35 = a45; a45 = tmp; tmp = a36; a36 = a46; a46 = tmp; tmp = b3; b3 = b4; b4 = tmp; break;
+            case 5: tmp = a33; a33 = a53; a53 = tmp; tmp = a34; a34 = a54; a54 = tmp; tmp = a35; a35 = a55; a55 = tmp; tmp = a36; a36 = a56; a56 = tmp; tmp = b3; b3 = b5; b5 = tmp; break;
+            case 6: tmp = a33; a33 = a63; a63 = tmp; tmp = a34; a34 = a64; a64 = tmp; tmp = a35; a35 = a65; a65 = tmp; tmp = a36; a36 = a66; a66 = tmp; tmp = b3; b3 = b6; b6 = tmp; break;
+        }
+        tmp = 1.0/a33;
+        m = a43*tmp; a44 -= m*a34; a45 -= m*a35; a46 -= m*a36; b4 -= m*b3;
+        m = a53*tmp; a54 -= m*a34; a55 -= m*a35; a56 -= m*a36; b5 -= m*b3;
+        m = a63*tmp; a64 -= m*a34; a65 -= m*a35; a66 -= m*a36; b6 -= m*b3;
+
+        // column 4
+        int p4 = 4;
+        double max4 = Math.abs(a44);
+        if( Math.abs(a54) > max4 ) { max4 = Math.abs(a54); p4 = 5; }
+        if( Math.abs(a64) > max4 ) { max4 = Math.abs(a64); p4 = 6; }
+        if( max4 < UtilEjml.EPS ) return false;
+        switch( p4 ) {
+            case 5: tmp = a44; a44 = a54; a54 = tmp; tmp = a45; a45 = a55; a55 = tmp; tmp = a46; a46 = a56; a56 = tmp; tmp = b4; b4 = b5; b5 = tmp; break;
+            case 6: tmp = a44; a44 = a64; a64 = tmp; tmp = a45; a45 = a65; a65 = tmp; tmp = a46; a46 = a66; a66 = tmp; tmp = b4; b4 = b6; b6 = tmp; break;
+        }
+        tmp = 1.0/a44;
+        m = a54*tmp; a55 -= m*a45; a56 -= m*a46; b5 -= m*b4;
+        m = a64*tmp; a65 -= m*a45; a66 -= m*a46; b6 -= m*b4;
+
+        // column 5
+        int p5 = 5;
+        double max5 = Math.abs(a55);
+        if( Math.abs(a65) > max5 ) { max5 = Math.abs(a65); p5 = 6; }
+        if( max5 < UtilEjml.EPS ) return false;
+        switch( p5 ) {
+            case 6: tmp = a55; a55 = a65; a65 = tmp; tmp = a56; a56 = a66; a66 = tmp; tmp = b5; b5 = b6; b6 = tmp; break;
+        }
+        tmp = 1.0/a55;
+        m = a65*tmp; a66 -= m*a56; b6 -= m*b5;
+        if( Math.abs(a66) < UtilEjml.EPS ) return false;
+
+        double x6 = (b6)/a66;
+        double x5 = (b5 - a56*x6)/a55;
+        double x4 = (b4 - a45*x5 - a46*x6)/a44;
+        double x3 = (b3 - a34*x4 - a35*x5 - a36*x6)/a33;
+        double x2 = (b2 - a23*x3 - a24*x4 - a25*x5 - a26*x6)/a22;
+        double x1 = (b1 - a12*x2 - a13*x3 - a14*x4 - a15*x5 - a16*x6)/a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+
+        return true;
+    }
+
     /**
      * <p>
      * This computes the trace of the matrix:<br>
@@ -586,7 +962,7 @@ public class FixedOps6 {
      * @return The max abs element value of the matrix.
      */
     public static double elementMaxAbs( FixedMatrix6x6_64F a ) {
-        double max = a.a11;
+        double max = Math.abs(a.a11);
         max = Math.max(max,Math.abs(a.a12));
         max = Math.max(max,Math.abs(a.a13));
         max = Math.max(max,Math.abs(a.a14));
@@ -688,7 +1064,7 @@ public class FixedOps6 {
      * @return The max element value of the matrix.
      */
     public static double elementMinAbs( FixedMatrix6x6_64F a ) {
-        double min = a.a11;
+        double min = Math.abs(a.a11);
         min = Math.min(min,Math.abs(a.a12));
         min = Math.min(min,Math.abs(a.a13));
         min = Math.min(min,Math.abs(a.a14));
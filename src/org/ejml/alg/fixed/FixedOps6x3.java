@@ -0,0 +1,913 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix3_64F;
+import org.ejml.data.FixedMatrix3x3_64F;
+import org.ejml.data.FixedMatrix3x6_64F;
+import org.ejml.data.FixedMatrix6_64F;
+import org.ejml.data.FixedMatrix6x3_64F;
+import org.ejml.data.FixedMatrix6x6_64F;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 6 x 3.  Multiplications
+ * between 6 x 3 matrices and other fixed sized matrices are also included here.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateFixedOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class FixedOps6x3 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b , FixedMatrix6x3_64F c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b ) {
+        a.a11 += b.a11;
+        a.a12 += b.a12;
+        a.a13 += b.a13;
+        a.a21 += b.a21;
+        a.a22 += b.a22;
+        a.a23 += b.a23;
+        a.a31 += b.a31;
+        a.a32 += b.a32;
+        a.a33 += b.a33;
+        a.a41 += b.a41;
+        a.a42 += b.a42;
+        a.a43 += b.a43;
+        a.a51 += b.a51;
+        a.a52 += b.a52;
+        a.a53 += b.a53;
+        a.a61 += b.a61;
+        a.a62 += b.a62;
+        a.a63 += b.a63;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix.  Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static FixedMatrix3x6_64F transpose( FixedMatrix6x3_64F input , FixedMatrix3x6_64F output ) {
+        if( output == null )
+            output = new FixedMatrix3x6_64F();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix6x6_64F a , FixedMatrix6x3_64F b , FixedMatrix6x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix6x3_64F a , FixedMatrix3x3_64F b , FixedMatrix6x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix6x3_64F a , FixedMatrix3x6_64F b , FixedMatrix6x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix6x6_64F a , FixedMatrix6x3_64F b , FixedMatrix6x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix6x3_64F a , FixedMatrix6x6_64F b , FixedMatrix3x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b , FixedMatrix3x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix3x3_64F a , FixedMatrix6x3_64F b , FixedMatrix3x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33;
+        c.a14 = a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43;
+        c.a15 = a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53;
+        c.a16 = a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33;
+        c.a24 = a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43;
+        c.a25 = a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53;
+        c.a26 = a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33;
+        c.a34 = a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43;
+        c.a35 = a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53;
+        c.a36 = a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix6x3_64F a , FixedMatrix6x6_64F b , FixedMatrix3x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36;
+        c.a14 = a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46;
+        c.a15 = a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56;
+        c.a16 = a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36;
+        c.a24 = a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46;
+        c.a25 = a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56;
+        c.a26 = a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36;
+        c.a34 = a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46;
+        c.a35 = a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56;
+        c.a36 = a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix6x3_64F a , FixedMatrix3x6_64F b , FixedMatrix3x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix3x3_64F a , FixedMatrix6x3_64F b , FixedMatrix3x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix6x3_64F a , FixedMatrix3x3_64F b , FixedMatrix6x3_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b , FixedMatrix6x6_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix6x3_64F a , FixedMatrix3_64F b , FixedMatrix6_64F c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix6_64F a , FixedMatrix6x3_64F b , FixedMatrix3_64F c) {
+        c.a1 = a.a1*b.a11 + a.a2*b.a21 + a.a3*b.a31 + a.a4*b.a41 + a.a5*b.a51 + a.a6*b.a61;
+        c.a2 = a.a1*b.a12 + a.a2*b.a22 + a.a3*b.a32 + a.a4*b.a42 + a.a5*b.a52 + a.a6*b.a62;
+        c.a3 = a.a1*b.a13 + a.a2*b.a23 + a.a3*b.a33 + a.a4*b.a43 + a.a5*b.a53 + a.a6*b.a63;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( FixedMatrix6x3_64F a ) {
+        double max = a.a11;
+        max = Math.max(max,a.a12);
+        max = Math.max(max,a.a13);
+        max = Math.max(max,a.a21);
+        max = Math.max(max,a.a22);
+        max = Math.max(max,a.a23);
+        max = Math.max(max,a.a31);
+        max = Math.max(max,a.a32);
+        max = Math.max(max,a.a33);
+        max = Math.max(max,a.a41);
+        max = Math.max(max,a.a42);
+        max = Math.max(max,a.a43);
+        max = Math.max(max,a.a51);
+        max = Math.max(max,a.a52);
+        max = Math.max(max,a.a53);
+        max = Math.max(max,a.a61);
+        max = Math.max(max,a.a62);
+        max = Math.max(max,a.a63);
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( FixedMatrix6x3_64F a ) {
+        double max = Math.abs(a.a11);
+        max = Math.max(max,Math.abs(a.a12));
+        max = Math.max(max,Math.abs(a.a13));
+        max = Math.max(max,Math.abs(a.a21));
+        max = Math.max(max,Math.abs(a.a22));
+        max = Math.max(max,Math.abs(a.a23));
+        max = Math.max(max,Math.abs(a.a31));
+        max = Math.max(max,Math.abs(a.a32));
+        max = Math.max(max,Math.abs(a.a33));
+        max = Math.max(max,Math.abs(a.a41));
+        max = Math.max(max,Math.abs(a.a42));
+        max = Math.max(max,Math.abs(a.a43));
+        max = Math.max(max,Math.abs(a.a51));
+        max = Math.max(max,Math.abs(a.a52));
+        max = Math.max(max,Math.abs(a.a53));
+        max = Math.max(max,Math.abs(a.a61));
+        max = Math.max(max,Math.abs(a.a62));
+        max = Math.max(max,Math.abs(a.a63));
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( FixedMatrix6x3_64F a ) {
+        double min = a.a11;
+        min = Math.min(min,a.a12);
+        min = Math.min(min,a.a13);
+        min = Math.min(min,a.a21);
+        min = Math.min(min,a.a22);
+        min = Math.min(min,a.a23);
+        min = Math.min(min,a.a31);
+        min = Math.min(min,a.a32);
+        min = Math.min(min,a.a33);
+        min = Math.min(min,a.a41);
+        min = Math.min(min,a.a42);
+        min = Math.min(min,a.a43);
+        min = Math.min(min,a.a51);
+        min = Math.min(min,a.a52);
+        min = Math.min(min,a.a53);
+        min = Math.min(min,a.a61);
+        min = Math.min(min,a.a62);
+        min = Math.min(min,a.a63);
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( FixedMatrix6x3_64F a ) {
+        double min = Math.abs(a.a11);
+        min = Math.min(min,Math.abs(a.a12));
+        min = Math.min(min,Math.abs(a.a13));
+        min = Math.min(min,Math.abs(a.a21));
+        min = Math.min(min,Math.abs(a.a22));
+        min = Math.min(min,Math.abs(a.a23));
+        min = Math.min(min,Math.abs(a.a31));
+        min = Math.min(min,Math.abs(a.a32));
+        min = Math.min(min,Math.abs(a.a33));
+        min = Math.min(min,Math.abs(a.a41));
+        min = Math.min(min,Math.abs(a.a42));
+        min = Math.min(min,Math.abs(a.a43));
+        min = Math.min(min,Math.abs(a.a51));
+        min = Math.min(min,Math.abs(a.a52));
+        min = Math.min(min,Math.abs(a.a53));
+        min = Math.min(min,Math.abs(a.a61));
+        min = Math.min(min,Math.abs(a.a62));
+        min = Math.min(min,Math.abs(a.a63));
+
+        return min;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b) {
+        a.a11 *= b.a11; a.a12 *= b.a12; a.a13 *= b.a13;
+        a.a21 *= b.a21; a.a22 *= b.a22; a.a23 *= b.a23;
+        a.a31 *= b.a31; a.a32 *= b.a32; a.a33 *= b.a33;
+        a.a41 *= b.a41; a.a42 *= b.a42; a.a43 *= b.a43;
+        a.a51 *= b.a51; a.a52 *= b.a52; a.a53 *= b.a53;
+        a.a61 *= b.a61; a.a62 *= b.a62; a.a63 *= b.a63;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b , FixedMatrix6x3_64F c ) {
+        c.a11 = a.a11*b.a11; c.a12 = a.a12*b.a12; c.a13 = a.a13*b.a13;
+        c.a21 = a.a21*b.a21; c.a22 = a.a22*b.a22; c.a23 = a.a23*b.a23;
+        c.a31 = a.a31*b.a31; c.a32 = a.a32*b.a32; c.a33 = a.a33*b.a33;
+        c.a41 = a.a41*b.a41; c.a42 = a.a42*b.a42; c.a43 = a.a43*b.a43;
+        c.a51 = a.a51*b.a51; c.a52 = a.a52*b.a52; c.a53 = a.a53*b.a53;
+        c.a61 = a.a61*b.a61; c.a62 = a.a62*b.a62; c.a63 = a.a63*b.a63;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b) {
+        a.a11 /= b.a11; a.a12 /= b.a12; a.a13 /= b.a13;
+        a.a21 /= b.a21; a.a22 /= b.a22; a.a23 /= b.a23;
+        a.a31 /= b.a31; a.a32 /= b.a32; a.a33 /= b.a33;
+        a.a41 /= b.a41; a.a42 /= b.a42; a.a43 /= b.a43;
+        a.a51 /= b.a51; a.a52 /= b.a52; a.a53 /= b.a53;
+        a.a61 /= b.a61; a.a62 /= b.a62; a.a63 /= b.a63;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( FixedMatrix6x3_64F a , FixedMatrix6x3_64F b , FixedMatrix6x3_64F c ) {
+        c.a11 = a.a11/b.a11; c.a12 = a.a12/b.a12; c.a13 = a.a13/b.a13;
+        c.a21 = a.a21/b.a21; c.a22 = a.a22/b.a22; c.a23 = a.a23/b.a23;
+        c.a31 = a.a31/b.a31; c.a32 = a.a32/b.a32; c.a33 = a.a33/b.a33;
+        c.a41 = a.a41/b.a41; c.a42 = a.a42/b.a42; c.a43 = a.a43/b.a43;
+        c.a51 = a.a51/b.a51; c.a52 = a.a52/b.a52; c.a53 = a.a53/b.a53;
+        c.a61 = a.a61/b.a61; c.a62 = a.a62/b.a62; c.a63 = a.a63/b.a63;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled.  Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , FixedMatrix6x3_64F a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled.  Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , FixedMatrix6x3_64F a , FixedMatrix6x3_64F b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided.  Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( double alpha , FixedMatrix6x3_64F a ) {
+        a.a11 /= alpha; a.a12 /= alpha; a.a13 /= alpha;
+        a.a21 /= alpha; a.a22 /= alpha; a.a23 /= alpha;
+        a.a31 /= alpha; a.a32 /= alpha; a.a33 /= alpha;
+        a.a41 /= alpha; a.a42 /= alpha; a.a43 /= alpha;
+        a.a51 /= alpha; a.a52 /= alpha; a.a53 /= alpha;
+        a.a61 /= alpha; a.a62 /= alpha; a.a63 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division.<br>
+     * <br>
+     * b<sub>ij</sub> = *a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided.  Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( double alpha , FixedMatrix6x3_64F a , FixedMatrix6x3_64F b ) {
+        b.a11 = a.a11/alpha; b.a12 = a.a12/alpha; b.a13 = a.a13/alpha;
+        b.a21 = a.a21/alpha; b.a22 = a.a22/alpha; b.a23 = a.a23/alpha;
+        b.a31 = a.a31/alpha; b.a32 = a.a32/alpha; b.a33 = a.a33/alpha;
+        b.a41 = a.a41/alpha; b.a42 = a.a42/alpha; b.a43 = a.a43/alpha;
+        b.a51 = a.a51/alpha; b.a52 = a.a52/alpha; b.a53 = a.a53/alpha;
+        b.a61 = a.a61/alpha; b.a62 = a.a62/alpha; b.a63 = a.a63/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( FixedMatrix6x3_64F a )
+    {
+        a.a11 = -a.a11; a.a12 = -a.a12; a.a13 = -a.a13;
+        a.a21 = -a.a21; a.a22 = -a.a22; a.a23 = -a.a23;
+        a.a31 = -a.a31; a.a32 = -a.a32; a.a33 = -a.a33;
+        a.a41 = -a.a41; a.a42 = -a.a42; a.a43 = -a.a43;
+        a.a51 = -a.a51; a.a52 = -a.a52; a.a53 = -a.a53;
+        a.a61 = -a.a61; a.a62 = -a.a62; a.a63 = -a.a63;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( FixedMatrix6x3_64F a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v;
+    }
+
+}
+
@@ -0,0 +1,1531 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.FixedMatrix7_64F;
+import org.ejml.data.FixedMatrix7x7_64F;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 7 x 7 or 7 element vectors.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateFixedOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class FixedOps7 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a17 = a.a17 + b.a17;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+        c.a27 = a.a27 + b.a27;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+        c.a35 = a.a35 + b.a35;
+        c.a36 = a.a36 + b.a36;
+        c.a37 = a.a37 + b.a37;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a44 = a.a44 + b.a44;
+        c.a45 = a.a45 + b.a45;
+        c.a46 = a.a46 + b.a46;
+        c.a47 = a.a47 + b.a47;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a54 = a.a54 + b.a54;
+        c.a55 = a.a55 + b.a55;
+        c.a56 = a.a56 + b.a56;
+        c.a57 = a.a57 + b.a57;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+        c.a64 = a.a64 + b.a64;
+        c.a65 = a.a65 + b.a65;
+        c.a66 = a.a66 + b.a66;
+        c.a67 = a.a67 + b.a67;
+        c.a71 = a.a71 + b.a71;
+        c.a72 = a.a72 + b.a72;
+        c.a73 = a.a73 + b.a73;
+        c.a74 = a.a74 + b.a74;
+        c.a75 = a.a75 + b.a75;
+        c.a76 = a.a76 + b.a76;
+        c.a77 = a.a77 + b.a77;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b ) {
+        a.a11 += b.a11;
+        a.a12 += b.a12;
+        a.a13 += b.a13;
+        a.a14 += b.a14;
+        a.a15 += b.a15;
+        a.a16 += b.a16;
+        a.a17 += b.a17;
+        a.a21 += b.a21;
+        a.a22 += b.a22;
+        a.a23 += b.a23;
+        a.a24 += b.a24;
+        a.a25 += b.a25;
+        a.a26 += b.a26;
+        a.a27 += b.a27;
+        a.a31 += b.a31;
+        a.a32 += b.a32;
+        a.a33 += b.a33;
+        a.a34 += b.a34;
+        a.a35 += b.a35;
+        a.a36 += b.a36;
+        a.a37 += b.a37;
+        a.a41 += b.a41;
+        a.a42 += b.a42;
+        a.a43 += b.a43;
+        a.a44 += b.a44;
+        a.a45 += b.a45;
+        a.a46 += b.a46;
+        a.a47 += b.a47;
+        a.a51 += b.a51;
+        a.a52 += b.a52;
+        a.a53 += b.a53;
+        a.a54 += b.a54;
+        a.a55 += b.a55;
+        a.a56 += b.a56;
+        a.a57 += b.a57;
+        a.a61 += b.a61;
+        a.a62 += b.a62;
+        a.a63 += b.a63;
+        a.a64 += b.a64;
+        a.a65 += b.a65;
+        a.a66 += b.a66;
+        a.a67 += b.a67;
+        a.a71 += b.a71;
+        a.a72 += b.a72;
+        a.a73 += b.a73;
+        a.a74 += b.a74;
+        a.a75 += b.a75;
+        a.a76 += b.a76;
+        a.a77 += b.a77;
+    }
+
+    /**
+     * Performs an in-place transpose.  This algorithm is only efficient for square
+     * matrices.
+     *
+     * @param m The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( FixedMatrix7x7_64F m ) {
+        double tmp;
+        tmp = m.a12; m.a12 = m.a21; m.a21 = tmp;
+        tmp = m.a13; m.a13 = m.a31; m.a31 = tmp;
+        tmp = m.a14; m.a14 = m.a41; m.a41 = tmp;
+        tmp = m.a15; m.a15 = m.a51; m.a51 = tmp;
+        tmp = m.a16; m.a16 = m.a61; m.a61 = tmp;
+        tmp = m.a17; m.a17 = m.a71; m.a71 = tmp;
+        tmp = m.a23; m.a23 = m.a32; m.a32 = tmp;
+        tmp = m.a24; m.a24 = m.a42; m.a42 = tmp;
+        tmp = m.a25; m.a25 = m.a52; m.a52 = tmp;
+        tmp = m.a26; m.a26 = m.a62; m.a62 = tmp;
+        tmp = m.a27; m.a27 = m.a72; m.a72 = tmp;
+        tmp = m.a34; m.a34 = m.a43; m.a43 = tmp;
+        tmp = m.a35; m.a35 = m.a53; m.a53 = tmp;
+        tmp = m.a36; m.a36 = m.a63; m.a63 = tmp;
+        tmp = m.a37; m.a37 = m.a73; m.a73 = tmp;
+        tmp = m.a45; m.a45 = m.a54; m.a54 = tmp;
+        tmp = m.a46; m.a46 = m.a64; m.a64 = tmp;
+        tmp = m.a47; m.a47 = m.a74; m.a74 = tmp;
+        tmp = m.a56; m.a56 = m.a65; m.a65 = tmp;
+        tmp = m.a57; m.a57 = m.a75; m.a75 = tmp;
+        tmp = m.a67; m.a67 = m.a76; m.a76 = tmp;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix.  Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static FixedMatrix7x7_64F transpose( FixedMatrix7x7_64F input , FixedMatrix7x7_64F output ) {
+        if( output == null )
+            output = new FixedMatrix7x7_64F();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a17 = input.a71;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a27 = input.a72;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+        output.a37 = input.a73;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+        output.a44 = input.a44;
+        output.a45 = input.a54;
+        output.a46 = input.a64;
+        output.a47 = input.a74;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a53 = input.a35;
+        output.a54 = input.a45;
+        output.a55 = input.a55;
+        output.a56 = input.a65;
+        output.a57 = input.a75;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+        output.a63 = input.a36;
+        output.a64 = input.a46;
+        output.a65 = input.a56;
+        output.a66 = input.a66;
+        output.a67 = input.a76;
+        output.a71 = input.a17;
+        output.a72 = input.a27;
+        output.a73 = input.a37;
+        output.a74 = input.a47;
+        output.a75 = input.a57;
+        output.a76 = input.a67;
+        output.a77 = input.a77;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76;
+        c.a17 = a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76;
+        c.a27 = a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76;
+        c.a37 = a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76;
+        c.a47 = a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76;
+        c.a57 = a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76;
+        c.a67 = a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77;
+        c.a71 = a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71;
+        c.a72 = a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72;
+        c.a73 = a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73;
+        c.a74 = a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74;
+        c.a75 = a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75;
+        c.a76 = a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76;
+        c.a77 = a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76;
+        c.a17 = a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76;
+        c.a27 = a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76;
+        c.a37 = a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74;
+        c.a45 = a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75;
+        c.a46 = a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76;
+        c.a47 = a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73;
+        c.a54 = a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74;
+        c.a55 = a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75;
+        c.a56 = a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76;
+        c.a57 = a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73;
+        c.a64 = a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74;
+        c.a65 = a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75;
+        c.a66 = a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76;
+        c.a67 = a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77;
+        c.a71 = a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71;
+        c.a72 = a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72;
+        c.a73 = a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73;
+        c.a74 = a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74;
+        c.a75 = a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75;
+        c.a76 = a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76;
+        c.a77 = a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37;
+        c.a14 = a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47;
+        c.a15 = a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57;
+        c.a16 = a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67;
+        c.a17 = a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37;
+        c.a24 = a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47;
+        c.a25 = a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57;
+        c.a26 = a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67;
+        c.a27 = a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37;
+        c.a34 = a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47;
+        c.a35 = a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57;
+        c.a36 = a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67;
+        c.a37 = a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77;
+        c.a41 = a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17;
+        c.a42 = a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27;
+        c.a43 = a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37;
+        c.a44 = a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47;
+        c.a45 = a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57;
+        c.a46 = a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67;
+        c.a47 = a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77;
+        c.a51 = a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17;
+        c.a52 = a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27;
+        c.a53 = a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37;
+        c.a54 = a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47;
+        c.a55 = a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57;
+        c.a56 = a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67;
+        c.a57 = a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77;
+        c.a61 = a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17;
+        c.a62 = a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27;
+        c.a63 = a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37;
+        c.a64 = a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47;
+        c.a65 = a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57;
+        c.a66 = a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67;
+        c.a67 = a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77;
+        c.a71 = a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17;
+        c.a72 = a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27;
+        c.a73 = a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37;
+        c.a74 = a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47;
+        c.a75 = a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57;
+        c.a76 = a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67;
+        c.a77 = a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67;
+        c.a17 = a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67;
+        c.a27 = a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67;
+        c.a37 = a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67;
+        c.a47 = a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67;
+        c.a57 = a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67;
+        c.a67 = a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77;
+        c.a71 = a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17;
+        c.a72 = a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27;
+        c.a73 = a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37;
+        c.a74 = a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47;
+        c.a75 = a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57;
+        c.a76 = a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67;
+        c.a77 = a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix7x7_64F a , FixedMatrix7_64F b , FixedMatrix7_64F c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6 + a.a17*b.a7;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6 + a.a27*b.a7;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4 + a.a35*b.a5 + a.a36*b.a6 + a.a37*b.a7;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3 + a.a44*b.a4 + a.a45*b.a5 + a.a46*b.a6 + a.a47*b.a7;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3 + a.a54*b.a4 + a.a55*b.a5 + a.a56*b.a6 + a.a57*b.a7;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3 + a.a64*b.a4 + a.a65*b.a5 + a.a66*b.a6 + a.a67*b.a7;
+        c.a7 = a.a71*b.a1 + a.a72*b.a2 + a.a73*b.a3 + a.a74*b.a4 + a.a75*b.a5 + a.a76*b.a6 + a.a77*b.a7;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix7_64F a , FixedMatrix7x7_64F b , FixedMatrix7_64F c) {
+        c.a1 = a.a1*b.a11 + a.a2*b.a21 + a.a3*b.a31 + a.a4*b.a41 + a.a5*b.a51 + a.a6*b.a61 + a.a7*b.a71;
+        c.a2 = a.a1*b.a12 + a.a2*b.a22 + a.a3*b.a32 + a.a4*b.a42 + a.a5*b.a52 + a.a6*b.a62 + a.a7*b.a72;
+        c.a3 = a.a1*b.a13 + a.a2*b.a23 + a.a3*b.a33 + a.a4*b.a43 + a.a5*b.a53 + a.a6*b.a63 + a.a7*b.a73;
+        c.a4 = a.a1*b.a14 + a.a2*b.a24 + a.a3*b.a34 + a.a4*b.a44 + a.a5*b.a54 + a.a6*b.a64 + a.a7*b.a74;
+        c.a5 = a.a1*b.a15 + a.a2*b.a25 + a.a3*b.a35 + a.a4*b.a45 + a.a5*b.a55 + a.a6*b.a65 + a.a7*b.a75;
+        c.a6 = a.a1*b.a16 + a.a2*b.a26 + a.a3*b.a36 + a.a4*b.a46 + a.a5*b.a56 + a.a6*b.a66 + a.a7*b.a76;
+        c.a7 = a.a1*b.a17 + a.a2*b.a27 + a.a3*b.a37 + a.a4*b.a47 + a.a5*b.a57 + a.a6*b.a67 + a.a7*b.a77;
+    }
+
+    /**
+     * <p>Performs the vector dot product:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>k</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @return The dot product
+     */
+    public static double dot( FixedMatrix7_64F a , FixedMatrix7_64F b ) {
+        return a.a1*b.a1 + a.a2*b.a2 + a.a3*b.a3 + a.a4*b.a4 + a.a5*b.a5 + a.a6*b.a6 + a.a7*b.a7;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @param a A matrix.
+     */
+    public static void setIdentity( FixedMatrix7x7_64F a ) {
+        a.a11 = 1; a.a21 = 0; a.a31 = 0; a.a41 = 0; a.a51 = 0; a.a61 = 0; a.a71 = 0;
+        a.a12 = 0; a.a22 = 1; a.a32 = 0; a.a42 = 0; a.a52 = 0; a.a62 = 0; a.a72 = 0;
+        a.a13 = 0; a.a23 = 0; a.a33 = 1; a.a43 = 0; a.a53 = 0; a.a63 = 0; a.a73 = 0;
+        a.a14 = 0; a.a24 = 0; a.a34 = 0; a.a44 = 1; a.a54 = 0; a.a64 = 0; a.a74 = 0;
+        a.a15 = 0; a.a25 = 0; a.a35 = 0; a.a45 = 0; a.a55 = 1; a.a65 = 0; a.a75 = 0;
+        a.a16 = 0; a.a26 = 0; a.a36 = 0; a.a46 = 0; a.a56 = 0; a.a66 = 1; a.a76 = 0;
+        a.a17 = 0; a.a27 = 0; a.a37 = 0; a.a47 = 0; a.a57 = 0; a.a67 = 0; a.a77 = 1;
+    }
+
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix7x7_64F a , FixedMatrix7x7_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+        double inv2 = 1.0/l22;
+        double l31 = a.a31;
+        l31 *= inv1;
+        double l32 = a.a32 - l31*l21;
+        l32 *= inv2;
+        double l33 = a.a33 - l31*l31 - l32*l32;
+        if( !(l33 > 0) ) return false;
+        l33 = Math.sqrt(l33);
+        double inv3 = 1.0/l33;
+        double l41 = a.a41;
+        l41 *= inv1;
+        double l42 = a.a42 - l41*l21;
+        l42 *= inv2;
+        double l43 = a.a43 - l41*l31 - l42*l32;
+        l43 *= inv3;
+        double l44 = a.a44 - l41*l41 - l42*l42 - l43*l43;
+        if( !(l44 > 0) ) return false;
+        l44 = Math.sqrt(l44);
+        double inv4 = 1.0/l44;
+        double l51 = a.a51;
+        l51 *= inv1;
+        double l52 = a.a52 - l51*l21;
+        l52 *= inv2;
+        double l53 = a.a53 - l51*l31 - l52*l32;
+        l53 *= inv3;
+        double l54 = a.a54 - l51*l41 - l52*l42 - l53*l43;
+        l54 *= inv4;
+        double l55 = a.a55 - l51*l51 - l52*l52 - l53*l53 - l54*l54;
+        if( !(l55 > 0) ) return false;
+        l55 = Math.sqrt(l55);
+        double inv5 = 1.0/l55;
+        double l61 = a.a61;
+        l61 *= inv1;
+        double l62 = a.a62 - l61*l21;
+        l62 *= inv2;
+        double l63 = a.a63 - l61*l31 - l62*l32;
+        l63 *= inv3;
+        double l64 = a.a64 - l61*l41 - l62*l42 - l63*l43;
+        l64 *= inv4;
+        double l65 = a.a65 - l61*l51 - l62*l52 - l63*l53 - l64*l54;
+        l65 *= inv5;
+        double l66 = a.a66 - l61*l61 - l62*l62 - l63*l63 - l64*l64 - l65*l65;
+        if( !(l66 > 0) ) return false;
+        l66 = Math.sqrt(l66);
+        double inv6 = 1.0/l66;
+        double l71 = a.a71;
+        l71 *= inv1;
+        double l72 = a.a72 - l71*l21;
+        l72 *= inv2;
+        double l73 = a.a73 - l71*l31 - l72*l32;
+        l73 *= inv3;
+        double l74 = a.a74 - l71*l41 - l72*l42 - l73*l43;
+        l74 *= inv4;
+        double l75 = a.a75 - l71*l51 - l72*l52 - l73*l53 - l74*l54;
+        l75 *= inv5;
+        double l76 = a.a76 - l71*l61 - l72*l62 - l73*l63 - l74*l64 - l75*l65;
+        l76 *= inv6;
+        double l77 = a.a77 - l71*l71 - l72*l72 - l73*l73 - l74*l74 - l75*l75 - l76*l76;
+        if( !(l77 > 0) ) return false;
+        l77 = Math.sqrt(l77);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0; L.a17 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0; L.a27 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33; L.a34 = 0; L.a35 = 0; L.a36 = 0; L.a37 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = l44; L.a45 = 0; L.a46 = 0; L.a47 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = l55; L.a56 = 0; L.a57 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = l66; L.a67 = 0;
+        L.a71 = l71; L.a72 = l72; L.a73 = l73; L.a74 = l74; L.a75 = l75; L.a76 = l76; L.a77 = l77;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix7x7_64F L , FixedMatrix7_64F b , FixedMatrix7_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+        double y4 = (b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3)/L.a44;
+        double y5 = (b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4)/L.a55;
+        double y6 = (b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5)/L.a66;
+        double y7 = (b.a7 - L.a71*y1 - L.a72*y2 - L.a73*y3 - L.a74*y4 - L.a75*y5 - L.a76*y6)/L.a77;
+
+        double x7 = (y7)/L.a77;
+        double x6 = (y6 - L.a76*x7)/L.a66;
+        double x5 = (y5 - L.a65*x6 - L.a75*x7)/L.a55;
+        double x4 = (y4 - L.a54*x5 - L.a64*x6 - L.a74*x7)/L.a44;
+        double x3 = (y3 - L.a43*x4 - L.a53*x5 - L.a63*x6 - L.a73*x7)/L.a33;
+        double x2 = (y2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6 - L.a72*x7)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6 - L.a71*x7)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix7x7_64F a , FixedMatrix7x7_64F L , FixedMatrix7_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+        double l31 = a.a31;
+        double p31 = l31;
+        l31 /= d1;
+        double l32 = a.a32 - l31*p21;
+        double p32 = l32;
+        l32 /= d2;
+        double d3 = a.a33 - l31*p31 - l32*p32;
+        if( !(d3 > 0) ) return false;
+        double l41 = a.a41;
+        double p41 = l41;
+        l41 /= d1;
+        double l42 = a.a42 - l41*p21;
+        double p42 = l42;
+        l42 /= d2;
+        double l43 = a.a43 - l41*p31 - l42*p32;
+        double p43 = l43;
+        l43 /= d3;
+        double d4 = a.a44 - l41*p41 - l42*p42 - l43*p43;
+        if( !(d4 > 0) ) return false;
+        double l51 = a.a51;
+        double p51 = l51;
+        l51 /= d1;
+        double l52 = a.a52 - l51*p21;
+        double p52 = l52;
+        l52 /= d2;
+        double l53 = a.a53 - l51*p31 - l52*p32;
+        double p53 = l53;
+        l53 /= d3;
+        double l54 = a.a54 - l51*p41 - l52*p42 - l53*p43;
+        double p54 = l54;
+        l54 /= d4;
+        double d5 = a.a55 - l51*p51 - l52*p52 - l53*p53 - l54*p54;
+        if( !(d5 > 0) ) return false;
+        double l61 = a.a61;
+        double p61 = l61;
+        l61 /= d1;
+        double l62 = a.a62 - l61*p21;
+        double p62 = l62;
+        l62 /= d2;
+        double l63 = a.a63 - l61*p31 - l62*p32;
+        double p63 = l63;
+        l63 /= d3;
+        double l64 = a.a64 - l61*p41 - l62*p42 - l63*p43;
+        double p64 = l64;
+        l64 /= d4;
+        double l65 = a.a65 - l61*p51 - l62*p52 - l63*p53 - l64*p54;
+        double p65 = l65;
+        l65 /= d5;
+        double d6 = a.a66 - l61*p61 - l62*p62 - l63*p63 - l64*p64 - l65*p65;
+        if( !(d6 > 0) ) return false;
+        double l71 = a.a71;
+        double p71 = l71;
+        l71 /= d1;
+        double l72 = a.a72 - l71*p21;
+        double p72 = l72;
+        l72 /= d2;
+        double l73 = a.a73 - l71*p31 - l72*p32;
+        double p73 = l73;
+        l73 /= d3;
+        double l74 = a.a74 - l71*p41 - l72*p42 - l73*p43;
+        double p74 = l74;
+        l74 /= d4;
+        double l75 = a.a75 - l71*p51 - l72*p52 - l73*p53 - l74*p54;
+        double p75 = l75;
+        l75 /= d5;
+        double l76 = a.a76 - l71*p61 - l72*p62 - l73*p63 - l74*p64 - l75*p65;
+        double p76 = l76;
+        l76 /= d6;
+        double d7 = a.a77 - l71*p71 - l72*p72 - l73*p73 - l74*p74 - l75*p75 - l76*p76;
+        if( !(d7 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0; L.a17 = 0;
+        L.a21 = l21; L.a22 = 1; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0; L.a27 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = 1; L.a34 = 0; L.a35 = 0; L.a36 = 0; L.a37 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = 1; L.a45 = 0; L.a46 = 0; L.a47 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = 1; L.a56 = 0; L.a57 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = 1; L.a67 = 0;
+        L.a71 = l71; L.a72 = l72; L.a73 = l73; L.a74 = l74; L.a75 = l75; L.a76 = l76; L.a77 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+        d.a4 = d4;
+        d.a5 = d5;
+        d.a6 = d6;
+        d.a7 = d7;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix7x7_64F L , FixedMatrix7_64F d , FixedMatrix7_64F b , FixedMatrix7_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+        double y3 = b.a3 - L.a31*y1 - L.a32*y2;
+        double y4 = b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3;
+        double y5 = b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4;
+        double y6 = b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5;
+        double y7 = b.a7 - L.a71*y1 - L.a72*y2 - L.a73*y3 - L.a74*y4 - L.a75*y5 - L.a76*y6;
+
+        double x7 = y7/d.a7;
+        double x6 = y6/d.a6 - L.a76*x7;
+        double x5 = y5/d.a5 - L.a65*x6 - L.a75*x7;
+        double x4 = y4/d.a4 - L.a54*x5 - L.a64*x6 - L.a74*x7;
+        double x3 = y3/d.a3 - L.a43*x4 - L.a53*x5 - L.a63*x6 - L.a73*x7;
+        double x2 = y2/d.a2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6 - L.a72*x7;
+        double x1 = y1/d.a1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6 - L.a71*x7;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system a*x = b using an LU decomposition with partial pivoting.  The
+     * decomposition is computed in local variables and is not saved.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param a A square matrix. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     * @return true if successful or false if the matrix is singular.
+     */
+    public static boolean solveLU( FixedMatrix7x7_64F a , FixedMatrix7_64F b , FixedMatrix7_64F x ) {
+        double a11 = a.a11; double a12 = a.a12; double a13 = a.a13; double a14 = a.a14; double a15 = a.a15; double a16 = a.a16; double a17 = a.a17;
+        double a21 = a.a21; double a22 = a.a22; double a23 = a.a23; double a24 = a.a24; double a25 = a.a25; double a26 = a.a26; double a27 = a.a27;
+        double a31 = a.a31; double a32 = a.a32; double a33 = a.a33; double a34 = a.a34; double a35 = a.a35; double a36 = a.a36; double a37 = a.a37;
+        double a41 = a.a41; double a42 = a.a42; double a43 = a.a43; double a44 = a.a44; double a45 = a.a45; double a46 = a.a46; double a47 = a.a47;
+        double a51 = a.a51; double a52 = a.a52; double a53 = a.a53; double a54 = a.a54; double a55 = a.a55; double a56 = a.a56; double a57 = a.a57;
+        double a61 = a.a61; double a62 = a.a62; double a63 = a.a63; double a64 = a.a64; double a65 = a.a65; double a66 = a.a66; double a67 = a.a67;
+        double a71 = a.a71; double a72 = a.a72; double a73 = a.a73; double a74 = a.a74; double a75 = a.a75; double a76 = a.a76; double a77 = a.a77;
+        double b1 = b.a1; double b2 = b.a2; double b3 = b.a3; double b4 = b.a4; double b5 = b.a5; double b6 = b.a6; double b7 = b.a7;
+        double tmp,m;
+
+        // column 1
+        int p1 = 1;
+        double max1 = Math.abs(a11);
+        if( Math.abs(a21) > max1 ) { max1 = Math.abs(a21); p1 = 2; }
+        if( Math.abs(a31) > max1 ) { max1 = Math.abs(a31); p1 = 3; }
+        if( Math.abs(a41) > max1 ) { max1 = Math.abs(a41); p1 = 4; }
+        if( Math.abs(a51) > max1 ) { max1 = Math.abs(a51); p1 = 5; }
+        if( Math.abs(a61) > max1 ) { max1 = Math.abs(a61); p1 = 6; }
+        if( Math.abs(a71) > max1 ) { max1 = Math.abs(a71); p1 = 7; }
+        if( max1 < UtilEjml.EPS ) return false;
+        switch( p1 ) {
+            case 2: tmp = a11; a11 = a21; a21 = tmp; tmp = a12; a12 = a22; a22 = tmp; tmp = a13; a13 = a23; a23 = tmp; tmp = a14; a14 = a24; a24 = tmp; tmp = a15; a15 = a25; a25 = tmp; tmp = a16; a16 = a26; a26 = tmp; tmp = a17; a17 = a27; a27 = tmp; tmp = b1; b1 = b2; b2 = tmp; break;
+            case 3: tmp = a11; a11 = a31; a31 = tmp; tmp = a12; a12 = a32; a32 = tmp; tmp = a13; a13 = a33; a33 = tmp; tmp = a14; a14 = a34; a34 = tmp; tmp = a15; a15 = a35; a35 = tmp; tmp = a16; a16 = a36; a36 = tmp; tmp = a17; a17 = a37; a37 = tmp; tmp = b1; b1 = b3; b3 = tmp; break;
+            case 4: tmp = a11; a11 = a41; a41 = tmp; tmp = a12; a12 = a42; a42 = tmp; tmp = a13; a13 = a43; a43 = tmp; tmp = a14; a14 = a44; a44 = tmp; tmp = a15; a15 = a45; a45 = tmp; tmp = a16; a16 = a46; a46 = tmp; tmp = a17; a17 = a47; a47 = tmp; tmp = b1; b1 = b4; b4 = tmp; break;
+            case 5: tmp = a11; a11 = a51; a51 = tmp; tmp = a12; a12 = a52; a52 = tmp; tmp = a13; a13 = a53; a53 = tmp; tmp = a14; a14 = a54; a54 = tmp; tmp = a15; a15 = a55; a55 = tmp; tmp = a16; a16 = a56; a56 = tmp; tmp = a17; a17 = a57; a57 = tmp; tmp = b1; b1 = b5; b5 = tmp; break;
+            case 6: tmp = a11; a11 = a61; a61 = tmp; tmp = a12; a12 = a62; a62 = tmp; tmp = a13; a13 = a63; a63 = tmp; tmp = a14; a14 = a64; a64 = tmp; tmp = a15; a15 = a65; a65 = tmp; tmp = a16; a16 = a66; a66 = tmp; tmp = a17; a17 = a67; a67 = tmp; tmp = b1; b1 = b6; b6 = tmp; break;
+            case 7: tmp = a11; a11 = a71; a71 = tmp; tmp = a12; a12 = a72; a72 = tmp; tmp = a13; a13 = a73; a73 = tmp; tmp = a14; a14 = a74; a74 = tmp; tmp = a15; a15 = a75; a75 = tmp; tmp = a16; a16 = a76; a76 = tmp; tmp = a17; a17 = a77; a77 = tmp; tmp = b1; b1 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a11;
+        m = a21*tmp; a22 -= m*a12; a23 -= m*a13; a24 -= m*a14; a25 -= m*a15; a26 -= m*a16; a27 -= m*a17; b2 -= m*b1;
+        m = a31*tmp; a32 -= m*a12; a33 -= m*a13; a34 -= m*a14; a35 -= m*a15; a36 -= m*a16; a37 -= m*a17; b3 -= m*b1;
+        m = a41*tmp; a42 -= m*a12; a43 -= m*a13; a44 -= m*a14; a45 -= m*a15; a46 -= m*a16; a47 -= m*a17; b4 -= m*b1;
+        m = a51*tmp; a52 -= m*a12; a53 -= m*a13; a54 -= m*a14; a55 -= m*a15; a56 -= m*a16; a57 -= m*a17; b5 -= m*b1;
+        m = a61*tmp; a62 -= m*a12; a63 -= m*a13; a64 -= m*a14; a65 -= m*a15; a66 -= m*a16; a67 -= m*a17; b6 -= m*b1;
+        m = a71*tmp; a72 -= m*a12; a73 -= m*a13; a74 -= m*a14; a75 -= m*a15; a76 -= m*a16; a77 -= m*a17; b7 -= m*b1;
+
+        // column 2
+        int p2 = 2;
+        double max2 = Math.abs(a22);
+        if( Math.abs(a32) > max2 ) { max2 = Math.abs(a32); p2 = 3; }
+        if( Math.abs(a42) > max2 ) { max2 = Math.abs(a42); p2 = 4; }
+        if( Math.abs(a52) > max2 ) { max2 = Math.abs(a52); p2 = 5; }
+        if( Math.abs(a62) > max2 ) { max2 = Math.abs(a62); p2 = 6; }
+        if( Math.abs(a72) > max2 ) { max2 = Math.abs(a72); p2 = 7; }
+        if( max2 < UtilEjml.EPS ) return false;
+        switch( p2 ) {
+            case 3: tmp = a22; a22 = a32; a32 = tmp; tmp = a23; a23 = a33; a33 = tmp; tmp = a24; a24 = a34; a34 = tmp; tmp = a25; a25 = a35; a35 = tmp; tmp = a26; a26 = a36; a36 = tmp; tmp = a27; a27 = a37; a37 = tmp; tmp = b2; b2 = b3; b3 = tmp; break;
+            case 4: tmp = a22; a22 = a42; a42 = tmp; tmp = a23; a23 = a43; a43 = tmp; tmp = a24; a24 = a44; a44 = tmp; tmp = a25; a25 = a45; a45 = tmp; tmp = a26; a26 = a46; a46 = tmp; tmp = a27; a27 = a47; a47 = tmp; tmp = b2; b2 = b4; b4 = tmp; break;
+            case 5: tmp = a22; a22 = a52; a52 = tmp; tmp = a23; a23 = a53; a53 = tmp; tmp = a24; a24 = a54; a54 = tmp; tmp = a25; a25 = a55; a55 = tmp; tmp = a26; a26 = a56; a56 = tmp; tmp = a27; a27 = a57; a57 = tmp; tmp = b2; b2 = b5; b5 = tmp; break;
+            case 6: tmp = a22; a22 = a62; a62 = tmp; tmp = a23; a23 = a63; a63 = tmp; tmp = a24; a24 = a64; a64 = tmp; tmp = a25; a25 = a65; a65 = tmp; tmp = a26; a26 = a66; a66 = tmp; tmp = a27; a27 = a67; a67 = tmp; tmp = b2; b2 = b6; b6 = tmp; break;
+            case 7: tmp = a22; a22 = a72; a72 = tmp; tmp = a23; a23 = a73; a73 = tmp; tmp = a24; a24 = a74; a74 = tmp; tmp = a25; a25 = a75; a75 = tmp; tmp = a26; a26 = a76; a76 = tmp; tmp = a27; a27 = a77; a77 = tmp; tmp = b2; b2 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a22;
+        m = a32*tmp; a33 -= m*a23; a34 -= m*a24; a35 -= m*a25; a36 -= m*a26; a37 -= m*a27; b3 -= m*b2;
+        m = a42*tmp; a43 -= m*a23; a44 -= m*a24; a45 -= m*a25; a46 -= m*a26; a47 -= m*a27; b4 -= m*b2;
+        m = a52*tmp; a53 -= m*a23; a54 -= m*a24; a55 -= m*a25; a56 -= m*a26; a57 -= m*a27; b5 -= m*b2;
+        m = a62*tmp; a63 -= m*a23; a64 -= m*a24; a65 -= m*a25; a66 -= m*a26; a67 -= m*a27; b6 -= m*b2;
+        m = a72*tmp; a73 -= m*a23; a74 -= m*a24; a75 -= m*a25; a76 -= m*a26; a77 -= m*a27; b7 -= m*b2;
+
+        // column 3
+        int p3 = 3;
+        double max3 = Math.abs(a33);
+        if( Math.abs(a43) > max3 ) { max3 = Math.abs(a43); p3 = 4; }
+        if( Math.abs(a53) > max3 ) { max3 = Math.abs(a53); p3 = 5; }
+        if( Math.abs(a63) > max3 ) { max3 = Math.abs(a63); p3 = 6; }
+        if( Math.abs(a73) > max3 ) { max3 = Math.abs(a73); p3 = 7; }
+        if( max3 < UtilEjml.EPS ) return false;
+        switch( p3 ) {
+            case 4: tmp = a33; a33 = a43; a43 = tmp; tmp = a34; a34 = a44; a44 = tmp; tmp = a35; a35 = a45; a45 = tmp; tmp = a36; a36 = a46; a46 = tmp; tmp = a37; a37 = a47; a47 = tmp; tmp = b3; b3 = b4; b4 = tmp; break;
+            case 5: tmp = a33; a33 = a53; a53 = tmp; tmp = a34; a34 = a54; a54 = tmp; tmp = a35; a35 = a55; a55 = tmp; tmp = a36; a36 = a56; a56 = tmp; tmp = a37; a37 = a57; a57 = tmp; tmp = b3; b3 = b5; b5 = tmp; break;
+            case 6: tmp = a33; a33 = a63; a63 = tmp; tmp = a34; a34 = a64; a64 = tmp; tmp = a35; a35 = a65; a65 = tmp; tmp = a36; a36 = a66; a66 = tmp; tmp = a37; a37 = a67; a67 = tmp; tmp = b3; b3 = b6; b6 = tmp; break;
+            case 7: tmp = a33; a33 = a73; a73 = tmp; tmp = a34; a34 = a74; a74 = tmp; tmp = a35; a35 = a75; a75 = tmp; tmp = a36; a36 = a76; a76 = tmp; tmp = a37; a37 = a77; a77 = tmp; tmp = b3; b3 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a33;
+        m = a43*tmp; a44 -= m*a34; a45 -= m*a35; a46 -= m*a36; a47 -= m*a37; b4 -= m*b3;
+        m = a53*tmp; a54 -= m*a34; a55 -= m*a35; a56 -= m*a36; a57 -= m*a37; b5 -= m*b3;
+        m = a63*tmp; a64 -= m*a34; a65 -= m*a35; a66 -= m*a36; a67 -= m*a37; b6 -= m*b3;
+        m = a73*tmp; a74 -= m*a34; a75 -= m*a35; a76 -= m*a36; a77 -= m*a37; b7 -= m*b3;
+
+        // column 4
+        int p4 = 4;
+        double max4 = Math.abs(a44);
+        if( Math.abs(a54) > max4 ) { max4 = Math.abs(a54); p4 = 5; }
+        if( Math.abs(a64) > max4 ) { max4 = Math.abs(a64); p4 = 6; }
+        if( Math.abs(a74) > max4 ) { max4 = Math.abs(a74); p4 = 7; }
+        if( max4 < UtilEjml.EPS ) return false;
+        switch( p4 ) {
+            case 5: tmp = a44; a44 = a54; a54 = tmp; tmp = a45; a45 = a55; a55 = tmp; tmp = a46; a46 = a56; a56 = tmp; tmp = a47; a47 = a57; a57 = tmp; tmp = b4; b4 = b5; b5 = tmp; break;
+            case 6: tmp = a44; a44 = a64; a64 = tmp; tmp = a45; a45 = a65; a65 = tmp; tmp = a46; a46 = a66; a66 = tmp; tmp = a47; a47 = a67; a67 = tmp; tmp = b4; b4 = b6; b6 = tmp; break;
+            case 7: tmp = a44; a44 = a74; a74 = tmp; tmp = a45; a45 = a75; a75 = tmp; tmp = a46; a46 = a76; a76 = tmp; tmp = a47; a47 = a77; a77 = tmp; tmp = b4; b4 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a44;
+        m = a54*tmp; a55 -= m*a45; a56 -= m*a46; a57 -= m*a47; b5 -= m*b4;
+        m = a64*tmp; a65 -= m*a45; a66 -= m*a46; a67 -= m*a47; b6 -= m*b4;
+        m = a74*tmp; a75 -= m*a45; a76 -= m*a46; a77 -= m*a47; b7 -= m*b4;
+
+        // column 5
+        int p5 = 5;
+        double max5 = Math.abs(a55);
+        if( Math.abs(a65) > max5 ) { max5 = Math.abs(a65); p5 = 6; }
+        if( Math.abs(a75) > max5 ) { max5 = Math.abs(a75); p5 = 7; }
+        if( max5 < UtilEjml.EPS ) return false;
+        switch( p5 ) {
+            case 6: tmp = a55; a55 = a65; a65 = tmp; tmp = a56; a56 = a66; a66 = tmp; tmp = a57; a57 = a67; a67 = tmp; tmp = b5; b5 = b6; b6 = tmp; break;
+            case 7: tmp = a55; a55 = a75; a75 = tmp; tmp = a56; a56 = a76; a76 = tmp; tmp = a57; a57 = a77; a77 = tmp; tmp = b5; b5 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a55;
+        m = a65*tmp; a66 -= m*a56; a67 -= m*a57; b6 -= m*b5;
+        m = a75*tmp; a76 -= m*a56; a77 -= m*a57; b7 -= m*b5;
+
+        // column 6
+        int p6 = 6;
+        double max6 = Math.abs(a66);
+        if( Math.abs(a76) > max6 ) { max6 = Math.abs(a76); p6 = 7; }
+        if( max6 < UtilEjml.EPS ) return false;
+        switch( p6 ) {
+            case 7: tmp = a66; a66 = a76; a76 = tmp; tmp = a67; a67 = a77; a77 = tmp; tmp = b6; b6 = b7; b7 = tmp; break;
+        }
+        tmp = 1.0/a66;
+        m = a76*tmp; a77 -= m*a67; b7 -= m*b6;
+        if( Math.abs(a77) < UtilEjml.EPS ) return false;
+
+        double x7 = (b7)/a77;
+        double x6 = (b6 - a67*x7)/a66;
+        double x5 = (b5 - a56*x6 - a57*x7)/a55;
+        double x4 = (b4 - a45*x5 - a46*x6 - a47*x7)/a44;
+        double x3 = (b3 - a34*x4 - a35*x5 - a36*x6 - a37*x7)/a33;
+        double x2 = (b2 - a23*x3 - a24*x4 - a25*x5 - a26*x6 - a27*x7)/a22;
+        double x1 = (b1 - a12*x2 - a13*x3 - a14*x4 - a15*x5 - a16*x6 - a17*x7)/a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix.  Not modified.
+     */
+    public static double trace( FixedMatrix7x7_64F a ) {
+        return a.a11 + a.a21 + a.a31 + a.a41 + a.a51 + a.a61 + a.a71;
+    }
+
+    /**
+     * <p>
+     * Extracts all diagonal elements from 'input' and places them inside the 'out' vector. Elements
+     * are in sequential order.
+     * </p>
+     *
+     *
+     * @param input Matrix.  Not modified.
+     * @param out Vector containing diagonal elements.  Modified.
+     */
+    public static void diag( FixedMatrix7x7_64F input , FixedMatrix7_64F out ) {
+        out.a1 = input.a11;
+        out.a2 = input.a22;
+        out.a3 = input.a33;
+        out.a4 = input.a44;
+        out.a5 = input.a55;
+        out.a6 = input.a66;
+        out.a7 = input.a77;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( FixedMatrix7x7_64F a ) {
+        double max = a.a11;
+        max = Math.max(max,a.a12);
+        max = Math.max(max,a.a13);
+        max = Math.max(max,a.a14);
+        max = Math.max(max,a.a15);
+        max = Math.max(max,a.a16);
+        max = Math.max(max,a.a17);
+        max = Math.max(max,a.a21);
+        max = Math.max(max,a.a22);
+        max = Math.max(max,a.a23);
+        max = Math.max(max,a.a24);
+        max = Math.max(max,a.a25);
+        max = Math.max(max,a.a26);
+        max = Math.max(max,a.a27);
+        max = Math.max(max,a.a31);
+        max = Math.max(max,a.a32);
+        max = Math.max(max,a.a33);
+        max = Math.max(max,a.a34);
+        max = Math.max(max,a.a35);
+        max = Math.max(max,a.a36);
+        max = Math.max(max,a.a37);
+        max = Math.max(max,a.a41);
+        max = Math.max(max,a.a42);
+        max = Math.max(max,a.a43);
+        max = Math.max(max,a.a44);
+        max = Math.max(max,a.a45);
+        max = Math.max(max,a.a46);
+        max = Math.max(max,a.a47);
+        max = Math.max(max,a.a51);
+        max = Math.max(max,a.a52);
+        max = Math.max(max,a.a53);
+        max = Math.max(max,a.a54);
+        max = Math.max(max,a.a55);
+        max = Math.max(max,a.a56);
+        max = Math.max(max,a.a57);
+        max = Math.max(max,a.a61);
+        max = Math.max(max,a.a62);
+        max = Math.max(max,a.a63);
+        max = Math.max(max,a.a64);
+        max = Math.max(max,a.a65);
+        max = Math.max(max,a.a66);
+        max = Math.max(max,a.a67);
+        max = Math.max(max,a.a71);
+        max = Math.max(max,a.a72);
+        max = Math.max(max,a.a73);
+        max = Math.max(max,a.a74);
+        max = Math.max(max,a.a75);
+        max = Math.max(max,a.a76);
+        max = Math.max(max,a.a77);
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( FixedMatrix7x7_64F a ) {
+        double max = Math.abs(a.a11);
+        max = Math.max(max,Math.abs(a.a12));
+        max = Math.max(max,Math.abs(a.a13));
+        max = Math.max(max,Math.abs(a.a14));
+        max = Math.max(max,Math.abs(a.a15));
+        max = Math.max(max,Math.abs(a.a16));
+        max = Math.max(max,Math.abs(a.a17));
+        max = Math.max(max,Math.abs(a.a21));
+        max = Math.max(max,Math.abs(a.a22));
+        max = Math.max(max,Math.abs(a.a23));
+        max = Math.max(max,Math.abs(a.a24));
+        max = Math.max(max,Math.abs(a.a25));
+        max = Math.max(max,Math.abs(a.a26));
+        max = Math.max(max,Math.abs(a.a27));
+        max = Math.max(max,Math.abs(a.a31));
+        max = Math.max(max,Math.abs(a.a32));
+        max = Math.max(max,Math.abs(a.a33));
+        max = Math.max(max,Math.abs(a.a34));
+        max = Math.max(max,Math.abs(a.a35));
+        max = Math.max(max,Math.abs(a.a36));
+        max = Math.max(max,Math.abs(a.a37));
+        max = Math.max(max,Math.abs(a.a41));
+        max = Math.max(max,Math.abs(a.a42));
+        max = Math.max(max,Math.abs(a.a43));
+        max = Math.max(max,Math.abs(a.a44));
+        max = Math.max(max,Math.abs(a.a45));
+        max = Math.max(max,Math.abs(a.a46));
+        max = Math.max(max,Math.abs(a.a47));
+        max = Math.max(max,Math.abs(a.a51));
+        max = Math.max(max,Math.abs(a.a52));
+        max = Math.max(max,Math.abs(a.a53));
+        max = Math.max(max,Math.abs(a.a54));
+        max = Math.max(max,Math.abs(a.a55));
+        max = Math.max(max,Math.abs(a.a56));
+        max = Math.max(max,Math.abs(a.a57));
+        max = Math.max(max,Math.abs(a.a61));
+        max = Math.max(max,Math.abs(a.a62));
+        max = Math.max(max,Math.abs(a.a63));
+        max = Math.max(max,Math.abs(a.a64));
+        max = Math.max(max,Math.abs(a.a65));
+        max = Math.max(max,Math.abs(a.a66));
+        max = Math.max(max,Math.abs(a.a67));
+        max = Math.max(max,Math.abs(a.a71));
+        max = Math.max(max,Math.abs(a.a72));
+        max = Math.max(max,Math.abs(a.a73));
+        max = Math.max(max,Math.abs(a.a74));
+        max = Math.max(max,Math.abs(a.a75));
+        max = Math.max(max,Math.abs(a.a76));
+        max = Math.max(max,Math.abs(a.a77));
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( FixedMatrix7x7_64F a ) {
+        double min = a.a11;
+        min = Math.min(min,a.a12);
+        min = Math.min(min,a.a13);
+        min = Math.min(min,a.a14);
+        min = Math.min(min,a.a15);
+        min = Math.min(min,a.a16);
+        min = Math.min(min,a.a17);
+        min = Math.min(min,a.a21);
+        min = Math.min(min,a.a22);
+        min = Math.min(min,a.a23);
+        min = Math.min(min,a.a24);
+        min = Math.min(min,a.a25);
+        min = Math.min(min,a.a26);
+        min = Math.min(min,a.a27);
+        min = Math.min(min,a.a31);
+        min = Math.min(min,a.a32);
+        min = Math.min(min,a.a33);
+        min = Math.min(min,a.a34);
+        min = Math.min(min,a.a35);
+        min = Math.min(min,a.a36);
+        min = Math.min(min,a.a37);
+        min = Math.min(min,a.a41);
+        min = Math.min(min,a.a42);
+        min = Math.min(min,a.a43);
+        min = Math.min(min,a.a44);
+        min = Math.min(min,a.a45);
+        min = Math.min(min,a.a46);
+        min = Math.min(min,a.a47);
+        min = Math.min(min,a.a51);
+        min = Math.min(min,a.a52);
+        min = Math.min(min,a.a53);
+        min = Math.min(min,a.a54);
+        min = Math.min(min,a.a55);
+        min = Math.min(min,a.a56);
+        min = Math.min(min,a.a57);
+        min = Math.min(min,a.a61);
+        min = Math.min(min,a.a62);
+        min = Math.min(min,a.a63);
+        min = Math.min(min,a.a64);
+        min = Math.min(min,a.a65);
+        min = Math.min(min,a.a66);
+        min = Math.min(min,a.a67);
+        min = Math.min(min,a.a71);
+        min = Math.min(min,a.a72);
+        min = Math.min(min,a.a73);
+        min = Math.min(min,a.a74);
+        min = Math.min(min,a.a75);
+        min = Math.min(min,a.a76);
+        min = Math.min(min,a.a77);
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( FixedMatrix7x7_64F a ) {
+        double min = Math.abs(a.a11);
+        min = Math.min(min,Math.abs(a.a12));
+        min = Math.min(min,Math.abs(a.a13));
+        min = Math.min(min,Math.abs(a.a14));
+        min = Math.min(min,Math.abs(a.a15));
+        min = Math.min(min,Math.abs(a.a16));
+        min = Math.min(min,Math.abs(a.a17));
+        min = Math.min(min,Math.abs(a.a21));
+        min = Math.min(min,Math.abs(a.a22));
+        min = Math.min(min,Math.abs(a.a23));
+        min = Math.min(min,Math.abs(a.a24));
+        min = Math.min(min,Math.abs(a.a25));
+        min = Math.min(min,Math.abs(a.a26));
+        min = Math.min(min,Math.abs(a.a27));
+        min = Math.min(min,Math.abs(a.a31));
+        min = Math.min(min,Math.abs(a.a32));
+        min = Math.min(min,Math.abs(a.a33));
+        min = Math.min(min,Math.abs(a.a34));
+        min = Math.min(min,Math.abs(a.a35));
+        min = Math.min(min,Math.abs(a.a36));
+        min = Math.min(min,Math.abs(a.a37));
+        min = Math.min(min,Math.abs(a.a41));
+        min = Math.min(min,Math.abs(a.a42));
+        min = Math.min(min,Math.abs(a.a43));
+        min = Math.min(min,Math.abs(a.a44));
+        min = Math.min(min,Math.abs(a.a45));
+        min = Math.min(min,Math.abs(a.a46));
+        min = Math.min(min,Math.abs(a.a47));
+        min = Math.min(min,Math.abs(a.a51));
+        min = Math.min(min,Math.abs(a.a52));
+        min = Math.min(min,Math.abs(a.a53));
+        min = Math.min(min,Math.abs(a.a54));
+        min = Math.min(min,Math.abs(a.a55));
+        min = Math.min(min,Math.abs(a.a56));
+        min = Math.min(min,Math.abs(a.a57));
+        min = Math.min(min,Math.abs(a.a61));
+        min = Math.min(min,Math.abs(a.a62));
+        min = Math.min(min,Math.abs(a.a63));
+        min = Math.min(min,Math.abs(a.a64));
+        min = Math.min(min,Math.abs(a.a65));
+        min = Math.min(min,Math.abs(a.a66));
+        min = Math.min(min,Math.abs(a.a67));
+        min = Math.min(min,Math.abs(a.a71));
+        min = Math.min(min,Math.abs(a.a72));
+        min = Math.min(min,Math.abs(a.a73));
+        min = Math.min(min,Math.abs(a.a74));
+        min = Math.min(min,Math.abs(a.a75));
+        min = Math.min(min,Math.abs(a.a76));
+        min = Math.min(min,Math.abs(a.a77));
+
+        return min;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b) {
+        a.a11 *= b.a11; a.a12 *= b.a12; a.a13 *= b.a13; a.a14 *= b.a14; a.a15 *= b.a15; a.a16 *= b.a16; a.a17 *= b.a17;
+        a.a21 *= b.a21; a.a22 *= b.a22; a.a23 *= b.a23; a.a24 *= b.a24; a.a25 *= b.a25; a.a26 *= b.a26; a.a27 *= b.a27;
+        a.a31 *= b.a31; a.a32 *= b.a32; a.a33 *= b.a33; a.a34 *= b.a34; a.a35 *= b.a35; a.a36 *= b.a36; a.a37 *= b.a37;
+        a.a41 *= b.a41; a.a42 *= b.a42; a.a43 *= b.a43; a.a44 *= b.a44; a.a45 *= b.a45; a.a46 *= b.a46; a.a47 *= b.a47;
+        a.a51 *= b.a51; a.a52 *= b.a52; a.a53 *= b.a53; a.a54 *= b.a54; a.a55 *= b.a55; a.a56 *= b.a56; a.a57 *= b.a57;
+        a.a61 *= b.a61; a.a62 *= b.a62; a.a63 *= b.a63; a.a64 *= b.a64; a.a65 *= b.a65; a.a66 *= b.a66; a.a67 *= b.a67;
+        a.a71 *= b.a71; a.a72 *= b.a72; a.a73 *= b.a73; a.a74 *= b.a74; a.a75 *= b.a75; a.a76 *= b.a76; a.a77 *= b.a77;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c ) {
+        c.a11 = a.a11*b.a11; c.a12 = a.a12*b.a12; c.a13 = a.a13*b.a13; c.a14 = a.a14*b.a14; c.a15 = a.a15*b.a15; c.a16 = a.a16*b.a16; c.a17 = a.a17*b.a17;
+        c.a21 = a.a21*b.a21; c.a22 = a.a22*b.a22; c.a23 = a.a23*b.a23; c.a24 = a.a24*b.a24; c.a25 = a.a25*b.a25; c.a26 = a.a26*b.a26; c.a27 = a.a27*b.a27;
+        c.a31 = a.a31*b.a31; c.a32 = a.a32*b.a32; c.a33 = a.a33*b.a33; c.a34 = a.a34*b.a34; c.a35 = a.a35*b.a35; c.a36 = a.a36*b.a36; c.a37 = a.a37*b.a37;
+        c.a41 = a.a41*b.a41; c.a42 = a.a42*b.a42; c.a43 = a.a43*b.a43; c.a44 = a.a44*b.a44; c.a45 = a.a45*b.a45; c.a46 = a.a46*b.a46; c.a47 = a.a47*b.a47;
+        c.a51 = a.a51*b.a51; c.a52 = a.a52*b.a52; c.a53 = a.a53*b.a53; c.a54 = a.a54*b.a54; c.a55 = a.a55*b.a55; c.a56 = a.a56*b.a56; c.a57 = a.a57*b.a57;
+        c.a61 = a.a61*b.a61; c.a62 = a.a62*b.a62; c.a63 = a.a63*b.a63; c.a64 = a.a64*b.a64; c.a65 = a.a65*b.a65; c.a66 = a.a66*b.a66; c.a67 = a.a67*b.a67;
+        c.a71 = a.a71*b.a71; c.a72 = a.a72*b.a72; c.a73 = a.a73*b.a73; c.a74 = a.a74*b.a74; c.a75 = a.a75*b.a75; c.a76 = a.a76*b.a76; c.a77 = a.a77*b.a77;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b) {
+        a.a11 /= b.a11; a.a12 /= b.a12; a.a13 /= b.a13; a.a14 /= b.a14; a.a15 /= b.a15; a.a16 /= b.a16; a.a17 /= b.a17;
+        a.a21 /= b.a21; a.a22 /= b.a22; a.a23 /= b.a23; a.a24 /= b.a24; a.a25 /= b.a25; a.a26 /= b.a26; a.a27 /= b.a27;
+        a.a31 /= b.a31; a.a32 /= b.a32; a.a33 /= b.a33; a.a34 /= b.a34; a.a35 /= b.a35; a.a36 /= b.a36; a.a37 /= b.a37;
+        a.a41 /= b.a41; a.a42 /= b.a42; a.a43 /= b.a43; a.a44 /= b.a44; a.a45 /= b.a45; a.a46 /= b.a46; a.a47 /= b.a47;
+        a.a51 /= b.a51; a.a52 /= b.a52; a.a53 /= b.a53; a.a54 /= b.a54; a.a55 /= b.a55; a.a56 /= b.a56; a.a57 /= b.a57;
+        a.a61 /= b.a61; a.a62 /= b.a62; a.a63 /= b.a63; a.a64 /= b.a64; a.a65 /= b.a65; a.a66 /= b.a66; a.a67 /= b.a67;
+        a.a71 /= b.a71; a.a72 /= b.a72; a.a73 /= b.a73; a.a74 /= b.a74; a.a75 /= b.a75; a.a76 /= b.a76; a.a77 /= b.a77;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( FixedMatrix7x7_64F a , FixedMatrix7x7_64F b , FixedMatrix7x7_64F c ) {
+        c.a11 = a.a11/b.a11; c.a12 = a.a12/b.a12; c.a13 = a.a13/b.a13; c.a14 = a.a14/b.a14; c.a15 = a.a15/b.a15; c.a16 = a.a16/b.a16; c.a17 = a.a17/b.a17;
+        c.a21 = a.a21/b.a21; c.a22 = a.a22/b.a22; c.a23 = a.a23/b.a23; c.a24 = a.a24/b.a24; c.a25 = a.a25/b.a25; c.a26 = a.a26/b.a26; c.a27 = a.a27/b.a27;
+        c.a31 = a.a31/b.a31; c.a32 = a.a32/b.a32; c.a33 = a.a33/b.a33; c.a34 = a.a34/b.a34; c.a35 = a.a35/b.a35; c.a36 = a.a36/b.a36; c.a37 = a.a37/b.a37;
+        c.a41 = a.a41/b.a41; c.a42 = a.a42/b.a42; c.a43 = a.a43/b.a43; c.a44 = a.a44/b.a44; c.a45 = a.a45/b.a45; c.a46 = a.a46/b.a46; c.a47 = a.a47/b.a47;
+        c.a51 = a.a51/b.a51; c.a52 = a.a52/b.a52; c.a53 = a.a53/b.a53; c.a54 = a.a54/b.a54; c.a55 = a.a55/b.a55; c.a56 = a.a56/b.a56; c.a57 = a.a57/b.a57;
+        c.a61 = a.a61/b.a61; c.a62 = a.a62/b.a62; c.a63 = a.a63/b.a63; c.a64 = a.a64/b.a64; c.a65 = a.a65/b.a65; c.a66 = a.a66/b.a66; c.a67 = a.a67/b.a67;
+        c.a71 = a.a71/b.a71; c.a72 = a.a72/b.a72; c.a73 = a.a73/b.a73; c.a74 = a.a74/b.a74; c.a75 = a.a75/b.a75; c.a76 = a.a76/b.a76; c.a77 = a.a77/b.a77;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled.  Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , FixedMatrix7x7_64F a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha; a.a17 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha; a.a27 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha; a.a35 *= alpha; a.a36 *= alpha; a.a37 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha; a.a44 *= alpha; a.a45 *= alpha; a.a46 *= alpha; a.a47 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha; a.a54 *= alpha; a.a55 *= alpha; a.a56 *= alpha; a.a57 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha; a.a64 *= alpha; a.a65 *= alpha; a.a66 *= alpha; a.a67 *= alpha;
+        a.a71 *= alpha; a.a72 *= alpha; a.a73 *= alpha; a.a74 *= alpha; a.a75 *= alpha; a.a76 *= alpha; a.a77 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled.  Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , FixedMatrix7x7_64F a , FixedMatrix7x7_64F b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha; b.a17 = a.a17*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha; b.a27 = a.a27*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha; b.a35 = a.a35*alpha; b.a36 = a.a36*alpha; b.a37 = a.a37*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha; b.a44 = a.a44*alpha; b.a45 = a.a45*alpha; b.a46 = a.a46*alpha; b.a47 = a.a47*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha; b.a54 = a.a54*alpha; b.a55 = a.a55*alpha; b.a56 = a.a56*alpha; b.a57 = a.a57*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha; b.a64 = a.a64*alpha; b.a65 = a.a65*alpha; b.a66 = a.a66*alpha; b.a67 = a.a67*alpha;
+        b.a71 = a.a71*alpha; b.a72 = a.a72*alpha; b.a73 = a.a73*alpha; b.a74 = a.a74*alpha; b.a75 = a.a75*alpha; b.a76 = a.a76*alpha; b.a77 = a.a77*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided.  Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( double alpha , FixedMatrix7x7_64F a ) {
+        a.a11 /= alpha; a.a12 /= alpha; a.a13 /= alpha; a.a14 /= alpha; a.a15 /= alpha; a.a16 /= alpha; a.a17 /= alpha;
+        a.a21 /= alpha; a.a22 /= alpha; a.a23 /= alpha; a.a24 /= alpha; a.a25 /= alpha; a.a26 /= alpha; a.a27 /= alpha;
+        a.a31 /= alpha; a.a32 /= alpha; a.a33 /= alpha; a.a34 /= alpha; a.a35 /= alpha; a.a36 /= alpha; a.a37 /= alpha;
+        a.a41 /= alpha; a.a42 /= alpha; a.a43 /= alpha; a.a44 /= alpha; a.a45 /= alpha; a.a46 /= alpha; a.a47 /= alpha;
+        a.a51 /= alpha; a.a52 /= alpha; a.a53 /= alpha; a.a54 /= alpha; a.a55 /= alpha; a.a56 /= alpha; a.a57 /= alpha;
+        a.a61 /= alpha; a.a62 /= alpha; a.a63 /= alpha; a.a64 /= alpha; a.a65 /= alpha; a.a66 /= alpha; a.a67 /= alpha;
+        a.a71 /= alpha; a.a72 /= alpha; a.a73 /= alpha; a.a74 /= alpha; a.a75 /= alpha; a.a76 /= alpha; a.a77 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division.<br>
+     * <br>
+     * b<sub>ij</sub> = *a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided.  Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( double alpha , FixedMatrix7x7_64F a , FixedMatrix7x7_64F b ) {
+        b.a11 = a.a11/alpha; b.a12 = a.a12/alpha; b.a13 = a.a13/alpha; b.a14 = a.a14/alpha; b.a15 = a.a15/alpha; b.a16 = a.a16/alpha; b.a17 = a.a17/alpha;
+        b.a21 = a.a21/alpha; b.a22 = a.a22/alpha; b.a23 = a.a23/alpha; b.a24 = a.a24/alpha; b.a25 = a.a25/alpha; b.a26 = a.a26/alpha; b.a27 = a.a27/alpha;
+        b.a31 = a.a31/alpha; b.a32 = a.a32/alpha; b.a33 = a.a33/alpha; b.a34 = a.a34/alpha; b.a35 = a.a35/alpha; b.a36 = a.a36/alpha; b.a37 = a.a37/alpha;
+        b.a41 = a.a41/alpha; b.a42 = a.a42/alpha; b.a43 = a.a43/alpha; b.a44 = a.a44/alpha; b.a45 = a.a45/alpha; b.a46 = a.a46/alpha; b.a47 = a.a47/alpha;
+        b.a51 = a.a51/alpha; b.a52 = a.a52/alpha; b.a53 = a.a53/alpha; b.a54 = a.a54/alpha; b.a55 = a.a55/alpha; b.a56 = a.a56/alpha; b.a57 = a.a57/alpha;
+        b.a61 = a.a61/alpha; b.a62 = a.a62/alpha; b.a63 = a.a63/alpha; b.a64 = a.a64/alpha; b.a65 = a.a65/alpha; b.a66 = a.a66/alpha; b.a67 = a.a67/alpha;
+        b.a71 = a.a71/alpha; b.a72 = a.a72/alpha; b.a73 = a.a73/alpha; b.a74 = a.a74/alpha; b.a75 = a.a75/alpha; b.a76 = a.a76/alpha; b.a77 = a.a77/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( FixedMatrix7x7_64F a )
+    {
+        a.a11 = -a.a11; a.a12 = -a.a12; a.a13 = -a.a13; a.a14 = -a.a14; a.a15 = -a.a15; a.a16 = -a.a16; a.a17 = -a.a17;
+        a.a21 = -a.a21; a.a22 = -a.a22; a.a23 = -a.a23; a.a24 = -a.a24; a.a25 = -a.a25; a.a26 = -a.a26; a.a27 = -a.a27;
+        a.a31 = -a.a31; a.a32 = -a.a32; a.a33 = -a.a33; a.a34 = -a.a34; a.a35 = -a.a35; a.a36 = -a.a36; a.a37 = -a.a37;
+        a.a41 = -a.a41; a.a42 = -a.a42; a.a43 = -a.a43; a.a44 = -a.a44; a.a45 = -a.a45; a.a46 = -a.a46; a.a47 = -a.a47;
+        a.a51 = -a.a51; a.a52 = -a.a52; a.a53 = -a.a53; a.a54 = -a.a54; a.a55 = -a.a55; a.a56 = -a.a56; a.a57 = -a.a57;
+        a.a61 = -a.a61; a.a62 = -a.a62; a.a63 = -a.a63; a.a64 = -a.a64; a.a65 = -a.a65; a.a66 = -a.a66; a.a67 = -a.a67;
+        a.a71 = -a.a71; a.a72 = -a.a72; a.a73 = -a.a73; a.a74 = -a.a74; a.a75 = -a.a75; a.a76 = -a.a76; a.a77 = -a.a77;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( FixedMatrix7x7_64F a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v; a.a17 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v; a.a27 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v; a.a35 = v; a.a36 = v; a.a37 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v; a.a44 = v; a.a45 = v; a.a46 = v; a.a47 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v; a.a54 = v; a.a55 = v; a.a56 = v; a.a57 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v; a.a64 = v; a.a65 = v; a.a66 = v; a.a67 = v;
+        a.a71 = v; a.a72 = v; a.a73 = v; a.a74 = v; a.a75 = v; a.a76 = v; a.a77 = v;
+    }
+
+}
+
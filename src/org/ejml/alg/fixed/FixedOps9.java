@@ -0,0 +1,1874 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.FixedMatrix9_64F;
+import org.ejml.data.FixedMatrix9x9_64F;
+
+/**
+ * <p>Common matrix operations for fixed sized matrices which are 9 x 9 or 9 element vectors.</p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateFixedOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class FixedOps9 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c ) {
+        c.a11 = a.a11 + b.a11;
+        c.a12 = a.a12 + b.a12;
+        c.a13 = a.a13 + b.a13;
+        c.a14 = a.a14 + b.a14;
+        c.a15 = a.a15 + b.a15;
+        c.a16 = a.a16 + b.a16;
+        c.a17 = a.a17 + b.a17;
+        c.a18 = a.a18 + b.a18;
+        c.a19 = a.a19 + b.a19;
+        c.a21 = a.a21 + b.a21;
+        c.a22 = a.a22 + b.a22;
+        c.a23 = a.a23 + b.a23;
+        c.a24 = a.a24 + b.a24;
+        c.a25 = a.a25 + b.a25;
+        c.a26 = a.a26 + b.a26;
+        c.a27 = a.a27 + b.a27;
+        c.a28 = a.a28 + b.a28;
+        c.a29 = a.a29 + b.a29;
+        c.a31 = a.a31 + b.a31;
+        c.a32 = a.a32 + b.a32;
+        c.a33 = a.a33 + b.a33;
+        c.a34 = a.a34 + b.a34;
+        c.a35 = a.a35 + b.a35;
+        c.a36 = a.a36 + b.a36;
+        c.a37 = a.a37 + b.a37;
+        c.a38 = a.a38 + b.a38;
+        c.a39 = a.a39 + b.a39;
+        c.a41 = a.a41 + b.a41;
+        c.a42 = a.a42 + b.a42;
+        c.a43 = a.a43 + b.a43;
+        c.a44 = a.a44 + b.a44;
+        c.a45 = a.a45 + b.a45;
+        c.a46 = a.a46 + b.a46;
+        c.a47 = a.a47 + b.a47;
+        c.a48 = a.a48 + b.a48;
+        c.a49 = a.a49 + b.a49;
+        c.a51 = a.a51 + b.a51;
+        c.a52 = a.a52 + b.a52;
+        c.a53 = a.a53 + b.a53;
+        c.a54 = a.a54 + b.a54;
+        c.a55 = a.a55 + b.a55;
+        c.a56 = a.a56 + b.a56;
+        c.a57 = a.a57 + b.a57;
+        c.a58 = a.a58 + b.a58;
+        c.a59 = a.a59 + b.a59;
+        c.a61 = a.a61 + b.a61;
+        c.a62 = a.a62 + b.a62;
+        c.a63 = a.a63 + b.a63;
+        c.a64 = a.a64 + b.a64;
+        c.a65 = a.a65 + b.a65;
+        c.a66 = a.a66 + b.a66;
+        c.a67 = a.a67 + b.a67;
+        c.a68 = a.a68 + b.a68;
+        c.a69 = a.a69 + b.a69;
+        c.a71 = a.a71 + b.a71;
+        c.a72 = a.a72 + b.a72;
+        c.a73 = a.a73 + b.a73;
+        c.a74 = a.a74 + b.a74;
+        c.a75 = a.a75 + b.a75;
+        c.a76 = a.a76 + b.a76;
+        c.a77 = a.a77 + b.a77;
+        c.a78 = a.a78 + b.a78;
+        c.a79 = a.a79 + b.a79;
+        c.a81 = a.a81 + b.a81;
+        c.a82 = a.a82 + b.a82;
+        c.a83 = a.a83 + b.a83;
+        c.a84 = a.a84 + b.a84;
+        c.a85 = a.a85 + b.a85;
+        c.a86 = a.a86 + b.a86;
+        c.a87 = a.a87 + b.a87;
+        c.a88 = a.a88 + b.a88;
+        c.a89 = a.a89 + b.a89;
+        c.a91 = a.a91 + b.a91;
+        c.a92 = a.a92 + b.a92;
+        c.a93 = a.a93 + b.a93;
+        c.a94 = a.a94 + b.a94;
+        c.a95 = a.a95 + b.a95;
+        c.a96 = a.a96 + b.a96;
+        c.a97 = a.a97 + b.a97;
+        c.a98 = a.a98 + b.a98;
+        c.a99 = a.a99 + b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b ) {
+        a.a11 += b.a11;
+        a.a12 += b.a12;
+        a.a13 += b.a13;
+        a.a14 += b.a14;
+        a.a15 += b.a15;
+        a.a16 += b.a16;
+        a.a17 += b.a17;
+        a.a18 += b.a18;
+        a.a19 += b.a19;
+        a.a21 += b.a21;
+        a.a22 += b.a22;
+        a.a23 += b.a23;
+        a.a24 += b.a24;
+        a.a25 += b.a25;
+        a.a26 += b.a26;
+        a.a27 += b.a27;
+        a.a28 += b.a28;
+        a.a29 += b.a29;
+        a.a31 += b.a31;
+        a.a32 += b.a32;
+        a.a33 += b.a33;
+        a.a34 += b.a34;
+        a.a35 += b.a35;
+        a.a36 += b.a36;
+        a.a37 += b.a37;
+        a.a38 += b.a38;
+        a.a39 += b.a39;
+        a.a41 += b.a41;
+        a.a42 += b.a42;
+        a.a43 += b.a43;
+        a.a44 += b.a44;
+        a.a45 += b.a45;
+        a.a46 += b.a46;
+        a.a47 += b.a47;
+        a.a48 += b.a48;
+        a.a49 += b.a49;
+        a.a51 += b.a51;
+        a.a52 += b.a52;
+        a.a53 += b.a53;
+        a.a54 += b.a54;
+        a.a55 += b.a55;
+        a.a56 += b.a56;
+        a.a57 += b.a57;
+        a.a58 += b.a58;
+        a.a59 += b.a59;
+        a.a61 += b.a61;
+        a.a62 += b.a62;
+        a.a63 += b.a63;
+        a.a64 += b.a64;
+        a.a65 += b.a65;
+        a.a66 += b.a66;
+        a.a67 += b.a67;
+        a.a68 += b.a68;
+        a.a69 += b.a69;
+        a.a71 += b.a71;
+        a.a72 += b.a72;
+        a.a73 += b.a73;
+        a.a74 += b.a74;
+        a.a75 += b.a75;
+        a.a76 += b.a76;
+        a.a77 += b.a77;
+        a.a78 += b.a78;
+        a.a79 += b.a79;
+        a.a81 += b.a81;
+        a.a82 += b.a82;
+        a.a83 += b.a83;
+        a.a84 += b.a84;
+        a.a85 += b.a85;
+        a.a86 += b.a86;
+        a.a87 += b.a87;
+        a.a88 += b.a88;
+        a.a89 += b.a89;
+        a.a91 += b.a91;
+        a.a92 += b.a92;
+        a.a93 += b.a93;
+        a.a94 += b.a94;
+        a.a95 += b.a95;
+        a.a96 += b.a96;
+        a.a97 += b.a97;
+        a.a98 += b.a98;
+        a.a99 += b.a99;
+    }
+
+    /**
+     * Performs an in-place transpose.  This algorithm is only efficient for square
+     * matrices.
+     *
+     * @param m The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( FixedMatrix9x9_64F m ) {
+        double tmp;
+        tmp = m.a12; m.a12 = m.a21; m.a21 = tmp;
+        tmp = m.a13; m.a13 = m.a31; m.a31 = tmp;
+        tmp = m.a14; m.a14 = m.a41; m.a41 = tmp;
+        tmp = m.a15; m.a15 = m.a51; m.a51 = tmp;
+        tmp = m.a16; m.a16 = m.a61; m.a61 = tmp;
+        tmp = m.a17; m.a17 = m.a71; m.a71 = tmp;
+        tmp = m.a18; m.a18 = m.a81; m.a81 = tmp;
+        tmp = m.a19; m.a19 = m.a91; m.a91 = tmp;
+        tmp = m.a23; m.a23 = m.a32; m.a32 = tmp;
+        tmp = m.a24; m.a24 = m.a42; m.a42 = tmp;
+        tmp = m.a25; m.a25 = m.a52; m.a52 = tmp;
+        tmp = m.a26; m.a26 = m.a62; m.a62 = tmp;
+        tmp = m.a27; m.a27 = m.a72; m.a72 = tmp;
+        tmp = m.a28; m.a28 = m.a82; m.a82 = tmp;
+        tmp = m.a29; m.a29 = m.a92; m.a92 = tmp;
+        tmp = m.a34; m.a34 = m.a43; m.a43 = tmp;
+        tmp = m.a35; m.a35 = m.a53; m.a53 = tmp;
+        tmp = m.a36; m.a36 = m.a63; m.a63 = tmp;
+        tmp = m.a37; m.a37 = m.a73; m.a73 = tmp;
+        tmp = m.a38; m.a38 = m.a83; m.a83 = tmp;
+        tmp = m.a39; m.a39 = m.a93; m.a93 = tmp;
+        tmp = m.a45; m.a45 = m.a54; m.a54 = tmp;
+        tmp = m.a46; m.a46 = m.a64; m.a64 = tmp;
+        tmp = m.a47; m.a47 = m.a74; m.a74 = tmp;
+        tmp = m.a48; m.a48 = m.a84; m.a84 = tmp;
+        tmp = m.a49; m.a49 = m.a94; m.a94 = tmp;
+        tmp = m.a56; m.a56 = m.a65; m.a65 = tmp;
+        tmp = m.a57; m.a57 = m.a75; m.a75 = tmp;
+        tmp = m.a58; m.a58 = m.a85; m.a85 = tmp;
+        tmp = m.a59; m.a59 = m.a95; m.a95 = tmp;
+        tmp = m.a67; m.a67 = m.a76; m.a76 = tmp;
+        tmp = m.a68; m.a68 = m.a86; m.a86 = tmp;
+        tmp = m.a69; m.a69 = m.a96; m.a96 = tmp;
+        tmp = m.a78; m.a78 = m.a87; m.a87 = tmp;
+        tmp = m.a79; m.a79 = m.a97; m.a97 = tmp;
+        tmp = m.a89; m.a89 = m.a98; m.a98 = tmp;
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param input The original matrix.  Not modified.
+     * @param output Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static FixedMatrix9x9_64F transpose( FixedMatrix9x9_64F input , FixedMatrix9x9_64F output ) {
+        if( output == null )
+            output = new FixedMatrix9x9_64F();
+
+        output.a11 = input.a11;
+        output.a12 = input.a21;
+        output.a13 = input.a31;
+        output.a14 = input.a41;
+        output.a15 = input.a51;
+        output.a16 = input.a61;
+        output.a17 = input.a71;
+        output.a18 = input.a81;
+        output.a19 = input.a91;
+        output.a21 = input.a12;
+        output.a22 = input.a22;
+        output.a23 = input.a32;
+        output.a24 = input.a42;
+        output.a25 = input.a52;
+        output.a26 = input.a62;
+        output.a27 = input.a72;
+        output.a28 = input.a82;
+        output.a29 = input.a92;
+        output.a31 = input.a13;
+        output.a32 = input.a23;
+        output.a33 = input.a33;
+        output.a34 = input.a43;
+        output.a35 = input.a53;
+        output.a36 = input.a63;
+        output.a37 = input.a73;
+        output.a38 = input.a83;
+        output.a39 = input.a93;
+        output.a41 = input.a14;
+        output.a42 = input.a24;
+        output.a43 = input.a34;
+        output.a44 = input.a44;
+        output.a45 = input.a54;
+        output.a46 = input.a64;
+        output.a47 = input.a74;
+        output.a48 = input.a84;
+        output.a49 = input.a94;
+        output.a51 = input.a15;
+        output.a52 = input.a25;
+        output.a53 = input.a35;
+        output.a54 = input.a45;
+        output.a55 = input.a55;
+        output.a56 = input.a65;
+        output.a57 = input.a75;
+        output.a58 = input.a85;
+        output.a59 = input.a95;
+        output.a61 = input.a16;
+        output.a62 = input.a26;
+        output.a63 = input.a36;
+        output.a64 = input.a46;
+        output.a65 = input.a56;
+        output.a66 = input.a66;
+        output.a67 = input.a76;
+        output.a68 = input.a86;
+        output.a69 = input.a96;
+        output.a71 = input.a17;
+        output.a72 = input.a27;
+        output.a73 = input.a37;
+        output.a74 = input.a47;
+        output.a75 = input.a57;
+        output.a76 = input.a67;
+        output.a77 = input.a77;
+        output.a78 = input.a87;
+        output.a79 = input.a97;
+        output.a81 = input.a18;
+        output.a82 = input.a28;
+        output.a83 = input.a38;
+        output.a84 = input.a48;
+        output.a85 = input.a58;
+        output.a86 = input.a68;
+        output.a87 = input.a78;
+        output.a88 = input.a88;
+        output.a89 = input.a98;
+        output.a91 = input.a19;
+        output.a92 = input.a29;
+        output.a93 = input.a39;
+        output.a94 = input.a49;
+        output.a95 = input.a59;
+        output.a96 = input.a69;
+        output.a97 = input.a79;
+        output.a98 = input.a89;
+        output.a99 = input.a99;
+
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a21 + a.a13*b.a31 + a.a14*b.a41 + a.a15*b.a51 + a.a16*b.a61 + a.a17*b.a71 + a.a18*b.a81 + a.a19*b.a91;
+        c.a12 = a.a11*b.a12 + a.a12*b.a22 + a.a13*b.a32 + a.a14*b.a42 + a.a15*b.a52 + a.a16*b.a62 + a.a17*b.a72 + a.a18*b.a82 + a.a19*b.a92;
+        c.a13 = a.a11*b.a13 + a.a12*b.a23 + a.a13*b.a33 + a.a14*b.a43 + a.a15*b.a53 + a.a16*b.a63 + a.a17*b.a73 + a.a18*b.a83 + a.a19*b.a93;
+        c.a14 = a.a11*b.a14 + a.a12*b.a24 + a.a13*b.a34 + a.a14*b.a44 + a.a15*b.a54 + a.a16*b.a64 + a.a17*b.a74 + a.a18*b.a84 + a.a19*b.a94;
+        c.a15 = a.a11*b.a15 + a.a12*b.a25 + a.a13*b.a35 + a.a14*b.a45 + a.a15*b.a55 + a.a16*b.a65 + a.a17*b.a75 + a.a18*b.a85 + a.a19*b.a95;
+        c.a16 = a.a11*b.a16 + a.a12*b.a26 + a.a13*b.a36 + a.a14*b.a46 + a.a15*b.a56 + a.a16*b.a66 + a.a17*b.a76 + a.a18*b.a86 + a.a19*b.a96;
+        c.a17 = a.a11*b.a17 + a.a12*b.a27 + a.a13*b.a37 + a.a14*b.a47 + a.a15*b.a57 + a.a16*b.a67 + a.a17*b.a77 + a.a18*b.a87 + a.a19*b.a97;
+        c.a18 = a.a11*b.a18 + a.a12*b.a28 + a.a13*b.a38 + a.a14*b.a48 + a.a15*b.a58 + a.a16*b.a68 + a.a17*b.a78 + a.a18*b.a88 + a.a19*b.a98;
+        c.a19 = a.a11*b.a19 + a.a12*b.a29 + a.a13*b.a39 + a.a14*b.a49 + a.a15*b.a59 + a.a16*b.a69 + a.a17*b.a79 + a.a18*b.a89 + a.a19*b.a99;
+        c.a21 = a.a21*b.a11 + a.a22*b.a21 + a.a23*b.a31 + a.a24*b.a41 + a.a25*b.a51 + a.a26*b.a61 + a.a27*b.a71 + a.a28*b.a81 + a.a29*b.a91;
+        c.a22 = a.a21*b.a12 + a.a22*b.a22 + a.a23*b.a32 + a.a24*b.a42 + a.a25*b.a52 + a.a26*b.a62 + a.a27*b.a72 + a.a28*b.a82 + a.a29*b.a92;
+        c.a23 = a.a21*b.a13 + a.a22*b.a23 + a.a23*b.a33 + a.a24*b.a43 + a.a25*b.a53 + a.a26*b.a63 + a.a27*b.a73 + a.a28*b.a83 + a.a29*b.a93;
+        c.a24 = a.a21*b.a14 + a.a22*b.a24 + a.a23*b.a34 + a.a24*b.a44 + a.a25*b.a54 + a.a26*b.a64 + a.a27*b.a74 + a.a28*b.a84 + a.a29*b.a94;
+        c.a25 = a.a21*b.a15 + a.a22*b.a25 + a.a23*b.a35 + a.a24*b.a45 + a.a25*b.a55 + a.a26*b.a65 + a.a27*b.a75 + a.a28*b.a85 + a.a29*b.a95;
+        c.a26 = a.a21*b.a16 + a.a22*b.a26 + a.a23*b.a36 + a.a24*b.a46 + a.a25*b.a56 + a.a26*b.a66 + a.a27*b.a76 + a.a28*b.a86 + a.a29*b.a96;
+        c.a27 = a.a21*b.a17 + a.a22*b.a27 + a.a23*b.a37 + a.a24*b.a47 + a.a25*b.a57 + a.a26*b.a67 + a.a27*b.a77 + a.a28*b.a87 + a.a29*b.a97;
+        c.a28 = a.a21*b.a18 + a.a22*b.a28 + a.a23*b.a38 + a.a24*b.a48 + a.a25*b.a58 + a.a26*b.a68 + a.a27*b.a78 + a.a28*b.a88 + a.a29*b.a98;
+        c.a29 = a.a21*b.a19 + a.a22*b.a29 + a.a23*b.a39 + a.a24*b.a49 + a.a25*b.a59 + a.a26*b.a69 + a.a27*b.a79 + a.a28*b.a89 + a.a29*b.a99;
+        c.a31 = a.a31*b.a11 + a.a32*b.a21 + a.a33*b.a31 + a.a34*b.a41 + a.a35*b.a51 + a.a36*b.a61 + a.a37*b.a71 + a.a38*b.a81 + a.a39*b.a91;
+        c.a32 = a.a31*b.a12 + a.a32*b.a22 + a.a33*b.a32 + a.a34*b.a42 + a.a35*b.a52 + a.a36*b.a62 + a.a37*b.a72 + a.a38*b.a82 + a.a39*b.a92;
+        c.a33 = a.a31*b.a13 + a.a32*b.a23 + a.a33*b.a33 + a.a34*b.a43 + a.a35*b.a53 + a.a36*b.a63 + a.a37*b.a73 + a.a38*b.a83 + a.a39*b.a93;
+        c.a34 = a.a31*b.a14 + a.a32*b.a24 + a.a33*b.a34 + a.a34*b.a44 + a.a35*b.a54 + a.a36*b.a64 + a.a37*b.a74 + a.a38*b.a84 + a.a39*b.a94;
+        c.a35 = a.a31*b.a15 + a.a32*b.a25 + a.a33*b.a35 + a.a34*b.a45 + a.a35*b.a55 + a.a36*b.a65 + a.a37*b.a75 + a.a38*b.a85 + a.a39*b.a95;
+        c.a36 = a.a31*b.a16 + a.a32*b.a26 + a.a33*b.a36 + a.a34*b.a46 + a.a35*b.a56 + a.a36*b.a66 + a.a37*b.a76 + a.a38*b.a86 + a.a39*b.a96;
+        c.a37 = a.a31*b.a17 + a.a32*b.a27 + a.a33*b.a37 + a.a34*b.a47 + a.a35*b.a57 + a.a36*b.a67 + a.a37*b.a77 + a.a38*b.a87 + a.a39*b.a97;
+        c.a38 = a.a31*b.a18 + a.a32*b.a28 + a.a33*b.a38 + a.a34*b.a48 + a.a35*b.a58 + a.a36*b.a68 + a.a37*b.a78 + a.a38*b.a88 + a.a39*b.a98;
+        c.a39 = a.a31*b.a19 + a.a32*b.a29 + a.a33*b.a39 + a.a34*b.a49 + a.a35*b.a59 + a.a36*b.a69 + a.a37*b.a79 + a.a38*b.a89 + a.a39*b.a99;
+        c.a41 = a.a41*b.a11 + a.a42*b.a21 + a.a43*b.a31 + a.a44*b.a41 + a.a45*b.a51 + a.a46*b.a61 + a.a47*b.a71 + a.a48*b.a81 + a.a49*b.a91;
+        c.a42 = a.a41*b.a12 + a.a42*b.a22 + a.a43*b.a32 + a.a44*b.a42 + a.a45*b.a52 + a.a46*b.a62 + a.a47*b.a72 + a.a48*b.a82 + a.a49*b.a92;
+        c.a43 = a.a41*b.a13 + a.a42*b.a23 + a.a43*b.a33 + a.a44*b.a43 + a.a45*b.a53 + a.a46*b.a63 + a.a47*b.a73 + a.a48*b.a83 + a.a49*b.a93;
+        c.a44 = a.a41*b.a14 + a.a42*b.a24 + a.a43*b.a34 + a.a44*b.a44 + a.a45*b.a54 + a.a46*b.a64 + a.a47*b.a74 + a.a48*b.a84 + a.a49*b.a94;
+        c.a45 = a.a41*b.a15 + a.a42*b.a25 + a.a43*b.a35 + a.a44*b.a45 + a.a45*b.a55 + a.a46*b.a65 + a.a47*b.a75 + a.a48*b.a85 + a.a49*b.a95;
+        c.a46 = a.a41*b.a16 + a.a42*b.a26 + a.a43*b.a36 + a.a44*b.a46 + a.a45*b.a56 + a.a46*b.a66 + a.a47*b.a76 + a.a48*b.a86 + a.a49*b.a96;
+        c.a47 = a.a41*b.a17 + a.a42*b.a27 + a.a43*b.a37 + a.a44*b.a47 + a.a45*b.a57 + a.a46*b.a67 + a.a47*b.a77 + a.a48*b.a87 + a.a49*b.a97;
+        c.a48 = a.a41*b.a18 + a.a42*b.a28 + a.a43*b.a38 + a.a44*b.a48 + a.a45*b.a58 + a.a46*b.a68 + a.a47*b.a78 + a.a48*b.a88 + a.a49*b.a98;
+        c.a49 = a.a41*b.a19 + a.a42*b.a29 + a.a43*b.a39 + a.a44*b.a49 + a.a45*b.a59 + a.a46*b.a69 + a.a47*b.a79 + a.a48*b.a89 + a.a49*b.a99;
+        c.a51 = a.a51*b.a11 + a.a52*b.a21 + a.a53*b.a31 + a.a54*b.a41 + a.a55*b.a51 + a.a56*b.a61 + a.a57*b.a71 + a.a58*b.a81 + a.a59*b.a91;
+        c.a52 = a.a51*b.a12 + a.a52*b.a22 + a.a53*b.a32 + a.a54*b.a42 + a.a55*b.a52 + a.a56*b.a62 + a.a57*b.a72 + a.a58*b.a82 + a.a59*b.a92;
+        c.a53 = a.a51*b.a13 + a.a52*b.a23 + a.a53*b.a33 + a.a54*b.a43 + a.a55*b.a53 + a.a56*b.a63 + a.a57*b.a73 + a.a58*b.a83 + a.a59*b.a93;
+        c.a54 = a.a51*b.a14 + a.a52*b.a24 + a.a53*b.a34 + a.a54*b.a44 + a.a55*b.a54 + a.a56*b.a64 + a.a57*b.a74 + a.a58*b.a84 + a.a59*b.a94;
+        c.a55 = a.a51*b.a15 + a.a52*b.a25 + a.a53*b.a35 + a.a54*b.a45 + a.a55*b.a55 + a.a56*b.a65 + a.a57*b.a75 + a.a58*b.a85 + a.a59*b.a95;
+        c.a56 = a.a51*b.a16 + a.a52*b.a26 + a.a53*b.a36 + a.a54*b.a46 + a.a55*b.a56 + a.a56*b.a66 + a.a57*b.a76 + a.a58*b.a86 + a.a59*b.a96;
+        c.a57 = a.a51*b.a17 + a.a52*b.a27 + a.a53*b.a37 + a.a54*b.a47 + a.a55*b.a57 + a.a56*b.a67 + a.a57*b.a77 + a.a58*b.a87 + a.a59*b.a97;
+        c.a58 = a.a51*b.a18 + a.a52*b.a28 + a.a53*b.a38 + a.a54*b.a48 + a.a55*b.a58 + a.a56*b.a68 + a.a57*b.a78 + a.a58*b.a88 + a.a59*b.a98;
+        c.a59 = a.a51*b.a19 + a.a52*b.a29 + a.a53*b.a39 + a.a54*b.a49 + a.a55*b.a59 + a.a56*b.a69 + a.a57*b.a79 + a.a58*b.a89 + a.a59*b.a99;
+        c.a61 = a.a61*b.a11 + a.a62*b.a21 + a.a63*b.a31 + a.a64*b.a41 + a.a65*b.a51 + a.a66*b.a61 + a.a67*b.a71 + a.a68*b.a81 + a.a69*b.a91;
+        c.a62 = a.a61*b.a12 + a.a62*b.a22 + a.a63*b.a32 + a.a64*b.a42 + a.a65*b.a52 + a.a66*b.a62 + a.a67*b.a72 + a.a68*b.a82 + a.a69*b.a92;
+        c.a63 = a.a61*b.a13 + a.a62*b.a23 + a.a63*b.a33 + a.a64*b.a43 + a.a65*b.a53 + a.a66*b.a63 + a.a67*b.a73 + a.a68*b.a83 + a.a69*b.a93;
+        c.a64 = a.a61*b.a14 + a.a62*b.a24 + a.a63*b.a34 + a.a64*b.a44 + a.a65*b.a54 + a.a66*b.a64 + a.a67*b.a74 + a.a68*b.a84 + a.a69*b.a94;
+        c.a65 = a.a61*b.a15 + a.a62*b.a25 + a.a63*b.a35 + a.a64*b.a45 + a.a65*b.a55 + a.a66*b.a65 + a.a67*b.a75 + a.a68*b.a85 + a.a69*b.a95;
+        c.a66 = a.a61*b.a16 + a.a62*b.a26 + a.a63*b.a36 + a.a64*b.a46 + a.a65*b.a56 + a.a66*b.a66 + a.a67*b.a76 + a.a68*b.a86 + a.a69*b.a96;
+        c.a67 = a.a61*b.a17 + a.a62*b.a27 + a.a63*b.a37 + a.a64*b.a47 + a.a65*b.a57 + a.a66*b.a67 + a.a67*b.a77 + a.a68*b.a87 + a.a69*b.a97;
+        c.a68 = a.a61*b.a18 + a.a62*b.a28 + a.a63*b.a38 + a.a64*b.a48 + a.a65*b.a58 + a.a66*b.a68 + a.a67*b.a78 + a.a68*b.a88 + a.a69*b.a98;
+        c.a69 = a.a61*b.a19 + a.a62*b.a29 + a.a63*b.a39 + a.a64*b.a49 + a.a65*b.a59 + a.a66*b.a69 + a.a67*b.a79 + a.a68*b.a89 + a.a69*b.a99;
+        c.a71 = a.a71*b.a11 + a.a72*b.a21 + a.a73*b.a31 + a.a74*b.a41 + a.a75*b.a51 + a.a76*b.a61 + a.a77*b.a71 + a.a78*b.a81 + a.a79*b.a91;
+        c.a72 = a.a71*b.a12 + a.a72*b.a22 + a.a73*b.a32 + a.a74*b.a42 + a.a75*b.a52 + a.a76*b.a62 + a.a77*b.a72 + a.a78*b.a82 + a.a79*b.a92;
+        c.a73 = a.a71*b.a13 + a.a72*b.a23 + a.a73*b.a33 + a.a74*b.a43 + a.a75*b.a53 + a.a76*b.a63 + a.a77*b.a73 + a.a78*b.a83 + a.a79*b.a93;
+        c.a74 = a.a71*b.a14 + a.a72*b.a24 + a.a73*b.a34 + a.a74*b.a44 + a.a75*b.a54 + a.a76*b.a64 + a.a77*b.a74 + a.a78*b.a84 + a.a79*b.a94;
+        c.a75 = a.a71*b.a15 + a.a72*b.a25 + a.a73*b.a35 + a.a74*b.a45 + a.a75*b.a55 + a.a76*b.a65 + a.a77*b.a75 + a.a78*b.a85 + a.a79*b.a95;
+        c.a76 = a.a71*b.a16 + a.a72*b.a26 + a.a73*b.a36 + a.a74*b.a46 + a.a75*b.a56 + a.a76*b.a66 + a.a77*b.a76 + a.a78*b.a86 + a.a79*b.a96;
+        c.a77 = a.a71*b.a17 + a.a72*b.a27 + a.a73*b.a37 + a.a74*b.a47 + a.a75*b.a57 + a.a76*b.a67 + a.a77*b.a77 + a.a78*b.a87 + a.a79*b.a97;
+        c.a78 = a.a71*b.a18 + a.a72*b.a28 + a.a73*b.a38 + a.a74*b.a48 + a.a75*b.a58 + a.a76*b.a68 + a.a77*b.a78 + a.a78*b.a88 + a.a79*b.a98;
+        c.a79 = a.a71*b.a19 + a.a72*b.a29 + a.a73*b.a39 + a.a74*b.a49 + a.a75*b.a59 + a.a76*b.a69 + a.a77*b.a79 + a.a78*b.a89 + a.a79*b.a99;
+        c.a81 = a.a81*b.a11 + a.a82*b.a21 + a.a83*b.a31 + a.a84*b.a41 + a.a85*b.a51 + a.a86*b.a61 + a.a87*b.a71 + a.a88*b.a81 + a.a89*b.a91;
+        c.a82 = a.a81*b.a12 + a.a82*b.a22 + a.a83*b.a32 + a.a84*b.a42 + a.a85*b.a52 + a.a86*b.a62 + a.a87*b.a72 + a.a88*b.a82 + a.a89*b.a92;
+        c.a83 = a.a81*b.a13 + a.a82*b.a23 + a.a83*b.a33 + a.a84*b.a43 + a.a85*b.a53 + a.a86*b.a63 + a.a87*b.a73 + a.a88*b.a83 + a.a89*b.a93;
+        c.a84 = a.a81*b.a14 + a.a82*b.a24 + a.a83*b.a34 + a.a84*b.a44 + a.a85*b.a54 + a.a86*b.a64 + a.a87*b.a74 + a.a88*b.a84 + a.a89*b.a94;
+        c.a85 = a.a81*b.a15 + a.a82*b.a25 + a.a83*b.a35 + a.a84*b.a45 + a.a85*b.a55 + a.a86*b.a65 + a.a87*b.a75 + a.a88*b.a85 + a.a89*b.a95;
+        c.a86 = a.a81*b.a16 + a.a82*b.a26 + a.a83*b.a36 + a.a84*b.a46 + a.a85*b.a56 + a.a86*b.a66 + a.a87*b.a76 + a.a88*b.a86 + a.a89*b.a96;
+        c.a87 = a.a81*b.a17 + a.a82*b.a27 + a.a83*b.a37 + a.a84*b.a47 + a.a85*b.a57 + a.a86*b.a67 + a.a87*b.a77 + a.a88*b.a87 + a.a89*b.a97;
+        c.a88 = a.a81*b.a18 + a.a82*b.a28 + a.a83*b.a38 + a.a84*b.a48 + a.a85*b.a58 + a.a86*b.a68 + a.a87*b.a78 + a.a88*b.a88 + a.a89*b.a98;
+        c.a89 = a.a81*b.a19 + a.a82*b.a29 + a.a83*b.a39 + a.a84*b.a49 + a.a85*b.a59 + a.a86*b.a69 + a.a87*b.a79 + a.a88*b.a89 + a.a89*b.a99;
+        c.a91 = a.a91*b.a11 + a.a92*b.a21 + a.a93*b.a31 + a.a94*b.a41 + a.a95*b.a51 + a.a96*b.a61 + a.a97*b.a71 + a.a98*b.a81 + a.a99*b.a91;
+        c.a92 = a.a91*b.a12 + a.a92*b.a22 + a.a93*b.a32 + a.a94*b.a42 + a.a95*b.a52 + a.a96*b.a62 + a.a97*b.a72 + a.a98*b.a82 + a.a99*b.a92;
+        c.a93 = a.a91*b.a13 + a.a92*b.a23 + a.a93*b.a33 + a.a94*b.a43 + a.a95*b.a53 + a.a96*b.a63 + a.a97*b.a73 + a.a98*b.a83 + a.a99*b.a93;
+        c.a94 = a.a91*b.a14 + a.a92*b.a24 + a.a93*b.a34 + a.a94*b.a44 + a.a95*b.a54 + a.a96*b.a64 + a.a97*b.a74 + a.a98*b.a84 + a.a99*b.a94;
+        c.a95 = a.a91*b.a15 + a.a92*b.a25 + a.a93*b.a35 + a.a94*b.a45 + a.a95*b.a55 + a.a96*b.a65 + a.a97*b.a75 + a.a98*b.a85 + a.a99*b.a95;
+        c.a96 = a.a91*b.a16 + a.a92*b.a26 + a.a93*b.a36 + a.a94*b.a46 + a.a95*b.a56 + a.a96*b.a66 + a.a97*b.a76 + a.a98*b.a86 + a.a99*b.a96;
+        c.a97 = a.a91*b.a17 + a.a92*b.a27 + a.a93*b.a37 + a.a94*b.a47 + a.a95*b.a57 + a.a96*b.a67 + a.a97*b.a77 + a.a98*b.a87 + a.a99*b.a97;
+        c.a98 = a.a91*b.a18 + a.a92*b.a28 + a.a93*b.a38 + a.a94*b.a48 + a.a95*b.a58 + a.a96*b.a68 + a.a97*b.a78 + a.a98*b.a88 + a.a99*b.a98;
+        c.a99 = a.a91*b.a19 + a.a92*b.a29 + a.a93*b.a39 + a.a94*b.a49 + a.a95*b.a59 + a.a96*b.a69 + a.a97*b.a79 + a.a98*b.a89 + a.a99*b.a99;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a21 + a.a31*b.a31 + a.a41*b.a41 + a.a51*b.a51 + a.a61*b.a61 + a.a71*b.a71 + a.a81*b.a81 + a.a91*b.a91;
+        c.a12 = a.a11*b.a12 + a.a21*b.a22 + a.a31*b.a32 + a.a41*b.a42 + a.a51*b.a52 + a.a61*b.a62 + a.a71*b.a72 + a.a81*b.a82 + a.a91*b.a92;
+        c.a13 = a.a11*b.a13 + a.a21*b.a23 + a.a31*b.a33 + a.a41*b.a43 + a.a51*b.a53 + a.a61*b.a63 + a.a71*b.a73 + a.a81*b.a83 + a.a91*b.a93;
+        c.a14 = a.a11*b.a14 + a.a21*b.a24 + a.a31*b.a34 + a.a41*b.a44 + a.a51*b.a54 + a.a61*b.a64 + a.a71*b.a74 + a.a81*b.a84 + a.a91*b.a94;
+        c.a15 = a.a11*b.a15 + a.a21*b.a25 + a.a31*b.a35 + a.a41*b.a45 + a.a51*b.a55 + a.a61*b.a65 + a.a71*b.a75 + a.a81*b.a85 + a.a91*b.a95;
+        c.a16 = a.a11*b.a16 + a.a21*b.a26 + a.a31*b.a36 + a.a41*b.a46 + a.a51*b.a56 + a.a61*b.a66 + a.a71*b.a76 + a.a81*b.a86 + a.a91*b.a96;
+        c.a17 = a.a11*b.a17 + a.a21*b.a27 + a.a31*b.a37 + a.a41*b.a47 + a.a51*b.a57 + a.a61*b.a67 + a.a71*b.a77 + a.a81*b.a87 + a.a91*b.a97;
+        c.a18 = a.a11*b.a18 + a.a21*b.a28 + a.a31*b.a38 + a.a41*b.a48 + a.a51*b.a58 + a.a61*b.a68 + a.a71*b.a78 + a.a81*b.a88 + a.a91*b.a98;
+        c.a19 = a.a11*b.a19 + a.a21*b.a29 + a.a31*b.a39 + a.a41*b.a49 + a.a51*b.a59 + a.a61*b.a69 + a.a71*b.a79 + a.a81*b.a89 + a.a91*b.a99;
+        c.a21 = a.a12*b.a11 + a.a22*b.a21 + a.a32*b.a31 + a.a42*b.a41 + a.a52*b.a51 + a.a62*b.a61 + a.a72*b.a71 + a.a82*b.a81 + a.a92*b.a91;
+        c.a22 = a.a12*b.a12 + a.a22*b.a22 + a.a32*b.a32 + a.a42*b.a42 + a.a52*b.a52 + a.a62*b.a62 + a.a72*b.a72 + a.a82*b.a82 + a.a92*b.a92;
+        c.a23 = a.a12*b.a13 + a.a22*b.a23 + a.a32*b.a33 + a.a42*b.a43 + a.a52*b.a53 + a.a62*b.a63 + a.a72*b.a73 + a.a82*b.a83 + a.a92*b.a93;
+        c.a24 = a.a12*b.a14 + a.a22*b.a24 + a.a32*b.a34 + a.a42*b.a44 + a.a52*b.a54 + a.a62*b.a64 + a.a72*b.a74 + a.a82*b.a84 + a.a92*b.a94;
+        c.a25 = a.a12*b.a15 + a.a22*b.a25 + a.a32*b.a35 + a.a42*b.a45 + a.a52*b.a55 + a.a62*b.a65 + a.a72*b.a75 + a.a82*b.a85 + a.a92*b.a95;
+        c.a26 = a.a12*b.a16 + a.a22*b.a26 + a.a32*b.a36 + a.a42*b.a46 + a.a52*b.a56 + a.a62*b.a66 + a.a72*b.a76 + a.a82*b.a86 + a.a92*b.a96;
+        c.a27 = a.a12*b.a17 + a.a22*b.a27 + a.a32*b.a37 + a.a42*b.a47 + a.a52*b.a57 + a.a62*b.a67 + a.a72*b.a77 + a.a82*b.a87 + a.a92*b.a97;
+        c.a28 = a.a12*b.a18 + a.a22*b.a28 + a.a32*b.a38 + a.a42*b.a48 + a.a52*b.a58 + a.a62*b.a68 + a.a72*b.a78 + a.a82*b.a88 + a.a92*b.a98;
+        c.a29 = a.a12*b.a19 + a.a22*b.a29 + a.a32*b.a39 + a.a42*b.a49 + a.a52*b.a59 + a.a62*b.a69 + a.a72*b.a79 + a.a82*b.a89 + a.a92*b.a99;
+        c.a31 = a.a13*b.a11 + a.a23*b.a21 + a.a33*b.a31 + a.a43*b.a41 + a.a53*b.a51 + a.a63*b.a61 + a.a73*b.a71 + a.a83*b.a81 + a.a93*b.a91;
+        c.a32 = a.a13*b.a12 + a.a23*b.a22 + a.a33*b.a32 + a.a43*b.a42 + a.a53*b.a52 + a.a63*b.a62 + a.a73*b.a72 + a.a83*b.a82 + a.a93*b.a92;
+        c.a33 = a.a13*b.a13 + a.a23*b.a23 + a.a33*b.a33 + a.a43*b.a43 + a.a53*b.a53 + a.a63*b.a63 + a.a73*b.a73 + a.a83*b.a83 + a.a93*b.a93;
+        c.a34 = a.a13*b.a14 + a.a23*b.a24 + a.a33*b.a34 + a.a43*b.a44 + a.a53*b.a54 + a.a63*b.a64 + a.a73*b.a74 + a.a83*b.a84 + a.a93*b.a94;
+        c.a35 = a.a13*b.a15 + a.a23*b.a25 + a.a33*b.a35 + a.a43*b.a45 + a.a53*b.a55 + a.a63*b.a65 + a.a73*b.a75 + a.a83*b.a85 + a.a93*b.a95;
+        c.a36 = a.a13*b.a16 + a.a23*b.a26 + a.a33*b.a36 + a.a43*b.a46 + a.a53*b.a56 + a.a63*b.a66 + a.a73*b.a76 + a.a83*b.a86 + a.a93*b.a96;
+        c.a37 = a.a13*b.a17 + a.a23*b.a27 + a.a33*b.a37 + a.a43*b.a47 + a.a53*b.a57 + a.a63*b.a67 + a.a73*b.a77 + a.a83*b.a87 + a.a93*b.a97;
+        c.a38 = a.a13*b.a18 + a.a23*b.a28 + a.a33*b.a38 + a.a43*b.a48 + a.a53*b.a58 + a.a63*b.a68 + a.a73*b.a78 + a.a83*b.a88 + a.a93*b.a98;
+        c.a39 = a.a13*b.a19 + a.a23*b.a29 + a.a33*b.a39 + a.a43*b.a49 + a.a53*b.a59 + a.a63*b.a69 + a.a73*b.a79 + a.a83*b.a89 + a.a93*b.a99;
+        c.a41 = a.a14*b.a11 + a.a24*b.a21 + a.a34*b.a31 + a.a44*b.a41 + a.a54*b.a51 + a.a64*b.a61 + a.a74*b.a71 + a.a84*b.a81 + a.a94*b.a91;
+        c.a42 = a.a14*b.a12 + a.a24*b.a22 + a.a34*b.a32 + a.a44*b.a42 + a.a54*b.a52 + a.a64*b.a62 + a.a74*b.a72 + a.a84*b.a82 + a.a94*b.a92;
+        c.a43 = a.a14*b.a13 + a.a24*b.a23 + a.a34*b.a33 + a.a44*b.a43 + a.a54*b.a53 + a.a64*b.a63 + a.a74*b.a73 + a.a84*b.a83 + a.a94*b.a93;
+        c.a44 = a.a14*b.a14 + a.a24*b.a24 + a.a34*b.a34 + a.a44*b.a44 + a.a54*b.a54 + a.a64*b.a64 + a.a74*b.a74 + a.a84*b.a84 + a.a94*b.a94;
+        c.a45 = a.a14*b.a15 + a.a24*b.a25 + a.a34*b.a35 + a.a44*b.a45 + a.a54*b.a55 + a.a64*b.a65 + a.a74*b.a75 + a.a84*b.a85 + a.a94*b.a95;
+        c.a46 = a.a14*b.a16 + a.a24*b.a26 + a.a34*b.a36 + a.a44*b.a46 + a.a54*b.a56 + a.a64*b.a66 + a.a74*b.a76 + a.a84*b.a86 + a.a94*b.a96;
+        c.a47 = a.a14*b.a17 + a.a24*b.a27 + a.a34*b.a37 + a.a44*b.a47 + a.a54*b.a57 + a.a64*b.a67 + a.a74*b.a77 + a.a84*b.a87 + a.a94*b.a97;
+        c.a48 = a.a14*b.a18 + a.a24*b.a28 + a.a34*b.a38 + a.a44*b.a48 + a.a54*b.a58 + a.a64*b.a68 + a.a74*b.a78 + a.a84*b.a88 + a.a94*b.a98;
+        c.a49 = a.a14*b.a19 + a.a24*b.a29 + a.a34*b.a39 + a.a44*b.a49 + a.a54*b.a59 + a.a64*b.a69 + a.a74*b.a79 + a.a84*b.a89 + a.a94*b.a99;
+        c.a51 = a.a15*b.a11 + a.a25*b.a21 + a.a35*b.a31 + a.a45*b.a41 + a.a55*b.a51 + a.a65*b.a61 + a.a75*b.a71 + a.a85*b.a81 + a.a95*b.a91;
+        c.a52 = a.a15*b.a12 + a.a25*b.a22 + a.a35*b.a32 + a.a45*b.a42 + a.a55*b.a52 + a.a65*b.a62 + a.a75*b.a72 + a.a85*b.a82 + a.a95*b.a92;
+        c.a53 = a.a15*b.a13 + a.a25*b.a23 + a.a35*b.a33 + a.a45*b.a43 + a.a55*b.a53 + a.a65*b.a63 + a.a75*b.a73 + a.a85*b.a83 + a.a95*b.a93;
+        c.a54 = a.a15*b.a14 + a.a25*b.a24 + a.a35*b.a34 + a.a45*b.a44 + a.a55*b.a54 + a.a65*b.a64 + a.a75*b.a74 + a.a85*b.a84 + a.a95*b.a94;
+        c.a55 = a.a15*b.a15 + a.a25*b.a25 + a.a35*b.a35 + a.a45*b.a45 + a.a55*b.a55 + a.a65*b.a65 + a.a75*b.a75 + a.a85*b.a85 + a.a95*b.a95;
+        c.a56 = a.a15*b.a16 + a.a25*b.a26 + a.a35*b.a36 + a.a45*b.a46 + a.a55*b.a56 + a.a65*b.a66 + a.a75*b.a76 + a.a85*b.a86 + a.a95*b.a96;
+        c.a57 = a.a15*b.a17 + a.a25*b.a27 + a.a35*b.a37 + a.a45*b.a47 + a.a55*b.a57 + a.a65*b.a67 + a.a75*b.a77 + a.a85*b.a87 + a.a95*b.a97;
+        c.a58 = a.a15*b.a18 + a.a25*b.a28 + a.a35*b.a38 + a.a45*b.a48 + a.a55*b.a58 + a.a65*b.a68 + a.a75*b.a78 + a.a85*b.a88 + a.a95*b.a98;
+        c.a59 = a.a15*b.a19 + a.a25*b.a29 + a.a35*b.a39 + a.a45*b.a49 + a.a55*b.a59 + a.a65*b.a69 + a.a75*b.a79 + a.a85*b.a89 + a.a95*b.a99;
+        c.a61 = a.a16*b.a11 + a.a26*b.a21 + a.a36*b.a31 + a.a46*b.a41 + a.a56*b.a51 + a.a66*b.a61 + a.a76*b.a71 + a.a86*b.a81 + a.a96*b.a91;
+        c.a62 = a.a16*b.a12 + a.a26*b.a22 + a.a36*b.a32 + a.a46*b.a42 + a.a56*b.a52 + a.a66*b.a62 + a.a76*b.a72 + a.a86*b.a82 + a.a96*b.a92;
+        c.a63 = a.a16*b.a13 + a.a26*b.a23 + a.a36*b.a33 + a.a46*b.a43 + a.a56*b.a53 + a.a66*b.a63 + a.a76*b.a73 + a.a86*b.a83 + a.a96*b.a93;
+        c.a64 = a.a16*b.a14 + a.a26*b.a24 + a.a36*b.a34 + a.a46*b.a44 + a.a56*b.a54 + a.a66*b.a64 + a.a76*b.a74 + a.a86*b.a84 + a.a96*b.a94;
+        c.a65 = a.a16*b.a15 + a.a26*b.a25 + a.a36*b.a35 + a.a46*b.a45 + a.a56*b.a55 + a.a66*b.a65 + a.a76*b.a75 + a.a86*b.a85 + a.a96*b.a95;
+        c.a66 = a.a16*b.a16 + a.a26*b.a26 + a.a36*b.a36 + a.a46*b.a46 + a.a56*b.a56 + a.a66*b.a66 + a.a76*b.a76 + a.a86*b.a86 + a.a96*b.a96;
+        c.a67 = a.a16*b.a17 + a.a26*b.a27 + a.a36*b.a37 + a.a46*b.a47 + a.a56*b.a57 + a.a66*b.a67 + a.a76*b.a77 + a.a86*b.a87 + a.a96*b.a97;
+        c.a68 = a.a16*b.a18 + a.a26*b.a28 + a.a36*b.a38 + a.a46*b.a48 + a.a56*b.a58 + a.a66*b.a68 + a.a76*b.a78 + a.a86*b.a88 + a.a96*b.a98;
+        c.a69 = a.a16*b.a19 + a.a26*b.a29 + a.a36*b.a39 + a.a46*b.a49 + a.a56*b.a59 + a.a66*b.a69 + a.a76*b.a79 + a.a86*b.a89 + a.a96*b.a99;
+        c.a71 = a.a17*b.a11 + a.a27*b.a21 + a.a37*b.a31 + a.a47*b.a41 + a.a57*b.a51 + a.a67*b.a61 + a.a77*b.a71 + a.a87*b.a81 + a.a97*b.a91;
+        c.a72 = a.a17*b.a12 + a.a27*b.a22 + a.a37*b.a32 + a.a47*b.a42 + a.a57*b.a52 + a.a67*b.a62 + a.a77*b.a72 + a.a87*b.a82 + a.a97*b.a92;
+        c.a73 = a.a17*b.a13 + a.a27*b.a23 + a.a37*b.a33 + a.a47*b.a43 + a.a57*b.a53 + a.a67*b.a63 + a.a77*b.a73 + a.a87*b.a83 + a.a97*b.a93;
+        c.a74 = a.a17*b.a14 + a.a27*b.a24 + a.a37*b.a34 + a.a47*b.a44 + a.a57*b.a54 + a.a67*b.a64 + a.a77*b.a74 + a.a87*b.a84 + a.a97*b.a94;
+        c.a75 = a.a17*b.a15 + a.a27*b.a25 + a.a37*b.a35 + a.a47*b.a45 + a.a57*b.a55 + a.a67*b.a65 + a.a77*b.a75 + a.a87*b.a85 + a.a97*b.a95;
+        c.a76 = a.a17*b.a16 + a.a27*b.a26 + a.a37*b.a36 + a.a47*b.a46 + a.a57*b.a56 + a.a67*b.a66 + a.a77*b.a76 + a.a87*b.a86 + a.a97*b.a96;
+        c.a77 = a.a17*b.a17 + a.a27*b.a27 + a.a37*b.a37 + a.a47*b.a47 + a.a57*b.a57 + a.a67*b.a67 + a.a77*b.a77 + a.a87*b.a87 + a.a97*b.a97;
+        c.a78 = a.a17*b.a18 + a.a27*b.a28 + a.a37*b.a38 + a.a47*b.a48 + a.a57*b.a58 + a.a67*b.a68 + a.a77*b.a78 + a.a87*b.a88 + a.a97*b.a98;
+        c.a79 = a.a17*b.a19 + a.a27*b.a29 + a.a37*b.a39 + a.a47*b.a49 + a.a57*b.a59 + a.a67*b.a69 + a.a77*b.a79 + a.a87*b.a89 + a.a97*b.a99;
+        c.a81 = a.a18*b.a11 + a.a28*b.a21 + a.a38*b.a31 + a.a48*b.a41 + a.a58*b.a51 + a.a68*b.a61 + a.a78*b.a71 + a.a88*b.a81 + a.a98*b.a91;
+        c.a82 = a.a18*b.a12 + a.a28*b.a22 + a.a38*b.a32 + a.a48*b.a42 + a.a58*b.a52 + a.a68*b.a62 + a.a78*b.a72 + a.a88*b.a82 + a.a98*b.a92;
+        c.a83 = a.a18*b.a13 + a.a28*b.a23 + a.a38*b.a33 + a.a48*b.a43 + a.a58*b.a53 + a.a68*b.a63 + a.a78*b.a73 + a.a88*b.a83 + a.a98*b.a93;
+        c.a84 = a.a18*b.a14 + a.a28*b.a24 + a.a38*b.a34 + a.a48*b.a44 + a.a58*b.a54 + a.a68*b.a64 + a.a78*b.a74 + a.a88*b.a84 + a.a98*b.a94;
+        c.a85 = a.a18*b.a15 + a.a28*b.a25 + a.a38*b.a35 + a.a48*b.a45 + a.a58*b.a55 + a.a68*b.a65 + a.a78*b.a75 + a.a88*b.a85 + a.a98*b.a95;
+        c.a86 = a.a18*b.a16 + a.a28*b.a26 + a.a38*b.a36 + a.a48*b.a46 + a.a58*b.a56 + a.a68*b.a66 + a.a78*b.a76 + a.a88*b.a86 + a.a98*b.a96;
+        c.a87 = a.a18*b.a17 + a.a28*b.a27 + a.a38*b.a37 + a.a48*b.a47 + a.a58*b.a57 + a.a68*b.a67 + a.a78*b.a77 + a.a88*b.a87 + a.a98*b.a97;
+        c.a88 = a.a18*b.a18 + a.a28*b.a28 + a.a38*b.a38 + a.a48*b.a48 + a.a58*b.a58 + a.a68*b.a68 + a.a78*b.a78 + a.a88*b.a88 + a.a98*b.a98;
+        c.a89 = a.a18*b.a19 + a.a28*b.a29 + a.a38*b.a39 + a.a48*b.a49 + a.a58*b.a59 + a.a68*b.a69 + a.a78*b.a79 + a.a88*b.a89 + a.a98*b.a99;
+        c.a91 = a.a19*b.a11 + a.a29*b.a21 + a.a39*b.a31 + a.a49*b.a41 + a.a59*b.a51 + a.a69*b.a61 + a.a79*b.a71 + a.a89*b.a81 + a.a99*b.a91;
+        c.a92 = a.a19*b.a12 + a.a29*b.a22 + a.a39*b.a32 + a.a49*b.a42 + a.a59*b.a52 + a.a69*b.a62 + a.a79*b.a72 + a.a89*b.a82 + a.a99*b.a92;
+        c.a93 = a.a19*b.a13 + a.a29*b.a23 + a.a39*b.a33 + a.a49*b.a43 + a.a59*b.a53 + a.a69*b.a63 + a.a79*b.a73 + a.a89*b.a83 + a.a99*b.a93;
+        c.a94 = a.a19*b.a14 + a.a29*b.a24 + a.a39*b.a34 + a.a49*b.a44 + a.a59*b.a54 + a.a69*b.a64 + a.a79*b.a74 + a.a89*b.a84 + a.a99*b.a94;
+        c.a95 = a.a19*b.a15 + a.a29*b.a25 + a.a39*b.a35 + a.a49*b.a45 + a.a59*b.a55 + a.a69*b.a65 + a.a79*b.a75 + a.a89*b.a85 + a.a99*b.a95;
+        c.a96 = a.a19*b.a16 + a.a29*b.a26 + a.a39*b.a36 + a.a49*b.a46 + a.a59*b.a56 + a.a69*b.a66 + a.a79*b.a76 + a.a89*b.a86 + a.a99*b.a96;
+        c.a97 = a.a19*b.a17 + a.a29*b.a27 + a.a39*b.a37 + a.a49*b.a47 + a.a59*b.a57 + a.a69*b.a67 + a.a79*b.a77 + a.a89*b.a87 + a.a99*b.a97;
+        c.a98 = a.a19*b.a18 + a.a29*b.a28 + a.a39*b.a38 + a.a49*b.a48 + a.a59*b.a58 + a.a69*b.a68 + a.a79*b.a78 + a.a89*b.a88 + a.a99*b.a98;
+        c.a99 = a.a19*b.a19 + a.a29*b.a29 + a.a39*b.a39 + a.a49*b.a49 + a.a59*b.a59 + a.a69*b.a69 + a.a79*b.a79 + a.a89*b.a89 + a.a99*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c) {
+        c.a11 = a.a11*b.a11 + a.a21*b.a12 + a.a31*b.a13 + a.a41*b.a14 + a.a51*b.a15 + a.a61*b.a16 + a.a71*b.a17 + a.a81*b.a18 + a.a91*b.a19;
+        c.a12 = a.a11*b.a21 + a.a21*b.a22 + a.a31*b.a23 + a.a41*b.a24 + a.a51*b.a25 + a.a61*b.a26 + a.a71*b.a27 + a.a81*b.a28 + a.a91*b.a29;
+        c.a13 = a.a11*b.a31 + a.a21*b.a32 + a.a31*b.a33 + a.a41*b.a34 + a.a51*b.a35 + a.a61*b.a36 + a.a71*b.a37 + a.a81*b.a38 + a.a91*b.a39;
+        c.a14 = a.a11*b.a41 + a.a21*b.a42 + a.a31*b.a43 + a.a41*b.a44 + a.a51*b.a45 + a.a61*b.a46 + a.a71*b.a47 + a.a81*b.a48 + a.a91*b.a49;
+        c.a15 = a.a11*b.a51 + a.a21*b.a52 + a.a31*b.a53 + a.a41*b.a54 + a.a51*b.a55 + a.a61*b.a56 + a.a71*b.a57 + a.a81*b.a58 + a.a91*b.a59;
+        c.a16 = a.a11*b.a61 + a.a21*b.a62 + a.a31*b.a63 + a.a41*b.a64 + a.a51*b.a65 + a.a61*b.a66 + a.a71*b.a67 + a.a81*b.a68 + a.a91*b.a69;
+        c.a17 = a.a11*b.a71 + a.a21*b.a72 + a.a31*b.a73 + a.a41*b.a74 + a.a51*b.a75 + a.a61*b.a76 + a.a71*b.a77 + a.a81*b.a78 + a.a91*b.a79;
+        c.a18 = a.a11*b.a81 + a.a21*b.a82 + a.a31*b.a83 + a.a41*b.a84 + a.a51*b.a85 + a.a61*b.a86 + a.a71*b.a87 + a.a81*b.a88 + a.a91*b.a89;
+        c.a19 = a.a11*b.a91 + a.a21*b.a92 + a.a31*b.a93 + a.a41*b.a94 + a.a51*b.a95 + a.a61*b.a96 + a.a71*b.a97 + a.a81*b.a98 + a.a91*b.a99;
+        c.a21 = a.a12*b.a11 + a.a22*b.a12 + a.a32*b.a13 + a.a42*b.a14 + a.a52*b.a15 + a.a62*b.a16 + a.a72*b.a17 + a.a82*b.a18 + a.a92*b.a19;
+        c.a22 = a.a12*b.a21 + a.a22*b.a22 + a.a32*b.a23 + a.a42*b.a24 + a.a52*b.a25 + a.a62*b.a26 + a.a72*b.a27 + a.a82*b.a28 + a.a92*b.a29;
+        c.a23 = a.a12*b.a31 + a.a22*b.a32 + a.a32*b.a33 + a.a42*b.a34 + a.a52*b.a35 + a.a62*b.a36 + a.a72*b.a37 + a.a82*b.a38 + a.a92*b.a39;
+        c.a24 = a.a12*b.a41 + a.a22*b.a42 + a.a32*b.a43 + a.a42*b.a44 + a.a52*b.a45 + a.a62*b.a46 + a.a72*b.a47 + a.a82*b.a48 + a.a92*b.a49;
+        c.a25 = a.a12*b.a51 + a.a22*b.a52 + a.a32*b.a53 + a.a42*b.a54 + a.a52*b.a55 + a.a62*b.a56 + a.a72*b.a57 + a.a82*b.a58 + a.a92*b.a59;
+        c.a26 = a.a12*b.a61 + a.a22*b.a62 + a.a32*b.a63 + a.a42*b.a64 + a.a52*b.a65 + a.a62*b.a66 + a.a72*b.a67 + a.a82*b.a68 + a.a92*b.a69;
+        c.a27 = a.a12*b.a71 + a.a22*b.a72 + a.a32*b.a73 + a.a42*b.a74 + a.a52*b.a75 + a.a62*b.a76 + a.a72*b.a77 + a.a82*b.a78 + a.a92*b.a79;
+        c.a28 = a.a12*b.a81 + a.a22*b.a82 + a.a32*b.a83 + a.a42*b.a84 + a.a52*b.a85 + a.a62*b.a86 + a.a72*b.a87 + a.a82*b.a88 + a.a92*b.a89;
+        c.a29 = a.a12*b.a91 + a.a22*b.a92 + a.a32*b.a93 + a.a42*b.a94 + a.a52*b.a95 + a.a62*b.a96 + a.a72*b.a97 + a.a82*b.a98 + a.a92*b.a99;
+        c.a31 = a.a13*b.a11 + a.a23*b.a12 + a.a33*b.a13 + a.a43*b.a14 + a.a53*b.a15 + a.a63*b.a16 + a.a73*b.a17 + a.a83*b.a18 + a.a93*b.a19;
+        c.a32 = a.a13*b.a21 + a.a23*b.a22 + a.a33*b.a23 + a.a43*b.a24 + a.a53*b.a25 + a.a63*b.a26 + a.a73*b.a27 + a.a83*b.a28 + a.a93*b.a29;
+        c.a33 = a.a13*b.a31 + a.a23*b.a32 + a.a33*b.a33 + a.a43*b.a34 + a.a53*b.a35 + a.a63*b.a36 + a.a73*b.a37 + a.a83*b.a38 + a.a93*b.a39;
+        c.a34 = a.a13*b.a41 + a.a23*b.a42 + a.a33*b.a43 + a.a43*b.a44 + a.a53*b.a45 + a.a63*b.a46 + a.a73*b.a47 + a.a83*b.a48 + a.a93*b.a49;
+        c.a35 = a.a13*b.a51 + a.a23*b.a52 + a.a33*b.a53 + a.a43*b.a54 + a.a53*b.a55 + a.a63*b.a56 + a.a73*b.a57 + a.a83*b.a58 + a.a93*b.a59;
+        c.a36 = a.a13*b.a61 + a.a23*b.a62 + a.a33*b.a63 + a.a43*b.a64 + a.a53*b.a65 + a.a63*b.a66 + a.a73*b.a67 + a.a83*b.a68 + a.a93*b.a69;
+        c.a37 = a.a13*b.a71 + a.a23*b.a72 + a.a33*b.a73 + a.a43*b.a74 + a.a53*b.a75 + a.a63*b.a76 + a.a73*b.a77 + a.a83*b.a78 + a.a93*b.a79;
+        c.a38 = a.a13*b.a81 + a.a23*b.a82 + a.a33*b.a83 + a.a43*b.a84 + a.a53*b.a85 + a.a63*b.a86 + a.a73*b.a87 + a.a83*b.a88 + a.a93*b.a89;
+        c.a39 = a.a13*b.a91 + a.a23*b.a92 + a.a33*b.a93 + a.a43*b.a94 + a.a53*b.a95 + a.a63*b.a96 + a.a73*b.a97 + a.a83*b.a98 + a.a93*b.a99;
+        c.a41 = a.a14*b.a11 + a.a24*b.a12 + a.a34*b.a13 + a.a44*b.a14 + a.a54*b.a15 + a.a64*b.a16 + a.a74*b.a17 + a.a84*b.a18 + a.a94*b.a19;
+        c.a42 = a.a14*b.a21 + a.a24*b.a22 + a.a34*b.a23 + a.a44*b.a24 + a.a54*b.a25 + a.a64*b.a26 + a.a74*b.a27 + a.a84*b.a28 + a.a94*b.a29;
+        c.a43 = a.a14*b.a31 + a.a24*b.a32 + a.a34*b.a33 + a.a44*b.a34 + a.a54*b.a35 + a.a64*b.a36 + a.a74*b.a37 + a.a84*b.a38 + a.a94*b.a39;
+        c.a44 = a.a14*b.a41 + a.a24*b.a42 + a.a34*b.a43 + a.a44*b.a44 + a.a54*b.a45 + a.a64*b.a46 + a.a74*b.a47 + a.a84*b.a48 + a.a94*b.a49;
+        c.a45 = a.a14*b.a51 + a.a24*b.a52 + a.a34*b.a53 + a.a44*b.a54 + a.a54*b.a55 + a.a64*b.a56 + a.a74*b.a57 + a.a84*b.a58 + a.a94*b.a59;
+        c.a46 = a.a14*b.a61 + a.a24*b.a62 + a.a34*b.a63 + a.a44*b.a64 + a.a54*b.a65 + a.a64*b.a66 + a.a74*b.a67 + a.a84*b.a68 + a.a94*b.a69;
+        c.a47 = a.a14*b.a71 + a.a24*b.a72 + a.a34*b.a73 + a.a44*b.a74 + a.a54*b.a75 + a.a64*b.a76 + a.a74*b.a77 + a.a84*b.a78 + a.a94*b.a79;
+        c.a48 = a.a14*b.a81 + a.a24*b.a82 + a.a34*b.a83 + a.a44*b.a84 + a.a54*b.a85 + a.a64*b.a86 + a.a74*b.a87 + a.a84*b.a88 + a.a94*b.a89;
+        c.a49 = a.a14*b.a91 + a.a24*b.a92 + a.a34*b.a93 + a.a44*b.a94 + a.a54*b.a95 + a.a64*b.a96 + a.a74*b.a97 + a.a84*b.a98 + a.a94*b.a99;
+        c.a51 = a.a15*b.a11 + a.a25*b.a12 + a.a35*b.a13 + a.a45*b.a14 + a.a55*b.a15 + a.a65*b.a16 + a.a75*b.a17 + a.a85*b.a18 + a.a95*b.a19;
+        c.a52 = a.a15*b.a21 + a.a25*b.a22 + a.a35*b.a23 + a.a45*b.a24 + a.a55*b.a25 + a.a65*b.a26 + a.a75*b.a27 + a.a85*b.a28 + a.a95*b.a29;
+        c.a53 = a.a15*b.a31 + a.a25*b.a32 + a.a35*b.a33 + a.a45*b.a34 + a.a55*b.a35 + a.a65*b.a36 + a.a75*b.a37 + a.a85*b.a38 + a.a95*b.a39;
+        c.a54 = a.a15*b.a41 + a.a25*b.a42 + a.a35*b.a43 + a.a45*b.a44 + a.a55*b.a45 + a.a65*b.a46 + a.a75*b.a47 + a.a85*b.a48 + a.a95*b.a49;
+        c.a55 = a.a15*b.a51 + a.a25*b.a52 + a.a35*b.a53 + a.a45*b.a54 + a.a55*b.a55 + a.a65*b.a56 + a.a75*b.a57 + a.a85*b.a58 + a.a95*b.a59;
+        c.a56 = a.a15*b.a61 + a.a25*b.a62 + a.a35*b.a63 + a.a45*b.a64 + a.a55*b.a65 + a.a65*b.a66 + a.a75*b.a67 + a.a85*b.a68 + a.a95*b.a69;
+        c.a57 = a.a15*b.a71 + a.a25*b.a72 + a.a35*b.a73 + a.a45*b.a74 + a.a55*b.a75 + a.a65*b.a76 + a.a75*b.a77 + a.a85*b.a78 + a.a95*b.a79;
+        c.a58 = a.a15*b.a81 + a.a25*b.a82 + a.a35*b.a83 + a.a45*b.a84 + a.a55*b.a85 + a.a65*b.a86 + a.a75*b.a87 + a.a85*b.a88 + a.a95*b.a89;
+        c.a59 = a.a15*b.a91 + a.a25*b.a92 + a.a35*b.a93 + a.a45*b.a94 + a.a55*b.a95 + a.a65*b.a96 + a.a75*b.a97 + a.a85*b.a98 + a.a95*b.a99;
+        c.a61 = a.a16*b.a11 + a.a26*b.a12 + a.a36*b.a13 + a.a46*b.a14 + a.a56*b.a15 + a.a66*b.a16 + a.a76*b.a17 + a.a86*b.a18 + a.a96*b.a19;
+        c.a62 = a.a16*b.a21 + a.a26*b.a22 + a.a36*b.a23 + a.a46*b.a24 + a.a56*b.a25 + a.a66*b.a26 + a.a76*b.a27 + a.a86*b.a28 + a.a96*b.a29;
+        c.a63 = a.a16*b.a31 + a.a26*b.a32 + a.a36*b.a33 + a.a46*b.a34 + a.a56*b.a35 + a.a66*b.a36 + a.a76*b.a37 + a.a86*b.a38 + a.a96*b.a39;
+        c.a64 = a.a16*b.a41 + a.a26*b.a42 + a.a36*b.a43 + a.a46*b.a44 + a.a56*b.a45 + a.a66*b.a46 + a.a76*b.a47 + a.a86*b.a48 + a.a96*b.a49;
+        c.a65 = a.a16*b.a51 + a.a26*b.a52 + a.a36*b.a53 + a.a46*b.a54 + a.a56*b.a55 + a.a66*b.a56 + a.a76*b.a57 + a.a86*b.a58 + a.a96*b.a59;
+        c.a66 = a.a16*b.a61 + a.a26*b.a62 + a.a36*b.a63 + a.a46*b.a64 + a.a56*b.a65 + a.a66*b.a66 + a.a76*b.a67 + a.a86*b.a68 + a.a96*b.a69;
+        c.a67 = a.a16*b.a71 + a.a26*b.a72 + a.a36*b.a73 + a.a46*b.a74 + a.a56*b.a75 + a.a66*b.a76 + a.a76*b.a77 + a.a86*b.a78 + a.a96*b.a79;
+        c.a68 = a.a16*b.a81 + a.a26*b.a82 + a.a36*b.a83 + a.a46*b.a84 + a.a56*b.a85 + a.a66*b.a86 + a.a76*b.a87 + a.a86*b.a88 + a.a96*b.a89;
+        c.a69 = a.a16*b.a91 + a.a26*b.a92 + a.a36*b.a93 + a.a46*b.a94 + a.a56*b.a95 + a.a66*b.a96 + a.a76*b.a97 + a.a86*b.a98 + a.a96*b.a99;
+        c.a71 = a.a17*b.a11 + a.a27*b.a12 + a.a37*b.a13 + a.a47*b.a14 + a.a57*b.a15 + a.a67*b.a16 + a.a77*b.a17 + a.a87*b.a18 + a.a97*b.a19;
+        c.a72 = a.a17*b.a21 + a.a27*b.a22 + a.a37*b.a23 + a.a47*b.a24 + a.a57*b.a25 + a.a67*b.a26 + a.a77*b.a27 + a.a87*b.a28 + a.a97*b.a29;
+        c.a73 = a.a17*b.a31 + a.a27*b.a32 + a.a37*b.a33 + a.a47*b.a34 + a.a57*b.a35 + a.a67*b.a36 + a.a77*b.a37 + a.a87*b.a38 + a.a97*b.a39;
+        c.a74 = a.a17*b.a41 + a.a27*b.a42 + a.a37*b.a43 + a.a47*b.a44 + a.a57*b.a45 + a.a67*b.a46 + a.a77*b.a47 + a.a87*b.a48 + a.a97*b.a49;
+        c.a75 = a.a17*b.a51 + a.a27*b.a52 + a.a37*b.a53 + a.a47*b.a54 + a.a57*b.a55 + a.a67*b.a56 + a.a77*b.a57 + a.a87*b.a58 + a.a97*b.a59;
+        c.a76 = a.a17*b.a61 + a.a27*b.a62 + a.a37*b.a63 + a.a47*b.a64 + a.a57*b.a65 + a.a67*b.a66 + a.a77*b.a67 + a.a87*b.a68 + a.a97*b.a69;
+        c.a77 = a.a17*b.a71 + a.a27*b.a72 + a.a37*b.a73 + a.a47*b.a74 + a.a57*b.a75 + a.a67*b.a76 + a.a77*b.a77 + a.a87*b.a78 + a.a97*b.a79;
+        c.a78 = a.a17*b.a81 + a.a27*b.a82 + a.a37*b.a83 + a.a47*b.a84 + a.a57*b.a85 + a.a67*b.a86 + a.a77*b.a87 + a.a87*b.a88 + a.a97*b.a89;
+        c.a79 = a.a17*b.a91 + a.a27*b.a92 + a.a37*b.a93 + a.a47*b.a94 + a.a57*b.a95 + a.a67*b.a96 + a.a77*b.a97 + a.a87*b.a98 + a.a97*b.a99;
+        c.a81 = a.a18*b.a11 + a.a28*b.a12 + a.a38*b.a13 + a.a48*b.a14 + a.a58*b.a15 + a.a68*b.a16 + a.a78*b.a17 + a.a88*b.a18 + a.a98*b.a19;
+        c.a82 = a.a18*b.a21 + a.a28*b.a22 + a.a38*b.a23 + a.a48*b.a24 + a.a58*b.a25 + a.a68*b.a26 + a.a78*b.a27 + a.a88*b.a28 + a.a98*b.a29;
+        c.a83 = a.a18*b.a31 + a.a28*b.a32 + a.a38*b.a33 + a.a48*b.a34 + a.a58*b.a35 + a.a68*b.a36 + a.a78*b.a37 + a.a88*b.a38 + a.a98*b.a39;
+        c.a84 = a.a18*b.a41 + a.a28*b.a42 + a.a38*b.a43 + a.a48*b.a44 + a.a58*b.a45 + a.a68*b.a46 + a.a78*b.a47 + a.a88*b.a48 + a.a98*b.a49;
+        c.a85 = a.a18*b.a51 + a.a28*b.a52 + a.a38*b.a53 + a.a48*b.a54 + a.a58*b.a55 + a.a68*b.a56 + a.a78*b.a57 + a.a88*b.a58 + a.a98*b.a59;
+        c.a86 = a.a18*b.a61 + a.a28*b.a62 + a.a38*b.a63 + a.a48*b.a64 + a.a58*b.a65 + a.a68*b.a66 + a.a78*b.a67 + a.a88*b.a68 + a.a98*b.a69;
+        c.a87 = a.a18*b.a71 + a.a28*b.a72 + a.a38*b.a73 + a.a48*b.a74 + a.a58*b.a75 + a.a68*b.a76 + a.a78*b.a77 + a.a88*b.a78 + a.a98*b.a79;
+        c.a88 = a.a18*b.a81 + a.a28*b.a82 + a.a38*b.a83 + a.a48*b.a84 + a.a58*b.a85 + a.a68*b.a86 + a.a78*b.a87 + a.a88*b.a88 + a.a98*b.a89;
+        c.a89 = a.a18*b.a91 + a.a28*b.a92 + a.a38*b.a93 + a.a48*b.a94 + a.a58*b.a95 + a.a68*b.a96 + a.a78*b.a97 + a.a88*b.a98 + a.a98*b.a99;
+        c.a91 = a.a19*b.a11 + a.a29*b.a12 + a.a39*b.a13 + a.a49*b.a14 + a.a59*b.a15 + a.a69*b.a16 + a.a79*b.a17 + a.a89*b.a18 + a.a99*b.a19;
+        c.a92 = a.a19*b.a21 + a.a29*b.a22 + a.a39*b.a23 + a.a49*b.a24 + a.a59*b.a25 + a.a69*b.a26 + a.a79*b.a27 + a.a89*b.a28 + a.a99*b.a29;
+        c.a93 = a.a19*b.a31 + a.a29*b.a32 + a.a39*b.a33 + a.a49*b.a34 + a.a59*b.a35 + a.a69*b.a36 + a.a79*b.a37 + a.a89*b.a38 + a.a99*b.a39;
+        c.a94 = a.a19*b.a41 + a.a29*b.a42 + a.a39*b.a43 + a.a49*b.a44 + a.a59*b.a45 + a.a69*b.a46 + a.a79*b.a47 + a.a89*b.a48 + a.a99*b.a49;
+        c.a95 = a.a19*b.a51 + a.a29*b.a52 + a.a39*b.a53 + a.a49*b.a54 + a.a59*b.a55 + a.a69*b.a56 + a.a79*b.a57 + a.a89*b.a58 + a.a99*b.a59;
+        c.a96 = a.a19*b.a61 + a.a29*b.a62 + a.a39*b.a63 + a.a49*b.a64 + a.a59*b.a65 + a.a69*b.a66 + a.a79*b.a67 + a.a89*b.a68 + a.a99*b.a69;
+        c.a97 = a.a19*b.a71 + a.a29*b.a72 + a.a39*b.a73 + a.a49*b.a74 + a.a59*b.a75 + a.a69*b.a76 + a.a79*b.a77 + a.a89*b.a78 + a.a99*b.a79;
+        c.a98 = a.a19*b.a81 + a.a29*b.a82 + a.a39*b.a83 + a.a49*b.a84 + a.a59*b.a85 + a.a69*b.a86 + a.a79*b.a87 + a.a89*b.a88 + a.a99*b.a89;
+        c.a99 = a.a19*b.a91 + a.a29*b.a92 + a.a39*b.a93 + a.a49*b.a94 + a.a59*b.a95 + a.a69*b.a96 + a.a79*b.a97 + a.a89*b.a98 + a.a99*b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c) {
+        c.a11 = a.a11*b.a11 + a.a12*b.a12 + a.a13*b.a13 + a.a14*b.a14 + a.a15*b.a15 + a.a16*b.a16 + a.a17*b.a17 + a.a18*b.a18 + a.a19*b.a19;
+        c.a12 = a.a11*b.a21 + a.a12*b.a22 + a.a13*b.a23 + a.a14*b.a24 + a.a15*b.a25 + a.a16*b.a26 + a.a17*b.a27 + a.a18*b.a28 + a.a19*b.a29;
+        c.a13 = a.a11*b.a31 + a.a12*b.a32 + a.a13*b.a33 + a.a14*b.a34 + a.a15*b.a35 + a.a16*b.a36 + a.a17*b.a37 + a.a18*b.a38 + a.a19*b.a39;
+        c.a14 = a.a11*b.a41 + a.a12*b.a42 + a.a13*b.a43 + a.a14*b.a44 + a.a15*b.a45 + a.a16*b.a46 + a.a17*b.a47 + a.a18*b.a48 + a.a19*b.a49;
+        c.a15 = a.a11*b.a51 + a.a12*b.a52 + a.a13*b.a53 + a.a14*b.a54 + a.a15*b.a55 + a.a16*b.a56 + a.a17*b.a57 + a.a18*b.a58 + a.a19*b.a59;
+        c.a16 = a.a11*b.a61 + a.a12*b.a62 + a.a13*b.a63 + a.a14*b.a64 + a.a15*b.a65 + a.a16*b.a66 + a.a17*b.a67 + a.a18*b.a68 + a.a19*b.a69;
+        c.a17 = a.a11*b.a71 + a.a12*b.a72 + a.a13*b.a73 + a.a14*b.a74 + a.a15*b.a75 + a.a16*b.a76 + a.a17*b.a77 + a.a18*b.a78 + a.a19*b.a79;
+        c.a18 = a.a11*b.a81 + a.a12*b.a82 + a.a13*b.a83 + a.a14*b.a84 + a.a15*b.a85 + a.a16*b.a86 + a.a17*b.a87 + a.a18*b.a88 + a.a19*b.a89;
+        c.a19 = a.a11*b.a91 + a.a12*b.a92 + a.a13*b.a93 + a.a14*b.a94 + a.a15*b.a95 + a.a16*b.a96 + a.a17*b.a97 + a.a18*b.a98 + a.a19*b.a99;
+        c.a21 = a.a21*b.a11 + a.a22*b.a12 + a.a23*b.a13 + a.a24*b.a14 + a.a25*b.a15 + a.a26*b.a16 + a.a27*b.a17 + a.a28*b.a18 + a.a29*b.a19;
+        c.a22 = a.a21*b.a21 + a.a22*b.a22 + a.a23*b.a23 + a.a24*b.a24 + a.a25*b.a25 + a.a26*b.a26 + a.a27*b.a27 + a.a28*b.a28 + a.a29*b.a29;
+        c.a23 = a.a21*b.a31 + a.a22*b.a32 + a.a23*b.a33 + a.a24*b.a34 + a.a25*b.a35 + a.a26*b.a36 + a.a27*b.a37 + a.a28*b.a38 + a.a29*b.a39;
+        c.a24 = a.a21*b.a41 + a.a22*b.a42 + a.a23*b.a43 + a.a24*b.a44 + a.a25*b.a45 + a.a26*b.a46 + a.a27*b.a47 + a.a28*b.a48 + a.a29*b.a49;
+        c.a25 = a.a21*b.a51 + a.a22*b.a52 + a.a23*b.a53 + a.a24*b.a54 + a.a25*b.a55 + a.a26*b.a56 + a.a27*b.a57 + a.a28*b.a58 + a.a29*b.a59;
+        c.a26 = a.a21*b.a61 + a.a22*b.a62 + a.a23*b.a63 + a.a24*b.a64 + a.a25*b.a65 + a.a26*b.a66 + a.a27*b.a67 + a.a28*b.a68 + a.a29*b.a69;
+        c.a27 = a.a21*b.a71 + a.a22*b.a72 + a.a23*b.a73 + a.a24*b.a74 + a.a25*b.a75 + a.a26*b.a76 + a.a27*b.a77 + a.a28*b.a78 + a.a29*b.a79;
+        c.a28 = a.a21*b.a81 + a.a22*b.a82 + a.a23*b.a83 + a.a24*b.a84 + a.a25*b.a85 + a.a26*b.a86 + a.a27*b.a87 + a.a28*b.a88 + a.a29*b.a89;
+        c.a29 = a.a21*b.a91 + a.a22*b.a92 + a.a23*b.a93 + a.a24*b.a94 + a.a25*b.a95 + a.a26*b.a96 + a.a27*b.a97 + a.a28*b.a98 + a.a29*b.a99;
+        c.a31 = a.a31*b.a11 + a.a32*b.a12 + a.a33*b.a13 + a.a34*b.a14 + a.a35*b.a15 + a.a36*b.a16 + a.a37*b.a17 + a.a38*b.a18 + a.a39*b.a19;
+        c.a32 = a.a31*b.a21 + a.a32*b.a22 + a.a33*b.a23 + a.a34*b.a24 + a.a35*b.a25 + a.a36*b.a26 + a.a37*b.a27 + a.a38*b.a28 + a.a39*b.a29;
+        c.a33 = a.a31*b.a31 + a.a32*b.a32 + a.a33*b.a33 + a.a34*b.a34 + a.a35*b.a35 + a.a36*b.a36 + a.a37*b.a37 + a.a38*b.a38 + a.a39*b.a39;
+        c.a34 = a.a31*b.a41 + a.a32*b.a42 + a.a33*b.a43 + a.a34*b.a44 + a.a35*b.a45 + a.a36*b.a46 + a.a37*b.a47 + a.a38*b.a48 + a.a39*b.a49;
+        c.a35 = a.a31*b.a51 + a.a32*b.a52 + a.a33*b.a53 + a.a34*b.a54 + a.a35*b.a55 + a.a36*b.a56 + a.a37*b.a57 + a.a38*b.a58 + a.a39*b.a59;
+        c.a36 = a.a31*b.a61 + a.a32*b.a62 + a.a33*b.a63 + a.a34*b.a64 + a.a35*b.a65 + a.a36*b.a66 + a.a37*b.a67 + a.a38*b.a68 + a.a39*b.a69;
+        c.a37 = a.a31*b.a71 + a.a32*b.a72 + a.a33*b.a73 + a.a34*b.a74 + a.a35*b.a75 + a.a36*b.a76 + a.a37*b.a77 + a.a38*b.a78 + a.a39*b.a79;
+        c.a38 = a.a31*b.a81 + a.a32*b.a82 + a.a33*b.a83 + a.a34*b.a84 + a.a35*b.a85 + a.a36*b.a86 + a.a37*b.a87 + a.a38*b.a88 + a.a39*b.a89;
+        c.a39 = a.a31*b.a91 + a.a32*b.a92 + a.a33*b.a93 + a.a34*b.a94 + a.a35*b.a95 + a.a36*b.a96 + a.a37*b.a97 + a.a38*b.a98 + a.a39*b.a99;
+        c.a41 = a.a41*b.a11 + a.a42*b.a12 + a.a43*b.a13 + a.a44*b.a14 + a.a45*b.a15 + a.a46*b.a16 + a.a47*b.a17 + a.a48*b.a18 + a.a49*b.a19;
+        c.a42 = a.a41*b.a21 + a.a42*b.a22 + a.a43*b.a23 + a.a44*b.a24 + a.a45*b.a25 + a.a46*b.a26 + a.a47*b.a27 + a.a48*b.a28 + a.a49*b.a29;
+        c.a43 = a.a41*b.a31 + a.a42*b.a32 + a.a43*b.a33 + a.a44*b.a34 + a.a45*b.a35 + a.a46*b.a36 + a.a47*b.a37 + a.a48*b.a38 + a.a49*b.a39;
+        c.a44 = a.a41*b.a41 + a.a42*b.a42 + a.a43*b.a43 + a.a44*b.a44 + a.a45*b.a45 + a.a46*b.a46 + a.a47*b.a47 + a.a48*b.a48 + a.a49*b.a49;
+        c.a45 = a.a41*b.a51 + a.a42*b.a52 + a.a43*b.a53 + a.a44*b.a54 + a.a45*b.a55 + a.a46*b.a56 + a.a47*b.a57 + a.a48*b.a58 + a.a49*b.a59;
+        c.a46 = a.a41*b.a61 + a.a42*b.a62 + a.a43*b.a63 + a.a44*b.a64 + a.a45*b.a65 + a.a46*b.a66 + a.a47*b.a67 + a.a48*b.a68 + a.a49*b.a69;
+        c.a47 = a.a41*b.a71 + a.a42*b.a72 + a.a43*b.a73 + a.a44*b.a74 + a.a45*b.a75 + a.a46*b.a76 + a.a47*b.a77 + a.a48*b.a78 + a.a49*b.a79;
+        c.a48 = a.a41*b.a81 + a.a42*b.a82 + a.a43*b.a83 + a.a44*b.a84 + a.a45*b.a85 + a.a46*b.a86 + a.a47*b.a87 + a.a48*b.a88 + a.a49*b.a89;
+        c.a49 = a.a41*b.a91 + a.a42*b.a92 + a.a43*b.a93 + a.a44*b.a94 + a.a45*b.a95 + a.a46*b.a96 + a.a47*b.a97 + a.a48*b.a98 + a.a49*b.a99;
+        c.a51 = a.a51*b.a11 + a.a52*b.a12 + a.a53*b.a13 + a.a54*b.a14 + a.a55*b.a15 + a.a56*b.a16 + a.a57*b.a17 + a.a58*b.a18 + a.a59*b.a19;
+        c.a52 = a.a51*b.a21 + a.a52*b.a22 + a.a53*b.a23 + a.a54*b.a24 + a.a55*b.a25 + a.a56*b.a26 + a.a57*b.a27 + a.a58*b.a28 + a.a59*b.a29;
+        c.a53 = a.a51*b.a31 + a.a52*b.a32 + a.a53*b.a33 + a.a54*b.a34 + a.a55*b.a35 + a.a56*b.a36 + a.a57*b.a37 + a.a58*b.a38 + a.a59*b.a39;
+        c.a54 = a.a51*b.a41 + a.a52*b.a42 + a.a53*b.a43 + a.a54*b.a44 + a.a55*b.a45 + a.a56*b.a46 + a.a57*b.a47 + a.a58*b.a48 + a.a59*b.a49;
+        c.a55 = a.a51*b.a51 + a.a52*b.a52 + a.a53*b.a53 + a.a54*b.a54 + a.a55*b.a55 + a.a56*b.a56 + a.a57*b.a57 + a.a58*b.a58 + a.a59*b.a59;
+        c.a56 = a.a51*b.a61 + a.a52*b.a62 + a.a53*b.a63 + a.a54*b.a64 + a.a55*b.a65 + a.a56*b.a66 + a.a57*b.a67 + a.a58*b.a68 + a.a59*b.a69;
+        c.a57 = a.a51*b.a71 + a.a52*b.a72 + a.a53*b.a73 + a.a54*b.a74 + a.a55*b.a75 + a.a56*b.a76 + a.a57*b.a77 + a.a58*b.a78 + a.a59*b.a79;
+        c.a58 = a.a51*b.a81 + a.a52*b.a82 + a.a53*b.a83 + a.a54*b.a84 + a.a55*b.a85 + a.a56*b.a86 + a.a57*b.a87 + a.a58*b.a88 + a.a59*b.a89;
+        c.a59 = a.a51*b.a91 + a.a52*b.a92 + a.a53*b.a93 + a.a54*b.a94 + a.a55*b.a95 + a.a56*b.a96 + a.a57*b.a97 + a.a58*b.a98 + a.a59*b.a99;
+        c.a61 = a.a61*b.a11 + a.a62*b.a12 + a.a63*b.a13 + a.a64*b.a14 + a.a65*b.a15 + a.a66*b.a16 + a.a67*b.a17 + a.a68*b.a18 + a.a69*b.a19;
+        c.a62 = a.a61*b.a21 + a.a62*b.a22 + a.a63*b.a23 + a.a64*b.a24 + a.a65*b.a25 + a.a66*b.a26 + a.a67*b.a27 + a.a68*b.a28 + a.a69*b.a29;
+        c.a63 = a.a61*b.a31 + a.a62*b.a32 + a.a63*b.a33 + a.a64*b.a34 + a.a65*b.a35 + a.a66*b.a36 + a.a67*b.a37 + a.a68*b.a38 + a.a69*b.a39;
+        c.a64 = a.a61*b.a41 + a.a62*b.a42 + a.a63*b.a43 + a.a64*b.a44 + a.a65*b.a45 + a.a66*b.a46 + a.a67*b.a47 + a.a68*b.a48 + a.a69*b.a49;
+        c.a65 = a.a61*b.a51 + a.a62*b.a52 + a.a63*b.a53 + a.a64*b.a54 + a.a65*b.a55 + a.a66*b.a56 + a.a67*b.a57 + a.a68*b.a58 + a.a69*b.a59;
+        c.a66 = a.a61*b.a61 + a.a62*b.a62 + a.a63*b.a63 + a.a64*b.a64 + a.a65*b.a65 + a.a66*b.a66 + a.a67*b.a67 + a.a68*b.a68 + a.a69*b.a69;
+        c.a67 = a.a61*b.a71 + a.a62*b.a72 + a.a63*b.a73 + a.a64*b.a74 + a.a65*b.a75 + a.a66*b.a76 + a.a67*b.a77 + a.a68*b.a78 + a.a69*b.a79;
+        c.a68 = a.a61*b.a81 + a.a62*b.a82 + a.a63*b.a83 + a.a64*b.a84 + a.a65*b.a85 + a.a66*b.a86 + a.a67*b.a87 + a.a68*b.a88 + a.a69*b.a89;
+        c.a69 = a.a61*b.a91 + a.a62*b.a92 + a.a63*b.a93 + a.a64*b.a94 + a.a65*b.a95 + a.a66*b.a96 + a.a67*b.a97 + a.a68*b.a98 + a.a69*b.a99;
+        c.a71 = a.a71*b.a11 + a.a72*b.a12 + a.a73*b.a13 + a.a74*b.a14 + a.a75*b.a15 + a.a76*b.a16 + a.a77*b.a17 + a.a78*b.a18 + a.a79*b.a19;
+        c.a72 = a.a71*b.a21 + a.a72*b.a22 + a.a73*b.a23 + a.a74*b.a24 + a.a75*b.a25 + a.a76*b.a26 + a.a77*b.a27 + a.a78*b.a28 + a.a79*b.a29;
+        c.a73 = a.a71*b.a31 + a.a72*b.a32 + a.a73*b.a33 + a.a74*b.a34 + a.a75*b.a35 + a.a76*b.a36 + a.a77*b.a37 + a.a78*b.a38 + a.a79*b.a39;
+        c.a74 = a.a71*b.a41 + a.a72*b.a42 + a.a73*b.a43 + a.a74*b.a44 + a.a75*b.a45 + a.a76*b.a46 + a.a77*b.a47 + a.a78*b.a48 + a.a79*b.a49;
+        c.a75 = a.a71*b.a51 + a.a72*b.a52 + a.a73*b.a53 + a.a74*b.a54 + a.a75*b.a55 + a.a76*b.a56 + a.a77*b.a57 + a.a78*b.a58 + a.a79*b.a59;
+        c.a76 = a.a71*b.a61 + a.a72*b.a62 + a.a73*b.a63 + a.a74*b.a64 + a.a75*b.a65 + a.a76*b.a66 + a.a77*b.a67 + a.a78*b.a68 + a.a79*b.a69;
+        c.a77 = a.a71*b.a71 + a.a72*b.a72 + a.a73*b.a73 + a.a74*b.a74 + a.a75*b.a75 + a.a76*b.a76 + a.a77*b.a77 + a.a78*b.a78 + a.a79*b.a79;
+        c.a78 = a.a71*b.a81 + a.a72*b.a82 + a.a73*b.a83 + a.a74*b.a84 + a.a75*b.a85 + a.a76*b.a86 + a.a77*b.a87 + a.a78*b.a88 + a.a79*b.a89;
+        c.a79 = a.a71*b.a91 + a.a72*b.a92 + a.a73*b.a93 + a.a74*b.a94 + a.a75*b.a95 + a.a76*b.a96 + a.a77*b.a97 + a.a78*b.a98 + a.a79*b.a99;
+        c.a81 = a.a81*b.a11 + a.a82*b.a12 + a.a83*b.a13 + a.a84*b.a14 + a.a85*b.a15 + a.a86*b.a16 + a.a87*b.a17 + a.a88*b.a18 + a.a89*b.a19;
+        c.a82 = a.a81*b.a21 + a.a82*b.a22 + a.a83*b.a23 + a.a84*b.a24 + a.a85*b.a25 + a.a86*b.a26 + a.a87*b.a27 + a.a88*b.a28 + a.a89*b.a29;
+        c.a83 = a.a81*b.a31 + a.a82*b.a32 + a.a83*b.a33 + a.a84*b.a34 + a.a85*b.a35 + a.a86*b.a36 + a.a87*b.a37 + a.a88*b.a38 + a.a89*b.a39;
+        c.a84 = a.a81*b.a41 + a.a82*b.a42 + a.a83*b.a43 + a.a84*b.a44 + a.a85*b.a45 + a.a86*b.a46 + a.a87*b.a47 + a.a88*b.a48 + a.a89*b.a49;
+        c.a85 = a.a81*b.a51 + a.a82*b.a52 + a.a83*b.a53 + a.a84*b.a54 + a.a85*b.a55 + a.a86*b.a56 + a.a87*b.a57 + a.a88*b.a58 + a.a89*b.a59;
+        c.a86 = a.a81*b.a61 + a.a82*b.a62 + a.a83*b.a63 + a.a84*b.a64 + a.a85*b.a65 + a.a86*b.a66 + a.a87*b.a67 + a.a88*b.a68 + a.a89*b.a69;
+        c.a87 = a.a81*b.a71 + a.a82*b.a72 + a.a83*b.a73 + a.a84*b.a74 + a.a85*b.a75 + a.a86*b.a76 + a.a87*b.a77 + a.a88*b.a78 + a.a89*b.a79;
+        c.a88 = a.a81*b.a81 + a.a82*b.a82 + a.a83*b.a83 + a.a84*b.a84 + a.a85*b.a85 + a.a86*b.a86 + a.a87*b.a87 + a.a88*b.a88 + a.a89*b.a89;
+        c.a89 = a.a81*b.a91 + a.a82*b.a92 + a.a83*b.a93 + a.a84*b.a94 + a.a85*b.a95 + a.a86*b.a96 + a.a87*b.a97 + a.a88*b.a98 + a.a89*b.a99;
+        c.a91 = a.a91*b.a11 + a.a92*b.a12 + a.a93*b.a13 + a.a94*b.a14 + a.a95*b.a15 + a.a96*b.a16 + a.a97*b.a17 + a.a98*b.a18 + a.a99*b.a19;
+        c.a92 = a.a91*b.a21 + a.a92*b.a22 + a.a93*b.a23 + a.a94*b.a24 + a.a95*b.a25 + a.a96*b.a26 + a.a97*b.a27 + a.a98*b.a28 + a.a99*b.a29;
+        c.a93 = a.a91*b.a31 + a.a92*b.a32 + a.a93*b.a33 + a.a94*b.a34 + a.a95*b.a35 + a.a96*b.a36 + a.a97*b.a37 + a.a98*b.a38 + a.a99*b.a39;
+        c.a94 = a.a91*b.a41 + a.a92*b.a42 + a.a93*b.a43 + a.a94*b.a44 + a.a95*b.a45 + a.a96*b.a46 + a.a97*b.a47 + a.a98*b.a48 + a.a99*b.a49;
+        c.a95 = a.a91*b.a51 + a.a92*b.a52 + a.a93*b.a53 + a.a94*b.a54 + a.a95*b.a55 + a.a96*b.a56 + a.a97*b.a57 + a.a98*b.a58 + a.a99*b.a59;
+        c.a96 = a.a91*b.a61 + a.a92*b.a62 + a.a93*b.a63 + a.a94*b.a64 + a.a95*b.a65 + a.a96*b.a66 + a.a97*b.a67 + a.a98*b.a68 + a.a99*b.a69;
+        c.a97 = a.a91*b.a71 + a.a92*b.a72 + a.a93*b.a73 + a.a94*b.a74 + a.a95*b.a75 + a.a96*b.a76 + a.a97*b.a77 + a.a98*b.a78 + a.a99*b.a79;
+        c.a98 = a.a91*b.a81 + a.a92*b.a82 + a.a93*b.a83 + a.a94*b.a84 + a.a95*b.a85 + a.a96*b.a86 + a.a97*b.a87 + a.a98*b.a88 + a.a99*b.a89;
+        c.a99 = a.a91*b.a91 + a.a92*b.a92 + a.a93*b.a93 + a.a94*b.a94 + a.a95*b.a95 + a.a96*b.a96 + a.a97*b.a97 + a.a98*b.a98 + a.a99*b.a99;
+    }
+
+    /**
+     * <p>Performs matrix to vector multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>i</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>k</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right vector in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix9x9_64F a , FixedMatrix9_64F b , FixedMatrix9_64F c) {
+        c.a1 = a.a11*b.a1 + a.a12*b.a2 + a.a13*b.a3 + a.a14*b.a4 + a.a15*b.a5 + a.a16*b.a6 + a.a17*b.a7 + a.a18*b.a8 + a.a19*b.a9;
+        c.a2 = a.a21*b.a1 + a.a22*b.a2 + a.a23*b.a3 + a.a24*b.a4 + a.a25*b.a5 + a.a26*b.a6 + a.a27*b.a7 + a.a28*b.a8 + a.a29*b.a9;
+        c.a3 = a.a31*b.a1 + a.a32*b.a2 + a.a33*b.a3 + a.a34*b.a4 + a.a35*b.a5 + a.a36*b.a6 + a.a37*b.a7 + a.a38*b.a8 + a.a39*b.a9;
+        c.a4 = a.a41*b.a1 + a.a42*b.a2 + a.a43*b.a3 + a.a44*b.a4 + a.a45*b.a5 + a.a46*b.a6 + a.a47*b.a7 + a.a48*b.a8 + a.a49*b.a9;
+        c.a5 = a.a51*b.a1 + a.a52*b.a2 + a.a53*b.a3 + a.a54*b.a4 + a.a55*b.a5 + a.a56*b.a6 + a.a57*b.a7 + a.a58*b.a8 + a.a59*b.a9;
+        c.a6 = a.a61*b.a1 + a.a62*b.a2 + a.a63*b.a3 + a.a64*b.a4 + a.a65*b.a5 + a.a66*b.a6 + a.a67*b.a7 + a.a68*b.a8 + a.a69*b.a9;
+        c.a7 = a.a71*b.a1 + a.a72*b.a2 + a.a73*b.a3 + a.a74*b.a4 + a.a75*b.a5 + a.a76*b.a6 + a.a77*b.a7 + a.a78*b.a8 + a.a79*b.a9;
+        c.a8 = a.a81*b.a1 + a.a82*b.a2 + a.a83*b.a3 + a.a84*b.a4 + a.a85*b.a5 + a.a86*b.a6 + a.a87*b.a7 + a.a88*b.a8 + a.a89*b.a9;
+        c.a9 = a.a91*b.a1 + a.a92*b.a2 + a.a93*b.a3 + a.a94*b.a4 + a.a95*b.a5 + a.a96*b.a6 + a.a97*b.a7 + a.a98*b.a8 + a.a99*b.a9;
+    }
+
+    /**
+     * <p>Performs vector to matrix multiplication:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>j</sub> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>kj</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( FixedMatrix9_64F a , FixedMatrix9x9_64F b , FixedMatrix9_64F c) {
+        c.a1 = a.a1*b.a11 + a.a2*b.a21 + a.a3*b.a31 + a.a4*b.a41 + a.a5*b.a51 + a.a6*b.a61 + a.a7*b.a71 + a.a8*b.a81 + a.a9*b.a91;
+        c.a2 = a.a1*b.a12 + a.a2*b.a22 + a.a3*b.a32 + a.a4*b.a42 + a.a5*b.a52 + a.a6*b.a62 + a.a7*b.a72 + a.a8*b.a82 + a.a9*b.a92;
+        c.a3 = a.a1*b.a13 + a.a2*b.a23 + a.a3*b.a33 + a.a4*b.a43 + a.a5*b.a53 + a.a6*b.a63 + a.a7*b.a73 + a.a8*b.a83 + a.a9*b.a93;
+        c.a4 = a.a1*b.a14 + a.a2*b.a24 + a.a3*b.a34 + a.a4*b.a44 + a.a5*b.a54 + a.a6*b.a64 + a.a7*b.a74 + a.a8*b.a84 + a.a9*b.a94;
+        c.a5 = a.a1*b.a15 + a.a2*b.a25 + a.a3*b.a35 + a.a4*b.a45 + a.a5*b.a55 + a.a6*b.a65 + a.a7*b.a75 + a.a8*b.a85 + a.a9*b.a95;
+        c.a6 = a.a1*b.a16 + a.a2*b.a26 + a.a3*b.a36 + a.a4*b.a46 + a.a5*b.a56 + a.a6*b.a66 + a.a7*b.a76 + a.a8*b.a86 + a.a9*b.a96;
+        c.a7 = a.a1*b.a17 + a.a2*b.a27 + a.a3*b.a37 + a.a4*b.a47 + a.a5*b.a57 + a.a6*b.a67 + a.a7*b.a77 + a.a8*b.a87 + a.a9*b.a97;
+        c.a8 = a.a1*b.a18 + a.a2*b.a28 + a.a3*b.a38 + a.a4*b.a48 + a.a5*b.a58 + a.a6*b.a68 + a.a7*b.a78 + a.a8*b.a88 + a.a9*b.a98;
+        c.a9 = a.a1*b.a19 + a.a2*b.a29 + a.a3*b.a39 + a.a4*b.a49 + a.a5*b.a59 + a.a6*b.a69 + a.a7*b.a79 + a.a8*b.a89 + a.a9*b.a99;
+    }
+
+    /**
+     * <p>Performs the vector dot product:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c> = &sum;<sub>k=1:n</sub> { b<sub>k</sub> * a<sub>k</sub> }
+     * </p>
+     *
+     * @param a The left vector in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @return The dot product
+     */
+    public static double dot( FixedMatrix9_64F a , FixedMatrix9_64F b ) {
+        return a.a1*b.a1 + a.a2*b.a2 + a.a3*b.a3 + a.a4*b.a4 + a.a5*b.a5 + a.a6*b.a6 + a.a7*b.a7 + a.a8*b.a8 + a.a9*b.a9;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @param a A matrix.
+     */
+    public static void setIdentity( FixedMatrix9x9_64F a ) {
+        a.a11 = 1; a.a21 = 0; a.a31 = 0; a.a41 = 0; a.a51 = 0; a.a61 = 0; a.a71 = 0; a.a81 = 0; a.a91 = 0;
+        a.a12 = 0; a.a22 = 1; a.a32 = 0; a.a42 = 0; a.a52 = 0; a.a62 = 0; a.a72 = 0; a.a82 = 0; a.a92 = 0;
+        a.a13 = 0; a.a23 = 0; a.a33 = 1; a.a43 = 0; a.a53 = 0; a.a63 = 0; a.a73 = 0; a.a83 = 0; a.a93 = 0;
+        a.a14 = 0; a.a24 = 0; a.a34 = 0; a.a44 = 1; a.a54 = 0; a.a64 = 0; a.a74 = 0; a.a84 = 0; a.a94 = 0;
+        a.a15 = 0; a.a25 = 0; a.a35 = 0; a.a45 = 0; a.a55 = 1; a.a65 = 0; a.a75 = 0; a.a85 = 0; a.a95 = 0;
+        a.a16 = 0; a.a26 = 0; a.a36 = 0; a.a46 = 0; a.a56 = 0; a.a66 = 1; a.a76 = 0; a.a86 = 0; a.a96 = 0;
+        a.a17 = 0; a.a27 = 0; a.a37 = 0; a.a47 = 0; a.a57 = 0; a.a67 = 0; a.a77 = 1; a.a87 = 0; a.a97 = 0;
+        a.a18 = 0; a.a28 = 0; a.a38 = 0; a.a48 = 0; a.a58 = 0; a.a68 = 0; a.a78 = 0; a.a88 = 1; a.a98 = 0;
+        a.a19 = 0; a.a29 = 0; a.a39 = 0; a.a49 = 0; a.a59 = 0; a.a69 = 0; a.a79 = 0; a.a89 = 0; a.a99 = 1;
+    }
+
+    /**
+     * <p>
+     * Computes the Cholesky decomposition of a symmetric positive definite matrix, a = L*L<sup>T</sup>,
+     * where L is lower triangular.  Only the lower triangle of 'a' is read and the upper triangle
+     * of 'L' is set to zero.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Lower triangular matrix. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean cholL( FixedMatrix9x9_64F a , FixedMatrix9x9_64F L ) {
+        double l11 = a.a11;
+        if( !(l11 > 0) ) return false;
+        l11 = Math.sqrt(l11);
+        double inv1 = 1.0/l11;
+        double l21 = a.a21;
+        l21 *= inv1;
+        double l22 = a.a22 - l21*l21;
+        if( !(l22 > 0) ) return false;
+        l22 = Math.sqrt(l22);
+        double inv2 = 1.0/l22;
+        double l31 = a.a31;
+        l31 *= inv1;
+        double l32 = a.a32 - l31*l21;
+        l32 *= inv2;
+        double l33 = a.a33 - l31*l31 - l32*l32;
+        if( !(l33 > 0) ) return false;
+        l33 = Math.sqrt(l33);
+        double inv3 = 1.0/l33;
+        double l41 = a.a41;
+        l41 *= inv1;
+        double l42 = a.a42 - l41*l21;
+        l42 *= inv2;
+        double l43 = a.a43 - l41*l31 - l42*l32;
+        l43 *= inv3;
+        double l44 = a.a44 - l41*l41 - l42*l42 - l43*l43;
+        if( !(l44 > 0) ) return false;
+        l44 = Math.sqrt(l44);
+        double inv4 = 1.0/l44;
+        double l51 = a.a51;
+        l51 *= inv1;
+        double l52 = a.a52 - l51*l21;
+        l52 *= inv2;
+        double l53 = a.a53 - l51*l31 - l52*l32;
+        l53 *= inv3;
+        double l54 = a.a54 - l51*l41 - l52*l42 - l53*l43;
+        l54 *= inv4;
+        double l55 = a.a55 - l51*l51 - l52*l52 - l53*l53 - l54*l54;
+        if( !(l55 > 0) ) return false;
+        l55 = Math.sqrt(l55);
+        double inv5 = 1.0/l55;
+        double l61 = a.a61;
+        l61 *= inv1;
+        double l62 = a.a62 - l61*l21;
+        l62 *= inv2;
+        double l63 = a.a63 - l61*l31 - l62*l32;
+        l63 *= inv3;
+        double l64 = a.a64 - l61*l41 - l62*l42 - l63*l43;
+        l64 *= inv4;
+        double l65 = a.a65 - l61*l51 - l62*l52 - l63*l53 - l64*l54;
+        l65 *= inv5;
+        double l66 = a.a66 - l61*l61 - l62*l62 - l63*l63 - l64*l64 - l65*l65;
+        if( !(l66 > 0) ) return false;
+        l66 = Math.sqrt(l66);
+        double inv6 = 1.0/l66;
+        double l71 = a.a71;
+        l71 *= inv1;
+        double l72 = a.a72 - l71*l21;
+        l72 *= inv2;
+        double l73 = a.a73 - l71*l31 - l72*l32;
+        l73 *= inv3;
+        double l74 = a.a74 - l71*l41 - l72*l42 - l73*l43;
+        l74 *= inv4;
+        double l75 = a.a75 - l71*l51 - l72*l52 - l73*l53 - l74*l54;
+        l75 *= inv5;
+        double l76 = a.a76 - l71*l61 - l72*l62 - l73*l63 - l74*l64 - l75*l65;
+        l76 *= inv6;
+        double l77 = a.a77 - l71*l71 - l72*l72 - l73*l73 - l74*l74 - l75*l75 - l76*l76;
+        if( !(l77 > 0) ) return false;
+        l77 = Math.sqrt(l77);
+        double inv7 = 1.0/l77;
+        double l81 = a.a81;
+        l81 *= inv1;
+        double l82 = a.a82 - l81*l21;
+        l82 *= inv2;
+        double l83 = a.a83 - l81*l31 - l82*l32;
+        l83 *= inv3;
+        double l84 = a.a84 - l81*l41 - l82*l42 - l83*l43;
+        l84 *= inv4;
+        double l85 = a.a85 - l81*l51 - l82*l52 - l83*l53 - l84*l54;
+        l85 *= inv5;
+        double l86 = a.a86 - l81*l61 - l82*l62 - l83*l63 - l84*l64 - l85*l65;
+        l86 *= inv6;
+        double l87 = a.a87 - l81*l71 - l82*l72 - l83*l73 - l84*l74 - l85*l75 - l86*l76;
+        l87 *= inv7;
+        double l88 = a.a88 - l81*l81 - l82*l82 - l83*l83 - l84*l84 - l85*l85 - l86*l86 - l87*l87;
+        if( !(l88 > 0) ) return false;
+        l88 = Math.sqrt(l88);
+        double inv8 = 1.0/l88;
+        double l91 = a.a91;
+        l91 *= inv1;
+        double l92 = a.a92 - l91*l21;
+        l92 *= inv2;
+        double l93 = a.a93 - l91*l31 - l92*l32;
+        l93 *= inv3;
+        double l94 = a.a94 - l91*l41 - l92*l42 - l93*l43;
+        l94 *= inv4;
+        double l95 = a.a95 - l91*l51 - l92*l52 - l93*l53 - l94*l54;
+        l95 *= inv5;
+        double l96 = a.a96 - l91*l61 - l92*l62 - l93*l63 - l94*l64 - l95*l65;
+        l96 *= inv6;
+        double l97 = a.a97 - l91*l71 - l92*l72 - l93*l73 - l94*l74 - l95*l75 - l96*l76;
+        l97 *= inv7;
+        double l98 = a.a98 - l91*l81 - l92*l82 - l93*l83 - l94*l84 - l95*l85 - l96*l86 - l97*l87;
+        l98 *= inv8;
+        double l99 = a.a99 - l91*l91 - l92*l92 - l93*l93 - l94*l94 - l95*l95 - l96*l96 - l97*l97 - l98*l98;
+        if( !(l99 > 0) ) return false;
+        l99 = Math.sqrt(l99);
+
+        L.a11 = l11; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0; L.a17 = 0; L.a18 = 0; L.a19 = 0;
+        L.a21 = l21; L.a22 = l22; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0; L.a27 = 0; L.a28 = 0; L.a29 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = l33; L.a34 = 0; L.a35 = 0; L.a36 = 0; L.a37 = 0; L.a38 = 0; L.a39 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = l44; L.a45 = 0; L.a46 = 0; L.a47 = 0; L.a48 = 0; L.a49 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = l55; L.a56 = 0; L.a57 = 0; L.a58 = 0; L.a59 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = l66; L.a67 = 0; L.a68 = 0; L.a69 = 0;
+        L.a71 = l71; L.a72 = l72; L.a73 = l73; L.a74 = l74; L.a75 = l75; L.a76 = l76; L.a77 = l77; L.a78 = 0; L.a79 = 0;
+        L.a81 = l81; L.a82 = l82; L.a83 = l83; L.a84 = l84; L.a85 = l85; L.a86 = l86; L.a87 = l87; L.a88 = l88; L.a89 = 0;
+        L.a91 = l91; L.a92 = l92; L.a93 = l93; L.a94 = l94; L.a95 = l95; L.a96 = l96; L.a97 = l97; L.a98 = l98; L.a99 = l99;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*L<sup>T</sup>*x = b, where L was computed by
+     * {@link #cholL}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Lower triangular matrix from the Cholesky decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveCholL( FixedMatrix9x9_64F L , FixedMatrix9_64F b , FixedMatrix9_64F x ) {
+        double y1 = (b.a1)/L.a11;
+        double y2 = (b.a2 - L.a21*y1)/L.a22;
+        double y3 = (b.a3 - L.a31*y1 - L.a32*y2)/L.a33;
+        double y4 = (b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3)/L.a44;
+        double y5 = (b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4)/L.a55;
+        double y6 = (b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5)/L.a66;
+        double y7 = (b.a7 - L.a71*y1 - L.a72*y2 - L.a73*y3 - L.a74*y4 - L.a75*y5 - L.a76*y6)/L.a77;
+        double y8 = (b.a8 - L.a81*y1 - L.a82*y2 - L.a83*y3 - L.a84*y4 - L.a85*y5 - L.a86*y6 - L.a87*y7)/L.a88;
+        double y9 = (b.a9 - L.a91*y1 - L.a92*y2 - L.a93*y3 - L.a94*y4 - L.a95*y5 - L.a96*y6 - L.a97*y7 - L.a98*y8)/L.a99;
+
+        double x9 = (y9)/L.a99;
+        double x8 = (y8 - L.a98*x9)/L.a88;
+        double x7 = (y7 - L.a87*x8 - L.a97*x9)/L.a77;
+        double x6 = (y6 - L.a76*x7 - L.a86*x8 - L.a96*x9)/L.a66;
+        double x5 = (y5 - L.a65*x6 - L.a75*x7 - L.a85*x8 - L.a95*x9)/L.a55;
+        double x4 = (y4 - L.a54*x5 - L.a64*x6 - L.a74*x7 - L.a84*x8 - L.a94*x9)/L.a44;
+        double x3 = (y3 - L.a43*x4 - L.a53*x5 - L.a63*x6 - L.a73*x7 - L.a83*x8 - L.a93*x9)/L.a33;
+        double x2 = (y2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6 - L.a72*x7 - L.a82*x8 - L.a92*x9)/L.a22;
+        double x1 = (y1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6 - L.a71*x7 - L.a81*x8 - L.a91*x9)/L.a11;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+        x.a8 = x8;
+        x.a9 = x9;
+    }
+
+    /**
+     * <p>
+     * Computes the LDL decomposition of a symmetric positive definite matrix, a = L*D*L<sup>T</sup>,
+     * where L is lower triangular with ones along its diagonal and D is a diagonal matrix.  Only the
+     * lower triangle of 'a' is read and the upper triangle of 'L' is set to zero.  Unlike
+     * {@link #cholL} no square roots are computed.
+     * </p>
+     *
+     * <p>
+     * Matrix L can be the same instance as Matrix A.
+     * </p>
+     *
+     * @param a Symmetric positive definite matrix. Not modified.
+     * @param L Unit lower triangular matrix. Modified.
+     * @param d The elements along the diagonal of D. Modified.
+     * @return true if successful or false if the matrix is not positive definite.
+     */
+    public static boolean ldl( FixedMatrix9x9_64F a , FixedMatrix9x9_64F L , FixedMatrix9_64F d ) {
+        double d1 = a.a11;
+        if( !(d1 > 0) ) return false;
+        double l21 = a.a21;
+        double p21 = l21;
+        l21 /= d1;
+        double d2 = a.a22 - l21*p21;
+        if( !(d2 > 0) ) return false;
+        double l31 = a.a31;
+        double p31 = l31;
+        l31 /= d1;
+        double l32 = a.a32 - l31*p21;
+        double p32 = l32;
+        l32 /= d2;
+        double d3 = a.a33 - l31*p31 - l32*p32;
+        if( !(d3 > 0) ) return false;
+        double l41 = a.a41;
+        double p41 = l41;
+        l41 /= d1;
+        double l42 = a.a42 - l41*p21;
+        double p42 = l42;
+        l42 /= d2;
+        double l43 = a.a43 - l41*p31 - l42*p32;
+        double p43 = l43;
+        l43 /= d3;
+        double d4 = a.a44 - l41*p41 - l42*p42 - l43*p43;
+        if( !(d4 > 0) ) return false;
+        double l51 = a.a51;
+        double p51 = l51;
+        l51 /= d1;
+        double l52 = a.a52 - l51*p21;
+        double p52 = l52;
+        l52 /= d2;
+        double l53 = a.a53 - l51*p31 - l52*p32;
+        double p53 = l53;
+        l53 /= d3;
+        double l54 = a.a54 - l51*p41 - l52*p42 - l53*p43;
+        double p54 = l54;
+        l54 /= d4;
+        double d5 = a.a55 - l51*p51 - l52*p52 - l53*p53 - l54*p54;
+        if( !(d5 > 0) ) return false;
+        double l61 = a.a61;
+        double p61 = l61;
+        l61 /= d1;
+        double l62 = a.a62 - l61*p21;
+        double p62 = l62;
+        l62 /= d2;
+        double l63 = a.a63 - l61*p31 - l62*p32;
+        double p63 = l63;
+        l63 /= d3;
+        double l64 = a.a64 - l61*p41 - l62*p42 - l63*p43;
+        double p64 = l64;
+        l64 /= d4;
+        double l65 = a.a65 - l61*p51 - l62*p52 - l63*p53 - l64*p54;
+        double p65 = l65;
+        l65 /= d5;
+        double d6 = a.a66 - l61*p61 - l62*p62 - l63*p63 - l64*p64 - l65*p65;
+        if( !(d6 > 0) ) return false;
+        double l71 = a.a71;
+        double p71 = l71;
+        l71 /= d1;
+        double l72 = a.a72 - l71*p21;
+        double p72 = l72;
+        l72 /= d2;
+        double l73 = a.a73 - l71*p31 - l72*p32;
+        double p73 = l73;
+        l73 /= d3;
+        double l74 = a.a74 - l71*p41 - l72*p42 - l73*p43;
+        double p74 = l74;
+        l74 /= d4;
+        double l75 = a.a75 - l71*p51 - l72*p52 - l73*p53 - l74*p54;
+        double p75 = l75;
+        l75 /= d5;
+        double l76 = a.a76 - l71*p61 - l72*p62 - l73*p63 - l74*p64 - l75*p65;
+        double p76 = l76;
+        l76 /= d6;
+        double d7 = a.a77 - l71*p71 - l72*p72 - l73*p73 - l74*p74 - l75*p75 - l76*p76;
+        if( !(d7 > 0) ) return false;
+        double l81 = a.a81;
+        double p81 = l81;
+        l81 /= d1;
+        double l82 = a.a82 - l81*p21;
+        double p82 = l82;
+        l82 /= d2;
+        double l83 = a.a83 - l81*p31 - l82*p32;
+        double p83 = l83;
+        l83 /= d3;
+        double l84 = a.a84 - l81*p41 - l82*p42 - l83*p43;
+        double p84 = l84;
+        l84 /= d4;
+        double l85 = a.a85 - l81*p51 - l82*p52 - l83*p53 - l84*p54;
+        double p85 = l85;
+        l85 /= d5;
+        double l86 = a.a86 - l81*p61 - l82*p62 - l83*p63 - l84*p64 - l85*p65;
+        double p86 = l86;
+        l86 /= d6;
+        double l87 = a.a87 - l81*p71 - l82*p72 - l83*p73 - l84*p74 - l85*p75 - l86*p76;
+        double p87 = l87;
+        l87 /= d7;
+        double d8 = a.a88 - l81*p81 - l82*p82 - l83*p83 - l84*p84 - l85*p85 - l86*p86 - l87*p87;
+        if( !(d8 > 0) ) return false;
+        double l91 = a.a91;
+        double p91 = l91;
+        l91 /= d1;
+        double l92 = a.a92 - l91*p21;
+        double p92 = l92;
+        l92 /= d2;
+        double l93 = a.a93 - l91*p31 - l92*p32;
+        double p93 = l93;
+        l93 /= d3;
+        double l94 = a.a94 - l91*p41 - l92*p42 - l93*p43;
+        double p94 = l94;
+        l94 /= d4;
+        double l95 = a.a95 - l91*p51 - l92*p52 - l93*p53 - l94*p54;
+        double p95 = l95;
+        l95 /= d5;
+        double l96 = a.a96 - l91*p61 - l92*p62 - l93*p63 - l94*p64 - l95*p65;
+        double p96 = l96;
+        l96 /= d6;
+        double l97 = a.a97 - l91*p71 - l92*p72 - l93*p73 - l94*p74 - l95*p75 - l96*p76;
+        double p97 = l97;
+        l97 /= d7;
+        double l98 = a.a98 - l91*p81 - l92*p82 - l93*p83 - l94*p84 - l95*p85 - l96*p86 - l97*p87;
+        double p98 = l98;
+        l98 /= d8;
+        double d9 = a.a99 - l91*p91 - l92*p92 - l93*p93 - l94*p94 - l95*p95 - l96*p96 - l97*p97 - l98*p98;
+        if( !(d9 > 0) ) return false;
+
+        L.a11 = 1; L.a12 = 0; L.a13 = 0; L.a14 = 0; L.a15 = 0; L.a16 = 0; L.a17 = 0; L.a18 = 0; L.a19 = 0;
+        L.a21 = l21; L.a22 = 1; L.a23 = 0; L.a24 = 0; L.a25 = 0; L.a26 = 0; L.a27 = 0; L.a28 = 0; L.a29 = 0;
+        L.a31 = l31; L.a32 = l32; L.a33 = 1; L.a34 = 0; L.a35 = 0; L.a36 = 0; L.a37 = 0; L.a38 = 0; L.a39 = 0;
+        L.a41 = l41; L.a42 = l42; L.a43 = l43; L.a44 = 1; L.a45 = 0; L.a46 = 0; L.a47 = 0; L.a48 = 0; L.a49 = 0;
+        L.a51 = l51; L.a52 = l52; L.a53 = l53; L.a54 = l54; L.a55 = 1; L.a56 = 0; L.a57 = 0; L.a58 = 0; L.a59 = 0;
+        L.a61 = l61; L.a62 = l62; L.a63 = l63; L.a64 = l64; L.a65 = l65; L.a66 = 1; L.a67 = 0; L.a68 = 0; L.a69 = 0;
+        L.a71 = l71; L.a72 = l72; L.a73 = l73; L.a74 = l74; L.a75 = l75; L.a76 = l76; L.a77 = 1; L.a78 = 0; L.a79 = 0;
+        L.a81 = l81; L.a82 = l82; L.a83 = l83; L.a84 = l84; L.a85 = l85; L.a86 = l86; L.a87 = l87; L.a88 = 1; L.a89 = 0;
+        L.a91 = l91; L.a92 = l92; L.a93 = l93; L.a94 = l94; L.a95 = l95; L.a96 = l96; L.a97 = l97; L.a98 = l98; L.a99 = 1;
+        d.a1 = d1;
+        d.a2 = d2;
+        d.a3 = d3;
+        d.a4 = d4;
+        d.a5 = d5;
+        d.a6 = d6;
+        d.a7 = d7;
+        d.a8 = d8;
+        d.a9 = d9;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Solves for x in the linear system L*D*L<sup>T</sup>*x = b, where L and d were computed by
+     * {@link #ldl}.
+     * </p>
+     *
+     * <p>
+     * Vector x can be the same instance as Vector b.
+     * </p>
+     *
+     * @param L Unit lower triangular matrix from the LDL decomposition. Not modified.
+     * @param d Diagonal elements from the LDL decomposition. Not modified.
+     * @param b A vector. Not modified.
+     * @param x Where the solution is stored. Modified.
+     */
+    public static void solveLDL( FixedMatrix9x9_64F L , FixedMatrix9_64F d , FixedMatrix9_64F b , FixedMatrix9_64F x ) {
+        double y1 = b.a1;
+        double y2 = b.a2 - L.a21*y1;
+        double y3 = b.a3 - L.a31*y1 - L.a32*y2;
+        double y4 = b.a4 - L.a41*y1 - L.a42*y2 - L.a43*y3;
+        double y5 = b.a5 - L.a51*y1 - L.a52*y2 - L.a53*y3 - L.a54*y4;
+        double y6 = b.a6 - L.a61*y1 - L.a62*y2 - L.a63*y3 - L.a64*y4 - L.a65*y5;
+        double y7 = b.a7 - L.a71*y1 - L.a72*y2 - L.a73*y3 - L.a74*y4 - L.a75*y5 - L.a76*y6;
+        double y8 = b.a8 - L.a81*y1 - L.a82*y2 - L.a83*y3 - L.a84*y4 - L.a85*y5 - L.a86*y6 - L.a87*y7;
+        double y9 = b.a9 - L.a91*y1 - L.a92*y2 - L.a93*y3 - L.a94*y4 - L.a95*y5 - L.a96*y6 - L.a97*y7 - L.a98*y8;
+
+        double x9 = y9/d.a9;
+        double x8 = y8/d.a8 - L.a98*x9;
+        double x7 = y7/d.a7 - L.a87*x8 - L.a97*x9;
+        double x6 = y6/d.a6 - L.a76*x7 - L.a86*x8 - L.a96*x9;
+        double x5 = y5/d.a5 - L.a65*x6 - L.a75*x7 - L.a85*x8 - L.a95*x9;
+        double x4 = y4/d.a4 - L.a54*x5 - L.a64*x6 - L.a74*x7 - L.a84*x8 - L.a94*x9;
+        double x3 = y3/d.a3 - L.a43*x4 - L.a53*x5 - L.a63*x6 - L.a73*x7 - L.a83*x8 - L.a93*x9;
+        double x2 = y2/d.a2 - L.a32*x3 - L.a42*x4 - L.a52*x5 - L.a62*x6 - L.a72*x7 - L.a82*x8 - L.a92*x9;
+        double x1 = y1/d.a1 - L.a21*x2 - L.a31*x3 - L.a41*x4 - L.a51*x5 - L.a61*x6 - L.a71*x7 - L.a81*x8 - L.a91*x9;
+
+        x.a1 = x1;
+        x.a2 = x2;
+        x.a3 = x3;
+        x.a4 = x4;
+        x.a5 = x5;
+        x.a6 = x6;
+        x.a7 = x7;
+        x.a8 = x8;
+        x.a9 = x9;
+    }
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix.  Not modified.
+     */
+    public static double trace( FixedMatrix9x9_64F a ) {
+        return a.a11 + a.a21 + a.a31 + a.a41 + a.a51 + a.a61 + a.a71 + a.a81 + a.a91;
+    }
+
+    /**
+     * <p>
+     * Extracts all diagonal elements from 'input' and places them inside the 'out' vector. Elements
+     * are in sequential order.
+     * </p>
+     *
+     *
+     * @param input Matrix.  Not modified.
+     * @param out Vector containing diagonal elements.  Modified.
+     */
+    public static void diag( FixedMatrix9x9_64F input , FixedMatrix9_64F out ) {
+        out.a1 = input.a11;
+        out.a2 = input.a22;
+        out.a3 = input.a33;
+        out.a4 = input.a44;
+        out.a5 = input.a55;
+        out.a6 = input.a66;
+        out.a7 = input.a77;
+        out.a8 = input.a88;
+        out.a9 = input.a99;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMax( FixedMatrix9x9_64F a ) {
+        double max = a.a11;
+        max = Math.max(max,a.a12);
+        max = Math.max(max,a.a13);
+        max = Math.max(max,a.a14);
+        max = Math.max(max,a.a15);
+        max = Math.max(max,a.a16);
+        max = Math.max(max,a.a17);
+        max = Math.max(max,a.a18);
+        max = Math.max(max,a.a19);
+        max = Math.max(max,a.a21);
+        max = Math.max(max,a.a22);
+        max = Math.max(max,a.a23);
+        max = Math.max(max,a.a24);
+        max = Math.max(max,a.a25);
+        max = Math.max(max,a.a26);
+        max = Math.max(max,a.a27);
+        max = Math.max(max,a.a28);
+        max = Math.max(max,a.a29);
+        max = Math.max(max,a.a31);
+        max = Math.max(max,a.a32);
+        max = Math.max(max,a.a33);
+        max = Math.max(max,a.a34);
+        max = Math.max(max,a.a35);
+        max = Math.max(max,a.a36);
+        max = Math.max(max,a.a37);
+        max = Math.max(max,a.a38);
+        max = Math.max(max,a.a39);
+        max = Math.max(max,a.a41);
+        max = Math.max(max,a.a42);
+        max = Math.max(max,a.a43);
+        max = Math.max(max,a.a44);
+        max = Math.max(max,a.a45);
+        max = Math.max(max,a.a46);
+        max = Math.max(max,a.a47);
+        max = Math.max(max,a.a48);
+        max = Math.max(max,a.a49);
+        max = Math.max(max,a.a51);
+        max = Math.max(max,a.a52);
+        max = Math.max(max,a.a53);
+        max = Math.max(max,a.a54);
+        max = Math.max(max,a.a55);
+        max = Math.max(max,a.a56);
+        max = Math.max(max,a.a57);
+        max = Math.max(max,a.a58);
+        max = Math.max(max,a.a59);
+        max = Math.max(max,a.a61);
+        max = Math.max(max,a.a62);
+        max = Math.max(max,a.a63);
+        max = Math.max(max,a.a64);
+        max = Math.max(max,a.a65);
+        max = Math.max(max,a.a66);
+        max = Math.max(max,a.a67);
+        max = Math.max(max,a.a68);
+        max = Math.max(max,a.a69);
+        max = Math.max(max,a.a71);
+        max = Math.max(max,a.a72);
+        max = Math.max(max,a.a73);
+        max = Math.max(max,a.a74);
+        max = Math.max(max,a.a75);
+        max = Math.max(max,a.a76);
+        max = Math.max(max,a.a77);
+        max = Math.max(max,a.a78);
+        max = Math.max(max,a.a79);
+        max = Math.max(max,a.a81);
+        max = Math.max(max,a.a82);
+        max = Math.max(max,a.a83);
+        max = Math.max(max,a.a84);
+        max = Math.max(max,a.a85);
+        max = Math.max(max,a.a86);
+        max = Math.max(max,a.a87);
+        max = Math.max(max,a.a88);
+        max = Math.max(max,a.a89);
+        max = Math.max(max,a.a91);
+        max = Math.max(max,a.a92);
+        max = Math.max(max,a.a93);
+        max = Math.max(max,a.a94);
+        max = Math.max(max,a.a95);
+        max = Math.max(max,a.a96);
+        max = Math.max(max,a.a97);
+        max = Math.max(max,a.a98);
+        max = Math.max(max,a.a99);
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static double elementMaxAbs( FixedMatrix9x9_64F a ) {
+        double max = Math.abs(a.a11);
+        max = Math.max(max,Math.abs(a.a12));
+        max = Math.max(max,Math.abs(a.a13));
+        max = Math.max(max,Math.abs(a.a14));
+        max = Math.max(max,Math.abs(a.a15));
+        max = Math.max(max,Math.abs(a.a16));
+        max = Math.max(max,Math.abs(a.a17));
+        max = Math.max(max,Math.abs(a.a18));
+        max = Math.max(max,Math.abs(a.a19));
+        max = Math.max(max,Math.abs(a.a21));
+        max = Math.max(max,Math.abs(a.a22));
+        max = Math.max(max,Math.abs(a.a23));
+        max = Math.max(max,Math.abs(a.a24));
+        max = Math.max(max,Math.abs(a.a25));
+        max = Math.max(max,Math.abs(a.a26));
+        max = Math.max(max,Math.abs(a.a27));
+        max = Math.max(max,Math.abs(a.a28));
+        max = Math.max(max,Math.abs(a.a29));
+        max = Math.max(max,Math.abs(a.a31));
+        max = Math.max(max,Math.abs(a.a32));
+        max = Math.max(max,Math.abs(a.a33));
+        max = Math.max(max,Math.abs(a.a34));
+        max = Math.max(max,Math.abs(a.a35));
+        max = Math.max(max,Math.abs(a.a36));
+        max = Math.max(max,Math.abs(a.a37));
+        max = Math.max(max,Math.abs(a.a38));
+        max = Math.max(max,Math.abs(a.a39));
+        max = Math.max(max,Math.abs(a.a41));
+        max = Math.max(max,Math.abs(a.a42));
+        max = Math.max(max,Math.abs(a.a43));
+        max = Math.max(max,Math.abs(a.a44));
+        max = Math.max(max,Math.abs(a.a45));
+        max = Math.max(max,Math.abs(a.a46));
+        max = Math.max(max,Math.abs(a.a47));
+        max = Math.max(max,Math.abs(a.a48));
+        max = Math.max(max,Math.abs(a.a49));
+        max = Math.max(max,Math.abs(a.a51));
+        max = Math.max(max,Math.abs(a.a52));
+        max = Math.max(max,Math.abs(a.a53));
+        max = Math.max(max,Math.abs(a.a54));
+        max = Math.max(max,Math.abs(a.a55));
+        max = Math.max(max,Math.abs(a.a56));
+        max = Math.max(max,Math.abs(a.a57));
+        max = Math.max(max,Math.abs(a.a58));
+        max = Math.max(max,Math.abs(a.a59));
+        max = Math.max(max,Math.abs(a.a61));
+        max = Math.max(max,Math.abs(a.a62));
+        max = Math.max(max,Math.abs(a.a63));
+        max = Math.max(max,Math.abs(a.a64));
+        max = Math.max(max,Math.abs(a.a65));
+        max = Math.max(max,Math.abs(a.a66));
+        max = Math.max(max,Math.abs(a.a67));
+        max = Math.max(max,Math.abs(a.a68));
+        max = Math.max(max,Math.abs(a.a69));
+        max = Math.max(max,Math.abs(a.a71));
+        max = Math.max(max,Math.abs(a.a72));
+        max = Math.max(max,Math.abs(a.a73));
+        max = Math.max(max,Math.abs(a.a74));
+        max = Math.max(max,Math.abs(a.a75));
+        max = Math.max(max,Math.abs(a.a76));
+        max = Math.max(max,Math.abs(a.a77));
+        max = Math.max(max,Math.abs(a.a78));
+        max = Math.max(max,Math.abs(a.a79));
+        max = Math.max(max,Math.abs(a.a81));
+        max = Math.max(max,Math.abs(a.a82));
+        max = Math.max(max,Math.abs(a.a83));
+        max = Math.max(max,Math.abs(a.a84));
+        max = Math.max(max,Math.abs(a.a85));
+        max = Math.max(max,Math.abs(a.a86));
+        max = Math.max(max,Math.abs(a.a87));
+        max = Math.max(max,Math.abs(a.a88));
+        max = Math.max(max,Math.abs(a.a89));
+        max = Math.max(max,Math.abs(a.a91));
+        max = Math.max(max,Math.abs(a.a92));
+        max = Math.max(max,Math.abs(a.a93));
+        max = Math.max(max,Math.abs(a.a94));
+        max = Math.max(max,Math.abs(a.a95));
+        max = Math.max(max,Math.abs(a.a96));
+        max = Math.max(max,Math.abs(a.a97));
+        max = Math.max(max,Math.abs(a.a98));
+        max = Math.max(max,Math.abs(a.a99));
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static double elementMin( FixedMatrix9x9_64F a ) {
+        double min = a.a11;
+        min = Math.min(min,a.a12);
+        min = Math.min(min,a.a13);
+        min = Math.min(min,a.a14);
+        min = Math.min(min,a.a15);
+        min = Math.min(min,a.a16);
+        min = Math.min(min,a.a17);
+        min = Math.min(min,a.a18);
+        min = Math.min(min,a.a19);
+        min = Math.min(min,a.a21);
+        min = Math.min(min,a.a22);
+        min = Math.min(min,a.a23);
+        min = Math.min(min,a.a24);
+        min = Math.min(min,a.a25);
+        min = Math.min(min,a.a26);
+        min = Math.min(min,a.a27);
+        min = Math.min(min,a.a28);
+        min = Math.min(min,a.a29);
+        min = Math.min(min,a.a31);
+        min = Math.min(min,a.a32);
+        min = Math.min(min,a.a33);
+        min = Math.min(min,a.a34);
+        min = Math.min(min,a.a35);
+        min = Math.min(min,a.a36);
+        min = Math.min(min,a.a37);
+        min = Math.min(min,a.a38);
+        min = Math.min(min,a.a39);
+        min = Math.min(min,a.a41);
+        min = Math.min(min,a.a42);
+        min = Math.min(min,a.a43);
+        min = Math.min(min,a.a44);
+        min = Math.min(min,a.a45);
+        min = Math.min(min,a.a46);
+        min = Math.min(min,a.a47);
+        min = Math.min(min,a.a48);
+        min = Math.min(min,a.a49);
+        min = Math.min(min,a.a51);
+        min = Math.min(min,a.a52);
+        min = Math.min(min,a.a53);
+        min = Math.min(min,a.a54);
+        min = Math.min(min,a.a55);
+        min = Math.min(min,a.a56);
+        min = Math.min(min,a.a57);
+        min = Math.min(min,a.a58);
+        min = Math.min(min,a.a59);
+        min = Math.min(min,a.a61);
+        min = Math.min(min,a.a62);
+        min = Math.min(min,a.a63);
+        min = Math.min(min,a.a64);
+        min = Math.min(min,a.a65);
+        min = Math.min(min,a.a66);
+        min = Math.min(min,a.a67);
+        min = Math.min(min,a.a68);
+        min = Math.min(min,a.a69);
+        min = Math.min(min,a.a71);
+        min = Math.min(min,a.a72);
+        min = Math.min(min,a.a73);
+        min = Math.min(min,a.a74);
+        min = Math.min(min,a.a75);
+        min = Math.min(min,a.a76);
+        min = Math.min(min,a.a77);
+        min = Math.min(min,a.a78);
+        min = Math.min(min,a.a79);
+        min = Math.min(min,a.a81);
+        min = Math.min(min,a.a82);
+        min = Math.min(min,a.a83);
+        min = Math.min(min,a.a84);
+        min = Math.min(min,a.a85);
+        min = Math.min(min,a.a86);
+        min = Math.min(min,a.a87);
+        min = Math.min(min,a.a88);
+        min = Math.min(min,a.a89);
+        min = Math.min(min,a.a91);
+        min = Math.min(min,a.a92);
+        min = Math.min(min,a.a93);
+        min = Math.min(min,a.a94);
+        min = Math.min(min,a.a95);
+        min = Math.min(min,a.a96);
+        min = Math.min(min,a.a97);
+        min = Math.min(min,a.a98);
+        min = Math.min(min,a.a99);
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static double elementMinAbs( FixedMatrix9x9_64F a ) {
+        double min = Math.abs(a.a11);
+        min = Math.min(min,Math.abs(a.a12));
+        min = Math.min(min,Math.abs(a.a13));
+        min = Math.min(min,Math.abs(a.a14));
+        min = Math.min(min,Math.abs(a.a15));
+        min = Math.min(min,Math.abs(a.a16));
+        min = Math.min(min,Math.abs(a.a17));
+        min = Math.min(min,Math.abs(a.a18));
+        min = Math.min(min,Math.abs(a.a19));
+        min = Math.min(min,Math.abs(a.a21));
+        min = Math.min(min,Math.abs(a.a22));
+        min = Math.min(min,Math.abs(a.a23));
+        min = Math.min(min,Math.abs(a.a24));
+        min = Math.min(min,Math.abs(a.a25));
+        min = Math.min(min,Math.abs(a.a26));
+        min = Math.min(min,Math.abs(a.a27));
+        min = Math.min(min,Math.abs(a.a28));
+        min = Math.min(min,Math.abs(a.a29));
+        min = Math.min(min,Math.abs(a.a31));
+        min = Math.min(min,Math.abs(a.a32));
+        min = Math.min(min,Math.abs(a.a33));
+        min = Math.min(min,Math.abs(a.a34));
+        min = Math.min(min,Math.abs(a.a35));
+        min = Math.min(min,Math.abs(a.a36));
+        min = Math.min(min,Math.abs(a.a37));
+        min = Math.min(min,Math.abs(a.a38));
+        min = Math.min(min,Math.abs(a.a39));
+        min = Math.min(min,Math.abs(a.a41));
+        min = Math.min(min,Math.abs(a.a42));
+        min = Math.min(min,Math.abs(a.a43));
+        min = Math.min(min,Math.abs(a.a44));
+        min = Math.min(min,Math.abs(a.a45));
+        min = Math.min(min,Math.abs(a.a46));
+        min = Math.min(min,Math.abs(a.a47));
+        min = Math.min(min,Math.abs(a.a48));
+        min = Math.min(min,Math.abs(a.a49));
+        min = Math.min(min,Math.abs(a.a51));
+        min = Math.min(min,Math.abs(a.a52));
+        min = Math.min(min,Math.abs(a.a53));
+        min = Math.min(min,Math.abs(a.a54));
+        min = Math.min(min,Math.abs(a.a55));
+        min = Math.min(min,Math.abs(a.a56));
+        min = Math.min(min,Math.abs(a.a57));
+        min = Math.min(min,Math.abs(a.a58));
+        min = Math.min(min,Math.abs(a.a59));
+        min = Math.min(min,Math.abs(a.a61));
+        min = Math.min(min,Math.abs(a.a62));
+        min = Math.min(min,Math.abs(a.a63));
+        min = Math.min(min,Math.abs(a.a64));
+        min = Math.min(min,Math.abs(a.a65));
+        min = Math.min(min,Math.abs(a.a66));
+        min = Math.min(min,Math.abs(a.a67));
+        min = Math.min(min,Math.abs(a.a68));
+        min = Math.min(min,Math.abs(a.a69));
+        min = Math.min(min,Math.abs(a.a71));
+        min = Math.min(min,Math.abs(a.a72));
+        min = Math.min(min,Math.abs(a.a73));
+        min = Math.min(min,Math.abs(a.a74));
+        min = Math.min(min,Math.abs(a.a75));
+        min = Math.min(min,Math.abs(a.a76));
+        min = Math.min(min,Math.abs(a.a77));
+        min = Math.min(min,Math.abs(a.a78));
+        min = Math.min(min,Math.abs(a.a79));
+        min = Math.min(min,Math.abs(a.a81));
+        min = Math.min(min,Math.abs(a.a82));
+        min = Math.min(min,Math.abs(a.a83));
+        min = Math.min(min,Math.abs(a.a84));
+        min = Math.min(min,Math.abs(a.a85));
+        min = Math.min(min,Math.abs(a.a86));
+        min = Math.min(min,Math.abs(a.a87));
+        min = Math.min(min,Math.abs(a.a88));
+        min = Math.min(min,Math.abs(a.a89));
+        min = Math.min(min,Math.abs(a.a91));
+        min = Math.min(min,Math.abs(a.a92));
+        min = Math.min(min,Math.abs(a.a93));
+        min = Math.min(min,Math.abs(a.a94));
+        min = Math.min(min,Math.abs(a.a95));
+        min = Math.min(min,Math.abs(a.a96));
+        min = Math.min(min,Math.abs(a.a97));
+        min = Math.min(min,Math.abs(a.a98));
+        min = Math.min(min,Math.abs(a.a99));
+
+        return min;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b) {
+        a.a11 *= b.a11; a.a12 *= b.a12; a.a13 *= b.a13; a.a14 *= b.a14; a.a15 *= b.a15; a.a16 *= b.a16; a.a17 *= b.a17; a.a18 *= b.a18; a.a19 *= b.a19;
+        a.a21 *= b.a21; a.a22 *= b.a22; a.a23 *= b.a23; a.a24 *= b.a24; a.a25 *= b.a25; a.a26 *= b.a26; a.a27 *= b.a27; a.a28 *= b.a28; a.a29 *= b.a29;
+        a.a31 *= b.a31; a.a32 *= b.a32; a.a33 *= b.a33; a.a34 *= b.a34; a.a35 *= b.a35; a.a36 *= b.a36; a.a37 *= b.a37; a.a38 *= b.a38; a.a39 *= b.a39;
+        a.a41 *= b.a41; a.a42 *= b.a42; a.a43 *= b.a43; a.a44 *= b.a44; a.a45 *= b.a45; a.a46 *= b.a46; a.a47 *= b.a47; a.a48 *= b.a48; a.a49 *= b.a49;
+        a.a51 *= b.a51; a.a52 *= b.a52; a.a53 *= b.a53; a.a54 *= b.a54; a.a55 *= b.a55; a.a56 *= b.a56; a.a57 *= b.a57; a.a58 *= b.a58; a.a59 *= b.a59;
+        a.a61 *= b.a61; a.a62 *= b.a62; a.a63 *= b.a63; a.a64 *= b.a64; a.a65 *= b.a65; a.a66 *= b.a66; a.a67 *= b.a67; a.a68 *= b.a68; a.a69 *= b.a69;
+        a.a71 *= b.a71; a.a72 *= b.a72; a.a73 *= b.a73; a.a74 *= b.a74; a.a75 *= b.a75; a.a76 *= b.a76; a.a77 *= b.a77; a.a78 *= b.a78; a.a79 *= b.a79;
+        a.a81 *= b.a81; a.a82 *= b.a82; a.a83 *= b.a83; a.a84 *= b.a84; a.a85 *= b.a85; a.a86 *= b.a86; a.a87 *= b.a87; a.a88 *= b.a88; a.a89 *= b.a89;
+        a.a91 *= b.a91; a.a92 *= b.a92; a.a93 *= b.a93; a.a94 *= b.a94; a.a95 *= b.a95; a.a96 *= b.a96; a.a97 *= b.a97; a.a98 *= b.a98; a.a99 *= b.a99;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c ) {
+        c.a11 = a.a11*b.a11; c.a12 = a.a12*b.a12; c.a13 = a.a13*b.a13; c.a14 = a.a14*b.a14; c.a15 = a.a15*b.a15; c.a16 = a.a16*b.a16; c.a17 = a.a17*b.a17; c.a18 = a.a18*b.a18; c.a19 = a.a19*b.a19;
+        c.a21 = a.a21*b.a21; c.a22 = a.a22*b.a22; c.a23 = a.a23*b.a23; c.a24 = a.a24*b.a24; c.a25 = a.a25*b.a25; c.a26 = a.a26*b.a26; c.a27 = a.a27*b.a27; c.a28 = a.a28*b.a28; c.a29 = a.a29*b.a29;
+        c.a31 = a.a31*b.a31; c.a32 = a.a32*b.a32; c.a33 = a.a33*b.a33; c.a34 = a.a34*b.a34; c.a35 = a.a35*b.a35; c.a36 = a.a36*b.a36; c.a37 = a.a37*b.a37; c.a38 = a.a38*b.a38; c.a39 = a.a39*b.a39;
+        c.a41 = a.a41*b.a41; c.a42 = a.a42*b.a42; c.a43 = a.a43*b.a43; c.a44 = a.a44*b.a44; c.a45 = a.a45*b.a45; c.a46 = a.a46*b.a46; c.a47 = a.a47*b.a47; c.a48 = a.a48*b.a48; c.a49 = a.a49*b.a49;
+        c.a51 = a.a51*b.a51; c.a52 = a.a52*b.a52; c.a53 = a.a53*b.a53; c.a54 = a.a54*b.a54; c.a55 = a.a55*b.a55; c.a56 = a.a56*b.a56; c.a57 = a.a57*b.a57; c.a58 = a.a58*b.a58; c.a59 = a.a59*b.a59;
+        c.a61 = a.a61*b.a61; c.a62 = a.a62*b.a62; c.a63 = a.a63*b.a63; c.a64 = a.a64*b.a64; c.a65 = a.a65*b.a65; c.a66 = a.a66*b.a66; c.a67 = a.a67*b.a67; c.a68 = a.a68*b.a68; c.a69 = a.a69*b.a69;
+        c.a71 = a.a71*b.a71; c.a72 = a.a72*b.a72; c.a73 = a.a73*b.a73; c.a74 = a.a74*b.a74; c.a75 = a.a75*b.a75; c.a76 = a.a76*b.a76; c.a77 = a.a77*b.a77; c.a78 = a.a78*b.a78; c.a79 = a.a79*b.a79;
+        c.a81 = a.a81*b.a81; c.a82 = a.a82*b.a82; c.a83 = a.a83*b.a83; c.a84 = a.a84*b.a84; c.a85 = a.a85*b.a85; c.a86 = a.a86*b.a86; c.a87 = a.a87*b.a87; c.a88 = a.a88*b.a88; c.a89 = a.a89*b.a89;
+        c.a91 = a.a91*b.a91; c.a92 = a.a92*b.a92; c.a93 = a.a93*b.a93; c.a94 = a.a94*b.a94; c.a95 = a.a95*b.a95; c.a96 = a.a96*b.a96; c.a97 = a.a97*b.a97; c.a98 = a.a98*b.a98; c.a99 = a.a99*b.a99;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b) {
+        a.a11 /= b.a11; a.a12 /= b.a12; a.a13 /= b.a13; a.a14 /= b.a14; a.a15 /= b.a15; a.a16 /= b.a16; a.a17 /= b.a17; a.a18 /= b.a18; a.a19 /= b.a19;
+        a.a21 /= b.a21; a.a22 /= b.a22; a.a23 /= b.a23; a.a24 /= b.a24; a.a25 /= b.a25; a.a26 /= b.a26; a.a27 /= b.a27; a.a28 /= b.a28; a.a29 /= b.a29;
+        a.a31 /= b.a31; a.a32 /= b.a32; a.a33 /= b.a33; a.a34 /= b.a34; a.a35 /= b.a35; a.a36 /= b.a36; a.a37 /= b.a37; a.a38 /= b.a38; a.a39 /= b.a39;
+        a.a41 /= b.a41; a.a42 /= b.a42; a.a43 /= b.a43; a.a44 /= b.a44; a.a45 /= b.a45; a.a46 /= b.a46; a.a47 /= b.a47; a.a48 /= b.a48; a.a49 /= b.a49;
+        a.a51 /= b.a51; a.a52 /= b.a52; a.a53 /= b.a53; a.a54 /= b.a54; a.a55 /= b.a55; a.a56 /= b.a56; a.a57 /= b.a57; a.a58 /= b.a58; a.a59 /= b.a59;
+        a.a61 /= b.a61; a.a62 /= b.a62; a.a63 /= b.a63; a.a64 /= b.a64; a.a65 /= b.a65; a.a66 /= b.a66; a.a67 /= b.a67; a.a68 /= b.a68; a.a69 /= b.a69;
+        a.a71 /= b.a71; a.a72 /= b.a72; a.a73 /= b.a73; a.a74 /= b.a74; a.a75 /= b.a75; a.a76 /= b.a76; a.a77 /= b.a77; a.a78 /= b.a78; a.a79 /= b.a79;
+        a.a81 /= b.a81; a.a82 /= b.a82; a.a83 /= b.a83; a.a84 /= b.a84; a.a85 /= b.a85; a.a86 /= b.a86; a.a87 /= b.a87; a.a88 /= b.a88; a.a89 /= b.a89;
+        a.a91 /= b.a91; a.a92 /= b.a92; a.a93 /= b.a93; a.a94 /= b.a94; a.a95 /= b.a95; a.a96 /= b.a96; a.a97 /= b.a97; a.a98 /= b.a98; a.a99 /= b.a99;
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( FixedMatrix9x9_64F a , FixedMatrix9x9_64F b , FixedMatrix9x9_64F c ) {
+        c.a11 = a.a11/b.a11; c.a12 = a.a12/b.a12; c.a13 = a.a13/b.a13; c.a14 = a.a14/b.a14; c.a15 = a.a15/b.a15; c.a16 = a.a16/b.a16; c.a17 = a.a17/b.a17; c.a18 = a.a18/b.a18; c.a19 = a.a19/b.a19;
+        c.a21 = a.a21/b.a21; c.a22 = a.a22/b.a22; c.a23 = a.a23/b.a23; c.a24 = a.a24/b.a24; c.a25 = a.a25/b.a25; c.a26 = a.a26/b.a26; c.a27 = a.a27/b.a27; c.a28 = a.a28/b.a28; c.a29 = a.a29/b.a29;
+        c.a31 = a.a31/b.a31; c.a32 = a.a32/b.a32; c.a33 = a.a33/b.a33; c.a34 = a.a34/b.a34; c.a35 = a.a35/b.a35; c.a36 = a.a36/b.a36; c.a37 = a.a37/b.a37; c.a38 = a.a38/b.a38; c.a39 = a.a39/b.a39;
+        c.a41 = a.a41/b.a41; c.a42 = a.a42/b.a42; c.a43 = a.a43/b.a43; c.a44 = a.a44/b.a44; c.a45 = a.a45/b.a45; c.a46 = a.a46/b.a46; c.a47 = a.a47/b.a47; c.a48 = a.a48/b.a48; c.a49 = a.a49/b.a49;
+        c.a51 = a.a51/b.a51; c.a52 = a.a52/b.a52; c.a53 = a.a53/b.a53; c.a54 = a.a54/b.a54; c.a55 = a.a55/b.a55; c.a56 = a.a56/b.a56; c.a57 = a.a57/b.a57; c.a58 = a.a58/b.a58; c.a59 = a.a59/b.a59;
+        c.a61 = a.a61/b.a61; c.a62 = a.a62/b.a62; c.a63 = a.a63/b.a63; c.a64 = a.a64/b.a64; c.a65 = a.a65/b.a65; c.a66 = a.a66/b.a66; c.a67 = a.a67/b.a67; c.a68 = a.a68/b.a68; c.a69 = a.a69/b.a69;
+        c.a71 = a.a71/b.a71; c.a72 = a.a72/b.a72; c.a73 = a.a73/b.a73; c.a74 = a.a74/b.a74; c.a75 = a.a75/b.a75; c.a76 = a.a76/b.a76; c.a77 = a.a77/b.a77; c.a78 = a.a78/b.a78; c.a79 = a.a79/b.a79;
+        c.a81 = a.a81/b.a81; c.a82 = a.a82/b.a82; c.a83 = a.a83/b.a83; c.a84 = a.a84/b.a84; c.a85 = a.a85/b.a85; c.a86 = a.a86/b.a86; c.a87 = a.a87/b.a87; c.a88 = a.a88/b.a88; c.a89 = a.a89/b.a89;
+        c.a91 = a.a91/b.a91; c.a92 = a.a92/b.a92; c.a93 = a.a93/b.a93; c.a94 = a.a94/b.a94; c.a95 = a.a95/b.a95; c.a96 = a.a96/b.a96; c.a97 = a.a97/b.a97; c.a98 = a.a98/b.a98; c.a99 = a.a99/b.a99;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled.  Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( double alpha , FixedMatrix9x9_64F a ) {
+        a.a11 *= alpha; a.a12 *= alpha; a.a13 *= alpha; a.a14 *= alpha; a.a15 *= alpha; a.a16 *= alpha; a.a17 *= alpha; a.a18 *= alpha; a.a19 *= alpha;
+        a.a21 *= alpha; a.a22 *= alpha; a.a23 *= alpha; a.a24 *= alpha; a.a25 *= alpha; a.a26 *= alpha; a.a27 *= alpha; a.a28 *= alpha; a.a29 *= alpha;
+        a.a31 *= alpha; a.a32 *= alpha; a.a33 *= alpha; a.a34 *= alpha; a.a35 *= alpha; a.a36 *= alpha; a.a37 *= alpha; a.a38 *= alpha; a.a39 *= alpha;
+        a.a41 *= alpha; a.a42 *= alpha; a.a43 *= alpha; a.a44 *= alpha; a.a45 *= alpha; a.a46 *= alpha; a.a47 *= alpha; a.a48 *= alpha; a.a49 *= alpha;
+        a.a51 *= alpha; a.a52 *= alpha; a.a53 *= alpha; a.a54 *= alpha; a.a55 *= alpha; a.a56 *= alpha; a.a57 *= alpha; a.a58 *= alpha; a.a59 *= alpha;
+        a.a61 *= alpha; a.a62 *= alpha; a.a63 *= alpha; a.a64 *= alpha; a.a65 *= alpha; a.a66 *= alpha; a.a67 *= alpha; a.a68 *= alpha; a.a69 *= alpha;
+        a.a71 *= alpha; a.a72 *= alpha; a.a73 *= alpha; a.a74 *= alpha; a.a75 *= alpha; a.a76 *= alpha; a.a77 *= alpha; a.a78 *= alpha; a.a79 *= alpha;
+        a.a81 *= alpha; a.a82 *= alpha; a.a83 *= alpha; a.a84 *= alpha; a.a85 *= alpha; a.a86 *= alpha; a.a87 *= alpha; a.a88 *= alpha; a.a89 *= alpha;
+        a.a91 *= alpha; a.a92 *= alpha; a.a93 *= alpha; a.a94 *= alpha; a.a95 *= alpha; a.a96 *= alpha; a.a97 *= alpha; a.a98 *= alpha; a.a99 *= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled.  Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( double alpha , FixedMatrix9x9_64F a , FixedMatrix9x9_64F b ) {
+        b.a11 = a.a11*alpha; b.a12 = a.a12*alpha; b.a13 = a.a13*alpha; b.a14 = a.a14*alpha; b.a15 = a.a15*alpha; b.a16 = a.a16*alpha; b.a17 = a.a17*alpha; b.a18 = a.a18*alpha; b.a19 = a.a19*alpha;
+        b.a21 = a.a21*alpha; b.a22 = a.a22*alpha; b.a23 = a.a23*alpha; b.a24 = a.a24*alpha; b.a25 = a.a25*alpha; b.a26 = a.a26*alpha; b.a27 = a.a27*alpha; b.a28 = a.a28*alpha; b.a29 = a.a29*alpha;
+        b.a31 = a.a31*alpha; b.a32 = a.a32*alpha; b.a33 = a.a33*alpha; b.a34 = a.a34*alpha; b.a35 = a.a35*alpha; b.a36 = a.a36*alpha; b.a37 = a.a37*alpha; b.a38 = a.a38*alpha; b.a39 = a.a39*alpha;
+        b.a41 = a.a41*alpha; b.a42 = a.a42*alpha; b.a43 = a.a43*alpha; b.a44 = a.a44*alpha; b.a45 = a.a45*alpha; b.a46 = a.a46*alpha; b.a47 = a.a47*alpha; b.a48 = a.a48*alpha; b.a49 = a.a49*alpha;
+        b.a51 = a.a51*alpha; b.a52 = a.a52*alpha; b.a53 = a.a53*alpha; b.a54 = a.a54*alpha; b.a55 = a.a55*alpha; b.a56 = a.a56*alpha; b.a57 = a.a57*alpha; b.a58 = a.a58*alpha; b.a59 = a.a59*alpha;
+        b.a61 = a.a61*alpha; b.a62 = a.a62*alpha; b.a63 = a.a63*alpha; b.a64 = a.a64*alpha; b.a65 = a.a65*alpha; b.a66 = a.a66*alpha; b.a67 = a.a67*alpha; b.a68 = a.a68*alpha; b.a69 = a.a69*alpha;
+        b.a71 = a.a71*alpha; b.a72 = a.a72*alpha; b.a73 = a.a73*alpha; b.a74 = a.a74*alpha; b.a75 = a.a75*alpha; b.a76 = a.a76*alpha; b.a77 = a.a77*alpha; b.a78 = a.a78*alpha; b.a79 = a.a79*alpha;
+        b.a81 = a.a81*alpha; b.a82 = a.a82*alpha; b.a83 = a.a83*alpha; b.a84 = a.a84*alpha; b.a85 = a.a85*alpha; b.a86 = a.a86*alpha; b.a87 = a.a87*alpha; b.a88 = a.a88*alpha; b.a89 = a.a89*alpha;
+        b.a91 = a.a91*alpha; b.a92 = a.a92*alpha; b.a93 = a.a93*alpha; b.a94 = a.a94*alpha; b.a95 = a.a95*alpha; b.a96 = a.a96*alpha; b.a97 = a.a97*alpha; b.a98 = a.a98*alpha; b.a99 = a.a99*alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided.  Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( double alpha , FixedMatrix9x9_64F a ) {
+        a.a11 /= alpha; a.a12 /= alpha; a.a13 /= alpha; a.a14 /= alpha; a.a15 /= alpha; a.a16 /= alpha; a.a17 /= alpha; a.a18 /= alpha; a.a19 /= alpha;
+        a.a21 /= alpha; a.a22 /= alpha; a.a23 /= alpha; a.a24 /= alpha; a.a25 /= alpha; a.a26 /= alpha; a.a27 /= alpha; a.a28 /= alpha; a.a29 /= alpha;
+        a.a31 /= alpha; a.a32 /= alpha; a.a33 /= alpha; a.a34 /= alpha; a.a35 /= alpha; a.a36 /= alpha; a.a37 /= alpha; a.a38 /= alpha; a.a39 /= alpha;
+        a.a41 /= alpha; a.a42 /= alpha; a.a43 /= alpha; a.a44 /= alpha; a.a45 /= alpha; a.a46 /= alpha; a.a47 /= alpha; a.a48 /= alpha; a.a49 /= alpha;
+        a.a51 /= alpha; a.a52 /= alpha; a.a53 /= alpha; a.a54 /= alpha; a.a55 /= alpha; a.a56 /= alpha; a.a57 /= alpha; a.a58 /= alpha; a.a59 /= alpha;
+        a.a61 /= alpha; a.a62 /= alpha; a.a63 /= alpha; a.a64 /= alpha; a.a65 /= alpha; a.a66 /= alpha; a.a67 /= alpha; a.a68 /= alpha; a.a69 /= alpha;
+        a.a71 /= alpha; a.a72 /= alpha; a.a73 /= alpha; a.a74 /= alpha; a.a75 /= alpha; a.a76 /= alpha; a.a77 /= alpha; a.a78 /= alpha; a.a79 /= alpha;
+        a.a81 /= alpha; a.a82 /= alpha; a.a83 /= alpha; a.a84 /= alpha; a.a85 /= alpha; a.a86 /= alpha; a.a87 /= alpha; a.a88 /= alpha; a.a89 /= alpha;
+        a.a91 /= alpha; a.a92 /= alpha; a.a93 /= alpha; a.a94 /= alpha; a.a95 /= alpha; a.a96 /= alpha; a.a97 /= alpha; a.a98 /= alpha; a.a99 /= alpha;
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division.<br>
+     * <br>
+     * b<sub>ij</sub> = *a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided.  Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( double alpha , FixedMatrix9x9_64F a , FixedMatrix9x9_64F b ) {
+        b.a11 = a.a11/alpha; b.a12 = a.a12/alpha; b.a13 = a.a13/alpha; b.a14 = a.a14/alpha; b.a15 = a.a15/alpha; b.a16 = a.a16/alpha; b.a17 = a.a17/alpha; b.a18 = a.a18/alpha; b.a19 = a.a19/alpha;
+        b.a21 = a.a21/alpha; b.a22 = a.a22/alpha; b.a23 = a.a23/alpha; b.a24 = a.a24/alpha; b.a25 = a.a25/alpha; b.a26 = a.a26/alpha; b.a27 = a.a27/alpha; b.a28 = a.a28/alpha; b.a29 = a.a29/alpha;
+        b.a31 = a.a31/alpha; b.a32 = a.a32/alpha; b.a33 = a.a33/alpha; b.a34 = a.a34/alpha; b.a35 = a.a35/alpha; b.a36 = a.a36/alpha; b.a37 = a.a37/alpha; b.a38 = a.a38/alpha; b.a39 = a.a39/alpha;
+        b.a41 = a.a41/alpha; b.a42 = a.a42/alpha; b.a43 = a.a43/alpha; b.a44 = a.a44/alpha; b.a45 = a.a45/alpha; b.a46 = a.a46/alpha; b.a47 = a.a47/alpha; b.a48 = a.a48/alpha; b.a49 = a.a49/alpha;
+        b.a51 = a.a51/alpha; b.a52 = a.a52/alpha; b.a53 = a.a53/alpha; b.a54 = a.a54/alpha; b.a55 = a.a55/alpha; b.a56 = a.a56/alpha; b.a57 = a.a57/alpha; b.a58 = a.a58/alpha; b.a59 = a.a59/alpha;
+        b.a61 = a.a61/alpha; b.a62 = a.a62/alpha; b.a63 = a.a63/alpha; b.a64 = a.a64/alpha; b.a65 = a.a65/alpha; b.a66 = a.a66/alpha; b.a67 = a.a67/alpha; b.a68 = a.a68/alpha; b.a69 = a.a69/alpha;
+        b.a71 = a.a71/alpha; b.a72 = a.a72/alpha; b.a73 = a.a73/alpha; b.a74 = a.a74/alpha; b.a75 = a.a75/alpha; b.a76 = a.a76/alpha; b.a77 = a.a77/alpha; b.a78 = a.a78/alpha; b.a79 = a.a79/alpha;
+        b.a81 = a.a81/alpha; b.a82 = a.a82/alpha; b.a83 = a.a83/alpha; b.a84 = a.a84/alpha; b.a85 = a.a85/alpha; b.a86 = a.a86/alpha; b.a87 = a.a87/alpha; b.a88 = a.a88/alpha; b.a89 = a.a89/alpha;
+        b.a91 = a.a91/alpha; b.a92 = a.a92/alpha; b.a93 = a.a93/alpha; b.a94 = a.a94/alpha; b.a95 = a.a95/alpha; b.a96 = a.a96/alpha; b.a97 = a.a97/alpha; b.a98 = a.a98/alpha; b.a99 = a.a99/alpha;
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( FixedMatrix9x9_64F a )
+    {
+        a.a11 = -a.a11; a.a12 = -a.a12; a.a13 = -a.a13; a.a14 = -a.a14; a.a15 = -a.a15; a.a16 = -a.a16; a.a17 = -a.a17; a.a18 = -a.a18; a.a19 = -a.a19;
+        a.a21 = -a.a21; a.a22 = -a.a22; a.a23 = -a.a23; a.a24 = -a.a24; a.a25 = -a.a25; a.a26 = -a.a26; a.a27 = -a.a27; a.a28 = -a.a28; a.a29 = -a.a29;
+        a.a31 = -a.a31; a.a32 = -a.a32; a.a33 = -a.a33; a.a34 = -a.a34; a.a35 = -a.a35; a.a36 = -a.a36; a.a37 = -a.a37; a.a38 = -a.a38; a.a39 = -a.a39;
+        a.a41 = -a.a41; a.a42 = -a.a42; a.a43 = -a.a43; a.a44 = -a.a44; a.a45 = -a.a45; a.a46 = -a.a46; a.a47 = -a.a47; a.a48 = -a.a48; a.a49 = -a.a49;
+        a.a51 = -a.a51; a.a52 = -a.a52; a.a53 = -a.a53; a.a54 = -a.a54; a.a55 = -a.a55; a.a56 = -a.a56; a.a57 = -a.a57; a.a58 = -a.a58; a.a59 = -a.a59;
+        a.a61 = -a.a61; a.a62 = -a.a62; a.a63 = -a.a63; a.a64 = -a.a64; a.a65 = -a.a65; a.a66 = -a.a66; a.a67 = -a.a67; a.a68 = -a.a68; a.a69 = -a.a69;
+        a.a71 = -a.a71; a.a72 = -a.a72; a.a73 = -a.a73; a.a74 = -a.a74; a.a75 = -a.a75; a.a76 = -a.a76; a.a77 = -a.a77; a.a78 = -a.a78; a.a79 = -a.a79;
+        a.a81 = -a.a81; a.a82 = -a.a82; a.a83 = -a.a83; a.a84 = -a.a84; a.a85 = -a.a85; a.a86 = -a.a86; a.a87 = -a.a87; a.a88 = -a.a88; a.a89 = -a.a89;
+        a.a91 = -a.a91; a.a92 = -a.a92; a.a93 = -a.a93; a.a94 = -a.a94; a.a95 = -a.a95; a.a96 = -a.a96; a.a97 = -a.a97; a.a98 = -a.a98; a.a99 = -a.a99;
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param v The value each element will have.
+     */
+    public static void fill( FixedMatrix9x9_64F a , double v  ) {
+        a.a11 = v; a.a12 = v; a.a13 = v; a.a14 = v; a.a15 = v; a.a16 = v; a.a17 = v; a.a18 = v; a.a19 = v;
+        a.a21 = v; a.a22 = v; a.a23 = v; a.a24 = v; a.a25 = v; a.a26 = v; a.a27 = v; a.a28 = v; a.a29 = v;
+        a.a31 = v; a.a32 = v; a.a33 = v; a.a34 = v; a.a35 = v; a.a36 = v; a.a37 = v; a.a38 = v; a.a39 = v;
+        a.a41 = v; a.a42 = v; a.a43 = v; a.a44 = v; a.a45 = v; a.a46 = v; a.a47 = v; a.a48 = v; a.a49 = v;
+        a.a51 = v; a.a52 = v; a.a53 = v; a.a54 = v; a.a55 = v; a.a56 = v; a.a57 = v; a.a58 = v; a.a59 = v;
+        a.a61 = v; a.a62 = v; a.a63 = v; a.a64 = v; a.a65 = v; a.a66 = v; a.a67 = v; a.a68 = v; a.a69 = v;
+        a.a71 = v; a.a72 = v; a.a73 = v; a.a74 = v; a.a75 = v; a.a76 = v; a.a77 = v; a.a78 = v; a.a79 = v;
+        a.a81 = v; a.a82 = v; a.a83 = v; a.a84 = v; a.a85 = v; a.a86 = v; a.a87 = v; a.a88 = v; a.a89 = v;
+        a.a91 = v; a.a92 = v; a.a93 = v; a.a94 = v; a.a95 = v; a.a96 = v; a.a97 = v; a.a98 = v; a.a99 = v;
+    }
+
+}
+
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.LinearOperator64F;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * {@link LinearOperator64F} for a {@link DenseMatrix64F}.
+ *
+ * @author Peter Abeles
+ */
+public class LinearOperator_D64 implements LinearOperator64F {
+
+    DenseMatrix64F A;
+
+    public LinearOperator_D64( DenseMatrix64F A ) {
+        this.A = A;
+    }
+
+    @Override
+    public int getNumRows() {
+        return A.numRows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return A.numCols;
+    }
+
+    @Override
+    public void mult( DenseMatrix64F x , DenseMatrix64F y ) {
+        CommonOps.mult(A,x,y);
+    }
+
+    public DenseMatrix64F getMatrix() {
+        return A;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.interfaces.LinearOperator64F;
+
+
+/**
+ * {@link LinearOperator64F} for a {@link SparseMatrixCSC64F}.
+ *
+ * @author Peter Abeles
+ */
+public class LinearOperator_S64 implements LinearOperator64F {
+
+    SparseMatrixCSC64F A;
+
+    public LinearOperator_S64( SparseMatrixCSC64F A ) {
+        this.A = A;
+    }
+
+    @Override
+    public int getNumRows() {
+        return A.numRows;
+    }
+
+    @Override
+    public int getNumCols() {
+        return A.numCols;
+    }
+
+    @Override
+    public void mult( DenseMatrix64F x , DenseMatrix64F y ) {
+        SparseMatrixOps.mult(A,x,y);
+    }
+
+    public SparseMatrixCSC64F getMatrix() {
+        return A;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+
+
+/**
+ * <p>
+ * Right preconditioned biconjugate gradient stabilized method (BiCGSTAB) for general square matrices.  Each
+ * iteration requires two matrix vector products, two applications of the preconditioner, and O(n) additional
+ * operations.  Unlike GMRES the amount of memory is fixed, but convergence can be irregular and the method
+ * can break down.
+ * </p>
+ *
+ * <p>
+ * H. A. van der Vorst, "Bi-CGSTAB: A Fast and Smoothly Converging Variant of Bi-CG for the Solution of
+ * Nonsymmetric Linear Systems" SIAM J. Sci. Stat. Comput. 13 (1992) 631-644
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverBiCGStab extends LinearSolverIterative {
+
+    private DenseMatrix64F r = new DenseMatrix64F(1,1);
+    // the shadow residual
+    private DenseMatrix64F rhat = new DenseMatrix64F(1,1);
+    private DenseMatrix64F p = new DenseMatrix64F(1,1);
+    private DenseMatrix64F phat = new DenseMatrix64F(1,1);
+    private DenseMatrix64F v = new DenseMatrix64F(1,1);
+    private DenseMatrix64F s = new DenseMatrix64F(1,1);
+    private DenseMatrix64F shat = new DenseMatrix64F(1,1);
+    private DenseMatrix64F t = new DenseMatrix64F(1,1);
+
+    /**
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     * @param precond Preconditioner.  If null then no preconditioner is used.
+     */
+    public LinearSolverBiCGStab( int maxIterations , double tol , Preconditioner64F precond ) {
+        super(maxIterations, tol, precond);
+    }
+
+    /**
+     * Creates a solver with a tolerance of 1e-10 and no preconditioner.
+     */
+    public LinearSolverBiCGStab() {
+        this(0,1e-10,null);
+    }
+
+    @Override
+    protected void declareVectors( int N ) {
+        r.reshape(N,1,false);
+        rhat.reshape(N,1,false);
+        p.reshape(N,1,false);
+        phat.reshape(N,1,false);
+        v.reshape(N,1,false);
+        s.reshape(N,1,false);
+        shat.reshape(N,1,false);
+        t.reshape(N,1,false);
+    }
+
+    @Override
+    protected int solveVector( DenseMatrix64F b , DenseMatrix64F x , double normB , int maxIterations ) {
+        computeResidual(b,x,r);
+        rhat.set(r);
+
+        double threshold = tol*normB;
+        double rho = 1, alpha = 1, omega = 1;
+
+        int N = r.getNumElements();
+        double dataP[] = p.data;
+        double dataR[] = r.data;
+        double dataV[] = v.data;
+
+        int iter = 0;
+        while( iter < maxIterations && NormOps.normF(r) > threshold ) {
+            double rhoNew = VectorVectorMult.innerProd(rhat,r);
+            if( rhoNew == 0 )
+                break;
+
+            if( iter == 0 ) {
+                p.set(r);
+            } else {
+                // p = r + beta*(p - omega*v)
+                double beta = (rhoNew/rho)*(alpha/omega);
+                for( int i = 0; i < N; i++ ) {
+                    dataP[i] = dataR[i] + beta*(dataP[i] - omega*dataV[i]);
+                }
+            }
+            rho = rhoNew;
+            iter++;
+
+            applyPreconditioner(p,phat);
+            A.mult(phat,v);
+            double rv = VectorVectorMult.innerProd(rhat,v);
+            if( rv == 0 )
+                break;
+            alpha = rho/rv;
+
+            // s = r - alpha*v
+            CommonOps.add(r,-alpha,v,s);
+            CommonOps.addEquals(x,alpha,phat);
+            if( NormOps.normF(s) <= threshold ) {
+                r.set(s);
+                break;
+            }
+
+            applyPreconditioner(s,shat);
+            A.mult(shat,t);
+            double tt = VectorVectorMult.innerProd(t,t);
+            if( tt == 0 ) {
+                r.set(s);
+                break;
+            }
+            omega = VectorVectorMult.innerProd(t,s)/tt;
+
+            CommonOps.addEquals(x,omega,shat);
+            CommonOps.add(s,-omega,t,r);
+
+            if( omega == 0 )
+                break;
+        }
+
+        return iter;
+    }
+}
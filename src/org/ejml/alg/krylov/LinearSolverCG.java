@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+
+
+/**
+ * <p>
+ * Preconditioned conjugate gradient method for symmetric positive definite matrices.  Each iteration
+ * requires one matrix vector product, one application of the preconditioner, and O(n) additional operations.
+ * The preconditioner must also be symmetric positive definite.
+ * </p>
+ *
+ * <p>
+ * Y. Saad, "Iterative Methods for Sparse Linear Systems" 2nd ed. Algorithm 9.1
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverCG extends LinearSolverIterative {
+
+    // residual, preconditioned residual, search direction, and A times the search direction
+    private DenseMatrix64F r = new DenseMatrix64F(1,1);
+    private DenseMatrix64F z = new DenseMatrix64F(1,1);
+    private DenseMatrix64F p = new DenseMatrix64F(1,1);
+    private DenseMatrix64F q = new DenseMatrix64F(1,1);
+
+    /**
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     * @param precond Preconditioner.  If null then no preconditioner is used.
+     */
+    public LinearSolverCG( int maxIterations , double tol , Preconditioner64F precond ) {
+        super(maxIterations, tol, precond);
+    }
+
+    /**
+     * Creates a solver with a tolerance of 1e-10 and no preconditioner.
+     */
+    public LinearSolverCG() {
+        this(0,1e-10,null);
+    }
+
+    @Override
+    protected void declareVectors( int N ) {
+        r.reshape(N,1,false);
+        z.reshape(N,1,false);
+        p.reshape(N,1,false);
+        q.reshape(N,1,false);
+    }
+
+    @Override
+    protected int solveVector( DenseMatrix64F b , DenseMatrix64F x , double normB , int maxIterations ) {
+        computeResidual(b,x,r);
+        applyPreconditioner(r,z);
+        p.set(z);
+
+        double rz = VectorVectorMult.innerProd(r,z);
+        double threshold = tol*normB;
+
+        int iter = 0;
+        while( iter < maxIterations && NormOps.normF(r) > threshold ) {
+            A.mult(p,q);
+            double pq = VectorVectorMult.innerProd(p,q);
+            if( pq == 0 )
+                break;
+            double alpha = rz/pq;
+
+            CommonOps.addEquals(x,alpha,p);
+            CommonOps.addEquals(r,-alpha,q);
+            iter++;
+
+            applyPreconditioner(r,z);
+            double rzNew = VectorVectorMult.innerProd(r,z);
+            double beta = rzNew/rz;
+            rz = rzNew;
+
+            // p = z + beta*p
+            double dataP[] = p.data;
+            double dataZ[] = z.data;
+            int N = p.getNumElements();
+            for( int i = 0; i < N; i++ ) {
+                dataP[i] = dataZ[i] + beta*dataP[i];
+            }
+        }
+
+        return iter;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+
+
+/**
+ * <p>
+ * Restarted generalized minimal residual method, GMRES(m), for general square matrices.  An orthonormal basis
+ * for the Krylov subspace is constructed using the Arnoldi process and the solution which minimizes the residual
+ * inside of that subspace is found.  Once the basis has m vectors the method is restarted from the current
+ * solution.  Iteration j requires one matrix vector product, one application of the preconditioner, and
+ * O(n*j) additional operations.  Right preconditioning is used so that the minimized residual is the residual
+ * of the original system.
+ * </p>
+ *
+ * <p>
+ * Y. Saad and M. H. Schultz, "GMRES: A Generalized Minimal Residual Algorithm for Solving Nonsymmetric Linear
+ * Systems" SIAM J. Sci. Stat. Comput. 7 (1986) 856-869
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverGmres extends LinearSolverIterative {
+
+    // number of iterations before it restarts
+    private int restart;
+
+    // orthonormal basis of the Krylov subspace
+    private DenseMatrix64F V[] = new DenseMatrix64F[0];
+    // upper Hessenberg matrix, which is converted into an upper triangular matrix as it is constructed
+    private DenseMatrix64F H = new DenseMatrix64F(1,1);
+    // Givens rotations which triangularize H
+    private double cs[];
+    private double sn[];
+    // right hand side of the least squares problem
+    private double g[];
+    private double y[];
+
+    private DenseMatrix64F r = new DenseMatrix64F(1,1);
+    private DenseMatrix64F z = new DenseMatrix64F(1,1);
+    private DenseMatrix64F w = new DenseMatrix64F(1,1);
+
+    /**
+     * @param restart Number of iterations before it restarts.  Also the number of basis vectors saved.
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     * @param precond Preconditioner.  If null then no preconditioner is used.
+     */
+    public LinearSolverGmres( int restart , int maxIterations , double tol , Preconditioner64F precond ) {
+        super(maxIterations, tol, precond);
+        if( restart <= 0 )
+            throw new IllegalArgumentException("restart must be more than zero");
+        this.restart = restart;
+
+        H.reshape(restart+1,restart,false);
+        cs = new double[ restart ];
+        sn = new double[ restart ];
+        g = new double[ restart+1 ];
+        y = new double[ restart ];
+    }
+
+    /**
+     * Creates a solver which restarts every 30 iterations with a tolerance of 1e-10 and no preconditioner.
+     */
+    public LinearSolverGmres() {
+        this(30,0,1e-10,null);
+    }
+
+    @Override
+    protected void declareVectors( int N ) {
+        int m = Math.min(restart,N);
+        if( V.length != m+1 || V[0].numRows != N ) {
+            V = new DenseMatrix64F[m+1];
+            for( int i = 0; i < V.length; i++ ) {
+                V[i] = new DenseMatrix64F(N,1);
+            }
+        }
+        r.reshape(N,1,false);
+        z.reshape(N,1,false);
+        w.reshape(N,1,false);
+    }
+
+    @Override
+    protected int solveVector( DenseMatrix64F b , DenseMatrix64F x , double normB , int maxIterations ) {
+        int m = V.length-1;
+        double threshold = tol*normB;
+
+        int iter = 0;
+        while( iter < maxIterations ) {
+            computeResidual(b,x,r);
+            double beta = NormOps.normF(r);
+            if( beta <= threshold )
+                break;
+
+            CommonOps.scale(1.0/beta,r,V[0]);
+            g[0] = beta;
+
+            // number of columns in the basis
+            int k = 0;
+            boolean converged = false;
+            while( k < m && iter < maxIterations ) {
+                iter++;
+
+                // w = A*M^-1*v
+                applyPreconditioner(V[k],z);
+                A.mult(z,w);
+
+                // modified Gram-Schmidt
+                for( int i = 0; i <= k; i++ ) {
+                    double hik = VectorVectorMult.innerProd(w,V[i]);
+                    H.unsafe_set(i,k,hik);
+                    CommonOps.addEquals(w,-hik,V[i]);
+                }
+                double h = NormOps.normF(w);
+                H.unsafe_set(k+1,k,h);
+                if( h != 0 )
+                    CommonOps.scale(1.0/h,w,V[k+1]);
+
+                // apply previous rotations to the new column
+                for( int i = 0; i < k; i++ ) {
+                    double a0 = H.unsafe_get(i,k);
+                    double a1 = H.unsafe_get(i+1,k);
+                    H.unsafe_set(i,k,cs[i]*a0 + sn[i]*a1);
+                    H.unsafe_set(i+1,k,cs[i]*a1 - sn[i]*a0);
+                }
+
+                // rotation which zeros the sub-diagonal element
+                double a0 = H.unsafe_get(k,k);
+                double a1 = H.unsafe_get(k+1,k);
+                double rr = Math.sqrt(a0*a0 + a1*a1);
+                if( rr == 0 ) {
+                    // A*M^-1 is singular on the subspace, nothing more can be done
+                    break;
+                }
+                cs[k] = a0/rr;
+                sn[k] = a1/rr;
+                H.unsafe_set(k,k,rr);
+                H.unsafe_set(k+1,k,0);
+
+                g[k+1] = -sn[k]*g[k];
+                g[k] = cs[k]*g[k];
+
+                k++;
+
+                if( Math.abs(g[k]) <= threshold || h == 0 ) {
+                    converged = true;
+                    break;
+                }
+            }
+
+            if( k == 0 )
+                break;
+
+            // solve the triangular system H*y = g
+            for( int i = k-1; i >= 0; i-- ) {
+                double sum = g[i];
+                for( int j = i+1; j < k; j++ ) {
+                    sum -= H.unsafe_get(i,j)*y[j];
+                }
+                y[i] = sum/H.unsafe_get(i,i);
+            }
+
+            // x = x + M^-1*V*y
+            w.zero();
+            for( int i = 0; i < k; i++ ) {
+                CommonOps.addEquals(w,y[i],V[i]);
+            }
+            applyPreconditioner(w,z);
+            CommonOps.addEquals(x,z);
+
+            // stop if it converged or could not fill the basis
+            if( converged || k < m )
+                break;
+        }
+
+        return iter;
+    }
+
+    public int getRestart() {
+        return restart;
+    }
+}
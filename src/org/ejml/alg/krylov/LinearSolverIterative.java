@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.interfaces.LinearOperator64F;
+import org.ejml.interfaces.linsol.LinearSolver;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+
+
+/**
+ * <p>
+ * Base class for iterative linear solvers.  Instead of factoring A, an approximate solution to A*x = b
+ * is refined until the relative residual, |b-A*x|/|b|, is less than the tolerance or the maximum number
+ * of iterations has been exceeded.  A is only accessed through matrix vector products, so it can
+ * also be specified as a {@link LinearOperator64F}.  Each column in B is solved for independently.
+ * </p>
+ *
+ * <p>
+ * An optional {@link Preconditioner64F} can be provided.  When A is specified using
+ * {@link #setA(DenseMatrix64F)} the preconditioner is computed from it.  A sparse matrix can be specified
+ * using {@link #setA(SparseMatrixCSC64F)}, which requires a {@link PreconditionerSparse64F}.  If A is
+ * a {@link LinearOperator64F} then the preconditioner must have already been initialized.
+ * </p>
+ *
+ * <p>
+ * {@link #quality()} is 1 minus the largest relative residual from the most recent call to solve, or zero if
+ * the residual is larger than one.  The residual and number of iterations are available
+ * through {@link #getResidual()} and {@link #getIterations()}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class LinearSolverIterative implements LinearSolver<DenseMatrix64F> {
+
+    // the linear system
+    protected LinearOperator64F A;
+    // optional preconditioner.  can be null
+    protected Preconditioner64F precond;
+
+    // convergence criteria
+    protected int maxIterations;
+    protected double tol;
+
+    // if true then the initial contents of X are used as the initial guess
+    protected boolean useInitialGuess = false;
+
+    // statistics from the most recent call to solve
+    protected int iterations;
+    protected double residual;
+
+    // storage for a single column
+    private DenseMatrix64F b = new DenseMatrix64F(1,1);
+    private DenseMatrix64F x = new DenseMatrix64F(1,1);
+    private DenseMatrix64F r = new DenseMatrix64F(1,1);
+
+    /**
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     * @param precond Preconditioner.  If null then no preconditioner is used.
+     */
+    protected LinearSolverIterative( int maxIterations , double tol , Preconditioner64F precond ) {
+        this.maxIterations = maxIterations;
+        this.tol = tol;
+        this.precond = precond;
+    }
+
+    /**
+     * Specifies the matrix in the linear system and computes the preconditioner, if there is one.
+     * A reference to A is saved.
+     *
+     * @param A Square matrix.  Not modified.
+     * @return false if the preconditioner could not be computed.
+     */
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be a square matrix.");
+
+        this.A = new LinearOperator_D64(A);
+
+        if( precond != null )
+            return precond.setA(A);
+        return true;
+    }
+
+    /**
+     * Specifies a sparse matrix in the linear system and computes the preconditioner, if there is one.
+     * A reference to A is saved.
+     *
+     * @param A Square matrix.  Not modified.
+     * @return false if the preconditioner could not be computed.
+     */
+    public boolean setA( SparseMatrixCSC64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be a square matrix.");
+        if( precond != null && !(precond instanceof PreconditionerSparse64F) )
+            throw new IllegalArgumentException("The preconditioner must implement PreconditionerSparse64F");
+
+        this.A = new LinearOperator_S64(A);
+
+        if( precond != null )
+            return ((PreconditionerSparse64F)precond).setA(A);
+        return true;
+    }
+
+    /**
+     * Specifies the matrix in the linear system as an operator.  The preconditioner is not modified.
+     *
+     * @param A Square linear operator.  A reference is saved.
+     */
+    public void setOperator( LinearOperator64F A ) {
+        if( A.getNumRows() != A.getNumCols() )
+            throw new IllegalArgumentException("A must be a square operator.");
+        this.A = A;
+    }
+
+    @Override
+    public double quality() {
+        return Math.max(0,1.0-residual);
+    }
+
+    @Override
+    public void solve( DenseMatrix64F B , DenseMatrix64F X ) {
+        int N = A.getNumRows();
+        if( B.numRows != N )
+            throw new IllegalArgumentException("Unexpected number of rows in B");
+        if( X.numRows != N || X.numCols != B.numCols )
+            throw new IllegalArgumentException("Unexpected dimension of X");
+
+        declareVectors(N);
+        b.reshape(N,1,false);
+        x.reshape(N,1,false);
+        r.reshape(N,1,false);
+
+        int maxIter = maxIterations > 0 ? maxIterations : 2*N;
+
+        iterations = 0;
+        residual = 0;
+
+        for( int col = 0; col < B.numCols; col++ ) {
+            for( int i = 0; i < N; i++ ) {
+                b.data[i] = B.data[i*B.numCols+col];
+                x.data[i] = useInitialGuess ? X.data[i*X.numCols+col] : 0;
+            }
+
+            double normB = NormOps.normF(b);
+            if( normB == 0 ) {
+                x.zero();
+            } else {
+                iterations = Math.max(iterations,solveVector(b,x,normB,maxIter));
+
+                // compute the true residual since the one found by the iterations can drift
+                A.mult(x,r);
+                CommonOps.sub(b,r,r);
+                residual = Math.max(residual,NormOps.normF(r)/normB);
+            }
+
+            for( int i = 0; i < N; i++ ) {
+                X.data[i*X.numCols+col] = x.data[i];
+            }
+        }
+    }
+
+    /**
+     * Computes the inverse by solving for each column in the identity matrix.  Only recommended for
+     * small matrices.
+     */
+    @Override
+    public void invert( DenseMatrix64F A_inv ) {
+        int N = A.getNumRows();
+        if( A_inv.numRows != N || A_inv.numCols != N )
+            throw new IllegalArgumentException("Unexpected dimension of A_inv");
+
+        DenseMatrix64F I = CommonOps.identity(N);
+        boolean guess = useInitialGuess;
+        useInitialGuess = false;
+        solve(I,A_inv);
+        useInitialGuess = guess;
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return false;
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    /**
+     * If true then the values in X which are passed into solve are used as the initial guess.  Otherwise
+     * the initial guess is zero.  By default this is false.
+     */
+    public void setUseInitialGuess( boolean useInitialGuess ) {
+        this.useInitialGuess = useInitialGuess;
+    }
+
+    public void setPreconditioner( Preconditioner64F precond ) {
+        this.precond = precond;
+    }
+
+    public Preconditioner64F getPreconditioner() {
+        return precond;
+    }
+
+    /**
+     * Specifies the convergence criteria.
+     *
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     */
+    public void setConvergence( int maxIterations , double tol ) {
+        this.maxIterations = maxIterations;
+        this.tol = tol;
+    }
+
+    /**
+     * Largest number of iterations used to solve a column in the most recent call to solve.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Largest relative residual, |b-A*x|/|b|, of a column in the most recent call to solve.
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    /**
+     * Returns true if every column in the most recent call to solve converged.
+     */
+    public boolean isConverged() {
+        return residual <= tol;
+    }
+
+    /**
+     * Computes z = M<sup>-1</sup>r, or z = r if there is no preconditioner.
+     */
+    protected void applyPreconditioner( DenseMatrix64F r , DenseMatrix64F z ) {
+        if( precond == null )
+            z.set(r);
+        else
+            precond.apply(r,z);
+    }
+
+    /**
+     * Computes r = b - A*x
+     */
+    protected void computeResidual( DenseMatrix64F b , DenseMatrix64F x , DenseMatrix64F r ) {
+        A.mult(x,r);
+        CommonOps.sub(b,r,r);
+    }
+
+    /**
+     * Adjusts the size of internal work space.
+     *
+     * @param N Number of elements in each vector.
+     */
+    protected abstract void declareVectors( int N );
+
+    /**
+     * Iteratively solves for a single column vector.
+     *
+     * @param b The column vector being solved for.  Not modified.
+     * @param x Initial guess and the solution.  Modified.
+     * @param normB Euclidean norm of b.  Always more than zero.
+     * @param maxIterations Maximum number of iterations.
+     * @return Number of iterations.
+     */
+    protected abstract int solveVector( DenseMatrix64F b , DenseMatrix64F x , double normB , int maxIterations );
+}
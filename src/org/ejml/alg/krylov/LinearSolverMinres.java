@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+
+
+/**
+ * <p>
+ * Preconditioned minimum residual method (MINRES) for symmetric matrices which can be indefinite.  The
+ * symmetric Lanczos process builds a basis for the Krylov subspace and the solution which minimizes the
+ * residual in that subspace is updated using short recurrences.  Each iteration requires one matrix vector
+ * product, one application of the preconditioner, and O(n) additional operations.  The preconditioner must be
+ * symmetric positive definite.
+ * </p>
+ *
+ * <p>
+ * C. C. Paige and M. A. Saunders, "Solution of Sparse Indefinite Systems of Linear Equations" SIAM J. Numer.
+ * Anal. 12 (1975) 617-629
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverMinres extends LinearSolverIterative {
+
+    // the two most recent Lanczos vectors before being preconditioned
+    private DenseMatrix64F r1 = new DenseMatrix64F(1,1);
+    private DenseMatrix64F r2 = new DenseMatrix64F(1,1);
+    private DenseMatrix64F v = new DenseMatrix64F(1,1);
+    private DenseMatrix64F y = new DenseMatrix64F(1,1);
+    // search directions
+    private DenseMatrix64F w = new DenseMatrix64F(1,1);
+    private DenseMatrix64F w1 = new DenseMatrix64F(1,1);
+    private DenseMatrix64F w2 = new DenseMatrix64F(1,1);
+
+    /**
+     * @param maxIterations Maximum number of iterations for each column in B.  If &le; 0 then 2*n is used.
+     * @param tol Converged when the relative residual is less than this value.
+     * @param precond Preconditioner.  If null then no preconditioner is used.
+     */
+    public LinearSolverMinres( int maxIterations , double tol , Preconditioner64F precond ) {
+        super(maxIterations, tol, precond);
+    }
+
+    /**
+     * Creates a solver with a tolerance of 1e-10 and no preconditioner.
+     */
+    public LinearSolverMinres() {
+        this(0,1e-10,null);
+    }
+
+    @Override
+    protected void declareVectors( int N ) {
+        r1.reshape(N,1,false);
+        r2.reshape(N,1,false);
+        v.reshape(N,1,false);
+        y.reshape(N,1,false);
+        w.reshape(N,1,false);
+        w1.reshape(N,1,false);
+        w2.reshape(N,1,false);
+    }
+
+    @Override
+    protected int solveVector( DenseMatrix64F b , DenseMatrix64F x , double normB , int maxIterations ) {
+        computeResidual(b,x,r1);
+        applyPreconditioner(r1,y);
+        r2.set(r1);
+
+        double beta1 = preconditionedNorm(r1,y);
+        if( beta1 == 0 )
+            return 0;
+
+        // the preconditioned residual is minimized, which is scaled differently from b
+        double threshold = tol*beta1*normB/Math.sqrt(VectorVectorMult.innerProd(r1,r1));
+
+        double oldb = 0, beta = beta1, dbar = 0, epsln = 0;
+        double phibar = beta1;
+        double cs = -1, sn = 0;
+        w.zero();
+        w2.zero();
+
+        int N = x.getNumElements();
+
+        int iter = 0;
+        while( iter < maxIterations ) {
+            iter++;
+
+            // Lanczos step
+            CommonOps.scale(1.0/beta,y,v);
+            A.mult(v,y);
+            if( iter >= 2 )
+                CommonOps.addEquals(y,-beta/oldb,r1);
+            double alfa = VectorVectorMult.innerProd(v,y);
+            CommonOps.addEquals(y,-alfa/beta,r2);
+
+            DenseMatrix64F tmp = r1;
+            r1 = r2;
+            r2 = y;
+            y = tmp;
+            applyPreconditioner(r2,y);
+            oldb = beta;
+            beta = preconditionedNorm(r2,y);
+
+            // apply the previous rotation and compute the next one
+            double oldeps = epsln;
+            double delta = cs*dbar + sn*alfa;
+            double gbar = sn*dbar - cs*alfa;
+            epsln = sn*beta;
+            dbar = -cs*beta;
+
+            double gamma = Math.sqrt(gbar*gbar + beta*beta);
+            if( gamma == 0 )
+                break;
+            cs = gbar/gamma;
+            sn = beta/gamma;
+            double phi = cs*phibar;
+            phibar = sn*phibar;
+
+            // update the search direction and the solution
+            tmp = w1;
+            w1 = w2;
+            w2 = w;
+            w = tmp;
+            double dataW[] = w.data, dataW1[] = w1.data, dataW2[] = w2.data, dataV[] = v.data;
+            for( int i = 0; i < N; i++ ) {
+                dataW[i] = (dataV[i] - oldeps*dataW1[i] - delta*dataW2[i])/gamma;
+            }
+            CommonOps.addEquals(x,phi,w);
+
+            if( phibar <= threshold || beta == 0 )
+                break;
+        }
+
+        return iter;
+    }
+
+    /**
+     * Computes sqrt(r<sup>T</sup>M<sup>-1</sup>r) where y = M<sup>-1</sup>r
+     */
+    private static double preconditionedNorm( DenseMatrix64F r , DenseMatrix64F y ) {
+        double val = VectorVectorMult.innerProd(r,y);
+        if( val < 0 )
+            throw new IllegalArgumentException("The preconditioner is not positive definite");
+        return Math.sqrt(val);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * A preconditioner M approximates the matrix A in a linear system but is much easier to invert.  Iterative
+ * solvers use it to transform the system into one with a better condition number, which reduces the
+ * number of iterations needed to converge.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface Preconditioner64F {
+
+    /**
+     * Computes the preconditioner from the matrix in the linear system.  A reference to A is not saved.
+     *
+     * @param A Square matrix. Not modified.
+     * @return true if the preconditioner could be computed.
+     */
+    public boolean setA( DenseMatrix64F A );
+
+    /**
+     * Computes z = M<sup>-1</sup>r
+     *
+     * @param r Column vector. Not modified.
+     * @param z Column vector where the results are written to.  Modified.
+     */
+    public void apply( DenseMatrix64F r , DenseMatrix64F z );
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.decomposition.TriangularSolver;
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * Zero fill-in incomplete LU preconditioner, ILU(0), for general square matrices.  A unit lower triangular
+ * matrix L and an upper triangular matrix U are computed which together have the same sparsity pattern as A
+ * and M = L*U.  Elements which would be filled in by a full LU decomposition are discarded.  No pivoting is
+ * done, so setA() returns false if a zero pivot is encountered.
+ * </p>
+ *
+ * <p>
+ * Y. Saad, "Iterative Methods for Sparse Linear Systems" 2nd ed. Algorithm 10.4
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIlu0_D64 implements Preconditioner64F {
+
+    // L and U stored in the same matrix.  The diagonal of L is not saved.
+    private DenseMatrix64F LU = new DenseMatrix64F(1,1);
+
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        int N = A.numRows;
+        LU.reshape(N,N,false);
+        LU.set(A);
+
+        double dataA[] = A.data;
+        double dataLU[] = LU.data;
+
+        if( N > 0 && dataLU[0] == 0 )
+            return false;
+
+        for( int i = 1; i < N; i++ ) {
+            int rowI = i*N;
+            for( int k = 0; k < i; k++ ) {
+                if( dataA[rowI+k] == 0 )
+                    continue;
+
+                double lik = dataLU[rowI+k] /= dataLU[k*N+k];
+
+                int rowK = k*N;
+                for( int j = k+1; j < N; j++ ) {
+                    if( dataA[rowI+j] != 0 )
+                        dataLU[rowI+j] -= lik*dataLU[rowK+j];
+                }
+            }
+            if( dataLU[rowI+i] == 0 )
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void apply( DenseMatrix64F r , DenseMatrix64F z ) {
+        int N = LU.numRows;
+        double dataLU[] = LU.data;
+        double dataZ[] = z.data;
+
+        System.arraycopy(r.data,0,dataZ,0,N);
+
+        // solve the unit lower triangular system
+        for( int i = 1; i < N; i++ ) {
+            double sum = dataZ[i];
+            int rowI = i*N;
+            for( int k = 0; k < i; k++ ) {
+                sum -= dataLU[rowI+k]*dataZ[k];
+            }
+            dataZ[i] = sum;
+        }
+
+        TriangularSolver.solveU(dataLU,dataZ,N);
+    }
+
+    /**
+     * Returns L and U stored in the same matrix.  The unit diagonal of L is not saved.
+     */
+    public DenseMatrix64F getLU() {
+        return LU;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Sparse implementation of the zero fill-in incomplete LU preconditioner, ILU(0).  L and U have the same
+ * sparsity pattern as A, so memory and the cost of {@link #apply} are proportional to the number of non-zero
+ * elements.  Produces the same factors as {@link PreconditionerIlu0_D64}.  No pivoting is done, so setA()
+ * returns false if a zero pivot is encountered or an element on the diagonal is not stored.
+ * </p>
+ *
+ * <p>
+ * The factorization is row oriented, so internally the transpose of L*U is stored, i.e. each row of L*U
+ * is saved as a column.
+ * </p>
+ *
+ * <p>
+ * Y. Saad, "Iterative Methods for Sparse Linear Systems" 2nd ed. Algorithm 10.4
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIlu0_S64 implements PreconditionerSparse64F {
+
+    // transpose of L and U stored in the same matrix.  The diagonal of L is not saved.
+    private SparseMatrixCSC64F LUt = new SparseMatrixCSC64F(1,1,0);
+    // location of the diagonal element in each row
+    private int diag[] = new int[0];
+
+    // location of each column inside the row being updated.  -1 if it isn't in the row
+    private int colToIndex[] = new int[0];
+    private int work[] = new int[0];
+
+    // used when a dense matrix is passed in
+    private SparseMatrixCSC64F converted;
+
+    @Override
+    public boolean setA( SparseMatrixCSC64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be a square matrix.");
+
+        int N = A.numCols;
+        if( work.length < N ) {
+            work = new int[ N ];
+            diag = new int[ N ];
+            colToIndex = new int[ N ];
+        }
+        Arrays.fill(colToIndex,0,N,-1);
+
+        // the row indexes in the transpose are sorted, so each row is traversed from left to right
+        SparseMatrixOps.transpose(A,LUt,work);
+
+        int row_idx[] = LUt.col_idx;
+        int cols[] = LUt.nz_rows;
+        double values[] = LUt.nz_values;
+
+        for( int i = 0; i < N; i++ ) {
+            int i0 = row_idx[i];
+            int i1 = row_idx[i+1];
+
+            for( int p = i0; p < i1; p++ )
+                colToIndex[cols[p]] = p;
+
+            int p = i0;
+            for( ; p < i1 && cols[p] < i; p++ ) {
+                int k = cols[p];
+                double lik = values[p] /= values[diag[k]];
+
+                int k1 = row_idx[k+1];
+                for( int q = diag[k]+1; q < k1; q++ ) {
+                    int index = colToIndex[cols[q]];
+                    if( index >= 0 )
+                        values[index] -= lik*values[q];
+                }
+            }
+
+            for( int q = i0; q < i1; q++ )
+                colToIndex[cols[q]] = -1;
+
+            if( p == i1 || cols[p] != i || values[p] == 0 )
+                return false;
+            diag[i] = p;
+        }
+        return true;
+    }
+
+    /**
+     * Converts A into a sparse matrix and computes the preconditioner from it.  Zeros in A are not
+     * part of the sparsity pattern.
+     */
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        converted = SparseMatrixOps.convert(A,converted);
+        return setA(converted);
+    }
+
+    @Override
+    public void apply( DenseMatrix64F r , DenseMatrix64F z ) {
+        int N = LUt.numCols;
+        int row_idx[] = LUt.col_idx;
+        int cols[] = LUt.nz_rows;
+        double values[] = LUt.nz_values;
+        double dataZ[] = z.data;
+
+        System.arraycopy(r.data,0,dataZ,0,N);
+
+        // solve the unit lower triangular system
+        for( int i = 0; i < N; i++ ) {
+            double sum = dataZ[i];
+            int end = diag[i];
+            for( int p = row_idx[i]; p < end; p++ ) {
+                sum -= values[p]*dataZ[cols[p]];
+            }
+            dataZ[i] = sum;
+        }
+
+        // solve the upper triangular system
+        for( int i = N-1; i >= 0; i-- ) {
+            double sum = dataZ[i];
+            int end = row_idx[i+1];
+            for( int p = diag[i]+1; p < end; p++ ) {
+                sum -= values[p]*dataZ[cols[p]];
+            }
+            dataZ[i] = sum/values[diag[i]];
+        }
+    }
+
+    /**
+     * Returns L and U stored in the same matrix.  The unit diagonal of L is not saved.  A new matrix
+     * is declared each time this is called.
+     */
+    public SparseMatrixCSC64F getLU() {
+        return SparseMatrixOps.transpose(LUt,null,null);
+    }
+}
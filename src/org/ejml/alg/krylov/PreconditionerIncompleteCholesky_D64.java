@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.decomposition.TriangularSolver;
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * Zero fill-in incomplete Cholesky preconditioner, IC(0), for symmetric positive definite matrices.  A lower
+ * triangular matrix L is computed which has the same sparsity pattern as the lower triangular portion of A and
+ * M = L*L<sup>T</sup>.  Elements which would be filled in by a full Cholesky decomposition are discarded.  If A
+ * has no zeros then this is the Cholesky decomposition.
+ * </p>
+ *
+ * <p>
+ * The factorization can break down even when A is positive definite, in which case setA() returns false.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteCholesky_D64 implements Preconditioner64F {
+
+    private DenseMatrix64F L = new DenseMatrix64F(1,1);
+
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        int N = A.numRows;
+        L.reshape(N,N,false);
+
+        double dataA[] = A.data;
+        double dataL[] = L.data;
+
+        for( int i = 0; i < N; i++ ) {
+            for( int j = 0; j <= i; j++ )
+                dataL[i*N+j] = dataA[i*N+j];
+            for( int j = i+1; j < N; j++ )
+                dataL[i*N+j] = 0;
+        }
+
+        for( int k = 0; k < N; k++ ) {
+            double d = dataL[k*N+k];
+            if( d <= 0 )
+                return false;
+            d = Math.sqrt(d);
+            dataL[k*N+k] = d;
+
+            for( int i = k+1; i < N; i++ ) {
+                dataL[i*N+k] /= d;
+            }
+
+            // update the trailing matrix, but only where A is not zero
+            for( int j = k+1; j < N; j++ ) {
+                double ljk = dataL[j*N+k];
+                if( ljk == 0 )
+                    continue;
+                for( int i = j; i < N; i++ ) {
+                    if( dataA[i*N+j] != 0 )
+                        dataL[i*N+j] -= dataL[i*N+k]*ljk;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void apply( DenseMatrix64F r , DenseMatrix64F z ) {
+        int N = L.numRows;
+        System.arraycopy(r.data,0,z.data,0,N);
+        TriangularSolver.solveL(L.data,z.data,N);
+        TriangularSolver.solveTranL(L.data,z.data,N);
+    }
+
+    /**
+     * Returns the lower triangular factor.
+     */
+    public DenseMatrix64F getL() {
+        return L;
+    }
+}
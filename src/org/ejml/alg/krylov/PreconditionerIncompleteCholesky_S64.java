@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Sparse implementation of the zero fill-in incomplete Cholesky preconditioner, IC(0).  The lower triangular
+ * factor L is stored in a {@link SparseMatrixCSC64F} with the same sparsity pattern as the lower triangular
+ * portion of A, so memory and the cost of {@link #apply} are proportional to the number of non-zero elements.
+ * Produces the same factor as {@link PreconditionerIncompleteCholesky_D64}.
+ * </p>
+ *
+ * <p>
+ * Only the lower triangle of A is read.  The factorization can break down even when A is positive
+ * definite, in which case setA() returns false.  It also fails if an element on the diagonal is not stored.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerIncompleteCholesky_S64 implements PreconditionerSparse64F {
+
+    private SparseMatrixCSC64F L = new SparseMatrixCSC64F(1,1,0);
+
+    // location of each row inside the column being updated.  -1 if it isn't in the column
+    private int rowToIndex[] = new int[0];
+
+    // used when a dense matrix is passed in
+    private SparseMatrixCSC64F converted;
+
+    @Override
+    public boolean setA( SparseMatrixCSC64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("A must be a square matrix.");
+
+        int N = A.numCols;
+        L.set(A);
+        L.sortIndices();
+
+        int col_idx[] = L.col_idx;
+        int rows[] = L.nz_rows;
+        double values[] = L.nz_values;
+
+        // discard the upper triangle
+        int nz = 0;
+        int idx0 = 0;
+        for( int col = 0; col < N; col++ ) {
+            int idx1 = col_idx[col+1];
+            col_idx[col] = nz;
+            for( int i = idx0; i < idx1; i++ ) {
+                if( rows[i] >= col ) {
+                    rows[nz] = rows[i];
+                    values[nz++] = values[i];
+                }
+            }
+            idx0 = idx1;
+        }
+        col_idx[N] = nz;
+        L.nz_length = nz;
+
+        if( rowToIndex.length < N )
+            rowToIndex = new int[ N ];
+        Arrays.fill(rowToIndex,0,N,-1);
+
+        for( int k = 0; k < N; k++ ) {
+            int k0 = col_idx[k];
+            int k1 = col_idx[k+1];
+
+            // the diagonal is the first element since the rows are sorted
+            if( k0 == k1 || rows[k0] != k )
+                return false;
+            double d = values[k0];
+            if( d <= 0 )
+                return false;
+            d = Math.sqrt(d);
+            values[k0] = d;
+
+            for( int i = k0+1; i < k1; i++ ) {
+                values[i] /= d;
+            }
+
+            // update the trailing matrix, but only where A is not zero
+            for( int p = k0+1; p < k1; p++ ) {
+                double ljk = values[p];
+                if( ljk == 0 )
+                    continue;
+
+                int j = rows[p];
+                int j0 = col_idx[j];
+                int j1 = col_idx[j+1];
+                for( int q = j0; q < j1; q++ )
+                    rowToIndex[rows[q]] = q;
+
+                // rows in column k from p onward are >= j
+                for( int r = p; r < k1; r++ ) {
+                    int index = rowToIndex[rows[r]];
+                    if( index >= 0 )
+                        values[index] -= values[r]*ljk;
+                }
+
+                for( int q = j0; q < j1; q++ )
+                    rowToIndex[rows[q]] = -1;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts A into a sparse matrix and computes the preconditioner from it.  Zeros in A are not
+     * part of the sparsity pattern.
+     */
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        converted = SparseMatrixOps.convert(A,converted);
+        return setA(converted);
+    }
+
+    @Override
+    public void apply( DenseMatrix64F r , DenseMatrix64F z ) {
+        int N = L.numCols;
+        int col_idx[] = L.col_idx;
+        int rows[] = L.nz_rows;
+        double values[] = L.nz_values;
+        double dataZ[] = z.data;
+
+        System.arraycopy(r.data,0,dataZ,0,N);
+
+        // solve L*y = r
+        for( int j = 0; j < N; j++ ) {
+            int idx0 = col_idx[j];
+            int idx1 = col_idx[j+1];
+            double zj = dataZ[j] /= values[idx0];
+            for( int i = idx0+1; i < idx1; i++ ) {
+                dataZ[rows[i]] -= values[i]*zj;
+            }
+        }
+
+        // solve L^T*z = y
+        for( int j = N-1; j >= 0; j-- ) {
+            int idx0 = col_idx[j];
+            int idx1 = col_idx[j+1];
+            double sum = dataZ[j];
+            for( int i = idx0+1; i < idx1; i++ ) {
+                sum -= values[i]*dataZ[rows[i]];
+            }
+            dataZ[j] = sum/values[idx0];
+        }
+    }
+
+    /**
+     * Returns the lower triangular factor.  The row indexes in each column are sorted.
+     */
+    public SparseMatrixCSC64F getL() {
+        return L;
+    }
+}
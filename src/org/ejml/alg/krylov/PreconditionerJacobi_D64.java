@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * Jacobi preconditioner, M = diag(A).  Very cheap to compute and apply and effective when A is diagonally
+ * dominant or when its rows are badly scaled.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PreconditionerJacobi_D64 implements Preconditioner64F {
+
+    // inverse of the diagonal elements
+    private double invDiag[] = new double[0];
+
+    @Override
+    public boolean setA( DenseMatrix64F A ) {
+        int N = A.numRows;
+        if( invDiag.length != N )
+            invDiag = new double[ N ];
+
+        for( int i = 0; i < N; i++ ) {
+            double d = A.unsafe_get(i,i);
+            if( d == 0 )
+                return false;
+            invDiag[i] = 1.0/d;
+        }
+        return true;
+    }
+
+    @Override
+    public void apply( DenseMatrix64F r , DenseMatrix64F z ) {
+        for( int i = 0; i < invDiag.length; i++ ) {
+            z.data[i] = r.data[i]*invDiag[i];
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.SparseMatrixCSC64F;
+
+
+/**
+ * A {@link Preconditioner64F} which can be computed directly from a sparse matrix.  Implementations store
+ * the preconditioner in a sparse format so that large sparse systems can be preconditioned without
+ * declaring an N by N matrix.
+ *
+ * @author Peter Abeles
+ */
+public interface PreconditionerSparse64F extends Preconditioner64F {
+
+    /**
+     * Computes the preconditioner from the matrix in the linear system.  A reference to A is not saved.
+     *
+     * @param A Square matrix. Not modified.
+     * @return true if the preconditioner could be computed.
+     */
+    public boolean setA( SparseMatrixCSC64F A );
+}
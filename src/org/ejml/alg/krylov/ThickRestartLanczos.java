@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.krylov;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.DecompositionFactory;
+import org.ejml.interfaces.LinearOperator64F;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+
+/**
+ * <p>
+ * Finds the k largest or smallest eigenvalues and eigenvectors of a symmetric matrix using the thick restart
+ * Lanczos method.  The matrix is only accessed through a {@link LinearOperator64F}, which allows it to be
+ * applied to sparse and implicitly defined matrices.  Each iteration requires one matrix vector product and
+ * O(n*m) additional operations, where m is the size of the Krylov basis.  When only a few eigenpairs
+ * are needed this is much faster than reducing the matrix to tridiagonal form.
+ * </p>
+ *
+ * <p>
+ * A Lanczos basis with m vectors is grown from a random vector.  Each new vector is explicitly orthogonalized
+ * against all the previous vectors to avoid the loss of orthogonality which plagues the plain Lanczos
+ * method.  The eigenvalues of the projected matrix T = V<sup>T</sup>AV are the Ritz values.  Once the basis
+ * is full the best Ritz vectors are kept and the basis is grown again from them.  This is mathematically
+ * equivalent to the implicitly restarted Lanczos method but easier to implement stably.
+ * </p>
+ *
+ * <p>
+ * K. Wu and H. Simon, "Thick-Restart Lanczos Method for Large Symmetric Eigenvalue Problems"
+ * SIAM Journal on Matrix Analysis and Applications 22 (2000) 602-616
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ThickRestartLanczos {
+
+    // used to determine convergence
+    private double tol = 1e-10;
+    private int maxRestarts = 500;
+    // size of the Krylov basis.  if &le; 0 then it is selected automatically
+    private int basisSize = 0;
+
+    private Random rand = new Random(0xBEEF);
+
+    private int N;
+    private int numEigen;
+    private int m;
+
+    // +1 for largest eigenvalues and -1 for smallest
+    private double sign;
+
+    // Lanczos vectors and storage for the new basis when restarting
+    private DenseMatrix64F V[] = new DenseMatrix64F[0];
+    private DenseMatrix64F U[] = new DenseMatrix64F[0];
+    private DenseMatrix64F w = new DenseMatrix64F(1,1);
+
+    // projection of the matrix onto the basis
+    private DenseMatrix64F T = new DenseMatrix64F(1,1);
+    private EigenDecomposition<DenseMatrix64F> eig;
+
+    // Ritz values in descending order and the eigenvectors of T
+    private double theta[];
+    private DenseMatrix64F Y[];
+
+    // estimate of the matrix's norm
+    private double anorm;
+
+    private int numRestarts;
+
+    // results
+    private double eigenvalues[];
+    private DenseMatrix64F eigenvectors;
+
+    /**
+     * Specifies convergence criteria.
+     *
+     * @param maxRestarts Maximum number of times the basis is restarted.
+     * @param tolerance Converged when the residual is less than this fraction of the matrix's norm.
+     */
+    public void setOptions( int maxRestarts , double tolerance ) {
+        this.maxRestarts = maxRestarts;
+        this.tol = tolerance;
+    }
+
+    /**
+     * Specifies the number of vectors in the Krylov basis.  Larger values require more memory but fewer
+     * matrix vector products.  If &le; 0 then max(2k,k+20) is used.
+     */
+    public void setBasisSize( int basisSize ) {
+        this.basisSize = basisSize;
+    }
+
+    /**
+     * Random number generator used to create the initial vector.
+     */
+    public void setRandom( Random rand ) {
+        this.rand = rand;
+    }
+
+    /**
+     * Finds the extreme eigenvalues of the symmetric operator A.
+     *
+     * @param A Symmetric linear operator. Not modified.
+     * @param numEigen Number of eigenvalues which are to be found.
+     * @param largest If true the largest eigenvalues are found, if false the smallest.
+     * @return true if it converged.
+     */
+    public boolean process( LinearOperator64F A , int numEigen , boolean largest ) {
+        if( A.getNumRows() != A.getNumCols() )
+            throw new IllegalArgumentException("A must be a square matrix.");
+        if( numEigen <= 0 || numEigen > A.getNumRows() )
+            throw new IllegalArgumentException("numEigen must be more than zero and no more than the matrix size.");
+
+        init(A.getNumRows(),numEigen);
+        sign = largest ? 1 : -1;
+
+        setRandomVector(V[0],0);
+
+        int l = 0;
+        double betaLast = 0;
+        boolean converged = false;
+
+        for( numRestarts = 0;; numRestarts++ ) {
+            betaLast = expandBasis(A,l);
+
+            if( !computeRitz() )
+                return false;
+
+            // check to see if the desired Ritz values have converged
+            converged = true;
+            double threshold = tol*Math.max(anorm,UtilEjml.EPS);
+            for( int i = 0; i < numEigen && converged; i++ ) {
+                converged = Math.abs(betaLast*Y[i].data[m-1]) <= threshold;
+            }
+            // don't restart after the last pass, the results are extracted from the current basis
+            if( converged || m == N || numRestarts >= maxRestarts )
+                break;
+
+            l = restart(betaLast);
+        }
+
+        eigenvalues = new double[ numEigen ];
+        eigenvectors = new DenseMatrix64F(N,numEigen);
+        for( int i = 0; i < numEigen; i++ ) {
+            eigenvalues[i] = sign*theta[i];
+            computeRitzVector(Y[i],w);
+            for( int row = 0; row < N; row++ ) {
+                eigenvectors.data[row*numEigen+i] = w.data[row];
+            }
+        }
+
+        return converged || m == N;
+    }
+
+    private void init( int N , int numEigen ) {
+        this.N = N;
+        this.numEigen = numEigen;
+
+        m = basisSize > 0 ? basisSize : Math.max(2*numEigen,numEigen+20);
+        m = Math.min(N,Math.max(m,numEigen+1));
+
+        if( V.length < m+1 || V[0].numRows != N ) {
+            V = new DenseMatrix64F[m+1];
+            U = new DenseMatrix64F[m+1];
+            for( int i = 0; i <= m; i++ ) {
+                V[i] = new DenseMatrix64F(N,1);
+                U[i] = new DenseMatrix64F(N,1);
+            }
+        }
+        w.reshape(N,1,false);
+        T.reshape(m,m,false);
+        T.zero();
+        theta = new double[ m ];
+        Y = new DenseMatrix64F[ m ];
+
+        eig = DecompositionFactory.eig(m,true,true);
+        anorm = 0;
+    }
+
+    /**
+     * Adds vectors to the basis until it has m vectors.
+     *
+     * @param l Index of the first vector which needs to be multiplied by A
+     * @return The norm of the residual after the last vector
+     */
+    private double expandBasis( LinearOperator64F A , int l ) {
+        double beta = 0;
+
+        for( int j = l; j < m; j++ ) {
+            A.mult(V[j],w);
+            if( sign < 0 ) {
+                for( int i = 0; i < N; i++ )
+                    w.data[i] = -w.data[i];
+            }
+
+            double alpha = orthogonalize(w,j+1);
+            beta = norm(w);
+            anorm = Math.max(anorm,Math.abs(alpha)+beta);
+
+            T.unsafe_set(j,j,alpha);
+
+            if( beta <= UtilEjml.EPS*anorm ) {
+                // an invariant subspace has been found.  Continue with a new random vector.
+                beta = 0;
+                setRandomVector(V[j+1],j+1);
+            } else {
+                double data[] = V[j+1].data;
+                for( int i = 0; i < N; i++ )
+                    data[i] = w.data[i]/beta;
+            }
+
+            if( j+1 < m ) {
+                T.unsafe_set(j,j+1,beta);
+                T.unsafe_set(j+1,j,beta);
+            }
+        }
+
+        return beta;
+    }
+
+    /**
+     * Removes the components of the first 'num' basis vectors from x, twice for numerical stability.
+     *
+     * @return The component of x along the last vector in the basis.
+     */
+    private double orthogonalize( DenseMatrix64F x , int num ) {
+        double last = 0;
+        for( int pass = 0; pass < 2; pass++ ) {
+            for( int j = 0; j < num; j++ ) {
+                double v[] = V[j].data;
+                double dot = 0;
+                for( int i = 0; i < N; i++ )
+                    dot += v[i]*x.data[i];
+                for( int i = 0; i < N; i++ )
+                    x.data[i] -= dot*v[i];
+                if( j == num-1 )
+                    last += dot;
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Sets the vector to a random unit vector which is orthogonal to the first 'num' basis vectors.
+     * If no such vector exists it is set to zero.
+     */
+    private void setRandomVector( DenseMatrix64F x , int num ) {
+        x.zero();
+        if( num >= N )
+            return;
+
+        for( int attempt = 0; attempt < 5; attempt++ ) {
+            for( int i = 0; i < N; i++ )
+                x.data[i] = rand.nextGaussian();
+            double before = norm(x);
+            orthogonalize(x,num);
+            double after = norm(x);
+
+            if( after > before*1e-8 ) {
+                for( int i = 0; i < N; i++ )
+                    x.data[i] /= after;
+                return;
+            }
+        }
+        x.zero();
+    }
+
+    /**
+     * Computes the eigenvalues and eigenvectors of T and sorts them into descending order.
+     */
+    private boolean computeRitz() {
+        if( !eig.decompose(T.copy()) )
+            return false;
+
+        Integer indexes[] = new Integer[m];
+        final double values[] = new double[m];
+        for( int i = 0; i < m; i++ ) {
+            indexes[i] = i;
+            values[i] = eig.getEigenvalue(i).real;
+        }
+        Arrays.sort(indexes,new Comparator<Integer>() {
+            @Override
+            public int compare( Integer a , Integer b ) {
+                return Double.compare(values[b],values[a]);
+            }
+        });
+
+        for( int i = 0; i < m; i++ ) {
+            theta[i] = values[indexes[i]];
+            Y[i] = eig.getEigenVector(indexes[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the best Ritz vectors and the residual vector, then updates T to match the new basis.
+     *
+     * @return Number of Ritz vectors kept.
+     */
+    private int restart( double betaLast ) {
+        int l = Math.min(m-1,numEigen+(m-numEigen)/2);
+
+        for( int i = 0; i < l; i++ ) {
+            computeRitzVector(Y[i],U[i]);
+        }
+        U[l].set(V[m]);
+
+        // basis vectors past l are garbage, but they will be overwritten before being read
+        DenseMatrix64F tmp[] = V;
+        V = U;
+        U = tmp;
+
+        T.zero();
+        for( int i = 0; i < l; i++ ) {
+            double s = betaLast*Y[i].data[m-1];
+            T.unsafe_set(i,i,theta[i]);
+            T.unsafe_set(i,l,s);
+            T.unsafe_set(l,i,s);
+        }
+
+        return l;
+    }
+
+    /**
+     * x = V*y
+     */
+    private void computeRitzVector( DenseMatrix64F y , DenseMatrix64F x ) {
+        x.zero();
+        for( int j = 0; j < m; j++ ) {
+            double a = y.data[j];
+            double v[] = V[j].data;
+            for( int i = 0; i < N; i++ )
+                x.data[i] += a*v[i];
+        }
+    }
+
+    private double norm( DenseMatrix64F x ) {
+        double total = 0;
+        for( int i = 0; i < N; i++ )
+            total += x.data[i]*x.data[i];
+        return Math.sqrt(total);
+    }
+
+    /**
+     * The found eigenvalues.  Largest first if the largest were requested, otherwise smallest first.
+     */
+    public double[] getEigenvalues() {
+        return eigenvalues;
+    }
+
+    /**
+     * Eigenvectors stored in the columns of a matrix, in the same order as the eigenvalues.
+     */
+    public DenseMatrix64F getEigenvectors() {
+        return eigenvectors;
+    }
+
+    /**
+     * Number of times the basis was restarted in the last call to process
+     */
+    public int getNumRestarts() {
+        return numRestarts;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.data.SparseMatrixCSC64F;
+
+/**
+ * <p>
+ * Computes a fill reducing ordering for symmetric matrices using the minimum degree heuristic.  At each step
+ * the node with the fewest neighbors in the elimination graph is eliminated next and its neighbors are
+ * connected to each other, just like what happens to the non-zero pattern during a Cholesky decomposition.
+ * Reordering a sparse symmetric positive definite matrix this way can reduce the number of non-zero elements
+ * in its Cholesky factor, and the time it takes to compute it, by orders of magnitude.
+ * </p>
+ *
+ * <p>
+ * Unlike approximate minimum degree (AMD), the elimination graph is stored explicitly and the degree of
+ * each node is exact.  The memory used is proportional to the number of non-zero elements in the factor.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MinimumDegreeOrdering {
+
+    // neighbors of each node in the elimination graph
+    private int adj[][] = new int[0][];
+    private int adjLength[] = new int[0];
+
+    // doubly linked lists of nodes with the same degree
+    private int degHead[] = new int[0];
+    private int next[] = new int[0];
+    private int prev[] = new int[0];
+    private int degree[] = new int[0];
+
+    private int marks[] = new int[0];
+    private int markValue;
+    private boolean eliminated[] = new boolean[0];
+
+    /**
+     * Computes the ordering.  Only the structure of A is used and it is treated as if it is symmetric.
+     * Elements on the diagonal are ignored.
+     *
+     * @param A Square matrix.  Not modified.
+     * @param perm Storage for the permutation.  perm[new] = original.  If null a new array is declared.
+     * @return The permutation.
+     */
+    public int[] process( SparseMatrixCSC64F A , int perm[] ) {
+        if( A.numRows != A.numCols )
+            throw new MatrixDimensionException("A must be square");
+
+        final int N = A.numCols;
+        if( perm == null || perm.length < N )
+            perm = new int[ N ];
+
+        declareWork(N);
+        buildGraph(A);
+
+        for( int i = 0; i < N; i++ ) {
+            degree[i] = adjLength[i];
+            addToList(i);
+        }
+
+        int minDegree = 0;
+        for( int k = 0; k < N; k++ ) {
+            while( degHead[minDegree] == -1 )
+                minDegree++;
+
+            int p = degHead[minDegree];
+            removeFromList(p);
+            eliminated[p] = true;
+            perm[k] = p;
+
+            minDegree = Math.min(minDegree,eliminate(p));
+        }
+
+        return perm;
+    }
+
+    /**
+     * Removes node p from the graph and turns its neighbors into a clique.
+     *
+     * @return the smallest degree of any neighbor after the update
+     */
+    private int eliminate( int p ) {
+        int neighbors[] = adj[p];
+        int numNeighbors = adjLength[p];
+        int minDegree = Integer.MAX_VALUE;
+
+        for( int i = 0; i < numNeighbors; i++ ) {
+            int u = neighbors[i];
+            int mark = markValue++;
+
+            // keep the neighbors of u, except for p which has been eliminated
+            int list[] = adj[u];
+            int length = 0;
+            for( int j = 0; j < adjLength[u]; j++ ) {
+                int v = list[j];
+                if( eliminated[v] )
+                    continue;
+                marks[v] = mark;
+                list[length++] = v;
+            }
+
+            // connect u to all the other neighbors of p
+            marks[u] = mark;
+            for( int j = 0; j < numNeighbors; j++ ) {
+                int v = neighbors[j];
+                if( marks[v] == mark )
+                    continue;
+                if( length == list.length ) {
+                    int tmp[] = new int[ list.length*2+1 ];
+                    System.arraycopy(list,0,tmp,0,length);
+                    adj[u] = list = tmp;
+                }
+                list[length++] = v;
+            }
+            adjLength[u] = length;
+
+            removeFromList(u);
+            degree[u] = length;
+            addToList(u);
+            minDegree = Math.min(minDegree,length);
+        }
+
+        adj[p] = null;
+        adjLength[p] = 0;
+
+        return minDegree;
+    }
+
+    /**
+     * Creates the graph from the structure of A + A<sup>T</sup>
+     */
+    private void buildGraph( SparseMatrixCSC64F A ) {
+        final int N = A.numCols;
+
+        // count the number of neighbors, duplicates are removed later on
+        for( int col = 0; col < N; col++ ) {
+            int idx1 = A.col_idx[col+1];
+            for( int i = A.col_idx[col]; i < idx1; i++ ) {
+                int row = A.nz_rows[i];
+                if( row != col ) {
+                    adjLength[row]++;
+                    adjLength[col]++;
+                }
+            }
+        }
+
+        for( int i = 0; i < N; i++ ) {
+            adj[i] = new int[ adjLength[i] ];
+            adjLength[i] = 0;
+        }
+
+        for( int col = 0; col < N; col++ ) {
+            int idx1 = A.col_idx[col+1];
+            for( int i = A.col_idx[col]; i < idx1; i++ ) {
+                int row = A.nz_rows[i];
+                if( row != col ) {
+                    adj[row][adjLength[row]++] = col;
+                    adj[col][adjLength[col]++] = row;
+                }
+            }
+        }
+
+        // remove duplicate edges
+        for( int i = 0; i < N; i++ ) {
+            int list[] = adj[i];
+            int length = 0;
+            for( int j = 0; j < adjLength[i]; j++ ) {
+                int v = list[j];
+                if( marks[v] != -(i+2) ) {
+                    marks[v] = -(i+2);
+                    list[length++] = v;
+                }
+            }
+            adjLength[i] = length;
+        }
+    }
+
+    private void declareWork( int N ) {
+        if( adj.length < N ) {
+            adj = new int[N][];
+            adjLength = new int[N];
+            degHead = new int[N];
+            next = new int[N];
+            prev = new int[N];
+            degree = new int[N];
+            marks = new int[N];
+            eliminated = new boolean[N];
+        }
+        for( int i = 0; i < N; i++ ) {
+            adjLength[i] = 0;
+            degHead[i] = -1;
+            marks[i] = -1;
+            eliminated[i] = false;
+        }
+        markValue = 0;
+    }
+
+    private void addToList( int i ) {
+        int d = degree[i];
+        int head = degHead[d];
+        next[i] = head;
+        prev[i] = -1;
+        if( head != -1 )
+            prev[head] = i;
+        degHead[d] = i;
+    }
+
+    private void removeFromList( int i ) {
+        if( prev[i] != -1 )
+            next[prev[i]] = next[i];
+        else
+            degHead[degree[i]] = next[i];
+        if( next[i] != -1 )
+            prev[next[i]] = prev[i];
+    }
+}
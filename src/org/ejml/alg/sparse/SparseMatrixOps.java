@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+
+/**
+ * Various operations on {@link SparseMatrixCSC64F}.  Unless otherwise stated the output matrix is reshaped to
+ * the correct size and its arrays are grown as needed.
+ *
+ * @author Peter Abeles
+ */
+public class SparseMatrixOps {
+
+    /**
+     * Converts a dense matrix into a sparse matrix.  Only elements which are not zero are saved.
+     *
+     * @param src Original DenseMatrix64F.  Not modified.
+     * @param dst Equivalent SparseMatrixCSC64F.  If null a new matrix will be declared.  Modified.
+     * @return The sparse matrix.
+     */
+    public static SparseMatrixCSC64F convert( DenseMatrix64F src , SparseMatrixCSC64F dst )
+    {
+        int nz = 0;
+        for( int i = 0; i < src.getNumElements(); i++ ) {
+            if( src.data[i] != 0 )
+                nz++;
+        }
+
+        if( dst == null )
+            dst = new SparseMatrixCSC64F(src.numRows,src.numCols,nz);
+        else
+            dst.reshape(src.numRows,src.numCols,nz);
+
+        int index = 0;
+        for( int col = 0; col < src.numCols; col++ ) {
+            dst.col_idx[col] = index;
+            for( int row = 0; row < src.numRows; row++ ) {
+                double value = src.data[row*src.numCols + col];
+                if( value != 0 ) {
+                    dst.nz_rows[index] = row;
+                    dst.nz_values[index++] = value;
+                }
+            }
+        }
+        dst.col_idx[src.numCols] = index;
+        dst.nz_length = index;
+        dst.indicesSorted = true;
+
+        return dst;
+    }
+
+    /**
+     * Converts a sparse matrix into a dense matrix.
+     *
+     * @param src Original SparseMatrixCSC64F.  Not modified.
+     * @param dst Equivalent DenseMatrix64F.  If null a new matrix will be declared.  Modified.
+     * @return The dense matrix.
+     */
+    public static DenseMatrix64F convert( SparseMatrixCSC64F src , DenseMatrix64F dst )
+    {
+        if( dst == null )
+            dst = new DenseMatrix64F(src.numRows,src.numCols);
+        else
+            dst.reshape(src.numRows,src.numCols);
+
+        dst.zero();
+
+        for( int col = 0; col < src.numCols; col++ ) {
+            int idx1 = src.col_idx[col+1];
+            for( int i = src.col_idx[col]; i < idx1; i++ ) {
+                dst.data[ src.nz_rows[i]*dst.numCols + col ] = src.nz_values[i];
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * Computes the transpose of a sparse matrix.  The row indexes in the output are sorted.
+     *
+     * @param A Original matrix.  Not modified.
+     * @param A_tran Transposed matrix.  If null a new matrix will be declared.  Modified.
+     * @param work Work space of length A.numRows.  If null it will be declared internally.
+     * @return The transposed matrix.
+     */
+    public static SparseMatrixCSC64F transpose( SparseMatrixCSC64F A , SparseMatrixCSC64F A_tran , int work[] )
+    {
+        if( A_tran == null )
+            A_tran = new SparseMatrixCSC64F(A.numCols,A.numRows,A.nz_length);
+        else
+            A_tran.reshape(A.numCols,A.numRows,A.nz_length);
+
+        if( work == null || work.length < A.numRows )
+            work = new int[ A.numRows ];
+        else
+            Arrays.fill(work,0,A.numRows,0);
+
+        // count the number of elements in each row of A
+        for( int i = 0; i < A.nz_length; i++ ) {
+            work[A.nz_rows[i]]++;
+        }
+
+        // compute where each column in the transpose starts
+        int total = 0;
+        for( int row = 0; row < A.numRows; row++ ) {
+            A_tran.col_idx[row] = total;
+            int count = work[row];
+            work[row] = total;
+            total += count;
+        }
+        A_tran.col_idx[A.numRows] = total;
+
+        // the columns in A are traversed in order so the output will be sorted
+        for( int col = 0; col < A.numCols; col++ ) {
+            int idx1 = A.col_idx[col+1];
+            for( int i = A.col_idx[col]; i < idx1; i++ ) {
+                int index = work[A.nz_rows[i]]++;
+                A_tran.nz_rows[index] = col;
+                A_tran.nz_values[index] = A.nz_values[i];
+            }
+        }
+        A_tran.nz_length = total;
+        A_tran.indicesSorted = true;
+
+        return A_tran;
+    }
+
+    /**
+     * <p>
+     * Applies a symmetric permutation to a symmetric matrix and saves the upper triangle.<br>
+     * <br>
+     * C = P*A*P<sup>T</sup><br>
+     * <br>
+     * Only elements in the upper triangle of A, including the diagonal, are read.  Element A(i,j) is
+     * moved to C(pinv[i],pinv[j]), or to its mirror if that is below the diagonal.  The row indexes in
+     * the output are not sorted.
+     * </p>
+     *
+     * @param A Square symmetric matrix.  Not modified.
+     * @param pinv Inverse permutation, pinv[original] = new.  If null then no permutation is applied.  Not modified.
+     * @param C Upper triangle of the permuted matrix.  If null a new matrix will be declared.  Modified.
+     * @param work Work space of length A.numCols.  If null it will be declared internally.
+     * @return The permuted matrix.
+     */
+    public static SparseMatrixCSC64F permuteSymmetric( SparseMatrixCSC64F A , int pinv[] ,
+                                                       SparseMatrixCSC64F C , int work[] )
+    {
+        if( A.numRows != A.numCols )
+            throw new MatrixDimensionException("A must be square");
+
+        final int N = A.numCols;
+
+        if( C == null )
+            C = new SparseMatrixCSC64F(N,N,A.nz_length);
+        else
+            C.reshape(N,N,A.nz_length);
+
+        if( work == null || work.length < N )
+            work = new int[ N ];
+        else
+            Arrays.fill(work,0,N,0);
+
+        // count the number of elements in each column of C
+        for( int col = 0; col < N; col++ ) {
+            int col2 = pinv != null ? pinv[col] : col;
+            int idx1 = A.col_idx[col+1];
+            for( int i = A.col_idx[col]; i < idx1; i++ ) {
+                int row = A.nz_rows[i];
+                if( row > col )
+                    continue;
+                int row2 = pinv != null ? pinv[row] : row;
+                work[Math.max(row2,col2)]++;
+            }
+        }
+
+        int total = 0;
+        for( int col = 0; col < N; col++ ) {
+            C.col_idx[col] = total;
+            int count = work[col];
+            work[col] = total;
+            total += count;
+        }
+        C.col_idx[N] = total;
+
+        for( int col = 0; col < N; col++ ) {
+            int col2 = pinv != null ? pinv[col] : col;
+            int idx1 = A.col_idx[col+1];
+            for( int i = A.col_idx[col]; i < idx1; i++ ) {
+                int row = A.nz_rows[i];
+                if( row > col )
+                    continue;
+                int row2 = pinv != null ? pinv[row] : row;
+                int index = work[Math.max(row2,col2)]++;
+                C.nz_rows[index] = Math.min(row2,col2);
+                C.nz_values[index] = A.nz_values[i];
+            }
+        }
+        C.nz_length = total;
+        C.indicesSorted = false;
+
+        return C;
+    }
+
+    /**
+     * <p>
+     * Performs matrix multiplication between two sparse matrices.<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     * <p>
+     * The row indexes in the output are not sorted.
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     * @param gw (Optional) Work space of length a.numRows.  Can be null.
+     * @param gx (Optional) Work space of length a.numRows.  Can be null.
+     */
+    public static void mult( SparseMatrixCSC64F a , SparseMatrixCSC64F b , SparseMatrixCSC64F c ,
+                             int gw[] , double gx[] )
+    {
+        if( a == c || b == c )
+            throw new IllegalArgumentException("Neither 'a' or 'b' can be the same matrix as 'c'");
+        if( a.numCols != b.numRows )
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+
+        if( gw == null || gw.length < a.numRows )
+            gw = new int[ a.numRows ];
+        else
+            Arrays.fill(gw,0,a.numRows,0);
+        if( gx == null || gx.length < a.numRows )
+            gx = new double[ a.numRows ];
+
+        c.reshape(a.numRows,b.numCols,growLength((long)a.nz_length+b.nz_length,a.numRows,b.numCols));
+
+        int nz = 0;
+        for( int col = 0; col < b.numCols; col++ ) {
+            // make sure there is enough space to store the worst case for this column
+            if( (long)nz + a.numRows > c.nz_values.length ) {
+                c.nz_length = nz;
+                c.growMaxLength(growLength(2L*c.nz_values.length+a.numRows,a.numRows,b.numCols), true);
+            }
+
+            c.col_idx[col] = nz;
+            int mark = col+1;
+
+            // c(:,col) = sum a(:,k)*b(k,col)
+            int idxB1 = b.col_idx[col+1];
+            for( int bi = b.col_idx[col]; bi < idxB1; bi++ ) {
+                int k = b.nz_rows[bi];
+                double valB = b.nz_values[bi];
+
+                int idxA1 = a.col_idx[k+1];
+                for( int ai = a.col_idx[k]; ai < idxA1; ai++ ) {
+                    int row = a.nz_rows[ai];
+                    if( gw[row] != mark ) {
+                        gw[row] = mark;
+                        c.nz_rows[nz++] = row;
+                        gx[row] = a.nz_values[ai]*valB;
+                    } else {
+                        gx[row] += a.nz_values[ai]*valB;
+                    }
+                }
+            }
+
+            for( int i = c.col_idx[col]; i < nz; i++ ) {
+                c.nz_values[i] = gx[c.nz_rows[i]];
+            }
+        }
+        c.col_idx[b.numCols] = nz;
+        c.nz_length = nz;
+        c.indicesSorted = false;
+    }
+
+    /**
+     * Limits the desired array length to the number of elements in a numRows by numCols matrix and to
+     * Integer.MAX_VALUE.  Computed using long since the number of elements can be larger than an int.
+     */
+    static int growLength( long length , int numRows , int numCols ) {
+        length = Math.min(length,(long)numRows*numCols);
+        return (int)Math.min(length,Integer.MAX_VALUE);
+    }
+
+    /**
+     * <p>
+     * Performs matrix multiplication between a sparse and a dense matrix.<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( SparseMatrixCSC64F a , DenseMatrix64F b , DenseMatrix64F c )
+    {
+        if( a.numCols != b.numRows )
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        if( a.numRows != c.numRows || b.numCols != c.numCols )
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        if( b == c )
+            throw new IllegalArgumentException("'b' and 'c' can't be the same matrix");
+
+        c.zero();
+
+        // c(row,:) += a(row,k)*b(k,:)
+        final int numColsB = b.numCols;
+        for( int k = 0; k < a.numCols; k++ ) {
+            int idx1 = a.col_idx[k+1];
+            int indexB = k*numColsB;
+            for( int i = a.col_idx[k]; i < idx1; i++ ) {
+                double valA = a.nz_values[i];
+                int indexC = a.nz_rows[i]*numColsB;
+                int end = indexC + numColsB;
+                int indexB_j = indexB;
+                while( indexC < end ) {
+                    c.data[indexC++] += valA*b.data[indexB_j++];
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Performs matrix multiplication between a transposed sparse matrix and a dense matrix.<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( SparseMatrixCSC64F a , DenseMatrix64F b , DenseMatrix64F c )
+    {
+        if( a.numRows != b.numRows )
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        if( a.numCols != c.numRows || b.numCols != c.numCols )
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        if( b == c )
+            throw new IllegalArgumentException("'b' and 'c' can't be the same matrix");
+
+        c.zero();
+
+        // c(k,:) += a(row,k)*b(row,:)
+        final int numColsB = b.numCols;
+        for( int k = 0; k < a.numCols; k++ ) {
+            int idx1 = a.col_idx[k+1];
+            int indexC = k*numColsB;
+            int end = indexC + numColsB;
+            for( int i = a.col_idx[k]; i < idx1; i++ ) {
+                double valA = a.nz_values[i];
+                int indexB = a.nz_rows[i]*numColsB;
+                for( int indexC_j = indexC; indexC_j < end; ) {
+                    c.data[indexC_j++] += valA*b.data[indexB++];
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Performs matrix multiplication between a dense and a sparse matrix.<br>
+     * <br>
+     * c = a * b <br>
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( DenseMatrix64F a , SparseMatrixCSC64F b , DenseMatrix64F c )
+    {
+        if( a.numCols != b.numRows )
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        if( a.numRows != c.numRows || b.numCols != c.numCols )
+            throw new MatrixDimensionException("The results matrix does not have the desired dimensions");
+        if( a == c )
+            throw new IllegalArgumentException("'a' and 'c' can't be the same matrix");
+
+        // c(row,col) = sum a(row,k)*b(k,col)
+        for( int row = 0; row < a.numRows; row++ ) {
+            int indexA = row*a.numCols;
+            int indexC = row*c.numCols;
+            for( int col = 0; col < b.numCols; col++ ) {
+                int idx1 = b.col_idx[col+1];
+                double sum = 0;
+                for( int i = b.col_idx[col]; i < idx1; i++ ) {
+                    sum += a.data[indexA + b.nz_rows[i]]*b.nz_values[i];
+                }
+                c.data[indexC++] = sum;
+            }
+        }
+    }
+
+    /**
+     * Creates a sparse identity matrix.
+     *
+     * @param width Number of rows and columns in the matrix.
+     * @return The identity matrix.
+     */
+    public static SparseMatrixCSC64F identity( int width ) {
+        SparseMatrixCSC64F ret = new SparseMatrixCSC64F(width,width,width);
+
+        for( int i = 0; i < width; i++ ) {
+            ret.col_idx[i] = i;
+            ret.nz_rows[i] = i;
+            ret.nz_values[i] = 1;
+        }
+        ret.col_idx[width] = width;
+        ret.nz_length = width;
+        ret.indicesSorted = true;
+
+        return ret;
+    }
+
+    /**
+     * Checks to see if the two matrices have the same shape and the same value for each element.  Elements
+     * which are explicitly stored as zero are the same as elements which are not stored.
+     *
+     * @param A Matrix A.  Not modified.
+     * @param B Matrix B.  Not modified.
+     * @param tol Tolerance for equality.
+     * @return true if they are equal.
+     */
+    public static boolean isEquals( SparseMatrixCSC64F A , SparseMatrixCSC64F B , double tol ) {
+        if( A.numRows != B.numRows || A.numCols != B.numCols )
+            return false;
+
+        double work[] = new double[ A.numRows ];
+        for( int col = 0; col < A.numCols; col++ ) {
+            for( int i = A.col_idx[col]; i < A.col_idx[col+1]; i++ ) {
+                work[A.nz_rows[i]] += A.nz_values[i];
+            }
+            for( int i = B.col_idx[col]; i < B.col_idx[col+1]; i++ ) {
+                work[B.nz_rows[i]] -= B.nz_values[i];
+            }
+            for( int row = 0; row < A.numRows; row++ ) {
+                if( !(Math.abs(work[row]) <= tol) )
+                    return false;
+                work[row] = 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a random sparse matrix with the specified number of non-zero elements.  The values
+     * are drawn uniformly from min to max.
+     *
+     * @param numRows Number of rows in the matrix.
+     * @param numCols Number of columns in the matrix.
+     * @param nz_total Number of non-zero elements.  Must be &le; numRows*numCols
+     * @param min Minimum value of a non-zero element.
+     * @param max Maximum value of a non-zero element.
+     * @param rand Random number generator.
+     * @return The random sparse matrix.
+     */
+    public static SparseMatrixCSC64F createRandom( int numRows , int numCols , int nz_total ,
+                                                   double min , double max , Random rand )
+    {
+        long N = (long)numRows*numCols;
+        if( nz_total > N )
+            throw new IllegalArgumentException("nz_total is larger than the number of elements");
+
+        // select which elements will be non-zero.  Elements are indexed in column-major order
+        long selected[] = new long[nz_total];
+        if( nz_total > N/2 ) {
+            // dense enough that a partial shuffle of all the indexes is the faster option
+            long all[] = new long[(int)N];
+            for( int i = 0; i < N; i++ ) {
+                all[i] = i;
+            }
+            for( int i = 0; i < nz_total; i++ ) {
+                int swap = i + rand.nextInt((int)N-i);
+                long tmp = all[i];
+                all[i] = all[swap];
+                all[swap] = tmp;
+            }
+            System.arraycopy(all,0,selected,0,nz_total);
+        } else {
+            Set<Long> used = new HashSet<Long>();
+            for( int i = 0; i < nz_total; ) {
+                long index = (long)rand.nextInt(numCols)*numRows + rand.nextInt(numRows);
+                if( used.add(index) )
+                    selected[i++] = index;
+            }
+        }
+        Arrays.sort(selected);
+
+        SparseMatrixCSC64F ret = new SparseMatrixCSC64F(numRows,numCols,nz_total);
+
+        int col = 0;
+        for( int i = 0; i < nz_total; i++ ) {
+            long index = selected[i];
+            int c = (int)(index/numRows);
+            while( col <= c ) {
+                ret.col_idx[col++] = i;
+            }
+            ret.nz_rows[i] = (int)(index - (long)c*numRows);
+            ret.nz_values[i] = rand.nextDouble()*(max-min) + min;
+        }
+        while( col <= numCols ) {
+            ret.col_idx[col++] = nz_total;
+        }
+        ret.nz_length = nz_total;
+        ret.indicesSorted = true;
+
+        return ret;
+    }
+}
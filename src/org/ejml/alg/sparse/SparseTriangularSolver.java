@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.data.SparseMatrixCSC64F;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Sparse counterpart to {@link org.ejml.alg.dense.decomposition.TriangularSolver}.  Solves systems of
+ * equations where T is a non-singular triangular {@link SparseMatrixCSC64F}:<br>
+ * <br>
+ * T*x = b<br>
+ * <br>
+ * The diagonal elements must be stored in T, but elements in the other triangle are not allowed.  Row indexes
+ * do not need to be sorted.
+ * </p>
+ * <p>
+ * These functions are designed for use inside of other algorithms.  To use them directly
+ * is dangerous since no sanity checks are performed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SparseTriangularSolver {
+
+    /**
+     * <p>
+     * Solves for non-singular lower triangular matrices using forward substitution.
+     * <br>
+     * b = L<sup>-1</sup>b<br>
+     * <br>
+     * where b is a dense vector, L is an n by n matrix.<br>
+     * </p>
+     *
+     * @param L An n by n non-singular lower triangular matrix. Not modified.
+     * @param b A vector of length n. Modified.
+     */
+    public static void solveL( SparseMatrixCSC64F L , double []b )
+    {
+        final int N = L.numCols;
+
+        for( int col = 0; col < N; col++ ) {
+            int idx0 = L.col_idx[col];
+            int idx1 = L.col_idx[col+1];
+
+            double x_j = b[col] /= diagonal(L,col,idx0,idx1);
+
+            for( int i = idx0; i < idx1; i++ ) {
+                int row = L.nz_rows[i];
+                if( row != col )
+                    b[row] -= L.nz_values[i]*x_j;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Solves for the transpose of a non-singular lower triangular matrix using back substitution.
+     * <br>
+     * b = L<sup>-T</sup>b<br>
+     * <br>
+     * where b is a dense vector, L is an n by n matrix.<br>
+     * </p>
+     *
+     * @param L An n by n non-singular lower triangular matrix. Not modified.
+     * @param b A vector of length n. Modified.
+     */
+    public static void solveTranL( SparseMatrixCSC64F L , double []b )
+    {
+        for( int col = L.numCols-1; col >= 0; col-- ) {
+            int idx0 = L.col_idx[col];
+            int idx1 = L.col_idx[col+1];
+
+            double sum = b[col];
+            double diag = 0;
+            for( int i = idx0; i < idx1; i++ ) {
+                int row = L.nz_rows[i];
+                if( row == col )
+                    diag = L.nz_values[i];
+                else
+                    sum -= L.nz_values[i]*b[row];
+            }
+            b[col] = sum/diag;
+        }
+    }
+
+    /**
+     * <p>
+     * Solves for non-singular upper triangular matrices using back substitution.
+     * <br>
+     * b = U<sup>-1</sup>b<br>
+     * <br>
+     * where b is a dense vector, U is an n by n matrix.<br>
+     * </p>
+     *
+     * @param U An n by n non-singular upper triangular matrix. Not modified.
+     * @param b A vector of length n. Modified.
+     */
+    public static void solveU( SparseMatrixCSC64F U , double []b )
+    {
+        for( int col = U.numCols-1; col >= 0; col-- ) {
+            int idx0 = U.col_idx[col];
+            int idx1 = U.col_idx[col+1];
+
+            double x_j = b[col] /= diagonal(U,col,idx0,idx1);
+
+            for( int i = idx0; i < idx1; i++ ) {
+                int row = U.nz_rows[i];
+                if( row != col )
+                    b[row] -= U.nz_values[i]*x_j;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Solves for the transpose of a non-singular upper triangular matrix using forward substitution.
+     * <br>
+     * b = U<sup>-T</sup>b<br>
+     * <br>
+     * where b is a dense vector, U is an n by n matrix.<br>
+     * </p>
+     *
+     * @param U An n by n non-singular upper triangular matrix. Not modified.
+     * @param b A vector of length n. Modified.
+     */
+    public static void solveTranU( SparseMatrixCSC64F U , double []b )
+    {
+        final int N = U.numCols;
+
+        for( int col = 0; col < N; col++ ) {
+            int idx0 = U.col_idx[col];
+            int idx1 = U.col_idx[col+1];
+
+            double sum = b[col];
+            double diag = 0;
+            for( int i = idx0; i < idx1; i++ ) {
+                int row = U.nz_rows[i];
+                if( row == col )
+                    diag = U.nz_values[i];
+                else
+                    sum -= U.nz_values[i]*b[row];
+            }
+            b[col] = sum/diag;
+        }
+    }
+
+    /**
+     * <p>
+     * Solves a system where the right hand side is also sparse.  The non-zero pattern of each column in
+     * X is found by searching the graph of G starting from the non-zero elements in the same column of B,
+     * so only elements which can be non-zero are computed.  The search also determines the order the elements
+     * are solved in, so G can be either lower or upper triangular.<br>
+     * <br>
+     * G*X = B<br>
+     * </p>
+     *
+     * @param G An n by n non-singular lower or upper triangular matrix. Not modified.
+     * @param B An n by m matrix. Not modified.
+     * @param X The n by m solution.  Modified.
+     * @param gw (Optional) Work space of length 4*n.  Can be null.
+     * @param gx (Optional) Work space of length n.  Can be null.
+     */
+    public static void solve( SparseMatrixCSC64F G ,
+                              SparseMatrixCSC64F B , SparseMatrixCSC64F X ,
+                              int gw[] , double gx[] )
+    {
+        final int N = G.numCols;
+
+        if( gw == null || gw.length < 4*N )
+            gw = new int[ 4*N ];
+        if( gx == null || gx.length < N )
+            gx = new double[ N ];
+
+        // marks share the same array as the other work space and need to be cleared
+        Arrays.fill(gw,0,N,0);
+
+        X.reshape(N,B.numCols,B.nz_length);
+
+        int nz = 0;
+        for( int colB = 0; colB < B.numCols; colB++ ) {
+            int top = searchNzRows(G,B,colB,colB+1,gw);
+
+            // make sure there is enough space to store this column
+            int length = N-top;
+            if( (long)nz + length > X.nz_values.length ) {
+                X.nz_length = nz;
+                X.growMaxLength((int)Math.min(2L*X.nz_values.length + length,Integer.MAX_VALUE), true);
+            }
+
+            // scatter B into the dense work space
+            for( int i = top; i < N; i++ ) {
+                gx[gw[N+i]] = 0;
+            }
+            int idx1 = B.col_idx[colB+1];
+            for( int i = B.col_idx[colB]; i < idx1; i++ ) {
+                gx[B.nz_rows[i]] = B.nz_values[i];
+            }
+
+            // solve in topological order
+            for( int p = top; p < N; p++ ) {
+                int col = gw[N+p];
+                int idx0 = G.col_idx[col];
+                int idxG1 = G.col_idx[col+1];
+
+                double x_j = gx[col] /= diagonal(G,col,idx0,idxG1);
+
+                for( int i = idx0; i < idxG1; i++ ) {
+                    int row = G.nz_rows[i];
+                    if( row != col )
+                        gx[row] -= G.nz_values[i]*x_j;
+                }
+            }
+
+            // save the results
+            X.col_idx[colB] = nz;
+            for( int p = top; p < N; p++ ) {
+                int row = gw[N+p];
+                X.nz_rows[nz] = row;
+                X.nz_values[nz++] = gx[row];
+            }
+        }
+        X.col_idx[B.numCols] = nz;
+        X.nz_length = nz;
+        X.indicesSorted = false;
+    }
+
+    /**
+     * <p>
+     * Determines which elements in a column of the solution to G*X=B can be non-zero by performing a depth
+     * first search through the graph of G.  Element j in X depends on element i when G(i,j) is not zero.  The
+     * found rows are stored in topological order, which is the order they must be solved in.
+     * </p>
+     *
+     * <p>
+     * The work space is split into four blocks of length n.  The first contains the marks of visited nodes
+     * and must be set to a value less than 'mark' before the first call.  The search results are stored in
+     * the second block at elements top to n-1.  The remaining two blocks are used as stacks.
+     * </p>
+     *
+     * @param G An n by n triangular matrix. Not modified.
+     * @param B Right hand side. Not modified.
+     * @param colB The column in B which is being searched.
+     * @param mark Value used to mark visited nodes.  Must be unique for each call, e.g. colB+1.
+     * @param gw Work space of length 4*n.  Modified.
+     * @return Index of the first found row, top.
+     */
+    public static int searchNzRows( SparseMatrixCSC64F G , SparseMatrixCSC64F B , int colB , int mark ,
+                                    int gw[] )
+    {
+        final int N = G.numCols;
+        final int offsetXi = N;
+        final int offsetStack = 2*N;
+        final int offsetPStack = 3*N;
+
+        int top = N;
+
+        int idx1 = B.col_idx[colB+1];
+        for( int i = B.col_idx[colB]; i < idx1; i++ ) {
+            int start = B.nz_rows[i];
+            if( gw[start] == mark )
+                continue;
+
+            // non-recursive depth first search
+            int head = 0;
+            gw[offsetStack] = start;
+            while( head >= 0 ) {
+                int j = gw[offsetStack+head];
+                if( gw[j] != mark ) {
+                    gw[j] = mark;
+                    gw[offsetPStack+head] = G.col_idx[j];
+                }
+
+                boolean done = true;
+                int end = G.col_idx[j+1];
+                for( int p = gw[offsetPStack+head]; p < end; p++ ) {
+                    int row = G.nz_rows[p];
+                    if( gw[row] == mark )
+                        continue;
+                    gw[offsetPStack+head] = p+1;
+                    gw[offsetStack + ++head] = row;
+                    done = false;
+                    break;
+                }
+
+                if( done ) {
+                    head--;
+                    gw[offsetXi + --top] = j;
+                }
+            }
+        }
+
+        return top;
+    }
+
+    /**
+     * Returns the value of the diagonal element in the column
+     */
+    private static double diagonal( SparseMatrixCSC64F T , int col , int idx0 , int idx1 ) {
+        for( int i = idx0; i < idx1; i++ ) {
+            if( T.nz_rows[i] == col )
+                return T.nz_values[i];
+        }
+        return 0;
+    }
+}
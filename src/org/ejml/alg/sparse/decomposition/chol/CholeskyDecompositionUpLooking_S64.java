@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse.decomposition.chol;
+
+import org.ejml.alg.sparse.MinimumDegreeOrdering;
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.interfaces.decomposition.CholeskyDecomposition;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Cholesky decomposition for sparse symmetric positive definite matrices.  It computes a lower triangular
+ * matrix L such that:<br>
+ * <br>
+ * P*A*P<sup>T</sup> = L*L<sup>T</sup><br>
+ * <br>
+ * where P is a permutation matrix which reduces the number of non-zero elements in L.  If the fill reducing
+ * ordering is turned off then P is the identity matrix.  Only the upper triangle of A is read.
+ * </p>
+ *
+ * <p>
+ * The decomposition is done in two steps.  First a symbolic analysis computes the ordering, the elimination
+ * tree, and the number of non-zero elements in each column of L.  This only depends on the structure of A and
+ * is saved.  If the next matrix which is decomposed has the same structure then the symbolic step is skipped,
+ * which is common when the same type of system is solved over and over again.  The numerical step is an
+ * up-looking algorithm which computes one row of L at a time by solving a sparse triangular system.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CholeskyDecompositionUpLooking_S64 implements CholeskyDecomposition<SparseMatrixCSC64F> {
+
+    // should a fill reducing ordering be used
+    private boolean reduceFill;
+    private MinimumDegreeOrdering ordering;
+
+    private int N;
+
+    // the permutation and its inverse.  perm[new] = original, pinv[original] = new
+    private int perm[];
+    private int pinv[];
+
+    // elimination tree
+    private int parent[] = new int[0];
+    // start of each column in L
+    private int colStart[] = new int[1];
+
+    // the structure of the last matrix which the symbolic analysis was performed on
+    private int structCols[] = new int[0];
+    private int structRows[] = new int[0];
+    private int structLength = -1;
+
+    // upper triangle of the permuted input matrix
+    private SparseMatrixCSC64F C = new SparseMatrixCSC64F(1,1,0);
+    // the decomposed matrix
+    private SparseMatrixCSC64F L = new SparseMatrixCSC64F(1,1,0);
+
+    // work space
+    private int gw[] = new int[0];
+    private int stack[] = new int[0];
+    private int marks[] = new int[0];
+    private double gx[] = new double[0];
+
+    /**
+     * Creates the decomposition.
+     *
+     * @param reduceFill If true a fill reducing ordering is computed.
+     */
+    public CholeskyDecompositionUpLooking_S64( boolean reduceFill ) {
+        this.reduceFill = reduceFill;
+        if( reduceFill )
+            ordering = new MinimumDegreeOrdering();
+    }
+
+    public CholeskyDecompositionUpLooking_S64() {
+        this(true);
+    }
+
+    /**
+     * Performs the symbolic analysis on A.  Only the structure of A is used.  Normally this is done
+     * automatically by {@link #decompose(SparseMatrixCSC64F)}.
+     *
+     * @param A Square matrix whose structure is analyzed.  Not modified.
+     */
+    public void performSymbolic( SparseMatrixCSC64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        N = A.numCols;
+        declareWork();
+
+        if( reduceFill ) {
+            if( perm == null || perm.length != N ) {
+                perm = new int[ N ];
+                pinv = new int[ N ];
+            }
+            ordering.process(A,perm);
+            for( int i = 0; i < N; i++ )
+                pinv[perm[i]] = i;
+        } else {
+            perm = pinv = null;
+        }
+
+        SparseMatrixOps.permuteSymmetric(A,pinv,C,gw);
+        eliminationTree(C);
+        columnCounts(C);
+
+        // save the structure so that it can be recognized later on
+        if( structCols.length < N+1 )
+            structCols = new int[ N+1 ];
+        if( structRows.length < A.nz_length )
+            structRows = new int[ A.nz_length ];
+        System.arraycopy(A.col_idx,0,structCols,0,N+1);
+        System.arraycopy(A.nz_rows,0,structRows,0,A.nz_length);
+        structLength = A.nz_length;
+    }
+
+    @Override
+    public boolean decompose( SparseMatrixCSC64F A ) {
+        if( A.numRows != A.numCols )
+            throw new IllegalArgumentException("Must be a square matrix");
+
+        if( !isSameStructure(A) )
+            performSymbolic(A);
+        else
+            SparseMatrixOps.permuteSymmetric(A,pinv,C,gw);
+
+        return numeric();
+    }
+
+    /**
+     * Computes L one row at a time.  Row k is found by solving L(0:k-1,0:k-1)*x = C(0:k-1,k),
+     * where the non-zero pattern of x is given by the elimination tree.
+     */
+    private boolean numeric() {
+        int nz = colStart[N];
+        L.reshape(N,N,nz);
+        System.arraycopy(colStart,0,L.col_idx,0,N+1);
+        L.nz_length = nz;
+        L.indicesSorted = true;
+
+        // next free element in each column
+        int c[] = gw;
+        System.arraycopy(colStart,0,c,0,N);
+        Arrays.fill(marks,0,N,-1);
+
+        double x[] = gx;
+        Arrays.fill(x,0,N,0);
+
+        int Lp[] = L.col_idx;
+        int Li[] = L.nz_rows;
+        double Lx[] = L.nz_values;
+
+        for( int k = 0; k < N; k++ ) {
+            int top = reach(C,k);
+
+            // scatter column k of C into x
+            int idx1 = C.col_idx[k+1];
+            for( int i = C.col_idx[k]; i < idx1; i++ ) {
+                int row = C.nz_rows[i];
+                if( row <= k )
+                    x[row] = C.nz_values[i];
+            }
+            double d = x[k];
+            x[k] = 0;
+
+            // sparse triangular solve
+            for( ; top < N; top++ ) {
+                int i = stack[N+top];
+                double lki = x[i]/Lx[Lp[i]];
+                x[i] = 0;
+                int end = c[i];
+                for( int p = Lp[i]+1; p < end; p++ ) {
+                    x[Li[p]] -= Lx[p]*lki;
+                }
+                d -= lki*lki;
+                int p = c[i]++;
+                Li[p] = k;
+                Lx[p] = lki;
+            }
+
+            if( d <= 0 )
+                return false;
+
+            int p = c[k]++;
+            Li[p] = k;
+            Lx[p] = Math.sqrt(d);
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the elimination tree from the upper triangle of the matrix
+     */
+    private void eliminationTree( SparseMatrixCSC64F C ) {
+        int ancestor[] = gw;
+
+        for( int k = 0; k < N; k++ ) {
+            parent[k] = -1;
+            ancestor[k] = -1;
+            int idx1 = C.col_idx[k+1];
+            for( int p = C.col_idx[k]; p < idx1; p++ ) {
+                int i = C.nz_rows[p];
+                // traverse from i to the root, compressing the path as it goes
+                while( i != -1 && i < k ) {
+                    int inext = ancestor[i];
+                    ancestor[i] = k;
+                    if( inext == -1 )
+                        parent[i] = k;
+                    i = inext;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the number of non-zero elements in each column of L and computes where each column starts
+     */
+    private void columnCounts( SparseMatrixCSC64F C ) {
+        int counts[] = gw;
+        Arrays.fill(counts,0,N,1);
+        Arrays.fill(marks,0,N,-1);
+
+        for( int k = 0; k < N; k++ ) {
+            int top = reach(C,k);
+            for( ; top < N; top++ ) {
+                counts[stack[N+top]]++;
+            }
+        }
+
+        int total = 0;
+        for( int i = 0; i < N; i++ ) {
+            colStart[i] = total;
+            total += counts[i];
+        }
+        colStart[N] = total;
+    }
+
+    /**
+     * Finds the non-zero pattern of row k in L by walking up the elimination tree from every non-zero
+     * element in column k of C.  The pattern is written to stack[N+top ... 2N-1] in topological order.
+     * Nodes are marked using their row index so the marks don't need to be cleared.
+     *
+     * @return top
+     */
+    private int reach( SparseMatrixCSC64F C , int k ) {
+        int top = N;
+        marks[k] = k;
+
+        int idx1 = C.col_idx[k+1];
+        for( int p = C.col_idx[k]; p < idx1; p++ ) {
+            int i = C.nz_rows[p];
+            if( i > k )
+                continue;
+
+            int length = 0;
+            for( ; marks[i] != k; i = parent[i] ) {
+                stack[length++] = i;
+                marks[i] = k;
+            }
+            // push the path onto the output in reverse order
+            while( length > 0 ) {
+                stack[N+(--top)] = stack[--length];
+            }
+        }
+        return top;
+    }
+
+    private boolean isSameStructure( SparseMatrixCSC64F A ) {
+        if( A.numCols != N || A.nz_length != structLength )
+            return false;
+
+        for( int i = 0; i <= N; i++ ) {
+            if( A.col_idx[i] != structCols[i] )
+                return false;
+        }
+        for( int i = 0; i < structLength; i++ ) {
+            if( A.nz_rows[i] != structRows[i] )
+                return false;
+        }
+        return true;
+    }
+
+    private void declareWork() {
+        if( parent.length < N ) {
+            parent = new int[ N ];
+            colStart = new int[ N+1 ];
+            gw = new int[ N ];
+            stack = new int[ 2*N ];
+            marks = new int[ N ];
+            gx = new double[ N ];
+        }
+    }
+
+    @Override
+    public boolean isLower() {
+        return true;
+    }
+
+    /**
+     * Returns the lower triangular matrix L of the permuted matrix.
+     *
+     * @param T If not null then the decomposed matrix is written here.
+     * @return The lower triangular matrix.
+     */
+    @Override
+    public SparseMatrixCSC64F getT( SparseMatrixCSC64F T ) {
+        if( T == null )
+            return L.copy();
+        T.set(L);
+        return T;
+    }
+
+    /**
+     * Returns a reference to the internal lower triangular matrix.
+     */
+    public SparseMatrixCSC64F getL() {
+        return L;
+    }
+
+    /**
+     * Returns the fill reducing permutation, where perm[new] = original, or null if none was used.
+     */
+    public int[] getPermutation() {
+        return perm;
+    }
+
+    /**
+     * Returns the inverse of the fill reducing permutation, where pinv[original] = new, or null if none was used.
+     */
+    public int[] getInversePermutation() {
+        return pinv;
+    }
+
+    @Override
+    public boolean inputModified() {
+        return false;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse.linsol.chol;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.alg.sparse.SparseTriangularSolver;
+import org.ejml.alg.sparse.decomposition.chol.CholeskyDecompositionUpLooking_S64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.interfaces.linsol.LinearSolver;
+
+/**
+ * <p>
+ * Linear solver for sparse symmetric positive definite matrices which uses
+ * {@link CholeskyDecompositionUpLooking_S64}.  The right hand side is processed one column at a time
+ * and can be either a sparse or dense matrix.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverChol_S64 implements LinearSolver<SparseMatrixCSC64F> {
+
+    CholeskyDecompositionUpLooking_S64 decomp;
+    int n;
+
+    // storage for a single column in the permuted system
+    double vv[] = new double[0];
+
+    public LinearSolverChol_S64( CholeskyDecompositionUpLooking_S64 decomp ) {
+        this.decomp = decomp;
+    }
+
+    @Override
+    public boolean setA(SparseMatrixCSC64F A) {
+        if( !decomp.decompose(A) )
+            return false;
+
+        n = A.numCols;
+        if( vv.length < n )
+            vv = new double[ n ];
+        return true;
+    }
+
+    @Override
+    public double quality() {
+        SparseMatrixCSC64F L = decomp.getL();
+
+        double max = 0;
+        for( int i = 0; i < L.nz_length; i++ ) {
+            max = Math.max(max,Math.abs(L.nz_values[i]));
+        }
+
+        if( max == 0.0 )
+            return 0.0;
+
+        // the diagonal element is the first element in each column
+        double quality = 1.0;
+        for( int i = 0; i < n; i++ ) {
+            quality *= L.nz_values[L.col_idx[i]]/max;
+        }
+
+        return Math.abs(quality);
+    }
+
+    /**
+     * Solves for X in A*X=B.  B and X must be different matrices.
+     *
+     * @param B A matrix that is n by m.  Not modified.
+     * @param X An n by m matrix where the solution is written to.  Modified.
+     */
+    @Override
+    public void solve(SparseMatrixCSC64F B, SparseMatrixCSC64F X) {
+        if( B.numRows != n )
+            throw new MatrixDimensionException("Unexpected number of rows in B");
+        if( B == X )
+            throw new IllegalArgumentException("B and X can't be the same matrix");
+
+        X.reshape(n,B.numCols,B.nz_length);
+
+        int pinv[] = decomp.getInversePermutation();
+
+        int nz = 0;
+        for( int col = 0; col < B.numCols; col++ ) {
+            for( int i = 0; i < n; i++ )
+                vv[i] = 0;
+            int idx1 = B.col_idx[col+1];
+            for( int i = B.col_idx[col]; i < idx1; i++ ) {
+                int row = B.nz_rows[i];
+                vv[pinv != null ? pinv[row] : row] = B.nz_values[i];
+            }
+
+            solveInternal();
+
+            if( (long)nz + n > X.nz_values.length ) {
+                X.nz_length = nz;
+                X.growMaxLength(growLength(X.nz_values.length,n,B.numCols),true);
+            }
+
+            X.col_idx[col] = nz;
+            for( int i = 0; i < n; i++ ) {
+                double val = vv[pinv != null ? pinv[i] : i];
+                if( val != 0 ) {
+                    X.nz_rows[nz] = i;
+                    X.nz_values[nz++] = val;
+                }
+            }
+        }
+        X.col_idx[B.numCols] = nz;
+        X.nz_length = nz;
+        X.indicesSorted = true;
+    }
+
+    /**
+     * Solves for X in A*X=B where B and X are dense matrices.  B and X can be the same matrix.
+     *
+     * @param B A matrix that is n by m.  Not modified.
+     * @param X An n by m matrix where the solution is written to.  Modified.
+     */
+    public void solve(DenseMatrix64F B, DenseMatrix64F X) {
+        if( B.numRows != n || X.numRows != n || B.numCols != X.numCols )
+            throw new MatrixDimensionException("Unexpected matrix size");
+
+        int pinv[] = decomp.getInversePermutation();
+        int numCols = B.numCols;
+
+        for( int col = 0; col < numCols; col++ ) {
+            for( int i = 0; i < n; i++ )
+                vv[pinv != null ? pinv[i] : i] = B.data[i*numCols+col];
+
+            solveInternal();
+
+            for( int i = 0; i < n; i++ )
+                X.data[i*numCols+col] = vv[pinv != null ? pinv[i] : i];
+        }
+    }
+
+    /**
+     * Length the non-zero arrays in X are grown to.  Computed using long since n*numCols can be larger
+     * than an int, and is limited to Integer.MAX_VALUE.
+     */
+    static int growLength( int currentLength , int n , int numCols ) {
+        long length = Math.min(2L*currentLength+n,(long)n*numCols);
+        return (int)Math.min(length,Integer.MAX_VALUE);
+    }
+
+    /**
+     * Solves L*L<sup>T</sup>*x = b for the column which is stored in vv.
+     */
+    private void solveInternal() {
+        SparseMatrixCSC64F L = decomp.getL();
+        SparseTriangularSolver.solveL(L,vv);
+        SparseTriangularSolver.solveTranL(L,vv);
+    }
+
+    @Override
+    public void invert(SparseMatrixCSC64F A_inv) {
+        solve(SparseMatrixOps.identity(n),A_inv);
+    }
+
+    @Override
+    public boolean modifiesA() {
+        return decomp.inputModified();
+    }
+
+    @Override
+    public boolean modifiesB() {
+        return false;
+    }
+
+    /**
+     * Returns the decomposition used internally.
+     */
+    public CholeskyDecompositionUpLooking_S64 getDecomposition() {
+        return decomp;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+/**
+ * <p>
+ * Stores a large number of small matrices, which all have the same shape, in a structure-of-arrays format.
+ * Element (i,j) of every matrix is stored in one contiguous array, data[i*numCols+j][k] where k is the index of the
+ * matrix in the batch.  Operations which are applied to each matrix in the batch then process each array
+ * sequentially, avoiding the per object overhead of arrays of {@link FixedMatrix64F}, and the inner loop can be
+ * vectorized by the JIT.
+ * </p>
+ *
+ * <p>
+ * Vectors are stored as matrices with one column.  See {@link org.ejml.alg.fixed.BatchOps3} for the operations.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BatchMatrix64F {
+
+    /**
+     * Element (i,j) of matrix k is stored at data[i*numCols+j][k].
+     */
+    public double data[][];
+
+    // number of rows and columns in each matrix
+    public int numRows;
+    public int numCols;
+
+    // number of matrices in the batch
+    public int length;
+
+    /**
+     * Creates a batch of zero matrices.
+     *
+     * @param numRows Number of rows in each matrix.
+     * @param numCols Number of columns in each matrix.
+     * @param length Number of matrices in the batch.
+     */
+    public BatchMatrix64F( int numRows , int numCols , int length ) {
+        if( numRows <= 0 || numCols <= 0 || length < 0 )
+            throw new IllegalArgumentException("Invalid shape");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.length = length;
+        this.data = new double[ numRows*numCols ][ length ];
+    }
+
+    /**
+     * Changes the number of matrices in the batch.  If the arrays are large enough they are not
+     * reallocated, otherwise new arrays are declared and existing values copied.
+     *
+     * @param length Number of matrices in the batch.
+     */
+    public void reshape( int length ) {
+        if( length < 0 )
+            throw new IllegalArgumentException("Length must be non-negative");
+        if( length > data[0].length ) {
+            for( int i = 0; i < data.length; i++ ) {
+                double tmp[] = new double[ length ];
+                System.arraycopy(data[i],0,tmp,0,this.length);
+                data[i] = tmp;
+            }
+        }
+        this.length = length;
+    }
+
+    /**
+     * Returns the value of element (row,col) in matrix 'index'.
+     */
+    public double get( int index , int row , int col ) {
+        if( index < 0 || index >= length )
+            throw new IllegalArgumentException("Index out of bounds");
+        return data[row*numCols+col][index];
+    }
+
+    /**
+     * Sets the value of element (row,col) in matrix 'index'.
+     */
+    public void set( int index , int row , int col , double value ) {
+        if( index < 0 || index >= length )
+            throw new IllegalArgumentException("Index out of bounds");
+        data[row*numCols+col][index] = value;
+    }
+
+    /**
+     * Copies a matrix into the batch.
+     *
+     * @param index Index of the matrix in the batch.
+     * @param src Matrix with the same shape.  Not modified.
+     */
+    public void set( int index , Matrix64F src ) {
+        if( src.getNumRows() != numRows || src.getNumCols() != numCols )
+            throw new IllegalArgumentException("Unexpected shape");
+        if( index < 0 || index >= length )
+            throw new IllegalArgumentException("Index out of bounds");
+
+        for( int i = 0; i < numRows; i++ ) {
+            for( int j = 0; j < numCols; j++ ) {
+                data[i*numCols+j][index] = src.unsafe_get(i,j);
+            }
+        }
+    }
+
+    /**
+     * Copies a matrix out of the batch.
+     *
+     * @param index Index of the matrix in the batch.
+     * @param dst Matrix with the same shape.  Modified.
+     */
+    public void get( int index , Matrix64F dst ) {
+        if( dst.getNumRows() != numRows || dst.getNumCols() != numCols )
+            throw new IllegalArgumentException("Unexpected shape");
+        if( index < 0 || index >= length )
+            throw new IllegalArgumentException("Index out of bounds");
+
+        for( int i = 0; i < numRows; i++ ) {
+            for( int j = 0; j < numCols; j++ ) {
+                dst.unsafe_set(i,j,data[i*numCols+j][index]);
+            }
+        }
+    }
+
+    /**
+     * Returns the array which stores element (row,col) of every matrix.
+     */
+    public double[] getArray( int row , int col ) {
+        return data[row*numCols+col];
+    }
+
+    public int getNumRows() {
+        return numRows;
+    }
+
+    public int getNumCols() {
+        return numCols;
+    }
+
+    public int getLength() {
+        return length;
+    }
+}
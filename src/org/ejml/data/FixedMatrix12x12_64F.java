@@ -0,0 +1,865 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.ops.MatrixIO;
+
+/**
+ * Fixed sized 12 by 12 matrix.  The matrix is stored as class variables for very fast read/write.  aX_Y is the
+ * value of row = X and column = Y.
+ *
+ * @author Peter Abeles
+ */
+public class FixedMatrix12x12_64F implements FixedMatrix64F {
+
+    public double a1_1,a1_2,a1_3,a1_4,a1_5,a1_6,a1_7,a1_8,a1_9,a1_10,a1_11,a1_12;
+    public double a2_1,a2_2,a2_3,a2_4,a2_5,a2_6,a2_7,a2_8,a2_9,a2_10,a2_11,a2_12;
+    public double a3_1,a3_2,a3_3,a3_4,a3_5,a3_6,a3_7,a3_8,a3_9,a3_10,a3_11,a3_12;
+    public double a4_1,a4_2,a4_3,a4_4,a4_5,a4_6,a4_7,a4_8,a4_9,a4_10,a4_11,a4_12;
+    public double a5_1,a5_2,a5_3,a5_4,a5_5,a5_6,a5_7,a5_8,a5_9,a5_10,a5_11,a5_12;
+    public double a6_1,a6_2,a6_3,a6_4,a6_5,a6_6,a6_7,a6_8,a6_9,a6_10,a6_11,a6_12;
+    public double a7_1,a7_2,a7_3,a7_4,a7_5,a7_6,a7_7,a7_8,a7_9,a7_10,a7_11,a7_12;
+    public double a8_1,a8_2,a8_3,a8_4,a8_5,a8_6,a8_7,a8_8,a8_9,a8_10,a8_11,a8_12;
+    public double a9_1,a9_2,a9_3,a9_4,a9_5,a9_6,a9_7,a9_8,a9_9,a9_10,a9_11,a9_12;
+    public double a10_1,a10_2,a10_3,a10_4,a10_5,a10_6,a10_7,a10_8,a10_9,a10_10,a10_11,a10_12;
+    public double a11_1,a11_2,a11_3,a11_4,a11_5,a11_6,a11_7,a11_8,a11_9,a11_10,a11_11,a11_12;
+    public double a12_1,a12_2,a12_3,a12_4,a12_5,a12_6,a12_7,a12_8,a12_9,a12_10,a12_11,a12_12;
+
+    public FixedMatrix12x12_64F() {
+    }
+
+    public FixedMatrix12x12_64F( FixedMatrix12x12_64F o ) {
+        this.a1_1 = o.a1_1;
+        this.a1_2 = o.a1_2;
+        this.a1_3 = o.a1_3;
+        this.a1_4 = o.a1_4;
+        this.a1_5 = o.a1_5;
+        this.a1_6 = o.a1_6;
+        this.a1_7 = o.a1_7;
+        this.a1_8 = o.a1_8;
+        this.a1_9 = o.a1_9;
+        this.a1_10 = o.a1_10;
+        this.a1_11 = o.a1_11;
+        this.a1_12 = o.a1_12;
+        this.a2_1 = o.a2_1;
+        this.a2_2 = o.a2_2;
+        this.a2_3 = o.a2_3;
+        this.a2_4 = o.a2_4;
+        this.a2_5 = o.a2_5;
+        this.a2_6 = o.a2_6;
+        this.a2_7 = o.a2_7;
+        this.a2_8 = o.a2_8;
+        this.a2_9 = o.a2_9;
+        this.a2_10 = o.a2_10;
+        this.a2_11 = o.a2_11;
+        this.a2_12 = o.a2_12;
+        this.a3_1 = o.a3_1;
+        this.a3_2 = o.a3_2;
+        this.a3_3 = o.a3_3;
+        this.a3_4 = o.a3_4;
+        this.a3_5 = o.a3_5;
+        this.a3_6 = o.a3_6;
+        this.a3_7 = o.a3_7;
+        this.a3_8 = o.a3_8;
+        this.a3_9 = o.a3_9;
+        this.a3_10 = o.a3_10;
+        this.a3_11 = o.a3_11;
+        this.a3_12 = o.a3_12;
+        this.a4_1 = o.a4_1;
+        this.a4_2 = o.a4_2;
+        this.a4_3 = o.a4_3;
+        this.a4_4 = o.a4_4;
+        this.a4_5 = o.a4_5;
+        this.a4_6 = o.a4_6;
+        this.a4_7 = o.a4_7;
+        this.a4_8 = o.a4_8;
+        this.a4_9 = o.a4_9;
+        this.a4_10 = o.a4_10;
+        this.a4_11 = o.a4_11;
+        this.a4_12 = o.a4_12;
+        this.a5_1 = o.a5_1;
+        this.a5_2 = o.a5_2;
+        this.a5_3 = o.a5_3;
+        this.a5_4 = o.a5_4;
+        this.a5_5 = o.a5_5;
+        this.a5_6 = o.a5_6;
+        this.a5_7 = o.a5_7;
+        this.a5_8 = o.a5_8;
+        this.a5_9 = o.a5_9;
+        this.a5_10 = o.a5_10;
+        this.a5_11 = o.a5_11;
+        this.a5_12 = o.a5_12;
+        this.a6_1 = o.a6_1;
+        this.a6_2 = o.a6_2;
+        this.a6_3 = o.a6_3;
+        this.a6_4 = o.a6_4;
+        this.a6_5 = o.a6_5;
+        this.a6_6 = o.a6_6;
+        this.a6_7 = o.a6_7;
+        this.a6_8 = o.a6_8;
+        this.a6_9 = o.a6_9;
+        this.a6_10 = o.a6_10;
+        this.a6_11 = o.a6_11;
+        this.a6_12 = o.a6_12;
+        this.a7_1 = o.a7_1;
+        this.a7_2 = o.a7_2;
+        this.a7_3 = o.a7_3;
+        this.a7_4 = o.a7_4;
+        this.a7_5 = o.a7_5;
+        this.a7_6 = o.a7_6;
+        this.a7_7 = o.a7_7;
+        this.a7_8 = o.a7_8;
+        this.a7_9 = o.a7_9;
+        this.a7_10 = o.a7_10;
+        this.a7_11 = o.a7_11;
+        this.a7_12 = o.a7_12;
+        this.a8_1 = o.a8_1;
+        this.a8_2 = o.a8_2;
+        this.a8_3 = o.a8_3;
+        this.a8_4 = o.a8_4;
+        this.a8_5 = o.a8_5;
+        this.a8_6 = o.a8_6;
+        this.a8_7 = o.a8_7;
+        this.a8_8 = o.a8_8;
+        this.a8_9 = o.a8_9;
+        this.a8_10 = o.a8_10;
+        this.a8_11 = o.a8_11;
+        this.a8_12 = o.a8_12;
+        this.a9_1 = o.a9_1;
+        this.a9_2 = o.a9_2;
+        this.a9_3 = o.a9_3;
+        this.a9_4 = o.a9_4;
+        this.a9_5 = o.a9_5;
+        this.a9_6 = o.a9_6;
+        this.a9_7 = o.a9_7;
+        this.a9_8 = o.a9_8;
+        this.a9_9 = o.a9_9;
+        this.a9_10 = o.a9_10;
+        this.a9_11 = o.a9_11;
+        this.a9_12 = o.a9_12;
+        this.a10_1 = o.a10_1;
+        this.a10_2 = o.a10_2;
+        this.a10_3 = o.a10_3;
+        this.a10_4 = o.a10_4;
+        this.a10_5 = o.a10_5;
+        this.a10_6 = o.a10_6;
+        this.a10_7 = o.a10_7;
+        this.a10_8 = o.a10_8;
+        this.a10_9 = o.a10_9;
+        this.a10_10 = o.a10_10;
+        this.a10_11 = o.a10_11;
+        this.a10_12 = o.a10_12;
+        this.a11_1 = o.a11_1;
+        this.a11_2 = o.a11_2;
+        this.a11_3 = o.a11_3;
+        this.a11_4 = o.a11_4;
+        this.a11_5 = o.a11_5;
+        this.a11_6 = o.a11_6;
+        this.a11_7 = o.a11_7;
+        this.a11_8 = o.a11_8;
+        this.a11_9 = o.a11_9;
+        this.a11_10 = o.a11_10;
+        this.a11_11 = o.a11_11;
+        this.a11_12 = o.a11_12;
+        this.a12_1 = o.a12_1;
+        this.a12_2 = o.a12_2;
+        this.a12_3 = o.a12_3;
+        this.a12_4 = o.a12_4;
+        this.a12_5 = o.a12_5;
+        this.a12_6 = o.a12_6;
+        this.a12_7 = o.a12_7;
+        this.a12_8 = o.a12_8;
+        this.a12_9 = o.a12_9;
+        this.a12_10 = o.a12_10;
+        this.a12_11 = o.a12_11;
+        this.a12_12 = o.a12_12;
+    }
+
+    @Override
+    public double get(int row, int col) {
+        return unsafe_get(row,col);
+    }
+
+    @Override
+    public double unsafe_get(int row, int col) {
+        if( row == 0 ) {
+            if( col == 0 ) {
+                return a1_1;
+            } else if( col == 1 ) {
+                return a1_2;
+            } else if( col == 2 ) {
+                return a1_3;
+            } else if( col == 3 ) {
+                return a1_4;
+            } else if( col == 4 ) {
+                return a1_5;
+            } else if( col == 5 ) {
+                return a1_6;
+            } else if( col == 6 ) {
+                return a1_7;
+            } else if( col == 7 ) {
+                return a1_8;
+            } else if( col == 8 ) {
+                return a1_9;
+            } else if( col == 9 ) {
+                return a1_10;
+            } else if( col == 10 ) {
+                return a1_11;
+            } else if( col == 11 ) {
+                return a1_12;
+            }
+        } else if( row == 1 ) {
+            if( col == 0 ) {
+                return a2_1;
+            } else if( col == 1 ) {
+                return a2_2;
+            } else if( col == 2 ) {
+                return a2_3;
+            } else if( col == 3 ) {
+                return a2_4;
+            } else if( col == 4 ) {
+                return a2_5;
+            } else if( col == 5 ) {
+                return a2_6;
+            } else if( col == 6 ) {
+                return a2_7;
+            } else if( col == 7 ) {
+                return a2_8;
+            } else if( col == 8 ) {
+                return a2_9;
+            } else if( col == 9 ) {
+                return a2_10;
+            } else if( col == 10 ) {
+                return a2_11;
+            } else if( col == 11 ) {
+                return a2_12;
+            }
+        } else if( row == 2 ) {
+            if( col == 0 ) {
+                return a3_1;
+            } else if( col == 1 ) {
+                return a3_2;
+            } else if( col == 2 ) {
+                return a3_3;
+            } else if( col == 3 ) {
+                return a3_4;
+            } else if( col == 4 ) {
+                return a3_5;
+            } else if( col == 5 ) {
+                return a3_6;
+            } else if( col == 6 ) {
+                return a3_7;
+            } else if( col == 7 ) {
+                return a3_8;
+            } else if( col == 8 ) {
+                return a3_9;
+            } else if( col == 9 ) {
+                return a3_10;
+            } else if( col == 10 ) {
+                return a3_11;
+            } else if( col == 11 ) {
+                return a3_12;
+            }
+        } else if( row == 3 ) {
+            if( col == 0 ) {
+                return a4_1;
+            } else if( col == 1 ) {
+                return a4_2;
+            } else if( col == 2 ) {
+                return a4_3;
+            } else if( col == 3 ) {
+                return a4_4;
+            } else if( col == 4 ) {
+                return a4_5;
+            } else if( col == 5 ) {
+                return a4_6;
+            } else if( col == 6 ) {
+                return a4_7;
+            } else if( col == 7 ) {
+                return a4_8;
+            } else if( col == 8 ) {
+                return a4_9;
+            } else if( col == 9 ) {
+                return a4_10;
+            } else if( col == 10 ) {
+                return a4_11;
+            } else if( col == 11 ) {
+                return a4_12;
+            }
+        } else if( row == 4 ) {
+            if( col == 0 ) {
+                return a5_1;
+            } else if( col == 1 ) {
+                return a5_2;
+            } else if( col == 2 ) {
+                return a5_3;
+            } else if( col == 3 ) {
+                return a5_4;
+            } else if( col == 4 ) {
+                return a5_5;
+            } else if( col == 5 ) {
+                return a5_6;
+            } else if( col == 6 ) {
+                return a5_7;
+            } else if( col == 7 ) {
+                return a5_8;
+            } else if( col == 8 ) {
+                return a5_9;
+            } else if( col == 9 ) {
+                return a5_10;
+            } else if( col == 10 ) {
+                return a5_11;
+            } else if( col == 11 ) {
+                return a5_12;
+            }
+        } else if( row == 5 ) {
+            if( col == 0 ) {
+                return a6_1;
+            } else if( col == 1 ) {
+                return a6_2;
+            } else if( col == 2 ) {
+                return a6_3;
+            } else if( col == 3 ) {
+                return a6_4;
+            } else if( col == 4 ) {
+                return a6_5;
+            } else if( col == 5 ) {
+                return a6_6;
+            } else if( col == 6 ) {
+                return a6_7;
+            } else if( col == 7 ) {
+                return a6_8;
+            } else if( col == 8 ) {
+                return a6_9;
+            } else if( col == 9 ) {
+                return a6_10;
+            } else if( col == 10 ) {
+                return a6_11;
+            } else if( col == 11 ) {
+                return a6_12;
+            }
+        } else if( row == 6 ) {
+            if( col == 0 ) {
+                return a7_1;
+            } else if( col == 1 ) {
+                return a7_2;
+            } else if( col == 2 ) {
+                return a7_3;
+            } else if( col == 3 ) {
+                return a7_4;
+            } else if( col == 4 ) {
+                return a7_5;
+            } else if( col == 5 ) {
+                return a7_6;
+            } else if( col == 6 ) {
+                return a7_7;
+            } else if( col == 7 ) {
+                return a7_8;
+            } else if( col == 8 ) {
+                return a7_9;
+            } else if( col == 9 ) {
+                return a7_10;
+            } else if( col == 10 ) {
+                return a7_11;
+            } else if( col == 11 ) {
+                return a7_12;
+            }
+        } else if( row == 7 ) {
+            if( col == 0 ) {
+                return a8_1;
+            } else if( col == 1 ) {
+                return a8_2;
+            } else if( col == 2 ) {
+                return a8_3;
+            } else if( col == 3 ) {
+                return a8_4;
+            } else if( col == 4 ) {
+                return a8_5;
+            } else if( col == 5 ) {
+                return a8_6;
+            } else if( col == 6 ) {
+                return a8_7;
+            } else if( col == 7 ) {
+                return a8_8;
+            } else if( col == 8 ) {
+                return a8_9;
+            } else if( col == 9 ) {
+                return a8_10;
+            } else if( col == 10 ) {
+                return a8_11;
+            } else if( col == 11 ) {
+                return a8_12;
+            }
+        } else if( row == 8 ) {
+            if( col == 0 ) {
+                return a9_1;
+            } else if( col == 1 ) {
+                return a9_2;
+            } else if( col == 2 ) {
+                return a9_3;
+            } else if( col == 3 ) {
+                return a9_4;
+            } else if( col == 4 ) {
+                return a9_5;
+            } else if( col == 5 ) {
+                return a9_6;
+            } else if( col == 6 ) {
+                return a9_7;
+            } else if( col == 7 ) {
+                return a9_8;
+            } else if( col == 8 ) {
+                return a9_9;
+            } else if( col == 9 ) {
+                return a9_10;
+            } else if( col == 10 ) {
+                return a9_11;
+            } else if( col == 11 ) {
+                return a9_12;
+            }
+        } else if( row == 9 ) {
+            if( col == 0 ) {
+                return a10_1;
+            } else if( col == 1 ) {
+                return a10_2;
+            } else if( col == 2 ) {
+                return a10_3;
+            } else if( col == 3 ) {
+                return a10_4;
+            } else if( col == 4 ) {
+                return a10_5;
+            } else if( col == 5 ) {
+                return a10_6;
+            } else if( col == 6 ) {
+                return a10_7;
+            } else if( col == 7 ) {
+                return a10_8;
+            } else if( col == 8 ) {
+                return a10_9;
+            } else if( col == 9 ) {
+                return a10_10;
+            } else if( col == 10 ) {
+                return a10_11;
+            } else if( col == 11 ) {
+                return a10_12;
+            }
+        } else if( row == 10 ) {
+            if( col == 0 ) {
+                return a11_1;
+            } else if( col == 1 ) {
+                return a11_2;
+            } else if( col == 2 ) {
+                return a11_3;
+            } else if( col == 3 ) {
+                return a11_4;
+            } else if( col == 4 ) {
+                return a11_5;
+            } else if( col == 5 ) {
+                return a11_6;
+            } else if( col == 6 ) {
+                return a11_7;
+            } else if( col == 7 ) {
+                return a11_8;
+            } else if( col == 8 ) {
+                return a11_9;
+            } else if( col == 9 ) {
+                return a11_10;
+            } else if( col == 10 ) {
+                return a11_11;
+            } else if( col == 11 ) {
+                return a11_12;
+            }
+        } else if( row == 11 ) {
+            if( col == 0 ) {
+                return a12_1;
+            } else if( col == 1 ) {
+                return a12_2;
+            } else if( col == 2 ) {
+                return a12_3;
+            } else if( col == 3 ) {
+                return a12_4;
+            } else if( col == 4 ) {
+                return a12_5;
+            } else if( col == 5 ) {
+                return a12_6;
+            } else if( col == 6 ) {
+                return a12_7;
+            } else if( col == 7 ) {
+                return a12_8;
+            } else if( col == 8 ) {
+                return a12_9;
+            } else if( col == 9 ) {
+                return a12_10;
+            } else if( col == 10 ) {
+                return a12_11;
+            } else if( col == 11 ) {
+                return a12_12;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override
+    public void set(int row, int col, double val) {
+        unsafe_set(row,col,val);
+    }
+
+    @Override
+    public void unsafe_set(int row, int col, double val) {
+        if( row == 0 ) {
+            if( col == 0 ) {
+                a1_1 = val; return;
+            } else if( col == 1 ) {
+                a1_2 = val; return;
+            } else if( col == 2 ) {
+                a1_3 = val; return;
+            } else if( col == 3 ) {
+                a1_4 = val; return;
+            } else if( col == 4 ) {
+                a1_5 = val; return;
+            } else if( col == 5 ) {
+                a1_6 = val; return;
+            } else if( col == 6 ) {
+                a1_7 = val; return;
+            } else if( col == 7 ) {
+                a1_8 = val; return;
+            } else if( col == 8 ) {
+                a1_9 = val; return;
+            } else if( col == 9 ) {
+                a1_10 = val; return;
+            } else if( col == 10 ) {
+                a1_11 = val; return;
+            } else if( col == 11 ) {
+                a1_12 = val; return;
+            }
+        } else if( row == 1 ) {
+            if( col == 0 ) {
+                a2_1 = val; return;
+            } else if( col == 1 ) {
+                a2_2 = val; return;
+            } else if( col == 2 ) {
+                a2_3 = val; return;
+            } else if( col == 3 ) {
+                a2_4 = val; return;
+            } else if( col == 4 ) {
+                a2_5 = val; return;
+            } else if( col == 5 ) {
+                a2_6 = val; return;
+            } else if( col == 6 ) {
+                a2_7 = val; return;
+            } else if( col == 7 ) {
+                a2_8 = val; return;
+            } else if( col == 8 ) {
+                a2_9 = val; return;
+            } else if( col == 9 ) {
+                a2_10 = val; return;
+            } else if( col == 10 ) {
+                a2_11 = val; return;
+            } else if( col == 11 ) {
+                a2_12 = val; return;
+            }
+        } else if( row == 2 ) {
+            if( col == 0 ) {
+                a3_1 = val; return;
+            } else if( col == 1 ) {
+                a3_2 = val; return;
+            } else if( col == 2 ) {
+                a3_3 = val; return;
+            } else if( col == 3 ) {
+                a3_4 = val; return;
+            } else if( col == 4 ) {
+                a3_5 = val; return;
+            } else if( col == 5 ) {
+                a3_6 = val; return;
+            } else if( col == 6 ) {
+                a3_7 = val; return;
+            } else if( col == 7 ) {
+                a3_8 = val; return;
+            } else if( col == 8 ) {
+                a3_9 = val; return;
+            } else if( col == 9 ) {
+                a3_10 = val; return;
+            } else if( col == 10 ) {
+                a3_11 = val; return;
+            } else if( col == 11 ) {
+                a3_12 = val; return;
+            }
+        } else if( row == 3 ) {
+            if( col == 0 ) {
+                a4_1 = val; return;
+            } else if( col == 1 ) {
+                a4_2 = val; return;
+            } else if( col == 2 ) {
+                a4_3 = val; return;
+            } else if( col == 3 ) {
+                a4_4 = val; return;
+            } else if( col == 4 ) {
+                a4_5 = val; return;
+            } else if( col == 5 ) {
+                a4_6 = val; return;
+            } else if( col == 6 ) {
+                a4_7 = val; return;
+            } else if( col == 7 ) {
+                a4_8 = val; return;
+            } else if( col == 8 ) {
+                a4_9 = val; return;
+            } else if( col == 9 ) {
+                a4_10 = val; return;
+            } else if( col == 10 ) {
+                a4_11 = val; return;
+            } else if( col == 11 ) {
+                a4_12 = val; return;
+            }
+        } else if( row == 4 ) {
+            if( col == 0 ) {
+                a5_1 = val; return;
+            } else if( col == 1 ) {
+                a5_2 = val; return;
+            } else if( col == 2 ) {
+                a5_3 = val; return;
+            } else if( col == 3 ) {
+                a5_4 = val; return;
+            } else if( col == 4 ) {
+                a5_5 = val; return;
+            } else if( col == 5 ) {
+                a5_6 = val; return;
+            } else if( col == 6 ) {
+                a5_7 = val; return;
+            } else if( col == 7 ) {
+                a5_8 = val; return;
+            } else if( col == 8 ) {
+                a5_9 = val; return;
+            } else if( col == 9 ) {
+                a5_10 = val; return;
+            } else if( col == 10 ) {
+                a5_11 = val; return;
+            } else if( col == 11 ) {
+                a5_12 = val; return;
+            }
+        } else if( row == 5 ) {
+            if( col == 0 ) {
+                a6_1 = val; return;
+            } else if( col == 1 ) {
+                a6_2 = val; return;
+            } else if( col == 2 ) {
+                a6_3 = val; return;
+            } else if( col == 3 ) {
+                a6_4 = val; return;
+            } else if( col == 4 ) {
+                a6_5 = val; return;
+            } else if( col == 5 ) {
+                a6_6 = val; return;
+            } else if( col == 6 ) {
+                a6_7 = val; return;
+            } else if( col == 7 ) {
+                a6_8 = val; return;
+            } else if( col == 8 ) {
+                a6_9 = val; return;
+            } else if( col == 9 ) {
+                a6_10 = val; return;
+            } else if( col == 10 ) {
+                a6_11 = val; return;
+            } else if( col == 11 ) {
+                a6_12 = val; return;
+            }
+        } else if( row == 6 ) {
+            if( col == 0 ) {
+                a7_1 = val; return;
+            } else if( col == 1 ) {
+                a7_2 = val; return;
+            } else if( col == 2 ) {
+                a7_3 = val; return;
+            } else if( col == 3 ) {
+                a7_4 = val; return;
+            } else if( col == 4 ) {
+                a7_5 = val; return;
+            } else if( col == 5 ) {
+                a7_6 = val; return;
+            } else if( col == 6 ) {
+                a7_7 = val; return;
+            } else if( col == 7 ) {
+                a7_8 = val; return;
+            } else if( col == 8 ) {
+                a7_9 = val; return;
+            } else if( col == 9 ) {
+                a7_10 = val; return;
+            } else if( col == 10 ) {
+                a7_11 = val; return;
+            } else if( col == 11 ) {
+                a7_12 = val; return;
+            }
+        } else if( row == 7 ) {
+            if( col == 0 ) {
+                a8_1 = val; return;
+            } else if( col == 1 ) {
+                a8_2 = val; return;
+            } else if( col == 2 ) {
+                a8_3 = val; return;
+            } else if( col == 3 ) {
+                a8_4 = val; return;
+            } else if( col == 4 ) {
+                a8_5 = val; return;
+            } else if( col == 5 ) {
+                a8_6 = val; return;
+            } else if( col == 6 ) {
+                a8_7 = val; return;
+            } else if( col == 7 ) {
+                a8_8 = val; return;
+            } else if( col == 8 ) {
+                a8_9 = val; return;
+            } else if( col == 9 ) {
+                a8_10 = val; return;
+            } else if( col == 10 ) {
+                a8_11 = val; return;
+            } else if( col == 11 ) {
+                a8_12 = val; return;
+            }
+        } else if( row == 8 ) {
+            if( col == 0 ) {
+                a9_1 = val; return;
+            } else if( col == 1 ) {
+                a9_2 = val; return;
+            } else if( col == 2 ) {
+                a9_3 = val; return;
+            } else if( col == 3 ) {
+                a9_4 = val; return;
+            } else if( col == 4 ) {
+                a9_5 = val; return;
+            } else if( col == 5 ) {
+                a9_6 = val; return;
+            } else if( col == 6 ) {
+                a9_7 = val; return;
+            } else if( col == 7 ) {
+                a9_8 = val; return;
+            } else if( col == 8 ) {
+                a9_9 = val; return;
+            } else if( col == 9 ) {
+                a9_10 = val; return;
+            } else if( col == 10 ) {
+                a9_11 = val; return;
+            } else if( col == 11 ) {
+                a9_12 = val; return;
+            }
+        } else if( row == 9 ) {
+            if( col == 0 ) {
+                a10_1 = val; return;
+            } else if( col == 1 ) {
+                a10_2 = val; return;
+            } else if( col == 2 ) {
+                a10_3 = val; return;
+            } else if( col == 3 ) {
+                a10_4 = val; return;
+            } else if( col == 4 ) {
+                a10_5 = val; return;
+            } else if( col == 5 ) {
+                a10_6 = val; return;
+            } else if( col == 6 ) {
+                a10_7 = val; return;
+            } else if( col == 7 ) {
+                a10_8 = val; return;
+            } else if( col == 8 ) {
+                a10_9 = val; return;
+            } else if( col == 9 ) {
+                a10_10 = val; return;
+            } else if( col == 10 ) {
+                a10_11 = val; return;
+            } else if( col == 11 ) {
+                a10_12 = val; return;
+            }
+        } else if( row == 10 ) {
+            if( col == 0 ) {
+                a11_1 = val; return;
+            } else if( col == 1 ) {
+                a11_2 = val; return;
+            } else if( col == 2 ) {
+                a11_3 = val; return;
+            } else if( col == 3 ) {
+                a11_4 = val; return;
+            } else if( col == 4 ) {
+                a11_5 = val; return;
+            } else if( col == 5 ) {
+                a11_6 = val; return;
+            } else if( col == 6 ) {
+                a11_7 = val; return;
+            } else if( col == 7 ) {
+                a11_8 = val; return;
+            } else if( col == 8 ) {
+                a11_9 = val; return;
+            } else if( col == 9 ) {
+                a11_10 = val; return;
+            } else if( col == 10 ) {
+                a11_11 = val; return;
+            } else if( col == 11 ) {
+                a11_12 = val; return;
+            }
+        } else if( row == 11 ) {
+            if( col == 0 ) {
+                a12_1 = val; return;
+            } else if( col == 1 ) {
+                a12_2 = val; return;
+            } else if( col == 2 ) {
+                a12_3 = val; return;
+            } else if( col == 3 ) {
+                a12_4 = val; return;
+            } else if( col == 4 ) {
+                a12_5 = val; return;
+            } else if( col == 5 ) {
+                a12_6 = val; return;
+            } else if( col == 6 ) {
+                a12_7 = val; return;
+            } else if( col == 7 ) {
+                a12_8 = val; return;
+            } else if( col == 8 ) {
+                a12_9 = val; return;
+            } else if( col == 9 ) {
+                a12_10 = val; return;
+            } else if( col == 10 ) {
+                a12_11 = val; return;
+            } else if( col == 11 ) {
+                a12_12 = val; return;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override
+    public int getNumRows() {
+        return 12;
+    }
+
+    @Override
+    public int getNumCols() {
+        return 12;
+    }
+
+    @Override
+    public int getNumElements() {
+        return 144;
+    }
+
+    @Override
+    public <T extends Matrix64F> T copy() {
+        return (T)new FixedMatrix12x12_64F(this);
+    }
+
+    @Override
+    public void print() {
+        MatrixIO.print(System.out, this);
+    }
+}
+
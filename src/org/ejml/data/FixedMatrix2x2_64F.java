@@ -21,7 +21,7 @@ package org.ejml.data;
 import org.ejml.ops.MatrixIO;
 
 /**
- * Fixed sized 2 by FixedMatrix2x2_64F matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the
+ * Fixed sized 2 by 2 matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the
  * value of row = X and column = Y.
  *
  * @author Peter Abeles
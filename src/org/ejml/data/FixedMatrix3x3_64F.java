@@ -21,7 +21,7 @@ package org.ejml.data;
 import org.ejml.ops.MatrixIO;
 
 /**
- * Fixed sized 3 by FixedMatrix3x3_64F matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the
+ * Fixed sized 3 by 3 matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the
  * value of row = X and column = Y.
  *
  * @author Peter Abeles
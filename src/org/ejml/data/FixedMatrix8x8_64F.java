@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.ops.MatrixIO;
+
+/**
+ * Fixed sized 8 by 8 matrix.  The matrix is stored as class variables for very fast read/write.  aXY is the
+ * value of row = X and column = Y.
+ *
+ * @author Peter Abeles
+ */
+public class FixedMatrix8x8_64F implements FixedMatrix64F {
+
+    public double a11,a12,a13,a14,a15,a16,a17,a18;
+    public double a21,a22,a23,a24,a25,a26,a27,a28;
+    public double a31,a32,a33,a34,a35,a36,a37,a38;
+    public double a41,a42,a43,a44,a45,a46,a47,a48;
+    public double a51,a52,a53,a54,a55,a56,a57,a58;
+    public double a61,a62,a63,a64,a65,a66,a67,a68;
+    public double a71,a72,a73,a74,a75,a76,a77,a78;
+    public double a81,a82,a83,a84,a85,a86,a87,a88;
+
+    public FixedMatrix8x8_64F() {
+    }
+
+    public FixedMatrix8x8_64F( double a11,double a12,double a13,double a14,double a15,double a16,double a17,double a18,
+                              double a21,double a22,double a23,double a24,double a25,double a26,double a27,double a28,
+                              double a31,double a32,double a33,double a34,double a35,double a36,double a37,double a38,
+                              double a41,double a42,double a43,double a44,double a45,double a46,double a47,double a48,
+                              double a51,double a52,double a53,double a54,double a55,double a56,double a57,double a58,
+                              double a61,double a62,double a63,double a64,double a65,double a66,double a67,double a68,
+                              double a71,double a72,double a73,double a74,double a75,double a76,double a77,double a78,
+                              double a81,double a82,double a83,double a84,double a85,double a86,double a87,double a88)
+    {
+        this.a11 = a11;
+        this.a12 = a12;
+        this.a13 = a13;
+        this.a14 = a14;
+        this.a15 = a15;
+        this.a16 = a16;
+        this.a17 = a17;
+        this.a18 = a18;
+        this.a21 = a21;
+        this.a22 = a22;
+        this.a23 = a23;
+        this.a24 = a24;
+        this.a25 = a25;
+        this.a26 = a26;
+        this.a27 = a27;
+        this.a28 = a28;
+        this.a31 = a31;
+        this.a32 = a32;
+        this.a33 = a33;
+        this.a34 = a34;
+        this.a35 = a35;
+        this.a36 = a36;
+        this.a37 = a37;
+        this.a38 = a38;
+        this.a41 = a41;
+        this.a42 = a42;
+        this.a43 = a43;
+        this.a44 = a44;
+        this.a45 = a45;
+        this.a46 = a46;
+        this.a47 = a47;
+        this.a48 = a48;
+        this.a51 = a51;
+        this.a52 = a52;
+        this.a53 = a53;
+        this.a54 = a54;
+        this.a55 = a55;
+        this.a56 = a56;
+        this.a57 = a57;
+        this.a58 = a58;
+        this.a61 = a61;
+        this.a62 = a62;
+        this.a63 = a63;
+        this.a64 = a64;
+        this.a65 = a65;
+        this.a66 = a66;
+        this.a67 = a67;
+        this.a68 = a68;
+        this.a71 = a71;
+        this.a72 = a72;
+        this.a73 = a73;
+        this.a74 = a74;
+        this.a75 = a75;
+        this.a76 = a76;
+        this.a77 = a77;
+        this.a78 = a78;
+        this.a81 = a81;
+        this.a82 = a82;
+        this.a83 = a83;
+        this.a84 = a84;
+        this.a85 = a85;
+        this.a86 = a86;
+        this.a87 = a87;
+        this.a88 = a88;
+    }
+
+    public FixedMatrix8x8_64F( FixedMatrix8x8_64F o ) {
+        this.a11 = o.a11;
+        this.a12 = o.a12;
+        this.a13 = o.a13;
+        this.a14 = o.a14;
+        this.a15 = o.a15;
+        this.a16 = o.a16;
+        this.a17 = o.a17;
+        this.a18 = o.a18;
+        this.a21 = o.a21;
+        this.a22 = o.a22;
+        this.a23 = o.a23;
+        this.a24 = o.a24;
+        this.a25 = o.a25;
+        this.a26 = o.a26;
+        this.a27 = o.a27;
+        this.a28 = o.a28;
+        this.a31 = o.a31;
+        this.a32 = o.a32;
+        this.a33 = o.a33;
+        this.a34 = o.a34;
+        this.a35 = o.a35;
+        this.a36 = o.a36;
+        this.a37 = o.a37;
+        this.a38 = o.a38;
+        this.a41 = o.a41;
+        this.a42 = o.a42;
+        this.a43 = o.a43;
+        this.a44 = o.a44;
+        this.a45 = o.a45;
+        this.a46 = o.a46;
+        this.a47 = o.a47;
+        this.a48 = o.a48;
+        this.a51 = o.a51;
+        this.a52 = o.a52;
+        this.a53 = o.a53;
+        this.a54 = o.a54;
+        this.a55 = o.a55;
+        this.a56 = o.a56;
+        this.a57 = o.a57;
+        this.a58 = o.a58;
+        this.a61 = o.a61;
+        this.a62 = o.a62;
+        this.a63 = o.a63;
+        this.a64 = o.a64;
+        this.a65 = o.a65;
+        this.a66 = o.a66;
+        this.a67 = o.a67;
+        this.a68 = o.a68;
+        this.a71 = o.a71;
+        this.a72 = o.a72;
+        this.a73 = o.a73;
+        this.a74 = o.a74;
+        this.a75 = o.a75;
+        this.a76 = o.a76;
+        this.a77 = o.a77;
+        this.a78 = o.a78;
+        this.a81 = o.a81;
+        this.a82 = o.a82;
+        this.a83 = o.a83;
+        this.a84 = o.a84;
+        this.a85 = o.a85;
+        this.a86 = o.a86;
+        this.a87 = o.a87;
+        this.a88 = o.a88;
+    }
+
+    @Override
+    public double get(int row, int col) {
+        return unsafe_get(row,col);
+    }
+
+    @Override
+    public double unsafe_get(int row, int col) {
+        if( row == 0 ) {
+            if( col == 0 ) {
+                return a11;
+            } else if( col == 1 ) {
+                return a12;
+            } else if( col == 2 ) {
+                return a13;
+            } else if( col == 3 ) {
+                return a14;
+            } else if( col == 4 ) {
+                return a15;
+            } else if( col == 5 ) {
+                return a16;
+            } else if( col == 6 ) {
+                return a17;
+            } else if( col == 7 ) {
+                return a18;
+            }
+        } else if( row == 1 ) {
+            if( col == 0 ) {
+                return a21;
+            } else if( col == 1 ) {
+                return a22;
+            } else if( col == 2 ) {
+                return a23;
+            } else if( col == 3 ) {
+                return a24;
+            } else if( col == 4 ) {
+                return a25;
+            } else if( col == 5 ) {
+                return a26;
+            } else if( col == 6 ) {
+                return a27;
+            } else if( col == 7 ) {
+                return a28;
+            }
+        } else if( row == 2 ) {
+            if( col == 0 ) {
+                return a31;
+            } else if( col == 1 ) {
+                return a32;
+            } else if( col == 2 ) {
+                return a33;
+            } else if( col == 3 ) {
+                return a34;
+            } else if( col == 4 ) {
+                return a35;
+            } else if( col == 5 ) {
+                return a36;
+            } else if( col == 6 ) {
+                return a37;
+            } else if( col == 7 ) {
+                return a38;
+            }
+        } else if( row == 3 ) {
+            if( col == 0 ) {
+                return a41;
+            } else if( col == 1 ) {
+                return a42;
+            } else if( col == 2 ) {
+                return a43;
+            } else if( col == 3 ) {
+                return a44;
+            } else if( col == 4 ) {
+                return a45;
+            } else if( col == 5 ) {
+                return a46;
+            } else if( col == 6 ) {
+                return a47;
+            } else if( col == 7 ) {
+                return a48;
+            }
+        } else if( row == 4 ) {
+            if( col == 0 ) {
+                return a51;
+            } else if( col == 1 ) {
+                return a52;
+            } else if( col == 2 ) {
+                return a53;
+            } else if( col == 3 ) {
+                return a54;
+            } else if( col == 4 ) {
+                return a55;
+            } else if( col == 5 ) {
+                return a56;
+            } else if( col == 6 ) {
+                return a57;
+            } else if( col == 7 ) {
+                return a58;
+            }
+        } else if( row == 5 ) {
+            if( col == 0 ) {
+                return a61;
+            } else if( col == 1 ) {
+                return a62;
+            } else if( col == 2 ) {
+                return a63;
+            } else if( col == 3 ) {
+                return a64;
+            } else if( col == 4 ) {
+                return a65;
+            } else if( col == 5 ) {
+                return a66;
+            } else if( col == 6 ) {
+                return a67;
+            } else if( col == 7 ) {
+                return a68;
+            }
+        } else if( row == 6 ) {
+            if( col == 0 ) {
+                return a71;
+            } else if( col == 1 ) {
+                return a72;
+            } else if( col == 2 ) {
+                return a73;
+            } else if( col == 3 ) {
+                return a74;
+            } else if( col == 4 ) {
+                return a75;
+            } else if( col == 5 ) {
+                return a76;
+            } else if( col == 6 ) {
+                return a77;
+            } else if( col == 7 ) {
+                return a78;
+            }
+        } else if( row == 7 ) {
+            if( col == 0 ) {
+                return a81;
+            } else if( col == 1 ) {
+                return a82;
+            } else if( col == 2 ) {
+                return a83;
+            } else if( col == 3 ) {
+                return a84;
+            } else if( col == 4 ) {
+                return a85;
+            } else if( col == 5 ) {
+                return a86;
+            } else if( col == 6 ) {
+                return a87;
+            } else if( col == 7 ) {
+                return a88;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override
+    public void set(int row, int col, double val) {
+        unsafe_set(row,col,val);
+    }
+
+    @Override
+    public void unsafe_set(int row, int col, double val) {
+        if( row == 0 ) {
+            if( col == 0 ) {
+                a11 = val; return;
+            } else if( col == 1 ) {
+                a12 = val; return;
+            } else if( col == 2 ) {
+                a13 = val; return;
+            } else if( col == 3 ) {
+                a14 = val; return;
+            } else if( col == 4 ) {
+                a15 = val; return;
+            } else if( col == 5 ) {
+                a16 = val; return;
+            } else if( col == 6 ) {
+                a17 = val; return;
+            } else if( col == 7 ) {
+                a18 = val; return;
+            }
+        } else if( row == 1 ) {
+            if( col == 0 ) {
+                a21 = val; return;
+            } else if( col == 1 ) {
+                a22 = val; return;
+            } else if( col == 2 ) {
+                a23 = val; return;
+            } else if( col == 3 ) {
+                a24 = val; return;
+            } else if( col == 4 ) {
+                a25 = val; return;
+            } else if( col == 5 ) {
+                a26 = val; return;
+            } else if( col == 6 ) {
+                a27 = val; return;
+            } else if( col == 7 ) {
+                a28 = val; return;
+            }
+        } else if( row == 2 ) {
+            if( col == 0 ) {
+                a31 = val; return;
+            } else if( col == 1 ) {
+                a32 = val; return;
+            } else if( col == 2 ) {
+                a33 = val; return;
+            } else if( col == 3 ) {
+                a34 = val; return;
+            } else if( col == 4 ) {
+                a35 = val; return;
+            } else if( col == 5 ) {
+                a36 = val; return;
+            } else if( col == 6 ) {
+                a37 = val; return;
+            } else if( col == 7 ) {
+                a38 = val; return;
+            }
+        } else if( row == 3 ) {
+            if( col == 0 ) {
+                a41 = val; return;
+            } else if( col == 1 ) {
+                a42 = val; return;
+            } else if( col == 2 ) {
+                a43 = val; return;
+            } else if( col == 3 ) {
+                a44 = val; return;
+            } else if( col == 4 ) {
+                a45 = val; return;
+            } else if( col == 5 ) {
+                a46 = val; return;
+            } else if( col == 6 ) {
+                a47 = val; return;
+            } else if( col == 7 ) {
+                a48 = val; return;
+            }
+        } else if( row == 4 ) {
+            if( col == 0 ) {
+                a51 = val; return;
+            } else if( col == 1 ) {
+                a52 = val; return;
+            } else if( col == 2 ) {
+                a53 = val; return;
+            } else if( col == 3 ) {
+                a54 = val; return;
+            } else if( col == 4 ) {
+                a55 = val; return;
+            } else if( col == 5 ) {
+                a56 = val; return;
+            } else if( col == 6 ) {
+                a57 = val; return;
+            } else if( col == 7 ) {
+                a58 = val; return;
+            }
+        } else if( row == 5 ) {
+            if( col == 0 ) {
+                a61 = val; return;
+            } else if( col == 1 ) {
+                a62 = val; return;
+            } else if( col == 2 ) {
+                a63 = val; return;
+            } else if( col == 3 ) {
+                a64 = val; return;
+            } else if( col == 4 ) {
+                a65 = val; return;
+            } else if( col == 5 ) {
+                a66 = val; return;
+            } else if( col == 6 ) {
+                a67 = val; return;
+            } else if( col == 7 ) {
+                a68 = val; return;
+            }
+        } else if( row == 6 ) {
+            if( col == 0 ) {
+                a71 = val; return;
+            } else if( col == 1 ) {
+                a72 = val; return;
+            } else if( col == 2 ) {
+                a73 = val; return;
+            } else if( col == 3 ) {
+                a74 = val; return;
+            } else if( col == 4 ) {
+                a75 = val; return;
+            } else if( col == 5 ) {
+                a76 = val; return;
+            } else if( col == 6 ) {
+                a77 = val; return;
+            } else if( col == 7 ) {
+                a78 = val; return;
+            }
+        } else if( row == 7 ) {
+            if( col == 0 ) {
+                a81 = val; return;
+            } else if( col == 1 ) {
+                a82 = val; return;
+            } else if( col == 2 ) {
+                a83 = val; return;
+            } else if( col == 3 ) {
+                a84 = val; return;
+            } else if( col == 4 ) {
+                a85 = val; return;
+            } else if( col == 5 ) {
+                a86 = val; return;
+            } else if( col == 6 ) {
+                a87 = val; return;
+            } else if( col == 7 ) {
+                a88 = val; return;
+            }
+        }
+        throw new IllegalArgumentException("Row and/or column out of range. "+row+" "+col);
+    }
+
+    @Override
+    public int getNumRows() {
+        return 8;
+    }
+
+    @Override
+    public int getNumCols() {
+        return 8;
+    }
+
+    @Override
+    public int getNumElements() {
+        return 64;
+    }
+
+    @Override
+    public <T extends Matrix64F> T copy() {
+        return (T)new FixedMatrix8x8_64F(this);
+    }
+
+    @Override
+    public void print() {
+        MatrixIO.print(System.out, this);
+    }
+}
+
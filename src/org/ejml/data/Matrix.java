@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import java.io.Serializable;
+
+/**
+ * Base interface for all rectangular matrices, independent of the data type used to store the elements.
+ * Element access is provided by the sub-interfaces, e.g. {@link Matrix64F} and {@link Matrix32F}.
+ *
+ * @author Peter Abeles
+ */
+public interface Matrix extends Serializable {
+
+    /**
+     * Returns the number of rows in this matrix.
+     *
+     * @return Number of rows.
+     */
+    public int getNumRows();
+
+    /**
+     * Returns the number of columns in this matrix.
+     *
+     * @return Number of columns.
+     */
+    public int getNumCols();
+
+    /**
+     * Returns the number of elements in this matrix, which is the number of rows
+     * times the number of columns.
+     *
+     * @return Number of elements in this matrix.
+     */
+    public int getNumElements();
+
+    public void print();
+}
@@ -18,14 +18,12 @@
 
 package org.ejml.data;
 
-import java.io.Serializable;
-
 /**
  * Interface for all 64 bit floating point rectangular matrices.
  *
  * @author Peter Abeles
  */
-public interface Matrix64F extends Serializable {
+public interface Matrix64F extends Matrix {
 
     /**
      * Returns the value of value of the specified matrix element.
@@ -70,30 +68,5 @@ public interface Matrix64F extends Serializable {
      */
     public void unsafe_set( int row , int col , double val );
 
-    /**
-     * Returns the number of rows in this matrix.
-     *
-     * @return Number of rows.
-     */
-    public int getNumRows();
-
-    /**
-     * Returns the number of columns in this matrix.
-     *
-     * @return Number of columns.
-     */
-    public int getNumCols();
-
-    /**
-     * Returns the number of elements in this matrix, which is the number of rows
-     * times the number of columns.
-     *
-     * @return Number of elements in this matrix.
-     */
-    public int getNumElements();
-
-
     public <T extends Matrix64F> T copy();
-
-    public void print();
 }
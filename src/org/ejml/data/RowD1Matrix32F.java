@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2009-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+/**
+ * Interface for a row-major matrix that uses a single array internally.
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from RowD1Matrix64F</p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class RowD1Matrix32F extends D1Matrix32F {
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.ops.MatrixIO;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Sparse matrix stored in compressed sparse column (CSC) format.  Only the non-zero elements are stored.  The
+ * elements in column j are stored in nz_rows and nz_values from index col_idx[j] to col_idx[j+1]-1.  Elements
+ * which are not stored have a value of zero.
+ * </p>
+ *
+ * <p>
+ * The row indexes inside a column do not need to be sorted.  Some algorithms produce unsorted output and sorting
+ * is only done when requested, see {@link #sortIndices()}.  Explicitly stored zeros are allowed.
+ * </p>
+ *
+ * <p>
+ * Element access through {@link #get(int, int)} and {@link #set(int, int, double)} requires a search through the
+ * column and set() can require the arrays to be shifted or grown.  Neither should be used inside of performance
+ * critical code.  Instead the arrays should be accessed directly.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SparseMatrixCSC64F implements Matrix64F {
+    /**
+     * Number of rows in the matrix.
+     */
+    public int numRows;
+    /**
+     * Number of columns in the matrix.
+     */
+    public int numCols;
+
+    /**
+     * Number of non-zero elements which are stored in the matrix.
+     */
+    public int nz_length;
+    /**
+     * Values of the non-zero elements.  Length is at least nz_length.
+     */
+    public double nz_values[] = new double[0];
+    /**
+     * Row index of each non-zero element.  Length is at least nz_length.
+     */
+    public int nz_rows[] = new int[0];
+    /**
+     * Index of the first element in each column.  col_idx[numCols] = nz_length.  Length is numCols+1.
+     */
+    public int col_idx[];
+
+    /**
+     * Flag which indicates that the row indexes inside of each column are sorted.
+     */
+    public boolean indicesSorted = false;
+
+    /**
+     * Creates a matrix with no non-zero elements.
+     *
+     * @param numRows Number of rows
+     * @param numCols Number of columns
+     * @param arrayLength Initial length of the arrays which store the non-zero elements.
+     */
+    public SparseMatrixCSC64F( int numRows , int numCols , int arrayLength ) {
+        if( numRows < 0 || numCols < 0 || arrayLength < 0 )
+            throw new IllegalArgumentException("Rows, columns, and arrayLength must be not be negative");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        this.col_idx = new int[ numCols+1 ];
+        growMaxLength(arrayLength, false);
+    }
+
+    /**
+     * Creates a copy of the provided matrix.
+     *
+     * @param original The matrix which is to be copied.
+     */
+    public SparseMatrixCSC64F( SparseMatrixCSC64F original ) {
+        this(original.numRows, original.numCols, original.nz_length);
+
+        set(original);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /**
+     * Returns numRows*numCols, including elements which are not stored.  For large matrices this can be more
+     * than an int can store, in which case an exception is thrown.  Use {@link #getNonZeroLength()} for the
+     * number of stored elements.
+     *
+     * @throws IllegalArgumentException if numRows*numCols is larger than Integer.MAX_VALUE
+     */
+    @Override
+    public int getNumElements() {
+        long N = (long)numRows*numCols;
+        if( N > Integer.MAX_VALUE )
+            throw new IllegalArgumentException("Number of elements is too large for an int: "+N);
+        return (int)N;
+    }
+
+    /**
+     * Returns the number of elements which are explicitly stored.
+     */
+    public int getNonZeroLength() {
+        return nz_length;
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public SparseMatrixCSC64F copy() {
+        return new SparseMatrixCSC64F(this);
+    }
+
+    @Override
+    public double get(int row, int col) {
+        if( row < 0 || row >= numRows || col < 0 || col >= numCols )
+            throw new IllegalArgumentException("Outside of matrix bounds");
+
+        return unsafe_get(row, col);
+    }
+
+    @Override
+    public double unsafe_get(int row, int col) {
+        int index = nz_index(row,col);
+        if( index >= 0 )
+            return nz_values[index];
+        return 0;
+    }
+
+    /**
+     * Returns the index in nz_values and nz_rows of the specified element or -1 if it is not stored.
+     *
+     * @param row Matrix element's row index.
+     * @param col Matrix element's column index.
+     * @return Index of the element or -1 if not stored.
+     */
+    public int nz_index( int row , int col ) {
+        int idx0 = col_idx[col];
+        int idx1 = col_idx[col+1];
+
+        if( indicesSorted ) {
+            int index = Arrays.binarySearch(nz_rows,idx0,idx1,row);
+            return index >= 0 ? index : -1;
+        }
+
+        for( int i = idx0; i < idx1; i++ ) {
+            if( nz_rows[i] == row )
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public void set(int row, int col, double val) {
+        if( row < 0 || row >= numRows || col < 0 || col >= numCols )
+            throw new IllegalArgumentException("Outside of matrix bounds");
+
+        unsafe_set(row, col, val);
+    }
+
+    @Override
+    public void unsafe_set(int row, int col, double val) {
+        int index = nz_index(row,col);
+        if( index >= 0 ) {
+            nz_values[index] = val;
+            return;
+        }
+
+        // insert the element at the end of the column, or at the sorted location
+        index = col_idx[col+1];
+        if( indicesSorted ) {
+            int idx0 = col_idx[col];
+            while( index > idx0 && nz_rows[index-1] > row )
+                index--;
+        }
+
+        if( nz_length >= nz_values.length )
+            growMaxLength(nz_length*2+1, true);
+
+        System.arraycopy(nz_values,index,nz_values,index+1,nz_length-index);
+        System.arraycopy(nz_rows,index,nz_rows,index+1,nz_length-index);
+        nz_values[index] = val;
+        nz_rows[index] = row;
+        nz_length++;
+
+        for( int i = col+1; i <= numCols; i++ ) {
+            col_idx[i]++;
+        }
+    }
+
+    /**
+     * Removes all the non-zero elements.  The matrix's shape and array length are not changed.
+     */
+    public void zero() {
+        Arrays.fill(col_idx,0,numCols+1,0);
+        nz_length = 0;
+        indicesSorted = true;
+    }
+
+    /**
+     * Changes the shape of the matrix and removes all the non-zero elements.  Memory is only declared if
+     * the arrays are too small.
+     *
+     * @param numRows The new number of rows in the matrix.
+     * @param numCols The new number of columns in the matrix.
+     * @param arrayLength Minimum length of the arrays which store the non-zero elements.
+     */
+    public void reshape( int numRows , int numCols , int arrayLength ) {
+        if( numRows < 0 || numCols < 0 || arrayLength < 0 )
+            throw new IllegalArgumentException("Rows, columns, and arrayLength must be not be negative");
+        this.numRows = numRows;
+        this.numCols = numCols;
+        growMaxLength(arrayLength, false);
+        if( col_idx.length < numCols+1 )
+            col_idx = new int[ numCols+1 ];
+        zero();
+    }
+
+    /**
+     * Increases the length of the non-zero arrays so that they can store at least arrayLength elements.
+     *
+     * @param arrayLength Desired minimum length of the non-zero arrays.
+     * @param preserveValue If true then the elements currently stored will be saved.
+     */
+    public void growMaxLength( int arrayLength , boolean preserveValue ) {
+        if( arrayLength <= nz_values.length )
+            return;
+
+        double values[] = new double[ arrayLength ];
+        int rows[] = new int[ arrayLength ];
+
+        if( preserveValue ) {
+            System.arraycopy(nz_values,0,values,0,nz_length);
+            System.arraycopy(nz_rows,0,rows,0,nz_length);
+        }
+
+        nz_values = values;
+        nz_rows = rows;
+    }
+
+    /**
+     * Sets this matrix to be equal to the provided matrix.  The arrays are grown if needed.
+     *
+     * @param original The matrix which is to be copied.
+     */
+    public void set( SparseMatrixCSC64F original ) {
+        reshape(original.numRows,original.numCols,original.nz_length);
+        this.nz_length = original.nz_length;
+        this.indicesSorted = original.indicesSorted;
+
+        System.arraycopy(original.nz_values,0,nz_values,0,nz_length);
+        System.arraycopy(original.nz_rows,0,nz_rows,0,nz_length);
+        System.arraycopy(original.col_idx,0,col_idx,0,numCols+1);
+    }
+
+    /**
+     * Sorts the row indexes inside of each column so that they are in increasing order.
+     */
+    public void sortIndices() {
+        if( indicesSorted )
+            return;
+
+        for( int col = 0; col < numCols; col++ ) {
+            int idx0 = col_idx[col];
+            int idx1 = col_idx[col+1];
+
+            // insertion sort.  Columns are typically short
+            for( int i = idx0+1; i < idx1; i++ ) {
+                int row = nz_rows[i];
+                double value = nz_values[i];
+                int j = i-1;
+                while( j >= idx0 && nz_rows[j] > row ) {
+                    nz_rows[j+1] = nz_rows[j];
+                    nz_values[j+1] = nz_values[j];
+                    j--;
+                }
+                nz_rows[j+1] = row;
+                nz_values[j+1] = value;
+            }
+        }
+        indicesSorted = true;
+    }
+
+    /**
+     * Checks to see if the internal data structure is valid.  Intended for debugging and testing.
+     *
+     * @return true if valid
+     */
+    public boolean isValid() {
+        if( col_idx[0] != 0 || col_idx[numCols] != nz_length )
+            return false;
+        for( int col = 0; col < numCols; col++ ) {
+            int idx0 = col_idx[col];
+            int idx1 = col_idx[col+1];
+            if( idx0 > idx1 )
+                return false;
+            for( int i = idx0; i < idx1; i++ ) {
+                int row = nz_rows[i];
+                if( row < 0 || row >= numRows )
+                    return false;
+                if( indicesSorted && i > idx0 && row <= nz_rows[i-1] )
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void print() {
+        MatrixIO.print(System.out,this);
+    }
+}
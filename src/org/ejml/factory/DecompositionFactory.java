@@ -19,19 +19,27 @@
 package org.ejml.factory;
 
 import org.ejml.EjmlParameters;
+import org.ejml.alg.block.decomposition.chol.CholeskyOuterForm_MT_B64;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionBlock_D64;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionLDL_D64;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecomposition_B64_to_D64;
 import org.ejml.alg.dense.decomposition.eig.SwitchingEigenDecomposition;
+import org.ejml.alg.dense.decomposition.eig.SymmetricDivideConquerDecomposition_D64;
 import org.ejml.alg.dense.decomposition.eig.SymmetricQRAlgorithmDecomposition_D64;
 import org.ejml.alg.dense.decomposition.eig.WatchedDoubleStepQRDecomposition_D64;
+import org.ejml.alg.dense.decomposition.hessenberg.HessenbergDecomposition_B64_to_D64;
+import org.ejml.alg.dense.decomposition.hessenberg.HessenbergSimilarDecomposition_D64;
 import org.ejml.alg.dense.decomposition.hessenberg.TridiagonalDecompositionHouseholder_D64;
 import org.ejml.alg.dense.decomposition.hessenberg.TridiagonalDecomposition_B64_to_D64;
+import org.ejml.alg.dense.decomposition.lq.LQDecompositionHouseholder_D64;
 import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecomposition_B64_to_D64;
 import org.ejml.alg.dense.decomposition.qr.QRColPivDecompositionHouseholderColumn_D64;
 import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+import org.ejml.alg.dense.decomposition.svd.SvdDivideConquerDecompose_D64;
 import org.ejml.alg.dense.decomposition.svd.SvdImplicitQrDecompose_D64;
+import org.ejml.alg.dense.decomposition.svd.SvdRandomizedDecompose_D64;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.data.ReshapeMatrix64F;
 import org.ejml.interfaces.decomposition.*;
@@ -65,6 +73,11 @@ public class DecompositionFactory {
      * Returns a {@link CholeskyDecomposition} that has been optimized for the specified matrix size.
      * </p>
      *
+     * <p>
+     * Large matrices use a block algorithm.  If {@link EjmlParameters#CONCURRENT} is true then the
+     * concurrent block algorithm is used instead.
+     * </p>
+     *
      * @param matrixSize Number of rows and columns that the returned decomposition is optimized for.
      * @param lower should a lower or upper triangular matrix be used. If not sure set to true.
      * @return A new CholeskyDecomposition.
@@ -74,6 +87,8 @@ public class DecompositionFactory {
         if( matrixSize < EjmlParameters.SWITCH_BLOCK64_CHOLESKY ) {
             return new CholeskyDecompositionInner_D64(lower);
         } else if( EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER ){
+            if( EjmlParameters.CONCURRENT )
+                return new CholeskyDecomposition_B64_to_D64(new CholeskyOuterForm_MT_B64(lower));
             return new CholeskyDecomposition_B64_to_D64(lower);
         } else {
             return new CholeskyDecompositionBlock_D64(EjmlParameters.BLOCK_WIDTH_CHOL);
@@ -101,7 +116,12 @@ public class DecompositionFactory {
      * @return LUDecomposition
      */
     public static LUDecomposition<DenseMatrix64F> lu( int numRows , int numCol ) {
-        return new LUDecompositionAlt_D64();
+        if( Math.min(numRows,numCol) < EjmlParameters.SWITCH_BLOCK64_LU ||
+                EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.LOW_MEMORY ) {
+            return new LUDecompositionAlt_D64();
+        } else {
+            return new LUDecomposition_B64_to_D64();
+        }
     }
 
     /**
@@ -119,10 +139,31 @@ public class DecompositionFactory {
      */
     public static SingularValueDecomposition<DenseMatrix64F> svd( int numRows , int numCols , 
                                                                   boolean needU , boolean needV , boolean compact ) {
+        if( (needU || needV) && Math.min(numRows,numCols) >= EjmlParameters.SWITCH_SVD_DIVIDE_CONQUER )
+            return new SvdDivideConquerDecompose_D64(compact,needU,needV);
+
         // Don't allow the tall decomposition by default since it *might* be less stable
         return new SvdImplicitQrDecompose_D64(compact,needU,needV,false);
     }
 
+    /**
+     * <p>
+     * Returns a {@link SingularValueDecomposition} which approximates only the largest singular values
+     * and their singular vectors.  Much faster than a full SVD when rank is small relative to the matrix size.
+     * The returned decomposition is compact and its singular values are in descending order.
+     * </p>
+     *
+     * @see SvdRandomizedDecompose_D64
+     *
+     * @param rank Number of singular values which are to be computed.
+     * @param needU Should it compute the U matrix. If not sure set to true.
+     * @param needV Should it compute the V matrix. If not sure set to true.
+     * @return Truncated SVD
+     */
+    public static SingularValueDecomposition<DenseMatrix64F> svdTruncated( int rank , boolean needU , boolean needV ) {
+        return new SvdRandomizedDecompose_D64(rank,needU,needV);
+    }
+
     /**
      * <p>
      * Returns a {@link org.ejml.interfaces.decomposition.QRDecomposition} that has been optimized for the specified matrix size.
@@ -136,6 +177,20 @@ public class DecompositionFactory {
         return new QRDecompositionHouseholderColumn_D64();
     }
 
+    /**
+     * <p>
+     * Returns a {@link org.ejml.interfaces.decomposition.LQDecomposition} that has been optimized for the specified matrix size.
+     * The input matrix is decomposed in place.
+     * </p>
+     *
+     * @param numRows Number of rows the returned decomposition is optimized for.
+     * @param numCols Number of columns that the returned decomposition is optimized for.
+     * @return LQDecomposition
+     */
+    public static LQDecomposition<DenseMatrix64F> lq( int numRows , int numCols ) {
+        return new LQDecompositionHouseholder_D64();
+    }
+
     /**
      * <p>
      * Returns a {@link org.ejml.interfaces.decomposition.QRPDecomposition} that has been optimized for the specified matrix size.
@@ -179,9 +234,12 @@ public class DecompositionFactory {
                                                           boolean isSymmetric ) {
         if( isSymmetric ) {
             TridiagonalSimilarDecomposition<DenseMatrix64F> decomp = DecompositionFactory.tridiagonal(matrixSize);
-            return new SymmetricQRAlgorithmDecomposition_D64(decomp,computeVectors);
+            if( computeVectors && matrixSize >= EjmlParameters.SWITCH_EIG_DIVIDE_CONQUER )
+                return new SymmetricDivideConquerDecomposition_D64(decomp,computeVectors);
+            else
+                return new SymmetricQRAlgorithmDecomposition_D64(decomp,computeVectors);
         } else
-            return new WatchedDoubleStepQRDecomposition_D64(computeVectors);
+            return new WatchedDoubleStepQRDecomposition_D64(DecompositionFactory.hessenberg(matrixSize),computeVectors);
     }
 
     /**
@@ -265,6 +323,20 @@ public class DecompositionFactory {
         }
     }
 
+    /**
+     * Returns a {@link HessenbergSimilarDecomposition} that has been optimized for the specified matrix size.
+     * Large matrices use a block algorithm.
+     *
+     * @param matrixSize Number of rows and columns that the returned decomposition is optimized for.
+     */
+    public static HessenbergSimilarDecomposition<DenseMatrix64F> hessenberg( int matrixSize ) {
+        if( matrixSize >= EjmlParameters.SWITCH_BLOCK64_HESSENBERG ) {
+            return new HessenbergDecomposition_B64_to_D64();
+        } else {
+            return new HessenbergSimilarDecomposition_D64(matrixSize);
+        }
+    }
+
     /**
      * A simple convinience function that decomposes the matrix but automatically checks the input ti make
      * sure is not being modified.
@@ -19,17 +19,26 @@
 package org.ejml.factory;
 
 import org.ejml.EjmlParameters;
+import org.ejml.alg.block.decomposition.chol.CholeskyOuterForm_MT_B64;
+import org.ejml.alg.block.linsol.chol.BlockCholeskyOuterSolver;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionCommon_D64;
 import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
 import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
 import org.ejml.alg.dense.decomposition.qr.QRColPivDecompositionHouseholderColumn_D64;
 import org.ejml.alg.dense.linsol.AdjustableLinearSolver;
+import org.ejml.alg.dense.linsol.LinearSolverMixedPrecision;
+import org.ejml.alg.dense.linsol.chol.AdjLinearSolverChol;
 import org.ejml.alg.dense.linsol.chol.LinearSolverChol;
 import org.ejml.alg.dense.linsol.chol.LinearSolverCholBlock64;
+import org.ejml.alg.dense.linsol.lq.LinearSolverLqHouse;
 import org.ejml.alg.dense.linsol.lu.LinearSolverLu;
+import org.ejml.alg.dense.linsol.lu.LinearSolverLuBlock64;
 import org.ejml.alg.dense.linsol.qr.*;
 import org.ejml.alg.dense.linsol.svd.SolvePseudoInverseSvd;
+import org.ejml.alg.sparse.decomposition.chol.CholeskyDecompositionUpLooking_S64;
+import org.ejml.alg.sparse.linsol.chol.LinearSolverChol_S64;
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
 import org.ejml.interfaces.linsol.LinearSolver;
 
 
@@ -41,7 +50,8 @@ import org.ejml.interfaces.linsol.LinearSolver;
 public class LinearSolverFactory {
 
     /**
-     * Creates a general purpose solver.  Use this if you are not sure what you need.
+     * Creates a general purpose solver.  Use this if you are not sure what you need.  Over determined
+     * systems return the least-squares solution and under determined systems the minimum norm solution.
      *
      * @param numRows The number of rows that the decomposition is optimized for.
      * @param numCols The number of columns that the decomposition is optimized for.
@@ -49,8 +59,10 @@ public class LinearSolverFactory {
     public static LinearSolver<DenseMatrix64F> general( int numRows , int numCols ) {
         if( numRows == numCols )
             return linear(numRows);
-        else
+        else if( numRows > numCols )
             return leastSquares(numRows,numCols);
+        else
+            return minimumNorm(numRows,numCols);
     }
 
     /**
@@ -59,7 +71,12 @@ public class LinearSolverFactory {
      * @return A new linear solver.
      */
     public static LinearSolver<DenseMatrix64F> linear( int matrixSize ) {
-        return new LinearSolverLu(new LUDecompositionAlt_D64());
+        if( matrixSize < EjmlParameters.SWITCH_BLOCK64_LU ||
+                EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.LOW_MEMORY ) {
+            return new LinearSolverLu(new LUDecompositionAlt_D64());
+        } else {
+            return new LinearSolverLuBlock64();
+        }
     }
 
     /**
@@ -82,7 +99,21 @@ public class LinearSolverFactory {
     }
 
     /**
-     * Creates a solver for symmetric positive definite matrices.
+     * Creates a solver for under determined systems which returns the solution with the smallest 2-norm.
+     * LQ decomposition is used, which decomposes A in place without transposing it.  The A matrix will have
+     * dimensions (m,n) where m &le; n and must have full rank.
+     *
+     * @param numRows The number of rows that the decomposition is optimized for.
+     * @param numCols The number of columns that the decomposition is optimized for.
+     * @return A new minimum norm solver for under determined systems.
+     */
+    public static LinearSolver<DenseMatrix64F> minimumNorm( int numRows , int numCols ) {
+        return new LinearSolverLqHouse();
+    }
+
+    /**
+     * Creates a solver for symmetric positive definite matrices.  Large matrices use a block algorithm,
+     * which is concurrent if {@link EjmlParameters#CONCURRENT} is true.
      *
      * @return A new solver for symmetric positive definite matrices.
      */
@@ -91,15 +122,33 @@ public class LinearSolverFactory {
             CholeskyDecompositionCommon_D64 decomp = new CholeskyDecompositionInner_D64(true);
             return new LinearSolverChol(decomp);
         } else {
-            if( EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER )
+            if( EjmlParameters.MEMORY == EjmlParameters.MemoryUsage.FASTER ) {
+                if( EjmlParameters.CONCURRENT )
+                    return new LinearSolverCholBlock64(
+                            new BlockCholeskyOuterSolver(new CholeskyOuterForm_MT_B64(true)));
                 return new LinearSolverCholBlock64();
-            else {
+            } else {
                 CholeskyDecompositionCommon_D64 decomp = new CholeskyDecompositionInner_D64(true);
                 return new LinearSolverChol(decomp);
             }
         }
     }
 
+    /**
+     * Creates a solver for sparse symmetric positive definite matrices.  A fill reducing ordering is
+     * computed from the structure of A when the solver is created.  Matrices passed into
+     * {@link LinearSolver#setA(org.ejml.data.Matrix)} which have the same structure will skip that step.
+     * Only the upper triangle of A is read.
+     *
+     * @param A Matrix whose structure is used to initialize the solver.  Not modified.
+     * @return A new sparse solver.
+     */
+    public static LinearSolverChol_S64 symmPosDef( SparseMatrixCSC64F A ) {
+        CholeskyDecompositionUpLooking_S64 decomp = new CholeskyDecompositionUpLooking_S64(true);
+        decomp.performSymbolic(A);
+        return new LinearSolverChol_S64(decomp);
+    }
+
     /**
      * <p>
      * Linear solver which uses QR pivot decomposition.  These solvers can handle singular systems
@@ -165,4 +214,46 @@ public class LinearSolverFactory {
     public static AdjustableLinearSolver adjustable() {
         return new AdjLinearSolverQr();
     }
+
+    /**
+     * Create a solver for symmetric positive definite matrices which can efficiently be updated
+     * after a rank-1 modification, A &plusmn; x*x<sup>T</sup>, instead of recomputing everything from scratch.
+     */
+    public static AdjLinearSolverChol adjustableSymmPosDef() {
+        return new AdjLinearSolverChol();
+    }
+
+    /**
+     * Creates a solver for linear systems which factors A in single precision then uses iterative refinement
+     * in double precision to achieve double precision accuracy.  Falls back to {@link #linear(int)} if
+     * the refinement does not converge.  The A matrix will have dimensions (m,m).
+     *
+     * <p>
+     * The factorization requires half the memory.  For matrices with a size of
+     * {@link EjmlParameters#SWITCH_BLOCK64_LU} or more it is slower than {@link #linear(int)}, which uses
+     * a block algorithm, since the single precision LU is not blocked.
+     * </p>
+     *
+     * @see LinearSolverMixedPrecision
+     */
+    public static LinearSolverMixedPrecision linearMixedPrecision( int matrixSize ) {
+        return new LinearSolverMixedPrecision(LinearSolverFactory32.linear(matrixSize),linear(matrixSize));
+    }
+
+    /**
+     * Creates a solver for symmetric positive definite matrices which factors A in single precision then
+     * uses iterative refinement in double precision to achieve double precision accuracy.  Falls back to
+     * {@link #symmPosDef(int)} if the refinement does not converge.
+     *
+     * <p>
+     * The factorization requires half the memory.  For matrices with a width of
+     * {@link EjmlParameters#SWITCH_BLOCK64_CHOLESKY} or more it is slower than {@link #symmPosDef(int)},
+     * which uses a block algorithm, since the single precision Cholesky is not blocked.
+     * </p>
+     *
+     * @see LinearSolverMixedPrecision
+     */
+    public static LinearSolverMixedPrecision symmPosDefMixedPrecision( int matrixWidth ) {
+        return new LinearSolverMixedPrecision(LinearSolverFactory32.symmPosDef(matrixWidth),symmPosDef(matrixWidth));
+    }
 }
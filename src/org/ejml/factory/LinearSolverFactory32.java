@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.factory;
+
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionCommon_D32;
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D32;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D32;
+import org.ejml.alg.dense.linsol.chol.LinearSolverChol32;
+import org.ejml.alg.dense.linsol.lu.LinearSolverLu32;
+import org.ejml.alg.dense.linsol.qr.LinearSolverQrHouseCol32;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.interfaces.linsol.LinearSolver;
+
+
+/**
+ * A factory for generating solvers for systems of the form A*x=b using 32-bit floats.  See
+ * {@link LinearSolverFactory} for the 64-bit equivalent.  Block algorithms are not available for floats, so
+ * the same algorithm is returned independent of the matrix's size.
+ *
+ * @author Peter Abeles
+ */
+public class LinearSolverFactory32 {
+
+    /**
+     * Creates a general purpose solver.  Use this if you are not sure what you need.
+     *
+     * @param numRows The number of rows that the decomposition is optimized for.
+     * @param numCols The number of columns that the decomposition is optimized for.
+     */
+    public static LinearSolver<DenseMatrix32F> general( int numRows , int numCols ) {
+        if( numRows == numCols )
+            return linear(numRows);
+        else
+            return leastSquares(numRows,numCols);
+    }
+
+    /**
+     * Creates a solver for linear systems.  The A matrix will have dimensions (m,m).
+     *
+     * @return A new linear solver.
+     */
+    public static LinearSolver<DenseMatrix32F> linear( int matrixSize ) {
+        return new LinearSolverLu32(new LUDecompositionAlt_D32());
+    }
+
+    /**
+     * Creates a good general purpose solver for over determined systems and returns the optimal least-squares
+     * solution.  The A matrix will have dimensions (m,n) where m &ge; n.
+     *
+     * @param numRows The number of rows that the decomposition is optimized for.
+     * @param numCols The number of columns that the decomposition is optimized for.
+     * @return A new least-squares solver for over determined systems.
+     */
+    public static LinearSolver<DenseMatrix32F> leastSquares( int numRows , int numCols ) {
+        return new LinearSolverQrHouseCol32();
+    }
+
+    /**
+     * Creates a solver for symmetric positive definite matrices.
+     *
+     * @return A new solver for symmetric positive definite matrices.
+     */
+    public static LinearSolver<DenseMatrix32F> symmPosDef( int matrixWidth ) {
+        CholeskyDecompositionCommon_D32 decomp = new CholeskyDecompositionInner_D32(true);
+        return new LinearSolverChol32(decomp);
+    }
+}
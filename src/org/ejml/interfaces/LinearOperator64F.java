@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.interfaces;
+
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * <p>
+ * A linear operator which is only known through its product with a vector, y = A*x.  Iterative
+ * algorithms only need to be able to compute this product, which allows them to process sparse
+ * matrices, structured matrices, or matrices which are never explicitly constructed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface LinearOperator64F {
+
+    /**
+     * Number of rows in the operator.  The length of the output vector.
+     */
+    public int getNumRows();
+
+    /**
+     * Number of columns in the operator.  The length of the input vector.
+     */
+    public int getNumCols();
+
+    /**
+     * Computes y = A*x
+     *
+     * @param x Column vector with {@link #getNumCols()} elements. Not modified.
+     * @param y Column vector with {@link #getNumRows()} elements. Modified.
+     */
+    public void mult( DenseMatrix64F x , DenseMatrix64F y );
+}
@@ -19,7 +19,7 @@
 package org.ejml.interfaces.decomposition;
 
 import org.ejml.data.DenseMatrix64F;
-import org.ejml.data.Matrix64F;
+import org.ejml.data.Matrix;
 
 
 /**
@@ -43,7 +43,7 @@ import org.ejml.data.Matrix64F;
  *
  * @author Peter Abeles
  */
-public interface CholeskyDecomposition <MatrixType extends Matrix64F>
+public interface CholeskyDecomposition <MatrixType extends Matrix>
         extends DecompositionInterface<MatrixType> {
 
     /**
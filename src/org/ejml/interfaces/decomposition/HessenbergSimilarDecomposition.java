@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.interfaces.decomposition;
+
+import org.ejml.data.ReshapeMatrix64F;
+
+
+/**
+ * <p>
+ * Finds the decomposition of a matrix in the form of:<br>
+ * <br>
+ * A = O*H*O<sup>T</sup><br>
+ * <br>
+ * where A is an m by m matrix, O is an orthogonal matrix, and H is an upper Hessenberg matrix.
+ * A matrix is upper Hessenberg if a<sub>ij</sub> = 0 for all i > j+1.
+ * </p>
+ *
+ * <p>
+ * This decomposition is primarily used as a step for computing the eigenvalue decomposition of a matrix.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface HessenbergSimilarDecomposition<MatrixType extends ReshapeMatrix64F>
+        extends DecompositionInterface<MatrixType> {
+
+    /**
+     * An upper Hessenberg matrix from the decomposition.
+     *
+     * @param H If not null then the results will be stored here.  Otherwise a new matrix will be created.
+     * @return The extracted H matrix.
+     */
+    public MatrixType getH( MatrixType H );
+
+    /**
+     * An orthogonal matrix that has the following property: H = Q<sup>T</sup>AQ
+     *
+     * @param Q If not null then the results will be stored here.  Otherwise a new matrix will be created.
+     * @return The extracted Q matrix.
+     */
+    public MatrixType getQ( MatrixType Q );
+}
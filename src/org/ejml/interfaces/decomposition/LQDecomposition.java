@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.interfaces.decomposition;
+
+import org.ejml.data.Matrix;
+
+
+/**
+ * <p>
+ * LQ decompositions decompose a rectangular matrix 'A' such that 'A=LQ'.  Where
+ * A &isin; &real; <sup>m &times; n</sup>, L &isin; &real; <sup>m &times; n</sup> is a lower triangular matrix,
+ * and Q &isin; &real; <sup>n &times; n</sup> is an orthogonal matrix.  It is the transpose of
+ * the QR decomposition of A<sup>T</sup>.
+ * </p>
+ * <p>
+ * LQ is the natural decomposition for wide matrices, m &le; n, and is used to find the minimum norm solution
+ * to under determined systems.  The rows of Q form an orthogonal basis for the row space of A.
+ * </p>
+ *
+ * @see org.ejml.alg.dense.decomposition.lq.LQDecompositionHouseholder_D64
+ *
+ * @author Peter Abeles
+ */
+public interface LQDecomposition <T extends Matrix>
+        extends DecompositionInterface<T> {
+    /**
+     * <p>
+     * Returns the L matrix from the decomposition.  Should only be
+     * called after {@link #decompose(org.ejml.data.Matrix)} has been.
+     * </p>
+     *
+     * <p>
+     * If parameter L is not null, then that matrix is used to store the L matrix.  Otherwise
+     * a new matrix is created.
+     * </p>
+     *
+     * @param L If not null then the L matrix is written to it. Modified.
+     * @param compact If true an m by min(m,n) matrix is created, otherwise m by n.
+     * @return The L matrix.
+     */
+    public T getL( T L, boolean compact);
+
+    /**
+     * <p>
+     * Returns the Q matrix from the decomposition.  Should only
+     * be called after {@link #decompose(org.ejml.data.Matrix)} has
+     * been called.
+     * </p>
+     *
+     * <p>
+     * If parameter Q is not null, then that matrix is used to store the Q matrix.  Otherwise
+     * a new matrix is created.
+     * </p>
+     *
+     * @param Q If not null then the Q matrix is written to it.  Modified.
+     * @param compact If true a min(m,n) by n matrix is created, otherwise n by n.
+     * @return The Q matrix.
+     */
+    public T getQ( T Q, boolean compact);
+}
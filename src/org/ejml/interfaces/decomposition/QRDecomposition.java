@@ -18,7 +18,7 @@
 
 package org.ejml.interfaces.decomposition;
 
-import org.ejml.data.Matrix64F;
+import org.ejml.data.Matrix;
 
 
 /**
@@ -49,12 +49,12 @@ import org.ejml.data.Matrix64F;
  *
  * @author Peter Abeles
  */
-public interface QRDecomposition <T extends Matrix64F>
+public interface QRDecomposition <T extends Matrix>
         extends DecompositionInterface<T> {
     /**
      * <p>
      * Returns the Q matrix from the decomposition.  Should only
-     * be called after {@link #decompose(org.ejml.data.Matrix64F)} has
+     * be called after {@link #decompose(org.ejml.data.Matrix)} has
      * been called.
      * </p>
      *
@@ -72,7 +72,7 @@ public interface QRDecomposition <T extends Matrix64F>
     /**
      * <p>
      * Returns the R matrix from the decomposition.  Should only be
-     * called after {@link #decompose(org.ejml.data.Matrix64F)} has been.
+     * called after {@link #decompose(org.ejml.data.Matrix)} has been.
      * </p>
      * <p>
      * If setZeros is true then an n &times; m matrix is required and all the elements are set.
@@ -18,7 +18,7 @@
 
 package org.ejml.interfaces.linsol;
 
-import org.ejml.data.Matrix64F;
+import org.ejml.data.Matrix;
 
 
 /**
@@ -40,16 +40,16 @@ import org.ejml.data.Matrix64F;
  * <p>
  * To solve a system:<br>
  * <ol>
- * <li> Call {@link #setA(org.ejml.data.Matrix64F)}
- * <li> Call {@link #solve(org.ejml.data.Matrix64F, org.ejml.data.Matrix64F)}.
+ * <li> Call {@link #setA(org.ejml.data.Matrix)}
+ * <li> Call {@link #solve(org.ejml.data.Matrix, org.ejml.data.Matrix)}.
  * </ol>
  * </p>
  *
  * <p>
  * To invert a matrix:<br>
  * <ol>
- * <li> Call {@link #setA(org.ejml.data.Matrix64F)}
- * <li> Call {@link #invert(org.ejml.data.Matrix64F)}.
+ * <li> Call {@link #setA(org.ejml.data.Matrix)}
+ * <li> Call {@link #invert(org.ejml.data.Matrix)}.
  * </ol>
  * A matrix can also be inverted by passing in an identity matrix to solve, but this will be
  * slower and more memory intensive than the specialized invert() function.
@@ -66,7 +66,7 @@ import org.ejml.data.Matrix64F;
  *
  * @author Peter Abeles
  */
-public interface LinearSolver< T extends Matrix64F> {
+public interface LinearSolver< T extends Matrix> {
 
     /**
      * <p>
@@ -100,6 +100,11 @@ public interface LinearSolver< T extends Matrix64F> {
      * to be scale invariant and its absolute value taken it will provide functionality described above.
      * </p>
      *
+     * <p>
+     * The dense LU, Cholesky, and square QR solvers return an estimate of the reciprocal of the 1-norm
+     * condition number, which is computed in O(n<sup>2</sup>) from the existing decomposition.
+     * </p>
+     *
      * @return The quality of the linear system.
      */
     public double quality();
@@ -120,7 +125,7 @@ public interface LinearSolver< T extends Matrix64F> {
 
 
     /**
-     * Computes the inverse of of the 'A' matrix passed into {@link #setA(org.ejml.data.Matrix64F)}
+     * Computes the inverse of of the 'A' matrix passed into {@link #setA(org.ejml.data.Matrix)}
      * and writes the results to the provided matrix.  If 'A_inv' needs to be different from 'A'
      * is implementation dependent.
      *
@@ -129,7 +134,7 @@ public interface LinearSolver< T extends Matrix64F> {
     public void invert( T A_inv );
 
     /**
-     * Returns true if the passed in matrix to {@link #setA(org.ejml.data.Matrix64F)}
+     * Returns true if the passed in matrix to {@link #setA(org.ejml.data.Matrix)}
      * is modified.
      *
      * @return true if A is modified in setA().
@@ -137,7 +142,7 @@ public interface LinearSolver< T extends Matrix64F> {
     public boolean modifiesA();
 
     /**
-     * Returns true if the passed in 'B' matrix to {@link #solve(org.ejml.data.Matrix64F, org.ejml.data.Matrix64F)}
+     * Returns true if the passed in 'B' matrix to {@link #solve(org.ejml.data.Matrix, org.ejml.data.Matrix)}
      * is modified.
      *
      * @return true if B is modified in solve(B,X).
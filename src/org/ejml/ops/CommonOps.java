@@ -25,6 +25,8 @@ import org.ejml.alg.dense.linsol.LinearSolverSafe;
 import org.ejml.alg.dense.linsol.lu.LinearSolverLu;
 import org.ejml.alg.dense.misc.*;
 import org.ejml.alg.dense.mult.MatrixMatrixMult;
+import org.ejml.alg.dense.mult.MatrixMatrixMultPacked;
+import org.ejml.alg.dense.mult.MatrixMatrixMult_MT;
 import org.ejml.alg.dense.mult.MatrixMultProduct;
 import org.ejml.alg.dense.mult.MatrixVectorMult;
 import org.ejml.data.D1Matrix64F;
@@ -71,6 +73,14 @@ public class CommonOps {
     {
         if( b.numCols == 1 ) {
             MatrixVectorMult.mult(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(1.0,a,false,b,false,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numCols) ) {
+            if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult_MT.mult_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult_MT.mult_small(a,b,c);
+            }
         } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
             MatrixMatrixMult.mult_reorder(a,b,c);
         } else {
@@ -94,7 +104,15 @@ public class CommonOps {
     public static void mult( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+        if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(alpha,a,false,b,false,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numCols) ) {
+            if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult_MT.mult_reorder(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult_MT.mult_small(alpha,a,b,c);
+            }
+        } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
             MatrixMatrixMult.mult_reorder(alpha,a,b,c);
         } else {
             MatrixMatrixMult.mult_small(alpha,a,b,c);
@@ -123,6 +141,15 @@ public class CommonOps {
             } else {
                 MatrixVectorMult.multTransA_small(a,b,c);
             }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(1.0,a,true,b,false,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numCols) ) {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                    b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
+                MatrixMatrixMult_MT.multTransA_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult_MT.multTransA_small(a,b,c);
+            }
         } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
             MatrixMatrixMult.multTransA_reorder(a,b,c);
@@ -147,7 +174,16 @@ public class CommonOps {
     public static void multTransA( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+        if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(alpha,a,true,b,false,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numCols) ) {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                    b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult_MT.multTransA_reorder(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult_MT.multTransA_small(alpha,a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
             MatrixMatrixMult.multTransA_reorder(alpha,a,b,c);
         } else {
@@ -171,6 +207,10 @@ public class CommonOps {
     {
         if( b.numRows == 1 ) {
             MatrixVectorMult.mult(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(1.0,a,false,b,true,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numRows) ) {
+            MatrixMatrixMult_MT.multTransB(a,b,c);
         } else {
             MatrixMatrixMult.multTransB(a,b,c);
         }
@@ -192,7 +232,13 @@ public class CommonOps {
     public static void multTransB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        MatrixMatrixMult.multTransB(alpha,a,b,c);
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(alpha,a,false,b,true,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numRows) ) {
+            MatrixMatrixMult_MT.multTransB(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult.multTransB(alpha,a,b,c);
+        }
     }
 
     /**
@@ -216,6 +262,14 @@ public class CommonOps {
             } else {
                 MatrixVectorMult.multTransA_small(a,b,c);
             }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(1.0,a,true,b,true,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numRows) ) {
+            if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+                MatrixMatrixMult_MT.multTransAB_aux(a,b,c);
+            } else {
+                MatrixMatrixMult_MT.multTransAB(a,b,c);
+            }
         } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
             MatrixMatrixMult.multTransAB_aux(a,b,c,null);
         } else {
@@ -239,13 +293,69 @@ public class CommonOps {
     public static void multTransAB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+        if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(alpha,a,true,b,true,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numRows) ) {
+            if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+                MatrixMatrixMult_MT.multTransAB_aux(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult_MT.multTransAB(alpha,a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
             MatrixMatrixMult.multTransAB_aux(alpha,a,b,c,null);
         } else {
             MatrixMatrixMult.multTransAB(alpha,a,b,c);
         }
     }
 
+    /**
+     * Checks to see if the concurrent algorithm should be used for a matrix multiplication with the specified
+     * shape.  See {@link EjmlParameters#CONCURRENT} and {@link EjmlParameters#MULT_CONCURRENT_SWITCH}.
+     *
+     * @param numRows Number of rows in the output matrix.
+     * @param inner Length of the inner dimension being summed over.
+     * @param numCols Number of columns in the output matrix.
+     */
+    private static boolean isConcurrentMult( int numRows , int inner , int numCols ) {
+        return EjmlParameters.CONCURRENT &&
+                (long)numRows*(long)inner*(long)numCols >= EjmlParameters.MULT_CONCURRENT_SWITCH;
+    }
+
+    /**
+     * Checks to see if the packed matrix multiplication algorithm should be used.
+     * See {@link EjmlParameters#MULT_PACKED_SWITCH}.
+     *
+     * @param numRows Number of rows in the output matrix.
+     * @param inner Length of the inner dimension being summed over.
+     * @param numCols Number of columns in the output matrix.
+     */
+    private static boolean isPackedMult( int numRows , int inner , int numCols ) {
+        return numRows >= EjmlParameters.MULT_PACKED_SWITCH &&
+                inner >= EjmlParameters.MULT_PACKED_SWITCH &&
+                numCols >= EjmlParameters.MULT_PACKED_SWITCH;
+    }
+
+    /**
+     * Invokes the single threaded or concurrent version of the packed matrix multiplication algorithm.
+     *
+     * @see MatrixMatrixMultPacked#gemm(double, RowD1Matrix64F, boolean, RowD1Matrix64F, boolean, RowD1Matrix64F, boolean)
+     */
+    private static void multPacked( double alpha ,
+                                    RowD1Matrix64F a , boolean transA ,
+                                    RowD1Matrix64F b , boolean transB ,
+                                    RowD1Matrix64F c , boolean add )
+    {
+        int numRows = transA ? a.numCols : a.numRows;
+        int inner = transA ? a.numRows : a.numCols;
+        int numCols = transB ? b.numRows : b.numCols;
+
+        if( isConcurrentMult(numRows,inner,numCols) ) {
+            MatrixMatrixMult_MT.gemm(alpha,a,transA,b,transB,c,add);
+        } else {
+            MatrixMatrixMultPacked.gemm(alpha,a,transA,b,transB,c,add);
+        }
+    }
+
     /**
      * <p>Computes the matrix multiplication inner product:<br>
      * <br>
@@ -313,6 +423,8 @@ public class CommonOps {
     {
         if( b.numCols == 1 ) {
             MatrixVectorMult.multAdd(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(1.0,a,false,b,false,c,true);
         } else {
             if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
                 MatrixMatrixMult.multAdd_reorder(a,b,c);
@@ -338,7 +450,9 @@ public class CommonOps {
     public static void multAdd( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+        if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(alpha,a,false,b,false,c,true);
+        } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
             MatrixMatrixMult.multAdd_reorder(alpha,a,b,c);
         } else {
             MatrixMatrixMult.multAdd_small(alpha,a,b,c);
@@ -365,6 +479,8 @@ public class CommonOps {
             } else {
                 MatrixVectorMult.multAddTransA_small(a,b,c);
             }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(1.0,a,true,b,false,c,true);
         } else {
             if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                     b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
@@ -391,7 +507,9 @@ public class CommonOps {
     public static void multAddTransA( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+        if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(alpha,a,true,b,false,c,true);
+        } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
                 b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
             MatrixMatrixMult.multAddTransA_reorder(alpha,a,b,c);
         } else {
@@ -413,7 +531,11 @@ public class CommonOps {
      */
     public static void multAddTransB( RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
-        MatrixMatrixMult.multAddTransB(a,b,c);
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(1.0,a,false,b,true,c,true);
+        } else {
+            MatrixMatrixMult.multAddTransB(a,b,c);
+        }
     }
 
     /**
@@ -432,7 +554,11 @@ public class CommonOps {
     public static void multAddTransB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        MatrixMatrixMult.multAddTransB(alpha,a,b,c);
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(alpha,a,false,b,true,c,true);
+        } else {
+            MatrixMatrixMult.multAddTransB(alpha,a,b,c);
+        }
     }
 
     /**
@@ -456,6 +582,8 @@ public class CommonOps {
             } else {
                 MatrixVectorMult.multAddTransA_small(a,b,c);
             }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(1.0,a,true,b,true,c,true);
         } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
             MatrixMatrixMult.multAddTransAB_aux(a,b,c,null);
         } else {
@@ -479,7 +607,9 @@ public class CommonOps {
     public static void multAddTransAB( double alpha , RowD1Matrix64F a , RowD1Matrix64F b , RowD1Matrix64F c )
     {
         // TODO add a matrix vectory multiply here
-        if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+        if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(alpha,a,true,b,true,c,true);
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
             MatrixMatrixMult.multAddTransAB_aux(alpha,a,b,c,null);
         } else {
             MatrixMatrixMult.multAddTransAB(alpha,a,b,c);
@@ -0,0 +1,1895 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.ops;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D32;
+import org.ejml.alg.dense.linsol.LinearSolverSafe32;
+import org.ejml.alg.dense.linsol.lu.LinearSolverLu32;
+import org.ejml.alg.dense.misc.*;
+import org.ejml.alg.dense.mult.MatrixMatrixMult32;
+import org.ejml.alg.dense.mult.MatrixMatrixMultPacked32;
+import org.ejml.alg.dense.mult.MatrixMatrixMult32_MT;
+import org.ejml.alg.dense.mult.MatrixMultProduct32;
+import org.ejml.alg.dense.mult.MatrixVectorMult32;
+import org.ejml.data.D1Matrix32F;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.data.ReshapeMatrix32F;
+import org.ejml.data.RowD1Matrix32F;
+import org.ejml.factory.LinearSolverFactory32;
+import org.ejml.interfaces.linsol.LinearSolver;
+
+
+/**
+ * <p>
+ * Common matrix operations are contained here.  Which specific underlying algorithm is used
+ * is not specified just the out come of the operation.  Nor should calls to these functions
+ * reply on the underlying implementation.  Which algorithm is used can depend on the matrix
+ * being passed in.
+ * </p>
+ * <p>
+ * For more exotic and specialized generic operations see {@link org.ejml.ops.SpecializedOps32}.
+ * </p>
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from CommonOps</p>
+ *
+ * @see org.ejml.alg.dense.mult.MatrixMatrixMult32
+ * @see org.ejml.alg.dense.mult.MatrixVectorMult32
+ * @see org.ejml.ops.SpecializedOps32
+ * @see org.ejml.ops.MatrixFeatures32
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"ForLoopReplaceableByForEach"})
+public class CommonOps32 {
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numCols == 1 ) {
+            MatrixVectorMult32.mult(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(1.0f,a,false,b,false,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numCols) ) {
+            if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult32_MT.mult_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.mult_small(a,b,c);
+            }
+        } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.mult_reorder(a,b,c);
+        } else {
+            MatrixMatrixMult32.mult_small(a,b,c);
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> { * a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void mult( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(alpha,a,false,b,false,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numCols) ) {
+            if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult32_MT.mult_reorder(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.mult_small(alpha,a,b,c);
+            }
+        } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.mult_reorder(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult32.mult_small(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numCols == 1 ) {
+            // todo check a.numCols == 1 and do inner product?
+            // there are significantly faster algorithms when dealing with vectors
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixVectorMult32.multTransA_reorder(a,b,c);
+            } else {
+                MatrixVectorMult32.multTransA_small(a,b,c);
+            }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(1.0f,a,true,b,false,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numCols) ) {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                    b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
+                MatrixMatrixMult32_MT.multTransA_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.multTransA_small(a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
+            MatrixMatrixMult32.multTransA_reorder(a,b,c);
+        } else {
+            MatrixMatrixMult32.multTransA_small(a,b,c);
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a<sup>T</sup> * b <br>
+     * <br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransA( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(alpha,a,true,b,false,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numCols) ) {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                    b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult32_MT.multTransA_reorder(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.multTransA_small(alpha,a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multTransA_reorder(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult32.multTransA_small(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numRows == 1 ) {
+            MatrixVectorMult32.mult(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(1.0f,a,false,b,true,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numRows) ) {
+            MatrixMatrixMult32_MT.multTransB(a,b,c);
+        } else {
+            MatrixMatrixMult32.multTransB(a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c =  &alpha; * a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> {  a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(alpha,a,false,b,true,c,false);
+        } else if( isConcurrentMult(a.numRows,a.numCols,b.numRows) ) {
+            MatrixMatrixMult32_MT.multTransB(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult32.multTransB(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numRows == 1) {
+            // there are significantly faster algorithms when dealing with vectors
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixVectorMult32.multTransA_reorder(a,b,c);
+            } else {
+                MatrixVectorMult32.multTransA_small(a,b,c);
+            }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(1.0f,a,true,b,true,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numRows) ) {
+            if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+                MatrixMatrixMult32_MT.multTransAB_aux(a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.multTransAB(a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multTransAB_aux(a,b,c,null);
+        } else {
+            MatrixMatrixMult32.multTransAB(a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = &alpha; &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multTransAB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(alpha,a,true,b,true,c,false);
+        } else if( isConcurrentMult(a.numCols,a.numRows,b.numRows) ) {
+            if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+                MatrixMatrixMult32_MT.multTransAB_aux(alpha,a,b,c);
+            } else {
+                MatrixMatrixMult32_MT.multTransAB(alpha,a,b,c);
+            }
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multTransAB_aux(alpha,a,b,c,null);
+        } else {
+            MatrixMatrixMult32.multTransAB(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * Checks to see if the concurrent algorithm should be used for a matrix multiplication with the specified
+     * shape.  See {@link EjmlParameters#CONCURRENT} and {@link EjmlParameters#MULT_CONCURRENT_SWITCH}.
+     *
+     * @param numRows Number of rows in the output matrix.
+     * @param inner Length of the inner dimension being summed over.
+     * @param numCols Number of columns in the output matrix.
+     */
+    private static boolean isConcurrentMult( int numRows , int inner , int numCols ) {
+        return EjmlParameters.CONCURRENT &&
+                (long)numRows*(long)inner*(long)numCols >= EjmlParameters.MULT_CONCURRENT_SWITCH;
+    }
+
+    /**
+     * Checks to see if the packed matrix multiplication algorithm should be used.
+     * See {@link EjmlParameters#MULT_PACKED_SWITCH}.
+     *
+     * @param numRows Number of rows in the output matrix.
+     * @param inner Length of the inner dimension being summed over.
+     * @param numCols Number of columns in the output matrix.
+     */
+    private static boolean isPackedMult( int numRows , int inner , int numCols ) {
+        return numRows >= EjmlParameters.MULT_PACKED_SWITCH &&
+                inner >= EjmlParameters.MULT_PACKED_SWITCH &&
+                numCols >= EjmlParameters.MULT_PACKED_SWITCH;
+    }
+
+    /**
+     * Invokes the single threaded or concurrent version of the packed matrix multiplication algorithm.
+     *
+     * @see MatrixMatrixMultPacked32#gemm(float, RowD1Matrix32F, boolean, RowD1Matrix32F, boolean, RowD1Matrix32F, boolean)
+     */
+    private static void multPacked( float alpha ,
+                                    RowD1Matrix32F a , boolean transA ,
+                                    RowD1Matrix32F b , boolean transB ,
+                                    RowD1Matrix32F c , boolean add )
+    {
+        int numRows = transA ? a.numCols : a.numRows;
+        int inner = transA ? a.numRows : a.numCols;
+        int numCols = transB ? b.numRows : b.numCols;
+
+        if( isConcurrentMult(numRows,inner,numCols) ) {
+            MatrixMatrixMult32_MT.gemm(alpha,a,transA,b,transB,c,add);
+        } else {
+            MatrixMatrixMultPacked32.gemm(alpha,a,transA,b,transB,c,add);
+        }
+    }
+
+    /**
+     * <p>Computes the matrix multiplication inner product:<br>
+     * <br>
+     * c = a<sup>T</sup> * a <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * a<sub>kj</sub>}
+     * </p>
+     * 
+     * <p>
+     * Is faster than using a generic matrix multiplication by taking advantage of symmetry.  For
+     * vectors there is an even faster option, see {@link org.ejml.alg.dense.mult.VectorVectorMult#innerProd(org.ejml.data.D1Matrix32F, org.ejml.data.D1Matrix32F)}
+     * </p>
+     *
+     * @param a The matrix being multiplied. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multInner( RowD1Matrix32F a , RowD1Matrix32F c )
+    {
+        if( a.numCols != c.numCols || a.numCols != c.numRows )
+            throw new IllegalArgumentException("Rows and columns of 'c' must be the same as the columns in 'a'");
+        
+        if( a.numCols >= EjmlParameters.MULT_INNER_SWITCH ) {
+            MatrixMultProduct32.inner_small(a, c);
+        } else {
+            MatrixMultProduct32.inner_reorder(a, c);
+        }
+    }
+
+    /**
+     * <p>Computes the matrix multiplication outer product:<br>
+     * <br>
+     * c = a * a<sup>T</sup> <br>
+     * <br>
+     * c<sub>ij</sub> = &sum;<sub>k=1:m</sub> { a<sub>ik</sub> * a<sub>jk</sub>}
+     * </p>
+     *
+     * <p>
+     * Is faster than using a generic matrix multiplication by taking advantage of symmetry.
+     * </p>
+     *
+     * @param a The matrix being multiplied. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multOuter( RowD1Matrix32F a , RowD1Matrix32F c )
+    {
+        if( a.numRows != c.numCols || a.numRows != c.numRows )
+            throw new IllegalArgumentException("Rows and columns of 'c' must be the same as the rows in 'a'");
+
+        MatrixMultProduct32.outer(a, c);
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + a * b<br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numCols == 1 ) {
+            MatrixVectorMult32.multAdd(a,b,c);
+        } else if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(1.0f,a,false,b,false,c,true);
+        } else {
+            if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixMatrixMult32.multAdd_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult32.multAdd_small(a,b,c);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + &alpha; * a * b<br>
+     * c<sub>ij</sub> = c<sub>ij</sub> +  &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAdd( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numRows,a.numCols,b.numCols) ) {
+            multPacked(alpha,a,false,b,false,c,true);
+        } else if( b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multAdd_reorder(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult32.multAdd_small(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + a<sup>T</sup> * b<br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numCols == 1 ) {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixVectorMult32.multAddTransA_reorder(a,b,c);
+            } else {
+                MatrixVectorMult32.multAddTransA_small(a,b,c);
+            }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(1.0f,a,true,b,false,c,true);
+        } else {
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                    b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH  ) {
+                MatrixMatrixMult32.multAddTransA_reorder(a,b,c);
+            } else {
+                MatrixMatrixMult32.multAddTransA_small(a,b,c);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + &alpha; * a<sup>T</sup> * b<br>
+     * c<sub>ij</sub> =c<sub>ij</sub> +  &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>kj</sub>}
+     * </p>
+     *
+     * @param alpha scaling factor
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransA( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numCols,a.numRows,b.numCols) ) {
+            multPacked(alpha,a,true,b,false,c,true);
+        } else if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ||
+                b.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multAddTransA_reorder(alpha,a,b,c);
+        } else {
+            MatrixMatrixMult32.multAddTransA_small(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + a * b<sup>T</sup> <br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(1.0f,a,false,b,true,c,true);
+        } else {
+            MatrixMatrixMult32.multAddTransB(a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + &alpha; * a * b<sup>T</sup><br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ik</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numRows,a.numCols,b.numRows) ) {
+            multPacked(alpha,a,false,b,true,c,true);
+        } else {
+            MatrixMatrixMult32.multAddTransB(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param a The left matrix in the multiplication operation. Not Modified.
+     * @param b The right matrix in the multiplication operation. Not Modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        if( b.numRows == 1 ) {
+            // there are significantly faster algorithms when dealing with vectors
+            if( a.numCols >= EjmlParameters.MULT_COLUMN_SWITCH ) {
+                MatrixVectorMult32.multAddTransA_reorder(a,b,c);
+            } else {
+                MatrixVectorMult32.multAddTransA_small(a,b,c);
+            }
+        } else if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(1.0f,a,true,b,true,c,true);
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multAddTransAB_aux(a,b,c,null);
+        } else {
+            MatrixMatrixMult32.multAddTransAB(a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs the following operation:<br>
+     * <br>
+     * c = c + &alpha; * a<sup>T</sup> * b<sup>T</sup><br>
+     * c<sub>ij</sub> = c<sub>ij</sub> + &alpha; * &sum;<sub>k=1:n</sub> { a<sub>ki</sub> * b<sub>jk</sub>}
+     * </p>
+     *
+     * @param alpha Scaling factor.
+     * @param a The left matrix in the multiplication operation. Not Modified.
+     * @param b The right matrix in the multiplication operation. Not Modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void multAddTransAB( float alpha , RowD1Matrix32F a , RowD1Matrix32F b , RowD1Matrix32F c )
+    {
+        // TODO add a matrix vectory multiply here
+        if( isPackedMult(a.numCols,a.numRows,b.numRows) ) {
+            multPacked(alpha,a,true,b,true,c,true);
+        } else if( a.numCols >= EjmlParameters.MULT_TRANAB_COLUMN_SWITCH ) {
+            MatrixMatrixMult32.multAddTransAB_aux(alpha,a,b,c,null);
+        } else {
+            MatrixMatrixMult32.multAddTransAB(alpha,a,b,c);
+        }
+    }
+
+    /**
+     * <p>
+     * Solves for x in the following equation:<br>
+     * <br>
+     * A*x = b
+     * </p>
+     *
+     * <p>
+     * If the system could not be solved then false is returned.  If it returns true
+     * that just means the algorithm finished operating, but the results could still be bad
+     * because 'A' is singular or nearly singular.
+     * </p>
+     *
+     * <p>
+     * If repeat calls to solve are being made then one should consider using {@link LinearSolverFactory32}
+     * instead.
+     * </p>
+     *
+     * <p>
+     * It is ok for 'b' and 'x' to be the same matrix.
+     * </p>
+     *
+     * @param a A matrix that is m by m. Not modified.
+     * @param b A matrix that is m by n. Not modified.
+     * @param x A matrix that is m by n. Modified.
+     *
+     * @return true if it could invert the matrix false if it could not.
+     */
+    public static boolean solve( DenseMatrix32F a , DenseMatrix32F b , DenseMatrix32F x )
+    {
+        LinearSolver<DenseMatrix32F> solver = LinearSolverFactory32.general(a.numRows,a.numCols);
+
+        // make sure the inputs 'a' and 'b' are not modified
+        solver = new LinearSolverSafe32<DenseMatrix32F>(solver);
+
+        if( !solver.setA(a) )
+            return false;
+
+        solver.solve(b,x);
+        return true;
+    }
+
+    /**
+     * <p>Performs an "in-place" transpose.</p>
+     *
+     * <p>
+     * For square matrices the transpose is truly in-place and does not require
+     * additional memory.  For non-square matrices, internally a temporary matrix is declared and
+     * {@link #transpose(org.ejml.data.DenseMatrix32F, org.ejml.data.DenseMatrix32F)} is invoked.
+     * </p>
+     *
+     * @param mat The matrix that is to be transposed. Modified.
+     */
+    public static void transpose( DenseMatrix32F mat ) {
+        if( mat.numCols == mat.numRows ){
+            TransposeAlgs32.square(mat);
+        } else {
+            DenseMatrix32F b = new DenseMatrix32F(mat.numCols,mat.numRows);
+            transpose(mat,b);
+            mat.setReshape(b);
+        }
+    }
+
+    /**
+     * <p>
+     * Transposes matrix 'a' and stores the results in 'b':<br>
+     * <br>
+     * b<sub>ij</sub> = a<sub>ji</sub><br>
+     * where 'b' is the transpose of 'a'.
+     * </p>
+     *
+     * @param A The original matrix.  Not modified.
+     * @param A_tran Where the transpose is stored. If null a new matrix is created. Modified.
+     * @return The transposed matrix.
+     */
+    public static DenseMatrix32F transpose( DenseMatrix32F A, DenseMatrix32F A_tran)
+    {
+        if( A_tran == null ) {
+            A_tran = new DenseMatrix32F(A.numCols,A.numRows);
+        } else {
+            if( A.numRows != A_tran.numCols || A.numCols != A_tran.numRows ) {
+                throw new IllegalArgumentException("Incompatible matrix dimensions");
+            }
+        }
+
+        if( A.numRows > EjmlParameters.TRANSPOSE_SWITCH &&
+                A.numCols > EjmlParameters.TRANSPOSE_SWITCH )
+            TransposeAlgs32.block(A,A_tran,EjmlParameters.BLOCK_WIDTH);
+        else
+            TransposeAlgs32.standard(A,A_tran);
+
+        return A_tran;
+    }
+
+
+    /**
+     * <p>
+     * This computes the trace of the matrix:<br>
+     * <br>
+     * trace = &sum;<sub>i=1:n</sub> { a<sub>ii</sub> }
+     * </p>
+     * <p>
+     * The trace is only defined for square matrices.
+     * </p>
+     *
+     * @param a A square matrix.  Not modified.
+     */
+    public static float trace( RowD1Matrix32F a ) {
+        if( a.numRows != a.numCols ) {
+            throw new IllegalArgumentException("The matrix must be square");
+        }
+
+        float sum = 0;
+        int index = 0;
+        for( int i = 0; i < a.numRows; i++ ) {
+            sum += a.get(index);
+            index += 1 + a.numCols;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the determinant of the matrix.  If the inverse of the matrix is also
+     * needed, then using {@link org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D32} directly (or any
+     * similar algorithm) can be more efficient.
+     *
+     * @param mat The matrix whose determinant is to be computed.  Not modified.
+     * @return The determinant.
+     */
+    public static float det( DenseMatrix32F mat )
+    {
+
+        int numCol = mat.getNumCols();
+        int numRow = mat.getNumRows();
+
+        if( numCol != numRow ) {
+            throw new IllegalArgumentException("Must be a square matrix.");
+        } else if( numCol <= UnrolledDeterminantFromMinor32.MAX ) {
+            // slight performance boost overall by doing it this way
+            // when it was the case statement the VM did some strange optimization
+            // and made case 2 about 1/2 the speed
+            if( numCol >= 2 ) {
+                return UnrolledDeterminantFromMinor32.det(mat);
+            } else {
+                return mat.get(0);
+            }
+        } else {
+            LUDecompositionAlt_D32 alg = new LUDecompositionAlt_D32();
+
+            if( alg.inputModified() ) {
+                mat = mat.copy();
+            }
+
+            if( !alg.decompose(mat) )
+                return 0.0f;
+            return (float)alg.computeDeterminant();
+        }
+    }
+
+    /**
+     * <p>
+     * Performs a matrix inversion operation on the specified matrix and stores the results
+     * in the same matrix.<br>
+     * <br>
+     * a = a<sup>-1<sup>
+     * </p>
+     *
+     * <p>
+     * If the algorithm could not invert the matrix then false is returned.  If it returns true
+     * that just means the algorithm finished.  The results could still be bad
+     * because the matrix is singular or nearly singular.
+     * </p>
+     *
+     * @param mat The matrix that is to be inverted.  Results are stored here.  Modified.
+     * @return true if it could invert the matrix false if it could not.
+     */
+    public static boolean invert( DenseMatrix32F mat) {
+        if( mat.numCols <= UnrolledInverseFromMinor32.MAX ) {
+            if( mat.numCols != mat.numRows ) {
+                throw new IllegalArgumentException("Must be a square matrix.");
+            }
+
+            if( mat.numCols >= 2 ) {
+                UnrolledInverseFromMinor32.inv(mat,mat);
+            } else {
+                mat.set(0, 1.0f/mat.get(0));
+            }
+        } else {
+            LUDecompositionAlt_D32 alg = new LUDecompositionAlt_D32();
+            LinearSolverLu32 solver = new LinearSolverLu32(alg);
+            if( solver.setA(mat) ) {
+                solver.invert(mat);
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Performs a matrix inversion operation that does not modify the original
+     * and stores the results in another matrix.  The two matrices must have the
+     * same dimension.<br>
+     * <br>
+     * b = a<sup>-1<sup>
+     * </p>
+     *
+     * <p>
+     * If the algorithm could not invert the matrix then false is returned.  If it returns true
+     * that just means the algorithm finished.  The results could still be bad
+     * because the matrix is singular or nearly singular.
+     * </p>
+     *
+     * <p>
+     * For medium to large matrices there might be a slight performance boost to using
+     * {@link LinearSolverFactory32} instead.
+     * </p>
+     *
+     * @param mat The matrix that is to be inverted. Not modified.
+     * @param result Where the inverse matrix is stored.  Modified.
+     * @return true if it could invert the matrix false if it could not.
+     */
+    public static boolean invert( DenseMatrix32F mat, DenseMatrix32F result ) {
+        if( mat.numCols <= UnrolledInverseFromMinor32.MAX ) {
+            if( mat.numCols != mat.numRows ) {
+                throw new IllegalArgumentException("Must be a square matrix.");
+            }
+            if( result.numCols >= 2 ) {
+                UnrolledInverseFromMinor32.inv(mat,result);
+            } else {
+                result.set(0,  1.0f/mat.get(0));
+            }
+        } else {
+            LUDecompositionAlt_D32 alg = new LUDecompositionAlt_D32();
+            LinearSolverLu32 solver = new LinearSolverLu32(alg);
+
+            if( solver.modifiesA() )
+                mat = mat.copy();
+
+            if( !solver.setA(mat))
+                return false;
+            solver.invert(result);
+        }
+        return true;
+    }
+
+    /**
+     * Converts the columns in a matrix into a set of vectors.
+     *
+     * @param A Matrix.  Not modified.
+     * @param v
+     * @return An array of vectors.
+     */
+    public static DenseMatrix32F[] columnsToVector(DenseMatrix32F A, DenseMatrix32F[] v)
+    {
+        DenseMatrix32F []ret;
+        if( v == null || v.length < A.numCols ) {
+            ret = new DenseMatrix32F[ A.numCols ];
+        } else {
+            ret = v;
+        }
+
+        for( int i = 0; i < ret.length; i++ ) {
+            if( ret[i] == null ) {
+                ret[i] = new DenseMatrix32F(A.numRows,1);
+            } else {
+                ret[i].reshape(A.numRows,1, false);
+            }
+
+            DenseMatrix32F u = ret[i];
+
+            for( int j = 0; j < A.numRows; j++ ) {
+                u.set(j,0, A.get(j,i));
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Converts the rows in a matrix into a set of vectors.
+     *
+     * @param A Matrix.  Not modified.
+     * @param v
+     * @return An array of vectors.
+     */
+    public static DenseMatrix32F[] rowsToVector(DenseMatrix32F A, DenseMatrix32F[] v)
+    {
+        DenseMatrix32F []ret;
+        if( v == null || v.length < A.numRows ) {
+            ret = new DenseMatrix32F[ A.numRows ];
+        } else {
+            ret = v;
+        }
+
+
+        for( int i = 0; i < ret.length; i++ ) {
+            if( ret[i] == null ) {
+                ret[i] = new DenseMatrix32F(A.numCols,1);
+            } else {
+                ret[i].reshape(A.numCols,1, false);
+            }
+
+            DenseMatrix32F u = ret[i];
+
+            for( int j = 0; j < A.numCols; j++ ) {
+                u.set(j,0, A.get(i,j));
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Sets all the diagonal elements equal to one and everything else equal to zero.
+     * If this is a square matrix then it will be an identity matrix.
+     *
+     * @see #identity(int)
+     *
+     * @param mat A square matrix.
+     */
+    public static void setIdentity( RowD1Matrix32F mat )
+    {
+        int width = mat.numRows < mat.numCols ? mat.numRows : mat.numCols;
+
+        int length = mat.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            mat.set(i , 0 );
+        }
+
+        int index = 0;
+        for( int i = 0; i < width; i++ , index += mat.numCols + 1) {
+            mat.set( index , 1 );
+        }
+    }
+
+    /**
+     * <p>
+     * Creates an identity matrix of the specified size.<br>
+     * <br>
+     * a<sub>ij</sub> = 0   if i &ne; j<br>
+     * a<sub>ij</sub> = 1   if i = j<br>
+     * </p>
+     *
+     * @param width The width and height of the identity matrix.
+     * @return A new instance of an identity matrix.
+     */
+    public static DenseMatrix32F identity( int width )
+    {
+        DenseMatrix32F ret = new DenseMatrix32F(width,width);
+
+        for( int i = 0; i < width; i++ ) {
+            ret.set(i,i,1.0f);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Creates a rectangular matrix which is zero except along the diagonals.
+     *
+     * @param numRows Number of rows in the matrix.
+     * @param numCols NUmber of columns in the matrix.
+     * @return A matrix with diagonal elements equal to one.
+     */
+    public static DenseMatrix32F identity( int numRows , int numCols )
+    {
+        DenseMatrix32F ret = new DenseMatrix32F(numRows,numCols);
+
+        int small = numRows < numCols ? numRows : numCols;
+
+        for( int i = 0; i < small; i++ ) {
+            ret.set(i,i,1.0f);
+        }
+
+        return ret;
+    }
+
+    /**
+     * <p>
+     * Creates a new square matrix whose diagonal elements are specified by diagEl and all
+     * the other elements are zero.<br>
+     * <br>
+     * a<sub>ij</sub> = 0         if i &le; j<br>
+     * a<sub>ij</sub> = diag[i]   if i = j<br>
+     * </p>
+     *
+     * @see #diagR
+     *
+     * @param diagEl Contains the values of the diagonal elements of the resulting matrix.
+     * @return A new matrix.
+     */
+    public static DenseMatrix32F diag( float ...diagEl )
+    {
+        return diag(null,diagEl.length,diagEl);
+    }
+
+    public static DenseMatrix32F diag( DenseMatrix32F ret , int width , float ...diagEl )
+    {
+        if( ret == null ) {
+            ret = new DenseMatrix32F(width,width);
+        } else {
+            if( ret.numRows != width || ret.numCols != width )
+                throw new IllegalArgumentException("Unexpected matrix size");
+
+            CommonOps32.fill(ret, 0);
+        }
+
+        for( int i = 0; i < width; i++ ) {
+            ret.set(i,i,diagEl[i]);
+        }
+
+        return ret;
+    }
+
+    /**
+     * <p>
+     * Creates a new rectangular matrix whose diagonal elements are specified by diagEl and all
+     * the other elements are zero.<br>
+     * <br>
+     * a<sub>ij</sub> = 0         if i &le; j<br>
+     * a<sub>ij</sub> = diag[i]   if i = j<br>
+     * </p>
+     *
+     * @see #diag
+     *
+     * @param numRows Number of rows in the matrix.
+     * @param numCols Number of columns in the matrix.
+     * @param diagEl Contains the values of the diagonal elements of the resulting matrix.
+     * @return A new matrix.
+     */
+    public static DenseMatrix32F diagR( int numRows , int numCols , float ...diagEl )
+    {
+        DenseMatrix32F ret = new DenseMatrix32F(numRows,numCols);
+
+        int o = Math.min(numRows,numCols);
+
+        for( int i = 0; i < o; i++ ) {
+            ret.set(i,i,diagEl[i]);
+        }
+
+        return ret;
+    }
+
+    /**
+     * <p>
+     * The Kronecker product of two matrices is defined as:<br>
+     * C<sub>ij</sub> = a<sub>ij</sub>B<br>
+     * where C<sub>ij</sub> is a sub matrix inside of C &isin; &real; <sup>m*k &times; n*l</sup>,
+     * A &isin; &real; <sup>m &times; n</sup>, and B &isin; &real; <sup>k &times; l</sup>.
+     * </p>
+     *
+     * @param A The left matrix in the operation. Not modified.
+     * @param B The right matrix in the operation. Not modified.
+     * @param C Where the results of the operation are stored. Modified.
+     * @return The results of the operation.
+     */
+    public static void kron( DenseMatrix32F A , DenseMatrix32F B , DenseMatrix32F C )
+    {
+        int numColsC = A.numCols*B.numCols;
+        int numRowsC = A.numRows*B.numRows;
+
+        if( C.numCols != numColsC || C.numRows != numRowsC) {
+            throw new IllegalArgumentException("C does not have the expected dimensions");
+        }
+
+        // TODO see comment below
+        // this will work well for small matrices
+        // but an alternative version should be made for large matrices
+        for( int i = 0; i < A.numRows; i++ ) {
+            for( int j = 0; j < A.numCols; j++ ) {
+                float a = A.get(i,j);
+
+                for( int rowB = 0; rowB < B.numRows; rowB++ ) {
+                    for( int colB = 0; colB < B.numCols; colB++ ) {
+                        float val = a*B.get(rowB,colB);
+                        C.set(i*B.numRows+rowB,j*B.numCols+colB,val);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Extracts a submatrix from 'src' and inserts it in a submatrix in 'dst'.
+     * </p>
+     * <p>
+     * s<sub>i-y0 , j-x0</sub> = o<sub>ij</sub> for all y0 &le; i < y1 and x0 &le; j < x1 <br>
+     * <br>
+     * where 's<sub>ij</sub>' is an element in the submatrix and 'o<sub>ij</sub>' is an element in the
+     * original matrix.
+     * </p>
+     *
+     * @param src The original matrix which is to be copied.  Not modified.
+     * @param srcX0 Start column.
+     * @param srcX1 Stop column+1.
+     * @param srcY0 Start row.
+     * @param srcY1 Stop row+1.
+     * @param dst Where the submatrix are stored.  Modified.
+     * @param dstY0 Start row in dst.
+     * @param dstX0 start column in dst.
+     */
+    public static void extract( ReshapeMatrix32F src,
+                                int srcY0, int srcY1,
+                                int srcX0, int srcX1,
+                                ReshapeMatrix32F dst ,
+                                int dstY0, int dstX0 )
+    {
+        if( srcY1 < srcY0 || srcY0 < 0 || srcY1 > src.numRows )
+            throw new IllegalArgumentException("srcY1 < srcY0 || srcY0 < 0 || srcY1 > src.numRows");
+        if( srcX1 < srcX0 || srcX0 < 0 || srcX1 > src.numCols )
+            throw new IllegalArgumentException("srcX1 < srcX0 || srcX0 < 0 || srcX1 > src.numCols");
+
+        int w = srcX1-srcX0;
+        int h = srcY1-srcY0;
+
+        if( dstY0+h > dst.numRows )
+            throw new IllegalArgumentException("dst is too small in rows");
+        if( dstX0+w > dst.numCols )
+            throw new IllegalArgumentException("dst is too small in columns");
+
+        // interestingly, the performance is only different for small matrices but identical for larger ones
+        if( src instanceof DenseMatrix32F && dst instanceof DenseMatrix32F ) {
+            ImplCommonOps_DenseMatrix32F.extract((DenseMatrix32F)src,srcY0,srcX0,(DenseMatrix32F)dst,dstY0,dstX0, h, w);
+        } else {
+            ImplCommonOps_Matrix32F.extract(src,srcY0,srcX0,dst,dstY0,dstX0, h, w);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a new matrix which is the specified submatrix of 'src'
+     * </p>
+     * <p>
+     * s<sub>i-y0 , j-x0</sub> = o<sub>ij</sub> for all y0 &le; i < y1 and x0 &le; j < x1 <br>
+     * <br>
+     * where 's<sub>ij</sub>' is an element in the submatrix and 'o<sub>ij</sub>' is an element in the
+     * original matrix.
+     * </p>
+     *
+     * @param src The original matrix which is to be copied.  Not modified.
+     * @param srcX0 Start column.
+     * @param srcX1 Stop column+1.
+     * @param srcY0 Start row.
+     * @param srcY1 Stop row+1.
+     * @return Extracted submatrix.
+     */
+    public static DenseMatrix32F extract( DenseMatrix32F src,
+                                          int srcY0, int srcY1,
+                                          int srcX0, int srcX1 )
+    {
+        if( srcY1 <= srcY0 || srcY0 < 0 || srcY1 > src.numRows )
+            throw new IllegalArgumentException("srcY1 <= srcY0 || srcY0 < 0 || srcY1 > src.numRows");
+        if( srcX1 <= srcX0 || srcX0 < 0 || srcX1 > src.numCols )
+            throw new IllegalArgumentException("srcX1 <= srcX0 || srcX0 < 0 || srcX1 > src.numCols");
+
+        int w = srcX1-srcX0;
+        int h = srcY1-srcY0;
+
+        DenseMatrix32F dst = new DenseMatrix32F(h,w);
+
+        ImplCommonOps_DenseMatrix32F.extract(src,srcY0,srcX0,dst,0,0, h, w);
+
+        return dst;
+    }
+
+    /**
+     * <p>
+     * Extracts the diagonal elements 'src' write it to the 'dst' vector.  'dst'
+     * can either be a row or column vector.
+     * <p>
+     *
+     * @param src Matrix whose diagonal elements are being extracted. Not modified.
+     * @param dst A vector the results will be written into. Modified.
+     */
+    public static void extractDiag( DenseMatrix32F src, DenseMatrix32F dst )
+    {
+        int N = Math.min(src.numRows, src.numCols);
+
+        if( !MatrixFeatures32.isVector(dst) ) {
+            throw new IllegalArgumentException("Expected a vector for dst.");
+        } else if( dst.getNumElements() != N ) {
+            throw new IllegalArgumentException("Expected "+N+" elements in dst.");
+        }
+
+        for( int i = 0; i < N; i++ ) {
+            dst.set( i , src.unsafe_get(i,i) );
+        }
+    }
+
+    /**
+     * Inserts matrix 'src' into matrix 'dest' with the (0,0) of src at (row,col) in dest.
+     * This is equivalent to calling extract(src,0,src.numRows,0,src.numCols,dest,destY0,destX0).
+     *
+     * @param src matrix that is being copied into dest. Not modified.
+     * @param dest Where src is being copied into. Modified.
+     * @param destY0 Start row for the copy into dest.
+     * @param destX0 Start column for the copy into dest.
+     */
+    public static void insert( ReshapeMatrix32F src, ReshapeMatrix32F dest, int destY0, int destX0) {
+        extract(src,0,src.numRows,0,src.numCols,dest,destY0,destX0);
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the largest value.<br>
+     * <br>
+     * Max{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static float elementMax( D1Matrix32F a ) {
+        final int size = a.getNumElements();
+
+        float max = a.get(0);
+        for( int i = 1; i < size; i++ ) {
+            float val = a.get(i);
+            if( val >= max ) {
+                max = val;
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the largest absolute value.<br>
+     * <br>
+     * Max{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max abs element value of the matrix.
+     */
+    public static float elementMaxAbs( D1Matrix32F a ) {
+        final int size = a.getNumElements();
+
+        float max = 0;
+        for( int i = 0; i < size; i++ ) {
+            float val = Math.abs(a.get( i ));
+            if( val > max ) {
+                max = val;
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * <p>
+     * Returns the value of the element in the matrix that has the minimum value.<br>
+     * <br>
+     * Min{ a<sub>ij</sub> } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The value of element in the matrix with the minimum value.
+     */
+    public static float elementMin( D1Matrix32F a ) {
+        final int size = a.getNumElements();
+
+        float min = a.get(0);
+        for( int i = 1; i < size; i++ ) {
+            float val = a.get(i);
+            if( val < min ) {
+                min = val;
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * <p>
+     * Returns the absolute value of the element in the matrix that has the smallest absolute value.<br>
+     * <br>
+     * Min{ |a<sub>ij</sub>| } for all i and j<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @return The max element value of the matrix.
+     */
+    public static float elementMinAbs( D1Matrix32F a ) {
+        final int size = a.getNumElements();
+
+        float min = Float.MAX_VALUE;
+        for( int i = 0; i < size; i++ ) {
+            float val = Math.abs(a.get(i));
+            if( val < min ) {
+                min = val;
+            }
+        }
+
+        return min;
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     */
+    public static void elementMult( D1Matrix32F a , D1Matrix32F b )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatable dimensions");
+        }
+
+        int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.times(i , b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs the an element by element multiplication operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> * b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the multiplication operation. Not modified.
+     * @param b The right matrix in the multiplication operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementMult( D1Matrix32F a , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numRows != c.numRows || a.numCols != c.numCols ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+
+        int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i) * b.get(i) );
+        }
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Modified.
+     * @param b The right matrix in the division operation. Not modified.
+     */
+    public static void elementDiv( D1Matrix32F a , D1Matrix32F b )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatable dimensions");
+        }
+
+        int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.div(i , b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs the an element by element division operation:<br>
+     * <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> / b<sub>ij</sub> <br>
+     * </p>
+     * @param a The left matrix in the division operation. Not modified.
+     * @param b The right matrix in the division operation. Not modified.
+     * @param c Where the results of the operation are stored. Modified.
+     */
+    public static void elementDiv( D1Matrix32F a , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numRows != c.numRows || a.numCols != c.numCols ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+
+        int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i) / b.get(i) );
+        }
+    }
+
+    /**
+     * <p>
+     * Computes the sum of all the elements in the matrix:<br>
+     * <br>
+     * sum(i=1:m , j=1:n ; a<sub>ij</sub>)
+     * <p>
+     *
+     * @param mat An m by n matrix. Not modified.
+     * @return The sum of the elements.
+     */
+    public static float elementSum( D1Matrix32F mat ) {
+        float total = 0;
+
+        int size = mat.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            total += mat.get(i);
+        }
+
+        return total;
+    }
+
+    /**
+     * <p>
+     * Computes the sum of the absolute value all the elements in the matrix:<br>
+     * <br>
+     * sum(i=1:m , j=1:n ; |a<sub>ij</sub>|)
+     * <p>
+     *
+     * @param mat An m by n matrix. Not modified.
+     * @return The sum of the absolute value of each element.
+     */
+    public static float elementSumAbs( D1Matrix32F mat ) {
+        float total = 0;
+
+        int size = mat.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            total += Math.abs(mat.get(i));
+        }
+
+        return total;
+    }
+
+    /**
+     * <p>
+     * Computes the sum of each row in the input matrix and returns the results in a vector:<br>
+     * <br>
+     * b<sub>j</sub> = sum(i=1:n ; |a<sub>ji</sub>|)
+     * </p>
+     *
+     * @param input INput matrix whose rows are summed.
+     * @param output Optional storage for output.  Must be a vector. If null a row vector is returned. Modified.
+     * @return Vector containing the sum of each row in the input.
+     */
+    public static DenseMatrix32F sumRows( DenseMatrix32F input , DenseMatrix32F output ) {
+        if( output == null ) {
+            output = new DenseMatrix32F(input.numRows,1);
+        } else if( output.getNumElements() != input.numRows )
+            throw new IllegalArgumentException("Output does not have enough elements to store the results");
+
+        for( int row = 0; row < input.numRows; row++ ) {
+            float total = 0;
+
+            int end = (row+1)*input.numCols;
+            for( int index = row*input.numCols; index < end; index++ ) {
+                total += input.data[index];
+            }
+
+            output.set(row,total);
+        }
+        return output;
+    }
+
+    /**
+     * <p>
+     * Computes the sum of each column in the input matrix and returns the results in a vector:<br>
+     * <br>
+     * b<sub>j</sub> = sum(i=1:m ; |a<sub>ij</sub>|)
+     * </p>
+     *
+     * @param input INput matrix whose rows are summed.
+     * @param output Optional storage for output.  Must be a vector. If null a column vector is returned. Modified.
+     * @return Vector containing the sum of each row in the input.
+     */
+    public static DenseMatrix32F sumCols( DenseMatrix32F input , DenseMatrix32F output ) {
+        if( output == null ) {
+            output = new DenseMatrix32F(1,input.numCols);
+        } else if( output.getNumElements() != input.numCols )
+            throw new IllegalArgumentException("Output does not have enough elements to store the results");
+
+        for( int cols = 0; cols < input.numCols; cols++ ) {
+            float total = 0;
+
+            int index = cols;
+            int end = index + input.numCols*input.numRows;
+            for( ; index < end; index += input.numCols ) {
+                total += input.data[index];
+            }
+
+            output.set(cols,total);
+        }
+        return output;
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a + b <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( D1Matrix32F a , D1Matrix32F b )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.plus(i, b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * a = a +  &beta; * b  <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + &beta; * b<sub>ij</sub>
+     * </p>
+     *
+     * @param beta The number that matrix 'b' is multiplied by.
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void addEquals( D1Matrix32F a , float beta, D1Matrix32F b )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatible dimensions");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.plus(i, beta * b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( final D1Matrix32F a , final D1Matrix32F b , final D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numCols != c.numCols || a.numRows != c.numRows ) {
+            throw new IllegalArgumentException("The matrices are not all the same dimension.");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i)+b.get(i) );
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = a + &beta; * b <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + &beta; * b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param beta Scaling factor for matrix b.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( D1Matrix32F a , float beta , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numCols != c.numCols || a.numRows != c.numRows ) {
+            throw new IllegalArgumentException("The matrices are not all the same dimension.");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i)+beta*b.get(i) );
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a + &beta; * b <br>
+     * c<sub>ij</sub> = &alpha; * a<sub>ij</sub> + &beta; * b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param alpha A scaling factor for matrix a.
+     * @param a A Matrix. Not modified.
+     * @param beta A scaling factor for matrix b.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( float alpha , D1Matrix32F a , float beta , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numCols != c.numCols || a.numRows != c.numRows ) {
+            throw new IllegalArgumentException("The matrices are not all the same dimension.");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set(i , alpha*a.get(i) + beta*b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs the following operation:<br>
+     * <br>
+     * c = &alpha; * a + b <br>
+     * c<sub>ij</sub> = &alpha; * a<sub>ij</sub> + b<sub>ij</sub> <br>
+     * </p>
+     *
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param alpha A scaling factor for matrix a.
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix where the results are stored. Modified.
+     */
+    public static void add( float alpha , D1Matrix32F a , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows
+                || a.numCols != c.numCols || a.numRows != c.numRows ) {
+            throw new IllegalArgumentException("The matrices are not all the same dimension.");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , alpha*a.get(i) + b.get(i));
+        }
+    }
+
+    /**
+     * <p>Performs an in-place scalar addition:<br>
+     * <br>
+     * a = a + val<br>
+     * a<sub>ij</sub> = a<sub>ij</sub> + val<br>
+     * </p>
+     *
+     * @param a A matrix.  Modified.
+     * @param val The value that's added to each element.
+     */
+    public static void add( D1Matrix32F a , float val ) {
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.plus( i , val);
+        }
+    }
+
+    /**
+     * <p>Performs scalar addition:<br>
+     * <br>
+     * c = a + val<br>
+     * c<sub>ij</sub> = a<sub>ij</sub> + val<br>
+     * </p>
+     *
+     * @param a A matrix. Not modified.
+     * @param c A matrix. Modified.
+     * @param val The value that's added to each element.
+     */
+    public static void add( D1Matrix32F a , float val , D1Matrix32F c ) {
+        if( a.numRows != c.numRows || a.numCols != c.numCols ) {
+            throw new IllegalArgumentException("Dimensions of a and c do not match.");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i) + val);
+        }
+    }
+
+    /**
+     * <p>Performs the following subtraction operation:<br>
+     * <br>
+     * a = a - b  <br>
+     * a<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub>
+     * </p>
+     *
+     * @param a A Matrix. Modified.
+     * @param b A Matrix. Not modified.
+     */
+    public static void subEquals( D1Matrix32F a , D1Matrix32F b )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatable dimensions");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            a.minus( i , b.get(i) );
+        }
+    }
+
+    /**
+     * <p>Performs the following subtraction operation:<br>
+     * <br>
+     * c = a - b  <br>
+     * c<sub>ij</sub> = a<sub>ij</sub> - b<sub>ij</sub>
+     * </p>
+     * <p>
+     * Matrix C can be the same instance as Matrix A and/or B.
+     * </p>
+     *
+     * @param a A Matrix. Not modified.
+     * @param b A Matrix. Not modified.
+     * @param c A Matrix. Modified.
+     */
+    public static void sub( D1Matrix32F a , D1Matrix32F b , D1Matrix32F c )
+    {
+        if( a.numCols != b.numCols || a.numRows != b.numRows ) {
+            throw new IllegalArgumentException("The 'a' and 'b' matrices do not have compatable dimensions");
+        }
+
+        final int length = a.getNumElements();
+
+        for( int i = 0; i < length; i++ ) {
+            c.set( i , a.get(i) - b.get(i));
+        }
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar multiplication.<br>
+     * <br>
+     * a<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param a The matrix that is to be scaled.  Modified.
+     * @param alpha the amount each element is multiplied by.
+     */
+    public static void scale( float alpha , D1Matrix32F a )
+    {
+        // on very small matrices (2 by 2) the call to getNumElements() can slow it down
+        // slightly compared to other libraries since it involves an extra multiplication.
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            a.times( i , alpha );
+        }
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar multiplication.<br>
+     * <br>
+     * b<sub>ij</sub> = &alpha;*a<sub>ij</sub>
+     * </p>
+     *
+     * @param alpha the amount each element is multiplied by.
+     * @param a The matrix that is to be scaled.  Not modified.
+     * @param b Where the scaled matrix is stored. Modified.
+     */
+    public static void scale( float alpha , D1Matrix32F a , D1Matrix32F b)
+    {
+        if( a.numRows != b.numRows || a.numCols != b.numCols )
+            throw new IllegalArgumentException("Matrices must have the same shape");
+
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            b.set( i , a.get(i)*alpha );
+        }
+    }
+
+    /**
+     * <p>
+     * Performs an in-place element by element scalar division.<br>
+     * <br>
+     * a<sub>ij</sub> = a<sub>ij</sub>/&alpha;
+     * </p>
+     *
+     * @param a The matrix whose elements are to be divided.  Modified.
+     * @param alpha the amount each element is divided by.
+     */
+    public static void divide( float alpha , D1Matrix32F a )
+    {
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            a.div( i , alpha );
+        }
+    }
+
+    /**
+     * <p>
+     * Performs an element by element scalar division.<br>
+     * <br>
+     * b<sub>ij</sub> = *a<sub>ij</sub> /&alpha;
+     * </p>
+     *
+     * @param alpha the amount each element is divided by.
+     * @param a The matrix whose elements are to be divided.  Not modified.
+     * @param b Where the results are stored. Modified.
+     */
+    public static void divide( float alpha , D1Matrix32F a , D1Matrix32F b)
+    {
+        if( a.numRows != b.numRows || a.numCols != b.numCols )
+            throw new IllegalArgumentException("Matrices must have the same shape");
+
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            b.set( i , a.get(i)/alpha );
+        }
+    }
+
+    /**
+     * <p>
+     * Changes the sign of every element in the matrix.<br>
+     * <br>
+     * a<sub>ij</sub> = -a<sub>ij</sub>
+     * </p>
+     *
+     * @param a A matrix. Modified.
+     */
+    public static void changeSign( D1Matrix32F a )
+    {
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            a.set( i , - a.get(i) );
+        }
+    }
+
+    /**
+     * <p>
+     * Sets every element in the matrix to the specified value.<br>
+     * <br>
+     * a<sub>ij</sub> = value
+     * <p>
+     *
+     * @param a A matrix whose elements are about to be set. Modified.
+     * @param value The value each element will have.
+     */
+    public static void fill(D1Matrix32F a, float value)
+    {
+        final int size = a.getNumElements();
+
+        for( int i = 0; i < size; i++ ) {
+            a.set( i , value );
+        }
+    }
+}
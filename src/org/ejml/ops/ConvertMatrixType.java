@@ -19,6 +19,7 @@
 package org.ejml.ops;
 
 import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.sparse.SparseMatrixOps;
 import org.ejml.data.*;
 
 /**
@@ -238,6 +239,761 @@ public class ConvertMatrixType {
         return output;
     }
 
+    /**
+     * Converts {@link FixedMatrix7x7_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix7x7_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(7,7);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a21;
+        output.data[8] = input.a22;
+        output.data[9] = input.a23;
+        output.data[10] = input.a24;
+        output.data[11] = input.a25;
+        output.data[12] = input.a26;
+        output.data[13] = input.a27;
+        output.data[14] = input.a31;
+        output.data[15] = input.a32;
+        output.data[16] = input.a33;
+        output.data[17] = input.a34;
+        output.data[18] = input.a35;
+        output.data[19] = input.a36;
+        output.data[20] = input.a37;
+        output.data[21] = input.a41;
+        output.data[22] = input.a42;
+        output.data[23] = input.a43;
+        output.data[24] = input.a44;
+        output.data[25] = input.a45;
+        output.data[26] = input.a46;
+        output.data[27] = input.a47;
+        output.data[28] = input.a51;
+        output.data[29] = input.a52;
+        output.data[30] = input.a53;
+        output.data[31] = input.a54;
+        output.data[32] = input.a55;
+        output.data[33] = input.a56;
+        output.data[34] = input.a57;
+        output.data[35] = input.a61;
+        output.data[36] = input.a62;
+        output.data[37] = input.a63;
+        output.data[38] = input.a64;
+        output.data[39] = input.a65;
+        output.data[40] = input.a66;
+        output.data[41] = input.a67;
+        output.data[42] = input.a71;
+        output.data[43] = input.a72;
+        output.data[44] = input.a73;
+        output.data[45] = input.a74;
+        output.data[46] = input.a75;
+        output.data[47] = input.a76;
+        output.data[48] = input.a77;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix8x8_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix8x8_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(8,8);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a18;
+        output.data[8] = input.a21;
+        output.data[9] = input.a22;
+        output.data[10] = input.a23;
+        output.data[11] = input.a24;
+        output.data[12] = input.a25;
+        output.data[13] = input.a26;
+        output.data[14] = input.a27;
+        output.data[15] = input.a28;
+        output.data[16] = input.a31;
+        output.data[17] = input.a32;
+        output.data[18] = input.a33;
+        output.data[19] = input.a34;
+        output.data[20] = input.a35;
+        output.data[21] = input.a36;
+        output.data[22] = input.a37;
+        output.data[23] = input.a38;
+        output.data[24] = input.a41;
+        output.data[25] = input.a42;
+        output.data[26] = input.a43;
+        output.data[27] = input.a44;
+        output.data[28] = input.a45;
+        output.data[29] = input.a46;
+        output.data[30] = input.a47;
+        output.data[31] = input.a48;
+        output.data[32] = input.a51;
+        output.data[33] = input.a52;
+        output.data[34] = input.a53;
+        output.data[35] = input.a54;
+        output.data[36] = input.a55;
+        output.data[37] = input.a56;
+        output.data[38] = input.a57;
+        output.data[39] = input.a58;
+        output.data[40] = input.a61;
+        output.data[41] = input.a62;
+        output.data[42] = input.a63;
+        output.data[43] = input.a64;
+        output.data[44] = input.a65;
+        output.data[45] = input.a66;
+        output.data[46] = input.a67;
+        output.data[47] = input.a68;
+        output.data[48] = input.a71;
+        output.data[49] = input.a72;
+        output.data[50] = input.a73;
+        output.data[51] = input.a74;
+        output.data[52] = input.a75;
+        output.data[53] = input.a76;
+        output.data[54] = input.a77;
+        output.data[55] = input.a78;
+        output.data[56] = input.a81;
+        output.data[57] = input.a82;
+        output.data[58] = input.a83;
+        output.data[59] = input.a84;
+        output.data[60] = input.a85;
+        output.data[61] = input.a86;
+        output.data[62] = input.a87;
+        output.data[63] = input.a88;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix9x9_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix9x9_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(9,9);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a17;
+        output.data[7] = input.a18;
+        output.data[8] = input.a19;
+        output.data[9] = input.a21;
+        output.data[10] = input.a22;
+        output.data[11] = input.a23;
+        output.data[12] = input.a24;
+        output.data[13] = input.a25;
+        output.data[14] = input.a26;
+        output.data[15] = input.a27;
+        output.data[16] = input.a28;
+        output.data[17] = input.a29;
+        output.data[18] = input.a31;
+        output.data[19] = input.a32;
+        output.data[20] = input.a33;
+        output.data[21] = input.a34;
+        output.data[22] = input.a35;
+        output.data[23] = input.a36;
+        output.data[24] = input.a37;
+        output.data[25] = input.a38;
+        output.data[26] = input.a39;
+        output.data[27] = input.a41;
+        output.data[28] = input.a42;
+        output.data[29] = input.a43;
+        output.data[30] = input.a44;
+        output.data[31] = input.a45;
+        output.data[32] = input.a46;
+        output.data[33] = input.a47;
+        output.data[34] = input.a48;
+        output.data[35] = input.a49;
+        output.data[36] = input.a51;
+        output.data[37] = input.a52;
+        output.data[38] = input.a53;
+        output.data[39] = input.a54;
+        output.data[40] = input.a55;
+        output.data[41] = input.a56;
+        output.data[42] = input.a57;
+        output.data[43] = input.a58;
+        output.data[44] = input.a59;
+        output.data[45] = input.a61;
+        output.data[46] = input.a62;
+        output.data[47] = input.a63;
+        output.data[48] = input.a64;
+        output.data[49] = input.a65;
+        output.data[50] = input.a66;
+        output.data[51] = input.a67;
+        output.data[52] = input.a68;
+        output.data[53] = input.a69;
+        output.data[54] = input.a71;
+        output.data[55] = input.a72;
+        output.data[56] = input.a73;
+        output.data[57] = input.a74;
+        output.data[58] = input.a75;
+        output.data[59] = input.a76;
+        output.data[60] = input.a77;
+        output.data[61] = input.a78;
+        output.data[62] = input.a79;
+        output.data[63] = input.a81;
+        output.data[64] = input.a82;
+        output.data[65] = input.a83;
+        output.data[66] = input.a84;
+        output.data[67] = input.a85;
+        output.data[68] = input.a86;
+        output.data[69] = input.a87;
+        output.data[70] = input.a88;
+        output.data[71] = input.a89;
+        output.data[72] = input.a91;
+        output.data[73] = input.a92;
+        output.data[74] = input.a93;
+        output.data[75] = input.a94;
+        output.data[76] = input.a95;
+        output.data[77] = input.a96;
+        output.data[78] = input.a97;
+        output.data[79] = input.a98;
+        output.data[80] = input.a99;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix10x10_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix10x10_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(10,10);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a1_1;
+        output.data[1] = input.a1_2;
+        output.data[2] = input.a1_3;
+        output.data[3] = input.a1_4;
+        output.data[4] = input.a1_5;
+        output.data[5] = input.a1_6;
+        output.data[6] = input.a1_7;
+        output.data[7] = input.a1_8;
+        output.data[8] = input.a1_9;
+        output.data[9] = input.a1_10;
+        output.data[10] = input.a2_1;
+        output.data[11] = input.a2_2;
+        output.data[12] = input.a2_3;
+        output.data[13] = input.a2_4;
+        output.data[14] = input.a2_5;
+        output.data[15] = input.a2_6;
+        output.data[16] = input.a2_7;
+        output.data[17] = input.a2_8;
+        output.data[18] = input.a2_9;
+        output.data[19] = input.a2_10;
+        output.data[20] = input.a3_1;
+        output.data[21] = input.a3_2;
+        output.data[22] = input.a3_3;
+        output.data[23] = input.a3_4;
+        output.data[24] = input.a3_5;
+        output.data[25] = input.a3_6;
+        output.data[26] = input.a3_7;
+        output.data[27] = input.a3_8;
+        output.data[28] = input.a3_9;
+        output.data[29] = input.a3_10;
+        output.data[30] = input.a4_1;
+        output.data[31] = input.a4_2;
+        output.data[32] = input.a4_3;
+        output.data[33] = input.a4_4;
+        output.data[34] = input.a4_5;
+        output.data[35] = input.a4_6;
+        output.data[36] = input.a4_7;
+        output.data[37] = input.a4_8;
+        output.data[38] = input.a4_9;
+        output.data[39] = input.a4_10;
+        output.data[40] = input.a5_1;
+        output.data[41] = input.a5_2;
+        output.data[42] = input.a5_3;
+        output.data[43] = input.a5_4;
+        output.data[44] = input.a5_5;
+        output.data[45] = input.a5_6;
+        output.data[46] = input.a5_7;
+        output.data[47] = input.a5_8;
+        output.data[48] = input.a5_9;
+        output.data[49] = input.a5_10;
+        output.data[50] = input.a6_1;
+        output.data[51] = input.a6_2;
+        output.data[52] = input.a6_3;
+        output.data[53] = input.a6_4;
+        output.data[54] = input.a6_5;
+        output.data[55] = input.a6_6;
+        output.data[56] = input.a6_7;
+        output.data[57] = input.a6_8;
+        output.data[58] = input.a6_9;
+        output.data[59] = input.a6_10;
+        output.data[60] = input.a7_1;
+        output.data[61] = input.a7_2;
+        output.data[62] = input.a7_3;
+        output.data[63] = input.a7_4;
+        output.data[64] = input.a7_5;
+        output.data[65] = input.a7_6;
+        output.data[66] = input.a7_7;
+        output.data[67] = input.a7_8;
+        output.data[68] = input.a7_9;
+        output.data[69] = input.a7_10;
+        output.data[70] = input.a8_1;
+        output.data[71] = input.a8_2;
+        output.data[72] = input.a8_3;
+        output.data[73] = input.a8_4;
+        output.data[74] = input.a8_5;
+        output.data[75] = input.a8_6;
+        output.data[76] = input.a8_7;
+        output.data[77] = input.a8_8;
+        output.data[78] = input.a8_9;
+        output.data[79] = input.a8_10;
+        output.data[80] = input.a9_1;
+        output.data[81] = input.a9_2;
+        output.data[82] = input.a9_3;
+        output.data[83] = input.a9_4;
+        output.data[84] = input.a9_5;
+        output.data[85] = input.a9_6;
+        output.data[86] = input.a9_7;
+        output.data[87] = input.a9_8;
+        output.data[88] = input.a9_9;
+        output.data[89] = input.a9_10;
+        output.data[90] = input.a10_1;
+        output.data[91] = input.a10_2;
+        output.data[92] = input.a10_3;
+        output.data[93] = input.a10_4;
+        output.data[94] = input.a10_5;
+        output.data[95] = input.a10_6;
+        output.data[96] = input.a10_7;
+        output.data[97] = input.a10_8;
+        output.data[98] = input.a10_9;
+        output.data[99] = input.a10_10;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix11x11_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix11x11_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(11,11);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a1_1;
+        output.data[1] = input.a1_2;
+        output.data[2] = input.a1_3;
+        output.data[3] = input.a1_4;
+        output.data[4] = input.a1_5;
+        output.data[5] = input.a1_6;
+        output.data[6] = input.a1_7;
+        output.data[7] = input.a1_8;
+        output.data[8] = input.a1_9;
+        output.data[9] = input.a1_10;
+        output.data[10] = input.a1_11;
+        output.data[11] = input.a2_1;
+        output.data[12] = input.a2_2;
+        output.data[13] = input.a2_3;
+        output.data[14] = input.a2_4;
+        output.data[15] = input.a2_5;
+        output.data[16] = input.a2_6;
+        output.data[17] = input.a2_7;
+        output.data[18] = input.a2_8;
+        output.data[19] = input.a2_9;
+        output.data[20] = input.a2_10;
+        output.data[21] = input.a2_11;
+        output.data[22] = input.a3_1;
+        output.data[23] = input.a3_2;
+        output.data[24] = input.a3_3;
+        output.data[25] = input.a3_4;
+        output.data[26] = input.a3_5;
+        output.data[27] = input.a3_6;
+        output.data[28] = input.a3_7;
+        output.data[29] = input.a3_8;
+        output.data[30] = input.a3_9;
+        output.data[31] = input.a3_10;
+        output.data[32] = input.a3_11;
+        output.data[33] = input.a4_1;
+        output.data[34] = input.a4_2;
+        output.data[35] = input.a4_3;
+        output.data[36] = input.a4_4;
+        output.data[37] = input.a4_5;
+        output.data[38] = input.a4_6;
+        output.data[39] = input.a4_7;
+        output.data[40] = input.a4_8;
+        output.data[41] = input.a4_9;
+        output.data[42] = input.a4_10;
+        output.data[43] = input.a4_11;
+        output.data[44] = input.a5_1;
+        output.data[45] = input.a5_2;
+        output.data[46] = input.a5_3;
+        output.data[47] = input.a5_4;
+        output.data[48] = input.a5_5;
+        output.data[49] = input.a5_6;
+        output.data[50] = input.a5_7;
+        output.data[51] = input.a5_8;
+        output.data[52] = input.a5_9;
+        output.data[53] = input.a5_10;
+        output.data[54] = input.a5_11;
+        output.data[55] = input.a6_1;
+        output.data[56] = input.a6_2;
+        output.data[57] = input.a6_3;
+        output.data[58] = input.a6_4;
+        output.data[59] = input.a6_5;
+        output.data[60] = input.a6_6;
+        output.data[61] = input.a6_7;
+        output.data[62] = input.a6_8;
+        output.data[63] = input.a6_9;
+        output.data[64] = input.a6_10;
+        output.data[65] = input.a6_11;
+        output.data[66] = input.a7_1;
+        output.data[67] = input.a7_2;
+        output.data[68] = input.a7_3;
+        output.data[69] = input.a7_4;
+        output.data[70] = input.a7_5;
+        output.data[71] = input.a7_6;
+        output.data[72] = input.a7_7;
+        output.data[73] = input.a7_8;
+        output.data[74] = input.a7_9;
+        output.data[75] = input.a7_10;
+        output.data[76] = input.a7_11;
+        output.data[77] = input.a8_1;
+        output.data[78] = input.a8_2;
+        output.data[79] = input.a8_3;
+        output.data[80] = input.a8_4;
+        output.data[81] = input.a8_5;
+        output.data[82] = input.a8_6;
+        output.data[83] = input.a8_7;
+        output.data[84] = input.a8_8;
+        output.data[85] = input.a8_9;
+        output.data[86] = input.a8_10;
+        output.data[87] = input.a8_11;
+        output.data[88] = input.a9_1;
+        output.data[89] = input.a9_2;
+        output.data[90] = input.a9_3;
+        output.data[91] = input.a9_4;
+        output.data[92] = input.a9_5;
+        output.data[93] = input.a9_6;
+        output.data[94] = input.a9_7;
+        output.data[95] = input.a9_8;
+        output.data[96] = input.a9_9;
+        output.data[97] = input.a9_10;
+        output.data[98] = input.a9_11;
+        output.data[99] = input.a10_1;
+        output.data[100] = input.a10_2;
+        output.data[101] = input.a10_3;
+        output.data[102] = input.a10_4;
+        output.data[103] = input.a10_5;
+        output.data[104] = input.a10_6;
+        output.data[105] = input.a10_7;
+        output.data[106] = input.a10_8;
+        output.data[107] = input.a10_9;
+        output.data[108] = input.a10_10;
+        output.data[109] = input.a10_11;
+        output.data[110] = input.a11_1;
+        output.data[111] = input.a11_2;
+        output.data[112] = input.a11_3;
+        output.data[113] = input.a11_4;
+        output.data[114] = input.a11_5;
+        output.data[115] = input.a11_6;
+        output.data[116] = input.a11_7;
+        output.data[117] = input.a11_8;
+        output.data[118] = input.a11_9;
+        output.data[119] = input.a11_10;
+        output.data[120] = input.a11_11;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix12x12_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix12x12_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(12,12);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a1_1;
+        output.data[1] = input.a1_2;
+        output.data[2] = input.a1_3;
+        output.data[3] = input.a1_4;
+        output.data[4] = input.a1_5;
+        output.data[5] = input.a1_6;
+        output.data[6] = input.a1_7;
+        output.data[7] = input.a1_8;
+        output.data[8] = input.a1_9;
+        output.data[9] = input.a1_10;
+        output.data[10] = input.a1_11;
+        output.data[11] = input.a1_12;
+        output.data[12] = input.a2_1;
+        output.data[13] = input.a2_2;
+        output.data[14] = input.a2_3;
+        output.data[15] = input.a2_4;
+        output.data[16] = input.a2_5;
+        output.data[17] = input.a2_6;
+        output.data[18] = input.a2_7;
+        output.data[19] = input.a2_8;
+        output.data[20] = input.a2_9;
+        output.data[21] = input.a2_10;
+        output.data[22] = input.a2_11;
+        output.data[23] = input.a2_12;
+        output.data[24] = input.a3_1;
+        output.data[25] = input.a3_2;
+        output.data[26] = input.a3_3;
+        output.data[27] = input.a3_4;
+        output.data[28] = input.a3_5;
+        output.data[29] = input.a3_6;
+        output.data[30] = input.a3_7;
+        output.data[31] = input.a3_8;
+        output.data[32] = input.a3_9;
+        output.data[33] = input.a3_10;
+        output.data[34] = input.a3_11;
+        output.data[35] = input.a3_12;
+        output.data[36] = input.a4_1;
+        output.data[37] = input.a4_2;
+        output.data[38] = input.a4_3;
+        output.data[39] = input.a4_4;
+        output.data[40] = input.a4_5;
+        output.data[41] = input.a4_6;
+        output.data[42] = input.a4_7;
+        output.data[43] = input.a4_8;
+        output.data[44] = input.a4_9;
+        output.data[45] = input.a4_10;
+        output.data[46] = input.a4_11;
+        output.data[47] = input.a4_12;
+        output.data[48] = input.a5_1;
+        output.data[49] = input.a5_2;
+        output.data[50] = input.a5_3;
+        output.data[51] = input.a5_4;
+        output.data[52] = input.a5_5;
+        output.data[53] = input.a5_6;
+        output.data[54] = input.a5_7;
+        output.data[55] = input.a5_8;
+        output.data[56] = input.a5_9;
+        output.data[57] = input.a5_10;
+        output.data[58] = input.a5_11;
+        output.data[59] = input.a5_12;
+        output.data[60] = input.a6_1;
+        output.data[61] = input.a6_2;
+        output.data[62] = input.a6_3;
+        output.data[63] = input.a6_4;
+        output.data[64] = input.a6_5;
+        output.data[65] = input.a6_6;
+        output.data[66] = input.a6_7;
+        output.data[67] = input.a6_8;
+        output.data[68] = input.a6_9;
+        output.data[69] = input.a6_10;
+        output.data[70] = input.a6_11;
+        output.data[71] = input.a6_12;
+        output.data[72] = input.a7_1;
+        output.data[73] = input.a7_2;
+        output.data[74] = input.a7_3;
+        output.data[75] = input.a7_4;
+        output.data[76] = input.a7_5;
+        output.data[77] = input.a7_6;
+        output.data[78] = input.a7_7;
+        output.data[79] = input.a7_8;
+        output.data[80] = input.a7_9;
+        output.data[81] = input.a7_10;
+        output.data[82] = input.a7_11;
+        output.data[83] = input.a7_12;
+        output.data[84] = input.a8_1;
+        output.data[85] = input.a8_2;
+        output.data[86] = input.a8_3;
+        output.data[87] = input.a8_4;
+        output.data[88] = input.a8_5;
+        output.data[89] = input.a8_6;
+        output.data[90] = input.a8_7;
+        output.data[91] = input.a8_8;
+        output.data[92] = input.a8_9;
+        output.data[93] = input.a8_10;
+        output.data[94] = input.a8_11;
+        output.data[95] = input.a8_12;
+        output.data[96] = input.a9_1;
+        output.data[97] = input.a9_2;
+        output.data[98] = input.a9_3;
+        output.data[99] = input.a9_4;
+        output.data[100] = input.a9_5;
+        output.data[101] = input.a9_6;
+        output.data[102] = input.a9_7;
+        output.data[103] = input.a9_8;
+        output.data[104] = input.a9_9;
+        output.data[105] = input.a9_10;
+        output.data[106] = input.a9_11;
+        output.data[107] = input.a9_12;
+        output.data[108] = input.a10_1;
+        output.data[109] = input.a10_2;
+        output.data[110] = input.a10_3;
+        output.data[111] = input.a10_4;
+        output.data[112] = input.a10_5;
+        output.data[113] = input.a10_6;
+        output.data[114] = input.a10_7;
+        output.data[115] = input.a10_8;
+        output.data[116] = input.a10_9;
+        output.data[117] = input.a10_10;
+        output.data[118] = input.a10_11;
+        output.data[119] = input.a10_12;
+        output.data[120] = input.a11_1;
+        output.data[121] = input.a11_2;
+        output.data[122] = input.a11_3;
+        output.data[123] = input.a11_4;
+        output.data[124] = input.a11_5;
+        output.data[125] = input.a11_6;
+        output.data[126] = input.a11_7;
+        output.data[127] = input.a11_8;
+        output.data[128] = input.a11_9;
+        output.data[129] = input.a11_10;
+        output.data[130] = input.a11_11;
+        output.data[131] = input.a11_12;
+        output.data[132] = input.a12_1;
+        output.data[133] = input.a12_2;
+        output.data[134] = input.a12_3;
+        output.data[135] = input.a12_4;
+        output.data[136] = input.a12_5;
+        output.data[137] = input.a12_6;
+        output.data[138] = input.a12_7;
+        output.data[139] = input.a12_8;
+        output.data[140] = input.a12_9;
+        output.data[141] = input.a12_10;
+        output.data[142] = input.a12_11;
+        output.data[143] = input.a12_12;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix3x6_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix3x6_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(3,6);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a14;
+        output.data[4] = input.a15;
+        output.data[5] = input.a16;
+        output.data[6] = input.a21;
+        output.data[7] = input.a22;
+        output.data[8] = input.a23;
+        output.data[9] = input.a24;
+        output.data[10] = input.a25;
+        output.data[11] = input.a26;
+        output.data[12] = input.a31;
+        output.data[13] = input.a32;
+        output.data[14] = input.a33;
+        output.data[15] = input.a34;
+        output.data[16] = input.a35;
+        output.data[17] = input.a36;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix6x3_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix6x3_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(6,3);
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.data[0] = input.a11;
+        output.data[1] = input.a12;
+        output.data[2] = input.a13;
+        output.data[3] = input.a21;
+        output.data[4] = input.a22;
+        output.data[5] = input.a23;
+        output.data[6] = input.a31;
+        output.data[7] = input.a32;
+        output.data[8] = input.a33;
+        output.data[9] = input.a41;
+        output.data[10] = input.a42;
+        output.data[11] = input.a43;
+        output.data[12] = input.a51;
+        output.data[13] = input.a52;
+        output.data[14] = input.a53;
+        output.data[15] = input.a61;
+        output.data[16] = input.a62;
+        output.data[17] = input.a63;
+
+        return output;
+    }
+
     /**
      * Converts {@link DenseMatrix64F} into {@link FixedMatrix2x2_64F}
      *
@@ -429,119 +1185,1051 @@ public class ConvertMatrixType {
     }
 
     /**
-     * Converts {@link FixedMatrix2_64F} into {@link DenseMatrix64F}.
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix7x7_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix7x7_64F convert( DenseMatrix64F input , FixedMatrix7x7_64F output ) {
+        if( output == null)
+            output = new FixedMatrix7x7_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a21 = input.data[7];
+        output.a22 = input.data[8];
+        output.a23 = input.data[9];
+        output.a24 = input.data[10];
+        output.a25 = input.data[11];
+        output.a26 = input.data[12];
+        output.a27 = input.data[13];
+        output.a31 = input.data[14];
+        output.a32 = input.data[15];
+        output.a33 = input.data[16];
+        output.a34 = input.data[17];
+        output.a35 = input.data[18];
+        output.a36 = input.data[19];
+        output.a37 = input.data[20];
+        output.a41 = input.data[21];
+        output.a42 = input.data[22];
+        output.a43 = input.data[23];
+        output.a44 = input.data[24];
+        output.a45 = input.data[25];
+        output.a46 = input.data[26];
+        output.a47 = input.data[27];
+        output.a51 = input.data[28];
+        output.a52 = input.data[29];
+        output.a53 = input.data[30];
+        output.a54 = input.data[31];
+        output.a55 = input.data[32];
+        output.a56 = input.data[33];
+        output.a57 = input.data[34];
+        output.a61 = input.data[35];
+        output.a62 = input.data[36];
+        output.a63 = input.data[37];
+        output.a64 = input.data[38];
+        output.a65 = input.data[39];
+        output.a66 = input.data[40];
+        output.a67 = input.data[41];
+        output.a71 = input.data[42];
+        output.a72 = input.data[43];
+        output.a73 = input.data[44];
+        output.a74 = input.data[45];
+        output.a75 = input.data[46];
+        output.a76 = input.data[47];
+        output.a77 = input.data[48];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix8x8_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix8x8_64F convert( DenseMatrix64F input , FixedMatrix8x8_64F output ) {
+        if( output == null)
+            output = new FixedMatrix8x8_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a18 = input.data[7];
+        output.a21 = input.data[8];
+        output.a22 = input.data[9];
+        output.a23 = input.data[10];
+        output.a24 = input.data[11];
+        output.a25 = input.data[12];
+        output.a26 = input.data[13];
+        output.a27 = input.data[14];
+        output.a28 = input.data[15];
+        output.a31 = input.data[16];
+        output.a32 = input.data[17];
+        output.a33 = input.data[18];
+        output.a34 = input.data[19];
+        output.a35 = input.data[20];
+        output.a36 = input.data[21];
+        output.a37 = input.data[22];
+        output.a38 = input.data[23];
+        output.a41 = input.data[24];
+        output.a42 = input.data[25];
+        output.a43 = input.data[26];
+        output.a44 = input.data[27];
+        output.a45 = input.data[28];
+        output.a46 = input.data[29];
+        output.a47 = input.data[30];
+        output.a48 = input.data[31];
+        output.a51 = input.data[32];
+        output.a52 = input.data[33];
+        output.a53 = input.data[34];
+        output.a54 = input.data[35];
+        output.a55 = input.data[36];
+        output.a56 = input.data[37];
+        output.a57 = input.data[38];
+        output.a58 = input.data[39];
+        output.a61 = input.data[40];
+        output.a62 = input.data[41];
+        output.a63 = input.data[42];
+        output.a64 = input.data[43];
+        output.a65 = input.data[44];
+        output.a66 = input.data[45];
+        output.a67 = input.data[46];
+        output.a68 = input.data[47];
+        output.a71 = input.data[48];
+        output.a72 = input.data[49];
+        output.a73 = input.data[50];
+        output.a74 = input.data[51];
+        output.a75 = input.data[52];
+        output.a76 = input.data[53];
+        output.a77 = input.data[54];
+        output.a78 = input.data[55];
+        output.a81 = input.data[56];
+        output.a82 = input.data[57];
+        output.a83 = input.data[58];
+        output.a84 = input.data[59];
+        output.a85 = input.data[60];
+        output.a86 = input.data[61];
+        output.a87 = input.data[62];
+        output.a88 = input.data[63];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix9x9_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix9x9_64F convert( DenseMatrix64F input , FixedMatrix9x9_64F output ) {
+        if( output == null)
+            output = new FixedMatrix9x9_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a17 = input.data[6];
+        output.a18 = input.data[7];
+        output.a19 = input.data[8];
+        output.a21 = input.data[9];
+        output.a22 = input.data[10];
+        output.a23 = input.data[11];
+        output.a24 = input.data[12];
+        output.a25 = input.data[13];
+        output.a26 = input.data[14];
+        output.a27 = input.data[15];
+        output.a28 = input.data[16];
+        output.a29 = input.data[17];
+        output.a31 = input.data[18];
+        output.a32 = input.data[19];
+        output.a33 = input.data[20];
+        output.a34 = input.data[21];
+        output.a35 = input.data[22];
+        output.a36 = input.data[23];
+        output.a37 = input.data[24];
+        output.a38 = input.data[25];
+        output.a39 = input.data[26];
+        output.a41 = input.data[27];
+        output.a42 = input.data[28];
+        output.a43 = input.data[29];
+        output.a44 = input.data[30];
+        output.a45 = input.data[31];
+        output.a46 = input.data[32];
+        output.a47 = input.data[33];
+        output.a48 = input.data[34];
+        output.a49 = input.data[35];
+        output.a51 = input.data[36];
+        output.a52 = input.data[37];
+        output.a53 = input.data[38];
+        output.a54 = input.data[39];
+        output.a55 = input.data[40];
+        output.a56 = input.data[41];
+        output.a57 = input.data[42];
+        output.a58 = input.data[43];
+        output.a59 = input.data[44];
+        output.a61 = input.data[45];
+        output.a62 = input.data[46];
+        output.a63 = input.data[47];
+        output.a64 = input.data[48];
+        output.a65 = input.data[49];
+        output.a66 = input.data[50];
+        output.a67 = input.data[51];
+        output.a68 = input.data[52];
+        output.a69 = input.data[53];
+        output.a71 = input.data[54];
+        output.a72 = input.data[55];
+        output.a73 = input.data[56];
+        output.a74 = input.data[57];
+        output.a75 = input.data[58];
+        output.a76 = input.data[59];
+        output.a77 = input.data[60];
+        output.a78 = input.data[61];
+        output.a79 = input.data[62];
+        output.a81 = input.data[63];
+        output.a82 = input.data[64];
+        output.a83 = input.data[65];
+        output.a84 = input.data[66];
+        output.a85 = input.data[67];
+        output.a86 = input.data[68];
+        output.a87 = input.data[69];
+        output.a88 = input.data[70];
+        output.a89 = input.data[71];
+        output.a91 = input.data[72];
+        output.a92 = input.data[73];
+        output.a93 = input.data[74];
+        output.a94 = input.data[75];
+        output.a95 = input.data[76];
+        output.a96 = input.data[77];
+        output.a97 = input.data[78];
+        output.a98 = input.data[79];
+        output.a99 = input.data[80];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix10x10_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix10x10_64F convert( DenseMatrix64F input , FixedMatrix10x10_64F output ) {
+        if( output == null)
+            output = new FixedMatrix10x10_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a1_1 = input.data[0];
+        output.a1_2 = input.data[1];
+        output.a1_3 = input.data[2];
+        output.a1_4 = input.data[3];
+        output.a1_5 = input.data[4];
+        output.a1_6 = input.data[5];
+        output.a1_7 = input.data[6];
+        output.a1_8 = input.data[7];
+        output.a1_9 = input.data[8];
+        output.a1_10 = input.data[9];
+        output.a2_1 = input.data[10];
+        output.a2_2 = input.data[11];
+        output.a2_3 = input.data[12];
+        output.a2_4 = input.data[13];
+        output.a2_5 = input.data[14];
+        output.a2_6 = input.data[15];
+        output.a2_7 = input.data[16];
+        output.a2_8 = input.data[17];
+        output.a2_9 = input.data[18];
+        output.a2_10 = input.data[19];
+        output.a3_1 = input.data[20];
+        output.a3_2 = input.data[21];
+        output.a3_3 = input.data[22];
+        output.a3_4 = input.data[23];
+        output.a3_5 = input.data[24];
+        output.a3_6 = input.data[25];
+        output.a3_7 = input.data[26];
+        output.a3_8 = input.data[27];
+        output.a3_9 = input.data[28];
+        output.a3_10 = input.data[29];
+        output.a4_1 = input.data[30];
+        output.a4_2 = input.data[31];
+        output.a4_3 = input.data[32];
+        output.a4_4 = input.data[33];
+        output.a4_5 = input.data[34];
+        output.a4_6 = input.data[35];
+        output.a4_7 = input.data[36];
+        output.a4_8 = input.data[37];
+        output.a4_9 = input.data[38];
+        output.a4_10 = input.data[39];
+        output.a5_1 = input.data[40];
+        output.a5_2 = input.data[41];
+        output.a5_3 = input.data[42];
+        output.a5_4 = input.data[43];
+        output.a5_5 = input.data[44];
+        output.a5_6 = input.data[45];
+        output.a5_7 = input.data[46];
+        output.a5_8 = input.data[47];
+        output.a5_9 = input.data[48];
+        output.a5_10 = input.data[49];
+        output.a6_1 = input.data[50];
+        output.a6_2 = input.data[51];
+        output.a6_3 = input.data[52];
+        output.a6_4 = input.data[53];
+        output.a6_5 = input.data[54];
+        output.a6_6 = input.data[55];
+        output.a6_7 = input.data[56];
+        output.a6_8 = input.data[57];
+        output.a6_9 = input.data[58];
+        output.a6_10 = input.data[59];
+        output.a7_1 = input.data[60];
+        output.a7_2 = input.data[61];
+        output.a7_3 = input.data[62];
+        output.a7_4 = input.data[63];
+        output.a7_5 = input.data[64];
+        output.a7_6 = input.data[65];
+        output.a7_7 = input.data[66];
+        output.a7_8 = input.data[67];
+        output.a7_9 = input.data[68];
+        output.a7_10 = input.data[69];
+        output.a8_1 = input.data[70];
+        output.a8_2 = input.data[71];
+        output.a8_3 = input.data[72];
+        output.a8_4 = input.data[73];
+        output.a8_5 = input.data[74];
+        output.a8_6 = input.data[75];
+        output.a8_7 = input.data[76];
+        output.a8_8 = input.data[77];
+        output.a8_9 = input.data[78];
+        output.a8_10 = input.data[79];
+        output.a9_1 = input.data[80];
+        output.a9_2 = input.data[81];
+        output.a9_3 = input.data[82];
+        output.a9_4 = input.data[83];
+        output.a9_5 = input.data[84];
+        output.a9_6 = input.data[85];
+        output.a9_7 = input.data[86];
+        output.a9_8 = input.data[87];
+        output.a9_9 = input.data[88];
+        output.a9_10 = input.data[89];
+        output.a10_1 = input.data[90];
+        output.a10_2 = input.data[91];
+        output.a10_3 = input.data[92];
+        output.a10_4 = input.data[93];
+        output.a10_5 = input.data[94];
+        output.a10_6 = input.data[95];
+        output.a10_7 = input.data[96];
+        output.a10_8 = input.data[97];
+        output.a10_9 = input.data[98];
+        output.a10_10 = input.data[99];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix11x11_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix11x11_64F convert( DenseMatrix64F input , FixedMatrix11x11_64F output ) {
+        if( output == null)
+            output = new FixedMatrix11x11_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a1_1 = input.data[0];
+        output.a1_2 = input.data[1];
+        output.a1_3 = input.data[2];
+        output.a1_4 = input.data[3];
+        output.a1_5 = input.data[4];
+        output.a1_6 = input.data[5];
+        output.a1_7 = input.data[6];
+        output.a1_8 = input.data[7];
+        output.a1_9 = input.data[8];
+        output.a1_10 = input.data[9];
+        output.a1_11 = input.data[10];
+        output.a2_1 = input.data[11];
+        output.a2_2 = input.data[12];
+        output.a2_3 = input.data[13];
+        output.a2_4 = input.data[14];
+        output.a2_5 = input.data[15];
+        output.a2_6 = input.data[16];
+        output.a2_7 = input.data[17];
+        output.a2_8 = input.data[18];
+        output.a2_9 = input.data[19];
+        output.a2_10 = input.data[20];
+        output.a2_11 = input.data[21];
+        output.a3_1 = input.data[22];
+        output.a3_2 = input.data[23];
+        output.a3_3 = input.data[24];
+        output.a3_4 = input.data[25];
+        output.a3_5 = input.data[26];
+        output.a3_6 = input.data[27];
+        output.a3_7 = input.data[28];
+        output.a3_8 = input.data[29];
+        output.a3_9 = input.data[30];
+        output.a3_10 = input.data[31];
+        output.a3_11 = input.data[32];
+        output.a4_1 = input.data[33];
+        output.a4_2 = input.data[34];
+        output.a4_3 = input.data[35];
+        output.a4_4 = input.data[36];
+        output.a4_5 = input.data[37];
+        output.a4_6 = input.data[38];
+        output.a4_7 = input.data[39];
+        output.a4_8 = input.data[40];
+        output.a4_9 = input.data[41];
+        output.a4_10 = input.data[42];
+        output.a4_11 = input.data[43];
+        output.a5_1 = input.data[44];
+        output.a5_2 = input.data[45];
+        output.a5_3 = input.data[46];
+        output.a5_4 = input.data[47];
+        output.a5_5 = input.data[48];
+        output.a5_6 = input.data[49];
+        output.a5_7 = input.data[50];
+        output.a5_8 = input.data[51];
+        output.a5_9 = input.data[52];
+        output.a5_10 = input.data[53];
+        output.a5_11 = input.data[54];
+        output.a6_1 = input.data[55];
+        output.a6_2 = input.data[56];
+        output.a6_3 = input.data[57];
+        output.a6_4 = input.data[58];
+        output.a6_5 = input.data[59];
+        output.a6_6 = input.data[60];
+        output.a6_7 = input.data[61];
+        output.a6_8 = input.data[62];
+        output.a6_9 = input.data[63];
+        output.a6_10 = input.data[64];
+        output.a6_11 = input.data[65];
+        output.a7_1 = input.data[66];
+        output.a7_2 = input.data[67];
+        output.a7_3 = input.data[68];
+        output.a7_4 = input.data[69];
+        output.a7_5 = input.data[70];
+        output.a7_6 = input.data[71];
+        output.a7_7 = input.data[72];
+        output.a7_8 = input.data[73];
+        output.a7_9 = input.data[74];
+        output.a7_10 = input.data[75];
+        output.a7_11 = input.data[76];
+        output.a8_1 = input.data[77];
+        output.a8_2 = input.data[78];
+        output.a8_3 = input.data[79];
+        output.a8_4 = input.data[80];
+        output.a8_5 = input.data[81];
+        output.a8_6 = input.data[82];
+        output.a8_7 = input.data[83];
+        output.a8_8 = input.data[84];
+        output.a8_9 = input.data[85];
+        output.a8_10 = input.data[86];
+        output.a8_11 = input.data[87];
+        output.a9_1 = input.data[88];
+        output.a9_2 = input.data[89];
+        output.a9_3 = input.data[90];
+        output.a9_4 = input.data[91];
+        output.a9_5 = input.data[92];
+        output.a9_6 = input.data[93];
+        output.a9_7 = input.data[94];
+        output.a9_8 = input.data[95];
+        output.a9_9 = input.data[96];
+        output.a9_10 = input.data[97];
+        output.a9_11 = input.data[98];
+        output.a10_1 = input.data[99];
+        output.a10_2 = input.data[100];
+        output.a10_3 = input.data[101];
+        output.a10_4 = input.data[102];
+        output.a10_5 = input.data[103];
+        output.a10_6 = input.data[104];
+        output.a10_7 = input.data[105];
+        output.a10_8 = input.data[106];
+        output.a10_9 = input.data[107];
+        output.a10_10 = input.data[108];
+        output.a10_11 = input.data[109];
+        output.a11_1 = input.data[110];
+        output.a11_2 = input.data[111];
+        output.a11_3 = input.data[112];
+        output.a11_4 = input.data[113];
+        output.a11_5 = input.data[114];
+        output.a11_6 = input.data[115];
+        output.a11_7 = input.data[116];
+        output.a11_8 = input.data[117];
+        output.a11_9 = input.data[118];
+        output.a11_10 = input.data[119];
+        output.a11_11 = input.data[120];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix12x12_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix12x12_64F convert( DenseMatrix64F input , FixedMatrix12x12_64F output ) {
+        if( output == null)
+            output = new FixedMatrix12x12_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a1_1 = input.data[0];
+        output.a1_2 = input.data[1];
+        output.a1_3 = input.data[2];
+        output.a1_4 = input.data[3];
+        output.a1_5 = input.data[4];
+        output.a1_6 = input.data[5];
+        output.a1_7 = input.data[6];
+        output.a1_8 = input.data[7];
+        output.a1_9 = input.data[8];
+        output.a1_10 = input.data[9];
+        output.a1_11 = input.data[10];
+        output.a1_12 = input.data[11];
+        output.a2_1 = input.data[12];
+        output.a2_2 = input.data[13];
+        output.a2_3 = input.data[14];
+        output.a2_4 = input.data[15];
+        output.a2_5 = input.data[16];
+        output.a2_6 = input.data[17];
+        output.a2_7 = input.data[18];
+        output.a2_8 = input.data[19];
+        output.a2_9 = input.data[20];
+        output.a2_10 = input.data[21];
+        output.a2_11 = input.data[22];
+        output.a2_12 = input.data[23];
+        output.a3_1 = input.data[24];
+        output.a3_2 = input.data[25];
+        output.a3_3 = input.data[26];
+        output.a3_4 = input.data[27];
+        output.a3_5 = input.data[28];
+        output.a3_6 = input.data[29];
+        output.a3_7 = input.data[30];
+        output.a3_8 = input.data[31];
+        output.a3_9 = input.data[32];
+        output.a3_10 = input.data[33];
+        output.a3_11 = input.data[34];
+        output.a3_12 = input.data[35];
+        output.a4_1 = input.data[36];
+        output.a4_2 = input.data[37];
+        output.a4_3 = input.data[38];
+        output.a4_4 = input.data[39];
+        output.a4_5 = input.data[40];
+        output.a4_6 = input.data[41];
+        output.a4_7 = input.data[42];
+        output.a4_8 = input.data[43];
+        output.a4_9 = input.data[44];
+        output.a4_10 = input.data[45];
+        output.a4_11 = input.data[46];
+        output.a4_12 = input.data[47];
+        output.a5_1 = input.data[48];
+        output.a5_2 = input.data[49];
+        output.a5_3 = input.data[50];
+        output.a5_4 = input.data[51];
+        output.a5_5 = input.data[52];
+        output.a5_6 = input.data[53];
+        output.a5_7 = input.data[54];
+        output.a5_8 = input.data[55];
+        output.a5_9 = input.data[56];
+        output.a5_10 = input.data[57];
+        output.a5_11 = input.data[58];
+        output.a5_12 = input.data[59];
+        output.a6_1 = input.data[60];
+        output.a6_2 = input.data[61];
+        output.a6_3 = input.data[62];
+        output.a6_4 = input.data[63];
+        output.a6_5 = input.data[64];
+        output.a6_6 = input.data[65];
+        output.a6_7 = input.data[66];
+        output.a6_8 = input.data[67];
+        output.a6_9 = input.data[68];
+        output.a6_10 = input.data[69];
+        output.a6_11 = input.data[70];
+        output.a6_12 = input.data[71];
+        output.a7_1 = input.data[72];
+        output.a7_2 = input.data[73];
+        output.a7_3 = input.data[74];
+        output.a7_4 = input.data[75];
+        output.a7_5 = input.data[76];
+        output.a7_6 = input.data[77];
+        output.a7_7 = input.data[78];
+        output.a7_8 = input.data[79];
+        output.a7_9 = input.data[80];
+        output.a7_10 = input.data[81];
+        output.a7_11 = input.data[82];
+        output.a7_12 = input.data[83];
+        output.a8_1 = input.data[84];
+        output.a8_2 = input.data[85];
+        output.a8_3 = input.data[86];
+        output.a8_4 = input.data[87];
+        output.a8_5 = input.data[88];
+        output.a8_6 = input.data[89];
+        output.a8_7 = input.data[90];
+        output.a8_8 = input.data[91];
+        output.a8_9 = input.data[92];
+        output.a8_10 = input.data[93];
+        output.a8_11 = input.data[94];
+        output.a8_12 = input.data[95];
+        output.a9_1 = input.data[96];
+        output.a9_2 = input.data[97];
+        output.a9_3 = input.data[98];
+        output.a9_4 = input.data[99];
+        output.a9_5 = input.data[100];
+        output.a9_6 = input.data[101];
+        output.a9_7 = input.data[102];
+        output.a9_8 = input.data[103];
+        output.a9_9 = input.data[104];
+        output.a9_10 = input.data[105];
+        output.a9_11 = input.data[106];
+        output.a9_12 = input.data[107];
+        output.a10_1 = input.data[108];
+        output.a10_2 = input.data[109];
+        output.a10_3 = input.data[110];
+        output.a10_4 = input.data[111];
+        output.a10_5 = input.data[112];
+        output.a10_6 = input.data[113];
+        output.a10_7 = input.data[114];
+        output.a10_8 = input.data[115];
+        output.a10_9 = input.data[116];
+        output.a10_10 = input.data[117];
+        output.a10_11 = input.data[118];
+        output.a10_12 = input.data[119];
+        output.a11_1 = input.data[120];
+        output.a11_2 = input.data[121];
+        output.a11_3 = input.data[122];
+        output.a11_4 = input.data[123];
+        output.a11_5 = input.data[124];
+        output.a11_6 = input.data[125];
+        output.a11_7 = input.data[126];
+        output.a11_8 = input.data[127];
+        output.a11_9 = input.data[128];
+        output.a11_10 = input.data[129];
+        output.a11_11 = input.data[130];
+        output.a11_12 = input.data[131];
+        output.a12_1 = input.data[132];
+        output.a12_2 = input.data[133];
+        output.a12_3 = input.data[134];
+        output.a12_4 = input.data[135];
+        output.a12_5 = input.data[136];
+        output.a12_6 = input.data[137];
+        output.a12_7 = input.data[138];
+        output.a12_8 = input.data[139];
+        output.a12_9 = input.data[140];
+        output.a12_10 = input.data[141];
+        output.a12_11 = input.data[142];
+        output.a12_12 = input.data[143];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix3x6_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix3x6_64F convert( DenseMatrix64F input , FixedMatrix3x6_64F output ) {
+        if( output == null)
+            output = new FixedMatrix3x6_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a14 = input.data[3];
+        output.a15 = input.data[4];
+        output.a16 = input.data[5];
+        output.a21 = input.data[6];
+        output.a22 = input.data[7];
+        output.a23 = input.data[8];
+        output.a24 = input.data[9];
+        output.a25 = input.data[10];
+        output.a26 = input.data[11];
+        output.a31 = input.data[12];
+        output.a32 = input.data[13];
+        output.a33 = input.data[14];
+        output.a34 = input.data[15];
+        output.a35 = input.data[16];
+        output.a36 = input.data[17];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix6x3_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix6x3_64F convert( DenseMatrix64F input , FixedMatrix6x3_64F output ) {
+        if( output == null)
+            output = new FixedMatrix6x3_64F();
+
+        if( input.getNumRows() != output.getNumRows() )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.getNumCols() != output.getNumCols() )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        output.a11 = input.data[0];
+        output.a12 = input.data[1];
+        output.a13 = input.data[2];
+        output.a21 = input.data[3];
+        output.a22 = input.data[4];
+        output.a23 = input.data[5];
+        output.a31 = input.data[6];
+        output.a32 = input.data[7];
+        output.a33 = input.data[8];
+        output.a41 = input.data[9];
+        output.a42 = input.data[10];
+        output.a43 = input.data[11];
+        output.a51 = input.data[12];
+        output.a52 = input.data[13];
+        output.a53 = input.data[14];
+        output.a61 = input.data[15];
+        output.a62 = input.data[16];
+        output.a63 = input.data[17];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix2_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix2_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(2,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 2 )
+            throw new IllegalArgumentException("Length of input vector is not 2.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix3_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix3_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(3,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 3 )
+            throw new IllegalArgumentException("Length of input vector is not 3.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix4_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix4_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(4,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 4 )
+            throw new IllegalArgumentException("Length of input vector is not 4.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix5_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix5_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(5,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 5 )
+            throw new IllegalArgumentException("Length of input vector is not 5.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix6_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix6_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(6,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 6 )
+            throw new IllegalArgumentException("Length of input vector is not 6.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix7_64F} into {@link DenseMatrix64F}.
      *
      * @param input Input matrix.
      * @param output Output matrix.  If null a new matrix will be declared.
      * @return Converted matrix.
      */
-    public static DenseMatrix64F convert( FixedMatrix2_64F input , DenseMatrix64F output ) {
+    public static DenseMatrix64F convert( FixedMatrix7_64F input , DenseMatrix64F output ) {
         if( output == null)
-            output = new DenseMatrix64F(2,1);
+            output = new DenseMatrix64F(7,1);
 
         if( output.getNumRows() != 1 && output.getNumCols() != 1 )
             throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
         int length = Math.max(output.getNumRows(),output.getNumCols());
-        if( length != 2 )
-            throw new IllegalArgumentException("Length of input vector is not 2.  It is "+length);
+        if( length != 7 )
+            throw new IllegalArgumentException("Length of input vector is not 7.  It is "+length);
 
         output.data[0] = input.a1;
         output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
 
         return output;
     }
 
     /**
-     * Converts {@link FixedMatrix3_64F} into {@link DenseMatrix64F}.
+     * Converts {@link FixedMatrix8_64F} into {@link DenseMatrix64F}.
      *
      * @param input Input matrix.
      * @param output Output matrix.  If null a new matrix will be declared.
      * @return Converted matrix.
      */
-    public static DenseMatrix64F convert( FixedMatrix3_64F input , DenseMatrix64F output ) {
+    public static DenseMatrix64F convert( FixedMatrix8_64F input , DenseMatrix64F output ) {
         if( output == null)
-            output = new DenseMatrix64F(3,1);
+            output = new DenseMatrix64F(8,1);
 
         if( output.getNumRows() != 1 && output.getNumCols() != 1 )
             throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
         int length = Math.max(output.getNumRows(),output.getNumCols());
-        if( length != 3 )
-            throw new IllegalArgumentException("Length of input vector is not 3.  It is "+length);
+        if( length != 8 )
+            throw new IllegalArgumentException("Length of input vector is not 8.  It is "+length);
 
         output.data[0] = input.a1;
         output.data[1] = input.a2;
         output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
 
         return output;
     }
 
     /**
-     * Converts {@link FixedMatrix4_64F} into {@link DenseMatrix64F}.
+     * Converts {@link FixedMatrix9_64F} into {@link DenseMatrix64F}.
      *
      * @param input Input matrix.
      * @param output Output matrix.  If null a new matrix will be declared.
      * @return Converted matrix.
      */
-    public static DenseMatrix64F convert( FixedMatrix4_64F input , DenseMatrix64F output ) {
+    public static DenseMatrix64F convert( FixedMatrix9_64F input , DenseMatrix64F output ) {
         if( output == null)
-            output = new DenseMatrix64F(4,1);
+            output = new DenseMatrix64F(9,1);
 
         if( output.getNumRows() != 1 && output.getNumCols() != 1 )
             throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
         int length = Math.max(output.getNumRows(),output.getNumCols());
-        if( length != 4 )
-            throw new IllegalArgumentException("Length of input vector is not 4.  It is "+length);
+        if( length != 9 )
+            throw new IllegalArgumentException("Length of input vector is not 9.  It is "+length);
 
         output.data[0] = input.a1;
         output.data[1] = input.a2;
         output.data[2] = input.a3;
         output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+        output.data[8] = input.a9;
 
         return output;
     }
 
     /**
-     * Converts {@link FixedMatrix5_64F} into {@link DenseMatrix64F}.
+     * Converts {@link FixedMatrix10_64F} into {@link DenseMatrix64F}.
      *
      * @param input Input matrix.
      * @param output Output matrix.  If null a new matrix will be declared.
      * @return Converted matrix.
      */
-    public static DenseMatrix64F convert( FixedMatrix5_64F input , DenseMatrix64F output ) {
+    public static DenseMatrix64F convert( FixedMatrix10_64F input , DenseMatrix64F output ) {
         if( output == null)
-            output = new DenseMatrix64F(5,1);
+            output = new DenseMatrix64F(10,1);
 
         if( output.getNumRows() != 1 && output.getNumCols() != 1 )
             throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
         int length = Math.max(output.getNumRows(),output.getNumCols());
-        if( length != 5 )
-            throw new IllegalArgumentException("Length of input vector is not 5.  It is "+length);
+        if( length != 10 )
+            throw new IllegalArgumentException("Length of input vector is not 10.  It is "+length);
 
         output.data[0] = input.a1;
         output.data[1] = input.a2;
         output.data[2] = input.a3;
         output.data[3] = input.a4;
         output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+        output.data[8] = input.a9;
+        output.data[9] = input.a10;
 
         return output;
     }
 
     /**
-     * Converts {@link FixedMatrix6_64F} into {@link DenseMatrix64F}.
+     * Converts {@link FixedMatrix11_64F} into {@link DenseMatrix64F}.
      *
      * @param input Input matrix.
      * @param output Output matrix.  If null a new matrix will be declared.
      * @return Converted matrix.
      */
-    public static DenseMatrix64F convert( FixedMatrix6_64F input , DenseMatrix64F output ) {
+    public static DenseMatrix64F convert( FixedMatrix11_64F input , DenseMatrix64F output ) {
         if( output == null)
-            output = new DenseMatrix64F(6,1);
+            output = new DenseMatrix64F(11,1);
 
         if( output.getNumRows() != 1 && output.getNumCols() != 1 )
             throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
         int length = Math.max(output.getNumRows(),output.getNumCols());
-        if( length != 6 )
-            throw new IllegalArgumentException("Length of input vector is not 6.  It is "+length);
+        if( length != 11 )
+            throw new IllegalArgumentException("Length of input vector is not 11.  It is "+length);
+
+        output.data[0] = input.a1;
+        output.data[1] = input.a2;
+        output.data[2] = input.a3;
+        output.data[3] = input.a4;
+        output.data[4] = input.a5;
+        output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+        output.data[8] = input.a9;
+        output.data[9] = input.a10;
+        output.data[10] = input.a11;
+
+        return output;
+    }
+
+    /**
+     * Converts {@link FixedMatrix12_64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( FixedMatrix12_64F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(12,1);
+
+        if( output.getNumRows() != 1 && output.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(output.getNumRows(),output.getNumCols());
+        if( length != 12 )
+            throw new IllegalArgumentException("Length of input vector is not 12.  It is "+length);
 
         output.data[0] = input.a1;
         output.data[1] = input.a2;
@@ -549,6 +2237,12 @@ public class ConvertMatrixType {
         output.data[3] = input.a4;
         output.data[4] = input.a5;
         output.data[5] = input.a6;
+        output.data[6] = input.a7;
+        output.data[7] = input.a8;
+        output.data[8] = input.a9;
+        output.data[9] = input.a10;
+        output.data[10] = input.a11;
+        output.data[11] = input.a12;
 
         return output;
     }
@@ -678,6 +2372,189 @@ public class ConvertMatrixType {
         return output;
     }
 
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix7_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix7_64F convert( DenseMatrix64F input , FixedMatrix7_64F output ) {
+        if( output == null)
+            output = new FixedMatrix7_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 7 )
+            throw new IllegalArgumentException("Length of input vector is not 7.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix8_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix8_64F convert( DenseMatrix64F input , FixedMatrix8_64F output ) {
+        if( output == null)
+            output = new FixedMatrix8_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 8 )
+            throw new IllegalArgumentException("Length of input vector is not 8.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix9_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix9_64F convert( DenseMatrix64F input , FixedMatrix9_64F output ) {
+        if( output == null)
+            output = new FixedMatrix9_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 9 )
+            throw new IllegalArgumentException("Length of input vector is not 9.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+        output.a9 = input.data[8];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix10_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix10_64F convert( DenseMatrix64F input , FixedMatrix10_64F output ) {
+        if( output == null)
+            output = new FixedMatrix10_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 10 )
+            throw new IllegalArgumentException("Length of input vector is not 10.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+        output.a9 = input.data[8];
+        output.a10 = input.data[9];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix11_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix11_64F convert( DenseMatrix64F input , FixedMatrix11_64F output ) {
+        if( output == null)
+            output = new FixedMatrix11_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 11 )
+            throw new IllegalArgumentException("Length of input vector is not 11.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+        output.a9 = input.data[8];
+        output.a10 = input.data[9];
+        output.a11 = input.data[10];
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link FixedMatrix12_64F}
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static FixedMatrix12_64F convert( DenseMatrix64F input , FixedMatrix12_64F output ) {
+        if( output == null)
+            output = new FixedMatrix12_64F();
+
+        if( input.getNumRows() != 1 && input.getNumCols() != 1 )
+            throw new IllegalArgumentException("One row or column must have a length of 1 for it to be a vector");
+        int length = Math.max(input.getNumRows(),input.getNumCols());
+        if( length != 12 )
+            throw new IllegalArgumentException("Length of input vector is not 12.  It is "+length);
+
+        output.a1 = input.data[0];
+        output.a2 = input.data[1];
+        output.a3 = input.data[2];
+        output.a4 = input.data[3];
+        output.a5 = input.data[4];
+        output.a6 = input.data[5];
+        output.a7 = input.data[6];
+        output.a8 = input.data[7];
+        output.a9 = input.data[8];
+        output.a10 = input.data[9];
+        output.a11 = input.data[10];
+        output.a12 = input.data[11];
+
+        return output;
+    }
+
     /**
      * Converts {@link DenseMatrix64F} into {@link BlockMatrix64F}
      *
@@ -700,4 +2577,74 @@ public class ConvertMatrixType {
     public static DenseMatrix64F convert( BlockMatrix64F input , DenseMatrix64F output ) {
         return BlockMatrixOps.convert(input,output);
     }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link SparseMatrixCSC64F}.  Only non-zero elements are saved.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static SparseMatrixCSC64F convert( DenseMatrix64F input , SparseMatrixCSC64F output ) {
+        return SparseMatrixOps.convert(input,output);
+    }
+
+    /**
+     * Converts {@link SparseMatrixCSC64F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( SparseMatrixCSC64F input , DenseMatrix64F output ) {
+        return SparseMatrixOps.convert(input,output);
+    }
+
+    /**
+     * Converts {@link DenseMatrix64F} into {@link DenseMatrix32F}.  Precision is lost in the conversion.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix32F convert( DenseMatrix64F input , DenseMatrix32F output ) {
+        if( output == null)
+            output = new DenseMatrix32F(input.numRows,input.numCols);
+
+        if( input.numRows != output.numRows )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.numCols != output.numCols )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        final int N = input.getNumElements();
+        for( int i = 0; i < N; i++ ) {
+            output.data[i] = (float)input.data[i];
+        }
+
+        return output;
+    }
+
+    /**
+     * Converts {@link DenseMatrix32F} into {@link DenseMatrix64F}.
+     *
+     * @param input Input matrix.
+     * @param output Output matrix.  If null a new matrix will be declared.
+     * @return Converted matrix.
+     */
+    public static DenseMatrix64F convert( DenseMatrix32F input , DenseMatrix64F output ) {
+        if( output == null)
+            output = new DenseMatrix64F(input.numRows,input.numCols);
+
+        if( input.numRows != output.numRows )
+            throw new IllegalArgumentException("Number of rows do not match");
+        if( input.numCols != output.numCols )
+            throw new IllegalArgumentException("Number of columns do not match");
+
+        final int N = input.getNumElements();
+        for( int i = 0; i < N; i++ ) {
+            output.data[i] = input.data[i];
+        }
+
+        return output;
+    }
 }
@@ -21,10 +21,12 @@ package org.ejml.ops;
 import org.ejml.UtilEjml;
 import org.ejml.alg.dense.decomposition.eig.EigenPowerMethod;
 import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.alg.krylov.ThickRestartLanczos;
 import org.ejml.data.Complex64F;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.data.Eigenpair;
 import org.ejml.factory.LinearSolverFactory;
+import org.ejml.interfaces.LinearOperator64F;
 import org.ejml.interfaces.decomposition.EigenDecomposition;
 import org.ejml.interfaces.linsol.LinearSolver;
 
@@ -193,6 +195,40 @@ public class EigenOps {
         return null;//power.getEigenVector();
     }
 
+    /**
+     * <p>
+     * Computes the k largest or smallest eigenpairs of a symmetric matrix using the thick restart Lanczos
+     * method.  Only products between the matrix and vectors are computed, which makes this much faster
+     * than a full eigen decomposition when k is small.  Sparse and implicitly defined matrices can be
+     * processed by implementing {@link LinearOperator64F}.
+     * </p>
+     *
+     * @see ThickRestartLanczos
+     *
+     * @param A Symmetric linear operator. Not modified.
+     * @param k Number of eigenpairs which are to be computed.
+     * @param largest If true then the largest eigenvalues are found, otherwise the smallest.
+     * @return The eigenpairs, largest first or smallest first.  null if it failed to converge.
+     */
+    public static Eigenpair[] extremeEigenpairs( LinearOperator64F A , int k , boolean largest ) {
+        ThickRestartLanczos alg = new ThickRestartLanczos();
+
+        if( !alg.process(A,k,largest) )
+            return null;
+
+        double values[] = alg.getEigenvalues();
+        DenseMatrix64F vectors = alg.getEigenvectors();
+
+        Eigenpair ret[] = new Eigenpair[k];
+        for( int i = 0; i < k; i++ ) {
+            DenseMatrix64F v = new DenseMatrix64F(A.getNumRows(),1);
+            CommonOps.extract(vectors,0,vectors.numRows,i,i+1,v,0,0);
+            ret[i] = new Eigenpair(values[i],v);
+        }
+
+        return ret;
+    }
+
     /**
      * <p>
      * Generates a bound for the largest eigen value of the provided matrix using Perron-Frobenius
@@ -19,8 +19,10 @@
 package org.ejml.ops;
 
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.Matrix32F;
 import org.ejml.data.Matrix64F;
 import org.ejml.data.ReshapeMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
 
 import java.io.*;
 
@@ -168,7 +170,13 @@ public class MatrixIO {
 
     public static void print(PrintStream out , Matrix64F mat , String format ) {
 
-        String type = ReshapeMatrix64F.class.isAssignableFrom(mat.getClass()) ? "dense" : "dense fixed";
+        String type;
+        if( ReshapeMatrix64F.class.isAssignableFrom(mat.getClass()) )
+            type = "dense";
+        else if( mat instanceof SparseMatrixCSC64F )
+            type = "sparse CSC";
+        else
+            type = "dense fixed";
 
         out.println("Type = "+type+" , numRows = "+mat.getNumRows()+" , numCols = "+mat.getNumCols());
 
@@ -182,6 +190,30 @@ public class MatrixIO {
         }
     }
 
+    public static void print( PrintStream out , Matrix32F mat ) {
+        print(out,mat,6,3);
+    }
+
+    public static void print(PrintStream out, Matrix32F mat , int numChar , int precision ) {
+        String format = "%"+numChar+"."+precision+"f ";
+
+        print(out, mat,format);
+    }
+
+    public static void print(PrintStream out , Matrix32F mat , String format ) {
+
+        out.println("Type = dense32 , numRows = "+mat.getNumRows()+" , numCols = "+mat.getNumCols());
+
+        format += " ";
+
+        for( int y = 0; y < mat.getNumRows(); y++ ) {
+            for( int x = 0; x < mat.getNumCols(); x++ ) {
+                out.printf(format,mat.get(y,x));
+            }
+            out.println();
+        }
+    }
+
     public static void print( PrintStream out , ReshapeMatrix64F mat , String format ,
                               int row0 , int row1, int col0 , int col1 ) {
         out.println("Type = submatrix , rows "+row0+" to "+row1+"  columns "+col0+" to "+col1);
@@ -19,6 +19,11 @@
 package org.ejml.ops;
 
 import org.ejml.UtilEjml;
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionCommon_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionBase_D64;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+import org.ejml.alg.dense.linsol.ConditionEstimatorP1_D64;
 import org.ejml.data.D1Matrix64F;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.data.RowD1Matrix64F;
@@ -159,6 +164,64 @@ public class NormOps {
         return largest/smallest;
     }
 
+    /**
+     * <p>
+     * Estimates the p = 1 condition number of a square matrix.  It is computed from the LU decomposition of A
+     * and the estimate of ||A<sup>-1</sup>||<sub>1</sub> from {@link ConditionEstimatorP1_D64}.  This is
+     * much faster than {@link #conditionP2(DenseMatrix64F)}, which requires an SVD.  If a decomposition of A is
+     * already available then use one of the other variants of this function, which are O(n<sup>2</sup>).
+     * </p>
+     *
+     * @param A Square matrix. Not modified.
+     * @return Estimate of the condition number.  Infinity if A is singular.
+     */
+    public static double conditionP1Estimate( DenseMatrix64F A ) {
+        LUDecompositionAlt_D64 lu = new LUDecompositionAlt_D64();
+        if( !lu.decompose(A) )
+            return Double.POSITIVE_INFINITY;
+        return conditionP1Estimate(A,lu);
+    }
+
+    /**
+     * Estimates the p = 1 condition number of a square matrix from its LU decomposition in O(n<sup>2</sup>).
+     *
+     * @param A The matrix that was decomposed. Not modified.
+     * @param decomp LU decomposition of A.  Not modified.
+     * @return Estimate of the condition number.  Infinity if A is singular.
+     */
+    public static double conditionP1Estimate( DenseMatrix64F A , LUDecompositionBase_D64 decomp ) {
+        return conditionP1(A,new ConditionEstimatorP1_D64().inverseNorm(decomp));
+    }
+
+    /**
+     * Estimates the p = 1 condition number of a symmetric positive definite matrix from its Cholesky
+     * decomposition in O(n<sup>2</sup>).
+     *
+     * @param A The matrix that was decomposed.  Must not have been modified by the decomposition.
+     * @param decomp Cholesky decomposition of A.  Not modified.
+     * @return Estimate of the condition number.  Infinity if A is singular.
+     */
+    public static double conditionP1Estimate( DenseMatrix64F A , CholeskyDecompositionCommon_D64 decomp ) {
+        return conditionP1(A,new ConditionEstimatorP1_D64().inverseNorm(decomp));
+    }
+
+    /**
+     * Estimates the p = 1 condition number of a square matrix from its QR decomposition in O(n<sup>2</sup>).
+     *
+     * @param A The matrix that was decomposed. Not modified.
+     * @param decomp QR decomposition of A.  Not modified.
+     * @return Estimate of the condition number.  Infinity if A is singular.
+     */
+    public static double conditionP1Estimate( DenseMatrix64F A , QRDecompositionHouseholderColumn_D64 decomp ) {
+        return conditionP1(A,new ConditionEstimatorP1_D64().inverseNorm(decomp));
+    }
+
+    private static double conditionP1( DenseMatrix64F A , double normInv ) {
+        if( Double.isInfinite(normInv) )
+            return Double.POSITIVE_INFINITY;
+        return inducedP1(A)*normInv;
+    }
+
     /**
      * <p>
      * This implementation of the Frobenius norm is a straight forward implementation and can
@@ -392,18 +455,22 @@ public class NormOps {
      * @return The norm.
      */
     public static double inducedP1( DenseMatrix64F A ) {
-        double max = 0;
-
         int m = A.numRows;
         int n = A.numCols;
 
-        for( int j = 0; j < n; j++ ) {
-            double total = 0;
-            for( int i = 0; i < m; i++ ) {
-                total += Math.abs(A.get(i,j));
+        // sum along the rows to avoid cache misses
+        double total[] = new double[ n ];
+        int index = 0;
+        for( int i = 0; i < m; i++ ) {
+            for( int j = 0; j < n; j++ ) {
+                total[j] += Math.abs(A.data[index++]);
             }
-            if( total > max ) {
-                max = total;
+        }
+
+        double max = 0;
+        for( int j = 0; j < n; j++ ) {
+            if( total[j] > max ) {
+                max = total[j];
             }
         }
 
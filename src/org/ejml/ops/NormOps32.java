@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.ops;
+
+import org.ejml.data.DenseMatrix32F;
+
+
+/**
+ * <p>
+ * Norms are a measure of the size of a vector or a matrix.  One typical application is in error analysis.
+ * </p>
+ * <p>
+ * Vector norms have the following properties:
+ * <ol>
+ * <li>||x|| > 0 if x &ne; 0 and ||0|| = 0</li>
+ * <li>||&alpha;x|| = |&alpha;| ||x||</li>
+ * <li>||x+y|| &le; ||x|| + ||y||</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * Matrix norms have the following properties:
+ * <ol>
+ * <li>||A|| > 0 if A &ne; 0 where A &isin; &real; <sup>m &times; n</sup></li>
+ * <li> || &alpha; A || = |&alpha;| ||A|| where A &isin; &real; <sup>m &times; n</sup></li>
+ * <li>||A+B|| &le; ||A|| + ||B|| where A and B are &isin; &real; <sup>m &times; n</sup></li>
+ * <li>||AB|| &le; ||A|| ||B|| where A and B are &isin; &real; <sup>m &times; m</sup></li>
+ * </ol>
+ * Note that the last item in the list only applies to square matrices.
+ * </p>
+ *
+ * <p>
+ * Matrix norms can be induced from vector norms as is shown below:<br>
+ * <br>
+ * ||A||<sub>M</sub> = max<sub>x&ne;0</sub>||Ax||<sub>v</sub>/||x||<sub>v</sub><br>
+ * <br>
+ * where ||.||<sub>M</sub> is the induced matrix norm for the vector norm ||.||<sub>v</sub>.
+ * </p>
+ *
+ * <p>
+ * By default implementations that try to mitigate overflow/underflow are used.  If the word fast is
+ * found before a function's name that means it does not mitigate those issues, but runs a bit faster.
+ * </p>
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from NormOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class NormOps32 {
+
+    /**
+     * <p>
+     * Computes the induced p = 1 matrix norm.<br>
+     * <br>
+     * ||A||<sub>1</sub>= max(j=1 to n; sum(i=1 to m; |a<sub>ij</sub>|))
+     * </p>
+     *
+     * @param A Matrix. Not modified.
+     * @return The norm.
+     */
+    public static float inducedP1( DenseMatrix32F A ) {
+        int m = A.numRows;
+        int n = A.numCols;
+
+        // sum along the rows to avoid cache misses
+        float total[] = new float[ n ];
+        int index = 0;
+        for( int i = 0; i < m; i++ ) {
+            for( int j = 0; j < n; j++ ) {
+                total[j] += Math.abs(A.data[index++]);
+            }
+        }
+
+        float max = 0;
+        for( int j = 0; j < n; j++ ) {
+            if( total[j] > max ) {
+                max = total[j];
+            }
+        }
+
+        return max;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.ops;
+
+import org.ejml.data.D1Matrix32F;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.data.RowD1Matrix32F;
+
+
+/**
+ * This contains less common or more specialized matrix operations.
+ *
+ * <p>DO NOT MODIFY.  Automatically generated code created by GenerateCode32 from SpecializedOps</p>
+ *
+ * @author Peter Abeles
+ */
+public class SpecializedOps32 {
+
+    /**
+     * Creates a copy of a matrix but swaps the rows as specified by the order array.
+     *
+     * @param order Specifies which row in the dest corresponds to a row in the src. Not modified.
+     * @param src The original matrix. Not modified.
+     * @param dst A Matrix that is a row swapped copy of src. Modified.
+     */
+    public static DenseMatrix32F copyChangeRow( int order[] , DenseMatrix32F src , DenseMatrix32F dst )
+    {
+        if( dst == null ) {
+            dst = new DenseMatrix32F(src.numRows,src.numCols);
+        } else if( src.numRows != dst.numRows || src.numCols != dst.numCols ) {
+            throw new IllegalArgumentException("src and dst must have the same dimensions.");
+        }
+
+        for( int i = 0; i < src.numRows; i++ ) {
+            int indexDst = i*src.numCols;
+            int indexSrc = order[i]*src.numCols;
+
+            System.arraycopy(src.data,indexSrc,dst.data,indexDst,src.numCols);
+        }
+
+        return dst;
+    }
+
+    /**
+     * Copies just the upper or lower triangular portion of a matrix.
+     *
+     * @param src Matrix being copied. Not modified.
+     * @param dst Where just a triangle from src is copied.  If null a new one will be created. Modified.
+     * @param upper If the upper or lower triangle should be copied.
+     * @return The copied matrix.
+     */
+    public static DenseMatrix32F copyTriangle( DenseMatrix32F src , DenseMatrix32F dst , boolean upper ) {
+        if( dst == null ) {
+            dst = new DenseMatrix32F(src.numRows,src.numCols);
+        } else if( src.numRows != dst.numRows || src.numCols != dst.numCols ) {
+            throw new IllegalArgumentException("src and dst must have the same dimensions.");
+        }
+
+        if( upper ) {
+            int N = Math.min(src.numRows,src.numCols);
+            for( int i = 0; i < N; i++ ) {
+                int index = i*src.numCols+i;
+                System.arraycopy(src.data,index,dst.data,index,src.numCols-i);
+            }
+        } else {
+            for( int i = 0; i < src.numRows; i++ ) {
+                int length = Math.min(i+1,src.numCols);
+                int index = i*src.numCols;
+                System.arraycopy(src.data,index,dst.data,index,length);
+            }
+        }
+
+        return dst;
+    }
+
+    /**
+     * <p>
+     * Creates a pivot matrix that exchanges the rows in a matrix:
+     * <br>
+     * A' = P*A<br>
+     * </p>
+     * <p>
+     * For example, if element 0 in 'pivots' is 2 then the first row in A' will be the 3rd row in A.
+     * </p>
+     *
+     * @param ret If null then a new matrix is declared otherwise the results are written to it.  Is modified.
+     * @param pivots Specifies the new order of rows in a matrix.
+     * @param numPivots How many elements in pivots are being used.
+     * @param transposed If the transpose of the matrix is returned.
+     * @return A pivot matrix.
+     */
+    public static DenseMatrix32F pivotMatrix(DenseMatrix32F ret, int pivots[], int numPivots, boolean transposed ) {
+
+        if( ret == null ) {
+            ret = new DenseMatrix32F(numPivots, numPivots);
+        } else {
+            if( ret.numCols != numPivots || ret.numRows != numPivots )
+                throw new IllegalArgumentException("Unexpected matrix dimension");
+            CommonOps32.fill(ret, 0);
+        }
+
+        if( transposed ) {
+            for( int i = 0; i < numPivots; i++ ) {
+                ret.set(pivots[i],i,1);
+            }
+        } else {
+            for( int i = 0; i < numPivots; i++ ) {
+                ret.set(i,pivots[i],1);
+            }
+        }
+
+        return ret;
+    }
+
+    /**
+     * Computes the product of the diagonal elements.  For a diagonal or triangular
+     * matrix this is the determinant.
+     *
+     * @param T A matrix.
+     * @return product of the diagonal elements.
+     */
+    public static float diagProd( RowD1Matrix32F T )
+    {
+        float prod = 1.0f;
+        int N = Math.min(T.numRows,T.numCols);
+        for( int i = 0; i < N; i++ ) {
+            prod *= T.unsafe_get(i,i);
+        }
+
+        return prod;
+    }
+
+    /**
+     * Computes the quality of a triangular matrix, where the quality of a matrix
+     * is defined in {@link org.ejml.interfaces.linsol.LinearSolver#quality()}.  In
+     * this situation the quality os the absolute value of the product of
+     * each diagonal element divided by the magnitude of the largest diagonal element.
+     * If all diagonal elements are zero then zero is returned.
+     *
+     * @param upper if it is upper triangular or not.
+     * @param T A matrix.  @return product of the diagonal elements.
+     * @return the quality of the system.
+     */
+    public static float qualityTriangular(boolean upper, D1Matrix32F T)
+    {
+        int N = Math.min(T.numRows,T.numCols);
+
+        // TODO make faster by just checking the upper triangular portion
+        float max = CommonOps32.elementMaxAbs(T);
+
+        if( max == 0.0f )
+            return 0.0f;
+
+        float quality = 1.0f;
+        for( int i = 0; i < N; i++ ) {
+            quality *= T.unsafe_get(i,i)/max;
+        }
+
+        return Math.abs(quality);
+    }
+
+    /**
+     * Sums up the square of each element in the matrix.  This is equivalent to the
+     * Frobenius norm squared.
+     *
+     * @param m Matrix.
+     * @return Sum of elements squared.
+     */
+    public static float elementSumSq( D1Matrix32F m  ) {
+        float total = 0;
+        
+        int N = m.getNumElements();
+        for( int i = 0; i < N; i++ ) {
+            float d = m.data[i];
+            total += d*d;
+        }
+
+        return total;
+    }
+}
@@ -18,11 +18,13 @@
 
 package org.ejml.simple;
 
+import org.ejml.alg.dense.misc.UnrolledInverseFromMinor;
 import org.ejml.alg.dense.mult.VectorVectorMult;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.data.MatrixIterator;
 import org.ejml.data.ReshapeMatrix64F;
 import org.ejml.factory.SingularMatrixException;
+import org.ejml.interfaces.linsol.LinearSolver;
 import org.ejml.ops.*;
 
 import java.io.ByteArrayOutputStream;
@@ -65,6 +67,22 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      */
     protected abstract T createMatrix( int numRows , int numCols );
 
+    /**
+     * Used internally to create the matrix which stores the results of an operation.  If a
+     * {@link SimpleWorkspace} scope is active then the matrix is recycled from its pool, otherwise
+     * a new matrix is created.  The contents of the returned matrix are not defined.
+     *
+     * @param numRows number of rows in the new matrix.
+     * @param numCols number of columns in the new matrix.
+     * @return Matrix for storing the results.
+     */
+    protected T createResult( int numRows , int numCols ) {
+        SimpleWorkspace ws = SimpleWorkspace.getActive();
+        if( ws == null )
+            return createMatrix(numRows,numCols);
+        return (T)ws.take(this,numRows,numCols);
+    }
+
     /**
      * <p>
      * Returns a reference to the matrix that it uses internally.  This is useful
@@ -77,6 +95,21 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
         return mat;
     }
 
+    /**
+     * <p>
+     * Returns an expression which references this matrix.  Operations performed on the expression are recorded
+     * and only computed when {@link SimpleExpression#eval()} is called, which allows them to be combined
+     * into fewer operations without intermediate matrices.
+     * </p>
+     *
+     * @see SimpleExpression
+     *
+     * @return Lazy expression of this matrix.
+     */
+    public SimpleExpression<T> lazy() {
+        return new SimpleExpression<T>((T)this);
+    }
+
     /**
      * <p>
      * Returns the transpose of this matrix.<br>
@@ -88,7 +121,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return A matrix that is n by m.
      */
     public T transpose() {
-        T ret = createMatrix(mat.numCols,mat.numRows);
+        T ret = createResult(mat.numCols,mat.numRows);
 
         CommonOps.transpose(mat,ret.getMatrix());
 
@@ -111,7 +144,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return The results of this operation.
      */
     public T mult( T b ) {
-        T ret = createMatrix(mat.numRows,b.getMatrix().numCols);
+        T ret = createResult(mat.numRows,b.getMatrix().numCols);
 
         CommonOps.mult(mat,b.getMatrix(),ret.getMatrix());
 
@@ -131,7 +164,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return Kronecker product between this matrix and B.
      */
     public T kron( T B ) {
-        T ret = createMatrix(mat.numRows*B.numRows(),mat.numCols*B.numCols());
+        T ret = createResult(mat.numRows*B.numRows(),mat.numCols*B.numCols());
         CommonOps.kron(mat,B.getMatrix(),ret.getMatrix());
 
         return ret;
@@ -153,9 +186,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return The results of this operation.
      */
     public T plus( T b ) {
-        T ret = copy();
+        T ret = createResult(mat.numRows,mat.numCols);
 
-        CommonOps.addEquals(ret.getMatrix(),b.getMatrix());
+        CommonOps.add(mat,b.getMatrix(),ret.getMatrix());
 
         return ret;
     }
@@ -176,9 +209,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return The results of this operation.
      */
     public T minus( T b ) {
-        T ret = copy();
+        T ret = createResult(mat.numRows,mat.numCols);
 
-        CommonOps.subEquals(ret.getMatrix(),b.getMatrix());
+        CommonOps.sub(mat,b.getMatrix(),ret.getMatrix());
 
         return ret;
     }
@@ -199,9 +232,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return A matrix that contains the results.
      */
     public T plus( double beta , T b ) {
-        T ret = copy();
+        T ret = createResult(mat.numRows,mat.numCols);
 
-        CommonOps.addEquals(ret.getMatrix(),beta,b.getMatrix());
+        CommonOps.add(mat,beta,b.getMatrix(),ret.getMatrix());
 
         return ret;
     }
@@ -244,9 +277,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return The scaled matrix.
      */
     public T scale( double val ) {
-        T ret = copy();
+        T ret = createResult(mat.numRows,mat.numCols);
 
-        CommonOps.scale(val,ret.getMatrix());
+        CommonOps.scale(val,mat,ret.getMatrix());
 
         return ret;
     }
@@ -263,9 +296,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return Matrix with its elements divided by the specified value.
      */
     public T divide( double val ) {
-        T ret = copy();
+        T ret = createResult(mat.numRows,mat.numCols);
 
-        CommonOps.divide(val,ret.getMatrix());
+        CommonOps.divide(val,mat,ret.getMatrix());
 
         return ret;
     }
@@ -289,8 +322,16 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return The inverse of this matrix.
      */
     public T invert() {
-        T ret = createMatrix(mat.numRows,mat.numCols);
-        if( !CommonOps.invert(mat,ret.getMatrix()) ) {
+        T ret = createResult(mat.numRows,mat.numCols);
+        SimpleWorkspace ws = SimpleWorkspace.getActive();
+        if( ws != null && mat.numCols > UnrolledInverseFromMinor.MAX ) {
+            if( mat.numCols != mat.numRows )
+                throw new IllegalArgumentException("Must be a square matrix.");
+            LinearSolver<DenseMatrix64F> solver = ws.solver(mat.numRows,mat.numCols);
+            if( !solver.setA(mat) )
+                throw new SingularMatrixException();
+            solver.invert(ret.getMatrix());
+        } else if( !CommonOps.invert(mat,ret.getMatrix()) ) {
             throw new SingularMatrixException();
         }
         return ret;
@@ -304,7 +345,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return inverse computed using the pseudo inverse.
      */
     public T pseudoInverse() {
-        T ret = createMatrix(mat.numCols,mat.numRows);
+        T ret = createResult(mat.numCols,mat.numRows);
         CommonOps.pinv(mat,ret.getMatrix());
         return ret;
     }
@@ -332,10 +373,17 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      */
     public T solve( T b )
     {
-        T x = createMatrix(mat.numCols,b.getMatrix().numCols);
-
-        if( !CommonOps.solve(mat,b.getMatrix(),x.getMatrix()) )
+        T x = createResult(mat.numCols,b.getMatrix().numCols);
+
+        SimpleWorkspace ws = SimpleWorkspace.getActive();
+        if( ws != null ) {
+            LinearSolver<DenseMatrix64F> solver = ws.solver(mat.numRows,mat.numCols);
+            if( !solver.setA(mat) )
+                throw new SingularMatrixException();
+            solver.solve(b.getMatrix(),x.getMatrix());
+        } else if( !CommonOps.solve(mat,b.getMatrix(),x.getMatrix()) ) {
             throw new SingularMatrixException();
+        }
 
         return x;
     }
@@ -560,7 +608,9 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
     }
 
     /**
-     * Creates and returns a matrix which is idential to this one.
+     * Creates and returns a matrix which is idential to this one.  A new matrix is always created, even
+     * when a {@link SimpleWorkspace} scope is active, so this can be used to keep a result after
+     * the scope ends.
      *
      * @return A new identical matrix.
      */
@@ -666,7 +716,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
         if( x0 == SimpleMatrix.END ) x0 = mat.numCols;
         if( x1 == SimpleMatrix.END ) x1 = mat.numCols;
 
-        T ret = createMatrix(y1-y0,x1-x0);
+        T ret = createResult(y1-y0,x1-x0);
 
         CommonOps.extract(mat,y0,y1,x0,x1,ret.getMatrix(),0,0);
 
@@ -687,7 +737,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
     {
         int length = extractRow ? mat.numCols : mat.numRows;
 
-        T ret = extractRow ? createMatrix(1,length) : createMatrix(length,1);
+        T ret = extractRow ? createResult(1,length) : createResult(length,1);
 
         if( extractRow ) {
             SpecializedOps.subvector(mat,element,0,length,true,0,ret.getMatrix());
@@ -710,7 +760,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
     {
         int N = Math.min(mat.numCols,mat.numRows);
 
-        T diag = createMatrix(N,1);
+        T diag = createResult(N,1);
 
         CommonOps.extractDiag(mat,diag.getMatrix());
 
@@ -816,10 +866,12 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
             int M = Math.max(maxRow,mat.numRows);
             int N = Math.max(maxCol,mat.numCols);
 
-            ret = createMatrix(M,N);
+            ret = createResult(M,N);
+            ret.zero();
             ret.insertIntoThis(0,0,this);
         } else {
-            ret = copy();
+            ret = createResult(mat.numRows,mat.numCols);
+            ret.set((T)this);
         }
 
         ret.insertIntoThis(insertRow,insertCol,B);
@@ -857,7 +909,7 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      */
     public T elementMult( T b )
     {
-        T c = createMatrix(mat.numRows,mat.numCols);
+        T c = createResult(mat.numRows,mat.numCols);
 
         CommonOps.elementMult(mat,b.getMatrix(),c.getMatrix());
 
@@ -874,8 +926,8 @@ public abstract class SimpleBase <T extends SimpleBase> implements Serializable
      * @return A matrix that is the negative of the original.
      */
     public T negative() {
-        T A = copy();
-        CommonOps.changeSign(A.getMatrix());
+        T A = createResult(mat.numRows,mat.numCols);
+        CommonOps.scale(-1,mat,A.getMatrix());
         return A;
     }
 
@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.simple;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Records a chain of {@link SimpleBase} operations instead of computing them immediately.  When
+ * {@link #eval()} is called the chain is rewritten into a sum of scaled matrices and matrix products,
+ * which is then computed with as few calls to {@link CommonOps} as possible.  For example:
+ * </p>
+ *
+ * <pre>
+ * SimpleMatrix D = A.lazy().mult(B).plus(C).scale(2).transpose().eval();
+ * </pre>
+ *
+ * <p>
+ * is computed using a call to multTransAB(2,B,A,D) followed by adding 2*C<sup>T</sup> to D, without declaring
+ * a matrix for each intermediate result.  Rules which are applied:
+ * </p>
+ * <ul>
+ * <li>Scale factors are folded into the alpha of mult() and multAdd() or the coefficients of add().</li>
+ * <li>Transposes are pushed down to the input matrices and handled by the multTrans variants.</li>
+ * <li>Sums of products are computed using multAdd() into the same output matrix.</li>
+ * <li>An expression which is used more than once is only computed once.</li>
+ * </ul>
+ *
+ * <p>
+ * The results are the same as eager evaluation up to round off error, which can differ because
+ * scaling is applied to a product instead of its input.  Input matrices are referenced and not copied,
+ * any changes made to them before eval() is called will be seen in the results.  A product whose
+ * operands are not simple scaled or transposed matrices still requires a temporary matrix for
+ * the operand.  If a {@link SimpleWorkspace} scope is active those temporary and output matrices are taken
+ * from its pool.  For very small matrices the cost of analyzing the expression can be more than what is saved.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SimpleExpression<T extends SimpleBase> {
+
+    // types of nodes in the expression graph
+    private static final int LEAF = 0;
+    private static final int MULT = 1;
+    private static final int ADD = 2;
+    private static final int SCALE = 3;
+    private static final int TRANSPOSE = 4;
+
+    private final int type;
+    // matrix which is used to create new matrices of the correct type
+    private final T template;
+    // input matrix for LEAF
+    private final DenseMatrix64F matrix;
+    // child nodes.  ADD computes left + alpha*right, SCALE alpha*left
+    private final SimpleExpression<T> left;
+    private final SimpleExpression<T> right;
+    private final double alpha;
+
+    private final int numRows;
+    private final int numCols;
+
+    /**
+     * Creates an expression which references the provided matrix.
+     *
+     * @param a The matrix.  Not modified.
+     */
+    public SimpleExpression( T a ) {
+        this(LEAF,a,a.getMatrix(),null,null,1,a.numRows(),a.numCols());
+    }
+
+    private SimpleExpression( int type , T template , DenseMatrix64F matrix ,
+                              SimpleExpression<T> left , SimpleExpression<T> right , double alpha ,
+                              int numRows , int numCols ) {
+        this.type = type;
+        this.template = template;
+        this.matrix = matrix;
+        this.left = left;
+        this.right = right;
+        this.alpha = alpha;
+        this.numRows = numRows;
+        this.numCols = numCols;
+    }
+
+    /**
+     * Records the matrix multiplication of this expression by b.
+     *
+     * @param b Right side of the multiplication.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> mult( SimpleExpression<T> b ) {
+        if( numCols != b.numRows )
+            throw new MatrixDimensionException("The 'a' and 'b' matrices do not have compatible dimensions");
+        return new SimpleExpression<T>(MULT,template,null,this,b,1,numRows,b.numCols);
+    }
+
+    /**
+     * Records the matrix multiplication of this expression by b.
+     *
+     * @param b Right side of the multiplication.  Not modified.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> mult( T b ) {
+        return mult(new SimpleExpression<T>(b));
+    }
+
+    /**
+     * Records the addition of b to this expression.
+     *
+     * @param b Expression being added.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> plus( SimpleExpression<T> b ) {
+        return plus(1,b);
+    }
+
+    /**
+     * Records the addition of b to this expression.
+     *
+     * @param b Matrix being added.  Not modified.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> plus( T b ) {
+        return plus(1,new SimpleExpression<T>(b));
+    }
+
+    /**
+     * Records the addition of beta*b to this expression.
+     *
+     * @param beta Scale factor applied to b.
+     * @param b Expression being added.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> plus( double beta , SimpleExpression<T> b ) {
+        if( numRows != b.numRows || numCols != b.numCols )
+            throw new MatrixDimensionException("The matrices are not all the same dimension.");
+        return new SimpleExpression<T>(ADD,template,null,this,b,beta,numRows,numCols);
+    }
+
+    /**
+     * Records the subtraction of b from this expression.
+     *
+     * @param b Expression being subtracted.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> minus( SimpleExpression<T> b ) {
+        return plus(-1,b);
+    }
+
+    /**
+     * Records the subtraction of b from this expression.
+     *
+     * @param b Matrix being subtracted.  Not modified.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> minus( T b ) {
+        return plus(-1,new SimpleExpression<T>(b));
+    }
+
+    /**
+     * Records the multiplication of each element by 'val'.
+     *
+     * @param val Scale factor.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> scale( double val ) {
+        return new SimpleExpression<T>(SCALE,template,null,this,null,val,numRows,numCols);
+    }
+
+    /**
+     * Records the division of each element by 'val'.  Computed as a multiplication by 1/val.
+     *
+     * @param val Divisor.
+     * @return The new expression.
+     */
+    public SimpleExpression<T> divide( double val ) {
+        return scale(1.0/val);
+    }
+
+    /**
+     * Records changing the sign of each element.
+     *
+     * @return The new expression.
+     */
+    public SimpleExpression<T> negative() {
+        return scale(-1);
+    }
+
+    /**
+     * Records the transpose of this expression.
+     *
+     * @return The new expression.
+     */
+    public SimpleExpression<T> transpose() {
+        return new SimpleExpression<T>(TRANSPOSE,template,null,this,null,1,numCols,numRows);
+    }
+
+    /**
+     * Number of rows in the matrix computed by this expression.
+     */
+    public int numRows() {
+        return numRows;
+    }
+
+    /**
+     * Number of columns in the matrix computed by this expression.
+     */
+    public int numCols() {
+        return numCols;
+    }
+
+    /**
+     * Computes the expression.  A new matrix is always returned, even if the expression is only a
+     * reference to an input matrix.
+     *
+     * @return The results of the expression.
+     */
+    public T eval() {
+        Evaluator e = new Evaluator();
+        e.countReferences(this);
+
+        T ret = (T)template.createResult(numRows,numCols);
+        e.compute(e.terms(this,true),ret.getMatrix());
+        return ret;
+    }
+
+    /**
+     * A single term in the sum which an expression is reduced to.  Either alpha*op(a) or alpha*op(a)*op(b),
+     * where op() is an optional transpose.
+     */
+    private static class Term {
+        double alpha;
+        DenseMatrix64F a;
+        boolean transA;
+        DenseMatrix64F b;
+        boolean transB;
+
+        Term( double alpha , DenseMatrix64F a , boolean transA , DenseMatrix64F b , boolean transB ) {
+            this.alpha = alpha;
+            this.a = a;
+            this.transA = transA;
+            this.b = b;
+            this.transB = transB;
+        }
+
+        boolean isProduct() {
+            return b != null;
+        }
+    }
+
+    /**
+     * State for a single call to eval()
+     */
+    private class Evaluator {
+        // number of times each node is referenced by other nodes
+        Map<SimpleExpression<T>,Integer> references = new IdentityHashMap<SimpleExpression<T>,Integer>();
+        // results of nodes which have already been computed
+        Map<SimpleExpression<T>,DenseMatrix64F> computed = new IdentityHashMap<SimpleExpression<T>,DenseMatrix64F>();
+
+        void countReferences( SimpleExpression<T> node ) {
+            Integer count = references.get(node);
+            references.put(node,count == null ? 1 : count + 1);
+
+            // only traverse a node's children once
+            if( count != null )
+                return;
+            if( node.left != null )
+                countReferences(node.left);
+            if( node.right != null )
+                countReferences(node.right);
+        }
+
+        /**
+         * Reduces a node into a sum of terms.  Nodes which are referenced more than once are computed
+         * once and treated as an input matrix.
+         */
+        List<Term> terms( SimpleExpression<T> node , boolean root ) {
+            if( node.type == LEAF )
+                return single(new Term(1,node.matrix,false,null,false));
+
+            if( !root && references.get(node) > 1 )
+                return single(new Term(1,materialize(node),false,null,false));
+
+            List<Term> ret;
+            switch( node.type ) {
+                case MULT: {
+                    Term a = operand(node.left);
+                    Term b = operand(node.right);
+                    ret = single(new Term(a.alpha*b.alpha,a.a,a.transA,b.a,b.transA));
+                } break;
+
+                case ADD: {
+                    ret = terms(node.left,false);
+                    for( Term t : terms(node.right,false) ) {
+                        t.alpha *= node.alpha;
+                        add(ret,t);
+                    }
+                } break;
+
+                case SCALE:
+                    ret = terms(node.left,false);
+                    for( Term t : ret )
+                        t.alpha *= node.alpha;
+                    break;
+
+                case TRANSPOSE:
+                    ret = terms(node.left,false);
+                    for( Term t : ret ) {
+                        if( t.isProduct() ) {
+                            // (a*b)^T = b^T * a^T
+                            DenseMatrix64F tmp = t.a; t.a = t.b; t.b = tmp;
+                            boolean tmpT = t.transA; t.transA = !t.transB; t.transB = !tmpT;
+                        } else {
+                            t.transA = !t.transA;
+                        }
+                    }
+                    break;
+
+                default:
+                    throw new RuntimeException("Unknown node type");
+            }
+            return ret;
+        }
+
+        /**
+         * Reduces an operand of a multiplication to a single scaled and possibly transposed matrix,
+         * computing it if needed.
+         */
+        Term operand( SimpleExpression<T> node ) {
+            List<Term> t = terms(node,false);
+            if( t.size() == 1 && !t.get(0).isProduct() )
+                return t.get(0);
+
+            DenseMatrix64F m = temporary(node);
+            compute(t,m);
+            return new Term(1,m,false,null,false);
+        }
+
+        DenseMatrix64F materialize( SimpleExpression<T> node ) {
+            DenseMatrix64F m = computed.get(node);
+            if( m == null ) {
+                m = temporary(node);
+                compute(terms(node,true),m);
+                computed.put(node,m);
+            }
+            return m;
+        }
+
+        DenseMatrix64F temporary( SimpleExpression<T> node ) {
+            return template.createResult(node.numRows,node.numCols).getMatrix();
+        }
+
+        /**
+         * Computes the sum of terms and writes it into 'output', which must not reference any of the inputs.
+         */
+        void compute( List<Term> terms , DenseMatrix64F output ) {
+            // products go first so that the output can be initialized by mult()
+            List<Term> sorted = new ArrayList<Term>(terms.size());
+            for( Term t : terms )
+                if( t.isProduct() ) sorted.add(t);
+            for( Term t : terms )
+                if( !t.isProduct() ) sorted.add(t);
+
+            int i = 0;
+            Term first = sorted.get(i++);
+            if( first.isProduct() ) {
+                mult(first, output, false);
+            } else if( first.transA ) {
+                CommonOps.transpose(first.a,output);
+                if( first.alpha != 1 )
+                    CommonOps.scale(first.alpha,output);
+            } else if( i < sorted.size() && !sorted.get(i).transA ) {
+                Term second = sorted.get(i++);
+                CommonOps.add(first.alpha,first.a,second.alpha,second.a,output);
+            } else if( first.alpha == 1 ) {
+                output.set(first.a);
+            } else {
+                CommonOps.scale(first.alpha,first.a,output);
+            }
+
+            for( ; i < sorted.size(); i++ ) {
+                Term t = sorted.get(i);
+                if( t.isProduct() ) {
+                    mult(t,output,true);
+                } else if( t.transA ) {
+                    addEqualsTrans(output,t.alpha,t.a);
+                } else {
+                    CommonOps.addEquals(output,t.alpha,t.a);
+                }
+            }
+        }
+    }
+
+    private static List<Term> single( Term t ) {
+        List<Term> ret = new ArrayList<Term>();
+        ret.add(t);
+        return ret;
+    }
+
+    /**
+     * Adds the term to the list, merging it with an existing term which references the same matrix.
+     */
+    private static void add( List<Term> terms , Term t ) {
+        if( !t.isProduct() ) {
+            for( Term s : terms ) {
+                if( !s.isProduct() && s.a == t.a && s.transA == t.transA ) {
+                    s.alpha += t.alpha;
+                    return;
+                }
+            }
+        }
+        terms.add(t);
+    }
+
+    private static void mult( Term t , DenseMatrix64F c , boolean add ) {
+        if( add ) {
+            if( t.transA ) {
+                if( t.transB ) CommonOps.multAddTransAB(t.alpha,t.a,t.b,c);
+                else CommonOps.multAddTransA(t.alpha,t.a,t.b,c);
+            } else {
+                if( t.transB ) CommonOps.multAddTransB(t.alpha,t.a,t.b,c);
+                else CommonOps.multAdd(t.alpha,t.a,t.b,c);
+            }
+        } else if( t.alpha == 1 ) {
+            if( t.transA ) {
+                if( t.transB ) CommonOps.multTransAB(t.a,t.b,c);
+                else CommonOps.multTransA(t.a,t.b,c);
+            } else {
+                if( t.transB ) CommonOps.multTransB(t.a,t.b,c);
+                else CommonOps.mult(t.a,t.b,c);
+            }
+        } else {
+            if( t.transA ) {
+                if( t.transB ) CommonOps.multTransAB(t.alpha,t.a,t.b,c);
+                else CommonOps.multTransA(t.alpha,t.a,t.b,c);
+            } else {
+                if( t.transB ) CommonOps.multTransB(t.alpha,t.a,t.b,c);
+                else CommonOps.mult(t.alpha,t.a,t.b,c);
+            }
+        }
+    }
+
+    /**
+     * c = c + alpha*a<sup>T</sup>
+     */
+    private static void addEqualsTrans( DenseMatrix64F c , double alpha , DenseMatrix64F a ) {
+        for( int i = 0; i < c.numRows; i++ ) {
+            int indexC = i*c.numCols;
+            for( int j = 0; j < c.numCols; j++ ) {
+                c.data[indexC++] += alpha*a.data[j*a.numCols+i];
+            }
+        }
+    }
+}
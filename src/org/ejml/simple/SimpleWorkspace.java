@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simple;
+
+import org.ejml.alg.dense.linsol.LinearSolverSafe;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.LinearSolverFactory;
+import org.ejml.interfaces.linsol.LinearSolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Recycles the matrices which {@link SimpleBase} creates to store the results of its operations.  Normally
+ * each operation, e.g. mult(), plus(), transpose(), declares a new matrix.  When a workspace scope is active
+ * on the current thread those matrices are instead taken from a pool and are handed back to the pool
+ * when the scope ends.  Code which performs the same sequence of operations each iteration, such as a
+ * control loop, will stop creating garbage after the first iteration.
+ * </p>
+ *
+ * <pre>
+ * try( SimpleWorkspace ws = SimpleWorkspace.begin() ) {
+ *     SimpleMatrix K = P.mult(H.transpose()).mult(S.invert());
+ *     x.set(x.plus(K.mult(y)));
+ * }
+ * </pre>
+ *
+ * <p>
+ * WARNING: A matrix returned by an operation inside of a scope will be overwritten after the scope
+ * ends.  Results which need to be kept must be saved using {@link SimpleBase#set} into a matrix that was
+ * created outside of the scope, or by calling {@link SimpleBase#copy()}, which always declares a new matrix.
+ * </p>
+ *
+ * <p>
+ * Scopes can be nested.  Ending a scope only releases the matrices created since it began.  Each thread has
+ * its own workspace and matrices should not be passed between threads while a scope is active.  Linear
+ * solvers used by invert() and solve() are also saved and reused for matrices of the same shape.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SimpleWorkspace implements AutoCloseable {
+
+    private static final ThreadLocal<SimpleWorkspace> local = new ThreadLocal<SimpleWorkspace>() {
+        @Override
+        protected SimpleWorkspace initialValue() {
+            return new SimpleWorkspace();
+        }
+    };
+
+    // matrices which have been created by this workspace in the order they were requested
+    private List<SimpleBase> matrices = new ArrayList<SimpleBase>();
+    // number of matrices which are currently in use
+    private int numUsed;
+
+    // value of numUsed when each of the active scopes began
+    private int marks[] = new int[10];
+    private int depth;
+
+    // saved linear solvers and the shape of the matrix they were created for
+    private List<SavedSolver> solvers = new ArrayList<SavedSolver>();
+
+    /**
+     * Begins a new scope on the current thread's workspace.  Every call must be matched by
+     * a call to {@link #end()}, which try-with-resources does automatically.
+     *
+     * @return The current thread's workspace.
+     */
+    public static SimpleWorkspace begin() {
+        SimpleWorkspace ws = local.get();
+        if( ws.depth == ws.marks.length ) {
+            int tmp[] = new int[ ws.marks.length*2 ];
+            System.arraycopy(ws.marks,0,tmp,0,ws.depth);
+            ws.marks = tmp;
+        }
+        ws.marks[ws.depth++] = ws.numUsed;
+        return ws;
+    }
+
+    /**
+     * Returns the current thread's workspace if a scope is active or null if one is not.
+     *
+     * @return The active workspace or null.
+     */
+    public static SimpleWorkspace getActive() {
+        SimpleWorkspace ws = local.get();
+        return ws.depth > 0 ? ws : null;
+    }
+
+    /**
+     * Ends the most recent scope.  All the matrices which were requested since it began can now
+     * be reused.
+     */
+    public void end() {
+        if( depth == 0 )
+            throw new IllegalArgumentException("No active scope to end");
+        numUsed = marks[--depth];
+    }
+
+    /**
+     * Discards the current thread's workspace, including all the matrices and solvers it has saved.
+     * Used by unit tests which need to start from an empty workspace.
+     */
+    static void reset() {
+        local.remove();
+    }
+
+    @Override
+    public void close() {
+        end();
+    }
+
+    /**
+     * Returns a matrix with the specified shape and the same type as 'template'.  If possible
+     * a matrix from a previous scope is recycled.  The contents of the returned matrix are not defined.
+     *
+     * @param template A matrix of the desired type.
+     * @param numRows Number of rows in the matrix.
+     * @param numCols Number of columns in the matrix.
+     * @return A matrix which can be used until the active scope ends.
+     */
+    public <T extends SimpleBase> T take( T template , int numRows , int numCols ) {
+        if( depth == 0 )
+            throw new IllegalArgumentException("No active scope");
+
+        T ret;
+        if( numUsed < matrices.size() && matrices.get(numUsed).getClass() == template.getClass() ) {
+            ret = (T)matrices.get(numUsed);
+            ret.getMatrix().reshape(numRows,numCols,false);
+        } else {
+            ret = (T)template.createMatrix(numRows,numCols);
+            if( numUsed < matrices.size() )
+                matrices.set(numUsed,ret);
+            else
+                matrices.add(ret);
+        }
+        numUsed++;
+        return ret;
+    }
+
+    /**
+     * Returns a linear solver for the specified matrix shape.  The same instance is returned each
+     * time the same shape is requested.  The solver will not modify its inputs.
+     *
+     * @param numRows Number of rows in A
+     * @param numCols Number of columns in A
+     * @return A linear solver.
+     */
+    public LinearSolver<DenseMatrix64F> solver( int numRows , int numCols ) {
+        for( int i = 0; i < solvers.size(); i++ ) {
+            SavedSolver s = solvers.get(i);
+            if( s.numRows == numRows && s.numCols == numCols )
+                return s.solver;
+        }
+
+        SavedSolver s = new SavedSolver();
+        s.numRows = numRows;
+        s.numCols = numCols;
+        s.solver = new LinearSolverSafe<DenseMatrix64F>(LinearSolverFactory.general(numRows,numCols));
+        solvers.add(s);
+        return s.solver;
+    }
+
+    /**
+     * Number of matrices which are in use by the active scopes.
+     */
+    public int getNumUsed() {
+        return numUsed;
+    }
+
+    /**
+     * Total number of matrices which have been created by this workspace.
+     */
+    public int getNumCreated() {
+        return matrices.size();
+    }
+
+    private static class SavedSolver {
+        int numRows,numCols;
+        LinearSolver<DenseMatrix64F> solver;
+    }
+}
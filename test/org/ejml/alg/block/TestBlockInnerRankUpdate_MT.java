@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block;
+
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.D1Submatrix64F;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBlockInnerRankUpdate_MT {
+
+    Random rand = new Random(234234);
+
+    int N = 4;
+
+    /**
+     * The results should be identical to the single threaded version
+     */
+    @Test
+    public void symmRankNMinus_U() {
+        for( int length : new int[]{N-1,N,N*7+2,N*20} ) {
+            BlockMatrix64F A = BlockMatrixOps.createRandom(length+N,length+N,-1,1,rand,N);
+            BlockMatrix64F B = BlockMatrixOps.createRandom(N+N-1,length+N,-1,1,rand,N);
+            BlockMatrix64F expected = A.copy();
+
+            D1Submatrix64F subB = new D1Submatrix64F(B,N,B.numRows,N,B.numCols);
+
+            BlockInnerRankUpdate.symmRankNMinus_U(N,
+                    new D1Submatrix64F(expected,N,expected.numRows,N,expected.numCols),subB);
+            BlockInnerRankUpdate_MT.symmRankNMinus_U(N,
+                    new D1Submatrix64F(A,N,A.numRows,N,A.numCols),subB);
+
+            assertTrue(BlockMatrixOps.isEquals(expected,A,0));
+        }
+    }
+
+    /**
+     * The results should be identical to the single threaded version
+     */
+    @Test
+    public void symmRankNMinus_L() {
+        for( int length : new int[]{N-1,N,N*7+2,N*20} ) {
+            BlockMatrix64F A = BlockMatrixOps.createRandom(length+N,length+N,-1,1,rand,N);
+            BlockMatrix64F B = BlockMatrixOps.createRandom(length+N,N+N-1,-1,1,rand,N);
+            BlockMatrix64F expected = A.copy();
+
+            D1Submatrix64F subB = new D1Submatrix64F(B,N,B.numRows,N,B.numCols);
+
+            BlockInnerRankUpdate.symmRankNMinus_L(N,
+                    new D1Submatrix64F(expected,N,expected.numRows,N,expected.numCols),subB);
+            BlockInnerRankUpdate_MT.symmRankNMinus_L(N,
+                    new D1Submatrix64F(A,N,A.numRows,N,A.numCols),subB);
+
+            assertTrue(BlockMatrixOps.isEquals(expected,A,0));
+        }
+    }
+}
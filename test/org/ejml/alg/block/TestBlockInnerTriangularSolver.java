@@ -89,6 +89,9 @@ public class TestBlockInnerTriangularSolver {
 
             if( !name.contains("solve") || name.compareTo("solve") == 0 || name.compareTo("solveBlock") == 0 )
                 continue;
+            // unit diagonal has its own test
+            if( name.compareTo("solveUnitL") == 0 )
+                continue;
 
 //            System.out.println("name = "+name);
 
@@ -166,6 +169,34 @@ public class TestBlockInnerTriangularSolver {
         assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
     }
 
+    /**
+     * The diagonal elements of L should be ignored and assumed to be one
+     */
+    @Test
+    public void solveUnitL() {
+        int offsetL = 2;
+        int offsetB = 3;
+
+        DenseMatrix64F L = createRandomLowerTriangular(4);
+        DenseMatrix64F Lunit = L.copy();
+        for( int i = 0; i < 4; i++ )
+            Lunit.set(i,i,1);
+
+        DenseMatrix64F X = RandomMatrices.createRandom(4,3,rand);
+        DenseMatrix64F B = new DenseMatrix64F(4,3);
+        CommonOps.mult(Lunit,X,B);
+
+        double dataL[] = offsetArray(L.data,offsetL);
+        double dataB[] = offsetArray(B.data,offsetB);
+
+        BlockInnerTriangularSolver.solveUnitL(dataL,dataB,4,3,4,offsetL,offsetB);
+
+        DenseMatrix64F found = new DenseMatrix64F(4,3);
+        System.arraycopy(dataB,offsetB,found.data,0,found.data.length);
+
+        assertTrue(MatrixFeatures.isIdentical(X,found,1e-8));
+    }
+
     private DenseMatrix64F createRandomLowerTriangular( int N ) {
         DenseMatrix64F U = RandomMatrices.createUpperTriangle(N,0,-1,1,rand);
 
@@ -555,4 +555,29 @@ public class TestBlockMatrixOps {
         assertFalse(BlockMatrixOps.blockAligned(r,S));
     }
 
+
+    @Test
+    public void swapRows() {
+        int r = 3;
+        DenseMatrix64F A = RandomMatrices.createRandom(8,10,rand);
+
+        for( int col0 = 0; col0 < 10; col0 += r ) {
+            for( int col1 : new int[]{col0+1,10} ) {
+                if( col1 > 10 )
+                    continue;
+                BlockMatrix64F B = BlockMatrixOps.convert(A,r);
+                BlockMatrixOps.swapRows(B,1,6,col0,col1);
+
+                for( int i = 0; i < 8; i++ ) {
+                    int src = i == 1 ? 6 : (i == 6 ? 1 : i);
+                    for( int j = 0; j < 10; j++ ) {
+                        if( j >= col0 && j < col1 )
+                            assertEquals(A.get(src,j),B.get(i,j),1e-8);
+                        else
+                            assertEquals(A.get(i,j),B.get(i,j),1e-8);
+                    }
+                }
+            }
+        }
+    }
 }
@@ -252,4 +252,33 @@ public class TestBlockTriangularSolver {
 
         return U;
     }
+
+    /**
+     * Solve a system with a unit lower triangular matrix, only the strictly lower portion of L is used
+     */
+    @Test
+    public void solveUnitL() {
+        int r = 3;
+        for( int size = 1; size <= 9; size++ ) {
+            for( int cols = 1; cols <= 7; cols += 3 ) {
+                DenseMatrix64F L = RandomMatrices.createRandom(size,size,-1,1,rand);
+                DenseMatrix64F Lunit = L.copy();
+                for( int i = 0; i < size; i++ ) {
+                    Lunit.set(i,i,1);
+                    for( int j = i+1; j < size; j++ )
+                        Lunit.set(i,j,0);
+                }
+                DenseMatrix64F X = RandomMatrices.createRandom(size,cols,-1,1,rand);
+                DenseMatrix64F B = new DenseMatrix64F(size,cols);
+                CommonOps.mult(Lunit,X,B);
+
+                BlockMatrix64F L_b = BlockMatrixOps.convert(L,r);
+                BlockMatrix64F B_b = BlockMatrixOps.convert(B,r);
+
+                BlockTriangularSolver.solveUnitL(r,new D1Submatrix64F(L_b),new D1Submatrix64F(B_b));
+
+                assertTrue(GenericMatrixOps.isEquivalent(X,B_b,1e-8));
+            }
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.bidiagonal;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.dense.decomposition.bidiagonal.BidiagonalDecompositionRow_D64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.EjmlUnitTests;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBidiagonalDecompositionHouseholder_B64 {
+
+    Random rand = new Random(23423);
+    int r = 3;
+
+    /**
+     * The block and row versions use the same householder reflectors and should produce the same
+     * decomposition
+     */
+    @Test
+    public void compareToRow() {
+        for( int numRows = 1; numRows <= r*3+1; numRows++ ) {
+            for( int numCols = 1; numCols <= r*3+1; numCols++ ) {
+                DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+                checkAgainstRow(A);
+            }
+        }
+    }
+
+    /**
+     * Zero columns will produce reflectors with gamma = 0
+     */
+    @Test
+    public void zeroColumns() {
+        DenseMatrix64F A = RandomMatrices.createRandom(r*3,r*2+1,-1,1,rand);
+        for( int i = 0; i < A.numRows; i++ ) {
+            for( int j = 2; j < A.numCols; j++ )
+                A.set(i,j,0);
+        }
+        checkAgainstRow(A);
+    }
+
+    private void checkAgainstRow( DenseMatrix64F A ) {
+        BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+        BidiagonalDecompositionRow_D64 decomp = new BidiagonalDecompositionRow_D64();
+        assertTrue(decomp.decompose(A.copy()));
+
+        BidiagonalDecompositionHouseholder_B64 decompB = new BidiagonalDecompositionHouseholder_B64();
+        assertTrue(decompB.decompose(Ab));
+
+        // reflectors and the bidiagonal matrix are stored in the same locations
+        EjmlUnitTests.assertEquals(decomp.getUBV(),Ab,1e-8);
+
+        int min = Math.min(A.numRows,A.numCols);
+        for( int i = 0; i < min; i++ ) {
+            assertEquals(decomp.getGammasU()[i],decompB.getGammasU()[i],1e-8);
+            assertEquals(decomp.getGammasV()[i],decompB.getGammasV()[i],1e-8);
+        }
+
+        for( int trans = 0; trans < 2; trans++ ) {
+            for( int compact = 0; compact < 2; compact++ ) {
+                boolean t = trans == 1, c = compact == 1;
+
+                EjmlUnitTests.assertEquals(decomp.getB(null,c),decompB.getB(null,c),1e-8);
+                EjmlUnitTests.assertEquals(decomp.getU(null,t,c),decompB.getU(null,t,c),1e-8);
+                EjmlUnitTests.assertEquals(decomp.getV(null,t,c),decompB.getV(null,t,c),1e-8);
+            }
+        }
+    }
+
+    /**
+     * Decompose matrices of different shapes with the same instance
+     */
+    @Test
+    public void reuse() {
+        BidiagonalDecompositionHouseholder_B64 decompB = new BidiagonalDecompositionHouseholder_B64();
+
+        int shapes[][] = new int[][]{{10,4},{4,10},{7,7},{2,9},{12,12}};
+        for( int[] s : shapes ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(s[0],s[1],-1,1,rand);
+
+            BidiagonalDecompositionRow_D64 decomp = new BidiagonalDecompositionRow_D64();
+            assertTrue(decomp.decompose(A.copy()));
+            assertTrue(decompB.decompose(BlockMatrixOps.convert(A,r)));
+
+            EjmlUnitTests.assertEquals(decomp.getU(null,false,false),decompB.getU(null,false,false),1e-8);
+            EjmlUnitTests.assertEquals(decomp.getV(null,false,false),decompB.getV(null,false,false),1e-8);
+        }
+    }
+}
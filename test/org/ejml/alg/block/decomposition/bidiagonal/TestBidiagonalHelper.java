@@ -18,10 +18,19 @@
 
 package org.ejml.alg.block.decomposition.bidiagonal;
 
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.EjmlUnitTests;
+import org.ejml.ops.RandomMatrices;
+import org.ejml.ops.SpecializedOps;
 import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
+
 
 /**
  * @author Peter Abeles
@@ -31,32 +40,147 @@ public class TestBidiagonalHelper {
     final static int r = 3;
     Random rand = new Random(234);
 
+    int numRows = r*2+2;
+    int numCols = r*3-1;
+
+    @Test
+    public void computeHouseholder() {
+        double u[] = new double[8];
+        for( int i = 0; i < u.length; i++ )
+            u[i] = rand.nextGaussian();
+        DenseMatrix64F x = new DenseMatrix64F(8,1);
+        for( int i = 2; i < 7; i++ )
+            x.data[i] = u[i];
+
+        double gammas[] = new double[3];
+        double found = BidiagonalHelper.computeHouseholder(u,2,7,gammas,1);
+
+        DenseMatrix64F v = new DenseMatrix64F(8,1);
+        for( int i = 2; i < 7; i++ )
+            v.data[i] = u[i];
+        assertEquals(1,v.data[2],1e-8);
+
+        // applying the reflector should zero all but the first element
+        DenseMatrix64F Q = SpecializedOps.createReflector(v,gammas[1]);
+        DenseMatrix64F y = new DenseMatrix64F(8,1);
+        CommonOps.mult(Q,x,y);
+
+        assertEquals(found,y.data[2],1e-8);
+        for( int i = 3; i < 7; i++ )
+            assertEquals(0,y.data[i],1e-8);
+
+        // all zeros
+        for( int i = 0; i < u.length; i++ )
+            u[i] = 0;
+        assertEquals(0,BidiagonalHelper.computeHouseholder(u,2,7,gammas,1),1e-8);
+        assertEquals(0,gammas[1],1e-8);
+        assertEquals(1,u[2],1e-8);
+    }
+
+    @Test
+    public void extractRowCol() {
+        DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+        BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+        double found[] = new double[Math.max(numRows,numCols)];
+        for( int i = 0; i < numRows; i++ ) {
+            for( int start = 0; start < numCols; start++ ) {
+                BidiagonalHelper.extractRow(Ab,i,start,found);
+                for( int j = start; j < numCols; j++ )
+                    assertEquals(A.get(i,j),found[j],1e-8);
+            }
+        }
+        for( int j = 0; j < numCols; j++ ) {
+            for( int start = 0; start < numRows; start++ ) {
+                BidiagonalHelper.extractCol(Ab,start,j,found);
+                for( int i = start; i < numRows; i++ )
+                    assertEquals(A.get(i,j),found[i],1e-8);
+            }
+        }
+    }
 
     @Test
-    public void bidiagOuterBlocks() {
-//        SimpleMatrix A = SimpleMatrix.random(r*2+r-1,r*2+r-1,-1,1,rand);
-//        BlockMatrix64F Ab = BlockMatrixOps.convert(A.getMatrix(),r);
-//
-//        A.print();
-//        BidiagonalDecompositionRow decompTest = new BidiagonalDecompositionRow();
-//        assertTrue( decompTest.decompose(A.getMatrix()) );
-//
-//        double gammasU[] = new double[ r*3 ];
-//        double gammasV[] = new double[ r*3 ];
-//
-//        BidiagonalHelper.bidiagOuterBlocks(r,new D1Submatrix64F(Ab),gammasU,gammasV);
-//
-//        for( int i = 0; i < r; i++ ) {
-//            assertEquals(decompTest.getGammasU()[i],gammasU[i],1e-8);
-//            assertEquals(decompTest.getGammasV()[i],gammasV[i],1e-8);
-//        }
-//
-//        for( int i = 0; i < A.numRows(); i++ ) {
-//            for( int j = 0; j < A.numCols(); j++ ) {
-//                if( i < r && j < r ) {
-//                    assertEquals(A.get(i,j),Ab.get(i,j),1e-8);
-//                }
-//            }
-//        }
+    public void multTransA_vec() {
+        DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+        BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+        double x[] = new double[numRows];
+        for( int i = 0; i < numRows; i++ )
+            x[i] = rand.nextGaussian();
+
+        for( int row0 = 0; row0 < numRows; row0++ ) {
+            for( int col0 = 0; col0 < numCols; col0++ ) {
+                double y[] = new double[numCols];
+                BidiagonalHelper.multTransA_vec(Ab,row0,col0,x,y);
+
+                for( int j = col0; j < numCols; j++ ) {
+                    double expected = 0;
+                    for( int i = row0; i < numRows; i++ )
+                        expected += A.get(i,j)*x[i];
+                    assertEquals(expected,y[j],1e-8);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void mult_vec() {
+        DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+        BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+        double x[] = new double[numCols];
+        for( int i = 0; i < numCols; i++ )
+            x[i] = rand.nextGaussian();
+
+        for( int row0 = 0; row0 < numRows; row0++ ) {
+            for( int col0 = 0; col0 < numCols; col0++ ) {
+                double y[] = new double[numRows];
+                BidiagonalHelper.mult_vec(Ab,row0,col0,x,y);
+
+                for( int i = row0; i < numRows; i++ ) {
+                    double expected = 0;
+                    for( int j = col0; j < numCols; j++ )
+                        expected += A.get(i,j)*x[j];
+                    assertEquals(expected,y[i],1e-8);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void updateSubmatrix() {
+        int num = 2;
+        double U[][] = randomVectors(num,numRows);
+        double X[][] = randomVectors(num,numRows);
+        double Y[][] = randomVectors(num,numCols);
+        double V[][] = randomVectors(num,numCols);
+
+        for( int row0 = 0; row0 < numRows; row0 += 2 ) {
+            for( int col0 = 0; col0 < numCols; col0 += 2 ) {
+                DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+                BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+                BidiagonalHelper.updateSubmatrix(Ab,row0,col0,num,U,Y,X,V);
+
+                for( int i = row0; i < numRows; i++ ) {
+                    for( int j = col0; j < numCols; j++ ) {
+                        double val = A.get(i,j);
+                        for( int k = 0; k < num; k++ )
+                            val -= U[k][i]*Y[k][j] + X[k][i]*V[k][j];
+                        A.set(i,j,val);
+                    }
+                }
+
+                EjmlUnitTests.assertEquals(A,Ab,1e-8);
+            }
+        }
+    }
+
+    private double[][] randomVectors( int num , int length ) {
+        double ret[][] = new double[num][length];
+        for( int i = 0; i < num; i++ )
+            for( int j = 0; j < length; j++ )
+                ret[i][j] = rand.nextGaussian();
+        return ret;
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.chol;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCholeskyOuterForm_MT_B64 {
+
+    Random rand = new Random(1231);
+
+    // size of a block
+    int bl = 5;
+
+    /**
+     * The results should be identical to the single threaded version
+     */
+    @Test
+    public void compareToSingleThreaded() {
+        for( boolean lower : new boolean[]{true,false}) {
+            for( int N : new int[]{bl-2,bl,bl*9+3} ) {
+                DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+
+                BlockMatrix64F expected = BlockMatrixOps.convert(A,bl);
+                BlockMatrix64F found = BlockMatrixOps.convert(A,bl);
+
+                assertTrue(new CholeskyOuterForm_B64(lower).decompose(expected));
+
+                CholeskyOuterForm_MT_B64 alg = new CholeskyOuterForm_MT_B64(lower);
+                assertTrue(alg.decompose(found));
+                assertTrue(lower == alg.isLower());
+
+                assertTrue(BlockMatrixOps.isEquals(expected,found,0));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.hessenberg;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.dense.decomposition.hessenberg.HessenbergSimilarDecomposition_D64;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.EjmlUnitTests;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHessenbergDecompositionHouseholder_B64 {
+
+    Random rand = new Random(23423);
+    int r = 3;
+
+    /**
+     * The householder vectors, gammas, and extracted matrices should be the same as the row
+     * major implementation.
+     */
+    @Test
+    public void compareToRow() {
+        for( int width = 1; width <= r*4+1; width++ ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(width,width,-1,1,rand);
+            BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+            HessenbergSimilarDecomposition_D64 decomp = new HessenbergSimilarDecomposition_D64();
+            assertTrue(decomp.decompose(A));
+
+            HessenbergDecompositionHouseholder_B64 decompB = new HessenbergDecompositionHouseholder_B64();
+            assertTrue(decompB.decompose(Ab));
+
+            DenseMatrix64F expectedQH = decomp.getQH();
+            DenseMatrix64F foundQH = BlockMatrixOps.convert(decompB.getA(),(DenseMatrix64F)null);
+            EjmlUnitTests.assertEquals(expectedQH,foundQH,1e-8);
+
+            for( int i = 0; i < width-2; i++ ) {
+                assertEquals(decomp.getGammas()[i],decompB.getGammas()[i],1e-8);
+            }
+
+            DenseMatrix64F expectedH = decomp.getH(null);
+            DenseMatrix64F foundH = BlockMatrixOps.convert(decompB.getH(null),(DenseMatrix64F)null);
+            EjmlUnitTests.assertEquals(expectedH,foundH,1e-8);
+
+            DenseMatrix64F expectedQ = decomp.getQ(null);
+            DenseMatrix64F foundQ = BlockMatrixOps.convert(decompB.getQ(null),(DenseMatrix64F)null);
+            EjmlUnitTests.assertEquals(expectedQ,foundQ,1e-8);
+        }
+    }
+
+    /**
+     * Columns which are already reduced produce reflectors with a gamma of zero
+     */
+    @Test
+    public void zeroColumns() {
+        int width = r*3+1;
+        DenseMatrix64F A = RandomMatrices.createRandom(width,width,-1,1,rand);
+        for( int i = 3; i < width; i++ )
+            A.set(i,1,0);
+
+        BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+        HessenbergSimilarDecomposition_D64 decomp = new HessenbergSimilarDecomposition_D64();
+        assertTrue(decomp.decompose(A));
+
+        HessenbergDecompositionHouseholder_B64 decompB = new HessenbergDecompositionHouseholder_B64();
+        assertTrue(decompB.decompose(Ab));
+
+        DenseMatrix64F expected = decomp.getQH();
+        DenseMatrix64F found = BlockMatrixOps.convert(decompB.getA(),(DenseMatrix64F)null);
+        EjmlUnitTests.assertEquals(expected,found,1e-8);
+
+        DenseMatrix64F expectedQ = decomp.getQ(null);
+        DenseMatrix64F foundQ = BlockMatrixOps.convert(decompB.getQ(null),(DenseMatrix64F)null);
+        EjmlUnitTests.assertEquals(expectedQ,foundQ,1e-8);
+    }
+
+    /**
+     * Decompose a large matrix then a small one to make sure internal storage is handled correctly
+     */
+    @Test
+    public void reuse() {
+        HessenbergDecompositionHouseholder_B64 decompB = new HessenbergDecompositionHouseholder_B64();
+
+        for( int width : new int[]{r*4,r+2,r*3-1} ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(width,width,-1,1,rand);
+            BlockMatrix64F Ab = BlockMatrixOps.convert(A,r);
+
+            HessenbergSimilarDecomposition_D64 decomp = new HessenbergSimilarDecomposition_D64();
+            assertTrue(decomp.decompose(A));
+            assertTrue(decompB.decompose(Ab));
+
+            DenseMatrix64F expectedQ = decomp.getQ(null);
+            DenseMatrix64F foundQ = BlockMatrixOps.convert(decompB.getQ(null),(DenseMatrix64F)null);
+            EjmlUnitTests.assertEquals(expectedQ,foundQ,1e-8);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.hessenberg;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHessenbergHelper_B64 {
+
+    final static int r = 3;
+    Random rand = new Random(234);
+
+    int numRows = r*2+2;
+    int numCols = r*3-1;
+    int num = 4;
+
+    @Test
+    public void multTransA_vecs() {
+        BlockMatrix64F A = BlockMatrixOps.createRandom(numRows,numCols,-1,1,rand,r);
+        DenseMatrix64F Ad = BlockMatrixOps.convert(A,(DenseMatrix64F)null);
+
+        for( int row0 = 0; row0 < numRows; row0++ ) {
+            for( int col0 = 0; col0 < numCols; col0++ ) {
+                double V[][] = randomVectors(numRows);
+                double W[][] = new double[num][numCols];
+
+                HessenbergHelper_B64.multTransA_vecs(A,row0,col0,num,V,W);
+
+                for( int k = 0; k < num; k++ ) {
+                    for( int col = col0; col < numCols; col++ ) {
+                        double expected = 0;
+                        for( int row = row0; row < numRows; row++ )
+                            expected += V[k][row]*Ad.get(row,col);
+                        assertEquals(expected,W[k][col],1e-8);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void subtractOuter() {
+        for( int row0 = 0; row0 < numRows; row0++ ) {
+            for( int col0 = 0; col0 < numCols; col0++ ) {
+                BlockMatrix64F A = BlockMatrixOps.createRandom(numRows,numCols,-1,1,rand,r);
+                DenseMatrix64F Ad = BlockMatrixOps.convert(A,(DenseMatrix64F)null);
+
+                double U[][] = randomVectors(numRows);
+                double Z[][] = randomVectors(numCols);
+
+                HessenbergHelper_B64.subtractOuter(A,row0,col0,num,U,Z);
+
+                for( int row = 0; row < numRows; row++ ) {
+                    for( int col = 0; col < numCols; col++ ) {
+                        double expected = Ad.get(row,col);
+                        if( row >= row0 && col >= col0 ) {
+                            for( int k = 0; k < num; k++ )
+                                expected -= U[k][row]*Z[k][col];
+                        }
+                        assertEquals(expected,A.get(row,col),1e-8);
+                    }
+                }
+            }
+        }
+    }
+
+    private double[][] randomVectors( int length ) {
+        double V[][] = new double[num][length];
+        for( int k = 0; k < num; k++ )
+            for( int i = 0; i < length; i++ )
+                V[k][i] = rand.nextGaussian();
+        // zero elements should be handled correctly
+        V[1][length/2] = 0;
+        return V;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.decomposition.lu;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
+import org.ejml.alg.generic.GenericMatrixOps;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLUDecompositionRightLooking_B64 {
+
+    Random rand = new Random(1231);
+
+    // size of a block
+    int bl = 3;
+
+    /**
+     * Compares the results against the row major algorithm, which should select the same pivots
+     */
+    @Test
+    public void compareToDense() {
+        for( int numRows = 1; numRows <= bl*4+1; numRows++ ) {
+            for( int numCols = 1; numCols <= bl*4+1; numCols++ ) {
+                DenseMatrix64F A = RandomMatrices.createRandom(numRows,numCols,-1,1,rand);
+
+                LUDecompositionAlt_D64 dense = new LUDecompositionAlt_D64();
+                assertTrue(dense.decompose(A.copy()));
+
+                LUDecompositionRightLooking_B64 alg = new LUDecompositionRightLooking_B64();
+                assertTrue(alg.decompose(BlockMatrixOps.convert(A,bl)));
+
+                int pivot[] = new int[numRows];
+                System.arraycopy(alg.getPivot(),0,pivot,0,numRows);
+                int expected[] = new int[numRows];
+                System.arraycopy(dense.getPivot(),0,expected,0,numRows);
+                assertArrayEquals(expected,pivot);
+
+                assertTrue(GenericMatrixOps.isEquivalent(dense.getLower(null),alg.getLower(null),1e-8));
+                assertTrue(GenericMatrixOps.isEquivalent(dense.getUpper(null),alg.getUpper(null),1e-8));
+                assertTrue(GenericMatrixOps.isEquivalent(dense.getPivot(null),alg.getPivot(null),1e-8));
+
+                if( numRows == numCols )
+                    assertEquals(dense.computeDeterminant(),alg.computeDeterminant(),1e-8);
+            }
+        }
+    }
+
+    @Test
+    public void singular() {
+        BlockMatrix64F A = new BlockMatrix64F(7,7,bl);
+
+        LUDecompositionRightLooking_B64 alg = new LUDecompositionRightLooking_B64();
+        assertTrue(alg.decompose(A));
+        assertTrue(alg.isSingular());
+    }
+}
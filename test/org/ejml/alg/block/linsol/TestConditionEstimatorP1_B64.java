@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.linsol;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.alg.block.decomposition.chol.CholeskyOuterForm_B64;
+import org.ejml.alg.block.decomposition.lu.LUDecompositionRightLooking_B64;
+import org.ejml.alg.block.linsol.chol.BlockCholeskyOuterSolver;
+import org.ejml.alg.block.linsol.lu.BlockLuSolver;
+import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConditionEstimatorP1_B64 {
+
+    Random rand = new Random(234);
+
+    int r = 3;
+
+    ConditionEstimatorP1_B64 alg = new ConditionEstimatorP1_B64();
+
+    @Test
+    public void lu() {
+        for( int N = 1; N < 20; N += 2 ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(N,N,rand);
+            LUDecompositionRightLooking_B64 lu = new LUDecompositionRightLooking_B64();
+            assertTrue(lu.decompose(BlockMatrixOps.convert(A,r)));
+
+            checkEstimate(A, alg.inverseNorm(lu));
+        }
+    }
+
+    @Test
+    public void lu_singular() {
+        DenseMatrix64F A = RandomMatrices.createRandom(7,7,rand);
+        for( int i = 0; i < 7; i++ )
+            A.set(i,4,A.get(i,1));
+
+        LUDecompositionRightLooking_B64 lu = new LUDecompositionRightLooking_B64();
+        lu.decompose(BlockMatrixOps.convert(A,r));
+
+        double found = alg.inverseNorm(lu);
+        assertTrue(Double.isInfinite(found) || found > 1e12);
+    }
+
+    @Test
+    public void chol() {
+        for( int N = 1; N < 20; N += 2 ) {
+            DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+            CholeskyOuterForm_B64 chol = new CholeskyOuterForm_B64(true);
+            assertTrue(chol.decompose(BlockMatrixOps.convert(A,r)));
+
+            checkEstimate(A, alg.inverseNorm(chol));
+        }
+    }
+
+    @Test
+    public void inducedP1() {
+        DenseMatrix64F A = RandomMatrices.createRandom(7,5,-1,1,rand);
+
+        double expected = NormOps.inducedP1(A);
+        double found = ConditionEstimatorP1_B64.inducedP1(BlockMatrixOps.convert(A,r));
+
+        assertEquals(expected,found,1e-12);
+    }
+
+    /**
+     * The block solvers should return the reciprocal condition number in quality()
+     */
+    @Test
+    public void solverQuality() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(11,rand);
+        DenseMatrix64F A_inv = A.copy();
+        assertTrue(CommonOps.invert(A_inv));
+        double expected = 1.0/(NormOps.inducedP1(A)*NormOps.inducedP1(A_inv));
+
+        BlockLuSolver lu = new BlockLuSolver();
+        assertTrue(lu.setA(BlockMatrixOps.convert(A,r)));
+        checkQuality(expected,lu.quality());
+
+        BlockCholeskyOuterSolver chol = new BlockCholeskyOuterSolver();
+        assertTrue(chol.setA(BlockMatrixOps.convert(A,r)));
+        checkQuality(expected,chol.quality());
+    }
+
+    /**
+     * The estimate must be a lower bound and should be within a factor of 3
+     */
+    private void checkEstimate( DenseMatrix64F A , double found ) {
+        DenseMatrix64F A_inv = new DenseMatrix64F(A.numRows,A.numCols);
+        assertTrue(CommonOps.invert(A,A_inv));
+        double expected = NormOps.inducedP1(A_inv);
+
+        assertTrue(found <= expected*(1+1e-8));
+        assertTrue(found >= expected/3);
+    }
+
+    private void checkQuality( double expected , double found ) {
+        assertTrue(found >= expected*(1-1e-8));
+        assertTrue(found <= expected*3);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.block.linsol.lu;
+
+import org.ejml.alg.block.BlockMatrixOps;
+import org.ejml.data.BlockMatrix64F;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBlockLuSolver {
+
+    Random rand = new Random(23423);
+
+    @Test
+    public void testPositiveSolve() {
+        int r = 3;
+        BlockLuSolver solver = new BlockLuSolver();
+
+        for( int i = 1; i <= r*3; i++ ) {
+            for( int k = 1; k <= r*3; k++ ) {
+                BlockMatrix64F A = BlockMatrixOps.createRandom(i,i,-1,1,rand,r);
+                BlockMatrix64F X = BlockMatrixOps.createRandom(i,k,-1,1,rand,r);
+                BlockMatrix64F Y = new BlockMatrix64F(i,k,r);
+                BlockMatrix64F X_found = new BlockMatrix64F(i,k,r);
+
+                // compute the expected solution directly
+                BlockMatrixOps.mult(A,X,Y);
+
+                assertTrue(solver.setA(A.copy()));
+
+                solver.solve(Y,X_found);
+
+                assertTrue(BlockMatrixOps.isEquals(X,X_found,1e-8));
+            }
+        }
+    }
+
+    @Test
+    public void testInvert() {
+        int r = 3;
+        BlockLuSolver solver = new BlockLuSolver();
+
+        for( int i = 1; i <= r*3; i++ ) {
+            BlockMatrix64F A = BlockMatrixOps.createRandom(i,i,-1,1,rand,r);
+
+            BlockMatrix64F A_orig = A.copy();
+            BlockMatrix64F A_inv = new BlockMatrix64F(i,i,r);
+            BlockMatrix64F I = new BlockMatrix64F(i,i,r);
+
+            assertTrue(solver.setA(A));
+            solver.invert(A_inv);
+
+            BlockMatrixOps.mult(A_orig,A_inv,I);
+
+            assertTrue(BlockMatrixOps.isEquals(BlockMatrixOps.identity(i,i,r),I,1e-8));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.chol;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCholeskyUpdate_D64 {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void update() {
+        for( int n = 1; n <= 10; n++ ) {
+            checkUpdate(n,true);
+            checkUpdate(n,false);
+        }
+    }
+
+    @Test
+    public void downdate() {
+        for( int n = 1; n <= 10; n++ ) {
+            checkDowndate(n,true);
+            checkDowndate(n,false);
+        }
+    }
+
+    /**
+     * The downdated matrix is not positive definite.  The factor should not be modified.
+     */
+    @Test
+    public void downdate_notPositiveDefinite() {
+        int n = 5;
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(n,rand);
+        DenseMatrix64F T = factor(A,true);
+        DenseMatrix64F T_orig = T.copy();
+
+        // x*x^T removes more than A has along x
+        double x[] = new double[n];
+        for( int i = 0; i < n; i++ )
+            x[i] = 10*Math.sqrt(A.get(i,i));
+
+        CholeskyUpdate_D64 alg = new CholeskyUpdate_D64();
+        assertFalse(alg.downdate(T,true,x));
+        assertTrue(MatrixFeatures.isIdentical(T_orig,T,0));
+    }
+
+    private void checkUpdate( int n , boolean lower ) {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(n,rand);
+        double x[] = randomVector(n);
+
+        DenseMatrix64F T = factor(A,lower);
+        new CholeskyUpdate_D64().update(T,lower,x);
+
+        DenseMatrix64F expected = A.copy();
+        addOuter(expected,1,x);
+        assertTrue(MatrixFeatures.isIdentical(factor(expected,lower),triangle(T,lower),1e-8));
+    }
+
+    private void checkDowndate( int n , boolean lower ) {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(n,rand);
+        double x[] = randomVector(n);
+
+        // make sure the downdated matrix is positive definite
+        DenseMatrix64F B = A.copy();
+        addOuter(B,1,x);
+
+        DenseMatrix64F T = factor(B,lower);
+        assertTrue(new CholeskyUpdate_D64().downdate(T,lower,x));
+
+        assertTrue(MatrixFeatures.isIdentical(factor(A,lower),triangle(T,lower),1e-8));
+    }
+
+    private DenseMatrix64F factor( DenseMatrix64F A , boolean lower ) {
+        CholeskyDecompositionInner_D64 chol = new CholeskyDecompositionInner_D64(lower);
+        assertTrue(chol.decompose(A.copy()));
+        return chol.getT(null);
+    }
+
+    /**
+     * Zeros the elements outside the triangle
+     */
+    private DenseMatrix64F triangle( DenseMatrix64F T , boolean lower ) {
+        DenseMatrix64F ret = T.copy();
+        for( int i = 0; i < T.numRows; i++ ) {
+            for( int j = 0; j < T.numCols; j++ ) {
+                if( (lower && j > i) || (!lower && j < i) )
+                    ret.set(i,j,0);
+            }
+        }
+        return ret;
+    }
+
+    private double[] randomVector( int n ) {
+        double x[] = new double[n];
+        for( int i = 0; i < n; i++ )
+            x[i] = rand.nextGaussian();
+        return x;
+    }
+
+    private void addOuter( DenseMatrix64F A , double scale , double x[] ) {
+        DenseMatrix64F v = DenseMatrix64F.wrap(x.length,1,x);
+        CommonOps.multAddTransB(scale,v,v,A);
+    }
+}
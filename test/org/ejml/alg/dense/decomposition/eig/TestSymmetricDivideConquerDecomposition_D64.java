@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.eig;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSymmetricDivideConquerDecomposition_D64 extends GeneralEigenDecompositionCheck {
+
+    @Override
+    public EigenDecomposition createDecomposition() {
+        SymmetricDivideConquerDecomposition_D64 alg = new SymmetricDivideConquerDecomposition_D64(computeVectors);
+        // force it to divide even the small matrices used in these tests
+        alg.getDivideConquer().setMinimumSize(2);
+
+        return alg;
+    }
+
+    @Test
+    public void justSymmetricTests() {
+        computeVectors = true;
+
+        checkRandomSymmetric();
+        checkIdentity();
+        checkAllZeros();
+        checkWithSomeRepeatedValuesSymm();
+        checkWithSingularSymm();
+        checkSmallValue(true);
+        checkLargeValue(true);
+
+        computeVectors = false;
+        checkKnownSymmetric_JustValue();
+    }
+
+    /**
+     * Eigenvalues should be in ascending order with and without eigenvectors
+     */
+    @Test
+    public void ascendingOrder() {
+        Random rand = new Random(234);
+        DenseMatrix64F A = RandomMatrices.createSymmetric(30,-1,1,rand);
+
+        for( boolean vectors : new boolean[]{true,false} ) {
+            SymmetricDivideConquerDecomposition_D64 alg = new SymmetricDivideConquerDecomposition_D64(vectors);
+            assertTrue(alg.decompose(A.copy()));
+
+            for( int i = 1; i < A.numRows; i++ ) {
+                assertTrue(alg.getEigenvalue(i-1).real <= alg.getEigenvalue(i).real);
+            }
+        }
+    }
+}
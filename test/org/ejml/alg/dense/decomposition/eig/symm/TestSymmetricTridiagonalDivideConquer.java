@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.decomposition.eig.symm;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSymmetricTridiagonalDivideConquer {
+
+    Random rand = new Random(2345);
+
+    @Test
+    public void random() {
+        for( int N = 1; N <= 60; N += 7 ) {
+            double diag[] = new double[N];
+            double off[] = new double[N];
+            for( int i = 0; i < N; i++ ) {
+                diag[i] = rand.nextGaussian();
+                off[i] = rand.nextGaussian();
+            }
+            checkSolution(N,diag,off,3);
+        }
+    }
+
+    /**
+     * Many repeated eigenvalues will cause almost everything to be deflated
+     */
+    @Test
+    public void repeatedEigenvalues() {
+        int N = 40;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = 2;
+            off[i] = 1;
+        }
+        checkSolution(N,diag,off,4);
+
+        // the matrix is already diagonal
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = i % 3;
+            off[i] = 0;
+        }
+        checkSolution(N,diag,off,4);
+
+        // Wilkinson matrix, which has pairs of nearly identical eigenvalues
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = Math.abs(N/2-i);
+            off[i] = 1;
+        }
+        checkSolution(N,diag,off,4);
+    }
+
+    /**
+     * Off diagonal elements at the split with different signs
+     */
+    @Test
+    public void negativeOffDiagonal() {
+        int N = 30;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = rand.nextGaussian();
+            off[i] = -Math.abs(rand.nextGaussian());
+        }
+        checkSolution(N,diag,off,2);
+    }
+
+    /**
+     * Compare the eigenvalues against the QR algorithm
+     */
+    @Test
+    public void compareToQR() {
+        int N = 50;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = rand.nextGaussian();
+            off[i] = rand.nextGaussian();
+        }
+
+        SymmetricTridiagonalDivideConquer alg = new SymmetricTridiagonalDivideConquer();
+        alg.setMinimumSize(5);
+        double found[] = new double[N];
+        assertTrue(alg.process(N,diag,off,found,new DenseMatrix64F(1,1)));
+
+        SymmetricQrAlgorithm qr = new SymmetricQrAlgorithm();
+        assertTrue(qr.process(N,diag.clone(),off.clone()));
+        double expected[] = new double[N];
+        for( int i = 0; i < N; i++ )
+            expected[i] = qr.getEigenvalue(i);
+        java.util.Arrays.sort(expected);
+
+        for( int i = 0; i < N; i++ )
+            assertEquals(expected[i],found[i],1e-8);
+    }
+
+    /**
+     * The concurrent version should produce identical results
+     */
+    @Test
+    public void concurrent() {
+        int N = 80;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = rand.nextGaussian();
+            off[i] = rand.nextGaussian();
+        }
+
+        SymmetricTridiagonalDivideConquer alg = new SymmetricTridiagonalDivideConquer();
+        alg.setMinimumSize(5);
+        alg.setConcurrentSize(10);
+
+        double expected[] = new double[N];
+        DenseMatrix64F expectedQ = new DenseMatrix64F(1,1);
+        assertTrue(alg.process(N,diag,off,expected,expectedQ));
+
+        boolean concurrent = EjmlParameters.CONCURRENT;
+        try {
+            EjmlParameters.CONCURRENT = true;
+            double found[] = new double[N];
+            DenseMatrix64F foundQ = new DenseMatrix64F(1,1);
+            assertTrue(alg.process(N,diag,off,found,foundQ));
+
+            for( int i = 0; i < N; i++ )
+                assertEquals(expected[i],found[i],0);
+            assertTrue(MatrixFeatures.isIdentical(expectedQ,foundQ,0));
+        } finally {
+            EjmlParameters.CONCURRENT = concurrent;
+        }
+    }
+
+    /**
+     * Checks to see if T*Q = Q*D, Q is orthogonal, and the eigenvalues are sorted
+     */
+    private void checkSolution( int N , double diag[] , double off[] , int minimumSize ) {
+        double diagOrig[] = diag.clone();
+        double offOrig[] = off.clone();
+
+        SymmetricTridiagonalDivideConquer alg = new SymmetricTridiagonalDivideConquer();
+        alg.setMinimumSize(minimumSize);
+
+        double values[] = new double[N];
+        DenseMatrix64F Q = new DenseMatrix64F(1,1);
+        assertTrue(alg.process(N,diag,off,values,Q));
+
+        // input should not be modified
+        for( int i = 0; i < N; i++ ) {
+            assertEquals(diagOrig[i],diag[i],0);
+            assertEquals(offOrig[i],off[i],0);
+        }
+
+        DenseMatrix64F T = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            T.set(i,i,diag[i]);
+            if( i+1 < N ) {
+                T.set(i,i+1,off[i]);
+                T.set(i+1,i,off[i]);
+            }
+        }
+
+        DenseMatrix64F TQ = new DenseMatrix64F(N,N);
+        DenseMatrix64F QD = Q.copy();
+        CommonOps.mult(T,Q,TQ);
+        for( int i = 0; i < N; i++ )
+            for( int j = 0; j < N; j++ )
+                QD.data[i*N+j] *= values[j];
+
+        assertTrue(MatrixFeatures.isIdentical(TQ,QD,1e-8));
+        assertTrue(MatrixFeatures.isOrthogonal(Q,1e-8));
+
+        for( int i = 1; i < N; i++ )
+            assertTrue(values[i-1] <= values[i]);
+    }
+}
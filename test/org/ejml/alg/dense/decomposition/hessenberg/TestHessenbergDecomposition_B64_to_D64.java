@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.hessenberg;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.ejml.alg.dense.decomposition.CheckDecompositionInterface.safeDecomposition;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHessenbergDecomposition_B64_to_D64 {
+
+    Random rand = new Random(5745784);
+
+    /**
+     * Decomposes the matrix, extracts H and Q, then sees if it can recompute A
+     */
+    @Test
+    public void testItAllTogether() {
+        for( int width = 1; width < 12; width++ ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(width,width,rand);
+
+            HessenbergDecomposition_B64_to_D64 decomp = new HessenbergDecomposition_B64_to_D64(3);
+
+            assertTrue(safeDecomposition(decomp,A));
+
+            DenseMatrix64F Q = decomp.getQ(null);
+            DenseMatrix64F H = decomp.getH(null);
+
+            assertTrue(MatrixFeatures.isOrthogonal(Q, UtilEjml.TOLERANCE));
+            for( int i = 2; i < width; i++ ) {
+                for( int j = 0; j < i-1; j++ ) {
+                    assertTrue(H.get(i,j) == 0);
+                }
+            }
+
+            DenseMatrix64F temp = new DenseMatrix64F(width,width);
+            DenseMatrix64F found = new DenseMatrix64F(width,width);
+            CommonOps.mult(Q,H,temp);
+            CommonOps.multTransB(temp,Q,found);
+
+            assertTrue(MatrixFeatures.isIdentical(A,found,UtilEjml.TOLERANCE));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.lq;
+
+import org.ejml.alg.dense.decomposition.CheckDecompositionInterface;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderTran_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.EjmlUnitTests;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLQDecompositionHouseholder_D64 {
+
+    Random rand = new Random(0xff);
+
+    @Test
+    public void testModifiedInput() {
+        CheckDecompositionInterface.checkModifiedInput(new LQDecompositionHouseholder_D64());
+    }
+
+    /**
+     * See if it correctly decomposes a square, tall, or wide matrix.
+     */
+    @Test
+    public void decompositionShape() {
+        checkDecomposition(5, 5 ,false);
+        checkDecomposition(10, 5,false);
+        checkDecomposition(5, 10,false);
+        checkDecomposition(5, 5 ,true);
+        checkDecomposition(10, 5,true);
+        checkDecomposition(5, 10,true);
+    }
+
+    private void checkDecomposition(int height, int width, boolean compact ) {
+        LQDecompositionHouseholder_D64 alg = new LQDecompositionHouseholder_D64();
+
+        DenseMatrix64F A = RandomMatrices.createRandom(height,width,rand);
+
+        assertTrue(alg.decompose(A.copy()));
+
+        int minStride = Math.min(height,width);
+
+        DenseMatrix64F L = new DenseMatrix64F(height,compact ? minStride : width);
+        alg.getL(L, compact);
+        DenseMatrix64F Q = new DenseMatrix64F(compact ? minStride : width,width);
+        alg.getQ(Q, compact);
+
+        // the rows of Q should be orthonormal and L lower triangular
+        DenseMatrix64F QQt = new DenseMatrix64F(Q.numRows,Q.numRows);
+        CommonOps.multTransB(Q,Q,QQt);
+        assertTrue(MatrixFeatures.isIdentity(QQt,1e-8));
+        for( int i = 0; i < L.numRows; i++ ) {
+            for( int j = i+1; j < L.numCols; j++ ) {
+                assertTrue(L.get(i,j) == 0 );
+            }
+        }
+
+        DenseMatrix64F A_found = new DenseMatrix64F(height,width);
+        CommonOps.mult(L,Q,A_found);
+
+        EjmlUnitTests.assertEquals(A,A_found,1e-8);
+    }
+
+    /**
+     * LQ of A is the transpose of the QR of A<sup>T</sup> and both use the same algorithm
+     */
+    @Test
+    public void compareToQrTran() {
+        DenseMatrix64F A = RandomMatrices.createRandom(4,7,rand);
+        DenseMatrix64F At = new DenseMatrix64F(7,4);
+        CommonOps.transpose(A,At);
+
+        LQDecompositionHouseholder_D64 lq = new LQDecompositionHouseholder_D64();
+        QRDecompositionHouseholderTran_D64 qr = new QRDecompositionHouseholderTran_D64();
+
+        assertTrue(lq.decompose(A.copy()));
+        assertTrue(qr.decompose(At));
+
+        DenseMatrix64F L = lq.getL(null,true);
+        DenseMatrix64F R = qr.getR(null,true);
+        DenseMatrix64F Q_lq = lq.getQ(null,false);
+        DenseMatrix64F Q_qr = qr.getQ(null,false);
+
+        assertTrue(MatrixFeatures.isIdentical(L,CommonOps.transpose(R,null),1e-12));
+        assertTrue(MatrixFeatures.isIdentical(Q_lq,CommonOps.transpose(Q_qr,null),1e-12));
+    }
+
+    /**
+     * See if passing in a matrix or not providing one to getQ and getL functions
+     * has the same result
+     */
+    @Test
+    public void checkGetNullVersusNot() {
+        LQDecompositionHouseholder_D64 alg = new LQDecompositionHouseholder_D64();
+
+        alg.decompose(RandomMatrices.createRandom(5,10,rand));
+
+        DenseMatrix64F Q_provided = RandomMatrices.createRandom(10,10,rand);
+        DenseMatrix64F L_provided = RandomMatrices.createRandom(5,10,rand);
+
+        assertTrue(L_provided == alg.getL(L_provided, false));
+        assertTrue(Q_provided == alg.getQ(Q_provided, false));
+
+        assertTrue(MatrixFeatures.isEquals(Q_provided,alg.getQ(null,false)));
+        assertTrue(MatrixFeatures.isEquals(L_provided,alg.getL(null,false)));
+    }
+
+    @Test
+    public void checkGetInputSize() {
+        LQDecompositionHouseholder_D64 alg = new LQDecompositionHouseholder_D64();
+
+        alg.decompose(RandomMatrices.createRandom(5,10,rand));
+
+        assertTrue(alg.getL(null,true).numCols == 5);
+        assertTrue(alg.getL(null,false).numCols == 10);
+        assertTrue(alg.getQ(null,true).numRows == 5);
+        assertTrue(alg.getQ(null,false).numRows == 10);
+
+        try {
+            alg.getL(new DenseMatrix64F(5,10),true);
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+
+        try {
+            alg.getQ(new DenseMatrix64F(10,10),true);
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+    }
+
+    @Test
+    public void singular() {
+        DenseMatrix64F A = RandomMatrices.createRandom(3,6,rand);
+        for( int i = 0; i < 6; i++ )
+            A.set(2,i,0);
+
+        assertFalse(new LQDecompositionHouseholder_D64().decompose(A));
+    }
+}
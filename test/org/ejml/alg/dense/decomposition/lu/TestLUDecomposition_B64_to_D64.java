@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.lu;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.decomposition.LUDecomposition;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLUDecomposition_B64_to_D64 extends GeneralLuDecompositionChecks {
+
+    @Override
+    public LUDecomposition<DenseMatrix64F> create(int numRows, int numCols) {
+        // use a small block so that the tests span multiple blocks
+        int blockWidth = EjmlParameters.BLOCK_WIDTH;
+        try {
+            EjmlParameters.BLOCK_WIDTH = 2;
+            return new LUDecomposition_B64_to_D64();
+        } finally {
+            EjmlParameters.BLOCK_WIDTH = blockWidth;
+        }
+    }
+}
@@ -65,6 +65,91 @@ public class TestQrUpdate {
         }
     }
 
+    /**
+     * Inserts a column at every possible location for tall, square, and wide matrices and sees
+     * if Q*R is the augmented A matrix
+     */
+    @Test
+    public void testInsertColumn() {
+        for( int n = 2; n < 7; n++ ) {
+            for( int insert = 0; insert <= n; insert++ ) {
+                checkInsertColumn(5, n, insert);
+            }
+        }
+    }
+
+    @Test
+    public void testRemoveColumn() {
+        for( int n = 2; n < 8; n++ ) {
+            for( int remove = 0; remove < n; remove++ ) {
+                checkRemoveColumn(5, n, remove);
+            }
+        }
+    }
+
+    private void checkInsertColumn(int m, int n, int insert) {
+        DenseMatrix64F A = RandomMatrices.createRandom(m,n,rand);
+        DenseMatrix64F Q = new DenseMatrix64F(m,m);
+        DenseMatrix64F R = new DenseMatrix64F(m,n+1);
+
+        double column[] = RandomMatrices.createRandom(m,1,rand).data;
+
+        // create the modified A
+        DenseMatrix64F A_e = new DenseMatrix64F(m,n+1);
+        SubmatrixOps.setSubMatrix(A,A_e,0,0,0,0,m,insert);
+        for( int i = 0; i < m; i++ )
+            A_e.set(i,insert,column[i]);
+        SubmatrixOps.setSubMatrix(A,A_e,0,insert,0,insert+1,m,n-insert);
+
+        QRDecomposition<DenseMatrix64F> decomp = new QRDecompositionHouseholderColumn_D64();
+
+        decomp.decompose(A);
+        decomp.getQ(Q,false);
+        R.reshape(m,n,false);
+        decomp.getR(R,false);
+
+        QrUpdate update = new QrUpdate(m,n+1);
+
+        update.addColumn(Q,R,column,insert);
+
+        assertTrue(MatrixFeatures.isOrthogonal(Q,1e-8));
+        assertTrue(isUpperTriangle(R,1e-8));
+
+        DenseMatrix64F A_r = new DenseMatrix64F(m,n+1);
+        CommonOps.mult(Q,R,A_r);
+
+        assertTrue(MatrixFeatures.isIdentical(A_e,A_r,1e-8));
+    }
+
+    private void checkRemoveColumn(int m, int n, int remove) {
+        DenseMatrix64F A = RandomMatrices.createRandom(m,n,rand);
+        DenseMatrix64F Q = new DenseMatrix64F(m,m);
+        DenseMatrix64F R = new DenseMatrix64F(m,n);
+
+        // compute what the A matrix would look like without the column
+        DenseMatrix64F A_e = new DenseMatrix64F(m,n-1);
+        SubmatrixOps.setSubMatrix(A,A_e,0,0,0,0,m,remove);
+        SubmatrixOps.setSubMatrix(A,A_e,0,remove+1,0,remove,m,n-remove-1);
+
+        QRDecomposition<DenseMatrix64F> decomp = new QRDecompositionHouseholderColumn_D64();
+
+        decomp.decompose(A);
+        decomp.getQ(Q,false);
+        decomp.getR(R,false);
+
+        QrUpdate update = new QrUpdate(m,n);
+
+        update.deleteColumn(Q,R,remove);
+
+        assertTrue(MatrixFeatures.isOrthogonal(Q,1e-8));
+        assertTrue(isUpperTriangle(R,1e-8));
+
+        DenseMatrix64F A_r = new DenseMatrix64F(m,n-1);
+        CommonOps.mult(Q,R,A_r);
+
+        assertTrue(MatrixFeatures.isIdentical(A_e,A_r,1e-8));
+    }
+
     private void checkRemove(int m, int n, int remove) {
         DenseMatrix64F A = RandomMatrices.createRandom(m,n,rand);
         DenseMatrix64F Q = RandomMatrices.createRandom(m,m,rand);
@@ -140,6 +225,19 @@ public class TestQrUpdate {
         assertTrue(MatrixFeatures.isIdentical(A_e,A_r,1e-6));
     }
 
+    /**
+     * Checks to see if a rectangular matrix is upper triangular
+     */
+    private static boolean isUpperTriangle( DenseMatrix64F R , double tol ) {
+        for( int i = 1; i < R.numRows; i++ ) {
+            for( int j = 0; j < Math.min(i,R.numCols); j++ ) {
+                if( !(Math.abs(R.get(i,j)) <= tol) )
+                    return false;
+            }
+        }
+        return true;
+    }
+
     public static DenseMatrix64F createQMod( DenseMatrix64F Q , int insertRow ) {
         DenseMatrix64F Qmod = new DenseMatrix64F(Q.numRows+1,Q.numCols+1);
 
@@ -19,6 +19,7 @@
 package org.ejml.alg.dense.decomposition.svd;
 
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.Matrix;
 import org.ejml.data.Matrix64F;
 import org.ejml.data.ReshapeMatrix64F;
 import org.ejml.interfaces.decomposition.SingularValueDecomposition;
@@ -147,8 +148,8 @@ public class TestSafeSvd {
         }
 
         @Override
-        public boolean decompose(Matrix64F orig) {
-            this.passedInMatrix = orig;
+        public boolean decompose(Matrix orig) {
+            this.passedInMatrix = (Matrix64F)orig;
             return true;
         }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.ejml.ops.SingularOps;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdIncremental_D64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * Build the matrix a few columns at a time and compare against the decomposition of the whole matrix
+     */
+    @Test
+    public void addColumns() {
+        DenseMatrix64F A = RandomMatrices.createRandom(20,12,rand);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(20);
+        assertTrue(alg.decompose(extract(A,0,20,0,3)));
+        assertTrue(alg.addColumns(extract(A,0,20,3,4)));
+        assertTrue(alg.addColumns(extract(A,0,20,4,12)));
+
+        checkDecomposition(A,alg,12);
+    }
+
+    @Test
+    public void addRows() {
+        DenseMatrix64F A = RandomMatrices.createRandom(15,8,rand);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(20);
+        assertTrue(alg.decompose(extract(A,0,2,0,8)));
+        assertTrue(alg.addRows(extract(A,2,7,0,8)));
+        assertTrue(alg.addRows(extract(A,7,8,0,8)));
+        assertTrue(alg.addRows(extract(A,8,15,0,8)));
+
+        checkDecomposition(A,alg,8);
+    }
+
+    /**
+     * The matrix has a low rank so the truncated decomposition should be exact
+     */
+    @Test
+    public void truncated_lowRank() {
+        int rank = 3;
+        DenseMatrix64F L = RandomMatrices.createRandom(30,rank,rand);
+        DenseMatrix64F R = RandomMatrices.createRandom(rank,25,rand);
+        DenseMatrix64F A = new DenseMatrix64F(30,25);
+        CommonOps.mult(L,R,A);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(rank);
+        assertTrue(alg.decompose(extract(A,0,5,0,25)));
+        for( int row = 5; row < 30; row += 5 )
+            assertTrue(alg.addRows(extract(A,row,row+5,0,25)));
+
+        checkDecomposition(A,alg,rank);
+    }
+
+    /**
+     * Only the largest singular values are kept when the rank is exceeded
+     */
+    @Test
+    public void truncated_maxRank() {
+        DenseMatrix64F A = RandomMatrices.createRandom(20,10,rand);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(4);
+        assertTrue(alg.decompose(extract(A,0,20,0,3)));
+        assertTrue(alg.addColumns(extract(A,0,20,3,10)));
+
+        assertEquals(4,alg.numberOfSingularValues());
+        checkOrthogonal(alg.getU(null,false));
+        checkOrthogonal(alg.getV(null,false));
+
+        // the first update is exact so the largest singular values must match
+        double expected[] = singularValues(A);
+        for( int i = 0; i < 4; i++ )
+            assertEquals(expected[i],alg.getSingularValues()[i],1e-8);
+    }
+
+    @Test
+    public void removeColumn() {
+        DenseMatrix64F A = RandomMatrices.createRandom(12,7,rand);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(20);
+        assertTrue(alg.decompose(A));
+
+        assertTrue(alg.removeColumn(0));
+        DenseMatrix64F expected = extract(A,0,12,1,7);
+        checkDecomposition(expected,alg,6);
+
+        assertTrue(alg.removeColumn(3));
+        DenseMatrix64F expected2 = new DenseMatrix64F(12,5);
+        CommonOps.extract(expected,0,12,0,3,expected2,0,0);
+        CommonOps.extract(expected,0,12,4,6,expected2,0,3);
+        checkDecomposition(expected2,alg,5);
+    }
+
+    @Test
+    public void removeRow() {
+        DenseMatrix64F A = RandomMatrices.createRandom(12,7,rand);
+
+        SvdIncremental_D64 alg = new SvdIncremental_D64(20);
+        assertTrue(alg.decompose(A));
+
+        // sliding window.  add a row to the bottom and remove the oldest
+        DenseMatrix64F B = RandomMatrices.createRandom(1,7,rand);
+        assertTrue(alg.addRows(B));
+        assertTrue(alg.removeRow(0));
+
+        DenseMatrix64F expected = new DenseMatrix64F(12,7);
+        CommonOps.extract(A,1,12,0,7,expected,0,0);
+        CommonOps.insert(B,expected,11,0);
+        checkDecomposition(expected,alg,7);
+    }
+
+    private void checkDecomposition( DenseMatrix64F A , SvdIncremental_D64 alg , int rank ) {
+        assertEquals(rank,alg.numberOfSingularValues());
+        assertEquals(A.numRows,alg.numRows());
+        assertEquals(A.numCols,alg.numCols());
+
+        DenseMatrix64F U = alg.getU(null,false);
+        DenseMatrix64F W = alg.getW(null);
+        DenseMatrix64F Vt = alg.getV(null,true);
+
+        checkOrthogonal(U);
+        checkOrthogonal(alg.getV(null,false));
+
+        DenseMatrix64F UW = new DenseMatrix64F(A.numRows,rank);
+        DenseMatrix64F found = new DenseMatrix64F(A.numRows,A.numCols);
+        CommonOps.mult(U,W,UW);
+        CommonOps.mult(UW,Vt,found);
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // should be in descending order
+        double sv[] = alg.getSingularValues();
+        for( int i = 1; i < rank; i++ )
+            assertTrue(sv[i-1] >= sv[i]);
+    }
+
+    private void checkOrthogonal( DenseMatrix64F M ) {
+        DenseMatrix64F I = new DenseMatrix64F(M.numCols,M.numCols);
+        CommonOps.multTransA(M,M,I);
+        assertTrue(MatrixFeatures.isIdentity(I,UtilEjml.TOLERANCE));
+    }
+
+    private double[] singularValues( DenseMatrix64F A ) {
+        SvdImplicitQrDecompose_D64 svd = new SvdImplicitQrDecompose_D64(true,false,false,false);
+        assertTrue(svd.decompose(A));
+        double sv[] = svd.getSingularValues().clone();
+        SingularOps.descendingOrder(null,false,sv,svd.numberOfSingularValues(),null,false);
+        return sv;
+    }
+
+    private DenseMatrix64F extract( DenseMatrix64F A , int y0 , int y1 , int x0 , int x1 ) {
+        DenseMatrix64F ret = new DenseMatrix64F(y1-y0,x1-x0);
+        CommonOps.extract(A,y0,y1,x0,x1,ret,0,0);
+        return ret;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.svd;
+
+import org.ejml.UtilEjml;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdRandomizedDecompose_D64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * If the matrix has exactly the requested rank then the decomposition is exact
+     */
+    @Test
+    public void exactRank() {
+        checkExactRank(40,25,5);
+        checkExactRank(25,40,5);
+        checkExactRank(30,30,7);
+    }
+
+    private void checkExactRank( int numRows , int numCols , int rank ) {
+        DenseMatrix64F A = createLowRank(numRows,numCols,rank);
+        DenseMatrix64F A_orig = A.copy();
+
+        SvdRandomizedDecompose_D64 alg = new SvdRandomizedDecompose_D64(rank,true,true);
+        assertTrue(alg.decompose(A));
+        assertTrue(MatrixFeatures.isIdentical(A_orig,A,0));
+
+        assertEquals(rank,alg.numberOfSingularValues());
+        assertTrue(alg.isCompact());
+
+        DenseMatrix64F U = alg.getU(null,false);
+        DenseMatrix64F W = alg.getW(null);
+        DenseMatrix64F Vt = alg.getV(null,true);
+
+        assertEquals(numRows,U.numRows);
+        assertEquals(rank,U.numCols);
+        assertEquals(rank,Vt.numRows);
+        assertEquals(numCols,Vt.numCols);
+
+        checkOrthogonalColumns(U);
+        checkOrthogonalColumns(alg.getV(null,false));
+
+        DenseMatrix64F UW = new DenseMatrix64F(numRows,rank);
+        DenseMatrix64F found = new DenseMatrix64F(numRows,numCols);
+        CommonOps.mult(U,W,UW);
+        CommonOps.mult(UW,Vt,found);
+
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+    }
+
+    /**
+     * Compare the largest singular values against a full SVD for a matrix with decaying singular values
+     */
+    @Test
+    public void compareToFull() {
+        int numRows = 200, numCols = 60, rank = 10;
+
+        double sv[] = new double[numCols];
+        for( int i = 0; i < numCols; i++ )
+            sv[i] = Math.pow(0.7,i);
+        DenseMatrix64F A = RandomMatrices.createSingularValues(numRows,numCols,rand,sv);
+
+        SvdRandomizedDecompose_D64 alg = new SvdRandomizedDecompose_D64(rank,10,2,false,false,rand);
+        assertTrue(alg.decompose(A));
+
+        double found[] = alg.getSingularValues();
+        for( int i = 0; i < rank; i++ ) {
+            assertEquals(sv[i],found[i],1e-6);
+        }
+    }
+
+    /**
+     * Request more singular values than the matrix has
+     */
+    @Test
+    public void rankLargerThanMatrix() {
+        DenseMatrix64F A = RandomMatrices.createRandom(8,5,rand);
+
+        SvdRandomizedDecompose_D64 alg = new SvdRandomizedDecompose_D64(20,true,true);
+        assertTrue(alg.decompose(A));
+        assertEquals(5,alg.numberOfSingularValues());
+
+        DenseMatrix64F U = alg.getU(null,false);
+        DenseMatrix64F W = alg.getW(null);
+        DenseMatrix64F Vt = alg.getV(null,true);
+
+        DenseMatrix64F UW = new DenseMatrix64F(8,5);
+        DenseMatrix64F found = new DenseMatrix64F(8,5);
+        CommonOps.mult(U,W,UW);
+        CommonOps.mult(UW,Vt,found);
+
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // should be in descending order
+        double sv[] = alg.getSingularValues();
+        for( int i = 1; i < 5; i++ )
+            assertTrue(sv[i-1] >= sv[i]);
+    }
+
+    /**
+     * Modifying a returned matrix should not change the decomposition
+     */
+    @Test
+    public void getUV_notInternal() {
+        SvdRandomizedDecompose_D64 alg = new SvdRandomizedDecompose_D64(3,true,true);
+        assertTrue(alg.decompose(createLowRank(10,8,3)));
+
+        DenseMatrix64F Ut = alg.getU(null,true);
+        DenseMatrix64F Vt = alg.getV(null,true);
+        DenseMatrix64F Ut_orig = Ut.copy();
+        DenseMatrix64F Vt_orig = Vt.copy();
+        Ut.zero();
+        Vt.zero();
+
+        assertTrue(MatrixFeatures.isIdentical(Ut_orig,alg.getU(null,true),0));
+        assertTrue(MatrixFeatures.isIdentical(Vt_orig,alg.getV(null,true),0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void notComputedU() {
+        SvdRandomizedDecompose_D64 alg = new SvdRandomizedDecompose_D64(2,false,true);
+        assertTrue(alg.decompose(RandomMatrices.createRandom(8,5,rand)));
+        alg.getU(null,false);
+    }
+
+    private DenseMatrix64F createLowRank( int numRows , int numCols , int rank ) {
+        DenseMatrix64F L = RandomMatrices.createRandom(numRows,rank,rand);
+        DenseMatrix64F R = RandomMatrices.createRandom(rank,numCols,rand);
+        DenseMatrix64F A = new DenseMatrix64F(numRows,numCols);
+        CommonOps.mult(L,R,A);
+        return A;
+    }
+
+    private void checkOrthogonalColumns( DenseMatrix64F M ) {
+        DenseMatrix64F I = new DenseMatrix64F(M.numCols,M.numCols);
+        CommonOps.multTransA(M,M,I);
+        assertTrue(MatrixFeatures.isIdentity(I,UtilEjml.TOLERANCE));
+    }
+}
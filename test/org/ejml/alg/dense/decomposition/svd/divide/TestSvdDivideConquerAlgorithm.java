@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.decomposition.svd.divide;
+
+import org.ejml.EjmlParameters;
+import org.ejml.alg.dense.decomposition.svd.SvdImplicitQrDecompose_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSvdDivideConquerAlgorithm {
+
+    Random rand = new Random(2345);
+
+    @Test
+    public void random() {
+        for( int N = 1; N <= 60; N += 7 ) {
+            double diag[] = new double[N];
+            double off[] = new double[N];
+            for( int i = 0; i < N; i++ ) {
+                diag[i] = rand.nextGaussian();
+                off[i] = rand.nextGaussian();
+            }
+            checkSolution(N,diag,off,3);
+        }
+    }
+
+    /**
+     * Repeated and zero singular values will cause many of them to be deflated
+     */
+    @Test
+    public void deflation() {
+        int N = 40;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+
+        // all ones
+        Arrays.fill(diag,1);
+        Arrays.fill(off,1);
+        checkSolution(N,diag,off,4);
+
+        // the matrix is already diagonal with repeated values
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = i % 3;
+            off[i] = 0;
+        }
+        checkSolution(N,diag,off,4);
+
+        // zeros along the diagonal
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = i % 4 == 0 ? 0 : rand.nextGaussian();
+            off[i] = rand.nextGaussian();
+        }
+        checkSolution(N,diag,off,4);
+
+        // zero matrix
+        Arrays.fill(diag,0);
+        Arrays.fill(off,0);
+        checkSolution(N,diag,off,4);
+    }
+
+    /**
+     * The singular values of a zero matrix should be exactly zero, like they are with the QR algorithm
+     */
+    @Test
+    public void zeroMatrix() {
+        int N = 40;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+
+        SvdDivideConquerAlgorithm alg = new SvdDivideConquerAlgorithm();
+        alg.setMinimumSize(4);
+
+        double values[] = new double[N];
+        Arrays.fill(values,1);
+        DenseMatrix64F U = new DenseMatrix64F(1,1);
+        DenseMatrix64F V = new DenseMatrix64F(1,1);
+        assertTrue(alg.process(N,diag,off,values,U,V));
+
+        for( int i = 0; i < N; i++ )
+            assertEquals(0,values[i],0);
+        assertTrue(MatrixFeatures.isOrthogonal(U,1e-8));
+        assertTrue(MatrixFeatures.isOrthogonal(V,1e-8));
+    }
+
+    /**
+     * Singular values which span many orders of magnitude
+     */
+    @Test
+    public void graded() {
+        int N = 30;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = Math.pow(10,-i*0.5);
+            off[i] = Math.pow(10,-i*0.5-0.25);
+        }
+        checkSolution(N,diag,off,3);
+    }
+
+    /**
+     * Compare the singular values against the QR algorithm
+     */
+    @Test
+    public void compareToQR() {
+        int N = 50;
+        DenseMatrix64F B = new DenseMatrix64F(N,N);
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = rand.nextGaussian();
+            off[i] = rand.nextGaussian();
+            B.set(i,i,diag[i]);
+            if( i+1 < N )
+                B.set(i,i+1,off[i]);
+        }
+
+        SvdDivideConquerAlgorithm alg = new SvdDivideConquerAlgorithm();
+        alg.setMinimumSize(5);
+        double found[] = new double[N];
+        assertTrue(alg.process(N,diag,off,found,new DenseMatrix64F(1,1),new DenseMatrix64F(1,1)));
+
+        SvdImplicitQrDecompose_D64 qr = new SvdImplicitQrDecompose_D64(false,false,false,false);
+        assertTrue(qr.decompose(B));
+        double expected[] = qr.getSingularValues().clone();
+        Arrays.sort(expected,0,N);
+
+        for( int i = 0; i < N; i++ )
+            assertEquals(expected[i],found[i],1e-8);
+    }
+
+    /**
+     * The concurrent version should produce identical results
+     */
+    @Test
+    public void concurrent() {
+        int N = 80;
+        double diag[] = new double[N];
+        double off[] = new double[N];
+        for( int i = 0; i < N; i++ ) {
+            diag[i] = rand.nextGaussian();
+            off[i] = rand.nextGaussian();
+        }
+
+        SvdDivideConquerAlgorithm alg = new SvdDivideConquerAlgorithm();
+        alg.setMinimumSize(5);
+        alg.setConcurrentSize(10);
+
+        double expected[] = new double[N];
+        DenseMatrix64F expectedU = new DenseMatrix64F(1,1);
+        DenseMatrix64F expectedV = new DenseMatrix64F(1,1);
+        assertTrue(alg.process(N,diag,off,expected,expectedU,expectedV));
+
+        boolean concurrent = EjmlParameters.CONCURRENT;
+        try {
+            EjmlParameters.CONCURRENT = true;
+            double found[] = new double[N];
+            DenseMatrix64F foundU = new DenseMatrix64F(1,1);
+            DenseMatrix64F foundV = new DenseMatrix64F(1,1);
+            assertTrue(alg.process(N,diag,off,found,foundU,foundV));
+
+            for( int i = 0; i < N; i++ )
+                assertEquals(expected[i],found[i],0);
+            assertTrue(MatrixFeatures.isIdentical(expectedU,foundU,0));
+            assertTrue(MatrixFeatures.isIdentical(expectedV,foundV,0));
+        } finally {
+            EjmlParameters.CONCURRENT = concurrent;
+        }
+    }
+
+    /**
+     * Checks to see if B = U*diag(values)*V', U and V are orthogonal, and the singular values are sorted
+     */
+    private void checkSolution( int N , double diag[] , double off[] , int minimumSize ) {
+        double diagOrig[] = diag.clone();
+        double offOrig[] = off.clone();
+
+        SvdDivideConquerAlgorithm alg = new SvdDivideConquerAlgorithm();
+        alg.setMinimumSize(minimumSize);
+
+        double values[] = new double[N];
+        DenseMatrix64F U = new DenseMatrix64F(1,1);
+        DenseMatrix64F V = new DenseMatrix64F(1,1);
+        assertTrue(alg.process(N,diag,off,values,U,V));
+
+        // input should not be modified
+        for( int i = 0; i < N; i++ ) {
+            assertEquals(diagOrig[i],diag[i],0);
+            assertEquals(offOrig[i],off[i],0);
+        }
+
+        DenseMatrix64F B = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            B.set(i,i,diag[i]);
+            if( i+1 < N )
+                B.set(i,i+1,off[i]);
+        }
+
+        DenseMatrix64F US = U.copy();
+        for( int i = 0; i < N; i++ )
+            for( int j = 0; j < N; j++ )
+                US.data[i*N+j] *= values[j];
+        DenseMatrix64F found = new DenseMatrix64F(N,N);
+        CommonOps.multTransB(US,V,found);
+
+        assertTrue(MatrixFeatures.isIdentical(B,found,1e-8));
+        assertTrue(MatrixFeatures.isOrthogonal(U,1e-8));
+        assertTrue(MatrixFeatures.isOrthogonal(V,1e-8));
+
+        for( int i = 0; i < N; i++ )
+            assertTrue(values[i] >= 0);
+        for( int i = 1; i < N; i++ )
+            assertTrue(values[i-1] <= values[i]);
+    }
+}
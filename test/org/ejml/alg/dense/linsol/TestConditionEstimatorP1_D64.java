@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.linsol;
+
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConditionEstimatorP1_D64 {
+
+    Random rand = new Random(234);
+
+    ConditionEstimatorP1_D64 alg = new ConditionEstimatorP1_D64();
+
+    @Test
+    public void lu() {
+        for( int N = 1; N < 30; N += 4 ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(N,N,rand);
+            LUDecompositionAlt_D64 lu = new LUDecompositionAlt_D64();
+            assertTrue(lu.decompose(A));
+
+            checkEstimate(A, alg.inverseNorm(lu));
+        }
+    }
+
+    @Test
+    public void lu_singular() {
+        DenseMatrix64F A = RandomMatrices.createRandom(5,5,rand);
+        for( int i = 0; i < 5; i++ )
+            A.set(i,2,A.get(i,1));
+
+        LUDecompositionAlt_D64 lu = new LUDecompositionAlt_D64();
+        lu.decompose(A);
+
+        double found = alg.inverseNorm(lu);
+        assertTrue(Double.isInfinite(found) || found > 1e12);
+    }
+
+    @Test
+    public void chol() {
+        for( int N = 1; N < 30; N += 4 ) {
+            DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+            CholeskyDecompositionInner_D64 chol = new CholeskyDecompositionInner_D64(true);
+            assertTrue(chol.decompose(A.copy()));
+
+            checkEstimate(A, alg.inverseNorm(chol));
+        }
+    }
+
+    @Test
+    public void chol_upper() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(10,rand);
+        CholeskyDecompositionInner_D64 chol = new CholeskyDecompositionInner_D64(false);
+        assertTrue(chol.decompose(A.copy()));
+
+        checkEstimate(A, alg.inverseNorm(chol));
+    }
+
+    @Test
+    public void qr() {
+        for( int N = 1; N < 30; N += 4 ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(N,N,rand);
+            QRDecompositionHouseholderColumn_D64 qr = new QRDecompositionHouseholderColumn_D64();
+            assertTrue(qr.decompose(A));
+
+            checkEstimate(A, alg.inverseNorm(qr));
+        }
+    }
+
+    /**
+     * Matrices with a wide range of singular values
+     */
+    @Test
+    public void illConditioned() {
+        double sv[] = new double[20];
+        for( int i = 0; i < sv.length; i++ )
+            sv[i] = Math.pow(10,-8.0*i/(sv.length-1));
+        DenseMatrix64F A = RandomMatrices.createSingularValues(20,20,rand,sv);
+
+        LUDecompositionAlt_D64 lu = new LUDecompositionAlt_D64();
+        assertTrue(lu.decompose(A));
+
+        checkEstimate(A, alg.inverseNorm(lu));
+    }
+
+    @Test
+    public void rcond() {
+        assertEquals(0.25,ConditionEstimatorP1_D64.rcond(2,2),1e-12);
+        assertEquals(0,ConditionEstimatorP1_D64.rcond(2,Double.POSITIVE_INFINITY),1e-12);
+        assertEquals(0,ConditionEstimatorP1_D64.rcond(0,2),1e-12);
+    }
+
+    /**
+     * The estimate must be a lower bound and should be within a factor of 3
+     */
+    private void checkEstimate( DenseMatrix64F A , double found ) {
+        DenseMatrix64F A_inv = new DenseMatrix64F(A.numRows,A.numCols);
+        assertTrue(CommonOps.invert(A,A_inv));
+        double expected = NormOps.inducedP1(A_inv);
+
+        assertTrue(found <= expected*(1+1e-8));
+        assertTrue(found >= expected/3);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.dense.linsol;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.LinearSolverFactory;
+import org.ejml.interfaces.linsol.LinearSolver;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverMixedPrecision extends GenericLinearSolverChecks {
+
+    public TestLinearSolverMixedPrecision() {
+        shouldFailSingular = false;
+        shouldWorkRectangle = false;
+    }
+
+    /**
+     * The solution should be as accurate as a double precision solver even though it was factored in
+     * single precision
+     */
+    @Test
+    public void doubleAccuracy() {
+        DenseMatrix64F A = RandomMatrices.createRandom(50,50,rand);
+        DenseMatrix64F B = RandomMatrices.createRandom(50,3,rand);
+        DenseMatrix64F X = new DenseMatrix64F(50,3);
+
+        LinearSolverMixedPrecision solver = LinearSolverFactory.linearMixedPrecision(50);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertFalse(solver.isUsingFallback());
+        assertTrue(solver.getIterations() > 0);
+        assertTrue(residual(A,X,B) < 1e-12);
+    }
+
+    @Test
+    public void symmPosDef() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(40,rand);
+        DenseMatrix64F B = RandomMatrices.createRandom(40,2,rand);
+        DenseMatrix64F X = new DenseMatrix64F(40,2);
+
+        LinearSolverMixedPrecision solver = LinearSolverFactory.symmPosDefMixedPrecision(40);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertFalse(solver.isUsingFallback());
+        assertTrue(residual(A,X,B) < 1e-12);
+    }
+
+    /**
+     * B and X are the same instance
+     */
+    @Test
+    public void sameInstance() {
+        DenseMatrix64F A = RandomMatrices.createRandom(20,20,rand);
+        DenseMatrix64F B = RandomMatrices.createRandom(20,2,rand);
+        DenseMatrix64F X = B.copy();
+
+        LinearSolverMixedPrecision solver = LinearSolverFactory.linearMixedPrecision(20);
+        assertTrue(solver.setA(A));
+        solver.solve(X,X);
+
+        assertTrue(residual(A,X,B) < 1e-12);
+    }
+
+    /**
+     * The matrix is too ill conditioned for refinement to converge, so the double precision solver should
+     * be used instead.
+     */
+    @Test
+    public void fallback_illConditioned() {
+        double sv[] = new double[30];
+        for( int i = 0; i < sv.length; i++ )
+            sv[i] = Math.pow(10,-10.0*i/(sv.length-1));
+        DenseMatrix64F A = RandomMatrices.createSingularValues(30,30,rand,sv);
+
+        DenseMatrix64F X_expected = RandomMatrices.createRandom(30,1,rand);
+        DenseMatrix64F B = new DenseMatrix64F(30,1);
+        CommonOps.mult(A,X_expected,B);
+        DenseMatrix64F X = new DenseMatrix64F(30,1);
+
+        LinearSolverMixedPrecision solver = LinearSolverFactory.linearMixedPrecision(30);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertTrue(solver.isUsingFallback());
+
+        // should be the same as the double precision solver
+        LinearSolver<DenseMatrix64F> expected = LinearSolverFactory.linear(30);
+        DenseMatrix64F X_double = new DenseMatrix64F(30,1);
+        assertTrue(expected.setA(A.copy()));
+        expected.solve(B,X_double);
+
+        assertTrue(residual(A,X,B) <= 10*residual(A,X_double,B));
+    }
+
+    /**
+     * Values which are too large for a float are handled by the double precision solver
+     */
+    @Test
+    public void fallback_overflow() {
+        DenseMatrix64F A = RandomMatrices.createRandom(10,10,rand);
+        CommonOps.scale(1e200,A);
+        DenseMatrix64F B = RandomMatrices.createRandom(10,1,rand);
+        DenseMatrix64F X = new DenseMatrix64F(10,1);
+
+        LinearSolverMixedPrecision solver = LinearSolverFactory.linearMixedPrecision(10);
+        assertTrue(solver.setA(A));
+        assertTrue(solver.isUsingFallback());
+        solver.solve(B,X);
+
+        CommonOps.scale(1e-200,A);
+        CommonOps.scale(1e200,X);
+        assertTrue(residual(A,X,B) < 1e-12);
+    }
+
+    private static double residual( DenseMatrix64F A , DenseMatrix64F X , DenseMatrix64F B ) {
+        DenseMatrix64F R = new DenseMatrix64F(B.numRows,B.numCols);
+        CommonOps.mult(A,X,R);
+        CommonOps.subEquals(R,B);
+        return NormOps.normF(R)/NormOps.normF(B);
+    }
+
+    @Override
+    protected LinearSolver<DenseMatrix64F> createSolver( DenseMatrix64F A ) {
+        return LinearSolverFactory.linearMixedPrecision(A.numRows);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.chol;
+
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAdjLinearSolverChol {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void standardTests() {
+        BaseCholeskySolveTests tests = new BaseCholeskySolveTests();
+        tests.standardTests(new AdjLinearSolverChol());
+    }
+
+    @Test
+    public void update() {
+        int n = 6;
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(n,rand);
+        double x[] = new double[]{1,-2,0.5,3,0.1,-1};
+
+        DenseMatrix64F A_e = A.copy();
+        DenseMatrix64F v = DenseMatrix64F.wrap(n,1,x);
+        CommonOps.multAddTransB(v,v,A_e);
+
+        AdjLinearSolverChol solver = new AdjLinearSolverChol();
+        assertTrue(solver.setA(A.copy()));
+        assertTrue(solver.update(x));
+
+        checkSolution(solver,A_e);
+        assertTrue(MatrixFeatures.isIdentical(A_e,solver.getA(),1e-8));
+    }
+
+    @Test
+    public void downdate() {
+        int n = 6;
+        DenseMatrix64F A_e = RandomMatrices.createSymmPosDef(n,rand);
+        double x[] = new double[]{1,-2,0.5,3,0.1,-1};
+
+        DenseMatrix64F A = A_e.copy();
+        DenseMatrix64F v = DenseMatrix64F.wrap(n,1,x);
+        CommonOps.multAddTransB(v,v,A);
+
+        AdjLinearSolverChol solver = new AdjLinearSolverChol();
+        assertTrue(solver.setA(A.copy()));
+        assertTrue(solver.downdate(x));
+
+        checkSolution(solver,A_e);
+
+        // the matrix is no longer positive definite
+        assertFalse(solver.downdate(new double[]{100,100,100,100,100,100}));
+        checkSolution(solver,A_e);
+    }
+
+    private void checkSolution( AdjLinearSolverChol solver , DenseMatrix64F A_e ) {
+        DenseMatrix64F X = RandomMatrices.createRandom(A_e.numRows,2,rand);
+        DenseMatrix64F Y = new DenseMatrix64F(A_e.numRows,2);
+        CommonOps.mult(A_e,X,Y);
+
+        DenseMatrix64F X_found = new DenseMatrix64F(X.numRows,X.numCols);
+        solver.solve(Y,X_found);
+
+        assertTrue(MatrixFeatures.isIdentical(X,X_found,1e-8));
+
+        // quality should be computed from the modified matrix
+        LinearSolverChol fresh = new LinearSolverChol(new CholeskyDecompositionInner_D64(true));
+        assertTrue(fresh.setA(A_e.copy()));
+        double expected = fresh.quality();
+        assertEquals(expected,solver.quality(),expected*1e-6);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.linsol.lq;
+
+import org.ejml.alg.dense.linsol.GenericLinearSolverChecks;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.interfaces.linsol.LinearSolver;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverLqHouse extends GenericLinearSolverChecks {
+
+    public TestLinearSolverLqHouse() {
+        // only under determined systems are supported
+        shouldWorkRectangle = false;
+    }
+
+    @Override
+    protected LinearSolver<DenseMatrix64F> createSolver( DenseMatrix64F A ) {
+        return new LinearSolverLqHouse();
+    }
+
+    /**
+     * Compare the solution to the one found using the pseudo inverse, which is the minimum norm solution
+     */
+    @Test
+    public void minimumNorm() {
+        DenseMatrix64F A = RandomMatrices.createRandom(4,9,rand);
+        DenseMatrix64F B = RandomMatrices.createRandom(4,3,rand);
+        DenseMatrix64F X = new DenseMatrix64F(9,3);
+
+        LinearSolver<DenseMatrix64F> solver = createSafeSolver(A);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        DenseMatrix64F A_pinv = new DenseMatrix64F(9,4);
+        CommonOps.pinv(A,A_pinv);
+        DenseMatrix64F expected = new DenseMatrix64F(9,3);
+        CommonOps.mult(A_pinv,B,expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,X,1e-8));
+
+        // it should also be a solution
+        DenseMatrix64F found = new DenseMatrix64F(4,3);
+        CommonOps.mult(A,X,found);
+        assertTrue(MatrixFeatures.isIdentical(B,found,1e-8));
+    }
+
+    @Test
+    public void overDetermined() {
+        try {
+            new LinearSolverLqHouse().setA(RandomMatrices.createRandom(5,4,rand));
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+    }
+}
@@ -106,6 +106,74 @@ public class TestAdjLinearSolverQr extends GenericLinearSolverChecks {
         assertTrue(MatrixFeatures.isIdentical(X_found,X,1e-8));
     }
 
+    @Test
+    public void addColToA() {
+        int insert = 1;
+        int m = 6;
+        int n = 3;
+
+        DenseMatrix64F A = RandomMatrices.createRandom(m,n,rand);
+        double col[] = new double[]{1,2,3,4,5,6};
+
+        // create the modified A
+        DenseMatrix64F A_e = new DenseMatrix64F(m,n+1);
+        SubmatrixOps.setSubMatrix(A,A_e,0,0,0,0,m,insert);
+        for( int i = 0; i < m; i++ )
+            A_e.set(i,insert,col[i]);
+        SubmatrixOps.setSubMatrix(A,A_e,0,insert,0,insert+1,m,n-insert);
+
+        // Compute the solution to the modified system
+        DenseMatrix64F X = RandomMatrices.createRandom(n+1,2,rand);
+        DenseMatrix64F Y = new DenseMatrix64F(A_e.numRows,X.numCols);
+        CommonOps.mult(A_e,X,Y);
+
+        // create the solver from A then add a column.  The solver
+        // should be equivalent to one created from A_e
+        AdjustableLinearSolver adjSolver = new AdjLinearSolverQr();
+
+        assertTrue(adjSolver.setA(A));
+        assertTrue(adjSolver.addColToA(col,insert));
+
+        // solve the system and see if it gets the expected solution
+        DenseMatrix64F X_found = RandomMatrices.createRandom(X.numRows,X.numCols,rand);
+        adjSolver.solve(Y,X_found);
+
+        // see if they produce the same results
+        assertTrue(MatrixFeatures.isIdentical(X_found,X,1e-8));
+    }
+
+    @Test
+    public void removeColFromA() {
+        int remove = 1;
+        int m = 6;
+        int n = 4;
+
+        DenseMatrix64F A = RandomMatrices.createRandom(m,n,rand);
+
+        // create the modified A
+        DenseMatrix64F A_e = new DenseMatrix64F(m,n-1);
+        SubmatrixOps.setSubMatrix(A,A_e,0,0,0,0,m,remove);
+        SubmatrixOps.setSubMatrix(A,A_e,0,remove+1,0,remove,m,n-remove-1);
+
+        // Compute the solution to the modified system
+        DenseMatrix64F X = RandomMatrices.createRandom(n-1,2,rand);
+        DenseMatrix64F Y = new DenseMatrix64F(A_e.numRows,X.numCols);
+        CommonOps.mult(A_e,X,Y);
+
+        // create the solver from the original system then modify it
+        AdjustableLinearSolver adjSolver = new AdjLinearSolverQr();
+
+        adjSolver.setA(A);
+        assertTrue(adjSolver.removeColFromA(remove));
+
+        // solve the system and see if it gets the expected solution
+        DenseMatrix64F X_found = RandomMatrices.createRandom(X.numRows,X.numCols,rand);
+        adjSolver.solve(Y,X_found);
+
+        // see if they produce the same results
+        assertTrue(MatrixFeatures.isIdentical(X_found,X,1e-8));
+    }
+
     @Override
     protected LinearSolver createSolver( DenseMatrix64F A ) {
         return new AdjLinearSolverQr();
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.mult;
+
+import org.ejml.EjmlParameters;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.RowD1Matrix64F;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMatrixMatrixMultPacked {
+    Random rand = new Random(2345);
+
+    @Test
+    public void checkShapesOfInput() {
+        CheckMatrixMultShape check = new CheckMatrixMultShape(MatrixMatrixMultPacked.class);
+        check.checkAll();
+    }
+
+    @Test
+    public void checkInputInstance() {
+        DenseMatrix64F a = new DenseMatrix64F(2,2);
+        DenseMatrix64F b = new DenseMatrix64F(2,2);
+
+        try {
+            MatrixMatrixMultPacked.mult(a,b,a);
+            fail("An exception should have been thrown");
+        } catch( IllegalArgumentException ignore ){}
+        try {
+            MatrixMatrixMultPacked.mult(a,b,b);
+            fail("An exception should have been thrown");
+        } catch( IllegalArgumentException ignore ){}
+    }
+
+    /**
+     * Compare every function against the equivalent function in MatrixMatrixMult.  The block size is
+     * reduced so that matrices are split into several blocks which don't divide evenly
+     */
+    @Test
+    public void compareToMatrixMatrixMult() throws InvocationTargetException, IllegalAccessException {
+        int blockWidth = EjmlParameters.BLOCK_WIDTH;
+        try {
+            for( int width : new int[]{5,60}) {
+                EjmlParameters.BLOCK_WIDTH = width;
+
+                compareToMatrixMatrixMult(1,1,1);
+                compareToMatrixMatrixMult(3,7,2);
+                compareToMatrixMatrixMult(37,23,41);
+                compareToMatrixMatrixMult(13,51,9);
+            }
+        } finally {
+            EjmlParameters.BLOCK_WIDTH = blockWidth;
+        }
+    }
+
+    private void compareToMatrixMatrixMult( int numRows , int inner , int numCols )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        int numChecked = 0;
+        Method methods[] = MatrixMatrixMultPacked.class.getMethods();
+
+        for( Method method : methods ) {
+            String name = method.getName();
+
+            if( !name.contains("mult") )
+                continue;
+
+            boolean hasAlpha = method.getParameterTypes()[0] == double.class;
+            Method check = findCheck(name,hasAlpha);
+
+            boolean transA = name.contains("TransA");
+            boolean transB = name.contains("TransAB") || name.contains("TransB");
+
+            DenseMatrix64F a = transA ? RandomMatrices.createRandom(inner,numRows,rand) :
+                    RandomMatrices.createRandom(numRows,inner,rand);
+            DenseMatrix64F b = transB ? RandomMatrices.createRandom(numCols,inner,rand) :
+                    RandomMatrices.createRandom(inner,numCols,rand);
+
+            DenseMatrix64F expected = RandomMatrices.createRandom(numRows,numCols,rand);
+            DenseMatrix64F found = expected.copy();
+
+            if( hasAlpha ) {
+                check.invoke(null,2.5,a,b,expected);
+                method.invoke(null,2.5,a,b,found);
+            } else {
+                check.invoke(null,a,b,expected);
+                method.invoke(null,a,b,found);
+            }
+
+            assertTrue(name,MatrixFeatures.isIdentical(expected,found,1e-8));
+            numChecked++;
+        }
+
+        assertEquals(16,numChecked);
+    }
+
+    private Method findCheck( String name , boolean hasAlpha ) {
+        String names[] = new String[]{name,name+"_small"};
+
+        for( String n : names ) {
+            try {
+                if( hasAlpha )
+                    return MatrixMatrixMult.class.getMethod(n,double.class,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class);
+                else
+                    return MatrixMatrixMult.class.getMethod(n,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class);
+            } catch (NoSuchMethodException ignore) {}
+        }
+        throw new RuntimeException("Can't find "+name);
+    }
+
+    /**
+     * The inner dimension is zero.  The output should be all zeros or not modified.
+     */
+    @Test
+    public void zeroInner() {
+        DenseMatrix64F a = new DenseMatrix64F(4,0);
+        DenseMatrix64F b = new DenseMatrix64F(0,5);
+        DenseMatrix64F c = RandomMatrices.createRandom(4,5,rand);
+        DenseMatrix64F c_orig = c.copy();
+
+        MatrixMatrixMultPacked.multAdd(a,b,c);
+        assertTrue(MatrixFeatures.isIdentical(c_orig,c,0));
+
+        MatrixMatrixMultPacked.mult(a,b,c);
+        assertTrue(MatrixFeatures.isIdentical(new DenseMatrix64F(4,5),c,0));
+    }
+
+    /**
+     * Computing the rows separately should produce identical results to computing them all at once
+     */
+    @Test
+    public void gemm_rows() {
+        int blockWidth = EjmlParameters.BLOCK_WIDTH;
+        try {
+            EjmlParameters.BLOCK_WIDTH = 5;
+
+            DenseMatrix64F a = RandomMatrices.createRandom(35,20,rand);
+            DenseMatrix64F b = RandomMatrices.createRandom(20,30,rand);
+            DenseMatrix64F expected = new DenseMatrix64F(35,30);
+            DenseMatrix64F found = new DenseMatrix64F(35,30);
+
+            MatrixMatrixMultPacked.gemm(1.5,a,false,b,false,expected,false);
+
+            MatrixMatrixMultPacked.gemm(1.5,a,false,b,false,found,false,0,7);
+            MatrixMatrixMultPacked.gemm(1.5,a,false,b,false,found,false,7,30);
+            MatrixMatrixMultPacked.gemm(1.5,a,false,b,false,found,false,30,35);
+
+            assertTrue(MatrixFeatures.isIdentical(expected,found,0));
+        } finally {
+            EjmlParameters.BLOCK_WIDTH = blockWidth;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.dense.mult;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.RowD1Matrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMatrixMatrixMult_MT {
+    Random rand = new Random(234);
+
+    @Test
+    public void checkShapesOfInput() {
+        CheckMatrixMultShape check = new CheckMatrixMultShape(MatrixMatrixMult_MT.class);
+        check.checkAll();
+    }
+
+    /**
+     * The results should be identical to the single threaded algorithm with the same name, not just
+     * within tolerance.
+     */
+    @Test
+    public void compareToSingleThreaded() throws InvocationTargetException, IllegalAccessException {
+        int numChecked = 0;
+        Method methods[] = MatrixMatrixMult_MT.class.getMethods();
+
+        for( Method method : methods ) {
+            String name = method.getName();
+
+            if( !name.contains("mult") )
+                continue;
+
+            boolean hasAlpha = method.getParameterTypes()[0] == double.class;
+            Method check = findSingleThreaded(name,hasAlpha);
+
+            boolean transA = name.contains("TransA");
+            boolean transB = name.contains("TransAB") || name.contains("TransB");
+
+            // try a few different shapes, including ones that don't split evenly between threads
+            int shapes[][] = new int[][]{{1,1,1},{3,20,5},{53,17,31},{101,67,88}};
+
+            for( int[] s : shapes ) {
+                DenseMatrix64F a = transA ? RandomMatrices.createRandom(s[1],s[0],rand) :
+                        RandomMatrices.createRandom(s[0],s[1],rand);
+                DenseMatrix64F b = transB ? RandomMatrices.createRandom(s[2],s[1],rand) :
+                        RandomMatrices.createRandom(s[1],s[2],rand);
+
+                DenseMatrix64F expected = RandomMatrices.createRandom(s[0],s[2],rand);
+                DenseMatrix64F found = RandomMatrices.createRandom(s[0],s[2],rand);
+
+                if( hasAlpha ) {
+                    invokeSingle(check,2.5,a,b,expected);
+                    method.invoke(null,2.5,a,b,found);
+                } else {
+                    invokeSingle(check,0,a,b,expected);
+                    method.invoke(null,a,b,found);
+                }
+
+                assertTrue(name,MatrixFeatures.isIdentical(expected,found,0));
+            }
+            numChecked++;
+        }
+
+        assertEquals(14,numChecked);
+    }
+
+    private Method findSingleThreaded( String name , boolean hasAlpha ) {
+        try {
+            if( name.contains("aux")) {
+                if( hasAlpha )
+                    return MatrixMatrixMult.class.getMethod(name,double.class,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class,double[].class);
+                else
+                    return MatrixMatrixMult.class.getMethod(name,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class,double[].class);
+            } else {
+                if( hasAlpha )
+                    return MatrixMatrixMult.class.getMethod(name,double.class,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class);
+                else
+                    return MatrixMatrixMult.class.getMethod(name,RowD1Matrix64F.class,
+                            RowD1Matrix64F.class,RowD1Matrix64F.class);
+            }
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void invokeSingle( Method check , double alpha ,
+                               DenseMatrix64F a , DenseMatrix64F b , DenseMatrix64F c )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        boolean hasAlpha = check.getParameterTypes()[0] == double.class;
+        boolean hasAux = check.getParameterTypes()[check.getParameterTypes().length-1] == double[].class;
+
+        if( hasAlpha ) {
+            if( hasAux )
+                check.invoke(null,alpha,a,b,c,null);
+            else
+                check.invoke(null,alpha,a,b,c);
+        } else {
+            if( hasAux )
+                check.invoke(null,a,b,c,null);
+            else
+                check.invoke(null,a,b,c);
+        }
+    }
+
+    /**
+     * The concurrent packed algorithm should produce identical results to the single threaded version
+     */
+    @Test
+    public void gemm() {
+        DenseMatrix64F a = RandomMatrices.createRandom(150,30,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(45,30,rand);
+        DenseMatrix64F expected = RandomMatrices.createRandom(150,45,rand);
+        DenseMatrix64F found = expected.copy();
+
+        for( int i = 0; i < 2; i++ ) {
+            boolean add = i == 1;
+            MatrixMatrixMultPacked.gemm(1.5,a,false,b,true,expected,add);
+            MatrixMatrixMult_MT.gemm(1.5,a,false,b,true,found,add);
+
+            assertTrue(MatrixFeatures.isIdentical(expected,found,0));
+        }
+    }
+
+    /**
+     * Sanity check against a matrix multiplication computed using a different algorithm
+     */
+    @Test
+    public void checkAgainstCommonOps() {
+        DenseMatrix64F a = RandomMatrices.createRandom(40,30,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(30,35,rand);
+        DenseMatrix64F expected = new DenseMatrix64F(40,35);
+        DenseMatrix64F found = new DenseMatrix64F(40,35);
+
+        MatrixMatrixMult.mult_small(a,b,expected);
+        MatrixMatrixMult_MT.mult_reorder(a,b,found);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+
+        DenseMatrix64F a_t = new DenseMatrix64F(30,40);
+        CommonOps.transpose(a,a_t);
+        MatrixMatrixMult_MT.multTransA_reorder(a_t,b,found);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+}
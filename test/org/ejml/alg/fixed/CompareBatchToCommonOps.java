@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.BatchMatrix64F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the functions in BatchOps and BatchOps_MT to the equivalent function in CommonOps applied to
+ * each matrix individually.
+ *
+ * @author Peter Abeles
+ */
+public abstract class CompareBatchToCommonOps {
+
+    Random rand = new Random(234);
+
+    Class classBatch;
+    Class classBatchMT;
+    int N;
+
+    // number of matrices in the batch.  not a multiple of the block size to test the edge cases
+    int length = 37;
+
+    public CompareBatchToCommonOps( Class classBatch , Class classBatchMT ) {
+        this.classBatch = classBatch;
+        this.classBatchMT = classBatchMT;
+
+        N = Integer.parseInt(classBatch.getSimpleName().charAt(8)+"");
+
+        // make it so that the batch is split between several tasks
+        try {
+            classBatchMT.getField("MIN_BLOCK").setInt(null,5);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void mult() {
+        for( Class c : new Class[]{classBatch,classBatchMT}) {
+            BatchMatrix64F a = createRandom(N,N);
+            BatchMatrix64F b = createRandom(N,N);
+            BatchMatrix64F found = new BatchMatrix64F(N,N,length);
+
+            invoke(c,"mult",a,b,found);
+
+            for( int i = 0; i < length; i++ ) {
+                DenseMatrix64F expected = new DenseMatrix64F(N,N);
+                CommonOps.mult(get(a,i),get(b,i),expected);
+                assertTrue(MatrixFeatures.isIdentical(expected,get(found,i),1e-8));
+            }
+
+            // the output can be the same as the input
+            invoke(c,"mult",a,b,a);
+            for( int i = 0; i < length; i++ ) {
+                assertTrue(MatrixFeatures.isIdentical(get(found,i),get(a,i),1e-8));
+            }
+        }
+    }
+
+    @Test
+    public void transform() {
+        for( Class c : new Class[]{classBatch,classBatchMT}) {
+            BatchMatrix64F a = createRandom(N,N);
+            BatchMatrix64F b = createRandom(N,1);
+            BatchMatrix64F found = new BatchMatrix64F(N,1,length);
+
+            invoke(c,"transform",a,b,found);
+
+            for( int i = 0; i < length; i++ ) {
+                DenseMatrix64F expected = new DenseMatrix64F(N,1);
+                CommonOps.mult(get(a,i),get(b,i),expected);
+                assertTrue(MatrixFeatures.isIdentical(expected,get(found,i),1e-8));
+            }
+        }
+    }
+
+    @Test
+    public void invert() {
+        if( N > GenerateFixedOps.maxInverseSize )
+            return;
+
+        for( Class c : new Class[]{classBatch,classBatchMT}) {
+            BatchMatrix64F a = createRandom(N,N);
+            BatchMatrix64F found = new BatchMatrix64F(N,N,length);
+
+            invoke(c,"invert",a,found);
+
+            for( int i = 0; i < length; i++ ) {
+                DenseMatrix64F expected = new DenseMatrix64F(N,N);
+                assertTrue(CommonOps.invert(get(a,i),expected));
+                assertTrue(MatrixFeatures.isIdentical(expected,get(found,i),1e-8));
+            }
+
+            // in-place
+            invoke(c,"invert",a,a);
+            for( int i = 0; i < length; i++ ) {
+                assertTrue(MatrixFeatures.isIdentical(get(found,i),get(a,i),1e-8));
+            }
+        }
+    }
+
+    @Test
+    public void det() {
+        for( Class c : new Class[]{classBatch,classBatchMT}) {
+            BatchMatrix64F a = createSolvable();
+            double found[] = new double[length];
+
+            invoke(c,"det",a,found);
+
+            for( int i = 0; i < length; i++ ) {
+                assertEquals(CommonOps.det(get(a,i)),found[i],1e-8);
+            }
+        }
+    }
+
+    @Test
+    public void solve() {
+        for( Class c : new Class[]{classBatch,classBatchMT}) {
+            BatchMatrix64F a = createSolvable();
+            BatchMatrix64F b = createRandom(N,1);
+            BatchMatrix64F found = new BatchMatrix64F(N,1,length);
+
+            invoke(c,"solve",a,b,found);
+
+            for( int i = 0; i < length; i++ ) {
+                DenseMatrix64F expected = new DenseMatrix64F(N,1);
+                assertTrue(CommonOps.solve(get(a,i),get(b,i),expected));
+                assertTrue(MatrixFeatures.isIdentical(expected,get(found,i),1e-8));
+            }
+
+            // the solution can be written into b
+            invoke(c,"solve",a,b,b);
+            for( int i = 0; i < length; i++ ) {
+                assertTrue(MatrixFeatures.isIdentical(get(found,i),get(b,i),1e-8));
+            }
+        }
+    }
+
+    /**
+     * The range version should only modify the specified matrices
+     */
+    @Test
+    public void range() {
+        BatchMatrix64F a = createRandom(N,N);
+        BatchMatrix64F b = createRandom(N,N);
+        BatchMatrix64F found = new BatchMatrix64F(N,N,length);
+
+        invoke(classBatch,"mult",a,b,found,5,12);
+
+        for( int i = 0; i < length; i++ ) {
+            DenseMatrix64F expected = new DenseMatrix64F(N,N);
+            if( i >= 5 && i < 12 )
+                CommonOps.mult(get(a,i),get(b,i),expected);
+            assertTrue(MatrixFeatures.isIdentical(expected,get(found,i),1e-8));
+        }
+    }
+
+    @Test
+    public void checkShape() {
+        BatchMatrix64F a = createRandom(N,N);
+
+        try {
+            invoke(classBatch,"mult",a,a,new BatchMatrix64F(N,N+1,length));
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+
+        try {
+            invoke(classBatch,"mult",a,a,new BatchMatrix64F(N,N,length-1));
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+
+        try {
+            invoke(classBatch,"transform",a,createRandom(N+1,1),createRandom(N,1));
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException e ) {}
+    }
+
+    private BatchMatrix64F createRandom( int numRows , int numCols ) {
+        BatchMatrix64F ret = new BatchMatrix64F(numRows,numCols,length);
+        for( int i = 0; i < length; i++ ) {
+            ret.set(i,RandomMatrices.createRandom(numRows,numCols,rand));
+        }
+        return ret;
+    }
+
+    /**
+     * Beyond the size which uses minor matrices, det and solve use Gaussian elimination without pivoting, which
+     * is only accurate for matrices that don't need it.  Those sizes are tested with diagonally dominant matrices.
+     */
+    private BatchMatrix64F createSolvable() {
+        BatchMatrix64F ret = createRandom(N,N);
+        if( N > GenerateFixedOps.maxInverseSize ) {
+            for( int i = 0; i < length; i++ ) {
+                for( int j = 0; j < N; j++ )
+                    ret.set(i,j,j,ret.get(i,j,j)+N);
+            }
+        }
+        return ret;
+    }
+
+    private DenseMatrix64F get( BatchMatrix64F batch , int index ) {
+        DenseMatrix64F ret = new DenseMatrix64F(batch.numRows,batch.numCols);
+        batch.get(index,ret);
+        return ret;
+    }
+
+    /**
+     * Invokes the function which takes the same number of arguments and has compatible types.  Exceptions
+     * thrown by the function are rethrown.
+     */
+    private void invoke( Class c , String name , Object ...args ) {
+        for( Method m : c.getMethods() ) {
+            if( !m.getName().equals(name) || m.getParameterTypes().length != args.length )
+                continue;
+            Class[] types = m.getParameterTypes();
+            boolean matched = true;
+            for( int i = 0; i < types.length; i++ ) {
+                if( types[i] == int.class ) {
+                    matched &= args[i] instanceof Integer;
+                } else {
+                    matched &= types[i].isInstance(args[i]);
+                }
+            }
+            if( !matched )
+                continue;
+
+            try {
+                m.invoke(null,args);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            } catch (InvocationTargetException e) {
+                if( e.getCause() instanceof RuntimeException )
+                    throw (RuntimeException)e.getCause();
+                throw new RuntimeException(e);
+            }
+            return;
+        }
+        fail("Couldn't find "+name+" in "+c.getSimpleName());
+    }
+}
@@ -29,9 +29,12 @@ import org.junit.Test;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -43,11 +46,16 @@ public abstract class CompareFixedToCommonOps {
 
     Class classFixed;
     int N;
+    // shape of the matrices the class operates on.  For square matrices both are N
+    int numRows,numCols;
 
     public CompareFixedToCommonOps(Class classFixed) {
         this.classFixed = classFixed;
 
-        N = Integer.parseInt(classFixed.getSimpleName().charAt(8)+"");
+        String[] shape = classFixed.getSimpleName().substring(8).split("x");
+        numRows = Integer.parseInt(shape[0]);
+        numCols = Integer.parseInt(shape[shape.length-1]);
+        N = numRows;
     }
 
     /**
@@ -87,16 +95,238 @@ public abstract class CompareFixedToCommonOps {
             }
         }
 
+        assertEquals(0,numFailed);
+
+        if( numRows != numCols ) {
+            // everything should have an equivalent
+            assertEquals(0,numNotMatched);
+            assertTrue(numPassed > 0);
+            return;
+        }
+
         int numExpected = 28;
         if( N > GenerateFixedOps.maxInverseSize ) {
             numExpected -= 2;
         }
 
-        assertEquals(0,numFailed);
-        assertEquals(2,numNotMatched);
+        // decompositions and solvers which don't have an equivalent in CommonOps
+        int numDecomposition = N == 3 ? 6 : 5;
+        if( N > GenerateFixedOps.maxSolveLUSize ) {
+            numDecomposition -= 1;
+        }
+
+        assertEquals(2+numDecomposition,numNotMatched);
         assertEquals(numExpected,numPassed);
     }
 
+    @Test
+    public void cholL() {
+        if( numRows != numCols )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+        FixedMatrix64F fa = createMatrix(A);
+        FixedMatrix64F fL = createMatrix(N,N);
+
+        assertTrue((Boolean)invoke("cholL",fa,fL));
+
+        DenseMatrix64F L = convert(fL);
+        assertTrue(MatrixFeatures.isUpperTriangle(CommonOps.transpose(L,null),0,0));
+        DenseMatrix64F found = new DenseMatrix64F(N,N);
+        CommonOps.multTransB(L,L,found);
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // the output can be the same as the input
+        assertTrue((Boolean)invoke("cholL",fa,fa));
+        assertTrue(MatrixFeatures.isIdentical(L,convert(fa),1e-8));
+
+        // not positive definite
+        CommonOps.scale(-1,A);
+        assertFalse((Boolean)invoke("cholL",createMatrix(A),fL));
+    }
+
+    @Test
+    public void solveCholL() {
+        if( numRows != numCols )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(N,1,rand);
+        FixedMatrix64F fL = createMatrix(N,N);
+        FixedMatrix64F fb = createMatrix(b);
+
+        assertTrue((Boolean)invoke("cholL",createMatrix(A),fL));
+        invoke("solveCholL",fL,fb,fb);
+
+        DenseMatrix64F expected = new DenseMatrix64F(N,1);
+        CommonOps.solve(A,b,expected);
+        assertTrue(MatrixFeatures.isIdentical(expected,convert(fb),1e-8));
+    }
+
+    @Test
+    public void ldl() {
+        if( numRows != numCols )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+        FixedMatrix64F fa = createMatrix(A);
+        FixedMatrix64F fL = createMatrix(N,N);
+        FixedMatrix64F fd = createMatrix(N,1);
+
+        assertTrue((Boolean)invoke("ldl",fa,fL,fd));
+
+        DenseMatrix64F L = convert(fL);
+        DenseMatrix64F D = CommonOps.diag(convert(fd).data);
+        assertTrue(MatrixFeatures.isUpperTriangle(CommonOps.transpose(L,null),0,0));
+        for( int i = 0; i < N; i++ )
+            assertEquals(1,L.get(i,i),1e-8);
+
+        DenseMatrix64F LD = new DenseMatrix64F(N,N);
+        DenseMatrix64F found = new DenseMatrix64F(N,N);
+        CommonOps.mult(L,D,LD);
+        CommonOps.multTransB(LD,L,found);
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // not positive definite
+        CommonOps.scale(-1,A);
+        assertFalse((Boolean)invoke("ldl",createMatrix(A),fL,fd));
+    }
+
+    @Test
+    public void solveLDL() {
+        if( numRows != numCols )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(N,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(N,1,rand);
+        FixedMatrix64F fL = createMatrix(N,N);
+        FixedMatrix64F fd = createMatrix(N,1);
+        FixedMatrix64F fb = createMatrix(b);
+
+        assertTrue((Boolean)invoke("ldl",createMatrix(A),fL,fd));
+        invoke("solveLDL",fL,fd,fb,fb);
+
+        DenseMatrix64F expected = new DenseMatrix64F(N,1);
+        CommonOps.solve(A,b,expected);
+        assertTrue(MatrixFeatures.isIdentical(expected,convert(fb),1e-8));
+    }
+
+    @Test
+    public void solveLU() {
+        if( numRows != numCols || N > GenerateFixedOps.maxSolveLUSize )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createRandom(N,N,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(N,1,rand);
+        FixedMatrix64F fx = createMatrix(N,1);
+
+        assertTrue((Boolean)invoke("solveLU",createMatrix(A),createMatrix(b),fx));
+
+        DenseMatrix64F expected = new DenseMatrix64F(N,1);
+        CommonOps.solve(A,b,expected);
+        assertTrue(MatrixFeatures.isIdentical(expected,convert(fx),1e-8));
+
+        // requires pivoting
+        A.set(0,0,0);
+        FixedMatrix64F fb = createMatrix(b);
+        assertTrue((Boolean)invoke("solveLU",createMatrix(A),fb,fb));
+        CommonOps.solve(A,b,expected);
+        assertTrue(MatrixFeatures.isIdentical(expected,convert(fb),1e-8));
+
+        // singular
+        for( int i = 0; i < N; i++ )
+            A.set(i,N-1,A.get(i,0));
+        assertFalse((Boolean)invoke("solveLU",createMatrix(A),createMatrix(b),fx));
+    }
+
+    @Test
+    public void eigSymm() {
+        if( N != 3 || numRows != numCols )
+            return;
+
+        DenseMatrix64F A = RandomMatrices.createSymmetric(N,-1,1,rand);
+        FixedMatrix64F fvalues = createMatrix(N,1);
+        FixedMatrix64F fvectors = createMatrix(N,N);
+
+        assertTrue((Boolean)invoke("eigSymm",createMatrix(A),fvalues,fvectors));
+
+        DenseMatrix64F values = convert(fvalues);
+        DenseMatrix64F V = convert(fvectors);
+
+        assertTrue(MatrixFeatures.isOrthogonal(V,1e-8));
+        DenseMatrix64F AV = new DenseMatrix64F(N,N);
+        CommonOps.mult(A,V,AV);
+        for( int i = 0; i < N; i++ ) {
+            for( int j = 0; j < N; j++ ) {
+                assertEquals(values.get(j)*V.get(i,j),AV.get(i,j),1e-8);
+            }
+        }
+
+        // repeated eigenvalues
+        CommonOps.setIdentity(A);
+        A.set(2,2,2);
+        assertTrue((Boolean)invoke("eigSymm",createMatrix(A),fvalues,fvectors));
+        assertEquals(1,fvalues.get(0,0),1e-8);
+        assertEquals(1,fvalues.get(1,0),1e-8);
+        assertEquals(2,fvalues.get(2,0),1e-8);
+
+        // very small and large values would underflow or overflow if not scaled
+        for( double scale : new double[]{1,1e-170,1e155,1e160} ) {
+            A.zero();
+            A.set(0,0,2*scale); A.set(0,1,scale); A.set(1,0,scale); A.set(1,1,2*scale);
+            A.set(2,2,3*scale);
+            assertTrue((Boolean)invoke("eigSymm",createMatrix(A),fvalues,fvectors));
+            double found[] = new double[]{fvalues.get(0,0),fvalues.get(1,0),fvalues.get(2,0)};
+            Arrays.sort(found);
+            assertEquals(1,found[0]/scale,1e-8);
+            assertEquals(3,found[1]/scale,1e-8);
+            assertEquals(3,found[2]/scale,1e-8);
+            assertTrue(MatrixFeatures.isOrthogonal(convert(fvectors),1e-8));
+        }
+
+        // all zeros
+        A.zero();
+        assertTrue((Boolean)invoke("eigSymm",createMatrix(A),fvalues,fvectors));
+        for( int i = 0; i < N; i++ )
+            assertEquals(0,fvalues.get(i,0),0);
+    }
+
+    private Object invoke( String name , Object ...args ) {
+        for( Method m : classFixed.getMethods() ) {
+            if( m.getName().equals(name) && m.getParameterTypes().length == args.length ) {
+                try {
+                    return m.invoke(null,args);
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                } catch (InvocationTargetException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        throw new RuntimeException("Couldn't find "+name);
+    }
+
+    private FixedMatrix64F createMatrix( int numRows , int numCols ) {
+        String name = numCols == 1 ? "FixedMatrix"+N+"_64F" : "FixedMatrix"+N+"x"+N+"_64F";
+        try {
+            return (FixedMatrix64F)Class.forName("org.ejml.data."+name).newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private FixedMatrix64F createMatrix( DenseMatrix64F m ) {
+        FixedMatrix64F f = createMatrix(m.numRows,m.numCols);
+        ConvertMatrixType.convert(m,f);
+        return f;
+    }
+
+    private DenseMatrix64F convert( FixedMatrix64F f ) {
+        DenseMatrix64F m = new DenseMatrix64F(f.getNumRows(),f.getNumCols());
+        ConvertMatrixType.convert(f,m);
+        return m;
+    }
+
     /**
      * Checks to see if it is a valid Method which can be checked
      */
@@ -120,6 +350,14 @@ public abstract class CompareFixedToCommonOps {
         if( typesFixed.length != typesCommon.length )
             return false;
 
+        // overloaded functions can have the same number of parameters, make sure they are the same kind
+        for( int i = 0; i < typesFixed.length; i++ ) {
+            boolean matrixFixed = FixedMatrix64F.class.isAssignableFrom(typesFixed[i]);
+            boolean matrixCommon = Matrix64F.class.isAssignableFrom(typesCommon[i]);
+            if( matrixFixed != matrixCommon )
+                return false;
+        }
+
         Class returnFixed = fixed.getReturnType();
         Class returnCommon = common.getReturnType();
 
@@ -197,8 +435,8 @@ public abstract class CompareFixedToCommonOps {
                     DenseMatrix64F a = (DenseMatrix64F)inputsCommon[0];
                     DenseMatrix64F b = (DenseMatrix64F)inputsCommon[2];
 
-                    a.numRows=f.getNumCols(); a.numCols=f.getNumRows();
-                    b.numRows=f.getNumCols(); b.numCols=f.getNumRows();
+                    int tmp = a.numRows; a.numRows = a.numCols; a.numCols = tmp;
+                    tmp = b.numRows; b.numRows = b.numCols; b.numCols = tmp;
                     return true;
                 }
             } catch (InstantiationException e) {
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix10_64F;
+import org.ejml.data.FixedMatrix10x10_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps10 extends CompareFixedToCommonOps {
+
+    public TestFixedOps10() {
+        super(FixedOps10.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix10_64F a = new FixedMatrix10_64F();
+        FixedMatrix10_64F b = new FixedMatrix10_64F();
+        for( int i = 0; i < 10; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps10.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56+72+90+110,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix10x10_64F m = new FixedMatrix10x10_64F();
+        for( int i = 0; i < 100; i++ )
+            m.set(i/10,i%10,i+1);
+        FixedMatrix10_64F found = new FixedMatrix10_64F();
+
+        FixedOps10.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(12,found.a2,1e-8);
+        assertEquals(23,found.a3,1e-8);
+        assertEquals(34,found.a4,1e-8);
+        assertEquals(45,found.a5,1e-8);
+        assertEquals(56,found.a6,1e-8);
+        assertEquals(67,found.a7,1e-8);
+        assertEquals(78,found.a8,1e-8);
+        assertEquals(89,found.a9,1e-8);
+        assertEquals(100,found.a10,1e-8);
+    }
+}
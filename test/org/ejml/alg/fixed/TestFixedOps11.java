@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix11_64F;
+import org.ejml.data.FixedMatrix11x11_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps11 extends CompareFixedToCommonOps {
+
+    public TestFixedOps11() {
+        super(FixedOps11.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix11_64F a = new FixedMatrix11_64F();
+        FixedMatrix11_64F b = new FixedMatrix11_64F();
+        for( int i = 0; i < 11; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps11.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56+72+90+110+132,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix11x11_64F m = new FixedMatrix11x11_64F();
+        for( int i = 0; i < 121; i++ )
+            m.set(i/11,i%11,i+1);
+        FixedMatrix11_64F found = new FixedMatrix11_64F();
+
+        FixedOps11.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(13,found.a2,1e-8);
+        assertEquals(25,found.a3,1e-8);
+        assertEquals(37,found.a4,1e-8);
+        assertEquals(49,found.a5,1e-8);
+        assertEquals(61,found.a6,1e-8);
+        assertEquals(73,found.a7,1e-8);
+        assertEquals(85,found.a8,1e-8);
+        assertEquals(97,found.a9,1e-8);
+        assertEquals(109,found.a10,1e-8);
+        assertEquals(121,found.a11,1e-8);
+    }
+}
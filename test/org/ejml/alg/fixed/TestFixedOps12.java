@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix12_64F;
+import org.ejml.data.FixedMatrix12x12_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps12 extends CompareFixedToCommonOps {
+
+    public TestFixedOps12() {
+        super(FixedOps12.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix12_64F a = new FixedMatrix12_64F();
+        FixedMatrix12_64F b = new FixedMatrix12_64F();
+        for( int i = 0; i < 12; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps12.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56+72+90+110+132+156,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix12x12_64F m = new FixedMatrix12x12_64F();
+        for( int i = 0; i < 144; i++ )
+            m.set(i/12,i%12,i+1);
+        FixedMatrix12_64F found = new FixedMatrix12_64F();
+
+        FixedOps12.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(14,found.a2,1e-8);
+        assertEquals(27,found.a3,1e-8);
+        assertEquals(40,found.a4,1e-8);
+        assertEquals(53,found.a5,1e-8);
+        assertEquals(66,found.a6,1e-8);
+        assertEquals(79,found.a7,1e-8);
+        assertEquals(92,found.a8,1e-8);
+        assertEquals(105,found.a9,1e-8);
+        assertEquals(118,found.a10,1e-8);
+        assertEquals(131,found.a11,1e-8);
+        assertEquals(144,found.a12,1e-8);
+    }
+}
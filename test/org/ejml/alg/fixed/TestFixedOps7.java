@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix7_64F;
+import org.ejml.data.FixedMatrix7x7_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps7 extends CompareFixedToCommonOps {
+
+    public TestFixedOps7() {
+        super(FixedOps7.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix7_64F a = new FixedMatrix7_64F();
+        FixedMatrix7_64F b = new FixedMatrix7_64F();
+        for( int i = 0; i < 7; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps7.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix7x7_64F m = new FixedMatrix7x7_64F();
+        for( int i = 0; i < 49; i++ )
+            m.set(i/7,i%7,i+1);
+        FixedMatrix7_64F found = new FixedMatrix7_64F();
+
+        FixedOps7.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(9,found.a2,1e-8);
+        assertEquals(17,found.a3,1e-8);
+        assertEquals(25,found.a4,1e-8);
+        assertEquals(33,found.a5,1e-8);
+        assertEquals(41,found.a6,1e-8);
+        assertEquals(49,found.a7,1e-8);
+    }
+}
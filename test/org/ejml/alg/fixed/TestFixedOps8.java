@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix8_64F;
+import org.ejml.data.FixedMatrix8x8_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps8 extends CompareFixedToCommonOps {
+
+    public TestFixedOps8() {
+        super(FixedOps8.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix8_64F a = new FixedMatrix8_64F();
+        FixedMatrix8_64F b = new FixedMatrix8_64F();
+        for( int i = 0; i < 8; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps8.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56+72,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix8x8_64F m = new FixedMatrix8x8_64F();
+        for( int i = 0; i < 64; i++ )
+            m.set(i/8,i%8,i+1);
+        FixedMatrix8_64F found = new FixedMatrix8_64F();
+
+        FixedOps8.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(10,found.a2,1e-8);
+        assertEquals(19,found.a3,1e-8);
+        assertEquals(28,found.a4,1e-8);
+        assertEquals(37,found.a5,1e-8);
+        assertEquals(46,found.a6,1e-8);
+        assertEquals(55,found.a7,1e-8);
+        assertEquals(64,found.a8,1e-8);
+    }
+}
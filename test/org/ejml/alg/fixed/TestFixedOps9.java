@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.fixed;
+
+import org.ejml.data.FixedMatrix9_64F;
+import org.ejml.data.FixedMatrix9x9_64F;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFixedOps9 extends CompareFixedToCommonOps {
+
+    public TestFixedOps9() {
+        super(FixedOps9.class);
+    }
+
+    @Test
+    public void dot() {
+        FixedMatrix9_64F a = new FixedMatrix9_64F();
+        FixedMatrix9_64F b = new FixedMatrix9_64F();
+        for( int i = 0; i < 9; i++ ) {
+            a.set(i,0,i+1);
+            b.set(i,0,i+2);
+        }
+
+        double found = FixedOps9.dot(a,b);
+
+        assertEquals(2+6+12+20+30+42+56+72+90,found,1e-8);
+    }
+
+    @Test
+    public void diag() {
+        FixedMatrix9x9_64F m = new FixedMatrix9x9_64F();
+        for( int i = 0; i < 81; i++ )
+            m.set(i/9,i%9,i+1);
+        FixedMatrix9_64F found = new FixedMatrix9_64F();
+
+        FixedOps9.diag(m,found);
+
+        assertEquals(1,found.a1,1e-8);
+        assertEquals(11,found.a2,1e-8);
+        assertEquals(21,found.a3,1e-8);
+        assertEquals(31,found.a4,1e-8);
+        assertEquals(41,found.a5,1e-8);
+        assertEquals(51,found.a6,1e-8);
+        assertEquals(61,found.a7,1e-8);
+        assertEquals(71,found.a8,1e-8);
+        assertEquals(81,found.a9,1e-8);
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Standard tests for iterative linear solvers
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericIterativeSolverChecks {
+
+    protected Random rand = new Random(0x2343);
+
+    /**
+     * Creates a solver using the specified preconditioner, which can be null
+     */
+    protected abstract LinearSolverIterative createSolver( Preconditioner64F precond );
+
+    /**
+     * Creates a matrix which the solver is designed to solve.
+     */
+    protected abstract DenseMatrix64F createMatrix( int gridSize );
+
+    /**
+     * Preconditioners which should work with the matrix
+     */
+    protected abstract Preconditioner64F[] createPreconditioners();
+
+    /**
+     * Creates a preconditioner which should reduce the number of iterations for the matrix.  Null if
+     * there is no such preconditioner.
+     *
+     * @param sparse If true the preconditioner must implement {@link PreconditionerSparse64F}
+     */
+    protected abstract Preconditioner64F createGoodPreconditioner( boolean sparse );
+
+    @Test
+    public void solve() {
+        DenseMatrix64F A = createMatrix(8);
+        checkSolve(A, createSolver(null));
+    }
+
+    @Test
+    public void solve_preconditioned() {
+        DenseMatrix64F A = createMatrix(8);
+        for( Preconditioner64F p : createPreconditioners() ) {
+            checkSolve(A, createSolver(p));
+        }
+    }
+
+    private void checkSolve( DenseMatrix64F A , LinearSolverIterative solver ) {
+        DenseMatrix64F B = RandomMatrices.createRandom(A.numRows,2,rand);
+        DenseMatrix64F X = new DenseMatrix64F(A.numRows,2);
+
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertTrue(solver.isConverged());
+        assertTrue(solver.getIterations() > 0);
+        assertTrue(solver.quality() > 0.99);
+        assertTrue(relativeResidual(A,X,B) < 1e-8);
+    }
+
+    /**
+     * Specify the matrix as a sparse operator
+     */
+    @Test
+    public void setOperator() {
+        DenseMatrix64F A = createMatrix(8);
+        DenseMatrix64F B = RandomMatrices.createRandom(A.numRows,1,rand);
+        DenseMatrix64F X = new DenseMatrix64F(A.numRows,1);
+
+        LinearSolverIterative solver = createSolver(null);
+        solver.setOperator(new LinearOperator_S64(SparseMatrixOps.convert(A,null)));
+        solver.solve(B,X);
+
+        assertTrue(solver.isConverged());
+        assertTrue(relativeResidual(A,X,B) < 1e-8);
+    }
+
+    /**
+     * A good preconditioner should reduce the number of iterations
+     */
+    @Test
+    public void preconditionerReducesIterations() {
+        checkReducesIterations(false);
+    }
+
+    /**
+     * A good preconditioner computed from a sparse matrix should reduce the number of iterations
+     */
+    @Test
+    public void preconditionerReducesIterations_sparse() {
+        checkReducesIterations(true);
+    }
+
+    private void checkReducesIterations( boolean sparse ) {
+        Preconditioner64F p = createGoodPreconditioner(sparse);
+        if( p == null )
+            return;
+
+        DenseMatrix64F A = createMatrix(15);
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+        DenseMatrix64F B = RandomMatrices.createRandom(A.numRows,1,rand);
+        DenseMatrix64F X = new DenseMatrix64F(A.numRows,1);
+
+        LinearSolverIterative plain = createSolver(null);
+        assertTrue(plain.setA(A));
+        plain.solve(B,X);
+
+        LinearSolverIterative precond = createSolver(p);
+        if( sparse )
+            assertTrue(precond.setA(S));
+        else
+            assertTrue(precond.setA(A));
+        precond.solve(B,X);
+
+        assertTrue(plain.isConverged());
+        assertTrue(precond.isConverged());
+        assertTrue(precond.getIterations() < plain.getIterations());
+        assertTrue(relativeResidual(A,X,B) < 1e-8);
+    }
+
+    /**
+     * A sparse matrix can only be used with a preconditioner that supports sparse matrices
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void setA_sparse_notSparsePreconditioner() {
+        DenseMatrix64F A = createMatrix(4);
+        LinearSolverIterative solver = createSolver(new PreconditionerJacobi_D64());
+        solver.setA(SparseMatrixOps.convert(A,null));
+    }
+
+    /**
+     * If the initial guess is the solution then no iterations should be needed
+     */
+    @Test
+    public void initialGuess() {
+        DenseMatrix64F A = createMatrix(5);
+        DenseMatrix64F X_expected = RandomMatrices.createRandom(A.numRows,1,rand);
+        DenseMatrix64F B = new DenseMatrix64F(A.numRows,1);
+        CommonOps.mult(A,X_expected,B);
+
+        LinearSolverIterative solver = createSolver(null);
+        solver.setConvergence(0,1e-8);
+        solver.setUseInitialGuess(true);
+        assertTrue(solver.setA(A));
+
+        DenseMatrix64F X = X_expected.copy();
+        solver.solve(B,X);
+
+        assertEquals(0,solver.getIterations());
+        assertTrue(MatrixFeatures.isIdentical(X_expected,X,1e-8));
+    }
+
+    @Test
+    public void zeroB() {
+        DenseMatrix64F A = createMatrix(5);
+        DenseMatrix64F B = new DenseMatrix64F(A.numRows,1);
+        DenseMatrix64F X = RandomMatrices.createRandom(A.numRows,1,rand);
+
+        LinearSolverIterative solver = createSolver(null);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertEquals(0,NormOps.normF(X),1e-15);
+    }
+
+    /**
+     * It should stop at the maximum number of iterations and report that it didn't converge
+     */
+    @Test
+    public void maxIterations() {
+        DenseMatrix64F A = createMatrix(8);
+        DenseMatrix64F B = RandomMatrices.createRandom(A.numRows,1,rand);
+        DenseMatrix64F X = new DenseMatrix64F(A.numRows,1);
+
+        LinearSolverIterative solver = createSolver(null);
+        solver.setConvergence(2,1e-12);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertTrue(solver.getIterations() <= 2);
+        assertFalse(solver.isConverged());
+        assertTrue(solver.quality() < 1);
+    }
+
+    @Test
+    public void invert() {
+        DenseMatrix64F A = createMatrix(4);
+        DenseMatrix64F A_inv = new DenseMatrix64F(A.numRows,A.numCols);
+
+        LinearSolverIterative solver = createSolver(null);
+        assertTrue(solver.setA(A));
+        solver.invert(A_inv);
+
+        DenseMatrix64F I = new DenseMatrix64F(A.numRows,A.numCols);
+        CommonOps.mult(A,A_inv,I);
+
+        assertTrue(MatrixFeatures.isIdentity(I,1e-8));
+    }
+
+    @Test
+    public void modifiesInputs() {
+        DenseMatrix64F A = createMatrix(5);
+        DenseMatrix64F B = RandomMatrices.createRandom(A.numRows,2,rand);
+        DenseMatrix64F A_orig = A.copy();
+        DenseMatrix64F B_orig = B.copy();
+
+        LinearSolverIterative solver = createSolver(createPreconditioners()[0]);
+        assertTrue(solver.setA(A));
+        solver.solve(B,new DenseMatrix64F(A.numRows,2));
+
+        assertFalse(solver.modifiesA());
+        assertFalse(solver.modifiesB());
+        assertTrue(MatrixFeatures.isIdentical(A_orig,A,0));
+        assertTrue(MatrixFeatures.isIdentical(B_orig,B,0));
+    }
+
+    public static double relativeResidual( DenseMatrix64F A , DenseMatrix64F X , DenseMatrix64F B ) {
+        DenseMatrix64F R = new DenseMatrix64F(B.numRows,B.numCols);
+        CommonOps.mult(A,X,R);
+        CommonOps.subEquals(R,B);
+        return NormOps.normF(R)/NormOps.normF(B);
+    }
+
+    /**
+     * Discretized Laplacian on a square grid.  It is symmetric positive definite and sparse.
+     *
+     * @param gridSize Number of points along each side of the grid
+     * @param asymmetry Adds a convection term which makes it non-symmetric
+     */
+    public static DenseMatrix64F laplacian( int gridSize , double asymmetry ) {
+        int N = gridSize*gridSize;
+        DenseMatrix64F A = new DenseMatrix64F(N,N);
+
+        for( int y = 0; y < gridSize; y++ ) {
+            for( int x = 0; x < gridSize; x++ ) {
+                int i = y*gridSize+x;
+                A.set(i,i,4);
+                if( x > 0 ) A.set(i,i-1,-1-asymmetry);
+                if( x < gridSize-1 ) A.set(i,i+1,-1+asymmetry);
+                if( y > 0 ) A.set(i,i-gridSize,-1-asymmetry);
+                if( y < gridSize-1 ) A.set(i,i+gridSize,-1+asymmetry);
+            }
+        }
+
+        return A;
+    }
+}
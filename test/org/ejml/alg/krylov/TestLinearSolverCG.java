@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverCG extends GenericIterativeSolverChecks {
+
+    @Override
+    protected LinearSolverIterative createSolver( Preconditioner64F precond ) {
+        return new LinearSolverCG(0,1e-10,precond);
+    }
+
+    @Override
+    protected DenseMatrix64F createMatrix( int gridSize ) {
+        return laplacian(gridSize,0);
+    }
+
+    @Override
+    protected Preconditioner64F[] createPreconditioners() {
+        return new Preconditioner64F[]{new PreconditionerJacobi_D64(),
+                new PreconditionerIncompleteCholesky_D64(),new PreconditionerIncompleteCholesky_S64()};
+    }
+
+    @Override
+    protected Preconditioner64F createGoodPreconditioner( boolean sparse ) {
+        return sparse ? new PreconditionerIncompleteCholesky_S64() : new PreconditionerIncompleteCholesky_D64();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverMinres extends GenericIterativeSolverChecks {
+
+    /**
+     * A diagonal matrix with positive and negative eigenvalues.  Conjugate gradient can't handle this.
+     */
+    @Test
+    public void indefiniteDiagonal() {
+        int N = 30;
+        DenseMatrix64F A = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            A.set(i,i, i % 2 == 0 ? i+1 : -i-1);
+        }
+        DenseMatrix64F B = RandomMatrices.createRandom(N,1,rand);
+        DenseMatrix64F X = new DenseMatrix64F(N,1);
+
+        LinearSolverIterative solver = createSolver(null);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        assertTrue(solver.isConverged());
+        assertTrue(relativeResidual(A,X,B) < 1e-8);
+    }
+
+    @Override
+    protected LinearSolverIterative createSolver( Preconditioner64F precond ) {
+        return new LinearSolverMinres(0,1e-10,precond);
+    }
+
+    /**
+     * Shifts the Laplacian so that it is indefinite
+     */
+    @Override
+    protected DenseMatrix64F createMatrix( int gridSize ) {
+        DenseMatrix64F A = laplacian(gridSize,0);
+        DenseMatrix64F I = CommonOps.identity(A.numRows);
+        CommonOps.addEquals(A,-1.3,I);
+        return A;
+    }
+
+    @Override
+    protected Preconditioner64F[] createPreconditioners() {
+        return new Preconditioner64F[]{new PreconditionerJacobi_D64()};
+    }
+
+    /**
+     * The matrix is indefinite so incomplete Cholesky can't be used
+     */
+    @Override
+    protected Preconditioner64F createGoodPreconditioner( boolean sparse ) {
+        return null;
+    }
+}
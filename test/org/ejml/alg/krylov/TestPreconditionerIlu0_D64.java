@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIlu0_D64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * If there are no zeros then it is the same as the LU decomposition without pivoting
+     */
+    @Test
+    public void dense_isLU() {
+        DenseMatrix64F A = RandomMatrices.createRandom(6,6,rand);
+        CommonOps.addEquals(A,6,CommonOps.identity(6));
+        DenseMatrix64F r = RandomMatrices.createRandom(6,1,rand);
+        DenseMatrix64F z = new DenseMatrix64F(6,1);
+
+        PreconditionerIlu0_D64 alg = new PreconditionerIlu0_D64();
+        assertTrue(alg.setA(A));
+
+        DenseMatrix64F found = multLU(alg.getLU());
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // applying it should be the same as solving the system
+        alg.apply(r,z);
+        DenseMatrix64F Az = new DenseMatrix64F(6,1);
+        CommonOps.mult(A,z,Az);
+        assertTrue(MatrixFeatures.isIdentical(r,Az,1e-8));
+    }
+
+    /**
+     * L*U should match A at the non-zero elements and the factors should be zero where A is zero
+     */
+    @Test
+    public void sparse_pattern() {
+        DenseMatrix64F A = GenericIterativeSolverChecks.laplacian(4,0.3);
+
+        PreconditionerIlu0_D64 alg = new PreconditionerIlu0_D64();
+        assertTrue(alg.setA(A));
+
+        DenseMatrix64F LU = alg.getLU();
+        DenseMatrix64F found = multLU(LU);
+
+        for( int i = 0; i < A.numRows; i++ ) {
+            for( int j = 0; j < A.numCols; j++ ) {
+                if( A.get(i,j) == 0 )
+                    assertEquals(0,LU.get(i,j),1e-15);
+                else
+                    assertEquals(A.get(i,j),found.get(i,j),1e-8);
+            }
+        }
+    }
+
+    @Test
+    public void zeroPivot() {
+        DenseMatrix64F A = RandomMatrices.createRandom(6,6,rand);
+        A.set(0,0,0);
+
+        assertFalse(new PreconditionerIlu0_D64().setA(A));
+    }
+
+    private static DenseMatrix64F multLU( DenseMatrix64F LU ) {
+        int N = LU.numRows;
+        DenseMatrix64F L = new DenseMatrix64F(N,N);
+        DenseMatrix64F U = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            for( int j = 0; j < N; j++ ) {
+                if( j < i )
+                    L.set(i,j,LU.get(i,j));
+                else
+                    U.set(i,j,LU.get(i,j));
+            }
+            L.set(i,i,1);
+        }
+        DenseMatrix64F found = new DenseMatrix64F(N,N);
+        CommonOps.mult(L,U,found);
+        return found;
+    }
+}
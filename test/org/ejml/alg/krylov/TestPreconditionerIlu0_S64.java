@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIlu0_S64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * Should produce the same factors and results as the dense implementation
+     */
+    @Test
+    public void compareToDense() {
+        DenseMatrix64F A = GenericIterativeSolverChecks.laplacian(5,0.3);
+        compareToDense(A);
+
+        // no zeros, so it is the LU decomposition
+        A = RandomMatrices.createRandom(6,6,rand);
+        CommonOps.addEquals(A,6,CommonOps.identity(6));
+        compareToDense(A);
+    }
+
+    private void compareToDense( DenseMatrix64F A ) {
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+        DenseMatrix64F r = RandomMatrices.createRandom(A.numRows,1,rand);
+
+        PreconditionerIlu0_D64 dense = new PreconditionerIlu0_D64();
+        PreconditionerIlu0_S64 alg = new PreconditionerIlu0_S64();
+        assertTrue(dense.setA(A));
+        assertTrue(alg.setA(S));
+
+        SparseMatrixCSC64F LU = alg.getLU();
+        assertEquals(S.nz_length,LU.nz_length);
+        DenseMatrix64F found = SparseMatrixOps.convert(LU,null);
+        assertTrue(MatrixFeatures.isIdentical(dense.getLU(),found,1e-12));
+
+        DenseMatrix64F expected = new DenseMatrix64F(A.numRows,1);
+        DenseMatrix64F z = new DenseMatrix64F(A.numRows,1);
+        dense.apply(r,expected);
+        alg.apply(r,z);
+        assertTrue(MatrixFeatures.isIdentical(expected,z,1e-12));
+
+        // dense input is converted into a sparse matrix
+        assertTrue(alg.setA(A));
+        alg.apply(r,z);
+        assertTrue(MatrixFeatures.isIdentical(expected,z,1e-12));
+    }
+
+    @Test
+    public void zeroPivot() {
+        DenseMatrix64F A = RandomMatrices.createRandom(6,6,rand);
+        A.set(0,0,0);
+
+        // explicitly stored zero
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+        S.set(0,0,0);
+        assertFalse(new PreconditionerIlu0_S64().setA(S));
+
+        // zero which isn't stored
+        assertFalse(new PreconditionerIlu0_S64().setA(A));
+    }
+}
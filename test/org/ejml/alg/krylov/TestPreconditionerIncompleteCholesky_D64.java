@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIncompleteCholesky_D64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * If there are no zeros then it is the same as the Cholesky decomposition
+     */
+    @Test
+    public void dense_isCholesky() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(6,rand);
+        DenseMatrix64F r = RandomMatrices.createRandom(6,1,rand);
+        DenseMatrix64F z = new DenseMatrix64F(6,1);
+
+        PreconditionerIncompleteCholesky_D64 alg = new PreconditionerIncompleteCholesky_D64();
+        assertTrue(alg.setA(A));
+
+        DenseMatrix64F L = alg.getL();
+        DenseMatrix64F found = new DenseMatrix64F(6,6);
+        CommonOps.multTransB(L,L,found);
+        assertTrue(MatrixFeatures.isIdentical(A,found,1e-8));
+
+        // applying it should be the same as solving the system
+        alg.apply(r,z);
+        DenseMatrix64F Az = new DenseMatrix64F(6,1);
+        CommonOps.mult(A,z,Az);
+        assertTrue(MatrixFeatures.isIdentical(r,Az,1e-8));
+    }
+
+    /**
+     * The factor should have the same sparsity pattern as A and match it at the non-zero elements
+     */
+    @Test
+    public void sparse_pattern() {
+        DenseMatrix64F A = GenericIterativeSolverChecks.laplacian(4,0);
+
+        PreconditionerIncompleteCholesky_D64 alg = new PreconditionerIncompleteCholesky_D64();
+        assertTrue(alg.setA(A));
+
+        DenseMatrix64F L = alg.getL();
+        DenseMatrix64F found = new DenseMatrix64F(A.numRows,A.numCols);
+        CommonOps.multTransB(L,L,found);
+
+        for( int i = 0; i < A.numRows; i++ ) {
+            for( int j = 0; j <= i; j++ ) {
+                if( A.get(i,j) == 0 )
+                    assertEquals(0,L.get(i,j),1e-15);
+                else
+                    assertEquals(A.get(i,j),found.get(i,j),1e-8);
+            }
+        }
+    }
+
+    @Test
+    public void notPositiveDefinite() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(6,rand);
+        A.set(3,3,-1);
+
+        assertFalse(new PreconditionerIncompleteCholesky_D64().setA(A));
+    }
+}
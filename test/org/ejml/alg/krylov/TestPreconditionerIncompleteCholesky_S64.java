@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerIncompleteCholesky_S64 {
+
+    Random rand = new Random(234);
+
+    /**
+     * Should produce the same factor and results as the dense implementation
+     */
+    @Test
+    public void compareToDense() {
+        DenseMatrix64F A = GenericIterativeSolverChecks.laplacian(5,0);
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+        DenseMatrix64F r = RandomMatrices.createRandom(A.numRows,1,rand);
+
+        PreconditionerIncompleteCholesky_D64 dense = new PreconditionerIncompleteCholesky_D64();
+        PreconditionerIncompleteCholesky_S64 alg = new PreconditionerIncompleteCholesky_S64();
+        assertTrue(dense.setA(A));
+        assertTrue(alg.setA(S));
+
+        // only the lower triangle is saved
+        SparseMatrixCSC64F L = alg.getL();
+        assertEquals((S.nz_length+A.numRows)/2,L.nz_length);
+        DenseMatrix64F found = SparseMatrixOps.convert(L,null);
+        assertTrue(MatrixFeatures.isIdentical(dense.getL(),found,1e-12));
+
+        DenseMatrix64F expected = new DenseMatrix64F(A.numRows,1);
+        DenseMatrix64F z = new DenseMatrix64F(A.numRows,1);
+        dense.apply(r,expected);
+        alg.apply(r,z);
+        assertTrue(MatrixFeatures.isIdentical(expected,z,1e-12));
+
+        // dense input is converted into a sparse matrix
+        assertTrue(alg.setA(A));
+        alg.apply(r,z);
+        assertTrue(MatrixFeatures.isIdentical(expected,z,1e-12));
+    }
+
+    /**
+     * The row indexes in the input matrix are not sorted
+     */
+    @Test
+    public void unsortedInput() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(6,rand);
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+        // reverse the order of elements in each column
+        for( int col = 0; col < S.numCols; col++ ) {
+            for( int i = S.col_idx[col], j = S.col_idx[col+1]-1; i < j; i++, j-- ) {
+                int row = S.nz_rows[i]; S.nz_rows[i] = S.nz_rows[j]; S.nz_rows[j] = row;
+                double v = S.nz_values[i]; S.nz_values[i] = S.nz_values[j]; S.nz_values[j] = v;
+            }
+        }
+        S.indicesSorted = false;
+
+        PreconditionerIncompleteCholesky_D64 dense = new PreconditionerIncompleteCholesky_D64();
+        PreconditionerIncompleteCholesky_S64 alg = new PreconditionerIncompleteCholesky_S64();
+        assertTrue(dense.setA(A));
+        assertTrue(alg.setA(S));
+
+        DenseMatrix64F found = SparseMatrixOps.convert(alg.getL(),null);
+        assertTrue(MatrixFeatures.isIdentical(dense.getL(),found,1e-8));
+    }
+
+    @Test
+    public void notPositiveDefinite() {
+        DenseMatrix64F A = GenericIterativeSolverChecks.laplacian(3,0);
+        A.set(4,4,-1);
+
+        assertFalse(new PreconditionerIncompleteCholesky_S64().setA(SparseMatrixOps.convert(A,null)));
+    }
+
+    @Test
+    public void missingDiagonal() {
+        SparseMatrixCSC64F S = new SparseMatrixCSC64F(3,3,5);
+        S.set(0,0,2);
+        S.set(1,0,1);
+        S.set(0,1,1);
+        S.set(2,2,2);
+
+        assertFalse(new PreconditionerIncompleteCholesky_S64().setA(S));
+    }
+}
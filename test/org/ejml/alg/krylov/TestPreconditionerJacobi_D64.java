@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.alg.krylov;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPreconditionerJacobi_D64 {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void apply() {
+        DenseMatrix64F A = RandomMatrices.createRandom(5,5,rand);
+        DenseMatrix64F r = RandomMatrices.createRandom(5,1,rand);
+        DenseMatrix64F z = new DenseMatrix64F(5,1);
+
+        PreconditionerJacobi_D64 alg = new PreconditionerJacobi_D64();
+        assertTrue(alg.setA(A));
+        alg.apply(r,z);
+
+        for( int i = 0; i < 5; i++ ) {
+            assertEquals(r.get(i)/A.get(i,i),z.get(i),1e-12);
+        }
+    }
+
+    @Test
+    public void zeroDiagonal() {
+        DenseMatrix64F A = RandomMatrices.createRandom(5,5,rand);
+        A.set(2,2,0);
+
+        assertFalse(new PreconditionerJacobi_D64().setA(A));
+    }
+}
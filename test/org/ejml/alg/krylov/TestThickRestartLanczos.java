@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.krylov;
+
+import org.ejml.alg.dense.mult.VectorVectorMult;
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.factory.DecompositionFactory;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.NormOps;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestThickRestartLanczos {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void largest() {
+        checkExtreme(100,5,true);
+        checkExtreme(60,1,true);
+    }
+
+    @Test
+    public void smallest() {
+        checkExtreme(100,5,false);
+        checkExtreme(60,3,false);
+    }
+
+    /**
+     * The basis size is the same as the matrix so it converges in one iteration
+     */
+    @Test
+    public void smallMatrix() {
+        checkExtreme(4,2,true);
+        checkExtreme(3,3,false);
+    }
+
+    /**
+     * Repeated eigenvalues and an invariant subspace which is found early
+     */
+    @Test
+    public void repeatedEigenvalues() {
+        int N = 50;
+        double ev[] = new double[N];
+        for( int i = 0; i < N; i++ )
+            ev[i] = i < 5 ? 10 : 1.0/(i+1);
+        DenseMatrix64F A = RandomMatrices.createEigenvaluesSymm(N,rand,ev);
+
+        ThickRestartLanczos alg = new ThickRestartLanczos();
+        assertTrue(alg.process(new LinearOperator_D64(A),4,true));
+
+        for( int i = 0; i < 4; i++ ) {
+            assertEquals(10,alg.getEigenvalues()[i],1e-8);
+        }
+        checkEigenvectors(A,alg,4);
+    }
+
+    /**
+     * Sparse matrix accessed through an operator
+     */
+    @Test
+    public void sparse() {
+        // 1D Laplacian
+        int N = 200;
+        DenseMatrix64F A = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            A.set(i,i,2);
+            if( i > 0 ) {
+                A.set(i,i-1,-1);
+                A.set(i-1,i,-1);
+            }
+        }
+        SparseMatrixCSC64F S = SparseMatrixOps.convert(A,null);
+
+        ThickRestartLanczos alg = new ThickRestartLanczos();
+        assertTrue(alg.process(new LinearOperator_S64(S),3,true));
+
+        for( int i = 0; i < 3; i++ ) {
+            double expected = 2-2*Math.cos((N-i)*Math.PI/(N+1));
+            assertEquals(expected,alg.getEigenvalues()[i],1e-8);
+        }
+        checkEigenvectors(A,alg,3);
+    }
+
+    /**
+     * If it runs out of restarts the results should still be Ritz pairs from the final basis
+     */
+    @Test
+    public void notConverged() {
+        int N = 300;
+        DenseMatrix64F A = RandomMatrices.createSymmetric(N,-1,1,rand);
+
+        ThickRestartLanczos alg = new ThickRestartLanczos();
+        alg.setOptions(1,1e-14);
+        assertFalse(alg.process(new LinearOperator_D64(A),3,true));
+        assertEquals(1,alg.getNumRestarts());
+
+        DenseMatrix64F X = alg.getEigenvectors();
+        DenseMatrix64F x = new DenseMatrix64F(N,1);
+        DenseMatrix64F Ax = new DenseMatrix64F(N,1);
+        for( int i = 0; i < 3; i++ ) {
+            CommonOps.extract(X,0,N,i,i+1,x,0,0);
+            assertEquals(1,NormOps.normF(x),1e-8);
+            // Rayleigh quotient of a Ritz vector is its Ritz value
+            CommonOps.mult(A,x,Ax);
+            assertEquals(alg.getEigenvalues()[i],VectorVectorMult.innerProd(x,Ax),1e-8);
+        }
+    }
+
+    private void checkExtreme( int N , int k , boolean largest ) {
+        DenseMatrix64F A = RandomMatrices.createSymmetric(N,-1,1,rand);
+
+        ThickRestartLanczos alg = new ThickRestartLanczos();
+        assertTrue(alg.process(new LinearOperator_D64(A),k,largest));
+
+        double expected[] = allEigenvalues(A);
+        double found[] = alg.getEigenvalues();
+
+        for( int i = 0; i < k; i++ ) {
+            double e = largest ? expected[N-1-i] : expected[i];
+            assertEquals(e,found[i],1e-8);
+        }
+        checkEigenvectors(A,alg,k);
+    }
+
+    private double[] allEigenvalues( DenseMatrix64F A ) {
+        EigenDecomposition<DenseMatrix64F> eig = DecompositionFactory.eig(A.numRows,false,true);
+        assertTrue(eig.decompose(A.copy()));
+        double values[] = new double[A.numRows];
+        for( int i = 0; i < A.numRows; i++ )
+            values[i] = eig.getEigenvalue(i).real;
+        Arrays.sort(values);
+        return values;
+    }
+
+    private void checkEigenvectors( DenseMatrix64F A , ThickRestartLanczos alg , int k ) {
+        DenseMatrix64F X = alg.getEigenvectors();
+        DenseMatrix64F x = new DenseMatrix64F(A.numRows,1);
+        DenseMatrix64F Ax = new DenseMatrix64F(A.numRows,1);
+
+        for( int i = 0; i < k; i++ ) {
+            CommonOps.extract(X,0,A.numRows,i,i+1,x,0,0);
+            assertEquals(1,NormOps.normF(x),1e-8);
+            CommonOps.mult(A,x,Ax);
+            CommonOps.add(Ax,-alg.getEigenvalues()[i],x,Ax);
+            assertTrue(NormOps.normF(Ax) < 1e-7);
+        }
+    }
+}
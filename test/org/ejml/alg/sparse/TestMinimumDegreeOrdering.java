@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.alg.sparse.decomposition.chol.CholeskyDecompositionUpLooking_S64;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMinimumDegreeOrdering {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void validPermutation() {
+        MinimumDegreeOrdering alg = new MinimumDegreeOrdering();
+
+        for( int N : new int[]{1,5,30} ) {
+            SparseMatrixCSC64F A = SparseMatrixOps.createRandom(N,N,N*3/2,-1,1,rand);
+            int perm[] = alg.process(A,null);
+
+            boolean found[] = new boolean[N];
+            for( int i = 0; i < N; i++ ) {
+                assertFalse(found[perm[i]]);
+                found[perm[i]] = true;
+            }
+        }
+    }
+
+    /**
+     * An arrow matrix with the dense row and column first fills in completely.  The ordering should
+     * move the dense node to the end and get rid of all the fill in.
+     */
+    @Test
+    public void arrowMatrix() {
+        int N = 20;
+        SparseMatrixCSC64F A = new SparseMatrixCSC64F(N,N,3*N);
+        for( int i = 0; i < N; i++ ) {
+            A.set(i,i,N);
+            if( i > 0 ) {
+                A.set(0,i,1);
+                A.set(i,0,1);
+            }
+        }
+
+        int perm[] = new MinimumDegreeOrdering().process(A,null);
+        // once only two nodes are left they have the same degree
+        assertTrue(perm[N-1] == 0 || perm[N-2] == 0);
+
+        CholeskyDecompositionUpLooking_S64 natural = new CholeskyDecompositionUpLooking_S64(false);
+        CholeskyDecompositionUpLooking_S64 ordered = new CholeskyDecompositionUpLooking_S64(true);
+
+        assertTrue(natural.decompose(A));
+        assertTrue(ordered.decompose(A));
+
+        assertEquals(N*(N+1)/2,natural.getL().nz_length);
+        assertEquals(2*N-1,ordered.getL().nz_length);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSparseMatrixOps {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void convert_DM_SM() {
+        DenseMatrix64F a = RandomMatrices.createRandom(6,7,rand);
+        a.set(1,2,0);
+        a.set(5,6,0);
+
+        SparseMatrixCSC64F b = SparseMatrixOps.convert(a,(SparseMatrixCSC64F)null);
+
+        assertEquals(40,b.nz_length);
+        assertTrue(b.indicesSorted);
+        assertTrue(b.isValid());
+
+        DenseMatrix64F c = SparseMatrixOps.convert(b,new DenseMatrix64F(2,3));
+        assertTrue(MatrixFeatures.isIdentical(a,c,0));
+    }
+
+    @Test
+    public void transpose() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(8,5,15,-1,1,rand);
+        SparseMatrixCSC64F b = SparseMatrixOps.transpose(a,null,null);
+
+        assertTrue(b.indicesSorted);
+        assertTrue(b.isValid());
+
+        DenseMatrix64F expected = CommonOps.transpose(SparseMatrixOps.convert(a,(DenseMatrix64F)null),null);
+        assertTrue(MatrixFeatures.isIdentical(expected,SparseMatrixOps.convert(b,(DenseMatrix64F)null),0));
+    }
+
+    @Test
+    public void permuteSymmetric() {
+        DenseMatrix64F A = RandomMatrices.createSymmetric(7,-1,1,rand);
+        int perm[] = new int[]{3,0,6,1,5,2,4};
+        int pinv[] = new int[7];
+        for( int i = 0; i < 7; i++ )
+            pinv[perm[i]] = i;
+
+        SparseMatrixCSC64F C = SparseMatrixOps.permuteSymmetric(
+                SparseMatrixOps.convert(A,(SparseMatrixCSC64F)null),pinv,null,null);
+        assertTrue(C.isValid());
+
+        for( int i = 0; i < 7; i++ ) {
+            for( int j = 0; j < 7; j++ ) {
+                double expected = i <= j ? A.get(perm[i],perm[j]) : 0;
+                assertEquals(expected,C.get(i,j),0);
+            }
+        }
+
+        // no permutation
+        C = SparseMatrixOps.permuteSymmetric(SparseMatrixOps.convert(A,(SparseMatrixCSC64F)null),null,C,null);
+        for( int i = 0; i < 7; i++ ) {
+            for( int j = 0; j < 7; j++ ) {
+                double expected = i <= j ? A.get(i,j) : 0;
+                assertEquals(expected,C.get(i,j),0);
+            }
+        }
+    }
+
+    @Test
+    public void mult_SS() {
+        for( int nz : new int[]{0,5,20,80}) {
+            SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,Math.min(nz,80),-1,1,rand);
+            SparseMatrixCSC64F b = SparseMatrixOps.createRandom(8,12,nz,-1,1,rand);
+            // start with a matrix which is too small to make sure it grows
+            SparseMatrixCSC64F c = new SparseMatrixCSC64F(1,1,0);
+
+            SparseMatrixOps.mult(a,b,c,null,null);
+
+            assertTrue(c.isValid());
+
+            DenseMatrix64F expected = new DenseMatrix64F(10,12);
+            CommonOps.mult(SparseMatrixOps.convert(a,(DenseMatrix64F)null),
+                    SparseMatrixOps.convert(b,(DenseMatrix64F)null),expected);
+
+            assertTrue(MatrixFeatures.isIdentical(expected,SparseMatrixOps.convert(c,(DenseMatrix64F)null),1e-8));
+        }
+    }
+
+    @Test
+    public void mult_SD() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,20,-1,1,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(8,6,rand);
+        DenseMatrix64F c = RandomMatrices.createRandom(10,6,rand);
+
+        SparseMatrixOps.mult(a,b,c);
+
+        DenseMatrix64F expected = new DenseMatrix64F(10,6);
+        CommonOps.mult(SparseMatrixOps.convert(a,(DenseMatrix64F)null),b,expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,c,1e-8));
+    }
+
+    @Test
+    public void multTransA_SD() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(8,10,20,-1,1,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(8,6,rand);
+        DenseMatrix64F c = RandomMatrices.createRandom(10,6,rand);
+
+        SparseMatrixOps.multTransA(a,b,c);
+
+        DenseMatrix64F expected = new DenseMatrix64F(10,6);
+        CommonOps.multTransA(SparseMatrixOps.convert(a,(DenseMatrix64F)null),b,expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,c,1e-8));
+    }
+
+    @Test
+    public void mult_DS() {
+        DenseMatrix64F a = RandomMatrices.createRandom(10,8,rand);
+        SparseMatrixCSC64F b = SparseMatrixOps.createRandom(8,6,20,-1,1,rand);
+        DenseMatrix64F c = RandomMatrices.createRandom(10,6,rand);
+
+        SparseMatrixOps.mult(a,b,c);
+
+        DenseMatrix64F expected = new DenseMatrix64F(10,6);
+        CommonOps.mult(a,SparseMatrixOps.convert(b,(DenseMatrix64F)null),expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,c,1e-8));
+    }
+
+    @Test
+    public void mult_badShapes() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,20,-1,1,rand);
+        SparseMatrixCSC64F b = SparseMatrixOps.createRandom(7,6,20,-1,1,rand);
+
+        try {
+            SparseMatrixOps.mult(a,b,new SparseMatrixCSC64F(10,6,0),null,null);
+            fail("Exception should have been thrown");
+        } catch( MatrixDimensionException ignore ){}
+
+        try {
+            SparseMatrixOps.mult(a,new DenseMatrix64F(8,6),new DenseMatrix64F(10,5));
+            fail("Exception should have been thrown");
+        } catch( MatrixDimensionException ignore ){}
+    }
+
+    /**
+     * The array length for the output of mult can be more than an int can store
+     */
+    @Test
+    public void growLength() {
+        assertEquals(12,SparseMatrixOps.growLength(20,3,4));
+        assertEquals(15,SparseMatrixOps.growLength(15,100000,100000));
+        assertEquals(Integer.MAX_VALUE,SparseMatrixOps.growLength(2L*1500000000+100000,100000,100000));
+    }
+
+    @Test
+    public void identity() {
+        SparseMatrixCSC64F a = SparseMatrixOps.identity(5);
+
+        assertTrue(a.isValid());
+        assertTrue(MatrixFeatures.isIdentity(SparseMatrixOps.convert(a,(DenseMatrix64F)null),0));
+    }
+
+    @Test
+    public void isEquals() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(8,10,20,-1,1,rand);
+        SparseMatrixCSC64F b = a.copy();
+
+        assertTrue(SparseMatrixOps.isEquals(a,b,0));
+
+        // explicitly stored zeros should be ignored
+        int row = (a.nz_rows[0]+1)%8;
+        if( a.nz_index(row,0) < 0 ) {
+            b.set(row,0,0);
+            assertTrue(SparseMatrixOps.isEquals(a,b,0));
+        }
+
+        b.nz_values[3] += 1e-4;
+        assertFalse(SparseMatrixOps.isEquals(a,b,1e-8));
+        assertTrue(SparseMatrixOps.isEquals(a,b,1e-3));
+    }
+
+    @Test
+    public void createRandom() {
+        // sparse and dense code paths
+        for( int nz : new int[]{10,70} ) {
+            SparseMatrixCSC64F a = SparseMatrixOps.createRandom(8,10,nz,-1,2,rand);
+
+            assertEquals(nz,a.nz_length);
+            assertTrue(a.indicesSorted);
+            assertTrue(a.isValid());
+
+            for( int i = 0; i < a.nz_length; i++ ) {
+                assertTrue(a.nz_values[i] >= -1 && a.nz_values[i] <= 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse;
+
+import org.ejml.alg.dense.decomposition.TriangularSolver;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSparseTriangularSolver {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void solveL() {
+        DenseMatrix64F L = createTriangular(true,12);
+        SparseMatrixCSC64F L_s = SparseMatrixOps.convert(L,(SparseMatrixCSC64F)null);
+
+        DenseMatrix64F b = RandomMatrices.createRandom(12,1,rand);
+        DenseMatrix64F expected = b.copy();
+        DenseMatrix64F found = b.copy();
+
+        TriangularSolver.solveL(L.data,expected.data,12);
+        SparseTriangularSolver.solveL(L_s,found.data);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+
+    @Test
+    public void solveTranL() {
+        DenseMatrix64F L = createTriangular(true,12);
+        SparseMatrixCSC64F L_s = SparseMatrixOps.convert(L,(SparseMatrixCSC64F)null);
+
+        DenseMatrix64F b = RandomMatrices.createRandom(12,1,rand);
+        DenseMatrix64F expected = b.copy();
+        DenseMatrix64F found = b.copy();
+
+        TriangularSolver.solveTranL(L.data,expected.data,12);
+        SparseTriangularSolver.solveTranL(L_s,found.data);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+
+    @Test
+    public void solveU() {
+        DenseMatrix64F U = createTriangular(false,12);
+        SparseMatrixCSC64F U_s = SparseMatrixOps.convert(U,(SparseMatrixCSC64F)null);
+
+        DenseMatrix64F b = RandomMatrices.createRandom(12,1,rand);
+        DenseMatrix64F expected = b.copy();
+        DenseMatrix64F found = b.copy();
+
+        TriangularSolver.solveU(U.data,expected.data,12);
+        SparseTriangularSolver.solveU(U_s,found.data);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+
+    @Test
+    public void solveTranU() {
+        DenseMatrix64F U = createTriangular(false,12);
+        SparseMatrixCSC64F U_s = SparseMatrixOps.convert(U,(SparseMatrixCSC64F)null);
+
+        DenseMatrix64F b = RandomMatrices.createRandom(12,1,rand);
+        DenseMatrix64F found = b.copy();
+
+        SparseTriangularSolver.solveTranU(U_s,found.data);
+
+        DenseMatrix64F U_t = CommonOps.transpose(U,null);
+        DenseMatrix64F expected = b.copy();
+        TriangularSolver.solveL(U_t.data,expected.data,12);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+
+    /**
+     * Solve with a sparse right hand side and compare against the dense solution
+     */
+    @Test
+    public void solve_sparseB() {
+        for( boolean lower : new boolean[]{true,false}) {
+            DenseMatrix64F G = createTriangular(lower,15);
+            SparseMatrixCSC64F G_s = SparseMatrixOps.convert(G,(SparseMatrixCSC64F)null);
+            SparseMatrixCSC64F B = SparseMatrixOps.createRandom(15,4,6,-1,1,rand);
+            SparseMatrixCSC64F X = new SparseMatrixCSC64F(1,1,0);
+
+            SparseTriangularSolver.solve(G_s,B,X,null,null);
+
+            assertTrue(X.isValid());
+
+            DenseMatrix64F expected = new DenseMatrix64F(15,4);
+            CommonOps.solve(G,SparseMatrixOps.convert(B,(DenseMatrix64F)null),expected);
+
+            assertTrue(MatrixFeatures.isIdentical(expected,SparseMatrixOps.convert(X,(DenseMatrix64F)null),1e-8));
+        }
+    }
+
+    /**
+     * Creates a sparse triangular matrix with a strong diagonal
+     */
+    private DenseMatrix64F createTriangular( boolean lower , int N ) {
+        DenseMatrix64F A = new DenseMatrix64F(N,N);
+
+        for( int i = 0; i < N; i++ ) {
+            A.set(i,i,2+rand.nextDouble());
+            for( int j = 0; j < i; j++ ) {
+                if( rand.nextDouble() < 0.25 ) {
+                    if( lower )
+                        A.set(i,j,rand.nextDouble()-0.5);
+                    else
+                        A.set(j,i,rand.nextDouble()-0.5);
+                }
+            }
+        }
+        return A;
+    }
+}
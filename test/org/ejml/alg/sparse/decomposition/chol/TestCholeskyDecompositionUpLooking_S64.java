@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse.decomposition.chol;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCholeskyDecompositionUpLooking_S64 {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void decompose() {
+        for( boolean reduceFill : new boolean[]{false,true}) {
+            CholeskyDecompositionUpLooking_S64 alg = new CholeskyDecompositionUpLooking_S64(reduceFill);
+
+            for( int N : new int[]{1,2,10,40} ) {
+                SparseMatrixCSC64F A = createSymmPosDef(N,N,rand);
+
+                assertTrue(alg.decompose(A));
+                checkSolution(alg,A);
+            }
+        }
+    }
+
+    /**
+     * Only the upper triangle should be read
+     */
+    @Test
+    public void upperTriangleOnly() {
+        SparseMatrixCSC64F A = createSymmPosDef(20,30,rand);
+
+        DenseMatrix64F upper = SparseMatrixOps.convert(A,(DenseMatrix64F)null);
+        for( int i = 0; i < 20; i++ ) {
+            for( int j = 0; j < i; j++ ) {
+                upper.set(i,j,0);
+            }
+        }
+        SparseMatrixCSC64F A_upper = SparseMatrixOps.convert(upper,(SparseMatrixCSC64F)null);
+
+        CholeskyDecompositionUpLooking_S64 alg = new CholeskyDecompositionUpLooking_S64(true);
+        assertTrue(alg.decompose(A_upper));
+        checkSolution(alg,A);
+    }
+
+    /**
+     * Decompose two matrices with the same structure but different values.  The second time the symbolic
+     * results are recycled
+     */
+    @Test
+    public void sameStructure() {
+        SparseMatrixCSC64F A = createSymmPosDef(25,30,rand);
+        SparseMatrixCSC64F B = A.copy();
+        for( int i = 0; i < B.nz_length; i++ ) {
+            B.nz_values[i] *= 1.5;
+        }
+
+        CholeskyDecompositionUpLooking_S64 alg = new CholeskyDecompositionUpLooking_S64(true);
+        alg.performSymbolic(A);
+        int perm[] = alg.getPermutation();
+
+        assertTrue(alg.decompose(B));
+        assertTrue(perm == alg.getPermutation());
+        checkSolution(alg,B);
+
+        // now a different structure
+        SparseMatrixCSC64F C = createSymmPosDef(25,30,rand);
+        assertTrue(alg.decompose(C));
+        checkSolution(alg,C);
+    }
+
+    @Test
+    public void notPositiveDefinite() {
+        SparseMatrixCSC64F A = SparseMatrixOps.identity(5);
+        A.set(3,3,-1);
+
+        CholeskyDecompositionUpLooking_S64 alg = new CholeskyDecompositionUpLooking_S64(true);
+        assertFalse(alg.decompose(A));
+    }
+
+    /**
+     * Checks to see if P*A*P' = L*L'
+     */
+    private void checkSolution( CholeskyDecompositionUpLooking_S64 alg , SparseMatrixCSC64F A ) {
+        SparseMatrixCSC64F L = alg.getT(null);
+        assertTrue(L.isValid());
+        assertTrue(alg.isLower());
+
+        int N = A.numCols;
+        DenseMatrix64F L_d = SparseMatrixOps.convert(L,(DenseMatrix64F)null);
+        assertTrue(MatrixFeatures.isUpperTriangle(CommonOps.transpose(L_d,null),0,0));
+
+        DenseMatrix64F found = new DenseMatrix64F(N,N);
+        CommonOps.multTransB(L_d,L_d,found);
+
+        DenseMatrix64F A_d = SparseMatrixOps.convert(A,(DenseMatrix64F)null);
+        int perm[] = alg.getPermutation();
+        DenseMatrix64F expected = new DenseMatrix64F(N,N);
+        for( int i = 0; i < N; i++ ) {
+            for( int j = 0; j < N; j++ ) {
+                int pi = perm == null ? i : perm[i];
+                int pj = perm == null ? j : perm[j];
+                expected.set(i,j,A_d.get(pi,pj));
+            }
+        }
+
+        assertTrue(MatrixFeatures.isIdentical(expected,found,1e-8));
+    }
+
+    /**
+     * Creates a random sparse symmetric positive definite matrix
+     */
+    public static SparseMatrixCSC64F createSymmPosDef( int N , int nz , Random rand ) {
+        SparseMatrixCSC64F B = SparseMatrixOps.createRandom(N,N,Math.min(nz,N*N),-1,1,rand);
+        DenseMatrix64F B_d = SparseMatrixOps.convert(B,(DenseMatrix64F)null);
+
+        DenseMatrix64F A = new DenseMatrix64F(N,N);
+        CommonOps.multTransA(B_d,B_d,A);
+        for( int i = 0; i < N; i++ ) {
+            A.add(i,i,1);
+        }
+
+        return SparseMatrixOps.convert(A,(SparseMatrixCSC64F)null);
+    }
+}
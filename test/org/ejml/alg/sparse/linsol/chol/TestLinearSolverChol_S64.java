@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.alg.sparse.linsol.chol;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.ejml.alg.sparse.decomposition.chol.CholeskyDecompositionUpLooking_S64;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
+import org.ejml.factory.LinearSolverFactory;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.MatrixFeatures;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.ejml.alg.sparse.decomposition.chol.TestCholeskyDecompositionUpLooking_S64.createSymmPosDef;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverChol_S64 {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void solve_sparse() {
+        for( boolean reduceFill : new boolean[]{false,true}) {
+            SparseMatrixCSC64F A = createSymmPosDef(30,40,rand);
+            SparseMatrixCSC64F B = SparseMatrixOps.createRandom(30,4,20,-1,1,rand);
+            SparseMatrixCSC64F X = new SparseMatrixCSC64F(1,1,0);
+
+            LinearSolverChol_S64 solver = new LinearSolverChol_S64(new CholeskyDecompositionUpLooking_S64(reduceFill));
+            assertTrue(solver.setA(A));
+            solver.solve(B,X);
+
+            assertTrue(X.isValid());
+
+            DenseMatrix64F expected = new DenseMatrix64F(30,4);
+            CommonOps.solve(SparseMatrixOps.convert(A,(DenseMatrix64F)null),
+                    SparseMatrixOps.convert(B,(DenseMatrix64F)null),expected);
+
+            assertTrue(MatrixFeatures.isIdentical(expected,SparseMatrixOps.convert(X,(DenseMatrix64F)null),1e-8));
+        }
+    }
+
+    @Test
+    public void solve_dense() {
+        SparseMatrixCSC64F A = createSymmPosDef(30,40,rand);
+        DenseMatrix64F B = RandomMatrices.createRandom(30,3,rand);
+        DenseMatrix64F X = new DenseMatrix64F(30,3);
+
+        LinearSolverChol_S64 solver = LinearSolverFactory.symmPosDef(A);
+        assertTrue(solver.setA(A));
+        solver.solve(B,X);
+
+        DenseMatrix64F expected = new DenseMatrix64F(30,3);
+        CommonOps.solve(SparseMatrixOps.convert(A,(DenseMatrix64F)null),B,expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,X,1e-8));
+
+        // B and X can be the same matrix
+        solver.solve(B,B);
+        assertTrue(MatrixFeatures.isIdentical(expected,B,1e-8));
+    }
+
+    /**
+     * The maximum number of elements in X can be more than an int can store
+     */
+    @Test
+    public void growLength() {
+        assertEquals(30,LinearSolverChol_S64.growLength(10,10,3));
+        assertEquals(20+100000,LinearSolverChol_S64.growLength(10,100000,30000));
+        assertEquals(Integer.MAX_VALUE,LinearSolverChol_S64.growLength(1500000000,100000,30000));
+    }
+
+    @Test
+    public void invert() {
+        SparseMatrixCSC64F A = createSymmPosDef(15,20,rand);
+        SparseMatrixCSC64F A_inv = new SparseMatrixCSC64F(1,1,0);
+
+        LinearSolverChol_S64 solver = LinearSolverFactory.symmPosDef(A);
+        assertTrue(solver.setA(A));
+        solver.invert(A_inv);
+
+        DenseMatrix64F expected = SparseMatrixOps.convert(A,(DenseMatrix64F)null);
+        CommonOps.invert(expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,SparseMatrixOps.convert(A_inv,(DenseMatrix64F)null),1e-8));
+    }
+
+    @Test
+    public void quality() {
+        SparseMatrixCSC64F A = createSymmPosDef(15,20,rand);
+        SparseMatrixCSC64F A_small = A.copy();
+        A_small.set(3,3,A.get(3,3)*1e-6);
+        for( int i = 0; i < A.numCols; i++ ) {
+            if( i == 3 ) continue;
+            A_small.set(3,i,0);
+            A_small.set(i,3,0);
+        }
+
+        LinearSolverChol_S64 solver = new LinearSolverChol_S64(new CholeskyDecompositionUpLooking_S64(true));
+        assertTrue(solver.setA(A));
+        double q0 = solver.quality();
+        assertTrue(solver.setA(A_small));
+        double q1 = solver.quality();
+
+        assertTrue(q1 < q0);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.data;
+
+import org.ejml.alg.sparse.SparseMatrixOps;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSparseMatrixCSC64F {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void setAndGet() {
+        for( boolean sorted : new boolean[]{true,false}) {
+            SparseMatrixCSC64F a = new SparseMatrixCSC64F(6,5,2);
+            a.indicesSorted = sorted;
+
+            // fill the matrix in a random order so that elements are inserted in the middle of columns
+            int order[] = new int[30];
+            for( int i = 0; i < order.length; i++ )
+                order[i] = i;
+            for( int i = 0; i < order.length; i++ ) {
+                int j = rand.nextInt(order.length);
+                int tmp = order[i]; order[i] = order[j]; order[j] = tmp;
+            }
+
+            for( int i = 0; i < 20; i++ ) {
+                int row = order[i]/5, col = order[i]%5;
+                a.set(row,col,order[i]+1);
+            }
+
+            assertEquals(20,a.nz_length);
+            assertTrue(a.isValid());
+
+            for( int i = 0; i < order.length; i++ ) {
+                int row = order[i]/5, col = order[i]%5;
+                double expected = i < 20 ? order[i]+1 : 0;
+                assertEquals(expected,a.get(row,col),0);
+            }
+
+            // overwrite an existing element
+            int row = order[0]/5, col = order[0]%5;
+            a.set(row,col,-2);
+            assertEquals(-2,a.get(row,col),0);
+            assertEquals(20,a.nz_length);
+        }
+    }
+
+    @Test
+    public void get_outOfBounds() {
+        SparseMatrixCSC64F a = new SparseMatrixCSC64F(3,4,2);
+        try {
+            a.get(3,0);
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException ignore ) {}
+        try {
+            a.set(0,4,2);
+            fail("Should have thrown an exception");
+        } catch( IllegalArgumentException ignore ) {}
+    }
+
+    @Test
+    public void sortIndices() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,30,-1,1,rand);
+        SparseMatrixCSC64F b = a.copy();
+
+        // shuffle the elements inside each column
+        b.indicesSorted = false;
+        for( int col = 0; col < b.numCols; col++ ) {
+            int idx0 = b.col_idx[col], idx1 = b.col_idx[col+1];
+            for( int i = idx0; i < idx1-1; i++ ) {
+                int j = i + rand.nextInt(idx1-i);
+                int tmpR = b.nz_rows[i]; b.nz_rows[i] = b.nz_rows[j]; b.nz_rows[j] = tmpR;
+                double tmpV = b.nz_values[i]; b.nz_values[i] = b.nz_values[j]; b.nz_values[j] = tmpV;
+            }
+        }
+        assertTrue(SparseMatrixOps.isEquals(a,b,0));
+
+        b.sortIndices();
+        assertTrue(b.indicesSorted);
+        assertTrue(b.isValid());
+
+        for( int i = 0; i < a.nz_length; i++ ) {
+            assertEquals(a.nz_rows[i],b.nz_rows[i]);
+            assertEquals(a.nz_values[i],b.nz_values[i],0);
+        }
+    }
+
+    @Test
+    public void copy() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,30,-1,1,rand);
+        SparseMatrixCSC64F b = a.copy();
+
+        assertTrue(a != b);
+        assertTrue(a.nz_values != b.nz_values);
+        assertTrue(SparseMatrixOps.isEquals(a,b,0));
+        assertEquals(a.indicesSorted,b.indicesSorted);
+    }
+
+    @Test
+    public void reshape() {
+        SparseMatrixCSC64F a = SparseMatrixOps.createRandom(10,8,30,-1,1,rand);
+
+        a.reshape(4,12,50);
+        assertEquals(4,a.numRows);
+        assertEquals(12,a.numCols);
+        assertEquals(0,a.nz_length);
+        assertTrue(a.nz_values.length >= 50);
+        assertTrue(a.isValid());
+
+        for( int i = 0; i < 4; i++ ) {
+            for( int j = 0; j < 12; j++ ) {
+                assertEquals(0,a.get(i,j),0);
+            }
+        }
+    }
+
+    @Test
+    public void getNumElements() {
+        SparseMatrixCSC64F a = new SparseMatrixCSC64F(3,4,2);
+        a.set(1,2,3);
+
+        assertEquals(12,a.getNumElements());
+        assertEquals(1,a.getNonZeroLength());
+
+        // too large to be stored in an int
+        a = new SparseMatrixCSC64F(100000,100000,2);
+        try {
+            a.getNumElements();
+            fail("Exception should have been thrown");
+        } catch( IllegalArgumentException ignore ) {}
+    }
+}
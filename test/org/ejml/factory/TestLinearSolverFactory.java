@@ -72,6 +72,46 @@ public class TestLinearSolverFactory {
         standardTest(A, x, y, solver);
     }
 
+    @Test
+    public void general_wide() {
+        DenseMatrix64F A = RandomMatrices.createRandom(3,6,rand);
+        DenseMatrix64F y = RandomMatrices.createRandom(3,1,rand);
+        DenseMatrix64F x = new DenseMatrix64F(6,1);
+
+        LinearSolver<DenseMatrix64F> solver = LinearSolverFactory.general(A.numRows, A.numCols);
+        solver = new LinearSolverSafe<DenseMatrix64F>(solver);
+
+        assertTrue(solver.setA(A));
+        solver.solve(y,x);
+
+        DenseMatrix64F found = new DenseMatrix64F(3,1);
+        CommonOps.mult(A,x,found);
+        assertTrue(MatrixFeatures.isIdentical(y,found,1e-8));
+    }
+
+    @Test
+    public void minimumNorm() {
+        DenseMatrix64F A = RandomMatrices.createRandom(3,6,rand);
+        DenseMatrix64F y = RandomMatrices.createRandom(3,1,rand);
+        DenseMatrix64F x = new DenseMatrix64F(6,1);
+
+        LinearSolver<DenseMatrix64F> solver = LinearSolverFactory.minimumNorm(A.numRows, A.numCols);
+        solver = new LinearSolverSafe<DenseMatrix64F>(solver);
+
+        assertTrue(solver.setA(A));
+        solver.solve(y,x);
+
+        // the minimum norm solution is in the row space of A, x = A^T*z
+        DenseMatrix64F AAt = new DenseMatrix64F(3,3);
+        CommonOps.multTransB(A,A,AAt);
+        DenseMatrix64F z = new DenseMatrix64F(3,1);
+        assertTrue(CommonOps.solve(AAt,y,z));
+        DenseMatrix64F expected = new DenseMatrix64F(6,1);
+        CommonOps.multTransA(A,z,expected);
+
+        assertTrue(MatrixFeatures.isIdentical(expected,x,1e-8));
+    }
+
     @Test
     public void symmetric() {
         DenseMatrix64F A = RandomMatrices.createSymmPosDef(5,rand);
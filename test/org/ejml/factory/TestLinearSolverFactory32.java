@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.factory;
+
+import org.ejml.alg.dense.linsol.LinearSolverSafe32;
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.interfaces.linsol.LinearSolver;
+import org.ejml.ops.CommonOps32;
+import org.ejml.ops.ConvertMatrixType;
+import org.ejml.ops.MatrixFeatures32;
+import org.ejml.ops.RandomMatrices;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearSolverFactory32 {
+
+    Random rand = new Random(234);
+
+    @Test
+    public void general() {
+        DenseMatrix32F A = createRandom(5,4);
+        DenseMatrix32F x = createRandom(4,1);
+        DenseMatrix32F y = new DenseMatrix32F(5,1);
+
+        LinearSolver<DenseMatrix32F> solver = LinearSolverFactory32.general(A.numRows, A.numCols);
+
+        standardTest(A, x, y, solver);
+    }
+
+    @Test
+    public void linear() {
+        DenseMatrix32F A = createRandom(4,4);
+        DenseMatrix32F x = createRandom(4,1);
+        DenseMatrix32F y = new DenseMatrix32F(4,1);
+
+        LinearSolver<DenseMatrix32F> solver = LinearSolverFactory32.linear(A.numRows);
+
+        standardTest(A, x, y, solver);
+    }
+
+    @Test
+    public void leastSquares() {
+        DenseMatrix32F A = createRandom(5,4);
+        DenseMatrix32F x = createRandom(4,1);
+        DenseMatrix32F y = new DenseMatrix32F(5,1);
+
+        LinearSolver<DenseMatrix32F> solver = LinearSolverFactory32.leastSquares(A.numRows,A.numCols);
+
+        standardTest(A, x, y, solver);
+    }
+
+    @Test
+    public void symmetric() {
+        DenseMatrix32F A = ConvertMatrixType.convert(RandomMatrices.createSymmPosDef(5,rand),(DenseMatrix32F)null);
+        DenseMatrix32F x = createRandom(5,1);
+        DenseMatrix32F y = new DenseMatrix32F(5,1);
+
+        LinearSolver<DenseMatrix32F> solver = LinearSolverFactory32.symmPosDef(A.numCols);
+
+        standardTest(A, x, y, solver);
+    }
+
+    private DenseMatrix32F createRandom( int numRows , int numCols ) {
+        return ConvertMatrixType.convert(RandomMatrices.createRandom(numRows,numCols,rand),(DenseMatrix32F)null);
+    }
+
+    /**
+     * Given A and x it computes the value of y.  This is then compared against what the solver computes
+     * x should be.
+     */
+    private void standardTest(DenseMatrix32F a, DenseMatrix32F x, DenseMatrix32F y,
+                              LinearSolver<DenseMatrix32F> solver) {
+        solver = new LinearSolverSafe32<DenseMatrix32F>(solver);
+
+        CommonOps32.mult(a,x,y);
+
+        DenseMatrix32F x_found = new DenseMatrix32F(x.numRows,1);
+
+        assertTrue(solver.setA(a));
+        solver.solve(y,x_found);
+
+        assertTrue(MatrixFeatures32.isIdentical(x,x_found,1e-3f));
+    }
+}
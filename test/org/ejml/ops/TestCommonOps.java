@@ -18,6 +18,7 @@
 
 package org.ejml.ops;
 
+import org.ejml.EjmlParameters;
 import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
 import org.ejml.alg.dense.linsol.lu.LinearSolverLu;
 import org.ejml.alg.dense.mult.CheckMatrixMultShape;
@@ -98,6 +99,20 @@ public class TestCommonOps {
         assertTrue(!oneFailed);
     }
 
+    /**
+     * Same as {@link #checkAllMatrixMults()} but forces the packed algorithm to be used
+     */
+    @Test
+    public void checkAllMatrixMults_packed() {
+        int packedSwitch = EjmlParameters.MULT_PACKED_SWITCH;
+        try {
+            EjmlParameters.MULT_PACKED_SWITCH = 1;
+            checkAllMatrixMults();
+        } finally {
+            EjmlParameters.MULT_PACKED_SWITCH = packedSwitch;
+        }
+    }
+
     private Method findCheck( String name , boolean hasAlpha ) {
         Method checkMethod;
         try {
@@ -183,6 +198,50 @@ public class TestCommonOps {
         return true;
     }
 
+    /**
+     * When concurrent mode is turned on the results should be identical to the single threaded results
+     */
+    @Test
+    public void mult_concurrent() {
+        DenseMatrix64F a = RandomMatrices.createRandom(60,45,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(45,50,rand);
+        DenseMatrix64F bt = RandomMatrices.createRandom(50,45,rand);
+        DenseMatrix64F at = RandomMatrices.createRandom(45,60,rand);
+
+        DenseMatrix64F expected[] = new DenseMatrix64F[8];
+        DenseMatrix64F found[] = new DenseMatrix64F[8];
+        for( int i = 0; i < expected.length; i++ ) {
+            expected[i] = new DenseMatrix64F(60,50);
+            found[i] = new DenseMatrix64F(60,50);
+        }
+
+        boolean concurrent = EjmlParameters.CONCURRENT;
+        int multSwitch = EjmlParameters.MULT_CONCURRENT_SWITCH;
+        try {
+            for( int trial = 0; trial < 2; trial++ ) {
+                DenseMatrix64F c[] = trial == 0 ? expected : found;
+                EjmlParameters.CONCURRENT = trial == 1;
+                EjmlParameters.MULT_CONCURRENT_SWITCH = 0;
+
+                CommonOps.mult(a,b,c[0]);
+                CommonOps.mult(1.5,a,b,c[1]);
+                CommonOps.multTransA(at,b,c[2]);
+                CommonOps.multTransA(1.5,at,b,c[3]);
+                CommonOps.multTransB(a,bt,c[4]);
+                CommonOps.multTransB(1.5,a,bt,c[5]);
+                CommonOps.multTransAB(at,bt,c[6]);
+                CommonOps.multTransAB(1.5,at,bt,c[7]);
+            }
+        } finally {
+            EjmlParameters.CONCURRENT = concurrent;
+            EjmlParameters.MULT_CONCURRENT_SWITCH = multSwitch;
+        }
+
+        for( int i = 0; i < expected.length; i++ ) {
+            assertTrue(MatrixFeatures.isIdentical(expected[i],found[i],0));
+        }
+    }
+
     @Test
     public void multInner() {
         DenseMatrix64F a = RandomMatrices.createRandom(10,4,rand);
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.ops;
+
+import org.ejml.data.DenseMatrix32F;
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.RowD1Matrix32F;
+import org.ejml.data.RowD1Matrix64F;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The 32-bit code is generated from the 64-bit code, so these tests just compare the two against each other.
+ *
+ * @author Peter Abeles
+ */
+public class TestCommonOps32 {
+
+    Random rand = new Random(0xFF);
+    float tol = 1e-4f;
+
+    /**
+     * Compare all the multiplication functions against their 64-bit equivalent
+     */
+    @Test
+    public void compareMultTo64() throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+        int numChecked = 0;
+
+        for( Method method : CommonOps32.class.getMethods() ) {
+            String name = method.getName();
+
+            if( !name.startsWith("mult") || name.equals("multInner") || name.equals("multOuter"))
+                continue;
+
+            boolean hasAlpha = method.getParameterTypes()[0] == float.class;
+            Method method64 = hasAlpha ?
+                    CommonOps.class.getMethod(name,double.class,RowD1Matrix64F.class,RowD1Matrix64F.class,RowD1Matrix64F.class) :
+                    CommonOps.class.getMethod(name,RowD1Matrix64F.class,RowD1Matrix64F.class,RowD1Matrix64F.class);
+
+            boolean transA = name.contains("TransA");
+            boolean transB = name.contains("TransAB") || name.contains("TransB");
+
+            // include a vector so that the vector code is also checked
+            int shapes[][] = new int[][]{{4,5,6},{1,7,3},{6,4,1},{30,25,35}};
+
+            for( int[] s : shapes ) {
+                DenseMatrix64F a = transA ? RandomMatrices.createRandom(s[1],s[0],rand) :
+                        RandomMatrices.createRandom(s[0],s[1],rand);
+                DenseMatrix64F b = transB ? RandomMatrices.createRandom(s[2],s[1],rand) :
+                        RandomMatrices.createRandom(s[1],s[2],rand);
+                DenseMatrix64F c = RandomMatrices.createRandom(s[0],s[2],rand);
+
+                DenseMatrix32F a32 = convert(a);
+                DenseMatrix32F b32 = convert(b);
+                DenseMatrix32F c32 = convert(c);
+
+                if( hasAlpha ) {
+                    method64.invoke(null,2.5,a,b,c);
+                    method.invoke(null,2.5f,a32,b32,c32);
+                } else {
+                    method64.invoke(null,a,b,c);
+                    method.invoke(null,a32,b32,c32);
+                }
+
+                checkIdentical(c,c32);
+            }
+            numChecked++;
+        }
+
+        assertEquals(16,numChecked);
+    }
+
+    @Test
+    public void invert() {
+        for( int i = 1; i <= 10; i++ ) {
+            DenseMatrix64F a = RandomMatrices.createRandom(i,i,rand);
+            DenseMatrix32F a32 = convert(a);
+
+            DenseMatrix64F a_inv = new DenseMatrix64F(i,i);
+            DenseMatrix32F a32_inv = new DenseMatrix32F(i,i);
+
+            assertTrue(CommonOps.invert(a,a_inv));
+            assertTrue(CommonOps32.invert(a32,a32_inv));
+
+            checkIdentical(a_inv,a32_inv);
+
+            // inverse in place
+            assertTrue(CommonOps32.invert(a32));
+            checkIdentical(a_inv,a32);
+        }
+    }
+
+    @Test
+    public void solve() {
+        DenseMatrix64F a = RandomMatrices.createRandom(5,5,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(5,2,rand);
+        DenseMatrix64F x = new DenseMatrix64F(5,2);
+        DenseMatrix32F x32 = new DenseMatrix32F(5,2);
+
+        assertTrue(CommonOps.solve(a,b,x));
+        assertTrue(CommonOps32.solve(convert(a),convert(b),x32));
+
+        checkIdentical(x,x32);
+    }
+
+    @Test
+    public void det() {
+        for( int i = 1; i <= 8; i++ ) {
+            DenseMatrix64F a = RandomMatrices.createRandom(i,i,rand);
+
+            double expected = CommonOps.det(a);
+            float found = CommonOps32.det(convert(a));
+
+            assertEquals(expected,found,tol*Math.max(1,Math.abs(expected)));
+        }
+    }
+
+    @Test
+    public void transpose() {
+        DenseMatrix64F a = RandomMatrices.createRandom(7,9,rand);
+        DenseMatrix32F a32 = convert(a);
+
+        DenseMatrix32F found = CommonOps32.transpose(a32,null);
+        checkIdentical(CommonOps.transpose(a,null),found);
+
+        // in place
+        DenseMatrix64F b = RandomMatrices.createRandom(6,6,rand);
+        DenseMatrix32F b32 = convert(b);
+        CommonOps.transpose(b);
+        CommonOps32.transpose(b32);
+        checkIdentical(b,b32);
+    }
+
+    @Test
+    public void add_scale_elementSum() {
+        DenseMatrix64F a = RandomMatrices.createRandom(4,5,rand);
+        DenseMatrix64F b = RandomMatrices.createRandom(4,5,rand);
+        DenseMatrix64F c = new DenseMatrix64F(4,5);
+        DenseMatrix32F c32 = new DenseMatrix32F(4,5);
+
+        CommonOps.add(1.5,a,-0.5,b,c);
+        CommonOps32.add(1.5f,convert(a),-0.5f,convert(b),c32);
+        checkIdentical(c,c32);
+
+        CommonOps.scale(2.5,c);
+        CommonOps32.scale(2.5f,c32);
+        checkIdentical(c,c32);
+
+        assertEquals(CommonOps.elementSum(c),CommonOps32.elementSum(c32),tol);
+    }
+
+    private DenseMatrix32F convert( DenseMatrix64F a ) {
+        return ConvertMatrixType.convert(a,(DenseMatrix32F)null);
+    }
+
+    private void checkIdentical( DenseMatrix64F expected , RowD1Matrix32F found ) {
+        assertEquals(expected.numRows,found.numRows);
+        assertEquals(expected.numCols,found.numCols);
+
+        double max = Math.max(1,CommonOps.elementMaxAbs(expected));
+        for( int i = 0; i < expected.getNumElements(); i++ ) {
+            assertEquals(expected.data[i],found.data[i],tol*max);
+        }
+    }
+}
@@ -20,9 +20,11 @@ package org.ejml.ops;
 
 import org.ejml.alg.block.BlockMatrixOps;
 import org.ejml.data.BlockMatrix64F;
+import org.ejml.data.DenseMatrix32F;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.data.FixedMatrix64F;
 import org.ejml.data.Matrix64F;
+import org.ejml.data.SparseMatrixCSC64F;
 import org.junit.Test;
 
 import java.lang.reflect.InvocationTargetException;
@@ -84,7 +86,7 @@ public class TestConvertMatrixType {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(11+2+11,numFound);
     }
 
     @Test
@@ -122,7 +124,7 @@ public class TestConvertMatrixType {
             numFound++;
         }
 
-        assertEquals(5+5,numFound);
+        assertEquals(11+2+11,numFound);
     }
 
     @Test
@@ -153,6 +155,33 @@ public class TestConvertMatrixType {
         }
     }
 
+    @Test
+    public void DM_to_SM_and_back() {
+        DenseMatrix64F a = RandomMatrices.createRandom(4,5,rand);
+        a.set(2,3,0);
+
+        SparseMatrixCSC64F b = ConvertMatrixType.convert(a,(SparseMatrixCSC64F)null);
+        assertEquals(19,b.nz_length);
+
+        DenseMatrix64F c = ConvertMatrixType.convert(b,new DenseMatrix64F(4,5));
+        assertTrue(MatrixFeatures.isIdentical(a,c,0));
+    }
+
+    @Test
+    public void DM_to_DM32_and_back() {
+        DenseMatrix64F a = RandomMatrices.createRandom(4,5,rand);
+        DenseMatrix32F b = ConvertMatrixType.convert(a,(DenseMatrix32F)null);
+
+        assertEquals(4,b.numRows);
+        assertEquals(5,b.numCols);
+        for( int i = 0; i < a.getNumElements(); i++ ) {
+            assertEquals((float)a.data[i],b.data[i],0);
+        }
+
+        DenseMatrix64F c = ConvertMatrixType.convert(b,new DenseMatrix64F(4,5));
+        assertTrue(MatrixFeatures.isIdentical(a,c,1e-6));
+    }
+
 
     private void checkIdentical( Matrix64F a , Matrix64F b ) {
         for( int i = 0; i < a.getNumRows(); i++  ) {
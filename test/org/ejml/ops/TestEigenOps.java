@@ -18,8 +18,10 @@
 
 package org.ejml.ops;
 
+import org.ejml.alg.krylov.LinearOperator_D64;
 import org.ejml.data.Complex64F;
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.data.Eigenpair;
 import org.ejml.factory.DecompositionFactory;
 import org.ejml.interfaces.decomposition.EigenDecomposition;
 import org.junit.Test;
@@ -53,6 +55,28 @@ public class TestEigenOps {
         assertEquals(1.59540,value,1e-4);
     }
 
+    @Test
+    public void extremeEigenpairs() {
+        double ev[] = new double[]{5,-4,3,1,0.5,0.2,-0.1,2,-3,0.7};
+        DenseMatrix64F A = RandomMatrices.createEigenvaluesSymm(ev.length,rand,ev);
+
+        Eigenpair found[] = EigenOps.extremeEigenpairs(new LinearOperator_D64(A),2,true);
+        assertEquals(2,found.length);
+        assertEquals(5,found[0].value,1e-8);
+        assertEquals(3,found[1].value,1e-8);
+
+        found = EigenOps.extremeEigenpairs(new LinearOperator_D64(A),2,false);
+        assertEquals(-4,found[0].value,1e-8);
+        assertEquals(-3,found[1].value,1e-8);
+
+        for( Eigenpair p : found ) {
+            DenseMatrix64F Ax = new DenseMatrix64F(ev.length,1);
+            CommonOps.mult(A,p.vector,Ax);
+            CommonOps.add(Ax,-p.value,p.vector,Ax);
+            assertTrue(NormOps.normF(Ax) < 1e-7);
+        }
+    }
+
     /**
      * Give it a matrix that describes a Markov process and see if it produces 1
      */
@@ -18,6 +18,9 @@
 
 package org.ejml.ops;
 
+import org.ejml.alg.dense.decomposition.chol.CholeskyDecompositionInner_D64;
+import org.ejml.alg.dense.decomposition.lu.LUDecompositionAlt_D64;
+import org.ejml.alg.dense.decomposition.qr.QRDecompositionHouseholderColumn_D64;
 import org.ejml.data.DenseMatrix64F;
 import org.ejml.simple.SimpleMatrix;
 import org.junit.Test;
@@ -26,6 +29,7 @@ import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 
 /**
@@ -63,6 +67,45 @@ public class TestNormOps {
         assertEquals(3.4887,val,1e-3);
     }
 
+    @Test
+    public void conditionP1Estimate() {
+        assertEquals(7.6923,NormOps.conditionP1Estimate(squareMatrix),1e-3);
+
+        for( int i = 0; i < 10; i++ ) {
+            DenseMatrix64F A = RandomMatrices.createRandom(20,20,rand);
+            double expected = NormOps.conditionP(A,1);
+            double found = NormOps.conditionP1Estimate(A);
+
+            // it's a lower bound and rarely off by more than a factor of 3
+            assertTrue(found <= expected*(1+1e-8));
+            assertTrue(found >= expected/3);
+        }
+
+        assertTrue(Double.isInfinite(NormOps.conditionP1Estimate(new DenseMatrix64F(3,3))));
+    }
+
+    /**
+     * The estimate should be the same no matter which decomposition is used
+     */
+    @Test
+    public void conditionP1Estimate_decompositions() {
+        DenseMatrix64F A = RandomMatrices.createSymmPosDef(15,rand);
+        double expected = NormOps.conditionP(A,1);
+
+        LUDecompositionAlt_D64 lu = new LUDecompositionAlt_D64();
+        assertTrue(lu.decompose(A));
+        CholeskyDecompositionInner_D64 chol = new CholeskyDecompositionInner_D64(true);
+        assertTrue(chol.decompose(A.copy()));
+        QRDecompositionHouseholderColumn_D64 qr = new QRDecompositionHouseholderColumn_D64();
+        assertTrue(qr.decompose(A));
+
+        for( double found : new double[]{NormOps.conditionP1Estimate(A,lu),
+                NormOps.conditionP1Estimate(A,chol),NormOps.conditionP1Estimate(A,qr)}) {
+            assertTrue(found <= expected*(1+1e-8));
+            assertTrue(found >= expected/3);
+        }
+    }
+
     /**
      * Tests against the condition number from octave.
      */
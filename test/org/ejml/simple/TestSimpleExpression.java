@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.ejml.simple;
+
+import org.ejml.alg.dense.mult.MatrixDimensionException;
+import org.ejml.ops.EjmlUnitTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimpleExpression {
+
+    Random rand = new Random(234);
+
+    @Before
+    public void before() {
+        SimpleWorkspace.reset();
+    }
+
+    SimpleMatrix A = SimpleMatrix.random(4,5,-1,1,rand);
+    SimpleMatrix B = SimpleMatrix.random(5,4,-1,1,rand);
+    SimpleMatrix C = SimpleMatrix.random(4,4,-1,1,rand);
+    SimpleMatrix D = SimpleMatrix.random(4,4,-1,1,rand);
+
+    @Test
+    public void chain() {
+        SimpleMatrix expected = A.mult(B).plus(C).scale(2.5).transpose();
+        SimpleMatrix found = A.lazy().mult(B).plus(C).scale(2.5).transpose().eval();
+
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    @Test
+    public void transposedOperands() {
+        SimpleMatrix expected = A.transpose().mult(D.transpose());
+        SimpleMatrix found = A.lazy().transpose().mult(D.lazy().transpose()).eval();
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+
+        expected = C.mult(A).transpose().mult(D);
+        found = C.lazy().mult(A).transpose().mult(D).eval();
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+
+        expected = C.transpose().plus(D).scale(-3);
+        found = C.lazy().transpose().plus(D).scale(-3).eval();
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    @Test
+    public void sumOfProducts() {
+        SimpleMatrix expected = A.mult(B).plus(C.mult(D)).minus(D.transpose().scale(2)).minus(C).divide(3);
+        SimpleMatrix found = A.lazy().mult(B).plus(C.lazy().mult(D)).minus(D.lazy().transpose().scale(2)).
+                minus(C).divide(3).eval();
+
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    /**
+     * Operands of a multiplication which are sums of several terms
+     */
+    @Test
+    public void multOfSums() {
+        SimpleMatrix expected = C.plus(D).mult(A.mult(B).negative()).transpose();
+        SimpleMatrix found = C.lazy().plus(D).mult(A.lazy().mult(B).negative()).transpose().eval();
+
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    /**
+     * An expression which is referenced more than once should produce the correct results
+     */
+    @Test
+    public void shared() {
+        SimpleExpression<SimpleMatrix> X = A.lazy().mult(B).plus(C);
+
+        SimpleMatrix x = A.mult(B).plus(C);
+        SimpleMatrix expected = x.plus(x.transpose()).mult(x);
+        SimpleMatrix found = X.plus(X.transpose()).mult(X).eval();
+
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    /**
+     * Terms which reference the same matrix are merged together
+     */
+    @Test
+    public void sameMatrix() {
+        SimpleMatrix expected = C.plus(C).minus(C.scale(0.5)).plus(C.transpose());
+        SimpleMatrix found = C.lazy().plus(C).minus(C.lazy().scale(0.5)).plus(C.lazy().transpose()).eval();
+
+        EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    /**
+     * A new matrix should be returned even if no operations were performed
+     */
+    @Test
+    public void eval_leaf() {
+        SimpleMatrix found = A.lazy().eval();
+
+        assertTrue(found != A);
+        EjmlUnitTests.assertEquals(A.getMatrix(),found.getMatrix(),0);
+    }
+
+    @Test
+    public void workspace() {
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        try {
+            SimpleMatrix found = C.lazy().plus(D).mult(A).mult(B).eval();
+            // C+D, (C+D)*A, and the output
+            assertEquals(3,ws.getNumUsed());
+
+            SimpleMatrix expected = C.plus(D).mult(A).mult(B);
+            EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+        } finally {
+            ws.end();
+        }
+    }
+
+    @Test
+    public void checkDimensions() {
+        try {
+            A.lazy().mult(A);
+            fail("Exception should have been thrown");
+        } catch( MatrixDimensionException ignore ) {}
+
+        try {
+            A.lazy().plus(B);
+            fail("Exception should have been thrown");
+        } catch( MatrixDimensionException ignore ) {}
+
+        assertEquals(5,A.lazy().transpose().numRows());
+        assertEquals(4,A.lazy().transpose().numCols());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2009-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of Efficient Java Matrix Library (EJML).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ejml.simple;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.ejml.ops.EjmlUnitTests;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSimpleWorkspace {
+
+    Random rand = new Random(234);
+
+    @Before
+    public void before() {
+        SimpleWorkspace.reset();
+    }
+
+    @Test
+    public void getActive() {
+        assertNull(SimpleWorkspace.getActive());
+
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        try {
+            assertTrue(ws == SimpleWorkspace.getActive());
+        } finally {
+            ws.end();
+        }
+
+        assertNull(SimpleWorkspace.getActive());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void end_notActive() {
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        ws.end();
+        ws.end();
+    }
+
+    /**
+     * After the first iteration no new matrices should be created and the results should be the
+     * same as when no workspace is used.
+     */
+    @Test
+    public void recycled() {
+        SimpleMatrix A = SimpleMatrix.random(8,8,-1,1,rand);
+        SimpleMatrix b = SimpleMatrix.random(8,1,-1,1,rand);
+
+        SimpleMatrix expected = compute(A,b);
+
+        SimpleMatrix found = new SimpleMatrix(8,1);
+        int numCreated = -1;
+        for( int i = 0; i < 3; i++ ) {
+            SimpleWorkspace ws = SimpleWorkspace.begin();
+            try {
+                found.set(compute(A,b));
+                if( numCreated == -1 )
+                    numCreated = ws.getNumCreated();
+                else
+                    assertEquals(numCreated,ws.getNumCreated());
+            } finally {
+                ws.end();
+            }
+            assertEquals(0,ws.getNumUsed());
+
+            EjmlUnitTests.assertEquals(expected.getMatrix(),found.getMatrix(),1e-8);
+        }
+        assertTrue(numCreated > 0);
+    }
+
+    private SimpleMatrix compute( SimpleMatrix A , SimpleMatrix b ) {
+        SimpleMatrix C = A.mult(A.transpose()).plus(A).minus(A.scale(0.5)).divide(2);
+        C = C.plus(0.1,A).elementMult(A).negative();
+        C = C.invert().plus(C.pseudoInverse());
+        C = C.combine(0,SimpleMatrix.END,b).extractMatrix(0,8,0,8);
+        return C.solve(b).plus(C.extractVector(false,1)).plus(C.extractDiag());
+    }
+
+    @Test
+    public void nested() {
+        SimpleMatrix A = SimpleMatrix.random(3,3,-1,1,rand);
+
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        try {
+            SimpleMatrix outer = A.transpose();
+            DenseMatrix64F expected = outer.getMatrix().copy();
+
+            SimpleWorkspace.begin();
+            try {
+                A.mult(A);
+                A.plus(A);
+                assertEquals(3,ws.getNumUsed());
+            } finally {
+                ws.end();
+            }
+            assertEquals(1,ws.getNumUsed());
+
+            // the outer matrix should not have been modified
+            EjmlUnitTests.assertEquals(expected,outer.getMatrix(),1e-8);
+
+            // matrices released by the inner scope are reused
+            SimpleMatrix C = A.mult(A);
+            DenseMatrix64F AA = new DenseMatrix64F(3,3);
+            CommonOps.mult(A.getMatrix(),A.getMatrix(),AA);
+            EjmlUnitTests.assertEquals(AA,C.getMatrix(),1e-8);
+            assertEquals(3,ws.getNumCreated());
+        } finally {
+            ws.end();
+        }
+    }
+
+    /**
+     * copy() should always create a new matrix so that results can be kept
+     */
+    @Test
+    public void copy_notRecycled() {
+        SimpleMatrix A = SimpleMatrix.random(3,3,-1,1,rand);
+
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        SimpleMatrix found;
+        try {
+            found = A.transpose().copy();
+        } finally {
+            ws.end();
+        }
+
+        ws = SimpleWorkspace.begin();
+        try {
+            A.scale(10);
+        } finally {
+            ws.end();
+        }
+
+        EjmlUnitTests.assertEquals(A.transpose().getMatrix(),found.getMatrix(),1e-8);
+    }
+
+    /**
+     * The type of matrix returned should be the same as the type which performed the operation
+     */
+    @Test
+    public void take_differentType() {
+        SimpleWorkspace ws = SimpleWorkspace.begin();
+        try {
+            SimpleMatrix a = ws.take(new SimpleMatrix(2,2),3,4);
+            assertEquals(3,a.numRows());
+            assertEquals(4,a.numCols());
+        } finally {
+            ws.end();
+        }
+
+        ws = SimpleWorkspace.begin();
+        try {
+            Child b = ws.take(new Child(),2,5);
+            assertTrue(b.getClass() == Child.class);
+            assertEquals(2,b.numRows());
+            assertEquals(5,b.numCols());
+        } finally {
+            ws.end();
+        }
+    }
+
+    private static class Child extends SimpleBase<Child> {
+        public Child() {}
+
+        public Child(int numRows, int numCols) {
+            super(numRows, numCols);
+        }
+
+        @Override
+        protected Child createMatrix(int numRows, int numCols) {
+            return new Child(numRows,numCols);
+        }
+    }
+}